@@ -25,6 +25,10 @@
 
 package dev.ludovic.netlib.arpack;
 
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
 public interface ARPACK {
 
   public static ARPACK getInstance() {
@@ -70,8 +74,12 @@ public interface ARPACK {
 
   public void dnaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int ncv, double[] v, int ldv, int[] iparam, int[] ipntr, double[] workd, double[] workl, int lworkl, org.netlib.util.intW info);
   public void dnaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+  public void dnaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int ncv, DoubleBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, DoubleBuffer workd, DoubleBuffer workl, int lworkl, org.netlib.util.intW info);
+  public void dnaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
   public void snaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info);
   public void snaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+  public void snaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int ncv, FloatBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, FloatBuffer workd, FloatBuffer workl, int lworkl, org.netlib.util.intW info);
+  public void snaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
   public void dnconv(int n, double[] ritzr, double[] ritzi, double[] bounds, double tol, org.netlib.util.intW nconv);
   public void dnconv(int n, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv);
@@ -90,8 +98,12 @@ public interface ARPACK {
 
   public void dneupd(boolean rvec, String howmny, boolean[] select, double[] dr, double[] di, double[] z, int ldz, double sigmar, double sigmai, double[] workev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int ncv, double[] v, int ldv, int[] iparam, int[] ipntr, double[] workd, double[] workl, int lworkl, org.netlib.util.intW info);
   public void dneupd(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] dr, int offsetdr, double[] di, int offsetdi, double[] z, int offsetz, int ldz, double sigmar, double sigmai, double[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+  public void dneupd(boolean rvec, String howmny, boolean[] select, DoubleBuffer dr, DoubleBuffer di, DoubleBuffer z, int ldz, double sigmar, double sigmai, DoubleBuffer workev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int ncv, DoubleBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, DoubleBuffer workd, DoubleBuffer workl, int lworkl, org.netlib.util.intW info);
+  public void dneupd(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer dr, int offsetdr, DoubleBuffer di, int offsetdi, DoubleBuffer z, int offsetz, int ldz, double sigmar, double sigmai, DoubleBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
   public void sneupd(boolean rvec, String howmny, boolean[] select, float[] dr, float[] di, float[] z, int ldz, float sigmar, float sigmai, float[] workev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info);
   public void sneupd(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] dr, int offsetdr, float[] di, int offsetdi, float[] z, int offsetz, int ldz, float sigmar, float sigmai, float[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+  public void sneupd(boolean rvec, String howmny, boolean[] select, FloatBuffer dr, FloatBuffer di, FloatBuffer z, int ldz, float sigmar, float sigmai, FloatBuffer workev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int ncv, FloatBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, FloatBuffer workd, FloatBuffer workl, int lworkl, org.netlib.util.intW info);
+  public void sneupd(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer dr, int offsetdr, FloatBuffer di, int offsetdi, FloatBuffer z, int offsetz, int ldz, float sigmar, float sigmai, FloatBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
   public void dngets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritzr, double[] ritzi, double[] bounds, double[] shiftr, double[] shifti);
   public void dngets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti);
@@ -125,13 +137,21 @@ public interface ARPACK {
 
   public void dsaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int ncv, double[] v, int ldv, int[] iparam, int[] ipntr, double[] workd, double[] workl, int lworkl, org.netlib.util.intW info);
   public void dsaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+  public void dsaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int ncv, DoubleBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, DoubleBuffer workd, DoubleBuffer workl, int lworkl, org.netlib.util.intW info);
+  public void dsaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
   public void ssaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info);
   public void ssaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+  public void ssaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int ncv, FloatBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, FloatBuffer workd, FloatBuffer workl, int lworkl, org.netlib.util.intW info);
+  public void ssaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
   public void dseupd(boolean rvec, String howmny, boolean[] select, double[] d, double[] z, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int ncv, double[] v, int ldv, int[] iparam, int[] ipntr, double[] workd, double[] workl, int lworkl, org.netlib.util.intW info);
   public void dseupd(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] d, int offsetd, double[] z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+  public void dseupd(boolean rvec, String howmny, boolean[] select, DoubleBuffer d, DoubleBuffer z, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int ncv, DoubleBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, DoubleBuffer workd, DoubleBuffer workl, int lworkl, org.netlib.util.intW info);
+  public void dseupd(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer d, int offsetd, DoubleBuffer z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
   public void sseupd(boolean rvec, String howmny, boolean[] select, float[] d, float[] z, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info);
   public void sseupd(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] d, int offsetd, float[] z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+  public void sseupd(boolean rvec, String howmny, boolean[] select, FloatBuffer d, FloatBuffer z, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int ncv, FloatBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, FloatBuffer workd, FloatBuffer workl, int lworkl, org.netlib.util.intW info);
+  public void sseupd(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer d, int offsetd, FloatBuffer z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
   public void dsgets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritz, double[] bounds, double[] shifts);
   public void dsgets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] shifts, int offsetshifts);
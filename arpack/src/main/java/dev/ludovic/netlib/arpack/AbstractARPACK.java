@@ -25,6 +25,9 @@
 
 package dev.ludovic.netlib.arpack;
 
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.util.Objects;
 
 abstract class AbstractARPACK implements ARPACK {
@@ -256,6 +259,33 @@ abstract class AbstractARPACK implements ARPACK {
 
   protected abstract void dnaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  public void dnaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int ncv, DoubleBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, DoubleBuffer workd, DoubleBuffer workl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("dnaupd");
+    dnaupd(ido, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
+  }
+
+  public void dnaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("dnaupd");
+    //FIXME add argument checks
+    dnaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+  }
+
+  protected void dnaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    double[] arrayresid = Buffers.writableArray(resid, offsetresid, n);
+    double[] arrayv = Buffers.writableArray(v, offsetv, (ncv - 1) * ldv + n);
+    int[] arrayiparam = Buffers.writableArray(iparam, offsetiparam, 11);
+    int[] arrayipntr = Buffers.writableArray(ipntr, offsetipntr, 14);
+    double[] arrayworkd = Buffers.writableArray(workd, offsetworkd, 3 * n);
+    double[] arrayworkl = Buffers.writableArray(workl, offsetworkl, lworkl);
+    dnaupdK(ido, bmat, n, which, nev, tol, arrayresid, Buffers.offset(resid, offsetresid), ncv, arrayv, Buffers.offset(v, offsetv), ldv, arrayiparam, Buffers.offset(iparam, offsetiparam), arrayipntr, Buffers.offset(ipntr, offsetipntr), arrayworkd, Buffers.offset(workd, offsetworkd), arrayworkl, Buffers.offset(workl, offsetworkl), lworkl, info);
+    Buffers.release(resid, offsetresid, arrayresid);
+    Buffers.release(v, offsetv, arrayv);
+    Buffers.release(iparam, offsetiparam, arrayiparam);
+    Buffers.release(ipntr, offsetipntr, arrayipntr);
+    Buffers.release(workd, offsetworkd, arrayworkd);
+    Buffers.release(workl, offsetworkl, arrayworkl);
+  }
+
   public void snaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info) {
     if (debug) System.err.println("snaupd");
     snaupd(ido, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
@@ -269,6 +299,33 @@ abstract class AbstractARPACK implements ARPACK {
 
   protected abstract void snaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  public void snaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int ncv, FloatBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, FloatBuffer workd, FloatBuffer workl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("snaupd");
+    snaupd(ido, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
+  }
+
+  public void snaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("snaupd");
+    //FIXME add argument checks
+    snaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+  }
+
+  protected void snaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    float[] arrayresid = Buffers.writableArray(resid, offsetresid, n);
+    float[] arrayv = Buffers.writableArray(v, offsetv, (ncv - 1) * ldv + n);
+    int[] arrayiparam = Buffers.writableArray(iparam, offsetiparam, 11);
+    int[] arrayipntr = Buffers.writableArray(ipntr, offsetipntr, 14);
+    float[] arrayworkd = Buffers.writableArray(workd, offsetworkd, 3 * n);
+    float[] arrayworkl = Buffers.writableArray(workl, offsetworkl, lworkl);
+    snaupdK(ido, bmat, n, which, nev, tol, arrayresid, Buffers.offset(resid, offsetresid), ncv, arrayv, Buffers.offset(v, offsetv), ldv, arrayiparam, Buffers.offset(iparam, offsetiparam), arrayipntr, Buffers.offset(ipntr, offsetipntr), arrayworkd, Buffers.offset(workd, offsetworkd), arrayworkl, Buffers.offset(workl, offsetworkl), lworkl, info);
+    Buffers.release(resid, offsetresid, arrayresid);
+    Buffers.release(v, offsetv, arrayv);
+    Buffers.release(iparam, offsetiparam, arrayiparam);
+    Buffers.release(ipntr, offsetipntr, arrayipntr);
+    Buffers.release(workd, offsetworkd, arrayworkd);
+    Buffers.release(workl, offsetworkl, arrayworkl);
+  }
+
   public void dnconv(int n, double[] ritzr, double[] ritzi, double[] bounds, double tol, org.netlib.util.intW nconv) {
     if (debug) System.err.println("dnconv");
     dnconv(n, ritzr, 0, ritzi, 0, bounds, 0, tol, nconv);
@@ -360,6 +417,41 @@ abstract class AbstractARPACK implements ARPACK {
 
   protected abstract void dneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] dr, int offsetdr, double[] di, int offsetdi, double[] z, int offsetz, int ldz, double sigmar, double sigmai, double[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  public void dneupd(boolean rvec, String howmny, boolean[] select, DoubleBuffer dr, DoubleBuffer di, DoubleBuffer z, int ldz, double sigmar, double sigmai, DoubleBuffer workev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int ncv, DoubleBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, DoubleBuffer workd, DoubleBuffer workl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("dneupd");
+    dneupd(rvec, howmny, select, 0, dr, 0, di, 0, z, 0, ldz, sigmar, sigmai, workev, 0, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
+  }
+
+  public void dneupd(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer dr, int offsetdr, DoubleBuffer di, int offsetdi, DoubleBuffer z, int offsetz, int ldz, double sigmar, double sigmai, DoubleBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("dneupd");
+    //FIXME add argument checks
+    dneupdK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+  }
+
+  protected void dneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer dr, int offsetdr, DoubleBuffer di, int offsetdi, DoubleBuffer z, int offsetz, int ldz, double sigmar, double sigmai, DoubleBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    double[] arraydr = Buffers.writableArray(dr, offsetdr, nev.val + 1);
+    double[] arraydi = Buffers.writableArray(di, offsetdi, nev.val + 1);
+    double[] arrayz = Buffers.writableArray(z, offsetz, rvec ? nev.val * ldz + n : 0);
+    double[] arrayworkev = Buffers.writableArray(workev, offsetworkev, 3 * ncv);
+    double[] arrayresid = Buffers.array(resid, offsetresid, n);
+    double[] arrayv = Buffers.writableArray(v, offsetv, (ncv - 1) * ldv + n);
+    int[] arrayiparam = Buffers.writableArray(iparam, offsetiparam, 11);
+    int[] arrayipntr = Buffers.writableArray(ipntr, offsetipntr, 14);
+    double[] arrayworkd = Buffers.writableArray(workd, offsetworkd, 3 * n);
+    double[] arrayworkl = Buffers.writableArray(workl, offsetworkl, lworkl);
+    dneupdK(rvec, howmny, select, offsetselect, arraydr, Buffers.offset(dr, offsetdr), arraydi, Buffers.offset(di, offsetdi), arrayz, Buffers.offset(z, offsetz), ldz, sigmar, sigmai, arrayworkev, Buffers.offset(workev, offsetworkev), bmat, n, which, nev, tol, arrayresid, Buffers.offset(resid, offsetresid), ncv, arrayv, Buffers.offset(v, offsetv), ldv, arrayiparam, Buffers.offset(iparam, offsetiparam), arrayipntr, Buffers.offset(ipntr, offsetipntr), arrayworkd, Buffers.offset(workd, offsetworkd), arrayworkl, Buffers.offset(workl, offsetworkl), lworkl, info);
+    Buffers.release(dr, offsetdr, arraydr);
+    Buffers.release(di, offsetdi, arraydi);
+    Buffers.release(workev, offsetworkev, arrayworkev);
+    Buffers.release(v, offsetv, arrayv);
+    Buffers.release(iparam, offsetiparam, arrayiparam);
+    Buffers.release(ipntr, offsetipntr, arrayipntr);
+    Buffers.release(workd, offsetworkd, arrayworkd);
+    Buffers.release(workl, offsetworkl, arrayworkl);
+    // last, in case z is the same buffer as v
+    Buffers.release(z, offsetz, arrayz);
+  }
+
   public void sneupd(boolean rvec, String howmny, boolean[] select, float[] dr, float[] di, float[] z, int ldz, float sigmar, float sigmai, float[] workev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info) {
     if (debug) System.err.println("sneupd");
     sneupd(rvec, howmny, select, 0, dr, 0, di, 0, z, 0, ldz, sigmar, sigmai, workev, 0, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
@@ -373,6 +465,41 @@ abstract class AbstractARPACK implements ARPACK {
 
   protected abstract void sneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] dr, int offsetdr, float[] di, int offsetdi, float[] z, int offsetz, int ldz, float sigmar, float sigmai, float[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  public void sneupd(boolean rvec, String howmny, boolean[] select, FloatBuffer dr, FloatBuffer di, FloatBuffer z, int ldz, float sigmar, float sigmai, FloatBuffer workev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int ncv, FloatBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, FloatBuffer workd, FloatBuffer workl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("sneupd");
+    sneupd(rvec, howmny, select, 0, dr, 0, di, 0, z, 0, ldz, sigmar, sigmai, workev, 0, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
+  }
+
+  public void sneupd(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer dr, int offsetdr, FloatBuffer di, int offsetdi, FloatBuffer z, int offsetz, int ldz, float sigmar, float sigmai, FloatBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("sneupd");
+    //FIXME add argument checks
+    sneupdK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+  }
+
+  protected void sneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer dr, int offsetdr, FloatBuffer di, int offsetdi, FloatBuffer z, int offsetz, int ldz, float sigmar, float sigmai, FloatBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    float[] arraydr = Buffers.writableArray(dr, offsetdr, nev.val + 1);
+    float[] arraydi = Buffers.writableArray(di, offsetdi, nev.val + 1);
+    float[] arrayz = Buffers.writableArray(z, offsetz, rvec ? nev.val * ldz + n : 0);
+    float[] arrayworkev = Buffers.writableArray(workev, offsetworkev, 3 * ncv);
+    float[] arrayresid = Buffers.array(resid, offsetresid, n);
+    float[] arrayv = Buffers.writableArray(v, offsetv, (ncv - 1) * ldv + n);
+    int[] arrayiparam = Buffers.writableArray(iparam, offsetiparam, 11);
+    int[] arrayipntr = Buffers.writableArray(ipntr, offsetipntr, 14);
+    float[] arrayworkd = Buffers.writableArray(workd, offsetworkd, 3 * n);
+    float[] arrayworkl = Buffers.writableArray(workl, offsetworkl, lworkl);
+    sneupdK(rvec, howmny, select, offsetselect, arraydr, Buffers.offset(dr, offsetdr), arraydi, Buffers.offset(di, offsetdi), arrayz, Buffers.offset(z, offsetz), ldz, sigmar, sigmai, arrayworkev, Buffers.offset(workev, offsetworkev), bmat, n, which, nev, tol, arrayresid, Buffers.offset(resid, offsetresid), ncv, arrayv, Buffers.offset(v, offsetv), ldv, arrayiparam, Buffers.offset(iparam, offsetiparam), arrayipntr, Buffers.offset(ipntr, offsetipntr), arrayworkd, Buffers.offset(workd, offsetworkd), arrayworkl, Buffers.offset(workl, offsetworkl), lworkl, info);
+    Buffers.release(dr, offsetdr, arraydr);
+    Buffers.release(di, offsetdi, arraydi);
+    Buffers.release(workev, offsetworkev, arrayworkev);
+    Buffers.release(v, offsetv, arrayv);
+    Buffers.release(iparam, offsetiparam, arrayiparam);
+    Buffers.release(ipntr, offsetipntr, arrayipntr);
+    Buffers.release(workd, offsetworkd, arrayworkd);
+    Buffers.release(workl, offsetworkl, arrayworkl);
+    // last, in case z is the same buffer as v
+    Buffers.release(z, offsetz, arrayz);
+  }
+
   public void dngets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritzr, double[] ritzi, double[] bounds, double[] shiftr, double[] shifti) {
     if (debug) System.err.println("dngets");
     dngets(ishift, which, kev, np, ritzr, 0, ritzi, 0, bounds, 0, shiftr, 0, shifti, 0);
@@ -560,6 +687,51 @@ abstract class AbstractARPACK implements ARPACK {
 
   protected abstract void dsaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  public void dsaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int ncv, DoubleBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, DoubleBuffer workd, DoubleBuffer workl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsaupd");
+    dsaupd(ido, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
+  }
+
+  public void dsaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsaupd");
+    checkArgument("DSAUPD", 2, lsame("I", bmat) || lsame("G", bmat));
+    checkArgument("DSAUPD", 3, n >= 0);
+    checkArgument("DSAUPD", 4, lsame("LA", which) || lsame("SA", which) || lsame("LM", which) || lsame("SM", which) || lsame("BE", which));
+    checkArgument("DSAUPD", 5, 0 < nev && nev < n);
+    checkArgument("DSAUPD", 15, lworkl >= Math.pow(ncv, 2)+ 8 * ncv);
+    requireNonNull(ido);
+    requireNonNull(tol);
+    requireNonNull(resid);
+    requireNonNull(v);
+    requireNonNull(iparam);
+    requireNonNull(ipntr);
+    requireNonNull(workd);
+    requireNonNull(info);
+    checkIndex(offsetresid + n - 1, resid.limit());
+    checkIndex(offsetv + n * ncv - 1, v.limit());
+    checkIndex(offsetiparam + 11 - 1, iparam.limit());
+    checkIndex(offsetipntr + 11 - 1, ipntr.limit());
+    checkIndex(offsetworkd + 3 * n - 1, workd.limit());
+    checkIndex(offsetworkl + lworkl - 1, workl.limit());
+    dsaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+  }
+
+  protected void dsaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    double[] arrayresid = Buffers.writableArray(resid, offsetresid, n);
+    double[] arrayv = Buffers.writableArray(v, offsetv, (ncv - 1) * ldv + n);
+    int[] arrayiparam = Buffers.writableArray(iparam, offsetiparam, 11);
+    int[] arrayipntr = Buffers.writableArray(ipntr, offsetipntr, 11);
+    double[] arrayworkd = Buffers.writableArray(workd, offsetworkd, 3 * n);
+    double[] arrayworkl = Buffers.writableArray(workl, offsetworkl, lworkl);
+    dsaupdK(ido, bmat, n, which, nev, tol, arrayresid, Buffers.offset(resid, offsetresid), ncv, arrayv, Buffers.offset(v, offsetv), ldv, arrayiparam, Buffers.offset(iparam, offsetiparam), arrayipntr, Buffers.offset(ipntr, offsetipntr), arrayworkd, Buffers.offset(workd, offsetworkd), arrayworkl, Buffers.offset(workl, offsetworkl), lworkl, info);
+    Buffers.release(resid, offsetresid, arrayresid);
+    Buffers.release(v, offsetv, arrayv);
+    Buffers.release(iparam, offsetiparam, arrayiparam);
+    Buffers.release(ipntr, offsetipntr, arrayipntr);
+    Buffers.release(workd, offsetworkd, arrayworkd);
+    Buffers.release(workl, offsetworkl, arrayworkl);
+  }
+
   public void ssaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info) {
     if (debug) System.err.println("ssaupd");
     ssaupd(ido, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
@@ -591,6 +763,51 @@ abstract class AbstractARPACK implements ARPACK {
 
   protected abstract void ssaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  public void ssaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int ncv, FloatBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, FloatBuffer workd, FloatBuffer workl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssaupd");
+    ssaupd(ido, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
+  }
+
+  public void ssaupd(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssaupd");
+    checkArgument("SSAUPD", 2, lsame("I", bmat) || lsame("G", bmat));
+    checkArgument("SSAUPD", 3, n >= 0);
+    checkArgument("SSAUPD", 4, lsame("LA", which) || lsame("SA", which) || lsame("LM", which) || lsame("SM", which) || lsame("BE", which));
+    checkArgument("SSAUPD", 5, 0 < nev && nev < n);
+    checkArgument("SSAUPD", 15, lworkl >= Math.pow(ncv, 2)+ 8 * ncv);
+    requireNonNull(ido);
+    requireNonNull(tol);
+    requireNonNull(resid);
+    requireNonNull(v);
+    requireNonNull(iparam);
+    requireNonNull(ipntr);
+    requireNonNull(workd);
+    requireNonNull(info);
+    checkIndex(offsetresid + n - 1, resid.limit());
+    checkIndex(offsetv + n * ncv - 1, v.limit());
+    checkIndex(offsetiparam + 11 - 1, iparam.limit());
+    checkIndex(offsetipntr + 11 - 1, ipntr.limit());
+    checkIndex(offsetworkd + 3 * n - 1, workd.limit());
+    checkIndex(offsetworkl + lworkl - 1, workl.limit());
+    ssaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+  }
+
+  protected void ssaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    float[] arrayresid = Buffers.writableArray(resid, offsetresid, n);
+    float[] arrayv = Buffers.writableArray(v, offsetv, (ncv - 1) * ldv + n);
+    int[] arrayiparam = Buffers.writableArray(iparam, offsetiparam, 11);
+    int[] arrayipntr = Buffers.writableArray(ipntr, offsetipntr, 11);
+    float[] arrayworkd = Buffers.writableArray(workd, offsetworkd, 3 * n);
+    float[] arrayworkl = Buffers.writableArray(workl, offsetworkl, lworkl);
+    ssaupdK(ido, bmat, n, which, nev, tol, arrayresid, Buffers.offset(resid, offsetresid), ncv, arrayv, Buffers.offset(v, offsetv), ldv, arrayiparam, Buffers.offset(iparam, offsetiparam), arrayipntr, Buffers.offset(ipntr, offsetipntr), arrayworkd, Buffers.offset(workd, offsetworkd), arrayworkl, Buffers.offset(workl, offsetworkl), lworkl, info);
+    Buffers.release(resid, offsetresid, arrayresid);
+    Buffers.release(v, offsetv, arrayv);
+    Buffers.release(iparam, offsetiparam, arrayiparam);
+    Buffers.release(ipntr, offsetipntr, arrayipntr);
+    Buffers.release(workd, offsetworkd, arrayworkd);
+    Buffers.release(workl, offsetworkl, arrayworkl);
+  }
+
   public void dseupd(boolean rvec, String howmny, boolean[] select, double[] d, double[] z, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int ncv, double[] v, int ldv, int[] iparam, int[] ipntr, double[] workd, double[] workl, int lworkl, org.netlib.util.intW info) {
     if (debug) System.err.println("dseupd");
     dseupd(rvec, howmny, select, 0, d, 0, z, 0, ldz, sigma, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
@@ -630,6 +847,63 @@ abstract class AbstractARPACK implements ARPACK {
 
   protected abstract void dseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] d, int offsetd, double[] z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  public void dseupd(boolean rvec, String howmny, boolean[] select, DoubleBuffer d, DoubleBuffer z, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int ncv, DoubleBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, DoubleBuffer workd, DoubleBuffer workl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("dseupd");
+    dseupd(rvec, howmny, select, 0, d, 0, z, 0, ldz, sigma, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
+  }
+
+  public void dseupd(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer d, int offsetd, DoubleBuffer z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("dseupd");
+    checkArgument("DSEUPD", 2, lsame("A", howmny) || lsame("S", howmny));
+    checkArgument("DSEUPD", 2, ldz >= Math.max(1, n));
+    checkArgument("DSEUPD", 8, lsame("I", bmat) || lsame("G", bmat));
+    checkArgument("DSEUPD", 9, n >= 0);
+    checkArgument("DSEUPD", 10, lsame("LA", which) || lsame("SA", which) || lsame("LM", which) || lsame("SM", which) || lsame("BE", which));
+    checkArgument("DSEUPD", 11, 0 < nev.val && nev.val < n);
+    checkArgument("DSEUPD", 21, lworkl >= Math.pow(ncv, 2)+ 8 * ncv);
+    requireNonNull(select);
+    requireNonNull(d);
+    if (rvec)
+      requireNonNull(z);
+    requireNonNull(resid);
+    requireNonNull(v);
+    requireNonNull(iparam);
+    requireNonNull(ipntr);
+    requireNonNull(workd);
+    requireNonNull(info);
+    checkIndex(offsetselect + nev.val - 1, select.length);
+    checkIndex(offsetd + nev.val - 1, d.limit());
+    if (rvec)
+      checkIndex(offsetz + n * nev.val - 1, z.limit());
+    checkIndex(offsetresid + n - 1, resid.limit());
+    checkIndex(offsetv + n * ncv - 1, v.limit());
+    checkIndex(offsetiparam + 11 - 1, iparam.limit());
+    checkIndex(offsetipntr + 11 - 1, ipntr.limit());
+    checkIndex(offsetworkd + 3 * n - 1, workd.limit());
+    checkIndex(offsetworkl + lworkl - 1, workl.limit());
+    dseupdK(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+  }
+
+  protected void dseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer d, int offsetd, DoubleBuffer z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    double[] arrayd = Buffers.writableArray(d, offsetd, nev.val);
+    double[] arrayz = Buffers.writableArray(z, offsetz, rvec ? (nev.val - 1) * ldz + n : 0);
+    double[] arrayresid = Buffers.array(resid, offsetresid, n);
+    double[] arrayv = Buffers.writableArray(v, offsetv, (ncv - 1) * ldv + n);
+    int[] arrayiparam = Buffers.writableArray(iparam, offsetiparam, 11);
+    int[] arrayipntr = Buffers.writableArray(ipntr, offsetipntr, 11);
+    double[] arrayworkd = Buffers.writableArray(workd, offsetworkd, 2 * n);
+    double[] arrayworkl = Buffers.writableArray(workl, offsetworkl, lworkl);
+    dseupdK(rvec, howmny, select, offsetselect, arrayd, Buffers.offset(d, offsetd), arrayz, Buffers.offset(z, offsetz), ldz, sigma, bmat, n, which, nev, tol, arrayresid, Buffers.offset(resid, offsetresid), ncv, arrayv, Buffers.offset(v, offsetv), ldv, arrayiparam, Buffers.offset(iparam, offsetiparam), arrayipntr, Buffers.offset(ipntr, offsetipntr), arrayworkd, Buffers.offset(workd, offsetworkd), arrayworkl, Buffers.offset(workl, offsetworkl), lworkl, info);
+    Buffers.release(d, offsetd, arrayd);
+    Buffers.release(v, offsetv, arrayv);
+    Buffers.release(iparam, offsetiparam, arrayiparam);
+    Buffers.release(ipntr, offsetipntr, arrayipntr);
+    Buffers.release(workd, offsetworkd, arrayworkd);
+    Buffers.release(workl, offsetworkl, arrayworkl);
+    // last, in case z is the same buffer as v
+    Buffers.release(z, offsetz, arrayz);
+  }
+
   public void sseupd(boolean rvec, String howmny, boolean[] select, float[] d, float[] z, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int ncv, float[] v, int ldv, int[] iparam, int[] ipntr, float[] workd, float[] workl, int lworkl, org.netlib.util.intW info) {
     if (debug) System.err.println("sseupd");
     sseupd(rvec, howmny, select, 0, d, 0, z, 0, ldz, sigma, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
@@ -669,6 +943,63 @@ abstract class AbstractARPACK implements ARPACK {
 
   protected abstract void sseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] d, int offsetd, float[] z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  public void sseupd(boolean rvec, String howmny, boolean[] select, FloatBuffer d, FloatBuffer z, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int ncv, FloatBuffer v, int ldv, IntBuffer iparam, IntBuffer ipntr, FloatBuffer workd, FloatBuffer workl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("sseupd");
+    sseupd(rvec, howmny, select, 0, d, 0, z, 0, ldz, sigma, bmat, n, which, nev, tol, resid, 0, ncv, v, 0, ldv, iparam, 0, ipntr, 0, workd, 0, workl, 0, lworkl, info);
+  }
+
+  public void sseupd(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer d, int offsetd, FloatBuffer z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (debug) System.err.println("sseupd");
+    checkArgument("SSEUPD", 2, lsame("A", howmny) || lsame("S", howmny));
+    checkArgument("SSEUPD", 2, ldz >= Math.max(1, n));
+    checkArgument("SSEUPD", 8, lsame("I", bmat) || lsame("G", bmat));
+    checkArgument("SSEUPD", 9, n >= 0);
+    checkArgument("SSEUPD", 10, lsame("LA", which) || lsame("SA", which) || lsame("LM", which) || lsame("SM", which) || lsame("BE", which));
+    checkArgument("SSEUPD", 11, 0 < nev.val && nev.val < n);
+    checkArgument("SSEUPD", 21, lworkl >= Math.pow(ncv, 2)+ 8 * ncv);
+    requireNonNull(select);
+    requireNonNull(d);
+    if (rvec)
+      requireNonNull(z);
+    requireNonNull(resid);
+    requireNonNull(v);
+    requireNonNull(iparam);
+    requireNonNull(ipntr);
+    requireNonNull(workd);
+    requireNonNull(info);
+    checkIndex(offsetselect + nev.val - 1, select.length);
+    checkIndex(offsetd + nev.val - 1, d.limit());
+    if (rvec)
+      checkIndex(offsetz + n * nev.val - 1, z.limit());
+    checkIndex(offsetresid + n - 1, resid.limit());
+    checkIndex(offsetv + n * ncv - 1, v.limit());
+    checkIndex(offsetiparam + 11 - 1, iparam.limit());
+    checkIndex(offsetipntr + 11 - 1, ipntr.limit());
+    checkIndex(offsetworkd + 3 * n - 1, workd.limit());
+    checkIndex(offsetworkl + lworkl - 1, workl.limit());
+    sseupdK(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+  }
+
+  protected void sseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer d, int offsetd, FloatBuffer z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    float[] arrayd = Buffers.writableArray(d, offsetd, nev.val);
+    float[] arrayz = Buffers.writableArray(z, offsetz, rvec ? (nev.val - 1) * ldz + n : 0);
+    float[] arrayresid = Buffers.array(resid, offsetresid, n);
+    float[] arrayv = Buffers.writableArray(v, offsetv, (ncv - 1) * ldv + n);
+    int[] arrayiparam = Buffers.writableArray(iparam, offsetiparam, 11);
+    int[] arrayipntr = Buffers.writableArray(ipntr, offsetipntr, 11);
+    float[] arrayworkd = Buffers.writableArray(workd, offsetworkd, 2 * n);
+    float[] arrayworkl = Buffers.writableArray(workl, offsetworkl, lworkl);
+    sseupdK(rvec, howmny, select, offsetselect, arrayd, Buffers.offset(d, offsetd), arrayz, Buffers.offset(z, offsetz), ldz, sigma, bmat, n, which, nev, tol, arrayresid, Buffers.offset(resid, offsetresid), ncv, arrayv, Buffers.offset(v, offsetv), ldv, arrayiparam, Buffers.offset(iparam, offsetiparam), arrayipntr, Buffers.offset(ipntr, offsetipntr), arrayworkd, Buffers.offset(workd, offsetworkd), arrayworkl, Buffers.offset(workl, offsetworkl), lworkl, info);
+    Buffers.release(d, offsetd, arrayd);
+    Buffers.release(v, offsetv, arrayv);
+    Buffers.release(iparam, offsetiparam, arrayiparam);
+    Buffers.release(ipntr, offsetipntr, arrayipntr);
+    Buffers.release(workd, offsetworkd, arrayworkd);
+    Buffers.release(workl, offsetworkl, arrayworkl);
+    // last, in case z is the same buffer as v
+    Buffers.release(z, offsetz, arrayz);
+  }
+
   public void dsgets(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritz, double[] bounds, double[] shifts) {
     if (debug) System.err.println("dsgets");
     dsgets(ishift, which, kev, np, ritz, 0, bounds, 0, shifts, 0);
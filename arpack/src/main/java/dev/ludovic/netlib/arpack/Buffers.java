@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.arpack;
+
+import java.nio.Buffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+
+// Bridges the buffer overloads to the array kernels. Offsets are absolute indices into the
+// buffer, independent of its position, and bounds are checked against its limit.
+//
+// Heap buffers are passed through their backing array without copying. Of other buffers, only
+// the length elements from offset that the call accesses are copied into a temporary array,
+// and copied back once the kernel returns if they are written to, so that calls on disjoint
+// parts of a buffer don't overwrite each other. Writing to a read-only buffer throws
+// ReadOnlyBufferException before the kernel runs.
+final class Buffers {
+
+  private Buffers() {}
+
+  // Direct buffers in native byte order can be handed to native code by address
+  static boolean isDirect(DoubleBuffer buffer) {
+    return buffer == null || (buffer.isDirect() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  static boolean isDirect(FloatBuffer buffer) {
+    return buffer == null || (buffer.isDirect() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  static boolean isDirect(IntBuffer buffer) {
+    return buffer == null || (buffer.isDirect() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  static boolean isWritable(Buffer buffer) {
+    return buffer == null || !buffer.isReadOnly();
+  }
+
+  static double[] array(DoubleBuffer buffer, int offset, int length) {
+    if (buffer == null) {
+      return null;
+    }
+    if (buffer.hasArray()) {
+      return buffer.array();
+    }
+    length = length(buffer, offset, length);
+    if (length == 0) {
+      return new double[0];
+    }
+    double[] array = new double[length];
+    DoubleBuffer view = buffer.duplicate();
+    // cast to Buffer so that the bytecode also links against the JDK 8 class library
+    ((Buffer)view).position(offset);
+    view.get(array);
+    return array;
+  }
+
+  static float[] array(FloatBuffer buffer, int offset, int length) {
+    if (buffer == null) {
+      return null;
+    }
+    if (buffer.hasArray()) {
+      return buffer.array();
+    }
+    length = length(buffer, offset, length);
+    if (length == 0) {
+      return new float[0];
+    }
+    float[] array = new float[length];
+    FloatBuffer view = buffer.duplicate();
+    ((Buffer)view).position(offset);
+    view.get(array);
+    return array;
+  }
+
+  static int[] array(IntBuffer buffer, int offset, int length) {
+    if (buffer == null) {
+      return null;
+    }
+    if (buffer.hasArray()) {
+      return buffer.array();
+    }
+    length = length(buffer, offset, length);
+    if (length == 0) {
+      return new int[0];
+    }
+    int[] array = new int[length];
+    IntBuffer view = buffer.duplicate();
+    ((Buffer)view).position(offset);
+    view.get(array);
+    return array;
+  }
+
+  // Same as array(buffer, offset, length), for a buffer the kernel writes to
+  static double[] writableArray(DoubleBuffer buffer, int offset, int length) {
+    checkWritable(buffer);
+    return array(buffer, offset, length);
+  }
+
+  static float[] writableArray(FloatBuffer buffer, int offset, int length) {
+    checkWritable(buffer);
+    return array(buffer, offset, length);
+  }
+
+  static int[] writableArray(IntBuffer buffer, int offset, int length) {
+    checkWritable(buffer);
+    return array(buffer, offset, length);
+  }
+
+  // Offset into the array returned by array(buffer, offset, length)
+  static int offset(Buffer buffer, int offset) {
+    if (buffer == null) {
+      return offset;
+    }
+    return buffer.hasArray() ? buffer.arrayOffset() + offset : 0;
+  }
+
+  static void release(DoubleBuffer buffer, int offset, double[] array) {
+    if (buffer == null || buffer.hasArray() || array.length == 0) {
+      return;
+    }
+    DoubleBuffer view = buffer.duplicate();
+    ((Buffer)view).position(offset);
+    view.put(array);
+  }
+
+  static void release(FloatBuffer buffer, int offset, float[] array) {
+    if (buffer == null || buffer.hasArray() || array.length == 0) {
+      return;
+    }
+    FloatBuffer view = buffer.duplicate();
+    ((Buffer)view).position(offset);
+    view.put(array);
+  }
+
+  static void release(IntBuffer buffer, int offset, int[] array) {
+    if (buffer == null || buffer.hasArray() || array.length == 0) {
+      return;
+    }
+    IntBuffer view = buffer.duplicate();
+    ((Buffer)view).position(offset);
+    view.put(array);
+  }
+
+  private static void checkWritable(Buffer buffer) {
+    if (buffer != null && buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+  }
+
+  // The length is clamped to the limit, so that a kernel reading past it still fails on the
+  // bounds of the temporary array
+  private static int length(Buffer buffer, int offset, int length) {
+    return Math.max(0, Math.min(length, buffer.limit() - offset));
+  }
+}
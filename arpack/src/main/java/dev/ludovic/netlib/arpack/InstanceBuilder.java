@@ -54,6 +54,20 @@ final class InstanceBuilder {
   }
 
   private static NativeARPACK initializeNative() {
+    String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 2);
+    int major = Integer.parseInt(fullVersion[0]);
+    // ForeignARPACK is opt-in: JNIARPACK stays the default until ForeignARPACK has been through
+    // a JDK 22 build and test run
+    if (major >= 22 && Boolean.parseBoolean(System.getProperty("dev.ludovic.netlib.arpack.foreign", "false"))) {
+      // ForeignARPACK is only compiled with Java 22+, so it can't be referenced directly
+      String foreign = "dev.ludovic.netlib.arpack.ForeignARPACK";
+      try {
+        log.finest("trying to return foreign instance");
+        return (NativeARPACK)Class.forName(foreign).getMethod("getInstance").invoke(null);
+      } catch (Throwable t) {
+        log.log(Level.FINE, "Failed to load implementation from:" + foreign, t);
+      }
+    }
     try {
       return JNIARPACK.getInstance();
     } catch (Throwable t) {
@@ -28,6 +28,9 @@ package dev.ludovic.netlib.arpack;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -98,8 +101,28 @@ final class JNIARPACK extends AbstractARPACK implements NativeARPACK {
 
   protected native void dnaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  protected void dnaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (Buffers.isDirect(resid) && Buffers.isDirect(v) && Buffers.isDirect(iparam) && Buffers.isDirect(ipntr) && Buffers.isDirect(workd) && Buffers.isDirect(workl) && Buffers.isWritable(resid) && Buffers.isWritable(v) && Buffers.isWritable(iparam) && Buffers.isWritable(ipntr) && Buffers.isWritable(workd) && Buffers.isWritable(workl)) {
+      dnaupdDirectK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    } else {
+      super.dnaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private native void dnaupdDirectK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+
   protected native void snaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  protected void snaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (Buffers.isDirect(resid) && Buffers.isDirect(v) && Buffers.isDirect(iparam) && Buffers.isDirect(ipntr) && Buffers.isDirect(workd) && Buffers.isDirect(workl) && Buffers.isWritable(resid) && Buffers.isWritable(v) && Buffers.isWritable(iparam) && Buffers.isWritable(ipntr) && Buffers.isWritable(workd) && Buffers.isWritable(workl)) {
+      snaupdDirectK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    } else {
+      super.snaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private native void snaupdDirectK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+
   protected native void dnconvK(int n, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv);
 
   protected native void snconvK(int n, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv);
@@ -114,8 +137,28 @@ final class JNIARPACK extends AbstractARPACK implements NativeARPACK {
 
   protected native void dneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] dr, int offsetdr, double[] di, int offsetdi, double[] z, int offsetz, int ldz, double sigmar, double sigmai, double[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  protected void dneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer dr, int offsetdr, DoubleBuffer di, int offsetdi, DoubleBuffer z, int offsetz, int ldz, double sigmar, double sigmai, DoubleBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (Buffers.isDirect(dr) && Buffers.isDirect(di) && Buffers.isDirect(z) && Buffers.isDirect(workev) && Buffers.isDirect(resid) && Buffers.isDirect(v) && Buffers.isDirect(iparam) && Buffers.isDirect(ipntr) && Buffers.isDirect(workd) && Buffers.isDirect(workl) && Buffers.isWritable(dr) && Buffers.isWritable(di) && Buffers.isWritable(z) && Buffers.isWritable(workev) && Buffers.isWritable(resid) && Buffers.isWritable(v) && Buffers.isWritable(iparam) && Buffers.isWritable(ipntr) && Buffers.isWritable(workd) && Buffers.isWritable(workl)) {
+      dneupdDirectK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    } else {
+      super.dneupdK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private native void dneupdDirectK(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer dr, int offsetdr, DoubleBuffer di, int offsetdi, DoubleBuffer z, int offsetz, int ldz, double sigmar, double sigmai, DoubleBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+
   protected native void sneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] dr, int offsetdr, float[] di, int offsetdi, float[] z, int offsetz, int ldz, float sigmar, float sigmai, float[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  protected void sneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer dr, int offsetdr, FloatBuffer di, int offsetdi, FloatBuffer z, int offsetz, int ldz, float sigmar, float sigmai, FloatBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (Buffers.isDirect(dr) && Buffers.isDirect(di) && Buffers.isDirect(z) && Buffers.isDirect(workev) && Buffers.isDirect(resid) && Buffers.isDirect(v) && Buffers.isDirect(iparam) && Buffers.isDirect(ipntr) && Buffers.isDirect(workd) && Buffers.isDirect(workl) && Buffers.isWritable(dr) && Buffers.isWritable(di) && Buffers.isWritable(z) && Buffers.isWritable(workev) && Buffers.isWritable(resid) && Buffers.isWritable(v) && Buffers.isWritable(iparam) && Buffers.isWritable(ipntr) && Buffers.isWritable(workd) && Buffers.isWritable(workl)) {
+      sneupdDirectK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    } else {
+      super.sneupdK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private native void sneupdDirectK(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer dr, int offsetdr, FloatBuffer di, int offsetdi, FloatBuffer z, int offsetz, int ldz, float sigmar, float sigmai, FloatBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+
   protected native void dngetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti);
 
   protected native void sngetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti);
@@ -142,12 +185,52 @@ final class JNIARPACK extends AbstractARPACK implements NativeARPACK {
 
   protected native void dsaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  protected void dsaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (Buffers.isDirect(resid) && Buffers.isDirect(v) && Buffers.isDirect(iparam) && Buffers.isDirect(ipntr) && Buffers.isDirect(workd) && Buffers.isDirect(workl) && Buffers.isWritable(resid) && Buffers.isWritable(v) && Buffers.isWritable(iparam) && Buffers.isWritable(ipntr) && Buffers.isWritable(workd) && Buffers.isWritable(workl)) {
+      dsaupdDirectK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    } else {
+      super.dsaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private native void dsaupdDirectK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+
   protected native void ssaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  protected void ssaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (Buffers.isDirect(resid) && Buffers.isDirect(v) && Buffers.isDirect(iparam) && Buffers.isDirect(ipntr) && Buffers.isDirect(workd) && Buffers.isDirect(workl) && Buffers.isWritable(resid) && Buffers.isWritable(v) && Buffers.isWritable(iparam) && Buffers.isWritable(ipntr) && Buffers.isWritable(workd) && Buffers.isWritable(workl)) {
+      ssaupdDirectK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    } else {
+      super.ssaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private native void ssaupdDirectK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+
   protected native void dseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] d, int offsetd, double[] z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  protected void dseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer d, int offsetd, DoubleBuffer z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (Buffers.isDirect(d) && Buffers.isDirect(z) && Buffers.isDirect(resid) && Buffers.isDirect(v) && Buffers.isDirect(iparam) && Buffers.isDirect(ipntr) && Buffers.isDirect(workd) && Buffers.isDirect(workl) && Buffers.isWritable(d) && Buffers.isWritable(z) && Buffers.isWritable(resid) && Buffers.isWritable(v) && Buffers.isWritable(iparam) && Buffers.isWritable(ipntr) && Buffers.isWritable(workd) && Buffers.isWritable(workl)) {
+      dseupdDirectK(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    } else {
+      super.dseupdK(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private native void dseupdDirectK(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer d, int offsetd, DoubleBuffer z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+
   protected native void sseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] d, int offsetd, float[] z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
 
+  protected void sseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer d, int offsetd, FloatBuffer z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (Buffers.isDirect(d) && Buffers.isDirect(z) && Buffers.isDirect(resid) && Buffers.isDirect(v) && Buffers.isDirect(iparam) && Buffers.isDirect(ipntr) && Buffers.isDirect(workd) && Buffers.isDirect(workl) && Buffers.isWritable(d) && Buffers.isWritable(z) && Buffers.isWritable(resid) && Buffers.isWritable(v) && Buffers.isWritable(iparam) && Buffers.isWritable(ipntr) && Buffers.isWritable(workd) && Buffers.isWritable(workl)) {
+      sseupdDirectK(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    } else {
+      super.sseupdK(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private native void sseupdDirectK(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer d, int offsetd, FloatBuffer z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info);
+
   protected native void dsgetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] shifts, int offsetshifts);
 
   protected native void ssgetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] shifts, int offsetshifts);
@@ -0,0 +1,1361 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+// Generated by generator.py, do not edit
+
+package dev.ludovic.netlib.arpack;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+
+// Binds the native library through the Foreign Function & Memory API of Java 22+, instead of
+// going through the JNI wrappers of JNIARPACK.
+final class ForeignARPACK extends AbstractARPACK implements NativeARPACK {
+
+  private static final Linker linker = Linker.nativeLinker();
+
+  private static final SymbolLookup lookup = libraryLookup();
+
+  private static final ForeignARPACK instance = new ForeignARPACK();
+
+  protected ForeignARPACK() {}
+
+  public static NativeARPACK getInstance() {
+    return instance;
+  }
+
+  private static SymbolLookup libraryLookup() {
+    String nativeLibPath = System.getProperty("dev.ludovic.netlib.arpack.nativeLibPath");
+    if (nativeLibPath != null) {
+      return SymbolLookup.libraryLookup(Paths.get(nativeLibPath), Arena.global());
+    }
+    return SymbolLookup.libraryLookup(System.getProperty("dev.ludovic.netlib.arpack.nativeLib", "libarpack.so.2"), Arena.global());
+  }
+
+  // All the arguments are pointers, so the handles only differ by their number of arguments and
+  // their return type, and the JDK only has to specialize a few of them
+  private static MethodHandle downcallHandle(String name, MemoryLayout result, int count) {
+    MemoryLayout[] arguments = new MemoryLayout[count];
+    Arrays.fill(arguments, ADDRESS);
+    FunctionDescriptor descriptor = result == null ? FunctionDescriptor.ofVoid(arguments) : FunctionDescriptor.of(result, arguments);
+    return lookup.find(name).map(symbol -> linker.downcallHandle(symbol, descriptor, Linker.Option.critical(true))).orElse(null);
+  }
+
+  private static RuntimeException rethrow(Throwable throwable) {
+    if (throwable instanceof Error) {
+      throw (Error)throwable;
+    }
+    if (throwable instanceof RuntimeException) {
+      return (RuntimeException)throwable;
+    }
+    return new RuntimeException(throwable);
+  }
+
+  private static MemorySegment value(int value) {
+    return MemorySegment.ofArray(new int[] { value });
+  }
+
+  private static MemorySegment value(float value) {
+    return MemorySegment.ofArray(new float[] { value });
+  }
+
+  private static MemorySegment value(double value) {
+    return MemorySegment.ofArray(new double[] { value });
+  }
+
+  private static byte[] bytes(String string) {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    return Arrays.copyOf(bytes, bytes.length + 1);
+  }
+
+  private static MemorySegment string(String string) {
+    return string == null ? MemorySegment.NULL : MemorySegment.ofArray(bytes(string));
+  }
+
+  private static String string(byte[] bytes) {
+    int length = 0;
+    while (length < bytes.length && bytes[length] != 0) {
+      length += 1;
+    }
+    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+  }
+
+  // Fortran logicals are ints, so boolean arrays are copied, and never copied back
+  private static MemorySegment segment(boolean[] array, int offset) {
+    if (array == null) {
+      return MemorySegment.NULL;
+    }
+    int[] copy = new int[array.length - offset];
+    for (int i = 0; i < copy.length; i += 1) {
+      copy[i] = array[offset + i] ? 1 : 0;
+    }
+    return MemorySegment.ofArray(copy);
+  }
+
+  private static MemorySegment segment(int[] array, int offset) {
+    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Integer.BYTES);
+  }
+
+  private static MemorySegment segment(float[] array, int offset) {
+    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Float.BYTES);
+  }
+
+  private static MemorySegment segment(double[] array, int offset) {
+    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Double.BYTES);
+  }
+
+  // Heap buffers and direct buffers in native byte order are passed as is; read-only ones go
+  // through the copying fallback, as nothing would stop native code from writing to them
+  private static boolean isSegment(IntBuffer buffer) {
+    return buffer == null || (!buffer.isReadOnly() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  private static boolean isSegment(FloatBuffer buffer) {
+    return buffer == null || (!buffer.isReadOnly() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  private static boolean isSegment(DoubleBuffer buffer) {
+    return buffer == null || (!buffer.isReadOnly() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  // offset is absolute, independent of the position of the buffer
+  private static MemorySegment segment(IntBuffer buffer, int offset) {
+    return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer.duplicate().clear()).asSlice((long)offset * Integer.BYTES);
+  }
+
+  // offset is absolute, independent of the position of the buffer
+  private static MemorySegment segment(FloatBuffer buffer, int offset) {
+    return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer.duplicate().clear()).asSlice((long)offset * Float.BYTES);
+  }
+
+  // offset is absolute, independent of the position of the buffer
+  private static MemorySegment segment(DoubleBuffer buffer, int offset) {
+    return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer.duplicate().clear()).asSlice((long)offset * Double.BYTES);
+  }
+
+  private static final MethodHandle dmout_ = downcallHandle("dmout_", null, 7);
+
+  protected void dmoutK(int lout, int m, int n, double[] a, int offseta, int lda, int idigit, String ifmt) {
+    dmoutSegmentK(lout, m, n, segment(a, offseta), lda, idigit, ifmt);
+  }
+
+  private void dmoutSegmentK(int lout, int m, int n, MemorySegment a, int lda, int idigit, String ifmt) {
+    if (dmout_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dmout_.invokeExact(value(lout), value(m), value(n), a, value(lda), value(idigit), string(ifmt));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle smout_ = downcallHandle("smout_", null, 7);
+
+  protected void smoutK(int lout, int m, int n, float[] a, int offseta, int lda, int idigit, String ifmt) {
+    smoutSegmentK(lout, m, n, segment(a, offseta), lda, idigit, ifmt);
+  }
+
+  private void smoutSegmentK(int lout, int m, int n, MemorySegment a, int lda, int idigit, String ifmt) {
+    if (smout_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      smout_.invokeExact(value(lout), value(m), value(n), a, value(lda), value(idigit), string(ifmt));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dvout_ = downcallHandle("dvout_", null, 5);
+
+  protected void dvoutK(int lout, int n, double[] sx, int offsetsx, int idigit, String ifmt) {
+    dvoutSegmentK(lout, n, segment(sx, offsetsx), idigit, ifmt);
+  }
+
+  private void dvoutSegmentK(int lout, int n, MemorySegment sx, int idigit, String ifmt) {
+    if (dvout_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dvout_.invokeExact(value(lout), value(n), sx, value(idigit), string(ifmt));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle svout_ = downcallHandle("svout_", null, 5);
+
+  protected void svoutK(int lout, int n, float[] sx, int offsetsx, int idigit, String ifmt) {
+    svoutSegmentK(lout, n, segment(sx, offsetsx), idigit, ifmt);
+  }
+
+  private void svoutSegmentK(int lout, int n, MemorySegment sx, int idigit, String ifmt) {
+    if (svout_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      svout_.invokeExact(value(lout), value(n), sx, value(idigit), string(ifmt));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ivout_ = downcallHandle("ivout_", null, 5);
+
+  protected void ivoutK(int lout, int n, int[] ix, int offsetix, int idigit, String ifmt) {
+    ivoutSegmentK(lout, n, segment(ix, offsetix), idigit, ifmt);
+  }
+
+  private void ivoutSegmentK(int lout, int n, MemorySegment ix, int idigit, String ifmt) {
+    if (ivout_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ivout_.invokeExact(value(lout), value(n), ix, value(idigit), string(ifmt));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dgetv0_ = downcallHandle("dgetv0_", null, 13);
+
+  protected void dgetv0K(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, double[] v, int offsetv, int ldv, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW ierr) {
+    dgetv0SegmentK(ido, bmat, itry, initv, n, j, segment(v, offsetv), ldv, segment(resid, offsetresid), rnorm, segment(ipntr, offsetipntr), segment(workd, offsetworkd), ierr);
+  }
+
+  private void dgetv0SegmentK(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, MemorySegment v, int ldv, MemorySegment resid, org.netlib.util.doubleW rnorm, MemorySegment ipntr, MemorySegment workd, org.netlib.util.intW ierr) {
+    if (dgetv0_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    double[] __rnorm = { rnorm.val };
+    int[] __ierr = { ierr.val };
+    try {
+      dgetv0_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(itry), value(initv ? 1 : 0), value(n), value(j), v, value(ldv), resid, MemorySegment.ofArray(__rnorm), ipntr, workd, MemorySegment.ofArray(__ierr));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    rnorm.val = __rnorm[0];
+    ierr.val = __ierr[0];
+  }
+
+  private static final MethodHandle sgetv0_ = downcallHandle("sgetv0_", null, 13);
+
+  protected void sgetv0K(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, float[] v, int offsetv, int ldv, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW ierr) {
+    sgetv0SegmentK(ido, bmat, itry, initv, n, j, segment(v, offsetv), ldv, segment(resid, offsetresid), rnorm, segment(ipntr, offsetipntr), segment(workd, offsetworkd), ierr);
+  }
+
+  private void sgetv0SegmentK(org.netlib.util.intW ido, String bmat, int itry, boolean initv, int n, int j, MemorySegment v, int ldv, MemorySegment resid, org.netlib.util.floatW rnorm, MemorySegment ipntr, MemorySegment workd, org.netlib.util.intW ierr) {
+    if (sgetv0_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    float[] __rnorm = { rnorm.val };
+    int[] __ierr = { ierr.val };
+    try {
+      sgetv0_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(itry), value(initv ? 1 : 0), value(n), value(j), v, value(ldv), resid, MemorySegment.ofArray(__rnorm), ipntr, workd, MemorySegment.ofArray(__ierr));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    rnorm.val = __rnorm[0];
+    ierr.val = __ierr[0];
+  }
+
+  protected void dlaqrbK(boolean wantt, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void slaqrbK(boolean wantt, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static final MethodHandle dnaitr_ = downcallHandle("dnaitr_", null, 15);
+
+  protected void dnaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    dnaitrSegmentK(ido, bmat, n, k, np, nb, segment(resid, offsetresid), rnorm, segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(ipntr, offsetipntr), segment(workd, offsetworkd), info);
+  }
+
+  private void dnaitrSegmentK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, MemorySegment resid, org.netlib.util.doubleW rnorm, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment ipntr, MemorySegment workd, org.netlib.util.intW info) {
+    if (dnaitr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    double[] __rnorm = { rnorm.val };
+    int[] __info = { info.val };
+    try {
+      dnaitr_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), value(k), value(np), value(nb), resid, MemorySegment.ofArray(__rnorm), v, value(ldv), h, value(ldh), ipntr, workd, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    rnorm.val = __rnorm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle snaitr_ = downcallHandle("snaitr_", null, 15);
+
+  protected void snaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    snaitrSegmentK(ido, bmat, n, k, np, nb, segment(resid, offsetresid), rnorm, segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(ipntr, offsetipntr), segment(workd, offsetworkd), info);
+  }
+
+  private void snaitrSegmentK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int nb, MemorySegment resid, org.netlib.util.floatW rnorm, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment ipntr, MemorySegment workd, org.netlib.util.intW info) {
+    if (snaitr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    float[] __rnorm = { rnorm.val };
+    int[] __info = { info.val };
+    try {
+      snaitr_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), value(k), value(np), value(nb), resid, MemorySegment.ofArray(__rnorm), v, value(ldv), h, value(ldh), ipntr, workd, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    rnorm.val = __rnorm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dnapps_ = downcallHandle("dnapps_", null, 14);
+
+  protected void dnappsK(int n, org.netlib.util.intW kev, int np, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, double[] workd, int offsetworkd) {
+    dnappsSegmentK(n, kev, np, segment(shiftr, offsetshiftr), segment(shifti, offsetshifti), segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(resid, offsetresid), segment(q, offsetq), ldq, segment(workl, offsetworkl), segment(workd, offsetworkd));
+  }
+
+  private void dnappsSegmentK(int n, org.netlib.util.intW kev, int np, MemorySegment shiftr, MemorySegment shifti, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment resid, MemorySegment q, int ldq, MemorySegment workl, MemorySegment workd) {
+    if (dnapps_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __kev = { kev.val };
+    try {
+      dnapps_.invokeExact(value(n), MemorySegment.ofArray(__kev), value(np), shiftr, shifti, v, value(ldv), h, value(ldh), resid, q, value(ldq), workl, workd);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    kev.val = __kev[0];
+  }
+
+  private static final MethodHandle snapps_ = downcallHandle("snapps_", null, 14);
+
+  protected void snappsK(int n, org.netlib.util.intW kev, int np, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, float[] workd, int offsetworkd) {
+    snappsSegmentK(n, kev, np, segment(shiftr, offsetshiftr), segment(shifti, offsetshifti), segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(resid, offsetresid), segment(q, offsetq), ldq, segment(workl, offsetworkl), segment(workd, offsetworkd));
+  }
+
+  private void snappsSegmentK(int n, org.netlib.util.intW kev, int np, MemorySegment shiftr, MemorySegment shifti, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment resid, MemorySegment q, int ldq, MemorySegment workl, MemorySegment workd) {
+    if (snapps_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __kev = { kev.val };
+    try {
+      snapps_.invokeExact(value(n), MemorySegment.ofArray(__kev), value(np), shiftr, shifti, v, value(ldv), h, value(ldh), resid, q, value(ldq), workl, workd);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    kev.val = __kev[0];
+  }
+
+  private static final MethodHandle dnaup2_ = downcallHandle("dnaup2_", null, 25);
+
+  protected void dnaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    dnaup2SegmentK(ido, bmat, n, which, nev, np, tol, segment(resid, offsetresid), mode, iupd, ishift, mxiter, segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(ritzr, offsetritzr), segment(ritzi, offsetritzi), segment(bounds, offsetbounds), segment(q, offsetq), ldq, segment(workl, offsetworkl), segment(ipntr, offsetipntr), segment(workd, offsetworkd), info);
+  }
+
+  private void dnaup2SegmentK(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, MemorySegment resid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment ritzr, MemorySegment ritzi, MemorySegment bounds, MemorySegment q, int ldq, MemorySegment workl, MemorySegment ipntr, MemorySegment workd, org.netlib.util.intW info) {
+    if (dnaup2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    int[] __nev = { nev.val };
+    int[] __np = { np.val };
+    int[] __mxiter = { mxiter.val };
+    int[] __info = { info.val };
+    try {
+      dnaup2_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), string(which), MemorySegment.ofArray(__nev), MemorySegment.ofArray(__np), value(tol), resid, value(mode), value(iupd), value(ishift), MemorySegment.ofArray(__mxiter), v, value(ldv), h, value(ldh), ritzr, ritzi, bounds, q, value(ldq), workl, ipntr, workd, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    nev.val = __nev[0];
+    np.val = __np[0];
+    mxiter.val = __mxiter[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle snaup2_ = downcallHandle("snaup2_", null, 25);
+
+  protected void snaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    snaup2SegmentK(ido, bmat, n, which, nev, np, tol, segment(resid, offsetresid), mode, iupd, ishift, mxiter, segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(ritzr, offsetritzr), segment(ritzi, offsetritzi), segment(bounds, offsetbounds), segment(q, offsetq), ldq, segment(workl, offsetworkl), segment(ipntr, offsetipntr), segment(workd, offsetworkd), info);
+  }
+
+  private void snaup2SegmentK(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, MemorySegment resid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment ritzr, MemorySegment ritzi, MemorySegment bounds, MemorySegment q, int ldq, MemorySegment workl, MemorySegment ipntr, MemorySegment workd, org.netlib.util.intW info) {
+    if (snaup2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    int[] __nev = { nev.val };
+    int[] __np = { np.val };
+    int[] __mxiter = { mxiter.val };
+    int[] __info = { info.val };
+    try {
+      snaup2_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), string(which), MemorySegment.ofArray(__nev), MemorySegment.ofArray(__np), value(tol), resid, value(mode), value(iupd), value(ishift), MemorySegment.ofArray(__mxiter), v, value(ldv), h, value(ldh), ritzr, ritzi, bounds, q, value(ldq), workl, ipntr, workd, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    nev.val = __nev[0];
+    np.val = __np[0];
+    mxiter.val = __mxiter[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dnaupd_ = downcallHandle("dnaupd_", null, 16);
+
+  protected void dnaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    dnaupdSegmentK(ido, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+  }
+
+  protected void dnaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (isSegment(resid) && isSegment(v) && isSegment(iparam) && isSegment(ipntr) && isSegment(workd) && isSegment(workl)) {
+      dnaupdSegmentK(ido, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+    } else {
+      super.dnaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private void dnaupdSegmentK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, MemorySegment resid, int ncv, MemorySegment v, int ldv, MemorySegment iparam, MemorySegment ipntr, MemorySegment workd, MemorySegment workl, int lworkl, org.netlib.util.intW info) {
+    if (dnaupd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    double[] __tol = { tol.val };
+    int[] __info = { info.val };
+    try {
+      dnaupd_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), string(which), value(nev), MemorySegment.ofArray(__tol), resid, value(ncv), v, value(ldv), iparam, ipntr, workd, workl, value(lworkl), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    tol.val = __tol[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle snaupd_ = downcallHandle("snaupd_", null, 16);
+
+  protected void snaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    snaupdSegmentK(ido, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+  }
+
+  protected void snaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (isSegment(resid) && isSegment(v) && isSegment(iparam) && isSegment(ipntr) && isSegment(workd) && isSegment(workl)) {
+      snaupdSegmentK(ido, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+    } else {
+      super.snaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private void snaupdSegmentK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, MemorySegment resid, int ncv, MemorySegment v, int ldv, MemorySegment iparam, MemorySegment ipntr, MemorySegment workd, MemorySegment workl, int lworkl, org.netlib.util.intW info) {
+    if (snaupd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    float[] __tol = { tol.val };
+    int[] __info = { info.val };
+    try {
+      snaupd_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), string(which), value(nev), MemorySegment.ofArray(__tol), resid, value(ncv), v, value(ldv), iparam, ipntr, workd, workl, value(lworkl), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    tol.val = __tol[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dnconv_ = downcallHandle("dnconv_", null, 6);
+
+  protected void dnconvK(int n, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv) {
+    dnconvSegmentK(n, segment(ritzr, offsetritzr), segment(ritzi, offsetritzi), segment(bounds, offsetbounds), tol, nconv);
+  }
+
+  private void dnconvSegmentK(int n, MemorySegment ritzr, MemorySegment ritzi, MemorySegment bounds, double tol, org.netlib.util.intW nconv) {
+    if (dnconv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nconv = { nconv.val };
+    try {
+      dnconv_.invokeExact(value(n), ritzr, ritzi, bounds, value(tol), MemorySegment.ofArray(__nconv));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    nconv.val = __nconv[0];
+  }
+
+  private static final MethodHandle snconv_ = downcallHandle("snconv_", null, 6);
+
+  protected void snconvK(int n, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv) {
+    snconvSegmentK(n, segment(ritzr, offsetritzr), segment(ritzi, offsetritzi), segment(bounds, offsetbounds), tol, nconv);
+  }
+
+  private void snconvSegmentK(int n, MemorySegment ritzr, MemorySegment ritzi, MemorySegment bounds, float tol, org.netlib.util.intW nconv) {
+    if (snconv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nconv = { nconv.val };
+    try {
+      snconv_.invokeExact(value(n), ritzr, ritzi, bounds, value(tol), MemorySegment.ofArray(__nconv));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    nconv.val = __nconv[0];
+  }
+
+  private static final MethodHandle dsconv_ = downcallHandle("dsconv_", null, 5);
+
+  protected void dsconvK(int n, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double tol, org.netlib.util.intW nconv) {
+    dsconvSegmentK(n, segment(ritz, offsetritz), segment(bounds, offsetbounds), tol, nconv);
+  }
+
+  private void dsconvSegmentK(int n, MemorySegment ritz, MemorySegment bounds, double tol, org.netlib.util.intW nconv) {
+    if (dsconv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nconv = { nconv.val };
+    try {
+      dsconv_.invokeExact(value(n), ritz, bounds, value(tol), MemorySegment.ofArray(__nconv));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    nconv.val = __nconv[0];
+  }
+
+  private static final MethodHandle ssconv_ = downcallHandle("ssconv_", null, 5);
+
+  protected void ssconvK(int n, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float tol, org.netlib.util.intW nconv) {
+    ssconvSegmentK(n, segment(ritz, offsetritz), segment(bounds, offsetbounds), tol, nconv);
+  }
+
+  private void ssconvSegmentK(int n, MemorySegment ritz, MemorySegment bounds, float tol, org.netlib.util.intW nconv) {
+    if (ssconv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nconv = { nconv.val };
+    try {
+      ssconv_.invokeExact(value(n), ritz, bounds, value(tol), MemorySegment.ofArray(__nconv));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    nconv.val = __nconv[0];
+  }
+
+  private static final MethodHandle dneigh_ = downcallHandle("dneigh_", null, 11);
+
+  protected void dneighK(double rnorm, org.netlib.util.intW n, double[] h, int offseth, int ldh, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    dneighSegmentK(rnorm, n, segment(h, offseth), ldh, segment(ritzr, offsetritzr), segment(ritzi, offsetritzi), segment(bounds, offsetbounds), segment(q, offsetq), ldq, segment(workl, offsetworkl), ierr);
+  }
+
+  private void dneighSegmentK(double rnorm, org.netlib.util.intW n, MemorySegment h, int ldh, MemorySegment ritzr, MemorySegment ritzi, MemorySegment bounds, MemorySegment q, int ldq, MemorySegment workl, org.netlib.util.intW ierr) {
+    if (dneigh_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __n = { n.val };
+    int[] __ierr = { ierr.val };
+    try {
+      dneigh_.invokeExact(value(rnorm), MemorySegment.ofArray(__n), h, value(ldh), ritzr, ritzi, bounds, q, value(ldq), workl, MemorySegment.ofArray(__ierr));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    n.val = __n[0];
+    ierr.val = __ierr[0];
+  }
+
+  private static final MethodHandle sneigh_ = downcallHandle("sneigh_", null, 11);
+
+  protected void sneighK(float rnorm, org.netlib.util.intW n, float[] h, int offseth, int ldh, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    sneighSegmentK(rnorm, n, segment(h, offseth), ldh, segment(ritzr, offsetritzr), segment(ritzi, offsetritzi), segment(bounds, offsetbounds), segment(q, offsetq), ldq, segment(workl, offsetworkl), ierr);
+  }
+
+  private void sneighSegmentK(float rnorm, org.netlib.util.intW n, MemorySegment h, int ldh, MemorySegment ritzr, MemorySegment ritzi, MemorySegment bounds, MemorySegment q, int ldq, MemorySegment workl, org.netlib.util.intW ierr) {
+    if (sneigh_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __n = { n.val };
+    int[] __ierr = { ierr.val };
+    try {
+      sneigh_.invokeExact(value(rnorm), MemorySegment.ofArray(__n), h, value(ldh), ritzr, ritzi, bounds, q, value(ldq), workl, MemorySegment.ofArray(__ierr));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    n.val = __n[0];
+    ierr.val = __ierr[0];
+  }
+
+  private static final MethodHandle dneupd_ = downcallHandle("dneupd_", null, 25);
+
+  protected void dneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] dr, int offsetdr, double[] di, int offsetdi, double[] z, int offsetz, int ldz, double sigmar, double sigmai, double[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    dneupdSegmentK(rvec, howmny, segment(select, offsetselect), segment(dr, offsetdr), segment(di, offsetdi), segment(z, offsetz), ldz, sigmar, sigmai, segment(workev, offsetworkev), bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+  }
+
+  protected void dneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer dr, int offsetdr, DoubleBuffer di, int offsetdi, DoubleBuffer z, int offsetz, int ldz, double sigmar, double sigmai, DoubleBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (isSegment(dr) && isSegment(di) && isSegment(z) && isSegment(workev) && isSegment(resid) && isSegment(v) && isSegment(iparam) && isSegment(ipntr) && isSegment(workd) && isSegment(workl)) {
+      dneupdSegmentK(rvec, howmny, segment(select, offsetselect), segment(dr, offsetdr), segment(di, offsetdi), segment(z, offsetz), ldz, sigmar, sigmai, segment(workev, offsetworkev), bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+    } else {
+      super.dneupdK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private void dneupdSegmentK(boolean rvec, String howmny, MemorySegment select, MemorySegment dr, MemorySegment di, MemorySegment z, int ldz, double sigmar, double sigmai, MemorySegment workev, String bmat, int n, String which, org.netlib.util.intW nev, double tol, MemorySegment resid, int ncv, MemorySegment v, int ldv, MemorySegment iparam, MemorySegment ipntr, MemorySegment workd, MemorySegment workl, int lworkl, org.netlib.util.intW info) {
+    if (dneupd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nev = { nev.val };
+    int[] __info = { info.val };
+    try {
+      dneupd_.invokeExact(value(rvec ? 1 : 0), string(howmny), select, dr, di, z, value(ldz), value(sigmar), value(sigmai), workev, string(bmat), value(n), string(which), MemorySegment.ofArray(__nev), value(tol), resid, value(ncv), v, value(ldv), iparam, ipntr, workd, workl, value(lworkl), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    nev.val = __nev[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sneupd_ = downcallHandle("sneupd_", null, 25);
+
+  protected void sneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] dr, int offsetdr, float[] di, int offsetdi, float[] z, int offsetz, int ldz, float sigmar, float sigmai, float[] workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    sneupdSegmentK(rvec, howmny, segment(select, offsetselect), segment(dr, offsetdr), segment(di, offsetdi), segment(z, offsetz), ldz, sigmar, sigmai, segment(workev, offsetworkev), bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+  }
+
+  protected void sneupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer dr, int offsetdr, FloatBuffer di, int offsetdi, FloatBuffer z, int offsetz, int ldz, float sigmar, float sigmai, FloatBuffer workev, int offsetworkev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (isSegment(dr) && isSegment(di) && isSegment(z) && isSegment(workev) && isSegment(resid) && isSegment(v) && isSegment(iparam) && isSegment(ipntr) && isSegment(workd) && isSegment(workl)) {
+      sneupdSegmentK(rvec, howmny, segment(select, offsetselect), segment(dr, offsetdr), segment(di, offsetdi), segment(z, offsetz), ldz, sigmar, sigmai, segment(workev, offsetworkev), bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+    } else {
+      super.sneupdK(rvec, howmny, select, offsetselect, dr, offsetdr, di, offsetdi, z, offsetz, ldz, sigmar, sigmai, workev, offsetworkev, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private void sneupdSegmentK(boolean rvec, String howmny, MemorySegment select, MemorySegment dr, MemorySegment di, MemorySegment z, int ldz, float sigmar, float sigmai, MemorySegment workev, String bmat, int n, String which, org.netlib.util.intW nev, float tol, MemorySegment resid, int ncv, MemorySegment v, int ldv, MemorySegment iparam, MemorySegment ipntr, MemorySegment workd, MemorySegment workl, int lworkl, org.netlib.util.intW info) {
+    if (sneupd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nev = { nev.val };
+    int[] __info = { info.val };
+    try {
+      sneupd_.invokeExact(value(rvec ? 1 : 0), string(howmny), select, dr, di, z, value(ldz), value(sigmar), value(sigmai), workev, string(bmat), value(n), string(which), MemorySegment.ofArray(__nev), value(tol), resid, value(ncv), v, value(ldv), iparam, ipntr, workd, workl, value(lworkl), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    nev.val = __nev[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dngets_ = downcallHandle("dngets_", null, 9);
+
+  protected void dngetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritzr, int offsetritzr, double[] ritzi, int offsetritzi, double[] bounds, int offsetbounds, double[] shiftr, int offsetshiftr, double[] shifti, int offsetshifti) {
+    dngetsSegmentK(ishift, which, kev, np, segment(ritzr, offsetritzr), segment(ritzi, offsetritzi), segment(bounds, offsetbounds), segment(shiftr, offsetshiftr), segment(shifti, offsetshifti));
+  }
+
+  private void dngetsSegmentK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, MemorySegment ritzr, MemorySegment ritzi, MemorySegment bounds, MemorySegment shiftr, MemorySegment shifti) {
+    if (dngets_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __kev = { kev.val };
+    int[] __np = { np.val };
+    try {
+      dngets_.invokeExact(value(ishift), string(which), MemorySegment.ofArray(__kev), MemorySegment.ofArray(__np), ritzr, ritzi, bounds, shiftr, shifti);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    kev.val = __kev[0];
+    np.val = __np[0];
+  }
+
+  private static final MethodHandle sngets_ = downcallHandle("sngets_", null, 9);
+
+  protected void sngetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritzr, int offsetritzr, float[] ritzi, int offsetritzi, float[] bounds, int offsetbounds, float[] shiftr, int offsetshiftr, float[] shifti, int offsetshifti) {
+    sngetsSegmentK(ishift, which, kev, np, segment(ritzr, offsetritzr), segment(ritzi, offsetritzi), segment(bounds, offsetbounds), segment(shiftr, offsetshiftr), segment(shifti, offsetshifti));
+  }
+
+  private void sngetsSegmentK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, MemorySegment ritzr, MemorySegment ritzi, MemorySegment bounds, MemorySegment shiftr, MemorySegment shifti) {
+    if (sngets_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __kev = { kev.val };
+    int[] __np = { np.val };
+    try {
+      sngets_.invokeExact(value(ishift), string(which), MemorySegment.ofArray(__kev), MemorySegment.ofArray(__np), ritzr, ritzi, bounds, shiftr, shifti);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    kev.val = __kev[0];
+    np.val = __np[0];
+  }
+
+  private static final MethodHandle dsaitr_ = downcallHandle("dsaitr_", null, 15);
+
+  protected void dsaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, double[] resid, int offsetresid, org.netlib.util.doubleW rnorm, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    dsaitrSegmentK(ido, bmat, n, k, np, mode, segment(resid, offsetresid), rnorm, segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(ipntr, offsetipntr), segment(workd, offsetworkd), info);
+  }
+
+  private void dsaitrSegmentK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, MemorySegment resid, org.netlib.util.doubleW rnorm, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment ipntr, MemorySegment workd, org.netlib.util.intW info) {
+    if (dsaitr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    double[] __rnorm = { rnorm.val };
+    int[] __info = { info.val };
+    try {
+      dsaitr_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), value(k), value(np), value(mode), resid, MemorySegment.ofArray(__rnorm), v, value(ldv), h, value(ldh), ipntr, workd, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    rnorm.val = __rnorm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssaitr_ = downcallHandle("ssaitr_", null, 15);
+
+  protected void ssaitrK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, float[] resid, int offsetresid, org.netlib.util.floatW rnorm, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    ssaitrSegmentK(ido, bmat, n, k, np, mode, segment(resid, offsetresid), rnorm, segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(ipntr, offsetipntr), segment(workd, offsetworkd), info);
+  }
+
+  private void ssaitrSegmentK(org.netlib.util.intW ido, String bmat, int n, int k, int np, int mode, MemorySegment resid, org.netlib.util.floatW rnorm, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment ipntr, MemorySegment workd, org.netlib.util.intW info) {
+    if (ssaitr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    float[] __rnorm = { rnorm.val };
+    int[] __info = { info.val };
+    try {
+      ssaitr_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), value(k), value(np), value(mode), resid, MemorySegment.ofArray(__rnorm), v, value(ldv), h, value(ldh), ipntr, workd, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    rnorm.val = __rnorm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsapps_ = downcallHandle("dsapps_", null, 12);
+
+  protected void dsappsK(int n, int kev, int np, double[] shift, int offsetshift, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] resid, int offsetresid, double[] q, int offsetq, int ldq, double[] workd, int offsetworkd) {
+    dsappsSegmentK(n, kev, np, segment(shift, offsetshift), segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(resid, offsetresid), segment(q, offsetq), ldq, segment(workd, offsetworkd));
+  }
+
+  private void dsappsSegmentK(int n, int kev, int np, MemorySegment shift, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment resid, MemorySegment q, int ldq, MemorySegment workd) {
+    if (dsapps_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsapps_.invokeExact(value(n), value(kev), value(np), shift, v, value(ldv), h, value(ldh), resid, q, value(ldq), workd);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssapps_ = downcallHandle("ssapps_", null, 12);
+
+  protected void ssappsK(int n, int kev, int np, float[] shift, int offsetshift, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] resid, int offsetresid, float[] q, int offsetq, int ldq, float[] workd, int offsetworkd) {
+    ssappsSegmentK(n, kev, np, segment(shift, offsetshift), segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(resid, offsetresid), segment(q, offsetq), ldq, segment(workd, offsetworkd));
+  }
+
+  private void ssappsSegmentK(int n, int kev, int np, MemorySegment shift, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment resid, MemorySegment q, int ldq, MemorySegment workd) {
+    if (ssapps_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssapps_.invokeExact(value(n), value(kev), value(np), shift, v, value(ldv), h, value(ldh), resid, q, value(ldq), workd);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dsaup2_ = downcallHandle("dsaup2_", null, 24);
+
+  protected void dsaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, double[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, double[] v, int offsetv, int ldv, double[] h, int offseth, int ldh, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] q, int offsetq, int ldq, double[] workl, int offsetworkl, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, org.netlib.util.intW info) {
+    dsaup2SegmentK(ido, bmat, n, which, nev, np, tol, segment(resid, offsetresid), mode, iupd, ishift, mxiter, segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(ritz, offsetritz), segment(bounds, offsetbounds), segment(q, offsetq), ldq, segment(workl, offsetworkl), segment(ipntr, offsetipntr), segment(workd, offsetworkd), info);
+  }
+
+  private void dsaup2SegmentK(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, double tol, MemorySegment resid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment ritz, MemorySegment bounds, MemorySegment q, int ldq, MemorySegment workl, MemorySegment ipntr, MemorySegment workd, org.netlib.util.intW info) {
+    if (dsaup2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    int[] __nev = { nev.val };
+    int[] __np = { np.val };
+    int[] __mxiter = { mxiter.val };
+    int[] __info = { info.val };
+    try {
+      dsaup2_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), string(which), MemorySegment.ofArray(__nev), MemorySegment.ofArray(__np), value(tol), resid, value(mode), value(iupd), value(ishift), MemorySegment.ofArray(__mxiter), v, value(ldv), h, value(ldh), ritz, bounds, q, value(ldq), workl, ipntr, workd, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    nev.val = __nev[0];
+    np.val = __np[0];
+    mxiter.val = __mxiter[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssaup2_ = downcallHandle("ssaup2_", null, 24);
+
+  protected void ssaup2K(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, float[] resid, int offsetresid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, float[] v, int offsetv, int ldv, float[] h, int offseth, int ldh, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] q, int offsetq, int ldq, float[] workl, int offsetworkl, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, org.netlib.util.intW info) {
+    ssaup2SegmentK(ido, bmat, n, which, nev, np, tol, segment(resid, offsetresid), mode, iupd, ishift, mxiter, segment(v, offsetv), ldv, segment(h, offseth), ldh, segment(ritz, offsetritz), segment(bounds, offsetbounds), segment(q, offsetq), ldq, segment(workl, offsetworkl), segment(ipntr, offsetipntr), segment(workd, offsetworkd), info);
+  }
+
+  private void ssaup2SegmentK(org.netlib.util.intW ido, String bmat, int n, String which, org.netlib.util.intW nev, org.netlib.util.intW np, float tol, MemorySegment resid, int mode, int iupd, int ishift, org.netlib.util.intW mxiter, MemorySegment v, int ldv, MemorySegment h, int ldh, MemorySegment ritz, MemorySegment bounds, MemorySegment q, int ldq, MemorySegment workl, MemorySegment ipntr, MemorySegment workd, org.netlib.util.intW info) {
+    if (ssaup2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    int[] __nev = { nev.val };
+    int[] __np = { np.val };
+    int[] __mxiter = { mxiter.val };
+    int[] __info = { info.val };
+    try {
+      ssaup2_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), string(which), MemorySegment.ofArray(__nev), MemorySegment.ofArray(__np), value(tol), resid, value(mode), value(iupd), value(ishift), MemorySegment.ofArray(__mxiter), v, value(ldv), h, value(ldh), ritz, bounds, q, value(ldq), workl, ipntr, workd, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    nev.val = __nev[0];
+    np.val = __np[0];
+    mxiter.val = __mxiter[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dseigt_ = downcallHandle("dseigt_", null, 8);
+
+  protected void dseigtK(double rnorm, int n, double[] h, int offseth, int ldh, double[] eig, int offseteig, double[] bounds, int offsetbounds, double[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    dseigtSegmentK(rnorm, n, segment(h, offseth), ldh, segment(eig, offseteig), segment(bounds, offsetbounds), segment(workl, offsetworkl), ierr);
+  }
+
+  private void dseigtSegmentK(double rnorm, int n, MemorySegment h, int ldh, MemorySegment eig, MemorySegment bounds, MemorySegment workl, org.netlib.util.intW ierr) {
+    if (dseigt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ierr = { ierr.val };
+    try {
+      dseigt_.invokeExact(value(rnorm), value(n), h, value(ldh), eig, bounds, workl, MemorySegment.ofArray(__ierr));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ierr.val = __ierr[0];
+  }
+
+  private static final MethodHandle sseigt_ = downcallHandle("sseigt_", null, 8);
+
+  protected void sseigtK(float rnorm, int n, float[] h, int offseth, int ldh, float[] eig, int offseteig, float[] bounds, int offsetbounds, float[] workl, int offsetworkl, org.netlib.util.intW ierr) {
+    sseigtSegmentK(rnorm, n, segment(h, offseth), ldh, segment(eig, offseteig), segment(bounds, offsetbounds), segment(workl, offsetworkl), ierr);
+  }
+
+  private void sseigtSegmentK(float rnorm, int n, MemorySegment h, int ldh, MemorySegment eig, MemorySegment bounds, MemorySegment workl, org.netlib.util.intW ierr) {
+    if (sseigt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ierr = { ierr.val };
+    try {
+      sseigt_.invokeExact(value(rnorm), value(n), h, value(ldh), eig, bounds, workl, MemorySegment.ofArray(__ierr));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ierr.val = __ierr[0];
+  }
+
+  private static final MethodHandle dsesrt_ = downcallHandle("dsesrt_", null, 7);
+
+  protected void dsesrtK(String which, boolean apply, int n, double[] x, int offsetx, int na, double[] a, int offseta, int lda) {
+    dsesrtSegmentK(which, apply, n, segment(x, offsetx), na, segment(a, offseta), lda);
+  }
+
+  private void dsesrtSegmentK(String which, boolean apply, int n, MemorySegment x, int na, MemorySegment a, int lda) {
+    if (dsesrt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsesrt_.invokeExact(string(which), value(apply ? 1 : 0), value(n), x, value(na), a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssesrt_ = downcallHandle("ssesrt_", null, 7);
+
+  protected void ssesrtK(String which, boolean apply, int n, float[] x, int offsetx, int na, float[] a, int offseta, int lda) {
+    ssesrtSegmentK(which, apply, n, segment(x, offsetx), na, segment(a, offseta), lda);
+  }
+
+  private void ssesrtSegmentK(String which, boolean apply, int n, MemorySegment x, int na, MemorySegment a, int lda) {
+    if (ssesrt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssesrt_.invokeExact(string(which), value(apply ? 1 : 0), value(n), x, value(na), a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dsaupd_ = downcallHandle("dsaupd_", null, 16);
+
+  protected void dsaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    dsaupdSegmentK(ido, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+  }
+
+  protected void dsaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (isSegment(resid) && isSegment(v) && isSegment(iparam) && isSegment(ipntr) && isSegment(workd) && isSegment(workl)) {
+      dsaupdSegmentK(ido, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+    } else {
+      super.dsaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private void dsaupdSegmentK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.doubleW tol, MemorySegment resid, int ncv, MemorySegment v, int ldv, MemorySegment iparam, MemorySegment ipntr, MemorySegment workd, MemorySegment workl, int lworkl, org.netlib.util.intW info) {
+    if (dsaupd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    double[] __tol = { tol.val };
+    int[] __info = { info.val };
+    try {
+      dsaupd_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), string(which), value(nev), MemorySegment.ofArray(__tol), resid, value(ncv), v, value(ldv), iparam, ipntr, workd, workl, value(lworkl), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    tol.val = __tol[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssaupd_ = downcallHandle("ssaupd_", null, 16);
+
+  protected void ssaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    ssaupdSegmentK(ido, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+  }
+
+  protected void ssaupdK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (isSegment(resid) && isSegment(v) && isSegment(iparam) && isSegment(ipntr) && isSegment(workd) && isSegment(workl)) {
+      ssaupdSegmentK(ido, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+    } else {
+      super.ssaupdK(ido, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private void ssaupdSegmentK(org.netlib.util.intW ido, String bmat, int n, String which, int nev, org.netlib.util.floatW tol, MemorySegment resid, int ncv, MemorySegment v, int ldv, MemorySegment iparam, MemorySegment ipntr, MemorySegment workd, MemorySegment workl, int lworkl, org.netlib.util.intW info) {
+    if (ssaupd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ido = { ido.val };
+    float[] __tol = { tol.val };
+    int[] __info = { info.val };
+    try {
+      ssaupd_.invokeExact(MemorySegment.ofArray(__ido), string(bmat), value(n), string(which), value(nev), MemorySegment.ofArray(__tol), resid, value(ncv), v, value(ldv), iparam, ipntr, workd, workl, value(lworkl), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ido.val = __ido[0];
+    tol.val = __tol[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dseupd_ = downcallHandle("dseupd_", null, 22);
+
+  protected void dseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, double[] d, int offsetd, double[] z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, double[] resid, int offsetresid, int ncv, double[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, double[] workd, int offsetworkd, double[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    dseupdSegmentK(rvec, howmny, segment(select, offsetselect), segment(d, offsetd), segment(z, offsetz), ldz, sigma, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+  }
+
+  protected void dseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, DoubleBuffer d, int offsetd, DoubleBuffer z, int offsetz, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, DoubleBuffer resid, int offsetresid, int ncv, DoubleBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, DoubleBuffer workd, int offsetworkd, DoubleBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (isSegment(d) && isSegment(z) && isSegment(resid) && isSegment(v) && isSegment(iparam) && isSegment(ipntr) && isSegment(workd) && isSegment(workl)) {
+      dseupdSegmentK(rvec, howmny, segment(select, offsetselect), segment(d, offsetd), segment(z, offsetz), ldz, sigma, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+    } else {
+      super.dseupdK(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private void dseupdSegmentK(boolean rvec, String howmny, MemorySegment select, MemorySegment d, MemorySegment z, int ldz, double sigma, String bmat, int n, String which, org.netlib.util.intW nev, double tol, MemorySegment resid, int ncv, MemorySegment v, int ldv, MemorySegment iparam, MemorySegment ipntr, MemorySegment workd, MemorySegment workl, int lworkl, org.netlib.util.intW info) {
+    if (dseupd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nev = { nev.val };
+    int[] __info = { info.val };
+    try {
+      dseupd_.invokeExact(value(rvec ? 1 : 0), string(howmny), select, d, z, value(ldz), value(sigma), string(bmat), value(n), string(which), MemorySegment.ofArray(__nev), value(tol), resid, value(ncv), v, value(ldv), iparam, ipntr, workd, workl, value(lworkl), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    nev.val = __nev[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sseupd_ = downcallHandle("sseupd_", null, 22);
+
+  protected void sseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, float[] d, int offsetd, float[] z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, float[] resid, int offsetresid, int ncv, float[] v, int offsetv, int ldv, int[] iparam, int offsetiparam, int[] ipntr, int offsetipntr, float[] workd, int offsetworkd, float[] workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    sseupdSegmentK(rvec, howmny, segment(select, offsetselect), segment(d, offsetd), segment(z, offsetz), ldz, sigma, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+  }
+
+  protected void sseupdK(boolean rvec, String howmny, boolean[] select, int offsetselect, FloatBuffer d, int offsetd, FloatBuffer z, int offsetz, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, FloatBuffer resid, int offsetresid, int ncv, FloatBuffer v, int offsetv, int ldv, IntBuffer iparam, int offsetiparam, IntBuffer ipntr, int offsetipntr, FloatBuffer workd, int offsetworkd, FloatBuffer workl, int offsetworkl, int lworkl, org.netlib.util.intW info) {
+    if (isSegment(d) && isSegment(z) && isSegment(resid) && isSegment(v) && isSegment(iparam) && isSegment(ipntr) && isSegment(workd) && isSegment(workl)) {
+      sseupdSegmentK(rvec, howmny, segment(select, offsetselect), segment(d, offsetd), segment(z, offsetz), ldz, sigma, bmat, n, which, nev, tol, segment(resid, offsetresid), ncv, segment(v, offsetv), ldv, segment(iparam, offsetiparam), segment(ipntr, offsetipntr), segment(workd, offsetworkd), segment(workl, offsetworkl), lworkl, info);
+    } else {
+      super.sseupdK(rvec, howmny, select, offsetselect, d, offsetd, z, offsetz, ldz, sigma, bmat, n, which, nev, tol, resid, offsetresid, ncv, v, offsetv, ldv, iparam, offsetiparam, ipntr, offsetipntr, workd, offsetworkd, workl, offsetworkl, lworkl, info);
+    }
+  }
+
+  private void sseupdSegmentK(boolean rvec, String howmny, MemorySegment select, MemorySegment d, MemorySegment z, int ldz, float sigma, String bmat, int n, String which, org.netlib.util.intW nev, float tol, MemorySegment resid, int ncv, MemorySegment v, int ldv, MemorySegment iparam, MemorySegment ipntr, MemorySegment workd, MemorySegment workl, int lworkl, org.netlib.util.intW info) {
+    if (sseupd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nev = { nev.val };
+    int[] __info = { info.val };
+    try {
+      sseupd_.invokeExact(value(rvec ? 1 : 0), string(howmny), select, d, z, value(ldz), value(sigma), string(bmat), value(n), string(which), MemorySegment.ofArray(__nev), value(tol), resid, value(ncv), v, value(ldv), iparam, ipntr, workd, workl, value(lworkl), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    nev.val = __nev[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsgets_ = downcallHandle("dsgets_", null, 7);
+
+  protected void dsgetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, double[] ritz, int offsetritz, double[] bounds, int offsetbounds, double[] shifts, int offsetshifts) {
+    dsgetsSegmentK(ishift, which, kev, np, segment(ritz, offsetritz), segment(bounds, offsetbounds), segment(shifts, offsetshifts));
+  }
+
+  private void dsgetsSegmentK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, MemorySegment ritz, MemorySegment bounds, MemorySegment shifts) {
+    if (dsgets_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __kev = { kev.val };
+    int[] __np = { np.val };
+    try {
+      dsgets_.invokeExact(value(ishift), string(which), MemorySegment.ofArray(__kev), MemorySegment.ofArray(__np), ritz, bounds, shifts);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    kev.val = __kev[0];
+    np.val = __np[0];
+  }
+
+  private static final MethodHandle ssgets_ = downcallHandle("ssgets_", null, 7);
+
+  protected void ssgetsK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, float[] ritz, int offsetritz, float[] bounds, int offsetbounds, float[] shifts, int offsetshifts) {
+    ssgetsSegmentK(ishift, which, kev, np, segment(ritz, offsetritz), segment(bounds, offsetbounds), segment(shifts, offsetshifts));
+  }
+
+  private void ssgetsSegmentK(int ishift, String which, org.netlib.util.intW kev, org.netlib.util.intW np, MemorySegment ritz, MemorySegment bounds, MemorySegment shifts) {
+    if (ssgets_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __kev = { kev.val };
+    int[] __np = { np.val };
+    try {
+      ssgets_.invokeExact(value(ishift), string(which), MemorySegment.ofArray(__kev), MemorySegment.ofArray(__np), ritz, bounds, shifts);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    kev.val = __kev[0];
+    np.val = __np[0];
+  }
+
+  private static final MethodHandle dsortc_ = downcallHandle("dsortc_", null, 6);
+
+  protected void dsortcK(String which, boolean apply, int n, double[] xreal, int offsetxreal, double[] ximag, int offsetximag, double[] y, int offsety) {
+    dsortcSegmentK(which, apply, n, segment(xreal, offsetxreal), segment(ximag, offsetximag), segment(y, offsety));
+  }
+
+  private void dsortcSegmentK(String which, boolean apply, int n, MemorySegment xreal, MemorySegment ximag, MemorySegment y) {
+    if (dsortc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsortc_.invokeExact(string(which), value(apply ? 1 : 0), value(n), xreal, ximag, y);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssortc_ = downcallHandle("ssortc_", null, 6);
+
+  protected void ssortcK(String which, boolean apply, int n, float[] xreal, int offsetxreal, float[] ximag, int offsetximag, float[] y, int offsety) {
+    ssortcSegmentK(which, apply, n, segment(xreal, offsetxreal), segment(ximag, offsetximag), segment(y, offsety));
+  }
+
+  private void ssortcSegmentK(String which, boolean apply, int n, MemorySegment xreal, MemorySegment ximag, MemorySegment y) {
+    if (ssortc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssortc_.invokeExact(string(which), value(apply ? 1 : 0), value(n), xreal, ximag, y);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dsortr_ = downcallHandle("dsortr_", null, 5);
+
+  protected void dsortrK(String which, boolean apply, int n, double[] x1, int offsetx1, double[] x2, int offsetx2) {
+    dsortrSegmentK(which, apply, n, segment(x1, offsetx1), segment(x2, offsetx2));
+  }
+
+  private void dsortrSegmentK(String which, boolean apply, int n, MemorySegment x1, MemorySegment x2) {
+    if (dsortr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsortr_.invokeExact(string(which), value(apply ? 1 : 0), value(n), x1, x2);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssortr_ = downcallHandle("ssortr_", null, 5);
+
+  protected void ssortrK(String which, boolean apply, int n, float[] x1, int offsetx1, float[] x2, int offsetx2) {
+    ssortrSegmentK(which, apply, n, segment(x1, offsetx1), segment(x2, offsetx2));
+  }
+
+  private void ssortrSegmentK(String which, boolean apply, int n, MemorySegment x1, MemorySegment x2) {
+    if (ssortr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssortr_.invokeExact(string(which), value(apply ? 1 : 0), value(n), x1, x2);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dstatn_ = downcallHandle("dstatn_", null, 0);
+
+  protected void dstatnK() {
+    dstatnSegmentK();
+  }
+
+  private void dstatnSegmentK() {
+    if (dstatn_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dstatn_.invokeExact();
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sstatn_ = downcallHandle("sstatn_", null, 0);
+
+  protected void sstatnK() {
+    sstatnSegmentK();
+  }
+
+  private void sstatnSegmentK() {
+    if (sstatn_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sstatn_.invokeExact();
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dstats_ = downcallHandle("dstats_", null, 0);
+
+  protected void dstatsK() {
+    dstatsSegmentK();
+  }
+
+  private void dstatsSegmentK() {
+    if (dstats_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dstats_.invokeExact();
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sstats_ = downcallHandle("sstats_", null, 0);
+
+  protected void sstatsK() {
+    sstatsSegmentK();
+  }
+
+  private void sstatsSegmentK() {
+    if (sstats_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sstats_.invokeExact();
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dstqrb_ = downcallHandle("dstqrb_", null, 6);
+
+  protected void dstqrbK(int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dstqrbSegmentK(n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), segment(work, offsetwork), info);
+  }
+
+  private void dstqrbSegmentK(int n, MemorySegment d, MemorySegment e, MemorySegment z, MemorySegment work, org.netlib.util.intW info) {
+    if (dstqrb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dstqrb_.invokeExact(value(n), d, e, z, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sstqrb_ = downcallHandle("sstqrb_", null, 6);
+
+  protected void sstqrbK(int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sstqrbSegmentK(n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), segment(work, offsetwork), info);
+  }
+
+  private void sstqrbSegmentK(int n, MemorySegment d, MemorySegment e, MemorySegment z, MemorySegment work, org.netlib.util.intW info) {
+    if (sstqrb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sstqrb_.invokeExact(value(n), d, e, z, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle icnteq_ = downcallHandle("icnteq_", JAVA_INT, 3);
+
+  protected int icnteqK(int n, int[] array, int offsetarray, int value) {
+    return icnteqSegmentK(n, segment(array, offsetarray), value);
+  }
+
+  private int icnteqSegmentK(int n, MemorySegment array, int value) {
+    if (icnteq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) icnteq_.invokeExact(value(n), array, value(value));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle icopy_ = downcallHandle("icopy_", null, 5);
+
+  protected void icopyK(int n, int[] lx, int offsetlx, int incx, int[] ly, int offsetly, int incy) {
+    icopySegmentK(n, segment(lx, offsetlx), incx, segment(ly, offsetly), incy);
+  }
+
+  private void icopySegmentK(int n, MemorySegment lx, int incx, MemorySegment ly, int incy) {
+    if (icopy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      icopy_.invokeExact(value(n), lx, value(incx), ly, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle iset_ = downcallHandle("iset_", null, 4);
+
+  protected void isetK(int n, int value, int[] array, int offsetarray, int inc) {
+    isetSegmentK(n, value, segment(array, offsetarray), inc);
+  }
+
+  private void isetSegmentK(int n, int value, MemorySegment array, int inc) {
+    if (iset_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      iset_.invokeExact(value(n), value(value), array, value(inc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle iswap_ = downcallHandle("iswap_", null, 5);
+
+  protected void iswapK(int n, int[] sx, int offsetsx, int incx, int[] sy, int offsetsy, int incy) {
+    iswapSegmentK(n, segment(sx, offsetsx), incx, segment(sy, offsetsy), incy);
+  }
+
+  private void iswapSegmentK(int n, MemorySegment sx, int incx, MemorySegment sy, int incy) {
+    if (iswap_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      iswap_.invokeExact(value(n), sx, value(incx), sy, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle second_ = downcallHandle("second_", null, 1);
+
+  protected void secondK(org.netlib.util.floatW t) {
+    secondSegmentK(t);
+  }
+
+  private void secondSegmentK(org.netlib.util.floatW t) {
+    if (second_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __t = { t.val };
+    try {
+      second_.invokeExact(MemorySegment.ofArray(__t));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    t.val = __t[0];
+  }
+
+}
@@ -657,6 +657,51 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnaupdDirectK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jint nev, jobject tol, jobject resid, jint offsetresid, jint ncv, jobject v, jint offsetv, jint ldv, jobject iparam, jint offsetiparam, jobject ipntr, jint offsetipntr, jobject workd, jint offsetworkd, jobject workl, jint offsetworkl, jint lworkl, jobject info) {
+  if (!dnaupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nido = 0;
+  const char *__nbmat = NULL;
+  int __nn __attribute__((aligned(8)));
+  const char *__nwhich = NULL;
+  int __nnev __attribute__((aligned(8)));
+  double __ntol = 0;
+  int __nncv __attribute__((aligned(8)));
+  int __nldv __attribute__((aligned(8)));
+  int __nlworkl __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__nresid = NULL;
+  double *__nv = NULL;
+  int *__niparam = NULL;
+  int *__nipntr = NULL;
+  double *__nworkd = NULL;
+  double *__nworkl = NULL;
+  __nido = (*env)->GetIntField(env, ido, intW_val_fieldID);
+  if (!(__nbmat = (*env)->GetStringUTFChars(env, bmat, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
+  __nnev = nev;
+  __ntol = (*env)->GetDoubleField(env, tol, doubleW_val_fieldID);
+  __nncv = ncv;
+  __nldv = ldv;
+  __nlworkl = lworkl;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (resid) { if (!(__nresid = (*env)->GetDirectBufferAddress(env, resid))) { __failed = TRUE; goto done; } }
+  if (v) { if (!(__nv = (*env)->GetDirectBufferAddress(env, v))) { __failed = TRUE; goto done; } }
+  if (iparam) { if (!(__niparam = (*env)->GetDirectBufferAddress(env, iparam))) { __failed = TRUE; goto done; } }
+  if (ipntr) { if (!(__nipntr = (*env)->GetDirectBufferAddress(env, ipntr))) { __failed = TRUE; goto done; } }
+  if (workd) { if (!(__nworkd = (*env)->GetDirectBufferAddress(env, workd))) { __failed = TRUE; goto done; } }
+  if (workl) { if (!(__nworkl = (*env)->GetDirectBufferAddress(env, workl))) { __failed = TRUE; goto done; } }
+  dnaupd_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (!__failed) (*env)->SetDoubleField(env, tol, doubleW_val_fieldID, __ntol);
+  if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
+  if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*snaupd_)(int *ido, const char *bmat, int *n, const char *which, int *nev, float *tol, float *resid, int *ncv, float *v, int *ldv, int *iparam, int *ipntr, float *workd, float *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_snaupdK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jint nev, jobject tol, jfloatArray resid, jint offsetresid, jint ncv, jfloatArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jfloatArray workl, jint offsetworkl, jint lworkl, jobject info) {
@@ -710,6 +755,51 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_arpack_JNIARPACK_snaupdDirectK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jint nev, jobject tol, jobject resid, jint offsetresid, jint ncv, jobject v, jint offsetv, jint ldv, jobject iparam, jint offsetiparam, jobject ipntr, jint offsetipntr, jobject workd, jint offsetworkd, jobject workl, jint offsetworkl, jint lworkl, jobject info) {
+  if (!snaupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nido = 0;
+  const char *__nbmat = NULL;
+  int __nn __attribute__((aligned(8)));
+  const char *__nwhich = NULL;
+  int __nnev __attribute__((aligned(8)));
+  float __ntol = 0;
+  int __nncv __attribute__((aligned(8)));
+  int __nldv __attribute__((aligned(8)));
+  int __nlworkl __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__nresid = NULL;
+  float *__nv = NULL;
+  int *__niparam = NULL;
+  int *__nipntr = NULL;
+  float *__nworkd = NULL;
+  float *__nworkl = NULL;
+  __nido = (*env)->GetIntField(env, ido, intW_val_fieldID);
+  if (!(__nbmat = (*env)->GetStringUTFChars(env, bmat, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
+  __nnev = nev;
+  __ntol = (*env)->GetFloatField(env, tol, floatW_val_fieldID);
+  __nncv = ncv;
+  __nldv = ldv;
+  __nlworkl = lworkl;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (resid) { if (!(__nresid = (*env)->GetDirectBufferAddress(env, resid))) { __failed = TRUE; goto done; } }
+  if (v) { if (!(__nv = (*env)->GetDirectBufferAddress(env, v))) { __failed = TRUE; goto done; } }
+  if (iparam) { if (!(__niparam = (*env)->GetDirectBufferAddress(env, iparam))) { __failed = TRUE; goto done; } }
+  if (ipntr) { if (!(__nipntr = (*env)->GetDirectBufferAddress(env, ipntr))) { __failed = TRUE; goto done; } }
+  if (workd) { if (!(__nworkd = (*env)->GetDirectBufferAddress(env, workd))) { __failed = TRUE; goto done; } }
+  if (workl) { if (!(__nworkl = (*env)->GetDirectBufferAddress(env, workl))) { __failed = TRUE; goto done; } }
+  snaupd_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (!__failed) (*env)->SetFloatField(env, tol, floatW_val_fieldID, __ntol);
+  if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
+  if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dnconv_)(int *n, double *ritzr, double *ritzi, double *bounds, double *tol, int *nconv);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dnconvK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray ritzr, jint offsetritzr, jdoubleArray ritzi, jint offsetritzi, jdoubleArray bounds, jint offsetbounds, jdouble tol, jobject nconv) {
@@ -970,6 +1060,76 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_arpack_JNIARPACK_dneupdDirectK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jobject dr, jint offsetdr, jobject di, jint offsetdi, jobject z, jint offsetz, jint ldz, jdouble sigmar, jdouble sigmai, jobject workev, jint offsetworkev, jstring bmat, jint n, jstring which, jobject nev, jdouble tol, jobject resid, jint offsetresid, jint ncv, jobject v, jint offsetv, jint ldv, jobject iparam, jint offsetiparam, jobject ipntr, jint offsetipntr, jobject workd, jint offsetworkd, jobject workl, jint offsetworkl, jint lworkl, jobject info) {
+  if (!dneupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nrvec __attribute__((aligned(8)));
+  const char *__nhowmny = NULL;
+  int __nldz __attribute__((aligned(8)));
+  double __nsigmar __attribute__((aligned(8)));
+  double __nsigmai __attribute__((aligned(8)));
+  const char *__nbmat = NULL;
+  int __nn __attribute__((aligned(8)));
+  const char *__nwhich = NULL;
+  int __nnev = 0;
+  double __ntol __attribute__((aligned(8)));
+  int __nncv __attribute__((aligned(8)));
+  int __nldv __attribute__((aligned(8)));
+  int __nlworkl __attribute__((aligned(8)));
+  int __ninfo = 0;
+  int *__nselect = NULL; jboolean *__jselect = NULL;
+  double *__ndr = NULL;
+  double *__ndi = NULL;
+  double *__nz = NULL;
+  double *__nworkev = NULL;
+  double *__nresid = NULL;
+  double *__nv = NULL;
+  int *__niparam = NULL;
+  int *__nipntr = NULL;
+  double *__nworkd = NULL;
+  double *__nworkl = NULL;
+  __nrvec = rvec;
+  if (!(__nhowmny = (*env)->GetStringUTFChars(env, howmny, NULL))) { __failed = TRUE; goto done; }
+  __nldz = ldz;
+  __nsigmar = sigmar;
+  __nsigmai = sigmai;
+  if (!(__nbmat = (*env)->GetStringUTFChars(env, bmat, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
+  __nnev = (*env)->GetIntField(env, nev, intW_val_fieldID);
+  __ntol = tol;
+  __nncv = ncv;
+  __nldv = ldv;
+  __nlworkl = lworkl;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (select) { if (!(__jselect = (*env)->GetPrimitiveArrayCritical(env, select, NULL))) { __failed = TRUE; goto done; }
+  do {
+    int __length = (*env)->GetArrayLength(env, select);
+    if (__length <= 0) { __failed = TRUE; goto done; }
+    if (!(__nselect = malloc(sizeof(int) * __length))) { __failed = TRUE; goto done; }
+    for (int i = 0; i < __length; i++) { __nselect[i] = __jselect[i]; }
+  } while(0); }
+  if (dr) { if (!(__ndr = (*env)->GetDirectBufferAddress(env, dr))) { __failed = TRUE; goto done; } }
+  if (di) { if (!(__ndi = (*env)->GetDirectBufferAddress(env, di))) { __failed = TRUE; goto done; } }
+  if (z) { if (!(__nz = (*env)->GetDirectBufferAddress(env, z))) { __failed = TRUE; goto done; } }
+  if (workev) { if (!(__nworkev = (*env)->GetDirectBufferAddress(env, workev))) { __failed = TRUE; goto done; } }
+  if (resid) { if (!(__nresid = (*env)->GetDirectBufferAddress(env, resid))) { __failed = TRUE; goto done; } }
+  if (v) { if (!(__nv = (*env)->GetDirectBufferAddress(env, v))) { __failed = TRUE; goto done; } }
+  if (iparam) { if (!(__niparam = (*env)->GetDirectBufferAddress(env, iparam))) { __failed = TRUE; goto done; } }
+  if (ipntr) { if (!(__nipntr = (*env)->GetDirectBufferAddress(env, ipntr))) { __failed = TRUE; goto done; } }
+  if (workd) { if (!(__nworkd = (*env)->GetDirectBufferAddress(env, workd))) { __failed = TRUE; goto done; } }
+  if (workl) { if (!(__nworkl = (*env)->GetDirectBufferAddress(env, workl))) { __failed = TRUE; goto done; } }
+  dneupd_(&__nrvec, __nhowmny, __nselect ? __nselect + offsetselect : NULL, __ndr ? __ndr + offsetdr : NULL, __ndi ? __ndi + offsetdi : NULL, __nz ? __nz + offsetz : NULL, &__nldz, &__nsigmar, &__nsigmai, __nworkev ? __nworkev + offsetworkev : NULL, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+done:
+  if (__nselect) { free(__nselect); } if (__jselect) (*env)->ReleasePrimitiveArrayCritical(env, select, __nselect, JNI_ABORT);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (!__failed) (*env)->SetIntField(env, nev, intW_val_fieldID, __nnev);
+  if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
+  if (__nhowmny) (*env)->ReleaseStringUTFChars(env, howmny, __nhowmny);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sneupd_)(int *rvec, const char *howmny, int *select, float *dr, float *di, float *z, int *ldz, float *sigmar, float *sigmai, float *workev, const char *bmat, int *n, const char *which, int *nev, float *tol, float *resid, int *ncv, float *v, int *ldv, int *iparam, int *ipntr, float *workd, float *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sneupdK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jfloatArray dr, jint offsetdr, jfloatArray di, jint offsetdi, jfloatArray z, jint offsetz, jint ldz, jfloat sigmar, jfloat sigmai, jfloatArray workev, jint offsetworkev, jstring bmat, jint n, jstring which, jobject nev, jfloat tol, jfloatArray resid, jint offsetresid, jint ncv, jfloatArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jfloatArray workl, jint offsetworkl, jint lworkl, jobject info) {
@@ -1052,6 +1212,76 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_arpack_JNIARPACK_sneupdDirectK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jobject dr, jint offsetdr, jobject di, jint offsetdi, jobject z, jint offsetz, jint ldz, jfloat sigmar, jfloat sigmai, jobject workev, jint offsetworkev, jstring bmat, jint n, jstring which, jobject nev, jfloat tol, jobject resid, jint offsetresid, jint ncv, jobject v, jint offsetv, jint ldv, jobject iparam, jint offsetiparam, jobject ipntr, jint offsetipntr, jobject workd, jint offsetworkd, jobject workl, jint offsetworkl, jint lworkl, jobject info) {
+  if (!sneupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nrvec __attribute__((aligned(8)));
+  const char *__nhowmny = NULL;
+  int __nldz __attribute__((aligned(8)));
+  float __nsigmar __attribute__((aligned(8)));
+  float __nsigmai __attribute__((aligned(8)));
+  const char *__nbmat = NULL;
+  int __nn __attribute__((aligned(8)));
+  const char *__nwhich = NULL;
+  int __nnev = 0;
+  float __ntol __attribute__((aligned(8)));
+  int __nncv __attribute__((aligned(8)));
+  int __nldv __attribute__((aligned(8)));
+  int __nlworkl __attribute__((aligned(8)));
+  int __ninfo = 0;
+  int *__nselect = NULL; jboolean *__jselect = NULL;
+  float *__ndr = NULL;
+  float *__ndi = NULL;
+  float *__nz = NULL;
+  float *__nworkev = NULL;
+  float *__nresid = NULL;
+  float *__nv = NULL;
+  int *__niparam = NULL;
+  int *__nipntr = NULL;
+  float *__nworkd = NULL;
+  float *__nworkl = NULL;
+  __nrvec = rvec;
+  if (!(__nhowmny = (*env)->GetStringUTFChars(env, howmny, NULL))) { __failed = TRUE; goto done; }
+  __nldz = ldz;
+  __nsigmar = sigmar;
+  __nsigmai = sigmai;
+  if (!(__nbmat = (*env)->GetStringUTFChars(env, bmat, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
+  __nnev = (*env)->GetIntField(env, nev, intW_val_fieldID);
+  __ntol = tol;
+  __nncv = ncv;
+  __nldv = ldv;
+  __nlworkl = lworkl;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (select) { if (!(__jselect = (*env)->GetPrimitiveArrayCritical(env, select, NULL))) { __failed = TRUE; goto done; }
+  do {
+    int __length = (*env)->GetArrayLength(env, select);
+    if (__length <= 0) { __failed = TRUE; goto done; }
+    if (!(__nselect = malloc(sizeof(int) * __length))) { __failed = TRUE; goto done; }
+    for (int i = 0; i < __length; i++) { __nselect[i] = __jselect[i]; }
+  } while(0); }
+  if (dr) { if (!(__ndr = (*env)->GetDirectBufferAddress(env, dr))) { __failed = TRUE; goto done; } }
+  if (di) { if (!(__ndi = (*env)->GetDirectBufferAddress(env, di))) { __failed = TRUE; goto done; } }
+  if (z) { if (!(__nz = (*env)->GetDirectBufferAddress(env, z))) { __failed = TRUE; goto done; } }
+  if (workev) { if (!(__nworkev = (*env)->GetDirectBufferAddress(env, workev))) { __failed = TRUE; goto done; } }
+  if (resid) { if (!(__nresid = (*env)->GetDirectBufferAddress(env, resid))) { __failed = TRUE; goto done; } }
+  if (v) { if (!(__nv = (*env)->GetDirectBufferAddress(env, v))) { __failed = TRUE; goto done; } }
+  if (iparam) { if (!(__niparam = (*env)->GetDirectBufferAddress(env, iparam))) { __failed = TRUE; goto done; } }
+  if (ipntr) { if (!(__nipntr = (*env)->GetDirectBufferAddress(env, ipntr))) { __failed = TRUE; goto done; } }
+  if (workd) { if (!(__nworkd = (*env)->GetDirectBufferAddress(env, workd))) { __failed = TRUE; goto done; } }
+  if (workl) { if (!(__nworkl = (*env)->GetDirectBufferAddress(env, workl))) { __failed = TRUE; goto done; } }
+  sneupd_(&__nrvec, __nhowmny, __nselect ? __nselect + offsetselect : NULL, __ndr ? __ndr + offsetdr : NULL, __ndi ? __ndi + offsetdi : NULL, __nz ? __nz + offsetz : NULL, &__nldz, &__nsigmar, &__nsigmai, __nworkev ? __nworkev + offsetworkev : NULL, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+done:
+  if (__nselect) { free(__nselect); } if (__jselect) (*env)->ReleasePrimitiveArrayCritical(env, select, __nselect, JNI_ABORT);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (!__failed) (*env)->SetIntField(env, nev, intW_val_fieldID, __nnev);
+  if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
+  if (__nhowmny) (*env)->ReleaseStringUTFChars(env, howmny, __nhowmny);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dngets_)(int *ishift, const char *which, int *kev, int *np, double *ritzr, double *ritzi, double *bounds, double *shiftr, double *shifti);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dngetsK(JNIEnv *env, UNUSED jobject obj, jint ishift, jstring which, jobject kev, jobject np, jdoubleArray ritzr, jint offsetritzr, jdoubleArray ritzi, jint offsetritzi, jdoubleArray bounds, jint offsetbounds, jdoubleArray shiftr, jint offsetshiftr, jdoubleArray shifti, jint offsetshifti) {
@@ -1619,6 +1849,51 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsaupdDirectK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jint nev, jobject tol, jobject resid, jint offsetresid, jint ncv, jobject v, jint offsetv, jint ldv, jobject iparam, jint offsetiparam, jobject ipntr, jint offsetipntr, jobject workd, jint offsetworkd, jobject workl, jint offsetworkl, jint lworkl, jobject info) {
+  if (!dsaupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nido = 0;
+  const char *__nbmat = NULL;
+  int __nn __attribute__((aligned(8)));
+  const char *__nwhich = NULL;
+  int __nnev __attribute__((aligned(8)));
+  double __ntol = 0;
+  int __nncv __attribute__((aligned(8)));
+  int __nldv __attribute__((aligned(8)));
+  int __nlworkl __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__nresid = NULL;
+  double *__nv = NULL;
+  int *__niparam = NULL;
+  int *__nipntr = NULL;
+  double *__nworkd = NULL;
+  double *__nworkl = NULL;
+  __nido = (*env)->GetIntField(env, ido, intW_val_fieldID);
+  if (!(__nbmat = (*env)->GetStringUTFChars(env, bmat, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
+  __nnev = nev;
+  __ntol = (*env)->GetDoubleField(env, tol, doubleW_val_fieldID);
+  __nncv = ncv;
+  __nldv = ldv;
+  __nlworkl = lworkl;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (resid) { if (!(__nresid = (*env)->GetDirectBufferAddress(env, resid))) { __failed = TRUE; goto done; } }
+  if (v) { if (!(__nv = (*env)->GetDirectBufferAddress(env, v))) { __failed = TRUE; goto done; } }
+  if (iparam) { if (!(__niparam = (*env)->GetDirectBufferAddress(env, iparam))) { __failed = TRUE; goto done; } }
+  if (ipntr) { if (!(__nipntr = (*env)->GetDirectBufferAddress(env, ipntr))) { __failed = TRUE; goto done; } }
+  if (workd) { if (!(__nworkd = (*env)->GetDirectBufferAddress(env, workd))) { __failed = TRUE; goto done; } }
+  if (workl) { if (!(__nworkl = (*env)->GetDirectBufferAddress(env, workl))) { __failed = TRUE; goto done; } }
+  dsaupd_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (!__failed) (*env)->SetDoubleField(env, tol, doubleW_val_fieldID, __ntol);
+  if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
+  if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*ssaupd_)(int *ido, const char *bmat, int *n, const char *which, int *nev, float *tol, float *resid, int *ncv, float *v, int *ldv, int *iparam, int *ipntr, float *workd, float *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssaupdK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jint nev, jobject tol, jfloatArray resid, jint offsetresid, jint ncv, jfloatArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jfloatArray workl, jint offsetworkl, jint lworkl, jobject info) {
@@ -1672,6 +1947,51 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_arpack_JNIARPACK_ssaupdDirectK(JNIEnv *env, UNUSED jobject obj, jobject ido, jstring bmat, jint n, jstring which, jint nev, jobject tol, jobject resid, jint offsetresid, jint ncv, jobject v, jint offsetv, jint ldv, jobject iparam, jint offsetiparam, jobject ipntr, jint offsetipntr, jobject workd, jint offsetworkd, jobject workl, jint offsetworkl, jint lworkl, jobject info) {
+  if (!ssaupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nido = 0;
+  const char *__nbmat = NULL;
+  int __nn __attribute__((aligned(8)));
+  const char *__nwhich = NULL;
+  int __nnev __attribute__((aligned(8)));
+  float __ntol = 0;
+  int __nncv __attribute__((aligned(8)));
+  int __nldv __attribute__((aligned(8)));
+  int __nlworkl __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__nresid = NULL;
+  float *__nv = NULL;
+  int *__niparam = NULL;
+  int *__nipntr = NULL;
+  float *__nworkd = NULL;
+  float *__nworkl = NULL;
+  __nido = (*env)->GetIntField(env, ido, intW_val_fieldID);
+  if (!(__nbmat = (*env)->GetStringUTFChars(env, bmat, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
+  __nnev = nev;
+  __ntol = (*env)->GetFloatField(env, tol, floatW_val_fieldID);
+  __nncv = ncv;
+  __nldv = ldv;
+  __nlworkl = lworkl;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (resid) { if (!(__nresid = (*env)->GetDirectBufferAddress(env, resid))) { __failed = TRUE; goto done; } }
+  if (v) { if (!(__nv = (*env)->GetDirectBufferAddress(env, v))) { __failed = TRUE; goto done; } }
+  if (iparam) { if (!(__niparam = (*env)->GetDirectBufferAddress(env, iparam))) { __failed = TRUE; goto done; } }
+  if (ipntr) { if (!(__nipntr = (*env)->GetDirectBufferAddress(env, ipntr))) { __failed = TRUE; goto done; } }
+  if (workd) { if (!(__nworkd = (*env)->GetDirectBufferAddress(env, workd))) { __failed = TRUE; goto done; } }
+  if (workl) { if (!(__nworkl = (*env)->GetDirectBufferAddress(env, workl))) { __failed = TRUE; goto done; } }
+  ssaupd_(&__nido, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (!__failed) (*env)->SetFloatField(env, tol, floatW_val_fieldID, __ntol);
+  if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
+  if (!__failed) (*env)->SetIntField(env, ido, intW_val_fieldID, __nido);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dseupd_)(int *rvec, const char *howmny, int *select, double *d, double *z, int *ldz, double *sigma, const char *bmat, int *n, const char *which, int *nev, double *tol, double *resid, int *ncv, double *v, int *ldv, int *iparam, int *ipntr, double *workd, double *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dseupdK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jdoubleArray d, jint offsetd, jdoubleArray z, jint offsetz, jint ldz, jdouble sigma, jstring bmat, jint n, jstring which, jobject nev, jdouble tol, jdoubleArray resid, jint offsetresid, jint ncv, jdoubleArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jdoubleArray workd, jint offsetworkd, jdoubleArray workl, jint offsetworkl, jint lworkl, jobject info) {
@@ -1746,6 +2066,70 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_arpack_JNIARPACK_dseupdDirectK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jobject d, jint offsetd, jobject z, jint offsetz, jint ldz, jdouble sigma, jstring bmat, jint n, jstring which, jobject nev, jdouble tol, jobject resid, jint offsetresid, jint ncv, jobject v, jint offsetv, jint ldv, jobject iparam, jint offsetiparam, jobject ipntr, jint offsetipntr, jobject workd, jint offsetworkd, jobject workl, jint offsetworkl, jint lworkl, jobject info) {
+  if (!dseupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nrvec __attribute__((aligned(8)));
+  const char *__nhowmny = NULL;
+  int __nldz __attribute__((aligned(8)));
+  double __nsigma __attribute__((aligned(8)));
+  const char *__nbmat = NULL;
+  int __nn __attribute__((aligned(8)));
+  const char *__nwhich = NULL;
+  int __nnev = 0;
+  double __ntol __attribute__((aligned(8)));
+  int __nncv __attribute__((aligned(8)));
+  int __nldv __attribute__((aligned(8)));
+  int __nlworkl __attribute__((aligned(8)));
+  int __ninfo = 0;
+  int *__nselect = NULL; jboolean *__jselect = NULL;
+  double *__nd = NULL;
+  double *__nz = NULL;
+  double *__nresid = NULL;
+  double *__nv = NULL;
+  int *__niparam = NULL;
+  int *__nipntr = NULL;
+  double *__nworkd = NULL;
+  double *__nworkl = NULL;
+  __nrvec = rvec;
+  if (!(__nhowmny = (*env)->GetStringUTFChars(env, howmny, NULL))) { __failed = TRUE; goto done; }
+  __nldz = ldz;
+  __nsigma = sigma;
+  if (!(__nbmat = (*env)->GetStringUTFChars(env, bmat, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
+  __nnev = (*env)->GetIntField(env, nev, intW_val_fieldID);
+  __ntol = tol;
+  __nncv = ncv;
+  __nldv = ldv;
+  __nlworkl = lworkl;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (select) { if (!(__jselect = (*env)->GetPrimitiveArrayCritical(env, select, NULL))) { __failed = TRUE; goto done; }
+  do {
+    int __length = (*env)->GetArrayLength(env, select);
+    if (__length <= 0) { __failed = TRUE; goto done; }
+    if (!(__nselect = malloc(sizeof(int) * __length))) { __failed = TRUE; goto done; }
+    for (int i = 0; i < __length; i++) { __nselect[i] = __jselect[i]; }
+  } while(0); }
+  if (d) { if (!(__nd = (*env)->GetDirectBufferAddress(env, d))) { __failed = TRUE; goto done; } }
+  if (z) { if (!(__nz = (*env)->GetDirectBufferAddress(env, z))) { __failed = TRUE; goto done; } }
+  if (resid) { if (!(__nresid = (*env)->GetDirectBufferAddress(env, resid))) { __failed = TRUE; goto done; } }
+  if (v) { if (!(__nv = (*env)->GetDirectBufferAddress(env, v))) { __failed = TRUE; goto done; } }
+  if (iparam) { if (!(__niparam = (*env)->GetDirectBufferAddress(env, iparam))) { __failed = TRUE; goto done; } }
+  if (ipntr) { if (!(__nipntr = (*env)->GetDirectBufferAddress(env, ipntr))) { __failed = TRUE; goto done; } }
+  if (workd) { if (!(__nworkd = (*env)->GetDirectBufferAddress(env, workd))) { __failed = TRUE; goto done; } }
+  if (workl) { if (!(__nworkl = (*env)->GetDirectBufferAddress(env, workl))) { __failed = TRUE; goto done; } }
+  dseupd_(&__nrvec, __nhowmny, __nselect ? __nselect + offsetselect : NULL, __nd ? __nd + offsetd : NULL, __nz ? __nz + offsetz : NULL, &__nldz, &__nsigma, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+done:
+  if (__nselect) { free(__nselect); } if (__jselect) (*env)->ReleasePrimitiveArrayCritical(env, select, __nselect, JNI_ABORT);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (!__failed) (*env)->SetIntField(env, nev, intW_val_fieldID, __nnev);
+  if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
+  if (__nhowmny) (*env)->ReleaseStringUTFChars(env, howmny, __nhowmny);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sseupd_)(int *rvec, const char *howmny, int *select, float *d, float *z, int *ldz, float *sigma, const char *bmat, int *n, const char *which, int *nev, float *tol, float *resid, int *ncv, float *v, int *ldv, int *iparam, int *ipntr, float *workd, float *workl, int *lworkl, int *info);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_sseupdK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jfloatArray d, jint offsetd, jfloatArray z, jint offsetz, jint ldz, jfloat sigma, jstring bmat, jint n, jstring which, jobject nev, jfloat tol, jfloatArray resid, jint offsetresid, jint ncv, jfloatArray v, jint offsetv, jint ldv, jintArray iparam, jint offsetiparam, jintArray ipntr, jint offsetipntr, jfloatArray workd, jint offsetworkd, jfloatArray workl, jint offsetworkl, jint lworkl, jobject info) {
@@ -1820,6 +2204,70 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_arpack_JNIARPACK_sseupdDirectK(JNIEnv *env, UNUSED jobject obj, jboolean rvec, jstring howmny, jbooleanArray select, jint offsetselect, jobject d, jint offsetd, jobject z, jint offsetz, jint ldz, jfloat sigma, jstring bmat, jint n, jstring which, jobject nev, jfloat tol, jobject resid, jint offsetresid, jint ncv, jobject v, jint offsetv, jint ldv, jobject iparam, jint offsetiparam, jobject ipntr, jint offsetipntr, jobject workd, jint offsetworkd, jobject workl, jint offsetworkl, jint lworkl, jobject info) {
+  if (!sseupd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nrvec __attribute__((aligned(8)));
+  const char *__nhowmny = NULL;
+  int __nldz __attribute__((aligned(8)));
+  float __nsigma __attribute__((aligned(8)));
+  const char *__nbmat = NULL;
+  int __nn __attribute__((aligned(8)));
+  const char *__nwhich = NULL;
+  int __nnev = 0;
+  float __ntol __attribute__((aligned(8)));
+  int __nncv __attribute__((aligned(8)));
+  int __nldv __attribute__((aligned(8)));
+  int __nlworkl __attribute__((aligned(8)));
+  int __ninfo = 0;
+  int *__nselect = NULL; jboolean *__jselect = NULL;
+  float *__nd = NULL;
+  float *__nz = NULL;
+  float *__nresid = NULL;
+  float *__nv = NULL;
+  int *__niparam = NULL;
+  int *__nipntr = NULL;
+  float *__nworkd = NULL;
+  float *__nworkl = NULL;
+  __nrvec = rvec;
+  if (!(__nhowmny = (*env)->GetStringUTFChars(env, howmny, NULL))) { __failed = TRUE; goto done; }
+  __nldz = ldz;
+  __nsigma = sigma;
+  if (!(__nbmat = (*env)->GetStringUTFChars(env, bmat, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  if (!(__nwhich = (*env)->GetStringUTFChars(env, which, NULL))) { __failed = TRUE; goto done; }
+  __nnev = (*env)->GetIntField(env, nev, intW_val_fieldID);
+  __ntol = tol;
+  __nncv = ncv;
+  __nldv = ldv;
+  __nlworkl = lworkl;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (select) { if (!(__jselect = (*env)->GetPrimitiveArrayCritical(env, select, NULL))) { __failed = TRUE; goto done; }
+  do {
+    int __length = (*env)->GetArrayLength(env, select);
+    if (__length <= 0) { __failed = TRUE; goto done; }
+    if (!(__nselect = malloc(sizeof(int) * __length))) { __failed = TRUE; goto done; }
+    for (int i = 0; i < __length; i++) { __nselect[i] = __jselect[i]; }
+  } while(0); }
+  if (d) { if (!(__nd = (*env)->GetDirectBufferAddress(env, d))) { __failed = TRUE; goto done; } }
+  if (z) { if (!(__nz = (*env)->GetDirectBufferAddress(env, z))) { __failed = TRUE; goto done; } }
+  if (resid) { if (!(__nresid = (*env)->GetDirectBufferAddress(env, resid))) { __failed = TRUE; goto done; } }
+  if (v) { if (!(__nv = (*env)->GetDirectBufferAddress(env, v))) { __failed = TRUE; goto done; } }
+  if (iparam) { if (!(__niparam = (*env)->GetDirectBufferAddress(env, iparam))) { __failed = TRUE; goto done; } }
+  if (ipntr) { if (!(__nipntr = (*env)->GetDirectBufferAddress(env, ipntr))) { __failed = TRUE; goto done; } }
+  if (workd) { if (!(__nworkd = (*env)->GetDirectBufferAddress(env, workd))) { __failed = TRUE; goto done; } }
+  if (workl) { if (!(__nworkl = (*env)->GetDirectBufferAddress(env, workl))) { __failed = TRUE; goto done; } }
+  sseupd_(&__nrvec, __nhowmny, __nselect ? __nselect + offsetselect : NULL, __nd ? __nd + offsetd : NULL, __nz ? __nz + offsetz : NULL, &__nldz, &__nsigma, __nbmat, &__nn, __nwhich, &__nnev, &__ntol, __nresid ? __nresid + offsetresid : NULL, &__nncv, __nv ? __nv + offsetv : NULL, &__nldv, __niparam ? __niparam + offsetiparam : NULL, __nipntr ? __nipntr + offsetipntr : NULL, __nworkd ? __nworkd + offsetworkd : NULL, __nworkl ? __nworkl + offsetworkl : NULL, &__nlworkl, &__ninfo);
+done:
+  if (__nselect) { free(__nselect); } if (__jselect) (*env)->ReleasePrimitiveArrayCritical(env, select, __nselect, JNI_ABORT);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (!__failed) (*env)->SetIntField(env, nev, intW_val_fieldID, __nnev);
+  if (__nwhich) (*env)->ReleaseStringUTFChars(env, which, __nwhich);
+  if (__nbmat) (*env)->ReleaseStringUTFChars(env, bmat, __nbmat);
+  if (__nhowmny) (*env)->ReleaseStringUTFChars(env, howmny, __nhowmny);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dsgets_)(int *ishift, const char *which, int *kev, int *np, double *ritz, double *bounds, double *shifts);
 
 void Java_dev_ludovic_netlib_arpack_JNIARPACK_dsgetsK(JNIEnv *env, UNUSED jobject obj, jint ishift, jstring which, jobject kev, jobject np, jdoubleArray ritz, jint offsetritz, jdoubleArray bounds, jint offsetbounds, jdoubleArray shifts, jint offsetshifts) {
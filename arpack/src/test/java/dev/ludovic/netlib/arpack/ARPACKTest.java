@@ -29,6 +29,11 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -44,7 +49,7 @@ public class ARPACKTest {
 
   final static ARPACK f2j = F2jARPACK.getInstance();
 
-  private static Stream<Arguments> ARPACKImplementations() {
+  private static Stream<Arguments> ARPACKImplementations() throws Throwable {
     Stream instances = Stream.of(
       Arguments.of(ARPACK.getInstance()),
       Arguments.of(NativeARPACK.getInstance()),
@@ -53,6 +58,78 @@ public class ARPACKTest {
       Arguments.of(JNIARPACK.getInstance())
     );
 
+    String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 3);
+    int major = Integer.parseInt(fullVersion[0]) > 1 ? Integer.parseInt(fullVersion[0]) : Integer.parseInt(fullVersion[1]);
+    if (major >= 22) {
+      instances = Stream.concat(instances, Stream.of(
+        Arguments.of(Class.forName("dev.ludovic.netlib.arpack.ForeignARPACK").getMethod("getInstance").invoke(null))
+      ));
+    }
+
     return instances;
   }
+
+  protected static final ByteOrder foreignOrder =
+    ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+
+  // arr is stored from index offset onwards
+  protected static final DoubleBuffer directBuffer(double[] arr, int offset, ByteOrder order) {
+    DoubleBuffer result = ByteBuffer.allocateDirect((offset + arr.length) * 8).order(order).asDoubleBuffer();
+    for (int i = 0; i < arr.length; i += 1) {
+      result.put(offset + i, arr[i]);
+    }
+    return result;
+  }
+
+  protected static final DoubleBuffer directBuffer(double[] arr) {
+    return directBuffer(arr, 0, ByteOrder.nativeOrder());
+  }
+
+  protected static final FloatBuffer directBuffer(float[] arr, int offset, ByteOrder order) {
+    FloatBuffer result = ByteBuffer.allocateDirect((offset + arr.length) * 4).order(order).asFloatBuffer();
+    for (int i = 0; i < arr.length; i += 1) {
+      result.put(offset + i, arr[i]);
+    }
+    return result;
+  }
+
+  protected static final FloatBuffer directBuffer(float[] arr) {
+    return directBuffer(arr, 0, ByteOrder.nativeOrder());
+  }
+
+  protected static final IntBuffer directBuffer(int[] arr, int offset, ByteOrder order) {
+    IntBuffer result = ByteBuffer.allocateDirect((offset + arr.length) * 4).order(order).asIntBuffer();
+    for (int i = 0; i < arr.length; i += 1) {
+      result.put(offset + i, arr[i]);
+    }
+    return result;
+  }
+
+  protected static final IntBuffer directBuffer(int[] arr) {
+    return directBuffer(arr, 0, ByteOrder.nativeOrder());
+  }
+
+  protected static final double[] toArray(DoubleBuffer buffer, int offset) {
+    double[] result = new double[buffer.limit() - offset];
+    for (int i = 0; i < result.length; i += 1) {
+      result[i] = buffer.get(offset + i);
+    }
+    return result;
+  }
+
+  protected static final float[] toArray(FloatBuffer buffer, int offset) {
+    float[] result = new float[buffer.limit() - offset];
+    for (int i = 0; i < result.length; i += 1) {
+      result[i] = buffer.get(offset + i);
+    }
+    return result;
+  }
+
+  protected static final int[] toArray(IntBuffer buffer, int offset) {
+    int[] result = new int[buffer.limit() - offset];
+    for (int i = 0; i < result.length; i += 1) {
+      result[i] = buffer.get(offset + i);
+    }
+    return result;
+  }
 }
@@ -25,11 +25,18 @@
 
 package dev.ludovic.netlib.arpack;
 
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.doubleW;
+import org.netlib.util.intW;
+
 public class DneupdTest extends ARPACKTest {
 
     @ParameterizedTest
@@ -37,4 +44,42 @@ public class DneupdTest extends ARPACKTest {
     void testSanity(ARPACK arpack) {
         org.junit.jupiter.api.Assumptions.assumeTrue(false);
     }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testBuffers(ARPACK arpack) {
+        // the largest eigenvalues of diag(1, 2, ..., n), with the nonsymmetric driver
+        int n = 50, nev = 4, ncv = 12, lworkl = 3 * ncv * ncv + 6 * ncv;
+
+        DoubleBuffer resid = directBuffer(new double[n], 1, foreignOrder), v = directBuffer(new double[n * ncv], 2, foreignOrder);
+        DoubleBuffer workd = directBuffer(new double[3 * n], 3, foreignOrder), workl = directBuffer(new double[lworkl], 4, foreignOrder);
+        IntBuffer iparam = directBuffer(new int[11], 5, foreignOrder), ipntr = directBuffer(new int[14], 6, foreignOrder);
+        iparam.put(5 + 0, 1);
+        iparam.put(5 + 2, 300);
+        iparam.put(5 + 6, 1);
+        intW ido = new intW(0), info = new intW(0);
+        do {
+            arpack.dnaupd(ido, "I", n, "LM", nev, new doubleW(0.0), resid, 1, ncv, v, 2, n, iparam, 5, ipntr, 6, workd, 3, workl, 4, lworkl, info);
+            if (ido.val == -1 || ido.val == 1) {
+                for (int i = 0; i < n; i += 1) {
+                    workd.put(3 + ipntr.get(6 + 1) - 1 + i, (i + 1) * workd.get(3 + ipntr.get(6 + 0) - 1 + i));
+                }
+            }
+        } while (ido.val == -1 || ido.val == 1);
+        assertEquals(0, info.val);
+        int nconv = iparam.get(5 + 4);
+        assertTrue(nconv >= nev);
+
+        DoubleBuffer dr = directBuffer(new double[nev + 1], 7, foreignOrder), di = directBuffer(new double[nev + 1], 8, foreignOrder);
+        DoubleBuffer z = directBuffer(new double[n * (nev + 1)], 9, foreignOrder), workev = directBuffer(new double[3 * ncv], 10, foreignOrder);
+        arpack.dneupd(true, "A", new boolean[ncv], 0, dr, 7, di, 8, z, 9, n, 0.0, 0.0, workev, 10, "I", n, "LM", new intW(nev), 0.0, resid, 1, ncv, v, 2, n, iparam, 5, ipntr, 6, workd, 3, workl, 4, lworkl, info);
+        assertEquals(0, info.val);
+
+        double[] eigenvalues = Arrays.copyOf(toArray(dr, 7), nev);
+        Arrays.sort(eigenvalues);
+        for (int k = 0; k < nev; k += 1) {
+            assertEquals(n - nev + 1 + k, eigenvalues[k], 1e-10);
+            assertEquals(0.0, di.get(8 + k), 1e-10);
+        }
+    }
 }
@@ -25,11 +25,17 @@
 
 package dev.ludovic.netlib.arpack;
 
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.doubleW;
+import org.netlib.util.intW;
+
 public class DseupdTest extends ARPACKTest {
 
     @ParameterizedTest
@@ -37,4 +43,40 @@ public class DseupdTest extends ARPACKTest {
     void testSanity(ARPACK arpack) {
         org.junit.jupiter.api.Assumptions.assumeTrue(false);
     }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testBuffers(ARPACK arpack) {
+        // the largest eigenvalues and eigenvectors of diag(1, 2, ..., n)
+        int n = 50, nev = 4, ncv = 12, lworkl = ncv * (ncv + 8);
+
+        DoubleBuffer resid = directBuffer(new double[n], 1, foreignOrder), v = directBuffer(new double[n * ncv], 2, foreignOrder);
+        DoubleBuffer workd = directBuffer(new double[3 * n], 3, foreignOrder), workl = directBuffer(new double[lworkl], 4, foreignOrder);
+        IntBuffer iparam = directBuffer(new int[11], 5, foreignOrder), ipntr = directBuffer(new int[11], 6, foreignOrder);
+        iparam.put(5 + 0, 1);
+        iparam.put(5 + 2, 300);
+        iparam.put(5 + 6, 1);
+        intW ido = new intW(0), info = new intW(0);
+        do {
+            arpack.dsaupd(ido, "I", n, "LM", nev, new doubleW(0.0), resid, 1, ncv, v, 2, n, iparam, 5, ipntr, 6, workd, 3, workl, 4, lworkl, info);
+            if (ido.val == -1 || ido.val == 1) {
+                for (int i = 0; i < n; i += 1) {
+                    workd.put(3 + ipntr.get(6 + 1) - 1 + i, (i + 1) * workd.get(3 + ipntr.get(6 + 0) - 1 + i));
+                }
+            }
+        } while (ido.val == -1 || ido.val == 1);
+        assertEquals(0, info.val);
+        assertEquals(nev, iparam.get(5 + 4));
+
+        DoubleBuffer d = directBuffer(new double[nev], 7, foreignOrder), z = directBuffer(new double[n * nev], 8, foreignOrder);
+        arpack.dseupd(true, "A", new boolean[ncv], 0, d, 7, z, 8, n, 0.0, "I", n, "LM", new intW(nev), 0.0, resid, 1, ncv, v, 2, n, iparam, 5, ipntr, 6, workd, 3, workl, 4, lworkl, info);
+        assertEquals(0, info.val);
+
+        for (int k = 0; k < nev; k += 1) {
+            double lambda = n - nev + 1 + k;
+            assertEquals(lambda, d.get(7 + k), 1e-10);
+            // the eigenvector of lambda is the basis vector of index lambda - 1, up to its sign
+            assertEquals(1.0, Math.abs(z.get(8 + k * n + (int)lambda - 1)), 1e-10);
+        }
+    }
 }
@@ -25,11 +25,18 @@
 
 package dev.ludovic.netlib.arpack;
 
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.floatW;
+import org.netlib.util.intW;
+
 public class SsaupdTest extends ARPACKTest {
 
     @ParameterizedTest
@@ -37,4 +44,55 @@ public class SsaupdTest extends ARPACKTest {
     void testSanity(ARPACK arpack) {
         org.junit.jupiter.api.Assumptions.assumeTrue(false);
     }
+
+    @ParameterizedTest
+    @MethodSource("ARPACKImplementations")
+    void testBuffers(ARPACK arpack) {
+        // the largest eigenvalues of diag(1, 2, ..., n), through the reverse communication loop
+        int n = 50, nev = 4, ncv = 12, lworkl = ncv * (ncv + 8);
+
+        // info = 1 starts from the given resid, rather than from a random vector that differs between runs
+        float[] start = new float[n];
+        Arrays.fill(start, 1.0f);
+
+        intW ido = new intW(0), info = new intW(1);
+        float[] resid = start.clone(), v = new float[n * ncv], workd = new float[3 * n], workl = new float[lworkl];
+        int[] iparam = new int[11], ipntr = new int[11];
+        iparam[0] = 1;
+        iparam[2] = 300;
+        iparam[6] = 1;
+        do {
+            f2j.ssaupd(ido, "I", n, "LM", nev, new floatW(0.0f), resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+            if (ido.val == -1 || ido.val == 1) {
+                for (int i = 0; i < n; i += 1) {
+                    workd[ipntr[1] - 1 + i] = (i + 1) * workd[ipntr[0] - 1 + i];
+                }
+            }
+        } while (ido.val == -1 || ido.val == 1);
+        assertEquals(0, info.val);
+
+        // buffers in foreign order take the copying path of all implementations
+        FloatBuffer residb = directBuffer(start, 1, foreignOrder), vb = directBuffer(new float[n * ncv], 2, foreignOrder);
+        FloatBuffer workdb = directBuffer(new float[3 * n], 3, foreignOrder), worklb = directBuffer(new float[lworkl], 4, foreignOrder);
+        IntBuffer iparamb = directBuffer(new int[11], 5, foreignOrder), ipntrb = directBuffer(new int[11], 6, foreignOrder);
+        iparamb.put(5 + 0, 1);
+        iparamb.put(5 + 2, 300);
+        iparamb.put(5 + 6, 1);
+        ido = new intW(0);
+        info = new intW(1);
+        do {
+            arpack.ssaupd(ido, "I", n, "LM", nev, new floatW(0.0f), residb, 1, ncv, vb, 2, n, iparamb, 5, ipntrb, 6, workdb, 3, worklb, 4, lworkl, info);
+            if (ido.val == -1 || ido.val == 1) {
+                for (int i = 0; i < n; i += 1) {
+                    workdb.put(3 + ipntrb.get(6 + 1) - 1 + i, (i + 1) * workdb.get(3 + ipntrb.get(6 + 0) - 1 + i));
+                }
+            }
+        } while (ido.val == -1 || ido.val == 1);
+        assertEquals(0, info.val);
+
+        // the other columns of v and resid depend on the random vectors drawn on restarts, whose
+        // seed carries over from one run to the next
+        assertArrayEquals(iparam, toArray(iparamb, 5));
+        assertArrayEquals(Arrays.copyOf(v, n * nev), Arrays.copyOf(toArray(vb, 2), n * nev), sepsilon);
+    }
 }
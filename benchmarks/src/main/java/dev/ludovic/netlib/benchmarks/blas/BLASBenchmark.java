@@ -82,4 +82,22 @@ public abstract class BLASBenchmark {
         }
         return res;
     }
+
+    // half-precision values in [0.5, 1)
+    protected short[] randomHalfArray(int n) {
+        short[] res = new short[n];
+        for (int i = 0; i < n; i++) {
+            res[i] = (short)(0x3800 | rand.nextInt(0x400));
+        }
+        return res;
+    }
+
+    // bfloat16 values in [0, 1)
+    protected short[] randomBfloat16Array(int n) {
+        short[] res = new short[n];
+        for (int i = 0; i < n; i++) {
+            res[i] = (short)(Float.floatToRawIntBits(rand.nextFloat()) >>> 16);
+        }
+        return res;
+    }
 }
@@ -36,10 +36,18 @@ public class Snrm2Benchmark extends L1Benchmark {
     @Param({"10", "100000000"})
     public int n;
 
+    // Well-scaled values, and values whose squares underflow or overflow, which take
+    // the slower overflow-safe path
+    @Param({"1", "1e-25", "1e25"})
+    public float scale;
+
     public float[] x;
     @Setup
     public void setup() {
         x = randomFloatArray(n);
+        for (int i = 0; i < n; i++) {
+            x[i] *= scale;
+        }
     }
 
     @Benchmark
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas.l1;
+
+import dev.ludovic.netlib.benchmarks.blas.BLASBenchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+public class StridedBenchmark extends L1Benchmark {
+
+    @Param({"10", "10000"})
+    public int n;
+
+    // contiguous, every other element, and the rows of a column-major matrix with 1000 rows
+    @Param({"1", "2", "1000"})
+    public int inc;
+
+    public double[] dx, dy;
+    public float[] sx, sy;
+
+    // the vectors are updated in place rather than copied, as copying all the elements
+    // in between would dominate, so the operations keep them in the same range
+    public double dalpha, dc, ds;
+    public float salpha, sc, ss;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dx = randomDoubleArray((n - 1) * inc + 1);
+        dy = randomDoubleArray((n - 1) * inc + 1);
+        sx = randomFloatArray((n - 1) * inc + 1);
+        sy = randomFloatArray((n - 1) * inc + 1);
+        dalpha = 1e-9;
+        dc = Math.cos(randomDouble());
+        ds = Math.sqrt(1.0 - dc * dc);
+        salpha = 1e-9f;
+        sc = (float)dc;
+        ss = (float)ds;
+    }
+
+    @Benchmark
+    public void dasum(Blackhole bh) {
+        bh.consume(blas.dasum(n, dx, inc));
+    }
+
+    @Benchmark
+    public void sasum(Blackhole bh) {
+        bh.consume(blas.sasum(n, sx, inc));
+    }
+
+    @Benchmark
+    public void daxpy(Blackhole bh) {
+        blas.daxpy(n, dalpha, dx, inc, dy, inc);
+        bh.consume(dy);
+    }
+
+    @Benchmark
+    public void saxpy(Blackhole bh) {
+        blas.saxpy(n, salpha, sx, inc, sy, inc);
+        bh.consume(sy);
+    }
+
+    @Benchmark
+    public void ddot(Blackhole bh) {
+        bh.consume(blas.ddot(n, dx, inc, dy, inc));
+    }
+
+    @Benchmark
+    public void sdot(Blackhole bh) {
+        bh.consume(blas.sdot(n, sx, inc, sy, inc));
+    }
+
+    @Benchmark
+    public void dnrm2(Blackhole bh) {
+        bh.consume(blas.dnrm2(n, dx, inc));
+    }
+
+    @Benchmark
+    public void snrm2(Blackhole bh) {
+        bh.consume(blas.snrm2(n, sx, inc));
+    }
+
+    @Benchmark
+    public void drot(Blackhole bh) {
+        blas.drot(n, dx, inc, dy, inc, dc, ds);
+        bh.consume(dx);
+        bh.consume(dy);
+    }
+
+    @Benchmark
+    public void srot(Blackhole bh) {
+        blas.srot(n, sx, inc, sy, inc, sc, ss);
+        bh.consume(sx);
+        bh.consume(sy);
+    }
+
+    @Benchmark
+    public void dscal(Blackhole bh) {
+        blas.dscal(n, -1.0, dx, inc);
+        bh.consume(dx);
+    }
+
+    @Benchmark
+    public void sscal(Blackhole bh) {
+        blas.sscal(n, -1.0f, sx, inc);
+        bh.consume(sx);
+    }
+
+    @Benchmark
+    public void dswap(Blackhole bh) {
+        blas.dswap(n, dx, inc, dy, inc);
+        bh.consume(dx);
+        bh.consume(dy);
+    }
+
+    @Benchmark
+    public void sswap(Blackhole bh) {
+        blas.sswap(n, sx, inc, sy, inc);
+        bh.consume(sx);
+        bh.consume(sy);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+package dev.ludovic.netlib.benchmarks.blas.l2;
+
+import dev.ludovic.netlib.benchmarks.blas.BLASBenchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+public class Dgemv2Benchmark extends L2Benchmark {
+
+    @Param({"N", "T"})
+    public String trans;
+
+    @Param({"10", "1000"})
+    public int m;
+
+    @Param({"10", "1000"})
+    public int n;
+
+    public double alpha;
+    public double[] a;
+    public double[] x1, x2;
+    public double beta;
+    public double[] y1, y1clone;
+    public double[] y2, y2clone;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        alpha = randomDouble();
+        a = randomDoubleArray(m * n);
+        x1 = randomDoubleArray(trans.equals("T") ? m : n);
+        x2 = randomDoubleArray(trans.equals("T") ? m : n);
+        beta = randomDouble();
+        y1 = randomDoubleArray(trans.equals("T") ? n : m);
+        y2 = randomDoubleArray(trans.equals("T") ? n : m);
+    }
+
+    @Benchmark
+    public void blas(Blackhole bh) {
+        blas.dgemv2(trans, m, n, alpha, a, m, x1, 1, x2, 1, beta, y1clone = y1.clone(), 1, y2clone = y2.clone(), 1);
+        bh.consume(y1clone);
+        bh.consume(y2clone);
+    }
+
+    // the same result with the two calls it fuses
+    @Benchmark
+    public void separate(Blackhole bh) {
+        blas.dgemv(trans, m, n, alpha, a, m, x1, 1, beta, y1clone = y1.clone(), 1);
+        blas.dgemv(trans, m, n, alpha, a, m, x2, 1, beta, y2clone = y2.clone(), 1);
+        bh.consume(y1clone);
+        bh.consume(y2clone);
+    }
+}
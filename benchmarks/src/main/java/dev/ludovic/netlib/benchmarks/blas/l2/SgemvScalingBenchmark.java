@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+package dev.ludovic.netlib.benchmarks.blas.l2;
+
+import dev.ludovic.netlib.benchmarks.blas.BLASBenchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ForkJoinPool;
+
+@State(Scope.Thread)
+public class SgemvScalingBenchmark extends L2Benchmark {
+
+    // The Java implementations run their tasks in the caller's ForkJoinPool,
+    // so the pool size sets the number of threads used by the call.
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"N", "T"})
+    public String trans;
+
+    // square, tall and skinny, and short and wide, all of 16M elements
+    @Param({"4096x4096", "262144x64", "64x262144"})
+    public String shape;
+
+    public int m, n;
+    public float alpha;
+    public float[] a;
+    public float[] x;
+    public float beta;
+    public float[] y, yclone;
+
+    public ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        m = Integer.parseInt(shape.split("x")[0]);
+        n = Integer.parseInt(shape.split("x")[1]);
+        alpha = randomFloat();
+        a = randomFloatArray(m * n);
+        x = randomFloatArray(trans.equals("T") ? m : n);
+        beta = randomFloat();
+        y = randomFloatArray(trans.equals("T") ? n : m);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void blas(Blackhole bh) {
+        yclone = y.clone();
+        pool.submit(() -> blas.sgemv(trans, m, n, alpha, a, m, x, 1, beta, yclone, 1)).join();
+        bh.consume(yclone);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas.l3;
+
+import dev.ludovic.netlib.benchmarks.blas.BLASBenchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.lang.management.ManagementFactory;
+
+// Run with `-prof gc`: gc.alloc.rate.norm should stay around 0 B/op once warmed up.
+// Each measurement iteration also fails if a call allocates more than a few bytes on average.
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Ddev.ludovic.netlib.blas.threads=1"})
+public class DgemmAllocationBenchmark extends L3Benchmark {
+
+    private static final long maxBytesPerCall = 64;
+
+    @Param({"200", "1000"})
+    public int n;
+
+    public double alpha;
+    public double[] a;
+    public double[] b;
+    public double beta;
+    public double[] c;
+
+    private com.sun.management.ThreadMXBean threads;
+    private long allocated, calls;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        alpha = randomDouble();
+        a = randomDoubleArray(n * n);
+        b = randomDoubleArray(n * n);
+        beta = 0.0;
+        c = randomDoubleArray(n * n);
+        threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+    }
+
+    @Setup(Level.Iteration)
+    public void start() {
+        calls = 0;
+        allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @TearDown(Level.Iteration)
+    public void check(IterationParams params) {
+        if (params.getType() != IterationType.MEASUREMENT) {
+            return;
+        }
+        long bytesPerCall = (threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocated) / Math.max(1, calls);
+        if (bytesPerCall > maxBytesPerCall) {
+            throw new IllegalStateException(String.format("dgemm allocated %d bytes per call", bytesPerCall));
+        }
+    }
+
+    @Benchmark
+    public void blas(Blackhole bh) {
+        blas.dgemm("N", "N", n, n, n, alpha, a, n, b, n, beta, c, n);
+        calls += 1;
+        bh.consume(c);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas.l3;
+
+import dev.ludovic.netlib.benchmarks.blas.BLASBenchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ForkJoinPool;
+
+@State(Scope.Thread)
+public class DgemmScalingBenchmark extends L3Benchmark {
+
+    // The Java implementations run their tasks in the caller's ForkJoinPool,
+    // so the pool size sets the number of threads used by the call.
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    @Param({"1000", "4000"})
+    public int n;
+
+    public double alpha;
+    public double[] a;
+    public double[] b;
+    public double beta;
+    public double[] c, cclone;
+
+    public ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        alpha = randomDouble();
+        a = randomDoubleArray(n * n);
+        b = randomDoubleArray(n * n);
+        beta = randomDouble();
+        c = randomDoubleArray(n * n);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void blas(Blackhole bh) {
+        cclone = c.clone();
+        pool.submit(() -> blas.dgemm("N", "N", n, n, n, alpha, a, n, b, n, beta, cclone, n)).join();
+        bh.consume(cclone);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas.l3;
+
+import dev.ludovic.netlib.benchmarks.blas.BLASBenchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+public class DgemmStrassenBenchmark extends L3Benchmark {
+
+    // With a cutoff of 512, Strassen-Winograd is used for all these sizes, with one
+    // level of recursion at 1024 and one more each time n doubles, which shows the crossover.
+    @Param({"1024", "1536", "2048", "3072", "4096"})
+    public int n;
+
+    public double alpha;
+    public double[] a;
+    public double[] b;
+    public double beta;
+    public double[] c, cclone;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        alpha = randomDouble();
+        a = randomDoubleArray(n * n);
+        b = randomDoubleArray(n * n);
+        beta = randomDouble();
+        c = randomDoubleArray(n * n);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Ddev.ludovic.netlib.blas.strassen=false")
+    public void blocked(Blackhole bh) {
+        blas.dgemm("N", "N", n, n, n, alpha, a, n, b, n, beta, cclone = c.clone(), n);
+        bh.consume(cclone);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = { "-Ddev.ludovic.netlib.blas.strassen=true", "-Ddev.ludovic.netlib.blas.strassenCutoff=512" })
+    public void strassen(Blackhole bh) {
+        blas.dgemm("N", "N", n, n, n, alpha, a, n, b, n, beta, cclone = c.clone(), n);
+        bh.consume(cclone);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.benchmarks.blas.l3;
+
+import dev.ludovic.netlib.benchmarks.blas.BLASBenchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+public class SgemmBatchedBenchmark extends L3Benchmark {
+
+    @Param({"N", "T"})
+    public String transa;
+    @Param({"N", "T"})
+    public String transb;
+
+    @Param({"4", "16", "64"})
+    public int n;
+
+    @Param({"1000"})
+    public int batchCount;
+
+    public float alpha;
+    public float[] a;
+    public int[] offsetsa;
+    public float[] b;
+    public int[] offsetsb;
+    public float beta;
+    public float[] c, cclone;
+    public int[] offsetsc;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        alpha = randomFloat();
+        a = randomFloatArray(batchCount * n * n);
+        b = randomFloatArray(batchCount * n * n);
+        beta = randomFloat();
+        c = randomFloatArray(batchCount * n * n);
+        offsetsa = new int[batchCount];
+        offsetsb = new int[batchCount];
+        offsetsc = new int[batchCount];
+        for (int i = 0; i < batchCount; i++) {
+            offsetsa[i] = offsetsb[i] = offsetsc[i] = i * n * n;
+        }
+    }
+
+    // the baseline, with one call per matrix
+    @Benchmark
+    public void loop(Blackhole bh) {
+        cclone = c.clone();
+        for (int i = 0; i < batchCount; i++) {
+            blas.sgemm(transa, transb, n, n, n, alpha, a, offsetsa[i], n, b, offsetsb[i], n, beta, cclone, offsetsc[i], n);
+        }
+        bh.consume(cclone);
+    }
+
+    @Benchmark
+    public void batched(Blackhole bh) {
+        blas.sgemmBatched(transa, transb, n, n, n, alpha, a, offsetsa, n, b, offsetsb, n, beta, cclone = c.clone(), offsetsc, n, batchCount);
+        bh.consume(cclone);
+    }
+
+    @Benchmark
+    public void stridedBatched(Blackhole bh) {
+        blas.sgemmStridedBatched(transa, transb, n, n, n, alpha, a, n, n * n, b, n, n * n, beta, cclone = c.clone(), n, n * n, batchCount);
+        bh.consume(cclone);
+    }
+}
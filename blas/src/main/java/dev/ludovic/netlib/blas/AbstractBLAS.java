@@ -25,6 +25,8 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.util.Objects;
 
 abstract class AbstractBLAS implements BLAS {
@@ -73,6 +75,26 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract double dasumK(int n, double[] x, int offsetx, int incx);
 
+  public double dasum(int n, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dasum");
+    return dasum(n, x, 0, incx);
+  }
+
+  public double dasum(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dasum");
+    if (n <= 0) {
+      return 0.0;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    return dasumK(n, x, offsetx, incx);
+  }
+
+  protected double dasumK(int n, DoubleBuffer x, int offsetx, int incx) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    return dasumK(n, arrayx, Buffers.offset(x, offsetx), incx);
+  }
+
   public float sasum(int n, float[] x, int incx) {
     if (debug) System.err.println("sasum");
     return sasum(n, x, 0, incx);
@@ -90,6 +112,26 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract float sasumK(int n, float[] x, int offsetx, int incx);
 
+  public float sasum(int n, FloatBuffer x, int incx) {
+    if (debug) System.err.println("sasum");
+    return sasum(n, x, 0, incx);
+  }
+
+  public float sasum(int n, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("sasum");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    return sasumK(n, x, offsetx, incx);
+  }
+
+  protected float sasumK(int n, FloatBuffer x, int offsetx, int incx) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    return sasumK(n, arrayx, Buffers.offset(x, offsetx), incx);
+  }
+
   public void daxpy(int n, double alpha, double[] x, int incx, double[] y, int incy) {
     if (debug) System.err.println("daxpy");
     daxpy(n, alpha, x, 0, incx, y, 0, incy);
@@ -113,6 +155,33 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void daxpyK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  public void daxpy(int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("daxpy");
+    daxpy(n, alpha, x, 0, incx, y, 0, incy);
+  }
+
+  public void daxpy(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("daxpy");
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void daxpyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    daxpyK(n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void saxpy(int n, float alpha, float[] x, int incx, float[] y, int incy) {
     if (debug) System.err.println("saxpy");
     saxpy(n, alpha, x, 0, incx, y, 0, incy);
@@ -136,6 +205,268 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void saxpyK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  public void saxpy(int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy) {
+    if (debug) System.err.println("saxpy");
+    saxpy(n, alpha, x, 0, incx, y, 0, incy);
+  }
+
+  public void saxpy(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("saxpy");
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0f) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void saxpyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    saxpyK(n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
+  public void daxpby(int n, double alpha, double[] x, int incx, double beta, double[] y, int incy) {
+    if (debug) System.err.println("daxpby");
+    daxpby(n, alpha, x, 0, incx, beta, y, 0, incy);
+  }
+
+  // y = alpha * x + beta * y, where y isn't read if beta is 0
+  public void daxpby(int n, double alpha, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (debug) System.err.println("daxpby");
+    checkArgument("DAXPBY", 7, incy != 0);
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0 && beta == 1.0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    daxpbyK(n, alpha, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  // The fused kernels default to the separate ones, as the native implementations don't provide them.
+  protected void daxpbyK(int n, double alpha, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (beta == 0.0) {
+      dcopyK(n, x, offsetx, incx, y, offsety, incy);
+      dscalK(n, alpha, y, offsety, Math.abs(incy));
+    } else {
+      if (beta != 1.0) {
+        dscalK(n, beta, y, offsety, Math.abs(incy));
+      }
+      daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  public void daxpby(int n, double alpha, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("daxpby");
+    daxpby(n, alpha, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void daxpby(int n, double alpha, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("daxpby");
+    checkArgument("DAXPBY", 7, incy != 0);
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0 && beta == 1.0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    daxpbyK(n, alpha, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void daxpbyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    daxpbyK(n, alpha, arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
+  public double daxpydot(int n, double alpha, double[] x, int incx, double[] y, int incy, double[] z, int incz) {
+    if (debug) System.err.println("daxpydot");
+    return daxpydot(n, alpha, x, 0, incx, y, 0, incy, z, 0, incz);
+  }
+
+  // y += alpha * x, then sum(y * z) with the updated y
+  public double daxpydot(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz) {
+    if (debug) System.err.println("daxpydot");
+    if (n <= 0) {
+      return 0.0;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    checkIndex(offsetz + (n - 1) * Math.abs(incz), z.length);
+    return daxpydotK(n, alpha, x, offsetx, incx, y, offsety, incy, z, offsetz, incz);
+  }
+
+  protected double daxpydotK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz) {
+    if (alpha != 0.0) {
+      daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    }
+    return ddotK(n, y, offsety, incy, z, offsetz, incz);
+  }
+
+  public double daxpydot(int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer z, int incz) {
+    if (debug) System.err.println("daxpydot");
+    return daxpydot(n, alpha, x, 0, incx, y, 0, incy, z, 0, incz);
+  }
+
+  public double daxpydot(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer z, int offsetz, int incz) {
+    if (debug) System.err.println("daxpydot");
+    if (n <= 0) {
+      return 0.0;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offsetz + (n - 1) * Math.abs(incz), z.limit());
+    return daxpydotK(n, alpha, x, offsetx, incx, y, offsety, incy, z, offsetz, incz);
+  }
+
+  protected double daxpydotK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer z, int offsetz, int incz) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    double[] arrayz = Buffers.array(z, offsetz, (n - 1) * Math.abs(incz) + 1);
+    double result = daxpydotK(n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arrayz, Buffers.offset(z, offsetz), incz);
+    Buffers.release(y, offsety, arrayy);
+    return result;
+  }
+
+  public void saxpby(int n, float alpha, float[] x, int incx, float beta, float[] y, int incy) {
+    if (debug) System.err.println("saxpby");
+    saxpby(n, alpha, x, 0, incx, beta, y, 0, incy);
+  }
+
+  // y = alpha * x + beta * y, where y isn't read if beta is 0
+  public void saxpby(int n, float alpha, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (debug) System.err.println("saxpby");
+    checkArgument("SAXPBY", 7, incy != 0);
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0f && beta == 1.0f) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    saxpbyK(n, alpha, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void saxpbyK(int n, float alpha, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (beta == 0.0f) {
+      scopyK(n, x, offsetx, incx, y, offsety, incy);
+      sscalK(n, alpha, y, offsety, Math.abs(incy));
+    } else {
+      if (beta != 1.0f) {
+        sscalK(n, beta, y, offsety, Math.abs(incy));
+      }
+      saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  public void saxpby(int n, float alpha, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy) {
+    if (debug) System.err.println("saxpby");
+    saxpby(n, alpha, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void saxpby(int n, float alpha, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("saxpby");
+    checkArgument("SAXPBY", 7, incy != 0);
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0f && beta == 1.0f) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    saxpbyK(n, alpha, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void saxpbyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    saxpbyK(n, alpha, arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
+  public float saxpydot(int n, float alpha, float[] x, int incx, float[] y, int incy, float[] z, int incz) {
+    if (debug) System.err.println("saxpydot");
+    return saxpydot(n, alpha, x, 0, incx, y, 0, incy, z, 0, incz);
+  }
+
+  // y += alpha * x, then sum(y * z) with the updated y
+  public float saxpydot(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz) {
+    if (debug) System.err.println("saxpydot");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    checkIndex(offsetz + (n - 1) * Math.abs(incz), z.length);
+    return saxpydotK(n, alpha, x, offsetx, incx, y, offsety, incy, z, offsetz, incz);
+  }
+
+  protected float saxpydotK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz) {
+    if (alpha != 0.0f) {
+      saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    }
+    return sdotK(n, y, offsety, incy, z, offsetz, incz);
+  }
+
+  public float saxpydot(int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer z, int incz) {
+    if (debug) System.err.println("saxpydot");
+    return saxpydot(n, alpha, x, 0, incx, y, 0, incy, z, 0, incz);
+  }
+
+  public float saxpydot(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer z, int offsetz, int incz) {
+    if (debug) System.err.println("saxpydot");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offsetz + (n - 1) * Math.abs(incz), z.limit());
+    return saxpydotK(n, alpha, x, offsetx, incx, y, offsety, incy, z, offsetz, incz);
+  }
+
+  protected float saxpydotK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer z, int offsetz, int incz) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    float[] arrayz = Buffers.array(z, offsetz, (n - 1) * Math.abs(incz) + 1);
+    float result = saxpydotK(n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arrayz, Buffers.offset(z, offsetz), incz);
+    Buffers.release(y, offsety, arrayy);
+    return result;
+  }
+
   public void dcopy(int n, double[] x, int incx, double[] y, int incy) {
     if (debug) System.err.println("dcopy");
     dcopy(n, x, 0, incx, y, 0, incy);
@@ -155,6 +486,30 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dcopyK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  public void dcopy(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("dcopy");
+    dcopy(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void dcopy(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("dcopy");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    dcopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dcopyK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    dcopyK(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void scopy(int n, float[] x, int incx, float[] y, int incy) {
     if (debug) System.err.println("scopy");
     scopy(n, x, 0, incx, y, 0, incy);
@@ -174,6 +529,30 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void scopyK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  public void scopy(int n, FloatBuffer x, int incx, FloatBuffer y, int incy) {
+    if (debug) System.err.println("scopy");
+    scopy(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void scopy(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("scopy");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    scopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void scopyK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    scopyK(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public double ddot(int n, double[] x, int incx, double[] y, int incy) {
     if (debug) System.err.println("ddot");
     return ddot(n, x, 0, incx, y, 0, incy);
@@ -194,6 +573,29 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  public double ddot(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("ddot");
+    return ddot(n, x, 0, incx, y, 0, incy);
+  }
+
+  public double ddot(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("ddot");
+    if (n <= 0) {
+      return 0.0;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    return ddotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected double ddotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    return ddotK(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy);
+  }
+
   public float sdot(int n, float[] x, int incx, float[] y, int incy) {
     if (debug) System.err.println("sdot");
     return sdot(n, x, 0, incx, y, 0, incy);
@@ -214,6 +616,155 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract float sdotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  public float sdot(int n, FloatBuffer x, int incx, FloatBuffer y, int incy) {
+    if (debug) System.err.println("sdot");
+    return sdot(n, x, 0, incx, y, 0, incy);
+  }
+
+  public float sdot(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("sdot");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    return sdotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected float sdotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    return sdotK(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy);
+  }
+
+  public void ddot2(int n, double[] x, int incx, double[] y, int incy, double[] z, int incz, double[] dots) {
+    if (debug) System.err.println("ddot2");
+    ddot2(n, x, 0, incx, y, 0, incy, z, 0, incz, dots, 0);
+  }
+
+  // dots[0] = sum(x * y) and dots[1] = sum(x * z)
+  public void ddot2(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz, double[] dots, int offsetdots) {
+    if (debug) System.err.println("ddot2");
+    requireNonNull(dots);
+    checkIndex(offsetdots + 1, dots.length);
+    if (n <= 0) {
+      dots[offsetdots + 0] = 0.0;
+      dots[offsetdots + 1] = 0.0;
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    checkIndex(offsetz + (n - 1) * Math.abs(incz), z.length);
+    ddot2K(n, x, offsetx, incx, y, offsety, incy, z, offsetz, incz, dots, offsetdots);
+  }
+
+  protected void ddot2K(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz, double[] dots, int offsetdots) {
+    double xy = ddotK(n, x, offsetx, incx, y, offsety, incy);
+    double xz = ddotK(n, x, offsetx, incx, z, offsetz, incz);
+    dots[offsetdots + 0] = xy;
+    dots[offsetdots + 1] = xz;
+  }
+
+  public void ddot2(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer z, int incz, DoubleBuffer dots) {
+    if (debug) System.err.println("ddot2");
+    ddot2(n, x, 0, incx, y, 0, incy, z, 0, incz, dots, 0);
+  }
+
+  public void ddot2(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer z, int offsetz, int incz, DoubleBuffer dots, int offsetdots) {
+    if (debug) System.err.println("ddot2");
+    requireNonNull(dots);
+    checkIndex(offsetdots + 1, dots.limit());
+    if (n <= 0) {
+      dots.put(offsetdots + 0, 0.0);
+      dots.put(offsetdots + 1, 0.0);
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offsetz + (n - 1) * Math.abs(incz), z.limit());
+    ddot2K(n, x, offsetx, incx, y, offsety, incy, z, offsetz, incz, dots, offsetdots);
+  }
+
+  protected void ddot2K(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer z, int offsetz, int incz, DoubleBuffer dots, int offsetdots) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    double[] arrayz = Buffers.array(z, offsetz, (n - 1) * Math.abs(incz) + 1);
+    double[] arraydots = Buffers.writableArray(dots, offsetdots, 2);
+    ddot2K(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arrayz, Buffers.offset(z, offsetz), incz, arraydots, Buffers.offset(dots, offsetdots));
+    Buffers.release(dots, offsetdots, arraydots);
+  }
+
+  public void sdot2(int n, float[] x, int incx, float[] y, int incy, float[] z, int incz, float[] dots) {
+    if (debug) System.err.println("sdot2");
+    sdot2(n, x, 0, incx, y, 0, incy, z, 0, incz, dots, 0);
+  }
+
+  // dots[0] = sum(x * y) and dots[1] = sum(x * z)
+  public void sdot2(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz, float[] dots, int offsetdots) {
+    if (debug) System.err.println("sdot2");
+    requireNonNull(dots);
+    checkIndex(offsetdots + 1, dots.length);
+    if (n <= 0) {
+      dots[offsetdots + 0] = 0.0f;
+      dots[offsetdots + 1] = 0.0f;
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    checkIndex(offsetz + (n - 1) * Math.abs(incz), z.length);
+    sdot2K(n, x, offsetx, incx, y, offsety, incy, z, offsetz, incz, dots, offsetdots);
+  }
+
+  protected void sdot2K(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz, float[] dots, int offsetdots) {
+    float xy = sdotK(n, x, offsetx, incx, y, offsety, incy);
+    float xz = sdotK(n, x, offsetx, incx, z, offsetz, incz);
+    dots[offsetdots + 0] = xy;
+    dots[offsetdots + 1] = xz;
+  }
+
+  public void sdot2(int n, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer z, int incz, FloatBuffer dots) {
+    if (debug) System.err.println("sdot2");
+    sdot2(n, x, 0, incx, y, 0, incy, z, 0, incz, dots, 0);
+  }
+
+  public void sdot2(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer z, int offsetz, int incz, FloatBuffer dots, int offsetdots) {
+    if (debug) System.err.println("sdot2");
+    requireNonNull(dots);
+    checkIndex(offsetdots + 1, dots.limit());
+    if (n <= 0) {
+      dots.put(offsetdots + 0, 0.0f);
+      dots.put(offsetdots + 1, 0.0f);
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(z);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offsetz + (n - 1) * Math.abs(incz), z.limit());
+    sdot2K(n, x, offsetx, incx, y, offsety, incy, z, offsetz, incz, dots, offsetdots);
+  }
+
+  protected void sdot2K(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer z, int offsetz, int incz, FloatBuffer dots, int offsetdots) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    float[] arrayz = Buffers.array(z, offsetz, (n - 1) * Math.abs(incz) + 1);
+    float[] arraydots = Buffers.writableArray(dots, offsetdots, 2);
+    sdot2K(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arrayz, Buffers.offset(z, offsetz), incz, arraydots, Buffers.offset(dots, offsetdots));
+    Buffers.release(dots, offsetdots, arraydots);
+  }
+
   public float sdsdot(int n, float sb, float[] x, int incx, float[] y, int incy) {
     if (debug) System.err.println("sdsdot");
     return sdsdot(n, sb, x, 0, incx, y, 0, incy);
@@ -233,6 +784,29 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract float sdsdotK(int n, float sb, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  public float sdsdot(int n, float sb, FloatBuffer x, int incx, FloatBuffer y, int incy) {
+    if (debug) System.err.println("sdsdot");
+    return sdsdot(n, sb, x, 0, incx, y, 0, incy);
+  }
+
+  public float sdsdot(int n, float sb, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("sdsdot");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    return sdsdotK(n, sb, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected float sdsdotK(int n, float sb, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    return sdsdotK(n, sb, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy);
+  }
+
   public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
     if (debug) System.err.println("dgbmv");
     dgbmv(trans, m, n, kl, ku, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
@@ -251,6 +825,30 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
+  public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, DoubleBuffer a, int lda, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("dgbmv");
+    dgbmv(trans, m, n, kl, ku, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("dgbmv");
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.limit());
+    dgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + kl + ku + 1);
+    double[] arrayx = Buffers.array(x, offsetx, ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy) + 1);
+    dgbmvK(trans, m, n, kl, ku, alpha, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
     if (debug) System.err.println("sgbmv");
     sgbmv(trans, m, n, kl, ku, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
@@ -267,15 +865,68 @@ abstract class AbstractBLAS implements BLAS {
     sgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
   }
 
-  protected abstract void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+  protected abstract void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+
+  public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, FloatBuffer a, int lda, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy) {
+    if (debug) System.err.println("sgbmv");
+    sgbmv(trans, m, n, kl, ku, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("sgbmv");
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.limit());
+    sgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + kl + ku + 1);
+    float[] arrayx = Buffers.array(x, offsetx, ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy) + 1);
+    sgbmvK(trans, m, n, kl, ku, alpha, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc) {
+    if (debug) System.err.println("dgemm");
+    dgemm(transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  // c = alpha * a * b + beta * c
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    if (debug) System.err.println("dgemm");
+    checkArgument("DGEMM", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("DGEMM", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("DGEMM", 3, m >= 0);
+    checkArgument("DGEMM", 4, n >= 0);
+    checkArgument("DGEMM", 5, k >= 0);
+    checkArgument("DGEMM", 8, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("DGEMM", 10, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("DGEMM", 13, ldc >= Math.max(1, m));
+    if (m == 0 || n == 0 || ((alpha == 0.0 || k == 0) && beta == 1.0)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkIndex(offseta + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1)), a.length);
+    checkIndex(offsetb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1)), b.length);
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), c.length);
+    dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected abstract void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
 
-  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc) {
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, double beta, DoubleBuffer c, int ldc) {
     if (debug) System.err.println("dgemm");
     dgemm(transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
   }
 
-  // c = alpha * a * b + beta * c
-  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
     if (debug) System.err.println("dgemm");
     checkArgument("DGEMM", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
     checkArgument("DGEMM", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
@@ -291,13 +942,19 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(a);
     requireNonNull(b);
     requireNonNull(c);
-    checkIndex(offseta + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1)), a.length);
-    checkIndex(offsetb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1)), b.length);
-    checkIndex(offsetc + (n - 1) * ldc + (m - 1), c.length);
+    checkIndex(offseta + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1)), a.limit());
+    checkIndex(offsetb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1)), b.limit());
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), c.limit());
     dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
   }
 
-  protected abstract void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    double[] arraya = Buffers.array(a, offseta, lsame("N", transa) ? (k - 1) * lda + m : (m - 1) * lda + k);
+    double[] arrayb = Buffers.array(b, offsetb, lsame("N", transb) ? (n - 1) * ldb + k : (k - 1) * ldb + n);
+    double[] arrayc = Buffers.writableArray(c, offsetc, (n - 1) * ldc + m);
+    dgemmK(transa, transb, m, n, k, alpha, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, beta, arrayc, Buffers.offset(c, offsetc), ldc);
+    Buffers.release(c, offsetc, arrayc);
+  }
 
   public void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int ldc) {
     if (debug) System.err.println("sgemm");
@@ -329,6 +986,289 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void sgemmK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
 
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb, float beta, FloatBuffer c, int ldc) {
+    if (debug) System.err.println("sgemm");
+    sgemm(transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (debug) System.err.println("sgemm");
+    checkArgument("SGEMM", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("SGEMM", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("SGEMM", 3, m >= 0);
+    checkArgument("SGEMM", 4, n >= 0);
+    checkArgument("SGEMM", 5, k >= 0);
+    checkArgument("SGEMM", 8, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("SGEMM", 10, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("SGEMM", 13, ldc >= Math.max(1, m));
+    if (m == 0 || n == 0 || ((alpha == 0.0f || k == 0) && beta == 1.0f)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkIndex(offseta + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1)), a.limit());
+    checkIndex(offsetb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1)), b.limit());
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), c.limit());
+    sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    float[] arraya = Buffers.array(a, offseta, lsame("N", transa) ? (k - 1) * lda + m : (m - 1) * lda + k);
+    float[] arrayb = Buffers.array(b, offsetb, lsame("N", transb) ? (n - 1) * ldb + k : (k - 1) * ldb + n);
+    float[] arrayc = Buffers.writableArray(c, offsetc, (n - 1) * ldc + m);
+    sgemmK(transa, transb, m, n, k, alpha, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, beta, arrayc, Buffers.offset(c, offsetc), ldc);
+    Buffers.release(c, offsetc, arrayc);
+  }
+
+  // c[i] = alpha * a[i] * b[i] + beta * c[i] for i in [0, batchCount), where the matrices of the batch
+  // start at offsetsa[i], offsetsb[i], and offsetsc[i]. The c[i] must not overlap.
+  public void dgemmBatched(String transa, String transb, int m, int n, int k, double alpha, double[] a, int[] offsetsa, int lda, double[] b, int[] offsetsb, int ldb, double beta, double[] c, int[] offsetsc, int ldc, int batchCount) {
+    if (debug) System.err.println("dgemmBatched");
+    checkArgument("DGEMMBATCHED", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("DGEMMBATCHED", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("DGEMMBATCHED", 3, m >= 0);
+    checkArgument("DGEMMBATCHED", 4, n >= 0);
+    checkArgument("DGEMMBATCHED", 5, k >= 0);
+    checkArgument("DGEMMBATCHED", 9, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("DGEMMBATCHED", 12, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("DGEMMBATCHED", 16, ldc >= Math.max(1, m));
+    checkArgument("DGEMMBATCHED", 17, batchCount >= 0);
+    if (m == 0 || n == 0 || batchCount == 0 || ((alpha == 0.0 || k == 0) && beta == 1.0)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(offsetsa);
+    requireNonNull(b);
+    requireNonNull(offsetsb);
+    requireNonNull(c);
+    requireNonNull(offsetsc);
+    checkIndex(batchCount - 1, offsetsa.length);
+    checkIndex(batchCount - 1, offsetsb.length);
+    checkIndex(batchCount - 1, offsetsc.length);
+    int lasta = lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1);
+    int lastb = lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1);
+    int lastc = (n - 1) * ldc + (m - 1);
+    for (int i = 0; i < batchCount; i += 1) {
+      checkIndex(offsetsa[i], a.length);
+      checkIndex(offsetsa[i] + lasta, a.length);
+      checkIndex(offsetsb[i], b.length);
+      checkIndex(offsetsb[i] + lastb, b.length);
+      checkIndex(offsetsc[i], c.length);
+      checkIndex(offsetsc[i] + lastc, c.length);
+    }
+    dgemmBatchedK(transa, transb, m, n, k, alpha, a, offsetsa, lda, b, offsetsb, ldb, beta, c, offsetsc, ldc, batchCount);
+  }
+
+  protected void dgemmBatchedK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int[] offsetsa, int lda, double[] b, int[] offsetsb, int ldb, double beta, double[] c, int[] offsetsc, int ldc, int batchCount) {
+    for (int i = 0; i < batchCount; i += 1) {
+      dgemmK(transa, transb, m, n, k, alpha, a, offsetsa[i], lda, b, offsetsb[i], ldb, beta, c, offsetsc[i], ldc);
+    }
+  }
+
+  public void dgemmStridedBatched(String transa, String transb, int m, int n, int k, double alpha, double[] a, int lda, int stridea, double[] b, int ldb, int strideb, double beta, double[] c, int ldc, int stridec, int batchCount) {
+    if (debug) System.err.println("dgemmStridedBatched");
+    dgemmStridedBatched(transa, transb, m, n, k, alpha, a, 0, lda, stridea, b, 0, ldb, strideb, beta, c, 0, ldc, stridec, batchCount);
+  }
+
+  // c[i] = alpha * a[i] * b[i] + beta * c[i] for i in [0, batchCount), where the matrices of the batch
+  // start at offseta + i * stridea, offsetb + i * strideb, and offsetc + i * stridec. The c[i] must not overlap,
+  // so stridec must be at least (n - 1) * ldc + m when there is more than one of them.
+  public void dgemmStridedBatched(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, int stridea, double[] b, int offsetb, int ldb, int strideb, double beta, double[] c, int offsetc, int ldc, int stridec, int batchCount) {
+    if (debug) System.err.println("dgemmStridedBatched");
+    checkArgument("DGEMMSTRIDEDBATCHED", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("DGEMMSTRIDEDBATCHED", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("DGEMMSTRIDEDBATCHED", 3, m >= 0);
+    checkArgument("DGEMMSTRIDEDBATCHED", 4, n >= 0);
+    checkArgument("DGEMMSTRIDEDBATCHED", 5, k >= 0);
+    checkArgument("DGEMMSTRIDEDBATCHED", 8, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("DGEMMSTRIDEDBATCHED", 9, stridea >= 0);
+    checkArgument("DGEMMSTRIDEDBATCHED", 11, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("DGEMMSTRIDEDBATCHED", 12, strideb >= 0);
+    checkArgument("DGEMMSTRIDEDBATCHED", 15, ldc >= Math.max(1, m));
+    checkArgument("DGEMMSTRIDEDBATCHED", 16, stridec >= 0 && (batchCount <= 1 || stridec >= (n - 1) * ldc + m));
+    checkArgument("DGEMMSTRIDEDBATCHED", 17, batchCount >= 0);
+    if (m == 0 || n == 0 || batchCount == 0 || ((alpha == 0.0 || k == 0) && beta == 1.0)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkIndex(offseta, a.length);
+    checkIndex(offsetb, b.length);
+    checkIndex(offsetc, c.length);
+    checkIndex((int)Math.min(Integer.MAX_VALUE, offseta + (long)(batchCount - 1) * stridea + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1))), a.length);
+    checkIndex((int)Math.min(Integer.MAX_VALUE, offsetb + (long)(batchCount - 1) * strideb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1))), b.length);
+    checkIndex((int)Math.min(Integer.MAX_VALUE, offsetc + (long)(batchCount - 1) * stridec + (n - 1) * ldc + (m - 1)), c.length);
+    dgemmStridedBatchedK(transa, transb, m, n, k, alpha, a, offseta, lda, stridea, b, offsetb, ldb, strideb, beta, c, offsetc, ldc, stridec, batchCount);
+  }
+
+  protected void dgemmStridedBatchedK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, int stridea, double[] b, int offsetb, int ldb, int strideb, double beta, double[] c, int offsetc, int ldc, int stridec, int batchCount) {
+    for (int i = 0; i < batchCount; i += 1) {
+      dgemmK(transa, transb, m, n, k, alpha, a, offseta + i * stridea, lda, b, offsetb + i * strideb, ldb, beta, c, offsetc + i * stridec, ldc);
+    }
+  }
+
+  // c[i] = alpha * a[i] * b[i] + beta * c[i] for i in [0, batchCount), where the matrices of the batch
+  // start at offsetsa[i], offsetsb[i], and offsetsc[i]. The c[i] must not overlap.
+  public void sgemmBatched(String transa, String transb, int m, int n, int k, float alpha, float[] a, int[] offsetsa, int lda, float[] b, int[] offsetsb, int ldb, float beta, float[] c, int[] offsetsc, int ldc, int batchCount) {
+    if (debug) System.err.println("sgemmBatched");
+    checkArgument("SGEMMBATCHED", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("SGEMMBATCHED", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("SGEMMBATCHED", 3, m >= 0);
+    checkArgument("SGEMMBATCHED", 4, n >= 0);
+    checkArgument("SGEMMBATCHED", 5, k >= 0);
+    checkArgument("SGEMMBATCHED", 9, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("SGEMMBATCHED", 12, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("SGEMMBATCHED", 16, ldc >= Math.max(1, m));
+    checkArgument("SGEMMBATCHED", 17, batchCount >= 0);
+    if (m == 0 || n == 0 || batchCount == 0 || ((alpha == 0.0f || k == 0) && beta == 1.0f)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(offsetsa);
+    requireNonNull(b);
+    requireNonNull(offsetsb);
+    requireNonNull(c);
+    requireNonNull(offsetsc);
+    checkIndex(batchCount - 1, offsetsa.length);
+    checkIndex(batchCount - 1, offsetsb.length);
+    checkIndex(batchCount - 1, offsetsc.length);
+    int lasta = lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1);
+    int lastb = lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1);
+    int lastc = (n - 1) * ldc + (m - 1);
+    for (int i = 0; i < batchCount; i += 1) {
+      checkIndex(offsetsa[i], a.length);
+      checkIndex(offsetsa[i] + lasta, a.length);
+      checkIndex(offsetsb[i], b.length);
+      checkIndex(offsetsb[i] + lastb, b.length);
+      checkIndex(offsetsc[i], c.length);
+      checkIndex(offsetsc[i] + lastc, c.length);
+    }
+    sgemmBatchedK(transa, transb, m, n, k, alpha, a, offsetsa, lda, b, offsetsb, ldb, beta, c, offsetsc, ldc, batchCount);
+  }
+
+  protected void sgemmBatchedK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int[] offsetsa, int lda, float[] b, int[] offsetsb, int ldb, float beta, float[] c, int[] offsetsc, int ldc, int batchCount) {
+    for (int i = 0; i < batchCount; i += 1) {
+      sgemmK(transa, transb, m, n, k, alpha, a, offsetsa[i], lda, b, offsetsb[i], ldb, beta, c, offsetsc[i], ldc);
+    }
+  }
+
+  public void sgemmStridedBatched(String transa, String transb, int m, int n, int k, float alpha, float[] a, int lda, int stridea, float[] b, int ldb, int strideb, float beta, float[] c, int ldc, int stridec, int batchCount) {
+    if (debug) System.err.println("sgemmStridedBatched");
+    sgemmStridedBatched(transa, transb, m, n, k, alpha, a, 0, lda, stridea, b, 0, ldb, strideb, beta, c, 0, ldc, stridec, batchCount);
+  }
+
+  // c[i] = alpha * a[i] * b[i] + beta * c[i] for i in [0, batchCount), where the matrices of the batch
+  // start at offseta + i * stridea, offsetb + i * strideb, and offsetc + i * stridec. The c[i] must not overlap,
+  // so stridec must be at least (n - 1) * ldc + m when there is more than one of them.
+  public void sgemmStridedBatched(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, int stridea, float[] b, int offsetb, int ldb, int strideb, float beta, float[] c, int offsetc, int ldc, int stridec, int batchCount) {
+    if (debug) System.err.println("sgemmStridedBatched");
+    checkArgument("SGEMMSTRIDEDBATCHED", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("SGEMMSTRIDEDBATCHED", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("SGEMMSTRIDEDBATCHED", 3, m >= 0);
+    checkArgument("SGEMMSTRIDEDBATCHED", 4, n >= 0);
+    checkArgument("SGEMMSTRIDEDBATCHED", 5, k >= 0);
+    checkArgument("SGEMMSTRIDEDBATCHED", 8, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("SGEMMSTRIDEDBATCHED", 9, stridea >= 0);
+    checkArgument("SGEMMSTRIDEDBATCHED", 11, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("SGEMMSTRIDEDBATCHED", 12, strideb >= 0);
+    checkArgument("SGEMMSTRIDEDBATCHED", 15, ldc >= Math.max(1, m));
+    checkArgument("SGEMMSTRIDEDBATCHED", 16, stridec >= 0 && (batchCount <= 1 || stridec >= (n - 1) * ldc + m));
+    checkArgument("SGEMMSTRIDEDBATCHED", 17, batchCount >= 0);
+    if (m == 0 || n == 0 || batchCount == 0 || ((alpha == 0.0f || k == 0) && beta == 1.0f)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkIndex(offseta, a.length);
+    checkIndex(offsetb, b.length);
+    checkIndex(offsetc, c.length);
+    checkIndex((int)Math.min(Integer.MAX_VALUE, offseta + (long)(batchCount - 1) * stridea + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1))), a.length);
+    checkIndex((int)Math.min(Integer.MAX_VALUE, offsetb + (long)(batchCount - 1) * strideb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1))), b.length);
+    checkIndex((int)Math.min(Integer.MAX_VALUE, offsetc + (long)(batchCount - 1) * stridec + (n - 1) * ldc + (m - 1)), c.length);
+    sgemmStridedBatchedK(transa, transb, m, n, k, alpha, a, offseta, lda, stridea, b, offsetb, ldb, strideb, beta, c, offsetc, ldc, stridec, batchCount);
+  }
+
+  protected void sgemmStridedBatchedK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, int stridea, float[] b, int offsetb, int ldb, int strideb, float beta, float[] c, int offsetc, int ldc, int stridec, int batchCount) {
+    for (int i = 0; i < batchCount; i += 1) {
+      sgemmK(transa, transb, m, n, k, alpha, a, offseta + i * stridea, lda, b, offsetb + i * strideb, ldb, beta, c, offsetc + i * stridec, ldc);
+    }
+  }
+
+  public void hgemm(String transa, String transb, int m, int n, int k, float alpha, short[] a, int lda, short[] b, int ldb, float beta, float[] c, int ldc) {
+    if (debug) System.err.println("hgemm");
+    hgemm(transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  // c = alpha * a * b + beta * c, where a and b hold IEEE 754 half-precision values and the products are accumulated in float
+  public void hgemm(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    if (debug) System.err.println("hgemm");
+    checkArgument("HGEMM", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("HGEMM", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("HGEMM", 3, m >= 0);
+    checkArgument("HGEMM", 4, n >= 0);
+    checkArgument("HGEMM", 5, k >= 0);
+    checkArgument("HGEMM", 8, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("HGEMM", 10, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("HGEMM", 13, ldc >= Math.max(1, m));
+    if (m == 0 || n == 0 || ((alpha == 0.0f || k == 0) && beta == 1.0f)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkIndex(offseta + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1)), a.length);
+    checkIndex(offsetb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1)), b.length);
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), c.length);
+    hgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void hgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    gemm16K(false, transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  public void bgemm(String transa, String transb, int m, int n, int k, float alpha, short[] a, int lda, short[] b, int ldb, float beta, float[] c, int ldc) {
+    if (debug) System.err.println("bgemm");
+    bgemm(transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  // c = alpha * a * b + beta * c, where a and b hold bfloat16 values and the products are accumulated in float
+  public void bgemm(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    if (debug) System.err.println("bgemm");
+    checkArgument("BGEMM", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("BGEMM", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("BGEMM", 3, m >= 0);
+    checkArgument("BGEMM", 4, n >= 0);
+    checkArgument("BGEMM", 5, k >= 0);
+    checkArgument("BGEMM", 8, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("BGEMM", 10, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("BGEMM", 13, ldc >= Math.max(1, m));
+    if (m == 0 || n == 0 || ((alpha == 0.0f || k == 0) && beta == 1.0f)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkIndex(offseta + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1)), a.length);
+    checkIndex(offsetb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1)), b.length);
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), c.length);
+    bgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void bgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    gemm16K(true, transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  // Converts the referenced parts of a and b to float, and goes through sgemmK
+  private void gemm16K(boolean bfloat16, String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    int lengtha = Math.max(0, lsame("N", transa) ? (k - 1) * lda + m : (m - 1) * lda + k);
+    int lengthb = Math.max(0, lsame("N", transb) ? (n - 1) * ldb + k : (k - 1) * ldb + n);
+    sgemmK(transa, transb, m, n, k, alpha, Float16.toFloat(a, offseta, lengtha, bfloat16), 0, lda,
+           Float16.toFloat(b, offsetb, lengthb, bfloat16), 0, ldb, beta, c, offsetc, ldc);
+  }
+
   public void dgemv(String trans, int m, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
     if (debug) System.err.println("dgemv");
     dgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
@@ -357,6 +1297,39 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dgemvK(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
+  public void dgemv(String trans, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("dgemv");
+    dgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void dgemv(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("dgemv");
+    checkArgument("DGEMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DGEMV", 2, m >= 0);
+    checkArgument("DGEMV", 3, n >= 0);
+    checkArgument("DGEMV", 6, lda >= Math.max(1, m));
+    checkArgument("DGEMV", 8, incx != 0);
+    checkArgument("DGEMV", 11, incy != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.limit());
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.limit());
+    dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgemvK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + m);
+    double[] arrayx = Buffers.array(x, offsetx, ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy) + 1);
+    dgemvK(trans, m, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void sgemv(String trans, int m, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
     if (debug) System.err.println("sgemv");
     sgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
@@ -385,6 +1358,262 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void sgemvK(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
+  public void sgemv(String trans, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy) {
+    if (debug) System.err.println("sgemv");
+    sgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void sgemv(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("sgemv");
+    checkArgument("SGEMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("SGEMV", 2, m >= 0);
+    checkArgument("SGEMV", 3, n >= 0);
+    checkArgument("SGEMV", 6, lda >= Math.max(1, m));
+    checkArgument("SGEMV", 8, incx != 0);
+    checkArgument("SGEMV", 11, incy != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.limit());
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.limit());
+    sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sgemvK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + m);
+    float[] arrayx = Buffers.array(x, offsetx, ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy) + 1);
+    sgemvK(trans, m, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
+  public void dgemv2(String trans, int m, int n, double alpha, double[] a, int lda, double[] x1, int incx1, double[] x2, int incx2, double beta, double[] y1, int incy1, double[] y2, int incy2) {
+    if (debug) System.err.println("dgemv2");
+    dgemv2(trans, m, n, alpha, a, 0, lda, x1, 0, incx1, x2, 0, incx2, beta, y1, 0, incy1, y2, 0, incy2);
+  }
+
+  // y1 = alpha * A * x1 + beta * y1 and y2 = alpha * A * x2 + beta * y2. y1 and y2 must not overlap.
+  public void dgemv2(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x1, int offsetx1, int incx1, double[] x2, int offsetx2, int incx2, double beta, double[] y1, int offsety1, int incy1, double[] y2, int offsety2, int incy2) {
+    if (debug) System.err.println("dgemv2");
+    checkArgument("DGEMV2", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DGEMV2", 2, m >= 0);
+    checkArgument("DGEMV2", 3, n >= 0);
+    checkArgument("DGEMV2", 6, lda >= Math.max(1, m));
+    checkArgument("DGEMV2", 8, incx1 != 0);
+    checkArgument("DGEMV2", 10, incx2 != 0);
+    checkArgument("DGEMV2", 13, incy1 != 0);
+    checkArgument("DGEMV2", 15, incy2 != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x1);
+    requireNonNull(x2);
+    requireNonNull(y1);
+    requireNonNull(y2);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
+    checkIndex(offsetx1 + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx1), x1.length);
+    checkIndex(offsetx2 + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx2), x2.length);
+    checkIndex(offsety1 + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy1), y1.length);
+    checkIndex(offsety2 + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy2), y2.length);
+    dgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+  }
+
+  protected void dgemv2K(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x1, int offsetx1, int incx1, double[] x2, int offsetx2, int incx2, double beta, double[] y1, int offsety1, int incy1, double[] y2, int offsety2, int incy2) {
+    dgemvK(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, beta, y1, offsety1, incy1);
+    dgemvK(trans, m, n, alpha, a, offseta, lda, x2, offsetx2, incx2, beta, y2, offsety2, incy2);
+  }
+
+  public void dgemv2(String trans, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer x1, int incx1, DoubleBuffer x2, int incx2, double beta, DoubleBuffer y1, int incy1, DoubleBuffer y2, int incy2) {
+    if (debug) System.err.println("dgemv2");
+    dgemv2(trans, m, n, alpha, a, 0, lda, x1, 0, incx1, x2, 0, incx2, beta, y1, 0, incy1, y2, 0, incy2);
+  }
+
+  public void dgemv2(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x1, int offsetx1, int incx1, DoubleBuffer x2, int offsetx2, int incx2, double beta, DoubleBuffer y1, int offsety1, int incy1, DoubleBuffer y2, int offsety2, int incy2) {
+    if (debug) System.err.println("dgemv2");
+    checkArgument("DGEMV2", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DGEMV2", 2, m >= 0);
+    checkArgument("DGEMV2", 3, n >= 0);
+    checkArgument("DGEMV2", 6, lda >= Math.max(1, m));
+    checkArgument("DGEMV2", 8, incx1 != 0);
+    checkArgument("DGEMV2", 10, incx2 != 0);
+    checkArgument("DGEMV2", 13, incy1 != 0);
+    checkArgument("DGEMV2", 15, incy2 != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x1);
+    requireNonNull(x2);
+    requireNonNull(y1);
+    requireNonNull(y2);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.limit());
+    checkIndex(offsetx1 + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx1), x1.limit());
+    checkIndex(offsetx2 + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx2), x2.limit());
+    checkIndex(offsety1 + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy1), y1.limit());
+    checkIndex(offsety2 + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy2), y2.limit());
+    dgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+  }
+
+  protected void dgemv2K(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x1, int offsetx1, int incx1, DoubleBuffer x2, int offsetx2, int incx2, double beta, DoubleBuffer y1, int offsety1, int incy1, DoubleBuffer y2, int offsety2, int incy2) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + m);
+    double[] arrayx1 = Buffers.array(x1, offsetx1, ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx1) + 1);
+    double[] arrayx2 = Buffers.array(x2, offsetx2, ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx2) + 1);
+    double[] arrayy1 = Buffers.writableArray(y1, offsety1, ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy1) + 1);
+    double[] arrayy2 = Buffers.writableArray(y2, offsety2, ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy2) + 1);
+    dgemv2K(trans, m, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayx1, Buffers.offset(x1, offsetx1), incx1, arrayx2, Buffers.offset(x2, offsetx2), incx2, beta, arrayy1, Buffers.offset(y1, offsety1), incy1, arrayy2, Buffers.offset(y2, offsety2), incy2);
+    Buffers.release(y1, offsety1, arrayy1);
+    Buffers.release(y2, offsety2, arrayy2);
+  }
+
+  public void sgemv2(String trans, int m, int n, float alpha, float[] a, int lda, float[] x1, int incx1, float[] x2, int incx2, float beta, float[] y1, int incy1, float[] y2, int incy2) {
+    if (debug) System.err.println("sgemv2");
+    sgemv2(trans, m, n, alpha, a, 0, lda, x1, 0, incx1, x2, 0, incx2, beta, y1, 0, incy1, y2, 0, incy2);
+  }
+
+  // y1 = alpha * A * x1 + beta * y1 and y2 = alpha * A * x2 + beta * y2. y1 and y2 must not overlap.
+  public void sgemv2(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x1, int offsetx1, int incx1, float[] x2, int offsetx2, int incx2, float beta, float[] y1, int offsety1, int incy1, float[] y2, int offsety2, int incy2) {
+    if (debug) System.err.println("sgemv2");
+    checkArgument("SGEMV2", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("SGEMV2", 2, m >= 0);
+    checkArgument("SGEMV2", 3, n >= 0);
+    checkArgument("SGEMV2", 6, lda >= Math.max(1, m));
+    checkArgument("SGEMV2", 8, incx1 != 0);
+    checkArgument("SGEMV2", 10, incx2 != 0);
+    checkArgument("SGEMV2", 13, incy1 != 0);
+    checkArgument("SGEMV2", 15, incy2 != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x1);
+    requireNonNull(x2);
+    requireNonNull(y1);
+    requireNonNull(y2);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
+    checkIndex(offsetx1 + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx1), x1.length);
+    checkIndex(offsetx2 + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx2), x2.length);
+    checkIndex(offsety1 + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy1), y1.length);
+    checkIndex(offsety2 + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy2), y2.length);
+    sgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+  }
+
+  protected void sgemv2K(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x1, int offsetx1, int incx1, float[] x2, int offsetx2, int incx2, float beta, float[] y1, int offsety1, int incy1, float[] y2, int offsety2, int incy2) {
+    sgemvK(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, beta, y1, offsety1, incy1);
+    sgemvK(trans, m, n, alpha, a, offseta, lda, x2, offsetx2, incx2, beta, y2, offsety2, incy2);
+  }
+
+  public void sgemv2(String trans, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer x1, int incx1, FloatBuffer x2, int incx2, float beta, FloatBuffer y1, int incy1, FloatBuffer y2, int incy2) {
+    if (debug) System.err.println("sgemv2");
+    sgemv2(trans, m, n, alpha, a, 0, lda, x1, 0, incx1, x2, 0, incx2, beta, y1, 0, incy1, y2, 0, incy2);
+  }
+
+  public void sgemv2(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x1, int offsetx1, int incx1, FloatBuffer x2, int offsetx2, int incx2, float beta, FloatBuffer y1, int offsety1, int incy1, FloatBuffer y2, int offsety2, int incy2) {
+    if (debug) System.err.println("sgemv2");
+    checkArgument("SGEMV2", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("SGEMV2", 2, m >= 0);
+    checkArgument("SGEMV2", 3, n >= 0);
+    checkArgument("SGEMV2", 6, lda >= Math.max(1, m));
+    checkArgument("SGEMV2", 8, incx1 != 0);
+    checkArgument("SGEMV2", 10, incx2 != 0);
+    checkArgument("SGEMV2", 13, incy1 != 0);
+    checkArgument("SGEMV2", 15, incy2 != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x1);
+    requireNonNull(x2);
+    requireNonNull(y1);
+    requireNonNull(y2);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.limit());
+    checkIndex(offsetx1 + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx1), x1.limit());
+    checkIndex(offsetx2 + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx2), x2.limit());
+    checkIndex(offsety1 + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy1), y1.limit());
+    checkIndex(offsety2 + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy2), y2.limit());
+    sgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+  }
+
+  protected void sgemv2K(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x1, int offsetx1, int incx1, FloatBuffer x2, int offsetx2, int incx2, float beta, FloatBuffer y1, int offsety1, int incy1, FloatBuffer y2, int offsety2, int incy2) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + m);
+    float[] arrayx1 = Buffers.array(x1, offsetx1, ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx1) + 1);
+    float[] arrayx2 = Buffers.array(x2, offsetx2, ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx2) + 1);
+    float[] arrayy1 = Buffers.writableArray(y1, offsety1, ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy1) + 1);
+    float[] arrayy2 = Buffers.writableArray(y2, offsety2, ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy2) + 1);
+    sgemv2K(trans, m, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayx1, Buffers.offset(x1, offsetx1), incx1, arrayx2, Buffers.offset(x2, offsetx2), incx2, beta, arrayy1, Buffers.offset(y1, offsety1), incy1, arrayy2, Buffers.offset(y2, offsety2), incy2);
+    Buffers.release(y1, offsety1, arrayy1);
+    Buffers.release(y2, offsety2, arrayy2);
+  }
+
+  public void hgemv(String trans, int m, int n, float alpha, short[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    if (debug) System.err.println("hgemv");
+    hgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  // y = alpha * A * x + beta * y, where A holds IEEE 754 half-precision values and the products are accumulated in float
+  public void hgemv(String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (debug) System.err.println("hgemv");
+    checkArgument("HGEMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("HGEMV", 2, m >= 0);
+    checkArgument("HGEMV", 3, n >= 0);
+    checkArgument("HGEMV", 6, lda >= Math.max(1, m));
+    checkArgument("HGEMV", 8, incx != 0);
+    checkArgument("HGEMV", 11, incy != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.length);
+    hgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void hgemvK(String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    gemv16K(false, trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  public void bgemv(String trans, int m, int n, float alpha, short[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
+    if (debug) System.err.println("bgemv");
+    bgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  // y = alpha * A * x + beta * y, where A holds bfloat16 values and the products are accumulated in float
+  public void bgemv(String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (debug) System.err.println("bgemv");
+    checkArgument("BGEMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("BGEMV", 2, m >= 0);
+    checkArgument("BGEMV", 3, n >= 0);
+    checkArgument("BGEMV", 6, lda >= Math.max(1, m));
+    checkArgument("BGEMV", 8, incx != 0);
+    checkArgument("BGEMV", 11, incy != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), a.length);
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), y.length);
+    bgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void bgemvK(String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    gemv16K(true, trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  // Converts the referenced part of a to float, and goes through sgemvK
+  private void gemv16K(boolean bfloat16, String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    sgemvK(trans, m, n, alpha, Float16.toFloat(a, offseta, (n - 1) * lda + m, bfloat16), 0, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
   // A += alpha * x * y.t
   public void dger(int m, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda) {
     if (debug) System.err.println("dger");
@@ -414,6 +1643,40 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
 
+  public void dger(int m, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer a, int lda) {
+    if (debug) System.err.println("dger");
+    dger(m, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
+  }
+
+  public void dger(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    if (debug) System.err.println("dger");
+    checkArgument("DGER", 1, m >= 0);
+    checkArgument("DGER", 2, n >= 0);
+    checkArgument("DGER", 5, incx != 0);
+    checkArgument("DGER", 7, incy != 0);
+    checkArgument("DGER", 9, lda >= Math.max(1, m));
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(a);
+    checkIndex(offsetx + (m - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offseta + n * lda - 1, a.limit());
+    if (alpha != 0.0) {
+      dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  protected void dgerK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    double[] arrayx = Buffers.array(x, offsetx, (m - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    dgerK(m, n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arraya, Buffers.offset(a, offseta), lda);
+    Buffers.release(a, offseta, arraya);
+  }
+
   public void sger(int m, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda) {
     if (debug) System.err.println("sger");
     sger(m, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
@@ -440,7 +1703,41 @@ abstract class AbstractBLAS implements BLAS {
     }
   }
 
-  protected abstract void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
+  protected abstract void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
+
+  public void sger(int m, int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer a, int lda) {
+    if (debug) System.err.println("sger");
+    sger(m, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
+  }
+
+  public void sger(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    if (debug) System.err.println("sger");
+    checkArgument("SGER", 1, m >= 0);
+    checkArgument("SGER", 2, n >= 0);
+    checkArgument("SGER", 5, incx != 0);
+    checkArgument("SGER", 7, incy != 0);
+    checkArgument("SGER", 9, lda >= Math.max(1, m));
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(a);
+    checkIndex(offsetx + (m - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offseta + n * lda - 1, a.limit());
+    if (alpha != 0.0f) {
+      sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  protected void sgerK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    float[] arrayx = Buffers.array(x, offsetx, (m - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    sgerK(m, n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arraya, Buffers.offset(a, offseta), lda);
+    Buffers.release(a, offseta, arraya);
+  }
 
   public double dnrm2(int n, double[] x, int incx) {
     if (debug) System.err.println("dnrm2");
@@ -465,6 +1762,32 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract double dnrm2K(int n, double[] x, int offsetx, int incx);
 
+  public double dnrm2(int n, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dnrm2");
+    return dnrm2(n, x, 0, incx);
+  }
+
+  public double dnrm2(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dnrm2");
+    if (n <= 0) {
+      return 0.0;
+    }
+    if (incx <= 0) {
+      return 0.0;
+    }
+    if (n == 1) {
+      return Math.abs(x.get(offsetx + 0));
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    return dnrm2K(n, x, offsetx, incx);
+  }
+
+  protected double dnrm2K(int n, DoubleBuffer x, int offsetx, int incx) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    return dnrm2K(n, arrayx, Buffers.offset(x, offsetx), incx);
+  }
+
   public float snrm2(int n, float[] x, int incx) {
     if (debug) System.err.println("snrm2");
     return snrm2(n, x, 0, incx);
@@ -488,6 +1811,32 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract float snrm2K(int n, float[] x, int offsetx, int incx);
 
+  public float snrm2(int n, FloatBuffer x, int incx) {
+    if (debug) System.err.println("snrm2");
+    return snrm2(n, x, 0, incx);
+  }
+
+  public float snrm2(int n, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("snrm2");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    if (incx <= 0) {
+      return 0.0f;
+    }
+    if (n == 1) {
+      return Math.abs(x.get(offsetx + 0));
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    return snrm2K(n, x, offsetx, incx);
+  }
+
+  protected float snrm2K(int n, FloatBuffer x, int offsetx, int incx) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    return snrm2K(n, arrayx, Buffers.offset(x, offsetx), incx);
+  }
+
   public void drot(int n, double[] x, int incx, double[] y, int incy, double c, double s) {
     if (debug) System.err.println("drot");
     drot(n, x, 0, incx, y, 0, incy, c, s);
@@ -507,6 +1856,31 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void drotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double c, double s);
 
+  public void drot(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy, double c, double s) {
+    if (debug) System.err.println("drot");
+    drot(n, x, 0, incx, y, 0, incy, c, s);
+  }
+
+  public void drot(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, double c, double s) {
+    if (debug) System.err.println("drot");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    drotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+  }
+
+  protected void drotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, double c, double s) {
+    double[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    drotK(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, c, s);
+    Buffers.release(x, offsetx, arrayx);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void srot(int n, float[] x, int incx, float[] y, int incy, float c, float s) {
     if (debug) System.err.println("srot");
     srot(n, x, 0, incx, y, 0, incy, c, s);
@@ -526,6 +1900,31 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void srotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float c, float s);
 
+  public void srot(int n, FloatBuffer x, int incx, FloatBuffer y, int incy, float c, float s) {
+    if (debug) System.err.println("srot");
+    srot(n, x, 0, incx, y, 0, incy, c, s);
+  }
+
+  public void srot(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, float c, float s) {
+    if (debug) System.err.println("srot");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    srotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+  }
+
+  protected void srotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, float c, float s) {
+    float[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    srotK(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, c, s);
+    Buffers.release(x, offsetx, arrayx);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void drotg(org.netlib.util.doubleW da, org.netlib.util.doubleW db, org.netlib.util.doubleW c, org.netlib.util.doubleW s) {
     if (debug) System.err.println("drotg");
     double scale = Math.abs(da.val) + Math.abs(db.val);
@@ -592,6 +1991,30 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void drotmK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] param, int offsetparam);
 
+  public void drotm(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer param) {
+    if (debug) System.err.println("drotm");
+    drotm(n, x, 0, incx, y, 0, incy, param, 0);
+  }
+
+  public void drotm(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer param, int offsetparam) {
+    if (debug) System.err.println("drotm");
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(param);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offsetparam + 4, param.limit()); /* param.limit() == 5 */
+    drotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+  }
+
+  protected void drotmK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer param, int offsetparam) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    double[] arrayparam = Buffers.array(param, offsetparam, 5);
+    drotmK(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arrayparam, Buffers.offset(param, offsetparam));
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void srotm(int n, float[] x, int incx, float[] y, int incy, float[] param) {
     if (debug) System.err.println("srotm");
     srotm(n, x, 0, incx, y, 0, incy, param, 0);
@@ -610,6 +2033,30 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void srotmK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] param, int offsetparam);
 
+  public void srotm(int n, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer param) {
+    if (debug) System.err.println("srotm");
+    srotm(n, x, 0, incx, y, 0, incy, param, 0);
+  }
+
+  public void srotm(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer param, int offsetparam) {
+    if (debug) System.err.println("srotm");
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(param);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offsetparam + 4, param.limit()); /* param.limit() == 5 */
+    srotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+  }
+
+  protected void srotmK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer param, int offsetparam) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    float[] arrayparam = Buffers.array(param, offsetparam, 5);
+    srotmK(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arrayparam, Buffers.offset(param, offsetparam));
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] param) {
     if (debug) System.err.println("drotmg");
     drotmg(dd1, dd2, dx1, dy1, param, 0);
@@ -627,6 +2074,27 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] param, int offsetparam);
 
+  public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, DoubleBuffer param) {
+    if (debug) System.err.println("drotmg");
+    drotmg(dd1, dd2, dx1, dy1, param, 0);
+  }
+
+  public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, DoubleBuffer param, int offsetparam) {
+    if (debug) System.err.println("drotmg");
+    requireNonNull(dd1);
+    requireNonNull(dd2);
+    requireNonNull(dx1);
+    requireNonNull(param);
+    checkIndex(offsetparam + 4, param.limit());
+    drotmgK(dd1, dd2, dx1, dy1, param, offsetparam);
+  }
+
+  protected void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, DoubleBuffer param, int offsetparam) {
+    double[] arrayparam = Buffers.writableArray(param, offsetparam, 5);
+    drotmgK(dd1, dd2, dx1, dy1, arrayparam, Buffers.offset(param, offsetparam));
+    Buffers.release(param, offsetparam, arrayparam);
+  }
+
   public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] param) {
     if (debug) System.err.println("srotmg");
     srotmg(sd1, sd2, sx1, sy1, param, 0);
@@ -644,6 +2112,27 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] param, int offsetparam);
 
+  public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, FloatBuffer param) {
+    if (debug) System.err.println("srotmg");
+    srotmg(sd1, sd2, sx1, sy1, param, 0);
+  }
+
+  public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, FloatBuffer param, int offsetparam) {
+    if (debug) System.err.println("srotmg");
+    requireNonNull(sd1);
+    requireNonNull(sd2);
+    requireNonNull(sx1);
+    requireNonNull(param);
+    checkIndex(offsetparam + 4, param.limit());
+    srotmgK(sd1, sd2, sx1, sy1, param, offsetparam);
+  }
+
+  protected void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, FloatBuffer param, int offsetparam) {
+    float[] arrayparam = Buffers.writableArray(param, offsetparam, 5);
+    srotmgK(sd1, sd2, sx1, sy1, arrayparam, Buffers.offset(param, offsetparam));
+    Buffers.release(param, offsetparam, arrayparam);
+  }
+
   public void dsbmv(String uplo, int n, int k, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
     if (debug) System.err.println("dsbmv");
     dsbmv(uplo, n, k, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
@@ -662,6 +2151,30 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dsbmvK(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
+  public void dsbmv(String uplo, int n, int k, double alpha, DoubleBuffer a, int lda, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("dsbmv");
+    dsbmv(uplo, n, k, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void dsbmv(String uplo, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("dsbmv");
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    dsbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dsbmvK(String uplo, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + k + 1);
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    dsbmvK(uplo, n, k, alpha, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void ssbmv(String uplo, int n, int k, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
     if (debug) System.err.println("ssbmv");
     ssbmv(uplo, n, k, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
@@ -680,6 +2193,30 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void ssbmvK(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
+  public void ssbmv(String uplo, int n, int k, float alpha, FloatBuffer a, int lda, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy) {
+    if (debug) System.err.println("ssbmv");
+    ssbmv(uplo, n, k, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void ssbmv(String uplo, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("ssbmv");
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    ssbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void ssbmvK(String uplo, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + k + 1);
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    ssbmvK(uplo, n, k, alpha, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void dscal(int n, double alpha, double[] x, int incx) {
     if (debug) System.err.println("dscal");
     dscal(n, alpha, x, 0, incx);
@@ -704,6 +2241,33 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dscalK(int n, double alpha, double[] x, int offsetx, int incx);
 
+  public void dscal(int n, double alpha, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dscal");
+    dscal(n, alpha, x, 0, incx);
+  }
+
+  public void dscal(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dscal");
+    if (n <= 0) {
+      return;
+    }
+    if (incx <= 0) {
+      return;
+    }
+    if (alpha == 1.0) {
+      return;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    dscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void dscalK(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    double[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    dscalK(n, alpha, arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void sscal(int n, float alpha, float[] x, int incx) {
     if (debug) System.err.println("sscal");
     sscal(n, alpha, x, 0, incx);
@@ -728,6 +2292,33 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void sscalK(int n, float alpha, float[] x, int offsetx, int incx);
 
+  public void sscal(int n, float alpha, FloatBuffer x, int incx) {
+    if (debug) System.err.println("sscal");
+    sscal(n, alpha, x, 0, incx);
+  }
+
+  public void sscal(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("sscal");
+    if (n <= 0) {
+      return;
+    }
+    if (incx <= 0) {
+      return;
+    }
+    if (alpha == 1.0f) {
+      return;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    sscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void sscalK(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    float[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    sscalK(n, alpha, arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void dspmv(String uplo, int n, double alpha, double[] a, double[] x, int incx, double beta, double[] y, int incy) {
     if (debug) System.err.println("dspmv");
     dspmv(uplo, n, alpha, a, 0, x, 0, incx, beta, y, 0, incy);
@@ -754,6 +2345,37 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dspmvK(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
+  public void dspmv(String uplo, int n, double alpha, DoubleBuffer a, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("dspmv");
+    dspmv(uplo, n, alpha, a, 0, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void dspmv(String uplo, int n, double alpha, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("dspmv");
+    checkArgument("DSPMV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSPMV", 2, n >= 0);
+    checkArgument("DSPMV", 6, incx != 0);
+    checkArgument("DSPMV", 9, incy != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + (n * (n + 1) / 2) - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    dspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dspmvK(String uplo, int n, double alpha, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    double[] arraya = Buffers.array(a, offseta, n * (n + 1) / 2);
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    dspmvK(uplo, n, alpha, arraya, Buffers.offset(a, offseta), arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void sspmv(String uplo, int n, float alpha, float[] a, float[] x, int incx, float beta, float[] y, int incy) {
     if (debug) System.err.println("sspmv");
     sspmv(uplo, n, alpha, a, 0, x, 0, incx, beta, y, 0, incy);
@@ -770,22 +2392,75 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    requireNonNull(y);
-    checkIndex(offseta + (n * (n + 1) / 2) - 1, a.length);
+    requireNonNull(y);
+    checkIndex(offseta + (n * (n + 1) / 2) - 1, a.length);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    sspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected abstract void sspmvK(String uplo, int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+
+  public void sspmv(String uplo, int n, float alpha, FloatBuffer a, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy) {
+    if (debug) System.err.println("sspmv");
+    sspmv(uplo, n, alpha, a, 0, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void sspmv(String uplo, int n, float alpha, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("sspmv");
+    checkArgument("SSPMV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSPMV", 2, n >= 0);
+    checkArgument("SSPMV", 6, incx != 0);
+    checkArgument("SSPMV", 9, incy != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + (n * (n + 1) / 2) - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    sspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sspmvK(String uplo, int n, float alpha, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    float[] arraya = Buffers.array(a, offseta, n * (n + 1) / 2);
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    sspmvK(uplo, n, alpha, arraya, Buffers.offset(a, offseta), arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
+  public void dspr(String uplo, int n, double alpha, double[] x, int incx, double[] a) {
+    if (debug) System.err.println("dspr");
+    dspr(uplo, n, alpha, x, 0, incx, a, 0);
+  }
+
+  // a += alpha * x * x.t
+  public void dspr(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
+    if (debug) System.err.println("dspr");
+    checkArgument("DSPR", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSPR", 2, n >= 0);
+    checkArgument("DSPR", 5, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(a);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    sspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    checkIndex(offseta + (n * (n + 1) / 2) - 1, a.length);
+    dsprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
   }
 
-  protected abstract void sspmvK(String uplo, int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+  protected abstract void dsprK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta);
 
-  public void dspr(String uplo, int n, double alpha, double[] x, int incx, double[] a) {
+  public void dspr(String uplo, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer a) {
     if (debug) System.err.println("dspr");
     dspr(uplo, n, alpha, x, 0, incx, a, 0);
   }
 
-  // a += alpha * x * x.t
-  public void dspr(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
+  public void dspr(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta) {
     if (debug) System.err.println("dspr");
     checkArgument("DSPR", 1, lsame("U", uplo) || lsame("L", uplo));
     checkArgument("DSPR", 2, n >= 0);
@@ -795,12 +2470,17 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(x);
     requireNonNull(a);
-    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    checkIndex(offseta + (n * (n + 1) / 2) - 1, a.length);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offseta + (n * (n + 1) / 2) - 1, a.limit());
     dsprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
   }
 
-  protected abstract void dsprK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta);
+  protected void dsprK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arraya = Buffers.writableArray(a, offseta, n * (n + 1) / 2);
+    dsprK(uplo, n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arraya, Buffers.offset(a, offseta));
+    Buffers.release(a, offseta, arraya);
+  }
 
   public void sspr(String uplo, int n, float alpha, float[] x, int incx, float[] a) {
     if (debug) System.err.println("sspr");
@@ -825,6 +2505,33 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void ssprK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta);
 
+  public void sspr(String uplo, int n, float alpha, FloatBuffer x, int incx, FloatBuffer a) {
+    if (debug) System.err.println("sspr");
+    sspr(uplo, n, alpha, x, 0, incx, a, 0);
+  }
+
+  public void sspr(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta) {
+    if (debug) System.err.println("sspr");
+    checkArgument("SSPR", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSPR", 2, n >= 0);
+    checkArgument("SSPR", 5, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(a);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offseta + (n * (n + 1) / 2) - 1, a.limit());
+    ssprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+  }
+
+  protected void ssprK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arraya = Buffers.writableArray(a, offseta, n * (n + 1) / 2);
+    ssprK(uplo, n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arraya, Buffers.offset(a, offseta));
+    Buffers.release(a, offseta, arraya);
+  }
+
   public void dspr2(String uplo, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a) {
     if (debug) System.err.println("dspr2");
     dspr2(uplo, n, alpha, x, 0, incx, y, 0, incy, a, 0);
@@ -851,6 +2558,37 @@ abstract class AbstractBLAS implements BLAS {
   
   protected abstract void dspr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta);
 
+  public void dspr2(String uplo, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer a) {
+    if (debug) System.err.println("dspr2");
+    dspr2(uplo, n, alpha, x, 0, incx, y, 0, incy, a, 0);
+  }
+
+  public void dspr2(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta) {
+    if (debug) System.err.println("dspr2");
+    checkArgument("DSPR2", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSPR2", 2, n >= 0);
+    checkArgument("DSPR2", 5, incx != 0);
+    checkArgument("DSPR2", 7, incy != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(a);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offseta + (n * (n + 1) / 2) - 1, a.limit());
+    dspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+  }
+
+  protected void dspr2K(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    double[] arraya = Buffers.writableArray(a, offseta, n * (n + 1) / 2);
+    dspr2K(uplo, n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arraya, Buffers.offset(a, offseta));
+    Buffers.release(a, offseta, arraya);
+  }
+
   public void sspr2(String uplo, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a) {
     if (debug) System.err.println("sspr2");
     sspr2(uplo, n, alpha, x, 0, incx, y, 0, incy, a, 0);
@@ -877,6 +2615,37 @@ abstract class AbstractBLAS implements BLAS {
   
   protected abstract void sspr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta);
 
+  public void sspr2(String uplo, int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer a) {
+    if (debug) System.err.println("sspr2");
+    sspr2(uplo, n, alpha, x, 0, incx, y, 0, incy, a, 0);
+  }
+
+  public void sspr2(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta) {
+    if (debug) System.err.println("sspr2");
+    checkArgument("SSPR2", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSPR2", 2, n >= 0);
+    checkArgument("SSPR2", 5, incx != 0);
+    checkArgument("SSPR2", 7, incy != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(a);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offseta + (n * (n + 1) / 2) - 1, a.limit());
+    sspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+  }
+
+  protected void sspr2K(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    float[] arraya = Buffers.writableArray(a, offseta, n * (n + 1) / 2);
+    sspr2K(uplo, n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arraya, Buffers.offset(a, offseta));
+    Buffers.release(a, offseta, arraya);
+  }
+
   public void dswap(int n, double[] x, int incx, double[] y, int incy) {
     if (debug) System.err.println("dswap");
     dswap(n, x, 0, incx, y, 0, incy);
@@ -896,6 +2665,31 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  public void dswap(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("dswap");
+    dswap(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void dswap(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("dswap");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    dswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dswapK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    double[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    dswapK(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(x, offsetx, arrayx);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void sswap(int n, float[] x, int incx, float[] y, int incy) {
     if (debug) System.err.println("sswap");
     sswap(n, x, 0, incx, y, 0, incy);
@@ -915,6 +2709,31 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  public void sswap(int n, FloatBuffer x, int incx, FloatBuffer y, int incy) {
+    if (debug) System.err.println("sswap");
+    sswap(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void sswap(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("sswap");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    sswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void sswapK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    float[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    sswapK(n, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(x, offsetx, arrayx);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc) {
     if (debug) System.err.println("dsymm");
     dsymm(side, uplo, m, n, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
@@ -943,6 +2762,40 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dsymmK(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
 
+  public void dsymm(String side, String uplo, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, double beta, DoubleBuffer c, int ldc) {
+    if (debug) System.err.println("dsymm");
+    dsymm(side, uplo, m, n, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  public void dsymm(String side, String uplo, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (debug) System.err.println("dsymm");
+    checkArgument("DSYMM", 1, lsame("L", side) || lsame("R", side));
+    checkArgument("DSYMM", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSYMM", 3, m >= 0);
+    checkArgument("DSYMM", 4, n >= 0);
+    checkArgument("DSYMM", 7, lda >= Math.max(1, lsame("L", side) ? m : n));
+    checkArgument("DSYMM", 9, ldb >= Math.max(1, m));
+    checkArgument("DSYMM", 12, ldc >= Math.max(1, m));
+    if (m == 0 || n == 0 || (alpha == 0.0 && beta == 1.0)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.limit());
+    checkIndex(offsetb + n * ldb - 1, b.limit());
+    checkIndex(offsetc + n * ldc - 1, c.limit());
+    dsymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dsymmK(String side, String uplo, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    double[] arraya = Buffers.array(a, offseta, lsame("L", side) ? (m - 1) * lda + m : (n - 1) * lda + n);
+    double[] arrayb = Buffers.array(b, offsetb, (n - 1) * ldb + m);
+    double[] arrayc = Buffers.writableArray(c, offsetc, (n - 1) * ldc + m);
+    dsymmK(side, uplo, m, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, beta, arrayc, Buffers.offset(c, offsetc), ldc);
+    Buffers.release(c, offsetc, arrayc);
+  }
+
   public void ssymm(String side, String uplo, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int ldc) {
     if (debug) System.err.println("ssymm");
     ssymm(side, uplo, m, n, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
@@ -971,6 +2824,40 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void ssymmK(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
 
+  public void ssymm(String side, String uplo, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb, float beta, FloatBuffer c, int ldc) {
+    if (debug) System.err.println("ssymm");
+    ssymm(side, uplo, m, n, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  public void ssymm(String side, String uplo, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (debug) System.err.println("ssymm");
+    checkArgument("SSYMM", 1, lsame("L", side) || lsame("R", side));
+    checkArgument("SSYMM", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSYMM", 3, m >= 0);
+    checkArgument("SSYMM", 4, n >= 0);
+    checkArgument("SSYMM", 7, lda >= Math.max(1, lsame("L", side) ? m : n));
+    checkArgument("SSYMM", 9, ldb >= Math.max(1, m));
+    checkArgument("SSYMM", 12, ldc >= Math.max(1, m));
+    if (m == 0 || n == 0 || (alpha == 0.0f && beta == 1.0f)) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.limit());
+    checkIndex(offsetb + n * ldb - 1, b.limit());
+    checkIndex(offsetc + n * ldc - 1, c.limit());
+    ssymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void ssymmK(String side, String uplo, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    float[] arraya = Buffers.array(a, offseta, lsame("L", side) ? (m - 1) * lda + m : (n - 1) * lda + n);
+    float[] arrayb = Buffers.array(b, offsetb, (n - 1) * ldb + m);
+    float[] arrayc = Buffers.writableArray(c, offsetc, (n - 1) * ldc + m);
+    ssymmK(side, uplo, m, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, beta, arrayc, Buffers.offset(c, offsetc), ldc);
+    Buffers.release(c, offsetc, arrayc);
+  }
+
   public void dsymv(String uplo, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy) {
     if (debug) System.err.println("dsymv");
     dsymv(uplo, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
@@ -997,6 +2884,38 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dsymvK(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
+  public void dsymv(String uplo, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy) {
+    if (debug) System.err.println("dsymv");
+    dsymv(uplo, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void dsymv(String uplo, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("dsymv");
+    checkArgument("DSYMV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSYMV", 2, n >= 0);
+    checkArgument("DSYMV", 5, lda >= Math.max(1, n));
+    checkArgument("DSYMV", 7, incx != 0);
+    checkArgument("DSYMV", 10, incy != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    dsymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dsymvK(String uplo, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + n);
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    dsymvK(uplo, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void ssymv(String uplo, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy) {
     if (debug) System.err.println("ssymv");
     ssymv(uplo, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
@@ -1023,6 +2942,38 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void ssymvK(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
+  public void ssymv(String uplo, int n, float alpha, FloatBuffer a, int lda, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy) {
+    if (debug) System.err.println("ssymv");
+    ssymv(uplo, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void ssymv(String uplo, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (debug) System.err.println("ssymv");
+    checkArgument("SSYMV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSYMV", 2, n >= 0);
+    checkArgument("SSYMV", 5, lda >= Math.max(1, n));
+    checkArgument("SSYMV", 7, incx != 0);
+    checkArgument("SSYMV", 10, incy != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    ssymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void ssymvK(String uplo, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + n);
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.writableArray(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    ssymvK(uplo, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx, beta, arrayy, Buffers.offset(y, offsety), incy);
+    Buffers.release(y, offsety, arrayy);
+  }
+
   public void dsyr(String uplo, int n, double alpha, double[] x, int incx, double[] a, int lda) {
     if (debug) System.err.println("dsyr");
     dsyr(uplo, n, alpha, x, 0, incx, a, 0, lda);
@@ -1047,6 +2998,34 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dsyrK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda);
 
+  public void dsyr(String uplo, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer a, int lda) {
+    if (debug) System.err.println("dsyr");
+    dsyr(uplo, n, alpha, x, 0, incx, a, 0, lda);
+  }
+
+  public void dsyr(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta, int lda) {
+    if (debug) System.err.println("dsyr");
+    checkArgument("DSYR", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSYR", 2, n >= 0);
+    checkArgument("DSYR", 5, incx != 0);
+    checkArgument("DSYR", 7, lda >= Math.max(1, n));
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(a);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offseta + n * lda - 1, a.limit());
+    dsyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  protected void dsyrK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta, int lda) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    dsyrK(uplo, n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arraya, Buffers.offset(a, offseta), lda);
+    Buffers.release(a, offseta, arraya);
+  }
+
   public void ssyr(String uplo, int n, float alpha, float[] x, int incx, float[] a, int lda) {
     if (debug) System.err.println("ssyr");
     ssyr(uplo, n, alpha, x, 0, incx, a, 0, lda);
@@ -1070,12 +3049,66 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void ssyrK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda);
 
-  public void dsyr2(String uplo, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda) {
+  public void ssyr(String uplo, int n, float alpha, FloatBuffer x, int incx, FloatBuffer a, int lda) {
+    if (debug) System.err.println("ssyr");
+    ssyr(uplo, n, alpha, x, 0, incx, a, 0, lda);
+  }
+
+  public void ssyr(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta, int lda) {
+    if (debug) System.err.println("ssyr");
+    checkArgument("SSYR", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSYR", 2, n >= 0);
+    checkArgument("SSYR", 5, incx != 0);
+    checkArgument("SSYR", 7, lda >= Math.max(1, n));
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(a);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offseta + n * lda - 1, a.limit());
+    ssyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  protected void ssyrK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta, int lda) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    ssyrK(uplo, n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arraya, Buffers.offset(a, offseta), lda);
+    Buffers.release(a, offseta, arraya);
+  }
+
+  public void dsyr2(String uplo, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda) {
+    if (debug) System.err.println("dsyr2");
+    dsyr2(uplo, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
+  }
+
+  public void dsyr2(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    if (debug) System.err.println("dsyr2");
+    checkArgument("DSYR2", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSYR2", 2, n >= 0);
+    checkArgument("DSYR2", 5, incx != 0);
+    checkArgument("DSYR2", 7, incy != 0);
+    checkArgument("DSYR2", 9, lda >= Math.max(1, n));
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(a);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
+    checkIndex(offseta + n * lda - 1, a.length);
+    dsyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected abstract void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
+
+  public void dsyr2(String uplo, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer a, int lda) {
     if (debug) System.err.println("dsyr2");
     dsyr2(uplo, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
   }
 
-  public void dsyr2(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+  public void dsyr2(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
     if (debug) System.err.println("dsyr2");
     checkArgument("DSYR2", 1, lsame("U", uplo) || lsame("L", uplo));
     checkArgument("DSYR2", 2, n >= 0);
@@ -1088,13 +3121,19 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(x);
     requireNonNull(y);
     requireNonNull(a);
-    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    checkIndex(offsety + (n - 1) * Math.abs(incy), y.length);
-    checkIndex(offseta + n * lda - 1, a.length);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offseta + n * lda - 1, a.limit());
     dsyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
   }
 
-  protected abstract void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
+  protected void dsyr2K(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    double[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    dsyr2K(uplo, n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arraya, Buffers.offset(a, offseta), lda);
+    Buffers.release(a, offseta, arraya);
+  }
 
   public void ssyr2(String uplo, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda) {
     if (debug) System.err.println("ssyr2");
@@ -1122,6 +3161,38 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void ssyr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
 
+  public void ssyr2(String uplo, int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer a, int lda) {
+    if (debug) System.err.println("ssyr2");
+    ssyr2(uplo, n, alpha, x, 0, incx, y, 0, incy, a, 0, lda);
+  }
+
+  public void ssyr2(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    if (debug) System.err.println("ssyr2");
+    checkArgument("SSYR2", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSYR2", 2, n >= 0);
+    checkArgument("SSYR2", 5, incx != 0);
+    checkArgument("SSYR2", 7, incy != 0);
+    checkArgument("SSYR2", 9, lda >= Math.max(1, n));
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    requireNonNull(a);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    checkIndex(offsety + (n - 1) * Math.abs(incy), y.limit());
+    checkIndex(offseta + n * lda - 1, a.limit());
+    ssyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void ssyr2K(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    float[] arrayy = Buffers.array(y, offsety, (n - 1) * Math.abs(incy) + 1);
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    ssyr2K(uplo, n, alpha, arrayx, Buffers.offset(x, offsetx), incx, arrayy, Buffers.offset(y, offsety), incy, arraya, Buffers.offset(a, offseta), lda);
+    Buffers.release(a, offseta, arraya);
+  }
+
   public void dsyr2k(String uplo, String trans, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc) {
     if (debug) System.err.println("dsyr2k");
     dsyr2k(uplo, trans, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
@@ -1149,6 +3220,39 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dsyr2kK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
 
+  public void dsyr2k(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, double beta, DoubleBuffer c, int ldc) {
+    if (debug) System.err.println("dsyr2k");
+    dsyr2k(uplo, trans, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  public void dsyr2k(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (debug) System.err.println("dsyr2k");
+    checkArgument("DSYR2K", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSYR2K", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DSYR2K", 3, n >= 0);
+    checkArgument("DSYR2K", 4, k >= 0);
+    checkArgument("DSYR2K", 7, lda >= Math.max(1, lsame("N", trans) ? n : k));
+    checkArgument("DSYR2K", 9, ldb >= Math.max(1, lsame("N", trans) ? n : k));
+    checkArgument("DSYR2K", 12, ldc >= Math.max(1, n));
+    if (n == 0 || ((alpha == 0 || k == 0) && beta == 1.0))
+      return;
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.limit());
+    checkIndex(offsetb + (lsame("N", trans) ? k : n) * ldb - 1, b.limit());
+    checkIndex(offsetc + n * ldc - 1, c.limit());
+    dsyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    double[] arraya = Buffers.array(a, offseta, lsame("N", trans) ? (k - 1) * lda + n : (n - 1) * lda + k);
+    double[] arrayb = Buffers.array(b, offsetb, lsame("N", trans) ? (k - 1) * ldb + n : (n - 1) * ldb + k);
+    double[] arrayc = Buffers.writableArray(c, offsetc, (n - 1) * ldc + n);
+    dsyr2kK(uplo, trans, n, k, alpha, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, beta, arrayc, Buffers.offset(c, offsetc), ldc);
+    Buffers.release(c, offsetc, arrayc);
+  }
+
   public void ssyr2k(String uplo, String trans, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int ldc) {
     if (debug) System.err.println("ssyr2k");
     ssyr2k(uplo, trans, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
@@ -1176,6 +3280,39 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void ssyr2kK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
 
+  public void ssyr2k(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb, float beta, FloatBuffer c, int ldc) {
+    if (debug) System.err.println("ssyr2k");
+    ssyr2k(uplo, trans, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  public void ssyr2k(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (debug) System.err.println("ssyr2k");
+    checkArgument("SSYR2K", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSYR2K", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("SSYR2K", 3, n >= 0);
+    checkArgument("SSYR2K", 4, k >= 0);
+    checkArgument("SSYR2K", 7, lda >= Math.max(1, lsame("N", trans) ? n : k));
+    checkArgument("SSYR2K", 9, ldb >= Math.max(1, lsame("N", trans) ? n : k));
+    checkArgument("SSYR2K", 12, ldc >= Math.max(1, n));
+    if (n == 0 || ((alpha == 0 || k == 0) && beta == 1.0f))
+      return;
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(c);
+    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.limit());
+    checkIndex(offsetb + (lsame("N", trans) ? k : n) * ldb - 1, b.limit());
+    checkIndex(offsetc + n * ldc - 1, c.limit());
+    ssyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    float[] arraya = Buffers.array(a, offseta, lsame("N", trans) ? (k - 1) * lda + n : (n - 1) * lda + k);
+    float[] arrayb = Buffers.array(b, offsetb, lsame("N", trans) ? (k - 1) * ldb + n : (n - 1) * ldb + k);
+    float[] arrayc = Buffers.writableArray(c, offsetc, (n - 1) * ldc + n);
+    ssyr2kK(uplo, trans, n, k, alpha, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, beta, arrayc, Buffers.offset(c, offsetc), ldc);
+    Buffers.release(c, offsetc, arrayc);
+  }
+
   public void dsyrk(String uplo, String trans, int n, int k, double alpha, double[] a, int lda, double beta, double[] c, int ldc) {
     if (debug) System.err.println("dsyrk");
     dsyrk(uplo, trans, n, k, alpha, a, 0, lda, beta, c, 0, ldc);
@@ -1200,6 +3337,35 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dsyrkK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc);
 
+  public void dsyrk(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int lda, double beta, DoubleBuffer c, int ldc) {
+    if (debug) System.err.println("dsyrk");
+    dsyrk(uplo, trans, n, k, alpha, a, 0, lda, beta, c, 0, ldc);
+  }
+
+  public void dsyrk(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (debug) System.err.println("dsyrk");
+    checkArgument("DSYRK", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DSYRK", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DSYRK", 3, n >= 0);
+    checkArgument("DSYRK", 4, k >= 0);
+    checkArgument("DSYRK", 7, lda >= Math.max(1, lsame("N", trans) ? n : k));
+    checkArgument("DSYRK", 10, ldc >= Math.max(1, n));
+    if (n == 0 || ((alpha == 0 || k == 0) && beta == 1.0))
+      return;
+    requireNonNull(a);
+    requireNonNull(c);
+    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.limit());
+    checkIndex(offsetc + n * ldc - 1, c.limit());
+    dsyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+  }
+
+  protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    double[] arraya = Buffers.array(a, offseta, lsame("N", trans) ? (k - 1) * lda + n : (n - 1) * lda + k);
+    double[] arrayc = Buffers.writableArray(c, offsetc, (n - 1) * ldc + n);
+    dsyrkK(uplo, trans, n, k, alpha, arraya, Buffers.offset(a, offseta), lda, beta, arrayc, Buffers.offset(c, offsetc), ldc);
+    Buffers.release(c, offsetc, arrayc);
+  }
+
   public void ssyrk(String uplo, String trans, int n, int k, float alpha, float[] a, int lda, float beta, float[] c, int ldc) {
     if (debug) System.err.println("ssyrk");
     ssyrk(uplo, trans, n, k, alpha, a, 0, lda, beta, c, 0, ldc);
@@ -1224,6 +3390,35 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void ssyrkK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc);
 
+  public void ssyrk(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int lda, float beta, FloatBuffer c, int ldc) {
+    if (debug) System.err.println("ssyrk");
+    ssyrk(uplo, trans, n, k, alpha, a, 0, lda, beta, c, 0, ldc);
+  }
+
+  public void ssyrk(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (debug) System.err.println("ssyrk");
+    checkArgument("SSYRK", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("SSYRK", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("SSYRK", 3, n >= 0);
+    checkArgument("SSYRK", 4, k >= 0);
+    checkArgument("SSYRK", 7, lda >= Math.max(1, lsame("N", trans) ? n : k));
+    checkArgument("SSYRK", 10, ldc >= Math.max(1, n));
+    if (n == 0 || ((alpha == 0 || k == 0) && beta == 1.0f))
+      return;
+    requireNonNull(a);
+    requireNonNull(c);
+    checkIndex(offseta + (lsame("N", trans) ? k : n) * lda - 1, a.limit());
+    checkIndex(offsetc + n * ldc - 1, c.limit());
+    ssyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+  }
+
+  protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, float beta, FloatBuffer c, int offsetc, int ldc) {
+    float[] arraya = Buffers.array(a, offseta, lsame("N", trans) ? (k - 1) * lda + n : (n - 1) * lda + k);
+    float[] arrayc = Buffers.writableArray(c, offsetc, (n - 1) * ldc + n);
+    ssyrkK(uplo, trans, n, k, alpha, arraya, Buffers.offset(a, offseta), lda, beta, arrayc, Buffers.offset(c, offsetc), ldc);
+    Buffers.release(c, offsetc, arrayc);
+  }
+
   public void dtbmv(String uplo, String trans, String diag, int n, int k, double[] a, int lda, double[] x, int incx) {
     if (debug) System.err.println("dtbmv");
     dtbmv(uplo, trans, diag, n, k, a, 0, lda, x, 0, incx);
@@ -1250,6 +3445,37 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dtbmvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
 
+  public void dtbmv(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int lda, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dtbmv");
+    dtbmv(uplo, trans, diag, n, k, a, 0, lda, x, 0, incx);
+  }
+
+  public void dtbmv(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dtbmv");
+    checkArgument("DTBMV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DTBMV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DTBMV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("DTBMV", 4, n >= 0);
+    checkArgument("DTBMV", 5, k >= 0);
+    checkArgument("DTBMV", 7, lda >= Math.max(1, k));
+    checkArgument("DTBMV", 9, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    dtbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtbmvK(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + k + 1);
+    double[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    dtbmvK(uplo, trans, diag, n, k, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void stbmv(String uplo, String trans, String diag, int n, int k, float[] a, int lda, float[] x, int incx) {
     if (debug) System.err.println("stbmv");
     stbmv(uplo, trans, diag, n, k, a, 0, lda, x, 0, incx);
@@ -1276,6 +3502,37 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void stbmvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
 
+  public void stbmv(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int lda, FloatBuffer x, int incx) {
+    if (debug) System.err.println("stbmv");
+    stbmv(uplo, trans, diag, n, k, a, 0, lda, x, 0, incx);
+  }
+
+  public void stbmv(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("stbmv");
+    checkArgument("STBMV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("STBMV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("STBMV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("STBMV", 4, n >= 0);
+    checkArgument("STBMV", 5, k >= 0);
+    checkArgument("STBMV", 7, lda >= Math.max(1, k));
+    checkArgument("STBMV", 9, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    stbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void stbmvK(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + k + 1);
+    float[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    stbmvK(uplo, trans, diag, n, k, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void dtbsv(String uplo, String trans, String diag, int n, int k, double[] a, int lda, double[] x, int incx) {
     if (debug) System.err.println("dtbsv");
     dtbsv(uplo, trans, diag, n, k, a, 0, lda, x, 0, incx);
@@ -1302,6 +3559,37 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dtbsvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
 
+  public void dtbsv(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int lda, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dtbsv");
+    dtbsv(uplo, trans, diag, n, k, a, 0, lda, x, 0, incx);
+  }
+
+  public void dtbsv(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dtbsv");
+    checkArgument("DTBSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DTBSV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DTBSV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("DTBSV", 4, n >= 0);
+    checkArgument("DTBSV", 5, k >= 0);
+    checkArgument("DTBSV", 7, lda >= Math.max(1, k));
+    checkArgument("DTBSV", 9, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    dtbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtbsvK(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + k + 1);
+    double[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    dtbsvK(uplo, trans, diag, n, k, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void stbsv(String uplo, String trans, String diag, int n, int k, float[] a, int lda, float[] x, int incx) {
     if (debug) System.err.println("stbsv");
     stbsv(uplo, trans, diag, n, k, a, 0, lda, x, 0, incx);
@@ -1328,6 +3616,37 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void stbsvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
 
+  public void stbsv(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int lda, FloatBuffer x, int incx) {
+    if (debug) System.err.println("stbsv");
+    stbsv(uplo, trans, diag, n, k, a, 0, lda, x, 0, incx);
+  }
+
+  public void stbsv(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("stbsv");
+    checkArgument("STBSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("STBSV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("STBSV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("STBSV", 4, n >= 0);
+    checkArgument("STBSV", 5, k >= 0);
+    checkArgument("STBSV", 7, lda >= Math.max(1, k));
+    checkArgument("STBSV", 9, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    stbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void stbsvK(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + k + 1);
+    float[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    stbsvK(uplo, trans, diag, n, k, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void dtpmv(String uplo, String trans, String diag, int n, double[] a, double[] x, int incx) {
     if (debug) System.err.println("dtpmv");
     dtpmv(uplo, trans, diag, n, a, 0, x, 0, incx);
@@ -1352,6 +3671,35 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dtpmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx);
 
+  public void dtpmv(String uplo, String trans, String diag, int n, DoubleBuffer a, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dtpmv");
+    dtpmv(uplo, trans, diag, n, a, 0, x, 0, incx);
+  }
+
+  public void dtpmv(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dtpmv");
+    checkArgument("DTPMV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DTPMV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DTPMV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("DTPMV", 4, n >= 0);
+    checkArgument("DTPMV", 7, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * (n + 1) / 2 - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    dtpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void dtpmvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx) {
+    double[] arraya = Buffers.array(a, offseta, n * (n + 1) / 2);
+    double[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    dtpmvK(uplo, trans, diag, n, arraya, Buffers.offset(a, offseta), arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void stpmv(String uplo, String trans, String diag, int n, float[] a, float[] x, int incx) {
     if (debug) System.err.println("stpmv");
     stpmv(uplo, trans, diag, n, a, 0, x, 0, incx);
@@ -1371,17 +3719,70 @@ abstract class AbstractBLAS implements BLAS {
     requireNonNull(x);
     checkIndex(offseta + n * (n + 1) / 2 - 1, a.length);
     checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
-    stpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    stpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected abstract void stpmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx);
+
+  public void stpmv(String uplo, String trans, String diag, int n, FloatBuffer a, FloatBuffer x, int incx) {
+    if (debug) System.err.println("stpmv");
+    stpmv(uplo, trans, diag, n, a, 0, x, 0, incx);
+  }
+
+  public void stpmv(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("stpmv");
+    checkArgument("STPMV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("STPMV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("STPMV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("STPMV", 4, n >= 0);
+    checkArgument("STPMV", 7, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * (n + 1) / 2 - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    stpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void stpmvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx) {
+    float[] arraya = Buffers.array(a, offseta, n * (n + 1) / 2);
+    float[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    stpmvK(uplo, trans, diag, n, arraya, Buffers.offset(a, offseta), arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
+  public void dtpsv(String uplo, String trans, String diag, int n, double[] a, double[] x, int incx) {
+    if (debug) System.err.println("dtpsv");
+    dtpsv(uplo, trans, diag, n, a, 0, x, 0, incx);
+  }
+
+  public void dtpsv(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    if (debug) System.err.println("dtpsv");
+    checkArgument("DTPSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DTPSV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DTPSV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("DTPSV", 4, n >= 0);
+    checkArgument("DTPSV", 7, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * (n + 1) / 2 - 1, a.length);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    dtpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
   }
 
-  protected abstract void stpmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx);
+  protected abstract void dtpsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx);
 
-  public void dtpsv(String uplo, String trans, String diag, int n, double[] a, double[] x, int incx) {
+  public void dtpsv(String uplo, String trans, String diag, int n, DoubleBuffer a, DoubleBuffer x, int incx) {
     if (debug) System.err.println("dtpsv");
     dtpsv(uplo, trans, diag, n, a, 0, x, 0, incx);
   }
 
-  public void dtpsv(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+  public void dtpsv(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx) {
     if (debug) System.err.println("dtpsv");
     checkArgument("DTPSV", 1, lsame("U", uplo) || lsame("L", uplo));
     checkArgument("DTPSV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
@@ -1393,12 +3794,17 @@ abstract class AbstractBLAS implements BLAS {
     }
     requireNonNull(a);
     requireNonNull(x);
-    checkIndex(offseta + n * (n + 1) / 2 - 1, a.length);
-    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.length);
+    checkIndex(offseta + n * (n + 1) / 2 - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
     dtpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
   }
 
-  protected abstract void dtpsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx);
+  protected void dtpsvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx) {
+    double[] arraya = Buffers.array(a, offseta, n * (n + 1) / 2);
+    double[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    dtpsvK(uplo, trans, diag, n, arraya, Buffers.offset(a, offseta), arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
 
   public void stpsv(String uplo, String trans, String diag, int n, float[] a, float[] x, int incx) {
     if (debug) System.err.println("stpsv");
@@ -1424,6 +3830,35 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void stpsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx);
 
+  public void stpsv(String uplo, String trans, String diag, int n, FloatBuffer a, FloatBuffer x, int incx) {
+    if (debug) System.err.println("stpsv");
+    stpsv(uplo, trans, diag, n, a, 0, x, 0, incx);
+  }
+
+  public void stpsv(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("stpsv");
+    checkArgument("STPSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("STPSV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("STPSV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("STPSV", 4, n >= 0);
+    checkArgument("STPSV", 7, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * (n + 1) / 2 - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    stpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void stpsvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx) {
+    float[] arraya = Buffers.array(a, offseta, n * (n + 1) / 2);
+    float[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    stpsvK(uplo, trans, diag, n, arraya, Buffers.offset(a, offseta), arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb) {
     if (debug) System.err.println("dtrmm");
     dtrmm(side, uplo, transa, diag, m, n, alpha, a, 0, lda, b, 0, ldb);
@@ -1451,6 +3886,38 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb);
 
+  public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb) {
+    if (debug) System.err.println("dtrmm");
+    dtrmm(side, uplo, transa, diag, m, n, alpha, a, 0, lda, b, 0, ldb);
+  }
+
+  public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb) {
+    if (debug) System.err.println("dtrmm");
+    checkArgument("DTRMM", 1, lsame("L", side) || lsame("R", side));
+    checkArgument("DTRMM", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DTRMM", 3, lsame("N", transa) || lsame("T", transa) || lsame("C", transa));
+    checkArgument("DTRMM", 4, lsame("U", diag) || lsame("N", diag));
+    checkArgument("DTRMM", 5, m >= 0);
+    checkArgument("DTRMM", 6, n >= 0);
+    checkArgument("DTRMM", 9, lda >= Math.max(1, lsame("L", side) ? m : n));
+    checkArgument("DTRMM", 11, ldb >= Math.max(1, m));
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.limit());
+    checkIndex(offsetb + n * ldb - 1, b.limit());
+    dtrmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb) {
+    double[] arraya = Buffers.array(a, offseta, lsame("L", side) ? (m - 1) * lda + m : (n - 1) * lda + n);
+    double[] arrayb = Buffers.writableArray(b, offsetb, (n - 1) * ldb + m);
+    dtrmmK(side, uplo, transa, diag, m, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb) {
     if (debug) System.err.println("strmm");
     strmm(side, uplo, transa, diag, m, n, alpha, a, 0, lda, b, 0, ldb);
@@ -1478,6 +3945,38 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb);
 
+  public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb) {
+    if (debug) System.err.println("strmm");
+    strmm(side, uplo, transa, diag, m, n, alpha, a, 0, lda, b, 0, ldb);
+  }
+
+  public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb) {
+    if (debug) System.err.println("strmm");
+    checkArgument("STRMM", 1, lsame("L", side) || lsame("R", side));
+    checkArgument("STRMM", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("STRMM", 3, lsame("N", transa) || lsame("T", transa) || lsame("C", transa));
+    checkArgument("STRMM", 4, lsame("U", diag) || lsame("N", diag));
+    checkArgument("STRMM", 5, m >= 0);
+    checkArgument("STRMM", 6, n >= 0);
+    checkArgument("STRMM", 9, lda >= Math.max(1, lsame("L", side) ? m : n));
+    checkArgument("STRMM", 11, ldb >= Math.max(1, m));
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.limit());
+    checkIndex(offsetb + n * ldb - 1, b.limit());
+    strmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb) {
+    float[] arraya = Buffers.array(a, offseta, lsame("L", side) ? (m - 1) * lda + m : (n - 1) * lda + n);
+    float[] arrayb = Buffers.writableArray(b, offsetb, (n - 1) * ldb + m);
+    strmmK(side, uplo, transa, diag, m, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void dtrmv(String uplo, String trans, String diag, int n, double[] a, int lda, double[] x, int incx) {
     if (debug) System.err.println("dtrmv");
     dtrmv(uplo, trans, diag, n, a, 0, lda, x, 0, incx);
@@ -1503,6 +4002,36 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dtrmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
 
+  public void dtrmv(String uplo, String trans, String diag, int n, DoubleBuffer a, int lda, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dtrmv");
+    dtrmv(uplo, trans, diag, n, a, 0, lda, x, 0, incx);
+  }
+
+  public void dtrmv(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dtrmv");
+    checkArgument("DTRMV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DTRMV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DTRMV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("DTRMV", 4, n >= 0);
+    checkArgument("DTRMV", 6, lda >= Math.max(1, n));
+    checkArgument("DTRMV", 8, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    dtrmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtrmvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + n);
+    double[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    dtrmvK(uplo, trans, diag, n, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void strmv(String uplo, String trans, String diag, int n, float[] a, int lda, float[] x, int incx) {
     if (debug) System.err.println("strmv");
     strmv(uplo, trans, diag, n, a, 0, lda, x, 0, incx);
@@ -1528,6 +4057,36 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void strmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
 
+  public void strmv(String uplo, String trans, String diag, int n, FloatBuffer a, int lda, FloatBuffer x, int incx) {
+    if (debug) System.err.println("strmv");
+    strmv(uplo, trans, diag, n, a, 0, lda, x, 0, incx);
+  }
+
+  public void strmv(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("strmv");
+    checkArgument("STRMV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("STRMV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("STRMV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("STRMV", 4, n >= 0);
+    checkArgument("STRMV", 6, lda >= Math.max(1, n));
+    checkArgument("STRMV", 8, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    strmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void strmvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + n);
+    float[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    strmvK(uplo, trans, diag, n, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb) {
     if (debug) System.err.println("dtrsm");
     dtrsm(side, uplo, transa, diag, m, n, alpha, a, 0, lda, b, 0, ldb);
@@ -1555,6 +4114,38 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb);
 
+  public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb) {
+    if (debug) System.err.println("dtrsm");
+    dtrsm(side, uplo, transa, diag, m, n, alpha, a, 0, lda, b, 0, ldb);
+  }
+
+  public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb) {
+    if (debug) System.err.println("dtrsm");
+    checkArgument("DTRSM", 1, lsame("L", side) || lsame("R", side));
+    checkArgument("DTRSM", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DTRSM", 3, lsame("N", transa) || lsame("T", transa) || lsame("C", transa));
+    checkArgument("DTRSM", 4, lsame("U", diag) || lsame("N", diag));
+    checkArgument("DTRSM", 5, m >= 0);
+    checkArgument("DTRSM", 6, n >= 0);
+    checkArgument("DTRSM", 9, lda >= Math.max(1, lsame("L", side) ? m : n));
+    checkArgument("DTRSM", 11, ldb >= Math.max(1, m));
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.limit());
+    checkIndex(offsetb + n * ldb - 1, b.limit());
+    dtrsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb) {
+    double[] arraya = Buffers.array(a, offseta, lsame("L", side) ? (m - 1) * lda + m : (n - 1) * lda + n);
+    double[] arrayb = Buffers.writableArray(b, offsetb, (n - 1) * ldb + m);
+    dtrsmK(side, uplo, transa, diag, m, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb) {
     if (debug) System.err.println("strsm");
     strsm(side, uplo, transa, diag, m, n, alpha, a, 0, lda, b, 0, ldb);
@@ -1582,6 +4173,38 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb);
 
+  public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb) {
+    if (debug) System.err.println("strsm");
+    strsm(side, uplo, transa, diag, m, n, alpha, a, 0, lda, b, 0, ldb);
+  }
+
+  public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb) {
+    if (debug) System.err.println("strsm");
+    checkArgument("STRSM", 1, lsame("L", side) || lsame("R", side));
+    checkArgument("STRSM", 2, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("STRSM", 3, lsame("N", transa) || lsame("T", transa) || lsame("C", transa));
+    checkArgument("STRSM", 4, lsame("U", diag) || lsame("N", diag));
+    checkArgument("STRSM", 5, m >= 0);
+    checkArgument("STRSM", 6, n >= 0);
+    checkArgument("STRSM", 9, lda >= Math.max(1, lsame("L", side) ? m : n));
+    checkArgument("STRSM", 11, ldb >= Math.max(1, m));
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(b);
+    checkIndex(offseta + (lsame("L", side) ? m : n) * lda - 1, a.limit());
+    checkIndex(offsetb + n * ldb - 1, b.limit());
+    strsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb) {
+    float[] arraya = Buffers.array(a, offseta, lsame("L", side) ? (m - 1) * lda + m : (n - 1) * lda + n);
+    float[] arrayb = Buffers.writableArray(b, offsetb, (n - 1) * ldb + m);
+    strsmK(side, uplo, transa, diag, m, n, alpha, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void dtrsv(String uplo, String trans, String diag, int n, double[] a, int lda, double[] x, int incx) {
     if (debug) System.err.println("dtrsv");
     dtrsv(uplo, trans, diag, n, a, 0, lda, x, 0, incx);
@@ -1607,6 +4230,36 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void dtrsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
 
+  public void dtrsv(String uplo, String trans, String diag, int n, DoubleBuffer a, int lda, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("dtrsv");
+    dtrsv(uplo, trans, diag, n, a, 0, lda, x, 0, incx);
+  }
+
+  public void dtrsv(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("dtrsv");
+    checkArgument("DTRSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("DTRSV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DTRSV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("DTRSV", 4, n >= 0);
+    checkArgument("DTRSV", 6, lda >= Math.max(1, n));
+    checkArgument("DTRSV", 8, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    dtrsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtrsvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + n);
+    double[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    dtrsvK(uplo, trans, diag, n, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public void strsv(String uplo, String trans, String diag, int n, float[] a, int lda, float[] x, int incx) {
     if (debug) System.err.println("strsv");
     strsv(uplo, trans, diag, n, a, 0, lda, x, 0, incx);
@@ -1632,6 +4285,36 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract void strsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
 
+  public void strsv(String uplo, String trans, String diag, int n, FloatBuffer a, int lda, FloatBuffer x, int incx) {
+    if (debug) System.err.println("strsv");
+    strsv(uplo, trans, diag, n, a, 0, lda, x, 0, incx);
+  }
+
+  public void strsv(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("strsv");
+    checkArgument("STRSV", 1, lsame("U", uplo) || lsame("L", uplo));
+    checkArgument("STRSV", 2, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("STRSV", 3, lsame("U", diag) || lsame("N", diag));
+    checkArgument("STRSV", 4, n >= 0);
+    checkArgument("STRSV", 6, lda >= Math.max(1, n));
+    checkArgument("STRSV", 8, incx != 0);
+    if (n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    strsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void strsvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + n);
+    float[] arrayx = Buffers.writableArray(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    strsvK(uplo, trans, diag, n, arraya, Buffers.offset(a, offseta), lda, arrayx, Buffers.offset(x, offsetx), incx);
+    Buffers.release(x, offsetx, arrayx);
+  }
+
   public int idamax(int n, double[] x, int incx) {
     if (debug) System.err.println("idamax");
     return idamax(n, x, 0, incx);
@@ -1656,6 +4339,33 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract int idamaxK(int n, double[] x, int offsetx, int incx);
 
+  public int idamax(int n, DoubleBuffer x, int incx) {
+    if (debug) System.err.println("idamax");
+    return idamax(n, x, 0, incx);
+  }
+
+  public int idamax(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("idamax");
+    if (n <= 0) {
+      return -1;
+    }
+    if (incx <= 0) {
+      return -1;
+    }
+    if (n == 1) {
+      return 0;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    // Fortran arrays use 1-based index
+    return idamaxK(n, x, offsetx, incx) - 1;
+  }
+
+  protected int idamaxK(int n, DoubleBuffer x, int offsetx, int incx) {
+    double[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    return idamaxK(n, arrayx, Buffers.offset(x, offsetx), incx);
+  }
+
   public int isamax(int n, float[] x, int incx) {
     if (debug) System.err.println("isamax");
     return isamax(n, x, 0, incx);
@@ -1680,6 +4390,33 @@ abstract class AbstractBLAS implements BLAS {
 
   protected abstract int isamaxK(int n, float[] x, int offsetx, int incx);
 
+  public int isamax(int n, FloatBuffer x, int incx) {
+    if (debug) System.err.println("isamax");
+    return isamax(n, x, 0, incx);
+  }
+
+  public int isamax(int n, FloatBuffer x, int offsetx, int incx) {
+    if (debug) System.err.println("isamax");
+    if (n <= 0) {
+      return -1;
+    }
+    if (incx <= 0) {
+      return -1;
+    }
+    if (n == 1) {
+      return 0;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), x.limit());
+    // Fortran arrays use 1-based index
+    return isamaxK(n, x, offsetx, incx) - 1;
+  }
+
+  protected int isamaxK(int n, FloatBuffer x, int offsetx, int incx) {
+    float[] arrayx = Buffers.array(x, offsetx, (n - 1) * Math.abs(incx) + 1);
+    return isamaxK(n, arrayx, Buffers.offset(x, offsetx), incx);
+  }
+
   public boolean lsame(String ca, String cb) {
     if (debug) System.err.println("lsame");
     return ca != null && ca.regionMatches(true, 0, cb, 0, ca.length());
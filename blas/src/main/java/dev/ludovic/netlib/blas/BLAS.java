@@ -25,6 +25,9 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
 public interface BLAS {
 
   public static BLAS getInstance() {
@@ -33,66 +36,170 @@ public interface BLAS {
 
   public double dasum(int n, double[] x, int incx);
   public double dasum(int n, double[] x, int offsetx, int incx);
+  public double dasum(int n, DoubleBuffer x, int incx);
+  public double dasum(int n, DoubleBuffer x, int offsetx, int incx);
 
   public float sasum(int n, float[] x, int incx);
   public float sasum(int n, float[] x, int offsetx, int incx);
+  public float sasum(int n, FloatBuffer x, int incx);
+  public float sasum(int n, FloatBuffer x, int offsetx, int incx);
 
   public void daxpy(int n, double alpha, double[] x, int incx, double[] y, int incy);
   public void daxpy(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
+  public void daxpy(int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy);
+  public void daxpy(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
 
   public void saxpy(int n, float alpha, float[] x, int incx, float[] y, int incy);
   public void saxpy(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
+  public void saxpy(int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy);
+  public void saxpy(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
+  public void daxpby(int n, double alpha, double[] x, int incx, double beta, double[] y, int incy);
+  public void daxpby(int n, double alpha, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
+  public void daxpby(int n, double alpha, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy);
+  public void daxpby(int n, double alpha, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
+
+  public double daxpydot(int n, double alpha, double[] x, int incx, double[] y, int incy, double[] z, int incz);
+  public double daxpydot(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz);
+  public double daxpydot(int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer z, int incz);
+  public double daxpydot(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer z, int offsetz, int incz);
+
+  public void saxpby(int n, float alpha, float[] x, int incx, float beta, float[] y, int incy);
+  public void saxpby(int n, float alpha, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+  public void saxpby(int n, float alpha, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy);
+  public void saxpby(int n, float alpha, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
+
+  public float saxpydot(int n, float alpha, float[] x, int incx, float[] y, int incy, float[] z, int incz);
+  public float saxpydot(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz);
+  public float saxpydot(int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer z, int incz);
+  public float saxpydot(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer z, int offsetz, int incz);
 
   public void dcopy(int n, double[] x, int incx, double[] y, int incy);
   public void dcopy(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
+  public void dcopy(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy);
+  public void dcopy(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
 
   public void scopy(int n, float[] x, int incx, float[] y, int incy);
   public void scopy(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
+  public void scopy(int n, FloatBuffer x, int incx, FloatBuffer y, int incy);
+  public void scopy(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
 
   public double ddot(int n, double[] x, int incx, double[] y, int incy);
   public double ddot(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
+  public double ddot(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy);
+  public double ddot(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
 
   public float sdot(int n, float[] x, int incx, float[] y, int incy);
   public float sdot(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
+  public float sdot(int n, FloatBuffer x, int incx, FloatBuffer y, int incy);
+  public float sdot(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
+  public void ddot2(int n, double[] x, int incx, double[] y, int incy, double[] z, int incz, double[] dots);
+  public void ddot2(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz, double[] dots, int offsetdots);
+  public void ddot2(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer z, int incz, DoubleBuffer dots);
+  public void ddot2(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer z, int offsetz, int incz, DoubleBuffer dots, int offsetdots);
+
+  public void sdot2(int n, float[] x, int incx, float[] y, int incy, float[] z, int incz, float[] dots);
+  public void sdot2(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz, float[] dots, int offsetdots);
+  public void sdot2(int n, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer z, int incz, FloatBuffer dots);
+  public void sdot2(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer z, int offsetz, int incz, FloatBuffer dots, int offsetdots);
 
   public float sdsdot(int n, float sb, float[] sx, int incx, float[] sy, int incy);
   public float sdsdot(int n, float sb, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy);
+  public float sdsdot(int n, float sb, FloatBuffer sx, int incx, FloatBuffer sy, int incy);
+  public float sdsdot(int n, float sb, FloatBuffer sx, int offsetsx, int incx, FloatBuffer sy, int offsetsy, int incy);
 
   public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy);
   public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
+  public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, DoubleBuffer a, int lda, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy);
+  public void dgbmv(String trans, int m, int n, int kl, int ku, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
 
   public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy);
   public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+  public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, FloatBuffer a, int lda, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy);
+  public void sgbmv(String trans, int m, int n, int kl, int ku, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
 
   public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int ldc);
   public void dgemm(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, double beta, DoubleBuffer c, int ldc);
+  public void dgemm(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc);
 
   public void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int Ldc);
   public void sgemm(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc);
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb, float beta, FloatBuffer c, int Ldc);
+  public void sgemm(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int Ldc);
+
+  public void dgemmBatched(String transa, String transb, int m, int n, int k, double alpha, double[] a, int[] offsetsa, int lda, double[] b, int[] offsetsb, int ldb, double beta, double[] c, int[] offsetsc, int ldc, int batchCount);
+
+  public void sgemmBatched(String transa, String transb, int m, int n, int k, float alpha, float[] a, int[] offsetsa, int lda, float[] b, int[] offsetsb, int ldb, float beta, float[] c, int[] offsetsc, int ldc, int batchCount);
+
+  public void dgemmStridedBatched(String transa, String transb, int m, int n, int k, double alpha, double[] a, int lda, int stridea, double[] b, int ldb, int strideb, double beta, double[] c, int ldc, int stridec, int batchCount);
+  public void dgemmStridedBatched(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, int stridea, double[] b, int offsetb, int ldb, int strideb, double beta, double[] c, int offsetc, int ldc, int stridec, int batchCount);
+
+  public void sgemmStridedBatched(String transa, String transb, int m, int n, int k, float alpha, float[] a, int lda, int stridea, float[] b, int ldb, int strideb, float beta, float[] c, int ldc, int stridec, int batchCount);
+  public void sgemmStridedBatched(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, int stridea, float[] b, int offsetb, int ldb, int strideb, float beta, float[] c, int offsetc, int ldc, int stridec, int batchCount);
+
+  public void hgemm(String transa, String transb, int m, int n, int k, float alpha, short[] a, int lda, short[] b, int ldb, float beta, float[] c, int ldc);
+  public void hgemm(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
+
+  public void bgemm(String transa, String transb, int m, int n, int k, float alpha, short[] a, int lda, short[] b, int ldb, float beta, float[] c, int ldc);
+  public void bgemm(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
 
   public void dgemv(String trans, int m, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy);
   public void dgemv(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
+  public void dgemv(String trans, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy);
+  public void dgemv(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
 
   public void sgemv(String trans, int m, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy);
   public void sgemv(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+  public void sgemv(String trans, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy);
+  public void sgemv(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
+
+  public void dgemv2(String trans, int m, int n, double alpha, double[] a, int lda, double[] x1, int incx1, double[] x2, int incx2, double beta, double[] y1, int incy1, double[] y2, int incy2);
+  public void dgemv2(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x1, int offsetx1, int incx1, double[] x2, int offsetx2, int incx2, double beta, double[] y1, int offsety1, int incy1, double[] y2, int offsety2, int incy2);
+  public void dgemv2(String trans, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer x1, int incx1, DoubleBuffer x2, int incx2, double beta, DoubleBuffer y1, int incy1, DoubleBuffer y2, int incy2);
+  public void dgemv2(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x1, int offsetx1, int incx1, DoubleBuffer x2, int offsetx2, int incx2, double beta, DoubleBuffer y1, int offsety1, int incy1, DoubleBuffer y2, int offsety2, int incy2);
+
+  public void sgemv2(String trans, int m, int n, float alpha, float[] a, int lda, float[] x1, int incx1, float[] x2, int incx2, float beta, float[] y1, int incy1, float[] y2, int incy2);
+  public void sgemv2(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x1, int offsetx1, int incx1, float[] x2, int offsetx2, int incx2, float beta, float[] y1, int offsety1, int incy1, float[] y2, int offsety2, int incy2);
+  public void sgemv2(String trans, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer x1, int incx1, FloatBuffer x2, int incx2, float beta, FloatBuffer y1, int incy1, FloatBuffer y2, int incy2);
+  public void sgemv2(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x1, int offsetx1, int incx1, FloatBuffer x2, int offsetx2, int incx2, float beta, FloatBuffer y1, int offsety1, int incy1, FloatBuffer y2, int offsety2, int incy2);
+
+  public void hgemv(String trans, int m, int n, float alpha, short[] a, int lda, float[] x, int incx, float beta, float[] y, int incy);
+  public void hgemv(String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+
+  public void bgemv(String trans, int m, int n, float alpha, short[] a, int lda, float[] x, int incx, float beta, float[] y, int incy);
+  public void bgemv(String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
   public void dger(int m, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda);
   public void dger(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
+  public void dger(int m, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer a, int lda);
+  public void dger(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda);
 
   public void sger(int m, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda);
   public void sger(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
+  public void sger(int m, int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer a, int lda);
+  public void sger(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda);
 
   public double dnrm2(int n, double[] x, int incx);
   public double dnrm2(int n, double[] x, int offsetx, int incx);
+  public double dnrm2(int n, DoubleBuffer x, int incx);
+  public double dnrm2(int n, DoubleBuffer x, int offsetx, int incx);
 
   public float snrm2(int n, float[] x, int incx);
   public float snrm2(int n, float[] x, int offsetx, int incx);
+  public float snrm2(int n, FloatBuffer x, int incx);
+  public float snrm2(int n, FloatBuffer x, int offsetx, int incx);
 
   public void drot(int n, double[] dx, int incx, double[] dy, int incy, double c, double s);
   public void drot(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double c, double s);
+  public void drot(int n, DoubleBuffer dx, int incx, DoubleBuffer dy, int incy, double c, double s);
+  public void drot(int n, DoubleBuffer dx, int offsetdx, int incx, DoubleBuffer dy, int offsetdy, int incy, double c, double s);
 
   public void srot(int n, float[] sx, int incx, float[] sy, int incy, float c, float s);
   public void srot(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float c, float s);
+  public void srot(int n, FloatBuffer sx, int incx, FloatBuffer sy, int incy, float c, float s);
+  public void srot(int n, FloatBuffer sx, int offsetsx, int incx, FloatBuffer sy, int offsetsy, int incy, float c, float s);
 
   public void drotg(org.netlib.util.doubleW da, org.netlib.util.doubleW db, org.netlib.util.doubleW c, org.netlib.util.doubleW s);
 
@@ -100,141 +207,233 @@ public interface BLAS {
 
   public void drotm(int n, double[] dx, int incx, double[] dy, int incy, double[] dparam);
   public void drotm(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double[] dparam, int offsetdparam);
+  public void drotm(int n, DoubleBuffer dx, int incx, DoubleBuffer dy, int incy, DoubleBuffer dparam);
+  public void drotm(int n, DoubleBuffer dx, int offsetdx, int incx, DoubleBuffer dy, int offsetdy, int incy, DoubleBuffer dparam, int offsetdparam);
 
   public void srotm(int n, float[] sx, int incx, float[] sy, int incy, float[] sparam);
   public void srotm(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float[] sparam, int offsetsparam);
+  public void srotm(int n, FloatBuffer sx, int incx, FloatBuffer sy, int incy, FloatBuffer sparam);
+  public void srotm(int n, FloatBuffer sx, int offsetsx, int incx, FloatBuffer sy, int offsetsy, int incy, FloatBuffer sparam, int offsetsparam);
 
   public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] dparam);
   public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] dparam, int offsetdparam);
+  public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, DoubleBuffer dparam);
+  public void drotmg(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, DoubleBuffer dparam, int offsetdparam);
 
   public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] sparam);
   public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] sparam, int offsetsparam);
+  public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, FloatBuffer sparam);
+  public void srotmg(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, FloatBuffer sparam, int offsetsparam);
 
   public void dsbmv(String uplo, int n, int k, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy);
   public void dsbmv(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
+  public void dsbmv(String uplo, int n, int k, double alpha, DoubleBuffer a, int lda, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy);
+  public void dsbmv(String uplo, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
 
   public void ssbmv(String uplo, int n, int k, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy);
   public void ssbmv(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+  public void ssbmv(String uplo, int n, int k, float alpha, FloatBuffer a, int lda, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy);
+  public void ssbmv(String uplo, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
 
   public void dscal(int n, double alpha, double[] x, int incx);
   public void dscal(int n, double alpha, double[] x, int offsetx, int incx);
+  public void dscal(int n, double alpha, DoubleBuffer x, int incx);
+  public void dscal(int n, double alpha, DoubleBuffer x, int offsetx, int incx);
 
   public void sscal(int n, float alpha, float[] x, int incx);
   public void sscal(int n, float alpha, float[] x, int offsetx, int incx);
+  public void sscal(int n, float alpha, FloatBuffer x, int incx);
+  public void sscal(int n, float alpha, FloatBuffer x, int offsetx, int incx);
 
   public void dspmv(String uplo, int n, double alpha, double[] a, double[] x, int incx, double beta, double[] y, int incy);
   public void dspmv(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
+  public void dspmv(String uplo, int n, double alpha, DoubleBuffer a, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy);
+  public void dspmv(String uplo, int n, double alpha, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
 
   public void sspmv(String uplo, int n, float alpha, float[] ap, float[] x, int incx, float beta, float[] y, int incy);
   public void sspmv(String uplo, int n, float alpha, float[] ap, int offsetap, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+  public void sspmv(String uplo, int n, float alpha, FloatBuffer ap, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy);
+  public void sspmv(String uplo, int n, float alpha, FloatBuffer ap, int offsetap, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
 
   public void dspr(String uplo, int n, double alpha, double[] x, int incx, double[] a);
   public void dspr(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta);
+  public void dspr(String uplo, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer a);
+  public void dspr(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta);
 
   public void sspr(String uplo, int n, float alpha, float[] x, int incx, float[] ap);
   public void sspr(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] ap, int offsetap);
+  public void sspr(String uplo, int n, float alpha, FloatBuffer x, int incx, FloatBuffer ap);
+  public void sspr(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer ap, int offsetap);
 
   public void dspr2(String uplo, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] ap);
   public void dspr2(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] ap, int offsetap);
+  public void dspr2(String uplo, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer ap);
+  public void dspr2(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer ap, int offsetap);
 
   public void sspr2(String uplo, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] ap);
   public void sspr2(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] ap, int offsetap);
+  public void sspr2(String uplo, int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer ap);
+  public void sspr2(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer ap, int offsetap);
 
   public void dswap(int n, double[] x, int incx, double[] y, int incy);
   public void dswap(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
+  public void dswap(int n, DoubleBuffer x, int incx, DoubleBuffer y, int incy);
+  public void dswap(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
 
   public void sswap(int n, float[] x, int incx, float[] y, int incy);
   public void sswap(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
+  public void sswap(int n, FloatBuffer x, int incx, FloatBuffer y, int incy);
+  public void sswap(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
 
   public void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int Ldc);
   public void dsymm(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int Ldc);
+  public void dsymm(String side, String uplo, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, double beta, DoubleBuffer c, int Ldc);
+  public void dsymm(String side, String uplo, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int Ldc);
 
   public void ssymm(String side, String uplo, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int Ldc);
   public void ssymm(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc);
+  public void ssymm(String side, String uplo, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb, float beta, FloatBuffer c, int Ldc);
+  public void ssymm(String side, String uplo, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int Ldc);
 
   public void dsymv(String uplo, int n, double alpha, double[] a, int lda, double[] x, int incx, double beta, double[] y, int incy);
   public void dsymv(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
+  public void dsymv(String uplo, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer x, int incx, double beta, DoubleBuffer y, int incy);
+  public void dsymv(String uplo, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
 
   public void ssymv(String uplo, int n, float alpha, float[] a, int lda, float[] x, int incx, float beta, float[] y, int incy);
   public void ssymv(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
+  public void ssymv(String uplo, int n, float alpha, FloatBuffer a, int lda, FloatBuffer x, int incx, float beta, FloatBuffer y, int incy);
+  public void ssymv(String uplo, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
 
   public void dsyr(String uplo, int n, double alpha, double[] x, int incx, double[] a, int lda);
   public void dsyr(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda);
+  public void dsyr(String uplo, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer a, int lda);
+  public void dsyr(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta, int lda);
 
   public void ssyr(String uplo, int n, float alpha, float[] x, int incx, float[] a, int lda);
   public void ssyr(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda);
+  public void ssyr(String uplo, int n, float alpha, FloatBuffer x, int incx, FloatBuffer a, int lda);
+  public void ssyr(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta, int lda);
 
   public void dsyr2(String uplo, int n, double alpha, double[] x, int incx, double[] y, int incy, double[] a, int lda);
   public void dsyr2(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
+  public void dsyr2(String uplo, int n, double alpha, DoubleBuffer x, int incx, DoubleBuffer y, int incy, DoubleBuffer a, int lda);
+  public void dsyr2(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda);
 
   public void ssyr2(String uplo, int n, float alpha, float[] x, int incx, float[] y, int incy, float[] a, int lda);
   public void ssyr2(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
+  public void ssyr2(String uplo, int n, float alpha, FloatBuffer x, int incx, FloatBuffer y, int incy, FloatBuffer a, int lda);
+  public void ssyr2(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda);
 
   public void dsyr2k(String uplo, String trans, int n, int k, double alpha, double[] a, int lda, double[] b, int ldb, double beta, double[] c, int Ldc);
   public void dsyr2k(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int Ldc);
+  public void dsyr2k(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, double beta, DoubleBuffer c, int Ldc);
+  public void dsyr2k(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int Ldc);
 
   public void ssyr2k(String uplo, String trans, int n, int k, float alpha, float[] a, int lda, float[] b, int ldb, float beta, float[] c, int Ldc);
   public void ssyr2k(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int Ldc);
+  public void ssyr2k(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb, float beta, FloatBuffer c, int Ldc);
+  public void ssyr2k(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int Ldc);
 
   public void dsyrk(String uplo, String trans, int n, int k, double alpha, double[] a, int lda, double beta, double[] c, int Ldc);
   public void dsyrk(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int Ldc);
+  public void dsyrk(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int lda, double beta, DoubleBuffer c, int Ldc);
+  public void dsyrk(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, double beta, DoubleBuffer c, int offsetc, int Ldc);
 
   public void ssyrk(String uplo, String trans, int n, int k, float alpha, float[] a, int lda, float beta, float[] c, int Ldc);
   public void ssyrk(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int Ldc);
+  public void ssyrk(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int lda, float beta, FloatBuffer c, int Ldc);
+  public void ssyrk(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, float beta, FloatBuffer c, int offsetc, int Ldc);
 
   public void dtbmv(String uplo, String trans, String diag, int n, int k, double[] a, int lda, double[] x, int incx);
   public void dtbmv(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
+  public void dtbmv(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int lda, DoubleBuffer x, int incx);
+  public void dtbmv(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx);
 
   public void stbmv(String uplo, String trans, String diag, int n, int k, float[] a, int lda, float[] x, int incx);
   public void stbmv(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
+  public void stbmv(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int lda, FloatBuffer x, int incx);
+  public void stbmv(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx);
 
   public void dtbsv(String uplo, String trans, String diag, int n, int k, double[] a, int lda, double[] x, int incx);
   public void dtbsv(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
+  public void dtbsv(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int lda, DoubleBuffer x, int incx);
+  public void dtbsv(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx);
 
   public void stbsv(String uplo, String trans, String diag, int n, int k, float[] a, int lda, float[] x, int incx);
   public void stbsv(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
+  public void stbsv(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int lda, FloatBuffer x, int incx);
+  public void stbsv(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx);
 
   public void dtpmv(String uplo, String trans, String diag, int n, double[] ap, double[] x, int incx);
   public void dtpmv(String uplo, String trans, String diag, int n, double[] ap, int offsetap, double[] x, int offsetx, int incx);
+  public void dtpmv(String uplo, String trans, String diag, int n, DoubleBuffer ap, DoubleBuffer x, int incx);
+  public void dtpmv(String uplo, String trans, String diag, int n, DoubleBuffer ap, int offsetap, DoubleBuffer x, int offsetx, int incx);
 
   public void stpmv(String uplo, String trans, String diag, int n, float[] ap, float[] x, int incx);
   public void stpmv(String uplo, String trans, String diag, int n, float[] ap, int offsetap, float[] x, int offsetx, int incx);
+  public void stpmv(String uplo, String trans, String diag, int n, FloatBuffer ap, FloatBuffer x, int incx);
+  public void stpmv(String uplo, String trans, String diag, int n, FloatBuffer ap, int offsetap, FloatBuffer x, int offsetx, int incx);
 
   public void dtpsv(String uplo, String trans, String diag, int n, double[] ap, double[] x, int incx);
   public void dtpsv(String uplo, String trans, String diag, int n, double[] ap, int offsetap, double[] x, int offsetx, int incx);
+  public void dtpsv(String uplo, String trans, String diag, int n, DoubleBuffer ap, DoubleBuffer x, int incx);
+  public void dtpsv(String uplo, String trans, String diag, int n, DoubleBuffer ap, int offsetap, DoubleBuffer x, int offsetx, int incx);
 
   public void stpsv(String uplo, String trans, String diag, int n, float[] ap, float[] x, int incx);
   public void stpsv(String uplo, String trans, String diag, int n, float[] ap, int offsetap, float[] x, int offsetx, int incx);
+  public void stpsv(String uplo, String trans, String diag, int n, FloatBuffer ap, FloatBuffer x, int incx);
+  public void stpsv(String uplo, String trans, String diag, int n, FloatBuffer ap, int offsetap, FloatBuffer x, int offsetx, int incx);
 
   public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb);
   public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb);
+  public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb);
+  public void dtrmm(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb);
 
   public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb);
   public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb);
+  public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb);
+  public void strmm(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb);
 
   public void dtrmv(String uplo, String trans, String diag, int n, double[] a, int lda, double[] x, int incx);
   public void dtrmv(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
+  public void dtrmv(String uplo, String trans, String diag, int n, DoubleBuffer a, int lda, DoubleBuffer x, int incx);
+  public void dtrmv(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx);
 
   public void strmv(String uplo, String trans, String diag, int n, float[] a, int lda, float[] x, int incx);
   public void strmv(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
+  public void strmv(String uplo, String trans, String diag, int n, FloatBuffer a, int lda, FloatBuffer x, int incx);
+  public void strmv(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx);
 
   public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int lda, double[] b, int ldb);
   public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb);
+  public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int lda, DoubleBuffer b, int ldb);
+  public void dtrsm(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb);
 
   public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int lda, float[] b, int ldb);
   public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb);
+  public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int lda, FloatBuffer b, int ldb);
+  public void strsm(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb);
 
   public void dtrsv(String uplo, String trans, String diag, int n, double[] a, int lda, double[] x, int incx);
   public void dtrsv(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
+  public void dtrsv(String uplo, String trans, String diag, int n, DoubleBuffer a, int lda, DoubleBuffer x, int incx);
+  public void dtrsv(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx);
 
   public void strsv(String uplo, String trans, String diag, int n, float[] a, int lda, float[] x, int incx);
   public void strsv(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
+  public void strsv(String uplo, String trans, String diag, int n, FloatBuffer a, int lda, FloatBuffer x, int incx);
+  public void strsv(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx);
 
   public int idamax(int n, double[] x, int incx);
   public int idamax(int n, double[] x, int offsetx, int incx);
+  public int idamax(int n, DoubleBuffer x, int incx);
+  public int idamax(int n, DoubleBuffer x, int offsetx, int incx);
 
   public int isamax(int n, float[] sx, int incx);
   public int isamax(int n, float[] sx, int offsetsx, int incx);
+  public int isamax(int n, FloatBuffer sx, int incx);
+  public int isamax(int n, FloatBuffer sx, int offsetsx, int incx);
 
   public boolean lsame(String ca, String cb);
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Crossovers of HybridBLAS: for each routine, the size of the problem from which the native
+// implementation is called rather than the Java one. The size is the number of elements of the
+// vectors for Level 1 routines, of the matrix for Level 2 routines, and the number of
+// multiply-adds for Level 3 routines.
+//
+// Each level has a default crossover, replaced by the ones in -Ddev.ludovic.netlib.blas.crossoverFile,
+// which can also list routines on their own. The defaults are estimates, not measurements: they
+// apply to every routine unless the file lists it. When the file doesn't exist and
+// -Ddev.ludovic.netlib.blas.calibrate=true, the crossovers of each family of routines are measured
+// at startup and saved in it, see calibrate. -Ddev.ludovic.netlib.blas.crossover.<routine> takes
+// precedence over both.
+final class Crossovers {
+
+  private static final Logger log = Logger.getLogger(Crossovers.class.getName());
+
+  static final int LEVEL1 = 0, LEVEL2 = 1, LEVEL3 = 2;
+
+  // 64K elements for vectors, 256x256 for matrices, and 64x64x64 for matrix products
+  private static final long[] defaults = { 1L << 16, 1L << 16, 64L * 64L * 64L };
+
+  private final long[] levels;
+  private final Properties routines;
+
+  Crossovers(AbstractBLAS javaBlas, AbstractBLAS nativeBlas) {
+    File file = new File(System.getProperty("dev.ludovic.netlib.blas.crossoverFile",
+                                            System.getProperty("user.home") + "/.cache/dev.ludovic.netlib/blas-crossover.properties"));
+    String machine = machine(nativeBlas);
+    Properties properties = load(file, machine);
+    if (properties == null && Boolean.getBoolean("dev.ludovic.netlib.blas.calibrate")) {
+      properties = calibrate(javaBlas, nativeBlas);
+      save(file, machine, properties);
+    }
+    boolean loaded = properties != null;
+    routines = loaded ? properties : new Properties();
+
+    levels = new long[defaults.length];
+    for (int level = 0; level < levels.length; level += 1) {
+      levels[level] = parse("level" + (level + 1), routines.getProperty("level" + (level + 1)), defaults[level]);
+    }
+
+    log.fine(() -> String.format("crossovers %d/%d/%d%s", levels[0], levels[1], levels[2], loaded ? " (from " + file + ")" : ""));
+  }
+
+  long get(String routine, int level) {
+    String property = System.getProperty("dev.ludovic.netlib.blas.crossover." + routine);
+    if (property != null) {
+      return parse("dev.ludovic.netlib.blas.crossover." + routine, property, levels[level]);
+    }
+    return parse(routine, routines.getProperty(routine), levels[level]);
+  }
+
+  private static long parse(String name, String value, long fallback) {
+    if (value == null) {
+      return fallback;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      log.warning("Ignoring malformed crossover " + name + ": " + value);
+      return fallback;
+    }
+  }
+
+  // The crossovers depend on both implementations, and on the native library loaded
+  private static String machine(AbstractBLAS nativeBlas) {
+    return String.join("/", Tuning.machine(), nativeBlas.getClass().getName(),
+                       System.getProperty("dev.ludovic.netlib.blas.nativeLibPath", System.getProperty("dev.ludovic.netlib.blas.nativeLib", "")));
+  }
+
+  // A file without machine applies to all machines, which allows to write it by hand
+  private static Properties load(File file, String machine) {
+    if (!file.isFile()) {
+      return null;
+    }
+    Properties properties = new Properties();
+    try (InputStream in = new FileInputStream(file)) {
+      properties.load(in);
+    } catch (IOException e) {
+      log.log(Level.FINE, "Failed to read " + file, e);
+      return null;
+    }
+    String saved = properties.getProperty("machine");
+    if (saved != null && !saved.equals(machine)) {
+      return null;
+    }
+    return properties;
+  }
+
+  private static void save(File file, String machine, Properties properties) {
+    Properties saved = new Properties();
+    saved.putAll(properties);
+    saved.setProperty("machine", machine);
+    file.getAbsoluteFile().getParentFile().mkdirs();
+    try (OutputStream out = new FileOutputStream(file)) {
+      saved.store(out, "dev.ludovic.netlib.blas crossovers");
+    } catch (IOException e) {
+      log.log(Level.WARNING, "Failed to save the crossovers to " + file, e);
+    }
+  }
+
+  private interface Kernel {
+    void run(AbstractBLAS blas, int dim);
+  }
+
+  // Times both implementations of one representative per family of routines sharing an access
+  // pattern, in each precision, on growing sizes; the other routines of the family take its
+  // crossover. The levels, measured on ddot, dgemv, and dgemm, are kept for the routines not listed
+  // here. It takes several seconds.
+  private static Properties calibrate(AbstractBLAS javaBlas, AbstractBLAS nativeBlas) {
+    Random random = new Random(0);
+    final int n = 1 << 20;
+    double[] a = new double[n], b = new double[n], x = new double[n], y = new double[n];
+    float[] sa = new float[n], sb = new float[n], sx = new float[n], sy = new float[n];
+    // unit upper triangular with entries below 2^-10, so that repeated solves stay bounded
+    double[] t = new double[n];
+    float[] st = new float[n];
+    for (int i = 0; i < n; i += 1) {
+      sa[i] = (float)(a[i] = random.nextDouble());
+      sb[i] = (float)(b[i] = random.nextDouble());
+      sx[i] = (float)(x[i] = random.nextDouble());
+      sy[i] = (float)(y[i] = random.nextDouble());
+      st[i] = (float)(t[i] = random.nextDouble() / 1024.0);
+    }
+    // the solves overwrite their right-hand sides, which are hence copied from x first, at the
+    // same cost to both implementations
+    double[] z = new double[n];
+    float[] sz = new float[n];
+
+    int[] dims1 = { 64, 256, 1024, 4096, 16384, 65536, 262144, 1048576 };
+    int[] dims2 = { 16, 32, 64, 128, 256, 512, 1024 };
+    int[] dims3 = { 8, 16, 32, 64, 128, 256 };
+
+    Properties properties = new Properties();
+
+    long ddot = crossover(javaBlas, nativeBlas, dims1, 1, (blas, dim) -> blas.ddotK(dim, x, 0, 1, y, 0, 1));
+    set(properties, ddot, "level1", "ddot", "ddot2", "daxpydot");
+    set(properties, crossover(javaBlas, nativeBlas, dims1, 1, (blas, dim) -> blas.sdotK(dim, sx, 0, 1, sy, 0, 1)),
+        "sdot", "sdot2", "sdsdot", "saxpydot");
+    set(properties, crossover(javaBlas, nativeBlas, dims1, 1, (blas, dim) -> blas.daxpyK(dim, 1.0, x, 0, 1, y, 0, 1)),
+        "daxpy", "daxpby", "dcopy", "dswap", "dscal", "drot", "drotm");
+    set(properties, crossover(javaBlas, nativeBlas, dims1, 1, (blas, dim) -> blas.saxpyK(dim, 1.0f, sx, 0, 1, sy, 0, 1)),
+        "saxpy", "saxpby", "scopy", "sswap", "sscal", "srot", "srotm");
+    set(properties, crossover(javaBlas, nativeBlas, dims1, 1, (blas, dim) -> blas.dasumK(dim, x, 0, 1)),
+        "dasum", "dnrm2", "idamax");
+    set(properties, crossover(javaBlas, nativeBlas, dims1, 1, (blas, dim) -> blas.sasumK(dim, sx, 0, 1)),
+        "sasum", "snrm2", "isamax");
+
+    long dgemv = crossover(javaBlas, nativeBlas, dims2, 2, (blas, dim) -> blas.dgemvK("N", dim, dim, 1.0, a, 0, dim, x, 0, 1, 0.0, y, 0, 1));
+    set(properties, dgemv, "level2", "dgemv", "dgemv2", "dgbmv", "dsymv", "dsbmv", "dspmv");
+    set(properties, crossover(javaBlas, nativeBlas, dims2, 2, (blas, dim) -> blas.sgemvK("N", dim, dim, 1.0f, sa, 0, dim, sx, 0, 1, 0.0f, sy, 0, 1)),
+        "sgemv", "sgemv2", "sgbmv", "ssymv", "ssbmv", "sspmv");
+    set(properties, crossover(javaBlas, nativeBlas, dims2, 2, (blas, dim) -> {
+          System.arraycopy(x, 0, z, 0, dim);
+          blas.dtrsvK("U", "N", "U", dim, t, 0, dim, z, 0, 1);
+        }),
+        "dtrsv", "dtbsv", "dtpsv", "dtrmv", "dtbmv", "dtpmv");
+    set(properties, crossover(javaBlas, nativeBlas, dims2, 2, (blas, dim) -> {
+          System.arraycopy(sx, 0, sz, 0, dim);
+          blas.strsvK("U", "N", "U", dim, st, 0, dim, sz, 0, 1);
+        }),
+        "strsv", "stbsv", "stpsv", "strmv", "stbmv", "stpmv");
+    set(properties, crossover(javaBlas, nativeBlas, dims2, 2, (blas, dim) -> blas.dgerK(dim, dim, 1.0, x, 0, 1, y, 0, 1, b, 0, dim)),
+        "dger", "dsyr", "dsyr2", "dspr", "dspr2");
+    set(properties, crossover(javaBlas, nativeBlas, dims2, 2, (blas, dim) -> blas.sgerK(dim, dim, 1.0f, sx, 0, 1, sy, 0, 1, sb, 0, dim)),
+        "sger", "ssyr", "ssyr2", "sspr", "sspr2");
+
+    long dgemm = crossover(javaBlas, nativeBlas, dims3, 3, (blas, dim) -> blas.dgemmK("N", "N", dim, dim, dim, 1.0, a, 0, dim, b, 0, dim, 0.0, y, 0, dim));
+    set(properties, dgemm, "level3", "dgemm", "dsymm");
+    set(properties, crossover(javaBlas, nativeBlas, dims3, 3, (blas, dim) -> blas.sgemmK("N", "N", dim, dim, dim, 1.0f, sa, 0, dim, sb, 0, dim, 0.0f, sy, 0, dim)),
+        "sgemm", "ssymm");
+    set(properties, crossover(javaBlas, nativeBlas, dims3, 3, (blas, dim) -> {
+          System.arraycopy(x, 0, z, 0, dim * dim);
+          blas.dtrsmK("L", "U", "N", "U", dim, dim, 1.0, t, 0, dim, z, 0, dim);
+        }),
+        "dtrsm", "dtrmm");
+    set(properties, crossover(javaBlas, nativeBlas, dims3, 3, (blas, dim) -> {
+          System.arraycopy(sx, 0, sz, 0, dim * dim);
+          blas.strsmK("L", "U", "N", "U", dim, dim, 1.0f, st, 0, dim, sz, 0, dim);
+        }),
+        "strsm", "strmm");
+    set(properties, crossover(javaBlas, nativeBlas, dims3, 3, (blas, dim) -> blas.dsyrkK("U", "N", dim, dim, 1.0, a, 0, dim, 0.0, y, 0, dim)),
+        "dsyrk", "dsyr2k");
+    set(properties, crossover(javaBlas, nativeBlas, dims3, 3, (blas, dim) -> blas.ssyrkK("U", "N", dim, dim, 1.0f, sa, 0, dim, 0.0f, sy, 0, dim)),
+        "ssyrk", "ssyr2k");
+    return properties;
+  }
+
+  private static void set(Properties properties, long crossover, String... keys) {
+    for (String key : keys) {
+      properties.setProperty(key, Long.toString(crossover));
+    }
+  }
+
+  // The smallest size from which the native implementation is faster on it and all the larger sizes,
+  // where the size is dim to the given power
+  private static long crossover(AbstractBLAS javaBlas, AbstractBLAS nativeBlas, int[] dims, int power, Kernel kernel) {
+    long[] javaTimes = new long[dims.length], nativeTimes = new long[dims.length];
+    // the first round lets the JIT compile the Java kernels
+    for (int round = 0; round < 2; round += 1) {
+      for (int i = 0; i < dims.length; i += 1) {
+        javaTimes[i] = time(javaBlas, dims[i], power, kernel);
+        nativeTimes[i] = time(nativeBlas, dims[i], power, kernel);
+      }
+    }
+    long crossover = Long.MAX_VALUE;
+    for (int i = dims.length - 1; i >= 0; i -= 1) {
+      if (nativeTimes[i] >= javaTimes[i]) {
+        break;
+      }
+      crossover = (long)Math.pow(dims[i], power);
+    }
+    return crossover;
+  }
+
+  // Best of 3, each repeating the call to cover about 4M elements or multiply-adds
+  private static long time(AbstractBLAS blas, int dim, int power, Kernel kernel) {
+    long repeats = Math.max(1, (1L << 22) / (long)Math.pow(dim, power));
+    long best = Long.MAX_VALUE;
+    for (int rep = 0; rep < 3; rep += 1) {
+      long start = System.nanoTime();
+      for (long i = 0; i < repeats; i += 1) {
+        kernel.run(blas, dim);
+      }
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return best;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+// Conversions to float of the 16-bit storage formats of hgemm, hgemv, bgemm and bgemv. Half
+// precision goes through Float.float16ToFloat from Java 20 on, which the JIT compiles to the
+// hardware conversion, and through the same conversion written out below before that. bfloat16
+// is the upper half of a float, so it only needs a shift.
+final class Float16 {
+
+  private static final MethodHandle float16ToFloat = float16ToFloat();
+
+  private Float16() {}
+
+  private static MethodHandle float16ToFloat() {
+    MethodType type = MethodType.methodType(float.class, short.class);
+    try {
+      return MethodHandles.publicLookup().findStatic(Float.class, "float16ToFloat", type);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      try {
+        return MethodHandles.lookup().findStatic(Float16.class, "halfToFloat", type);
+      } catch (NoSuchMethodException | IllegalAccessException e2) {
+        throw new ExceptionInInitializerError(e2);
+      }
+    }
+  }
+
+  static float toFloat(short half) {
+    try {
+      return (float)float16ToFloat.invokeExact(half);
+    } catch (Throwable t) {
+      throw new AssertionError(t);
+    }
+  }
+
+  static float bfloat16ToFloat(short bfloat16) {
+    return Float.intBitsToFloat(bfloat16 << 16);
+  }
+
+  static float toFloat(short value, boolean bfloat16) {
+    return bfloat16 ? bfloat16ToFloat(value) : toFloat(value);
+  }
+
+  static float[] toFloat(short[] src, int offset, int length, boolean bfloat16) {
+    float[] dst = new float[length];
+    for (int i = 0; i < length; i += 1) {
+      dst[i] = toFloat(src[offset + i], bfloat16);
+    }
+    return dst;
+  }
+
+  // Same as Float.float16ToFloat. Moving the exponent and the mantissa into the low bits of a float
+  // and scaling by 2^(127 - 15) gives the value of normal and subnormal halfs alike, only infinities
+  // and NaNs need their exponent fixed up.
+  static float halfToFloat(short half) {
+    int bits = (half & 0x7fff) << 13;
+    int magnitude = bits >= 0x7c00 << 13
+      ? bits | 0x7f800000
+      : Float.floatToRawIntBits(Float.intBitsToFloat(bits) * 0x1p112f);
+    return Float.intBitsToFloat(magnitude | (half & 0x8000) << 16);
+  }
+}
@@ -0,0 +1,848 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+// Calls the Java implementation on problems smaller than the crossover of the routine, where
+// crossing into native code costs more than the work itself, and the native one otherwise.
+// See Crossovers for how the size of a problem is measured and where the crossovers come from.
+final class HybridBLAS extends AbstractBLAS {
+
+  private final AbstractBLAS javaBlas;
+  private final AbstractBLAS nativeBlas;
+
+  private final long dasum;
+  private final long sasum;
+  private final long daxpy;
+  private final long saxpy;
+  private final long daxpby;
+  private final long daxpydot;
+  private final long saxpby;
+  private final long saxpydot;
+  private final long dcopy;
+  private final long scopy;
+  private final long ddot;
+  private final long sdot;
+  private final long ddot2;
+  private final long sdot2;
+  private final long sdsdot;
+  private final long dgbmv;
+  private final long sgbmv;
+  private final long dgemm;
+  private final long sgemm;
+  private final long dgemmBatched;
+  private final long dgemmStridedBatched;
+  private final long sgemmBatched;
+  private final long sgemmStridedBatched;
+  private final long hgemm;
+  private final long bgemm;
+  private final long dgemv;
+  private final long sgemv;
+  private final long dgemv2;
+  private final long sgemv2;
+  private final long dger;
+  private final long sger;
+  private final long dnrm2;
+  private final long snrm2;
+  private final long drot;
+  private final long srot;
+  private final long drotm;
+  private final long srotm;
+  private final long dsbmv;
+  private final long ssbmv;
+  private final long dscal;
+  private final long sscal;
+  private final long dspmv;
+  private final long sspmv;
+  private final long dspr;
+  private final long sspr;
+  private final long dspr2;
+  private final long sspr2;
+  private final long dswap;
+  private final long sswap;
+  private final long dsymm;
+  private final long ssymm;
+  private final long dsymv;
+  private final long ssymv;
+  private final long dsyr;
+  private final long ssyr;
+  private final long dsyr2;
+  private final long ssyr2;
+  private final long dsyr2k;
+  private final long ssyr2k;
+  private final long dsyrk;
+  private final long ssyrk;
+  private final long dtbmv;
+  private final long stbmv;
+  private final long dtbsv;
+  private final long stbsv;
+  private final long dtpmv;
+  private final long stpmv;
+  private final long dtpsv;
+  private final long stpsv;
+  private final long dtrmm;
+  private final long strmm;
+  private final long dtrmv;
+  private final long strmv;
+  private final long dtrsm;
+  private final long strsm;
+  private final long dtrsv;
+  private final long strsv;
+  private final long idamax;
+  private final long isamax;
+
+  HybridBLAS(JavaBLAS javaBlas, NativeBLAS nativeBlas) {
+    this.javaBlas = (AbstractBLAS)javaBlas;
+    this.nativeBlas = (AbstractBLAS)nativeBlas;
+
+    Crossovers crossovers = new Crossovers(this.javaBlas, this.nativeBlas);
+    dasum = crossovers.get("dasum", Crossovers.LEVEL1);
+    sasum = crossovers.get("sasum", Crossovers.LEVEL1);
+    daxpy = crossovers.get("daxpy", Crossovers.LEVEL1);
+    saxpy = crossovers.get("saxpy", Crossovers.LEVEL1);
+    daxpby = crossovers.get("daxpby", Crossovers.LEVEL1);
+    daxpydot = crossovers.get("daxpydot", Crossovers.LEVEL1);
+    saxpby = crossovers.get("saxpby", Crossovers.LEVEL1);
+    saxpydot = crossovers.get("saxpydot", Crossovers.LEVEL1);
+    dcopy = crossovers.get("dcopy", Crossovers.LEVEL1);
+    scopy = crossovers.get("scopy", Crossovers.LEVEL1);
+    ddot = crossovers.get("ddot", Crossovers.LEVEL1);
+    sdot = crossovers.get("sdot", Crossovers.LEVEL1);
+    ddot2 = crossovers.get("ddot2", Crossovers.LEVEL1);
+    sdot2 = crossovers.get("sdot2", Crossovers.LEVEL1);
+    sdsdot = crossovers.get("sdsdot", Crossovers.LEVEL1);
+    dgbmv = crossovers.get("dgbmv", Crossovers.LEVEL2);
+    sgbmv = crossovers.get("sgbmv", Crossovers.LEVEL2);
+    dgemm = crossovers.get("dgemm", Crossovers.LEVEL3);
+    sgemm = crossovers.get("sgemm", Crossovers.LEVEL3);
+    dgemmBatched = crossovers.get("dgemmBatched", Crossovers.LEVEL3);
+    dgemmStridedBatched = crossovers.get("dgemmStridedBatched", Crossovers.LEVEL3);
+    sgemmBatched = crossovers.get("sgemmBatched", Crossovers.LEVEL3);
+    sgemmStridedBatched = crossovers.get("sgemmStridedBatched", Crossovers.LEVEL3);
+    hgemm = crossovers.get("hgemm", Crossovers.LEVEL3);
+    bgemm = crossovers.get("bgemm", Crossovers.LEVEL3);
+    dgemv = crossovers.get("dgemv", Crossovers.LEVEL2);
+    sgemv = crossovers.get("sgemv", Crossovers.LEVEL2);
+    dgemv2 = crossovers.get("dgemv2", Crossovers.LEVEL2);
+    sgemv2 = crossovers.get("sgemv2", Crossovers.LEVEL2);
+    dger = crossovers.get("dger", Crossovers.LEVEL2);
+    sger = crossovers.get("sger", Crossovers.LEVEL2);
+    dnrm2 = crossovers.get("dnrm2", Crossovers.LEVEL1);
+    snrm2 = crossovers.get("snrm2", Crossovers.LEVEL1);
+    drot = crossovers.get("drot", Crossovers.LEVEL1);
+    srot = crossovers.get("srot", Crossovers.LEVEL1);
+    drotm = crossovers.get("drotm", Crossovers.LEVEL1);
+    srotm = crossovers.get("srotm", Crossovers.LEVEL1);
+    dsbmv = crossovers.get("dsbmv", Crossovers.LEVEL2);
+    ssbmv = crossovers.get("ssbmv", Crossovers.LEVEL2);
+    dscal = crossovers.get("dscal", Crossovers.LEVEL1);
+    sscal = crossovers.get("sscal", Crossovers.LEVEL1);
+    dspmv = crossovers.get("dspmv", Crossovers.LEVEL2);
+    sspmv = crossovers.get("sspmv", Crossovers.LEVEL2);
+    dspr = crossovers.get("dspr", Crossovers.LEVEL2);
+    sspr = crossovers.get("sspr", Crossovers.LEVEL2);
+    dspr2 = crossovers.get("dspr2", Crossovers.LEVEL2);
+    sspr2 = crossovers.get("sspr2", Crossovers.LEVEL2);
+    dswap = crossovers.get("dswap", Crossovers.LEVEL1);
+    sswap = crossovers.get("sswap", Crossovers.LEVEL1);
+    dsymm = crossovers.get("dsymm", Crossovers.LEVEL3);
+    ssymm = crossovers.get("ssymm", Crossovers.LEVEL3);
+    dsymv = crossovers.get("dsymv", Crossovers.LEVEL2);
+    ssymv = crossovers.get("ssymv", Crossovers.LEVEL2);
+    dsyr = crossovers.get("dsyr", Crossovers.LEVEL2);
+    ssyr = crossovers.get("ssyr", Crossovers.LEVEL2);
+    dsyr2 = crossovers.get("dsyr2", Crossovers.LEVEL2);
+    ssyr2 = crossovers.get("ssyr2", Crossovers.LEVEL2);
+    dsyr2k = crossovers.get("dsyr2k", Crossovers.LEVEL3);
+    ssyr2k = crossovers.get("ssyr2k", Crossovers.LEVEL3);
+    dsyrk = crossovers.get("dsyrk", Crossovers.LEVEL3);
+    ssyrk = crossovers.get("ssyrk", Crossovers.LEVEL3);
+    dtbmv = crossovers.get("dtbmv", Crossovers.LEVEL2);
+    stbmv = crossovers.get("stbmv", Crossovers.LEVEL2);
+    dtbsv = crossovers.get("dtbsv", Crossovers.LEVEL2);
+    stbsv = crossovers.get("stbsv", Crossovers.LEVEL2);
+    dtpmv = crossovers.get("dtpmv", Crossovers.LEVEL2);
+    stpmv = crossovers.get("stpmv", Crossovers.LEVEL2);
+    dtpsv = crossovers.get("dtpsv", Crossovers.LEVEL2);
+    stpsv = crossovers.get("stpsv", Crossovers.LEVEL2);
+    dtrmm = crossovers.get("dtrmm", Crossovers.LEVEL3);
+    strmm = crossovers.get("strmm", Crossovers.LEVEL3);
+    dtrmv = crossovers.get("dtrmv", Crossovers.LEVEL2);
+    strmv = crossovers.get("strmv", Crossovers.LEVEL2);
+    dtrsm = crossovers.get("dtrsm", Crossovers.LEVEL3);
+    strsm = crossovers.get("strsm", Crossovers.LEVEL3);
+    dtrsv = crossovers.get("dtrsv", Crossovers.LEVEL2);
+    strsv = crossovers.get("strsv", Crossovers.LEVEL2);
+    idamax = crossovers.get("idamax", Crossovers.LEVEL1);
+    isamax = crossovers.get("isamax", Crossovers.LEVEL1);
+  }
+
+  private AbstractBLAS select(long crossover, long size) {
+    return size < crossover ? javaBlas : nativeBlas;
+  }
+
+  // Direct buffers in native byte order are passed to native code as is, so there is nothing to
+  // save by staying in Java, whatever the size
+  private AbstractBLAS select(long crossover, long size, boolean direct) {
+    return direct ? nativeBlas : select(crossover, size);
+  }
+
+  protected double dasumK(int n, double[] x, int offsetx, int incx) {
+    return select(dasum, n).dasumK(n, x, offsetx, incx);
+  }
+
+  protected double dasumK(int n, DoubleBuffer x, int offsetx, int incx) {
+    return select(dasum, n, Buffers.isDirect(x)).dasumK(n, x, offsetx, incx);
+  }
+
+  protected float sasumK(int n, float[] x, int offsetx, int incx) {
+    return select(sasum, n).sasumK(n, x, offsetx, incx);
+  }
+
+  protected float sasumK(int n, FloatBuffer x, int offsetx, int incx) {
+    return select(sasum, n, Buffers.isDirect(x)).sasumK(n, x, offsetx, incx);
+  }
+
+  protected void daxpyK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    select(daxpy, n).daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void daxpyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    select(daxpy, n, Buffers.isDirect(x) && Buffers.isDirect(y)).daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void saxpyK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    select(saxpy, n).saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void saxpyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    select(saxpy, n, Buffers.isDirect(x) && Buffers.isDirect(y)).saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void daxpbyK(int n, double alpha, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    select(daxpby, n).daxpbyK(n, alpha, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void daxpbyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    select(daxpby, n, Buffers.isDirect(x) && Buffers.isDirect(y)).daxpbyK(n, alpha, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected double daxpydotK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz) {
+    return select(daxpydot, n).daxpydotK(n, alpha, x, offsetx, incx, y, offsety, incy, z, offsetz, incz);
+  }
+
+  protected double daxpydotK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer z, int offsetz, int incz) {
+    return select(daxpydot, n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(z)).daxpydotK(n, alpha, x, offsetx, incx, y, offsety, incy, z, offsetz, incz);
+  }
+
+  protected void saxpbyK(int n, float alpha, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    select(saxpby, n).saxpbyK(n, alpha, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void saxpbyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    select(saxpby, n, Buffers.isDirect(x) && Buffers.isDirect(y)).saxpbyK(n, alpha, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected float saxpydotK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz) {
+    return select(saxpydot, n).saxpydotK(n, alpha, x, offsetx, incx, y, offsety, incy, z, offsetz, incz);
+  }
+
+  protected float saxpydotK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer z, int offsetz, int incz) {
+    return select(saxpydot, n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(z)).saxpydotK(n, alpha, x, offsetx, incx, y, offsety, incy, z, offsetz, incz);
+  }
+
+  protected void dcopyK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    select(dcopy, n).dcopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dcopyK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    select(dcopy, n, Buffers.isDirect(x) && Buffers.isDirect(y)).dcopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void scopyK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    select(scopy, n).scopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void scopyK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    select(scopy, n, Buffers.isDirect(x) && Buffers.isDirect(y)).scopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    return select(ddot, n).ddotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected double ddotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    return select(ddot, n, Buffers.isDirect(x) && Buffers.isDirect(y)).ddotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected float sdotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    return select(sdot, n).sdotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected float sdotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    return select(sdot, n, Buffers.isDirect(x) && Buffers.isDirect(y)).sdotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void ddot2K(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz, double[] dots, int offsetdots) {
+    select(ddot2, n).ddot2K(n, x, offsetx, incx, y, offsety, incy, z, offsetz, incz, dots, offsetdots);
+  }
+
+  protected void ddot2K(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer z, int offsetz, int incz, DoubleBuffer dots, int offsetdots) {
+    select(ddot2, n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(z) && Buffers.isDirect(dots)).ddot2K(n, x, offsetx, incx, y, offsety, incy, z, offsetz, incz, dots, offsetdots);
+  }
+
+  protected void sdot2K(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz, float[] dots, int offsetdots) {
+    select(sdot2, n).sdot2K(n, x, offsetx, incx, y, offsety, incy, z, offsetz, incz, dots, offsetdots);
+  }
+
+  protected void sdot2K(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer z, int offsetz, int incz, FloatBuffer dots, int offsetdots) {
+    select(sdot2, n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(z) && Buffers.isDirect(dots)).sdot2K(n, x, offsetx, incx, y, offsety, incy, z, offsetz, incz, dots, offsetdots);
+  }
+
+  protected float sdsdotK(int n, float sb, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    return select(sdsdot, n).sdsdotK(n, sb, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected float sdsdotK(int n, float sb, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    return select(sdsdot, n, Buffers.isDirect(x) && Buffers.isDirect(y)).sdsdotK(n, sb, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    select(dgbmv, (long)n * (kl + ku + 1)).dgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    select(dgbmv, (long)n * (kl + ku + 1), Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y)).dgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    select(sgbmv, (long)n * (kl + ku + 1)).sgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    select(sgbmv, (long)n * (kl + ku + 1), Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y)).sgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    select(dgemm, (long)m * n * k).dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    select(dgemm, (long)m * n * k, Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c)).dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    select(sgemm, (long)m * n * k).sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    select(sgemm, (long)m * n * k, Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c)).sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dgemmBatchedK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int[] offsetsa, int lda, double[] b, int[] offsetsb, int ldb, double beta, double[] c, int[] offsetsc, int ldc, int batchCount) {
+    select(dgemmBatched, (long)m * n * k).dgemmBatchedK(transa, transb, m, n, k, alpha, a, offsetsa, lda, b, offsetsb, ldb, beta, c, offsetsc, ldc, batchCount);
+  }
+
+  protected void dgemmStridedBatchedK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, int stridea, double[] b, int offsetb, int ldb, int strideb, double beta, double[] c, int offsetc, int ldc, int stridec, int batchCount) {
+    select(dgemmStridedBatched, (long)m * n * k).dgemmStridedBatchedK(transa, transb, m, n, k, alpha, a, offseta, lda, stridea, b, offsetb, ldb, strideb, beta, c, offsetc, ldc, stridec, batchCount);
+  }
+
+  protected void sgemmBatchedK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int[] offsetsa, int lda, float[] b, int[] offsetsb, int ldb, float beta, float[] c, int[] offsetsc, int ldc, int batchCount) {
+    select(sgemmBatched, (long)m * n * k).sgemmBatchedK(transa, transb, m, n, k, alpha, a, offsetsa, lda, b, offsetsb, ldb, beta, c, offsetsc, ldc, batchCount);
+  }
+
+  protected void sgemmStridedBatchedK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, int stridea, float[] b, int offsetb, int ldb, int strideb, float beta, float[] c, int offsetc, int ldc, int stridec, int batchCount) {
+    select(sgemmStridedBatched, (long)m * n * k).sgemmStridedBatchedK(transa, transb, m, n, k, alpha, a, offseta, lda, stridea, b, offsetb, ldb, strideb, beta, c, offsetc, ldc, stridec, batchCount);
+  }
+
+  protected void hgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    select(hgemm, (long)m * n * k).hgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void bgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    select(bgemm, (long)m * n * k).bgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dgemvK(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    select(dgemv, (long)m * n).dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgemvK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    select(dgemv, (long)m * n, Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y)).dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sgemvK(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    select(sgemv, (long)m * n).sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sgemvK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    select(sgemv, (long)m * n, Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y)).sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgemv2K(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x1, int offsetx1, int incx1, double[] x2, int offsetx2, int incx2, double beta, double[] y1, int offsety1, int incy1, double[] y2, int offsety2, int incy2) {
+    select(dgemv2, (long)m * n).dgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+  }
+
+  protected void dgemv2K(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x1, int offsetx1, int incx1, DoubleBuffer x2, int offsetx2, int incx2, double beta, DoubleBuffer y1, int offsety1, int incy1, DoubleBuffer y2, int offsety2, int incy2) {
+    select(dgemv2, (long)m * n, Buffers.isDirect(a) && Buffers.isDirect(x1) && Buffers.isDirect(x2) && Buffers.isDirect(y1) && Buffers.isDirect(y2)).dgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+  }
+
+  protected void sgemv2K(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x1, int offsetx1, int incx1, float[] x2, int offsetx2, int incx2, float beta, float[] y1, int offsety1, int incy1, float[] y2, int offsety2, int incy2) {
+    select(sgemv2, (long)m * n).sgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+  }
+
+  protected void sgemv2K(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x1, int offsetx1, int incx1, FloatBuffer x2, int offsetx2, int incx2, float beta, FloatBuffer y1, int offsety1, int incy1, FloatBuffer y2, int offsety2, int incy2) {
+    select(sgemv2, (long)m * n, Buffers.isDirect(a) && Buffers.isDirect(x1) && Buffers.isDirect(x2) && Buffers.isDirect(y1) && Buffers.isDirect(y2)).sgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+  }
+
+  // No native library has a gemv with 16-bit A and float x, and converting A to float for sgemv
+  // costs more than the product itself, so these always stay in Java
+  protected void hgemvK(String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    javaBlas.hgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void bgemvK(String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    javaBlas.bgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    select(dger, (long)m * n).dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void dgerK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    select(dger, (long)m * n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a)).dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    select(sger, (long)m * n).sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void sgerK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    select(sger, (long)m * n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a)).sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected double dnrm2K(int n, double[] x, int offsetx, int incx) {
+    return select(dnrm2, n).dnrm2K(n, x, offsetx, incx);
+  }
+
+  protected double dnrm2K(int n, DoubleBuffer x, int offsetx, int incx) {
+    return select(dnrm2, n, Buffers.isDirect(x)).dnrm2K(n, x, offsetx, incx);
+  }
+
+  protected float snrm2K(int n, float[] x, int offsetx, int incx) {
+    return select(snrm2, n).snrm2K(n, x, offsetx, incx);
+  }
+
+  protected float snrm2K(int n, FloatBuffer x, int offsetx, int incx) {
+    return select(snrm2, n, Buffers.isDirect(x)).snrm2K(n, x, offsetx, incx);
+  }
+
+  protected void drotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double c, double s) {
+    select(drot, n).drotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+  }
+
+  protected void drotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, double c, double s) {
+    select(drot, n, Buffers.isDirect(x) && Buffers.isDirect(y)).drotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+  }
+
+  protected void srotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float c, float s) {
+    select(srot, n).srotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+  }
+
+  protected void srotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, float c, float s) {
+    select(srot, n, Buffers.isDirect(x) && Buffers.isDirect(y)).srotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+  }
+
+  protected void drotmK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] param, int offsetparam) {
+    select(drotm, n).drotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+  }
+
+  protected void drotmK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer param, int offsetparam) {
+    select(drotm, n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(param)).drotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+  }
+
+  protected void srotmK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] param, int offsetparam) {
+    select(srotm, n).srotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+  }
+
+  protected void srotmK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer param, int offsetparam) {
+    select(srotm, n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(param)).srotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+  }
+
+  protected void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] param, int offsetparam) {
+    javaBlas.drotmgK(dd1, dd2, dx1, dy1, param, offsetparam);
+  }
+
+  protected void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, DoubleBuffer param, int offsetparam) {
+    javaBlas.drotmgK(dd1, dd2, dx1, dy1, param, offsetparam);
+  }
+
+  protected void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] param, int offsetparam) {
+    javaBlas.srotmgK(sd1, sd2, sx1, sy1, param, offsetparam);
+  }
+
+  protected void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, FloatBuffer param, int offsetparam) {
+    javaBlas.srotmgK(sd1, sd2, sx1, sy1, param, offsetparam);
+  }
+
+  protected void dsbmvK(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    select(dsbmv, (long)n * (k + 1)).dsbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dsbmvK(String uplo, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    select(dsbmv, (long)n * (k + 1), Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y)).dsbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void ssbmvK(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    select(ssbmv, (long)n * (k + 1)).ssbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void ssbmvK(String uplo, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    select(ssbmv, (long)n * (k + 1), Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y)).ssbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dscalK(int n, double alpha, double[] x, int offsetx, int incx) {
+    select(dscal, n).dscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void dscalK(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    select(dscal, n, Buffers.isDirect(x)).dscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void sscalK(int n, float alpha, float[] x, int offsetx, int incx) {
+    select(sscal, n).sscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void sscalK(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    select(sscal, n, Buffers.isDirect(x)).sscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected void dspmvK(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    select(dspmv, (long)n * n).dspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dspmvK(String uplo, int n, double alpha, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    select(dspmv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y)).dspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sspmvK(String uplo, int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    select(sspmv, (long)n * n).sspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void sspmvK(String uplo, int n, float alpha, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    select(sspmv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y)).sspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dsprK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
+    select(dspr, (long)n * n).dsprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+  }
+
+  protected void dsprK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta) {
+    select(dspr, (long)n * n, Buffers.isDirect(x) && Buffers.isDirect(a)).dsprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+  }
+
+  protected void ssprK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta) {
+    select(sspr, (long)n * n).ssprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+  }
+
+  protected void ssprK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta) {
+    select(sspr, (long)n * n, Buffers.isDirect(x) && Buffers.isDirect(a)).ssprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+  }
+
+  protected void dspr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta) {
+    select(dspr2, (long)n * n).dspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+  }
+
+  protected void dspr2K(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta) {
+    select(dspr2, (long)n * n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a)).dspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+  }
+
+  protected void sspr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta) {
+    select(sspr2, (long)n * n).sspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+  }
+
+  protected void sspr2K(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta) {
+    select(sspr2, (long)n * n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a)).sspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+  }
+
+  protected void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    select(dswap, n).dswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dswapK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    select(dswap, n, Buffers.isDirect(x) && Buffers.isDirect(y)).dswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    select(sswap, n).sswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void sswapK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    select(sswap, n, Buffers.isDirect(x) && Buffers.isDirect(y)).sswapK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected void dsymmK(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    select(dsymm, (long)m * n * (lsame("L", side) ? m : n)).dsymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dsymmK(String side, String uplo, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    select(dsymm, (long)m * n * (lsame("L", side) ? m : n), Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c)).dsymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void ssymmK(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    select(ssymm, (long)m * n * (lsame("L", side) ? m : n)).ssymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void ssymmK(String side, String uplo, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    select(ssymm, (long)m * n * (lsame("L", side) ? m : n), Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c)).ssymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dsymvK(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    select(dsymv, (long)n * n).dsymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dsymvK(String uplo, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    select(dsymv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y)).dsymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void ssymvK(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    select(ssymv, (long)n * n).ssymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void ssymvK(String uplo, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    select(ssymv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y)).ssymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void dsyrK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda) {
+    select(dsyr, (long)n * n).dsyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  protected void dsyrK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta, int lda) {
+    select(dsyr, (long)n * n, Buffers.isDirect(x) && Buffers.isDirect(a)).dsyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  protected void ssyrK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda) {
+    select(ssyr, (long)n * n).ssyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  protected void ssyrK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta, int lda) {
+    select(ssyr, (long)n * n, Buffers.isDirect(x) && Buffers.isDirect(a)).ssyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+  }
+
+  protected void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    select(dsyr2, (long)n * n).dsyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void dsyr2K(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    select(dsyr2, (long)n * n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a)).dsyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void ssyr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    select(ssyr2, (long)n * n).ssyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void ssyr2K(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    select(ssyr2, (long)n * n, Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a)).ssyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  }
+
+  protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    select(dsyr2k, (long)n * n * k).dsyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    select(dsyr2k, (long)n * n * k, Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c)).dsyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    select(ssyr2k, (long)n * n * k).ssyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    select(ssyr2k, (long)n * n * k, Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c)).ssyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc) {
+    select(dsyrk, (long)n * n * k).dsyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+  }
+
+  protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    select(dsyrk, (long)n * n * k, Buffers.isDirect(a) && Buffers.isDirect(c)).dsyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+  }
+
+  protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc) {
+    select(ssyrk, (long)n * n * k).ssyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+  }
+
+  protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, float beta, FloatBuffer c, int offsetc, int ldc) {
+    select(ssyrk, (long)n * n * k, Buffers.isDirect(a) && Buffers.isDirect(c)).ssyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+  }
+
+  protected void dtbmvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    select(dtbmv, (long)n * (k + 1)).dtbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtbmvK(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    select(dtbmv, (long)n * (k + 1), Buffers.isDirect(a) && Buffers.isDirect(x)).dtbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void stbmvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    select(stbmv, (long)n * (k + 1)).stbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void stbmvK(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    select(stbmv, (long)n * (k + 1), Buffers.isDirect(a) && Buffers.isDirect(x)).stbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtbsvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    select(dtbsv, (long)n * (k + 1)).dtbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtbsvK(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    select(dtbsv, (long)n * (k + 1), Buffers.isDirect(a) && Buffers.isDirect(x)).dtbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void stbsvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    select(stbsv, (long)n * (k + 1)).stbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void stbsvK(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    select(stbsv, (long)n * (k + 1), Buffers.isDirect(a) && Buffers.isDirect(x)).stbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtpmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    select(dtpmv, (long)n * n).dtpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void dtpmvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx) {
+    select(dtpmv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x)).dtpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void stpmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
+    select(stpmv, (long)n * n).stpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void stpmvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx) {
+    select(stpmv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x)).stpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void dtpsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    select(dtpsv, (long)n * n).dtpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void dtpsvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx) {
+    select(dtpsv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x)).dtpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void stpsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
+    select(stpsv, (long)n * n).stpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void stpsvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx) {
+    select(stpsv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x)).stpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  }
+
+  protected void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    select(dtrmm, (long)m * n * (lsame("L", side) ? m : n)).dtrmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb) {
+    select(dtrmm, (long)m * n * (lsame("L", side) ? m : n), Buffers.isDirect(a) && Buffers.isDirect(b)).dtrmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    select(strmm, (long)m * n * (lsame("L", side) ? m : n)).strmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb) {
+    select(strmm, (long)m * n * (lsame("L", side) ? m : n), Buffers.isDirect(a) && Buffers.isDirect(b)).strmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void dtrmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    select(dtrmv, (long)n * n).dtrmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtrmvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    select(dtrmv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x)).dtrmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void strmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    select(strmv, (long)n * n).strmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void strmvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    select(strmv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x)).strmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    select(dtrsm, (long)m * n * (lsame("L", side) ? m : n)).dtrsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb) {
+    select(dtrsm, (long)m * n * (lsame("L", side) ? m : n), Buffers.isDirect(a) && Buffers.isDirect(b)).dtrsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    select(strsm, (long)m * n * (lsame("L", side) ? m : n)).strsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb) {
+    select(strsm, (long)m * n * (lsame("L", side) ? m : n), Buffers.isDirect(a) && Buffers.isDirect(b)).strsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  }
+
+  protected void dtrsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    select(dtrsv, (long)n * n).dtrsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void dtrsvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    select(dtrsv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x)).dtrsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void strsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    select(strsv, (long)n * n).strsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected void strsvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    select(strsv, (long)n * n, Buffers.isDirect(a) && Buffers.isDirect(x)).strsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  }
+
+  protected int idamaxK(int n, double[] x, int offsetx, int incx) {
+    return select(idamax, n).idamaxK(n, x, offsetx, incx);
+  }
+
+  protected int idamaxK(int n, DoubleBuffer x, int offsetx, int incx) {
+    return select(idamax, n, Buffers.isDirect(x)).idamaxK(n, x, offsetx, incx);
+  }
+
+  protected int isamaxK(int n, float[] x, int offsetx, int incx) {
+    return select(isamax, n).isamaxK(n, x, offsetx, incx);
+  }
+
+  protected int isamaxK(int n, FloatBuffer x, int offsetx, int incx) {
+    return select(isamax, n, Buffers.isDirect(x)).isamaxK(n, x, offsetx, incx);
+  }
+}
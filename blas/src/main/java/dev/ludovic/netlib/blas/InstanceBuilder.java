@@ -51,6 +51,9 @@ final class InstanceBuilder {
         log.info("Using JavaBLAS");
       }
       blas = javaBlas;
+    } else if (Boolean.parseBoolean(System.getProperty("dev.ludovic.netlib.blas.hybrid", "true"))) {
+      log.info("Using native BLAS, and JavaBLAS below the crossover of each routine");
+      blas = new HybridBLAS(javaBlas, nativeBlas);
     } else {
       log.info("Using native BLAS");
       blas = nativeBlas;
@@ -62,6 +65,20 @@ final class InstanceBuilder {
   }
 
   private static NativeBLAS initializeNative() {
+    String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 2);
+    int major = Integer.parseInt(fullVersion[0]);
+    // ForeignBLAS is opt-in: JNIBLAS stays the default until ForeignBLAS has been through
+    // a JDK 22 build and test run
+    if (major >= 22 && Boolean.parseBoolean(System.getProperty("dev.ludovic.netlib.blas.foreign", "false"))) {
+      // ForeignBLAS is only compiled with Java 22+, so it can't be referenced directly
+      String foreign = "dev.ludovic.netlib.blas.ForeignBLAS";
+      try {
+        log.finest("trying to return foreign instance");
+        return (NativeBLAS)Class.forName(foreign).getMethod("getInstance").invoke(null);
+      } catch (Throwable t) {
+        log.log(Level.FINE, "Failed to load implementation from:" + foreign, t);
+      }
+    }
     try {
       return JNIBLAS.getInstance();
     } catch (Throwable t) {
@@ -28,6 +28,8 @@ package dev.ludovic.netlib.blas;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -68,135 +70,821 @@ final class JNIBLAS extends AbstractBLAS implements NativeBLAS {
 
   protected native double dasumK(int n, double[] x, int offsetx, int incx);
 
+  protected double dasumK(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(x)) {
+      return dasumDirectK(n, x, offsetx, incx);
+    }
+    return super.dasumK(n, x, offsetx, incx);
+  }
+
+  private native double dasumDirectK(int n, DoubleBuffer x, int offsetx, int incx);
+
   protected native float sasumK(int n, float[] x, int offsetx, int incx);
 
+  protected float sasumK(int n, FloatBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(x)) {
+      return sasumDirectK(n, x, offsetx, incx);
+    }
+    return super.sasumK(n, x, offsetx, incx);
+  }
+
+  private native float sasumDirectK(int n, FloatBuffer x, int offsetx, int incx);
+
   protected native void daxpyK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  protected void daxpyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      daxpyDirectK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void daxpyDirectK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
+
   protected native void saxpyK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  protected void saxpyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      saxpyDirectK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void saxpyDirectK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
   protected native void dcopyK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  protected void dcopyK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      dcopyDirectK(n, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.dcopyK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void dcopyDirectK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
+
   protected native void scopyK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  protected void scopyK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      scopyDirectK(n, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.scopyK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void scopyDirectK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
   protected native double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  protected double ddotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y)) {
+      return ddotDirectK(n, x, offsetx, incx, y, offsety, incy);
+    }
+    return super.ddotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  private native double ddotDirectK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
+
   protected native float sdotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  protected float sdotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y)) {
+      return sdotDirectK(n, x, offsetx, incx, y, offsety, incy);
+    }
+    return super.sdotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  private native float sdotDirectK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
   protected native float sdsdotK(int n, float sb, float[] sx, int offsetsx, int incsx, float[] sy, int offsetsy, int incsy);
 
+  protected float sdsdotK(int n, float sb, FloatBuffer sx, int offsetsx, int incsx, FloatBuffer sy, int offsetsy, int incsy) {
+    if (Buffers.isDirect(sx) && Buffers.isDirect(sy)) {
+      return sdsdotDirectK(n, sb, sx, offsetsx, incsx, sy, offsetsy, incsy);
+    }
+    return super.sdsdotK(n, sb, sx, offsetsx, incsx, sy, offsetsy, incsy);
+  }
+
+  private native float sdsdotDirectK(int n, float sb, FloatBuffer sx, int offsetsx, int incsx, FloatBuffer sy, int offsetsy, int incsy);
+
   protected native void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
+  protected void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      dgbmvDirectK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.dgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void dgbmvDirectK(String trans, int m, int n, int kl, int ku, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
+
   protected native void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
+  protected void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      sgbmvDirectK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.sgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void sgbmvDirectK(String trans, int m, int n, int kl, int ku, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
+
   protected native void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
 
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c) && Buffers.isWritable(c)) {
+      dgemmDirectK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      super.dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private native void dgemmDirectK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc);
+
   protected native void sgemmK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
 
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c) && Buffers.isWritable(c)) {
+      sgemmDirectK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      super.sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private native void sgemmDirectK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc);
+
+  protected native void dgemmBatchedK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int[] offsetsa, int lda, double[] b, int[] offsetsb, int ldb, double beta, double[] c, int[] offsetsc, int ldc, int batchCount);
+
+  protected native void sgemmBatchedK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int[] offsetsa, int lda, float[] b, int[] offsetsb, int ldb, float beta, float[] c, int[] offsetsc, int ldc, int batchCount);
+
+  protected native void dgemmStridedBatchedK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, int stridea, double[] b, int offsetb, int ldb, int strideb, double beta, double[] c, int offsetc, int ldc, int stridec, int batchCount);
+
+  protected native void sgemmStridedBatchedK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, int stridea, float[] b, int offsetb, int ldb, int strideb, float beta, float[] c, int offsetc, int ldc, int stridec, int batchCount);
+
+  protected void hgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    if (!shgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc)) {
+      super.hgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  protected void bgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    if (!sbgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc)) {
+      super.bgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  // false when the native library doesn't export shgemm_ or sbgemm_
+  private native boolean shgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
+
+  private native boolean sbgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
+
   protected native void dgemvK(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
+  protected void dgemvK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      dgemvDirectK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void dgemvDirectK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
+
   protected native void sgemvK(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
+  protected void sgemvK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      sgemvDirectK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void sgemvDirectK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
+
   protected native void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
 
+  protected void dgerK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      dgerDirectK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    } else {
+      super.dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  private native void dgerDirectK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda);
+
   protected native void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
 
+  protected void sgerK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      sgerDirectK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    } else {
+      super.sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  private native void sgerDirectK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda);
+
   protected native double dnrm2K(int n, double[] x, int offsetx, int incx);
 
+  protected double dnrm2K(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(x)) {
+      return dnrm2DirectK(n, x, offsetx, incx);
+    }
+    return super.dnrm2K(n, x, offsetx, incx);
+  }
+
+  private native double dnrm2DirectK(int n, DoubleBuffer x, int offsetx, int incx);
+
   protected native float snrm2K(int n, float[] x, int offsetx, int incx);
 
+  protected float snrm2K(int n, FloatBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(x)) {
+      return snrm2DirectK(n, x, offsetx, incx);
+    }
+    return super.snrm2K(n, x, offsetx, incx);
+  }
+
+  private native float snrm2DirectK(int n, FloatBuffer x, int offsetx, int incx);
+
   protected native void drotK(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double c, double s);
 
+  protected void drotK(int n, DoubleBuffer dx, int offsetdx, int incx, DoubleBuffer dy, int offsetdy, int incy, double c, double s) {
+    if (Buffers.isDirect(dx) && Buffers.isDirect(dy) && Buffers.isWritable(dx) && Buffers.isWritable(dy)) {
+      drotDirectK(n, dx, offsetdx, incx, dy, offsetdy, incy, c, s);
+    } else {
+      super.drotK(n, dx, offsetdx, incx, dy, offsetdy, incy, c, s);
+    }
+  }
+
+  private native void drotDirectK(int n, DoubleBuffer dx, int offsetdx, int incx, DoubleBuffer dy, int offsetdy, int incy, double c, double s);
+
   protected native void srotK(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float c, float s);
 
+  protected void srotK(int n, FloatBuffer sx, int offsetsx, int incx, FloatBuffer sy, int offsetsy, int incy, float c, float s) {
+    if (Buffers.isDirect(sx) && Buffers.isDirect(sy) && Buffers.isWritable(sx) && Buffers.isWritable(sy)) {
+      srotDirectK(n, sx, offsetsx, incx, sy, offsetsy, incy, c, s);
+    } else {
+      super.srotK(n, sx, offsetsx, incx, sy, offsetsy, incy, c, s);
+    }
+  }
+
+  private native void srotDirectK(int n, FloatBuffer sx, int offsetsx, int incx, FloatBuffer sy, int offsetsy, int incy, float c, float s);
+
   protected native void drotmK(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double[] dparam, int offsetdparam);
 
+  protected void drotmK(int n, DoubleBuffer dx, int offsetdx, int incx, DoubleBuffer dy, int offsetdy, int incy, DoubleBuffer dparam, int offsetdparam) {
+    if (Buffers.isDirect(dx) && Buffers.isDirect(dy) && Buffers.isDirect(dparam) && Buffers.isWritable(dy)) {
+      drotmDirectK(n, dx, offsetdx, incx, dy, offsetdy, incy, dparam, offsetdparam);
+    } else {
+      super.drotmK(n, dx, offsetdx, incx, dy, offsetdy, incy, dparam, offsetdparam);
+    }
+  }
+
+  private native void drotmDirectK(int n, DoubleBuffer dx, int offsetdx, int incx, DoubleBuffer dy, int offsetdy, int incy, DoubleBuffer dparam, int offsetdparam);
+
   protected native void srotmK(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float[] sparam, int offsetsparam);
 
+  protected void srotmK(int n, FloatBuffer sx, int offsetsx, int incx, FloatBuffer sy, int offsetsy, int incy, FloatBuffer sparam, int offsetsparam) {
+    if (Buffers.isDirect(sx) && Buffers.isDirect(sy) && Buffers.isDirect(sparam) && Buffers.isWritable(sy)) {
+      srotmDirectK(n, sx, offsetsx, incx, sy, offsetsy, incy, sparam, offsetsparam);
+    } else {
+      super.srotmK(n, sx, offsetsx, incx, sy, offsetsy, incy, sparam, offsetsparam);
+    }
+  }
+
+  private native void srotmDirectK(int n, FloatBuffer sx, int offsetsx, int incx, FloatBuffer sy, int offsetsy, int incy, FloatBuffer sparam, int offsetsparam);
+
   protected native void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] dparam, int offsetdparam);
 
+  protected void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, DoubleBuffer dparam, int offsetdparam) {
+    if (Buffers.isDirect(dparam)) {
+      drotmgDirectK(dd1, dd2, dx1, dy1, dparam, offsetdparam);
+    } else {
+      super.drotmgK(dd1, dd2, dx1, dy1, dparam, offsetdparam);
+    }
+  }
+
+  private native void drotmgDirectK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, DoubleBuffer dparam, int offsetdparam);
+
   protected native void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] sparam, int offsetsparam);
 
+  protected void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, FloatBuffer sparam, int offsetsparam) {
+    if (Buffers.isDirect(sparam)) {
+      srotmgDirectK(sd1, sd2, sx1, sy1, sparam, offsetsparam);
+    } else {
+      super.srotmgK(sd1, sd2, sx1, sy1, sparam, offsetsparam);
+    }
+  }
+
+  private native void srotmgDirectK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, FloatBuffer sparam, int offsetsparam);
+
   protected native void dsbmvK(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
+  protected void dsbmvK(String uplo, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      dsbmvDirectK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.dsbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void dsbmvDirectK(String uplo, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
+
   protected native void ssbmvK(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
+  protected void ssbmvK(String uplo, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      ssbmvDirectK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.ssbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void ssbmvDirectK(String uplo, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
+
   protected native void dscalK(int n, double alpha, double[] x, int offsetx, int incx);
 
+  protected void dscalK(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      dscalDirectK(n, alpha, x, offsetx, incx);
+    } else {
+      super.dscalK(n, alpha, x, offsetx, incx);
+    }
+  }
+
+  private native void dscalDirectK(int n, double alpha, DoubleBuffer x, int offsetx, int incx);
+
   protected native void sscalK(int n, float alpha, float[] x, int offsetx, int incx);
 
+  protected void sscalK(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      sscalDirectK(n, alpha, x, offsetx, incx);
+    } else {
+      super.sscalK(n, alpha, x, offsetx, incx);
+    }
+  }
+
+  private native void sscalDirectK(int n, float alpha, FloatBuffer x, int offsetx, int incx);
+
   protected native void dspmvK(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
+  protected void dspmvK(String uplo, int n, double alpha, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      dspmvDirectK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.dspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void dspmvDirectK(String uplo, int n, double alpha, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
+
   protected native void sspmvK(String uplo, int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
+  protected void sspmvK(String uplo, int n, float alpha, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      sspmvDirectK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.sspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void sspmvDirectK(String uplo, int n, float alpha, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
+
   protected native void dsprK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta);
 
+  protected void dsprK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      dsprDirectK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    } else {
+      super.dsprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    }
+  }
+
+  private native void dsprDirectK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta);
+
   protected native void ssprK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta);
 
+  protected void ssprK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      ssprDirectK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    } else {
+      super.ssprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    }
+  }
+
+  private native void ssprDirectK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta);
+
   protected native void dspr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta);
 
+  protected void dspr2K(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      dspr2DirectK(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+    } else {
+      super.dspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+    }
+  }
+
+  private native void dspr2DirectK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta);
+
   protected native void sspr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta);
 
+  protected void sspr2K(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      sspr2DirectK(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+    } else {
+      super.sspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+    }
+  }
+
+  private native void sspr2DirectK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta);
+
   protected native void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy);
 
+  protected void dswapK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(x) && Buffers.isWritable(y)) {
+      dswapDirectK(n, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.dswapK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void dswapDirectK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy);
+
   protected native void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy);
 
+  protected void sswapK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(x) && Buffers.isWritable(y)) {
+      sswapDirectK(n, x, offsetx, incx, y, offsety, incy);
+    } else {
+      super.sswapK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private native void sswapDirectK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy);
+
   protected native void dsymmK(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
 
+  protected void dsymmK(String side, String uplo, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c) && Buffers.isWritable(c)) {
+      dsymmDirectK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      super.dsymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private native void dsymmDirectK(String side, String uplo, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc);
+
   protected native void ssymmK(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
 
+  protected void ssymmK(String side, String uplo, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c) && Buffers.isWritable(c)) {
+      ssymmDirectK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      super.ssymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private native void ssymmDirectK(String side, String uplo, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc);
+
   protected native void dsymvK(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy);
 
+  protected void dsymvK(String uplo, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      dsymvDirectK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.dsymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void dsymvDirectK(String uplo, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy);
+
   protected native void ssymvK(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy);
 
+  protected void ssymvK(String uplo, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isWritable(y)) {
+      ssymvDirectK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else {
+      super.ssymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private native void ssymvDirectK(String uplo, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy);
+
   protected native void dsyrK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda);
 
+  protected void dsyrK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta, int lda) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      dsyrDirectK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    } else {
+      super.dsyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    }
+  }
+
+  private native void dsyrDirectK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta, int lda);
+
   protected native void ssyrK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda);
 
+  protected void ssyrK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta, int lda) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      ssyrDirectK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    } else {
+      super.ssyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    }
+  }
+
+  private native void ssyrDirectK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta, int lda);
+
   protected native void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda);
 
+  protected void dsyr2K(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      dsyr2DirectK(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    } else {
+      super.dsyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  private native void dsyr2DirectK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda);
+
   protected native void ssyr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda);
 
+  protected void ssyr2K(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    if (Buffers.isDirect(x) && Buffers.isDirect(y) && Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      ssyr2DirectK(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    } else {
+      super.ssyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  private native void ssyr2DirectK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda);
+
   protected native void dsyr2kK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc);
 
+  protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c) && Buffers.isWritable(c)) {
+      dsyr2kDirectK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      super.dsyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private native void dsyr2kDirectK(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc);
+
   protected native void ssyr2kK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc);
 
+  protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(c) && Buffers.isWritable(c)) {
+      ssyr2kDirectK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    } else {
+      super.ssyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private native void ssyr2kDirectK(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc);
+
   protected native void dsyrkK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc);
 
+  protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(c) && Buffers.isWritable(c)) {
+      dsyrkDirectK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+    } else {
+      super.dsyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+    }
+  }
+
+  private native void dsyrkDirectK(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, double beta, DoubleBuffer c, int offsetc, int ldc);
+
   protected native void ssyrkK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc);
 
+  protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(c) && Buffers.isWritable(c)) {
+      ssyrkDirectK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+    } else {
+      super.ssyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+    }
+  }
+
+  private native void ssyrkDirectK(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, float beta, FloatBuffer c, int offsetc, int ldc);
+
   protected native void dtbmvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
 
+  protected void dtbmvK(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      dtbmvDirectK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    } else {
+      super.dtbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private native void dtbmvDirectK(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx);
+
   protected native void stbmvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
 
+  protected void stbmvK(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      stbmvDirectK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    } else {
+      super.stbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private native void stbmvDirectK(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx);
+
   protected native void dtbsvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
 
+  protected void dtbsvK(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      dtbsvDirectK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    } else {
+      super.dtbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private native void dtbsvDirectK(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx);
+
   protected native void stbsvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
 
+  protected void stbsvK(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      stbsvDirectK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    } else {
+      super.stbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private native void stbsvDirectK(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx);
+
   protected native void dtpmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx);
 
+  protected void dtpmvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      dtpmvDirectK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    } else {
+      super.dtpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    }
+  }
+
+  private native void dtpmvDirectK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx);
+
   protected native void stpmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx);
 
+  protected void stpmvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      stpmvDirectK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    } else {
+      super.stpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    }
+  }
+
+  private native void stpmvDirectK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx);
+
   protected native void dtpsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx);
 
+  protected void dtpsvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      dtpsvDirectK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    } else {
+      super.dtpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    }
+  }
+
+  private native void dtpsvDirectK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx);
+
   protected native void stpsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx);
 
+  protected void stpsvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      stpsvDirectK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    } else {
+      super.stpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    }
+  }
+
+  private native void stpsvDirectK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx);
+
   protected native void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb);
 
+  protected void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isWritable(b)) {
+      dtrmmDirectK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    } else {
+      super.dtrmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    }
+  }
+
+  private native void dtrmmDirectK(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb);
+
   protected native void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb);
 
+  protected void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isWritable(b)) {
+      strmmDirectK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    } else {
+      super.strmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    }
+  }
+
+  private native void strmmDirectK(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb);
+
   protected native void dtrmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
 
+  protected void dtrmvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      dtrmvDirectK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    } else {
+      super.dtrmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private native void dtrmvDirectK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx);
+
   protected native void strmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
 
+  protected void strmvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      strmvDirectK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    } else {
+      super.strmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private native void strmvDirectK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx);
+
   protected native void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb);
 
+  protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isWritable(b)) {
+      dtrsmDirectK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    } else {
+      super.dtrsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    }
+  }
+
+  private native void dtrsmDirectK(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb);
+
   protected native void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb);
 
+  protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isWritable(b)) {
+      strsmDirectK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    } else {
+      super.strsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    }
+  }
+
+  private native void strsmDirectK(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb);
+
   protected native void dtrsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx);
 
+  protected void dtrsvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      dtrsvDirectK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    } else {
+      super.dtrsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private native void dtrsvDirectK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx);
+
   protected native void strsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx);
 
+  protected void strsvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(x) && Buffers.isWritable(x)) {
+      strsvDirectK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    } else {
+      super.strsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private native void strsvDirectK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx);
+
   protected native int idamaxK(int n, double[] dx, int offsetdx, int incdx);
 
+  protected int idamaxK(int n, DoubleBuffer dx, int offsetdx, int incdx) {
+    if (Buffers.isDirect(dx)) {
+      return idamaxDirectK(n, dx, offsetdx, incdx);
+    }
+    return super.idamaxK(n, dx, offsetdx, incdx);
+  }
+
+  private native int idamaxDirectK(int n, DoubleBuffer dx, int offsetdx, int incdx);
+
   protected native int isamaxK(int n, float[] sx, int offsetsx, int incx);
+
+  protected int isamaxK(int n, FloatBuffer sx, int offsetsx, int incx) {
+    if (Buffers.isDirect(sx)) {
+      return isamaxDirectK(n, sx, offsetsx, incx);
+    }
+    return super.isamaxK(n, sx, offsetsx, incx);
+  }
+
+  private native int isamaxDirectK(int n, FloatBuffer sx, int offsetsx, int incx);
 }
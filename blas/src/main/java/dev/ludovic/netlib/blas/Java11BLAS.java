@@ -40,6 +40,12 @@ class Java11BLAS extends Java8BLAS {
       for (int ix = 0, iy = 0; (ix < n) && (iy < n); ix++, iy++) {
         y[offsety + iy] = Math.fma(alpha, x[offsetx + ix], y[offsety + iy]);
       }
+    } else if (Math.abs(incx) < DPAGE && Math.abs(incy) < DPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        y[offsety + iy] = Math.fma(alpha, x[offsetx + ix], y[offsety + iy]);
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -56,6 +62,12 @@ class Java11BLAS extends Java8BLAS {
       for (int ix = 0, iy = 0; (ix < n) && (iy < n); ix++, iy++) {
         y[offsety + iy] = Math.fma(alpha, x[offsetx + ix], y[offsety + iy]);
       }
+    } else if (Math.abs(incx) < SPAGE && Math.abs(incy) < SPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        y[offsety + iy] = Math.fma(alpha, x[offsetx + ix], y[offsety + iy]);
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -2327,6 +2339,262 @@ class Java11BLAS extends Java8BLAS {
     }
   }
 
+  protected void dgbmvN(int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (beta != 1.0) {
+      for (int i = 0, iy = incy < 0 ? (m - 1) * -incy : 0; i < m; i += 1, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0;
+        }
+      }
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (m - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      double alphax = alpha * x[offsetx + kx + col * incx];
+      int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+      int acol = offseta + ku - col + col * lda;
+      if (incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          y[offsety + row] = Math.fma(alphax, a[acol + row], y[offsety + row]);
+        }
+      } else {
+        for (int row = rows, iy = ky + rows * incy; row < rowe; row += 1, iy += incy) {
+          y[offsety + iy] = Math.fma(alphax, a[acol + row], y[offsety + iy]);
+        }
+      }
+    }
+  }
+
+  protected void dgbmvT(int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    int kx = incx < 0 ? (m - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0, iy = ky; col < n; col += 1, iy += incy) {
+      int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+      int acol = offseta + ku - col + col * lda;
+      double sum = 0.0;
+      if (incx == 1) {
+        int row = rows;
+        double sum0 = 0.0;
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+        double sum3 = 0.0;
+        for (; row < rows + loopBound(rowe - rows, 4); row += 4) {
+          sum0 = Math.fma(a[acol + row + 0], x[offsetx + row + 0], sum0);
+          sum1 = Math.fma(a[acol + row + 1], x[offsetx + row + 1], sum1);
+          sum2 = Math.fma(a[acol + row + 2], x[offsetx + row + 2], sum2);
+          sum3 = Math.fma(a[acol + row + 3], x[offsetx + row + 3], sum3);
+        }
+        sum = sum0 + sum1 + sum2 + sum3;
+        for (; row < rowe; row += 1) {
+          sum = Math.fma(a[acol + row], x[offsetx + row], sum);
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx; row < rowe; row += 1, ix += incx) {
+          sum = Math.fma(a[acol + row], x[offsetx + ix], sum);
+        }
+      }
+      if (beta != 0.0) {
+        y[offsety + iy] = alpha * sum + beta * y[offsety + iy];
+      } else {
+        y[offsety + iy] = alpha * sum;
+      }
+    }
+  }
+
+  protected void dsbmvU(int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (beta != 1.0) {
+      for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0;
+        }
+      }
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      double alphaxcol = alpha * x[offsetx + kx + col * incx];
+      int rows = Math.max(0, col - k), rowe = col;
+      int acol = offseta + k - col + col * lda;
+      double sum = 0.0;
+      if (incx == 1 && incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          double arow = a[acol + row];
+          y[offsety + row] = Math.fma(alphaxcol, arow, y[offsety + row]);
+          sum = Math.fma(arow, x[offsetx + row], sum);
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+          double arow = a[acol + row];
+          y[offsety + iy] = Math.fma(alphaxcol, arow, y[offsety + iy]);
+          sum = Math.fma(arow, x[offsetx + ix], sum);
+        }
+      }
+      y[offsety + ky + col * incy] += Math.fma(alphaxcol, a[acol + col], alpha * sum);
+    }
+  }
+
+  protected void dsbmvL(int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (beta != 1.0) {
+      for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0;
+        }
+      }
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      double alphaxcol = alpha * x[offsetx + kx + col * incx];
+      int rows = col + 1, rowe = Math.min(n, col + k + 1);
+      int acol = offseta - col + col * lda;
+      double sum = 0.0;
+      if (incx == 1 && incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          double arow = a[acol + row];
+          y[offsety + row] = Math.fma(alphaxcol, arow, y[offsety + row]);
+          sum = Math.fma(arow, x[offsetx + row], sum);
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+          double arow = a[acol + row];
+          y[offsety + iy] = Math.fma(alphaxcol, arow, y[offsety + iy]);
+          sum = Math.fma(arow, x[offsetx + ix], sum);
+        }
+      }
+      y[offsety + ky + col * incy] += Math.fma(alphaxcol, a[acol + col], alpha * sum);
+    }
+  }
+
+  protected void sgbmvN(int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (beta != 1.0f) {
+      for (int i = 0, iy = incy < 0 ? (m - 1) * -incy : 0; i < m; i += 1, iy += incy) {
+        if (beta != 0.0f) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0f;
+        }
+      }
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (m - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      float alphax = alpha * x[offsetx + kx + col * incx];
+      int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+      int acol = offseta + ku - col + col * lda;
+      if (incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          y[offsety + row] = Math.fma(alphax, a[acol + row], y[offsety + row]);
+        }
+      } else {
+        for (int row = rows, iy = ky + rows * incy; row < rowe; row += 1, iy += incy) {
+          y[offsety + iy] = Math.fma(alphax, a[acol + row], y[offsety + iy]);
+        }
+      }
+    }
+  }
+
+  protected void sgbmvT(int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    int kx = incx < 0 ? (m - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0, iy = ky; col < n; col += 1, iy += incy) {
+      int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+      int acol = offseta + ku - col + col * lda;
+      float sum = 0.0f;
+      if (incx == 1) {
+        int row = rows;
+        float sum0 = 0.0f;
+        float sum1 = 0.0f;
+        float sum2 = 0.0f;
+        float sum3 = 0.0f;
+        for (; row < rows + loopBound(rowe - rows, 4); row += 4) {
+          sum0 = Math.fma(a[acol + row + 0], x[offsetx + row + 0], sum0);
+          sum1 = Math.fma(a[acol + row + 1], x[offsetx + row + 1], sum1);
+          sum2 = Math.fma(a[acol + row + 2], x[offsetx + row + 2], sum2);
+          sum3 = Math.fma(a[acol + row + 3], x[offsetx + row + 3], sum3);
+        }
+        sum = sum0 + sum1 + sum2 + sum3;
+        for (; row < rowe; row += 1) {
+          sum = Math.fma(a[acol + row], x[offsetx + row], sum);
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx; row < rowe; row += 1, ix += incx) {
+          sum = Math.fma(a[acol + row], x[offsetx + ix], sum);
+        }
+      }
+      if (beta != 0.0f) {
+        y[offsety + iy] = alpha * sum + beta * y[offsety + iy];
+      } else {
+        y[offsety + iy] = alpha * sum;
+      }
+    }
+  }
+
+  protected void ssbmvU(int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (beta != 1.0f) {
+      for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+        if (beta != 0.0f) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0f;
+        }
+      }
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      float alphaxcol = alpha * x[offsetx + kx + col * incx];
+      int rows = Math.max(0, col - k), rowe = col;
+      int acol = offseta + k - col + col * lda;
+      float sum = 0.0f;
+      if (incx == 1 && incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          float arow = a[acol + row];
+          y[offsety + row] = Math.fma(alphaxcol, arow, y[offsety + row]);
+          sum = Math.fma(arow, x[offsetx + row], sum);
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+          float arow = a[acol + row];
+          y[offsety + iy] = Math.fma(alphaxcol, arow, y[offsety + iy]);
+          sum = Math.fma(arow, x[offsetx + ix], sum);
+        }
+      }
+      y[offsety + ky + col * incy] += Math.fma(alphaxcol, a[acol + col], alpha * sum);
+    }
+  }
+
+  protected void ssbmvL(int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (beta != 1.0f) {
+      for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+        if (beta != 0.0f) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0f;
+        }
+      }
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      float alphaxcol = alpha * x[offsetx + kx + col * incx];
+      int rows = col + 1, rowe = Math.min(n, col + k + 1);
+      int acol = offseta - col + col * lda;
+      float sum = 0.0f;
+      if (incx == 1 && incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          float arow = a[acol + row];
+          y[offsety + row] = Math.fma(alphaxcol, arow, y[offsety + row]);
+          sum = Math.fma(arow, x[offsetx + row], sum);
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+          float arow = a[acol + row];
+          y[offsety + iy] = Math.fma(alphaxcol, arow, y[offsety + iy]);
+          sum = Math.fma(arow, x[offsetx + ix], sum);
+        }
+      }
+      y[offsety + ky + col * incy] += Math.fma(alphaxcol, a[acol + col], alpha * sum);
+    }
+  }
+
   protected void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
     int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
     for (; col < loopBound(n, 4); col += 4, iy += incy * 4) {
@@ -2411,7 +2679,10 @@ class Java11BLAS extends Java8BLAS {
       double x0 = x[offsetx + ix + 0];
       sum = Math.fma(x0, x0, sum);
     }
-    return Math.sqrt(sum);
+    if (dnrm2Safe(n, sum)) {
+      return Math.sqrt(sum);
+    }
+    return dnrm2Blue(n, x, offsetx, incx);
   }
 
   protected float snrm2K(int n, float[] x, int offsetx, int incx) {
@@ -2448,6 +2719,57 @@ class Java11BLAS extends Java8BLAS {
       float x0 = x[offsetx + ix + 0];
       sum = Math.fma(x0, x0, sum);
     }
-    return (float)Math.sqrt(sum);
+    if (snrm2Safe(n, sum)) {
+      return (float)Math.sqrt(sum);
+    }
+    return snrm2Wide(n, x, offsetx, incx);
+  }
+
+  protected void dsyrCol(int rows, int rowe, double alphaxcol, double[] x, int kx, int incx, double[] a, int acol) {
+    if (incx == 1) {
+      for (int row = rows; row < rowe; row += 1) {
+        a[acol + row] = Math.fma(x[kx + row], alphaxcol, a[acol + row]);
+      }
+    } else {
+      for (int row = rows, ix = kx + rows * incx; row < rowe; row += 1, ix += incx) {
+        a[acol + row] = Math.fma(x[ix], alphaxcol, a[acol + row]);
+      }
+    }
+  }
+
+  protected void dsyr2Col(int rows, int rowe, double alphaycol, double alphaxcol, double[] x, int kx, int incx, double[] y, int ky, int incy, double[] a, int acol) {
+    if (incx == 1 && incy == 1) {
+      for (int row = rows; row < rowe; row += 1) {
+        a[acol + row] = Math.fma(y[ky + row], alphaxcol, Math.fma(x[kx + row], alphaycol, a[acol + row]));
+      }
+    } else {
+      for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+        a[acol + row] = Math.fma(y[iy], alphaxcol, Math.fma(x[ix], alphaycol, a[acol + row]));
+      }
+    }
+  }
+
+  protected void ssyrCol(int rows, int rowe, float alphaxcol, float[] x, int kx, int incx, float[] a, int acol) {
+    if (incx == 1) {
+      for (int row = rows; row < rowe; row += 1) {
+        a[acol + row] = Math.fma(x[kx + row], alphaxcol, a[acol + row]);
+      }
+    } else {
+      for (int row = rows, ix = kx + rows * incx; row < rowe; row += 1, ix += incx) {
+        a[acol + row] = Math.fma(x[ix], alphaxcol, a[acol + row]);
+      }
+    }
+  }
+
+  protected void ssyr2Col(int rows, int rowe, float alphaycol, float alphaxcol, float[] x, int kx, int incx, float[] y, int ky, int incy, float[] a, int acol) {
+    if (incx == 1 && incy == 1) {
+      for (int row = rows; row < rowe; row += 1) {
+        a[acol + row] = Math.fma(y[ky + row], alphaxcol, Math.fma(x[kx + row], alphaycol, a[acol + row]));
+      }
+    } else {
+      for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+        a[acol + row] = Math.fma(y[iy], alphaxcol, Math.fma(x[ix], alphaycol, a[acol + row]));
+      }
+    }
   }
 }
@@ -25,10 +25,28 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
 class Java8BLAS extends AbstractBLAS implements JavaBLAS {
 
   private static final Java8BLAS instance = new Java8BLAS();
 
+  // Strides from which every element sits in a different 4KB page. There, the
+  // TLB misses dominate and the counted and unrolled strided loops are slower
+  // than the plain element-at-a-time ones, so they are only used below.
+  protected static final int DPAGE = 4096 / Double.BYTES;
+  protected static final int SPAGE = 4096 / Float.BYTES;
+
+  // Blue's constants for dnrm2, as in LAPACK 3.10 la_constants: the squares of values
+  // in [DTSML, DTBIG] neither underflow nor overflow, smaller and larger values are
+  // scaled by DSSML and DSBIG before being squared.
+  protected static final double DTSML = 0x1p-511;
+  protected static final double DTBIG = 0x1p486;
+  protected static final double DSSML = 0x1p537;
+  protected static final double DSBIG = 0x1p-538;
+
   protected Java8BLAS() {}
 
   public static JavaBLAS getInstance() {
@@ -53,6 +71,22 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       for (; ix < n; ix += 1) {
         sum += Math.abs(x[offsetx + ix]);
       }
+    } else if (Math.abs(incx) < DPAGE) {
+      int i = 0, ix = offsetx + (incx < 0 ? (n - 1) * -incx : 0);
+      double sum0 = 0.0;
+      double sum1 = 0.0;
+      double sum2 = 0.0;
+      double sum3 = 0.0;
+      for (; i < loopBound(n, 4); i += 4, ix += 4 * incx) {
+        sum0 += Math.abs(x[ix + 0 * incx]);
+        sum1 += Math.abs(x[ix + 1 * incx]);
+        sum2 += Math.abs(x[ix + 2 * incx]);
+        sum3 += Math.abs(x[ix + 3 * incx]);
+      }
+      sum += sum0 + sum1 + sum2 + sum3;
+      for (; i < n; i += 1, ix += incx) {
+        sum += Math.abs(x[ix]);
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0; incx < 0 ? ix >= 0 : ix < n * incx; ix += incx) {
         sum += Math.abs(x[offsetx + ix]);
@@ -79,6 +113,22 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       for (; ix < n; ix += 1) {
         sum += Math.abs(x[offsetx + ix]);
       }
+    } else if (Math.abs(incx) < SPAGE) {
+      int i = 0, ix = offsetx + (incx < 0 ? (n - 1) * -incx : 0);
+      float sum0 = 0.0f;
+      float sum1 = 0.0f;
+      float sum2 = 0.0f;
+      float sum3 = 0.0f;
+      for (; i < loopBound(n, 4); i += 4, ix += 4 * incx) {
+        sum0 += Math.abs(x[ix + 0 * incx]);
+        sum1 += Math.abs(x[ix + 1 * incx]);
+        sum2 += Math.abs(x[ix + 2 * incx]);
+        sum3 += Math.abs(x[ix + 3 * incx]);
+      }
+      sum += sum0 + sum1 + sum2 + sum3;
+      for (; i < n; i += 1, ix += incx) {
+        sum += Math.abs(x[ix]);
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0; incx < 0 ? ix >= 0 : ix < n * incx; ix += incx) {
         sum += Math.abs(x[offsetx + ix]);
@@ -92,6 +142,12 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
         y[offsety + iy] += alpha * x[offsetx + ix];
       }
+    } else if (Math.abs(incx) < DPAGE && Math.abs(incy) < DPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        y[offsety + iy] += alpha * x[offsetx + ix];
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -108,6 +164,12 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
         y[offsety + iy] += alpha * x[offsetx + ix];
       }
+    } else if (Math.abs(incx) < SPAGE && Math.abs(incy) < SPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        y[offsety + iy] += alpha * x[offsetx + ix];
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -119,9 +181,195 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void daxpbyK(int n, double alpha, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      if (beta != 0.0) {
+        for (int i = 0; i < n; i += 1) {
+          y[offsety + i] = alpha * x[offsetx + i] + beta * y[offsety + i];
+        }
+      } else {
+        for (int i = 0; i < n; i += 1) {
+          y[offsety + i] = alpha * x[offsetx + i];
+        }
+      }
+    } else if (Math.abs(incx) < DPAGE && Math.abs(incy) < DPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = alpha * x[offsetx + ix] + beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = alpha * x[offsetx + ix];
+        }
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+             && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = alpha * x[offsetx + ix] + beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = alpha * x[offsetx + ix];
+        }
+      }
+    }
+  }
+
+  // The updated y is stored before z is read, so z may be y itself.
+  protected double daxpydotK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz) {
+    double sum = 0.0;
+    if (incx == 1 && incy == 1 && incz == 1) {
+      int i = 0;
+      double sum0 = 0.0;
+      double sum1 = 0.0;
+      double sum2 = 0.0;
+      double sum3 = 0.0;
+      for (; i < loopBound(n, 4); i += 4) {
+        double y0 = y[offsety + i + 0] + alpha * x[offsetx + i + 0];
+        double y1 = y[offsety + i + 1] + alpha * x[offsetx + i + 1];
+        double y2 = y[offsety + i + 2] + alpha * x[offsetx + i + 2];
+        double y3 = y[offsety + i + 3] + alpha * x[offsetx + i + 3];
+        y[offsety + i + 0] = y0;
+        y[offsety + i + 1] = y1;
+        y[offsety + i + 2] = y2;
+        y[offsety + i + 3] = y3;
+        sum0 += y0 * z[offsetz + i + 0];
+        sum1 += y1 * z[offsetz + i + 1];
+        sum2 += y2 * z[offsetz + i + 2];
+        sum3 += y3 * z[offsetz + i + 3];
+      }
+      sum += sum0 + sum1 + sum2 + sum3;
+      for (; i < n; i += 1) {
+        double yi = y[offsety + i] + alpha * x[offsetx + i];
+        y[offsety + i] = yi;
+        sum += yi * z[offsetz + i];
+      }
+    } else if (Math.abs(incx) < DPAGE && Math.abs(incy) < DPAGE && Math.abs(incz) < DPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      int iz = incz < 0 ? (n - 1) * -incz : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy, iz += incz) {
+        double yi = y[offsety + iy] + alpha * x[offsetx + ix];
+        y[offsety + iy] = yi;
+        sum += yi * z[offsetz + iz];
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0,
+               iz = incz < 0 ? (n - 1) * -incz : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+             && (incy < 0 ? iy >= 0 : iy < n * incy)
+             && (incz < 0 ? iz >= 0 : iz < n * incz);
+           ix += incx, iy += incy, iz += incz) {
+        double yi = y[offsety + iy] + alpha * x[offsetx + ix];
+        y[offsety + iy] = yi;
+        sum += yi * z[offsetz + iz];
+      }
+    }
+    return sum;
+  }
+
+  protected void saxpbyK(int n, float alpha, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      if (beta != 0.0f) {
+        for (int i = 0; i < n; i += 1) {
+          y[offsety + i] = alpha * x[offsetx + i] + beta * y[offsety + i];
+        }
+      } else {
+        for (int i = 0; i < n; i += 1) {
+          y[offsety + i] = alpha * x[offsetx + i];
+        }
+      }
+    } else if (Math.abs(incx) < SPAGE && Math.abs(incy) < SPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        if (beta != 0.0f) {
+          y[offsety + iy] = alpha * x[offsetx + ix] + beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = alpha * x[offsetx + ix];
+        }
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+             && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        if (beta != 0.0f) {
+          y[offsety + iy] = alpha * x[offsetx + ix] + beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = alpha * x[offsetx + ix];
+        }
+      }
+    }
+  }
+
+  // The updated y is stored before z is read, so z may be y itself.
+  protected float saxpydotK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz) {
+    float sum = 0.0f;
+    if (incx == 1 && incy == 1 && incz == 1) {
+      int i = 0;
+      float sum0 = 0.0f;
+      float sum1 = 0.0f;
+      float sum2 = 0.0f;
+      float sum3 = 0.0f;
+      for (; i < loopBound(n, 4); i += 4) {
+        float y0 = y[offsety + i + 0] + alpha * x[offsetx + i + 0];
+        float y1 = y[offsety + i + 1] + alpha * x[offsetx + i + 1];
+        float y2 = y[offsety + i + 2] + alpha * x[offsetx + i + 2];
+        float y3 = y[offsety + i + 3] + alpha * x[offsetx + i + 3];
+        y[offsety + i + 0] = y0;
+        y[offsety + i + 1] = y1;
+        y[offsety + i + 2] = y2;
+        y[offsety + i + 3] = y3;
+        sum0 += y0 * z[offsetz + i + 0];
+        sum1 += y1 * z[offsetz + i + 1];
+        sum2 += y2 * z[offsetz + i + 2];
+        sum3 += y3 * z[offsetz + i + 3];
+      }
+      sum += sum0 + sum1 + sum2 + sum3;
+      for (; i < n; i += 1) {
+        float yi = y[offsety + i] + alpha * x[offsetx + i];
+        y[offsety + i] = yi;
+        sum += yi * z[offsetz + i];
+      }
+    } else if (Math.abs(incx) < SPAGE && Math.abs(incy) < SPAGE && Math.abs(incz) < SPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      int iz = incz < 0 ? (n - 1) * -incz : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy, iz += incz) {
+        float yi = y[offsety + iy] + alpha * x[offsetx + ix];
+        y[offsety + iy] = yi;
+        sum += yi * z[offsetz + iz];
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0,
+               iz = incz < 0 ? (n - 1) * -incz : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+             && (incy < 0 ? iy >= 0 : iy < n * incy)
+             && (incz < 0 ? iz >= 0 : iz < n * incz);
+           ix += incx, iy += incy, iz += incz) {
+        float yi = y[offsety + iy] + alpha * x[offsetx + ix];
+        y[offsety + iy] = yi;
+        sum += yi * z[offsetz + iz];
+      }
+    }
+    return sum;
+  }
+
   protected void dcopyK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
       System.arraycopy(x, offsetx, y, offsety, n);
+    } else if (Math.abs(incx) < DPAGE && Math.abs(incy) < DPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        y[offsety + iy] = x[offsetx + ix];
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -136,6 +384,12 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   protected void scopyK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
       System.arraycopy(x, offsetx, y, offsety, n);
+    } else if (Math.abs(incx) < SPAGE && Math.abs(incy) < SPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        y[offsety + iy] = x[offsetx + ix];
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -165,6 +419,22 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       for (; ix < n && iy < n; ix += 1, iy += 1) {
         sum += x[offsetx + ix] * y[offsety + iy];
       }
+    } else if (Math.abs(incx) < DPAGE && Math.abs(incy) < DPAGE) {
+      int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0, iy = incy < 0 ? (n - 1) * -incy : 0;
+      double sum0 = 0.0;
+      double sum1 = 0.0;
+      double sum2 = 0.0;
+      double sum3 = 0.0;
+      for (; i < loopBound(n, 4); i += 4, ix += 4 * incx, iy += 4 * incy) {
+        sum0 += x[offsetx + ix + 0 * incx] * y[offsety + iy + 0 * incy];
+        sum1 += x[offsetx + ix + 1 * incx] * y[offsety + iy + 1 * incy];
+        sum2 += x[offsetx + ix + 2 * incx] * y[offsety + iy + 2 * incy];
+        sum3 += x[offsetx + ix + 3 * incx] * y[offsety + iy + 3 * incy];
+      }
+      sum += sum0 + sum1 + sum2 + sum3;
+      for (; i < n; i += 1, ix += incx, iy += incy) {
+        sum += x[offsetx + ix] * y[offsety + iy];
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
               iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -195,6 +465,22 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       for (; ix < n && iy < n; ix += 1, iy += 1) {
         sum += x[offsetx + ix] * y[offsety + iy];
       }
+    } else if (Math.abs(incx) < SPAGE && Math.abs(incy) < SPAGE) {
+      int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0, iy = incy < 0 ? (n - 1) * -incy : 0;
+      float sum0 = 0.0f;
+      float sum1 = 0.0f;
+      float sum2 = 0.0f;
+      float sum3 = 0.0f;
+      for (; i < loopBound(n, 4); i += 4, ix += 4 * incx, iy += 4 * incy) {
+        sum0 += x[offsetx + ix + 0 * incx] * y[offsety + iy + 0 * incy];
+        sum1 += x[offsetx + ix + 1 * incx] * y[offsety + iy + 1 * incy];
+        sum2 += x[offsetx + ix + 2 * incx] * y[offsety + iy + 2 * incy];
+        sum3 += x[offsetx + ix + 3 * incx] * y[offsety + iy + 3 * incy];
+      }
+      sum += sum0 + sum1 + sum2 + sum3;
+      for (; i < n; i += 1, ix += incx, iy += incy) {
+        sum += x[offsetx + ix] * y[offsety + iy];
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -207,6 +493,106 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     return sum;
   }
 
+  protected void ddot2K(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz, double[] dots, int offsetdots) {
+    double sumy = 0.0;
+    double sumz = 0.0;
+    if (incx == 1 && incy == 1 && incz == 1) {
+      int i = 0;
+      double sumy0 = 0.0;
+      double sumy1 = 0.0;
+      double sumz0 = 0.0;
+      double sumz1 = 0.0;
+      for (; i < loopBound(n, 2); i += 2) {
+        double x0 = x[offsetx + i + 0];
+        double x1 = x[offsetx + i + 1];
+        sumy0 += x0 * y[offsety + i + 0];
+        sumy1 += x1 * y[offsety + i + 1];
+        sumz0 += x0 * z[offsetz + i + 0];
+        sumz1 += x1 * z[offsetz + i + 1];
+      }
+      sumy += sumy0 + sumy1;
+      sumz += sumz0 + sumz1;
+      for (; i < n; i += 1) {
+        double xi = x[offsetx + i];
+        sumy += xi * y[offsety + i];
+        sumz += xi * z[offsetz + i];
+      }
+    } else if (Math.abs(incx) < DPAGE && Math.abs(incy) < DPAGE && Math.abs(incz) < DPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      int iz = incz < 0 ? (n - 1) * -incz : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy, iz += incz) {
+        double xi = x[offsetx + ix];
+        sumy += xi * y[offsety + iy];
+        sumz += xi * z[offsetz + iz];
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0,
+               iz = incz < 0 ? (n - 1) * -incz : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+             && (incy < 0 ? iy >= 0 : iy < n * incy)
+             && (incz < 0 ? iz >= 0 : iz < n * incz);
+           ix += incx, iy += incy, iz += incz) {
+        double xi = x[offsetx + ix];
+        sumy += xi * y[offsety + iy];
+        sumz += xi * z[offsetz + iz];
+      }
+    }
+    dots[offsetdots + 0] = sumy;
+    dots[offsetdots + 1] = sumz;
+  }
+
+  protected void sdot2K(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz, float[] dots, int offsetdots) {
+    float sumy = 0.0f;
+    float sumz = 0.0f;
+    if (incx == 1 && incy == 1 && incz == 1) {
+      int i = 0;
+      float sumy0 = 0.0f;
+      float sumy1 = 0.0f;
+      float sumz0 = 0.0f;
+      float sumz1 = 0.0f;
+      for (; i < loopBound(n, 2); i += 2) {
+        float x0 = x[offsetx + i + 0];
+        float x1 = x[offsetx + i + 1];
+        sumy0 += x0 * y[offsety + i + 0];
+        sumy1 += x1 * y[offsety + i + 1];
+        sumz0 += x0 * z[offsetz + i + 0];
+        sumz1 += x1 * z[offsetz + i + 1];
+      }
+      sumy += sumy0 + sumy1;
+      sumz += sumz0 + sumz1;
+      for (; i < n; i += 1) {
+        float xi = x[offsetx + i];
+        sumy += xi * y[offsety + i];
+        sumz += xi * z[offsetz + i];
+      }
+    } else if (Math.abs(incx) < SPAGE && Math.abs(incy) < SPAGE && Math.abs(incz) < SPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      int iz = incz < 0 ? (n - 1) * -incz : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy, iz += incz) {
+        float xi = x[offsetx + ix];
+        sumy += xi * y[offsety + iy];
+        sumz += xi * z[offsetz + iz];
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0,
+               iz = incz < 0 ? (n - 1) * -incz : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+             && (incy < 0 ? iy >= 0 : iy < n * incy)
+             && (incz < 0 ? iz >= 0 : iz < n * incz);
+           ix += incx, iy += incy, iz += incz) {
+        float xi = x[offsetx + ix];
+        sumy += xi * y[offsety + iy];
+        sumz += xi * z[offsetz + iz];
+      }
+    }
+    dots[offsetdots + 0] = sumy;
+    dots[offsetdots + 1] = sumz;
+  }
+
   protected float sdsdotK(int n, float sb, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
     double sum = sb;
     if (incx == 1 && incy == 1) {
@@ -238,16 +624,152 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
-    org.netlib.blas.Dgbmv.dgbmv(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    if (alpha == 0.0) {
+      int len = lsame("N", trans) ? m : n;
+      for (int i = 0, iy = incy < 0 ? (len - 1) * -incy : 0; i < len; i += 1, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0;
+        }
+      }
+    } else if (lsame("N", trans)) {
+      dgbmvN(m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else if (lsame("T", trans) || lsame("C", trans)) {
+      dgbmvT(m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  // Column col of the band holds the rows [max(0, col - ku), min(m, col + kl + 1)) of A,
+  // A(row, col) being at a[offseta + ku - col + row + col * lda]. Each column is a
+  // contiguous slice, and the matching slices of x and y stay in cache from one
+  // column to the next.
+  protected void dgbmvN(int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (beta != 1.0) {
+      for (int i = 0, iy = incy < 0 ? (m - 1) * -incy : 0; i < m; i += 1, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0;
+        }
+      }
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (m - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      double alphax = alpha * x[offsetx + kx + col * incx];
+      int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+      int acol = offseta + ku - col + col * lda;
+      if (incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          y[offsety + row] += alphax * a[acol + row];
+        }
+      } else {
+        for (int row = rows, iy = ky + rows * incy; row < rowe; row += 1, iy += incy) {
+          y[offsety + iy] += alphax * a[acol + row];
+        }
+      }
+    }
+  }
+
+  protected void dgbmvT(int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    int kx = incx < 0 ? (m - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0, iy = ky; col < n; col += 1, iy += incy) {
+      int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+      int acol = offseta + ku - col + col * lda;
+      double sum = 0.0;
+      if (incx == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          sum += a[acol + row] * x[offsetx + row];
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx; row < rowe; row += 1, ix += incx) {
+          sum += a[acol + row] * x[offsetx + ix];
+        }
+      }
+      if (beta != 0.0) {
+        y[offsety + iy] = alpha * sum + beta * y[offsety + iy];
+      } else {
+        y[offsety + iy] = alpha * sum;
+      }
+    }
   }
+
   protected void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
-    org.netlib.blas.Sgbmv.sgbmv(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    if (alpha == 0.0f) {
+      int len = lsame("N", trans) ? m : n;
+      for (int i = 0, iy = incy < 0 ? (len - 1) * -incy : 0; i < len; i += 1, iy += incy) {
+        if (beta != 0.0f) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0f;
+        }
+      }
+    } else if (lsame("N", trans)) {
+      sgbmvN(m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else if (lsame("T", trans) || lsame("C", trans)) {
+      sgbmvT(m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected void sgbmvN(int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (beta != 1.0f) {
+      for (int i = 0, iy = incy < 0 ? (m - 1) * -incy : 0; i < m; i += 1, iy += incy) {
+        if (beta != 0.0f) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0f;
+        }
+      }
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (m - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      float alphax = alpha * x[offsetx + kx + col * incx];
+      int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+      int acol = offseta + ku - col + col * lda;
+      if (incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          y[offsety + row] += alphax * a[acol + row];
+        }
+      } else {
+        for (int row = rows, iy = ky + rows * incy; row < rowe; row += 1, iy += incy) {
+          y[offsety + iy] += alphax * a[acol + row];
+        }
+      }
+    }
+  }
+
+  protected void sgbmvT(int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    int kx = incx < 0 ? (m - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0, iy = ky; col < n; col += 1, iy += incy) {
+      int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+      int acol = offseta + ku - col + col * lda;
+      float sum = 0.0f;
+      if (incx == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          sum += a[acol + row] * x[offsetx + row];
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx; row < rowe; row += 1, ix += incx) {
+          sum += a[acol + row] * x[offsetx + ix];
+        }
+      }
+      if (beta != 0.0f) {
+        y[offsety + iy] = alpha * sum + beta * y[offsety + iy];
+      } else {
+        y[offsety + iy] = alpha * sum;
+      }
+    }
+  }
+
+  // block rounded down to a multiple of tile, or size rounded up to one if it is smaller
+  private int blockSize(int block, int size, int tile) {
+    return loopBound(Math.min(Math.max(loopBound(block, tile), tile), size + tile - 1), tile);
   }
 
   protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
     if (alpha == 0.0) {
       dgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
-    } else if (m * n * k < 100 * 100 * 100) {
+    } else if ((long)m * n * k < Tuning.gemmThreshold) {
       // The matrices are small and it's faster to do the non-copying version
       if (lsame("N", transa) && lsame("N", transb)) {
         dgemmNN(m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
@@ -258,81 +780,325 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       } else {
         dgemmTT(m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
       }
+    } else if (Tuning.strassen && Math.min(m, Math.min(n, k)) >= 2 * Tuning.strassenCutoff) {
+      dgemmStrassen(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc, Tuning.strassenCutoff, Tuning.strassenMemory);
     } else {
-      final int Krow = (int)(Math.ceil((double)(Math.min(60,   m)) / 3) * 3),
-                Kcol = (int)(Math.ceil((double)(Math.min(1000, n)) / 3) * 3),
-                Ki   = (int)(Math.ceil((double)(Math.min(500,  k)) / 4) * 4);
-
-      assert Krow > 0;
-      assert Kcol > 0;
-      assert Ki   > 0;
-
-      double[] packeda = new double[Krow * Ki];
-      double[] packedb = new double[Kcol * Ki];
-      double[] packedc = new double[Kcol * Krow];
-
       // c = beta * c
       dgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
       // c += alpha * a * b
-      for (int col = 0; col < n; col += Kcol) {
-        int cols = col, cole = Math.min(col + Kcol, n);
-        for (int i = 0; i < k; i += Ki) {
-          int is = i, ie = Math.min(i + Ki, k);
-          // pack b
-          if (lsame("N", transb)) {
-            dgecpyNN(ie - is, cole - cols, b, offsetb, ldb, is, cols, packedb, 0, Ki, 0, 0);
-          } else {
-            dgecpyTN(ie - is, cole - cols, b, offsetb, ldb, is, cols, packedb, 0, Ki, 0, 0);
-          }
-          // GEPP
-          for (int row = 0; row < m; row += Krow) {
-            int rows = row, rowe = Math.min(row + Krow, m);
-            // pack A
-            if (lsame("N", transa)) {
-              dgecpyNT(rowe - rows, ie - is, a, offseta, lda, rows, is, packeda, 0, Ki, 0, 0);
-            } else {
-              dgecpyTT(rowe - rows, ie - is, a, offseta, lda, rows, is, packeda, 0, Ki, 0, 0);
-            }
-            // pack C
-            dgecpyNN(rowe - rows, cole - cols, c, offsetc, ldc, rows, cols, packedc, 0, Krow, 0, 0);
-            // GEBP
-            dgebpTN(Krow, 0, rowe - rows, Kcol, 0, cole - cols, Ki, 0, ie - is,
-                    alpha, packeda, 0, Ki, packedb, 0, Ki, beta, packedc, 0, Krow);
-            // unpack C
-            dgecpyNN(rowe - rows, cole - cols, packedc, 0, Krow, 0, 0, c, offsetc, ldc, rows, cols);
-          }
-        }
-      }
+      dgemmPacked(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
     }
   }
 
-  protected void dgemmBeta(int rows, int rowe, int cols, int cole, double beta, double[] c, int offsetc, int ldc) {
-    if (beta != 1.0) {
-      int col = cols;
-      for (; col < loopAlign(cols, cole, 4); col += 1) {
-        int row = rows;
-        for (; row < rowe; row += 1) {
-          if (beta != 0.0) {
-            c[offsetc + row + (col + 0) * ldc] = beta * c[offsetc + row + (col + 0) * ldc];
-          } else {
-            c[offsetc + row + (col + 0) * ldc] = 0.0;
-          }
-        }
-      }
-      for (; col < loopBound(cole, 4); col += 4) {
-        int row = rows;
-        for (; row < rowe; row += 1) {
-          if (beta != 0.0) {
-            c[offsetc + row + (col + 0) * ldc] = beta * c[offsetc + row + (col + 0) * ldc];
-            c[offsetc + row + (col + 1) * ldc] = beta * c[offsetc + row + (col + 1) * ldc];
-            c[offsetc + row + (col + 2) * ldc] = beta * c[offsetc + row + (col + 2) * ldc];
-            c[offsetc + row + (col + 3) * ldc] = beta * c[offsetc + row + (col + 3) * ldc];
-          } else {
-            c[offsetc + row + (col + 0) * ldc] = 0.0;
-            c[offsetc + row + (col + 1) * ldc] = 0.0;
-            c[offsetc + row + (col + 2) * ldc] = 0.0;
-            c[offsetc + row + (col + 3) * ldc] = 0.0;
-          }
+  protected void dgemmBatchedK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int[] offsetsa, int lda, double[] b, int[] offsetsb, int ldb, double beta, double[] c, int[] offsetsc, int ldc, int batchCount) {
+    dgemmBatch(transa, transb, m, n, k, alpha, a, offsetsa, 0, lda, 0, b, offsetsb, 0, ldb, 0, beta, c, offsetsc, 0, ldc, 0, batchCount);
+  }
+
+  protected void dgemmStridedBatchedK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, int stridea, double[] b, int offsetb, int ldb, int strideb, double beta, double[] c, int offsetc, int ldc, int stridec, int batchCount) {
+    dgemmBatch(transa, transb, m, n, k, alpha, a, null, offseta, lda, stridea, b, null, offsetb, ldb, strideb, beta, c, null, offsetc, ldc, stridec, batchCount);
+  }
+
+  // the matrix i of a batch starts at offsets[i], or at offset + i * stride when offsets is null
+  private void dgemmBatch(String transa, String transb, int m, int n, int k, double alpha, double[] a, int[] offsetsa, int offseta, int lda, int stridea, double[] b, int[] offsetsb, int offsetb, int ldb, int strideb, double beta, double[] c, int[] offsetsc, int offsetc, int ldc, int stridec, int batchCount) {
+    // the transpositions and the kernel are picked once for the whole batch
+    final int kernel;
+    if (alpha == 0.0 || (long)m * n * k >= Tuning.gemmThreshold) {
+      kernel = -1;
+    } else if (lsame("N", transa)) {
+      kernel = lsame("N", transb) ? 0 : 1;
+    } else {
+      kernel = lsame("N", transb) ? 2 : 3;
+    }
+    Parallelism.Range body = (from, to) -> {
+      for (int i = from; i < to; i += 1) {
+        int oa = offsetsa != null ? offsetsa[i] : offseta + i * stridea;
+        int ob = offsetsb != null ? offsetsb[i] : offsetb + i * strideb;
+        int oc = offsetsc != null ? offsetsc[i] : offsetc + i * stridec;
+        switch (kernel) {
+          case 0: dgemmNN(m, n, k, alpha, a, oa, lda, b, ob, ldb, beta, c, oc, ldc); break;
+          case 1: dgemmNT(m, n, k, alpha, a, oa, lda, b, ob, ldb, beta, c, oc, ldc); break;
+          case 2: dgemmTN(m, n, k, alpha, a, oa, lda, b, ob, ldb, beta, c, oc, ldc); break;
+          case 3: dgemmTT(m, n, k, alpha, a, oa, lda, b, ob, ldb, beta, c, oc, ldc); break;
+          default: dgemmK(transa, transb, m, n, k, alpha, a, oa, lda, b, ob, ldb, beta, c, oc, ldc); break;
+        }
+      }
+    };
+    long work = (long)m * n * Math.max(k, 1);
+    if (batchCount > 1 && Parallelism.enabled(work * batchCount)) {
+      Parallelism.invoke(0, batchCount, (int)Math.min(batchCount, Parallelism.grain(work * batchCount) / work + 1), body);
+    } else {
+      body.run(0, batchCount);
+    }
+  }
+
+  // c += alpha * op(a) * op(b), packing a and b
+  protected void dgemmPacked(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc) {
+    if (Parallelism.enabled((long)m * n * k)) {
+      Parallelism.invoke(new DgemmTask(transa, transb, 0, m, 0, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc,
+                                       Parallelism.grain((long)m * n * k)));
+    } else {
+      dgemmGEPP(transa, transb, 0, m, 0, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+    }
+  }
+
+  // c = alpha * op(a) * op(b) + beta * c with the Strassen-Winograd algorithm, recursing while all the
+  // dimensions are at least twice the cutoff and the temporaries of all the levels fit in memory bytes
+  void dgemmStrassen(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc, int cutoff, long memory) {
+    int depth = 0;
+    long size = 0;
+    for (int mm = m, nn = n, kk = k; Math.min(mm, Math.min(nn, kk)) >= 2 * Math.max(cutoff, 1); depth += 1) {
+      mm /= 2; nn /= 2; kk /= 2;
+      long level = (long)mm * kk + (long)kk * nn + (long)mm * nn;
+      if ((size + level) * Double.BYTES > memory || size + level > Integer.MAX_VALUE - 8) {
+        break;
+      }
+      size += level;
+    }
+    dgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
+    if (depth == 0) {
+      dgemmPacked(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+    } else {
+      dgemmSW(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, depth, new double[(int)size], 0);
+    }
+  }
+
+  // c += alpha * op(a) * op(b) with depth levels of Strassen-Winograd. Each level splits the even part of
+  // the matrices in 2 x 2 blocks and computes their product with 7 block products instead of 8:
+  //
+  //   s1 = a21 + a22   s2 = s1 - a11   s3 = a11 - a21   s4 = a12 - s2
+  //   t1 = b12 - b11   t2 = b22 - t1   t3 = b22 - b12   t4 = t2 - b21
+  //   p1 = a11 * b11   p2 = a12 * b21  p3 = s4 * b22    p4 = a22 * t4
+  //   p5 = s1 * t1     p6 = s2 * t2    p7 = s3 * t3
+  //   c11 += p1 + p2             c12 += p1 + p6 + p5 + p3
+  //   c21 += p1 + p6 + p7 - p4   c22 += p1 + p6 + p7 + p5
+  //
+  // The temporaries x, y, and z of a level are taken from work at offsetw, and the deeper levels use the rest.
+  private void dgemmSW(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc, int depth, double[] work, int offsetw) {
+    if (depth == 0) {
+      dgemmPacked(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      return;
+    }
+    int m2 = m / 2, n2 = n / 2, k2 = k / 2;
+    // the last row, column, or step of an odd dimension isn't part of the recursion
+    if (k % 2 != 0) {
+      dgemmK(transa, transb, 2 * m2, 2 * n2, 1, alpha, a, dgemmOffset(transa, offseta, lda, 0, k - 1), lda,
+             b, dgemmOffset(transb, offsetb, ldb, k - 1, 0), ldb, 1.0, c, offsetc, ldc);
+    }
+    if (m % 2 != 0) {
+      dgemmK(transa, transb, 1, n, k, alpha, a, dgemmOffset(transa, offseta, lda, m - 1, 0), lda,
+             b, offsetb, ldb, 1.0, c, offsetc + m - 1, ldc);
+    }
+    if (n % 2 != 0) {
+      dgemmK(transa, transb, 2 * m2, 1, k, alpha, a, offseta, lda,
+             b, dgemmOffset(transb, offsetb, ldb, 0, n - 1), ldb, 1.0, c, offsetc + (n - 1) * ldc, ldc);
+    }
+
+    int a11 = dgemmOffset(transa, offseta, lda, 0, 0), a12 = dgemmOffset(transa, offseta, lda, 0, k2),
+        a21 = dgemmOffset(transa, offseta, lda, m2, 0), a22 = dgemmOffset(transa, offseta, lda, m2, k2);
+    int b11 = dgemmOffset(transb, offsetb, ldb, 0, 0), b12 = dgemmOffset(transb, offsetb, ldb, 0, n2),
+        b21 = dgemmOffset(transb, offsetb, ldb, k2, 0), b22 = dgemmOffset(transb, offsetb, ldb, k2, n2);
+    int c11 = offsetc, c12 = offsetc + n2 * ldc, c21 = offsetc + m2, c22 = offsetc + m2 + n2 * ldc;
+    int x = offsetw, y = x + m2 * k2, z = y + k2 * n2, offsetn = z + m2 * n2;
+
+    // c11 += p1 + p2, keeping p1 in z
+    Arrays.fill(work, z, z + m2 * n2, 0.0);
+    dgemmSW(transa, transb, m2, n2, k2, alpha, a, a11, lda, b, b11, ldb, work, z, m2, depth - 1, work, offsetn);
+    dgeaxpby("N", m2, n2, 1.0, work, z, m2, 1.0, c, c11, ldc);
+    dgemmSW(transa, transb, m2, n2, k2, alpha, a, a12, lda, b, b21, ldb, c, c11, ldc, depth - 1, work, offsetn);
+    // z = p1 + p6, added to c12, c21, and c22
+    dgeaxpby(transa, m2, k2, 1.0, a, a21, lda, 0.0, work, x, m2);
+    dgeaxpby(transa, m2, k2, 1.0, a, a22, lda, 1.0, work, x, m2);
+    dgeaxpby(transa, m2, k2, -1.0, a, a11, lda, 1.0, work, x, m2);
+    dgeaxpby(transb, k2, n2, 1.0, b, b22, ldb, 0.0, work, y, k2);
+    dgeaxpby(transb, k2, n2, -1.0, b, b12, ldb, 1.0, work, y, k2);
+    dgeaxpby(transb, k2, n2, 1.0, b, b11, ldb, 1.0, work, y, k2);
+    dgemmSW("N", "N", m2, n2, k2, alpha, work, x, m2, work, y, k2, work, z, m2, depth - 1, work, offsetn);
+    dgeaxpby("N", m2, n2, 1.0, work, z, m2, 1.0, c, c12, ldc);
+    dgeaxpby("N", m2, n2, 1.0, work, z, m2, 1.0, c, c21, ldc);
+    dgeaxpby("N", m2, n2, 1.0, work, z, m2, 1.0, c, c22, ldc);
+    // z = p7, added to c21 and c22
+    dgeaxpby(transa, m2, k2, 1.0, a, a11, lda, 0.0, work, x, m2);
+    dgeaxpby(transa, m2, k2, -1.0, a, a21, lda, 1.0, work, x, m2);
+    dgeaxpby(transb, k2, n2, 1.0, b, b22, ldb, 0.0, work, y, k2);
+    dgeaxpby(transb, k2, n2, -1.0, b, b12, ldb, 1.0, work, y, k2);
+    Arrays.fill(work, z, z + m2 * n2, 0.0);
+    dgemmSW("N", "N", m2, n2, k2, alpha, work, x, m2, work, y, k2, work, z, m2, depth - 1, work, offsetn);
+    dgeaxpby("N", m2, n2, 1.0, work, z, m2, 1.0, c, c21, ldc);
+    dgeaxpby("N", m2, n2, 1.0, work, z, m2, 1.0, c, c22, ldc);
+    // z = p5, added to c12 and c22
+    dgeaxpby(transa, m2, k2, 1.0, a, a21, lda, 0.0, work, x, m2);
+    dgeaxpby(transa, m2, k2, 1.0, a, a22, lda, 1.0, work, x, m2);
+    dgeaxpby(transb, k2, n2, 1.0, b, b12, ldb, 0.0, work, y, k2);
+    dgeaxpby(transb, k2, n2, -1.0, b, b11, ldb, 1.0, work, y, k2);
+    Arrays.fill(work, z, z + m2 * n2, 0.0);
+    dgemmSW("N", "N", m2, n2, k2, alpha, work, x, m2, work, y, k2, work, z, m2, depth - 1, work, offsetn);
+    dgeaxpby("N", m2, n2, 1.0, work, z, m2, 1.0, c, c12, ldc);
+    dgeaxpby("N", m2, n2, 1.0, work, z, m2, 1.0, c, c22, ldc);
+    // c12 += p3, with x = s4 = a12 + a11 - s1
+    dgeaxpby("N", m2, k2, -1.0, work, x, m2, 0.0, work, x, m2);
+    dgeaxpby(transa, m2, k2, 1.0, a, a12, lda, 1.0, work, x, m2);
+    dgeaxpby(transa, m2, k2, 1.0, a, a11, lda, 1.0, work, x, m2);
+    dgemmSW("N", transb, m2, n2, k2, alpha, work, x, m2, b, b22, ldb, c, c12, ldc, depth - 1, work, offsetn);
+    // c21 -= p4, with y = t4 = b22 - b21 - t1
+    dgeaxpby("N", k2, n2, -1.0, work, y, k2, 0.0, work, y, k2);
+    dgeaxpby(transb, k2, n2, 1.0, b, b22, ldb, 1.0, work, y, k2);
+    dgeaxpby(transb, k2, n2, -1.0, b, b21, ldb, 1.0, work, y, k2);
+    dgemmSW(transa, "N", m2, n2, k2, -alpha, a, a22, lda, work, y, k2, c, c21, ldc, depth - 1, work, offsetn);
+  }
+
+  // offset of op(a)[row, col]
+  private int dgemmOffset(String trans, int offseta, int lda, int row, int col) {
+    return lsame("N", trans) ? offseta + row + col * lda : offseta + col + row * lda;
+  }
+
+  // y = alpha * op(x) + beta * y, where beta is either 0 or 1
+  private void dgeaxpby(String trans, int m, int n, double alpha, double[] x, int offsetx, int ldx, double beta, double[] y, int offsety, int ldy) {
+    boolean notrans = lsame("N", trans);
+    for (int col = 0; col < n; col += 1) {
+      int row = 0;
+      if (notrans && beta == 0.0) {
+        for (; row < m; row += 1) {
+          y[offsety + row + col * ldy] = alpha * x[offsetx + row + col * ldx];
+        }
+      } else if (notrans) {
+        for (; row < m; row += 1) {
+          y[offsety + row + col * ldy] += alpha * x[offsetx + row + col * ldx];
+        }
+      } else if (beta == 0.0) {
+        for (; row < m; row += 1) {
+          y[offsety + row + col * ldy] = alpha * x[offsetx + col + row * ldx];
+        }
+      } else {
+        for (; row < m; row += 1) {
+          y[offsety + row + col * ldy] += alpha * x[offsetx + col + row * ldx];
+        }
+      }
+    }
+  }
+
+  // c[rows:rowe, cols:cole] += alpha * op(a)[rows:rowe, :] * op(b)[:, cols:cole]
+  protected void dgemmGEPP(String transa, String transb, int rows, int rowe, int cols, int cole, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc) {
+    dgemmGEPP(transa, transb, rows, rowe, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, Tuning.dgemmKrow, Tuning.dgemmKcol, Tuning.dgemmKi);
+  }
+
+  // Same as above with the blocking given explicitly, the blocks are rounded to the tiles of dgebpTN
+  void dgemmGEPP(String transa, String transb, int rows, int rowe, int cols, int cole, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc, int Mrow, int Mcol, int Mi) {
+    final int Krow = blockSize(Mrow, rowe - rows, dgebpTrow()),
+              Kcol = blockSize(Mcol, cole - cols, dgebpTcol()),
+              Ki   = blockSize(Mi,   k,           4);
+
+    assert Krow > 0;
+    assert Kcol > 0;
+    assert Ki   > 0;
+
+    Workspace workspace = Workspace.get();
+    double[] packeda = workspace.doubles(Workspace.PACKEDA, Krow * Ki);
+    double[] packedb = workspace.doubles(Workspace.PACKEDB, Kcol * Ki);
+    double[] packedc = workspace.doubles(Workspace.PACKEDC, Kcol * Krow);
+
+    for (int col = cols; col < cole; col += Kcol) {
+      int colss = col, colse = Math.min(col + Kcol, cole);
+      for (int i = 0; i < k; i += Ki) {
+        int is = i, ie = Math.min(i + Ki, k);
+        // pack b
+        if (lsame("N", transb)) {
+          dgecpyNN(ie - is, colse - colss, b, offsetb, ldb, is, colss, packedb, 0, Ki, 0, 0);
+        } else {
+          dgecpyTN(ie - is, colse - colss, b, offsetb, ldb, is, colss, packedb, 0, Ki, 0, 0);
+        }
+        // GEPP
+        for (int row = rows; row < rowe; row += Krow) {
+          int rowss = row, rowse = Math.min(row + Krow, rowe);
+          // pack A
+          if (lsame("N", transa)) {
+            dgecpyNP(rowse - rowss, ie - is, a, offseta, lda, rowss, is, packeda, 0, Ki);
+          } else {
+            dgecpyTP(rowse - rowss, ie - is, a, offseta, lda, rowss, is, packeda, 0, Ki);
+          }
+          if (rowse - rowss == ldc) {
+            // the tile of C is already contiguous, update it in place
+            dgebpTN(Krow, 0, rowse - rowss, Kcol, 0, colse - colss, Ki, 0, ie - is,
+                    alpha, packeda, 0, Ki, packedb, 0, Ki, 1.0, c, offsetc + rowss + colss * ldc, ldc);
+          } else {
+            // pack C
+            dgecpyNN(rowse - rowss, colse - colss, c, offsetc, ldc, rowss, colss, packedc, 0, Krow, 0, 0);
+            // GEBP
+            dgebpTN(Krow, 0, rowse - rowss, Kcol, 0, colse - colss, Ki, 0, ie - is,
+                    alpha, packeda, 0, Ki, packedb, 0, Ki, 1.0, packedc, 0, Krow);
+            // unpack C
+            dgecpyNN(rowse - rowss, colse - colss, packedc, 0, Krow, 0, 0, c, offsetc, ldc, rowss, colss);
+          }
+        }
+      }
+    }
+  }
+
+  // Splits c along its largest dimension until each task is below the grain, every
+  // leaf then packs its own panels of a and b and runs the sequential GEPP loop.
+  private final class DgemmTask extends RecursiveAction {
+
+    private final String transa, transb;
+    private final int rows, rowe, cols, cole, k;
+    private final double alpha;
+    private final double[] a, b, c;
+    private final int offseta, lda, offsetb, ldb, offsetc, ldc;
+    private final long grain;
+
+    DgemmTask(String transa, String transb, int rows, int rowe, int cols, int cole, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc, long grain) {
+      this.transa = transa; this.transb = transb;
+      this.rows = rows; this.rowe = rowe; this.cols = cols; this.cole = cole; this.k = k;
+      this.alpha = alpha;
+      this.a = a; this.offseta = offseta; this.lda = lda;
+      this.b = b; this.offsetb = offsetb; this.ldb = ldb;
+      this.c = c; this.offsetc = offsetc; this.ldc = ldc;
+      this.grain = grain;
+    }
+
+    protected void compute() {
+      final int Tsplit = 12;
+
+      int m = rowe - rows, n = cole - cols;
+      if ((long)m * n * k <= grain || (m < 2 * Tsplit && n < 2 * Tsplit)) {
+        dgemmGEPP(transa, transb, rows, rowe, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      } else if (n >= m) {
+        int mid = cols + loopBound(n / 2, 3);
+        invokeAll(new DgemmTask(transa, transb, rows, rowe, cols, mid, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain),
+                  new DgemmTask(transa, transb, rows, rowe, mid, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain));
+      } else {
+        int mid = rows + loopBound(m / 2, 3);
+        invokeAll(new DgemmTask(transa, transb, rows, mid, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain),
+                  new DgemmTask(transa, transb, mid, rowe, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain));
+      }
+    }
+  }
+
+  protected void dgemmBeta(int rows, int rowe, int cols, int cole, double beta, double[] c, int offsetc, int ldc) {
+    if (beta != 1.0) {
+      int col = cols;
+      for (; col < loopAlign(cols, cole, 4); col += 1) {
+        int row = rows;
+        for (; row < rowe; row += 1) {
+          if (beta != 0.0) {
+            c[offsetc + row + (col + 0) * ldc] = beta * c[offsetc + row + (col + 0) * ldc];
+          } else {
+            c[offsetc + row + (col + 0) * ldc] = 0.0;
+          }
+        }
+      }
+      for (; col < loopBound(cole, 4); col += 4) {
+        int row = rows;
+        for (; row < rowe; row += 1) {
+          if (beta != 0.0) {
+            c[offsetc + row + (col + 0) * ldc] = beta * c[offsetc + row + (col + 0) * ldc];
+            c[offsetc + row + (col + 1) * ldc] = beta * c[offsetc + row + (col + 1) * ldc];
+            c[offsetc + row + (col + 2) * ldc] = beta * c[offsetc + row + (col + 2) * ldc];
+            c[offsetc + row + (col + 3) * ldc] = beta * c[offsetc + row + (col + 3) * ldc];
+          } else {
+            c[offsetc + row + (col + 0) * ldc] = 0.0;
+            c[offsetc + row + (col + 1) * ldc] = 0.0;
+            c[offsetc + row + (col + 2) * ldc] = 0.0;
+            c[offsetc + row + (col + 3) * ldc] = 0.0;
+          }
         }
       }
       for (; col < cole; col += 1) {
@@ -442,6 +1208,55 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  // Height of the panels dgecpyNP and dgecpyTP pack op(a) into for dgebpTN. A panel is stored
+  // column by column, so that a column of it is contiguous, and the panel starting at row is at
+  // row * lddst. Rows past the last full panel are stored row by row, so that with panels of
+  // 1 row this is the same as dgecpyNT and dgecpyTT.
+  protected int dgebpPanel() {
+    return 1;
+  }
+
+  // dst = src[rowssrc:rowssrc+m, colssrc:colssrc+n] in panels of dgebpPanel() rows
+  protected void dgecpyNP(int m, int n, double[] src, int offsetsrc, int ldsrc, int rowssrc, int colssrc, double[] dst, int offsetdst, int lddst) {
+    final int P = dgebpPanel();
+
+    int row = 0;
+    if (P > 1) {
+      for (; row < loopBound(m, P); row += P) {
+        for (int col = 0; col < n; col += 1) {
+          System.arraycopy(src, offsetsrc + (rowssrc + row) + (colssrc + col) * ldsrc, dst, offsetdst + row * lddst + col * P, P);
+        }
+      }
+    }
+    dgecpyNT(m - row, n, src, offsetsrc, ldsrc, rowssrc + row, colssrc, dst, offsetdst, lddst, row, 0);
+  }
+
+  // dst = src[colssrc:colssrc+n, rowssrc:rowssrc+m]**T in panels of dgebpPanel() rows
+  protected void dgecpyTP(int m, int n, double[] src, int offsetsrc, int ldsrc, int rowssrc, int colssrc, double[] dst, int offsetdst, int lddst) {
+    final int P = dgebpPanel();
+
+    int row = 0;
+    if (P > 1) {
+      for (; row < loopBound(m, P); row += P) {
+        for (int r = 0; r < P; r += 1) {
+          for (int col = 0; col < n; col += 1) {
+            dst[offsetdst + row * lddst + r + col * P] = src[offsetsrc + (colssrc + col) + (rowssrc + row + r) * ldsrc];
+          }
+        }
+      }
+    }
+    dgecpyTT(m - row, n, src, offsetsrc, ldsrc, rowssrc + row, colssrc, dst, offsetdst, lddst, row, 0);
+  }
+
+  // Rows and columns of c computed at once by dgebpTN, which the blocks of dgemmGEPP are a multiple of
+  protected int dgebpTrow() {
+    return 3;
+  }
+
+  protected int dgebpTcol() {
+    return 3;
+  }
+
   protected void dgebpTN(int m, int rows, int rowe, int n, int cols, int cole, int k, int is, int ie, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
     final int Tcol = 3, Trow = 3;
 
@@ -1446,7 +2261,7 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
     if (alpha == 0.0f) {
       sgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
-    } else if (m * n * k < 100 * 100 * 100) {
+    } else if ((long)m * n * k < Tuning.gemmThreshold) {
       // The matrices are small and it's faster to do the non-copying version
       if (lsame("N", transa) && lsame("N", transb)) {
         sgemmNN(m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
@@ -1458,53 +2273,155 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
         sgemmTT(m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
       }
     } else {
-      final int Krow = (int)(Math.ceil((double)(Math.min(60,   m)) / 3) * 3),
-                Kcol = (int)(Math.ceil((double)(Math.min(1000, n)) / 3) * 3),
-                Ki   = (int)(Math.ceil((double)(Math.min(500,  k)) / 4) * 4);
-
-      assert Krow > 0;
-      assert Kcol > 0;
-      assert Ki   > 0;
-
-      float[] packeda = new float[Krow * Ki];
-      float[] packedb = new float[Kcol * Ki];
-      float[] packedc = new float[Kcol * Krow];
-
       // c = beta * c
       sgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
       // c += alpha * a * b
-      for (int col = 0; col < n; col += Kcol) {
-        int cols = col, cole = Math.min(col + Kcol, n);
-        for (int i = 0; i < k; i += Ki) {
-          int is = i, ie = Math.min(i + Ki, k);
-          // pack b
-          if (lsame("N", transb)) {
-            sgecpyNN(ie - is, cole - cols, b, offsetb, ldb, is, cols, packedb, 0, Ki, 0, 0);
+      if (Parallelism.enabled((long)m * n * k)) {
+        Parallelism.invoke(new SgemmTask(transa, transb, 0, m, 0, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc,
+                                         Parallelism.grain((long)m * n * k)));
+      } else {
+        sgemmGEPP(transa, transb, 0, m, 0, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      }
+    }
+  }
+
+  // c[rows:rowe, cols:cole] += alpha * op(a)[rows:rowe, :] * op(b)[:, cols:cole]
+  protected void sgemmBatchedK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int[] offsetsa, int lda, float[] b, int[] offsetsb, int ldb, float beta, float[] c, int[] offsetsc, int ldc, int batchCount) {
+    sgemmBatch(transa, transb, m, n, k, alpha, a, offsetsa, 0, lda, 0, b, offsetsb, 0, ldb, 0, beta, c, offsetsc, 0, ldc, 0, batchCount);
+  }
+
+  protected void sgemmStridedBatchedK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, int stridea, float[] b, int offsetb, int ldb, int strideb, float beta, float[] c, int offsetc, int ldc, int stridec, int batchCount) {
+    sgemmBatch(transa, transb, m, n, k, alpha, a, null, offseta, lda, stridea, b, null, offsetb, ldb, strideb, beta, c, null, offsetc, ldc, stridec, batchCount);
+  }
+
+  // the matrix i of a batch starts at offsets[i], or at offset + i * stride when offsets is null
+  private void sgemmBatch(String transa, String transb, int m, int n, int k, float alpha, float[] a, int[] offsetsa, int offseta, int lda, int stridea, float[] b, int[] offsetsb, int offsetb, int ldb, int strideb, float beta, float[] c, int[] offsetsc, int offsetc, int ldc, int stridec, int batchCount) {
+    // the transpositions and the kernel are picked once for the whole batch
+    final int kernel;
+    if (alpha == 0.0f || (long)m * n * k >= Tuning.gemmThreshold) {
+      kernel = -1;
+    } else if (lsame("N", transa)) {
+      kernel = lsame("N", transb) ? 0 : 1;
+    } else {
+      kernel = lsame("N", transb) ? 2 : 3;
+    }
+    Parallelism.Range body = (from, to) -> {
+      for (int i = from; i < to; i += 1) {
+        int oa = offsetsa != null ? offsetsa[i] : offseta + i * stridea;
+        int ob = offsetsb != null ? offsetsb[i] : offsetb + i * strideb;
+        int oc = offsetsc != null ? offsetsc[i] : offsetc + i * stridec;
+        switch (kernel) {
+          case 0: sgemmNN(m, n, k, alpha, a, oa, lda, b, ob, ldb, beta, c, oc, ldc); break;
+          case 1: sgemmNT(m, n, k, alpha, a, oa, lda, b, ob, ldb, beta, c, oc, ldc); break;
+          case 2: sgemmTN(m, n, k, alpha, a, oa, lda, b, ob, ldb, beta, c, oc, ldc); break;
+          case 3: sgemmTT(m, n, k, alpha, a, oa, lda, b, ob, ldb, beta, c, oc, ldc); break;
+          default: sgemmK(transa, transb, m, n, k, alpha, a, oa, lda, b, ob, ldb, beta, c, oc, ldc); break;
+        }
+      }
+    };
+    long work = (long)m * n * Math.max(k, 1);
+    if (batchCount > 1 && Parallelism.enabled(work * batchCount)) {
+      Parallelism.invoke(0, batchCount, (int)Math.min(batchCount, Parallelism.grain(work * batchCount) / work + 1), body);
+    } else {
+      body.run(0, batchCount);
+    }
+  }
+
+  protected void sgemmGEPP(String transa, String transb, int rows, int rowe, int cols, int cole, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int ldc) {
+    sgemmGEPP(transa, transb, rows, rowe, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, Tuning.sgemmKrow, Tuning.sgemmKcol, Tuning.sgemmKi);
+  }
+
+  // Same as above with the blocking given explicitly, the blocks are rounded to the tiles of sgebpTN
+  void sgemmGEPP(String transa, String transb, int rows, int rowe, int cols, int cole, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int ldc, int Mrow, int Mcol, int Mi) {
+    final int Krow = blockSize(Mrow, rowe - rows, sgebpTrow()),
+              Kcol = blockSize(Mcol, cole - cols, sgebpTcol()),
+              Ki   = blockSize(Mi,   k,           4);
+
+    assert Krow > 0;
+    assert Kcol > 0;
+    assert Ki   > 0;
+
+    Workspace workspace = Workspace.get();
+    float[] packeda = workspace.floats(Workspace.PACKEDA, Krow * Ki);
+    float[] packedb = workspace.floats(Workspace.PACKEDB, Kcol * Ki);
+    float[] packedc = workspace.floats(Workspace.PACKEDC, Kcol * Krow);
+
+    for (int col = cols; col < cole; col += Kcol) {
+      int colss = col, colse = Math.min(col + Kcol, cole);
+      for (int i = 0; i < k; i += Ki) {
+        int is = i, ie = Math.min(i + Ki, k);
+        // pack b
+        if (lsame("N", transb)) {
+          sgecpyNN(ie - is, colse - colss, b, offsetb, ldb, is, colss, packedb, 0, Ki, 0, 0);
+        } else {
+          sgecpyTN(ie - is, colse - colss, b, offsetb, ldb, is, colss, packedb, 0, Ki, 0, 0);
+        }
+        // GEPP
+        for (int row = rows; row < rowe; row += Krow) {
+          int rowss = row, rowse = Math.min(row + Krow, rowe);
+          // pack A
+          if (lsame("N", transa)) {
+            sgecpyNP(rowse - rowss, ie - is, a, offseta, lda, rowss, is, packeda, 0, Ki);
           } else {
-            sgecpyTN(ie - is, cole - cols, b, offsetb, ldb, is, cols, packedb, 0, Ki, 0, 0);
+            sgecpyTP(rowse - rowss, ie - is, a, offseta, lda, rowss, is, packeda, 0, Ki);
           }
-          // GEPP
-          for (int row = 0; row < m; row += Krow) {
-            int rows = row, rowe = Math.min(row + Krow, m);
-            // pack A
-            if (lsame("N", transa)) {
-              sgecpyNT(rowe - rows, ie - is, a, offseta, lda, rows, is, packeda, 0, Ki, 0, 0);
-            } else {
-              sgecpyTT(rowe - rows, ie - is, a, offseta, lda, rows, is, packeda, 0, Ki, 0, 0);
-            }
+          if (rowse - rowss == ldc) {
+            // the tile of C is already contiguous, update it in place
+            sgebpTN(Krow, 0, rowse - rowss, Kcol, 0, colse - colss, Ki, 0, ie - is,
+                    alpha, packeda, 0, Ki, packedb, 0, Ki, 1.0f, c, offsetc + rowss + colss * ldc, ldc);
+          } else {
             // pack C
-            sgecpyNN(rowe - rows, cole - cols, c, offsetc, ldc, rows, cols, packedc, 0, Krow, 0, 0);
+            sgecpyNN(rowse - rowss, colse - colss, c, offsetc, ldc, rowss, colss, packedc, 0, Krow, 0, 0);
             // GEBP
-            sgebpTN(Krow, 0, rowe - rows, Kcol, 0, cole - cols, Ki, 0, ie - is,
-                    alpha, packeda, 0, Ki, packedb, 0, Ki, beta, packedc, 0, Krow);
+            sgebpTN(Krow, 0, rowse - rowss, Kcol, 0, colse - colss, Ki, 0, ie - is,
+                    alpha, packeda, 0, Ki, packedb, 0, Ki, 1.0f, packedc, 0, Krow);
             // unpack C
-            sgecpyNN(rowe - rows, cole - cols, packedc, 0, Krow, 0, 0, c, offsetc, ldc, rows, cols);
+            sgecpyNN(rowse - rowss, colse - colss, packedc, 0, Krow, 0, 0, c, offsetc, ldc, rowss, colss);
           }
         }
       }
     }
   }
 
+  // Splits c along its largest dimension until each task is below the grain, every
+  // leaf then packs its own panels of a and b and runs the sequential GEPP loop.
+  private final class SgemmTask extends RecursiveAction {
+
+    private final String transa, transb;
+    private final int rows, rowe, cols, cole, k;
+    private final float alpha;
+    private final float[] a, b, c;
+    private final int offseta, lda, offsetb, ldb, offsetc, ldc;
+    private final long grain;
+
+    SgemmTask(String transa, String transb, int rows, int rowe, int cols, int cole, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int ldc, long grain) {
+      this.transa = transa; this.transb = transb;
+      this.rows = rows; this.rowe = rowe; this.cols = cols; this.cole = cole; this.k = k;
+      this.alpha = alpha;
+      this.a = a; this.offseta = offseta; this.lda = lda;
+      this.b = b; this.offsetb = offsetb; this.ldb = ldb;
+      this.c = c; this.offsetc = offsetc; this.ldc = ldc;
+      this.grain = grain;
+    }
+
+    protected void compute() {
+      final int Tsplit = 12;
+
+      int m = rowe - rows, n = cole - cols;
+      if ((long)m * n * k <= grain || (m < 2 * Tsplit && n < 2 * Tsplit)) {
+        sgemmGEPP(transa, transb, rows, rowe, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      } else if (n >= m) {
+        int mid = cols + loopBound(n / 2, 3);
+        invokeAll(new SgemmTask(transa, transb, rows, rowe, cols, mid, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain),
+                  new SgemmTask(transa, transb, rows, rowe, mid, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain));
+      } else {
+        int mid = rows + loopBound(m / 2, 3);
+        invokeAll(new SgemmTask(transa, transb, rows, mid, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain),
+                  new SgemmTask(transa, transb, mid, rowe, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain));
+      }
+    }
+  }
+
   protected void sgemmBeta(int rows, int rowe, int cols, int cole, float beta, float[] c, int offsetc, int ldc) {
     if (beta != 1.0f) {
       int col = cols;
@@ -1641,6 +2558,230 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
+  protected void hgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    gemm16K(false, transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected void bgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    gemm16K(true, transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  // Same as sgemmK with a and b stored as bfloat16 or half-precision values. There is no unpacked
+  // kernel, as the conversion to float happens while packing, and the packed panels then go
+  // through the same sgebpTN as sgemm.
+  private void gemm16K(boolean bfloat16, String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    // c = beta * c
+    sgemmBeta(0, m, 0, n, beta, c, offsetc, ldc);
+    // c += alpha * a * b
+    if (alpha != 0.0f) {
+      if (Parallelism.enabled((long)m * n * k)) {
+        Parallelism.invoke(new Gemm16Task(bfloat16, transa, transb, 0, m, 0, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc,
+                                          Parallelism.grain((long)m * n * k)));
+      } else {
+        gemm16GEPP(bfloat16, transa, transb, 0, m, 0, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      }
+    }
+  }
+
+  // c[rows:rowe, cols:cole] += alpha * op(a)[rows:rowe, :] * op(b)[:, cols:cole], see sgemmGEPP
+  private void gemm16GEPP(boolean bfloat16, String transa, String transb, int rows, int rowe, int cols, int cole, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float[] c, int offsetc, int ldc) {
+    final int Krow = blockSize(Tuning.sgemmKrow, rowe - rows, sgebpTrow()),
+              Kcol = blockSize(Tuning.sgemmKcol, cole - cols, sgebpTcol()),
+              Ki   = blockSize(Tuning.sgemmKi,   k,           4);
+
+    Workspace workspace = Workspace.get();
+    float[] packeda = workspace.floats(Workspace.PACKEDA, Krow * Ki);
+    float[] packedb = workspace.floats(Workspace.PACKEDB, Kcol * Ki);
+    float[] packedc = workspace.floats(Workspace.PACKEDC, Kcol * Krow);
+
+    for (int col = cols; col < cole; col += Kcol) {
+      int colss = col, colse = Math.min(col + Kcol, cole);
+      for (int i = 0; i < k; i += Ki) {
+        int is = i, ie = Math.min(i + Ki, k);
+        // pack b, the same way as sgecpyNN or sgecpyTN
+        if (lsame("N", transb)) {
+          gecpy16N(bfloat16, ie - is, colse - colss, b, offsetb, ldb, is, colss, packedb, 0, Ki);
+        } else {
+          gecpy16T(bfloat16, colse - colss, ie - is, b, offsetb, ldb, colss, is, packedb, 0, Ki);
+        }
+        // GEPP
+        for (int row = rows; row < rowe; row += Krow) {
+          int rowss = row, rowse = Math.min(row + Krow, rowe);
+          // pack A, the same way as sgecpyNP or sgecpyTP
+          if (lsame("N", transa)) {
+            gecpy16NP(bfloat16, rowse - rowss, ie - is, a, offseta, lda, rowss, is, packeda, 0, Ki);
+          } else {
+            gecpy16TP(bfloat16, rowse - rowss, ie - is, a, offseta, lda, rowss, is, packeda, 0, Ki);
+          }
+          if (rowse - rowss == ldc) {
+            // the tile of C is already contiguous, update it in place
+            sgebpTN(Krow, 0, rowse - rowss, Kcol, 0, colse - colss, Ki, 0, ie - is,
+                    alpha, packeda, 0, Ki, packedb, 0, Ki, 1.0f, c, offsetc + rowss + colss * ldc, ldc);
+          } else {
+            // pack C
+            sgecpyNN(rowse - rowss, colse - colss, c, offsetc, ldc, rowss, colss, packedc, 0, Krow, 0, 0);
+            // GEBP
+            sgebpTN(Krow, 0, rowse - rowss, Kcol, 0, colse - colss, Ki, 0, ie - is,
+                    alpha, packeda, 0, Ki, packedb, 0, Ki, 1.0f, packedc, 0, Krow);
+            // unpack C
+            sgecpyNN(rowse - rowss, colse - colss, packedc, 0, Krow, 0, 0, c, offsetc, ldc, rowss, colss);
+          }
+        }
+      }
+    }
+  }
+
+  // dst[0:m, 0:n] = src[rowssrc:rowssrc+m, colssrc:colssrc+n] converted to float
+  private void gecpy16N(boolean bfloat16, int m, int n, short[] src, int offsetsrc, int ldsrc, int rowssrc, int colssrc, float[] dst, int offsetdst, int lddst) {
+    for (int col = 0; col < n; col += 1) {
+      cvt16ToFloat(bfloat16, m, src, offsetsrc + rowssrc + (colssrc + col) * ldsrc, dst, offsetdst + col * lddst);
+    }
+  }
+
+  // dst[0:n, 0:m] = src[rowssrc:rowssrc+m, colssrc:colssrc+n]**T converted to float
+  private void gecpy16T(boolean bfloat16, int m, int n, short[] src, int offsetsrc, int ldsrc, int rowssrc, int colssrc, float[] dst, int offsetdst, int lddst) {
+    for (int row = 0; row < m; row += 1) {
+      for (int col = 0; col < n; col += 1) {
+        dst[offsetdst + col + row * lddst] = Float16.toFloat(src[offsetsrc + (rowssrc + row) + (colssrc + col) * ldsrc], bfloat16);
+      }
+    }
+  }
+
+  // dst = src[rowssrc:rowssrc+m, colssrc:colssrc+n] converted to float in panels of sgebpPanel() rows
+  private void gecpy16NP(boolean bfloat16, int m, int n, short[] src, int offsetsrc, int ldsrc, int rowssrc, int colssrc, float[] dst, int offsetdst, int lddst) {
+    final int P = sgebpPanel();
+
+    int row = 0;
+    if (P > 1) {
+      for (; row < loopBound(m, P); row += P) {
+        for (int col = 0; col < n; col += 1) {
+          cvt16ToFloat(bfloat16, P, src, offsetsrc + (rowssrc + row) + (colssrc + col) * ldsrc, dst, offsetdst + row * lddst + col * P);
+        }
+      }
+    }
+    gecpy16T(bfloat16, m - row, n, src, offsetsrc, ldsrc, rowssrc + row, colssrc, dst, offsetdst + row * lddst, lddst);
+  }
+
+  // dst = src[colssrc:colssrc+n, rowssrc:rowssrc+m]**T converted to float in panels of sgebpPanel() rows
+  private void gecpy16TP(boolean bfloat16, int m, int n, short[] src, int offsetsrc, int ldsrc, int rowssrc, int colssrc, float[] dst, int offsetdst, int lddst) {
+    final int P = sgebpPanel();
+
+    int row = 0;
+    if (P > 1) {
+      for (; row < loopBound(m, P); row += P) {
+        for (int r = 0; r < P; r += 1) {
+          for (int col = 0; col < n; col += 1) {
+            dst[offsetdst + row * lddst + r + col * P] = Float16.toFloat(src[offsetsrc + (colssrc + col) + (rowssrc + row + r) * ldsrc], bfloat16);
+          }
+        }
+      }
+    }
+    gecpy16N(bfloat16, n, m - row, src, offsetsrc, ldsrc, colssrc, rowssrc + row, dst, offsetdst + row * lddst, lddst);
+  }
+
+  // dst[0:n] = src[0:n] converted to float, see Float16
+  protected void cvt16ToFloat(boolean bfloat16, int n, short[] src, int offsetsrc, float[] dst, int offsetdst) {
+    if (bfloat16) {
+      for (int i = 0; i < n; i += 1) {
+        dst[offsetdst + i] = Float16.bfloat16ToFloat(src[offsetsrc + i]);
+      }
+    } else {
+      for (int i = 0; i < n; i += 1) {
+        dst[offsetdst + i] = Float16.toFloat(src[offsetsrc + i]);
+      }
+    }
+  }
+
+  // See SgemmTask
+  private final class Gemm16Task extends RecursiveAction {
+
+    private final boolean bfloat16;
+    private final String transa, transb;
+    private final int rows, rowe, cols, cole, k;
+    private final float alpha;
+    private final short[] a, b;
+    private final float[] c;
+    private final int offseta, lda, offsetb, ldb, offsetc, ldc;
+    private final long grain;
+
+    Gemm16Task(boolean bfloat16, String transa, String transb, int rows, int rowe, int cols, int cole, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float[] c, int offsetc, int ldc, long grain) {
+      this.bfloat16 = bfloat16;
+      this.transa = transa; this.transb = transb;
+      this.rows = rows; this.rowe = rowe; this.cols = cols; this.cole = cole; this.k = k;
+      this.alpha = alpha;
+      this.a = a; this.offseta = offseta; this.lda = lda;
+      this.b = b; this.offsetb = offsetb; this.ldb = ldb;
+      this.c = c; this.offsetc = offsetc; this.ldc = ldc;
+      this.grain = grain;
+    }
+
+    protected void compute() {
+      final int Tsplit = 12;
+
+      int m = rowe - rows, n = cole - cols;
+      if ((long)m * n * k <= grain || (m < 2 * Tsplit && n < 2 * Tsplit)) {
+        gemm16GEPP(bfloat16, transa, transb, rows, rowe, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      } else if (n >= m) {
+        int mid = cols + loopBound(n / 2, 3);
+        invokeAll(new Gemm16Task(bfloat16, transa, transb, rows, rowe, cols, mid, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain),
+                  new Gemm16Task(bfloat16, transa, transb, rows, rowe, mid, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain));
+      } else {
+        int mid = rows + loopBound(m / 2, 3);
+        invokeAll(new Gemm16Task(bfloat16, transa, transb, rows, mid, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain),
+                  new Gemm16Task(bfloat16, transa, transb, mid, rowe, cols, cole, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain));
+      }
+    }
+  }
+
+  // Height of the panels sgecpyNP and sgecpyTP pack op(a) into for sgebpTN. A panel is stored
+  // column by column, so that a column of it is contiguous, and the panel starting at row is at
+  // row * lddst. Rows past the last full panel are stored row by row, so that with panels of
+  // 1 row this is the same as sgecpyNT and sgecpyTT.
+  protected int sgebpPanel() {
+    return 1;
+  }
+
+  // dst = src[rowssrc:rowssrc+m, colssrc:colssrc+n] in panels of sgebpPanel() rows
+  protected void sgecpyNP(int m, int n, float[] src, int offsetsrc, int ldsrc, int rowssrc, int colssrc, float[] dst, int offsetdst, int lddst) {
+    final int P = sgebpPanel();
+
+    int row = 0;
+    if (P > 1) {
+      for (; row < loopBound(m, P); row += P) {
+        for (int col = 0; col < n; col += 1) {
+          System.arraycopy(src, offsetsrc + (rowssrc + row) + (colssrc + col) * ldsrc, dst, offsetdst + row * lddst + col * P, P);
+        }
+      }
+    }
+    sgecpyNT(m - row, n, src, offsetsrc, ldsrc, rowssrc + row, colssrc, dst, offsetdst, lddst, row, 0);
+  }
+
+  // dst = src[colssrc:colssrc+n, rowssrc:rowssrc+m]**T in panels of sgebpPanel() rows
+  protected void sgecpyTP(int m, int n, float[] src, int offsetsrc, int ldsrc, int rowssrc, int colssrc, float[] dst, int offsetdst, int lddst) {
+    final int P = sgebpPanel();
+
+    int row = 0;
+    if (P > 1) {
+      for (; row < loopBound(m, P); row += P) {
+        for (int r = 0; r < P; r += 1) {
+          for (int col = 0; col < n; col += 1) {
+            dst[offsetdst + row * lddst + r + col * P] = src[offsetsrc + (colssrc + col) + (rowssrc + row + r) * ldsrc];
+          }
+        }
+      }
+    }
+    sgecpyTT(m - row, n, src, offsetsrc, ldsrc, rowssrc + row, colssrc, dst, offsetdst, lddst, row, 0);
+  }
+
+  // Rows and columns of c computed at once by sgebpTN, which the blocks of sgemmGEPP are a multiple of
+  protected int sgebpTrow() {
+    return 3;
+  }
+
+  protected int sgebpTcol() {
+    return 3;
+  }
+
   protected void sgebpTN(int m, int rows, int rowe, int n, int cols, int cole, int k, int is, int ie, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
     final int Tcol = 3, Trow = 3, Ti = 2;
 
@@ -2653,9 +3794,60 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
         }
       }
     } else if (lsame("N", trans)) {
-      dgemvN(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      if (Parallelism.enabledLevel2((long)m * n)) {
+        dgemvNParallel(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      } else {
+        dgemvN(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      }
     } else if (lsame("T", trans) || lsame("C", trans)) {
-      dgemvT(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      if (Parallelism.enabledLevel2((long)m * n)) {
+        dgemvTParallel(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      } else {
+        dgemvT(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      }
+    }
+  }
+
+  // y := alpha*A*x + beta*y with the rows split across threads, each updating its own part of y.
+  // The ranges keep at least 256 rows, so that each task still reads a few cache lines per column.
+  private void dgemvNParallel(int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    int grain = (int)Math.max(256L, Parallelism.level2Grain((long)m * n) / n);
+    Parallelism.invoke(0, m, grain, (from, to) ->
+      dgemvN(to - from, n, alpha, a, offseta + from, lda, x, offsetx, incx,
+             beta, y, offsety + (incy < 0 ? (m - to) * -incy : from * incy), incy));
+  }
+
+  // y := alpha*A**T*x + beta*y with the columns split across threads, each computing its own part
+  // of y. With too few columns for every thread to get some, the rows are split instead, each
+  // task computing a partial y from its rows, and the partial results are summed at the end.
+  private void dgemvTParallel(int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    int parallelism = Parallelism.parallelism();
+    int grain = (int)Math.max(4L, Parallelism.level2Grain((long)m * n) / m);
+    if (n / grain >= parallelism) {
+      Parallelism.invoke(0, n, grain, (from, to) ->
+        dgemvT(m, to - from, alpha, a, offseta + from * lda, lda, x, offsetx, incx,
+               beta, y, offsety + (incy < 0 ? (n - to) * -incy : from * incy), incy));
+    } else {
+      int rows = (m + parallelism - 1) / parallelism;
+      double[] partial = new double[parallelism * n];
+      Parallelism.invoke(0, parallelism, 1, (from, to) -> {
+        for (int task = from; task < to; task += 1) {
+          int rs = Math.min(m, task * rows), re = Math.min(m, rs + rows);
+          dgemvT(re - rs, n, alpha, a, offseta + rs, lda, x, offsetx + (incx < 0 ? (m - re) * -incx : rs * incx), incx,
+                 0.0, partial, task * n, 1);
+        }
+      });
+      for (int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0; col < n; col += 1, iy += incy) {
+        double sum = 0.0;
+        for (int task = 0; task < parallelism; task += 1) {
+          sum += partial[col + task * n];
+        }
+        if (beta != 0.0) {
+          y[offsety + iy] = sum + beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = sum;
+        }
+      }
     }
   }
 
@@ -2745,9 +3937,60 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
         }
       }
     } else if (lsame("N", trans)) {
-      sgemvN(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      if (Parallelism.enabledLevel2((long)m * n)) {
+        sgemvNParallel(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      } else {
+        sgemvN(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      }
     } else if (lsame("T", trans) || lsame("C", trans)) {
-      sgemvT(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      if (Parallelism.enabledLevel2((long)m * n)) {
+        sgemvTParallel(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      } else {
+        sgemvT(m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      }
+    }
+  }
+
+  // y := alpha*A*x + beta*y with the rows split across threads, each updating its own part of y.
+  // The ranges keep at least 256 rows, so that each task still reads a few cache lines per column.
+  private void sgemvNParallel(int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    int grain = (int)Math.max(256L, Parallelism.level2Grain((long)m * n) / n);
+    Parallelism.invoke(0, m, grain, (from, to) ->
+      sgemvN(to - from, n, alpha, a, offseta + from, lda, x, offsetx, incx,
+             beta, y, offsety + (incy < 0 ? (m - to) * -incy : from * incy), incy));
+  }
+
+  // y := alpha*A**T*x + beta*y with the columns split across threads, each computing its own part
+  // of y. With too few columns for every thread to get some, the rows are split instead, each
+  // task computing a partial y from its rows, and the partial results are summed at the end.
+  private void sgemvTParallel(int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    int parallelism = Parallelism.parallelism();
+    int grain = (int)Math.max(4L, Parallelism.level2Grain((long)m * n) / m);
+    if (n / grain >= parallelism) {
+      Parallelism.invoke(0, n, grain, (from, to) ->
+        sgemvT(m, to - from, alpha, a, offseta + from * lda, lda, x, offsetx, incx,
+               beta, y, offsety + (incy < 0 ? (n - to) * -incy : from * incy), incy));
+    } else {
+      int rows = (m + parallelism - 1) / parallelism;
+      float[] partial = new float[parallelism * n];
+      Parallelism.invoke(0, parallelism, 1, (from, to) -> {
+        for (int task = from; task < to; task += 1) {
+          int rs = Math.min(m, task * rows), re = Math.min(m, rs + rows);
+          sgemvT(re - rs, n, alpha, a, offseta + rs, lda, x, offsetx + (incx < 0 ? (m - re) * -incx : rs * incx), incx,
+                 0.0f, partial, task * n, 1);
+        }
+      });
+      for (int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0; col < n; col += 1, iy += incy) {
+        float sum = 0.0f;
+        for (int task = 0; task < parallelism; task += 1) {
+          sum += partial[col + task * n];
+        }
+        if (beta != 0.0f) {
+          y[offsety + iy] = sum + beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = sum;
+        }
+      }
     }
   }
 
@@ -2844,8 +4087,324 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
     }
   }
 
-  protected void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
-    int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
+  protected void hgemvK(String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    gemv16K(false, trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected void bgemvK(String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    gemv16K(true, trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  // Same as sgemvK with A stored as bfloat16 or half-precision values. Across threads, the rows are
+  // split for A and the columns for A**T, see sgemvNParallel and sgemvTParallel.
+  private void gemv16K(boolean bfloat16, String trans, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (alpha == 0.0f) {
+      int len = lsame("N", trans) ? m : n;
+      for (int i = 0, iy = incy < 0 ? (len - 1) * -incy : 0; i < len; i += 1, iy += incy) {
+        if (beta != 0.0f) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0f;
+        }
+      }
+    } else if (lsame("N", trans)) {
+      if (Parallelism.enabledLevel2((long)m * n)) {
+        int grain = (int)Math.max(256L, Parallelism.level2Grain((long)m * n) / n);
+        Parallelism.invoke(0, m, grain, (from, to) ->
+          gemv16N(bfloat16, to - from, n, alpha, a, offseta + from, lda, x, offsetx, incx,
+                  beta, y, offsety + (incy < 0 ? (m - to) * -incy : from * incy), incy));
+      } else {
+        gemv16N(bfloat16, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      }
+    } else if (lsame("T", trans) || lsame("C", trans)) {
+      if (Parallelism.enabledLevel2((long)m * n)) {
+        int grain = (int)Math.max(4L, Parallelism.level2Grain((long)m * n) / m);
+        Parallelism.invoke(0, n, grain, (from, to) ->
+          gemv16T(bfloat16, m, to - from, alpha, a, offseta + from * lda, lda, x, offsetx, incx,
+                  beta, y, offsety + (incy < 0 ? (n - to) * -incy : from * incy), incy));
+      } else {
+        gemv16T(bfloat16, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      }
+    }
+  }
+
+  // Tiles of A converted to float for gemv16N and gemv16T, small enough to stay in the L1 cache
+  private static final int Tgemv16row = 128, Tgemv16col = 32;
+
+  // y = alpha * A * x + beta * y, a tile of A at a time through sgemvN
+  private void gemv16N(boolean bfloat16, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    float[] tile = Workspace.get().floats(Workspace.PACKEDA, Tgemv16row * Tgemv16col);
+    for (int row = 0; row < m; row += Tgemv16row) {
+      int rows = row, rowe = Math.min(row + Tgemv16row, m);
+      for (int col = 0; col < n; col += Tgemv16col) {
+        int cols = col, cole = Math.min(col + Tgemv16col, n);
+        for (int j = cols; j < cole; j += 1) {
+          cvt16ToFloat(bfloat16, rowe - rows, a, offseta + rows + j * lda, tile, (j - cols) * Tgemv16row);
+        }
+        sgemvN(rowe - rows, cole - cols, alpha, tile, 0, Tgemv16row, x, offsetx + (incx < 0 ? (n - cole) * -incx : cols * incx), incx,
+               cols == 0 ? beta : 1.0f, y, offsety + (incy < 0 ? (m - rowe) * -incy : rows * incy), incy);
+      }
+    }
+  }
+
+  // y = alpha * A**T * x + beta * y, a tile of A at a time through sgemvT
+  private void gemv16T(boolean bfloat16, int m, int n, float alpha, short[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    float[] tile = Workspace.get().floats(Workspace.PACKEDA, Tgemv16row * Tgemv16col);
+    for (int col = 0; col < n; col += Tgemv16col) {
+      int cols = col, cole = Math.min(col + Tgemv16col, n);
+      for (int row = 0; row < m; row += Tgemv16row) {
+        int rows = row, rowe = Math.min(row + Tgemv16row, m);
+        for (int j = cols; j < cole; j += 1) {
+          cvt16ToFloat(bfloat16, rowe - rows, a, offseta + rows + j * lda, tile, (j - cols) * Tgemv16row);
+        }
+        sgemvT(rowe - rows, cole - cols, alpha, tile, 0, Tgemv16row, x, offsetx + (incx < 0 ? (m - rowe) * -incx : rows * incx), incx,
+               rows == 0 ? beta : 1.0f, y, offsety + (incy < 0 ? (n - cole) * -incy : cols * incy), incy);
+      }
+    }
+  }
+
+  // Each element of A is read once for both products, halving the memory traffic of two dgemv calls.
+  protected void dgemv2K(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x1, int offsetx1, int incx1, double[] x2, int offsetx2, int incx2, double beta, double[] y1, int offsety1, int incy1, double[] y2, int offsety2, int incy2) {
+    if (alpha == 0.0) {
+      super.dgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+    } else if (lsame("N", trans)) {
+      if (Parallelism.enabledLevel2((long)m * n)) {
+        // see dgemvNParallel
+        int grain = (int)Math.max(256L, Parallelism.level2Grain((long)m * n) / n);
+        Parallelism.invoke(0, m, grain, (from, to) ->
+          dgemv2N(to - from, n, alpha, a, offseta + from, lda, x1, offsetx1, incx1, x2, offsetx2, incx2,
+                  beta, y1, offsety1 + (incy1 < 0 ? (m - to) * -incy1 : from * incy1), incy1,
+                  y2, offsety2 + (incy2 < 0 ? (m - to) * -incy2 : from * incy2), incy2));
+      } else {
+        dgemv2N(m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+      }
+    } else if (lsame("T", trans) || lsame("C", trans)) {
+      int grain = (int)Math.max(4L, Parallelism.level2Grain((long)m * n) / m);
+      if (!Parallelism.enabledLevel2((long)m * n)) {
+        dgemv2T(m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+      } else if (n / grain >= Parallelism.parallelism()) {
+        // see dgemvTParallel
+        Parallelism.invoke(0, n, grain, (from, to) ->
+          dgemv2T(m, to - from, alpha, a, offseta + from * lda, lda, x1, offsetx1, incx1, x2, offsetx2, incx2,
+                  beta, y1, offsety1 + (incy1 < 0 ? (n - to) * -incy1 : from * incy1), incy1,
+                  y2, offsety2 + (incy2 < 0 ? (n - to) * -incy2 : from * incy2), incy2));
+      } else {
+        // too few columns to split them, dgemvTParallel splits the rows of each product instead
+        super.dgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+      }
+    }
+  }
+
+  protected void dgemv2N(int m, int n, double alpha, double[] a, int offseta, int lda, double[] x1, int offsetx1, int incx1, double[] x2, int offsetx2, int incx2, double beta, double[] y1, int offsety1, int incy1, double[] y2, int offsety2, int incy2) {
+    if (beta != 1.0) {
+      int row = 0, iy1 = incy1 < 0 ? (m - 1) * -incy1 : 0, iy2 = incy2 < 0 ? (m - 1) * -incy2 : 0;
+      for (; row < m; row += 1, iy1 += incy1, iy2 += incy2) {
+        if (beta != 0.0) {
+          y1[offsety1 + iy1] = beta * y1[offsety1 + iy1];
+          y2[offsety2 + iy2] = beta * y2[offsety2 + iy2];
+        } else {
+          y1[offsety1 + iy1] = 0.0;
+          y2[offsety2 + iy2] = 0.0;
+        }
+      }
+    }
+    int col = 0, ix1 = incx1 < 0 ? (n - 1) * -incx1 : 0, ix2 = incx2 < 0 ? (n - 1) * -incx2 : 0;
+    for (; col < loopBound(n, 2); col += 2, ix1 += incx1 * 2, ix2 += incx2 * 2) {
+      int row = 0, iy1 = incy1 < 0 ? (m - 1) * -incy1 : 0, iy2 = incy2 < 0 ? (m - 1) * -incy2 : 0;
+      double alphax10 = alpha * x1[offsetx1 + ix1 + incx1 * 0];
+      double alphax11 = alpha * x1[offsetx1 + ix1 + incx1 * 1];
+      double alphax20 = alpha * x2[offsetx2 + ix2 + incx2 * 0];
+      double alphax21 = alpha * x2[offsetx2 + ix2 + incx2 * 1];
+      for (; row < m; row += 1, iy1 += incy1, iy2 += incy2) {
+        double a0 = a[offseta + row + (col + 0) * lda];
+        double a1 = a[offseta + row + (col + 1) * lda];
+        y1[offsety1 + iy1] += alphax10 * a0 + alphax11 * a1;
+        y2[offsety2 + iy2] += alphax20 * a0 + alphax21 * a1;
+      }
+    }
+    for (; col < n; col += 1, ix1 += incx1, ix2 += incx2) {
+      int row = 0, iy1 = incy1 < 0 ? (m - 1) * -incy1 : 0, iy2 = incy2 < 0 ? (m - 1) * -incy2 : 0;
+      double alphax1 = alpha * x1[offsetx1 + ix1];
+      double alphax2 = alpha * x2[offsetx2 + ix2];
+      for (; row < m; row += 1, iy1 += incy1, iy2 += incy2) {
+        double a0 = a[offseta + row + col * lda];
+        y1[offsety1 + iy1] += alphax1 * a0;
+        y2[offsety2 + iy2] += alphax2 * a0;
+      }
+    }
+  }
+
+  protected void dgemv2T(int m, int n, double alpha, double[] a, int offseta, int lda, double[] x1, int offsetx1, int incx1, double[] x2, int offsetx2, int incx2, double beta, double[] y1, int offsety1, int incy1, double[] y2, int offsety2, int incy2) {
+    int col = 0, iy1 = incy1 < 0 ? (n - 1) * -incy1 : 0, iy2 = incy2 < 0 ? (n - 1) * -incy2 : 0;
+    for (; col < loopBound(n, 2); col += 2, iy1 += incy1 * 2, iy2 += incy2 * 2) {
+      int row = 0, ix1 = incx1 < 0 ? (m - 1) * -incx1 : 0, ix2 = incx2 < 0 ? (m - 1) * -incx2 : 0;
+      double sum10 = 0.0;
+      double sum11 = 0.0;
+      double sum20 = 0.0;
+      double sum21 = 0.0;
+      for (; row < m; row += 1, ix1 += incx1, ix2 += incx2) {
+        double a0 = a[offseta + row + (col + 0) * lda];
+        double a1 = a[offseta + row + (col + 1) * lda];
+        double x1ix = x1[offsetx1 + ix1];
+        double x2ix = x2[offsetx2 + ix2];
+        sum10 += x1ix * a0;
+        sum11 += x1ix * a1;
+        sum20 += x2ix * a0;
+        sum21 += x2ix * a1;
+      }
+      if (beta != 0.0) {
+        y1[offsety1 + iy1 + incy1 * 0] = alpha * sum10 + beta * y1[offsety1 + iy1 + incy1 * 0];
+        y1[offsety1 + iy1 + incy1 * 1] = alpha * sum11 + beta * y1[offsety1 + iy1 + incy1 * 1];
+        y2[offsety2 + iy2 + incy2 * 0] = alpha * sum20 + beta * y2[offsety2 + iy2 + incy2 * 0];
+        y2[offsety2 + iy2 + incy2 * 1] = alpha * sum21 + beta * y2[offsety2 + iy2 + incy2 * 1];
+      } else {
+        y1[offsety1 + iy1 + incy1 * 0] = alpha * sum10;
+        y1[offsety1 + iy1 + incy1 * 1] = alpha * sum11;
+        y2[offsety2 + iy2 + incy2 * 0] = alpha * sum20;
+        y2[offsety2 + iy2 + incy2 * 1] = alpha * sum21;
+      }
+    }
+    for (; col < n; col += 1, iy1 += incy1, iy2 += incy2) {
+      int row = 0, ix1 = incx1 < 0 ? (m - 1) * -incx1 : 0, ix2 = incx2 < 0 ? (m - 1) * -incx2 : 0;
+      double sum1 = 0.0;
+      double sum2 = 0.0;
+      for (; row < m; row += 1, ix1 += incx1, ix2 += incx2) {
+        double a0 = a[offseta + row + col * lda];
+        sum1 += x1[offsetx1 + ix1] * a0;
+        sum2 += x2[offsetx2 + ix2] * a0;
+      }
+      if (beta != 0.0) {
+        y1[offsety1 + iy1] = alpha * sum1 + beta * y1[offsety1 + iy1];
+        y2[offsety2 + iy2] = alpha * sum2 + beta * y2[offsety2 + iy2];
+      } else {
+        y1[offsety1 + iy1] = alpha * sum1;
+        y2[offsety2 + iy2] = alpha * sum2;
+      }
+    }
+  }
+
+  // Each element of A is read once for both products, halving the memory traffic of two sgemv calls.
+  protected void sgemv2K(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x1, int offsetx1, int incx1, float[] x2, int offsetx2, int incx2, float beta, float[] y1, int offsety1, int incy1, float[] y2, int offsety2, int incy2) {
+    if (alpha == 0.0f) {
+      super.sgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+    } else if (lsame("N", trans)) {
+      if (Parallelism.enabledLevel2((long)m * n)) {
+        // see sgemvNParallel
+        int grain = (int)Math.max(256L, Parallelism.level2Grain((long)m * n) / n);
+        Parallelism.invoke(0, m, grain, (from, to) ->
+          sgemv2N(to - from, n, alpha, a, offseta + from, lda, x1, offsetx1, incx1, x2, offsetx2, incx2,
+                  beta, y1, offsety1 + (incy1 < 0 ? (m - to) * -incy1 : from * incy1), incy1,
+                  y2, offsety2 + (incy2 < 0 ? (m - to) * -incy2 : from * incy2), incy2));
+      } else {
+        sgemv2N(m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+      }
+    } else if (lsame("T", trans) || lsame("C", trans)) {
+      int grain = (int)Math.max(4L, Parallelism.level2Grain((long)m * n) / m);
+      if (!Parallelism.enabledLevel2((long)m * n)) {
+        sgemv2T(m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+      } else if (n / grain >= Parallelism.parallelism()) {
+        // see sgemvTParallel
+        Parallelism.invoke(0, n, grain, (from, to) ->
+          sgemv2T(m, to - from, alpha, a, offseta + from * lda, lda, x1, offsetx1, incx1, x2, offsetx2, incx2,
+                  beta, y1, offsety1 + (incy1 < 0 ? (n - to) * -incy1 : from * incy1), incy1,
+                  y2, offsety2 + (incy2 < 0 ? (n - to) * -incy2 : from * incy2), incy2));
+      } else {
+        // too few columns to split them, sgemvTParallel splits the rows of each product instead
+        super.sgemv2K(trans, m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
+      }
+    }
+  }
+
+  protected void sgemv2N(int m, int n, float alpha, float[] a, int offseta, int lda, float[] x1, int offsetx1, int incx1, float[] x2, int offsetx2, int incx2, float beta, float[] y1, int offsety1, int incy1, float[] y2, int offsety2, int incy2) {
+    if (beta != 1.0f) {
+      int row = 0, iy1 = incy1 < 0 ? (m - 1) * -incy1 : 0, iy2 = incy2 < 0 ? (m - 1) * -incy2 : 0;
+      for (; row < m; row += 1, iy1 += incy1, iy2 += incy2) {
+        if (beta != 0.0f) {
+          y1[offsety1 + iy1] = beta * y1[offsety1 + iy1];
+          y2[offsety2 + iy2] = beta * y2[offsety2 + iy2];
+        } else {
+          y1[offsety1 + iy1] = 0.0f;
+          y2[offsety2 + iy2] = 0.0f;
+        }
+      }
+    }
+    int col = 0, ix1 = incx1 < 0 ? (n - 1) * -incx1 : 0, ix2 = incx2 < 0 ? (n - 1) * -incx2 : 0;
+    for (; col < loopBound(n, 2); col += 2, ix1 += incx1 * 2, ix2 += incx2 * 2) {
+      int row = 0, iy1 = incy1 < 0 ? (m - 1) * -incy1 : 0, iy2 = incy2 < 0 ? (m - 1) * -incy2 : 0;
+      float alphax10 = alpha * x1[offsetx1 + ix1 + incx1 * 0];
+      float alphax11 = alpha * x1[offsetx1 + ix1 + incx1 * 1];
+      float alphax20 = alpha * x2[offsetx2 + ix2 + incx2 * 0];
+      float alphax21 = alpha * x2[offsetx2 + ix2 + incx2 * 1];
+      for (; row < m; row += 1, iy1 += incy1, iy2 += incy2) {
+        float a0 = a[offseta + row + (col + 0) * lda];
+        float a1 = a[offseta + row + (col + 1) * lda];
+        y1[offsety1 + iy1] += alphax10 * a0 + alphax11 * a1;
+        y2[offsety2 + iy2] += alphax20 * a0 + alphax21 * a1;
+      }
+    }
+    for (; col < n; col += 1, ix1 += incx1, ix2 += incx2) {
+      int row = 0, iy1 = incy1 < 0 ? (m - 1) * -incy1 : 0, iy2 = incy2 < 0 ? (m - 1) * -incy2 : 0;
+      float alphax1 = alpha * x1[offsetx1 + ix1];
+      float alphax2 = alpha * x2[offsetx2 + ix2];
+      for (; row < m; row += 1, iy1 += incy1, iy2 += incy2) {
+        float a0 = a[offseta + row + col * lda];
+        y1[offsety1 + iy1] += alphax1 * a0;
+        y2[offsety2 + iy2] += alphax2 * a0;
+      }
+    }
+  }
+
+  protected void sgemv2T(int m, int n, float alpha, float[] a, int offseta, int lda, float[] x1, int offsetx1, int incx1, float[] x2, int offsetx2, int incx2, float beta, float[] y1, int offsety1, int incy1, float[] y2, int offsety2, int incy2) {
+    int col = 0, iy1 = incy1 < 0 ? (n - 1) * -incy1 : 0, iy2 = incy2 < 0 ? (n - 1) * -incy2 : 0;
+    for (; col < loopBound(n, 2); col += 2, iy1 += incy1 * 2, iy2 += incy2 * 2) {
+      int row = 0, ix1 = incx1 < 0 ? (m - 1) * -incx1 : 0, ix2 = incx2 < 0 ? (m - 1) * -incx2 : 0;
+      float sum10 = 0.0f;
+      float sum11 = 0.0f;
+      float sum20 = 0.0f;
+      float sum21 = 0.0f;
+      for (; row < m; row += 1, ix1 += incx1, ix2 += incx2) {
+        float a0 = a[offseta + row + (col + 0) * lda];
+        float a1 = a[offseta + row + (col + 1) * lda];
+        float x1ix = x1[offsetx1 + ix1];
+        float x2ix = x2[offsetx2 + ix2];
+        sum10 += x1ix * a0;
+        sum11 += x1ix * a1;
+        sum20 += x2ix * a0;
+        sum21 += x2ix * a1;
+      }
+      if (beta != 0.0f) {
+        y1[offsety1 + iy1 + incy1 * 0] = alpha * sum10 + beta * y1[offsety1 + iy1 + incy1 * 0];
+        y1[offsety1 + iy1 + incy1 * 1] = alpha * sum11 + beta * y1[offsety1 + iy1 + incy1 * 1];
+        y2[offsety2 + iy2 + incy2 * 0] = alpha * sum20 + beta * y2[offsety2 + iy2 + incy2 * 0];
+        y2[offsety2 + iy2 + incy2 * 1] = alpha * sum21 + beta * y2[offsety2 + iy2 + incy2 * 1];
+      } else {
+        y1[offsety1 + iy1 + incy1 * 0] = alpha * sum10;
+        y1[offsety1 + iy1 + incy1 * 1] = alpha * sum11;
+        y2[offsety2 + iy2 + incy2 * 0] = alpha * sum20;
+        y2[offsety2 + iy2 + incy2 * 1] = alpha * sum21;
+      }
+    }
+    for (; col < n; col += 1, iy1 += incy1, iy2 += incy2) {
+      int row = 0, ix1 = incx1 < 0 ? (m - 1) * -incx1 : 0, ix2 = incx2 < 0 ? (m - 1) * -incx2 : 0;
+      float sum1 = 0.0f;
+      float sum2 = 0.0f;
+      for (; row < m; row += 1, ix1 += incx1, ix2 += incx2) {
+        float a0 = a[offseta + row + col * lda];
+        sum1 += x1[offsetx1 + ix1] * a0;
+        sum2 += x2[offsetx2 + ix2] * a0;
+      }
+      if (beta != 0.0f) {
+        y1[offsety1 + iy1] = alpha * sum1 + beta * y1[offsety1 + iy1];
+        y2[offsety2 + iy2] = alpha * sum2 + beta * y2[offsety2 + iy2];
+      } else {
+        y1[offsety1 + iy1] = alpha * sum1;
+        y2[offsety2 + iy2] = alpha * sum2;
+      }
+    }
+  }
+
+  protected void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    int col = 0, iy = incy < 0 ? (n - 1) * -incy : 0;
     for (; col < loopBound(n, 4); col += 4, iy += incy * 4) {
       double alphayiy0 = alpha * y[offsety + iy + incy * 0];
       double alphayiy1 = alpha * y[offsety + iy + incy * 1];
@@ -2928,7 +4487,62 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       double x0 = x[offsetx + ix + 0];
       sum += x0 * x0;
     }
-    return Math.sqrt(sum);
+    if (dnrm2Safe(n, sum)) {
+      return Math.sqrt(sum);
+    }
+    return dnrm2Blue(n, x, offsetx, incx);
+  }
+
+  // The plain sum of squares is accurate unless it overflowed, or is small enough
+  // for the low bits lost to underflow (at most half a subnormal ulp per element)
+  // to matter. NaN also takes the slow path, which returns NaN as well.
+  protected static boolean dnrm2Safe(int n, double sum) {
+    return sum >= n * Double.MIN_NORMAL && sum <= Double.MAX_VALUE;
+  }
+
+  protected static boolean snrm2Safe(int n, float sum) {
+    return sum >= n * Float.MIN_NORMAL && sum <= Float.MAX_VALUE;
+  }
+
+  // Blue's algorithm with three accumulators, as in LAPACK 3.10
+  protected double dnrm2Blue(int n, double[] x, int offsetx, int incx) {
+    double asml = 0.0;
+    double amed = 0.0;
+    double abig = 0.0;
+    for (int i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      double ax = Math.abs(x[ix]);
+      if (ax > DTBIG) {
+        ax *= DSBIG;
+        abig += ax * ax;
+      } else if (ax < DTSML) {
+        ax *= DSSML;
+        asml += ax * ax;
+      } else {
+        amed += ax * ax;
+      }
+    }
+    return dnrm2Blue(asml, amed, abig);
+  }
+
+  protected static double dnrm2Blue(double asml, double amed, double abig) {
+    if (abig > 0.0) {
+      // The small values cannot contribute next to the big ones
+      if (amed > 0.0 || Double.isNaN(amed)) {
+        abig += (amed * DSBIG) * DSBIG;
+      }
+      return Math.sqrt(abig) / DSBIG;
+    } else if (asml > 0.0) {
+      if (amed > 0.0 || Double.isNaN(amed)) {
+        amed = Math.sqrt(amed);
+        asml = Math.sqrt(asml) / DSSML;
+        double ymin = asml > amed ? amed : asml;
+        double ymax = asml > amed ? asml : amed;
+        return Math.sqrt(ymax * ymax * (1.0 + (ymin / ymax) * (ymin / ymax)));
+      }
+      return Math.sqrt(asml) / DSSML;
+    } else {
+      return Math.sqrt(amed);
+    }
   }
 
   protected float snrm2K(int n, float[] x, int offsetx, int incx) {
@@ -2965,6 +4579,20 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
       float x0 = x[offsetx + ix + 0];
       sum += x0 * x0;
     }
+    if (snrm2Safe(n, sum)) {
+      return (float)Math.sqrt(sum);
+    }
+    return snrm2Wide(n, x, offsetx, incx);
+  }
+
+  // The squares of floats can neither overflow nor underflow in double precision,
+  // which makes the scaling of Blue's algorithm unnecessary.
+  protected float snrm2Wide(int n, float[] x, int offsetx, int incx) {
+    double sum = 0.0;
+    for (int i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      double x0 = x[ix];
+      sum += x0 * x0;
+    }
     return (float)Math.sqrt(sum);
   }
 
@@ -2976,6 +4604,15 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
         x[offsetx + ix] = c * x0 + s * y0;
         y[offsety + iy] = c * y0 - s * x0;
       }
+    } else if (Math.abs(incx) < DPAGE && Math.abs(incy) < DPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        double x0 = x[offsetx + ix];
+        double y0 = y[offsety + iy];
+        x[offsetx + ix] = c * x0 + s * y0;
+        y[offsety + iy] = c * y0 - s * x0;
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -2998,6 +4635,15 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
         x[offsetx + ix] = c * x0 + s * y0;
         y[offsety + iy] = c * y0 - s * x0;
       }
+    } else if (Math.abs(incx) < SPAGE && Math.abs(incy) < SPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        float x0 = x[offsetx + ix];
+        float y0 = y[offsety + iy];
+        x[offsetx + ix] = c * x0 + s * y0;
+        y[offsety + iy] = c * y0 - s * x0;
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -3013,11 +4659,109 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void drotmK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] param, int offsetparam) {
-    org.netlib.blas.Drotm.drotm(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+    // H = [h11 h12; h21 h22], with the entries that the flag in param leaves implicit set to
+    // 1.0 or -1.0, which multiply exactly, so the four cases share the same loops
+    double flag = param[offsetparam];
+    double h11, h12, h21, h22;
+    if (flag == -2.0) {
+      return;
+    } else if (flag < 0.0) {
+      h11 = param[offsetparam + 1];
+      h21 = param[offsetparam + 2];
+      h12 = param[offsetparam + 3];
+      h22 = param[offsetparam + 4];
+    } else if (flag == 0.0) {
+      h11 = 1.0;
+      h21 = param[offsetparam + 2];
+      h12 = param[offsetparam + 3];
+      h22 = 1.0;
+    } else {
+      h11 = param[offsetparam + 1];
+      h21 = -1.0;
+      h12 = 1.0;
+      h22 = param[offsetparam + 4];
+    }
+    if (incx == 1 && incy == 1) {
+      for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
+        double x0 = x[offsetx + ix];
+        double y0 = y[offsety + iy];
+        x[offsetx + ix] = x0 * h11 + y0 * h12;
+        y[offsety + iy] = x0 * h21 + y0 * h22;
+      }
+    } else if (Math.abs(incx) < DPAGE && Math.abs(incy) < DPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        double x0 = x[offsetx + ix];
+        double y0 = y[offsety + iy];
+        x[offsetx + ix] = x0 * h11 + y0 * h12;
+        y[offsety + iy] = x0 * h21 + y0 * h22;
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+            && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        double x0 = x[offsetx + ix];
+        double y0 = y[offsety + iy];
+        x[offsetx + ix] = x0 * h11 + y0 * h12;
+        y[offsety + iy] = x0 * h21 + y0 * h22;
+      }
+    }
   }
 
   protected void srotmK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] param, int offsetparam) {
-    org.netlib.blas.Srotm.srotm(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+    // H = [h11 h12; h21 h22], with the entries that the flag in param leaves implicit set to
+    // 1.0 or -1.0, which multiply exactly, so the four cases share the same loops
+    float flag = param[offsetparam];
+    float h11, h12, h21, h22;
+    if (flag == -2.0f) {
+      return;
+    } else if (flag < 0.0f) {
+      h11 = param[offsetparam + 1];
+      h21 = param[offsetparam + 2];
+      h12 = param[offsetparam + 3];
+      h22 = param[offsetparam + 4];
+    } else if (flag == 0.0f) {
+      h11 = 1.0f;
+      h21 = param[offsetparam + 2];
+      h12 = param[offsetparam + 3];
+      h22 = 1.0f;
+    } else {
+      h11 = param[offsetparam + 1];
+      h21 = -1.0f;
+      h12 = 1.0f;
+      h22 = param[offsetparam + 4];
+    }
+    if (incx == 1 && incy == 1) {
+      for (int ix = 0, iy = 0; ix < n && iy < n; ix += 1, iy += 1) {
+        float x0 = x[offsetx + ix];
+        float y0 = y[offsety + iy];
+        x[offsetx + ix] = x0 * h11 + y0 * h12;
+        y[offsety + iy] = x0 * h21 + y0 * h22;
+      }
+    } else if (Math.abs(incx) < SPAGE && Math.abs(incy) < SPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        float x0 = x[offsetx + ix];
+        float y0 = y[offsety + iy];
+        x[offsetx + ix] = x0 * h11 + y0 * h12;
+        y[offsety + iy] = x0 * h21 + y0 * h22;
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0,
+               iy = incy < 0 ? (n - 1) * -incy : 0;
+           (incx < 0 ? ix >= 0 : ix < n * incx)
+            && (incy < 0 ? iy >= 0 : iy < n * incy);
+           ix += incx, iy += incy) {
+        float x0 = x[offsetx + ix];
+        float y0 = y[offsety + iy];
+        x[offsetx + ix] = x0 * h11 + y0 * h12;
+        y[offsety + iy] = x0 * h21 + y0 * h22;
+      }
+    }
   }
 
   protected void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] param, int offsetparam) {
@@ -3029,60 +4773,230 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void dsbmvK(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
-    org.netlib.blas.Dsbmv.dsbmv(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
-  }
-
-  protected void ssbmvK(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
-    org.netlib.blas.Ssbmv.ssbmv(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    if (alpha == 0.0) {
+      for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0;
+        }
+      }
+    } else if (lsame("U", uplo)) {
+      dsbmvU(n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    } else if (lsame("L", uplo)) {
+      dsbmvL(n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
   }
 
-  protected void dscalK(int n, double alpha, double[] x, int offsetx, int incx) {
-    if (incx == 1) {
-      for (int ix = 0; ix < n; ix += 1) {
-        x[offsetx + ix] *= alpha;
+  // With uplo = U, column col holds the rows [max(0, col - k), col] of A at
+  // a[offseta + k - col + row + col * lda], and with uplo = L, the rows
+  // [col, min(n, col + k + 1)) at a[offseta - col + row + col * lda]. Each column is
+  // used for both its contribution to y and its transpose's, in a single pass.
+  protected void dsbmvU(int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (beta != 1.0) {
+      for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0;
+        }
       }
-    } else {
-      for (int ix = incx < 0 ? (n - 1) * -incx : 0; incx < 0 ? ix >= 0 : ix < n * incx; ix += incx) {
-        x[offsetx + ix] *= alpha;
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      double alphaxcol = alpha * x[offsetx + kx + col * incx];
+      int rows = Math.max(0, col - k), rowe = col;
+      int acol = offseta + k - col + col * lda;
+      double sum = 0.0;
+      if (incx == 1 && incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          double arow = a[acol + row];
+          y[offsety + row] += alphaxcol * arow;
+          sum += arow * x[offsetx + row];
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+          double arow = a[acol + row];
+          y[offsety + iy] += alphaxcol * arow;
+          sum += arow * x[offsetx + ix];
+        }
       }
+      y[offsety + ky + col * incy] += alphaxcol * a[acol + col] + alpha * sum;
     }
   }
 
-  protected void sscalK(int n, float alpha, float[] x, int offsetx, int incx) {
-    if (incx == 1) {
-      for (int ix = 0; ix < n; ix += 1) {
-        x[offsetx + ix] *= alpha;
+  protected void dsbmvL(int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (beta != 1.0) {
+      for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0;
+        }
       }
-    } else {
-      for (int ix = incx < 0 ? (n - 1) * -incx : 0; incx < 0 ? ix >= 0 : ix < n * incx; ix += incx) {
-        x[offsetx + ix] *= alpha;
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      double alphaxcol = alpha * x[offsetx + kx + col * incx];
+      int rows = col + 1, rowe = Math.min(n, col + k + 1);
+      int acol = offseta - col + col * lda;
+      double sum = 0.0;
+      if (incx == 1 && incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          double arow = a[acol + row];
+          y[offsety + row] += alphaxcol * arow;
+          sum += arow * x[offsetx + row];
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+          double arow = a[acol + row];
+          y[offsety + iy] += alphaxcol * arow;
+          sum += arow * x[offsetx + ix];
+        }
       }
+      y[offsety + ky + col * incy] += alphaxcol * a[acol + col] + alpha * sum;
     }
   }
 
-  protected void dspmvK(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
-    if (alpha == 0.0) {
+  protected void ssbmvK(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (alpha == 0.0f) {
       for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
-        if (beta != 0.0) {
+        if (beta != 0.0f) {
           y[offsety + iy] = beta * y[offsety + iy];
         } else {
-          y[offsety + iy] = 0.0;
+          y[offsety + iy] = 0.0f;
         }
       }
     } else if (lsame("U", uplo)) {
-      dspmvU(n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+      ssbmvU(n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
     } else if (lsame("L", uplo)) {
-      dspmvL(n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+      ssbmvL(n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
     }
   }
 
-  protected void dspmvU(int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
-    int col = 0, ix = incx < 0 ? (n - 1) * -incx : 0, iy = incy < 0 ? (n - 1) * -incy : 0;
-    for (; col < loopBound(n, 4); col += 4, ix += incx * 4, iy += incy * 4) {
-      double alphaxix0 = alpha * x[offsetx + ix + incx * 0];
-      double alphaxix1 = alpha * x[offsetx + ix + incx * 1];
-      double alphaxix2 = alpha * x[offsetx + ix + incx * 2];
-      double alphaxix3 = alpha * x[offsetx + ix + incx * 3];
+  protected void ssbmvU(int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (beta != 1.0f) {
+      for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+        if (beta != 0.0f) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0f;
+        }
+      }
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      float alphaxcol = alpha * x[offsetx + kx + col * incx];
+      int rows = Math.max(0, col - k), rowe = col;
+      int acol = offseta + k - col + col * lda;
+      float sum = 0.0f;
+      if (incx == 1 && incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          float arow = a[acol + row];
+          y[offsety + row] += alphaxcol * arow;
+          sum += arow * x[offsetx + row];
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+          float arow = a[acol + row];
+          y[offsety + iy] += alphaxcol * arow;
+          sum += arow * x[offsetx + ix];
+        }
+      }
+      y[offsety + ky + col * incy] += alphaxcol * a[acol + col] + alpha * sum;
+    }
+  }
+
+  protected void ssbmvL(int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (beta != 1.0f) {
+      for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+        if (beta != 0.0f) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0f;
+        }
+      }
+    }
+    int kx = incx < 0 ? (n - 1) * -incx : 0, ky = incy < 0 ? (n - 1) * -incy : 0;
+    for (int col = 0; col < n; col += 1) {
+      float alphaxcol = alpha * x[offsetx + kx + col * incx];
+      int rows = col + 1, rowe = Math.min(n, col + k + 1);
+      int acol = offseta - col + col * lda;
+      float sum = 0.0f;
+      if (incx == 1 && incy == 1) {
+        for (int row = rows; row < rowe; row += 1) {
+          float arow = a[acol + row];
+          y[offsety + row] += alphaxcol * arow;
+          sum += arow * x[offsetx + row];
+        }
+      } else {
+        for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+          float arow = a[acol + row];
+          y[offsety + iy] += alphaxcol * arow;
+          sum += arow * x[offsetx + ix];
+        }
+      }
+      y[offsety + ky + col * incy] += alphaxcol * a[acol + col] + alpha * sum;
+    }
+  }
+
+  protected void dscalK(int n, double alpha, double[] x, int offsetx, int incx) {
+    if (incx == 1) {
+      for (int ix = 0; ix < n; ix += 1) {
+        x[offsetx + ix] *= alpha;
+      }
+    } else if (Math.abs(incx) < DPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      for (int i = 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] *= alpha;
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0; incx < 0 ? ix >= 0 : ix < n * incx; ix += incx) {
+        x[offsetx + ix] *= alpha;
+      }
+    }
+  }
+
+  protected void sscalK(int n, float alpha, float[] x, int offsetx, int incx) {
+    if (incx == 1) {
+      for (int ix = 0; ix < n; ix += 1) {
+        x[offsetx + ix] *= alpha;
+      }
+    } else if (Math.abs(incx) < SPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      for (int i = 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] *= alpha;
+      }
+    } else {
+      for (int ix = incx < 0 ? (n - 1) * -incx : 0; incx < 0 ? ix >= 0 : ix < n * incx; ix += incx) {
+        x[offsetx + ix] *= alpha;
+      }
+    }
+  }
+
+  protected void dspmvK(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (alpha == 0.0) {
+      for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+        if (beta != 0.0) {
+          y[offsety + iy] = beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = 0.0;
+        }
+      }
+    } else if (lsame("U", uplo)) {
+      dspmvU(n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    } else if (lsame("L", uplo)) {
+      dspmvL(n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected void dspmvU(int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    int col = 0, ix = incx < 0 ? (n - 1) * -incx : 0, iy = incy < 0 ? (n - 1) * -incy : 0;
+    for (; col < loopBound(n, 4); col += 4, ix += incx * 4, iy += incy * 4) {
+      double alphaxix0 = alpha * x[offsetx + ix + incx * 0];
+      double alphaxix1 = alpha * x[offsetx + ix + incx * 1];
+      double alphaxix2 = alpha * x[offsetx + ix + incx * 2];
+      double alphaxix3 = alpha * x[offsetx + ix + incx * 3];
       double sumiy0 = 0.0;
       double sumiy1 = 0.0;
       double sumiy2 = 0.0;
@@ -3437,19 +5351,67 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void dsprK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
-    org.netlib.blas.Dspr.dspr(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    if (alpha == 0.0) {
+      return;
+    }
+    // As for dsyrK, with the column kernel of dsyr over the packed columns
+    int kx = offsetx + (incx < 0 ? (n - 1) * -incx : 0);
+    boolean upper = lsame("U", uplo);
+    for (int col = 0, acol = offseta; col < n; acol += upper ? col + 1 : n - col - 1, col += 1) {
+      double xcol = x[kx + col * incx];
+      if (xcol != 0.0) {
+        dsyrCol(upper ? 0 : col, upper ? col + 1 : n, alpha * xcol, x, kx, incx, a, acol);
+      }
+    }
   }
 
   protected void ssprK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta) {
-    org.netlib.blas.Sspr.sspr(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    if (alpha == 0.0f) {
+      return;
+    }
+    // As for ssyrK, with the column kernel of dsyr over the packed columns
+    int kx = offsetx + (incx < 0 ? (n - 1) * -incx : 0);
+    boolean upper = lsame("U", uplo);
+    for (int col = 0, acol = offseta; col < n; acol += upper ? col + 1 : n - col - 1, col += 1) {
+      float xcol = x[kx + col * incx];
+      if (xcol != 0.0f) {
+        ssyrCol(upper ? 0 : col, upper ? col + 1 : n, alpha * xcol, x, kx, incx, a, acol);
+      }
+    }
   }
 
   protected void dspr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta) {
-    org.netlib.blas.Dspr2.dspr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+    if (alpha == 0.0) {
+      return;
+    }
+    // As for dsyr2K, with the column kernel of dsyr2 over the packed columns
+    int kx = offsetx + (incx < 0 ? (n - 1) * -incx : 0);
+    int ky = offsety + (incy < 0 ? (n - 1) * -incy : 0);
+    boolean upper = lsame("U", uplo);
+    for (int col = 0, acol = offseta; col < n; acol += upper ? col + 1 : n - col - 1, col += 1) {
+      double xcol = x[kx + col * incx];
+      double ycol = y[ky + col * incy];
+      if (xcol != 0.0 || ycol != 0.0) {
+        dsyr2Col(upper ? 0 : col, upper ? col + 1 : n, alpha * ycol, alpha * xcol, x, kx, incx, y, ky, incy, a, acol);
+      }
+    }
   }
 
   protected void sspr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta) {
-    org.netlib.blas.Sspr2.sspr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+    if (alpha == 0.0f) {
+      return;
+    }
+    // As for ssyr2K, with the column kernel of dsyr2 over the packed columns
+    int kx = offsetx + (incx < 0 ? (n - 1) * -incx : 0);
+    int ky = offsety + (incy < 0 ? (n - 1) * -incy : 0);
+    boolean upper = lsame("U", uplo);
+    for (int col = 0, acol = offseta; col < n; acol += upper ? col + 1 : n - col - 1, col += 1) {
+      float xcol = x[kx + col * incx];
+      float ycol = y[ky + col * incy];
+      if (xcol != 0.0f || ycol != 0.0f) {
+        ssyr2Col(upper ? 0 : col, upper ? col + 1 : n, alpha * ycol, alpha * xcol, x, kx, incx, y, ky, incy, a, acol);
+      }
+    }
   }
 
   protected void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
@@ -3459,6 +5421,14 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
         y[offsety + iy] = x[offsetx + ix];
         x[offsetx + ix] = tmp;
       }
+    } else if (Math.abs(incx) < DPAGE && Math.abs(incy) < DPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        double tmp = y[offsety + iy];
+        y[offsety + iy] = x[offsetx + ix];
+        x[offsetx + ix] = tmp;
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -3479,6 +5449,14 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
         y[offsety + iy] = x[offsetx + ix];
         x[offsetx + ix] = tmp;
       }
+    } else if (Math.abs(incx) < SPAGE && Math.abs(incy) < SPAGE) {
+      int ix = incx < 0 ? (n - 1) * -incx : 0;
+      int iy = incy < 0 ? (n - 1) * -incy : 0;
+      for (int i = 0; i < n; i += 1, ix += incx, iy += incy) {
+        float tmp = y[offsety + iy];
+        y[offsety + iy] = x[offsetx + ix];
+        x[offsetx + ix] = tmp;
+      }
     } else {
       for (int ix = incx < 0 ? (n - 1) * -incx : 0,
                iy = incy < 0 ? (n - 1) * -incy : 0;
@@ -4083,12 +6061,56 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
 
   protected void dsymmRU(int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
     // C := alpha*B*A + beta*C
-    org.netlib.blas.Dsymm.dsymm("R", "U", m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    dsymmR(true, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
   }
 
   protected void dsymmRL(int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
     // C := alpha*B*A + beta*C
-    org.netlib.blas.Dsymm.dsymm("R", "L", m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    dsymmR(false, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  // c[:, cols:cole] = alpha * b * a[:, cols:cole] + beta * c[:, cols:cole], one panel of columns at a time.
+  // The rows of the panel above and below the diagonal block are stored as is or transposed in the
+  // referenced triangle and go straight to dgemmK; only the diagonal block is copied to a full square.
+  protected void dsymmR(boolean upper, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    final int Kcol = Math.min(256, n);
+
+    double[] packeda = Workspace.get().doubles(Workspace.PACKEDS, Kcol * Kcol);
+
+    for (int col = 0; col < n; col += Kcol) {
+      int cols = col, cole = Math.min(col + Kcol, n);
+      double betac = beta;
+      if (cols > 0) {
+        if (upper) {
+          dgemmK("N", "N", m, cole - cols, cols, alpha, b, offsetb, ldb, a, offseta + cols * lda, lda, betac, c, offsetc + cols * ldc, ldc);
+        } else {
+          dgemmK("N", "T", m, cole - cols, cols, alpha, b, offsetb, ldb, a, offseta + cols, lda, betac, c, offsetc + cols * ldc, ldc);
+        }
+        betac = 1.0;
+      }
+      dsycpy(upper, cole - cols, a, offseta + cols + cols * lda, lda, packeda, 0, Kcol);
+      dgemmK("N", "N", m, cole - cols, cole - cols, alpha, b, offsetb + cols * ldb, ldb, packeda, 0, Kcol, betac, c, offsetc + cols * ldc, ldc);
+      if (cole < n) {
+        if (upper) {
+          dgemmK("N", "T", m, cole - cols, n - cole, alpha, b, offsetb + cole * ldb, ldb, a, offseta + cols + cole * lda, lda, 1.0, c, offsetc + cols * ldc, ldc);
+        } else {
+          dgemmK("N", "N", m, cole - cols, n - cole, alpha, b, offsetb + cole * ldb, ldb, a, offseta + cole + cols * lda, lda, 1.0, c, offsetc + cols * ldc, ldc);
+        }
+      }
+    }
+  }
+
+  // dst = src, where src is symmetric and only its upper or lower triangle is referenced
+  protected void dsycpy(boolean upper, int n, double[] src, int offsetsrc, int ldsrc, double[] dst, int offsetdst, int lddst) {
+    for (int col = 0; col < n; col += 1) {
+      int row = 0;
+      for (; row < col; row += 1) {
+        double value = upper ? src[offsetsrc + row + col * ldsrc] : src[offsetsrc + col + row * ldsrc];
+        dst[offsetdst + row + col * lddst] = value;
+        dst[offsetdst + col + row * lddst] = value;
+      }
+      dst[offsetdst + col + col * lddst] = src[offsetsrc + col + col * ldsrc];
+    }
   }
 
   protected void ssymmK(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
@@ -4671,12 +6693,56 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
 
   protected void ssymmRU(int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
     // C := alpha*B*A + beta*C
-    org.netlib.blas.Ssymm.ssymm("R", "U", m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    ssymmR(true, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
   }
 
   protected void ssymmRL(int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
     // C := alpha*B*A + beta*C
-    org.netlib.blas.Ssymm.ssymm("R", "L", m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    ssymmR(false, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  // c[:, cols:cole] = alpha * b * a[:, cols:cole] + beta * c[:, cols:cole], one panel of columns at a time.
+  // The rows of the panel above and below the diagonal block are stored as is or transposed in the
+  // referenced triangle and go straight to sgemmK; only the diagonal block is copied to a full square.
+  protected void ssymmR(boolean upper, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    final int Kcol = Math.min(256, n);
+
+    float[] packeda = Workspace.get().floats(Workspace.PACKEDS, Kcol * Kcol);
+
+    for (int col = 0; col < n; col += Kcol) {
+      int cols = col, cole = Math.min(col + Kcol, n);
+      float betac = beta;
+      if (cols > 0) {
+        if (upper) {
+          sgemmK("N", "N", m, cole - cols, cols, alpha, b, offsetb, ldb, a, offseta + cols * lda, lda, betac, c, offsetc + cols * ldc, ldc);
+        } else {
+          sgemmK("N", "T", m, cole - cols, cols, alpha, b, offsetb, ldb, a, offseta + cols, lda, betac, c, offsetc + cols * ldc, ldc);
+        }
+        betac = 1.0f;
+      }
+      ssycpy(upper, cole - cols, a, offseta + cols + cols * lda, lda, packeda, 0, Kcol);
+      sgemmK("N", "N", m, cole - cols, cole - cols, alpha, b, offsetb + cols * ldb, ldb, packeda, 0, Kcol, betac, c, offsetc + cols * ldc, ldc);
+      if (cole < n) {
+        if (upper) {
+          sgemmK("N", "T", m, cole - cols, n - cole, alpha, b, offsetb + cole * ldb, ldb, a, offseta + cols + cole * lda, lda, 1.0f, c, offsetc + cols * ldc, ldc);
+        } else {
+          sgemmK("N", "N", m, cole - cols, n - cole, alpha, b, offsetb + cole * ldb, ldb, a, offseta + cole + cols * lda, lda, 1.0f, c, offsetc + cols * ldc, ldc);
+        }
+      }
+    }
+  }
+
+  // dst = src, where src is symmetric and only its upper or lower triangle is referenced
+  protected void ssycpy(boolean upper, int n, float[] src, int offsetsrc, int ldsrc, float[] dst, int offsetdst, int lddst) {
+    for (int col = 0; col < n; col += 1) {
+      int row = 0;
+      for (; row < col; row += 1) {
+        float value = upper ? src[offsetsrc + row + col * ldsrc] : src[offsetsrc + col + row * ldsrc];
+        dst[offsetdst + row + col * lddst] = value;
+        dst[offsetdst + col + row * lddst] = value;
+      }
+      dst[offsetdst + col + col * lddst] = src[offsetsrc + col + col * ldsrc];
+    }
   }
 
   protected void dsymvK(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
@@ -5050,106 +7116,2262 @@ class Java8BLAS extends AbstractBLAS implements JavaBLAS {
   }
 
   protected void dsyrK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda) {
-    org.netlib.blas.Dsyr.dsyr(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    if (alpha == 0.0) {
+      return;
+    }
+    // Update the referenced triangle one column at a time, with x(row) at x[kx + row * incx]
+    int kx = offsetx + (incx < 0 ? (n - 1) * -incx : 0);
+    boolean upper = lsame("U", uplo);
+    for (int col = 0; col < n; col += 1) {
+      double xcol = x[kx + col * incx];
+      if (xcol != 0.0) {
+        dsyrCol(upper ? 0 : col, upper ? col + 1 : n, alpha * xcol, x, kx, incx, a, offseta + col * lda);
+      }
+    }
   }
 
-  protected void ssyrK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda) {
-    org.netlib.blas.Ssyr.ssyr(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
-  }
+  // The rows [rows, rowe) of a column of A are at a[acol + row], which holds for both the
+  // full storage of dsyr/dsyr2 and the packed storage of dspr/dspr2
 
-  protected void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
-    org.netlib.blas.Dsyr2.dsyr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  protected void dsyrCol(int rows, int rowe, double alphaxcol, double[] x, int kx, int incx, double[] a, int acol) {
+    if (incx == 1) {
+      for (int row = rows; row < rowe; row += 1) {
+        a[acol + row] += x[kx + row] * alphaxcol;
+      }
+    } else {
+      for (int row = rows, ix = kx + rows * incx; row < rowe; row += 1, ix += incx) {
+        a[acol + row] += x[ix] * alphaxcol;
+      }
+    }
   }
 
-  protected void ssyr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
-    org.netlib.blas.Ssyr2.ssyr2(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+  protected void dsyr2Col(int rows, int rowe, double alphaycol, double alphaxcol, double[] x, int kx, int incx, double[] y, int ky, int incy, double[] a, int acol) {
+    if (incx == 1 && incy == 1) {
+      for (int row = rows; row < rowe; row += 1) {
+        a[acol + row] += x[kx + row] * alphaycol + y[ky + row] * alphaxcol;
+      }
+    } else {
+      for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+        a[acol + row] += x[ix] * alphaycol + y[iy] * alphaxcol;
+      }
+    }
   }
 
-  protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
-    org.netlib.blas.Dsyr2k.dsyr2k(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  protected void ssyrK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda) {
+    if (alpha == 0.0f) {
+      return;
+    }
+    // Update the referenced triangle one column at a time, with x(row) at x[kx + row * incx]
+    int kx = offsetx + (incx < 0 ? (n - 1) * -incx : 0);
+    boolean upper = lsame("U", uplo);
+    for (int col = 0; col < n; col += 1) {
+      float xcol = x[kx + col * incx];
+      if (xcol != 0.0f) {
+        ssyrCol(upper ? 0 : col, upper ? col + 1 : n, alpha * xcol, x, kx, incx, a, offseta + col * lda);
+      }
+    }
   }
 
-  protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
-    org.netlib.blas.Ssyr2k.ssyr2k(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
-  }
+  // The rows [rows, rowe) of a column of A are at a[acol + row], which holds for both the
+  // full storage of dsyr/dsyr2 and the packed storage of dspr/dspr2
 
-  protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc) {
-    org.netlib.blas.Dsyrk.dsyrk(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+  protected void ssyrCol(int rows, int rowe, float alphaxcol, float[] x, int kx, int incx, float[] a, int acol) {
+    if (incx == 1) {
+      for (int row = rows; row < rowe; row += 1) {
+        a[acol + row] += x[kx + row] * alphaxcol;
+      }
+    } else {
+      for (int row = rows, ix = kx + rows * incx; row < rowe; row += 1, ix += incx) {
+        a[acol + row] += x[ix] * alphaxcol;
+      }
+    }
   }
 
-  protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc) {
-    org.netlib.blas.Ssyrk.ssyrk(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+  protected void ssyr2Col(int rows, int rowe, float alphaycol, float alphaxcol, float[] x, int kx, int incx, float[] y, int ky, int incy, float[] a, int acol) {
+    if (incx == 1 && incy == 1) {
+      for (int row = rows; row < rowe; row += 1) {
+        a[acol + row] += x[kx + row] * alphaycol + y[ky + row] * alphaxcol;
+      }
+    } else {
+      for (int row = rows, ix = kx + rows * incx, iy = ky + rows * incy; row < rowe; row += 1, ix += incx, iy += incy) {
+        a[acol + row] += x[ix] * alphaycol + y[iy] * alphaxcol;
+      }
+    }
   }
 
-  protected void dtbmvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
-    org.netlib.blas.Dtbmv.dtbmv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  protected void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    if (alpha == 0.0) {
+      return;
+    }
+    // As for dsyrK, with x(row) at x[kx + row * incx] and y(row) at y[ky + row * incy]
+    int kx = offsetx + (incx < 0 ? (n - 1) * -incx : 0);
+    int ky = offsety + (incy < 0 ? (n - 1) * -incy : 0);
+    boolean upper = lsame("U", uplo);
+    for (int col = 0; col < n; col += 1) {
+      double xcol = x[kx + col * incx];
+      double ycol = y[ky + col * incy];
+      if (xcol != 0.0 || ycol != 0.0) {
+        dsyr2Col(upper ? 0 : col, upper ? col + 1 : n, alpha * ycol, alpha * xcol, x, kx, incx, y, ky, incy, a, offseta + col * lda);
+      }
+    }
   }
 
-  protected void stbmvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
-    org.netlib.blas.Stbmv.stbmv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  protected void ssyr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    if (alpha == 0.0f) {
+      return;
+    }
+    // As for ssyrK, with x(row) at x[kx + row * incx] and y(row) at y[ky + row * incy]
+    int kx = offsetx + (incx < 0 ? (n - 1) * -incx : 0);
+    int ky = offsety + (incy < 0 ? (n - 1) * -incy : 0);
+    boolean upper = lsame("U", uplo);
+    for (int col = 0; col < n; col += 1) {
+      float xcol = x[kx + col * incx];
+      float ycol = y[ky + col * incy];
+      if (xcol != 0.0f || ycol != 0.0f) {
+        ssyr2Col(upper ? 0 : col, upper ? col + 1 : n, alpha * ycol, alpha * xcol, x, kx, incx, y, ky, incy, a, offseta + col * lda);
+      }
+    }
   }
 
-  protected void dtbsvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
-    org.netlib.blas.Dtbsv.dtbsv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+  protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    boolean upper = lsame("U", uplo);
+    boolean notrans = lsame("N", trans);
+    dsyrkBeta(upper, n, beta, c, offsetc, ldc);
+    if (alpha == 0.0 || k == 0) {
+      return;
+    }
+    long work = 2L * n * n * k;
+    if (Parallelism.enabled(work)) {
+      Parallelism.invoke(new Dsyr2kTask(upper, notrans, 0, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, Parallelism.grain(work)));
+    } else {
+      dsyr2kTri(upper, notrans, 0, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+    }
   }
 
-  protected void stbsvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
-    org.netlib.blas.Stbsv.stbsv(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
-  }
+  // c[js:je, js:je] += alpha * op(a)[js:je, :] * op(b)[js:je, :]**T + alpha * op(b)[js:je, :] * op(a)[js:je, :]**T,
+  // on the referenced triangle only. The triangle is split in two smaller triangles and
+  // a rectangle, which is updated with dgemmK.
+  protected void dsyr2kTri(boolean upper, boolean notrans, int js, int je, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc) {
+    final int Tbase = 16;
 
-  protected void dtpmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
-    org.netlib.blas.Dtpmv.dtpmv(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    if (je - js <= Tbase) {
+      dsyr2kTriK(upper, notrans, js, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+    } else {
+      int mid = js + loopBound((je - js) / 2, 4);
+      dsyr2kTri(upper, notrans, js, mid, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      dsyr2kTri(upper, notrans, mid, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      dsyr2kGE(upper, notrans, js, mid, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+    }
   }
 
-  protected void stpmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
-    org.netlib.blas.Stpmv.stpmv(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  // Updates the block of c between the triangles [js:mid] and [mid:je]
+  protected void dsyr2kGE(boolean upper, boolean notrans, int js, int mid, int je, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc) {
+    int rows = upper ? js : mid, rowe = upper ? mid : je;
+    int cols = upper ? mid : js, cole = upper ? je : mid;
+    if (notrans) {
+      dgemmK("N", "T", rowe - rows, cole - cols, k, alpha, a, offseta + rows, lda, b, offsetb + cols, ldb, 1.0, c, offsetc + rows + cols * ldc, ldc);
+      dgemmK("N", "T", rowe - rows, cole - cols, k, alpha, b, offsetb + rows, ldb, a, offseta + cols, lda, 1.0, c, offsetc + rows + cols * ldc, ldc);
+    } else {
+      dgemmK("T", "N", rowe - rows, cole - cols, k, alpha, a, offseta + rows * lda, lda, b, offsetb + cols * ldb, ldb, 1.0, c, offsetc + rows + cols * ldc, ldc);
+      dgemmK("T", "N", rowe - rows, cole - cols, k, alpha, b, offsetb + rows * ldb, ldb, a, offseta + cols * lda, lda, 1.0, c, offsetc + rows + cols * ldc, ldc);
+    }
   }
 
-  protected void dtpsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
-    org.netlib.blas.Dtpsv.dtpsv(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+  protected void dsyr2kTriK(boolean upper, boolean notrans, int js, int je, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc) {
+    if (notrans) {
+      for (int l = 0; l < k; l += 1) {
+        for (int col = js; col < je; col += 1) {
+          int rows = upper ? js : col, rowe = upper ? col + 1 : je;
+          double alphab = alpha * b[offsetb + col + l * ldb];
+          double alphaa = alpha * a[offseta + col + l * lda];
+          for (int row = rows; row < rowe; row += 1) {
+            c[offsetc + row + col * ldc] = c[offsetc + row + col * ldc] + a[offseta + row + l * lda] * alphab + b[offsetb + row + l * ldb] * alphaa;
+          }
+        }
+      }
+    } else {
+      for (int col = js; col < je; col += 1) {
+        int rows = upper ? js : col, rowe = upper ? col + 1 : je;
+        for (int row = rows; row < rowe; row += 1) {
+          double sum0 = 0.0;
+          double sum1 = 0.0;
+          for (int l = 0; l < k; l += 1) {
+            sum0 += a[offseta + l + row * lda] * b[offsetb + l + col * ldb];
+            sum1 += b[offsetb + l + row * ldb] * a[offseta + l + col * lda];
+          }
+          c[offsetc + row + col * ldc] += alpha * sum0 + alpha * sum1;
+        }
+      }
+    }
   }
 
-  protected void stpsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
-    org.netlib.blas.Stpsv.stpsv(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
-  }
+  private final class Dsyr2kTask extends RecursiveAction {
+
+    private final boolean upper, notrans;
+    private final int js, je, k;
+    private final double alpha;
+    private final double[] a, b, c;
+    private final int offseta, lda, offsetb, ldb, offsetc, ldc;
+    private final long grain;
+
+    Dsyr2kTask(boolean upper, boolean notrans, int js, int je, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int ldc, long grain) {
+      this.upper = upper; this.notrans = notrans;
+      this.js = js; this.je = je; this.k = k;
+      this.alpha = alpha;
+      this.a = a; this.offseta = offseta; this.lda = lda;
+      this.b = b; this.offsetb = offsetb; this.ldb = ldb;
+      this.c = c; this.offsetc = offsetc; this.ldc = ldc;
+      this.grain = grain;
+    }
 
-  protected void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
-    org.netlib.blas.Dtrmm.dtrmm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
-  }
+    protected void compute() {
+      final int Tsplit = 64;
 
-  protected void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
-    org.netlib.blas.Strmm.strmm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+      int n = je - js;
+      if (2L * n * n * k <= grain || n < 2 * Tsplit) {
+        dsyr2kTri(upper, notrans, js, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      } else {
+        int mid = js + loopBound(n / 2, 4);
+        invokeAll(new Dsyr2kTask(upper, notrans, js, mid, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain),
+                  new Dsyr2kTask(upper, notrans, mid, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain),
+                  ForkJoinTask.adapt(() -> dsyr2kGE(upper, notrans, js, mid, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc)));
+      }
+    }
   }
 
-  protected void dtrmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
-    org.netlib.blas.Dtrmv.dtrmv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    boolean upper = lsame("U", uplo);
+    boolean notrans = lsame("N", trans);
+    ssyrkBeta(upper, n, beta, c, offsetc, ldc);
+    if (alpha == 0.0f || k == 0) {
+      return;
+    }
+    long work = 2L * n * n * k;
+    if (Parallelism.enabled(work)) {
+      Parallelism.invoke(new Ssyr2kTask(upper, notrans, 0, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, Parallelism.grain(work)));
+    } else {
+      ssyr2kTri(upper, notrans, 0, n, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+    }
   }
 
-  protected void strmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
-    org.netlib.blas.Strmv.strmv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
-  }
+  // c[js:je, js:je] += alpha * op(a)[js:je, :] * op(b)[js:je, :]**T + alpha * op(b)[js:je, :] * op(a)[js:je, :]**T,
+  // on the referenced triangle only. The triangle is split in two smaller triangles and
+  // a rectangle, which is updated with sgemmK.
+  protected void ssyr2kTri(boolean upper, boolean notrans, int js, int je, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int ldc) {
+    final int Tbase = 16;
 
-  protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
-    org.netlib.blas.Dtrsm.dtrsm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    if (je - js <= Tbase) {
+      ssyr2kTriK(upper, notrans, js, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+    } else {
+      int mid = js + loopBound((je - js) / 2, 4);
+      ssyr2kTri(upper, notrans, js, mid, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      ssyr2kTri(upper, notrans, mid, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      ssyr2kGE(upper, notrans, js, mid, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+    }
   }
 
-  protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
-    org.netlib.blas.Strsm.strsm(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+  // Updates the block of c between the triangles [js:mid] and [mid:je]
+  protected void ssyr2kGE(boolean upper, boolean notrans, int js, int mid, int je, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int ldc) {
+    int rows = upper ? js : mid, rowe = upper ? mid : je;
+    int cols = upper ? mid : js, cole = upper ? je : mid;
+    if (notrans) {
+      sgemmK("N", "T", rowe - rows, cole - cols, k, alpha, a, offseta + rows, lda, b, offsetb + cols, ldb, 1.0f, c, offsetc + rows + cols * ldc, ldc);
+      sgemmK("N", "T", rowe - rows, cole - cols, k, alpha, b, offsetb + rows, ldb, a, offseta + cols, lda, 1.0f, c, offsetc + rows + cols * ldc, ldc);
+    } else {
+      sgemmK("T", "N", rowe - rows, cole - cols, k, alpha, a, offseta + rows * lda, lda, b, offsetb + cols * ldb, ldb, 1.0f, c, offsetc + rows + cols * ldc, ldc);
+      sgemmK("T", "N", rowe - rows, cole - cols, k, alpha, b, offsetb + rows * ldb, ldb, a, offseta + cols * lda, lda, 1.0f, c, offsetc + rows + cols * ldc, ldc);
+    }
   }
 
-  protected void dtrsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
-    org.netlib.blas.Dtrsv.dtrsv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  protected void ssyr2kTriK(boolean upper, boolean notrans, int js, int je, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int ldc) {
+    if (notrans) {
+      for (int l = 0; l < k; l += 1) {
+        for (int col = js; col < je; col += 1) {
+          int rows = upper ? js : col, rowe = upper ? col + 1 : je;
+          float alphab = alpha * b[offsetb + col + l * ldb];
+          float alphaa = alpha * a[offseta + col + l * lda];
+          for (int row = rows; row < rowe; row += 1) {
+            c[offsetc + row + col * ldc] = c[offsetc + row + col * ldc] + a[offseta + row + l * lda] * alphab + b[offsetb + row + l * ldb] * alphaa;
+          }
+        }
+      }
+    } else {
+      for (int col = js; col < je; col += 1) {
+        int rows = upper ? js : col, rowe = upper ? col + 1 : je;
+        for (int row = rows; row < rowe; row += 1) {
+          float sum0 = 0.0f;
+          float sum1 = 0.0f;
+          for (int l = 0; l < k; l += 1) {
+            sum0 += a[offseta + l + row * lda] * b[offsetb + l + col * ldb];
+            sum1 += b[offsetb + l + row * ldb] * a[offseta + l + col * lda];
+          }
+          c[offsetc + row + col * ldc] += alpha * sum0 + alpha * sum1;
+        }
+      }
+    }
   }
 
-  protected void strsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
-    org.netlib.blas.Strsv.strsv(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+  private final class Ssyr2kTask extends RecursiveAction {
+
+    private final boolean upper, notrans;
+    private final int js, je, k;
+    private final float alpha;
+    private final float[] a, b, c;
+    private final int offseta, lda, offsetb, ldb, offsetc, ldc;
+    private final long grain;
+
+    Ssyr2kTask(boolean upper, boolean notrans, int js, int je, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int ldc, long grain) {
+      this.upper = upper; this.notrans = notrans;
+      this.js = js; this.je = je; this.k = k;
+      this.alpha = alpha;
+      this.a = a; this.offseta = offseta; this.lda = lda;
+      this.b = b; this.offsetb = offsetb; this.ldb = ldb;
+      this.c = c; this.offsetc = offsetc; this.ldc = ldc;
+      this.grain = grain;
+    }
+
+    protected void compute() {
+      final int Tsplit = 64;
+
+      int n = je - js;
+      if (2L * n * n * k <= grain || n < 2 * Tsplit) {
+        ssyr2kTri(upper, notrans, js, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc);
+      } else {
+        int mid = js + loopBound(n / 2, 4);
+        invokeAll(new Ssyr2kTask(upper, notrans, js, mid, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain),
+                  new Ssyr2kTask(upper, notrans, mid, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc, grain),
+                  ForkJoinTask.adapt(() -> ssyr2kGE(upper, notrans, js, mid, je, k, alpha, a, offseta, lda, b, offsetb, ldb, c, offsetc, ldc)));
+      }
+    }
   }
 
-  protected int idamaxK(int n, double[] x, int offsetx, int incx) {
-    return org.netlib.blas.Idamax.idamax(n, x, offsetx, incx);
+  protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc) {
+    boolean upper = lsame("U", uplo);
+    boolean notrans = lsame("N", trans);
+    dsyrkBeta(upper, n, beta, c, offsetc, ldc);
+    if (alpha == 0.0 || k == 0) {
+      return;
+    }
+    long work = (long)n * n * k;
+    if (Parallelism.enabled(work)) {
+      Parallelism.invoke(new DsyrkTask(upper, notrans, 0, n, k, alpha, a, offseta, lda, c, offsetc, ldc, Parallelism.grain(work)));
+    } else {
+      dsyrkTri(upper, notrans, 0, n, k, alpha, a, offseta, lda, c, offsetc, ldc);
+    }
+  }
+
+  protected void dsyrkBeta(boolean upper, int n, double beta, double[] c, int offsetc, int ldc) {
+    if (beta != 1.0) {
+      for (int col = 0; col < n; col += 1) {
+        int rows = upper ? 0 : col, rowe = upper ? col + 1 : n;
+        for (int row = rows; row < rowe; row += 1) {
+          if (beta != 0.0) {
+            c[offsetc + row + col * ldc] = beta * c[offsetc + row + col * ldc];
+          } else {
+            c[offsetc + row + col * ldc] = 0.0;
+          }
+        }
+      }
+    }
+  }
+
+  // c[js:je, js:je] += alpha * op(a)[js:je, :] * op(a)[js:je, :]**T, on the referenced triangle
+  // only. The triangle is split in two smaller triangles and a rectangle, which is updated
+  // with dgemmK, so that only the small triangles on the diagonal go through dsyrkTriK.
+  protected void dsyrkTri(boolean upper, boolean notrans, int js, int je, int k, double alpha, double[] a, int offseta, int lda, double[] c, int offsetc, int ldc) {
+    final int Tbase = 16;
+
+    if (je - js <= Tbase) {
+      dsyrkTriK(upper, notrans, js, je, k, alpha, a, offseta, lda, c, offsetc, ldc);
+    } else {
+      int mid = js + loopBound((je - js) / 2, 4);
+      dsyrkTri(upper, notrans, js, mid, k, alpha, a, offseta, lda, c, offsetc, ldc);
+      dsyrkTri(upper, notrans, mid, je, k, alpha, a, offseta, lda, c, offsetc, ldc);
+      dsyrkGE(upper, notrans, js, mid, je, k, alpha, a, offseta, lda, c, offsetc, ldc);
+    }
+  }
+
+  // Updates the block of c between the triangles [js:mid] and [mid:je]
+  protected void dsyrkGE(boolean upper, boolean notrans, int js, int mid, int je, int k, double alpha, double[] a, int offseta, int lda, double[] c, int offsetc, int ldc) {
+    int rows = upper ? js : mid, rowe = upper ? mid : je;
+    int cols = upper ? mid : js, cole = upper ? je : mid;
+    if (notrans) {
+      dgemmK("N", "T", rowe - rows, cole - cols, k, alpha, a, offseta + rows, lda, a, offseta + cols, lda, 1.0, c, offsetc + rows + cols * ldc, ldc);
+    } else {
+      dgemmK("T", "N", rowe - rows, cole - cols, k, alpha, a, offseta + rows * lda, lda, a, offseta + cols * lda, lda, 1.0, c, offsetc + rows + cols * ldc, ldc);
+    }
+  }
+
+  protected void dsyrkTriK(boolean upper, boolean notrans, int js, int je, int k, double alpha, double[] a, int offseta, int lda, double[] c, int offsetc, int ldc) {
+    if (notrans) {
+      // the rows js:je of a are read once, while the block of c stays in cache
+      for (int l = 0; l < k; l += 1) {
+        for (int col = js; col < je; col += 1) {
+          int rows = upper ? js : col, rowe = upper ? col + 1 : je;
+          double alphaa = alpha * a[offseta + col + l * lda];
+          for (int row = rows; row < rowe; row += 1) {
+            c[offsetc + row + col * ldc] += alphaa * a[offseta + row + l * lda];
+          }
+        }
+      }
+    } else {
+      for (int col = js; col < je; col += 1) {
+        int rows = upper ? js : col, rowe = upper ? col + 1 : je;
+        for (int row = rows; row < rowe; row += 1) {
+          double sum = 0.0;
+          for (int l = 0; l < k; l += 1) {
+            sum += a[offseta + l + row * lda] * a[offseta + l + col * lda];
+          }
+          c[offsetc + row + col * ldc] += alpha * sum;
+        }
+      }
+    }
+  }
+
+  private final class DsyrkTask extends RecursiveAction {
+
+    private final boolean upper, notrans;
+    private final int js, je, k;
+    private final double alpha;
+    private final double[] a, c;
+    private final int offseta, lda, offsetc, ldc;
+    private final long grain;
+
+    DsyrkTask(boolean upper, boolean notrans, int js, int je, int k, double alpha, double[] a, int offseta, int lda, double[] c, int offsetc, int ldc, long grain) {
+      this.upper = upper; this.notrans = notrans;
+      this.js = js; this.je = je; this.k = k;
+      this.alpha = alpha;
+      this.a = a; this.offseta = offseta; this.lda = lda;
+      this.c = c; this.offsetc = offsetc; this.ldc = ldc;
+      this.grain = grain;
+    }
+
+    // The two triangles and the rectangle between them are disjoint parts of c
+    protected void compute() {
+      final int Tsplit = 64;
+
+      int n = je - js;
+      if ((long)n * n * k <= grain || n < 2 * Tsplit) {
+        dsyrkTri(upper, notrans, js, je, k, alpha, a, offseta, lda, c, offsetc, ldc);
+      } else {
+        int mid = js + loopBound(n / 2, 4);
+        invokeAll(new DsyrkTask(upper, notrans, js, mid, k, alpha, a, offseta, lda, c, offsetc, ldc, grain),
+                  new DsyrkTask(upper, notrans, mid, je, k, alpha, a, offseta, lda, c, offsetc, ldc, grain),
+                  ForkJoinTask.adapt(() -> dsyrkGE(upper, notrans, js, mid, je, k, alpha, a, offseta, lda, c, offsetc, ldc)));
+      }
+    }
+  }
+
+  protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc) {
+    boolean upper = lsame("U", uplo);
+    boolean notrans = lsame("N", trans);
+    ssyrkBeta(upper, n, beta, c, offsetc, ldc);
+    if (alpha == 0.0f || k == 0) {
+      return;
+    }
+    long work = (long)n * n * k;
+    if (Parallelism.enabled(work)) {
+      Parallelism.invoke(new SsyrkTask(upper, notrans, 0, n, k, alpha, a, offseta, lda, c, offsetc, ldc, Parallelism.grain(work)));
+    } else {
+      ssyrkTri(upper, notrans, 0, n, k, alpha, a, offseta, lda, c, offsetc, ldc);
+    }
+  }
+
+  protected void ssyrkBeta(boolean upper, int n, float beta, float[] c, int offsetc, int ldc) {
+    if (beta != 1.0f) {
+      for (int col = 0; col < n; col += 1) {
+        int rows = upper ? 0 : col, rowe = upper ? col + 1 : n;
+        for (int row = rows; row < rowe; row += 1) {
+          if (beta != 0.0f) {
+            c[offsetc + row + col * ldc] = beta * c[offsetc + row + col * ldc];
+          } else {
+            c[offsetc + row + col * ldc] = 0.0f;
+          }
+        }
+      }
+    }
+  }
+
+  // c[js:je, js:je] += alpha * op(a)[js:je, :] * op(a)[js:je, :]**T, on the referenced triangle
+  // only. The triangle is split in two smaller triangles and a rectangle, which is updated
+  // with sgemmK, so that only the small triangles on the diagonal go through ssyrkTriK.
+  protected void ssyrkTri(boolean upper, boolean notrans, int js, int je, int k, float alpha, float[] a, int offseta, int lda, float[] c, int offsetc, int ldc) {
+    final int Tbase = 16;
+
+    if (je - js <= Tbase) {
+      ssyrkTriK(upper, notrans, js, je, k, alpha, a, offseta, lda, c, offsetc, ldc);
+    } else {
+      int mid = js + loopBound((je - js) / 2, 4);
+      ssyrkTri(upper, notrans, js, mid, k, alpha, a, offseta, lda, c, offsetc, ldc);
+      ssyrkTri(upper, notrans, mid, je, k, alpha, a, offseta, lda, c, offsetc, ldc);
+      ssyrkGE(upper, notrans, js, mid, je, k, alpha, a, offseta, lda, c, offsetc, ldc);
+    }
+  }
+
+  // Updates the block of c between the triangles [js:mid] and [mid:je]
+  protected void ssyrkGE(boolean upper, boolean notrans, int js, int mid, int je, int k, float alpha, float[] a, int offseta, int lda, float[] c, int offsetc, int ldc) {
+    int rows = upper ? js : mid, rowe = upper ? mid : je;
+    int cols = upper ? mid : js, cole = upper ? je : mid;
+    if (notrans) {
+      sgemmK("N", "T", rowe - rows, cole - cols, k, alpha, a, offseta + rows, lda, a, offseta + cols, lda, 1.0f, c, offsetc + rows + cols * ldc, ldc);
+    } else {
+      sgemmK("T", "N", rowe - rows, cole - cols, k, alpha, a, offseta + rows * lda, lda, a, offseta + cols * lda, lda, 1.0f, c, offsetc + rows + cols * ldc, ldc);
+    }
+  }
+
+  protected void ssyrkTriK(boolean upper, boolean notrans, int js, int je, int k, float alpha, float[] a, int offseta, int lda, float[] c, int offsetc, int ldc) {
+    if (notrans) {
+      // the rows js:je of a are read once, while the block of c stays in cache
+      for (int l = 0; l < k; l += 1) {
+        for (int col = js; col < je; col += 1) {
+          int rows = upper ? js : col, rowe = upper ? col + 1 : je;
+          float alphaa = alpha * a[offseta + col + l * lda];
+          for (int row = rows; row < rowe; row += 1) {
+            c[offsetc + row + col * ldc] += alphaa * a[offseta + row + l * lda];
+          }
+        }
+      }
+    } else {
+      for (int col = js; col < je; col += 1) {
+        int rows = upper ? js : col, rowe = upper ? col + 1 : je;
+        for (int row = rows; row < rowe; row += 1) {
+          float sum = 0.0f;
+          for (int l = 0; l < k; l += 1) {
+            sum += a[offseta + l + row * lda] * a[offseta + l + col * lda];
+          }
+          c[offsetc + row + col * ldc] += alpha * sum;
+        }
+      }
+    }
+  }
+
+  private final class SsyrkTask extends RecursiveAction {
+
+    private final boolean upper, notrans;
+    private final int js, je, k;
+    private final float alpha;
+    private final float[] a, c;
+    private final int offseta, lda, offsetc, ldc;
+    private final long grain;
+
+    SsyrkTask(boolean upper, boolean notrans, int js, int je, int k, float alpha, float[] a, int offseta, int lda, float[] c, int offsetc, int ldc, long grain) {
+      this.upper = upper; this.notrans = notrans;
+      this.js = js; this.je = je; this.k = k;
+      this.alpha = alpha;
+      this.a = a; this.offseta = offseta; this.lda = lda;
+      this.c = c; this.offsetc = offsetc; this.ldc = ldc;
+      this.grain = grain;
+    }
+
+    // The two triangles and the rectangle between them are disjoint parts of c
+    protected void compute() {
+      final int Tsplit = 64;
+
+      int n = je - js;
+      if ((long)n * n * k <= grain || n < 2 * Tsplit) {
+        ssyrkTri(upper, notrans, js, je, k, alpha, a, offseta, lda, c, offsetc, ldc);
+      } else {
+        int mid = js + loopBound(n / 2, 4);
+        invokeAll(new SsyrkTask(upper, notrans, js, mid, k, alpha, a, offseta, lda, c, offsetc, ldc, grain),
+                  new SsyrkTask(upper, notrans, mid, je, k, alpha, a, offseta, lda, c, offsetc, ldc, grain),
+                  ForkJoinTask.adapt(() -> ssyrkGE(upper, notrans, js, mid, je, k, alpha, a, offseta, lda, c, offsetc, ldc)));
+      }
+    }
+  }
+
+  protected void dtbmvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Multiply a contiguous copy of x, which costs little next to the product itself
+      double[] xcopy = new double[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      dtbmvK(uplo, trans, diag, n, k, a, offseta, lda, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // As for dtbsvK, the product goes one contiguous band column at a time, with daxpyK
+    // for x := A*x and ddotK for x := A**T*x, in the order where the entries of x read by
+    // a column have not been overwritten yet
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      dtbmvUN(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else if (lsame("U", uplo)) {
+      dtbmvUT(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else if (lsame("N", trans)) {
+      dtbmvLN(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else {
+      dtbmvLT(n, k, nounit, a, offseta, lda, x, offsetx);
+    }
+  }
+
+  protected void dtbmvUN(int n, int k, boolean nounit, double[] a, int offseta, int lda, double[] x, int offsetx) {
+    for (int col = 0; col < n; col += 1) {
+      int acol = offseta + k - col + col * lda;
+      if (x[offsetx + col] != 0.0) {
+        int rows = Math.max(0, col - k);
+        daxpyK(col - rows, x[offsetx + col], a, acol + rows, 1, x, offsetx + rows, 1);
+        if (nounit) {
+          x[offsetx + col] *= a[acol + col];
+        }
+      }
+    }
+  }
+
+  protected void dtbmvUT(int n, int k, boolean nounit, double[] a, int offseta, int lda, double[] x, int offsetx) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      int acol = offseta + k - col + col * lda;
+      int rows = Math.max(0, col - k);
+      double sum = x[offsetx + col];
+      if (nounit) {
+        sum *= a[acol + col];
+      }
+      x[offsetx + col] = sum + ddotK(col - rows, a, acol + rows, 1, x, offsetx + rows, 1);
+    }
+  }
+
+  protected void dtbmvLN(int n, int k, boolean nounit, double[] a, int offseta, int lda, double[] x, int offsetx) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      int acol = offseta - col + col * lda;
+      if (x[offsetx + col] != 0.0) {
+        int rowe = Math.min(n, col + k + 1);
+        daxpyK(rowe - col - 1, x[offsetx + col], a, acol + col + 1, 1, x, offsetx + col + 1, 1);
+        if (nounit) {
+          x[offsetx + col] *= a[acol + col];
+        }
+      }
+    }
+  }
+
+  protected void dtbmvLT(int n, int k, boolean nounit, double[] a, int offseta, int lda, double[] x, int offsetx) {
+    for (int col = 0; col < n; col += 1) {
+      int acol = offseta - col + col * lda;
+      int rowe = Math.min(n, col + k + 1);
+      double sum = x[offsetx + col];
+      if (nounit) {
+        sum *= a[acol + col];
+      }
+      x[offsetx + col] = sum + ddotK(rowe - col - 1, a, acol + col + 1, 1, x, offsetx + col + 1, 1);
+    }
+  }
+
+  protected void stbmvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Multiply a contiguous copy of x, which costs little next to the product itself
+      float[] xcopy = new float[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      stbmvK(uplo, trans, diag, n, k, a, offseta, lda, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // As for stbsvK, the product goes one contiguous band column at a time, with saxpyK
+    // for x := A*x and sdotK for x := A**T*x, in the order where the entries of x read by
+    // a column have not been overwritten yet
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      stbmvUN(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else if (lsame("U", uplo)) {
+      stbmvUT(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else if (lsame("N", trans)) {
+      stbmvLN(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else {
+      stbmvLT(n, k, nounit, a, offseta, lda, x, offsetx);
+    }
+  }
+
+  protected void stbmvUN(int n, int k, boolean nounit, float[] a, int offseta, int lda, float[] x, int offsetx) {
+    for (int col = 0; col < n; col += 1) {
+      int acol = offseta + k - col + col * lda;
+      if (x[offsetx + col] != 0.0f) {
+        int rows = Math.max(0, col - k);
+        saxpyK(col - rows, x[offsetx + col], a, acol + rows, 1, x, offsetx + rows, 1);
+        if (nounit) {
+          x[offsetx + col] *= a[acol + col];
+        }
+      }
+    }
+  }
+
+  protected void stbmvUT(int n, int k, boolean nounit, float[] a, int offseta, int lda, float[] x, int offsetx) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      int acol = offseta + k - col + col * lda;
+      int rows = Math.max(0, col - k);
+      float sum = x[offsetx + col];
+      if (nounit) {
+        sum *= a[acol + col];
+      }
+      x[offsetx + col] = sum + sdotK(col - rows, a, acol + rows, 1, x, offsetx + rows, 1);
+    }
+  }
+
+  protected void stbmvLN(int n, int k, boolean nounit, float[] a, int offseta, int lda, float[] x, int offsetx) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      int acol = offseta - col + col * lda;
+      if (x[offsetx + col] != 0.0f) {
+        int rowe = Math.min(n, col + k + 1);
+        saxpyK(rowe - col - 1, x[offsetx + col], a, acol + col + 1, 1, x, offsetx + col + 1, 1);
+        if (nounit) {
+          x[offsetx + col] *= a[acol + col];
+        }
+      }
+    }
+  }
+
+  protected void stbmvLT(int n, int k, boolean nounit, float[] a, int offseta, int lda, float[] x, int offsetx) {
+    for (int col = 0; col < n; col += 1) {
+      int acol = offseta - col + col * lda;
+      int rowe = Math.min(n, col + k + 1);
+      float sum = x[offsetx + col];
+      if (nounit) {
+        sum *= a[acol + col];
+      }
+      x[offsetx + col] = sum + sdotK(rowe - col - 1, a, acol + col + 1, 1, x, offsetx + col + 1, 1);
+    }
+  }
+
+  protected void dtbsvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Solve on a contiguous copy of x, which costs little next to the solve itself
+      double[] xcopy = new double[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      dtbsvK(uplo, trans, diag, n, k, a, offseta, lda, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // The part of each column of A inside the band is contiguous, so the solve goes one
+    // column at a time with daxpyK for x := inv(A)*x, and ddotK for x := inv(A**T)*x
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      dtbsvUN(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else if (lsame("U", uplo)) {
+      dtbsvUT(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else if (lsame("N", trans)) {
+      dtbsvLN(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else {
+      dtbsvLT(n, k, nounit, a, offseta, lda, x, offsetx);
+    }
+  }
+
+  // A(row, col) is at a[acol + row], with rows in [max(0, col - k), col] for the upper
+  // band, and in [col, min(n - 1, col + k)] for the lower band
+
+  protected void dtbsvUN(int n, int k, boolean nounit, double[] a, int offseta, int lda, double[] x, int offsetx) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      int acol = offseta + k - col + col * lda;
+      if (x[offsetx + col] != 0.0) {
+        if (nounit) {
+          x[offsetx + col] /= a[acol + col];
+        }
+        int rows = Math.max(0, col - k);
+        daxpyK(col - rows, -x[offsetx + col], a, acol + rows, 1, x, offsetx + rows, 1);
+      }
+    }
+  }
+
+  protected void dtbsvUT(int n, int k, boolean nounit, double[] a, int offseta, int lda, double[] x, int offsetx) {
+    for (int col = 0; col < n; col += 1) {
+      int acol = offseta + k - col + col * lda;
+      int rows = Math.max(0, col - k);
+      double sum = x[offsetx + col] - ddotK(col - rows, a, acol + rows, 1, x, offsetx + rows, 1);
+      if (nounit) {
+        sum /= a[acol + col];
+      }
+      x[offsetx + col] = sum;
+    }
+  }
+
+  protected void dtbsvLN(int n, int k, boolean nounit, double[] a, int offseta, int lda, double[] x, int offsetx) {
+    for (int col = 0; col < n; col += 1) {
+      int acol = offseta - col + col * lda;
+      if (x[offsetx + col] != 0.0) {
+        if (nounit) {
+          x[offsetx + col] /= a[acol + col];
+        }
+        int rowe = Math.min(n, col + k + 1);
+        daxpyK(rowe - col - 1, -x[offsetx + col], a, acol + col + 1, 1, x, offsetx + col + 1, 1);
+      }
+    }
+  }
+
+  protected void dtbsvLT(int n, int k, boolean nounit, double[] a, int offseta, int lda, double[] x, int offsetx) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      int acol = offseta - col + col * lda;
+      int rowe = Math.min(n, col + k + 1);
+      double sum = x[offsetx + col] - ddotK(rowe - col - 1, a, acol + col + 1, 1, x, offsetx + col + 1, 1);
+      if (nounit) {
+        sum /= a[acol + col];
+      }
+      x[offsetx + col] = sum;
+    }
+  }
+
+  protected void stbsvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Solve on a contiguous copy of x, which costs little next to the solve itself
+      float[] xcopy = new float[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      stbsvK(uplo, trans, diag, n, k, a, offseta, lda, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // The part of each column of A inside the band is contiguous, so the solve goes one
+    // column at a time with saxpyK for x := inv(A)*x, and sdotK for x := inv(A**T)*x
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      stbsvUN(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else if (lsame("U", uplo)) {
+      stbsvUT(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else if (lsame("N", trans)) {
+      stbsvLN(n, k, nounit, a, offseta, lda, x, offsetx);
+    } else {
+      stbsvLT(n, k, nounit, a, offseta, lda, x, offsetx);
+    }
+  }
+
+  // A(row, col) is at a[acol + row], with rows in [max(0, col - k), col] for the upper
+  // band, and in [col, min(n - 1, col + k)] for the lower band
+
+  protected void stbsvUN(int n, int k, boolean nounit, float[] a, int offseta, int lda, float[] x, int offsetx) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      int acol = offseta + k - col + col * lda;
+      if (x[offsetx + col] != 0.0f) {
+        if (nounit) {
+          x[offsetx + col] /= a[acol + col];
+        }
+        int rows = Math.max(0, col - k);
+        saxpyK(col - rows, -x[offsetx + col], a, acol + rows, 1, x, offsetx + rows, 1);
+      }
+    }
+  }
+
+  protected void stbsvUT(int n, int k, boolean nounit, float[] a, int offseta, int lda, float[] x, int offsetx) {
+    for (int col = 0; col < n; col += 1) {
+      int acol = offseta + k - col + col * lda;
+      int rows = Math.max(0, col - k);
+      float sum = x[offsetx + col] - sdotK(col - rows, a, acol + rows, 1, x, offsetx + rows, 1);
+      if (nounit) {
+        sum /= a[acol + col];
+      }
+      x[offsetx + col] = sum;
+    }
+  }
+
+  protected void stbsvLN(int n, int k, boolean nounit, float[] a, int offseta, int lda, float[] x, int offsetx) {
+    for (int col = 0; col < n; col += 1) {
+      int acol = offseta - col + col * lda;
+      if (x[offsetx + col] != 0.0f) {
+        if (nounit) {
+          x[offsetx + col] /= a[acol + col];
+        }
+        int rowe = Math.min(n, col + k + 1);
+        saxpyK(rowe - col - 1, -x[offsetx + col], a, acol + col + 1, 1, x, offsetx + col + 1, 1);
+      }
+    }
+  }
+
+  protected void stbsvLT(int n, int k, boolean nounit, float[] a, int offseta, int lda, float[] x, int offsetx) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      int acol = offseta - col + col * lda;
+      int rowe = Math.min(n, col + k + 1);
+      float sum = x[offsetx + col] - sdotK(rowe - col - 1, a, acol + col + 1, 1, x, offsetx + col + 1, 1);
+      if (nounit) {
+        sum /= a[acol + col];
+      }
+      x[offsetx + col] = sum;
+    }
+  }
+
+  protected void dtpmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Multiply a contiguous copy of x, which costs little next to the product itself
+      double[] xcopy = new double[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      dtpmvK(uplo, trans, diag, n, a, offseta, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // As for dtbmvK, each packed column is contiguous and the product goes one column at a time
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      dtpmvUN(n, nounit, a, offseta, x, offsetx);
+    } else if (lsame("U", uplo)) {
+      dtpmvUT(n, nounit, a, offseta, x, offsetx);
+    } else if (lsame("N", trans)) {
+      dtpmvLN(n, nounit, a, offseta, x, offsetx);
+    } else {
+      dtpmvLT(n, nounit, a, offseta, x, offsetx);
+    }
+  }
+
+  protected void dtpmvUN(int n, boolean nounit, double[] a, int offseta, double[] x, int offsetx) {
+    for (int col = 0, acol = offseta; col < n; acol += col + 1, col += 1) {
+      if (x[offsetx + col] != 0.0) {
+        daxpyK(col, x[offsetx + col], a, acol, 1, x, offsetx, 1);
+        if (nounit) {
+          x[offsetx + col] *= a[acol + col];
+        }
+      }
+    }
+  }
+
+  protected void dtpmvUT(int n, boolean nounit, double[] a, int offseta, double[] x, int offsetx) {
+    for (int col = n - 1, acol = offseta + (int)((long)n * (n - 1) / 2); col >= 0; acol -= col, col -= 1) {
+      double sum = x[offsetx + col];
+      if (nounit) {
+        sum *= a[acol + col];
+      }
+      x[offsetx + col] = sum + ddotK(col, a, acol, 1, x, offsetx, 1);
+    }
+  }
+
+  protected void dtpmvLN(int n, boolean nounit, double[] a, int offseta, double[] x, int offsetx) {
+    for (int col = n - 1, acol = offseta + (int)((long)n * (n + 1) / 2) - 1; col >= 0; col -= 1, acol -= n - col) {
+      if (x[offsetx + col] != 0.0) {
+        daxpyK(n - col - 1, x[offsetx + col], a, acol + 1, 1, x, offsetx + col + 1, 1);
+        if (nounit) {
+          x[offsetx + col] *= a[acol];
+        }
+      }
+    }
+  }
+
+  protected void dtpmvLT(int n, boolean nounit, double[] a, int offseta, double[] x, int offsetx) {
+    for (int col = 0, acol = offseta; col < n; acol += n - col, col += 1) {
+      double sum = x[offsetx + col];
+      if (nounit) {
+        sum *= a[acol];
+      }
+      x[offsetx + col] = sum + ddotK(n - col - 1, a, acol + 1, 1, x, offsetx + col + 1, 1);
+    }
+  }
+
+  protected void stpmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Multiply a contiguous copy of x, which costs little next to the product itself
+      float[] xcopy = new float[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      stpmvK(uplo, trans, diag, n, a, offseta, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // As for stbmvK, each packed column is contiguous and the product goes one column at a time
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      stpmvUN(n, nounit, a, offseta, x, offsetx);
+    } else if (lsame("U", uplo)) {
+      stpmvUT(n, nounit, a, offseta, x, offsetx);
+    } else if (lsame("N", trans)) {
+      stpmvLN(n, nounit, a, offseta, x, offsetx);
+    } else {
+      stpmvLT(n, nounit, a, offseta, x, offsetx);
+    }
+  }
+
+  protected void stpmvUN(int n, boolean nounit, float[] a, int offseta, float[] x, int offsetx) {
+    for (int col = 0, acol = offseta; col < n; acol += col + 1, col += 1) {
+      if (x[offsetx + col] != 0.0f) {
+        saxpyK(col, x[offsetx + col], a, acol, 1, x, offsetx, 1);
+        if (nounit) {
+          x[offsetx + col] *= a[acol + col];
+        }
+      }
+    }
+  }
+
+  protected void stpmvUT(int n, boolean nounit, float[] a, int offseta, float[] x, int offsetx) {
+    for (int col = n - 1, acol = offseta + (int)((long)n * (n - 1) / 2); col >= 0; acol -= col, col -= 1) {
+      float sum = x[offsetx + col];
+      if (nounit) {
+        sum *= a[acol + col];
+      }
+      x[offsetx + col] = sum + sdotK(col, a, acol, 1, x, offsetx, 1);
+    }
+  }
+
+  protected void stpmvLN(int n, boolean nounit, float[] a, int offseta, float[] x, int offsetx) {
+    for (int col = n - 1, acol = offseta + (int)((long)n * (n + 1) / 2) - 1; col >= 0; col -= 1, acol -= n - col) {
+      if (x[offsetx + col] != 0.0f) {
+        saxpyK(n - col - 1, x[offsetx + col], a, acol + 1, 1, x, offsetx + col + 1, 1);
+        if (nounit) {
+          x[offsetx + col] *= a[acol];
+        }
+      }
+    }
+  }
+
+  protected void stpmvLT(int n, boolean nounit, float[] a, int offseta, float[] x, int offsetx) {
+    for (int col = 0, acol = offseta; col < n; acol += n - col, col += 1) {
+      float sum = x[offsetx + col];
+      if (nounit) {
+        sum *= a[acol];
+      }
+      x[offsetx + col] = sum + sdotK(n - col - 1, a, acol + 1, 1, x, offsetx + col + 1, 1);
+    }
+  }
+
+  protected void dtpsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Solve on a contiguous copy of x, which costs little next to the solve itself
+      double[] xcopy = new double[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      dtpsvK(uplo, trans, diag, n, a, offseta, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // As for dtbsvK, each packed column is contiguous and the solve goes one column at a time
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      dtpsvUN(n, nounit, a, offseta, x, offsetx);
+    } else if (lsame("U", uplo)) {
+      dtpsvUT(n, nounit, a, offseta, x, offsetx);
+    } else if (lsame("N", trans)) {
+      dtpsvLN(n, nounit, a, offseta, x, offsetx);
+    } else {
+      dtpsvLT(n, nounit, a, offseta, x, offsetx);
+    }
+  }
+
+  // Column col of the upper triangle starts at acol = col * (col + 1) / 2 with A(0, col), and
+  // column col of the lower triangle starts at acol with A(col, col), n - col after the previous one
+
+  protected void dtpsvUN(int n, boolean nounit, double[] a, int offseta, double[] x, int offsetx) {
+    for (int col = n - 1, acol = offseta + (int)((long)n * (n - 1) / 2); col >= 0; acol -= col, col -= 1) {
+      if (x[offsetx + col] != 0.0) {
+        if (nounit) {
+          x[offsetx + col] /= a[acol + col];
+        }
+        daxpyK(col, -x[offsetx + col], a, acol, 1, x, offsetx, 1);
+      }
+    }
+  }
+
+  protected void dtpsvUT(int n, boolean nounit, double[] a, int offseta, double[] x, int offsetx) {
+    for (int col = 0, acol = offseta; col < n; acol += col + 1, col += 1) {
+      double sum = x[offsetx + col] - ddotK(col, a, acol, 1, x, offsetx, 1);
+      if (nounit) {
+        sum /= a[acol + col];
+      }
+      x[offsetx + col] = sum;
+    }
+  }
+
+  protected void dtpsvLN(int n, boolean nounit, double[] a, int offseta, double[] x, int offsetx) {
+    for (int col = 0, acol = offseta; col < n; acol += n - col, col += 1) {
+      if (x[offsetx + col] != 0.0) {
+        if (nounit) {
+          x[offsetx + col] /= a[acol];
+        }
+        daxpyK(n - col - 1, -x[offsetx + col], a, acol + 1, 1, x, offsetx + col + 1, 1);
+      }
+    }
+  }
+
+  protected void dtpsvLT(int n, boolean nounit, double[] a, int offseta, double[] x, int offsetx) {
+    for (int col = n - 1, acol = offseta + (int)((long)n * (n + 1) / 2) - 1; col >= 0; col -= 1, acol -= n - col) {
+      double sum = x[offsetx + col] - ddotK(n - col - 1, a, acol + 1, 1, x, offsetx + col + 1, 1);
+      if (nounit) {
+        sum /= a[acol];
+      }
+      x[offsetx + col] = sum;
+    }
+  }
+
+  protected void stpsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Solve on a contiguous copy of x, which costs little next to the solve itself
+      float[] xcopy = new float[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      stpsvK(uplo, trans, diag, n, a, offseta, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // As for stbsvK, each packed column is contiguous and the solve goes one column at a time
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      stpsvUN(n, nounit, a, offseta, x, offsetx);
+    } else if (lsame("U", uplo)) {
+      stpsvUT(n, nounit, a, offseta, x, offsetx);
+    } else if (lsame("N", trans)) {
+      stpsvLN(n, nounit, a, offseta, x, offsetx);
+    } else {
+      stpsvLT(n, nounit, a, offseta, x, offsetx);
+    }
+  }
+
+  // Column col of the upper triangle starts at acol = col * (col + 1) / 2 with A(0, col), and
+  // column col of the lower triangle starts at acol with A(col, col), n - col after the previous one
+
+  protected void stpsvUN(int n, boolean nounit, float[] a, int offseta, float[] x, int offsetx) {
+    for (int col = n - 1, acol = offseta + (int)((long)n * (n - 1) / 2); col >= 0; acol -= col, col -= 1) {
+      if (x[offsetx + col] != 0.0f) {
+        if (nounit) {
+          x[offsetx + col] /= a[acol + col];
+        }
+        saxpyK(col, -x[offsetx + col], a, acol, 1, x, offsetx, 1);
+      }
+    }
+  }
+
+  protected void stpsvUT(int n, boolean nounit, float[] a, int offseta, float[] x, int offsetx) {
+    for (int col = 0, acol = offseta; col < n; acol += col + 1, col += 1) {
+      float sum = x[offsetx + col] - sdotK(col, a, acol, 1, x, offsetx, 1);
+      if (nounit) {
+        sum /= a[acol + col];
+      }
+      x[offsetx + col] = sum;
+    }
+  }
+
+  protected void stpsvLN(int n, boolean nounit, float[] a, int offseta, float[] x, int offsetx) {
+    for (int col = 0, acol = offseta; col < n; acol += n - col, col += 1) {
+      if (x[offsetx + col] != 0.0f) {
+        if (nounit) {
+          x[offsetx + col] /= a[acol];
+        }
+        saxpyK(n - col - 1, -x[offsetx + col], a, acol + 1, 1, x, offsetx + col + 1, 1);
+      }
+    }
+  }
+
+  protected void stpsvLT(int n, boolean nounit, float[] a, int offseta, float[] x, int offsetx) {
+    for (int col = n - 1, acol = offseta + (int)((long)n * (n + 1) / 2) - 1; col >= 0; col -= 1, acol -= n - col) {
+      float sum = x[offsetx + col] - sdotK(n - col - 1, a, acol + 1, 1, x, offsetx + col + 1, 1);
+      if (nounit) {
+        sum /= a[acol];
+      }
+      x[offsetx + col] = sum;
+    }
+  }
+
+  protected void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    // B := alpha*B, then multiply in place one diagonal block of A at a time, in an order
+    // where the part of B read by the dgemmK update of the block has not been overwritten yet
+    dgemmBeta(0, m, 0, n, alpha, b, offsetb, ldb);
+    if (m == 0 || alpha == 0.0) {
+      return;
+    }
+
+    final int Kb = 64;
+
+    boolean nounit = lsame("N", diag);
+    if (lsame("L", side)) {
+      if (lsame("U", uplo) && lsame("N", transa)) {
+        // B := A*B, from the top down
+        for (int is = 0; is < m; is += Kb) {
+          int ie = Math.min(m, is + Kb);
+          dtrmmLUN(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          dgemmK("N", "N", ie - is, n, m - ie, 1.0, a, offseta + is + ie * lda, lda, b, offsetb + ie, ldb, 1.0, b, offsetb + is, ldb);
+        }
+      } else if (lsame("U", uplo)) {
+        // B := A**T*B, from the bottom up
+        for (int ie = m; ie > 0; ie -= Kb) {
+          int is = Math.max(0, ie - Kb);
+          dtrmmLUT(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          dgemmK("T", "N", ie - is, n, is, 1.0, a, offseta + is * lda, lda, b, offsetb, ldb, 1.0, b, offsetb + is, ldb);
+        }
+      } else if (lsame("N", transa)) {
+        // B := A*B, from the bottom up
+        for (int ie = m; ie > 0; ie -= Kb) {
+          int is = Math.max(0, ie - Kb);
+          dtrmmLLN(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          dgemmK("N", "N", ie - is, n, is, 1.0, a, offseta + is, lda, b, offsetb, ldb, 1.0, b, offsetb + is, ldb);
+        }
+      } else {
+        // B := A**T*B, from the top down
+        for (int is = 0; is < m; is += Kb) {
+          int ie = Math.min(m, is + Kb);
+          dtrmmLLT(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          dgemmK("T", "N", ie - is, n, m - ie, 1.0, a, offseta + ie + is * lda, lda, b, offsetb + ie, ldb, 1.0, b, offsetb + is, ldb);
+        }
+      }
+    } else {
+      if (lsame("U", uplo) && lsame("N", transa)) {
+        // B := B*A, from the right to the left
+        for (int je = n; je > 0; je -= Kb) {
+          int js = Math.max(0, je - Kb);
+          dtrmmRUN(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          dgemmK("N", "N", m, je - js, js, 1.0, b, offsetb, ldb, a, offseta + js * lda, lda, 1.0, b, offsetb + js * ldb, ldb);
+        }
+      } else if (lsame("U", uplo)) {
+        // B := B*A**T, from the left to the right
+        for (int js = 0; js < n; js += Kb) {
+          int je = Math.min(n, js + Kb);
+          dtrmmRUT(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          dgemmK("N", "T", m, je - js, n - je, 1.0, b, offsetb + je * ldb, ldb, a, offseta + js + je * lda, lda, 1.0, b, offsetb + js * ldb, ldb);
+        }
+      } else if (lsame("N", transa)) {
+        // B := B*A, from the left to the right
+        for (int js = 0; js < n; js += Kb) {
+          int je = Math.min(n, js + Kb);
+          dtrmmRLN(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          dgemmK("N", "N", m, je - js, n - je, 1.0, b, offsetb + je * ldb, ldb, a, offseta + je + js * lda, lda, 1.0, b, offsetb + js * ldb, ldb);
+        }
+      } else {
+        // B := B*A**T, from the right to the left
+        for (int je = n; je > 0; je -= Kb) {
+          int js = Math.max(0, je - Kb);
+          dtrmmRLT(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          dgemmK("N", "T", m, je - js, js, 1.0, b, offsetb, ldb, a, offseta + js, lda, 1.0, b, offsetb + js * ldb, ldb);
+        }
+      }
+    }
+  }
+
+  // Unblocked in-place products with a diagonal block, with alpha already applied to B
+
+  protected void dtrmmLUN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < m; k += 1) {
+        double bkj = b[offsetb + k + col * ldb];
+        if (bkj != 0.0) {
+          for (int row = 0; row < k; row += 1) {
+            b[offsetb + row + col * ldb] += bkj * a[offseta + row + k * lda];
+          }
+          if (nounit) {
+            b[offsetb + k + col * ldb] = bkj * a[offseta + k + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrmmLUT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = m - 1; row >= 0; row -= 1) {
+        double sum = b[offsetb + row + col * ldb];
+        if (nounit) {
+          sum *= a[offseta + row + row * lda];
+        }
+        for (int i = 0; i < row; i += 1) {
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void dtrmmLLN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = m - 1; k >= 0; k -= 1) {
+        double bkj = b[offsetb + k + col * ldb];
+        if (bkj != 0.0) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] = bkj * a[offseta + k + k * lda];
+          }
+          for (int row = k + 1; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += bkj * a[offseta + row + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrmmLLT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        double sum = b[offsetb + row + col * ldb];
+        if (nounit) {
+          sum *= a[offseta + row + row * lda];
+        }
+        for (int i = row + 1; i < m; i += 1) {
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void dtrmmRUN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      if (nounit) {
+        double ajj = a[offseta + col + col * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
+        }
+      }
+      for (int k = 0; k < col; k += 1) {
+        double akj = a[offseta + k + col * lda];
+        if (akj != 0.0) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += akj * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrmmRUT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int k = 0; k < n; k += 1) {
+      for (int col = 0; col < k; col += 1) {
+        double ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += ajk * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+      if (nounit) {
+        double akk = a[offseta + k + k * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
+        }
+      }
+    }
+  }
+
+  protected void dtrmmRLN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      if (nounit) {
+        double ajj = a[offseta + col + col * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
+        }
+      }
+      for (int k = col + 1; k < n; k += 1) {
+        double akj = a[offseta + k + col * lda];
+        if (akj != 0.0) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += akj * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrmmRLT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int k = n - 1; k >= 0; k -= 1) {
+      for (int col = k + 1; col < n; col += 1) {
+        double ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += ajk * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+      if (nounit) {
+        double akk = a[offseta + k + k * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
+        }
+      }
+    }
+  }
+
+  protected void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    // B := alpha*B, then multiply in place one diagonal block of A at a time, in an order
+    // where the part of B read by the sgemmK update of the block has not been overwritten yet
+    sgemmBeta(0, m, 0, n, alpha, b, offsetb, ldb);
+    if (m == 0 || alpha == 0.0f) {
+      return;
+    }
+
+    final int Kb = 64;
+
+    boolean nounit = lsame("N", diag);
+    if (lsame("L", side)) {
+      if (lsame("U", uplo) && lsame("N", transa)) {
+        // B := A*B, from the top down
+        for (int is = 0; is < m; is += Kb) {
+          int ie = Math.min(m, is + Kb);
+          strmmLUN(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          sgemmK("N", "N", ie - is, n, m - ie, 1.0f, a, offseta + is + ie * lda, lda, b, offsetb + ie, ldb, 1.0f, b, offsetb + is, ldb);
+        }
+      } else if (lsame("U", uplo)) {
+        // B := A**T*B, from the bottom up
+        for (int ie = m; ie > 0; ie -= Kb) {
+          int is = Math.max(0, ie - Kb);
+          strmmLUT(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          sgemmK("T", "N", ie - is, n, is, 1.0f, a, offseta + is * lda, lda, b, offsetb, ldb, 1.0f, b, offsetb + is, ldb);
+        }
+      } else if (lsame("N", transa)) {
+        // B := A*B, from the bottom up
+        for (int ie = m; ie > 0; ie -= Kb) {
+          int is = Math.max(0, ie - Kb);
+          strmmLLN(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          sgemmK("N", "N", ie - is, n, is, 1.0f, a, offseta + is, lda, b, offsetb, ldb, 1.0f, b, offsetb + is, ldb);
+        }
+      } else {
+        // B := A**T*B, from the top down
+        for (int is = 0; is < m; is += Kb) {
+          int ie = Math.min(m, is + Kb);
+          strmmLLT(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          sgemmK("T", "N", ie - is, n, m - ie, 1.0f, a, offseta + ie + is * lda, lda, b, offsetb + ie, ldb, 1.0f, b, offsetb + is, ldb);
+        }
+      }
+    } else {
+      if (lsame("U", uplo) && lsame("N", transa)) {
+        // B := B*A, from the right to the left
+        for (int je = n; je > 0; je -= Kb) {
+          int js = Math.max(0, je - Kb);
+          strmmRUN(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          sgemmK("N", "N", m, je - js, js, 1.0f, b, offsetb, ldb, a, offseta + js * lda, lda, 1.0f, b, offsetb + js * ldb, ldb);
+        }
+      } else if (lsame("U", uplo)) {
+        // B := B*A**T, from the left to the right
+        for (int js = 0; js < n; js += Kb) {
+          int je = Math.min(n, js + Kb);
+          strmmRUT(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          sgemmK("N", "T", m, je - js, n - je, 1.0f, b, offsetb + je * ldb, ldb, a, offseta + js + je * lda, lda, 1.0f, b, offsetb + js * ldb, ldb);
+        }
+      } else if (lsame("N", transa)) {
+        // B := B*A, from the left to the right
+        for (int js = 0; js < n; js += Kb) {
+          int je = Math.min(n, js + Kb);
+          strmmRLN(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          sgemmK("N", "N", m, je - js, n - je, 1.0f, b, offsetb + je * ldb, ldb, a, offseta + je + js * lda, lda, 1.0f, b, offsetb + js * ldb, ldb);
+        }
+      } else {
+        // B := B*A**T, from the right to the left
+        for (int je = n; je > 0; je -= Kb) {
+          int js = Math.max(0, je - Kb);
+          strmmRLT(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          sgemmK("N", "T", m, je - js, js, 1.0f, b, offsetb, ldb, a, offseta + js, lda, 1.0f, b, offsetb + js * ldb, ldb);
+        }
+      }
+    }
+  }
+
+  // Unblocked in-place products with a diagonal block, with alpha already applied to B
+
+  protected void strmmLUN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < m; k += 1) {
+        float bkj = b[offsetb + k + col * ldb];
+        if (bkj != 0.0f) {
+          for (int row = 0; row < k; row += 1) {
+            b[offsetb + row + col * ldb] += bkj * a[offseta + row + k * lda];
+          }
+          if (nounit) {
+            b[offsetb + k + col * ldb] = bkj * a[offseta + k + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void strmmLUT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = m - 1; row >= 0; row -= 1) {
+        float sum = b[offsetb + row + col * ldb];
+        if (nounit) {
+          sum *= a[offseta + row + row * lda];
+        }
+        for (int i = 0; i < row; i += 1) {
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void strmmLLN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = m - 1; k >= 0; k -= 1) {
+        float bkj = b[offsetb + k + col * ldb];
+        if (bkj != 0.0f) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] = bkj * a[offseta + k + k * lda];
+          }
+          for (int row = k + 1; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += bkj * a[offseta + row + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void strmmLLT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        float sum = b[offsetb + row + col * ldb];
+        if (nounit) {
+          sum *= a[offseta + row + row * lda];
+        }
+        for (int i = row + 1; i < m; i += 1) {
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void strmmRUN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      if (nounit) {
+        float ajj = a[offseta + col + col * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
+        }
+      }
+      for (int k = 0; k < col; k += 1) {
+        float akj = a[offseta + k + col * lda];
+        if (akj != 0.0f) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += akj * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+    }
+  }
+
+  protected void strmmRUT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int k = 0; k < n; k += 1) {
+      for (int col = 0; col < k; col += 1) {
+        float ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0f) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += ajk * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+      if (nounit) {
+        float akk = a[offseta + k + k * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
+        }
+      }
+    }
+  }
+
+  protected void strmmRLN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      if (nounit) {
+        float ajj = a[offseta + col + col * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
+        }
+      }
+      for (int k = col + 1; k < n; k += 1) {
+        float akj = a[offseta + k + col * lda];
+        if (akj != 0.0f) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += akj * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+    }
+  }
+
+  protected void strmmRLT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int k = n - 1; k >= 0; k -= 1) {
+      for (int col = k + 1; col < n; col += 1) {
+        float ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0f) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += ajk * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+      if (nounit) {
+        float akk = a[offseta + k + k * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
+        }
+      }
+    }
+  }
+
+  protected void dtrmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Multiply a contiguous copy of x, which costs little next to the product itself
+      double[] xcopy = new double[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      dtrmvK(uplo, trans, diag, n, a, offseta, lda, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // Multiply in place one diagonal block of A at a time with the trmm kernels, then add
+    // the off-diagonal part with dgemvN or dgemvT, in an order where the part of x it reads
+    // has not been overwritten yet
+    final int Kb = 64;
+
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      // x := A*x, from the top down
+      for (int is = 0; is < n; is += Kb) {
+        int ie = Math.min(n, is + Kb);
+        dtrmmLUN(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        dgemvN(ie - is, n - ie, 1.0, a, offseta + is + ie * lda, lda, x, offsetx + ie, 1, 1.0, x, offsetx + is, 1);
+      }
+    } else if (lsame("U", uplo)) {
+      // x := A**T*x, from the bottom up
+      for (int ie = n; ie > 0; ie -= Kb) {
+        int is = Math.max(0, ie - Kb);
+        dtrmmLUT(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        dgemvT(is, ie - is, 1.0, a, offseta + is * lda, lda, x, offsetx, 1, 1.0, x, offsetx + is, 1);
+      }
+    } else if (lsame("N", trans)) {
+      // x := A*x, from the bottom up
+      for (int ie = n; ie > 0; ie -= Kb) {
+        int is = Math.max(0, ie - Kb);
+        dtrmmLLN(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        dgemvN(ie - is, is, 1.0, a, offseta + is, lda, x, offsetx, 1, 1.0, x, offsetx + is, 1);
+      }
+    } else {
+      // x := A**T*x, from the top down
+      for (int is = 0; is < n; is += Kb) {
+        int ie = Math.min(n, is + Kb);
+        dtrmmLLT(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        dgemvT(n - ie, ie - is, 1.0, a, offseta + ie + is * lda, lda, x, offsetx + ie, 1, 1.0, x, offsetx + is, 1);
+      }
+    }
+  }
+
+  protected void strmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Multiply a contiguous copy of x, which costs little next to the product itself
+      float[] xcopy = new float[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      strmvK(uplo, trans, diag, n, a, offseta, lda, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // Multiply in place one diagonal block of A at a time with the trmm kernels, then add
+    // the off-diagonal part with sgemvN or sgemvT, in an order where the part of x it reads
+    // has not been overwritten yet
+    final int Kb = 64;
+
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      // x := A*x, from the top down
+      for (int is = 0; is < n; is += Kb) {
+        int ie = Math.min(n, is + Kb);
+        strmmLUN(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        sgemvN(ie - is, n - ie, 1.0f, a, offseta + is + ie * lda, lda, x, offsetx + ie, 1, 1.0f, x, offsetx + is, 1);
+      }
+    } else if (lsame("U", uplo)) {
+      // x := A**T*x, from the bottom up
+      for (int ie = n; ie > 0; ie -= Kb) {
+        int is = Math.max(0, ie - Kb);
+        strmmLUT(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        sgemvT(is, ie - is, 1.0f, a, offseta + is * lda, lda, x, offsetx, 1, 1.0f, x, offsetx + is, 1);
+      }
+    } else if (lsame("N", trans)) {
+      // x := A*x, from the bottom up
+      for (int ie = n; ie > 0; ie -= Kb) {
+        int is = Math.max(0, ie - Kb);
+        strmmLLN(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        sgemvN(ie - is, is, 1.0f, a, offseta + is, lda, x, offsetx, 1, 1.0f, x, offsetx + is, 1);
+      }
+    } else {
+      // x := A**T*x, from the top down
+      for (int is = 0; is < n; is += Kb) {
+        int ie = Math.min(n, is + Kb);
+        strmmLLT(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        sgemvT(n - ie, ie - is, 1.0f, a, offseta + ie + is * lda, lda, x, offsetx + ie, 1, 1.0f, x, offsetx + is, 1);
+      }
+    }
+  }
+
+  protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    // B := alpha*B, then solve in place one diagonal block of A at a time and update the
+    // rest of B with dgemmK, where most of the work happens for large matrices
+    dgemmBeta(0, m, 0, n, alpha, b, offsetb, ldb);
+    if (m == 0 || alpha == 0.0) {
+      return;
+    }
+
+    final int Kb = 64;
+
+    boolean nounit = lsame("N", diag);
+    if (lsame("L", side)) {
+      if (lsame("U", uplo) && lsame("N", transa)) {
+        // B := inv(A)*B, from the bottom up
+        for (int ie = m; ie > 0; ie -= Kb) {
+          int is = Math.max(0, ie - Kb);
+          dtrsmLUN(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          dgemmK("N", "N", is, n, ie - is, -1.0, a, offseta + is * lda, lda, b, offsetb + is, ldb, 1.0, b, offsetb, ldb);
+        }
+      } else if (lsame("U", uplo)) {
+        // B := inv(A**T)*B, from the top down
+        for (int is = 0; is < m; is += Kb) {
+          int ie = Math.min(m, is + Kb);
+          dtrsmLUT(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          dgemmK("T", "N", m - ie, n, ie - is, -1.0, a, offseta + is + ie * lda, lda, b, offsetb + is, ldb, 1.0, b, offsetb + ie, ldb);
+        }
+      } else if (lsame("N", transa)) {
+        // B := inv(A)*B, from the top down
+        for (int is = 0; is < m; is += Kb) {
+          int ie = Math.min(m, is + Kb);
+          dtrsmLLN(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          dgemmK("N", "N", m - ie, n, ie - is, -1.0, a, offseta + ie + is * lda, lda, b, offsetb + is, ldb, 1.0, b, offsetb + ie, ldb);
+        }
+      } else {
+        // B := inv(A**T)*B, from the bottom up
+        for (int ie = m; ie > 0; ie -= Kb) {
+          int is = Math.max(0, ie - Kb);
+          dtrsmLLT(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          dgemmK("T", "N", is, n, ie - is, -1.0, a, offseta + is, lda, b, offsetb + is, ldb, 1.0, b, offsetb, ldb);
+        }
+      }
+    } else {
+      if (lsame("U", uplo) && lsame("N", transa)) {
+        // B := B*inv(A), from the left to the right
+        for (int js = 0; js < n; js += Kb) {
+          int je = Math.min(n, js + Kb);
+          dtrsmRUN(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          dgemmK("N", "N", m, n - je, je - js, -1.0, b, offsetb + js * ldb, ldb, a, offseta + js + je * lda, lda, 1.0, b, offsetb + je * ldb, ldb);
+        }
+      } else if (lsame("U", uplo)) {
+        // B := B*inv(A**T), from the right to the left
+        for (int je = n; je > 0; je -= Kb) {
+          int js = Math.max(0, je - Kb);
+          dtrsmRUT(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          dgemmK("N", "T", m, js, je - js, -1.0, b, offsetb + js * ldb, ldb, a, offseta + js * lda, lda, 1.0, b, offsetb, ldb);
+        }
+      } else if (lsame("N", transa)) {
+        // B := B*inv(A), from the right to the left
+        for (int je = n; je > 0; je -= Kb) {
+          int js = Math.max(0, je - Kb);
+          dtrsmRLN(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          dgemmK("N", "N", m, js, je - js, -1.0, b, offsetb + js * ldb, ldb, a, offseta + js, lda, 1.0, b, offsetb, ldb);
+        }
+      } else {
+        // B := B*inv(A**T), from the left to the right
+        for (int js = 0; js < n; js += Kb) {
+          int je = Math.min(n, js + Kb);
+          dtrsmRLT(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          dgemmK("N", "T", m, n - je, je - js, -1.0, b, offsetb + js * ldb, ldb, a, offseta + je + js * lda, lda, 1.0, b, offsetb + je * ldb, ldb);
+        }
+      }
+    }
+  }
+
+  // Unblocked solves of a diagonal block, with alpha already applied to B
+
+  protected void dtrsmLUN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = m - 1; k >= 0; k -= 1) {
+        if (b[offsetb + k + col * ldb] != 0.0) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] /= a[offseta + k + k * lda];
+          }
+          double bkj = b[offsetb + k + col * ldb];
+          for (int row = 0; row < k; row += 1) {
+            b[offsetb + row + col * ldb] -= bkj * a[offseta + row + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrsmLUT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        double sum = b[offsetb + row + col * ldb];
+        for (int i = 0; i < row; i += 1) {
+          sum -= a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        if (nounit) {
+          sum /= a[offseta + row + row * lda];
+        }
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void dtrsmLLN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < m; k += 1) {
+        if (b[offsetb + k + col * ldb] != 0.0) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] /= a[offseta + k + k * lda];
+          }
+          double bkj = b[offsetb + k + col * ldb];
+          for (int row = k + 1; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= bkj * a[offseta + row + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrsmLLT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = m - 1; row >= 0; row -= 1) {
+        double sum = b[offsetb + row + col * ldb];
+        for (int i = row + 1; i < m; i += 1) {
+          sum -= a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        if (nounit) {
+          sum /= a[offseta + row + row * lda];
+        }
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void dtrsmRUN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < col; k += 1) {
+        double akj = a[offseta + k + col * lda];
+        if (akj != 0.0) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= akj * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+      if (nounit) {
+        double ajj = 1.0 / a[offseta + col + col * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
+        }
+      }
+    }
+  }
+
+  protected void dtrsmRUT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int k = n - 1; k >= 0; k -= 1) {
+      if (nounit) {
+        double akk = 1.0 / a[offseta + k + k * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
+        }
+      }
+      for (int col = 0; col < k; col += 1) {
+        double ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= ajk * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrsmRLN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      for (int k = col + 1; k < n; k += 1) {
+        double akj = a[offseta + k + col * lda];
+        if (akj != 0.0) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= akj * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+      if (nounit) {
+        double ajj = 1.0 / a[offseta + col + col * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
+        }
+      }
+    }
+  }
+
+  protected void dtrsmRLT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int k = 0; k < n; k += 1) {
+      if (nounit) {
+        double akk = 1.0 / a[offseta + k + k * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
+        }
+      }
+      for (int col = k + 1; col < n; col += 1) {
+        double ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= ajk * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+    }
+  }
+
+  protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    // B := alpha*B, then solve in place one diagonal block of A at a time and update the
+    // rest of B with sgemmK, where most of the work happens for large matrices
+    sgemmBeta(0, m, 0, n, alpha, b, offsetb, ldb);
+    if (m == 0 || alpha == 0.0f) {
+      return;
+    }
+
+    final int Kb = 64;
+
+    boolean nounit = lsame("N", diag);
+    if (lsame("L", side)) {
+      if (lsame("U", uplo) && lsame("N", transa)) {
+        // B := inv(A)*B, from the bottom up
+        for (int ie = m; ie > 0; ie -= Kb) {
+          int is = Math.max(0, ie - Kb);
+          strsmLUN(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          sgemmK("N", "N", is, n, ie - is, -1.0f, a, offseta + is * lda, lda, b, offsetb + is, ldb, 1.0f, b, offsetb, ldb);
+        }
+      } else if (lsame("U", uplo)) {
+        // B := inv(A**T)*B, from the top down
+        for (int is = 0; is < m; is += Kb) {
+          int ie = Math.min(m, is + Kb);
+          strsmLUT(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          sgemmK("T", "N", m - ie, n, ie - is, -1.0f, a, offseta + is + ie * lda, lda, b, offsetb + is, ldb, 1.0f, b, offsetb + ie, ldb);
+        }
+      } else if (lsame("N", transa)) {
+        // B := inv(A)*B, from the top down
+        for (int is = 0; is < m; is += Kb) {
+          int ie = Math.min(m, is + Kb);
+          strsmLLN(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          sgemmK("N", "N", m - ie, n, ie - is, -1.0f, a, offseta + ie + is * lda, lda, b, offsetb + is, ldb, 1.0f, b, offsetb + ie, ldb);
+        }
+      } else {
+        // B := inv(A**T)*B, from the bottom up
+        for (int ie = m; ie > 0; ie -= Kb) {
+          int is = Math.max(0, ie - Kb);
+          strsmLLT(ie - is, n, nounit, a, offseta + is + is * lda, lda, b, offsetb + is, ldb);
+          sgemmK("T", "N", is, n, ie - is, -1.0f, a, offseta + is, lda, b, offsetb + is, ldb, 1.0f, b, offsetb, ldb);
+        }
+      }
+    } else {
+      if (lsame("U", uplo) && lsame("N", transa)) {
+        // B := B*inv(A), from the left to the right
+        for (int js = 0; js < n; js += Kb) {
+          int je = Math.min(n, js + Kb);
+          strsmRUN(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          sgemmK("N", "N", m, n - je, je - js, -1.0f, b, offsetb + js * ldb, ldb, a, offseta + js + je * lda, lda, 1.0f, b, offsetb + je * ldb, ldb);
+        }
+      } else if (lsame("U", uplo)) {
+        // B := B*inv(A**T), from the right to the left
+        for (int je = n; je > 0; je -= Kb) {
+          int js = Math.max(0, je - Kb);
+          strsmRUT(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          sgemmK("N", "T", m, js, je - js, -1.0f, b, offsetb + js * ldb, ldb, a, offseta + js * lda, lda, 1.0f, b, offsetb, ldb);
+        }
+      } else if (lsame("N", transa)) {
+        // B := B*inv(A), from the right to the left
+        for (int je = n; je > 0; je -= Kb) {
+          int js = Math.max(0, je - Kb);
+          strsmRLN(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          sgemmK("N", "N", m, js, je - js, -1.0f, b, offsetb + js * ldb, ldb, a, offseta + js, lda, 1.0f, b, offsetb, ldb);
+        }
+      } else {
+        // B := B*inv(A**T), from the left to the right
+        for (int js = 0; js < n; js += Kb) {
+          int je = Math.min(n, js + Kb);
+          strsmRLT(m, je - js, nounit, a, offseta + js + js * lda, lda, b, offsetb + js * ldb, ldb);
+          sgemmK("N", "T", m, n - je, je - js, -1.0f, b, offsetb + js * ldb, ldb, a, offseta + je + js * lda, lda, 1.0f, b, offsetb + je * ldb, ldb);
+        }
+      }
+    }
+  }
+
+  // Unblocked solves of a diagonal block, with alpha already applied to B
+
+  protected void strsmLUN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = m - 1; k >= 0; k -= 1) {
+        if (b[offsetb + k + col * ldb] != 0.0f) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] /= a[offseta + k + k * lda];
+          }
+          float bkj = b[offsetb + k + col * ldb];
+          for (int row = 0; row < k; row += 1) {
+            b[offsetb + row + col * ldb] -= bkj * a[offseta + row + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void strsmLUT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        float sum = b[offsetb + row + col * ldb];
+        for (int i = 0; i < row; i += 1) {
+          sum -= a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        if (nounit) {
+          sum /= a[offseta + row + row * lda];
+        }
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void strsmLLN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < m; k += 1) {
+        if (b[offsetb + k + col * ldb] != 0.0f) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] /= a[offseta + k + k * lda];
+          }
+          float bkj = b[offsetb + k + col * ldb];
+          for (int row = k + 1; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= bkj * a[offseta + row + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void strsmLLT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = m - 1; row >= 0; row -= 1) {
+        float sum = b[offsetb + row + col * ldb];
+        for (int i = row + 1; i < m; i += 1) {
+          sum -= a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        if (nounit) {
+          sum /= a[offseta + row + row * lda];
+        }
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void strsmRUN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < col; k += 1) {
+        float akj = a[offseta + k + col * lda];
+        if (akj != 0.0f) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= akj * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+      if (nounit) {
+        float ajj = 1.0f / a[offseta + col + col * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
+        }
+      }
+    }
+  }
+
+  protected void strsmRUT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int k = n - 1; k >= 0; k -= 1) {
+      if (nounit) {
+        float akk = 1.0f / a[offseta + k + k * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
+        }
+      }
+      for (int col = 0; col < k; col += 1) {
+        float ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0f) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= ajk * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+    }
+  }
+
+  protected void strsmRLN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      for (int k = col + 1; k < n; k += 1) {
+        float akj = a[offseta + k + col * lda];
+        if (akj != 0.0f) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= akj * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+      if (nounit) {
+        float ajj = 1.0f / a[offseta + col + col * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
+        }
+      }
+    }
+  }
+
+  protected void strsmRLT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int k = 0; k < n; k += 1) {
+      if (nounit) {
+        float akk = 1.0f / a[offseta + k + k * lda];
+        for (int row = 0; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
+        }
+      }
+      for (int col = k + 1; col < n; col += 1) {
+        float ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0f) {
+          for (int row = 0; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= ajk * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Solve on a contiguous copy of x, which costs little next to the solve itself
+      double[] xcopy = new double[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      dtrsvK(uplo, trans, diag, n, a, offseta, lda, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // Solve one diagonal block of A at a time with the trsm kernels, and update the rest
+    // of x with dgemvN or dgemvT, where most of the work happens for large matrices
+    final int Kb = 64;
+
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      // x := inv(A)*x, from the bottom up
+      for (int ie = n; ie > 0; ie -= Kb) {
+        int is = Math.max(0, ie - Kb);
+        dtrsmLUN(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        dgemvN(is, ie - is, -1.0, a, offseta + is * lda, lda, x, offsetx + is, 1, 1.0, x, offsetx, 1);
+      }
+    } else if (lsame("U", uplo)) {
+      // x := inv(A**T)*x, from the top down
+      for (int is = 0; is < n; is += Kb) {
+        int ie = Math.min(n, is + Kb);
+        dtrsmLUT(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        dgemvT(ie - is, n - ie, -1.0, a, offseta + is + ie * lda, lda, x, offsetx + is, 1, 1.0, x, offsetx + ie, 1);
+      }
+    } else if (lsame("N", trans)) {
+      // x := inv(A)*x, from the top down
+      for (int is = 0; is < n; is += Kb) {
+        int ie = Math.min(n, is + Kb);
+        dtrsmLLN(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        dgemvN(n - ie, ie - is, -1.0, a, offseta + ie + is * lda, lda, x, offsetx + is, 1, 1.0, x, offsetx + ie, 1);
+      }
+    } else {
+      // x := inv(A**T)*x, from the bottom up
+      for (int ie = n; ie > 0; ie -= Kb) {
+        int is = Math.max(0, ie - Kb);
+        dtrsmLLT(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        dgemvT(ie - is, is, -1.0, a, offseta + is, lda, x, offsetx + is, 1, 1.0, x, offsetx, 1);
+      }
+    }
+  }
+
+  protected void strsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    if (incx != 1) {
+      // Solve on a contiguous copy of x, which costs little next to the solve itself
+      float[] xcopy = new float[n];
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        xcopy[i] = x[offsetx + ix];
+      }
+      strsvK(uplo, trans, diag, n, a, offseta, lda, xcopy, 0, 1);
+      for (int i = 0, ix = incx < 0 ? (n - 1) * -incx : 0; i < n; i += 1, ix += incx) {
+        x[offsetx + ix] = xcopy[i];
+      }
+      return;
+    }
+
+    // Solve one diagonal block of A at a time with the trsm kernels, and update the rest
+    // of x with sgemvN or sgemvT, where most of the work happens for large matrices
+    final int Kb = 64;
+
+    boolean nounit = lsame("N", diag);
+    if (lsame("U", uplo) && lsame("N", trans)) {
+      // x := inv(A)*x, from the bottom up
+      for (int ie = n; ie > 0; ie -= Kb) {
+        int is = Math.max(0, ie - Kb);
+        strsmLUN(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        sgemvN(is, ie - is, -1.0f, a, offseta + is * lda, lda, x, offsetx + is, 1, 1.0f, x, offsetx, 1);
+      }
+    } else if (lsame("U", uplo)) {
+      // x := inv(A**T)*x, from the top down
+      for (int is = 0; is < n; is += Kb) {
+        int ie = Math.min(n, is + Kb);
+        strsmLUT(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        sgemvT(ie - is, n - ie, -1.0f, a, offseta + is + ie * lda, lda, x, offsetx + is, 1, 1.0f, x, offsetx + ie, 1);
+      }
+    } else if (lsame("N", trans)) {
+      // x := inv(A)*x, from the top down
+      for (int is = 0; is < n; is += Kb) {
+        int ie = Math.min(n, is + Kb);
+        strsmLLN(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        sgemvN(n - ie, ie - is, -1.0f, a, offseta + ie + is * lda, lda, x, offsetx + is, 1, 1.0f, x, offsetx + ie, 1);
+      }
+    } else {
+      // x := inv(A**T)*x, from the bottom up
+      for (int ie = n; ie > 0; ie -= Kb) {
+        int is = Math.max(0, ie - Kb);
+        strsmLLT(ie - is, 1, nounit, a, offseta + is + is * lda, lda, x, offsetx + is, n);
+        sgemvT(ie - is, is, -1.0f, a, offseta + is, lda, x, offsetx + is, 1, 1.0f, x, offsetx, 1);
+      }
+    }
+  }
+
+  protected int idamaxK(int n, double[] x, int offsetx, int incx) {
+    // As in f2j, an element is taken unless it is <= the current maximum. A NaN is
+    // thus taken, but as nothing compares <= NaN the element after it is taken too,
+    // and the scan carries on from there. Unrolling with several running maxima
+    // does not help: the branch is well predicted and rarely taken.
+    double max = -1.0;
+    int imax = 0;
+    for (int i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      double xi = Math.abs(x[ix]);
+      if (!(xi <= max)) {
+        max = xi;
+        imax = i;
+      }
+    }
+    // Fortran arrays use 1-based index
+    return imax + 1;
   }
 
   protected int isamaxK(int n, float[] x, int offsetx, int incx) {
-    return org.netlib.blas.Isamax.isamax(n, x, offsetx, incx);
+    // As in f2j, an element is taken unless it is <= the current maximum. A NaN is
+    // thus taken, but as nothing compares <= NaN the element after it is taken too,
+    // and the scan carries on from there. Unrolling with several running maxima
+    // does not help: the branch is well predicted and rarely taken.
+    float max = -1.0f;
+    int imax = 0;
+    for (int i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      float xi = Math.abs(x[ix]);
+      if (!(xi <= max)) {
+        max = xi;
+        imax = i;
+      }
+    }
+    // Fortran arrays use 1-based index
+    return imax + 1;
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+final class Parallelism {
+
+  // Number of threads used by the pure-Java kernels. 1 disables multithreading.
+  static final int threads = Math.max(1, Integer.getInteger("dev.ludovic.netlib.blas.threads", Runtime.getRuntime().availableProcessors()));
+
+  // Minimum number of multiply-adds (m * n * k for GEMM) before a Level-3 call is split across threads.
+  static final long threshold = Long.getLong("dev.ludovic.netlib.blas.parallelThreshold", 200L * 200L * 200L);
+
+  // Minimum number of multiply-adds (m * n for GEMV) before a Level-2 call is split across threads.
+  // These calls are bound by memory bandwidth, which a single thread can't saturate once the
+  // matrix no longer fits in its caches.
+  static final long level2Threshold = Long.getLong("dev.ludovic.netlib.blas.parallelLevel2Threshold", 1024L * 1024L);
+
+  private Parallelism() {}
+
+  static boolean enabled(long work) {
+    return threads > 1 && work >= threshold;
+  }
+
+  static boolean enabledLevel2(long work) {
+    return threads > 1 && work >= level2Threshold;
+  }
+
+  // Work per task so that each thread gets a few tasks to balance the load
+  static long grain(long work) {
+    return Math.max(64L * 64L * 64L, work / (parallelism() * 4L));
+  }
+
+  static long level2Grain(long work) {
+    return Math.max(64L * 1024L, work / (parallelism() * 4L));
+  }
+
+  static int parallelism() {
+    return ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool().getParallelism() : threads;
+  }
+
+  // Run in the caller's pool when already inside one, which lets users pick the
+  // number of threads by submitting the call to their own ForkJoinPool.
+  static void invoke(ForkJoinTask<?> task) {
+    if (ForkJoinTask.inForkJoinPool()) {
+      task.invoke();
+    } else {
+      Pool.instance.invoke(task);
+    }
+  }
+
+  interface Range {
+    void run(int from, int to);
+  }
+
+  // Run body over [from, to), split in ranges of at least grain indices
+  static void invoke(int from, int to, int grain, Range body) {
+    invoke(new RangeTask(from, to, Math.max(1, grain), body));
+  }
+
+  private static final class RangeTask extends RecursiveAction {
+
+    private final int from, to, grain;
+    private final Range body;
+
+    RangeTask(int from, int to, int grain, Range body) {
+      this.from = from; this.to = to; this.grain = grain;
+      this.body = body;
+    }
+
+    protected void compute() {
+      if (to - from <= grain) {
+        body.run(from, to);
+      } else {
+        int mid = from + (to - from) / 2;
+        invokeAll(new RangeTask(from, mid, grain, body), new RangeTask(mid, to, grain, body));
+      }
+    }
+  }
+
+  private static final class Pool {
+    static final ForkJoinPool instance = new ForkJoinPool(threads);
+  }
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Cache sizes of the machine and the blocking of the pure-Java GEMM derived from them.
+//
+// The blocking follows the usual model of the packed GEMM: a Ki x Tcol sliver of the
+// packed b stays in L1 while the rows of the packed a stream through it, the Krow x Ki
+// block of the packed a stays in L2, and the Ki x Kcol panel of the packed b in L3.
+// When the cache sizes can't be read, the historical blocking is kept.
+//
+// With -Ddev.ludovic.netlib.blas.calibrate=true, a short sweep around that blocking picks
+// the fastest one, as well as the size from which packing beats the non-copying kernels.
+// The result is saved in -Ddev.ludovic.netlib.blas.tuningFile, and reused by the later
+// runs on the same machine.
+public final class Tuning {
+
+  private static final Logger log = Logger.getLogger(Tuning.class.getName());
+
+  // Sizes in bytes of the L1 data, L2, and L3 caches, 0 when unknown
+  static final long l1, l2, l3;
+
+  // Blocking of dgemmGEPP and sgemmGEPP: rows of the packed a, columns of the packed b, and their depth
+  static final int dgemmKrow, dgemmKcol, dgemmKi;
+  static final int sgemmKrow, sgemmKcol, sgemmKi;
+
+  // Smallest m * n * k for which gemm packs its operands rather than using the non-copying kernels
+  static final long gemmThreshold;
+
+  static final boolean calibrated;
+
+  // Strassen-Winograd dgemm: opt-in, the smallest dimension of its leaf products, and the bytes of temporaries
+  static final boolean strassen;
+  static final int strassenCutoff;
+  static final long strassenMemory;
+
+  static {
+    long[] sizes = cacheSizes();
+    l1 = sizes[0];
+    l2 = sizes[1];
+    l3 = sizes[2];
+
+    int[] dblocking = blocking(Double.BYTES);
+    int[] sblocking = blocking(Float.BYTES);
+    long threshold = 100L * 100L * 100L;
+
+    File file = new File(System.getProperty("dev.ludovic.netlib.blas.tuningFile",
+                                            System.getProperty("user.home") + "/.cache/dev.ludovic.netlib/blas-tuning.properties"));
+    // Krow, Kcol, Ki, and threshold picked by the calibration
+    long[] calibration = load(file);
+    if (calibration == null && Boolean.getBoolean("dev.ludovic.netlib.blas.calibrate")) {
+      calibration = calibrate(dblocking);
+      save(file, calibration);
+    }
+    calibrated = calibration != null;
+    if (calibrated) {
+      // single precision follows the same ratios to its own cache-derived blocking
+      for (int i = 0; i < 3; i += 1) {
+        sblocking[i] = (int)Math.max(1, sblocking[i] * calibration[i] / dblocking[i]);
+        dblocking[i] = (int)calibration[i];
+      }
+      threshold = calibration[3];
+    }
+
+    dblocking = override("dev.ludovic.netlib.blas.dgemmBlocking", dblocking);
+    sblocking = override("dev.ludovic.netlib.blas.sgemmBlocking", sblocking);
+
+    dgemmKrow = dblocking[0];
+    dgemmKcol = dblocking[1];
+    dgemmKi   = dblocking[2];
+    sgemmKrow = sblocking[0];
+    sgemmKcol = sblocking[1];
+    sgemmKi   = sblocking[2];
+    gemmThreshold = Long.getLong("dev.ludovic.netlib.blas.gemmThreshold", threshold);
+
+    strassen = Boolean.getBoolean("dev.ludovic.netlib.blas.strassen");
+    strassenCutoff = Math.max(1, Integer.getInteger("dev.ludovic.netlib.blas.strassenCutoff", 1024));
+    strassenMemory = parseSize(System.getProperty("dev.ludovic.netlib.blas.strassenMemory", "256M"));
+
+    log.fine(() -> String.format("cache sizes %d/%d/%d, dgemm blocking %d,%d,%d, sgemm blocking %d,%d,%d, gemm threshold %d%s",
+                                 l1, l2, l3, dgemmKrow, dgemmKcol, dgemmKi, sgemmKrow, sgemmKcol, sgemmKi, gemmThreshold,
+                                 calibrated ? " (calibrated)" : ""));
+  }
+
+  private Tuning() {}
+
+  public static long getL1CacheSize() {
+    return l1;
+  }
+
+  public static long getL2CacheSize() {
+    return l2;
+  }
+
+  public static long getL3CacheSize() {
+    return l3;
+  }
+
+  public static int getDgemmRowBlock() {
+    return dgemmKrow;
+  }
+
+  public static int getDgemmColumnBlock() {
+    return dgemmKcol;
+  }
+
+  public static int getDgemmDepthBlock() {
+    return dgemmKi;
+  }
+
+  public static int getSgemmRowBlock() {
+    return sgemmKrow;
+  }
+
+  public static int getSgemmColumnBlock() {
+    return sgemmKcol;
+  }
+
+  public static int getSgemmDepthBlock() {
+    return sgemmKi;
+  }
+
+  public static long getGemmPackingThreshold() {
+    return gemmThreshold;
+  }
+
+  public static boolean isCalibrated() {
+    return calibrated;
+  }
+
+  public static boolean isStrassenEnabled() {
+    return strassen;
+  }
+
+  public static int getStrassenCutoff() {
+    return strassenCutoff;
+  }
+
+  public static long getStrassenMemory() {
+    return strassenMemory;
+  }
+
+  // Krow, Kcol, and Ki for elements of the given size in bytes, each block taking up to half of its cache
+  static int[] blocking(int size) {
+    if (l1 == 0 || l2 == 0) {
+      return new int[] { 60, 1000, 500 };
+    }
+    int ki = clamp(l1 / 2 / (4 * size), 128, 2048);
+    int krow = clamp(l2 / 2 / ((long)ki * size), 16, 1024);
+    // the packed b is allocated per thread, so it doesn't get to fill a large shared L3
+    int kcol = clamp(Math.min(l3 > 0 ? l3 : 4 * l2, 16L << 20) / 2 / ((long)ki * size), 256, 4096);
+    return new int[] { krow, kcol, ki };
+  }
+
+  private static int clamp(long value, int min, int max) {
+    return (int)Math.max(min, Math.min(max, value));
+  }
+
+  // -Ddev.ludovic.netlib.blas.cacheSizes=48K,2M,32M takes precedence over what the OS reports
+  private static long[] cacheSizes() {
+    long[] sizes = new long[3];
+    String property = System.getProperty("dev.ludovic.netlib.blas.cacheSizes");
+    if (property != null) {
+      try {
+        String[] values = property.split(",");
+        for (int i = 0; i < Math.min(values.length, 3); i += 1) {
+          sizes[i] = parseSize(values[i].trim());
+        }
+        return sizes;
+      } catch (NumberFormatException e) {
+        log.warning("Ignoring malformed dev.ludovic.netlib.blas.cacheSizes: " + property);
+        sizes = new long[3];
+      }
+    }
+    File[] indices = new File("/sys/devices/system/cpu/cpu0/cache").listFiles((dir, name) -> name.startsWith("index"));
+    if (indices != null) {
+      for (File index : indices) {
+        try {
+          if (read(new File(index, "type")).equals("Instruction")) {
+            continue;
+          }
+          int level = Integer.parseInt(read(new File(index, "level")));
+          if (level >= 1 && level <= 3) {
+            sizes[level - 1] = Math.max(sizes[level - 1], parseSize(read(new File(index, "size"))));
+          }
+        } catch (IOException | NumberFormatException e) {
+          log.log(Level.FINE, "Failed to read cache description from " + index, e);
+        }
+      }
+    }
+    return sizes;
+  }
+
+  private static long parseSize(String size) {
+    char unit = Character.toUpperCase(size.charAt(size.length() - 1));
+    switch (unit) {
+      case 'K': return Long.parseLong(size.substring(0, size.length() - 1)) << 10;
+      case 'M': return Long.parseLong(size.substring(0, size.length() - 1)) << 20;
+      case 'G': return Long.parseLong(size.substring(0, size.length() - 1)) << 30;
+      default: return Long.parseLong(size);
+    }
+  }
+
+  private static String read(File file) throws IOException {
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).trim();
+  }
+
+  // -Ddev.ludovic.netlib.blas.dgemmBlocking=Krow,Kcol,Ki
+  private static int[] override(String name, int[] blocking) {
+    String property = System.getProperty(name);
+    if (property == null) {
+      return blocking;
+    }
+    try {
+      String[] values = property.split(",");
+      if (values.length != 3) {
+        throw new NumberFormatException();
+      }
+      int[] result = new int[3];
+      for (int i = 0; i < 3; i += 1) {
+        result[i] = Integer.parseInt(values[i].trim());
+        if (result[i] <= 0) {
+          throw new NumberFormatException();
+        }
+      }
+      return result;
+    } catch (NumberFormatException e) {
+      log.warning("Ignoring malformed " + name + ": " + property);
+      return blocking;
+    }
+  }
+
+  // The calibration only applies to the machine and the implementation it was run with
+  static String machine() {
+    String model = "unknown";
+    try {
+      for (String line : Files.readAllLines(new File("/proc/cpuinfo").toPath(), StandardCharsets.UTF_8)) {
+        if (line.startsWith("model name")) {
+          model = line.substring(line.indexOf(':') + 1).trim();
+          break;
+        }
+      }
+    } catch (IOException e) {
+      // not on Linux, the cache sizes still tell machines apart
+    }
+    return String.join("/", System.getProperty("os.arch"), model, Long.toString(l1), Long.toString(l2), Long.toString(l3),
+                       JavaBLAS.getInstance().getClass().getName(), System.getProperty("java.specification.version"));
+  }
+
+  private static long[] load(File file) {
+    if (!file.isFile()) {
+      return null;
+    }
+    Properties properties = new Properties();
+    try (InputStream in = new FileInputStream(file)) {
+      properties.load(in);
+    } catch (IOException e) {
+      log.log(Level.FINE, "Failed to read " + file, e);
+      return null;
+    }
+    if (!machine().equals(properties.getProperty("machine"))) {
+      return null;
+    }
+    try {
+      String[] blocking = properties.getProperty("dgemmBlocking", "").split(",");
+      return new long[] { Integer.parseInt(blocking[0]), Integer.parseInt(blocking[1]), Integer.parseInt(blocking[2]),
+                          Long.parseLong(properties.getProperty("gemmThreshold", "")) };
+    } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+      log.warning("Ignoring malformed " + file);
+      return null;
+    }
+  }
+
+  private static void save(File file, long[] calibration) {
+    Properties properties = new Properties();
+    properties.setProperty("machine", machine());
+    properties.setProperty("dgemmBlocking", calibration[0] + "," + calibration[1] + "," + calibration[2]);
+    properties.setProperty("gemmThreshold", Long.toString(calibration[3]));
+    file.getAbsoluteFile().getParentFile().mkdirs();
+    try (OutputStream out = new FileOutputStream(file)) {
+      properties.store(out, "dev.ludovic.netlib.blas calibration");
+    } catch (IOException e) {
+      log.log(Level.WARNING, "Failed to save the calibration to " + file, e);
+    }
+  }
+
+  // Times dgemmGEPP for the blockings around the cache-derived one, then the non-copying
+  // kernel against the packing one on growing sizes. It takes about a second.
+  private static long[] calibrate(int[] blocking) {
+    Java8BLAS blas = (Java8BLAS)JavaBLAS.getInstance();
+    Random random = new Random(0);
+    final int n = 512;
+    double[] a = new double[n * n], b = new double[n * n], c = new double[n * n];
+    for (int i = 0; i < n * n; i += 1) {
+      a[i] = random.nextDouble();
+      b[i] = random.nextDouble();
+    }
+
+    // let the JIT compile the kernels before timing them
+    for (int i = 0; i < 100; i += 1) {
+      blas.dgemmGEPP("N", "N", 0, 96, 0, 96, 96, 1.0, a, 0, n, b, 0, n, c, 0, n, blocking[0], blocking[1], blocking[2]);
+      blas.dgemmNN(96, 96, 96, 1.0, a, 0, n, b, 0, n, 1.0, c, 0, n);
+    }
+
+    long[] best = { blocking[0], blocking[1], blocking[2], 0 };
+    long bestTime = Long.MAX_VALUE;
+    for (int krow : new int[] { blocking[0] / 2, blocking[0], blocking[0] * 2 }) {
+      for (int ki : new int[] { blocking[2] / 2, blocking[2], blocking[2] * 2 }) {
+        long time = Long.MAX_VALUE;
+        for (int rep = 0; rep < 3; rep += 1) {
+          long start = System.nanoTime();
+          blas.dgemmGEPP("N", "N", 0, n, 0, n, n, 1.0, a, 0, n, b, 0, n, c, 0, n, krow, blocking[1], ki);
+          time = Math.min(time, System.nanoTime() - start);
+        }
+        if (time < bestTime) {
+          bestTime = time;
+          best[0] = krow;
+          best[2] = ki;
+        }
+      }
+    }
+
+    // the smallest size from which packing is faster on it and all the larger sizes
+    int[] dims = { 32, 48, 64, 96, 128, 192 };
+    int crossover = dims[dims.length - 1] * 2;
+    for (int i = dims.length - 1; i >= 0; i -= 1) {
+      int dim = dims[i];
+      long packed = Long.MAX_VALUE, small = Long.MAX_VALUE;
+      for (int rep = 0; rep < 5; rep += 1) {
+        long start = System.nanoTime();
+        blas.dgemmGEPP("N", "N", 0, dim, 0, dim, dim, 1.0, a, 0, n, b, 0, n, c, 0, n, (int)best[0], (int)best[1], (int)best[2]);
+        long middle = System.nanoTime();
+        blas.dgemmNN(dim, dim, dim, 1.0, a, 0, n, b, 0, n, 1.0, c, 0, n);
+        long end = System.nanoTime();
+        packed = Math.min(packed, middle - start);
+        small = Math.min(small, end - middle);
+      }
+      if (packed > small) {
+        break;
+      }
+      crossover = dim;
+    }
+    best[3] = (long)crossover * crossover * crossover;
+    return best;
+  }
+}
@@ -27,6 +27,9 @@ package dev.ludovic.netlib.blas;
 
 import jdk.incubator.vector.DoubleVector;
 import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
 import jdk.incubator.vector.VectorOperators;
 import jdk.incubator.vector.VectorSpecies;
 
@@ -34,6 +37,10 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
 
   private static final VectorSpecies<Float>  FMAX = FloatVector.SPECIES_MAX;
   private static final VectorSpecies<Double> DMAX = DoubleVector.SPECIES_MAX;
+  // Same lane count as FMAX, to track float indices past 2^24
+  private static final VectorSpecies<Integer> IFMAX = IntVector.SPECIES_MAX;
+  // Twice the lane count of FMAX, each half converting to an FMAX vector of floats
+  private static final VectorSpecies<Short> SFMAX = FMAX.withLanes(short.class);
 
   private static final VectorBLAS instance = new VectorBLAS();
 
@@ -115,6 +122,110 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
     }
   }
 
+  protected void daxpbyK(int n, double alpha, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      int i = 0;
+      DoubleVector valpha = DoubleVector.broadcast(DMAX, alpha);
+      DoubleVector vbeta = DoubleVector.broadcast(DMAX, beta);
+      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+        DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + i);
+        if (beta != 0.0) {
+          DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + i);
+          valpha.fma(vx, vbeta.mul(vy))
+            .intoArray(y, offsety + i);
+        } else {
+          valpha.mul(vx)
+            .intoArray(y, offsety + i);
+        }
+      }
+      for (; i < n; i += 1) {
+        if (beta != 0.0) {
+          y[offsety + i] = alpha * x[offsetx + i] + beta * y[offsety + i];
+        } else {
+          y[offsety + i] = alpha * x[offsetx + i];
+        }
+      }
+    } else {
+      super.daxpbyK(n, alpha, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected double daxpydotK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz) {
+    if (incx == 1 && incy == 1 && incz == 1) {
+      int i = 0;
+      DoubleVector valpha = DoubleVector.broadcast(DMAX, alpha);
+      DoubleVector vsum = DoubleVector.zero(DMAX);
+      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+        DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + i);
+        DoubleVector vy = valpha.fma(vx, DoubleVector.fromArray(DMAX, y, offsety + i));
+        vy.intoArray(y, offsety + i);
+        DoubleVector vz = DoubleVector.fromArray(DMAX, z, offsetz + i);
+        vsum = vy.fma(vz, vsum);
+      }
+      double sum = vsum.reduceLanes(VectorOperators.ADD);
+      for (; i < n; i += 1) {
+        double yi = y[offsety + i] + alpha * x[offsetx + i];
+        y[offsety + i] = yi;
+        sum += yi * z[offsetz + i];
+      }
+      return sum;
+    } else {
+      return super.daxpydotK(n, alpha, x, offsetx, incx, y, offsety, incy, z, offsetz, incz);
+    }
+  }
+
+  protected void saxpbyK(int n, float alpha, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      int i = 0;
+      FloatVector valpha = FloatVector.broadcast(FMAX, alpha);
+      FloatVector vbeta = FloatVector.broadcast(FMAX, beta);
+      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
+        FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + i);
+        if (beta != 0.0f) {
+          FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + i);
+          valpha.fma(vx, vbeta.mul(vy))
+            .intoArray(y, offsety + i);
+        } else {
+          valpha.mul(vx)
+            .intoArray(y, offsety + i);
+        }
+      }
+      for (; i < n; i += 1) {
+        if (beta != 0.0f) {
+          y[offsety + i] = alpha * x[offsetx + i] + beta * y[offsety + i];
+        } else {
+          y[offsety + i] = alpha * x[offsetx + i];
+        }
+      }
+    } else {
+      super.saxpbyK(n, alpha, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected float saxpydotK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz) {
+    if (incx == 1 && incy == 1 && incz == 1) {
+      int i = 0;
+      FloatVector valpha = FloatVector.broadcast(FMAX, alpha);
+      FloatVector vsum = FloatVector.zero(FMAX);
+      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
+        FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + i);
+        FloatVector vy = valpha.fma(vx, FloatVector.fromArray(FMAX, y, offsety + i));
+        vy.intoArray(y, offsety + i);
+        FloatVector vz = FloatVector.fromArray(FMAX, z, offsetz + i);
+        vsum = vy.fma(vz, vsum);
+      }
+      float sum = vsum.reduceLanes(VectorOperators.ADD);
+      for (; i < n; i += 1) {
+        float yi = y[offsety + i] + alpha * x[offsetx + i];
+        y[offsety + i] = yi;
+        sum += yi * z[offsetz + i];
+      }
+      return sum;
+    } else {
+      return super.saxpydotK(n, alpha, x, offsetx, incx, y, offsety, incy, z, offsetz, incz);
+    }
+  }
+
   protected double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
       int i = 0;
@@ -153,6 +264,148 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
     }
   }
 
+  protected void ddot2K(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] z, int offsetz, int incz, double[] dots, int offsetdots) {
+    if (incx == 1 && incy == 1 && incz == 1) {
+      int i = 0;
+      DoubleVector vsumy = DoubleVector.zero(DMAX);
+      DoubleVector vsumz = DoubleVector.zero(DMAX);
+      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+        DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + i);
+        DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + i);
+        DoubleVector vz = DoubleVector.fromArray(DMAX, z, offsetz + i);
+        vsumy = vx.fma(vy, vsumy);
+        vsumz = vx.fma(vz, vsumz);
+      }
+      double sumy = vsumy.reduceLanes(VectorOperators.ADD);
+      double sumz = vsumz.reduceLanes(VectorOperators.ADD);
+      for (; i < n; i += 1) {
+        double xi = x[offsetx + i];
+        sumy += xi * y[offsety + i];
+        sumz += xi * z[offsetz + i];
+      }
+      dots[offsetdots + 0] = sumy;
+      dots[offsetdots + 1] = sumz;
+    } else {
+      super.ddot2K(n, x, offsetx, incx, y, offsety, incy, z, offsetz, incz, dots, offsetdots);
+    }
+  }
+
+  protected void sdot2K(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] z, int offsetz, int incz, float[] dots, int offsetdots) {
+    if (incx == 1 && incy == 1 && incz == 1) {
+      int i = 0;
+      FloatVector vsumy = FloatVector.zero(FMAX);
+      FloatVector vsumz = FloatVector.zero(FMAX);
+      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
+        FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + i);
+        FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + i);
+        FloatVector vz = FloatVector.fromArray(FMAX, z, offsetz + i);
+        vsumy = vx.fma(vy, vsumy);
+        vsumz = vx.fma(vz, vsumz);
+      }
+      float sumy = vsumy.reduceLanes(VectorOperators.ADD);
+      float sumz = vsumz.reduceLanes(VectorOperators.ADD);
+      for (; i < n; i += 1) {
+        float xi = x[offsetx + i];
+        sumy += xi * y[offsety + i];
+        sumz += xi * z[offsetz + i];
+      }
+      dots[offsetdots + 0] = sumy;
+      dots[offsetdots + 1] = sumz;
+    } else {
+      super.sdot2K(n, x, offsetx, incx, y, offsety, incy, z, offsetz, incz, dots, offsetdots);
+    }
+  }
+
+  protected int dgebpTrow() {
+    return 2 * DMAX.length();
+  }
+
+  protected int dgebpTcol() {
+    return 4;
+  }
+
+  // a is packed by dgecpyNP or dgecpyTP in panels of Trow rows
+  protected int dgebpPanel() {
+    return 2 * DMAX.length();
+  }
+
+  // Broadcast-FMA micro-kernel computing Trow x Tcol blocks of c in registers, reading each
+  // column of a panel of a at once, see dgebpPanel
+  protected void dgebpTN(int m, int rows, int rowe, int n, int cols, int cole, int k, int is, int ie, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    final int Trow = 2 * DMAX.length(), Tcol = 4;
+
+    int rowb = rows + loopBound(rowe - rows, Trow);
+    int colb = cols + loopBound(cole - cols, Tcol);
+
+    DoubleVector valpha = DoubleVector.broadcast(DMAX, alpha);
+    int col = cols;
+    for (; col < colb; col += Tcol) {
+      int offsetb0 = offsetb + (col + 0) * ldb;
+      int offsetb1 = offsetb + (col + 1) * ldb;
+      int offsetb2 = offsetb + (col + 2) * ldb;
+      int offsetb3 = offsetb + (col + 3) * ldb;
+      for (int row = rows; row < rowb; row += Trow) {
+        int offsetp = offseta + row * lda;
+        DoubleVector vsum00 = DoubleVector.zero(DMAX);
+        DoubleVector vsum10 = DoubleVector.zero(DMAX);
+        DoubleVector vsum01 = DoubleVector.zero(DMAX);
+        DoubleVector vsum11 = DoubleVector.zero(DMAX);
+        DoubleVector vsum02 = DoubleVector.zero(DMAX);
+        DoubleVector vsum12 = DoubleVector.zero(DMAX);
+        DoubleVector vsum03 = DoubleVector.zero(DMAX);
+        DoubleVector vsum13 = DoubleVector.zero(DMAX);
+        for (int i = is; i < ie; i += 1) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offsetp + i * Trow);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offsetp + i * Trow + DMAX.length());
+          DoubleVector vb0 = DoubleVector.broadcast(DMAX, b[offsetb0 + i]);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum10 = va1.fma(vb0, vsum10);
+          DoubleVector vb1 = DoubleVector.broadcast(DMAX, b[offsetb1 + i]);
+          vsum01 = va0.fma(vb1, vsum01);
+          vsum11 = va1.fma(vb1, vsum11);
+          DoubleVector vb2 = DoubleVector.broadcast(DMAX, b[offsetb2 + i]);
+          vsum02 = va0.fma(vb2, vsum02);
+          vsum12 = va1.fma(vb2, vsum12);
+          DoubleVector vb3 = DoubleVector.broadcast(DMAX, b[offsetb3 + i]);
+          vsum03 = va0.fma(vb3, vsum03);
+          vsum13 = va1.fma(vb3, vsum13);
+        }
+        int offsetc0 = offsetc + row + (col + 0) * ldc;
+        int offsetc1 = offsetc + row + (col + 1) * ldc;
+        int offsetc2 = offsetc + row + (col + 2) * ldc;
+        int offsetc3 = offsetc + row + (col + 3) * ldc;
+        valpha.fma(vsum00, DoubleVector.fromArray(DMAX, c, offsetc0)).intoArray(c, offsetc0);
+        valpha.fma(vsum10, DoubleVector.fromArray(DMAX, c, offsetc0 + DMAX.length())).intoArray(c, offsetc0 + DMAX.length());
+        valpha.fma(vsum01, DoubleVector.fromArray(DMAX, c, offsetc1)).intoArray(c, offsetc1);
+        valpha.fma(vsum11, DoubleVector.fromArray(DMAX, c, offsetc1 + DMAX.length())).intoArray(c, offsetc1 + DMAX.length());
+        valpha.fma(vsum02, DoubleVector.fromArray(DMAX, c, offsetc2)).intoArray(c, offsetc2);
+        valpha.fma(vsum12, DoubleVector.fromArray(DMAX, c, offsetc2 + DMAX.length())).intoArray(c, offsetc2 + DMAX.length());
+        valpha.fma(vsum03, DoubleVector.fromArray(DMAX, c, offsetc3)).intoArray(c, offsetc3);
+        valpha.fma(vsum13, DoubleVector.fromArray(DMAX, c, offsetc3 + DMAX.length())).intoArray(c, offsetc3 + DMAX.length());
+      }
+    }
+    for (; col < cole; col += 1) {
+      int offsetb0 = offsetb + (col + 0) * ldb;
+      for (int row = rows; row < rowb; row += Trow) {
+        int offsetp = offseta + row * lda;
+        DoubleVector vsum00 = DoubleVector.zero(DMAX);
+        DoubleVector vsum10 = DoubleVector.zero(DMAX);
+        for (int i = is; i < ie; i += 1) {
+          DoubleVector vb0 = DoubleVector.broadcast(DMAX, b[offsetb0 + i]);
+          vsum00 = DoubleVector.fromArray(DMAX, a, offsetp + i * Trow).fma(vb0, vsum00);
+          vsum10 = DoubleVector.fromArray(DMAX, a, offsetp + i * Trow + DMAX.length()).fma(vb0, vsum10);
+        }
+        int offsetc0 = offsetc + row + (col + 0) * ldc;
+        valpha.fma(vsum00, DoubleVector.fromArray(DMAX, c, offsetc0)).intoArray(c, offsetc0);
+        valpha.fma(vsum10, DoubleVector.fromArray(DMAX, c, offsetc0 + DMAX.length())).intoArray(c, offsetc0 + DMAX.length());
+      }
+    }
+    // remaining rows are packed row by row, and go through the dot-product kernel
+    if (rowb < rowe) {
+      super.dgebpTN(m, rowb, rowe, n, cols, cole, k, is, ie, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
   protected void dgepdotTN(int m, int rows, int rowe, int n, int cols, int cole, int k, int is, int ie, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
     final int Ti = 1;
 
@@ -251,6 +504,117 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
     c[offsetc + (row + 2) + (col + 2) * ldc] = Math.fma(alpha, sum22, c[offsetc + (row + 2) + (col + 2) * ldc]);
   }
 
+  protected int sgebpTrow() {
+    return 2 * FMAX.length();
+  }
+
+  protected int sgebpTcol() {
+    return 4;
+  }
+
+  // a is packed by sgecpyNP or sgecpyTP in panels of Trow rows
+  protected int sgebpPanel() {
+    return 2 * FMAX.length();
+  }
+
+  // Broadcast-FMA micro-kernel computing Trow x Tcol blocks of c in registers, reading each
+  // column of a panel of a at once, see sgebpPanel
+  protected void sgebpTN(int m, int rows, int rowe, int n, int cols, int cole, int k, int is, int ie, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    final int Trow = 2 * FMAX.length(), Tcol = 4;
+
+    int rowb = rows + loopBound(rowe - rows, Trow);
+    int colb = cols + loopBound(cole - cols, Tcol);
+
+    FloatVector valpha = FloatVector.broadcast(FMAX, alpha);
+    int col = cols;
+    for (; col < colb; col += Tcol) {
+      int offsetb0 = offsetb + (col + 0) * ldb;
+      int offsetb1 = offsetb + (col + 1) * ldb;
+      int offsetb2 = offsetb + (col + 2) * ldb;
+      int offsetb3 = offsetb + (col + 3) * ldb;
+      for (int row = rows; row < rowb; row += Trow) {
+        int offsetp = offseta + row * lda;
+        FloatVector vsum00 = FloatVector.zero(FMAX);
+        FloatVector vsum10 = FloatVector.zero(FMAX);
+        FloatVector vsum01 = FloatVector.zero(FMAX);
+        FloatVector vsum11 = FloatVector.zero(FMAX);
+        FloatVector vsum02 = FloatVector.zero(FMAX);
+        FloatVector vsum12 = FloatVector.zero(FMAX);
+        FloatVector vsum03 = FloatVector.zero(FMAX);
+        FloatVector vsum13 = FloatVector.zero(FMAX);
+        for (int i = is; i < ie; i += 1) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offsetp + i * Trow);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offsetp + i * Trow + FMAX.length());
+          FloatVector vb0 = FloatVector.broadcast(FMAX, b[offsetb0 + i]);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum10 = va1.fma(vb0, vsum10);
+          FloatVector vb1 = FloatVector.broadcast(FMAX, b[offsetb1 + i]);
+          vsum01 = va0.fma(vb1, vsum01);
+          vsum11 = va1.fma(vb1, vsum11);
+          FloatVector vb2 = FloatVector.broadcast(FMAX, b[offsetb2 + i]);
+          vsum02 = va0.fma(vb2, vsum02);
+          vsum12 = va1.fma(vb2, vsum12);
+          FloatVector vb3 = FloatVector.broadcast(FMAX, b[offsetb3 + i]);
+          vsum03 = va0.fma(vb3, vsum03);
+          vsum13 = va1.fma(vb3, vsum13);
+        }
+        int offsetc0 = offsetc + row + (col + 0) * ldc;
+        int offsetc1 = offsetc + row + (col + 1) * ldc;
+        int offsetc2 = offsetc + row + (col + 2) * ldc;
+        int offsetc3 = offsetc + row + (col + 3) * ldc;
+        valpha.fma(vsum00, FloatVector.fromArray(FMAX, c, offsetc0)).intoArray(c, offsetc0);
+        valpha.fma(vsum10, FloatVector.fromArray(FMAX, c, offsetc0 + FMAX.length())).intoArray(c, offsetc0 + FMAX.length());
+        valpha.fma(vsum01, FloatVector.fromArray(FMAX, c, offsetc1)).intoArray(c, offsetc1);
+        valpha.fma(vsum11, FloatVector.fromArray(FMAX, c, offsetc1 + FMAX.length())).intoArray(c, offsetc1 + FMAX.length());
+        valpha.fma(vsum02, FloatVector.fromArray(FMAX, c, offsetc2)).intoArray(c, offsetc2);
+        valpha.fma(vsum12, FloatVector.fromArray(FMAX, c, offsetc2 + FMAX.length())).intoArray(c, offsetc2 + FMAX.length());
+        valpha.fma(vsum03, FloatVector.fromArray(FMAX, c, offsetc3)).intoArray(c, offsetc3);
+        valpha.fma(vsum13, FloatVector.fromArray(FMAX, c, offsetc3 + FMAX.length())).intoArray(c, offsetc3 + FMAX.length());
+      }
+    }
+    for (; col < cole; col += 1) {
+      int offsetb0 = offsetb + (col + 0) * ldb;
+      for (int row = rows; row < rowb; row += Trow) {
+        int offsetp = offseta + row * lda;
+        FloatVector vsum00 = FloatVector.zero(FMAX);
+        FloatVector vsum10 = FloatVector.zero(FMAX);
+        for (int i = is; i < ie; i += 1) {
+          FloatVector vb0 = FloatVector.broadcast(FMAX, b[offsetb0 + i]);
+          vsum00 = FloatVector.fromArray(FMAX, a, offsetp + i * Trow).fma(vb0, vsum00);
+          vsum10 = FloatVector.fromArray(FMAX, a, offsetp + i * Trow + FMAX.length()).fma(vb0, vsum10);
+        }
+        int offsetc0 = offsetc + row + (col + 0) * ldc;
+        valpha.fma(vsum00, FloatVector.fromArray(FMAX, c, offsetc0)).intoArray(c, offsetc0);
+        valpha.fma(vsum10, FloatVector.fromArray(FMAX, c, offsetc0 + FMAX.length())).intoArray(c, offsetc0 + FMAX.length());
+      }
+    }
+    // remaining rows are packed row by row, and go through the dot-product kernel
+    if (rowb < rowe) {
+      super.sgebpTN(m, rowb, rowe, n, cols, cole, k, is, ie, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  protected void cvt16ToFloat(boolean bfloat16, int n, short[] src, int offsetsrc, float[] dst, int offsetdst) {
+    int i = 0;
+    for (; i < SFMAX.loopBound(n); i += SFMAX.length()) {
+      ShortVector vsrc = ShortVector.fromArray(SFMAX, src, offsetsrc + i);
+      cvt16ToFloat(bfloat16, (IntVector)vsrc.convertShape(VectorOperators.S2I, IFMAX, 0)).intoArray(dst, offsetdst + i);
+      cvt16ToFloat(bfloat16, (IntVector)vsrc.convertShape(VectorOperators.S2I, IFMAX, 1)).intoArray(dst, offsetdst + i + FMAX.length());
+    }
+    super.cvt16ToFloat(bfloat16, n - i, src, offsetsrc + i, dst, offsetdst + i);
+  }
+
+  // The sign-extended 16-bit values of v to float, the same way as Float16
+  private static FloatVector cvt16ToFloat(boolean bfloat16, IntVector v) {
+    if (bfloat16) {
+      return v.lanewise(VectorOperators.LSHL, 16).reinterpretAsFloats();
+    }
+    IntVector bits = v.and(0x7fff).lanewise(VectorOperators.LSHL, 13);
+    IntVector magnitude = bits.reinterpretAsFloats().mul(0x1p112f).reinterpretAsInts()
+                              .blend(bits.or(0x7f800000), bits.compare(VectorOperators.GE, 0x7c00 << 13));
+    return magnitude.or(v.and(0x8000).lanewise(VectorOperators.LSHL, 16)).reinterpretAsFloats();
+  }
+
   protected void sgepdotTN(int m, int rows, int rowe, int n, int cols, int cole, int k, int is, int ie, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
     final int Ti = 1;
 
@@ -631,355 +995,2498 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
     }
   }
 
-  protected void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
-    if (incx == 1 && incy == 1) {
+  protected void dgemv2N(int m, int n, double alpha, double[] a, int offseta, int lda, double[] x1, int offsetx1, int incx1, double[] x2, int offsetx2, int incx2, double beta, double[] y1, int offsety1, int incy1, double[] y2, int offsety2, int incy2) {
+    if (incx1 == 1 && incx2 == 1 && incy1 == 1 && incy2 == 1) {
+      if (beta != 1.0) {
+        int row = 0;
+        DoubleVector vzero = DoubleVector.zero(DMAX);
+        DoubleVector vbeta = DoubleVector.broadcast(DMAX, beta);
+        for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+          if (beta != 0.0) {
+            DoubleVector vy1 = DoubleVector.fromArray(DMAX, y1, offsety1 + row);
+            DoubleVector vy2 = DoubleVector.fromArray(DMAX, y2, offsety2 + row);
+            vbeta.mul(vy1)
+              .intoArray(y1, offsety1 + row);
+            vbeta.mul(vy2)
+              .intoArray(y2, offsety2 + row);
+          } else {
+            vzero.intoArray(y1, offsety1 + row);
+            vzero.intoArray(y2, offsety2 + row);
+          }
+        }
+        for (; row < m; row += 1) {
+          if (beta != 0.0) {
+            y1[offsety1 + row] = beta * y1[offsety1 + row];
+            y2[offsety2 + row] = beta * y2[offsety2 + row];
+          } else {
+            y1[offsety1 + row] = 0.0;
+            y2[offsety2 + row] = 0.0;
+          }
+        }
+      }
       int col = 0;
-      for (; col < loopBound(n, 4); col += 4) {
+      for (; col < loopBound(n, 2); col += 2) {
         int row = 0;
-        DoubleVector valphay0 = DoubleVector.broadcast(DMAX, alpha * y[offsety + (col + 0)]);
-        DoubleVector valphay1 = DoubleVector.broadcast(DMAX, alpha * y[offsety + (col + 1)]);
-        DoubleVector valphay2 = DoubleVector.broadcast(DMAX, alpha * y[offsety + (col + 2)]);
-        DoubleVector valphay3 = DoubleVector.broadcast(DMAX, alpha * y[offsety + (col + 3)]);
+        DoubleVector valphax10 = DoubleVector.broadcast(DMAX, alpha * x1[offsetx1 + (col + 0)]);
+        DoubleVector valphax11 = DoubleVector.broadcast(DMAX, alpha * x1[offsetx1 + (col + 1)]);
+        DoubleVector valphax20 = DoubleVector.broadcast(DMAX, alpha * x2[offsetx2 + (col + 0)]);
+        DoubleVector valphax21 = DoubleVector.broadcast(DMAX, alpha * x2[offsetx2 + (col + 1)]);
         for (; row < DMAX.loopBound(m); row += DMAX.length()) {
-          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + row);
           DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * lda);
           DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 1) * lda);
-          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 2) * lda);
-          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 3) * lda);
-          valphay0.fma(vx0, va0)
-            .intoArray(a, offseta + row + (col + 0) * lda);
-          valphay1.fma(vx0, va1)
-            .intoArray(a, offseta + row + (col + 1) * lda);
-          valphay2.fma(vx0, va2)
-            .intoArray(a, offseta + row + (col + 2) * lda);
-          valphay3.fma(vx0, va3)
-            .intoArray(a, offseta + row + (col + 3) * lda);
+          DoubleVector vy1 = DoubleVector.fromArray(DMAX, y1, offsety1 + row);
+          DoubleVector vy2 = DoubleVector.fromArray(DMAX, y2, offsety2 + row);
+          valphax10.fma(va0, valphax11.fma(va1, vy1))
+            .intoArray(y1, offsety1 + row);
+          valphax20.fma(va0, valphax21.fma(va1, vy2))
+            .intoArray(y2, offsety2 + row);
         }
-        double alphay0 = alpha * y[offsety + (col + 0)];
-        double alphay1 = alpha * y[offsety + (col + 1)];
-        double alphay2 = alpha * y[offsety + (col + 2)];
-        double alphay3 = alpha * y[offsety + (col + 3)];
+        double alphax10 = alpha * x1[offsetx1 + (col + 0)];
+        double alphax11 = alpha * x1[offsetx1 + (col + 1)];
+        double alphax20 = alpha * x2[offsetx2 + (col + 0)];
+        double alphax21 = alpha * x2[offsetx2 + (col + 1)];
         for (; row < m; row += 1) {
-          double x0 = x[offsetx + row];
-          a[offseta + row + (col + 0) * lda] += alphay0 * x0;
-          a[offseta + row + (col + 1) * lda] += alphay1 * x0;
-          a[offseta + row + (col + 2) * lda] += alphay2 * x0;
-          a[offseta + row + (col + 3) * lda] += alphay3 * x0;
+          double a0 = a[offseta + row + (col + 0) * lda];
+          double a1 = a[offseta + row + (col + 1) * lda];
+          y1[offsety1 + row] += alphax10 * a0 + alphax11 * a1;
+          y2[offsety2 + row] += alphax20 * a0 + alphax21 * a1;
         }
       }
       for (; col < n; col += 1) {
         int row = 0;
-        DoubleVector valphay0 = DoubleVector.broadcast(DMAX, alpha * y[offsety + (col + 0)]);
+        DoubleVector valphax1 = DoubleVector.broadcast(DMAX, alpha * x1[offsetx1 + col]);
+        DoubleVector valphax2 = DoubleVector.broadcast(DMAX, alpha * x2[offsetx2 + col]);
         for (; row < DMAX.loopBound(m); row += DMAX.length()) {
-          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + row);
-          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * lda);
-          valphay0.fma(vx0, va0)
-            .intoArray(a, offseta + row + (col + 0) * lda);
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + col * lda);
+          DoubleVector vy1 = DoubleVector.fromArray(DMAX, y1, offsety1 + row);
+          DoubleVector vy2 = DoubleVector.fromArray(DMAX, y2, offsety2 + row);
+          valphax1.fma(va0, vy1)
+            .intoArray(y1, offsety1 + row);
+          valphax2.fma(va0, vy2)
+            .intoArray(y2, offsety2 + row);
         }
-        double alphay0 = alpha * y[offsety + col];
+        double alphax1 = alpha * x1[offsetx1 + col];
+        double alphax2 = alpha * x2[offsetx2 + col];
         for (; row < m; row += 1) {
-          double x0 = x[offsetx + row];
-          a[offseta + row + col * lda] += alphay0 * x0;
+          double a0 = a[offseta + row + col * lda];
+          y1[offsety1 + row] += alphax1 * a0;
+          y2[offsety2 + row] += alphax2 * a0;
         }
       }
     } else {
-      super.dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+      super.dgemv2N(m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
     }
   }
 
-  protected void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
-    if (incx == 1 && incy == 1) {
+  protected void dgemv2T(int m, int n, double alpha, double[] a, int offseta, int lda, double[] x1, int offsetx1, int incx1, double[] x2, int offsetx2, int incx2, double beta, double[] y1, int offsety1, int incy1, double[] y2, int offsety2, int incy2) {
+    if (incx1 == 1 && incx2 == 1 && incy1 == 1 && incy2 == 1) {
       int col = 0;
-      for (; col < loopBound(n, 4); col += 4) {
+      for (; col < loopBound(n, 2); col += 2) {
         int row = 0;
-        FloatVector valphay0 = FloatVector.broadcast(FMAX, alpha * y[offsety + (col + 0)]);
-        FloatVector valphay1 = FloatVector.broadcast(FMAX, alpha * y[offsety + (col + 1)]);
-        FloatVector valphay2 = FloatVector.broadcast(FMAX, alpha * y[offsety + (col + 2)]);
-        FloatVector valphay3 = FloatVector.broadcast(FMAX, alpha * y[offsety + (col + 3)]);
-        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
-          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + row);
-          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
-          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 1) * lda);
-          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 2) * lda);
-          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 3) * lda);
-          valphay0.fma(vx0, va0)
-            .intoArray(a, offseta + row + (col + 0) * lda);
-          valphay1.fma(vx0, va1)
-            .intoArray(a, offseta + row + (col + 1) * lda);
-          valphay2.fma(vx0, va2)
-            .intoArray(a, offseta + row + (col + 2) * lda);
-          valphay3.fma(vx0, va3)
-            .intoArray(a, offseta + row + (col + 3) * lda);
+        DoubleVector vsum10 = DoubleVector.zero(DMAX);
+        DoubleVector vsum11 = DoubleVector.zero(DMAX);
+        DoubleVector vsum20 = DoubleVector.zero(DMAX);
+        DoubleVector vsum21 = DoubleVector.zero(DMAX);
+        for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * lda);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 1) * lda);
+          DoubleVector vx1 = DoubleVector.fromArray(DMAX, x1, offsetx1 + row);
+          DoubleVector vx2 = DoubleVector.fromArray(DMAX, x2, offsetx2 + row);
+          vsum10 = vx1.fma(va0, vsum10);
+          vsum11 = vx1.fma(va1, vsum11);
+          vsum20 = vx2.fma(va0, vsum20);
+          vsum21 = vx2.fma(va1, vsum21);
         }
-        float alphay0 = alpha * y[offsety + (col + 0)];
-        float alphay1 = alpha * y[offsety + (col + 1)];
-        float alphay2 = alpha * y[offsety + (col + 2)];
-        float alphay3 = alpha * y[offsety + (col + 3)];
+        double sum10 = vsum10.reduceLanes(VectorOperators.ADD);
+        double sum11 = vsum11.reduceLanes(VectorOperators.ADD);
+        double sum20 = vsum20.reduceLanes(VectorOperators.ADD);
+        double sum21 = vsum21.reduceLanes(VectorOperators.ADD);
         for (; row < m; row += 1) {
-          float x0 = x[offsetx + row];
-          a[offseta + row + (col + 0) * lda] += alphay0 * x0;
-          a[offseta + row + (col + 1) * lda] += alphay1 * x0;
-          a[offseta + row + (col + 2) * lda] += alphay2 * x0;
-          a[offseta + row + (col + 3) * lda] += alphay3 * x0;
+          double a0 = a[offseta + row + (col + 0) * lda];
+          double a1 = a[offseta + row + (col + 1) * lda];
+          double x1r = x1[offsetx1 + row];
+          double x2r = x2[offsetx2 + row];
+          sum10 += x1r * a0;
+          sum11 += x1r * a1;
+          sum20 += x2r * a0;
+          sum21 += x2r * a1;
+        }
+        if (beta != 0.0) {
+          y1[offsety1 + (col + 0)] = alpha * sum10 + beta * y1[offsety1 + (col + 0)];
+          y1[offsety1 + (col + 1)] = alpha * sum11 + beta * y1[offsety1 + (col + 1)];
+          y2[offsety2 + (col + 0)] = alpha * sum20 + beta * y2[offsety2 + (col + 0)];
+          y2[offsety2 + (col + 1)] = alpha * sum21 + beta * y2[offsety2 + (col + 1)];
+        } else {
+          y1[offsety1 + (col + 0)] = alpha * sum10;
+          y1[offsety1 + (col + 1)] = alpha * sum11;
+          y2[offsety2 + (col + 0)] = alpha * sum20;
+          y2[offsety2 + (col + 1)] = alpha * sum21;
         }
       }
       for (; col < n; col += 1) {
         int row = 0;
-        FloatVector valphay0 = FloatVector.broadcast(FMAX, alpha * y[offsety + (col + 0)]);
-        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
-          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + row);
-          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
-          valphay0.fma(vx0, va0)
-            .intoArray(a, offseta + row + (col + 0) * lda);
+        DoubleVector vsum1 = DoubleVector.zero(DMAX);
+        DoubleVector vsum2 = DoubleVector.zero(DMAX);
+        for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + col * lda);
+          DoubleVector vx1 = DoubleVector.fromArray(DMAX, x1, offsetx1 + row);
+          DoubleVector vx2 = DoubleVector.fromArray(DMAX, x2, offsetx2 + row);
+          vsum1 = vx1.fma(va0, vsum1);
+          vsum2 = vx2.fma(va0, vsum2);
         }
-        float alphay0 = alpha * y[offsety + col];
+        double sum1 = vsum1.reduceLanes(VectorOperators.ADD);
+        double sum2 = vsum2.reduceLanes(VectorOperators.ADD);
         for (; row < m; row += 1) {
-          float x0 = x[offsetx + row];
-          a[offseta + row + col * lda] += alphay0 * x0;
+          double a0 = a[offseta + row + col * lda];
+          sum1 += x1[offsetx1 + row] * a0;
+          sum2 += x2[offsetx2 + row] * a0;
+        }
+        if (beta != 0.0) {
+          y1[offsety1 + col] = alpha * sum1 + beta * y1[offsety1 + col];
+          y2[offsety2 + col] = alpha * sum2 + beta * y2[offsety2 + col];
+        } else {
+          y1[offsety1 + col] = alpha * sum1;
+          y2[offsety2 + col] = alpha * sum2;
         }
       }
     } else {
-      super.sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
-    }
-  }
-
-  protected double dnrm2K(int n, double[] x, int offsetx, int incx) {
-    if (incx == 1) {
-      int i = 0;
-      DoubleVector vsum = DoubleVector.zero(DMAX);
-      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
-        DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
-        vsum = vx0.fma(vx0, vsum);
-      }
-      double sum = vsum.reduceLanes(VectorOperators.ADD);
-      for (; i < n; i += 1) {
-        double x0 = x[offsetx + i];
-        sum += x0 * x0;
-      }
-      return Math.sqrt(sum);
-    } else {
-      return super.dnrm2K(n, x, offsetx, incx);
+      super.dgemv2T(m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
     }
   }
 
-  protected float snrm2K(int n, float[] x, int offsetx, int incx) {
-    if (incx == 1) {
-      int i = 0;
-      FloatVector vsum = FloatVector.zero(FMAX);
-      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
-        FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + i);
-        vsum = vx0.fma(vx0, vsum);
+  protected void sgemv2N(int m, int n, float alpha, float[] a, int offseta, int lda, float[] x1, int offsetx1, int incx1, float[] x2, int offsetx2, int incx2, float beta, float[] y1, int offsety1, int incy1, float[] y2, int offsety2, int incy2) {
+    if (incx1 == 1 && incx2 == 1 && incy1 == 1 && incy2 == 1) {
+      if (beta != 1.0f) {
+        int row = 0;
+        FloatVector vzero = FloatVector.zero(FMAX);
+        FloatVector vbeta = FloatVector.broadcast(FMAX, beta);
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          if (beta != 0.0f) {
+            FloatVector vy1 = FloatVector.fromArray(FMAX, y1, offsety1 + row);
+            FloatVector vy2 = FloatVector.fromArray(FMAX, y2, offsety2 + row);
+            vbeta.mul(vy1)
+              .intoArray(y1, offsety1 + row);
+            vbeta.mul(vy2)
+              .intoArray(y2, offsety2 + row);
+          } else {
+            vzero.intoArray(y1, offsety1 + row);
+            vzero.intoArray(y2, offsety2 + row);
+          }
+        }
+        for (; row < m; row += 1) {
+          if (beta != 0.0f) {
+            y1[offsety1 + row] = beta * y1[offsety1 + row];
+            y2[offsety2 + row] = beta * y2[offsety2 + row];
+          } else {
+            y1[offsety1 + row] = 0.0f;
+            y2[offsety2 + row] = 0.0f;
+          }
+        }
       }
-      float sum = vsum.reduceLanes(VectorOperators.ADD);
-      for (; i < n; i += 1) {
-        float x0 = x[offsetx + i];
-        sum += x0 * x0;
+      int col = 0;
+      for (; col < loopBound(n, 2); col += 2) {
+        int row = 0;
+        FloatVector valphax10 = FloatVector.broadcast(FMAX, alpha * x1[offsetx1 + (col + 0)]);
+        FloatVector valphax11 = FloatVector.broadcast(FMAX, alpha * x1[offsetx1 + (col + 1)]);
+        FloatVector valphax20 = FloatVector.broadcast(FMAX, alpha * x2[offsetx2 + (col + 0)]);
+        FloatVector valphax21 = FloatVector.broadcast(FMAX, alpha * x2[offsetx2 + (col + 1)]);
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 1) * lda);
+          FloatVector vy1 = FloatVector.fromArray(FMAX, y1, offsety1 + row);
+          FloatVector vy2 = FloatVector.fromArray(FMAX, y2, offsety2 + row);
+          valphax10.fma(va0, valphax11.fma(va1, vy1))
+            .intoArray(y1, offsety1 + row);
+          valphax20.fma(va0, valphax21.fma(va1, vy2))
+            .intoArray(y2, offsety2 + row);
+        }
+        float alphax10 = alpha * x1[offsetx1 + (col + 0)];
+        float alphax11 = alpha * x1[offsetx1 + (col + 1)];
+        float alphax20 = alpha * x2[offsetx2 + (col + 0)];
+        float alphax21 = alpha * x2[offsetx2 + (col + 1)];
+        for (; row < m; row += 1) {
+          float a0 = a[offseta + row + (col + 0) * lda];
+          float a1 = a[offseta + row + (col + 1) * lda];
+          y1[offsety1 + row] += alphax10 * a0 + alphax11 * a1;
+          y2[offsety2 + row] += alphax20 * a0 + alphax21 * a1;
+        }
+      }
+      for (; col < n; col += 1) {
+        int row = 0;
+        FloatVector valphax1 = FloatVector.broadcast(FMAX, alpha * x1[offsetx1 + col]);
+        FloatVector valphax2 = FloatVector.broadcast(FMAX, alpha * x2[offsetx2 + col]);
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + col * lda);
+          FloatVector vy1 = FloatVector.fromArray(FMAX, y1, offsety1 + row);
+          FloatVector vy2 = FloatVector.fromArray(FMAX, y2, offsety2 + row);
+          valphax1.fma(va0, vy1)
+            .intoArray(y1, offsety1 + row);
+          valphax2.fma(va0, vy2)
+            .intoArray(y2, offsety2 + row);
+        }
+        float alphax1 = alpha * x1[offsetx1 + col];
+        float alphax2 = alpha * x2[offsetx2 + col];
+        for (; row < m; row += 1) {
+          float a0 = a[offseta + row + col * lda];
+          y1[offsety1 + row] += alphax1 * a0;
+          y2[offsety2 + row] += alphax2 * a0;
+        }
       }
-      return (float)Math.sqrt(sum);
     } else {
-      return super.snrm2K(n, x, offsetx, incx);
+      super.sgemv2N(m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
     }
   }
 
-  protected void drotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double c, double s) {
-    if (incx == 1 && incy == 1) {
-      int i = 0;
-      DoubleVector vc = DoubleVector.broadcast(DMAX, c);
-      DoubleVector vs = DoubleVector.broadcast(DMAX, s);
-      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
-        DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
-        DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + i);
-        vc.fma(vx0, vs.mul(vy0))
-          .intoArray(x, offsetx + i);
-        vc.mul(vy0).sub(vs.mul(vx0))
-          .intoArray(y, offsety + i);
+  protected void sgemv2T(int m, int n, float alpha, float[] a, int offseta, int lda, float[] x1, int offsetx1, int incx1, float[] x2, int offsetx2, int incx2, float beta, float[] y1, int offsety1, int incy1, float[] y2, int offsety2, int incy2) {
+    if (incx1 == 1 && incx2 == 1 && incy1 == 1 && incy2 == 1) {
+      int col = 0;
+      for (; col < loopBound(n, 2); col += 2) {
+        int row = 0;
+        FloatVector vsum10 = FloatVector.zero(FMAX);
+        FloatVector vsum11 = FloatVector.zero(FMAX);
+        FloatVector vsum20 = FloatVector.zero(FMAX);
+        FloatVector vsum21 = FloatVector.zero(FMAX);
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 1) * lda);
+          FloatVector vx1 = FloatVector.fromArray(FMAX, x1, offsetx1 + row);
+          FloatVector vx2 = FloatVector.fromArray(FMAX, x2, offsetx2 + row);
+          vsum10 = vx1.fma(va0, vsum10);
+          vsum11 = vx1.fma(va1, vsum11);
+          vsum20 = vx2.fma(va0, vsum20);
+          vsum21 = vx2.fma(va1, vsum21);
+        }
+        float sum10 = vsum10.reduceLanes(VectorOperators.ADD);
+        float sum11 = vsum11.reduceLanes(VectorOperators.ADD);
+        float sum20 = vsum20.reduceLanes(VectorOperators.ADD);
+        float sum21 = vsum21.reduceLanes(VectorOperators.ADD);
+        for (; row < m; row += 1) {
+          float a0 = a[offseta + row + (col + 0) * lda];
+          float a1 = a[offseta + row + (col + 1) * lda];
+          float x1r = x1[offsetx1 + row];
+          float x2r = x2[offsetx2 + row];
+          sum10 += x1r * a0;
+          sum11 += x1r * a1;
+          sum20 += x2r * a0;
+          sum21 += x2r * a1;
+        }
+        if (beta != 0.0f) {
+          y1[offsety1 + (col + 0)] = alpha * sum10 + beta * y1[offsety1 + (col + 0)];
+          y1[offsety1 + (col + 1)] = alpha * sum11 + beta * y1[offsety1 + (col + 1)];
+          y2[offsety2 + (col + 0)] = alpha * sum20 + beta * y2[offsety2 + (col + 0)];
+          y2[offsety2 + (col + 1)] = alpha * sum21 + beta * y2[offsety2 + (col + 1)];
+        } else {
+          y1[offsety1 + (col + 0)] = alpha * sum10;
+          y1[offsety1 + (col + 1)] = alpha * sum11;
+          y2[offsety2 + (col + 0)] = alpha * sum20;
+          y2[offsety2 + (col + 1)] = alpha * sum21;
+        }
       }
-      for (; i < n; i += 1) {
-        double x0 = x[offsetx + i];
-        double y0 = y[offsety + i]; 
-        x[offsetx + i] = c * x0 + s * y0;
-        y[offsety + i] = c * y0 - s * x0;
+      for (; col < n; col += 1) {
+        int row = 0;
+        FloatVector vsum1 = FloatVector.zero(FMAX);
+        FloatVector vsum2 = FloatVector.zero(FMAX);
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + col * lda);
+          FloatVector vx1 = FloatVector.fromArray(FMAX, x1, offsetx1 + row);
+          FloatVector vx2 = FloatVector.fromArray(FMAX, x2, offsetx2 + row);
+          vsum1 = vx1.fma(va0, vsum1);
+          vsum2 = vx2.fma(va0, vsum2);
+        }
+        float sum1 = vsum1.reduceLanes(VectorOperators.ADD);
+        float sum2 = vsum2.reduceLanes(VectorOperators.ADD);
+        for (; row < m; row += 1) {
+          float a0 = a[offseta + row + col * lda];
+          sum1 += x1[offsetx1 + row] * a0;
+          sum2 += x2[offsetx2 + row] * a0;
+        }
+        if (beta != 0.0f) {
+          y1[offsety1 + col] = alpha * sum1 + beta * y1[offsety1 + col];
+          y2[offsety2 + col] = alpha * sum2 + beta * y2[offsety2 + col];
+        } else {
+          y1[offsety1 + col] = alpha * sum1;
+          y2[offsety2 + col] = alpha * sum2;
+        }
       }
     } else {
-      super.drotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+      super.sgemv2T(m, n, alpha, a, offseta, lda, x1, offsetx1, incx1, x2, offsetx2, incx2, beta, y1, offsety1, incy1, y2, offsety2, incy2);
     }
   }
 
-  protected void srotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float c, float s) {
-    if (incx == 1 && incy == 1) {
-      int i = 0;
-      FloatVector vc = FloatVector.broadcast(FMAX, c);
-      FloatVector vs = FloatVector.broadcast(FMAX, s);
-      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
-        FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + i);
-        FloatVector vy0 = FloatVector.fromArray(FMAX, y, offsety + i);
-        vc.fma(vx0, vs.mul(vy0))
-          .intoArray(x, offsetx + i);
-        vc.mul(vy0).sub(vs.mul(vx0))
-          .intoArray(y, offsety + i);
+  protected void dgbmvN(int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (incy == 1) {
+      if (beta != 1.0) {
+        for (int i = 0, iy = incy < 0 ? (m - 1) * -incy : 0; i < m; i += 1, iy += incy) {
+          if (beta != 0.0) {
+            y[offsety + iy] = beta * y[offsety + iy];
+          } else {
+            y[offsety + iy] = 0.0;
+          }
+        }
       }
-      for (; i < n; i += 1) {
-        float x0 = x[offsetx + i];
-        float y0 = y[offsety + i];
-        x[offsetx + i] = c * x0 + s * y0;
-        y[offsety + i] = c * y0 - s * x0;
+      int kx = incx < 0 ? (n - 1) * -incx : 0;
+      for (int col = 0; col < n; col += 1) {
+        double alphax = alpha * x[offsetx + kx + col * incx];
+        int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+        int acol = offseta + ku - col + col * lda;
+        int row = rows;
+        DoubleVector valphax = DoubleVector.broadcast(DMAX, alphax);
+        for (; row < rows + DMAX.loopBound(rowe - rows); row += DMAX.length()) {
+          DoubleVector va = DoubleVector.fromArray(DMAX, a, acol + row);
+          DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+          valphax.fma(va, vy).intoArray(y, offsety + row);
+        }
+        for (; row < rowe; row += 1) {
+          y[offsety + row] += alphax * a[acol + row];
+        }
       }
     } else {
-      super.srotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+      super.dgbmvN(m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
     }
   }
 
-  protected void dscalK(int n, double alpha, double[] x, int offsetx, int incx) {
+  protected void dgbmvT(int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
     if (incx == 1) {
-      int i = 0;
-      DoubleVector valpha = DoubleVector.broadcast(DMAX, alpha);
-      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
-        DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
-        valpha.mul(vx0)
-          .intoArray(x, offsetx + i);
-      }
-      for (; i < n; i += 1) {
-        x[offsetx + i] *= alpha;
+      int ky = incy < 0 ? (n - 1) * -incy : 0;
+      for (int col = 0, iy = ky; col < n; col += 1, iy += incy) {
+        int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+        int acol = offseta + ku - col + col * lda;
+        int row = rows;
+        DoubleVector vsum = DoubleVector.zero(DMAX);
+        for (; row < rows + DMAX.loopBound(rowe - rows); row += DMAX.length()) {
+          DoubleVector va = DoubleVector.fromArray(DMAX, a, acol + row);
+          DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          vsum = va.fma(vx, vsum);
+        }
+        double sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; row < rowe; row += 1) {
+          sum += a[acol + row] * x[offsetx + row];
+        }
+        if (beta != 0.0) {
+          y[offsety + iy] = alpha * sum + beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = alpha * sum;
+        }
       }
     } else {
-      super.dscalK(n, alpha, x, offsetx, incx);
+      super.dgbmvT(m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
     }
   }
 
-  protected void sscalK(int n, float alpha, float[] x, int offsetx, int incx) {
-    if (incx == 1) {
-      int i = 0;
-      FloatVector valpha = FloatVector.broadcast(FMAX, alpha);
-      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
-        FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + i);
-        valpha.mul(vx0)
-          .intoArray(x, offsetx + i);
+  protected void dsbmvU(int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      if (beta != 1.0) {
+        for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+          if (beta != 0.0) {
+            y[offsety + iy] = beta * y[offsety + iy];
+          } else {
+            y[offsety + iy] = 0.0;
+          }
+        }
       }
-      for (; i < n; i += 1) {
-        x[offsetx + i] *= alpha;
+      for (int col = 0; col < n; col += 1) {
+        double alphaxcol = alpha * x[offsetx + col];
+        int rows = Math.max(0, col - k), rowe = col;
+        int acol = offseta + k - col + col * lda;
+        int row = rows;
+        DoubleVector valphaxcol = DoubleVector.broadcast(DMAX, alphaxcol);
+        DoubleVector vsum = DoubleVector.zero(DMAX);
+        for (; row < rows + DMAX.loopBound(rowe - rows); row += DMAX.length()) {
+          DoubleVector va = DoubleVector.fromArray(DMAX, a, acol + row);
+          DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+          valphaxcol.fma(va, vy).intoArray(y, offsety + row);
+          vsum = va.fma(vx, vsum);
+        }
+        double sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; row < rowe; row += 1) {
+          double arow = a[acol + row];
+          y[offsety + row] += alphaxcol * arow;
+          sum += arow * x[offsetx + row];
+        }
+        y[offsety + col] += alphaxcol * a[acol + col] + alpha * sum;
       }
     } else {
-      super.sscalK(n, alpha, x, offsetx, incx);
+      super.dsbmvU(n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
     }
   }
 
-  protected void dspmvU(int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+  protected void dsbmvL(int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
     if (incx == 1 && incy == 1) {
-      int col = 0;
-      for (; col < loopBound(n, 4); col += 4) {
-        int row = 0;
-        DoubleVector valphax0 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 0)]);
-        DoubleVector valphax1 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 1)]);
-        DoubleVector valphax2 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 2)]);
-        DoubleVector valphax3 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 3)]);
-        DoubleVector vsum0 = DoubleVector.zero(DMAX);
-        DoubleVector vsum1 = DoubleVector.zero(DMAX);
-        DoubleVector vsum2 = DoubleVector.zero(DMAX);
-        DoubleVector vsum3 = DoubleVector.zero(DMAX);
-        for (; row < DMAX.loopBound(col); row += DMAX.length()) {
-          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * ((col + 0) + 1) / 2);
-          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 1) * ((col + 1) + 1) / 2);
-          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 2) * ((col + 2) + 1) / 2);
-          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 3) * ((col + 3) + 1) / 2);
-          DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + row);
-          valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy0))))
-            .intoArray(y, offsety + row);
-          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + row);
-          vsum0 = vx0.fma(va0, vsum0);
-          vsum1 = vx0.fma(va1, vsum1);
-          vsum2 = vx0.fma(va2, vsum2);
-          vsum3 = vx0.fma(va3, vsum3);
+      if (beta != 1.0) {
+        for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+          if (beta != 0.0) {
+            y[offsety + iy] = beta * y[offsety + iy];
+          } else {
+            y[offsety + iy] = 0.0;
+          }
         }
-        double alphax0 = alpha * x[offsetx + (col + 0)];
-        double alphax1 = alpha * x[offsetx + (col + 1)];
-        double alphax2 = alpha * x[offsetx + (col + 2)];
-        double alphax3 = alpha * x[offsetx + (col + 3)];
-        double sum0 = vsum0.reduceLanes(VectorOperators.ADD);
-        double sum1 = vsum1.reduceLanes(VectorOperators.ADD);
-        double sum2 = vsum2.reduceLanes(VectorOperators.ADD);
-        double sum3 = vsum3.reduceLanes(VectorOperators.ADD);
-        for (; row < col; row += 1) {
-          double a0 = a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
-          double a1 = a[offseta + row + (col + 1) * ((col + 1) + 1) / 2];
-          double a2 = a[offseta + row + (col + 2) * ((col + 2) + 1) / 2];
-          double a3 = a[offseta + row + (col + 3) * ((col + 3) + 1) / 2];
-          y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
-          double x0 = x[offsetx + row];
-          sum0 += x0 * a0;
-          sum1 += x0 * a1;
-          sum2 += x0 * a2;
-          sum3 += x0 * a3;
+      }
+      for (int col = 0; col < n; col += 1) {
+        double alphaxcol = alpha * x[offsetx + col];
+        int rows = col + 1, rowe = Math.min(n, col + k + 1);
+        int acol = offseta - col + col * lda;
+        int row = rows;
+        DoubleVector valphaxcol = DoubleVector.broadcast(DMAX, alphaxcol);
+        DoubleVector vsum = DoubleVector.zero(DMAX);
+        for (; row < rows + DMAX.loopBound(rowe - rows); row += DMAX.length()) {
+          DoubleVector va = DoubleVector.fromArray(DMAX, a, acol + row);
+          DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          DoubleVector vy = DoubleVector.fromArray(DMAX, y, offsety + row);
+          valphaxcol.fma(va, vy).intoArray(y, offsety + row);
+          vsum = va.fma(vx, vsum);
         }
-        double a00 = a[offseta + (row + 0) + (col + 0) * ((col + 0) + 1) / 2];
-        double a01 = a[offseta + (row + 0) + (col + 1) * ((col + 1) + 1) / 2];
-        double a02 = a[offseta + (row + 0) + (col + 2) * ((col + 2) + 1) / 2];
-        double a03 = a[offseta + (row + 0) + (col + 3) * ((col + 3) + 1) / 2];
-        double a11 = a[offseta + (row + 1) + (col + 1) * ((col + 1) + 1) / 2];
-        double a12 = a[offseta + (row + 1) + (col + 2) * ((col + 2) + 1) / 2];
-        double a13 = a[offseta + (row + 1) + (col + 3) * ((col + 3) + 1) / 2];
-        double a22 = a[offseta + (row + 2) + (col + 2) * ((col + 2) + 1) / 2];
-        double a23 = a[offseta + (row + 2) + (col + 3) * ((col + 3) + 1) / 2];
-        double a33 = a[offseta + (row + 3) + (col + 3) * ((col + 3) + 1) / 2];
-        double x0 = x[offsetx + (row + 0)];
-        double x1 = x[offsetx + (row + 1)];
-        double x2 = x[offsetx + (row + 2)];
-        double x3 = x[offsetx + (row + 3)];
-        sum0 += x0 * a00 + x1 * a01 + x2 * a02 + x3 * a03;
-        sum1 += x0 * a01 + x1 * a11 + x2 * a12 + x3 * a13;
-        sum2 += x0 * a02 + x1 * a12 + x2 * a22 + x3 * a23;
-        sum3 += x0 * a03 + x1 * a13 + x2 * a23 + x3 * a33;
-        if (beta != 0.0) {
-          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
-          y[offsety + (col + 1)] = alpha * sum1 + beta * y[offsety + (col + 1)];
-          y[offsety + (col + 2)] = alpha * sum2 + beta * y[offsety + (col + 2)];
-          y[offsety + (col + 3)] = alpha * sum3 + beta * y[offsety + (col + 3)];
-        } else {
-          y[offsety + (col + 0)] = alpha * sum0;
-          y[offsety + (col + 1)] = alpha * sum1;
-          y[offsety + (col + 2)] = alpha * sum2;
-          y[offsety + (col + 3)] = alpha * sum3;
+        double sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; row < rowe; row += 1) {
+          double arow = a[acol + row];
+          y[offsety + row] += alphaxcol * arow;
+          sum += arow * x[offsetx + row];
         }
+        y[offsety + col] += alphaxcol * a[acol + col] + alpha * sum;
       }
-      for (; col < n; col += 1) {
-        int row = 0;
-        double alphax0 = alpha * x[offsetx + (col + 0)];
-        double sum0 = 0.0;
-        for (; row < col; row += 1) {
-          double a0 = a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
-          y[offsety + row] += alphax0 * a0;
-          sum0 += x[offsetx + row] * a0;
+    } else {
+      super.dsbmvL(n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected void sgbmvN(int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (incy == 1) {
+      if (beta != 1.0f) {
+        for (int i = 0, iy = incy < 0 ? (m - 1) * -incy : 0; i < m; i += 1, iy += incy) {
+          if (beta != 0.0f) {
+            y[offsety + iy] = beta * y[offsety + iy];
+          } else {
+            y[offsety + iy] = 0.0f;
+          }
         }
-        sum0 += x[offsetx + row] * a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
-        if (beta != 0.0) {
-          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
-        } else {
-          y[offsety + (col + 0)] = alpha * sum0;
+      }
+      int kx = incx < 0 ? (n - 1) * -incx : 0;
+      for (int col = 0; col < n; col += 1) {
+        float alphax = alpha * x[offsetx + kx + col * incx];
+        int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+        int acol = offseta + ku - col + col * lda;
+        int row = rows;
+        FloatVector valphax = FloatVector.broadcast(FMAX, alphax);
+        for (; row < rows + FMAX.loopBound(rowe - rows); row += FMAX.length()) {
+          FloatVector va = FloatVector.fromArray(FMAX, a, acol + row);
+          FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+          valphax.fma(va, vy).intoArray(y, offsety + row);
+        }
+        for (; row < rowe; row += 1) {
+          y[offsety + row] += alphax * a[acol + row];
         }
       }
     } else {
-      super.dspmvU(n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+      super.sgbmvN(m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
     }
   }
 
-
-  protected void sspmvU(int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
-    if (incx == 1 && incy == 1) {
-      int col = 0;
-      for (; col < loopBound(n, 4); col += 4) {
+  protected void sgbmvT(int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (incx == 1) {
+      int ky = incy < 0 ? (n - 1) * -incy : 0;
+      for (int col = 0, iy = ky; col < n; col += 1, iy += incy) {
+        int rows = Math.max(0, col - ku), rowe = Math.max(rows, Math.min(m, col + kl + 1));
+        int acol = offseta + ku - col + col * lda;
+        int row = rows;
+        FloatVector vsum = FloatVector.zero(FMAX);
+        for (; row < rows + FMAX.loopBound(rowe - rows); row += FMAX.length()) {
+          FloatVector va = FloatVector.fromArray(FMAX, a, acol + row);
+          FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+          vsum = va.fma(vx, vsum);
+        }
+        float sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; row < rowe; row += 1) {
+          sum += a[acol + row] * x[offsetx + row];
+        }
+        if (beta != 0.0f) {
+          y[offsety + iy] = alpha * sum + beta * y[offsety + iy];
+        } else {
+          y[offsety + iy] = alpha * sum;
+        }
+      }
+    } else {
+      super.sgbmvT(m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected void ssbmvU(int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      if (beta != 1.0f) {
+        for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+          if (beta != 0.0f) {
+            y[offsety + iy] = beta * y[offsety + iy];
+          } else {
+            y[offsety + iy] = 0.0f;
+          }
+        }
+      }
+      for (int col = 0; col < n; col += 1) {
+        float alphaxcol = alpha * x[offsetx + col];
+        int rows = Math.max(0, col - k), rowe = col;
+        int acol = offseta + k - col + col * lda;
+        int row = rows;
+        FloatVector valphaxcol = FloatVector.broadcast(FMAX, alphaxcol);
+        FloatVector vsum = FloatVector.zero(FMAX);
+        for (; row < rows + FMAX.loopBound(rowe - rows); row += FMAX.length()) {
+          FloatVector va = FloatVector.fromArray(FMAX, a, acol + row);
+          FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+          FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+          valphaxcol.fma(va, vy).intoArray(y, offsety + row);
+          vsum = va.fma(vx, vsum);
+        }
+        float sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; row < rowe; row += 1) {
+          float arow = a[acol + row];
+          y[offsety + row] += alphaxcol * arow;
+          sum += arow * x[offsetx + row];
+        }
+        y[offsety + col] += alphaxcol * a[acol + col] + alpha * sum;
+      }
+    } else {
+      super.ssbmvU(n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected void ssbmvL(int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      if (beta != 1.0f) {
+        for (int i = 0, iy = incy < 0 ? (n - 1) * -incy : 0; i < n; i += 1, iy += incy) {
+          if (beta != 0.0f) {
+            y[offsety + iy] = beta * y[offsety + iy];
+          } else {
+            y[offsety + iy] = 0.0f;
+          }
+        }
+      }
+      for (int col = 0; col < n; col += 1) {
+        float alphaxcol = alpha * x[offsetx + col];
+        int rows = col + 1, rowe = Math.min(n, col + k + 1);
+        int acol = offseta - col + col * lda;
+        int row = rows;
+        FloatVector valphaxcol = FloatVector.broadcast(FMAX, alphaxcol);
+        FloatVector vsum = FloatVector.zero(FMAX);
+        for (; row < rows + FMAX.loopBound(rowe - rows); row += FMAX.length()) {
+          FloatVector va = FloatVector.fromArray(FMAX, a, acol + row);
+          FloatVector vx = FloatVector.fromArray(FMAX, x, offsetx + row);
+          FloatVector vy = FloatVector.fromArray(FMAX, y, offsety + row);
+          valphaxcol.fma(va, vy).intoArray(y, offsety + row);
+          vsum = va.fma(vx, vsum);
+        }
+        float sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; row < rowe; row += 1) {
+          float arow = a[acol + row];
+          y[offsety + row] += alphaxcol * arow;
+          sum += arow * x[offsetx + row];
+        }
+        y[offsety + col] += alphaxcol * a[acol + col] + alpha * sum;
+      }
+    } else {
+      super.ssbmvL(n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    if (incx == 1 && incy == 1) {
+      int col = 0;
+      for (; col < loopBound(n, 4); col += 4) {
+        int row = 0;
+        DoubleVector valphay0 = DoubleVector.broadcast(DMAX, alpha * y[offsety + (col + 0)]);
+        DoubleVector valphay1 = DoubleVector.broadcast(DMAX, alpha * y[offsety + (col + 1)]);
+        DoubleVector valphay2 = DoubleVector.broadcast(DMAX, alpha * y[offsety + (col + 2)]);
+        DoubleVector valphay3 = DoubleVector.broadcast(DMAX, alpha * y[offsety + (col + 3)]);
+        for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * lda);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 1) * lda);
+          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 2) * lda);
+          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 3) * lda);
+          valphay0.fma(vx0, va0)
+            .intoArray(a, offseta + row + (col + 0) * lda);
+          valphay1.fma(vx0, va1)
+            .intoArray(a, offseta + row + (col + 1) * lda);
+          valphay2.fma(vx0, va2)
+            .intoArray(a, offseta + row + (col + 2) * lda);
+          valphay3.fma(vx0, va3)
+            .intoArray(a, offseta + row + (col + 3) * lda);
+        }
+        double alphay0 = alpha * y[offsety + (col + 0)];
+        double alphay1 = alpha * y[offsety + (col + 1)];
+        double alphay2 = alpha * y[offsety + (col + 2)];
+        double alphay3 = alpha * y[offsety + (col + 3)];
+        for (; row < m; row += 1) {
+          double x0 = x[offsetx + row];
+          a[offseta + row + (col + 0) * lda] += alphay0 * x0;
+          a[offseta + row + (col + 1) * lda] += alphay1 * x0;
+          a[offseta + row + (col + 2) * lda] += alphay2 * x0;
+          a[offseta + row + (col + 3) * lda] += alphay3 * x0;
+        }
+      }
+      for (; col < n; col += 1) {
+        int row = 0;
+        DoubleVector valphay0 = DoubleVector.broadcast(DMAX, alpha * y[offsety + (col + 0)]);
+        for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * lda);
+          valphay0.fma(vx0, va0)
+            .intoArray(a, offseta + row + (col + 0) * lda);
+        }
+        double alphay0 = alpha * y[offsety + col];
+        for (; row < m; row += 1) {
+          double x0 = x[offsetx + row];
+          a[offseta + row + col * lda] += alphay0 * x0;
+        }
+      }
+    } else {
+      super.dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  protected void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    if (incx == 1 && incy == 1) {
+      int col = 0;
+      for (; col < loopBound(n, 4); col += 4) {
+        int row = 0;
+        FloatVector valphay0 = FloatVector.broadcast(FMAX, alpha * y[offsety + (col + 0)]);
+        FloatVector valphay1 = FloatVector.broadcast(FMAX, alpha * y[offsety + (col + 1)]);
+        FloatVector valphay2 = FloatVector.broadcast(FMAX, alpha * y[offsety + (col + 2)]);
+        FloatVector valphay3 = FloatVector.broadcast(FMAX, alpha * y[offsety + (col + 3)]);
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + row);
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 1) * lda);
+          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 2) * lda);
+          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 3) * lda);
+          valphay0.fma(vx0, va0)
+            .intoArray(a, offseta + row + (col + 0) * lda);
+          valphay1.fma(vx0, va1)
+            .intoArray(a, offseta + row + (col + 1) * lda);
+          valphay2.fma(vx0, va2)
+            .intoArray(a, offseta + row + (col + 2) * lda);
+          valphay3.fma(vx0, va3)
+            .intoArray(a, offseta + row + (col + 3) * lda);
+        }
+        float alphay0 = alpha * y[offsety + (col + 0)];
+        float alphay1 = alpha * y[offsety + (col + 1)];
+        float alphay2 = alpha * y[offsety + (col + 2)];
+        float alphay3 = alpha * y[offsety + (col + 3)];
+        for (; row < m; row += 1) {
+          float x0 = x[offsetx + row];
+          a[offseta + row + (col + 0) * lda] += alphay0 * x0;
+          a[offseta + row + (col + 1) * lda] += alphay1 * x0;
+          a[offseta + row + (col + 2) * lda] += alphay2 * x0;
+          a[offseta + row + (col + 3) * lda] += alphay3 * x0;
+        }
+      }
+      for (; col < n; col += 1) {
+        int row = 0;
+        FloatVector valphay0 = FloatVector.broadcast(FMAX, alpha * y[offsety + (col + 0)]);
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + row);
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
+          valphay0.fma(vx0, va0)
+            .intoArray(a, offseta + row + (col + 0) * lda);
+        }
+        float alphay0 = alpha * y[offsety + col];
+        for (; row < m; row += 1) {
+          float x0 = x[offsetx + row];
+          a[offseta + row + col * lda] += alphay0 * x0;
+        }
+      }
+    } else {
+      super.sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  protected double dnrm2K(int n, double[] x, int offsetx, int incx) {
+    if (incx == 1) {
+      int i = 0;
+      DoubleVector vsum = DoubleVector.zero(DMAX);
+      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+        DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
+        vsum = vx0.fma(vx0, vsum);
+      }
+      double sum = vsum.reduceLanes(VectorOperators.ADD);
+      for (; i < n; i += 1) {
+        double x0 = x[offsetx + i];
+        sum += x0 * x0;
+      }
+      if (dnrm2Safe(n, sum)) {
+        return Math.sqrt(sum);
+      }
+      return dnrm2Blue(n, x, offsetx, incx);
+    } else {
+      return super.dnrm2K(n, x, offsetx, incx);
+    }
+  }
+
+  protected double dnrm2Blue(int n, double[] x, int offsetx, int incx) {
+    if (incx == 1) {
+      // Branch-free: every lane goes to one of the three accumulators through a
+      // blend, as a data-dependent branch around the vectors is much slower.
+      int i = 0;
+      DoubleVector vzero = DoubleVector.zero(DMAX);
+      DoubleVector vasml = vzero;
+      DoubleVector vamed = vzero;
+      DoubleVector vabig = vzero;
+      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+        DoubleVector vx = DoubleVector.fromArray(DMAX, x, offsetx + i);
+        DoubleVector vax = vx.abs();
+        VectorMask<Double> vbig = vax.compare(VectorOperators.GT, DTBIG);
+        VectorMask<Double> vsml = vax.compare(VectorOperators.LT, DTSML);
+        DoubleVector vxbig = vax.mul(DSBIG).blend(vzero, vbig.not());
+        DoubleVector vxsml = vax.mul(DSSML).blend(vzero, vsml.not());
+        DoubleVector vxmed = vx.blend(vzero, vbig.or(vsml));
+        vabig = vxbig.fma(vxbig, vabig);
+        vasml = vxsml.fma(vxsml, vasml);
+        vamed = vxmed.fma(vxmed, vamed);
+      }
+      double asml = vasml.reduceLanes(VectorOperators.ADD);
+      double amed = vamed.reduceLanes(VectorOperators.ADD);
+      double abig = vabig.reduceLanes(VectorOperators.ADD);
+      for (; i < n; i += 1) {
+        double ax = Math.abs(x[offsetx + i]);
+        if (ax > DTBIG) {
+          ax *= DSBIG;
+          abig += ax * ax;
+        } else if (ax < DTSML) {
+          ax *= DSSML;
+          asml += ax * ax;
+        } else {
+          amed += ax * ax;
+        }
+      }
+      return dnrm2Blue(asml, amed, abig);
+    } else {
+      return super.dnrm2Blue(n, x, offsetx, incx);
+    }
+  }
+
+  protected float snrm2K(int n, float[] x, int offsetx, int incx) {
+    if (incx == 1) {
+      int i = 0;
+      FloatVector vsum = FloatVector.zero(FMAX);
+      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
+        FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + i);
+        vsum = vx0.fma(vx0, vsum);
+      }
+      float sum = vsum.reduceLanes(VectorOperators.ADD);
+      for (; i < n; i += 1) {
+        float x0 = x[offsetx + i];
+        sum += x0 * x0;
+      }
+      if (snrm2Safe(n, sum)) {
+        return (float)Math.sqrt(sum);
+      }
+      return snrm2Wide(n, x, offsetx, incx);
+    } else {
+      return super.snrm2K(n, x, offsetx, incx);
+    }
+  }
+
+  protected void drotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double c, double s) {
+    if (incx == 1 && incy == 1) {
+      int i = 0;
+      DoubleVector vc = DoubleVector.broadcast(DMAX, c);
+      DoubleVector vs = DoubleVector.broadcast(DMAX, s);
+      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+        DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
+        DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + i);
+        vc.fma(vx0, vs.mul(vy0))
+          .intoArray(x, offsetx + i);
+        vc.mul(vy0).sub(vs.mul(vx0))
+          .intoArray(y, offsety + i);
+      }
+      for (; i < n; i += 1) {
+        double x0 = x[offsetx + i];
+        double y0 = y[offsety + i]; 
+        x[offsetx + i] = c * x0 + s * y0;
+        y[offsety + i] = c * y0 - s * x0;
+      }
+    } else {
+      super.drotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+    }
+  }
+
+  protected void srotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float c, float s) {
+    if (incx == 1 && incy == 1) {
+      int i = 0;
+      FloatVector vc = FloatVector.broadcast(FMAX, c);
+      FloatVector vs = FloatVector.broadcast(FMAX, s);
+      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
+        FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + i);
+        FloatVector vy0 = FloatVector.fromArray(FMAX, y, offsety + i);
+        vc.fma(vx0, vs.mul(vy0))
+          .intoArray(x, offsetx + i);
+        vc.mul(vy0).sub(vs.mul(vx0))
+          .intoArray(y, offsety + i);
+      }
+      for (; i < n; i += 1) {
+        float x0 = x[offsetx + i];
+        float y0 = y[offsety + i];
+        x[offsetx + i] = c * x0 + s * y0;
+        y[offsety + i] = c * y0 - s * x0;
+      }
+    } else {
+      super.srotK(n, x, offsetx, incx, y, offsety, incy, c, s);
+    }
+  }
+
+  protected void drotmK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] param, int offsetparam) {
+    double flag = param[offsetparam];
+    if (incx == 1 && incy == 1 && flag != -2.0) {
+      // One loop per flag, which skips the products with the implicit 1.0 and -1.0 entries
+      int i = 0;
+      if (flag < 0.0) {
+        double h11 = param[offsetparam + 1], h21 = param[offsetparam + 2];
+        double h12 = param[offsetparam + 3], h22 = param[offsetparam + 4];
+        DoubleVector vh11 = DoubleVector.broadcast(DMAX, h11);
+        DoubleVector vh21 = DoubleVector.broadcast(DMAX, h21);
+        DoubleVector vh12 = DoubleVector.broadcast(DMAX, h12);
+        DoubleVector vh22 = DoubleVector.broadcast(DMAX, h22);
+        for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
+          DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + i);
+          vx0.fma(vh11, vy0.mul(vh12))
+            .intoArray(x, offsetx + i);
+          vx0.fma(vh21, vy0.mul(vh22))
+            .intoArray(y, offsety + i);
+        }
+        for (; i < n; i += 1) {
+          double x0 = x[offsetx + i];
+          double y0 = y[offsety + i];
+          x[offsetx + i] = x0 * h11 + y0 * h12;
+          y[offsety + i] = x0 * h21 + y0 * h22;
+        }
+      } else if (flag == 0.0) {
+        double h21 = param[offsetparam + 2], h12 = param[offsetparam + 3];
+        DoubleVector vh21 = DoubleVector.broadcast(DMAX, h21);
+        DoubleVector vh12 = DoubleVector.broadcast(DMAX, h12);
+        for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
+          DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + i);
+          vy0.fma(vh12, vx0)
+            .intoArray(x, offsetx + i);
+          vx0.fma(vh21, vy0)
+            .intoArray(y, offsety + i);
+        }
+        for (; i < n; i += 1) {
+          double x0 = x[offsetx + i];
+          double y0 = y[offsety + i];
+          x[offsetx + i] = x0 + y0 * h12;
+          y[offsety + i] = x0 * h21 + y0;
+        }
+      } else {
+        double h11 = param[offsetparam + 1], h22 = param[offsetparam + 4];
+        DoubleVector vh11 = DoubleVector.broadcast(DMAX, h11);
+        DoubleVector vh22 = DoubleVector.broadcast(DMAX, h22);
+        for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
+          DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + i);
+          vx0.fma(vh11, vy0)
+            .intoArray(x, offsetx + i);
+          vy0.fma(vh22, vx0.neg())
+            .intoArray(y, offsety + i);
+        }
+        for (; i < n; i += 1) {
+          double x0 = x[offsetx + i];
+          double y0 = y[offsety + i];
+          x[offsetx + i] = x0 * h11 + y0;
+          y[offsety + i] = y0 * h22 - x0;
+        }
+      }
+    } else {
+      super.drotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+    }
+  }
+
+  protected void srotmK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] param, int offsetparam) {
+    float flag = param[offsetparam];
+    if (incx == 1 && incy == 1 && flag != -2.0f) {
+      // One loop per flag, which skips the products with the implicit 1.0f and -1.0f entries
+      int i = 0;
+      if (flag < 0.0f) {
+        float h11 = param[offsetparam + 1], h21 = param[offsetparam + 2];
+        float h12 = param[offsetparam + 3], h22 = param[offsetparam + 4];
+        FloatVector vh11 = FloatVector.broadcast(FMAX, h11);
+        FloatVector vh21 = FloatVector.broadcast(FMAX, h21);
+        FloatVector vh12 = FloatVector.broadcast(FMAX, h12);
+        FloatVector vh22 = FloatVector.broadcast(FMAX, h22);
+        for (; i < FMAX.loopBound(n); i += FMAX.length()) {
+          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + i);
+          FloatVector vy0 = FloatVector.fromArray(FMAX, y, offsety + i);
+          vx0.fma(vh11, vy0.mul(vh12))
+            .intoArray(x, offsetx + i);
+          vx0.fma(vh21, vy0.mul(vh22))
+            .intoArray(y, offsety + i);
+        }
+        for (; i < n; i += 1) {
+          float x0 = x[offsetx + i];
+          float y0 = y[offsety + i];
+          x[offsetx + i] = x0 * h11 + y0 * h12;
+          y[offsety + i] = x0 * h21 + y0 * h22;
+        }
+      } else if (flag == 0.0f) {
+        float h21 = param[offsetparam + 2], h12 = param[offsetparam + 3];
+        FloatVector vh21 = FloatVector.broadcast(FMAX, h21);
+        FloatVector vh12 = FloatVector.broadcast(FMAX, h12);
+        for (; i < FMAX.loopBound(n); i += FMAX.length()) {
+          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + i);
+          FloatVector vy0 = FloatVector.fromArray(FMAX, y, offsety + i);
+          vy0.fma(vh12, vx0)
+            .intoArray(x, offsetx + i);
+          vx0.fma(vh21, vy0)
+            .intoArray(y, offsety + i);
+        }
+        for (; i < n; i += 1) {
+          float x0 = x[offsetx + i];
+          float y0 = y[offsety + i];
+          x[offsetx + i] = x0 + y0 * h12;
+          y[offsety + i] = x0 * h21 + y0;
+        }
+      } else {
+        float h11 = param[offsetparam + 1], h22 = param[offsetparam + 4];
+        FloatVector vh11 = FloatVector.broadcast(FMAX, h11);
+        FloatVector vh22 = FloatVector.broadcast(FMAX, h22);
+        for (; i < FMAX.loopBound(n); i += FMAX.length()) {
+          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + i);
+          FloatVector vy0 = FloatVector.fromArray(FMAX, y, offsety + i);
+          vx0.fma(vh11, vy0)
+            .intoArray(x, offsetx + i);
+          vy0.fma(vh22, vx0.neg())
+            .intoArray(y, offsety + i);
+        }
+        for (; i < n; i += 1) {
+          float x0 = x[offsetx + i];
+          float y0 = y[offsety + i];
+          x[offsetx + i] = x0 * h11 + y0;
+          y[offsety + i] = y0 * h22 - x0;
+        }
+      }
+    } else {
+      super.srotmK(n, x, offsetx, incx, y, offsety, incy, param, offsetparam);
+    }
+  }
+
+  protected void dscalK(int n, double alpha, double[] x, int offsetx, int incx) {
+    if (incx == 1) {
+      int i = 0;
+      DoubleVector valpha = DoubleVector.broadcast(DMAX, alpha);
+      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+        DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
+        valpha.mul(vx0)
+          .intoArray(x, offsetx + i);
+      }
+      for (; i < n; i += 1) {
+        x[offsetx + i] *= alpha;
+      }
+    } else {
+      super.dscalK(n, alpha, x, offsetx, incx);
+    }
+  }
+
+  protected void sscalK(int n, float alpha, float[] x, int offsetx, int incx) {
+    if (incx == 1) {
+      int i = 0;
+      FloatVector valpha = FloatVector.broadcast(FMAX, alpha);
+      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
+        FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + i);
+        valpha.mul(vx0)
+          .intoArray(x, offsetx + i);
+      }
+      for (; i < n; i += 1) {
+        x[offsetx + i] *= alpha;
+      }
+    } else {
+      super.sscalK(n, alpha, x, offsetx, incx);
+    }
+  }
+
+  protected void dspmvU(int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      int col = 0;
+      for (; col < loopBound(n, 4); col += 4) {
+        int row = 0;
+        DoubleVector valphax0 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 0)]);
+        DoubleVector valphax1 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 1)]);
+        DoubleVector valphax2 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 2)]);
+        DoubleVector valphax3 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 3)]);
+        DoubleVector vsum0 = DoubleVector.zero(DMAX);
+        DoubleVector vsum1 = DoubleVector.zero(DMAX);
+        DoubleVector vsum2 = DoubleVector.zero(DMAX);
+        DoubleVector vsum3 = DoubleVector.zero(DMAX);
+        for (; row < DMAX.loopBound(col); row += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * ((col + 0) + 1) / 2);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 1) * ((col + 1) + 1) / 2);
+          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 2) * ((col + 2) + 1) / 2);
+          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 3) * ((col + 3) + 1) / 2);
+          DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + row);
+          valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy0))))
+            .intoArray(y, offsety + row);
+          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          vsum0 = vx0.fma(va0, vsum0);
+          vsum1 = vx0.fma(va1, vsum1);
+          vsum2 = vx0.fma(va2, vsum2);
+          vsum3 = vx0.fma(va3, vsum3);
+        }
+        double alphax0 = alpha * x[offsetx + (col + 0)];
+        double alphax1 = alpha * x[offsetx + (col + 1)];
+        double alphax2 = alpha * x[offsetx + (col + 2)];
+        double alphax3 = alpha * x[offsetx + (col + 3)];
+        double sum0 = vsum0.reduceLanes(VectorOperators.ADD);
+        double sum1 = vsum1.reduceLanes(VectorOperators.ADD);
+        double sum2 = vsum2.reduceLanes(VectorOperators.ADD);
+        double sum3 = vsum3.reduceLanes(VectorOperators.ADD);
+        for (; row < col; row += 1) {
+          double a0 = a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
+          double a1 = a[offseta + row + (col + 1) * ((col + 1) + 1) / 2];
+          double a2 = a[offseta + row + (col + 2) * ((col + 2) + 1) / 2];
+          double a3 = a[offseta + row + (col + 3) * ((col + 3) + 1) / 2];
+          y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
+          double x0 = x[offsetx + row];
+          sum0 += x0 * a0;
+          sum1 += x0 * a1;
+          sum2 += x0 * a2;
+          sum3 += x0 * a3;
+        }
+        double a00 = a[offseta + (row + 0) + (col + 0) * ((col + 0) + 1) / 2];
+        double a01 = a[offseta + (row + 0) + (col + 1) * ((col + 1) + 1) / 2];
+        double a02 = a[offseta + (row + 0) + (col + 2) * ((col + 2) + 1) / 2];
+        double a03 = a[offseta + (row + 0) + (col + 3) * ((col + 3) + 1) / 2];
+        double a11 = a[offseta + (row + 1) + (col + 1) * ((col + 1) + 1) / 2];
+        double a12 = a[offseta + (row + 1) + (col + 2) * ((col + 2) + 1) / 2];
+        double a13 = a[offseta + (row + 1) + (col + 3) * ((col + 3) + 1) / 2];
+        double a22 = a[offseta + (row + 2) + (col + 2) * ((col + 2) + 1) / 2];
+        double a23 = a[offseta + (row + 2) + (col + 3) * ((col + 3) + 1) / 2];
+        double a33 = a[offseta + (row + 3) + (col + 3) * ((col + 3) + 1) / 2];
+        double x0 = x[offsetx + (row + 0)];
+        double x1 = x[offsetx + (row + 1)];
+        double x2 = x[offsetx + (row + 2)];
+        double x3 = x[offsetx + (row + 3)];
+        sum0 += x0 * a00 + x1 * a01 + x2 * a02 + x3 * a03;
+        sum1 += x0 * a01 + x1 * a11 + x2 * a12 + x3 * a13;
+        sum2 += x0 * a02 + x1 * a12 + x2 * a22 + x3 * a23;
+        sum3 += x0 * a03 + x1 * a13 + x2 * a23 + x3 * a33;
+        if (beta != 0.0) {
+          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
+          y[offsety + (col + 1)] = alpha * sum1 + beta * y[offsety + (col + 1)];
+          y[offsety + (col + 2)] = alpha * sum2 + beta * y[offsety + (col + 2)];
+          y[offsety + (col + 3)] = alpha * sum3 + beta * y[offsety + (col + 3)];
+        } else {
+          y[offsety + (col + 0)] = alpha * sum0;
+          y[offsety + (col + 1)] = alpha * sum1;
+          y[offsety + (col + 2)] = alpha * sum2;
+          y[offsety + (col + 3)] = alpha * sum3;
+        }
+      }
+      for (; col < n; col += 1) {
+        int row = 0;
+        double alphax0 = alpha * x[offsetx + (col + 0)];
+        double sum0 = 0.0;
+        for (; row < col; row += 1) {
+          double a0 = a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
+          y[offsety + row] += alphax0 * a0;
+          sum0 += x[offsetx + row] * a0;
+        }
+        sum0 += x[offsetx + row] * a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
+        if (beta != 0.0) {
+          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
+        } else {
+          y[offsety + (col + 0)] = alpha * sum0;
+        }
+      }
+    } else {
+      super.dspmvU(n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+
+  protected void sspmvU(int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      int col = 0;
+      for (; col < loopBound(n, 4); col += 4) {
+        int row = 0;
+        FloatVector valphax0 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 0)]);
+        FloatVector valphax1 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 1)]);
+        FloatVector valphax2 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 2)]);
+        FloatVector valphax3 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 3)]);
+        FloatVector vsum0 = FloatVector.zero(FMAX);
+        FloatVector vsum1 = FloatVector.zero(FMAX);
+        FloatVector vsum2 = FloatVector.zero(FMAX);
+        FloatVector vsum3 = FloatVector.zero(FMAX);
+        for (; row < FMAX.loopBound(col); row += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * ((col + 0) + 1) / 2);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 1) * ((col + 1) + 1) / 2);
+          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 2) * ((col + 2) + 1) / 2);
+          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 3) * ((col + 3) + 1) / 2);
+          FloatVector vy0 = FloatVector.fromArray(FMAX, y, offsety + row);
+          valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy0))))
+            .intoArray(y, offsety + row);
+          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + row);
+          vsum0 = vx0.fma(va0, vsum0);
+          vsum1 = vx0.fma(va1, vsum1);
+          vsum2 = vx0.fma(va2, vsum2);
+          vsum3 = vx0.fma(va3, vsum3);
+        }
+        float alphax0 = alpha * x[offsetx + (col + 0)];
+        float alphax1 = alpha * x[offsetx + (col + 1)];
+        float alphax2 = alpha * x[offsetx + (col + 2)];
+        float alphax3 = alpha * x[offsetx + (col + 3)];
+        float sum0 = vsum0.reduceLanes(VectorOperators.ADD);
+        float sum1 = vsum1.reduceLanes(VectorOperators.ADD);
+        float sum2 = vsum2.reduceLanes(VectorOperators.ADD);
+        float sum3 = vsum3.reduceLanes(VectorOperators.ADD);
+        for (; row < col; row += 1) {
+          float a0 = a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
+          float a1 = a[offseta + row + (col + 1) * ((col + 1) + 1) / 2];
+          float a2 = a[offseta + row + (col + 2) * ((col + 2) + 1) / 2];
+          float a3 = a[offseta + row + (col + 3) * ((col + 3) + 1) / 2];
+          y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
+          float x0 = x[offsetx + row];
+          sum0 += x0 * a0;
+          sum1 += x0 * a1;
+          sum2 += x0 * a2;
+          sum3 += x0 * a3;
+        }
+        float a00 = a[offseta + (row + 0) + (col + 0) * ((col + 0) + 1) / 2];
+        float a01 = a[offseta + (row + 0) + (col + 1) * ((col + 1) + 1) / 2];
+        float a02 = a[offseta + (row + 0) + (col + 2) * ((col + 2) + 1) / 2];
+        float a03 = a[offseta + (row + 0) + (col + 3) * ((col + 3) + 1) / 2];
+        float a11 = a[offseta + (row + 1) + (col + 1) * ((col + 1) + 1) / 2];
+        float a12 = a[offseta + (row + 1) + (col + 2) * ((col + 2) + 1) / 2];
+        float a13 = a[offseta + (row + 1) + (col + 3) * ((col + 3) + 1) / 2];
+        float a22 = a[offseta + (row + 2) + (col + 2) * ((col + 2) + 1) / 2];
+        float a23 = a[offseta + (row + 2) + (col + 3) * ((col + 3) + 1) / 2];
+        float a33 = a[offseta + (row + 3) + (col + 3) * ((col + 3) + 1) / 2];
+        float x0 = x[offsetx + (row + 0)];
+        float x1 = x[offsetx + (row + 1)];
+        float x2 = x[offsetx + (row + 2)];
+        float x3 = x[offsetx + (row + 3)];
+        sum0 += x0 * a00 + x1 * a01 + x2 * a02 + x3 * a03;
+        sum1 += x0 * a01 + x1 * a11 + x2 * a12 + x3 * a13;
+        sum2 += x0 * a02 + x1 * a12 + x2 * a22 + x3 * a23;
+        sum3 += x0 * a03 + x1 * a13 + x2 * a23 + x3 * a33;
+        if (beta != 0.0f) {
+          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
+          y[offsety + (col + 1)] = alpha * sum1 + beta * y[offsety + (col + 1)];
+          y[offsety + (col + 2)] = alpha * sum2 + beta * y[offsety + (col + 2)];
+          y[offsety + (col + 3)] = alpha * sum3 + beta * y[offsety + (col + 3)];
+        } else {
+          y[offsety + (col + 0)] = alpha * sum0;
+          y[offsety + (col + 1)] = alpha * sum1;
+          y[offsety + (col + 2)] = alpha * sum2;
+          y[offsety + (col + 3)] = alpha * sum3;
+        }
+      }
+      for (; col < n; col += 1) {
+        int row = 0;
+        float alphax0 = alpha * x[offsetx + (col + 0)];
+        float sum0 = 0.0f;
+        for (; row < col; row += 1) {
+          float a0 = a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
+          y[offsety + row] += alphax0 * a0;
+          sum0 += x[offsetx + row] * a0;
+        }
+        sum0 += x[offsetx + row] * a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
+        if (beta != 0.0f) {
+          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
+        } else {
+          y[offsety + (col + 0)] = alpha * sum0;
+        }
+      }
+    } else {
+      super.sspmvU(n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      int i = 0;
+      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
+        DoubleVector x0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
+        DoubleVector y0 = DoubleVector.fromArray(DMAX, y, offsety + i);
+        x0.intoArray(y, offsety + i);
+        y0.intoArray(x, offsetx + i);
+      }
+      for (; i < n; i += 1) {
+        double x0 = x[offsetx + i];
+        double y0 = y[offsety + i];
+        y[offsety + i] = x0;
+        x[offsetx + i] = y0;
+      }
+    } else {
+      super.dswapK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  protected void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      int i = 0;
+      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
+        FloatVector x0 = FloatVector.fromArray(FMAX, x, offsetx + i);
+        FloatVector y0 = FloatVector.fromArray(FMAX, y, offsety + i);
+        x0.intoArray(y, offsety + i);
+        y0.intoArray(x, offsetx + i);
+      }
+      for (; i < n; i += 1) {
+        float x0 = x[offsetx + i];
+        float y0 = y[offsety + i];
+        y[offsety + i] = x0;
+        x[offsetx + i] = y0;
+      }
+    } else {
+      super.sswapK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  protected void dsymmLU(int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    // C := alpha*A*B + beta*C
+    int col = 0;
+    for (; col < loopBound(n, 2); col += 2) {
+      int row = 0;
+      for (; row < loopBound(m, 4); row += 4) {
+        DoubleVector vsum00 = DoubleVector.zero(DMAX);
+        DoubleVector vsum01 = DoubleVector.zero(DMAX);
+        DoubleVector vsum10 = DoubleVector.zero(DMAX);
+        DoubleVector vsum11 = DoubleVector.zero(DMAX);
+        DoubleVector vsum20 = DoubleVector.zero(DMAX);
+        DoubleVector vsum21 = DoubleVector.zero(DMAX);
+        DoubleVector vsum30 = DoubleVector.zero(DMAX);
+        DoubleVector vsum31 = DoubleVector.zero(DMAX);
+        DoubleVector valphab00 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 0) + (col + 0) * ldb]);
+        DoubleVector valphab01 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 0) + (col + 1) * ldb]);
+        DoubleVector valphab10 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 1) + (col + 0) * ldb]);
+        DoubleVector valphab11 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 1) + (col + 1) * ldb]);
+        DoubleVector valphab20 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 2) + (col + 0) * ldb]);
+        DoubleVector valphab21 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 2) + (col + 1) * ldb]);
+        DoubleVector valphab30 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 3) + (col + 0) * ldb]);
+        DoubleVector valphab31 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 3) + (col + 1) * ldb]);
+        int i = 0;
+        for (; i < DMAX.loopBound(row); i += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 0) * lda);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 1) * lda);
+          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 2) * lda);
+          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 3) * lda);
+          DoubleVector vc0 = DoubleVector.fromArray(DMAX, c, offsetc + i + (col + 0) * ldc);
+          valphab00.fma(va0, valphab10.fma(va1, valphab20.fma(va2, valphab30.fma(va3, vc0))))
+            .intoArray(c, offsetc + i + (col + 0) * ldc);
+          DoubleVector vc1 = DoubleVector.fromArray(DMAX, c, offsetc + i + (col + 1) * ldc);
+          valphab01.fma(va0, valphab11.fma(va1, valphab21.fma(va2, valphab31.fma(va3, vc1))))
+            .intoArray(c, offsetc + i + (col + 1) * ldc);
+          DoubleVector vb0 = DoubleVector.fromArray(DMAX, b, offsetb + i + (col + 0) * ldb);
+          DoubleVector vb1 = DoubleVector.fromArray(DMAX, b, offsetb + i + (col + 1) * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum01 = va0.fma(vb1, vsum01);
+          vsum10 = va1.fma(vb0, vsum10);
+          vsum11 = va1.fma(vb1, vsum11);
+          vsum20 = va2.fma(vb0, vsum20);
+          vsum21 = va2.fma(vb1, vsum21);
+          vsum30 = va3.fma(vb0, vsum30);
+          vsum31 = va3.fma(vb1, vsum31);
+        }
+        double sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        double sum01 = vsum01.reduceLanes(VectorOperators.ADD);
+        double sum10 = vsum10.reduceLanes(VectorOperators.ADD);
+        double sum11 = vsum11.reduceLanes(VectorOperators.ADD);
+        double sum20 = vsum20.reduceLanes(VectorOperators.ADD);
+        double sum21 = vsum21.reduceLanes(VectorOperators.ADD);
+        double sum30 = vsum30.reduceLanes(VectorOperators.ADD);
+        double sum31 = vsum31.reduceLanes(VectorOperators.ADD);
+        double alphab00 = alpha * b[offsetb + (row + 0) + (col + 0) * ldb];
+        double alphab01 = alpha * b[offsetb + (row + 0) + (col + 1) * ldb];
+        double alphab10 = alpha * b[offsetb + (row + 1) + (col + 0) * ldb];
+        double alphab11 = alpha * b[offsetb + (row + 1) + (col + 1) * ldb];
+        double alphab20 = alpha * b[offsetb + (row + 2) + (col + 0) * ldb];
+        double alphab21 = alpha * b[offsetb + (row + 2) + (col + 1) * ldb];
+        double alphab30 = alpha * b[offsetb + (row + 3) + (col + 0) * ldb];
+        double alphab31 = alpha * b[offsetb + (row + 3) + (col + 1) * ldb];
+        for (; i < row; i += 1) {
+          double a0 = a[offseta + i + (row + 0) * lda];
+          double a1 = a[offseta + i + (row + 1) * lda];
+          double a2 = a[offseta + i + (row + 2) * lda];
+          double a3 = a[offseta + i + (row + 3) * lda];
+          c[offsetc + i + (col + 0) * ldc] += alphab00 * a0 + alphab10 * a1 + alphab20 * a2 + alphab30 * a3;
+          c[offsetc + i + (col + 1) * ldc] += alphab01 * a0 + alphab11 * a1 + alphab21 * a2 + alphab31 * a3;
+          double b0 = b[offsetb + i + (col + 0) * ldb];
+          double b1 = b[offsetb + i + (col + 1) * ldb];
+          sum00 += a0 * b0;
+          sum01 += a0 * b1;
+          sum10 += a1 * b0;
+          sum11 += a1 * b1;
+          sum20 += a2 * b0;
+          sum21 += a2 * b1;
+          sum30 += a3 * b0;
+          sum31 += a3 * b1;
+        }
+        double a00 = a[offseta + (row + 0) + (row + 0) * lda];
+        double a01 = a[offseta + (row + 0) + (row + 1) * lda];
+        double a02 = a[offseta + (row + 0) + (row + 2) * lda];
+        double a03 = a[offseta + (row + 0) + (row + 3) * lda];
+        double a11 = a[offseta + (row + 1) + (row + 1) * lda];
+        double a12 = a[offseta + (row + 1) + (row + 2) * lda];
+        double a13 = a[offseta + (row + 1) + (row + 3) * lda];
+        double a22 = a[offseta + (row + 2) + (row + 2) * lda];
+        double a23 = a[offseta + (row + 2) + (row + 3) * lda];
+        double a33 = a[offseta + (row + 3) + (row + 3) * lda];
+        double b00 = b[offsetb + (row + 0) + (col + 0) * ldb];
+        double b01 = b[offsetb + (row + 0) + (col + 1) * ldb];
+        double b10 = b[offsetb + (row + 1) + (col + 0) * ldb];
+        double b11 = b[offsetb + (row + 1) + (col + 1) * ldb];
+        double b20 = b[offsetb + (row + 2) + (col + 0) * ldb];
+        double b21 = b[offsetb + (row + 2) + (col + 1) * ldb];
+        double b30 = b[offsetb + (row + 3) + (col + 0) * ldb];
+        double b31 = b[offsetb + (row + 3) + (col + 1) * ldb];
+        sum00 += b00 * a00 + b10 * a01 + b20 * a02 + b30 * a03;
+        sum01 += b01 * a00 + b11 * a01 + b21 * a02 + b31 * a03;
+        sum10 += b00 * a01 + b10 * a11 + b20 * a12 + b30 * a13;
+        sum11 += b01 * a01 + b11 * a11 + b21 * a12 + b31 * a13;
+        sum20 += b00 * a02 + b10 * a12 + b20 * a22 + b30 * a23;
+        sum21 += b01 * a02 + b11 * a12 + b21 * a22 + b31 * a23;
+        sum30 += b00 * a03 + b10 * a13 + b20 * a23 + b30 * a33;
+        sum31 += b01 * a03 + b11 * a13 + b21 * a23 + b31 * a33;
+        if (beta != 0.0) {
+          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00 + beta * c[offsetc + (row + 0) + (col + 0) * ldc];
+          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10 + beta * c[offsetc + (row + 1) + (col + 0) * ldc];
+          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20 + beta * c[offsetc + (row + 2) + (col + 0) * ldc];
+          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30 + beta * c[offsetc + (row + 3) + (col + 0) * ldc];
+          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01 + beta * c[offsetc + (row + 0) + (col + 1) * ldc];
+          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11 + beta * c[offsetc + (row + 1) + (col + 1) * ldc];
+          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21 + beta * c[offsetc + (row + 2) + (col + 1) * ldc];
+          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31 + beta * c[offsetc + (row + 3) + (col + 1) * ldc];
+        } else {
+          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00;
+          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10;
+          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20;
+          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30;
+          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01;
+          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11;
+          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21;
+          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31;
+        }
+      }
+      for (; row < m; row += 1) {
+        DoubleVector vsum00 = DoubleVector.zero(DMAX);
+        DoubleVector vsum01 = DoubleVector.zero(DMAX);
+        DoubleVector valphab00 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + row + (col + 0) * ldb]);
+        DoubleVector valphab01 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + row + (col + 1) * ldb]);
+        int i = 0;
+        for (; i < DMAX.loopBound(row); i += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + i + row * lda);
+          DoubleVector vc0 = DoubleVector.fromArray(DMAX, c, offsetc + i + (col + 0) * ldc);
+          valphab00.fma(va0, vc0)
+            .intoArray(c, offsetc + i + (col + 0) * ldc);
+          DoubleVector vc1 = DoubleVector.fromArray(DMAX, c, offsetc + i + (col + 1) * ldc);
+          valphab01.fma(va0, vc1)
+            .intoArray(c, offsetc + i + (col + 1) * ldc);
+          DoubleVector vb0 = DoubleVector.fromArray(DMAX, b, offsetb + i + (col + 0) * ldb);
+          DoubleVector vb1 = DoubleVector.fromArray(DMAX, b, offsetb + i + (col + 1) * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum01 = va0.fma(vb1, vsum01);
+        }
+        double sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        double sum01 = vsum01.reduceLanes(VectorOperators.ADD);
+        double alphab00 = alpha * b[offsetb + row + (col + 0) * ldb];
+        double alphab01 = alpha * b[offsetb + row + (col + 1) * ldb];
+        for (; i < row; i += 1) {
+          double a0 = a[offseta + i + row * lda];
+          c[offsetc + i + (col + 0) * ldc] += alphab00 * a0;
+          c[offsetc + i + (col + 1) * ldc] += alphab01 * a0;
+          double b0 = b[offsetb + i + (col + 0) * ldb];
+          double b1 = b[offsetb + i + (col + 1) * ldb];
+          sum00 += a0 * b0;
+          sum01 += a0 * b1;
+        }
+        double a00 = a[offseta + row + row * lda];
+        double b00 = b[offsetb + row + (col + 0) * ldb];
+        double b01 = b[offsetb + row + (col + 1) * ldb];
+        sum00 += b00 * a00;
+        sum01 += b01 * a00;
+        if (beta != 0.0) {
+          c[offsetc + row + (col + 0) * ldc] = alpha * sum00 + beta * c[offsetc + row + (col + 0) * ldc];
+          c[offsetc + row + (col + 1) * ldc] = alpha * sum01 + beta * c[offsetc + row + (col + 1) * ldc];
+        } else {
+          c[offsetc + row + (col + 0) * ldc] = alpha * sum00;
+          c[offsetc + row + (col + 1) * ldc] = alpha * sum01;
+        }
+      }
+    }
+    for (; col < n; col += 1) {
+      int row = 0;
+      for (; row < loopBound(m, 4); row += 4) {
+        DoubleVector vsum00 = DoubleVector.zero(DMAX);
+        DoubleVector vsum10 = DoubleVector.zero(DMAX);
+        DoubleVector vsum20 = DoubleVector.zero(DMAX);
+        DoubleVector vsum30 = DoubleVector.zero(DMAX);
+        DoubleVector valphab00 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 0) + col * ldb]);
+        DoubleVector valphab10 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 1) + col * ldb]);
+        DoubleVector valphab20 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 2) + col * ldb]);
+        DoubleVector valphab30 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 3) + col * ldb]);
+        int i = 0;
+        for (; i < DMAX.loopBound(row); i += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 0) * lda);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 1) * lda);
+          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 2) * lda);
+          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 3) * lda);
+          DoubleVector vc0 = DoubleVector.fromArray(DMAX, c, offsetc + i + col * ldc);
+          valphab00.fma(va0, valphab10.fma(va1, valphab20.fma(va2, valphab30.fma(va3, vc0))))
+            .intoArray(c, offsetc + i + col * ldc);
+          DoubleVector vb0 = DoubleVector.fromArray(DMAX, b, offsetb + i + col * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum10 = va1.fma(vb0, vsum10);
+          vsum20 = va2.fma(vb0, vsum20);
+          vsum30 = va3.fma(vb0, vsum30);
+        }
+        double sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        double sum10 = vsum10.reduceLanes(VectorOperators.ADD);
+        double sum20 = vsum20.reduceLanes(VectorOperators.ADD);
+        double sum30 = vsum30.reduceLanes(VectorOperators.ADD);
+        double alphab00 = alpha * b[offsetb + (row + 0) + col * ldb];
+        double alphab10 = alpha * b[offsetb + (row + 1) + col * ldb];
+        double alphab20 = alpha * b[offsetb + (row + 2) + col * ldb];
+        double alphab30 = alpha * b[offsetb + (row + 3) + col * ldb];
+        for (; i < row; i += 1) {
+          double a0 = a[offseta + i + (row + 0) * lda];
+          double a1 = a[offseta + i + (row + 1) * lda];
+          double a2 = a[offseta + i + (row + 2) * lda];
+          double a3 = a[offseta + i + (row + 3) * lda];
+          c[offsetc + i + col * ldc] += alphab00 * a0 + alphab10 * a1 + alphab20 * a2 + alphab30 * a3;
+          double b0 = b[offsetb + i + col * ldb];
+          sum00 += a0 * b0;
+          sum10 += a1 * b0;
+          sum20 += a2 * b0;
+          sum30 += a3 * b0;
+        }
+        double a00 = a[offseta + (row + 0) + (row + 0) * lda];
+        double a01 = a[offseta + (row + 0) + (row + 1) * lda];
+        double a02 = a[offseta + (row + 0) + (row + 2) * lda];
+        double a03 = a[offseta + (row + 0) + (row + 3) * lda];
+        double a11 = a[offseta + (row + 1) + (row + 1) * lda];
+        double a12 = a[offseta + (row + 1) + (row + 2) * lda];
+        double a13 = a[offseta + (row + 1) + (row + 3) * lda];
+        double a22 = a[offseta + (row + 2) + (row + 2) * lda];
+        double a23 = a[offseta + (row + 2) + (row + 3) * lda];
+        double a33 = a[offseta + (row + 3) + (row + 3) * lda];
+        double b00 = b[offsetb + (row + 0) + col * ldb];
+        double b10 = b[offsetb + (row + 1) + col * ldb];
+        double b20 = b[offsetb + (row + 2) + col * ldb];
+        double b30 = b[offsetb + (row + 3) + col * ldb];
+        sum00 += b00 * a00 + b10 * a01 + b20 * a02 + b30 * a03;
+        sum10 += b00 * a01 + b10 * a11 + b20 * a12 + b30 * a13;
+        sum20 += b00 * a02 + b10 * a12 + b20 * a22 + b30 * a23;
+        sum30 += b00 * a03 + b10 * a13 + b20 * a23 + b30 * a33;
+        if (beta != 0.0) {
+          c[offsetc + (row + 0) + col * ldc] = alpha * sum00 + beta * c[offsetc + (row + 0) + col * ldc];
+          c[offsetc + (row + 1) + col * ldc] = alpha * sum10 + beta * c[offsetc + (row + 1) + col * ldc];
+          c[offsetc + (row + 2) + col * ldc] = alpha * sum20 + beta * c[offsetc + (row + 2) + col * ldc];
+          c[offsetc + (row + 3) + col * ldc] = alpha * sum30 + beta * c[offsetc + (row + 3) + col * ldc];
+        } else {
+          c[offsetc + (row + 0) + col * ldc] = alpha * sum00;
+          c[offsetc + (row + 1) + col * ldc] = alpha * sum10;
+          c[offsetc + (row + 2) + col * ldc] = alpha * sum20;
+          c[offsetc + (row + 3) + col * ldc] = alpha * sum30;
+        }
+      }
+      for (; row < m; row += 1) {
+        DoubleVector vsum00 = DoubleVector.zero(DMAX);
+        DoubleVector valphab00 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + row + col * ldb]);
+        int i = 0;
+        for (; i < DMAX.loopBound(row); i += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + i + row * lda);
+          DoubleVector vc0 = DoubleVector.fromArray(DMAX, c, offsetc + i + col * ldc);
+          valphab00.fma(va0, vc0)
+            .intoArray(c, offsetc + i + col * ldc);
+          DoubleVector vb0 = DoubleVector.fromArray(DMAX, b, offsetb + i + col * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+        }
+        double sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        double alphab00 = alpha * b[offsetb + row + col * ldb];
+        for (; i < row; i += 1) {
+          double a0 = a[offseta + i + row * lda];
+          c[offsetc + i + col * ldc] += alphab00 * a0;
+          double b0 = b[offsetb + i + col * ldb];
+          sum00 += a0 * b0;
+        }
+        double a00 = a[offseta + row + row * lda];
+        double b00 = b[offsetb + row + col * ldb];
+        sum00 += b00 * a00;
+        if (beta != 0.0) {
+          c[offsetc + row + col * ldc] = alpha * sum00 + beta * c[offsetc + row + col * ldc];
+        } else {
+          c[offsetc + row + col * ldc] = alpha * sum00;
+        }
+      }
+    }
+  }
+
+  protected void dsymmLL(int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    // C := alpha*A*B + beta*C
+    int col = 0;
+    for (; col < loopBound(n, 2); col += 2) {
+      int row = m - 1;
+      for (; row >= loopBound(m, 4); row -= 1) {
+        DoubleVector vsum00 = DoubleVector.zero(DMAX);
+        DoubleVector vsum01 = DoubleVector.zero(DMAX);
+        DoubleVector valphab00 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + row + (col + 0) * ldb]);
+        DoubleVector valphab01 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + row + (col + 1) * ldb]);
+        int i = row + 1;
+        for (; i < row + 1 + DMAX.loopBound(m - row - 1); i += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + i + row * lda);
+          DoubleVector vc0 = DoubleVector.fromArray(DMAX, c, offsetc + i + (col + 0) * ldc);
+          valphab00.fma(va0, vc0)
+            .intoArray(c, offsetc + i + (col + 0) * ldc);
+          DoubleVector vc1 = DoubleVector.fromArray(DMAX, c, offsetc + i + (col + 1) * ldc);
+          valphab01.fma(va0, vc1)
+            .intoArray(c, offsetc + i + (col + 1) * ldc);
+          DoubleVector vb0 = DoubleVector.fromArray(DMAX, b, offsetb + i + (col + 0) * ldb);
+          DoubleVector vb1 = DoubleVector.fromArray(DMAX, b, offsetb + i + (col + 1) * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum01 = va0.fma(vb1, vsum01);
+        }
+        double sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        double sum01 = vsum01.reduceLanes(VectorOperators.ADD);
+        double alphab00 = alpha * b[offsetb + row + (col + 0) * ldb];
+        double alphab01 = alpha * b[offsetb + row + (col + 1) * ldb];
+        for (; i < m; i += 1) {
+          double a0 = a[offseta + i + row * lda];
+          c[offsetc + i + (col + 0) * ldc] += alphab00 * a0;
+          c[offsetc + i + (col + 1) * ldc] += alphab01 * a0;
+          double b0 = b[offsetb + i + (col + 0) * ldb];
+          double b1 = b[offsetb + i + (col + 1) * ldb];
+          sum00 += a0 * b0;
+          sum01 += a0 * b1;
+        }
+        double a00 = a[offseta + row + row * lda];
+        double b00 = b[offsetb + row + (col + 0) * ldb];
+        double b01 = b[offsetb + row + (col + 1) * ldb];
+        sum00 += b00 * a00;
+        sum01 += b01 * a00;
+        if (beta != 0.0) {
+          c[offsetc + row + (col + 0) * ldc] = alpha * sum00 + beta * c[offsetc + row + (col + 0) * ldc];
+          c[offsetc + row + (col + 1) * ldc] = alpha * sum01 + beta * c[offsetc + row + (col + 1) * ldc];
+        } else {
+          c[offsetc + row + (col + 0) * ldc] = alpha * sum00;
+          c[offsetc + row + (col + 1) * ldc] = alpha * sum01;
+        }
+      }
+      for (row -= 3; row >= 0; row -= 4) {
+        DoubleVector vsum00 = DoubleVector.zero(DMAX);
+        DoubleVector vsum01 = DoubleVector.zero(DMAX);
+        DoubleVector vsum10 = DoubleVector.zero(DMAX);
+        DoubleVector vsum11 = DoubleVector.zero(DMAX);
+        DoubleVector vsum20 = DoubleVector.zero(DMAX);
+        DoubleVector vsum21 = DoubleVector.zero(DMAX);
+        DoubleVector vsum30 = DoubleVector.zero(DMAX);
+        DoubleVector vsum31 = DoubleVector.zero(DMAX);
+        DoubleVector valphab00 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 0) + (col + 0) * ldb]);
+        DoubleVector valphab01 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 0) + (col + 1) * ldb]);
+        DoubleVector valphab10 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 1) + (col + 0) * ldb]);
+        DoubleVector valphab11 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 1) + (col + 1) * ldb]);
+        DoubleVector valphab20 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 2) + (col + 0) * ldb]);
+        DoubleVector valphab21 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 2) + (col + 1) * ldb]);
+        DoubleVector valphab30 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 3) + (col + 0) * ldb]);
+        DoubleVector valphab31 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 3) + (col + 1) * ldb]);
+        int i = row + 4;
+        for (; i < row + 4 + DMAX.loopBound(m - row - 4); i += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 0) * lda);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 1) * lda);
+          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 2) * lda);
+          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 3) * lda);
+          DoubleVector vc0 = DoubleVector.fromArray(DMAX, c, offsetc + i + (col + 0) * ldc);
+          valphab00.fma(va0, valphab10.fma(va1, valphab20.fma(va2, valphab30.fma(va3, vc0))))
+            .intoArray(c, offsetc + i + (col + 0) * ldc);
+          DoubleVector vc1 = DoubleVector.fromArray(DMAX, c, offsetc + i + (col + 1) * ldc);
+          valphab01.fma(va0, valphab11.fma(va1, valphab21.fma(va2, valphab31.fma(va3, vc1))))
+            .intoArray(c, offsetc + i + (col + 1) * ldc);
+          DoubleVector vb0 = DoubleVector.fromArray(DMAX, b, offsetb + i + (col + 0) * ldb);
+          DoubleVector vb1 = DoubleVector.fromArray(DMAX, b, offsetb + i + (col + 1) * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum01 = va0.fma(vb1, vsum01);
+          vsum10 = va1.fma(vb0, vsum10);
+          vsum11 = va1.fma(vb1, vsum11);
+          vsum20 = va2.fma(vb0, vsum20);
+          vsum21 = va2.fma(vb1, vsum21);
+          vsum30 = va3.fma(vb0, vsum30);
+          vsum31 = va3.fma(vb1, vsum31);
+        }
+        double sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        double sum01 = vsum01.reduceLanes(VectorOperators.ADD);
+        double sum10 = vsum10.reduceLanes(VectorOperators.ADD);
+        double sum11 = vsum11.reduceLanes(VectorOperators.ADD);
+        double sum20 = vsum20.reduceLanes(VectorOperators.ADD);
+        double sum21 = vsum21.reduceLanes(VectorOperators.ADD);
+        double sum30 = vsum30.reduceLanes(VectorOperators.ADD);
+        double sum31 = vsum31.reduceLanes(VectorOperators.ADD);
+        double alphab00 = alpha * b[offsetb + (row + 0) + (col + 0) * ldb];
+        double alphab01 = alpha * b[offsetb + (row + 0) + (col + 1) * ldb];
+        double alphab10 = alpha * b[offsetb + (row + 1) + (col + 0) * ldb];
+        double alphab11 = alpha * b[offsetb + (row + 1) + (col + 1) * ldb];
+        double alphab20 = alpha * b[offsetb + (row + 2) + (col + 0) * ldb];
+        double alphab21 = alpha * b[offsetb + (row + 2) + (col + 1) * ldb];
+        double alphab30 = alpha * b[offsetb + (row + 3) + (col + 0) * ldb];
+        double alphab31 = alpha * b[offsetb + (row + 3) + (col + 1) * ldb];
+        for (; i < m; i += 1) {
+          double a0 = a[offseta + i + (row + 0) * lda];
+          double a1 = a[offseta + i + (row + 1) * lda];
+          double a2 = a[offseta + i + (row + 2) * lda];
+          double a3 = a[offseta + i + (row + 3) * lda];
+          c[offsetc + i + (col + 0) * ldc] += alphab00 * a0 + alphab10 * a1 + alphab20 * a2 + alphab30 * a3;
+          c[offsetc + i + (col + 1) * ldc] += alphab01 * a0 + alphab11 * a1 + alphab21 * a2 + alphab31 * a3;
+          double b0 = b[offsetb + i + (col + 0) * ldb];
+          double b1 = b[offsetb + i + (col + 1) * ldb];
+          sum00 += a0 * b0;
+          sum01 += a0 * b1;
+          sum10 += a1 * b0;
+          sum11 += a1 * b1;
+          sum20 += a2 * b0;
+          sum21 += a2 * b1;
+          sum30 += a3 * b0;
+          sum31 += a3 * b1;
+        }
+        double a00 = a[offseta + (row + 0) + (row + 0) * lda];
+        double a10 = a[offseta + (row + 1) + (row + 0) * lda];
+        double a11 = a[offseta + (row + 1) + (row + 1) * lda];
+        double a20 = a[offseta + (row + 2) + (row + 0) * lda];
+        double a21 = a[offseta + (row + 2) + (row + 1) * lda];
+        double a22 = a[offseta + (row + 2) + (row + 2) * lda];
+        double a30 = a[offseta + (row + 3) + (row + 0) * lda];
+        double a31 = a[offseta + (row + 3) + (row + 1) * lda];
+        double a32 = a[offseta + (row + 3) + (row + 2) * lda];
+        double a33 = a[offseta + (row + 3) + (row + 3) * lda];
+        double b00 = b[offsetb + (row + 0) + (col + 0) * ldb];
+        double b01 = b[offsetb + (row + 0) + (col + 1) * ldb];
+        double b10 = b[offsetb + (row + 1) + (col + 0) * ldb];
+        double b11 = b[offsetb + (row + 1) + (col + 1) * ldb];
+        double b20 = b[offsetb + (row + 2) + (col + 0) * ldb];
+        double b21 = b[offsetb + (row + 2) + (col + 1) * ldb];
+        double b30 = b[offsetb + (row + 3) + (col + 0) * ldb];
+        double b31 = b[offsetb + (row + 3) + (col + 1) * ldb];
+        sum00 += b00 * a00 + b10 * a10 + b20 * a20 + b30 * a30;
+        sum01 += b01 * a00 + b11 * a10 + b21 * a20 + b31 * a30;
+        sum10 += b00 * a10 + b10 * a11 + b20 * a21 + b30 * a31;
+        sum11 += b01 * a10 + b11 * a11 + b21 * a21 + b31 * a31;
+        sum20 += b00 * a20 + b10 * a21 + b20 * a22 + b30 * a32;
+        sum21 += b01 * a20 + b11 * a21 + b21 * a22 + b31 * a32;
+        sum30 += b00 * a30 + b10 * a31 + b20 * a32 + b30 * a33;
+        sum31 += b01 * a30 + b11 * a31 + b21 * a32 + b31 * a33;
+        if (beta != 0.0) {
+          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00 + beta * c[offsetc + (row + 0) + (col + 0) * ldc];
+          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10 + beta * c[offsetc + (row + 1) + (col + 0) * ldc];
+          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20 + beta * c[offsetc + (row + 2) + (col + 0) * ldc];
+          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30 + beta * c[offsetc + (row + 3) + (col + 0) * ldc];
+          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01 + beta * c[offsetc + (row + 0) + (col + 1) * ldc];
+          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11 + beta * c[offsetc + (row + 1) + (col + 1) * ldc];
+          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21 + beta * c[offsetc + (row + 2) + (col + 1) * ldc];
+          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31 + beta * c[offsetc + (row + 3) + (col + 1) * ldc];
+        } else {
+          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00;
+          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10;
+          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20;
+          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30;
+          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01;
+          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11;
+          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21;
+          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31;
+        }
+      }
+    }
+    for (; col < n; col += 1) {
+      int row = m - 1;
+      for (; row >= loopBound(m, 4); row -= 1) {
+        DoubleVector vsum00 = DoubleVector.zero(DMAX);
+        DoubleVector valphab00 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + row + col * ldb]);
+        int i = row + 1;
+        for (; i < row + 1 + DMAX.loopBound(m - row - 1); i += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + i + row * lda);
+          DoubleVector vc0 = DoubleVector.fromArray(DMAX, c, offsetc + i + col * ldc);
+          valphab00.fma(va0, vc0)
+            .intoArray(c, offsetc + i + col * ldc);
+          DoubleVector vb0 = DoubleVector.fromArray(DMAX, b, offsetb + i + col * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+        }
+        double sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        double alphab00 = alpha * b[offsetb + row + col * ldb];
+        for (; i < m; i += 1) {
+          double a0 = a[offseta + i + row * lda];
+          c[offsetc + i + col * ldc] += alphab00 * a0;
+          double b0 = b[offsetb + i + col * ldb];
+          sum00 += a0 * b0;
+        }
+        double a00 = a[offseta + row + row * lda];
+        double b00 = b[offsetb + row + col * ldb];
+        sum00 += b00 * a00;
+        if (beta != 0.0) {
+          c[offsetc + row + col * ldc] = alpha * sum00 + beta * c[offsetc + row + col * ldc];
+        } else {
+          c[offsetc + row + col * ldc] = alpha * sum00;
+        }
+      }
+      for (row -= 3; row >= 0; row -= 4) {
+        DoubleVector vsum00 = DoubleVector.zero(DMAX);
+        DoubleVector vsum10 = DoubleVector.zero(DMAX);
+        DoubleVector vsum20 = DoubleVector.zero(DMAX);
+        DoubleVector vsum30 = DoubleVector.zero(DMAX);
+        DoubleVector valphab00 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 0) + col * ldb]);
+        DoubleVector valphab10 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 1) + col * ldb]);
+        DoubleVector valphab20 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 2) + col * ldb]);
+        DoubleVector valphab30 = DoubleVector.broadcast(DMAX, alpha * b[offsetb + (row + 3) + col * ldb]);
+        int i = row + 4;
+        for (; i < row + 4 + DMAX.loopBound(m - row - 4); i += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 0) * lda);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 1) * lda);
+          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 2) * lda);
+          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + i + (row + 3) * lda);
+          DoubleVector vc0 = DoubleVector.fromArray(DMAX, c, offsetc + i + col * ldc);
+          valphab00.fma(va0, valphab10.fma(va1, valphab20.fma(va2, valphab30.fma(va3, vc0))))
+            .intoArray(c, offsetc + i + col * ldc);
+          DoubleVector vb0 = DoubleVector.fromArray(DMAX, b, offsetb + i + col * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum10 = va1.fma(vb0, vsum10);
+          vsum20 = va2.fma(vb0, vsum20);
+          vsum30 = va3.fma(vb0, vsum30);
+        }
+        double sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        double sum10 = vsum10.reduceLanes(VectorOperators.ADD);
+        double sum20 = vsum20.reduceLanes(VectorOperators.ADD);
+        double sum30 = vsum30.reduceLanes(VectorOperators.ADD);
+        double alphab00 = alpha * b[offsetb + (row + 0) + col * ldb];
+        double alphab10 = alpha * b[offsetb + (row + 1) + col * ldb];
+        double alphab20 = alpha * b[offsetb + (row + 2) + col * ldb];
+        double alphab30 = alpha * b[offsetb + (row + 3) + col * ldb];
+        for (; i < m; i += 1) {
+          double a0 = a[offseta + i + (row + 0) * lda];
+          double a1 = a[offseta + i + (row + 1) * lda];
+          double a2 = a[offseta + i + (row + 2) * lda];
+          double a3 = a[offseta + i + (row + 3) * lda];
+          c[offsetc + i + col * ldc] += alphab00 * a0 + alphab10 * a1 + alphab20 * a2 + alphab30 * a3;
+          double b0 = b[offsetb + i + col * ldb];
+          sum00 += a0 * b0;
+          sum10 += a1 * b0;
+          sum20 += a2 * b0;
+          sum30 += a3 * b0;
+        }
+        double a00 = a[offseta + (row + 0) + (row + 0) * lda];
+        double a10 = a[offseta + (row + 1) + (row + 0) * lda];
+        double a11 = a[offseta + (row + 1) + (row + 1) * lda];
+        double a20 = a[offseta + (row + 2) + (row + 0) * lda];
+        double a21 = a[offseta + (row + 2) + (row + 1) * lda];
+        double a22 = a[offseta + (row + 2) + (row + 2) * lda];
+        double a30 = a[offseta + (row + 3) + (row + 0) * lda];
+        double a31 = a[offseta + (row + 3) + (row + 1) * lda];
+        double a32 = a[offseta + (row + 3) + (row + 2) * lda];
+        double a33 = a[offseta + (row + 3) + (row + 3) * lda];
+        double b00 = b[offsetb + (row + 0) + col * ldb];
+        double b10 = b[offsetb + (row + 1) + col * ldb];
+        double b20 = b[offsetb + (row + 2) + col * ldb];
+        double b30 = b[offsetb + (row + 3) + col * ldb];
+        sum00 += b00 * a00 + b10 * a10 + b20 * a20 + b30 * a30;
+        sum10 += b00 * a10 + b10 * a11 + b20 * a21 + b30 * a31;
+        sum20 += b00 * a20 + b10 * a21 + b20 * a22 + b30 * a32;
+        sum30 += b00 * a30 + b10 * a31 + b20 * a32 + b30 * a33;
+        if (beta != 0.0) {
+          c[offsetc + (row + 0) + col * ldc] = alpha * sum00 + beta * c[offsetc + (row + 0) + col * ldc];
+          c[offsetc + (row + 1) + col * ldc] = alpha * sum10 + beta * c[offsetc + (row + 1) + col * ldc];
+          c[offsetc + (row + 2) + col * ldc] = alpha * sum20 + beta * c[offsetc + (row + 2) + col * ldc];
+          c[offsetc + (row + 3) + col * ldc] = alpha * sum30 + beta * c[offsetc + (row + 3) + col * ldc];
+        } else {
+          c[offsetc + (row + 0) + col * ldc] = alpha * sum00;
+          c[offsetc + (row + 1) + col * ldc] = alpha * sum10;
+          c[offsetc + (row + 2) + col * ldc] = alpha * sum20;
+          c[offsetc + (row + 3) + col * ldc] = alpha * sum30;
+        }
+      }
+    }
+  }
+
+  protected void ssymmLU(int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    // C := alpha*A*B + beta*C
+    int col = 0;
+    for (; col < loopBound(n, 2); col += 2) {
+      int row = 0;
+      for (; row < loopBound(m, 4); row += 4) {
+        FloatVector vsum00 = FloatVector.zero(FMAX);
+        FloatVector vsum01 = FloatVector.zero(FMAX);
+        FloatVector vsum10 = FloatVector.zero(FMAX);
+        FloatVector vsum11 = FloatVector.zero(FMAX);
+        FloatVector vsum20 = FloatVector.zero(FMAX);
+        FloatVector vsum21 = FloatVector.zero(FMAX);
+        FloatVector vsum30 = FloatVector.zero(FMAX);
+        FloatVector vsum31 = FloatVector.zero(FMAX);
+        FloatVector valphab00 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 0) + (col + 0) * ldb]);
+        FloatVector valphab01 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 0) + (col + 1) * ldb]);
+        FloatVector valphab10 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 1) + (col + 0) * ldb]);
+        FloatVector valphab11 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 1) + (col + 1) * ldb]);
+        FloatVector valphab20 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 2) + (col + 0) * ldb]);
+        FloatVector valphab21 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 2) + (col + 1) * ldb]);
+        FloatVector valphab30 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 3) + (col + 0) * ldb]);
+        FloatVector valphab31 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 3) + (col + 1) * ldb]);
+        int i = 0;
+        for (; i < FMAX.loopBound(row); i += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 0) * lda);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 1) * lda);
+          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 2) * lda);
+          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 3) * lda);
+          FloatVector vc0 = FloatVector.fromArray(FMAX, c, offsetc + i + (col + 0) * ldc);
+          valphab00.fma(va0, valphab10.fma(va1, valphab20.fma(va2, valphab30.fma(va3, vc0))))
+            .intoArray(c, offsetc + i + (col + 0) * ldc);
+          FloatVector vc1 = FloatVector.fromArray(FMAX, c, offsetc + i + (col + 1) * ldc);
+          valphab01.fma(va0, valphab11.fma(va1, valphab21.fma(va2, valphab31.fma(va3, vc1))))
+            .intoArray(c, offsetc + i + (col + 1) * ldc);
+          FloatVector vb0 = FloatVector.fromArray(FMAX, b, offsetb + i + (col + 0) * ldb);
+          FloatVector vb1 = FloatVector.fromArray(FMAX, b, offsetb + i + (col + 1) * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum01 = va0.fma(vb1, vsum01);
+          vsum10 = va1.fma(vb0, vsum10);
+          vsum11 = va1.fma(vb1, vsum11);
+          vsum20 = va2.fma(vb0, vsum20);
+          vsum21 = va2.fma(vb1, vsum21);
+          vsum30 = va3.fma(vb0, vsum30);
+          vsum31 = va3.fma(vb1, vsum31);
+        }
+        float sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        float sum01 = vsum01.reduceLanes(VectorOperators.ADD);
+        float sum10 = vsum10.reduceLanes(VectorOperators.ADD);
+        float sum11 = vsum11.reduceLanes(VectorOperators.ADD);
+        float sum20 = vsum20.reduceLanes(VectorOperators.ADD);
+        float sum21 = vsum21.reduceLanes(VectorOperators.ADD);
+        float sum30 = vsum30.reduceLanes(VectorOperators.ADD);
+        float sum31 = vsum31.reduceLanes(VectorOperators.ADD);
+        float alphab00 = alpha * b[offsetb + (row + 0) + (col + 0) * ldb];
+        float alphab01 = alpha * b[offsetb + (row + 0) + (col + 1) * ldb];
+        float alphab10 = alpha * b[offsetb + (row + 1) + (col + 0) * ldb];
+        float alphab11 = alpha * b[offsetb + (row + 1) + (col + 1) * ldb];
+        float alphab20 = alpha * b[offsetb + (row + 2) + (col + 0) * ldb];
+        float alphab21 = alpha * b[offsetb + (row + 2) + (col + 1) * ldb];
+        float alphab30 = alpha * b[offsetb + (row + 3) + (col + 0) * ldb];
+        float alphab31 = alpha * b[offsetb + (row + 3) + (col + 1) * ldb];
+        for (; i < row; i += 1) {
+          float a0 = a[offseta + i + (row + 0) * lda];
+          float a1 = a[offseta + i + (row + 1) * lda];
+          float a2 = a[offseta + i + (row + 2) * lda];
+          float a3 = a[offseta + i + (row + 3) * lda];
+          c[offsetc + i + (col + 0) * ldc] += alphab00 * a0 + alphab10 * a1 + alphab20 * a2 + alphab30 * a3;
+          c[offsetc + i + (col + 1) * ldc] += alphab01 * a0 + alphab11 * a1 + alphab21 * a2 + alphab31 * a3;
+          float b0 = b[offsetb + i + (col + 0) * ldb];
+          float b1 = b[offsetb + i + (col + 1) * ldb];
+          sum00 += a0 * b0;
+          sum01 += a0 * b1;
+          sum10 += a1 * b0;
+          sum11 += a1 * b1;
+          sum20 += a2 * b0;
+          sum21 += a2 * b1;
+          sum30 += a3 * b0;
+          sum31 += a3 * b1;
+        }
+        float a00 = a[offseta + (row + 0) + (row + 0) * lda];
+        float a01 = a[offseta + (row + 0) + (row + 1) * lda];
+        float a02 = a[offseta + (row + 0) + (row + 2) * lda];
+        float a03 = a[offseta + (row + 0) + (row + 3) * lda];
+        float a11 = a[offseta + (row + 1) + (row + 1) * lda];
+        float a12 = a[offseta + (row + 1) + (row + 2) * lda];
+        float a13 = a[offseta + (row + 1) + (row + 3) * lda];
+        float a22 = a[offseta + (row + 2) + (row + 2) * lda];
+        float a23 = a[offseta + (row + 2) + (row + 3) * lda];
+        float a33 = a[offseta + (row + 3) + (row + 3) * lda];
+        float b00 = b[offsetb + (row + 0) + (col + 0) * ldb];
+        float b01 = b[offsetb + (row + 0) + (col + 1) * ldb];
+        float b10 = b[offsetb + (row + 1) + (col + 0) * ldb];
+        float b11 = b[offsetb + (row + 1) + (col + 1) * ldb];
+        float b20 = b[offsetb + (row + 2) + (col + 0) * ldb];
+        float b21 = b[offsetb + (row + 2) + (col + 1) * ldb];
+        float b30 = b[offsetb + (row + 3) + (col + 0) * ldb];
+        float b31 = b[offsetb + (row + 3) + (col + 1) * ldb];
+        sum00 += b00 * a00 + b10 * a01 + b20 * a02 + b30 * a03;
+        sum01 += b01 * a00 + b11 * a01 + b21 * a02 + b31 * a03;
+        sum10 += b00 * a01 + b10 * a11 + b20 * a12 + b30 * a13;
+        sum11 += b01 * a01 + b11 * a11 + b21 * a12 + b31 * a13;
+        sum20 += b00 * a02 + b10 * a12 + b20 * a22 + b30 * a23;
+        sum21 += b01 * a02 + b11 * a12 + b21 * a22 + b31 * a23;
+        sum30 += b00 * a03 + b10 * a13 + b20 * a23 + b30 * a33;
+        sum31 += b01 * a03 + b11 * a13 + b21 * a23 + b31 * a33;
+        if (beta != 0.0f) {
+          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00 + beta * c[offsetc + (row + 0) + (col + 0) * ldc];
+          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10 + beta * c[offsetc + (row + 1) + (col + 0) * ldc];
+          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20 + beta * c[offsetc + (row + 2) + (col + 0) * ldc];
+          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30 + beta * c[offsetc + (row + 3) + (col + 0) * ldc];
+          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01 + beta * c[offsetc + (row + 0) + (col + 1) * ldc];
+          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11 + beta * c[offsetc + (row + 1) + (col + 1) * ldc];
+          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21 + beta * c[offsetc + (row + 2) + (col + 1) * ldc];
+          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31 + beta * c[offsetc + (row + 3) + (col + 1) * ldc];
+        } else {
+          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00;
+          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10;
+          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20;
+          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30;
+          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01;
+          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11;
+          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21;
+          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31;
+        }
+      }
+      for (; row < m; row += 1) {
+        FloatVector vsum00 = FloatVector.zero(FMAX);
+        FloatVector vsum01 = FloatVector.zero(FMAX);
+        FloatVector valphab00 = FloatVector.broadcast(FMAX, alpha * b[offsetb + row + (col + 0) * ldb]);
+        FloatVector valphab01 = FloatVector.broadcast(FMAX, alpha * b[offsetb + row + (col + 1) * ldb]);
+        int i = 0;
+        for (; i < FMAX.loopBound(row); i += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + i + row * lda);
+          FloatVector vc0 = FloatVector.fromArray(FMAX, c, offsetc + i + (col + 0) * ldc);
+          valphab00.fma(va0, vc0)
+            .intoArray(c, offsetc + i + (col + 0) * ldc);
+          FloatVector vc1 = FloatVector.fromArray(FMAX, c, offsetc + i + (col + 1) * ldc);
+          valphab01.fma(va0, vc1)
+            .intoArray(c, offsetc + i + (col + 1) * ldc);
+          FloatVector vb0 = FloatVector.fromArray(FMAX, b, offsetb + i + (col + 0) * ldb);
+          FloatVector vb1 = FloatVector.fromArray(FMAX, b, offsetb + i + (col + 1) * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum01 = va0.fma(vb1, vsum01);
+        }
+        float sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        float sum01 = vsum01.reduceLanes(VectorOperators.ADD);
+        float alphab00 = alpha * b[offsetb + row + (col + 0) * ldb];
+        float alphab01 = alpha * b[offsetb + row + (col + 1) * ldb];
+        for (; i < row; i += 1) {
+          float a0 = a[offseta + i + row * lda];
+          c[offsetc + i + (col + 0) * ldc] += alphab00 * a0;
+          c[offsetc + i + (col + 1) * ldc] += alphab01 * a0;
+          float b0 = b[offsetb + i + (col + 0) * ldb];
+          float b1 = b[offsetb + i + (col + 1) * ldb];
+          sum00 += a0 * b0;
+          sum01 += a0 * b1;
+        }
+        float a00 = a[offseta + row + row * lda];
+        float b00 = b[offsetb + row + (col + 0) * ldb];
+        float b01 = b[offsetb + row + (col + 1) * ldb];
+        sum00 += b00 * a00;
+        sum01 += b01 * a00;
+        if (beta != 0.0f) {
+          c[offsetc + row + (col + 0) * ldc] = alpha * sum00 + beta * c[offsetc + row + (col + 0) * ldc];
+          c[offsetc + row + (col + 1) * ldc] = alpha * sum01 + beta * c[offsetc + row + (col + 1) * ldc];
+        } else {
+          c[offsetc + row + (col + 0) * ldc] = alpha * sum00;
+          c[offsetc + row + (col + 1) * ldc] = alpha * sum01;
+        }
+      }
+    }
+    for (; col < n; col += 1) {
+      int row = 0;
+      for (; row < loopBound(m, 4); row += 4) {
+        FloatVector vsum00 = FloatVector.zero(FMAX);
+        FloatVector vsum10 = FloatVector.zero(FMAX);
+        FloatVector vsum20 = FloatVector.zero(FMAX);
+        FloatVector vsum30 = FloatVector.zero(FMAX);
+        FloatVector valphab00 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 0) + col * ldb]);
+        FloatVector valphab10 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 1) + col * ldb]);
+        FloatVector valphab20 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 2) + col * ldb]);
+        FloatVector valphab30 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 3) + col * ldb]);
+        int i = 0;
+        for (; i < FMAX.loopBound(row); i += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 0) * lda);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 1) * lda);
+          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 2) * lda);
+          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 3) * lda);
+          FloatVector vc0 = FloatVector.fromArray(FMAX, c, offsetc + i + col * ldc);
+          valphab00.fma(va0, valphab10.fma(va1, valphab20.fma(va2, valphab30.fma(va3, vc0))))
+            .intoArray(c, offsetc + i + col * ldc);
+          FloatVector vb0 = FloatVector.fromArray(FMAX, b, offsetb + i + col * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum10 = va1.fma(vb0, vsum10);
+          vsum20 = va2.fma(vb0, vsum20);
+          vsum30 = va3.fma(vb0, vsum30);
+        }
+        float sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        float sum10 = vsum10.reduceLanes(VectorOperators.ADD);
+        float sum20 = vsum20.reduceLanes(VectorOperators.ADD);
+        float sum30 = vsum30.reduceLanes(VectorOperators.ADD);
+        float alphab00 = alpha * b[offsetb + (row + 0) + col * ldb];
+        float alphab10 = alpha * b[offsetb + (row + 1) + col * ldb];
+        float alphab20 = alpha * b[offsetb + (row + 2) + col * ldb];
+        float alphab30 = alpha * b[offsetb + (row + 3) + col * ldb];
+        for (; i < row; i += 1) {
+          float a0 = a[offseta + i + (row + 0) * lda];
+          float a1 = a[offseta + i + (row + 1) * lda];
+          float a2 = a[offseta + i + (row + 2) * lda];
+          float a3 = a[offseta + i + (row + 3) * lda];
+          c[offsetc + i + col * ldc] += alphab00 * a0 + alphab10 * a1 + alphab20 * a2 + alphab30 * a3;
+          float b0 = b[offsetb + i + col * ldb];
+          sum00 += a0 * b0;
+          sum10 += a1 * b0;
+          sum20 += a2 * b0;
+          sum30 += a3 * b0;
+        }
+        float a00 = a[offseta + (row + 0) + (row + 0) * lda];
+        float a01 = a[offseta + (row + 0) + (row + 1) * lda];
+        float a02 = a[offseta + (row + 0) + (row + 2) * lda];
+        float a03 = a[offseta + (row + 0) + (row + 3) * lda];
+        float a11 = a[offseta + (row + 1) + (row + 1) * lda];
+        float a12 = a[offseta + (row + 1) + (row + 2) * lda];
+        float a13 = a[offseta + (row + 1) + (row + 3) * lda];
+        float a22 = a[offseta + (row + 2) + (row + 2) * lda];
+        float a23 = a[offseta + (row + 2) + (row + 3) * lda];
+        float a33 = a[offseta + (row + 3) + (row + 3) * lda];
+        float b00 = b[offsetb + (row + 0) + col * ldb];
+        float b10 = b[offsetb + (row + 1) + col * ldb];
+        float b20 = b[offsetb + (row + 2) + col * ldb];
+        float b30 = b[offsetb + (row + 3) + col * ldb];
+        sum00 += b00 * a00 + b10 * a01 + b20 * a02 + b30 * a03;
+        sum10 += b00 * a01 + b10 * a11 + b20 * a12 + b30 * a13;
+        sum20 += b00 * a02 + b10 * a12 + b20 * a22 + b30 * a23;
+        sum30 += b00 * a03 + b10 * a13 + b20 * a23 + b30 * a33;
+        if (beta != 0.0f) {
+          c[offsetc + (row + 0) + col * ldc] = alpha * sum00 + beta * c[offsetc + (row + 0) + col * ldc];
+          c[offsetc + (row + 1) + col * ldc] = alpha * sum10 + beta * c[offsetc + (row + 1) + col * ldc];
+          c[offsetc + (row + 2) + col * ldc] = alpha * sum20 + beta * c[offsetc + (row + 2) + col * ldc];
+          c[offsetc + (row + 3) + col * ldc] = alpha * sum30 + beta * c[offsetc + (row + 3) + col * ldc];
+        } else {
+          c[offsetc + (row + 0) + col * ldc] = alpha * sum00;
+          c[offsetc + (row + 1) + col * ldc] = alpha * sum10;
+          c[offsetc + (row + 2) + col * ldc] = alpha * sum20;
+          c[offsetc + (row + 3) + col * ldc] = alpha * sum30;
+        }
+      }
+      for (; row < m; row += 1) {
+        FloatVector vsum00 = FloatVector.zero(FMAX);
+        FloatVector valphab00 = FloatVector.broadcast(FMAX, alpha * b[offsetb + row + col * ldb]);
+        int i = 0;
+        for (; i < FMAX.loopBound(row); i += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + i + row * lda);
+          FloatVector vc0 = FloatVector.fromArray(FMAX, c, offsetc + i + col * ldc);
+          valphab00.fma(va0, vc0)
+            .intoArray(c, offsetc + i + col * ldc);
+          FloatVector vb0 = FloatVector.fromArray(FMAX, b, offsetb + i + col * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+        }
+        float sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        float alphab00 = alpha * b[offsetb + row + col * ldb];
+        for (; i < row; i += 1) {
+          float a0 = a[offseta + i + row * lda];
+          c[offsetc + i + col * ldc] += alphab00 * a0;
+          float b0 = b[offsetb + i + col * ldb];
+          sum00 += a0 * b0;
+        }
+        float a00 = a[offseta + row + row * lda];
+        float b00 = b[offsetb + row + col * ldb];
+        sum00 += b00 * a00;
+        if (beta != 0.0f) {
+          c[offsetc + row + col * ldc] = alpha * sum00 + beta * c[offsetc + row + col * ldc];
+        } else {
+          c[offsetc + row + col * ldc] = alpha * sum00;
+        }
+      }
+    }
+  }
+
+  protected void ssymmLL(int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    // C := alpha*A*B + beta*C
+    int col = 0;
+    for (; col < loopBound(n, 2); col += 2) {
+      int row = m - 1;
+      for (; row >= loopBound(m, 4); row -= 1) {
+        FloatVector vsum00 = FloatVector.zero(FMAX);
+        FloatVector vsum01 = FloatVector.zero(FMAX);
+        FloatVector valphab00 = FloatVector.broadcast(FMAX, alpha * b[offsetb + row + (col + 0) * ldb]);
+        FloatVector valphab01 = FloatVector.broadcast(FMAX, alpha * b[offsetb + row + (col + 1) * ldb]);
+        int i = row + 1;
+        for (; i < row + 1 + FMAX.loopBound(m - row - 1); i += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + i + row * lda);
+          FloatVector vc0 = FloatVector.fromArray(FMAX, c, offsetc + i + (col + 0) * ldc);
+          valphab00.fma(va0, vc0)
+            .intoArray(c, offsetc + i + (col + 0) * ldc);
+          FloatVector vc1 = FloatVector.fromArray(FMAX, c, offsetc + i + (col + 1) * ldc);
+          valphab01.fma(va0, vc1)
+            .intoArray(c, offsetc + i + (col + 1) * ldc);
+          FloatVector vb0 = FloatVector.fromArray(FMAX, b, offsetb + i + (col + 0) * ldb);
+          FloatVector vb1 = FloatVector.fromArray(FMAX, b, offsetb + i + (col + 1) * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum01 = va0.fma(vb1, vsum01);
+        }
+        float sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        float sum01 = vsum01.reduceLanes(VectorOperators.ADD);
+        float alphab00 = alpha * b[offsetb + row + (col + 0) * ldb];
+        float alphab01 = alpha * b[offsetb + row + (col + 1) * ldb];
+        for (; i < m; i += 1) {
+          float a0 = a[offseta + i + row * lda];
+          c[offsetc + i + (col + 0) * ldc] += alphab00 * a0;
+          c[offsetc + i + (col + 1) * ldc] += alphab01 * a0;
+          float b0 = b[offsetb + i + (col + 0) * ldb];
+          float b1 = b[offsetb + i + (col + 1) * ldb];
+          sum00 += a0 * b0;
+          sum01 += a0 * b1;
+        }
+        float a00 = a[offseta + row + row * lda];
+        float b00 = b[offsetb + row + (col + 0) * ldb];
+        float b01 = b[offsetb + row + (col + 1) * ldb];
+        sum00 += b00 * a00;
+        sum01 += b01 * a00;
+        if (beta != 0.0f) {
+          c[offsetc + row + (col + 0) * ldc] = alpha * sum00 + beta * c[offsetc + row + (col + 0) * ldc];
+          c[offsetc + row + (col + 1) * ldc] = alpha * sum01 + beta * c[offsetc + row + (col + 1) * ldc];
+        } else {
+          c[offsetc + row + (col + 0) * ldc] = alpha * sum00;
+          c[offsetc + row + (col + 1) * ldc] = alpha * sum01;
+        }
+      }
+      for (row -= 3; row >= 0; row -= 4) {
+        FloatVector vsum00 = FloatVector.zero(FMAX);
+        FloatVector vsum01 = FloatVector.zero(FMAX);
+        FloatVector vsum10 = FloatVector.zero(FMAX);
+        FloatVector vsum11 = FloatVector.zero(FMAX);
+        FloatVector vsum20 = FloatVector.zero(FMAX);
+        FloatVector vsum21 = FloatVector.zero(FMAX);
+        FloatVector vsum30 = FloatVector.zero(FMAX);
+        FloatVector vsum31 = FloatVector.zero(FMAX);
+        FloatVector valphab00 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 0) + (col + 0) * ldb]);
+        FloatVector valphab01 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 0) + (col + 1) * ldb]);
+        FloatVector valphab10 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 1) + (col + 0) * ldb]);
+        FloatVector valphab11 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 1) + (col + 1) * ldb]);
+        FloatVector valphab20 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 2) + (col + 0) * ldb]);
+        FloatVector valphab21 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 2) + (col + 1) * ldb]);
+        FloatVector valphab30 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 3) + (col + 0) * ldb]);
+        FloatVector valphab31 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 3) + (col + 1) * ldb]);
+        int i = row + 4;
+        for (; i < row + 4 + FMAX.loopBound(m - row - 4); i += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 0) * lda);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 1) * lda);
+          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 2) * lda);
+          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 3) * lda);
+          FloatVector vc0 = FloatVector.fromArray(FMAX, c, offsetc + i + (col + 0) * ldc);
+          valphab00.fma(va0, valphab10.fma(va1, valphab20.fma(va2, valphab30.fma(va3, vc0))))
+            .intoArray(c, offsetc + i + (col + 0) * ldc);
+          FloatVector vc1 = FloatVector.fromArray(FMAX, c, offsetc + i + (col + 1) * ldc);
+          valphab01.fma(va0, valphab11.fma(va1, valphab21.fma(va2, valphab31.fma(va3, vc1))))
+            .intoArray(c, offsetc + i + (col + 1) * ldc);
+          FloatVector vb0 = FloatVector.fromArray(FMAX, b, offsetb + i + (col + 0) * ldb);
+          FloatVector vb1 = FloatVector.fromArray(FMAX, b, offsetb + i + (col + 1) * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum01 = va0.fma(vb1, vsum01);
+          vsum10 = va1.fma(vb0, vsum10);
+          vsum11 = va1.fma(vb1, vsum11);
+          vsum20 = va2.fma(vb0, vsum20);
+          vsum21 = va2.fma(vb1, vsum21);
+          vsum30 = va3.fma(vb0, vsum30);
+          vsum31 = va3.fma(vb1, vsum31);
+        }
+        float sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        float sum01 = vsum01.reduceLanes(VectorOperators.ADD);
+        float sum10 = vsum10.reduceLanes(VectorOperators.ADD);
+        float sum11 = vsum11.reduceLanes(VectorOperators.ADD);
+        float sum20 = vsum20.reduceLanes(VectorOperators.ADD);
+        float sum21 = vsum21.reduceLanes(VectorOperators.ADD);
+        float sum30 = vsum30.reduceLanes(VectorOperators.ADD);
+        float sum31 = vsum31.reduceLanes(VectorOperators.ADD);
+        float alphab00 = alpha * b[offsetb + (row + 0) + (col + 0) * ldb];
+        float alphab01 = alpha * b[offsetb + (row + 0) + (col + 1) * ldb];
+        float alphab10 = alpha * b[offsetb + (row + 1) + (col + 0) * ldb];
+        float alphab11 = alpha * b[offsetb + (row + 1) + (col + 1) * ldb];
+        float alphab20 = alpha * b[offsetb + (row + 2) + (col + 0) * ldb];
+        float alphab21 = alpha * b[offsetb + (row + 2) + (col + 1) * ldb];
+        float alphab30 = alpha * b[offsetb + (row + 3) + (col + 0) * ldb];
+        float alphab31 = alpha * b[offsetb + (row + 3) + (col + 1) * ldb];
+        for (; i < m; i += 1) {
+          float a0 = a[offseta + i + (row + 0) * lda];
+          float a1 = a[offseta + i + (row + 1) * lda];
+          float a2 = a[offseta + i + (row + 2) * lda];
+          float a3 = a[offseta + i + (row + 3) * lda];
+          c[offsetc + i + (col + 0) * ldc] += alphab00 * a0 + alphab10 * a1 + alphab20 * a2 + alphab30 * a3;
+          c[offsetc + i + (col + 1) * ldc] += alphab01 * a0 + alphab11 * a1 + alphab21 * a2 + alphab31 * a3;
+          float b0 = b[offsetb + i + (col + 0) * ldb];
+          float b1 = b[offsetb + i + (col + 1) * ldb];
+          sum00 += a0 * b0;
+          sum01 += a0 * b1;
+          sum10 += a1 * b0;
+          sum11 += a1 * b1;
+          sum20 += a2 * b0;
+          sum21 += a2 * b1;
+          sum30 += a3 * b0;
+          sum31 += a3 * b1;
+        }
+        float a00 = a[offseta + (row + 0) + (row + 0) * lda];
+        float a10 = a[offseta + (row + 1) + (row + 0) * lda];
+        float a11 = a[offseta + (row + 1) + (row + 1) * lda];
+        float a20 = a[offseta + (row + 2) + (row + 0) * lda];
+        float a21 = a[offseta + (row + 2) + (row + 1) * lda];
+        float a22 = a[offseta + (row + 2) + (row + 2) * lda];
+        float a30 = a[offseta + (row + 3) + (row + 0) * lda];
+        float a31 = a[offseta + (row + 3) + (row + 1) * lda];
+        float a32 = a[offseta + (row + 3) + (row + 2) * lda];
+        float a33 = a[offseta + (row + 3) + (row + 3) * lda];
+        float b00 = b[offsetb + (row + 0) + (col + 0) * ldb];
+        float b01 = b[offsetb + (row + 0) + (col + 1) * ldb];
+        float b10 = b[offsetb + (row + 1) + (col + 0) * ldb];
+        float b11 = b[offsetb + (row + 1) + (col + 1) * ldb];
+        float b20 = b[offsetb + (row + 2) + (col + 0) * ldb];
+        float b21 = b[offsetb + (row + 2) + (col + 1) * ldb];
+        float b30 = b[offsetb + (row + 3) + (col + 0) * ldb];
+        float b31 = b[offsetb + (row + 3) + (col + 1) * ldb];
+        sum00 += b00 * a00 + b10 * a10 + b20 * a20 + b30 * a30;
+        sum01 += b01 * a00 + b11 * a10 + b21 * a20 + b31 * a30;
+        sum10 += b00 * a10 + b10 * a11 + b20 * a21 + b30 * a31;
+        sum11 += b01 * a10 + b11 * a11 + b21 * a21 + b31 * a31;
+        sum20 += b00 * a20 + b10 * a21 + b20 * a22 + b30 * a32;
+        sum21 += b01 * a20 + b11 * a21 + b21 * a22 + b31 * a32;
+        sum30 += b00 * a30 + b10 * a31 + b20 * a32 + b30 * a33;
+        sum31 += b01 * a30 + b11 * a31 + b21 * a32 + b31 * a33;
+        if (beta != 0.0f) {
+          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00 + beta * c[offsetc + (row + 0) + (col + 0) * ldc];
+          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10 + beta * c[offsetc + (row + 1) + (col + 0) * ldc];
+          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20 + beta * c[offsetc + (row + 2) + (col + 0) * ldc];
+          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30 + beta * c[offsetc + (row + 3) + (col + 0) * ldc];
+          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01 + beta * c[offsetc + (row + 0) + (col + 1) * ldc];
+          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11 + beta * c[offsetc + (row + 1) + (col + 1) * ldc];
+          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21 + beta * c[offsetc + (row + 2) + (col + 1) * ldc];
+          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31 + beta * c[offsetc + (row + 3) + (col + 1) * ldc];
+        } else {
+          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00;
+          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10;
+          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20;
+          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30;
+          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01;
+          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11;
+          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21;
+          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31;
+        }
+      }
+    }
+    for (; col < n; col += 1) {
+      int row = m - 1;
+      for (; row >= loopBound(m, 4); row -= 1) {
+        FloatVector vsum00 = FloatVector.zero(FMAX);
+        FloatVector valphab00 = FloatVector.broadcast(FMAX, alpha * b[offsetb + row + col * ldb]);
+        int i = row + 1;
+        for (; i < row + 1 + FMAX.loopBound(m - row - 1); i += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + i + row * lda);
+          FloatVector vc0 = FloatVector.fromArray(FMAX, c, offsetc + i + col * ldc);
+          valphab00.fma(va0, vc0)
+            .intoArray(c, offsetc + i + col * ldc);
+          FloatVector vb0 = FloatVector.fromArray(FMAX, b, offsetb + i + col * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+        }
+        float sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        float alphab00 = alpha * b[offsetb + row + col * ldb];
+        for (; i < m; i += 1) {
+          float a0 = a[offseta + i + row * lda];
+          c[offsetc + i + col * ldc] += alphab00 * a0;
+          float b0 = b[offsetb + i + col * ldb];
+          sum00 += a0 * b0;
+        }
+        float a00 = a[offseta + row + row * lda];
+        float b00 = b[offsetb + row + col * ldb];
+        sum00 += b00 * a00;
+        if (beta != 0.0f) {
+          c[offsetc + row + col * ldc] = alpha * sum00 + beta * c[offsetc + row + col * ldc];
+        } else {
+          c[offsetc + row + col * ldc] = alpha * sum00;
+        }
+      }
+      for (row -= 3; row >= 0; row -= 4) {
+        FloatVector vsum00 = FloatVector.zero(FMAX);
+        FloatVector vsum10 = FloatVector.zero(FMAX);
+        FloatVector vsum20 = FloatVector.zero(FMAX);
+        FloatVector vsum30 = FloatVector.zero(FMAX);
+        FloatVector valphab00 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 0) + col * ldb]);
+        FloatVector valphab10 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 1) + col * ldb]);
+        FloatVector valphab20 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 2) + col * ldb]);
+        FloatVector valphab30 = FloatVector.broadcast(FMAX, alpha * b[offsetb + (row + 3) + col * ldb]);
+        int i = row + 4;
+        for (; i < row + 4 + FMAX.loopBound(m - row - 4); i += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 0) * lda);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 1) * lda);
+          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 2) * lda);
+          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + i + (row + 3) * lda);
+          FloatVector vc0 = FloatVector.fromArray(FMAX, c, offsetc + i + col * ldc);
+          valphab00.fma(va0, valphab10.fma(va1, valphab20.fma(va2, valphab30.fma(va3, vc0))))
+            .intoArray(c, offsetc + i + col * ldc);
+          FloatVector vb0 = FloatVector.fromArray(FMAX, b, offsetb + i + col * ldb);
+          vsum00 = va0.fma(vb0, vsum00);
+          vsum10 = va1.fma(vb0, vsum10);
+          vsum20 = va2.fma(vb0, vsum20);
+          vsum30 = va3.fma(vb0, vsum30);
+        }
+        float sum00 = vsum00.reduceLanes(VectorOperators.ADD);
+        float sum10 = vsum10.reduceLanes(VectorOperators.ADD);
+        float sum20 = vsum20.reduceLanes(VectorOperators.ADD);
+        float sum30 = vsum30.reduceLanes(VectorOperators.ADD);
+        float alphab00 = alpha * b[offsetb + (row + 0) + col * ldb];
+        float alphab10 = alpha * b[offsetb + (row + 1) + col * ldb];
+        float alphab20 = alpha * b[offsetb + (row + 2) + col * ldb];
+        float alphab30 = alpha * b[offsetb + (row + 3) + col * ldb];
+        for (; i < m; i += 1) {
+          float a0 = a[offseta + i + (row + 0) * lda];
+          float a1 = a[offseta + i + (row + 1) * lda];
+          float a2 = a[offseta + i + (row + 2) * lda];
+          float a3 = a[offseta + i + (row + 3) * lda];
+          c[offsetc + i + col * ldc] += alphab00 * a0 + alphab10 * a1 + alphab20 * a2 + alphab30 * a3;
+          float b0 = b[offsetb + i + col * ldb];
+          sum00 += a0 * b0;
+          sum10 += a1 * b0;
+          sum20 += a2 * b0;
+          sum30 += a3 * b0;
+        }
+        float a00 = a[offseta + (row + 0) + (row + 0) * lda];
+        float a10 = a[offseta + (row + 1) + (row + 0) * lda];
+        float a11 = a[offseta + (row + 1) + (row + 1) * lda];
+        float a20 = a[offseta + (row + 2) + (row + 0) * lda];
+        float a21 = a[offseta + (row + 2) + (row + 1) * lda];
+        float a22 = a[offseta + (row + 2) + (row + 2) * lda];
+        float a30 = a[offseta + (row + 3) + (row + 0) * lda];
+        float a31 = a[offseta + (row + 3) + (row + 1) * lda];
+        float a32 = a[offseta + (row + 3) + (row + 2) * lda];
+        float a33 = a[offseta + (row + 3) + (row + 3) * lda];
+        float b00 = b[offsetb + (row + 0) + col * ldb];
+        float b10 = b[offsetb + (row + 1) + col * ldb];
+        float b20 = b[offsetb + (row + 2) + col * ldb];
+        float b30 = b[offsetb + (row + 3) + col * ldb];
+        sum00 += b00 * a00 + b10 * a10 + b20 * a20 + b30 * a30;
+        sum10 += b00 * a10 + b10 * a11 + b20 * a21 + b30 * a31;
+        sum20 += b00 * a20 + b10 * a21 + b20 * a22 + b30 * a32;
+        sum30 += b00 * a30 + b10 * a31 + b20 * a32 + b30 * a33;
+        if (beta != 0.0f) {
+          c[offsetc + (row + 0) + col * ldc] = alpha * sum00 + beta * c[offsetc + (row + 0) + col * ldc];
+          c[offsetc + (row + 1) + col * ldc] = alpha * sum10 + beta * c[offsetc + (row + 1) + col * ldc];
+          c[offsetc + (row + 2) + col * ldc] = alpha * sum20 + beta * c[offsetc + (row + 2) + col * ldc];
+          c[offsetc + (row + 3) + col * ldc] = alpha * sum30 + beta * c[offsetc + (row + 3) + col * ldc];
+        } else {
+          c[offsetc + (row + 0) + col * ldc] = alpha * sum00;
+          c[offsetc + (row + 1) + col * ldc] = alpha * sum10;
+          c[offsetc + (row + 2) + col * ldc] = alpha * sum20;
+          c[offsetc + (row + 3) + col * ldc] = alpha * sum30;
+        }
+      }
+    }
+  }
+
+  protected void dsymvU(int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      int col = 0;
+      for (; col < loopBound(n, 4); col += 4) {
+        int row = 0;
+        DoubleVector vsum0 = DoubleVector.zero(DMAX);
+        DoubleVector vsum1 = DoubleVector.zero(DMAX);
+        DoubleVector vsum2 = DoubleVector.zero(DMAX);
+        DoubleVector vsum3 = DoubleVector.zero(DMAX);
+        DoubleVector valphax0 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 0)]);
+        DoubleVector valphax1 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 1)]);
+        DoubleVector valphax2 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 2)]);
+        DoubleVector valphax3 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 3)]);
+        for (; row < DMAX.loopBound(col); row += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * lda);
+          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 1) * lda);
+          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 2) * lda);
+          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 3) * lda);
+          DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + row);
+          valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy0))))
+            .intoArray(y, offsety + row);
+          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          vsum0 = vx0.fma(va0, vsum0);
+          vsum1 = vx0.fma(va1, vsum1);
+          vsum2 = vx0.fma(va2, vsum2);
+          vsum3 = vx0.fma(va3, vsum3);
+        }
+        double sum0 = vsum0.reduceLanes(VectorOperators.ADD);
+        double sum1 = vsum1.reduceLanes(VectorOperators.ADD);
+        double sum2 = vsum2.reduceLanes(VectorOperators.ADD);
+        double sum3 = vsum3.reduceLanes(VectorOperators.ADD);
+        double alphax0 = alpha * x[offsetx + (col + 0)];
+        double alphax1 = alpha * x[offsetx + (col + 1)];
+        double alphax2 = alpha * x[offsetx + (col + 2)];
+        double alphax3 = alpha * x[offsetx + (col + 3)];
+        for (; row < col; row += 1) {
+          double a0 = a[offseta + row + (col + 0) * lda];
+          double a1 = a[offseta + row + (col + 1) * lda];
+          double a2 = a[offseta + row + (col + 2) * lda];
+          double a3 = a[offseta + row + (col + 3) * lda];
+          y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
+          double x0 = x[offsetx + row];
+          sum0 += x0 * a0;
+          sum1 += x0 * a1;
+          sum2 += x0 * a2;
+          sum3 += x0 * a3;
+        }
+        {
+          double a00 = a[offseta + (row + 0) + (col + 0) * lda];
+          double a01 = a[offseta + (row + 0) + (col + 1) * lda];
+          double a02 = a[offseta + (row + 0) + (col + 2) * lda];
+          double a03 = a[offseta + (row + 0) + (col + 3) * lda];
+          double a11 = a[offseta + (row + 1) + (col + 1) * lda];
+          double a12 = a[offseta + (row + 1) + (col + 2) * lda];
+          double a13 = a[offseta + (row + 1) + (col + 3) * lda];
+          double a22 = a[offseta + (row + 2) + (col + 2) * lda];
+          double a23 = a[offseta + (row + 2) + (col + 3) * lda];
+          double a33 = a[offseta + (row + 3) + (col + 3) * lda];
+          double x0 = x[offsetx + (row + 0)];
+          double x1 = x[offsetx + (row + 1)];
+          double x2 = x[offsetx + (row + 2)];
+          double x3 = x[offsetx + (row + 3)];
+          sum0 += x0 * a00 + x1 * a01 + x2 * a02 + x3 * a03;
+          sum1 += x0 * a01 + x1 * a11 + x2 * a12 + x3 * a13;
+          sum2 += x0 * a02 + x1 * a12 + x2 * a22 + x3 * a23;
+          sum3 += x0 * a03 + x1 * a13 + x2 * a23 + x3 * a33;
+        }
+        if (beta != 0.0) {
+          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
+          y[offsety + (col + 1)] = alpha * sum1 + beta * y[offsety + (col + 1)];
+          y[offsety + (col + 2)] = alpha * sum2 + beta * y[offsety + (col + 2)];
+          y[offsety + (col + 3)] = alpha * sum3 + beta * y[offsety + (col + 3)];
+        } else {
+          y[offsety + (col + 0)] = alpha * sum0;
+          y[offsety + (col + 1)] = alpha * sum1;
+          y[offsety + (col + 2)] = alpha * sum2;
+          y[offsety + (col + 3)] = alpha * sum3;
+        }
+      }
+      for (; col < n; col += 1) {
+        int row = 0;
+        DoubleVector vsum0 = DoubleVector.zero(DMAX);
+        DoubleVector valphax0 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 0)]);
+        for (; row < DMAX.loopBound(col); row += DMAX.length()) {
+          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * lda);
+          DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + row);
+          valphax0.fma(va0, vy0)
+            .intoArray(y, offsety + row);
+          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + row);
+          vsum0 = vx0.fma(va0, vsum0);
+        }
+        double sum0 = vsum0.reduceLanes(VectorOperators.ADD);
+        double alphax0 = alpha * x[offsetx + (col + 0)];
+        for (; row < col; row += 1) {
+          double a0 = a[offseta + row + (col + 0) * lda];
+          y[offsety + row] += alphax0 * a0;
+          double x0 = x[offsetx + row];
+          sum0 += x0 * a0;
+        }
+        {
+          double a00 = a[offseta + (row + 0) + (col + 0) * lda];
+          double x0 = x[offsetx + (row + 0)];
+          sum0 += x0 * a00;
+        }
+        if (beta != 0.0) {
+          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
+        } else {
+          y[offsety + (col + 0)] = alpha * sum0;
+        }
+      }
+    } else {
+      super.dsymvU(n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected void ssymvU(int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    if (incx == 1 && incy == 1) {
+      int col = 0;
+      for (; col < loopBound(n, 4); col += 4) {
         int row = 0;
-        FloatVector valphax0 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 0)]);
-        FloatVector valphax1 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 1)]);
-        FloatVector valphax2 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 2)]);
-        FloatVector valphax3 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 3)]);
         FloatVector vsum0 = FloatVector.zero(FMAX);
         FloatVector vsum1 = FloatVector.zero(FMAX);
         FloatVector vsum2 = FloatVector.zero(FMAX);
         FloatVector vsum3 = FloatVector.zero(FMAX);
+        FloatVector valphax0 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 0)]);
+        FloatVector valphax1 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 1)]);
+        FloatVector valphax2 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 2)]);
+        FloatVector valphax3 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 3)]);
         for (; row < FMAX.loopBound(col); row += FMAX.length()) {
-          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * ((col + 0) + 1) / 2);
-          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 1) * ((col + 1) + 1) / 2);
-          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 2) * ((col + 2) + 1) / 2);
-          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 3) * ((col + 3) + 1) / 2);
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
+          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 1) * lda);
+          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 2) * lda);
+          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 3) * lda);
           FloatVector vy0 = FloatVector.fromArray(FMAX, y, offsety + row);
           valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy0))))
             .intoArray(y, offsety + row);
@@ -989,19 +3496,19 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
           vsum2 = vx0.fma(va2, vsum2);
           vsum3 = vx0.fma(va3, vsum3);
         }
-        float alphax0 = alpha * x[offsetx + (col + 0)];
-        float alphax1 = alpha * x[offsetx + (col + 1)];
-        float alphax2 = alpha * x[offsetx + (col + 2)];
-        float alphax3 = alpha * x[offsetx + (col + 3)];
         float sum0 = vsum0.reduceLanes(VectorOperators.ADD);
         float sum1 = vsum1.reduceLanes(VectorOperators.ADD);
         float sum2 = vsum2.reduceLanes(VectorOperators.ADD);
         float sum3 = vsum3.reduceLanes(VectorOperators.ADD);
+        float alphax0 = alpha * x[offsetx + (col + 0)];
+        float alphax1 = alpha * x[offsetx + (col + 1)];
+        float alphax2 = alpha * x[offsetx + (col + 2)];
+        float alphax3 = alpha * x[offsetx + (col + 3)];
         for (; row < col; row += 1) {
-          float a0 = a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
-          float a1 = a[offseta + row + (col + 1) * ((col + 1) + 1) / 2];
-          float a2 = a[offseta + row + (col + 2) * ((col + 2) + 1) / 2];
-          float a3 = a[offseta + row + (col + 3) * ((col + 3) + 1) / 2];
+          float a0 = a[offseta + row + (col + 0) * lda];
+          float a1 = a[offseta + row + (col + 1) * lda];
+          float a2 = a[offseta + row + (col + 2) * lda];
+          float a3 = a[offseta + row + (col + 3) * lda];
           y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
           float x0 = x[offsetx + row];
           sum0 += x0 * a0;
@@ -1009,24 +3516,26 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
           sum2 += x0 * a2;
           sum3 += x0 * a3;
         }
-        float a00 = a[offseta + (row + 0) + (col + 0) * ((col + 0) + 1) / 2];
-        float a01 = a[offseta + (row + 0) + (col + 1) * ((col + 1) + 1) / 2];
-        float a02 = a[offseta + (row + 0) + (col + 2) * ((col + 2) + 1) / 2];
-        float a03 = a[offseta + (row + 0) + (col + 3) * ((col + 3) + 1) / 2];
-        float a11 = a[offseta + (row + 1) + (col + 1) * ((col + 1) + 1) / 2];
-        float a12 = a[offseta + (row + 1) + (col + 2) * ((col + 2) + 1) / 2];
-        float a13 = a[offseta + (row + 1) + (col + 3) * ((col + 3) + 1) / 2];
-        float a22 = a[offseta + (row + 2) + (col + 2) * ((col + 2) + 1) / 2];
-        float a23 = a[offseta + (row + 2) + (col + 3) * ((col + 3) + 1) / 2];
-        float a33 = a[offseta + (row + 3) + (col + 3) * ((col + 3) + 1) / 2];
-        float x0 = x[offsetx + (row + 0)];
-        float x1 = x[offsetx + (row + 1)];
-        float x2 = x[offsetx + (row + 2)];
-        float x3 = x[offsetx + (row + 3)];
-        sum0 += x0 * a00 + x1 * a01 + x2 * a02 + x3 * a03;
-        sum1 += x0 * a01 + x1 * a11 + x2 * a12 + x3 * a13;
-        sum2 += x0 * a02 + x1 * a12 + x2 * a22 + x3 * a23;
-        sum3 += x0 * a03 + x1 * a13 + x2 * a23 + x3 * a33;
+        {
+          float a00 = a[offseta + (row + 0) + (col + 0) * lda];
+          float a01 = a[offseta + (row + 0) + (col + 1) * lda];
+          float a02 = a[offseta + (row + 0) + (col + 2) * lda];
+          float a03 = a[offseta + (row + 0) + (col + 3) * lda];
+          float a11 = a[offseta + (row + 1) + (col + 1) * lda];
+          float a12 = a[offseta + (row + 1) + (col + 2) * lda];
+          float a13 = a[offseta + (row + 1) + (col + 3) * lda];
+          float a22 = a[offseta + (row + 2) + (col + 2) * lda];
+          float a23 = a[offseta + (row + 2) + (col + 3) * lda];
+          float a33 = a[offseta + (row + 3) + (col + 3) * lda];
+          float x0 = x[offsetx + (row + 0)];
+          float x1 = x[offsetx + (row + 1)];
+          float x2 = x[offsetx + (row + 2)];
+          float x3 = x[offsetx + (row + 3)];
+          sum0 += x0 * a00 + x1 * a01 + x2 * a02 + x3 * a03;
+          sum1 += x0 * a01 + x1 * a11 + x2 * a12 + x3 * a13;
+          sum2 += x0 * a02 + x1 * a12 + x2 * a22 + x3 * a23;
+          sum3 += x0 * a03 + x1 * a13 + x2 * a23 + x3 * a33;
+        }
         if (beta != 0.0f) {
           y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
           y[offsety + (col + 1)] = alpha * sum1 + beta * y[offsety + (col + 1)];
@@ -1039,842 +3548,962 @@ class VectorBLAS extends Java11BLAS implements JavaBLAS {
           y[offsety + (col + 3)] = alpha * sum3;
         }
       }
-      for (; col < n; col += 1) {
+      for (; col < n; col += 1) {
+        int row = 0;
+        FloatVector vsum0 = FloatVector.zero(FMAX);
+        FloatVector valphax0 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 0)]);
+        for (; row < FMAX.loopBound(col); row += FMAX.length()) {
+          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
+          FloatVector vy0 = FloatVector.fromArray(FMAX, y, offsety + row);
+          valphax0.fma(va0, vy0)
+            .intoArray(y, offsety + row);
+          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + row);
+          vsum0 = vx0.fma(va0, vsum0);
+        }
+        float sum0 = vsum0.reduceLanes(VectorOperators.ADD);
+        float alphax0 = alpha * x[offsetx + (col + 0)];
+        for (; row < col; row += 1) {
+          float a0 = a[offseta + row + (col + 0) * lda];
+          y[offsety + row] += alphax0 * a0;
+          float x0 = x[offsetx + row];
+          sum0 += x0 * a0;
+        }
+        {
+          float a00 = a[offseta + (row + 0) + (col + 0) * lda];
+          float x0 = x[offsetx + (row + 0)];
+          sum0 += x0 * a00;
+        }
+        if (beta != 0.0f) {
+          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
+        } else {
+          y[offsety + (col + 0)] = alpha * sum0;
+        }
+      }
+    } else {
+      super.ssymvU(n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  protected void dsyrCol(int rows, int rowe, double alphaxcol, double[] x, int kx, int incx, double[] a, int acol) {
+    if (incx == 1) {
+      DoubleVector valphaxcol = DoubleVector.broadcast(DMAX, alphaxcol);
+      int row = rows;
+      for (; row < rows + DMAX.loopBound(rowe - rows); row += DMAX.length()) {
+        DoubleVector vx = DoubleVector.fromArray(DMAX, x, kx + row);
+        DoubleVector va = DoubleVector.fromArray(DMAX, a, acol + row);
+        vx.fma(valphaxcol, va).intoArray(a, acol + row);
+      }
+      for (; row < rowe; row += 1) {
+        a[acol + row] += x[kx + row] * alphaxcol;
+      }
+    } else {
+      super.dsyrCol(rows, rowe, alphaxcol, x, kx, incx, a, acol);
+    }
+  }
+
+  protected void dsyr2Col(int rows, int rowe, double alphaycol, double alphaxcol, double[] x, int kx, int incx, double[] y, int ky, int incy, double[] a, int acol) {
+    if (incx == 1 && incy == 1) {
+      DoubleVector valphaycol = DoubleVector.broadcast(DMAX, alphaycol);
+      DoubleVector valphaxcol = DoubleVector.broadcast(DMAX, alphaxcol);
+      int row = rows;
+      for (; row < rows + DMAX.loopBound(rowe - rows); row += DMAX.length()) {
+        DoubleVector vx = DoubleVector.fromArray(DMAX, x, kx + row);
+        DoubleVector vy = DoubleVector.fromArray(DMAX, y, ky + row);
+        DoubleVector va = DoubleVector.fromArray(DMAX, a, acol + row);
+        vy.fma(valphaxcol, vx.fma(valphaycol, va)).intoArray(a, acol + row);
+      }
+      for (; row < rowe; row += 1) {
+        a[acol + row] += x[kx + row] * alphaycol + y[ky + row] * alphaxcol;
+      }
+    } else {
+      super.dsyr2Col(rows, rowe, alphaycol, alphaxcol, x, kx, incx, y, ky, incy, a, acol);
+    }
+  }
+
+  protected void ssyrCol(int rows, int rowe, float alphaxcol, float[] x, int kx, int incx, float[] a, int acol) {
+    if (incx == 1) {
+      FloatVector valphaxcol = FloatVector.broadcast(FMAX, alphaxcol);
+      int row = rows;
+      for (; row < rows + FMAX.loopBound(rowe - rows); row += FMAX.length()) {
+        FloatVector vx = FloatVector.fromArray(FMAX, x, kx + row);
+        FloatVector va = FloatVector.fromArray(FMAX, a, acol + row);
+        vx.fma(valphaxcol, va).intoArray(a, acol + row);
+      }
+      for (; row < rowe; row += 1) {
+        a[acol + row] += x[kx + row] * alphaxcol;
+      }
+    } else {
+      super.ssyrCol(rows, rowe, alphaxcol, x, kx, incx, a, acol);
+    }
+  }
+
+  protected void ssyr2Col(int rows, int rowe, float alphaycol, float alphaxcol, float[] x, int kx, int incx, float[] y, int ky, int incy, float[] a, int acol) {
+    if (incx == 1 && incy == 1) {
+      FloatVector valphaycol = FloatVector.broadcast(FMAX, alphaycol);
+      FloatVector valphaxcol = FloatVector.broadcast(FMAX, alphaxcol);
+      int row = rows;
+      for (; row < rows + FMAX.loopBound(rowe - rows); row += FMAX.length()) {
+        FloatVector vx = FloatVector.fromArray(FMAX, x, kx + row);
+        FloatVector vy = FloatVector.fromArray(FMAX, y, ky + row);
+        FloatVector va = FloatVector.fromArray(FMAX, a, acol + row);
+        vy.fma(valphaxcol, vx.fma(valphaycol, va)).intoArray(a, acol + row);
+      }
+      for (; row < rowe; row += 1) {
+        a[acol + row] += x[kx + row] * alphaycol + y[ky + row] * alphaxcol;
+      }
+    } else {
+      super.ssyr2Col(rows, rowe, alphaycol, alphaxcol, x, kx, incx, y, ky, incy, a, acol);
+    }
+  }
+
+  protected void dsyrkTriK(boolean upper, boolean notrans, int js, int je, int k, double alpha, double[] a, int offseta, int lda, double[] c, int offsetc, int ldc) {
+    if (!notrans) {
+      for (int col = js; col < je; col += 1) {
+        int rows = upper ? js : col, rowe = upper ? col + 1 : je;
+        int row = rows;
+        for (; row < rows + loopBound(rowe - rows, 4); row += 4) {
+          DoubleVector vsum0 = DoubleVector.zero(DMAX);
+          DoubleVector vsum1 = DoubleVector.zero(DMAX);
+          DoubleVector vsum2 = DoubleVector.zero(DMAX);
+          DoubleVector vsum3 = DoubleVector.zero(DMAX);
+          int l = 0;
+          for (; l < DMAX.loopBound(k); l += DMAX.length()) {
+            DoubleVector vcol = DoubleVector.fromArray(DMAX, a, offseta + l + col * lda);
+            vsum0 = DoubleVector.fromArray(DMAX, a, offseta + l + (row + 0) * lda).fma(vcol, vsum0);
+            vsum1 = DoubleVector.fromArray(DMAX, a, offseta + l + (row + 1) * lda).fma(vcol, vsum1);
+            vsum2 = DoubleVector.fromArray(DMAX, a, offseta + l + (row + 2) * lda).fma(vcol, vsum2);
+            vsum3 = DoubleVector.fromArray(DMAX, a, offseta + l + (row + 3) * lda).fma(vcol, vsum3);
+          }
+          double sum0 = vsum0.reduceLanes(VectorOperators.ADD);
+          double sum1 = vsum1.reduceLanes(VectorOperators.ADD);
+          double sum2 = vsum2.reduceLanes(VectorOperators.ADD);
+          double sum3 = vsum3.reduceLanes(VectorOperators.ADD);
+          for (; l < k; l += 1) {
+            double acol = a[offseta + l + col * lda];
+            sum0 += a[offseta + l + (row + 0) * lda] * acol;
+            sum1 += a[offseta + l + (row + 1) * lda] * acol;
+            sum2 += a[offseta + l + (row + 2) * lda] * acol;
+            sum3 += a[offseta + l + (row + 3) * lda] * acol;
+          }
+          c[offsetc + (row + 0) + col * ldc] += alpha * sum0;
+          c[offsetc + (row + 1) + col * ldc] += alpha * sum1;
+          c[offsetc + (row + 2) + col * ldc] += alpha * sum2;
+          c[offsetc + (row + 3) + col * ldc] += alpha * sum3;
+        }
+        for (; row < rowe; row += 1) {
+          DoubleVector vsum = DoubleVector.zero(DMAX);
+          int l = 0;
+          for (; l < DMAX.loopBound(k); l += DMAX.length()) {
+            DoubleVector vcol = DoubleVector.fromArray(DMAX, a, offseta + l + col * lda);
+            vsum = DoubleVector.fromArray(DMAX, a, offseta + l + row * lda).fma(vcol, vsum);
+          }
+          double sum = vsum.reduceLanes(VectorOperators.ADD);
+          for (; l < k; l += 1) {
+            sum += a[offseta + l + row * lda] * a[offseta + l + col * lda];
+          }
+          c[offsetc + row + col * ldc] += alpha * sum;
+        }
+      }
+    } else {
+      super.dsyrkTriK(upper, notrans, js, je, k, alpha, a, offseta, lda, c, offsetc, ldc);
+    }
+  }
+
+  protected void ssyrkTriK(boolean upper, boolean notrans, int js, int je, int k, float alpha, float[] a, int offseta, int lda, float[] c, int offsetc, int ldc) {
+    if (!notrans) {
+      for (int col = js; col < je; col += 1) {
+        int rows = upper ? js : col, rowe = upper ? col + 1 : je;
+        int row = rows;
+        for (; row < rows + loopBound(rowe - rows, 4); row += 4) {
+          FloatVector vsum0 = FloatVector.zero(FMAX);
+          FloatVector vsum1 = FloatVector.zero(FMAX);
+          FloatVector vsum2 = FloatVector.zero(FMAX);
+          FloatVector vsum3 = FloatVector.zero(FMAX);
+          int l = 0;
+          for (; l < FMAX.loopBound(k); l += FMAX.length()) {
+            FloatVector vcol = FloatVector.fromArray(FMAX, a, offseta + l + col * lda);
+            vsum0 = FloatVector.fromArray(FMAX, a, offseta + l + (row + 0) * lda).fma(vcol, vsum0);
+            vsum1 = FloatVector.fromArray(FMAX, a, offseta + l + (row + 1) * lda).fma(vcol, vsum1);
+            vsum2 = FloatVector.fromArray(FMAX, a, offseta + l + (row + 2) * lda).fma(vcol, vsum2);
+            vsum3 = FloatVector.fromArray(FMAX, a, offseta + l + (row + 3) * lda).fma(vcol, vsum3);
+          }
+          float sum0 = vsum0.reduceLanes(VectorOperators.ADD);
+          float sum1 = vsum1.reduceLanes(VectorOperators.ADD);
+          float sum2 = vsum2.reduceLanes(VectorOperators.ADD);
+          float sum3 = vsum3.reduceLanes(VectorOperators.ADD);
+          for (; l < k; l += 1) {
+            float acol = a[offseta + l + col * lda];
+            sum0 += a[offseta + l + (row + 0) * lda] * acol;
+            sum1 += a[offseta + l + (row + 1) * lda] * acol;
+            sum2 += a[offseta + l + (row + 2) * lda] * acol;
+            sum3 += a[offseta + l + (row + 3) * lda] * acol;
+          }
+          c[offsetc + (row + 0) + col * ldc] += alpha * sum0;
+          c[offsetc + (row + 1) + col * ldc] += alpha * sum1;
+          c[offsetc + (row + 2) + col * ldc] += alpha * sum2;
+          c[offsetc + (row + 3) + col * ldc] += alpha * sum3;
+        }
+        for (; row < rowe; row += 1) {
+          FloatVector vsum = FloatVector.zero(FMAX);
+          int l = 0;
+          for (; l < FMAX.loopBound(k); l += FMAX.length()) {
+            FloatVector vcol = FloatVector.fromArray(FMAX, a, offseta + l + col * lda);
+            vsum = FloatVector.fromArray(FMAX, a, offseta + l + row * lda).fma(vcol, vsum);
+          }
+          float sum = vsum.reduceLanes(VectorOperators.ADD);
+          for (; l < k; l += 1) {
+            sum += a[offseta + l + row * lda] * a[offseta + l + col * lda];
+          }
+          c[offsetc + row + col * ldc] += alpha * sum;
+        }
+      }
+    } else {
+      super.ssyrkTriK(upper, notrans, js, je, k, alpha, a, offseta, lda, c, offsetc, ldc);
+    }
+  }
+
+  protected void dtrmmLUN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < m; k += 1) {
+        double bkj = b[offsetb + k + col * ldb];
+        if (bkj != 0.0) {
+          DoubleVector vbkj = DoubleVector.broadcast(DMAX, bkj);
+          int row = 0;
+          for (; row < DMAX.loopBound(k); row += DMAX.length()) {
+            DoubleVector vx = DoubleVector.fromArray(DMAX, a, offseta + row + k * lda);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, b, offsetb + row + col * ldb);
+            vx.fma(vbkj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < k; row += 1) {
+            b[offsetb + row + col * ldb] += bkj * a[offseta + row + k * lda];
+          }
+          if (nounit) {
+            b[offsetb + k + col * ldb] = bkj * a[offseta + k + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrmmLLN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = m - 1; k >= 0; k -= 1) {
+        double bkj = b[offsetb + k + col * ldb];
+        if (bkj != 0.0) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] = bkj * a[offseta + k + k * lda];
+          }
+          DoubleVector vbkj = DoubleVector.broadcast(DMAX, bkj);
+          int row = k + 1;
+          for (; row < k + 1 + DMAX.loopBound(m - k - 1); row += DMAX.length()) {
+            DoubleVector vx = DoubleVector.fromArray(DMAX, a, offseta + row + k * lda);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, b, offsetb + row + col * ldb);
+            vx.fma(vbkj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += bkj * a[offseta + row + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrmmLUT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = m - 1; row >= 0; row -= 1) {
+        DoubleVector vsum = DoubleVector.zero(DMAX);
+        int i = 0;
+        for (; i < DMAX.loopBound(row); i += DMAX.length()) {
+          DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + i + row * lda);
+          DoubleVector vb = DoubleVector.fromArray(DMAX, b, offsetb + i + col * ldb);
+          vsum = va.fma(vb, vsum);
+        }
+        double sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; i < row; i += 1) {
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        double brow = b[offsetb + row + col * ldb];
+        if (nounit) {
+          brow *= a[offseta + row + row * lda];
+        }
+        b[offsetb + row + col * ldb] = brow + sum;
+      }
+    }
+  }
+
+  protected void dtrmmLLT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        DoubleVector vsum = DoubleVector.zero(DMAX);
+        int i = row + 1;
+        for (; i < row + 1 + DMAX.loopBound(m - row - 1); i += DMAX.length()) {
+          DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + i + row * lda);
+          DoubleVector vb = DoubleVector.fromArray(DMAX, b, offsetb + i + col * ldb);
+          vsum = va.fma(vb, vsum);
+        }
+        double sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; i < m; i += 1) {
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        double brow = b[offsetb + row + col * ldb];
+        if (nounit) {
+          brow *= a[offseta + row + row * lda];
+        }
+        b[offsetb + row + col * ldb] = brow + sum;
+      }
+    }
+  }
+
+  protected void dtrsmLUN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = m - 1; k >= 0; k -= 1) {
+        if (b[offsetb + k + col * ldb] != 0.0) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] /= a[offseta + k + k * lda];
+          }
+          double bkj = b[offsetb + k + col * ldb];
+          DoubleVector vnbkj = DoubleVector.broadcast(DMAX, -bkj);
+          int row = 0;
+          for (; row < DMAX.loopBound(k); row += DMAX.length()) {
+            DoubleVector vx = DoubleVector.fromArray(DMAX, a, offseta + row + k * lda);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnbkj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < k; row += 1) {
+            b[offsetb + row + col * ldb] -= bkj * a[offseta + row + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrsmLLN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < m; k += 1) {
+        if (b[offsetb + k + col * ldb] != 0.0) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] /= a[offseta + k + k * lda];
+          }
+          double bkj = b[offsetb + k + col * ldb];
+          DoubleVector vnbkj = DoubleVector.broadcast(DMAX, -bkj);
+          int row = k + 1;
+          for (; row < k + 1 + DMAX.loopBound(m - k - 1); row += DMAX.length()) {
+            DoubleVector vx = DoubleVector.fromArray(DMAX, a, offseta + row + k * lda);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnbkj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= bkj * a[offseta + row + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void dtrsmLUT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        DoubleVector vsum = DoubleVector.zero(DMAX);
+        int i = 0;
+        for (; i < DMAX.loopBound(row); i += DMAX.length()) {
+          DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + i + row * lda);
+          DoubleVector vb = DoubleVector.fromArray(DMAX, b, offsetb + i + col * ldb);
+          vsum = va.fma(vb, vsum);
+        }
+        double sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; i < row; i += 1) {
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        sum = b[offsetb + row + col * ldb] - sum;
+        if (nounit) {
+          sum /= a[offseta + row + row * lda];
+        }
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void dtrsmLLT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = m - 1; row >= 0; row -= 1) {
+        DoubleVector vsum = DoubleVector.zero(DMAX);
+        int i = row + 1;
+        for (; i < row + 1 + DMAX.loopBound(m - row - 1); i += DMAX.length()) {
+          DoubleVector va = DoubleVector.fromArray(DMAX, a, offseta + i + row * lda);
+          DoubleVector vb = DoubleVector.fromArray(DMAX, b, offsetb + i + col * ldb);
+          vsum = va.fma(vb, vsum);
+        }
+        double sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; i < m; i += 1) {
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
+        }
+        sum = b[offsetb + row + col * ldb] - sum;
+        if (nounit) {
+          sum /= a[offseta + row + row * lda];
+        }
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void dtrsmRUN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < col; k += 1) {
+        double akj = a[offseta + k + col * lda];
+        if (akj != 0.0) {
+          DoubleVector vnakj = DoubleVector.broadcast(DMAX, -akj);
+          int row = 0;
+          for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+            DoubleVector vx = DoubleVector.fromArray(DMAX, b, offsetb + row + k * ldb);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnakj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= akj * b[offsetb + row + k * ldb];
+          }
+        }
+      }
+      if (nounit) {
+        double ajj = 1.0 / a[offseta + col + col * lda];
+        DoubleVector vajj = DoubleVector.broadcast(DMAX, ajj);
         int row = 0;
-        float alphax0 = alpha * x[offsetx + (col + 0)];
-        float sum0 = 0.0f;
-        for (; row < col; row += 1) {
-          float a0 = a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
-          y[offsety + row] += alphax0 * a0;
-          sum0 += x[offsetx + row] * a0;
+        for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+          DoubleVector.fromArray(DMAX, b, offsetb + row + col * ldb).mul(vajj).intoArray(b, offsetb + row + col * ldb);
         }
-        sum0 += x[offsetx + row] * a[offseta + row + (col + 0) * ((col + 0) + 1) / 2];
-        if (beta != 0.0f) {
-          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
-        } else {
-          y[offsety + (col + 0)] = alpha * sum0;
+        for (; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
         }
       }
-    } else {
-      super.sspmvU(n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
     }
   }
 
-  protected void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
-    if (incx == 1 && incy == 1) {
-      int i = 0;
-      for (; i < DMAX.loopBound(n); i += DMAX.length()) {
-        DoubleVector x0 = DoubleVector.fromArray(DMAX, x, offsetx + i);
-        DoubleVector y0 = DoubleVector.fromArray(DMAX, y, offsety + i);
-        x0.intoArray(y, offsety + i);
-        y0.intoArray(x, offsetx + i);
+  protected void dtrsmRLN(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      for (int k = col + 1; k < n; k += 1) {
+        double akj = a[offseta + k + col * lda];
+        if (akj != 0.0) {
+          DoubleVector vnakj = DoubleVector.broadcast(DMAX, -akj);
+          int row = 0;
+          for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+            DoubleVector vx = DoubleVector.fromArray(DMAX, b, offsetb + row + k * ldb);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnakj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= akj * b[offsetb + row + k * ldb];
+          }
+        }
       }
-      for (; i < n; i += 1) {
-        double x0 = x[offsetx + i];
-        double y0 = y[offsety + i];
-        y[offsety + i] = x0;
-        x[offsetx + i] = y0;
+      if (nounit) {
+        double ajj = 1.0 / a[offseta + col + col * lda];
+        DoubleVector vajj = DoubleVector.broadcast(DMAX, ajj);
+        int row = 0;
+        for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+          DoubleVector.fromArray(DMAX, b, offsetb + row + col * ldb).mul(vajj).intoArray(b, offsetb + row + col * ldb);
+        }
+        for (; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
+        }
       }
-    } else {
-      super.dswapK(n, x, offsetx, incx, y, offsety, incy);
     }
   }
 
-  protected void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
-    if (incx == 1 && incy == 1) {
-      int i = 0;
-      for (; i < FMAX.loopBound(n); i += FMAX.length()) {
-        FloatVector x0 = FloatVector.fromArray(FMAX, x, offsetx + i);
-        FloatVector y0 = FloatVector.fromArray(FMAX, y, offsety + i);
-        x0.intoArray(y, offsety + i);
-        y0.intoArray(x, offsetx + i);
+  protected void dtrsmRUT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int k = n - 1; k >= 0; k -= 1) {
+      if (nounit) {
+        double akk = 1.0 / a[offseta + k + k * lda];
+        DoubleVector vakk = DoubleVector.broadcast(DMAX, akk);
+        int row = 0;
+        for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+          DoubleVector.fromArray(DMAX, b, offsetb + row + k * ldb).mul(vakk).intoArray(b, offsetb + row + k * ldb);
+        }
+        for (; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
+        }
       }
-      for (; i < n; i += 1) {
-        float x0 = x[offsetx + i];
-        float y0 = y[offsety + i];
-        y[offsety + i] = x0;
-        x[offsetx + i] = y0;
+      for (int col = 0; col < k; col += 1) {
+        double ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0) {
+          DoubleVector vnajk = DoubleVector.broadcast(DMAX, -ajk);
+          int row = 0;
+          for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+            DoubleVector vx = DoubleVector.fromArray(DMAX, b, offsetb + row + k * ldb);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnajk, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= ajk * b[offsetb + row + k * ldb];
+          }
+        }
       }
-    } else {
-      super.sswapK(n, x, offsetx, incx, y, offsety, incy);
     }
   }
 
-  protected void dsymmLU(int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
-    // C := alpha*A*B + beta*C
-    int col = 0;
-    for (; col < loopBound(n, 4); col += 4) {
-      int row = 0;
-      for (; row < loopBound(m, 4); row += 4) {
-        double sum00 = 0.0;
-        double sum10 = 0.0;
-        double sum20 = 0.0;
-        double sum30 = 0.0;
-        double sum01 = 0.0;
-        double sum11 = 0.0;
-        double sum21 = 0.0;
-        double sum31 = 0.0;
-        double sum02 = 0.0;
-        double sum12 = 0.0;
-        double sum22 = 0.0;
-        double sum32 = 0.0;
-        double sum03 = 0.0;
-        double sum13 = 0.0;
-        double sum23 = 0.0;
-        double sum33 = 0.0;
-        double alphab00 = alpha * b[offsetb + (row + 0) + (col + 0) * ldb];
-        double alphab10 = alpha * b[offsetb + (row + 1) + (col + 0) * ldb];
-        double alphab20 = alpha * b[offsetb + (row + 2) + (col + 0) * ldb];
-        double alphab30 = alpha * b[offsetb + (row + 3) + (col + 0) * ldb];
-        double alphab01 = alpha * b[offsetb + (row + 0) + (col + 1) * ldb];
-        double alphab11 = alpha * b[offsetb + (row + 1) + (col + 1) * ldb];
-        double alphab21 = alpha * b[offsetb + (row + 2) + (col + 1) * ldb];
-        double alphab31 = alpha * b[offsetb + (row + 3) + (col + 1) * ldb];
-        double alphab02 = alpha * b[offsetb + (row + 0) + (col + 2) * ldb];
-        double alphab12 = alpha * b[offsetb + (row + 1) + (col + 2) * ldb];
-        double alphab22 = alpha * b[offsetb + (row + 2) + (col + 2) * ldb];
-        double alphab32 = alpha * b[offsetb + (row + 3) + (col + 2) * ldb];
-        double alphab03 = alpha * b[offsetb + (row + 0) + (col + 3) * ldb];
-        double alphab13 = alpha * b[offsetb + (row + 1) + (col + 3) * ldb];
-        double alphab23 = alpha * b[offsetb + (row + 2) + (col + 3) * ldb];
-        double alphab33 = alpha * b[offsetb + (row + 3) + (col + 3) * ldb];
-        int i = 0;
-        for (; i < row; i += 1) {
-          double a0 = a[offseta + i + (row + 0) * lda];
-          double a1 = a[offseta + i + (row + 1) * lda];
-          double a2 = a[offseta + i + (row + 2) * lda];
-          double a3 = a[offseta + i + (row + 3) * lda];
-          c[offsetc + i + (col + 0) * ldc] += alphab00 * a0
-                                           +  alphab10 * a1
-                                           +  alphab20 * a2
-                                           +  alphab30 * a3;
-          c[offsetc + i + (col + 1) * ldc] += alphab01 * a0
-                                           +  alphab11 * a1
-                                           +  alphab21 * a2
-                                           +  alphab31 * a3;
-          c[offsetc + i + (col + 2) * ldc] += alphab02 * a0
-                                           +  alphab12 * a1
-                                           +  alphab22 * a2
-                                           +  alphab32 * a3;
-          c[offsetc + i + (col + 3) * ldc] += alphab03 * a0
-                                           +  alphab13 * a1
-                                           +  alphab23 * a2
-                                           +  alphab33 * a3;
-          double b0 = b[offsetb + i + (col + 0) * ldb];
-          double b1 = b[offsetb + i + (col + 1) * ldb];
-          double b2 = b[offsetb + i + (col + 2) * ldb];
-          double b3 = b[offsetb + i + (col + 3) * ldb];
-          sum00 += a0 * b0;
-          sum10 += a1 * b0;
-          sum20 += a2 * b0;
-          sum30 += a3 * b0;
-          sum01 += a0 * b1;
-          sum11 += a1 * b1;
-          sum21 += a2 * b1;
-          sum31 += a3 * b1;
-          sum02 += a0 * b2;
-          sum12 += a1 * b2;
-          sum22 += a2 * b2;
-          sum32 += a3 * b2;
-          sum03 += a0 * b3;
-          sum13 += a1 * b3;
-          sum23 += a2 * b3;
-          sum33 += a3 * b3;
-        }
-        double a00 = a[offseta + (i + 0) + (row + 0) * lda];
-        double a01 = a[offseta + (i + 0) + (row + 1) * lda];
-        double a02 = a[offseta + (i + 0) + (row + 2) * lda];
-        double a03 = a[offseta + (i + 0) + (row + 3) * lda];
-        double a11 = a[offseta + (i + 1) + (row + 1) * lda];
-        double a12 = a[offseta + (i + 1) + (row + 2) * lda];
-        double a13 = a[offseta + (i + 1) + (row + 3) * lda];
-        double a22 = a[offseta + (i + 2) + (row + 2) * lda];
-        double a23 = a[offseta + (i + 2) + (row + 3) * lda];
-        double a33 = a[offseta + (i + 3) + (row + 3) * lda];
-        double b00 = b[offsetb + (i + 0) + (col + 0) * ldb];
-        double b10 = b[offsetb + (i + 1) + (col + 0) * ldb];
-        double b20 = b[offsetb + (i + 2) + (col + 0) * ldb];
-        double b30 = b[offsetb + (i + 3) + (col + 0) * ldb];
-        double b01 = b[offsetb + (i + 0) + (col + 1) * ldb];
-        double b11 = b[offsetb + (i + 1) + (col + 1) * ldb];
-        double b21 = b[offsetb + (i + 2) + (col + 1) * ldb];
-        double b31 = b[offsetb + (i + 3) + (col + 1) * ldb];
-        double b02 = b[offsetb + (i + 0) + (col + 2) * ldb];
-        double b12 = b[offsetb + (i + 1) + (col + 2) * ldb];
-        double b22 = b[offsetb + (i + 2) + (col + 2) * ldb];
-        double b32 = b[offsetb + (i + 3) + (col + 2) * ldb];
-        double b03 = b[offsetb + (i + 0) + (col + 3) * ldb];
-        double b13 = b[offsetb + (i + 1) + (col + 3) * ldb];
-        double b23 = b[offsetb + (i + 2) + (col + 3) * ldb];
-        double b33 = b[offsetb + (i + 3) + (col + 3) * ldb];
-        sum00 += a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30;
-        sum10 += a01 * b00 + a11 * b10 + a12 * b20 + a13 * b30;
-        sum20 += a02 * b00 + a12 * b10 + a22 * b20 + a23 * b30;
-        sum30 += a03 * b00 + a13 * b10 + a23 * b20 + a33 * b30;
-        sum01 += a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31;
-        sum11 += a01 * b01 + a11 * b11 + a12 * b21 + a13 * b31;
-        sum21 += a02 * b01 + a12 * b11 + a22 * b21 + a23 * b31;
-        sum31 += a03 * b01 + a13 * b11 + a23 * b21 + a33 * b31;
-        sum02 += a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32;
-        sum12 += a01 * b02 + a11 * b12 + a12 * b22 + a13 * b32;
-        sum22 += a02 * b02 + a12 * b12 + a22 * b22 + a23 * b32;
-        sum32 += a03 * b02 + a13 * b12 + a23 * b22 + a33 * b32;
-        sum03 += a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33;
-        sum13 += a01 * b03 + a11 * b13 + a12 * b23 + a13 * b33;
-        sum23 += a02 * b03 + a12 * b13 + a22 * b23 + a23 * b33;
-        sum33 += a03 * b03 + a13 * b13 + a23 * b23 + a33 * b33;
-        if (beta != 0.0) {
-          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00 + beta * c[offsetc + (row + 0) + (col + 0) * ldc];
-          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10 + beta * c[offsetc + (row + 1) + (col + 0) * ldc];
-          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20 + beta * c[offsetc + (row + 2) + (col + 0) * ldc];
-          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30 + beta * c[offsetc + (row + 3) + (col + 0) * ldc];
-          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01 + beta * c[offsetc + (row + 0) + (col + 1) * ldc];
-          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11 + beta * c[offsetc + (row + 1) + (col + 1) * ldc];
-          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21 + beta * c[offsetc + (row + 2) + (col + 1) * ldc];
-          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31 + beta * c[offsetc + (row + 3) + (col + 1) * ldc];
-          c[offsetc + (row + 0) + (col + 2) * ldc] = alpha * sum02 + beta * c[offsetc + (row + 0) + (col + 2) * ldc];
-          c[offsetc + (row + 1) + (col + 2) * ldc] = alpha * sum12 + beta * c[offsetc + (row + 1) + (col + 2) * ldc];
-          c[offsetc + (row + 2) + (col + 2) * ldc] = alpha * sum22 + beta * c[offsetc + (row + 2) + (col + 2) * ldc];
-          c[offsetc + (row + 3) + (col + 2) * ldc] = alpha * sum32 + beta * c[offsetc + (row + 3) + (col + 2) * ldc];
-          c[offsetc + (row + 0) + (col + 3) * ldc] = alpha * sum03 + beta * c[offsetc + (row + 0) + (col + 3) * ldc];
-          c[offsetc + (row + 1) + (col + 3) * ldc] = alpha * sum13 + beta * c[offsetc + (row + 1) + (col + 3) * ldc];
-          c[offsetc + (row + 2) + (col + 3) * ldc] = alpha * sum23 + beta * c[offsetc + (row + 2) + (col + 3) * ldc];
-          c[offsetc + (row + 3) + (col + 3) * ldc] = alpha * sum33 + beta * c[offsetc + (row + 3) + (col + 3) * ldc];
-        } else {
-          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00;
-          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10;
-          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20;
-          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30;
-          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01;
-          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11;
-          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21;
-          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31;
-          c[offsetc + (row + 0) + (col + 2) * ldc] = alpha * sum02;
-          c[offsetc + (row + 1) + (col + 2) * ldc] = alpha * sum12;
-          c[offsetc + (row + 2) + (col + 2) * ldc] = alpha * sum22;
-          c[offsetc + (row + 3) + (col + 2) * ldc] = alpha * sum32;
-          c[offsetc + (row + 0) + (col + 3) * ldc] = alpha * sum03;
-          c[offsetc + (row + 1) + (col + 3) * ldc] = alpha * sum13;
-          c[offsetc + (row + 2) + (col + 3) * ldc] = alpha * sum23;
-          c[offsetc + (row + 3) + (col + 3) * ldc] = alpha * sum33;
+  protected void dtrsmRLT(int m, int n, boolean nounit, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    for (int k = 0; k < n; k += 1) {
+      if (nounit) {
+        double akk = 1.0 / a[offseta + k + k * lda];
+        DoubleVector vakk = DoubleVector.broadcast(DMAX, akk);
+        int row = 0;
+        for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+          DoubleVector.fromArray(DMAX, b, offsetb + row + k * ldb).mul(vakk).intoArray(b, offsetb + row + k * ldb);
+        }
+        for (; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
         }
       }
-      for (; row < m; row += 1) {
-        double sum0 = 0.0;
-        double sum1 = 0.0;
-        double sum2 = 0.0;
-        double sum3 = 0.0;
-        double alphab0 = alpha * b[offsetb + row + (col + 0) * ldb];
-        double alphab1 = alpha * b[offsetb + row + (col + 1) * ldb];
-        double alphab2 = alpha * b[offsetb + row + (col + 2) * ldb];
-        double alphab3 = alpha * b[offsetb + row + (col + 3) * ldb];
-        int i = 0;
-        for (; i < row; i += 1) {
-          double a0 = a[offseta + i + row * lda];
-          c[offsetc + i + (col + 0) * ldc] += alphab0 * a0;
-          c[offsetc + i + (col + 1) * ldc] += alphab1 * a0;
-          c[offsetc + i + (col + 2) * ldc] += alphab2 * a0;
-          c[offsetc + i + (col + 3) * ldc] += alphab3 * a0;
-          sum0 += b[offsetb + i + (col + 0) * ldb] * a0;
-          sum1 += b[offsetb + i + (col + 1) * ldb] * a0;
-          sum2 += b[offsetb + i + (col + 2) * ldb] * a0;
-          sum3 += b[offsetb + i + (col + 3) * ldb] * a0;
-        }
-        double a0 = a[offseta + i + row * lda];
-        sum0 += b[offsetb + i + (col + 0) * ldb] * a0;
-        sum1 += b[offsetb + i + (col + 1) * ldb] * a0;
-        sum2 += b[offsetb + i + (col + 2) * ldb] * a0;
-        sum3 += b[offsetb + i + (col + 3) * ldb] * a0;
-        if (beta != 0.0) {
-          c[offsetc + row + (col + 0) * ldc] = alpha * sum0 + beta * c[offsetc + row + (col + 0) * ldc];
-          c[offsetc + row + (col + 1) * ldc] = alpha * sum1 + beta * c[offsetc + row + (col + 1) * ldc];
-          c[offsetc + row + (col + 2) * ldc] = alpha * sum2 + beta * c[offsetc + row + (col + 2) * ldc];
-          c[offsetc + row + (col + 3) * ldc] = alpha * sum3 + beta * c[offsetc + row + (col + 3) * ldc];
-        } else {
-          c[offsetc + row + (col + 0) * ldc] = alpha * sum0;
-          c[offsetc + row + (col + 1) * ldc] = alpha * sum1;
-          c[offsetc + row + (col + 2) * ldc] = alpha * sum2;
-          c[offsetc + row + (col + 3) * ldc] = alpha * sum3;
+      for (int col = k + 1; col < n; col += 1) {
+        double ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0) {
+          DoubleVector vnajk = DoubleVector.broadcast(DMAX, -ajk);
+          int row = 0;
+          for (; row < DMAX.loopBound(m); row += DMAX.length()) {
+            DoubleVector vx = DoubleVector.fromArray(DMAX, b, offsetb + row + k * ldb);
+            DoubleVector vy = DoubleVector.fromArray(DMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnajk, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= ajk * b[offsetb + row + k * ldb];
+          }
         }
       }
     }
-    for (; col < n; col += 1) {
-      int row = 0;
-      for (; row < loopBound(m, 4); row += 4) {
-        double sum0 = 0.0;
-        double sum1 = 0.0;
-        double sum2 = 0.0;
-        double sum3 = 0.0;
-        double alphab0 = alpha * b[offsetb + (row + 0) + col * ldb];
-        double alphab1 = alpha * b[offsetb + (row + 1) + col * ldb];
-        double alphab2 = alpha * b[offsetb + (row + 2) + col * ldb];
-        double alphab3 = alpha * b[offsetb + (row + 3) + col * ldb];
-        int i = 0;
-        for (; i < row; i += 1) {
-          double a0 = a[offseta + i + (row + 0) * lda];
-          double a1 = a[offseta + i + (row + 1) * lda];
-          double a2 = a[offseta + i + (row + 2) * lda];
-          double a3 = a[offseta + i + (row + 3) * lda];
-          c[offsetc + i + col * ldc] += alphab0 * a0
-                                     +  alphab1 * a1
-                                     +  alphab2 * a2
-                                     +  alphab3 * a3;
-          double b0 = b[offsetb + i + col * ldb];
-          sum0 += b0 * a0;
-          sum1 += b0 * a1;
-          sum2 += b0 * a2;
-          sum3 += b0 * a3;
-        }
-        double a00 = a[offseta + (i + 0) + (row + 0) * lda];
-        double a01 = a[offseta + (i + 0) + (row + 1) * lda];
-        double a02 = a[offseta + (i + 0) + (row + 2) * lda];
-        double a03 = a[offseta + (i + 0) + (row + 3) * lda];
-        double a11 = a[offseta + (i + 1) + (row + 1) * lda];
-        double a12 = a[offseta + (i + 1) + (row + 2) * lda];
-        double a13 = a[offseta + (i + 1) + (row + 3) * lda];
-        double a22 = a[offseta + (i + 2) + (row + 2) * lda];
-        double a23 = a[offseta + (i + 2) + (row + 3) * lda];
-        double a33 = a[offseta + (i + 3) + (row + 3) * lda];
-        double b0 = b[offsetb + (i + 0) + col * ldb];
-        double b1 = b[offsetb + (i + 1) + col * ldb];
-        double b2 = b[offsetb + (i + 2) + col * ldb];
-        double b3 = b[offsetb + (i + 3) + col * ldb];
-        sum0 += b0 * a00 + b1 * a01 + b2 * a02 + b3 * a03;
-        sum1 += b0 * a01 + b1 * a11 + b2 * a12 + b3 * a13;
-        sum2 += b0 * a02 + b1 * a12 + b2 * a22 + b3 * a23;
-        sum3 += b0 * a03 + b1 * a13 + b2 * a23 + b3 * a33;
-        if (beta != 0.0) {
-          c[offsetc + (row + 0) + col * ldc] = alpha * sum0 + beta * c[offsetc + (row + 0) + col * ldc];
-          c[offsetc + (row + 1) + col * ldc] = alpha * sum1 + beta * c[offsetc + (row + 1) + col * ldc];
-          c[offsetc + (row + 2) + col * ldc] = alpha * sum2 + beta * c[offsetc + (row + 2) + col * ldc];
-          c[offsetc + (row + 3) + col * ldc] = alpha * sum3 + beta * c[offsetc + (row + 3) + col * ldc];
-        } else {
-          c[offsetc + (row + 0) + col * ldc] = alpha * sum0;
-          c[offsetc + (row + 1) + col * ldc] = alpha * sum1;
-          c[offsetc + (row + 2) + col * ldc] = alpha * sum2;
-          c[offsetc + (row + 3) + col * ldc] = alpha * sum3;
+  }
+
+  protected void strmmLUN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < m; k += 1) {
+        float bkj = b[offsetb + k + col * ldb];
+        if (bkj != 0.0f) {
+          FloatVector vbkj = FloatVector.broadcast(FMAX, bkj);
+          int row = 0;
+          for (; row < FMAX.loopBound(k); row += FMAX.length()) {
+            FloatVector vx = FloatVector.fromArray(FMAX, a, offseta + row + k * lda);
+            FloatVector vy = FloatVector.fromArray(FMAX, b, offsetb + row + col * ldb);
+            vx.fma(vbkj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < k; row += 1) {
+            b[offsetb + row + col * ldb] += bkj * a[offseta + row + k * lda];
+          }
+          if (nounit) {
+            b[offsetb + k + col * ldb] = bkj * a[offseta + k + k * lda];
+          }
         }
       }
-      for (; row < m; row += 1) {
-        double alphab = alpha * b[offsetb + row + col * ldb];
-        double sum = 0.0;
+    }
+  }
+
+  protected void strmmLLN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = m - 1; k >= 0; k -= 1) {
+        float bkj = b[offsetb + k + col * ldb];
+        if (bkj != 0.0f) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] = bkj * a[offseta + k + k * lda];
+          }
+          FloatVector vbkj = FloatVector.broadcast(FMAX, bkj);
+          int row = k + 1;
+          for (; row < k + 1 + FMAX.loopBound(m - k - 1); row += FMAX.length()) {
+            FloatVector vx = FloatVector.fromArray(FMAX, a, offseta + row + k * lda);
+            FloatVector vy = FloatVector.fromArray(FMAX, b, offsetb + row + col * ldb);
+            vx.fma(vbkj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] += bkj * a[offseta + row + k * lda];
+          }
+        }
+      }
+    }
+  }
+
+  protected void strmmLUT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = m - 1; row >= 0; row -= 1) {
+        FloatVector vsum = FloatVector.zero(FMAX);
         int i = 0;
+        for (; i < FMAX.loopBound(row); i += FMAX.length()) {
+          FloatVector va = FloatVector.fromArray(FMAX, a, offseta + i + row * lda);
+          FloatVector vb = FloatVector.fromArray(FMAX, b, offsetb + i + col * ldb);
+          vsum = va.fma(vb, vsum);
+        }
+        float sum = vsum.reduceLanes(VectorOperators.ADD);
         for (; i < row; i += 1) {
-          double aval = a[offseta + i + row * lda];
-          c[offsetc + i + col * ldc] += alphab * aval;
-          sum += b[offsetb + i + col * ldb] * aval;
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
         }
-        sum += b[offsetb + i + col * ldb] * a[offseta + i + row * lda];
-        if (beta != 0.0) {
-          c[offsetc + row + col * ldc] = alpha * sum + beta * c[offsetc + row + col * ldc];
-        } else {
-          c[offsetc + row + col * ldc] = alpha * sum;
+        float brow = b[offsetb + row + col * ldb];
+        if (nounit) {
+          brow *= a[offseta + row + row * lda];
         }
+        b[offsetb + row + col * ldb] = brow + sum;
       }
     }
   }
 
-  protected void ssymmLU(int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
-    // C := alpha*A*B + beta*C
-    int col = 0;
-    for (; col < loopBound(n, 4); col += 4) {
-      int row = 0;
-      for (; row < loopBound(m, 4); row += 4) {
-        float sum00 = 0.0f;
-        float sum10 = 0.0f;
-        float sum20 = 0.0f;
-        float sum30 = 0.0f;
-        float sum01 = 0.0f;
-        float sum11 = 0.0f;
-        float sum21 = 0.0f;
-        float sum31 = 0.0f;
-        float sum02 = 0.0f;
-        float sum12 = 0.0f;
-        float sum22 = 0.0f;
-        float sum32 = 0.0f;
-        float sum03 = 0.0f;
-        float sum13 = 0.0f;
-        float sum23 = 0.0f;
-        float sum33 = 0.0f;
-        float alphab00 = alpha * b[offsetb + (row + 0) + (col + 0) * ldb];
-        float alphab10 = alpha * b[offsetb + (row + 1) + (col + 0) * ldb];
-        float alphab20 = alpha * b[offsetb + (row + 2) + (col + 0) * ldb];
-        float alphab30 = alpha * b[offsetb + (row + 3) + (col + 0) * ldb];
-        float alphab01 = alpha * b[offsetb + (row + 0) + (col + 1) * ldb];
-        float alphab11 = alpha * b[offsetb + (row + 1) + (col + 1) * ldb];
-        float alphab21 = alpha * b[offsetb + (row + 2) + (col + 1) * ldb];
-        float alphab31 = alpha * b[offsetb + (row + 3) + (col + 1) * ldb];
-        float alphab02 = alpha * b[offsetb + (row + 0) + (col + 2) * ldb];
-        float alphab12 = alpha * b[offsetb + (row + 1) + (col + 2) * ldb];
-        float alphab22 = alpha * b[offsetb + (row + 2) + (col + 2) * ldb];
-        float alphab32 = alpha * b[offsetb + (row + 3) + (col + 2) * ldb];
-        float alphab03 = alpha * b[offsetb + (row + 0) + (col + 3) * ldb];
-        float alphab13 = alpha * b[offsetb + (row + 1) + (col + 3) * ldb];
-        float alphab23 = alpha * b[offsetb + (row + 2) + (col + 3) * ldb];
-        float alphab33 = alpha * b[offsetb + (row + 3) + (col + 3) * ldb];
-        int i = 0;
-        for (; i < row; i += 1) {
-          float a0 = a[offseta + i + (row + 0) * lda];
-          float a1 = a[offseta + i + (row + 1) * lda];
-          float a2 = a[offseta + i + (row + 2) * lda];
-          float a3 = a[offseta + i + (row + 3) * lda];
-          c[offsetc + i + (col + 0) * ldc] += alphab00 * a0
-                                           +  alphab10 * a1
-                                           +  alphab20 * a2
-                                           +  alphab30 * a3;
-          c[offsetc + i + (col + 1) * ldc] += alphab01 * a0
-                                           +  alphab11 * a1
-                                           +  alphab21 * a2
-                                           +  alphab31 * a3;
-          c[offsetc + i + (col + 2) * ldc] += alphab02 * a0
-                                           +  alphab12 * a1
-                                           +  alphab22 * a2
-                                           +  alphab32 * a3;
-          c[offsetc + i + (col + 3) * ldc] += alphab03 * a0
-                                           +  alphab13 * a1
-                                           +  alphab23 * a2
-                                           +  alphab33 * a3;
-          float b0 = b[offsetb + i + (col + 0) * ldb];
-          float b1 = b[offsetb + i + (col + 1) * ldb];
-          float b2 = b[offsetb + i + (col + 2) * ldb];
-          float b3 = b[offsetb + i + (col + 3) * ldb];
-          sum00 += a0 * b0;
-          sum10 += a1 * b0;
-          sum20 += a2 * b0;
-          sum30 += a3 * b0;
-          sum01 += a0 * b1;
-          sum11 += a1 * b1;
-          sum21 += a2 * b1;
-          sum31 += a3 * b1;
-          sum02 += a0 * b2;
-          sum12 += a1 * b2;
-          sum22 += a2 * b2;
-          sum32 += a3 * b2;
-          sum03 += a0 * b3;
-          sum13 += a1 * b3;
-          sum23 += a2 * b3;
-          sum33 += a3 * b3;
-        }
-        float a00 = a[offseta + (i + 0) + (row + 0) * lda];
-        float a01 = a[offseta + (i + 0) + (row + 1) * lda];
-        float a02 = a[offseta + (i + 0) + (row + 2) * lda];
-        float a03 = a[offseta + (i + 0) + (row + 3) * lda];
-        float a11 = a[offseta + (i + 1) + (row + 1) * lda];
-        float a12 = a[offseta + (i + 1) + (row + 2) * lda];
-        float a13 = a[offseta + (i + 1) + (row + 3) * lda];
-        float a22 = a[offseta + (i + 2) + (row + 2) * lda];
-        float a23 = a[offseta + (i + 2) + (row + 3) * lda];
-        float a33 = a[offseta + (i + 3) + (row + 3) * lda];
-        float b00 = b[offsetb + (i + 0) + (col + 0) * ldb];
-        float b10 = b[offsetb + (i + 1) + (col + 0) * ldb];
-        float b20 = b[offsetb + (i + 2) + (col + 0) * ldb];
-        float b30 = b[offsetb + (i + 3) + (col + 0) * ldb];
-        float b01 = b[offsetb + (i + 0) + (col + 1) * ldb];
-        float b11 = b[offsetb + (i + 1) + (col + 1) * ldb];
-        float b21 = b[offsetb + (i + 2) + (col + 1) * ldb];
-        float b31 = b[offsetb + (i + 3) + (col + 1) * ldb];
-        float b02 = b[offsetb + (i + 0) + (col + 2) * ldb];
-        float b12 = b[offsetb + (i + 1) + (col + 2) * ldb];
-        float b22 = b[offsetb + (i + 2) + (col + 2) * ldb];
-        float b32 = b[offsetb + (i + 3) + (col + 2) * ldb];
-        float b03 = b[offsetb + (i + 0) + (col + 3) * ldb];
-        float b13 = b[offsetb + (i + 1) + (col + 3) * ldb];
-        float b23 = b[offsetb + (i + 2) + (col + 3) * ldb];
-        float b33 = b[offsetb + (i + 3) + (col + 3) * ldb];
-        sum00 += a00 * b00 + a01 * b10 + a02 * b20 + a03 * b30;
-        sum10 += a01 * b00 + a11 * b10 + a12 * b20 + a13 * b30;
-        sum20 += a02 * b00 + a12 * b10 + a22 * b20 + a23 * b30;
-        sum30 += a03 * b00 + a13 * b10 + a23 * b20 + a33 * b30;
-        sum01 += a00 * b01 + a01 * b11 + a02 * b21 + a03 * b31;
-        sum11 += a01 * b01 + a11 * b11 + a12 * b21 + a13 * b31;
-        sum21 += a02 * b01 + a12 * b11 + a22 * b21 + a23 * b31;
-        sum31 += a03 * b01 + a13 * b11 + a23 * b21 + a33 * b31;
-        sum02 += a00 * b02 + a01 * b12 + a02 * b22 + a03 * b32;
-        sum12 += a01 * b02 + a11 * b12 + a12 * b22 + a13 * b32;
-        sum22 += a02 * b02 + a12 * b12 + a22 * b22 + a23 * b32;
-        sum32 += a03 * b02 + a13 * b12 + a23 * b22 + a33 * b32;
-        sum03 += a00 * b03 + a01 * b13 + a02 * b23 + a03 * b33;
-        sum13 += a01 * b03 + a11 * b13 + a12 * b23 + a13 * b33;
-        sum23 += a02 * b03 + a12 * b13 + a22 * b23 + a23 * b33;
-        sum33 += a03 * b03 + a13 * b13 + a23 * b23 + a33 * b33;
-        if (beta != 0.0f) {
-          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00 + beta * c[offsetc + (row + 0) + (col + 0) * ldc];
-          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10 + beta * c[offsetc + (row + 1) + (col + 0) * ldc];
-          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20 + beta * c[offsetc + (row + 2) + (col + 0) * ldc];
-          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30 + beta * c[offsetc + (row + 3) + (col + 0) * ldc];
-          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01 + beta * c[offsetc + (row + 0) + (col + 1) * ldc];
-          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11 + beta * c[offsetc + (row + 1) + (col + 1) * ldc];
-          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21 + beta * c[offsetc + (row + 2) + (col + 1) * ldc];
-          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31 + beta * c[offsetc + (row + 3) + (col + 1) * ldc];
-          c[offsetc + (row + 0) + (col + 2) * ldc] = alpha * sum02 + beta * c[offsetc + (row + 0) + (col + 2) * ldc];
-          c[offsetc + (row + 1) + (col + 2) * ldc] = alpha * sum12 + beta * c[offsetc + (row + 1) + (col + 2) * ldc];
-          c[offsetc + (row + 2) + (col + 2) * ldc] = alpha * sum22 + beta * c[offsetc + (row + 2) + (col + 2) * ldc];
-          c[offsetc + (row + 3) + (col + 2) * ldc] = alpha * sum32 + beta * c[offsetc + (row + 3) + (col + 2) * ldc];
-          c[offsetc + (row + 0) + (col + 3) * ldc] = alpha * sum03 + beta * c[offsetc + (row + 0) + (col + 3) * ldc];
-          c[offsetc + (row + 1) + (col + 3) * ldc] = alpha * sum13 + beta * c[offsetc + (row + 1) + (col + 3) * ldc];
-          c[offsetc + (row + 2) + (col + 3) * ldc] = alpha * sum23 + beta * c[offsetc + (row + 2) + (col + 3) * ldc];
-          c[offsetc + (row + 3) + (col + 3) * ldc] = alpha * sum33 + beta * c[offsetc + (row + 3) + (col + 3) * ldc];
-        } else {
-          c[offsetc + (row + 0) + (col + 0) * ldc] = alpha * sum00;
-          c[offsetc + (row + 1) + (col + 0) * ldc] = alpha * sum10;
-          c[offsetc + (row + 2) + (col + 0) * ldc] = alpha * sum20;
-          c[offsetc + (row + 3) + (col + 0) * ldc] = alpha * sum30;
-          c[offsetc + (row + 0) + (col + 1) * ldc] = alpha * sum01;
-          c[offsetc + (row + 1) + (col + 1) * ldc] = alpha * sum11;
-          c[offsetc + (row + 2) + (col + 1) * ldc] = alpha * sum21;
-          c[offsetc + (row + 3) + (col + 1) * ldc] = alpha * sum31;
-          c[offsetc + (row + 0) + (col + 2) * ldc] = alpha * sum02;
-          c[offsetc + (row + 1) + (col + 2) * ldc] = alpha * sum12;
-          c[offsetc + (row + 2) + (col + 2) * ldc] = alpha * sum22;
-          c[offsetc + (row + 3) + (col + 2) * ldc] = alpha * sum32;
-          c[offsetc + (row + 0) + (col + 3) * ldc] = alpha * sum03;
-          c[offsetc + (row + 1) + (col + 3) * ldc] = alpha * sum13;
-          c[offsetc + (row + 2) + (col + 3) * ldc] = alpha * sum23;
-          c[offsetc + (row + 3) + (col + 3) * ldc] = alpha * sum33;
+  protected void strmmLLT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        FloatVector vsum = FloatVector.zero(FMAX);
+        int i = row + 1;
+        for (; i < row + 1 + FMAX.loopBound(m - row - 1); i += FMAX.length()) {
+          FloatVector va = FloatVector.fromArray(FMAX, a, offseta + i + row * lda);
+          FloatVector vb = FloatVector.fromArray(FMAX, b, offsetb + i + col * ldb);
+          vsum = va.fma(vb, vsum);
+        }
+        float sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; i < m; i += 1) {
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
         }
+        float brow = b[offsetb + row + col * ldb];
+        if (nounit) {
+          brow *= a[offseta + row + row * lda];
+        }
+        b[offsetb + row + col * ldb] = brow + sum;
       }
-      for (; row < m; row += 1) {
-        float sum0 = 0.0f;
-        float sum1 = 0.0f;
-        float sum2 = 0.0f;
-        float sum3 = 0.0f;
-        float alphab0 = alpha * b[offsetb + row + (col + 0) * ldb];
-        float alphab1 = alpha * b[offsetb + row + (col + 1) * ldb];
-        float alphab2 = alpha * b[offsetb + row + (col + 2) * ldb];
-        float alphab3 = alpha * b[offsetb + row + (col + 3) * ldb];
-        int i = 0;
-        for (; i < row; i += 1) {
-          float a0 = a[offseta + i + row * lda];
-          c[offsetc + i + (col + 0) * ldc] += alphab0 * a0;
-          c[offsetc + i + (col + 1) * ldc] += alphab1 * a0;
-          c[offsetc + i + (col + 2) * ldc] += alphab2 * a0;
-          c[offsetc + i + (col + 3) * ldc] += alphab3 * a0;
-          sum0 += b[offsetb + i + (col + 0) * ldb] * a0;
-          sum1 += b[offsetb + i + (col + 1) * ldb] * a0;
-          sum2 += b[offsetb + i + (col + 2) * ldb] * a0;
-          sum3 += b[offsetb + i + (col + 3) * ldb] * a0;
-        }
-        float a0 = a[offseta + i + row * lda];
-        sum0 += b[offsetb + i + (col + 0) * ldb] * a0;
-        sum1 += b[offsetb + i + (col + 1) * ldb] * a0;
-        sum2 += b[offsetb + i + (col + 2) * ldb] * a0;
-        sum3 += b[offsetb + i + (col + 3) * ldb] * a0;
-        if (beta != 0.0f) {
-          c[offsetc + row + (col + 0) * ldc] = alpha * sum0 + beta * c[offsetc + row + (col + 0) * ldc];
-          c[offsetc + row + (col + 1) * ldc] = alpha * sum1 + beta * c[offsetc + row + (col + 1) * ldc];
-          c[offsetc + row + (col + 2) * ldc] = alpha * sum2 + beta * c[offsetc + row + (col + 2) * ldc];
-          c[offsetc + row + (col + 3) * ldc] = alpha * sum3 + beta * c[offsetc + row + (col + 3) * ldc];
-        } else {
-          c[offsetc + row + (col + 0) * ldc] = alpha * sum0;
-          c[offsetc + row + (col + 1) * ldc] = alpha * sum1;
-          c[offsetc + row + (col + 2) * ldc] = alpha * sum2;
-          c[offsetc + row + (col + 3) * ldc] = alpha * sum3;
+    }
+  }
+
+  protected void strsmLUN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = m - 1; k >= 0; k -= 1) {
+        if (b[offsetb + k + col * ldb] != 0.0f) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] /= a[offseta + k + k * lda];
+          }
+          float bkj = b[offsetb + k + col * ldb];
+          FloatVector vnbkj = FloatVector.broadcast(FMAX, -bkj);
+          int row = 0;
+          for (; row < FMAX.loopBound(k); row += FMAX.length()) {
+            FloatVector vx = FloatVector.fromArray(FMAX, a, offseta + row + k * lda);
+            FloatVector vy = FloatVector.fromArray(FMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnbkj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < k; row += 1) {
+            b[offsetb + row + col * ldb] -= bkj * a[offseta + row + k * lda];
+          }
         }
       }
     }
-    for (; col < n; col += 1) {
-      int row = 0;
-      for (; row < loopBound(m, 4); row += 4) {
-        float sum0 = 0.0f;
-        float sum1 = 0.0f;
-        float sum2 = 0.0f;
-        float sum3 = 0.0f;
-        float alphab0 = alpha * b[offsetb + (row + 0) + col * ldb];
-        float alphab1 = alpha * b[offsetb + (row + 1) + col * ldb];
-        float alphab2 = alpha * b[offsetb + (row + 2) + col * ldb];
-        float alphab3 = alpha * b[offsetb + (row + 3) + col * ldb];
-        int i = 0;
-        for (; i < row; i += 1) {
-          float a0 = a[offseta + i + (row + 0) * lda];
-          float a1 = a[offseta + i + (row + 1) * lda];
-          float a2 = a[offseta + i + (row + 2) * lda];
-          float a3 = a[offseta + i + (row + 3) * lda];
-          c[offsetc + i + col * ldc] += alphab0 * a0
-                                     +  alphab1 * a1
-                                     +  alphab2 * a2
-                                     +  alphab3 * a3;
-          float b0 = b[offsetb + i + col * ldb];
-          sum0 += b0 * a0;
-          sum1 += b0 * a1;
-          sum2 += b0 * a2;
-          sum3 += b0 * a3;
-        }
-        float a00 = a[offseta + (i + 0) + (row + 0) * lda];
-        float a01 = a[offseta + (i + 0) + (row + 1) * lda];
-        float a02 = a[offseta + (i + 0) + (row + 2) * lda];
-        float a03 = a[offseta + (i + 0) + (row + 3) * lda];
-        float a11 = a[offseta + (i + 1) + (row + 1) * lda];
-        float a12 = a[offseta + (i + 1) + (row + 2) * lda];
-        float a13 = a[offseta + (i + 1) + (row + 3) * lda];
-        float a22 = a[offseta + (i + 2) + (row + 2) * lda];
-        float a23 = a[offseta + (i + 2) + (row + 3) * lda];
-        float a33 = a[offseta + (i + 3) + (row + 3) * lda];
-        float b0 = b[offsetb + (i + 0) + col * ldb];
-        float b1 = b[offsetb + (i + 1) + col * ldb];
-        float b2 = b[offsetb + (i + 2) + col * ldb];
-        float b3 = b[offsetb + (i + 3) + col * ldb];
-        sum0 += b0 * a00 + b1 * a01 + b2 * a02 + b3 * a03;
-        sum1 += b0 * a01 + b1 * a11 + b2 * a12 + b3 * a13;
-        sum2 += b0 * a02 + b1 * a12 + b2 * a22 + b3 * a23;
-        sum3 += b0 * a03 + b1 * a13 + b2 * a23 + b3 * a33;
-        if (beta != 0.0f) {
-          c[offsetc + (row + 0) + col * ldc] = alpha * sum0 + beta * c[offsetc + (row + 0) + col * ldc];
-          c[offsetc + (row + 1) + col * ldc] = alpha * sum1 + beta * c[offsetc + (row + 1) + col * ldc];
-          c[offsetc + (row + 2) + col * ldc] = alpha * sum2 + beta * c[offsetc + (row + 2) + col * ldc];
-          c[offsetc + (row + 3) + col * ldc] = alpha * sum3 + beta * c[offsetc + (row + 3) + col * ldc];
-        } else {
-          c[offsetc + (row + 0) + col * ldc] = alpha * sum0;
-          c[offsetc + (row + 1) + col * ldc] = alpha * sum1;
-          c[offsetc + (row + 2) + col * ldc] = alpha * sum2;
-          c[offsetc + (row + 3) + col * ldc] = alpha * sum3;
+  }
+
+  protected void strsmLLN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < m; k += 1) {
+        if (b[offsetb + k + col * ldb] != 0.0f) {
+          if (nounit) {
+            b[offsetb + k + col * ldb] /= a[offseta + k + k * lda];
+          }
+          float bkj = b[offsetb + k + col * ldb];
+          FloatVector vnbkj = FloatVector.broadcast(FMAX, -bkj);
+          int row = k + 1;
+          for (; row < k + 1 + FMAX.loopBound(m - k - 1); row += FMAX.length()) {
+            FloatVector vx = FloatVector.fromArray(FMAX, a, offseta + row + k * lda);
+            FloatVector vy = FloatVector.fromArray(FMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnbkj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= bkj * a[offseta + row + k * lda];
+          }
         }
       }
-      for (; row < m; row += 1) {
-        float alphab = alpha * b[offsetb + row + col * ldb];
-        float sum = 0.0f;
+    }
+  }
+
+  protected void strsmLUT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < m; row += 1) {
+        FloatVector vsum = FloatVector.zero(FMAX);
         int i = 0;
+        for (; i < FMAX.loopBound(row); i += FMAX.length()) {
+          FloatVector va = FloatVector.fromArray(FMAX, a, offseta + i + row * lda);
+          FloatVector vb = FloatVector.fromArray(FMAX, b, offsetb + i + col * ldb);
+          vsum = va.fma(vb, vsum);
+        }
+        float sum = vsum.reduceLanes(VectorOperators.ADD);
         for (; i < row; i += 1) {
-          float aval = a[offseta + i + row * lda];
-          c[offsetc + i + col * ldc] += alphab * aval;
-          sum += b[offsetb + i + col * ldb] * aval;
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
         }
-        sum += b[offsetb + i + col * ldb] * a[offseta + i + row * lda];
-        if (beta != 0.0f) {
-          c[offsetc + row + col * ldc] = alpha * sum + beta * c[offsetc + row + col * ldc];
-        } else {
-          c[offsetc + row + col * ldc] = alpha * sum;
+        sum = b[offsetb + row + col * ldb] - sum;
+        if (nounit) {
+          sum /= a[offseta + row + row * lda];
         }
+        b[offsetb + row + col * ldb] = sum;
       }
     }
   }
 
-  protected void dsymvU(int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
-    if (incx == 1 && incy == 1) {
-      int col = 0;
-      for (; col < loopBound(n, 4); col += 4) {
-        int row = 0;
-        DoubleVector vsum0 = DoubleVector.zero(DMAX);
-        DoubleVector vsum1 = DoubleVector.zero(DMAX);
-        DoubleVector vsum2 = DoubleVector.zero(DMAX);
-        DoubleVector vsum3 = DoubleVector.zero(DMAX);
-        DoubleVector valphax0 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 0)]);
-        DoubleVector valphax1 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 1)]);
-        DoubleVector valphax2 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 2)]);
-        DoubleVector valphax3 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 3)]);
-        for (; row < DMAX.loopBound(col); row += DMAX.length()) {
-          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * lda);
-          DoubleVector va1 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 1) * lda);
-          DoubleVector va2 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 2) * lda);
-          DoubleVector va3 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 3) * lda);
-          DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + row);
-          valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy0))))
-            .intoArray(y, offsety + row);
-          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + row);
-          vsum0 = vx0.fma(va0, vsum0);
-          vsum1 = vx0.fma(va1, vsum1);
-          vsum2 = vx0.fma(va2, vsum2);
-          vsum3 = vx0.fma(va3, vsum3);
+  protected void strsmLLT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int row = m - 1; row >= 0; row -= 1) {
+        FloatVector vsum = FloatVector.zero(FMAX);
+        int i = row + 1;
+        for (; i < row + 1 + FMAX.loopBound(m - row - 1); i += FMAX.length()) {
+          FloatVector va = FloatVector.fromArray(FMAX, a, offseta + i + row * lda);
+          FloatVector vb = FloatVector.fromArray(FMAX, b, offsetb + i + col * ldb);
+          vsum = va.fma(vb, vsum);
         }
-        double sum0 = vsum0.reduceLanes(VectorOperators.ADD);
-        double sum1 = vsum1.reduceLanes(VectorOperators.ADD);
-        double sum2 = vsum2.reduceLanes(VectorOperators.ADD);
-        double sum3 = vsum3.reduceLanes(VectorOperators.ADD);
-        double alphax0 = alpha * x[offsetx + (col + 0)];
-        double alphax1 = alpha * x[offsetx + (col + 1)];
-        double alphax2 = alpha * x[offsetx + (col + 2)];
-        double alphax3 = alpha * x[offsetx + (col + 3)];
-        for (; row < col; row += 1) {
-          double a0 = a[offseta + row + (col + 0) * lda];
-          double a1 = a[offseta + row + (col + 1) * lda];
-          double a2 = a[offseta + row + (col + 2) * lda];
-          double a3 = a[offseta + row + (col + 3) * lda];
-          y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
-          double x0 = x[offsetx + row];
-          sum0 += x0 * a0;
-          sum1 += x0 * a1;
-          sum2 += x0 * a2;
-          sum3 += x0 * a3;
+        float sum = vsum.reduceLanes(VectorOperators.ADD);
+        for (; i < m; i += 1) {
+          sum += a[offseta + i + row * lda] * b[offsetb + i + col * ldb];
         }
-        {
-          double a00 = a[offseta + (row + 0) + (col + 0) * lda];
-          double a01 = a[offseta + (row + 0) + (col + 1) * lda];
-          double a02 = a[offseta + (row + 0) + (col + 2) * lda];
-          double a03 = a[offseta + (row + 0) + (col + 3) * lda];
-          double a11 = a[offseta + (row + 1) + (col + 1) * lda];
-          double a12 = a[offseta + (row + 1) + (col + 2) * lda];
-          double a13 = a[offseta + (row + 1) + (col + 3) * lda];
-          double a22 = a[offseta + (row + 2) + (col + 2) * lda];
-          double a23 = a[offseta + (row + 2) + (col + 3) * lda];
-          double a33 = a[offseta + (row + 3) + (col + 3) * lda];
-          double x0 = x[offsetx + (row + 0)];
-          double x1 = x[offsetx + (row + 1)];
-          double x2 = x[offsetx + (row + 2)];
-          double x3 = x[offsetx + (row + 3)];
-          sum0 += x0 * a00 + x1 * a01 + x2 * a02 + x3 * a03;
-          sum1 += x0 * a01 + x1 * a11 + x2 * a12 + x3 * a13;
-          sum2 += x0 * a02 + x1 * a12 + x2 * a22 + x3 * a23;
-          sum3 += x0 * a03 + x1 * a13 + x2 * a23 + x3 * a33;
+        sum = b[offsetb + row + col * ldb] - sum;
+        if (nounit) {
+          sum /= a[offseta + row + row * lda];
         }
-        if (beta != 0.0) {
-          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
-          y[offsety + (col + 1)] = alpha * sum1 + beta * y[offsety + (col + 1)];
-          y[offsety + (col + 2)] = alpha * sum2 + beta * y[offsety + (col + 2)];
-          y[offsety + (col + 3)] = alpha * sum3 + beta * y[offsety + (col + 3)];
-        } else {
-          y[offsety + (col + 0)] = alpha * sum0;
-          y[offsety + (col + 1)] = alpha * sum1;
-          y[offsety + (col + 2)] = alpha * sum2;
-          y[offsety + (col + 3)] = alpha * sum3;
+        b[offsetb + row + col * ldb] = sum;
+      }
+    }
+  }
+
+  protected void strsmRUN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = 0; col < n; col += 1) {
+      for (int k = 0; k < col; k += 1) {
+        float akj = a[offseta + k + col * lda];
+        if (akj != 0.0f) {
+          FloatVector vnakj = FloatVector.broadcast(FMAX, -akj);
+          int row = 0;
+          for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+            FloatVector vx = FloatVector.fromArray(FMAX, b, offsetb + row + k * ldb);
+            FloatVector vy = FloatVector.fromArray(FMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnakj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= akj * b[offsetb + row + k * ldb];
+          }
         }
       }
-      for (; col < n; col += 1) {
+      if (nounit) {
+        float ajj = 1.0f / a[offseta + col + col * lda];
+        FloatVector vajj = FloatVector.broadcast(FMAX, ajj);
         int row = 0;
-        DoubleVector vsum0 = DoubleVector.zero(DMAX);
-        DoubleVector valphax0 = DoubleVector.broadcast(DMAX, alpha * x[offsetx + (col + 0)]);
-        for (; row < DMAX.loopBound(col); row += DMAX.length()) {
-          DoubleVector va0 = DoubleVector.fromArray(DMAX, a, offseta + row + (col + 0) * lda);
-          DoubleVector vy0 = DoubleVector.fromArray(DMAX, y, offsety + row);
-          valphax0.fma(va0, vy0)
-            .intoArray(y, offsety + row);
-          DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + row);
-          vsum0 = vx0.fma(va0, vsum0);
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          FloatVector.fromArray(FMAX, b, offsetb + row + col * ldb).mul(vajj).intoArray(b, offsetb + row + col * ldb);
         }
-        double sum0 = vsum0.reduceLanes(VectorOperators.ADD);
-        double alphax0 = alpha * x[offsetx + (col + 0)];
-        for (; row < col; row += 1) {
-          double a0 = a[offseta + row + (col + 0) * lda];
-          y[offsety + row] += alphax0 * a0;
-          double x0 = x[offsetx + row];
-          sum0 += x0 * a0;
+        for (; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
         }
-        {
-          double a00 = a[offseta + (row + 0) + (col + 0) * lda];
-          double x0 = x[offsetx + (row + 0)];
-          sum0 += x0 * a00;
+      }
+    }
+  }
+
+  protected void strsmRLN(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int col = n - 1; col >= 0; col -= 1) {
+      for (int k = col + 1; k < n; k += 1) {
+        float akj = a[offseta + k + col * lda];
+        if (akj != 0.0f) {
+          FloatVector vnakj = FloatVector.broadcast(FMAX, -akj);
+          int row = 0;
+          for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+            FloatVector vx = FloatVector.fromArray(FMAX, b, offsetb + row + k * ldb);
+            FloatVector vy = FloatVector.fromArray(FMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnakj, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= akj * b[offsetb + row + k * ldb];
+          }
         }
-        if (beta != 0.0) {
-          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
-        } else {
-          y[offsety + (col + 0)] = alpha * sum0;
+      }
+      if (nounit) {
+        float ajj = 1.0f / a[offseta + col + col * lda];
+        FloatVector vajj = FloatVector.broadcast(FMAX, ajj);
+        int row = 0;
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          FloatVector.fromArray(FMAX, b, offsetb + row + col * ldb).mul(vajj).intoArray(b, offsetb + row + col * ldb);
+        }
+        for (; row < m; row += 1) {
+          b[offsetb + row + col * ldb] *= ajj;
         }
       }
-    } else {
-      super.dsymvU(n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
     }
   }
 
-  protected void ssymvU(int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
-    if (incx == 1 && incy == 1) {
-      int col = 0;
-      for (; col < loopBound(n, 4); col += 4) {
+  protected void strsmRUT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int k = n - 1; k >= 0; k -= 1) {
+      if (nounit) {
+        float akk = 1.0f / a[offseta + k + k * lda];
+        FloatVector vakk = FloatVector.broadcast(FMAX, akk);
         int row = 0;
-        FloatVector vsum0 = FloatVector.zero(FMAX);
-        FloatVector vsum1 = FloatVector.zero(FMAX);
-        FloatVector vsum2 = FloatVector.zero(FMAX);
-        FloatVector vsum3 = FloatVector.zero(FMAX);
-        FloatVector valphax0 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 0)]);
-        FloatVector valphax1 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 1)]);
-        FloatVector valphax2 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 2)]);
-        FloatVector valphax3 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 3)]);
-        for (; row < FMAX.loopBound(col); row += FMAX.length()) {
-          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
-          FloatVector va1 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 1) * lda);
-          FloatVector va2 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 2) * lda);
-          FloatVector va3 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 3) * lda);
-          FloatVector vy0 = FloatVector.fromArray(FMAX, y, offsety + row);
-          valphax0.fma(va0, valphax1.fma(va1, valphax2.fma(va2, valphax3.fma(va3, vy0))))
-            .intoArray(y, offsety + row);
-          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + row);
-          vsum0 = vx0.fma(va0, vsum0);
-          vsum1 = vx0.fma(va1, vsum1);
-          vsum2 = vx0.fma(va2, vsum2);
-          vsum3 = vx0.fma(va3, vsum3);
-        }
-        float sum0 = vsum0.reduceLanes(VectorOperators.ADD);
-        float sum1 = vsum1.reduceLanes(VectorOperators.ADD);
-        float sum2 = vsum2.reduceLanes(VectorOperators.ADD);
-        float sum3 = vsum3.reduceLanes(VectorOperators.ADD);
-        float alphax0 = alpha * x[offsetx + (col + 0)];
-        float alphax1 = alpha * x[offsetx + (col + 1)];
-        float alphax2 = alpha * x[offsetx + (col + 2)];
-        float alphax3 = alpha * x[offsetx + (col + 3)];
-        for (; row < col; row += 1) {
-          float a0 = a[offseta + row + (col + 0) * lda];
-          float a1 = a[offseta + row + (col + 1) * lda];
-          float a2 = a[offseta + row + (col + 2) * lda];
-          float a3 = a[offseta + row + (col + 3) * lda];
-          y[offsety + row] += alphax0 * a0 + alphax1 * a1 + alphax2 * a2 + alphax3 * a3;
-          float x0 = x[offsetx + row];
-          sum0 += x0 * a0;
-          sum1 += x0 * a1;
-          sum2 += x0 * a2;
-          sum3 += x0 * a3;
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          FloatVector.fromArray(FMAX, b, offsetb + row + k * ldb).mul(vakk).intoArray(b, offsetb + row + k * ldb);
         }
-        {
-          float a00 = a[offseta + (row + 0) + (col + 0) * lda];
-          float a01 = a[offseta + (row + 0) + (col + 1) * lda];
-          float a02 = a[offseta + (row + 0) + (col + 2) * lda];
-          float a03 = a[offseta + (row + 0) + (col + 3) * lda];
-          float a11 = a[offseta + (row + 1) + (col + 1) * lda];
-          float a12 = a[offseta + (row + 1) + (col + 2) * lda];
-          float a13 = a[offseta + (row + 1) + (col + 3) * lda];
-          float a22 = a[offseta + (row + 2) + (col + 2) * lda];
-          float a23 = a[offseta + (row + 2) + (col + 3) * lda];
-          float a33 = a[offseta + (row + 3) + (col + 3) * lda];
-          float x0 = x[offsetx + (row + 0)];
-          float x1 = x[offsetx + (row + 1)];
-          float x2 = x[offsetx + (row + 2)];
-          float x3 = x[offsetx + (row + 3)];
-          sum0 += x0 * a00 + x1 * a01 + x2 * a02 + x3 * a03;
-          sum1 += x0 * a01 + x1 * a11 + x2 * a12 + x3 * a13;
-          sum2 += x0 * a02 + x1 * a12 + x2 * a22 + x3 * a23;
-          sum3 += x0 * a03 + x1 * a13 + x2 * a23 + x3 * a33;
+        for (; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
         }
-        if (beta != 0.0f) {
-          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
-          y[offsety + (col + 1)] = alpha * sum1 + beta * y[offsety + (col + 1)];
-          y[offsety + (col + 2)] = alpha * sum2 + beta * y[offsety + (col + 2)];
-          y[offsety + (col + 3)] = alpha * sum3 + beta * y[offsety + (col + 3)];
-        } else {
-          y[offsety + (col + 0)] = alpha * sum0;
-          y[offsety + (col + 1)] = alpha * sum1;
-          y[offsety + (col + 2)] = alpha * sum2;
-          y[offsety + (col + 3)] = alpha * sum3;
+      }
+      for (int col = 0; col < k; col += 1) {
+        float ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0f) {
+          FloatVector vnajk = FloatVector.broadcast(FMAX, -ajk);
+          int row = 0;
+          for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+            FloatVector vx = FloatVector.fromArray(FMAX, b, offsetb + row + k * ldb);
+            FloatVector vy = FloatVector.fromArray(FMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnajk, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= ajk * b[offsetb + row + k * ldb];
+          }
         }
       }
-      for (; col < n; col += 1) {
+    }
+  }
+
+  protected void strsmRLT(int m, int n, boolean nounit, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    for (int k = 0; k < n; k += 1) {
+      if (nounit) {
+        float akk = 1.0f / a[offseta + k + k * lda];
+        FloatVector vakk = FloatVector.broadcast(FMAX, akk);
         int row = 0;
-        FloatVector vsum0 = FloatVector.zero(FMAX);
-        FloatVector valphax0 = FloatVector.broadcast(FMAX, alpha * x[offsetx + (col + 0)]);
-        for (; row < FMAX.loopBound(col); row += FMAX.length()) {
-          FloatVector va0 = FloatVector.fromArray(FMAX, a, offseta + row + (col + 0) * lda);
-          FloatVector vy0 = FloatVector.fromArray(FMAX, y, offsety + row);
-          valphax0.fma(va0, vy0)
-            .intoArray(y, offsety + row);
-          FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + row);
-          vsum0 = vx0.fma(va0, vsum0);
+        for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+          FloatVector.fromArray(FMAX, b, offsetb + row + k * ldb).mul(vakk).intoArray(b, offsetb + row + k * ldb);
         }
-        float sum0 = vsum0.reduceLanes(VectorOperators.ADD);
-        float alphax0 = alpha * x[offsetx + (col + 0)];
-        for (; row < col; row += 1) {
-          float a0 = a[offseta + row + (col + 0) * lda];
-          y[offsety + row] += alphax0 * a0;
-          float x0 = x[offsetx + row];
-          sum0 += x0 * a0;
+        for (; row < m; row += 1) {
+          b[offsetb + row + k * ldb] *= akk;
         }
-        {
-          float a00 = a[offseta + (row + 0) + (col + 0) * lda];
-          float x0 = x[offsetx + (row + 0)];
-          sum0 += x0 * a00;
+      }
+      for (int col = k + 1; col < n; col += 1) {
+        float ajk = a[offseta + col + k * lda];
+        if (ajk != 0.0f) {
+          FloatVector vnajk = FloatVector.broadcast(FMAX, -ajk);
+          int row = 0;
+          for (; row < FMAX.loopBound(m); row += FMAX.length()) {
+            FloatVector vx = FloatVector.fromArray(FMAX, b, offsetb + row + k * ldb);
+            FloatVector vy = FloatVector.fromArray(FMAX, b, offsetb + row + col * ldb);
+            vx.fma(vnajk, vy).intoArray(b, offsetb + row + col * ldb);
+          }
+          for (; row < m; row += 1) {
+            b[offsetb + row + col * ldb] -= ajk * b[offsetb + row + k * ldb];
+          }
         }
-        if (beta != 0.0f) {
-          y[offsety + (col + 0)] = alpha * sum0 + beta * y[offsety + (col + 0)];
-        } else {
-          y[offsety + (col + 0)] = alpha * sum0;
+      }
+    }
+  }
+
+  protected int idamaxK(int n, double[] x, int offsetx, int incx) {
+    if (incx == 1 && n >= 4 * DMAX.length()) {
+      // Each lane keeps its running maximum and the first index where it was found.
+      // Four independent maxima hide the latency of the compare and blend chain.
+      // Indices are exact as doubles for any array length.
+      int i = 0;
+      DoubleVector vmax0 = DoubleVector.broadcast(DMAX, -1.0);
+      DoubleVector vmax1 = vmax0, vmax2 = vmax0, vmax3 = vmax0;
+      DoubleVector vimax0 = DoubleVector.zero(DMAX);
+      DoubleVector vimax1 = vimax0, vimax2 = vimax0, vimax3 = vimax0;
+      DoubleVector vi = DoubleVector.zero(DMAX).addIndex(1);
+      DoubleVector vstep = DoubleVector.broadcast(DMAX, DMAX.length());
+      VectorMask<Double> vnan = DMAX.maskAll(false);
+      for (; i < loopBound(n, 4 * DMAX.length()); i += 4 * DMAX.length()) {
+        DoubleVector vx0 = DoubleVector.fromArray(DMAX, x, offsetx + i + 0 * DMAX.length()).abs();
+        DoubleVector vx1 = DoubleVector.fromArray(DMAX, x, offsetx + i + 1 * DMAX.length()).abs();
+        DoubleVector vx2 = DoubleVector.fromArray(DMAX, x, offsetx + i + 2 * DMAX.length()).abs();
+        DoubleVector vx3 = DoubleVector.fromArray(DMAX, x, offsetx + i + 3 * DMAX.length()).abs();
+        VectorMask<Double> vgt0 = vx0.compare(VectorOperators.LE, vmax0).not();
+        VectorMask<Double> vgt1 = vx1.compare(VectorOperators.LE, vmax1).not();
+        VectorMask<Double> vgt2 = vx2.compare(VectorOperators.LE, vmax2).not();
+        VectorMask<Double> vgt3 = vx3.compare(VectorOperators.LE, vmax3).not();
+        vmax0 = vmax0.blend(vx0, vgt0);
+        vmax1 = vmax1.blend(vx1, vgt1);
+        vmax2 = vmax2.blend(vx2, vgt2);
+        vmax3 = vmax3.blend(vx3, vgt3);
+        vnan = vnan.or(vx0.test(VectorOperators.IS_NAN).or(vx1.test(VectorOperators.IS_NAN)))
+                   .or(vx2.test(VectorOperators.IS_NAN).or(vx3.test(VectorOperators.IS_NAN)));
+        vimax0 = vimax0.blend(vi, vgt0);
+        vi = vi.add(vstep);
+        vimax1 = vimax1.blend(vi, vgt1);
+        vi = vi.add(vstep);
+        vimax2 = vimax2.blend(vi, vgt2);
+        vi = vi.add(vstep);
+        vimax3 = vimax3.blend(vi, vgt3);
+        vi = vi.add(vstep);
+      }
+      if (vnan.anyTrue()) {
+        // Which index Java8BLAS returns after a NaN depends on the order in which
+        // the elements are visited, which the lanes do not follow: a lane drops its
+        // NaN at its next element. Rescan instead, NaN being the rare case.
+        return super.idamaxK(n, x, offsetx, incx);
+      }
+      double max = vmax0.max(vmax1).max(vmax2.max(vmax3)).reduceLanes(VectorOperators.MAX);
+      // Lowest index among the lanes holding the maximum, lanes not holding it
+      // reduce to the largest value
+      int imax = (int)Math.min(
+        Math.min(vimax0.reduceLanes(VectorOperators.MIN, vmax0.compare(VectorOperators.EQ, max)),
+                 vimax1.reduceLanes(VectorOperators.MIN, vmax1.compare(VectorOperators.EQ, max))),
+        Math.min(vimax2.reduceLanes(VectorOperators.MIN, vmax2.compare(VectorOperators.EQ, max)),
+                 vimax3.reduceLanes(VectorOperators.MIN, vmax3.compare(VectorOperators.EQ, max))));
+      for (; i < n; i += 1) {
+        double xi = Math.abs(x[offsetx + i]);
+        if (!(xi <= max)) {
+          max = xi;
+          imax = i;
         }
       }
+      // Fortran arrays use 1-based index
+      return imax + 1;
     } else {
-      super.ssymvU(n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      return super.idamaxK(n, x, offsetx, incx);
+    }
+  }
+
+  protected int isamaxK(int n, float[] x, int offsetx, int incx) {
+    if (incx == 1 && n >= 4 * FMAX.length()) {
+      // Same as idamaxK, with the indices kept in an int vector of the same lane
+      // count as floats are only exact up to 2^24.
+      int i = 0;
+      FloatVector vmax0 = FloatVector.broadcast(FMAX, -1.0f);
+      FloatVector vmax1 = vmax0, vmax2 = vmax0, vmax3 = vmax0;
+      IntVector vimax0 = IntVector.zero(IFMAX);
+      IntVector vimax1 = vimax0, vimax2 = vimax0, vimax3 = vimax0;
+      IntVector vi = IntVector.zero(IFMAX).addIndex(1);
+      IntVector vstep = IntVector.broadcast(IFMAX, FMAX.length());
+      VectorMask<Float> vnan = FMAX.maskAll(false);
+      for (; i < loopBound(n, 4 * FMAX.length()); i += 4 * FMAX.length()) {
+        FloatVector vx0 = FloatVector.fromArray(FMAX, x, offsetx + i + 0 * FMAX.length()).abs();
+        FloatVector vx1 = FloatVector.fromArray(FMAX, x, offsetx + i + 1 * FMAX.length()).abs();
+        FloatVector vx2 = FloatVector.fromArray(FMAX, x, offsetx + i + 2 * FMAX.length()).abs();
+        FloatVector vx3 = FloatVector.fromArray(FMAX, x, offsetx + i + 3 * FMAX.length()).abs();
+        VectorMask<Float> vgt0 = vx0.compare(VectorOperators.LE, vmax0).not();
+        VectorMask<Float> vgt1 = vx1.compare(VectorOperators.LE, vmax1).not();
+        VectorMask<Float> vgt2 = vx2.compare(VectorOperators.LE, vmax2).not();
+        VectorMask<Float> vgt3 = vx3.compare(VectorOperators.LE, vmax3).not();
+        vmax0 = vmax0.blend(vx0, vgt0);
+        vmax1 = vmax1.blend(vx1, vgt1);
+        vmax2 = vmax2.blend(vx2, vgt2);
+        vmax3 = vmax3.blend(vx3, vgt3);
+        vnan = vnan.or(vx0.test(VectorOperators.IS_NAN).or(vx1.test(VectorOperators.IS_NAN)))
+                   .or(vx2.test(VectorOperators.IS_NAN).or(vx3.test(VectorOperators.IS_NAN)));
+        vimax0 = vimax0.blend(vi, vgt0.cast(IFMAX));
+        vi = vi.add(vstep);
+        vimax1 = vimax1.blend(vi, vgt1.cast(IFMAX));
+        vi = vi.add(vstep);
+        vimax2 = vimax2.blend(vi, vgt2.cast(IFMAX));
+        vi = vi.add(vstep);
+        vimax3 = vimax3.blend(vi, vgt3.cast(IFMAX));
+        vi = vi.add(vstep);
+      }
+      if (vnan.anyTrue()) {
+        // Which index Java8BLAS returns after a NaN depends on the order in which
+        // the elements are visited, which the lanes do not follow: a lane drops its
+        // NaN at its next element. Rescan instead, NaN being the rare case.
+        return super.isamaxK(n, x, offsetx, incx);
+      }
+      float max = vmax0.max(vmax1).max(vmax2.max(vmax3)).reduceLanes(VectorOperators.MAX);
+      // Lowest index among the lanes holding the maximum, lanes not holding it
+      // reduce to the largest value
+      int imax = (int)Math.min(
+        Math.min(vimax0.reduceLanes(VectorOperators.MIN, vmax0.compare(VectorOperators.EQ, max).cast(IFMAX)),
+                 vimax1.reduceLanes(VectorOperators.MIN, vmax1.compare(VectorOperators.EQ, max).cast(IFMAX))),
+        Math.min(vimax2.reduceLanes(VectorOperators.MIN, vmax2.compare(VectorOperators.EQ, max).cast(IFMAX)),
+                 vimax3.reduceLanes(VectorOperators.MIN, vmax3.compare(VectorOperators.EQ, max).cast(IFMAX))));
+      for (; i < n; i += 1) {
+        float xi = Math.abs(x[offsetx + i]);
+        if (!(xi <= max)) {
+          max = xi;
+          imax = i;
+        }
+      }
+      // Fortran arrays use 1-based index
+      return imax + 1;
+    } else {
+      return super.isamaxK(n, x, offsetx, incx);
     }
   }
 }
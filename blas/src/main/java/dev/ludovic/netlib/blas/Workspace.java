@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+// Scratch buffers reused across calls by the pure-Java kernels, one set per thread
+// so that concurrent callers and the workers of a ForkJoinPool never share them.
+// Buffers only grow, and are bounded by the blocking sizes of the kernels using them.
+final class Workspace {
+
+  static final int PACKEDA = 0;
+  static final int PACKEDB = 1;
+  static final int PACKEDC = 2;
+  static final int PACKEDS = 3;
+
+  private static final int SLOTS = 4;
+
+  private static final ThreadLocal<Workspace> local = ThreadLocal.withInitial(Workspace::new);
+
+  private final double[][] doubles = new double[SLOTS][];
+  private final float[][] floats = new float[SLOTS][];
+
+  private Workspace() {}
+
+  static Workspace get() {
+    return local.get();
+  }
+
+  // The returned buffer may be larger than size and is not cleared
+  double[] doubles(int slot, int size) {
+    double[] buffer = doubles[slot];
+    if (buffer == null || buffer.length < size) {
+      doubles[slot] = buffer = new double[size];
+    }
+    return buffer;
+  }
+
+  float[] floats(int slot, int size) {
+    float[] buffer = floats[slot];
+    if (buffer == null || buffer.length < size) {
+      floats[slot] = buffer = new float[size];
+    }
+    return buffer;
+  }
+}
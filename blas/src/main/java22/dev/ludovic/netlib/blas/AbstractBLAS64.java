@@ -0,0 +1,467 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+
+abstract class AbstractBLAS64 implements BLAS64 {
+
+  private final static boolean debug = System.getProperty("dev.ludovic.netlib.blas.debug", "false").equals("true");
+
+  private void checkArgument(String method, int arg, boolean check) {
+    if (!check) {
+      throw new IllegalArgumentException(String.format("** On entry to '%s' parameter number %d had an illegal value", method, arg));
+    }
+  }
+
+  private void checkIndex(long index, long length) {
+    Objects.checkIndex(index, length);
+  }
+
+  private <T> void requireNonNull(T obj) {
+    Objects.requireNonNull(obj);
+  }
+
+  // Number of elements of the given size in the segment
+  private long length(MemorySegment segment, int size) {
+    return segment.byteSize() / size;
+  }
+
+  public double dasum(long n, MemorySegment x, long incx) {
+    if (debug) System.err.println("dasum");
+    return dasum(n, x, 0, incx);
+  }
+
+  public double dasum(long n, MemorySegment x, long offsetx, long incx) {
+    if (debug) System.err.println("dasum");
+    if (n <= 0) {
+      return 0.0;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Double.BYTES));
+    return dasumK(n, x, offsetx, incx);
+  }
+
+  protected abstract double dasumK(long n, MemorySegment x, long offsetx, long incx);
+
+  public float sasum(long n, MemorySegment x, long incx) {
+    if (debug) System.err.println("sasum");
+    return sasum(n, x, 0, incx);
+  }
+
+  public float sasum(long n, MemorySegment x, long offsetx, long incx) {
+    if (debug) System.err.println("sasum");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Float.BYTES));
+    return sasumK(n, x, offsetx, incx);
+  }
+
+  protected abstract float sasumK(long n, MemorySegment x, long offsetx, long incx);
+
+  public void daxpy(long n, double alpha, MemorySegment x, long incx, MemorySegment y, long incy) {
+    if (debug) System.err.println("daxpy");
+    daxpy(n, alpha, x, 0, incx, y, 0, incy);
+  }
+
+  // y += alpha * x
+  public void daxpy(long n, double alpha, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (debug) System.err.println("daxpy");
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Double.BYTES));
+    checkIndex(offsety + (n - 1) * Math.abs(incy), length(y, Double.BYTES));
+    daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected abstract void daxpyK(long n, double alpha, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public void saxpy(long n, float alpha, MemorySegment x, long incx, MemorySegment y, long incy) {
+    if (debug) System.err.println("saxpy");
+    saxpy(n, alpha, x, 0, incx, y, 0, incy);
+  }
+
+  public void saxpy(long n, float alpha, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (debug) System.err.println("saxpy");
+    if (n <= 0) {
+      return;
+    }
+    if (alpha == 0.0f) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Float.BYTES));
+    checkIndex(offsety + (n - 1) * Math.abs(incy), length(y, Float.BYTES));
+    saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected abstract void saxpyK(long n, float alpha, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public void dcopy(long n, MemorySegment x, long incx, MemorySegment y, long incy) {
+    if (debug) System.err.println("dcopy");
+    dcopy(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void dcopy(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (debug) System.err.println("dcopy");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Double.BYTES));
+    checkIndex(offsety + (n - 1) * Math.abs(incy), length(y, Double.BYTES));
+    dcopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected abstract void dcopyK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public void scopy(long n, MemorySegment x, long incx, MemorySegment y, long incy) {
+    if (debug) System.err.println("scopy");
+    scopy(n, x, 0, incx, y, 0, incy);
+  }
+
+  public void scopy(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (debug) System.err.println("scopy");
+    if (n <= 0) {
+      return;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Float.BYTES));
+    checkIndex(offsety + (n - 1) * Math.abs(incy), length(y, Float.BYTES));
+    scopyK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected abstract void scopyK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public double ddot(long n, MemorySegment x, long incx, MemorySegment y, long incy) {
+    if (debug) System.err.println("ddot");
+    return ddot(n, x, 0, incx, y, 0, incy);
+  }
+
+  // sum(x * y)
+  public double ddot(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (debug) System.err.println("ddot");
+    if (n <= 0) {
+      return 0.0;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Double.BYTES));
+    checkIndex(offsety + (n - 1) * Math.abs(incy), length(y, Double.BYTES));
+    return ddotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected abstract double ddotK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public float sdot(long n, MemorySegment x, long incx, MemorySegment y, long incy) {
+    if (debug) System.err.println("sdot");
+    return sdot(n, x, 0, incx, y, 0, incy);
+  }
+
+  public float sdot(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (debug) System.err.println("sdot");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Float.BYTES));
+    checkIndex(offsety + (n - 1) * Math.abs(incy), length(y, Float.BYTES));
+    return sdotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  protected abstract float sdotK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public void dgemm(String transa, String transb, long m, long n, long k, double alpha, MemorySegment a, long lda, MemorySegment b, long ldb, double beta, MemorySegment c, long ldc) {
+    if (debug) System.err.println("dgemm");
+    dgemm(transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  // c = alpha * a * b + beta * c
+  public void dgemm(String transa, String transb, long m, long n, long k, double alpha, MemorySegment a, long offseta, long lda, MemorySegment b, long offsetb, long ldb, double beta, MemorySegment c, long offsetc, long ldc) {
+    if (debug) System.err.println("dgemm");
+    checkArgument("DGEMM", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("DGEMM", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("DGEMM", 3, m >= 0);
+    checkArgument("DGEMM", 4, n >= 0);
+    checkArgument("DGEMM", 5, k >= 0);
+    checkArgument("DGEMM", 8, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("DGEMM", 10, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("DGEMM", 13, ldc >= Math.max(1, m));
+    if (m == 0 || n == 0 || ((alpha == 0.0 || k == 0) && beta == 1.0)) {
+      return;
+    }
+    requireNonNull(c);
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), length(c, Double.BYTES));
+    if (alpha != 0.0 && k > 0) {
+      requireNonNull(a);
+      requireNonNull(b);
+      checkIndex(offseta + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1)), length(a, Double.BYTES));
+      checkIndex(offsetb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1)), length(b, Double.BYTES));
+    }
+    dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected abstract void dgemmK(String transa, String transb, long m, long n, long k, double alpha, MemorySegment a, long offseta, long lda, MemorySegment b, long offsetb, long ldb, double beta, MemorySegment c, long offsetc, long ldc);
+
+  public void sgemm(String transa, String transb, long m, long n, long k, float alpha, MemorySegment a, long lda, MemorySegment b, long ldb, float beta, MemorySegment c, long ldc) {
+    if (debug) System.err.println("sgemm");
+    sgemm(transa, transb, m, n, k, alpha, a, 0, lda, b, 0, ldb, beta, c, 0, ldc);
+  }
+
+  public void sgemm(String transa, String transb, long m, long n, long k, float alpha, MemorySegment a, long offseta, long lda, MemorySegment b, long offsetb, long ldb, float beta, MemorySegment c, long offsetc, long ldc) {
+    if (debug) System.err.println("sgemm");
+    checkArgument("SGEMM", 1, lsame("T", transa) || lsame("N", transa) || lsame("C", transa));
+    checkArgument("SGEMM", 2, lsame("T", transb) || lsame("N", transb) || lsame("C", transb));
+    checkArgument("SGEMM", 3, m >= 0);
+    checkArgument("SGEMM", 4, n >= 0);
+    checkArgument("SGEMM", 5, k >= 0);
+    checkArgument("SGEMM", 8, lda >= Math.max(1, lsame("N", transa) ? m : k));
+    checkArgument("SGEMM", 10, ldb >= Math.max(1, lsame("N", transb) ? k : n));
+    checkArgument("SGEMM", 13, ldc >= Math.max(1, m));
+    if (m == 0 || n == 0 || ((alpha == 0.0f || k == 0) && beta == 1.0f)) {
+      return;
+    }
+    requireNonNull(c);
+    checkIndex(offsetc + (n - 1) * ldc + (m - 1), length(c, Float.BYTES));
+    if (alpha != 0.0f && k > 0) {
+      requireNonNull(a);
+      requireNonNull(b);
+      checkIndex(offseta + (lsame("N", transa) ? (k - 1) * lda + (m - 1) : (m - 1) * lda + (k - 1)), length(a, Float.BYTES));
+      checkIndex(offsetb + (lsame("N", transb) ? (n - 1) * ldb + (k - 1) : (k - 1) * ldb + (n - 1)), length(b, Float.BYTES));
+    }
+    sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+  }
+
+  protected abstract void sgemmK(String transa, String transb, long m, long n, long k, float alpha, MemorySegment a, long offseta, long lda, MemorySegment b, long offsetb, long ldb, float beta, MemorySegment c, long offsetc, long ldc);
+
+  public void dgemv(String trans, long m, long n, double alpha, MemorySegment a, long lda, MemorySegment x, long incx, double beta, MemorySegment y, long incy) {
+    if (debug) System.err.println("dgemv");
+    dgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  // y = alpha * A * x + beta * y
+  public void dgemv(String trans, long m, long n, double alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long offsetx, long incx, double beta, MemorySegment y, long offsety, long incy) {
+    if (debug) System.err.println("dgemv");
+    checkArgument("DGEMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("DGEMV", 2, m >= 0);
+    checkArgument("DGEMV", 3, n >= 0);
+    checkArgument("DGEMV", 6, lda >= Math.max(1, m));
+    checkArgument("DGEMV", 8, incx != 0);
+    checkArgument("DGEMV", 11, incy != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), length(a, Double.BYTES));
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), length(x, Double.BYTES));
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), length(y, Double.BYTES));
+    dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected abstract void dgemvK(String trans, long m, long n, double alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long offsetx, long incx, double beta, MemorySegment y, long offsety, long incy);
+
+  public void sgemv(String trans, long m, long n, float alpha, MemorySegment a, long lda, MemorySegment x, long incx, float beta, MemorySegment y, long incy) {
+    if (debug) System.err.println("sgemv");
+    sgemv(trans, m, n, alpha, a, 0, lda, x, 0, incx, beta, y, 0, incy);
+  }
+
+  public void sgemv(String trans, long m, long n, float alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long offsetx, long incx, float beta, MemorySegment y, long offsety, long incy) {
+    if (debug) System.err.println("sgemv");
+    checkArgument("SGEMV", 1, lsame("N", trans) || lsame("T", trans) || lsame("C", trans));
+    checkArgument("SGEMV", 2, m >= 0);
+    checkArgument("SGEMV", 3, n >= 0);
+    checkArgument("SGEMV", 6, lda >= Math.max(1, m));
+    checkArgument("SGEMV", 8, incx != 0);
+    checkArgument("SGEMV", 11, incy != 0);
+    if (m == 0 || n == 0) {
+      return;
+    }
+    requireNonNull(a);
+    requireNonNull(x);
+    requireNonNull(y);
+    checkIndex(offseta + (n - 1) * lda + (m - 1), length(a, Float.BYTES));
+    checkIndex(offsetx + ((lsame("N", trans) ? n : m) - 1) * Math.abs(incx), length(x, Float.BYTES));
+    checkIndex(offsety + ((lsame("N", trans) ? m : n) - 1) * Math.abs(incy), length(y, Float.BYTES));
+    sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+  }
+
+  protected abstract void sgemvK(String trans, long m, long n, float alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long offsetx, long incx, float beta, MemorySegment y, long offsety, long incy);
+
+  public double dnrm2(long n, MemorySegment x, long incx) {
+    if (debug) System.err.println("dnrm2");
+    return dnrm2(n, x, 0, incx);
+  }
+
+  public double dnrm2(long n, MemorySegment x, long offsetx, long incx) {
+    if (debug) System.err.println("dnrm2");
+    if (n <= 0) {
+      return 0.0;
+    }
+    if (incx <= 0) {
+      return 0.0;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Double.BYTES));
+    return dnrm2K(n, x, offsetx, incx);
+  }
+
+  protected abstract double dnrm2K(long n, MemorySegment x, long offsetx, long incx);
+
+  public float snrm2(long n, MemorySegment x, long incx) {
+    if (debug) System.err.println("snrm2");
+    return snrm2(n, x, 0, incx);
+  }
+
+  public float snrm2(long n, MemorySegment x, long offsetx, long incx) {
+    if (debug) System.err.println("snrm2");
+    if (n <= 0) {
+      return 0.0f;
+    }
+    if (incx <= 0) {
+      return 0.0f;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Float.BYTES));
+    return snrm2K(n, x, offsetx, incx);
+  }
+
+  protected abstract float snrm2K(long n, MemorySegment x, long offsetx, long incx);
+
+  public void dscal(long n, double alpha, MemorySegment x, long incx) {
+    if (debug) System.err.println("dscal");
+    dscal(n, alpha, x, 0, incx);
+  }
+
+  // x = alpha * x
+  public void dscal(long n, double alpha, MemorySegment x, long offsetx, long incx) {
+    if (debug) System.err.println("dscal");
+    if (n <= 0) {
+      return;
+    }
+    if (incx <= 0) {
+      return;
+    }
+    if (alpha == 1.0) {
+      return;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Double.BYTES));
+    dscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected abstract void dscalK(long n, double alpha, MemorySegment x, long offsetx, long incx);
+
+  public void sscal(long n, float alpha, MemorySegment x, long incx) {
+    if (debug) System.err.println("sscal");
+    sscal(n, alpha, x, 0, incx);
+  }
+
+  public void sscal(long n, float alpha, MemorySegment x, long offsetx, long incx) {
+    if (debug) System.err.println("sscal");
+    if (n <= 0) {
+      return;
+    }
+    if (incx <= 0) {
+      return;
+    }
+    if (alpha == 1.0f) {
+      return;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Float.BYTES));
+    sscalK(n, alpha, x, offsetx, incx);
+  }
+
+  protected abstract void sscalK(long n, float alpha, MemorySegment x, long offsetx, long incx);
+
+  public long idamax(long n, MemorySegment x, long incx) {
+    if (debug) System.err.println("idamax");
+    return idamax(n, x, 0, incx);
+  }
+
+  public long idamax(long n, MemorySegment x, long offsetx, long incx) {
+    if (debug) System.err.println("idamax");
+    if (n <= 0) {
+      return -1;
+    }
+    if (incx <= 0) {
+      return -1;
+    }
+    if (n == 1) {
+      return 0;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Double.BYTES));
+    // Fortran arrays use 1-based index
+    return idamaxK(n, x, offsetx, incx) - 1;
+  }
+
+  protected abstract long idamaxK(long n, MemorySegment x, long offsetx, long incx);
+
+  public long isamax(long n, MemorySegment x, long incx) {
+    if (debug) System.err.println("isamax");
+    return isamax(n, x, 0, incx);
+  }
+
+  public long isamax(long n, MemorySegment x, long offsetx, long incx) {
+    if (debug) System.err.println("isamax");
+    if (n <= 0) {
+      return -1;
+    }
+    if (incx <= 0) {
+      return -1;
+    }
+    if (n == 1) {
+      return 0;
+    }
+    requireNonNull(x);
+    checkIndex(offsetx + (n - 1) * Math.abs(incx), length(x, Float.BYTES));
+    // Fortran arrays use 1-based index
+    return isamaxK(n, x, offsetx, incx) - 1;
+  }
+
+  protected abstract long isamaxK(long n, MemorySegment x, long offsetx, long incx);
+
+  public boolean lsame(String ca, String cb) {
+    if (debug) System.err.println("lsame");
+    return ca != null && ca.regionMatches(true, 0, cb, 0, ca.length());
+  }
+}
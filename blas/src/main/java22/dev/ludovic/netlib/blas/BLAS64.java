@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.lang.foreign.MemorySegment;
+
+// Counterpart of BLAS with 64-bit dimensions, offsets, strides, and leading dimensions, for
+// vectors and matrices of more than 2^31 elements. They are stored in MemorySegment, and the
+// offsets are counted in elements as in BLAS, not in bytes.
+public interface BLAS64 {
+
+  public static BLAS64 getInstance() {
+    return InstanceBuilder64.blas64();
+  }
+
+  public double dasum(long n, MemorySegment x, long incx);
+  public double dasum(long n, MemorySegment x, long offsetx, long incx);
+
+  public float sasum(long n, MemorySegment x, long incx);
+  public float sasum(long n, MemorySegment x, long offsetx, long incx);
+
+  public void daxpy(long n, double alpha, MemorySegment x, long incx, MemorySegment y, long incy);
+  public void daxpy(long n, double alpha, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public void saxpy(long n, float alpha, MemorySegment x, long incx, MemorySegment y, long incy);
+  public void saxpy(long n, float alpha, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public void dcopy(long n, MemorySegment x, long incx, MemorySegment y, long incy);
+  public void dcopy(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public void scopy(long n, MemorySegment x, long incx, MemorySegment y, long incy);
+  public void scopy(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public double ddot(long n, MemorySegment x, long incx, MemorySegment y, long incy);
+  public double ddot(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public float sdot(long n, MemorySegment x, long incx, MemorySegment y, long incy);
+  public float sdot(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy);
+
+  public void dgemm(String transa, String transb, long m, long n, long k, double alpha, MemorySegment a, long lda, MemorySegment b, long ldb, double beta, MemorySegment c, long ldc);
+  public void dgemm(String transa, String transb, long m, long n, long k, double alpha, MemorySegment a, long offseta, long lda, MemorySegment b, long offsetb, long ldb, double beta, MemorySegment c, long offsetc, long ldc);
+
+  public void sgemm(String transa, String transb, long m, long n, long k, float alpha, MemorySegment a, long lda, MemorySegment b, long ldb, float beta, MemorySegment c, long ldc);
+  public void sgemm(String transa, String transb, long m, long n, long k, float alpha, MemorySegment a, long offseta, long lda, MemorySegment b, long offsetb, long ldb, float beta, MemorySegment c, long offsetc, long ldc);
+
+  public void dgemv(String trans, long m, long n, double alpha, MemorySegment a, long lda, MemorySegment x, long incx, double beta, MemorySegment y, long incy);
+  public void dgemv(String trans, long m, long n, double alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long offsetx, long incx, double beta, MemorySegment y, long offsety, long incy);
+
+  public void sgemv(String trans, long m, long n, float alpha, MemorySegment a, long lda, MemorySegment x, long incx, float beta, MemorySegment y, long incy);
+  public void sgemv(String trans, long m, long n, float alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long offsetx, long incx, float beta, MemorySegment y, long offsety, long incy);
+
+  public double dnrm2(long n, MemorySegment x, long incx);
+  public double dnrm2(long n, MemorySegment x, long offsetx, long incx);
+
+  public float snrm2(long n, MemorySegment x, long incx);
+  public float snrm2(long n, MemorySegment x, long offsetx, long incx);
+
+  public void dscal(long n, double alpha, MemorySegment x, long incx);
+  public void dscal(long n, double alpha, MemorySegment x, long offsetx, long incx);
+
+  public void sscal(long n, float alpha, MemorySegment x, long incx);
+  public void sscal(long n, float alpha, MemorySegment x, long offsetx, long incx);
+
+  public long idamax(long n, MemorySegment x, long incx);
+  public long idamax(long n, MemorySegment x, long offsetx, long incx);
+
+  public long isamax(long n, MemorySegment x, long incx);
+  public long isamax(long n, MemorySegment x, long offsetx, long incx);
+
+  public boolean lsame(String ca, String cb);
+}
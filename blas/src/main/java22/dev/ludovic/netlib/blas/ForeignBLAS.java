@@ -0,0 +1,1982 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+// Generated by generator.py, do not edit
+
+package dev.ludovic.netlib.blas;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+
+// Binds the native library through the Foreign Function & Memory API of Java 22+, instead of
+// going through the JNI wrappers of JNIBLAS.
+final class ForeignBLAS extends AbstractBLAS implements NativeBLAS {
+
+  private static final Linker linker = Linker.nativeLinker();
+
+  private static final SymbolLookup lookup = libraryLookup();
+
+  private static final ForeignBLAS instance = new ForeignBLAS();
+
+  protected ForeignBLAS() {}
+
+  public static NativeBLAS getInstance() {
+    return instance;
+  }
+
+  private static SymbolLookup libraryLookup() {
+    String nativeLibPath = System.getProperty("dev.ludovic.netlib.blas.nativeLibPath");
+    if (nativeLibPath != null) {
+      return SymbolLookup.libraryLookup(Paths.get(nativeLibPath), Arena.global());
+    }
+    return SymbolLookup.libraryLookup(System.getProperty("dev.ludovic.netlib.blas.nativeLib", "libblas.so.3"), Arena.global());
+  }
+
+  // All the arguments are pointers, so the handles only differ by their number of arguments and
+  // their return type, and the JDK only has to specialize a few of them
+  private static MethodHandle downcallHandle(String name, MemoryLayout result, int count) {
+    MemoryLayout[] arguments = new MemoryLayout[count];
+    Arrays.fill(arguments, ADDRESS);
+    FunctionDescriptor descriptor = result == null ? FunctionDescriptor.ofVoid(arguments) : FunctionDescriptor.of(result, arguments);
+    return lookup.find(name).map(symbol -> linker.downcallHandle(symbol, descriptor, Linker.Option.critical(true))).orElse(null);
+  }
+
+  // The JNI library of JNIBLAS, only looked up for the native loops of the batched routines;
+  // they fall back to one downcall per matrix when it isn't available for this platform
+  private static final SymbolLookup jniLookup = jniLibraryLookup();
+
+  private static SymbolLookup jniLibraryLookup() {
+    String resource = String.format("resources/native/%s-%s/libnetlibblasjni.so", System.getProperty("os.name"), System.getProperty("os.arch"));
+    try (InputStream input = ForeignBLAS.class.getClassLoader().getResourceAsStream(resource)) {
+      if (input == null) {
+        return null;
+      }
+      Path temp = Files.createTempFile("libnetlibblasjni.so", "", PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwxr-x---")));
+      temp.toFile().deleteOnExit();
+      Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+      return SymbolLookup.libraryLookup(temp, Arena.global());
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  // The native loop is given the address of the routine it calls, so it doesn't depend on the
+  // symbols that JNIBLAS loads
+  private static MethodHandle batchedHandle(String name, String routine, int count) {
+    if (jniLookup == null) {
+      return null;
+    }
+    MemoryLayout[] arguments = new MemoryLayout[count + 1];
+    Arrays.fill(arguments, ADDRESS);
+    FunctionDescriptor descriptor = FunctionDescriptor.ofVoid(arguments);
+    return jniLookup.find(name).flatMap(loop -> lookup.find(routine).map(symbol ->
+        MethodHandles.insertArguments(linker.downcallHandle(loop, descriptor, Linker.Option.critical(true)), 0, symbol))).orElse(null);
+  }
+
+  private static RuntimeException rethrow(Throwable throwable) {
+    if (throwable instanceof Error) {
+      throw (Error)throwable;
+    }
+    if (throwable instanceof RuntimeException) {
+      return (RuntimeException)throwable;
+    }
+    return new RuntimeException(throwable);
+  }
+
+  private static MemorySegment value(int value) {
+    return MemorySegment.ofArray(new int[] { value });
+  }
+
+  private static MemorySegment value(float value) {
+    return MemorySegment.ofArray(new float[] { value });
+  }
+
+  private static MemorySegment value(double value) {
+    return MemorySegment.ofArray(new double[] { value });
+  }
+
+  private static byte[] bytes(String string) {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    return Arrays.copyOf(bytes, bytes.length + 1);
+  }
+
+  private static MemorySegment string(String string) {
+    return string == null ? MemorySegment.NULL : MemorySegment.ofArray(bytes(string));
+  }
+
+  private static String string(byte[] bytes) {
+    int length = 0;
+    while (length < bytes.length && bytes[length] != 0) {
+      length += 1;
+    }
+    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+  }
+
+  // Fortran logicals are ints, so boolean arrays are copied, and never copied back
+  private static MemorySegment segment(boolean[] array, int offset) {
+    if (array == null) {
+      return MemorySegment.NULL;
+    }
+    int[] copy = new int[array.length - offset];
+    for (int i = 0; i < copy.length; i += 1) {
+      copy[i] = array[offset + i] ? 1 : 0;
+    }
+    return MemorySegment.ofArray(copy);
+  }
+
+  private static MemorySegment segment(int[] array, int offset) {
+    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Integer.BYTES);
+  }
+
+  private static MemorySegment segment(float[] array, int offset) {
+    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Float.BYTES);
+  }
+
+  private static MemorySegment segment(double[] array, int offset) {
+    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Double.BYTES);
+  }
+
+  private static MemorySegment segment(short[] array, int offset) {
+    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Short.BYTES);
+  }
+
+  // Heap buffers and direct buffers in native byte order are passed as is; read-only ones go
+  // through the copying fallback, as nothing would stop native code from writing to them
+  private static boolean isSegment(IntBuffer buffer) {
+    return buffer == null || (!buffer.isReadOnly() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  private static boolean isSegment(FloatBuffer buffer) {
+    return buffer == null || (!buffer.isReadOnly() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  private static boolean isSegment(DoubleBuffer buffer) {
+    return buffer == null || (!buffer.isReadOnly() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  // offset is absolute, independent of the position of the buffer
+  private static MemorySegment segment(IntBuffer buffer, int offset) {
+    return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer.duplicate().clear()).asSlice((long)offset * Integer.BYTES);
+  }
+
+  // offset is absolute, independent of the position of the buffer
+  private static MemorySegment segment(FloatBuffer buffer, int offset) {
+    return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer.duplicate().clear()).asSlice((long)offset * Float.BYTES);
+  }
+
+  // offset is absolute, independent of the position of the buffer
+  private static MemorySegment segment(DoubleBuffer buffer, int offset) {
+    return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer.duplicate().clear()).asSlice((long)offset * Double.BYTES);
+  }
+
+  private static final MethodHandle dasum_ = downcallHandle("dasum_", JAVA_DOUBLE, 3);
+
+  protected double dasumK(int n, double[] x, int offsetx, int incx) {
+    return dasumSegmentK(n, segment(x, offsetx), incx);
+  }
+
+  protected double dasumK(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (isSegment(x)) {
+      return dasumSegmentK(n, segment(x, offsetx), incx);
+    }
+    return super.dasumK(n, x, offsetx, incx);
+  }
+
+  private double dasumSegmentK(int n, MemorySegment x, int incx) {
+    if (dasum_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dasum_.invokeExact(value(n), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sasum_ = downcallHandle("sasum_", JAVA_FLOAT, 3);
+
+  protected float sasumK(int n, float[] x, int offsetx, int incx) {
+    return sasumSegmentK(n, segment(x, offsetx), incx);
+  }
+
+  protected float sasumK(int n, FloatBuffer x, int offsetx, int incx) {
+    if (isSegment(x)) {
+      return sasumSegmentK(n, segment(x, offsetx), incx);
+    }
+    return super.sasumK(n, x, offsetx, incx);
+  }
+
+  private float sasumSegmentK(int n, MemorySegment x, int incx) {
+    if (sasum_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) sasum_.invokeExact(value(n), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle daxpy_ = downcallHandle("daxpy_", null, 6);
+
+  protected void daxpyK(int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    daxpySegmentK(n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy);
+  }
+
+  protected void daxpyK(int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (isSegment(x) && isSegment(y)) {
+      daxpySegmentK(n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy);
+    } else {
+      super.daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private void daxpySegmentK(int n, double alpha, MemorySegment x, int incx, MemorySegment y, int incy) {
+    if (daxpy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      daxpy_.invokeExact(value(n), value(alpha), x, value(incx), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle saxpy_ = downcallHandle("saxpy_", null, 6);
+
+  protected void saxpyK(int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    saxpySegmentK(n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy);
+  }
+
+  protected void saxpyK(int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (isSegment(x) && isSegment(y)) {
+      saxpySegmentK(n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy);
+    } else {
+      super.saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private void saxpySegmentK(int n, float alpha, MemorySegment x, int incx, MemorySegment y, int incy) {
+    if (saxpy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      saxpy_.invokeExact(value(n), value(alpha), x, value(incx), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dcopy_ = downcallHandle("dcopy_", null, 5);
+
+  protected void dcopyK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    dcopySegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+  }
+
+  protected void dcopyK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (isSegment(x) && isSegment(y)) {
+      dcopySegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+    } else {
+      super.dcopyK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private void dcopySegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy) {
+    if (dcopy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dcopy_.invokeExact(value(n), x, value(incx), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle scopy_ = downcallHandle("scopy_", null, 5);
+
+  protected void scopyK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    scopySegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+  }
+
+  protected void scopyK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (isSegment(x) && isSegment(y)) {
+      scopySegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+    } else {
+      super.scopyK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private void scopySegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy) {
+    if (scopy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      scopy_.invokeExact(value(n), x, value(incx), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ddot_ = downcallHandle("ddot_", JAVA_DOUBLE, 5);
+
+  protected double ddotK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    return ddotSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+  }
+
+  protected double ddotK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (isSegment(x) && isSegment(y)) {
+      return ddotSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+    }
+    return super.ddotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  private double ddotSegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy) {
+    if (ddot_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) ddot_.invokeExact(value(n), x, value(incx), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sdot_ = downcallHandle("sdot_", JAVA_FLOAT, 5);
+
+  protected float sdotK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    return sdotSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+  }
+
+  protected float sdotK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (isSegment(x) && isSegment(y)) {
+      return sdotSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+    }
+    return super.sdotK(n, x, offsetx, incx, y, offsety, incy);
+  }
+
+  private float sdotSegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy) {
+    if (sdot_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) sdot_.invokeExact(value(n), x, value(incx), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sdsdot_ = downcallHandle("sdsdot_", JAVA_FLOAT, 6);
+
+  protected float sdsdotK(int n, float sb, float[] sx, int offsetsx, int incsx, float[] sy, int offsetsy, int incsy) {
+    return sdsdotSegmentK(n, sb, segment(sx, offsetsx), incsx, segment(sy, offsetsy), incsy);
+  }
+
+  protected float sdsdotK(int n, float sb, FloatBuffer sx, int offsetsx, int incsx, FloatBuffer sy, int offsetsy, int incsy) {
+    if (isSegment(sx) && isSegment(sy)) {
+      return sdsdotSegmentK(n, sb, segment(sx, offsetsx), incsx, segment(sy, offsetsy), incsy);
+    }
+    return super.sdsdotK(n, sb, sx, offsetsx, incsx, sy, offsetsy, incsy);
+  }
+
+  private float sdsdotSegmentK(int n, float sb, MemorySegment sx, int incsx, MemorySegment sy, int incsy) {
+    if (sdsdot_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) sdsdot_.invokeExact(value(n), value(sb), sx, value(incsx), sy, value(incsy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dgbmv_ = downcallHandle("dgbmv_", null, 13);
+
+  protected void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    dgbmvSegmentK(trans, m, n, kl, ku, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+  }
+
+  protected void dgbmvK(String trans, int m, int n, int kl, int ku, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (isSegment(a) && isSegment(x) && isSegment(y)) {
+      dgbmvSegmentK(trans, m, n, kl, ku, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+    } else {
+      super.dgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private void dgbmvSegmentK(String trans, int m, int n, int kl, int ku, double alpha, MemorySegment a, int lda, MemorySegment x, int incx, double beta, MemorySegment y, int incy) {
+    if (dgbmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dgbmv_.invokeExact(string(trans), value(m), value(n), value(kl), value(ku), value(alpha), a, value(lda), x, value(incx), value(beta), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sgbmv_ = downcallHandle("sgbmv_", null, 13);
+
+  protected void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    sgbmvSegmentK(trans, m, n, kl, ku, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+  }
+
+  protected void sgbmvK(String trans, int m, int n, int kl, int ku, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (isSegment(a) && isSegment(x) && isSegment(y)) {
+      sgbmvSegmentK(trans, m, n, kl, ku, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+    } else {
+      super.sgbmvK(trans, m, n, kl, ku, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private void sgbmvSegmentK(String trans, int m, int n, int kl, int ku, float alpha, MemorySegment a, int lda, MemorySegment x, int incx, float beta, MemorySegment y, int incy) {
+    if (sgbmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sgbmv_.invokeExact(string(trans), value(m), value(n), value(kl), value(ku), value(alpha), a, value(lda), x, value(incx), value(beta), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dgemm_ = downcallHandle("dgemm_", null, 13);
+
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    dgemmSegmentK(transa, transb, m, n, k, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+  }
+
+  protected void dgemmK(String transa, String transb, int m, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (isSegment(a) && isSegment(b) && isSegment(c)) {
+      dgemmSegmentK(transa, transb, m, n, k, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+    } else {
+      super.dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private void dgemmSegmentK(String transa, String transb, int m, int n, int k, double alpha, MemorySegment a, int lda, MemorySegment b, int ldb, double beta, MemorySegment c, int ldc) {
+    if (dgemm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dgemm_.invokeExact(string(transa), string(transb), value(m), value(n), value(k), value(alpha), a, value(lda), b, value(ldb), value(beta), c, value(ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sgemm_ = downcallHandle("sgemm_", null, 13);
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    sgemmSegmentK(transa, transb, m, n, k, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+  }
+
+  protected void sgemmK(String transa, String transb, int m, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (isSegment(a) && isSegment(b) && isSegment(c)) {
+      sgemmSegmentK(transa, transb, m, n, k, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+    } else {
+      super.sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private void sgemmSegmentK(String transa, String transb, int m, int n, int k, float alpha, MemorySegment a, int lda, MemorySegment b, int ldb, float beta, MemorySegment c, int ldc) {
+    if (sgemm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sgemm_.invokeExact(string(transa), string(transb), value(m), value(n), value(k), value(alpha), a, value(lda), b, value(ldb), value(beta), c, value(ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dgemmBatched_ = batchedHandle("netlib_dgemmBatched", "dgemm_", 17);
+
+  protected void dgemmBatchedK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int[] offsetsa, int lda, double[] b, int[] offsetsb, int ldb, double beta, double[] c, int[] offsetsc, int ldc, int batchCount) {
+    if (dgemmBatched_ == null) {
+      super.dgemmBatchedK(transa, transb, m, n, k, alpha, a, offsetsa, lda, b, offsetsb, ldb, beta, c, offsetsc, ldc, batchCount);
+      return;
+    }
+    try {
+      dgemmBatched_.invokeExact(string(transa), string(transb), value(m), value(n), value(k), value(alpha), MemorySegment.ofArray(a), MemorySegment.ofArray(offsetsa), value(lda), MemorySegment.ofArray(b), MemorySegment.ofArray(offsetsb), value(ldb), value(beta), MemorySegment.ofArray(c), MemorySegment.ofArray(offsetsc), value(ldc), value(batchCount));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dgemmStridedBatched_ = batchedHandle("netlib_dgemmStridedBatched", "dgemm_", 17);
+
+  protected void dgemmStridedBatchedK(String transa, String transb, int m, int n, int k, double alpha, double[] a, int offseta, int lda, int stridea, double[] b, int offsetb, int ldb, int strideb, double beta, double[] c, int offsetc, int ldc, int stridec, int batchCount) {
+    if (dgemmStridedBatched_ == null) {
+      super.dgemmStridedBatchedK(transa, transb, m, n, k, alpha, a, offseta, lda, stridea, b, offsetb, ldb, strideb, beta, c, offsetc, ldc, stridec, batchCount);
+      return;
+    }
+    try {
+      dgemmStridedBatched_.invokeExact(string(transa), string(transb), value(m), value(n), value(k), value(alpha), segment(a, offseta), value(lda), value(stridea), segment(b, offsetb), value(ldb), value(strideb), value(beta), segment(c, offsetc), value(ldc), value(stridec), value(batchCount));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sgemmBatched_ = batchedHandle("netlib_sgemmBatched", "sgemm_", 17);
+
+  protected void sgemmBatchedK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int[] offsetsa, int lda, float[] b, int[] offsetsb, int ldb, float beta, float[] c, int[] offsetsc, int ldc, int batchCount) {
+    if (sgemmBatched_ == null) {
+      super.sgemmBatchedK(transa, transb, m, n, k, alpha, a, offsetsa, lda, b, offsetsb, ldb, beta, c, offsetsc, ldc, batchCount);
+      return;
+    }
+    try {
+      sgemmBatched_.invokeExact(string(transa), string(transb), value(m), value(n), value(k), value(alpha), MemorySegment.ofArray(a), MemorySegment.ofArray(offsetsa), value(lda), MemorySegment.ofArray(b), MemorySegment.ofArray(offsetsb), value(ldb), value(beta), MemorySegment.ofArray(c), MemorySegment.ofArray(offsetsc), value(ldc), value(batchCount));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sgemmStridedBatched_ = batchedHandle("netlib_sgemmStridedBatched", "sgemm_", 17);
+
+  protected void sgemmStridedBatchedK(String transa, String transb, int m, int n, int k, float alpha, float[] a, int offseta, int lda, int stridea, float[] b, int offsetb, int ldb, int strideb, float beta, float[] c, int offsetc, int ldc, int stridec, int batchCount) {
+    if (sgemmStridedBatched_ == null) {
+      super.sgemmStridedBatchedK(transa, transb, m, n, k, alpha, a, offseta, lda, stridea, b, offsetb, ldb, strideb, beta, c, offsetc, ldc, stridec, batchCount);
+      return;
+    }
+    try {
+      sgemmStridedBatched_.invokeExact(string(transa), string(transb), value(m), value(n), value(k), value(alpha), segment(a, offseta), value(lda), value(stridea), segment(b, offsetb), value(ldb), value(strideb), value(beta), segment(c, offsetc), value(ldc), value(stridec), value(batchCount));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  // Not exported by all the native libraries, hgemmK falls back to its parent without it
+  private static final MethodHandle shgemm_ = downcallHandle("shgemm_", null, 13);
+
+  protected void hgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    if (shgemm_ == null) {
+      super.hgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+      return;
+    }
+    try {
+      shgemm_.invokeExact(string(transa), string(transb), value(m), value(n), value(k), value(alpha), segment(a, offseta), value(lda), segment(b, offsetb), value(ldb), value(beta), segment(c, offsetc), value(ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  // Not exported by all the native libraries, bgemmK falls back to its parent without it
+  private static final MethodHandle sbgemm_ = downcallHandle("sbgemm_", null, 13);
+
+  protected void bgemmK(String transa, String transb, int m, int n, int k, float alpha, short[] a, int offseta, int lda, short[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    if (sbgemm_ == null) {
+      super.bgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+      return;
+    }
+    try {
+      sbgemm_.invokeExact(string(transa), string(transb), value(m), value(n), value(k), value(alpha), segment(a, offseta), value(lda), segment(b, offsetb), value(ldb), value(beta), segment(c, offsetc), value(ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dgemv_ = downcallHandle("dgemv_", null, 11);
+
+  protected void dgemvK(String trans, int m, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    dgemvSegmentK(trans, m, n, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+  }
+
+  protected void dgemvK(String trans, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (isSegment(a) && isSegment(x) && isSegment(y)) {
+      dgemvSegmentK(trans, m, n, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+    } else {
+      super.dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private void dgemvSegmentK(String trans, int m, int n, double alpha, MemorySegment a, int lda, MemorySegment x, int incx, double beta, MemorySegment y, int incy) {
+    if (dgemv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dgemv_.invokeExact(string(trans), value(m), value(n), value(alpha), a, value(lda), x, value(incx), value(beta), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sgemv_ = downcallHandle("sgemv_", null, 11);
+
+  protected void sgemvK(String trans, int m, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    sgemvSegmentK(trans, m, n, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+  }
+
+  protected void sgemvK(String trans, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (isSegment(a) && isSegment(x) && isSegment(y)) {
+      sgemvSegmentK(trans, m, n, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+    } else {
+      super.sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private void sgemvSegmentK(String trans, int m, int n, float alpha, MemorySegment a, int lda, MemorySegment x, int incx, float beta, MemorySegment y, int incy) {
+    if (sgemv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sgemv_.invokeExact(string(trans), value(m), value(n), value(alpha), a, value(lda), x, value(incx), value(beta), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dger_ = downcallHandle("dger_", null, 9);
+
+  protected void dgerK(int m, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    dgerSegmentK(m, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta), lda);
+  }
+
+  protected void dgerK(int m, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    if (isSegment(x) && isSegment(y) && isSegment(a)) {
+      dgerSegmentK(m, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta), lda);
+    } else {
+      super.dgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  private void dgerSegmentK(int m, int n, double alpha, MemorySegment x, int incx, MemorySegment y, int incy, MemorySegment a, int lda) {
+    if (dger_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dger_.invokeExact(value(m), value(n), value(alpha), x, value(incx), y, value(incy), a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sger_ = downcallHandle("sger_", null, 9);
+
+  protected void sgerK(int m, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    sgerSegmentK(m, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta), lda);
+  }
+
+  protected void sgerK(int m, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    if (isSegment(x) && isSegment(y) && isSegment(a)) {
+      sgerSegmentK(m, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta), lda);
+    } else {
+      super.sgerK(m, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  private void sgerSegmentK(int m, int n, float alpha, MemorySegment x, int incx, MemorySegment y, int incy, MemorySegment a, int lda) {
+    if (sger_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sger_.invokeExact(value(m), value(n), value(alpha), x, value(incx), y, value(incy), a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dnrm2_ = downcallHandle("dnrm2_", JAVA_DOUBLE, 3);
+
+  protected double dnrm2K(int n, double[] x, int offsetx, int incx) {
+    return dnrm2SegmentK(n, segment(x, offsetx), incx);
+  }
+
+  protected double dnrm2K(int n, DoubleBuffer x, int offsetx, int incx) {
+    if (isSegment(x)) {
+      return dnrm2SegmentK(n, segment(x, offsetx), incx);
+    }
+    return super.dnrm2K(n, x, offsetx, incx);
+  }
+
+  private double dnrm2SegmentK(int n, MemorySegment x, int incx) {
+    if (dnrm2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dnrm2_.invokeExact(value(n), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle snrm2_ = downcallHandle("snrm2_", JAVA_FLOAT, 3);
+
+  protected float snrm2K(int n, float[] x, int offsetx, int incx) {
+    return snrm2SegmentK(n, segment(x, offsetx), incx);
+  }
+
+  protected float snrm2K(int n, FloatBuffer x, int offsetx, int incx) {
+    if (isSegment(x)) {
+      return snrm2SegmentK(n, segment(x, offsetx), incx);
+    }
+    return super.snrm2K(n, x, offsetx, incx);
+  }
+
+  private float snrm2SegmentK(int n, MemorySegment x, int incx) {
+    if (snrm2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) snrm2_.invokeExact(value(n), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle drot_ = downcallHandle("drot_", null, 7);
+
+  protected void drotK(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double c, double s) {
+    drotSegmentK(n, segment(dx, offsetdx), incx, segment(dy, offsetdy), incy, c, s);
+  }
+
+  protected void drotK(int n, DoubleBuffer dx, int offsetdx, int incx, DoubleBuffer dy, int offsetdy, int incy, double c, double s) {
+    if (isSegment(dx) && isSegment(dy)) {
+      drotSegmentK(n, segment(dx, offsetdx), incx, segment(dy, offsetdy), incy, c, s);
+    } else {
+      super.drotK(n, dx, offsetdx, incx, dy, offsetdy, incy, c, s);
+    }
+  }
+
+  private void drotSegmentK(int n, MemorySegment dx, int incx, MemorySegment dy, int incy, double c, double s) {
+    if (drot_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      drot_.invokeExact(value(n), dx, value(incx), dy, value(incy), value(c), value(s));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle srot_ = downcallHandle("srot_", null, 7);
+
+  protected void srotK(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float c, float s) {
+    srotSegmentK(n, segment(sx, offsetsx), incx, segment(sy, offsetsy), incy, c, s);
+  }
+
+  protected void srotK(int n, FloatBuffer sx, int offsetsx, int incx, FloatBuffer sy, int offsetsy, int incy, float c, float s) {
+    if (isSegment(sx) && isSegment(sy)) {
+      srotSegmentK(n, segment(sx, offsetsx), incx, segment(sy, offsetsy), incy, c, s);
+    } else {
+      super.srotK(n, sx, offsetsx, incx, sy, offsetsy, incy, c, s);
+    }
+  }
+
+  private void srotSegmentK(int n, MemorySegment sx, int incx, MemorySegment sy, int incy, float c, float s) {
+    if (srot_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      srot_.invokeExact(value(n), sx, value(incx), sy, value(incy), value(c), value(s));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle drotm_ = downcallHandle("drotm_", null, 6);
+
+  protected void drotmK(int n, double[] dx, int offsetdx, int incx, double[] dy, int offsetdy, int incy, double[] dparam, int offsetdparam) {
+    drotmSegmentK(n, segment(dx, offsetdx), incx, segment(dy, offsetdy), incy, segment(dparam, offsetdparam));
+  }
+
+  protected void drotmK(int n, DoubleBuffer dx, int offsetdx, int incx, DoubleBuffer dy, int offsetdy, int incy, DoubleBuffer dparam, int offsetdparam) {
+    if (isSegment(dx) && isSegment(dy) && isSegment(dparam)) {
+      drotmSegmentK(n, segment(dx, offsetdx), incx, segment(dy, offsetdy), incy, segment(dparam, offsetdparam));
+    } else {
+      super.drotmK(n, dx, offsetdx, incx, dy, offsetdy, incy, dparam, offsetdparam);
+    }
+  }
+
+  private void drotmSegmentK(int n, MemorySegment dx, int incx, MemorySegment dy, int incy, MemorySegment dparam) {
+    if (drotm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      drotm_.invokeExact(value(n), dx, value(incx), dy, value(incy), dparam);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle srotm_ = downcallHandle("srotm_", null, 6);
+
+  protected void srotmK(int n, float[] sx, int offsetsx, int incx, float[] sy, int offsetsy, int incy, float[] sparam, int offsetsparam) {
+    srotmSegmentK(n, segment(sx, offsetsx), incx, segment(sy, offsetsy), incy, segment(sparam, offsetsparam));
+  }
+
+  protected void srotmK(int n, FloatBuffer sx, int offsetsx, int incx, FloatBuffer sy, int offsetsy, int incy, FloatBuffer sparam, int offsetsparam) {
+    if (isSegment(sx) && isSegment(sy) && isSegment(sparam)) {
+      srotmSegmentK(n, segment(sx, offsetsx), incx, segment(sy, offsetsy), incy, segment(sparam, offsetsparam));
+    } else {
+      super.srotmK(n, sx, offsetsx, incx, sy, offsetsy, incy, sparam, offsetsparam);
+    }
+  }
+
+  private void srotmSegmentK(int n, MemorySegment sx, int incx, MemorySegment sy, int incy, MemorySegment sparam) {
+    if (srotm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      srotm_.invokeExact(value(n), sx, value(incx), sy, value(incy), sparam);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle drotmg_ = downcallHandle("drotmg_", null, 5);
+
+  protected void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, double[] dparam, int offsetdparam) {
+    drotmgSegmentK(dd1, dd2, dx1, dy1, segment(dparam, offsetdparam));
+  }
+
+  protected void drotmgK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, DoubleBuffer dparam, int offsetdparam) {
+    if (isSegment(dparam)) {
+      drotmgSegmentK(dd1, dd2, dx1, dy1, segment(dparam, offsetdparam));
+    } else {
+      super.drotmgK(dd1, dd2, dx1, dy1, dparam, offsetdparam);
+    }
+  }
+
+  private void drotmgSegmentK(org.netlib.util.doubleW dd1, org.netlib.util.doubleW dd2, org.netlib.util.doubleW dx1, double dy1, MemorySegment dparam) {
+    if (drotmg_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __dd1 = { dd1.val };
+    double[] __dd2 = { dd2.val };
+    double[] __dx1 = { dx1.val };
+    try {
+      drotmg_.invokeExact(MemorySegment.ofArray(__dd1), MemorySegment.ofArray(__dd2), MemorySegment.ofArray(__dx1), value(dy1), dparam);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dd1.val = __dd1[0];
+    dd2.val = __dd2[0];
+    dx1.val = __dx1[0];
+  }
+
+  private static final MethodHandle srotmg_ = downcallHandle("srotmg_", null, 5);
+
+  protected void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, float[] sparam, int offsetsparam) {
+    srotmgSegmentK(sd1, sd2, sx1, sy1, segment(sparam, offsetsparam));
+  }
+
+  protected void srotmgK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, FloatBuffer sparam, int offsetsparam) {
+    if (isSegment(sparam)) {
+      srotmgSegmentK(sd1, sd2, sx1, sy1, segment(sparam, offsetsparam));
+    } else {
+      super.srotmgK(sd1, sd2, sx1, sy1, sparam, offsetsparam);
+    }
+  }
+
+  private void srotmgSegmentK(org.netlib.util.floatW sd1, org.netlib.util.floatW sd2, org.netlib.util.floatW sx1, float sy1, MemorySegment sparam) {
+    if (srotmg_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __sd1 = { sd1.val };
+    float[] __sd2 = { sd2.val };
+    float[] __sx1 = { sx1.val };
+    try {
+      srotmg_.invokeExact(MemorySegment.ofArray(__sd1), MemorySegment.ofArray(__sd2), MemorySegment.ofArray(__sx1), value(sy1), sparam);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    sd1.val = __sd1[0];
+    sd2.val = __sd2[0];
+    sx1.val = __sx1[0];
+  }
+
+  private static final MethodHandle dsbmv_ = downcallHandle("dsbmv_", null, 11);
+
+  protected void dsbmvK(String uplo, int n, int k, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    dsbmvSegmentK(uplo, n, k, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+  }
+
+  protected void dsbmvK(String uplo, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (isSegment(a) && isSegment(x) && isSegment(y)) {
+      dsbmvSegmentK(uplo, n, k, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+    } else {
+      super.dsbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private void dsbmvSegmentK(String uplo, int n, int k, double alpha, MemorySegment a, int lda, MemorySegment x, int incx, double beta, MemorySegment y, int incy) {
+    if (dsbmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsbmv_.invokeExact(string(uplo), value(n), value(k), value(alpha), a, value(lda), x, value(incx), value(beta), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssbmv_ = downcallHandle("ssbmv_", null, 11);
+
+  protected void ssbmvK(String uplo, int n, int k, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    ssbmvSegmentK(uplo, n, k, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+  }
+
+  protected void ssbmvK(String uplo, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (isSegment(a) && isSegment(x) && isSegment(y)) {
+      ssbmvSegmentK(uplo, n, k, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+    } else {
+      super.ssbmvK(uplo, n, k, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private void ssbmvSegmentK(String uplo, int n, int k, float alpha, MemorySegment a, int lda, MemorySegment x, int incx, float beta, MemorySegment y, int incy) {
+    if (ssbmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssbmv_.invokeExact(string(uplo), value(n), value(k), value(alpha), a, value(lda), x, value(incx), value(beta), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dscal_ = downcallHandle("dscal_", null, 4);
+
+  protected void dscalK(int n, double alpha, double[] x, int offsetx, int incx) {
+    dscalSegmentK(n, alpha, segment(x, offsetx), incx);
+  }
+
+  protected void dscalK(int n, double alpha, DoubleBuffer x, int offsetx, int incx) {
+    if (isSegment(x)) {
+      dscalSegmentK(n, alpha, segment(x, offsetx), incx);
+    } else {
+      super.dscalK(n, alpha, x, offsetx, incx);
+    }
+  }
+
+  private void dscalSegmentK(int n, double alpha, MemorySegment x, int incx) {
+    if (dscal_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dscal_.invokeExact(value(n), value(alpha), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sscal_ = downcallHandle("sscal_", null, 4);
+
+  protected void sscalK(int n, float alpha, float[] x, int offsetx, int incx) {
+    sscalSegmentK(n, alpha, segment(x, offsetx), incx);
+  }
+
+  protected void sscalK(int n, float alpha, FloatBuffer x, int offsetx, int incx) {
+    if (isSegment(x)) {
+      sscalSegmentK(n, alpha, segment(x, offsetx), incx);
+    } else {
+      super.sscalK(n, alpha, x, offsetx, incx);
+    }
+  }
+
+  private void sscalSegmentK(int n, float alpha, MemorySegment x, int incx) {
+    if (sscal_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sscal_.invokeExact(value(n), value(alpha), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dspmv_ = downcallHandle("dspmv_", null, 9);
+
+  protected void dspmvK(String uplo, int n, double alpha, double[] a, int offseta, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    dspmvSegmentK(uplo, n, alpha, segment(a, offseta), segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+  }
+
+  protected void dspmvK(String uplo, int n, double alpha, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (isSegment(a) && isSegment(x) && isSegment(y)) {
+      dspmvSegmentK(uplo, n, alpha, segment(a, offseta), segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+    } else {
+      super.dspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private void dspmvSegmentK(String uplo, int n, double alpha, MemorySegment a, MemorySegment x, int incx, double beta, MemorySegment y, int incy) {
+    if (dspmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dspmv_.invokeExact(string(uplo), value(n), value(alpha), a, x, value(incx), value(beta), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sspmv_ = downcallHandle("sspmv_", null, 9);
+
+  protected void sspmvK(String uplo, int n, float alpha, float[] a, int offseta, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    sspmvSegmentK(uplo, n, alpha, segment(a, offseta), segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+  }
+
+  protected void sspmvK(String uplo, int n, float alpha, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (isSegment(a) && isSegment(x) && isSegment(y)) {
+      sspmvSegmentK(uplo, n, alpha, segment(a, offseta), segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+    } else {
+      super.sspmvK(uplo, n, alpha, a, offseta, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private void sspmvSegmentK(String uplo, int n, float alpha, MemorySegment a, MemorySegment x, int incx, float beta, MemorySegment y, int incy) {
+    if (sspmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sspmv_.invokeExact(string(uplo), value(n), value(alpha), a, x, value(incx), value(beta), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dspr_ = downcallHandle("dspr_", null, 6);
+
+  protected void dsprK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta) {
+    dsprSegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(a, offseta));
+  }
+
+  protected void dsprK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta) {
+    if (isSegment(x) && isSegment(a)) {
+      dsprSegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(a, offseta));
+    } else {
+      super.dsprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    }
+  }
+
+  private void dsprSegmentK(String uplo, int n, double alpha, MemorySegment x, int incx, MemorySegment a) {
+    if (dspr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dspr_.invokeExact(string(uplo), value(n), value(alpha), x, value(incx), a);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sspr_ = downcallHandle("sspr_", null, 6);
+
+  protected void ssprK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta) {
+    ssprSegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(a, offseta));
+  }
+
+  protected void ssprK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta) {
+    if (isSegment(x) && isSegment(a)) {
+      ssprSegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(a, offseta));
+    } else {
+      super.ssprK(uplo, n, alpha, x, offsetx, incx, a, offseta);
+    }
+  }
+
+  private void ssprSegmentK(String uplo, int n, float alpha, MemorySegment x, int incx, MemorySegment a) {
+    if (sspr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sspr_.invokeExact(string(uplo), value(n), value(alpha), x, value(incx), a);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dspr2_ = downcallHandle("dspr2_", null, 8);
+
+  protected void dspr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta) {
+    dspr2SegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta));
+  }
+
+  protected void dspr2K(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta) {
+    if (isSegment(x) && isSegment(y) && isSegment(a)) {
+      dspr2SegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta));
+    } else {
+      super.dspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+    }
+  }
+
+  private void dspr2SegmentK(String uplo, int n, double alpha, MemorySegment x, int incx, MemorySegment y, int incy, MemorySegment a) {
+    if (dspr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dspr2_.invokeExact(string(uplo), value(n), value(alpha), x, value(incx), y, value(incy), a);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sspr2_ = downcallHandle("sspr2_", null, 8);
+
+  protected void sspr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta) {
+    sspr2SegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta));
+  }
+
+  protected void sspr2K(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta) {
+    if (isSegment(x) && isSegment(y) && isSegment(a)) {
+      sspr2SegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta));
+    } else {
+      super.sspr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta);
+    }
+  }
+
+  private void sspr2SegmentK(String uplo, int n, float alpha, MemorySegment x, int incx, MemorySegment y, int incy, MemorySegment a) {
+    if (sspr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sspr2_.invokeExact(string(uplo), value(n), value(alpha), x, value(incx), y, value(incy), a);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dswap_ = downcallHandle("dswap_", null, 5);
+
+  protected void dswapK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy) {
+    dswapSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+  }
+
+  protected void dswapK(int n, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy) {
+    if (isSegment(x) && isSegment(y)) {
+      dswapSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+    } else {
+      super.dswapK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private void dswapSegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy) {
+    if (dswap_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dswap_.invokeExact(value(n), x, value(incx), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sswap_ = downcallHandle("sswap_", null, 5);
+
+  protected void sswapK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy) {
+    sswapSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+  }
+
+  protected void sswapK(int n, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy) {
+    if (isSegment(x) && isSegment(y)) {
+      sswapSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy);
+    } else {
+      super.sswapK(n, x, offsetx, incx, y, offsety, incy);
+    }
+  }
+
+  private void sswapSegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy) {
+    if (sswap_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sswap_.invokeExact(value(n), x, value(incx), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dsymm_ = downcallHandle("dsymm_", null, 12);
+
+  protected void dsymmK(String side, String uplo, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    dsymmSegmentK(side, uplo, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+  }
+
+  protected void dsymmK(String side, String uplo, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (isSegment(a) && isSegment(b) && isSegment(c)) {
+      dsymmSegmentK(side, uplo, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+    } else {
+      super.dsymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private void dsymmSegmentK(String side, String uplo, int m, int n, double alpha, MemorySegment a, int lda, MemorySegment b, int ldb, double beta, MemorySegment c, int ldc) {
+    if (dsymm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsymm_.invokeExact(string(side), string(uplo), value(m), value(n), value(alpha), a, value(lda), b, value(ldb), value(beta), c, value(ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssymm_ = downcallHandle("ssymm_", null, 12);
+
+  protected void ssymmK(String side, String uplo, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    ssymmSegmentK(side, uplo, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+  }
+
+  protected void ssymmK(String side, String uplo, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (isSegment(a) && isSegment(b) && isSegment(c)) {
+      ssymmSegmentK(side, uplo, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+    } else {
+      super.ssymmK(side, uplo, m, n, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private void ssymmSegmentK(String side, String uplo, int m, int n, float alpha, MemorySegment a, int lda, MemorySegment b, int ldb, float beta, MemorySegment c, int ldc) {
+    if (ssymm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssymm_.invokeExact(string(side), string(uplo), value(m), value(n), value(alpha), a, value(lda), b, value(ldb), value(beta), c, value(ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dsymv_ = downcallHandle("dsymv_", null, 10);
+
+  protected void dsymvK(String uplo, int n, double alpha, double[] a, int offseta, int lda, double[] x, int offsetx, int incx, double beta, double[] y, int offsety, int incy) {
+    dsymvSegmentK(uplo, n, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+  }
+
+  protected void dsymvK(String uplo, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx, double beta, DoubleBuffer y, int offsety, int incy) {
+    if (isSegment(a) && isSegment(x) && isSegment(y)) {
+      dsymvSegmentK(uplo, n, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+    } else {
+      super.dsymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private void dsymvSegmentK(String uplo, int n, double alpha, MemorySegment a, int lda, MemorySegment x, int incx, double beta, MemorySegment y, int incy) {
+    if (dsymv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsymv_.invokeExact(string(uplo), value(n), value(alpha), a, value(lda), x, value(incx), value(beta), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssymv_ = downcallHandle("ssymv_", null, 10);
+
+  protected void ssymvK(String uplo, int n, float alpha, float[] a, int offseta, int lda, float[] x, int offsetx, int incx, float beta, float[] y, int offsety, int incy) {
+    ssymvSegmentK(uplo, n, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+  }
+
+  protected void ssymvK(String uplo, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx, float beta, FloatBuffer y, int offsety, int incy) {
+    if (isSegment(a) && isSegment(x) && isSegment(y)) {
+      ssymvSegmentK(uplo, n, alpha, segment(a, offseta), lda, segment(x, offsetx), incx, beta, segment(y, offsety), incy);
+    } else {
+      super.ssymvK(uplo, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+    }
+  }
+
+  private void ssymvSegmentK(String uplo, int n, float alpha, MemorySegment a, int lda, MemorySegment x, int incx, float beta, MemorySegment y, int incy) {
+    if (ssymv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssymv_.invokeExact(string(uplo), value(n), value(alpha), a, value(lda), x, value(incx), value(beta), y, value(incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dsyr_ = downcallHandle("dsyr_", null, 7);
+
+  protected void dsyrK(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] a, int offseta, int lda) {
+    dsyrSegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(a, offseta), lda);
+  }
+
+  protected void dsyrK(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer a, int offseta, int lda) {
+    if (isSegment(x) && isSegment(a)) {
+      dsyrSegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(a, offseta), lda);
+    } else {
+      super.dsyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    }
+  }
+
+  private void dsyrSegmentK(String uplo, int n, double alpha, MemorySegment x, int incx, MemorySegment a, int lda) {
+    if (dsyr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsyr_.invokeExact(string(uplo), value(n), value(alpha), x, value(incx), a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssyr_ = downcallHandle("ssyr_", null, 7);
+
+  protected void ssyrK(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] a, int offseta, int lda) {
+    ssyrSegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(a, offseta), lda);
+  }
+
+  protected void ssyrK(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer a, int offseta, int lda) {
+    if (isSegment(x) && isSegment(a)) {
+      ssyrSegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(a, offseta), lda);
+    } else {
+      super.ssyrK(uplo, n, alpha, x, offsetx, incx, a, offseta, lda);
+    }
+  }
+
+  private void ssyrSegmentK(String uplo, int n, float alpha, MemorySegment x, int incx, MemorySegment a, int lda) {
+    if (ssyr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssyr_.invokeExact(string(uplo), value(n), value(alpha), x, value(incx), a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dsyr2_ = downcallHandle("dsyr2_", null, 9);
+
+  protected void dsyr2K(String uplo, int n, double alpha, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] a, int offseta, int lda) {
+    dsyr2SegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta), lda);
+  }
+
+  protected void dsyr2K(String uplo, int n, double alpha, DoubleBuffer x, int offsetx, int incx, DoubleBuffer y, int offsety, int incy, DoubleBuffer a, int offseta, int lda) {
+    if (isSegment(x) && isSegment(y) && isSegment(a)) {
+      dsyr2SegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta), lda);
+    } else {
+      super.dsyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  private void dsyr2SegmentK(String uplo, int n, double alpha, MemorySegment x, int incx, MemorySegment y, int incy, MemorySegment a, int lda) {
+    if (dsyr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsyr2_.invokeExact(string(uplo), value(n), value(alpha), x, value(incx), y, value(incy), a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssyr2_ = downcallHandle("ssyr2_", null, 9);
+
+  protected void ssyr2K(String uplo, int n, float alpha, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] a, int offseta, int lda) {
+    ssyr2SegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta), lda);
+  }
+
+  protected void ssyr2K(String uplo, int n, float alpha, FloatBuffer x, int offsetx, int incx, FloatBuffer y, int offsety, int incy, FloatBuffer a, int offseta, int lda) {
+    if (isSegment(x) && isSegment(y) && isSegment(a)) {
+      ssyr2SegmentK(uplo, n, alpha, segment(x, offsetx), incx, segment(y, offsety), incy, segment(a, offseta), lda);
+    } else {
+      super.ssyr2K(uplo, n, alpha, x, offsetx, incx, y, offsety, incy, a, offseta, lda);
+    }
+  }
+
+  private void ssyr2SegmentK(String uplo, int n, float alpha, MemorySegment x, int incx, MemorySegment y, int incy, MemorySegment a, int lda) {
+    if (ssyr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssyr2_.invokeExact(string(uplo), value(n), value(alpha), x, value(incx), y, value(incy), a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dsyr2k_ = downcallHandle("dsyr2k_", null, 12);
+
+  protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double beta, double[] c, int offsetc, int ldc) {
+    dsyr2kSegmentK(uplo, trans, n, k, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+  }
+
+  protected void dsyr2kK(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (isSegment(a) && isSegment(b) && isSegment(c)) {
+      dsyr2kSegmentK(uplo, trans, n, k, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+    } else {
+      super.dsyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private void dsyr2kSegmentK(String uplo, String trans, int n, int k, double alpha, MemorySegment a, int lda, MemorySegment b, int ldb, double beta, MemorySegment c, int ldc) {
+    if (dsyr2k_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsyr2k_.invokeExact(string(uplo), string(trans), value(n), value(k), value(alpha), a, value(lda), b, value(ldb), value(beta), c, value(ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssyr2k_ = downcallHandle("ssyr2k_", null, 12);
+
+  protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float beta, float[] c, int offsetc, int ldc) {
+    ssyr2kSegmentK(uplo, trans, n, k, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+  }
+
+  protected void ssyr2kK(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (isSegment(a) && isSegment(b) && isSegment(c)) {
+      ssyr2kSegmentK(uplo, trans, n, k, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb, beta, segment(c, offsetc), ldc);
+    } else {
+      super.ssyr2kK(uplo, trans, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+    }
+  }
+
+  private void ssyr2kSegmentK(String uplo, String trans, int n, int k, float alpha, MemorySegment a, int lda, MemorySegment b, int ldb, float beta, MemorySegment c, int ldc) {
+    if (ssyr2k_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssyr2k_.invokeExact(string(uplo), string(trans), value(n), value(k), value(alpha), a, value(lda), b, value(ldb), value(beta), c, value(ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dsyrk_ = downcallHandle("dsyrk_", null, 10);
+
+  protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, double[] a, int offseta, int lda, double beta, double[] c, int offsetc, int ldc) {
+    dsyrkSegmentK(uplo, trans, n, k, alpha, segment(a, offseta), lda, beta, segment(c, offsetc), ldc);
+  }
+
+  protected void dsyrkK(String uplo, String trans, int n, int k, double alpha, DoubleBuffer a, int offseta, int lda, double beta, DoubleBuffer c, int offsetc, int ldc) {
+    if (isSegment(a) && isSegment(c)) {
+      dsyrkSegmentK(uplo, trans, n, k, alpha, segment(a, offseta), lda, beta, segment(c, offsetc), ldc);
+    } else {
+      super.dsyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+    }
+  }
+
+  private void dsyrkSegmentK(String uplo, String trans, int n, int k, double alpha, MemorySegment a, int lda, double beta, MemorySegment c, int ldc) {
+    if (dsyrk_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dsyrk_.invokeExact(string(uplo), string(trans), value(n), value(k), value(alpha), a, value(lda), value(beta), c, value(ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssyrk_ = downcallHandle("ssyrk_", null, 10);
+
+  protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, float[] a, int offseta, int lda, float beta, float[] c, int offsetc, int ldc) {
+    ssyrkSegmentK(uplo, trans, n, k, alpha, segment(a, offseta), lda, beta, segment(c, offsetc), ldc);
+  }
+
+  protected void ssyrkK(String uplo, String trans, int n, int k, float alpha, FloatBuffer a, int offseta, int lda, float beta, FloatBuffer c, int offsetc, int ldc) {
+    if (isSegment(a) && isSegment(c)) {
+      ssyrkSegmentK(uplo, trans, n, k, alpha, segment(a, offseta), lda, beta, segment(c, offsetc), ldc);
+    } else {
+      super.ssyrkK(uplo, trans, n, k, alpha, a, offseta, lda, beta, c, offsetc, ldc);
+    }
+  }
+
+  private void ssyrkSegmentK(String uplo, String trans, int n, int k, float alpha, MemorySegment a, int lda, float beta, MemorySegment c, int ldc) {
+    if (ssyrk_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      ssyrk_.invokeExact(string(uplo), string(trans), value(n), value(k), value(alpha), a, value(lda), value(beta), c, value(ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dtbmv_ = downcallHandle("dtbmv_", null, 9);
+
+  protected void dtbmvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    dtbmvSegmentK(uplo, trans, diag, n, k, segment(a, offseta), lda, segment(x, offsetx), incx);
+  }
+
+  protected void dtbmvK(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      dtbmvSegmentK(uplo, trans, diag, n, k, segment(a, offseta), lda, segment(x, offsetx), incx);
+    } else {
+      super.dtbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private void dtbmvSegmentK(String uplo, String trans, String diag, int n, int k, MemorySegment a, int lda, MemorySegment x, int incx) {
+    if (dtbmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dtbmv_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(k), a, value(lda), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle stbmv_ = downcallHandle("stbmv_", null, 9);
+
+  protected void stbmvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    stbmvSegmentK(uplo, trans, diag, n, k, segment(a, offseta), lda, segment(x, offsetx), incx);
+  }
+
+  protected void stbmvK(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      stbmvSegmentK(uplo, trans, diag, n, k, segment(a, offseta), lda, segment(x, offsetx), incx);
+    } else {
+      super.stbmvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private void stbmvSegmentK(String uplo, String trans, String diag, int n, int k, MemorySegment a, int lda, MemorySegment x, int incx) {
+    if (stbmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      stbmv_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(k), a, value(lda), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dtbsv_ = downcallHandle("dtbsv_", null, 9);
+
+  protected void dtbsvK(String uplo, String trans, String diag, int n, int k, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    dtbsvSegmentK(uplo, trans, diag, n, k, segment(a, offseta), lda, segment(x, offsetx), incx);
+  }
+
+  protected void dtbsvK(String uplo, String trans, String diag, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      dtbsvSegmentK(uplo, trans, diag, n, k, segment(a, offseta), lda, segment(x, offsetx), incx);
+    } else {
+      super.dtbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private void dtbsvSegmentK(String uplo, String trans, String diag, int n, int k, MemorySegment a, int lda, MemorySegment x, int incx) {
+    if (dtbsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dtbsv_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(k), a, value(lda), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle stbsv_ = downcallHandle("stbsv_", null, 9);
+
+  protected void stbsvK(String uplo, String trans, String diag, int n, int k, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    stbsvSegmentK(uplo, trans, diag, n, k, segment(a, offseta), lda, segment(x, offsetx), incx);
+  }
+
+  protected void stbsvK(String uplo, String trans, String diag, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      stbsvSegmentK(uplo, trans, diag, n, k, segment(a, offseta), lda, segment(x, offsetx), incx);
+    } else {
+      super.stbsvK(uplo, trans, diag, n, k, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private void stbsvSegmentK(String uplo, String trans, String diag, int n, int k, MemorySegment a, int lda, MemorySegment x, int incx) {
+    if (stbsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      stbsv_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(k), a, value(lda), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dtpmv_ = downcallHandle("dtpmv_", null, 7);
+
+  protected void dtpmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    dtpmvSegmentK(uplo, trans, diag, n, segment(a, offseta), segment(x, offsetx), incx);
+  }
+
+  protected void dtpmvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      dtpmvSegmentK(uplo, trans, diag, n, segment(a, offseta), segment(x, offsetx), incx);
+    } else {
+      super.dtpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    }
+  }
+
+  private void dtpmvSegmentK(String uplo, String trans, String diag, int n, MemorySegment a, MemorySegment x, int incx) {
+    if (dtpmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dtpmv_.invokeExact(string(uplo), string(trans), string(diag), value(n), a, x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle stpmv_ = downcallHandle("stpmv_", null, 7);
+
+  protected void stpmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
+    stpmvSegmentK(uplo, trans, diag, n, segment(a, offseta), segment(x, offsetx), incx);
+  }
+
+  protected void stpmvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      stpmvSegmentK(uplo, trans, diag, n, segment(a, offseta), segment(x, offsetx), incx);
+    } else {
+      super.stpmvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    }
+  }
+
+  private void stpmvSegmentK(String uplo, String trans, String diag, int n, MemorySegment a, MemorySegment x, int incx) {
+    if (stpmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      stpmv_.invokeExact(string(uplo), string(trans), string(diag), value(n), a, x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dtpsv_ = downcallHandle("dtpsv_", null, 7);
+
+  protected void dtpsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, double[] x, int offsetx, int incx) {
+    dtpsvSegmentK(uplo, trans, diag, n, segment(a, offseta), segment(x, offsetx), incx);
+  }
+
+  protected void dtpsvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, DoubleBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      dtpsvSegmentK(uplo, trans, diag, n, segment(a, offseta), segment(x, offsetx), incx);
+    } else {
+      super.dtpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    }
+  }
+
+  private void dtpsvSegmentK(String uplo, String trans, String diag, int n, MemorySegment a, MemorySegment x, int incx) {
+    if (dtpsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dtpsv_.invokeExact(string(uplo), string(trans), string(diag), value(n), a, x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle stpsv_ = downcallHandle("stpsv_", null, 7);
+
+  protected void stpsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, float[] x, int offsetx, int incx) {
+    stpsvSegmentK(uplo, trans, diag, n, segment(a, offseta), segment(x, offsetx), incx);
+  }
+
+  protected void stpsvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, FloatBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      stpsvSegmentK(uplo, trans, diag, n, segment(a, offseta), segment(x, offsetx), incx);
+    } else {
+      super.stpsvK(uplo, trans, diag, n, a, offseta, x, offsetx, incx);
+    }
+  }
+
+  private void stpsvSegmentK(String uplo, String trans, String diag, int n, MemorySegment a, MemorySegment x, int incx) {
+    if (stpsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      stpsv_.invokeExact(string(uplo), string(trans), string(diag), value(n), a, x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dtrmm_ = downcallHandle("dtrmm_", null, 11);
+
+  protected void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    dtrmmSegmentK(side, uplo, transa, diag, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb);
+  }
+
+  protected void dtrmmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb) {
+    if (isSegment(a) && isSegment(b)) {
+      dtrmmSegmentK(side, uplo, transa, diag, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb);
+    } else {
+      super.dtrmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    }
+  }
+
+  private void dtrmmSegmentK(String side, String uplo, String transa, String diag, int m, int n, double alpha, MemorySegment a, int lda, MemorySegment b, int ldb) {
+    if (dtrmm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dtrmm_.invokeExact(string(side), string(uplo), string(transa), string(diag), value(m), value(n), value(alpha), a, value(lda), b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle strmm_ = downcallHandle("strmm_", null, 11);
+
+  protected void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    strmmSegmentK(side, uplo, transa, diag, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb);
+  }
+
+  protected void strmmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb) {
+    if (isSegment(a) && isSegment(b)) {
+      strmmSegmentK(side, uplo, transa, diag, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb);
+    } else {
+      super.strmmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    }
+  }
+
+  private void strmmSegmentK(String side, String uplo, String transa, String diag, int m, int n, float alpha, MemorySegment a, int lda, MemorySegment b, int ldb) {
+    if (strmm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      strmm_.invokeExact(string(side), string(uplo), string(transa), string(diag), value(m), value(n), value(alpha), a, value(lda), b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dtrmv_ = downcallHandle("dtrmv_", null, 8);
+
+  protected void dtrmvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    dtrmvSegmentK(uplo, trans, diag, n, segment(a, offseta), lda, segment(x, offsetx), incx);
+  }
+
+  protected void dtrmvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      dtrmvSegmentK(uplo, trans, diag, n, segment(a, offseta), lda, segment(x, offsetx), incx);
+    } else {
+      super.dtrmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private void dtrmvSegmentK(String uplo, String trans, String diag, int n, MemorySegment a, int lda, MemorySegment x, int incx) {
+    if (dtrmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dtrmv_.invokeExact(string(uplo), string(trans), string(diag), value(n), a, value(lda), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle strmv_ = downcallHandle("strmv_", null, 8);
+
+  protected void strmvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    strmvSegmentK(uplo, trans, diag, n, segment(a, offseta), lda, segment(x, offsetx), incx);
+  }
+
+  protected void strmvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      strmvSegmentK(uplo, trans, diag, n, segment(a, offseta), lda, segment(x, offsetx), incx);
+    } else {
+      super.strmvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private void strmvSegmentK(String uplo, String trans, String diag, int n, MemorySegment a, int lda, MemorySegment x, int incx) {
+    if (strmv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      strmv_.invokeExact(string(uplo), string(trans), string(diag), value(n), a, value(lda), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dtrsm_ = downcallHandle("dtrsm_", null, 11);
+
+  protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    dtrsmSegmentK(side, uplo, transa, diag, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb);
+  }
+
+  protected void dtrsmK(String side, String uplo, String transa, String diag, int m, int n, double alpha, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb) {
+    if (isSegment(a) && isSegment(b)) {
+      dtrsmSegmentK(side, uplo, transa, diag, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb);
+    } else {
+      super.dtrsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    }
+  }
+
+  private void dtrsmSegmentK(String side, String uplo, String transa, String diag, int m, int n, double alpha, MemorySegment a, int lda, MemorySegment b, int ldb) {
+    if (dtrsm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dtrsm_.invokeExact(string(side), string(uplo), string(transa), string(diag), value(m), value(n), value(alpha), a, value(lda), b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle strsm_ = downcallHandle("strsm_", null, 11);
+
+  protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    strsmSegmentK(side, uplo, transa, diag, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb);
+  }
+
+  protected void strsmK(String side, String uplo, String transa, String diag, int m, int n, float alpha, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb) {
+    if (isSegment(a) && isSegment(b)) {
+      strsmSegmentK(side, uplo, transa, diag, m, n, alpha, segment(a, offseta), lda, segment(b, offsetb), ldb);
+    } else {
+      super.strsmK(side, uplo, transa, diag, m, n, alpha, a, offseta, lda, b, offsetb, ldb);
+    }
+  }
+
+  private void strsmSegmentK(String side, String uplo, String transa, String diag, int m, int n, float alpha, MemorySegment a, int lda, MemorySegment b, int ldb) {
+    if (strsm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      strsm_.invokeExact(string(side), string(uplo), string(transa), string(diag), value(m), value(n), value(alpha), a, value(lda), b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dtrsv_ = downcallHandle("dtrsv_", null, 8);
+
+  protected void dtrsvK(String uplo, String trans, String diag, int n, double[] a, int offseta, int lda, double[] x, int offsetx, int incx) {
+    dtrsvSegmentK(uplo, trans, diag, n, segment(a, offseta), lda, segment(x, offsetx), incx);
+  }
+
+  protected void dtrsvK(String uplo, String trans, String diag, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      dtrsvSegmentK(uplo, trans, diag, n, segment(a, offseta), lda, segment(x, offsetx), incx);
+    } else {
+      super.dtrsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private void dtrsvSegmentK(String uplo, String trans, String diag, int n, MemorySegment a, int lda, MemorySegment x, int incx) {
+    if (dtrsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dtrsv_.invokeExact(string(uplo), string(trans), string(diag), value(n), a, value(lda), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle strsv_ = downcallHandle("strsv_", null, 8);
+
+  protected void strsvK(String uplo, String trans, String diag, int n, float[] a, int offseta, int lda, float[] x, int offsetx, int incx) {
+    strsvSegmentK(uplo, trans, diag, n, segment(a, offseta), lda, segment(x, offsetx), incx);
+  }
+
+  protected void strsvK(String uplo, String trans, String diag, int n, FloatBuffer a, int offseta, int lda, FloatBuffer x, int offsetx, int incx) {
+    if (isSegment(a) && isSegment(x)) {
+      strsvSegmentK(uplo, trans, diag, n, segment(a, offseta), lda, segment(x, offsetx), incx);
+    } else {
+      super.strsvK(uplo, trans, diag, n, a, offseta, lda, x, offsetx, incx);
+    }
+  }
+
+  private void strsvSegmentK(String uplo, String trans, String diag, int n, MemorySegment a, int lda, MemorySegment x, int incx) {
+    if (strsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      strsv_.invokeExact(string(uplo), string(trans), string(diag), value(n), a, value(lda), x, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle idamax_ = downcallHandle("idamax_", JAVA_INT, 3);
+
+  protected int idamaxK(int n, double[] dx, int offsetdx, int incdx) {
+    return idamaxSegmentK(n, segment(dx, offsetdx), incdx);
+  }
+
+  protected int idamaxK(int n, DoubleBuffer dx, int offsetdx, int incdx) {
+    if (isSegment(dx)) {
+      return idamaxSegmentK(n, segment(dx, offsetdx), incdx);
+    }
+    return super.idamaxK(n, dx, offsetdx, incdx);
+  }
+
+  private int idamaxSegmentK(int n, MemorySegment dx, int incdx) {
+    if (idamax_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) idamax_.invokeExact(value(n), dx, value(incdx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle isamax_ = downcallHandle("isamax_", JAVA_INT, 3);
+
+  protected int isamaxK(int n, float[] sx, int offsetsx, int incsx) {
+    return isamaxSegmentK(n, segment(sx, offsetsx), incsx);
+  }
+
+  protected int isamaxK(int n, FloatBuffer sx, int offsetsx, int incsx) {
+    if (isSegment(sx)) {
+      return isamaxSegmentK(n, segment(sx, offsetsx), incsx);
+    }
+    return super.isamaxK(n, sx, offsetsx, incsx);
+  }
+
+  private int isamaxSegmentK(int n, MemorySegment sx, int incsx) {
+    if (isamax_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) isamax_.invokeExact(value(n), sx, value(incsx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+}
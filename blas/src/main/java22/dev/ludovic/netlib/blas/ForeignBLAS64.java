@@ -0,0 +1,405 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+// Binds a native library built with 64-bit integers (ILP64), such as OpenBLAS built with
+// INTERFACE64=1. These libraries suffix their symbols so they can be loaded alongside the
+// 32-bit ones, for example dgemm_64_ in libopenblas64_.so.
+//
+// The calls aren't critical: a 50k x 50k dgemm runs for minutes, during which the GC must not be
+// blocked. Native code can hence only access native segments, and the segments on the Java heap,
+// which are smaller than 2^31 elements anyway, go to JavaBLAS64.
+final class ForeignBLAS64 extends AbstractBLAS64 {
+
+  private static final Linker linker = Linker.nativeLinker();
+
+  private static final SymbolLookup lookup = libraryLookup();
+
+  private static final String suffix = System.getProperty("dev.ludovic.netlib.blas.nativeLib64Suffix", "64_");
+
+  private static final ForeignBLAS64 instance = new ForeignBLAS64();
+
+  private final AbstractBLAS64 fallback = (AbstractBLAS64)JavaBLAS64.getInstance();
+
+  protected ForeignBLAS64() {
+    // a library with the 32-bit symbols only isn't a fallback, the integers would be truncated
+    if (!lookup.find("dgemm_" + suffix).isPresent()) {
+      throw new RuntimeException("Unable to load native ILP64 implementation");
+    }
+  }
+
+  public static BLAS64 getInstance() {
+    return instance;
+  }
+
+  private static SymbolLookup libraryLookup() {
+    String nativeLibPath = System.getProperty("dev.ludovic.netlib.blas.nativeLib64Path");
+    if (nativeLibPath != null) {
+      return SymbolLookup.libraryLookup(Paths.get(nativeLibPath), Arena.global());
+    }
+    return SymbolLookup.libraryLookup(System.getProperty("dev.ludovic.netlib.blas.nativeLib64", "libopenblas64_.so"), Arena.global());
+  }
+
+  // All the arguments are pointers, as in ForeignBLAS
+  private static MethodHandle downcallHandle(String name, MemoryLayout result, int count) {
+    MemoryLayout[] arguments = new MemoryLayout[count];
+    Arrays.fill(arguments, ADDRESS);
+    FunctionDescriptor descriptor = result == null ? FunctionDescriptor.ofVoid(arguments) : FunctionDescriptor.of(result, arguments);
+    return lookup.find(name + suffix).map(symbol -> linker.downcallHandle(symbol, descriptor)).orElse(null);
+  }
+
+  private static RuntimeException rethrow(Throwable throwable) {
+    if (throwable instanceof Error) {
+      throw (Error)throwable;
+    }
+    if (throwable instanceof RuntimeException) {
+      return (RuntimeException)throwable;
+    }
+    return new RuntimeException(throwable);
+  }
+
+  // a and b may be null when they aren't read, see AbstractBLAS64.dgemm
+  private static boolean isNative(MemorySegment segment) {
+    return segment == null || segment.isNative();
+  }
+
+  private static MemorySegment slice(MemorySegment segment, long offset, int size) {
+    return segment == null ? MemorySegment.NULL : segment.asSlice(offset * size);
+  }
+
+  private static final MethodHandle dasum_ = downcallHandle("dasum_", JAVA_DOUBLE, 3);
+
+  protected double dasumK(long n, MemorySegment x, long offsetx, long incx) {
+    if (!isNative(x)) {
+      return fallback.dasumK(n, x, offsetx, incx);
+    }
+    if (dasum_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      return (double)dasum_.invokeExact(arena.allocateFrom(JAVA_LONG, n), slice(x, offsetx, Double.BYTES), arena.allocateFrom(JAVA_LONG, incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sasum_ = downcallHandle("sasum_", JAVA_FLOAT, 3);
+
+  protected float sasumK(long n, MemorySegment x, long offsetx, long incx) {
+    if (!isNative(x)) {
+      return fallback.sasumK(n, x, offsetx, incx);
+    }
+    if (sasum_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      return (float)sasum_.invokeExact(arena.allocateFrom(JAVA_LONG, n), slice(x, offsetx, Float.BYTES), arena.allocateFrom(JAVA_LONG, incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle daxpy_ = downcallHandle("daxpy_", null, 6);
+
+  protected void daxpyK(long n, double alpha, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (!isNative(x) || !isNative(y)) {
+      fallback.daxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+      return;
+    }
+    if (daxpy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      daxpy_.invokeExact(arena.allocateFrom(JAVA_LONG, n), arena.allocateFrom(JAVA_DOUBLE, alpha), slice(x, offsetx, Double.BYTES), arena.allocateFrom(JAVA_LONG, incx), slice(y, offsety, Double.BYTES), arena.allocateFrom(JAVA_LONG, incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle saxpy_ = downcallHandle("saxpy_", null, 6);
+
+  protected void saxpyK(long n, float alpha, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (!isNative(x) || !isNative(y)) {
+      fallback.saxpyK(n, alpha, x, offsetx, incx, y, offsety, incy);
+      return;
+    }
+    if (saxpy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      saxpy_.invokeExact(arena.allocateFrom(JAVA_LONG, n), arena.allocateFrom(JAVA_FLOAT, alpha), slice(x, offsetx, Float.BYTES), arena.allocateFrom(JAVA_LONG, incx), slice(y, offsety, Float.BYTES), arena.allocateFrom(JAVA_LONG, incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dcopy_ = downcallHandle("dcopy_", null, 5);
+
+  protected void dcopyK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (!isNative(x) || !isNative(y)) {
+      fallback.dcopyK(n, x, offsetx, incx, y, offsety, incy);
+      return;
+    }
+    if (dcopy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      dcopy_.invokeExact(arena.allocateFrom(JAVA_LONG, n), slice(x, offsetx, Double.BYTES), arena.allocateFrom(JAVA_LONG, incx), slice(y, offsety, Double.BYTES), arena.allocateFrom(JAVA_LONG, incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle scopy_ = downcallHandle("scopy_", null, 5);
+
+  protected void scopyK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (!isNative(x) || !isNative(y)) {
+      fallback.scopyK(n, x, offsetx, incx, y, offsety, incy);
+      return;
+    }
+    if (scopy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      scopy_.invokeExact(arena.allocateFrom(JAVA_LONG, n), slice(x, offsetx, Float.BYTES), arena.allocateFrom(JAVA_LONG, incx), slice(y, offsety, Float.BYTES), arena.allocateFrom(JAVA_LONG, incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ddot_ = downcallHandle("ddot_", JAVA_DOUBLE, 5);
+
+  protected double ddotK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (!isNative(x) || !isNative(y)) {
+      return fallback.ddotK(n, x, offsetx, incx, y, offsety, incy);
+    }
+    if (ddot_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      return (double)ddot_.invokeExact(arena.allocateFrom(JAVA_LONG, n), slice(x, offsetx, Double.BYTES), arena.allocateFrom(JAVA_LONG, incx), slice(y, offsety, Double.BYTES), arena.allocateFrom(JAVA_LONG, incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sdot_ = downcallHandle("sdot_", JAVA_FLOAT, 5);
+
+  protected float sdotK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (!isNative(x) || !isNative(y)) {
+      return fallback.sdotK(n, x, offsetx, incx, y, offsety, incy);
+    }
+    if (sdot_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      return (float)sdot_.invokeExact(arena.allocateFrom(JAVA_LONG, n), slice(x, offsetx, Float.BYTES), arena.allocateFrom(JAVA_LONG, incx), slice(y, offsety, Float.BYTES), arena.allocateFrom(JAVA_LONG, incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dgemm_ = downcallHandle("dgemm_", null, 13);
+
+  protected void dgemmK(String transa, String transb, long m, long n, long k, double alpha, MemorySegment a, long offseta, long lda, MemorySegment b, long offsetb, long ldb, double beta, MemorySegment c, long offsetc, long ldc) {
+    if (!isNative(a) || !isNative(b) || !isNative(c)) {
+      fallback.dgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+      return;
+    }
+    if (dgemm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      dgemm_.invokeExact(arena.allocateFrom(transa), arena.allocateFrom(transb), arena.allocateFrom(JAVA_LONG, m), arena.allocateFrom(JAVA_LONG, n), arena.allocateFrom(JAVA_LONG, k), arena.allocateFrom(JAVA_DOUBLE, alpha), slice(a, offseta, Double.BYTES), arena.allocateFrom(JAVA_LONG, lda), slice(b, offsetb, Double.BYTES), arena.allocateFrom(JAVA_LONG, ldb), arena.allocateFrom(JAVA_DOUBLE, beta), slice(c, offsetc, Double.BYTES), arena.allocateFrom(JAVA_LONG, ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sgemm_ = downcallHandle("sgemm_", null, 13);
+
+  protected void sgemmK(String transa, String transb, long m, long n, long k, float alpha, MemorySegment a, long offseta, long lda, MemorySegment b, long offsetb, long ldb, float beta, MemorySegment c, long offsetc, long ldc) {
+    if (!isNative(a) || !isNative(b) || !isNative(c)) {
+      fallback.sgemmK(transa, transb, m, n, k, alpha, a, offseta, lda, b, offsetb, ldb, beta, c, offsetc, ldc);
+      return;
+    }
+    if (sgemm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      sgemm_.invokeExact(arena.allocateFrom(transa), arena.allocateFrom(transb), arena.allocateFrom(JAVA_LONG, m), arena.allocateFrom(JAVA_LONG, n), arena.allocateFrom(JAVA_LONG, k), arena.allocateFrom(JAVA_FLOAT, alpha), slice(a, offseta, Float.BYTES), arena.allocateFrom(JAVA_LONG, lda), slice(b, offsetb, Float.BYTES), arena.allocateFrom(JAVA_LONG, ldb), arena.allocateFrom(JAVA_FLOAT, beta), slice(c, offsetc, Float.BYTES), arena.allocateFrom(JAVA_LONG, ldc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dgemv_ = downcallHandle("dgemv_", null, 11);
+
+  protected void dgemvK(String trans, long m, long n, double alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long offsetx, long incx, double beta, MemorySegment y, long offsety, long incy) {
+    if (!isNative(a) || !isNative(x) || !isNative(y)) {
+      fallback.dgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      return;
+    }
+    if (dgemv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      dgemv_.invokeExact(arena.allocateFrom(trans), arena.allocateFrom(JAVA_LONG, m), arena.allocateFrom(JAVA_LONG, n), arena.allocateFrom(JAVA_DOUBLE, alpha), slice(a, offseta, Double.BYTES), arena.allocateFrom(JAVA_LONG, lda), slice(x, offsetx, Double.BYTES), arena.allocateFrom(JAVA_LONG, incx), arena.allocateFrom(JAVA_DOUBLE, beta), slice(y, offsety, Double.BYTES), arena.allocateFrom(JAVA_LONG, incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sgemv_ = downcallHandle("sgemv_", null, 11);
+
+  protected void sgemvK(String trans, long m, long n, float alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long offsetx, long incx, float beta, MemorySegment y, long offsety, long incy) {
+    if (!isNative(a) || !isNative(x) || !isNative(y)) {
+      fallback.sgemvK(trans, m, n, alpha, a, offseta, lda, x, offsetx, incx, beta, y, offsety, incy);
+      return;
+    }
+    if (sgemv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      sgemv_.invokeExact(arena.allocateFrom(trans), arena.allocateFrom(JAVA_LONG, m), arena.allocateFrom(JAVA_LONG, n), arena.allocateFrom(JAVA_FLOAT, alpha), slice(a, offseta, Float.BYTES), arena.allocateFrom(JAVA_LONG, lda), slice(x, offsetx, Float.BYTES), arena.allocateFrom(JAVA_LONG, incx), arena.allocateFrom(JAVA_FLOAT, beta), slice(y, offsety, Float.BYTES), arena.allocateFrom(JAVA_LONG, incy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dnrm2_ = downcallHandle("dnrm2_", JAVA_DOUBLE, 3);
+
+  protected double dnrm2K(long n, MemorySegment x, long offsetx, long incx) {
+    if (!isNative(x)) {
+      return fallback.dnrm2K(n, x, offsetx, incx);
+    }
+    if (dnrm2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      return (double)dnrm2_.invokeExact(arena.allocateFrom(JAVA_LONG, n), slice(x, offsetx, Double.BYTES), arena.allocateFrom(JAVA_LONG, incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle snrm2_ = downcallHandle("snrm2_", JAVA_FLOAT, 3);
+
+  protected float snrm2K(long n, MemorySegment x, long offsetx, long incx) {
+    if (!isNative(x)) {
+      return fallback.snrm2K(n, x, offsetx, incx);
+    }
+    if (snrm2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      return (float)snrm2_.invokeExact(arena.allocateFrom(JAVA_LONG, n), slice(x, offsetx, Float.BYTES), arena.allocateFrom(JAVA_LONG, incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dscal_ = downcallHandle("dscal_", null, 4);
+
+  protected void dscalK(long n, double alpha, MemorySegment x, long offsetx, long incx) {
+    if (!isNative(x)) {
+      fallback.dscalK(n, alpha, x, offsetx, incx);
+      return;
+    }
+    if (dscal_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      dscal_.invokeExact(arena.allocateFrom(JAVA_LONG, n), arena.allocateFrom(JAVA_DOUBLE, alpha), slice(x, offsetx, Double.BYTES), arena.allocateFrom(JAVA_LONG, incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sscal_ = downcallHandle("sscal_", null, 4);
+
+  protected void sscalK(long n, float alpha, MemorySegment x, long offsetx, long incx) {
+    if (!isNative(x)) {
+      fallback.sscalK(n, alpha, x, offsetx, incx);
+      return;
+    }
+    if (sscal_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      sscal_.invokeExact(arena.allocateFrom(JAVA_LONG, n), arena.allocateFrom(JAVA_FLOAT, alpha), slice(x, offsetx, Float.BYTES), arena.allocateFrom(JAVA_LONG, incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle idamax_ = downcallHandle("idamax_", JAVA_LONG, 3);
+
+  protected long idamaxK(long n, MemorySegment x, long offsetx, long incx) {
+    if (!isNative(x)) {
+      return fallback.idamaxK(n, x, offsetx, incx);
+    }
+    if (idamax_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      return (long)idamax_.invokeExact(arena.allocateFrom(JAVA_LONG, n), slice(x, offsetx, Double.BYTES), arena.allocateFrom(JAVA_LONG, incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle isamax_ = downcallHandle("isamax_", JAVA_LONG, 3);
+
+  protected long isamaxK(long n, MemorySegment x, long offsetx, long incx) {
+    if (!isNative(x)) {
+      return fallback.isamaxK(n, x, offsetx, incx);
+    }
+    if (isamax_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try (Arena arena = Arena.ofConfined()) {
+      return (long)isamax_.invokeExact(arena.allocateFrom(JAVA_LONG, n), slice(x, offsetx, Float.BYTES), arena.allocateFrom(JAVA_LONG, incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+}
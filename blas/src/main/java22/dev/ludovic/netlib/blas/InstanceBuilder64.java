@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+final class InstanceBuilder64 {
+
+  private static final Logger log = Logger.getLogger(InstanceBuilder64.class.getName());
+
+  private static final BLAS64 blas64;
+
+  static {
+    BLAS64 nativeBlas64 = initializeNative();
+    if (nativeBlas64 == null) {
+      log.info("Using JavaBLAS64");
+      blas64 = JavaBLAS64.getInstance();
+    } else {
+      log.info("Using native ILP64 BLAS");
+      blas64 = nativeBlas64;
+    }
+  }
+
+  public static BLAS64 blas64() {
+    return blas64;
+  }
+
+  private static BLAS64 initializeNative() {
+    try {
+      return ForeignBLAS64.getInstance();
+    } catch (Throwable t) {
+      log.log(Level.FINE, "Failed to load implementation from:" + ForeignBLAS64.class.getName(), t);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+// The Level 1 and 2 routines loop over long indices directly on the segments. The Level 3
+// routines copy tiles of the matrices into arrays, and call the blocked kernels of JavaBLAS on
+// them: each element of a tile takes part in TILE multiply-adds, next to which the copy is negligible.
+final class JavaBLAS64 extends AbstractBLAS64 {
+
+  private static final JavaBLAS64 instance = new JavaBLAS64();
+
+  private static final int TILE = 1024;
+
+  // Rows of a, for NoTrans, or columns, for Trans, handled by a single task of gemv
+  private static final int BLOCK = 4096;
+
+  private final BLAS blas = JavaBLAS.getInstance();
+
+  protected JavaBLAS64() {}
+
+  public static BLAS64 getInstance() {
+    return instance;
+  }
+
+  protected long loopBound(long index, long size) {
+    return index - (index % size);
+  }
+
+  // Index of the first element, which is the last one of the vector when the stride is negative
+  private static long start(long n, long offset, long inc) {
+    return inc < 0 ? offset + (n - 1) * -inc : offset;
+  }
+
+  // Number of blocks of blockWork per task, out of work
+  private static int grain(long work, long blockWork) {
+    return (int)Math.max(1, Parallelism.level2Grain(work) / blockWork);
+  }
+
+  // Copies the rows-by-cols matrix at offset in segment, of leading dimension ld, into array, of leading dimension rows
+  private static void copyIn(MemorySegment segment, long offset, long ld, double[] array, int rows, int cols) {
+    for (int col = 0; col < cols; col += 1) {
+      MemorySegment.copy(segment, JAVA_DOUBLE, (offset + col * ld) * Double.BYTES, array, col * rows, rows);
+    }
+  }
+
+  private static void copyIn(MemorySegment segment, long offset, long ld, float[] array, int rows, int cols) {
+    for (int col = 0; col < cols; col += 1) {
+      MemorySegment.copy(segment, JAVA_FLOAT, (offset + col * ld) * Float.BYTES, array, col * rows, rows);
+    }
+  }
+
+  private static void copyOut(double[] array, int rows, int cols, MemorySegment segment, long offset, long ld) {
+    for (int col = 0; col < cols; col += 1) {
+      MemorySegment.copy(array, col * rows, segment, JAVA_DOUBLE, (offset + col * ld) * Double.BYTES, rows);
+    }
+  }
+
+  private static void copyOut(float[] array, int rows, int cols, MemorySegment segment, long offset, long ld) {
+    for (int col = 0; col < cols; col += 1) {
+      MemorySegment.copy(array, col * rows, segment, JAVA_FLOAT, (offset + col * ld) * Float.BYTES, rows);
+    }
+  }
+
+  protected double dasumK(long n, MemorySegment x, long offsetx, long incx) {
+    double sum0 = 0.0, sum1 = 0.0, sum2 = 0.0, sum3 = 0.0;
+    long i = 0, ix = start(n, offsetx, incx);
+    for (; i < loopBound(n, 4); i += 4, ix += 4 * incx) {
+      sum0 += Math.abs(x.getAtIndex(JAVA_DOUBLE, ix + 0 * incx));
+      sum1 += Math.abs(x.getAtIndex(JAVA_DOUBLE, ix + 1 * incx));
+      sum2 += Math.abs(x.getAtIndex(JAVA_DOUBLE, ix + 2 * incx));
+      sum3 += Math.abs(x.getAtIndex(JAVA_DOUBLE, ix + 3 * incx));
+    }
+    double sum = sum0 + sum1 + sum2 + sum3;
+    for (; i < n; i += 1, ix += incx) {
+      sum += Math.abs(x.getAtIndex(JAVA_DOUBLE, ix));
+    }
+    return sum;
+  }
+
+  protected float sasumK(long n, MemorySegment x, long offsetx, long incx) {
+    float sum0 = 0.0f, sum1 = 0.0f, sum2 = 0.0f, sum3 = 0.0f;
+    long i = 0, ix = start(n, offsetx, incx);
+    for (; i < loopBound(n, 4); i += 4, ix += 4 * incx) {
+      sum0 += Math.abs(x.getAtIndex(JAVA_FLOAT, ix + 0 * incx));
+      sum1 += Math.abs(x.getAtIndex(JAVA_FLOAT, ix + 1 * incx));
+      sum2 += Math.abs(x.getAtIndex(JAVA_FLOAT, ix + 2 * incx));
+      sum3 += Math.abs(x.getAtIndex(JAVA_FLOAT, ix + 3 * incx));
+    }
+    float sum = sum0 + sum1 + sum2 + sum3;
+    for (; i < n; i += 1, ix += incx) {
+      sum += Math.abs(x.getAtIndex(JAVA_FLOAT, ix));
+    }
+    return sum;
+  }
+
+  protected void daxpyK(long n, double alpha, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    for (long i = 0, ix = start(n, offsetx, incx), iy = start(n, offsety, incy); i < n; i += 1, ix += incx, iy += incy) {
+      y.setAtIndex(JAVA_DOUBLE, iy, y.getAtIndex(JAVA_DOUBLE, iy) + alpha * x.getAtIndex(JAVA_DOUBLE, ix));
+    }
+  }
+
+  protected void saxpyK(long n, float alpha, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    for (long i = 0, ix = start(n, offsetx, incx), iy = start(n, offsety, incy); i < n; i += 1, ix += incx, iy += incy) {
+      y.setAtIndex(JAVA_FLOAT, iy, y.getAtIndex(JAVA_FLOAT, iy) + alpha * x.getAtIndex(JAVA_FLOAT, ix));
+    }
+  }
+
+  protected void dcopyK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (incx == 1 && incy == 1) {
+      MemorySegment.copy(x, offsetx * Double.BYTES, y, offsety * Double.BYTES, n * Double.BYTES);
+      return;
+    }
+    for (long i = 0, ix = start(n, offsetx, incx), iy = start(n, offsety, incy); i < n; i += 1, ix += incx, iy += incy) {
+      y.setAtIndex(JAVA_DOUBLE, iy, x.getAtIndex(JAVA_DOUBLE, ix));
+    }
+  }
+
+  protected void scopyK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    if (incx == 1 && incy == 1) {
+      MemorySegment.copy(x, offsetx * Float.BYTES, y, offsety * Float.BYTES, n * Float.BYTES);
+      return;
+    }
+    for (long i = 0, ix = start(n, offsetx, incx), iy = start(n, offsety, incy); i < n; i += 1, ix += incx, iy += incy) {
+      y.setAtIndex(JAVA_FLOAT, iy, x.getAtIndex(JAVA_FLOAT, ix));
+    }
+  }
+
+  protected double ddotK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    double sum0 = 0.0, sum1 = 0.0, sum2 = 0.0, sum3 = 0.0;
+    long i = 0, ix = start(n, offsetx, incx), iy = start(n, offsety, incy);
+    for (; i < loopBound(n, 4); i += 4, ix += 4 * incx, iy += 4 * incy) {
+      sum0 += x.getAtIndex(JAVA_DOUBLE, ix + 0 * incx) * y.getAtIndex(JAVA_DOUBLE, iy + 0 * incy);
+      sum1 += x.getAtIndex(JAVA_DOUBLE, ix + 1 * incx) * y.getAtIndex(JAVA_DOUBLE, iy + 1 * incy);
+      sum2 += x.getAtIndex(JAVA_DOUBLE, ix + 2 * incx) * y.getAtIndex(JAVA_DOUBLE, iy + 2 * incy);
+      sum3 += x.getAtIndex(JAVA_DOUBLE, ix + 3 * incx) * y.getAtIndex(JAVA_DOUBLE, iy + 3 * incy);
+    }
+    double sum = sum0 + sum1 + sum2 + sum3;
+    for (; i < n; i += 1, ix += incx, iy += incy) {
+      sum += x.getAtIndex(JAVA_DOUBLE, ix) * y.getAtIndex(JAVA_DOUBLE, iy);
+    }
+    return sum;
+  }
+
+  protected float sdotK(long n, MemorySegment x, long offsetx, long incx, MemorySegment y, long offsety, long incy) {
+    float sum0 = 0.0f, sum1 = 0.0f, sum2 = 0.0f, sum3 = 0.0f;
+    long i = 0, ix = start(n, offsetx, incx), iy = start(n, offsety, incy);
+    for (; i < loopBound(n, 4); i += 4, ix += 4 * incx, iy += 4 * incy) {
+      sum0 += x.getAtIndex(JAVA_FLOAT, ix + 0 * incx) * y.getAtIndex(JAVA_FLOAT, iy + 0 * incy);
+      sum1 += x.getAtIndex(JAVA_FLOAT, ix + 1 * incx) * y.getAtIndex(JAVA_FLOAT, iy + 1 * incy);
+      sum2 += x.getAtIndex(JAVA_FLOAT, ix + 2 * incx) * y.getAtIndex(JAVA_FLOAT, iy + 2 * incy);
+      sum3 += x.getAtIndex(JAVA_FLOAT, ix + 3 * incx) * y.getAtIndex(JAVA_FLOAT, iy + 3 * incy);
+    }
+    float sum = sum0 + sum1 + sum2 + sum3;
+    for (; i < n; i += 1, ix += incx, iy += incy) {
+      sum += x.getAtIndex(JAVA_FLOAT, ix) * y.getAtIndex(JAVA_FLOAT, iy);
+    }
+    return sum;
+  }
+
+  protected void dgemmK(String transa, String transb, long m, long n, long k, double alpha, MemorySegment a, long offseta, long lda, MemorySegment b, long offsetb, long ldb, double beta, MemorySegment c, long offsetc, long ldc) {
+    boolean notransa = lsame("N", transa), notransb = lsame("N", transb);
+    // Allocated for the call and sized to the problem rather than kept per thread: they are
+    // only reused across the tiles of this call, whose work dwarfs allocating them
+    int tm0 = (int)Math.min(TILE, m), tn0 = (int)Math.min(TILE, n), tk0 = (int)Math.min(TILE, k);
+    double[] tilea = new double[tm0 * tk0];
+    double[] tileb = new double[tk0 * tn0];
+    double[] tilec = new double[tm0 * tn0];
+    for (long col = 0; col < n; col += TILE) {
+      int tn = (int)Math.min(TILE, n - col);
+      for (long row = 0; row < m; row += TILE) {
+        int tm = (int)Math.min(TILE, m - row);
+        if (beta == 0.0) {
+          Arrays.fill(tilec, 0, tm * tn, 0.0);
+        } else {
+          copyIn(c, offsetc + row + col * ldc, ldc, tilec, tm, tn);
+        }
+        if ((alpha == 0.0 || k == 0) && beta != 0.0 && beta != 1.0) {
+          blas.dscal(tm * tn, beta, tilec, 1);
+        }
+        for (long depth = 0; depth < k && alpha != 0.0; depth += TILE) {
+          int tk = (int)Math.min(TILE, k - depth);
+          if (notransa) {
+            copyIn(a, offseta + row + depth * lda, lda, tilea, tm, tk);
+          } else {
+            copyIn(a, offseta + depth + row * lda, lda, tilea, tk, tm);
+          }
+          if (notransb) {
+            copyIn(b, offsetb + depth + col * ldb, ldb, tileb, tk, tn);
+          } else {
+            copyIn(b, offsetb + col + depth * ldb, ldb, tileb, tn, tk);
+          }
+          blas.dgemm(transa, transb, tm, tn, tk, alpha, tilea, notransa ? tm : tk, tileb, notransb ? tk : tn,
+                     depth == 0 ? beta : 1.0, tilec, tm);
+        }
+        copyOut(tilec, tm, tn, c, offsetc + row + col * ldc, ldc);
+      }
+    }
+  }
+
+  protected void sgemmK(String transa, String transb, long m, long n, long k, float alpha, MemorySegment a, long offseta, long lda, MemorySegment b, long offsetb, long ldb, float beta, MemorySegment c, long offsetc, long ldc) {
+    boolean notransa = lsame("N", transa), notransb = lsame("N", transb);
+    // Allocated for the call and sized to the problem rather than kept per thread: they are
+    // only reused across the tiles of this call, whose work dwarfs allocating them
+    int tm0 = (int)Math.min(TILE, m), tn0 = (int)Math.min(TILE, n), tk0 = (int)Math.min(TILE, k);
+    float[] tilea = new float[tm0 * tk0];
+    float[] tileb = new float[tk0 * tn0];
+    float[] tilec = new float[tm0 * tn0];
+    for (long col = 0; col < n; col += TILE) {
+      int tn = (int)Math.min(TILE, n - col);
+      for (long row = 0; row < m; row += TILE) {
+        int tm = (int)Math.min(TILE, m - row);
+        if (beta == 0.0f) {
+          Arrays.fill(tilec, 0, tm * tn, 0.0f);
+        } else {
+          copyIn(c, offsetc + row + col * ldc, ldc, tilec, tm, tn);
+        }
+        if ((alpha == 0.0f || k == 0) && beta != 0.0f && beta != 1.0f) {
+          blas.sscal(tm * tn, beta, tilec, 1);
+        }
+        for (long depth = 0; depth < k && alpha != 0.0f; depth += TILE) {
+          int tk = (int)Math.min(TILE, k - depth);
+          if (notransa) {
+            copyIn(a, offseta + row + depth * lda, lda, tilea, tm, tk);
+          } else {
+            copyIn(a, offseta + depth + row * lda, lda, tilea, tk, tm);
+          }
+          if (notransb) {
+            copyIn(b, offsetb + depth + col * ldb, ldb, tileb, tk, tn);
+          } else {
+            copyIn(b, offsetb + col + depth * ldb, ldb, tileb, tn, tk);
+          }
+          blas.sgemm(transa, transb, tm, tn, tk, alpha, tilea, notransa ? tm : tk, tileb, notransb ? tk : tn,
+                     depth == 0 ? beta : 1.0f, tilec, tm);
+        }
+        copyOut(tilec, tm, tn, c, offsetc + row + col * ldc, ldc);
+      }
+    }
+  }
+
+  protected void dgemvK(String trans, long m, long n, double alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long offsetx, long incx, double beta, MemorySegment y, long offsety, long incy) {
+    if (lsame("N", trans)) {
+      // Each task updates its own rows of y
+      long blocks = (m + BLOCK - 1) / BLOCK;
+      Parallelism.Range body = (from, to) ->
+        dgemvN(from * (long)BLOCK, Math.min(to * (long)BLOCK, m), n, alpha, a, offseta, lda, x, start(n, offsetx, incx), incx, beta, y, start(m, offsety, incy), incy);
+      if (Parallelism.enabledLevel2(m * n) && blocks > 1) {
+        Parallelism.invoke(0, Math.toIntExact(blocks), grain(m * n, (long)BLOCK * n), body);
+      } else {
+        body.run(0, Math.toIntExact(blocks));
+      }
+    } else {
+      // Each task computes its own elements of y
+      long blocks = (n + BLOCK - 1) / BLOCK;
+      Parallelism.Range body = (from, to) ->
+        dgemvT(m, from * (long)BLOCK, Math.min(to * (long)BLOCK, n), alpha, a, offseta, lda, x, start(m, offsetx, incx), incx, beta, y, start(n, offsety, incy), incy);
+      if (Parallelism.enabledLevel2(m * n) && blocks > 1) {
+        Parallelism.invoke(0, Math.toIntExact(blocks), grain(m * n, (long)BLOCK * m), body);
+      } else {
+        body.run(0, Math.toIntExact(blocks));
+      }
+    }
+  }
+
+  // y[from:to] = alpha * a[from:to, :] * x + beta * y[from:to], where x and y start at startx and starty
+  private void dgemvN(long from, long to, long n, double alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long startx, long incx, double beta, MemorySegment y, long starty, long incy) {
+    if (beta != 1.0) {
+      for (long i = from, iy = starty + from * incy; i < to; i += 1, iy += incy) {
+        y.setAtIndex(JAVA_DOUBLE, iy, beta == 0.0 ? 0.0 : beta * y.getAtIndex(JAVA_DOUBLE, iy));
+      }
+    }
+    if (alpha == 0.0) {
+      return;
+    }
+    for (long col = 0, ix = startx; col < n; col += 1, ix += incx) {
+      double alphax = alpha * x.getAtIndex(JAVA_DOUBLE, ix);
+      if (alphax == 0.0) {
+        continue;
+      }
+      long offsetcol = offseta + col * lda;
+      for (long row = from, iy = starty + from * incy; row < to; row += 1, iy += incy) {
+        y.setAtIndex(JAVA_DOUBLE, iy, y.getAtIndex(JAVA_DOUBLE, iy) + alphax * a.getAtIndex(JAVA_DOUBLE, offsetcol + row));
+      }
+    }
+  }
+
+  // y[from:to] = alpha * a[:, from:to]' * x + beta * y[from:to], where x and y start at startx and starty
+  private void dgemvT(long m, long from, long to, double alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long startx, long incx, double beta, MemorySegment y, long starty, long incy) {
+    for (long col = from, iy = starty + from * incy; col < to; col += 1, iy += incy) {
+      double sum = 0.0;
+      if (alpha != 0.0) {
+        long offsetcol = offseta + col * lda;
+        for (long row = 0, ix = startx; row < m; row += 1, ix += incx) {
+          sum += a.getAtIndex(JAVA_DOUBLE, offsetcol + row) * x.getAtIndex(JAVA_DOUBLE, ix);
+        }
+      }
+      y.setAtIndex(JAVA_DOUBLE, iy, alpha * sum + (beta == 0.0 ? 0.0 : beta * y.getAtIndex(JAVA_DOUBLE, iy)));
+    }
+  }
+
+  protected void sgemvK(String trans, long m, long n, float alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long offsetx, long incx, float beta, MemorySegment y, long offsety, long incy) {
+    if (lsame("N", trans)) {
+      // Each task updates its own rows of y
+      long blocks = (m + BLOCK - 1) / BLOCK;
+      Parallelism.Range body = (from, to) ->
+        sgemvN(from * (long)BLOCK, Math.min(to * (long)BLOCK, m), n, alpha, a, offseta, lda, x, start(n, offsetx, incx), incx, beta, y, start(m, offsety, incy), incy);
+      if (Parallelism.enabledLevel2(m * n) && blocks > 1) {
+        Parallelism.invoke(0, Math.toIntExact(blocks), grain(m * n, (long)BLOCK * n), body);
+      } else {
+        body.run(0, Math.toIntExact(blocks));
+      }
+    } else {
+      // Each task computes its own elements of y
+      long blocks = (n + BLOCK - 1) / BLOCK;
+      Parallelism.Range body = (from, to) ->
+        sgemvT(m, from * (long)BLOCK, Math.min(to * (long)BLOCK, n), alpha, a, offseta, lda, x, start(m, offsetx, incx), incx, beta, y, start(n, offsety, incy), incy);
+      if (Parallelism.enabledLevel2(m * n) && blocks > 1) {
+        Parallelism.invoke(0, Math.toIntExact(blocks), grain(m * n, (long)BLOCK * m), body);
+      } else {
+        body.run(0, Math.toIntExact(blocks));
+      }
+    }
+  }
+
+  // y[from:to] = alpha * a[from:to, :] * x + beta * y[from:to], where x and y start at startx and starty
+  private void sgemvN(long from, long to, long n, float alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long startx, long incx, float beta, MemorySegment y, long starty, long incy) {
+    if (beta != 1.0f) {
+      for (long i = from, iy = starty + from * incy; i < to; i += 1, iy += incy) {
+        y.setAtIndex(JAVA_FLOAT, iy, beta == 0.0f ? 0.0f : beta * y.getAtIndex(JAVA_FLOAT, iy));
+      }
+    }
+    if (alpha == 0.0f) {
+      return;
+    }
+    for (long col = 0, ix = startx; col < n; col += 1, ix += incx) {
+      float alphax = alpha * x.getAtIndex(JAVA_FLOAT, ix);
+      if (alphax == 0.0f) {
+        continue;
+      }
+      long offsetcol = offseta + col * lda;
+      for (long row = from, iy = starty + from * incy; row < to; row += 1, iy += incy) {
+        y.setAtIndex(JAVA_FLOAT, iy, y.getAtIndex(JAVA_FLOAT, iy) + alphax * a.getAtIndex(JAVA_FLOAT, offsetcol + row));
+      }
+    }
+  }
+
+  // y[from:to] = alpha * a[:, from:to]' * x + beta * y[from:to], where x and y start at startx and starty
+  private void sgemvT(long m, long from, long to, float alpha, MemorySegment a, long offseta, long lda, MemorySegment x, long startx, long incx, float beta, MemorySegment y, long starty, long incy) {
+    for (long col = from, iy = starty + from * incy; col < to; col += 1, iy += incy) {
+      float sum = 0.0f;
+      if (alpha != 0.0f) {
+        long offsetcol = offseta + col * lda;
+        for (long row = 0, ix = startx; row < m; row += 1, ix += incx) {
+          sum += a.getAtIndex(JAVA_FLOAT, offsetcol + row) * x.getAtIndex(JAVA_FLOAT, ix);
+        }
+      }
+      y.setAtIndex(JAVA_FLOAT, iy, alpha * sum + (beta == 0.0f ? 0.0f : beta * y.getAtIndex(JAVA_FLOAT, iy)));
+    }
+  }
+
+  protected double dnrm2K(long n, MemorySegment x, long offsetx, long incx) {
+    double sum = 0.0;
+    for (long i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      double x0 = x.getAtIndex(JAVA_DOUBLE, ix);
+      sum += x0 * x0;
+    }
+    // The plain sum of squares is accurate unless it overflowed, or is small enough for the
+    // squares to have lost precision, where the scaled sum of squares of LAPACK's dlassq is used
+    if (sum >= 0x1p-968 && sum < Double.POSITIVE_INFINITY) {
+      return Math.sqrt(sum);
+    }
+    double scale = 0.0, ssq = 1.0;
+    for (long i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      double x0 = Math.abs(x.getAtIndex(JAVA_DOUBLE, ix));
+      if (x0 == 0.0) {
+        continue;
+      }
+      if (scale < x0) {
+        ssq = 1.0 + ssq * (scale / x0) * (scale / x0);
+        scale = x0;
+      } else {
+        ssq += (x0 / scale) * (x0 / scale);
+      }
+    }
+    return scale * Math.sqrt(ssq);
+  }
+
+  protected float snrm2K(long n, MemorySegment x, long offsetx, long incx) {
+    // The squares of floats can neither overflow nor underflow a double
+    double sum = 0.0;
+    for (long i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      double x0 = x.getAtIndex(JAVA_FLOAT, ix);
+      sum += x0 * x0;
+    }
+    return (float)Math.sqrt(sum);
+  }
+
+  protected void dscalK(long n, double alpha, MemorySegment x, long offsetx, long incx) {
+    for (long i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      x.setAtIndex(JAVA_DOUBLE, ix, alpha * x.getAtIndex(JAVA_DOUBLE, ix));
+    }
+  }
+
+  protected void sscalK(long n, float alpha, MemorySegment x, long offsetx, long incx) {
+    for (long i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      x.setAtIndex(JAVA_FLOAT, ix, alpha * x.getAtIndex(JAVA_FLOAT, ix));
+    }
+  }
+
+  protected long idamaxK(long n, MemorySegment x, long offsetx, long incx) {
+    long imax = 0;
+    double max = -1.0;
+    // As in JavaBLAS, an element is taken unless it is <= the current maximum, so a NaN is taken
+    for (long i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      double xi = Math.abs(x.getAtIndex(JAVA_DOUBLE, ix));
+      if (!(xi <= max)) {
+        max = xi;
+        imax = i;
+      }
+    }
+    // Fortran arrays use 1-based index
+    return imax + 1;
+  }
+
+  protected long isamaxK(long n, MemorySegment x, long offsetx, long incx) {
+    long imax = 0;
+    float max = -1.0f;
+    // As in JavaBLAS, an element is taken unless it is <= the current maximum, so a NaN is taken
+    for (long i = 0, ix = offsetx; i < n; i += 1, ix += incx) {
+      float xi = Math.abs(x.getAtIndex(JAVA_FLOAT, ix));
+      if (!(xi <= max)) {
+        max = xi;
+        imax = i;
+      }
+    }
+    // Fortran arrays use 1-based index
+    return imax + 1;
+  }
+}
@@ -59,6 +59,22 @@ done:
   return __ret;
 }
 
+jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_dasumDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx) {
+  if (!dasum_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jdouble __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__nx = NULL;
+  __nn = n;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  __ret = dasum_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
 static float (*sasum_)(int *n, float *x, int *incx);
 
 jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sasumK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray x, jint offsetx, jint incx) {
@@ -78,6 +94,22 @@ done:
   return __ret;
 }
 
+jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sasumDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx) {
+  if (!sasum_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jfloat __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__nx = NULL;
+  __nn = n;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  __ret = sasum_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
 static void (*daxpy_)(int *n, double *alpha, double *x, int *incx, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_daxpyK(JNIEnv *env, UNUSED jobject obj, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy) {
@@ -102,6 +134,26 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_daxpyDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jdouble alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!daxpy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  daxpy_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*saxpy_)(int *n, float *alpha, float *x, int *incx, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_saxpyK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy) {
@@ -126,6 +178,26 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_saxpyDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!saxpy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  saxpy_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dcopy_)(int *n, double *x, int *incx, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dcopyK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy) {
@@ -148,6 +220,24 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dcopyDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!dcopy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  dcopy_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*scopy_)(int *n, float *x, int *incx, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_scopyK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy) {
@@ -170,6 +260,24 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_scopyDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!scopy_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  scopy_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static double (*ddot_)(int *n, double *x, int *incx, double *y, int *incy);
 
 jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_ddotK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy) {
@@ -194,6 +302,26 @@ done:
   return __ret;
 }
 
+jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_ddotDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!ddot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jdouble __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  __ret = ddot_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
 static float (*sdot_)(int *n, float *x, int *incx, float *y, int *incy);
 
 jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sdotK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy) {
@@ -218,6 +346,26 @@ done:
   return __ret;
 }
 
+jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sdotDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!sdot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jfloat __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  __ret = sdot_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
 static float (*sdsdot_)(int *n, float *sb, float *sx, int *incsx, float *sy, int *incsy);
 
 jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sdsdotK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat sb, jfloatArray sx, jint offsetsx, jint incsx, jfloatArray sy, jint offsetsy, jint incsy) {
@@ -244,6 +392,28 @@ done:
   return __ret;
 }
 
+jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_sdsdotDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat sb, jobject sx, jint offsetsx, jint incsx, jobject sy, jint offsetsy, jint incsy) {
+  if (!sdsdot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jfloat __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  float __nsb __attribute__((aligned(8)));
+  int __nincsx __attribute__((aligned(8)));
+  int __nincsy __attribute__((aligned(8)));
+  float *__nsx = NULL;
+  float *__nsy = NULL;
+  __nn = n;
+  __nsb = sb;
+  __nincsx = incsx;
+  __nincsy = incsy;
+  if (sx) { if (!(__nsx = (*env)->GetDirectBufferAddress(env, sx))) { __failed = TRUE; goto done; } }
+  if (sy) { if (!(__nsy = (*env)->GetDirectBufferAddress(env, sy))) { __failed = TRUE; goto done; } }
+  __ret = sdsdot_(&__nn, &__nsb, __nsx ? __nsx + offsetsx : NULL, &__nincsx, __nsy ? __nsy + offsetsy : NULL, &__nincsy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
 static void (*dgbmv_)(const char *trans, int *m, int *n, int *kl, int *ku, double *alpha, double *a, int *lda, double *x, int *incx, double *beta, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dgbmvK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jint kl, jint ku, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
@@ -284,6 +454,41 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgbmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jint kl, jint ku, jdouble alpha, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx, jdouble beta, jobject y, jint offsety, jint incy) {
+  if (!dgbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nkl __attribute__((aligned(8)));
+  int __nku __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  double *__ny = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nkl = kl;
+  __nku = ku;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  dgbmv_(__ntrans, &__nm, &__nn, &__nkl, &__nku, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sgbmv_)(const char *trans, int *m, int *n, int *kl, int *ku, float *alpha, float *a, int *lda, float *x, int *incx, float *beta, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sgbmvK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jint kl, jint ku, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx, jfloat beta, jfloatArray y, jint offsety, jint incy) {
@@ -324,6 +529,41 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sgbmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jint kl, jint ku, jfloat alpha, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx, jfloat beta, jobject y, jint offsety, jint incy) {
+  if (!sgbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nkl __attribute__((aligned(8)));
+  int __nku __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  float *__ny = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nkl = kl;
+  __nku = ku;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  sgbmv_(__ntrans, &__nm, &__nn, &__nkl, &__nku, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dgemm_)(const char *transa, const char *transb, int *m, int *n, int *k, double *alpha, double *a, int *lda, double *b, int *ldb, double *beta, double *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemmK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb, jdouble beta, jdoubleArray c, jint offsetc, jint ldc) {
@@ -365,6 +605,42 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemmDirectK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jdouble alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jdouble beta, jobject c, jint offsetc, jint ldc) {
+  if (!dgemm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntransa = NULL;
+  const char *__ntransb = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nb = NULL;
+  double *__nc = NULL;
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  dgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+done:
+  if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sgemm_)(const char *transa, const char *transb, int *m, int *n, int *k, float *alpha, float *a, int *lda, float *b, int *ldb, float *beta, float *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemmK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
@@ -406,22 +682,362 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
-static void (*dgemv_)(const char *trans, int *m, int *n, double *alpha, double *a, int *lda, double *x, int *incx, double *beta, double *y, int *incy);
-
-void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemvK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
-  if (!dgemv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemmDirectK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jfloat alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jfloat beta, jobject c, jint offsetc, jint ldc) {
+  if (!sgemm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
   jboolean __failed = FALSE;
-  const char *__ntrans = NULL;
+  const char *__ntransa = NULL;
+  const char *__ntransb = NULL;
   int __nm __attribute__((aligned(8)));
   int __nn __attribute__((aligned(8)));
-  double __nalpha __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
   int __nlda __attribute__((aligned(8)));
-  int __nincx __attribute__((aligned(8)));
-  double __nbeta __attribute__((aligned(8)));
-  int __nincy __attribute__((aligned(8)));
-  double *__na = NULL;
-  double *__nx = NULL;
-  double *__ny = NULL;
+  int __nldb __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nb = NULL;
+  float *__nc = NULL;
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  sgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+done:
+  if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void netlib_dgemmBatched(__typeof__(dgemm_) routine, const char *transa, const char *transb, int *m, int *n, int *k, double *alpha, double *a, int *offsetsa, int *lda, double *b, int *offsetsb, int *ldb, double *beta, double *c, int *offsetsc, int *ldc, int *batchCount) {
+  for (int i = 0; i < *batchCount; i++) {
+    routine(transa, transb, m, n, k, alpha, a + offsetsa[i], lda, b + offsetsb[i], ldb, beta, c + offsetsc[i], ldc);
+  }
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemmBatchedK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jdouble alpha, jdoubleArray a, jintArray offsetsa, jint lda, jdoubleArray b, jintArray offsetsb, jint ldb, jdouble beta, jdoubleArray c, jintArray offsetsc, jint ldc, jint batchCount) {
+  if (!dgemm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntransa = NULL;
+  const char *__ntransb = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  int __nbatchCount __attribute__((aligned(8)));
+  double *__na = NULL;
+  int *__noffsetsa = NULL;
+  double *__nb = NULL;
+  int *__noffsetsb = NULL;
+  double *__nc = NULL;
+  int *__noffsetsc = NULL;
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  __nbatchCount = batchCount;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (offsetsa) { if (!(__noffsetsa = (*env)->GetPrimitiveArrayCritical(env, offsetsa, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  if (offsetsb) { if (!(__noffsetsb = (*env)->GetPrimitiveArrayCritical(env, offsetsb, NULL))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  if (offsetsc) { if (!(__noffsetsc = (*env)->GetPrimitiveArrayCritical(env, offsetsc, NULL))) { __failed = TRUE; goto done; } }
+  netlib_dgemmBatched(dgemm_, __ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na, __noffsetsa, &__nlda, __nb, __noffsetsb, &__nldb, &__nbeta, __nc, __noffsetsc, &__nldc, &__nbatchCount);
+done:
+  if (__noffsetsc) (*env)->ReleasePrimitiveArrayCritical(env, offsetsc, __noffsetsc, JNI_ABORT);
+  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+  if (__noffsetsb) (*env)->ReleasePrimitiveArrayCritical(env, offsetsb, __noffsetsb, JNI_ABORT);
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+  if (__noffsetsa) (*env)->ReleasePrimitiveArrayCritical(env, offsetsa, __noffsetsa, JNI_ABORT);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void netlib_dgemmStridedBatched(__typeof__(dgemm_) routine, const char *transa, const char *transb, int *m, int *n, int *k, double *alpha, double *a, int *lda, int *stridea, double *b, int *ldb, int *strideb, double *beta, double *c, int *ldc, int *stridec, int *batchCount) {
+  for (int i = 0; i < *batchCount; i++) {
+    routine(transa, transb, m, n, k, alpha, a + (size_t)i * *stridea, lda, b + (size_t)i * *strideb, ldb, beta, c + (size_t)i * *stridec, ldc);
+  }
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemmStridedBatchedK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jint stridea, jdoubleArray b, jint offsetb, jint ldb, jint strideb, jdouble beta, jdoubleArray c, jint offsetc, jint ldc, jint stridec, jint batchCount) {
+  if (!dgemm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntransa = NULL;
+  const char *__ntransb = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nstridea __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __nstrideb __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  int __nstridec __attribute__((aligned(8)));
+  int __nbatchCount __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nb = NULL;
+  double *__nc = NULL;
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nstridea = stridea;
+  __nldb = ldb;
+  __nstrideb = strideb;
+  __nbeta = beta;
+  __nldc = ldc;
+  __nstridec = stridec;
+  __nbatchCount = batchCount;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  netlib_dgemmStridedBatched(dgemm_, __ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nstridea, __nb ? __nb + offsetb : NULL, &__nldb, &__nstrideb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, &__nstridec, &__nbatchCount);
+done:
+  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void netlib_sgemmBatched(__typeof__(sgemm_) routine, const char *transa, const char *transb, int *m, int *n, int *k, float *alpha, float *a, int *offsetsa, int *lda, float *b, int *offsetsb, int *ldb, float *beta, float *c, int *offsetsc, int *ldc, int *batchCount) {
+  for (int i = 0; i < *batchCount; i++) {
+    routine(transa, transb, m, n, k, alpha, a + offsetsa[i], lda, b + offsetsb[i], ldb, beta, c + offsetsc[i], ldc);
+  }
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemmBatchedK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jfloat alpha, jfloatArray a, jintArray offsetsa, jint lda, jfloatArray b, jintArray offsetsb, jint ldb, jfloat beta, jfloatArray c, jintArray offsetsc, jint ldc, jint batchCount) {
+  if (!sgemm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntransa = NULL;
+  const char *__ntransb = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  int __nbatchCount __attribute__((aligned(8)));
+  float *__na = NULL;
+  int *__noffsetsa = NULL;
+  float *__nb = NULL;
+  int *__noffsetsb = NULL;
+  float *__nc = NULL;
+  int *__noffsetsc = NULL;
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  __nbatchCount = batchCount;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (offsetsa) { if (!(__noffsetsa = (*env)->GetPrimitiveArrayCritical(env, offsetsa, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  if (offsetsb) { if (!(__noffsetsb = (*env)->GetPrimitiveArrayCritical(env, offsetsb, NULL))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  if (offsetsc) { if (!(__noffsetsc = (*env)->GetPrimitiveArrayCritical(env, offsetsc, NULL))) { __failed = TRUE; goto done; } }
+  netlib_sgemmBatched(sgemm_, __ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na, __noffsetsa, &__nlda, __nb, __noffsetsb, &__nldb, &__nbeta, __nc, __noffsetsc, &__nldc, &__nbatchCount);
+done:
+  if (__noffsetsc) (*env)->ReleasePrimitiveArrayCritical(env, offsetsc, __noffsetsc, JNI_ABORT);
+  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+  if (__noffsetsb) (*env)->ReleasePrimitiveArrayCritical(env, offsetsb, __noffsetsb, JNI_ABORT);
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+  if (__noffsetsa) (*env)->ReleasePrimitiveArrayCritical(env, offsetsa, __noffsetsa, JNI_ABORT);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void netlib_sgemmStridedBatched(__typeof__(sgemm_) routine, const char *transa, const char *transb, int *m, int *n, int *k, float *alpha, float *a, int *lda, int *stridea, float *b, int *ldb, int *strideb, float *beta, float *c, int *ldc, int *stridec, int *batchCount) {
+  for (int i = 0; i < *batchCount; i++) {
+    routine(transa, transb, m, n, k, alpha, a + (size_t)i * *stridea, lda, b + (size_t)i * *strideb, ldb, beta, c + (size_t)i * *stridec, ldc);
+  }
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemmStridedBatchedK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jint stridea, jfloatArray b, jint offsetb, jint ldb, jint strideb, jfloat beta, jfloatArray c, jint offsetc, jint ldc, jint stridec, jint batchCount) {
+  if (!sgemm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntransa = NULL;
+  const char *__ntransb = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nstridea __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __nstrideb __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  int __nstridec __attribute__((aligned(8)));
+  int __nbatchCount __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nb = NULL;
+  float *__nc = NULL;
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nstridea = stridea;
+  __nldb = ldb;
+  __nstrideb = strideb;
+  __nbeta = beta;
+  __nldc = ldc;
+  __nstridec = stridec;
+  __nbatchCount = batchCount;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  netlib_sgemmStridedBatched(sgemm_, __ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nstridea, __nb ? __nb + offsetb : NULL, &__nldb, &__nstrideb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc, &__nstridec, &__nbatchCount);
+done:
+  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+// Not exported by all the native libraries, returns FALSE without touching the arguments when it isn't
+static void (*shgemm_)(const char *transa, const char *transb, int *m, int *n, int *k, float *alpha, short *a, int *lda, short *b, int *ldb, float *beta, float *c, int *ldc);
+
+jboolean Java_dev_ludovic_netlib_blas_JNIBLAS_shgemmK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jfloat alpha, jshortArray a, jint offseta, jint lda, jshortArray b, jint offsetb, jint ldb, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
+  if (!shgemm_) return FALSE;
+  jboolean __failed = FALSE;
+  const char *__ntransa = NULL;
+  const char *__ntransb = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  short *__na = NULL;
+  short *__nb = NULL;
+  float *__nc = NULL;
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  shgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+done:
+  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return TRUE;
+}
+
+// Not exported by all the native libraries, returns FALSE without touching the arguments when it isn't
+static void (*sbgemm_)(const char *transa, const char *transb, int *m, int *n, int *k, float *alpha, short *a, int *lda, short *b, int *ldb, float *beta, float *c, int *ldc);
+
+jboolean Java_dev_ludovic_netlib_blas_JNIBLAS_sbgemmK(JNIEnv *env, UNUSED jobject obj, jstring transa, jstring transb, jint m, jint n, jint k, jfloat alpha, jshortArray a, jint offseta, jint lda, jshortArray b, jint offsetb, jint ldb, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
+  if (!sbgemm_) return FALSE;
+  jboolean __failed = FALSE;
+  const char *__ntransa = NULL;
+  const char *__ntransb = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  short *__na = NULL;
+  short *__nb = NULL;
+  float *__nc = NULL;
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransb = (*env)->GetStringUTFChars(env, transb, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  sbgemm_(__ntransa, __ntransb, &__nm, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+done:
+  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__ntransb) (*env)->ReleaseStringUTFChars(env, transb, __ntransb);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return TRUE;
+}
+
+static void (*dgemv_)(const char *trans, int *m, int *n, double *alpha, double *a, int *lda, double *x, int *incx, double *beta, double *y, int *incy);
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemvK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
+  if (!dgemv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  double *__ny = NULL;
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nm = m;
   __nn = n;
@@ -442,6 +1058,37 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgemvDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jdouble alpha, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx, jdouble beta, jobject y, jint offsety, jint incy) {
+  if (!dgemv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  double *__ny = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  dgemv_(__ntrans, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sgemv_)(const char *trans, int *m, int *n, float *alpha, float *a, int *lda, float *x, int *incx, float *beta, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemvK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx, jfloat beta, jfloatArray y, jint offsety, jint incy) {
@@ -473,14 +1120,74 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemvK(JNIEnv *env, UNUSED jobject obj
 done:
   if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
-  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sgemvDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jfloat alpha, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx, jfloat beta, jobject y, jint offsety, jint incy) {
+  if (!sgemv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  float *__ny = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  sgemv_(__ntrans, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+static void (*dger_)(int *m, int *n, double *alpha, double *x, int *incx, double *y, int *incy, double *a, int *lda);
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgerK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy, jdoubleArray a, jint offseta, jint lda) {
+  if (!dger_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  double *__na = NULL;
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  __nlda = lda;
+  if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  dger_(&__nm, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
+done:
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, JNI_ABORT);
+  if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
-static void (*dger_)(int *m, int *n, double *alpha, double *x, int *incx, double *y, int *incy, double *a, int *lda);
-
-void Java_dev_ludovic_netlib_blas_JNIBLAS_dgerK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy, jdoubleArray a, jint offseta, jint lda) {
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dgerDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jdouble alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy, jobject a, jint offseta, jint lda) {
   if (!dger_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
   jboolean __failed = FALSE;
   int __nm __attribute__((aligned(8)));
@@ -498,14 +1205,11 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dgerK(JNIEnv *env, UNUSED jobject obj,
   __nincx = incx;
   __nincy = incy;
   __nlda = lda;
-  if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
-  if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
   dger_(&__nm, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
 done:
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
-  if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, JNI_ABORT);
-  if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
@@ -540,6 +1244,32 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sgerDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jfloat alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy, jobject a, jint offseta, jint lda) {
+  if (!sger_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  float *__na = NULL;
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  __nlda = lda;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  sger_(&__nm, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static double (*dnrm2_)(int *n, double *x, int *incx);
 
 jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_dnrm2K(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray x, jint offsetx, jint incx) {
@@ -559,6 +1289,22 @@ done:
   return __ret;
 }
 
+jdouble Java_dev_ludovic_netlib_blas_JNIBLAS_dnrm2DirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx) {
+  if (!dnrm2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jdouble __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__nx = NULL;
+  __nn = n;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  __ret = dnrm2_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
 static float (*snrm2_)(int *n, float *x, int *incx);
 
 jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_snrm2K(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray x, jint offsetx, jint incx) {
@@ -578,6 +1324,22 @@ done:
   return __ret;
 }
 
+jfloat Java_dev_ludovic_netlib_blas_JNIBLAS_snrm2DirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx) {
+  if (!snrm2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jfloat __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__nx = NULL;
+  __nn = n;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  __ret = snrm2_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
 static void (*drot_)(int *n, double *dx, int *incx, double *dy, int *incy, double *c, double *s);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_drotK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray dx, jint offsetdx, jint incx, jdoubleArray dy, jint offsetdy, jint incy, jdouble c, jdouble s) {
@@ -604,6 +1366,28 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_drotDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject dx, jint offsetdx, jint incx, jobject dy, jint offsetdy, jint incy, jdouble c, jdouble s) {
+  if (!drot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double __nc __attribute__((aligned(8)));
+  double __ns __attribute__((aligned(8)));
+  double *__ndx = NULL;
+  double *__ndy = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  __nc = c;
+  __ns = s;
+  if (dx) { if (!(__ndx = (*env)->GetDirectBufferAddress(env, dx))) { __failed = TRUE; goto done; } }
+  if (dy) { if (!(__ndy = (*env)->GetDirectBufferAddress(env, dy))) { __failed = TRUE; goto done; } }
+  drot_(&__nn, __ndx ? __ndx + offsetdx : NULL, &__nincx, __ndy ? __ndy + offsetdy : NULL, &__nincy, &__nc, &__ns);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*srot_)(int *n, float *sx, int *incx, float *sy, int *incy, float *c, float *s);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_srotK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray sx, jint offsetsx, jint incx, jfloatArray sy, jint offsetsy, jint incy, jfloat c, jfloat s) {
@@ -630,6 +1414,28 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_srotDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject sx, jint offsetsx, jint incx, jobject sy, jint offsetsy, jint incy, jfloat c, jfloat s) {
+  if (!srot_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float __nc __attribute__((aligned(8)));
+  float __ns __attribute__((aligned(8)));
+  float *__nsx = NULL;
+  float *__nsy = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  __nc = c;
+  __ns = s;
+  if (sx) { if (!(__nsx = (*env)->GetDirectBufferAddress(env, sx))) { __failed = TRUE; goto done; } }
+  if (sy) { if (!(__nsy = (*env)->GetDirectBufferAddress(env, sy))) { __failed = TRUE; goto done; } }
+  srot_(&__nn, __nsx ? __nsx + offsetsx : NULL, &__nincx, __nsy ? __nsy + offsetsy : NULL, &__nincy, &__nc, &__ns);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*drotm_)(int *n, double *dx, int *incx, double *dy, int *incy, double *dparam);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_drotmK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray dx, jint offsetdx, jint incx, jdoubleArray dy, jint offsetdy, jint incy, jdoubleArray dparam, jint offsetdparam) {
@@ -655,6 +1461,26 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_drotmDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject dx, jint offsetdx, jint incx, jobject dy, jint offsetdy, jint incy, jobject dparam, jint offsetdparam) {
+  if (!drotm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__ndx = NULL;
+  double *__ndy = NULL;
+  double *__ndparam = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (dx) { if (!(__ndx = (*env)->GetDirectBufferAddress(env, dx))) { __failed = TRUE; goto done; } }
+  if (dy) { if (!(__ndy = (*env)->GetDirectBufferAddress(env, dy))) { __failed = TRUE; goto done; } }
+  if (dparam) { if (!(__ndparam = (*env)->GetDirectBufferAddress(env, dparam))) { __failed = TRUE; goto done; } }
+  drotm_(&__nn, __ndx ? __ndx + offsetdx : NULL, &__nincx, __ndy ? __ndy + offsetdy : NULL, &__nincy, __ndparam ? __ndparam + offsetdparam : NULL);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*srotm_)(int *n, float *sx, int *incx, float *sy, int *incy, float *sparam);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_srotmK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray sx, jint offsetsx, jint incx, jfloatArray sy, jint offsetsy, jint incy, jfloatArray sparam, jint offsetsparam) {
@@ -680,6 +1506,26 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_srotmDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject sx, jint offsetsx, jint incx, jobject sy, jint offsetsy, jint incy, jobject sparam, jint offsetsparam) {
+  if (!srotm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__nsx = NULL;
+  float *__nsy = NULL;
+  float *__nsparam = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (sx) { if (!(__nsx = (*env)->GetDirectBufferAddress(env, sx))) { __failed = TRUE; goto done; } }
+  if (sy) { if (!(__nsy = (*env)->GetDirectBufferAddress(env, sy))) { __failed = TRUE; goto done; } }
+  if (sparam) { if (!(__nsparam = (*env)->GetDirectBufferAddress(env, sparam))) { __failed = TRUE; goto done; } }
+  srotm_(&__nn, __nsx ? __nsx + offsetsx : NULL, &__nincx, __nsy ? __nsy + offsetsy : NULL, &__nincy, __nsparam ? __nsparam + offsetsparam : NULL);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*drotmg_)(double *dd1, double *dd2, double *dx1, double *dy1, double *dparam);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_drotmgK(JNIEnv *env, UNUSED jobject obj, jobject dd1, jobject dd2, jobject dx1, jdouble dy1, jdoubleArray dparam, jint offsetdparam) {
@@ -704,6 +1550,27 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_drotmgDirectK(JNIEnv *env, UNUSED jobject obj, jobject dd1, jobject dd2, jobject dx1, jdouble dy1, jobject dparam, jint offsetdparam) {
+  if (!drotmg_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  double __ndd1 = 0;
+  double __ndd2 = 0;
+  double __ndx1 = 0;
+  double __ndy1 __attribute__((aligned(8)));
+  double *__ndparam = NULL;
+  __ndd1 = (*env)->GetDoubleField(env, dd1, doubleW_val_fieldID);
+  __ndd2 = (*env)->GetDoubleField(env, dd2, doubleW_val_fieldID);
+  __ndx1 = (*env)->GetDoubleField(env, dx1, doubleW_val_fieldID);
+  __ndy1 = dy1;
+  if (dparam) { if (!(__ndparam = (*env)->GetDirectBufferAddress(env, dparam))) { __failed = TRUE; goto done; } }
+  drotmg_(&__ndd1, &__ndd2, &__ndx1, &__ndy1, __ndparam ? __ndparam + offsetdparam : NULL);
+done:
+  if (!__failed) (*env)->SetDoubleField(env, dx1, doubleW_val_fieldID, __ndx1);
+  if (!__failed) (*env)->SetDoubleField(env, dd2, doubleW_val_fieldID, __ndd2);
+  if (!__failed) (*env)->SetDoubleField(env, dd1, doubleW_val_fieldID, __ndd1);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*srotmg_)(float *sd1, float *sd2, float *sx1, float *sy1, float *sparam);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_srotmgK(JNIEnv *env, UNUSED jobject obj, jobject sd1, jobject sd2, jobject sx1, jfloat sy1, jfloatArray sparam, jint offsetsparam) {
@@ -728,6 +1595,27 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_srotmgDirectK(JNIEnv *env, UNUSED jobject obj, jobject sd1, jobject sd2, jobject sx1, jfloat sy1, jobject sparam, jint offsetsparam) {
+  if (!srotmg_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  float __nsd1 = 0;
+  float __nsd2 = 0;
+  float __nsx1 = 0;
+  float __nsy1 __attribute__((aligned(8)));
+  float *__nsparam = NULL;
+  __nsd1 = (*env)->GetFloatField(env, sd1, floatW_val_fieldID);
+  __nsd2 = (*env)->GetFloatField(env, sd2, floatW_val_fieldID);
+  __nsx1 = (*env)->GetFloatField(env, sx1, floatW_val_fieldID);
+  __nsy1 = sy1;
+  if (sparam) { if (!(__nsparam = (*env)->GetDirectBufferAddress(env, sparam))) { __failed = TRUE; goto done; } }
+  srotmg_(&__nsd1, &__nsd2, &__nsx1, &__nsy1, __nsparam ? __nsparam + offsetsparam : NULL);
+done:
+  if (!__failed) (*env)->SetFloatField(env, sx1, floatW_val_fieldID, __nsx1);
+  if (!__failed) (*env)->SetFloatField(env, sd2, floatW_val_fieldID, __nsd2);
+  if (!__failed) (*env)->SetFloatField(env, sd1, floatW_val_fieldID, __nsd1);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dsbmv_)(const char *uplo, int *n, int *k, double *alpha, double *a, int *lda, double *x, int *incx, double *beta, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsbmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
@@ -764,6 +1652,37 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsbmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint k, jdouble alpha, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx, jdouble beta, jobject y, jint offsety, jint incy) {
+  if (!dsbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  double *__ny = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  dsbmv_(__nuplo, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*ssbmv_)(const char *uplo, int *n, int *k, float *alpha, float *a, int *lda, float *x, int *incx, float *beta, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssbmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx, jfloat beta, jfloatArray y, jint offsety, jint incy) {
@@ -800,6 +1719,37 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_ssbmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint k, jfloat alpha, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx, jfloat beta, jobject y, jint offsety, jint incy) {
+  if (!ssbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  float *__ny = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  ssbmv_(__nuplo, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dscal_)(int *n, double *alpha, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dscalK(JNIEnv *env, UNUSED jobject obj, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx) {
@@ -808,20 +1758,53 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dscalK(JNIEnv *env, UNUSED jobject obj
   int __nn __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
   int __nincx __attribute__((aligned(8)));
-  double *__nx = NULL;
+  double *__nx = NULL;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  dscal_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dscalDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jdouble alpha, jobject x, jint offsetx, jint incx) {
+  if (!dscal_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__nx = NULL;
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  dscal_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+static void (*sscal_)(int *n, float *alpha, float *x, int *incx);
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sscalK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx) {
+  if (!sscal_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__nx = NULL;
   __nn = n;
   __nalpha = alpha;
   __nincx = incx;
   if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
-  dscal_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx);
+  sscal_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx);
 done:
   if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
-static void (*sscal_)(int *n, float *alpha, float *x, int *incx);
-
-void Java_dev_ludovic_netlib_blas_JNIBLAS_sscalK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx) {
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sscalDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jfloat alpha, jobject x, jint offsetx, jint incx) {
   if (!sscal_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
   jboolean __failed = FALSE;
   int __nn __attribute__((aligned(8)));
@@ -831,10 +1814,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_sscalK(JNIEnv *env, UNUSED jobject obj
   __nn = n;
   __nalpha = alpha;
   __nincx = incx;
-  if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
   sscal_(&__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx);
 done:
-  if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
@@ -870,6 +1852,33 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dspmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jobject a, jint offseta, jobject x, jint offsetx, jint incx, jdouble beta, jobject y, jint offsety, jint incy) {
+  if (!dspmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  double *__ny = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  dspmv_(__nuplo, &__nn, &__nalpha, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sspmv_)(const char *uplo, int *n, float *alpha, float *a, float *x, int *incx, float *beta, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sspmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray a, jint offseta, jfloatArray x, jint offsetx, jint incx, jfloat beta, jfloatArray y, jint offsety, jint incy) {
@@ -902,6 +1911,33 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sspmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jobject a, jint offseta, jobject x, jint offsetx, jint incx, jfloat beta, jobject y, jint offsety, jint incy) {
+  if (!sspmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  float *__ny = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  sspmv_(__nuplo, &__nn, &__nalpha, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dspr_)(const char *uplo, int *n, double *alpha, double *x, int *incx, double *a);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsprK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray a, jint offseta) {
@@ -927,6 +1963,27 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsprDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jobject x, jint offsetx, jint incx, jobject a, jint offseta) {
+  if (!dspr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  dspr_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __na ? __na + offseta : NULL);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sspr_)(const char *uplo, int *n, float *alpha, float *x, int *incx, float *a);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssprK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray a, jint offseta) {
@@ -952,6 +2009,27 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_ssprDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jobject x, jint offsetx, jint incx, jobject a, jint offseta) {
+  if (!sspr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  sspr_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __na ? __na + offseta : NULL);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dspr2_)(const char *uplo, int *n, double *alpha, double *x, int *incx, double *y, int *incy, double *a);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dspr2K(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy, jdoubleArray a, jint offseta) {
@@ -982,6 +2060,31 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dspr2DirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy, jobject a, jint offseta) {
+  if (!dspr2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  double *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  dspr2_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sspr2_)(const char *uplo, int *n, float *alpha, float *x, int *incx, float *y, int *incy, float *a);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sspr2K(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy, jfloatArray a, jint offseta) {
@@ -1012,6 +2115,31 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sspr2DirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy, jobject a, jint offseta) {
+  if (!sspr2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  float *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  sspr2_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dswap_)(int *n, double *x, int *incx, double *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dswapK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy) {
@@ -1034,6 +2162,24 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dswapDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!dswap_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  dswap_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sswap_)(int *n, float *x, int *incx, float *y, int *incy);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_sswapK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy) {
@@ -1056,6 +2202,24 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_sswapDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy) {
+  if (!sswap_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  __nn = n;
+  __nincx = incx;
+  __nincy = incy;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  sswap_(&__nn, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dsymm_)(const char *side, const char *uplo, int *m, int *n, double *alpha, double *a, int *lda, double *b, int *ldb, double *beta, double *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jint m, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb, jdouble beta, jdoubleArray c, jint offsetc, jint ldc) {
@@ -1095,6 +2259,40 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymmDirectK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jint m, jint n, jdouble alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jdouble beta, jobject c, jint offsetc, jint ldc) {
+  if (!dsymm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nside = NULL;
+  const char *__nuplo = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nb = NULL;
+  double *__nc = NULL;
+  if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  dsymm_(__nside, __nuplo, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*ssymm_)(const char *side, const char *uplo, int *m, int *n, float *alpha, float *a, int *lda, float *b, int *ldb, float *beta, float *c, int *ldc);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssymmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jint m, jint n, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
@@ -1134,9 +2332,75 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_ssymmDirectK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jint m, jint n, jfloat alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jfloat beta, jobject c, jint offsetc, jint ldc) {
+  if (!ssymm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nside = NULL;
+  const char *__nuplo = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nb = NULL;
+  float *__nc = NULL;
+  if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  ssymm_(__nside, __nuplo, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dsymv_)(const char *uplo, int *n, double *alpha, double *a, int *lda, double *x, int *incx, double *beta, double *y, int *incy);
 
-void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx, jdouble beta, jdoubleArray y, jint offsety, jint incy) {
+  if (!dsymv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  double *__ny = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  dsymv_(__nuplo, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
+  if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx, jdouble beta, jobject y, jint offsety, jint incy) {
   if (!dsymv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
   jboolean __failed = FALSE;
   const char *__nuplo = NULL;
@@ -1156,14 +2420,11 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsymvK(JNIEnv *env, UNUSED jobject obj
   __nincx = incx;
   __nbeta = beta;
   __nincy = incy;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
-  if (y) { if (!(__ny = (*env)->GetPrimitiveArrayCritical(env, y, NULL))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
   dsymv_(__nuplo, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
 done:
-  if (__ny) (*env)->ReleasePrimitiveArrayCritical(env, y, __ny, __failed ? JNI_ABORT : 0);
-  if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, JNI_ABORT);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
@@ -1202,6 +2463,35 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_ssymvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx, jfloat beta, jobject y, jint offsety, jint incy) {
+  if (!ssymv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  float *__ny = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nincx = incx;
+  __nbeta = beta;
+  __nincy = incy;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  ssymv_(__nuplo, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx, &__nbeta, __ny ? __ny + offsety : NULL, &__nincy);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dsyr_)(const char *uplo, int *n, double *alpha, double *x, int *incx, double *a, int *lda);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray a, jint offseta, jint lda) {
@@ -1229,6 +2519,29 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jobject x, jint offsetx, jint incx, jobject a, jint offseta, jint lda) {
+  if (!dsyr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nlda = lda;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  dsyr_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __na ? __na + offseta : NULL, &__nlda);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*ssyr_)(const char *uplo, int *n, float *alpha, float *x, int *incx, float *a, int *lda);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray a, jint offseta, jint lda) {
@@ -1256,6 +2569,29 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jobject x, jint offsetx, jint incx, jobject a, jint offseta, jint lda) {
+  if (!ssyr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nlda = lda;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  ssyr_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __na ? __na + offseta : NULL, &__nlda);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dsyr2_)(const char *uplo, int *n, double *alpha, double *x, int *incx, double *y, int *incy, double *a, int *lda);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2K(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jdoubleArray x, jint offsetx, jint incx, jdoubleArray y, jint offsety, jint incy, jdoubleArray a, jint offseta, jint lda) {
@@ -1288,6 +2624,33 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2DirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdouble alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy, jobject a, jint offseta, jint lda) {
+  if (!dsyr2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  double *__nx = NULL;
+  double *__ny = NULL;
+  double *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  __nlda = lda;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  dsyr2_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*ssyr2_)(const char *uplo, int *n, float *alpha, float *x, int *incx, float *y, int *incy, float *a, int *lda);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2K(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jfloatArray x, jint offsetx, jint incx, jfloatArray y, jint offsety, jint incy, jfloatArray a, jint offseta, jint lda) {
@@ -1320,10 +2683,183 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2DirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloat alpha, jobject x, jint offsetx, jint incx, jobject y, jint offsety, jint incy, jobject a, jint offseta, jint lda) {
+  if (!ssyr2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  int __nincy __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  float *__nx = NULL;
+  float *__ny = NULL;
+  float *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nalpha = alpha;
+  __nincx = incx;
+  __nincy = incy;
+  __nlda = lda;
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  if (y) { if (!(__ny = (*env)->GetDirectBufferAddress(env, y))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  ssyr2_(__nuplo, &__nn, &__nalpha, __nx ? __nx + offsetx : NULL, &__nincx, __ny ? __ny + offsety : NULL, &__nincy, __na ? __na + offseta : NULL, &__nlda);
+done:
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dsyr2k_)(const char *uplo, const char *trans, int *n, int *k, double *alpha, double *a, int *lda, double *b, int *ldb, double *beta, double *c, int *ldc);
 
-void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2kK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb, jdouble beta, jdoubleArray c, jint offsetc, jint ldc) {
-  if (!dsyr2k_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2kK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb, jdouble beta, jdoubleArray c, jint offsetc, jint ldc) {
+  if (!dsyr2k_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nb = NULL;
+  double *__nc = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  dsyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+done:
+  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2kDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jdouble alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jdouble beta, jobject c, jint offsetc, jint ldc) {
+  if (!dsyr2k_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nb = NULL;
+  double *__nc = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  dsyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+done:
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+static void (*ssyr2k_)(const char *uplo, const char *trans, int *n, int *k, float *alpha, float *a, int *lda, float *b, int *ldb, float *beta, float *c, int *ldc);
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2kK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
+  if (!ssyr2k_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nb = NULL;
+  float *__nc = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  ssyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+done:
+  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
+  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2kDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jfloat alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jfloat beta, jobject c, jint offsetc, jint ldc) {
+  if (!ssyr2k_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
+  int __nldc __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nb = NULL;
+  float *__nc = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nk = k;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  __nbeta = beta;
+  __nldc = ldc;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  ssyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+done:
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+static void (*dsyrk_)(const char *uplo, const char *trans, int *n, int *k, double *alpha, double *a, int *lda, double *beta, double *c, int *ldc);
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrkK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdouble beta, jdoubleArray c, jint offsetc, jint ldc) {
+  if (!dsyrk_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
   jboolean __failed = FALSE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
@@ -1331,11 +2867,9 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2kK(JNIEnv *env, UNUSED jobject ob
   int __nk __attribute__((aligned(8)));
   double __nalpha __attribute__((aligned(8)));
   int __nlda __attribute__((aligned(8)));
-  int __nldb __attribute__((aligned(8)));
   double __nbeta __attribute__((aligned(8)));
   int __nldc __attribute__((aligned(8)));
   double *__na = NULL;
-  double *__nb = NULL;
   double *__nc = NULL;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
@@ -1343,76 +2877,64 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyr2kK(JNIEnv *env, UNUSED jobject ob
   __nk = k;
   __nalpha = alpha;
   __nlda = lda;
-  __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
   if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  dsyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  dsyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
 done:
   if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
-static void (*ssyr2k_)(const char *uplo, const char *trans, int *n, int *k, float *alpha, float *a, int *lda, float *b, int *ldb, float *beta, float *c, int *ldc);
-
-void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyr2kK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
-  if (!ssyr2k_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrkDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jdouble alpha, jobject a, jint offseta, jint lda, jdouble beta, jobject c, jint offsetc, jint ldc) {
+  if (!dsyrk_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
   jboolean __failed = FALSE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   int __nn __attribute__((aligned(8)));
   int __nk __attribute__((aligned(8)));
-  float __nalpha __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
   int __nlda __attribute__((aligned(8)));
-  int __nldb __attribute__((aligned(8)));
-  float __nbeta __attribute__((aligned(8)));
+  double __nbeta __attribute__((aligned(8)));
   int __nldc __attribute__((aligned(8)));
-  float *__na = NULL;
-  float *__nb = NULL;
-  float *__nc = NULL;
+  double *__na = NULL;
+  double *__nc = NULL;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nk = k;
   __nalpha = alpha;
   __nlda = lda;
-  __nldb = ldb;
   __nbeta = beta;
   __nldc = ldc;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (b) { if (!(__nb = (*env)->GetPrimitiveArrayCritical(env, b, NULL))) { __failed = TRUE; goto done; } }
-  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  ssyr2k_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  dsyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
 done:
-  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__nb) (*env)->ReleasePrimitiveArrayCritical(env, b, __nb, JNI_ABORT);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
-static void (*dsyrk_)(const char *uplo, const char *trans, int *n, int *k, double *alpha, double *a, int *lda, double *beta, double *c, int *ldc);
+static void (*ssyrk_)(const char *uplo, const char *trans, int *n, int *k, float *alpha, float *a, int *lda, float *beta, float *c, int *ldc);
 
-void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrkK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdouble beta, jdoubleArray c, jint offsetc, jint ldc) {
-  if (!dsyrk_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrkK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
+  if (!ssyrk_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
   jboolean __failed = FALSE;
   const char *__nuplo = NULL;
   const char *__ntrans = NULL;
   int __nn __attribute__((aligned(8)));
   int __nk __attribute__((aligned(8)));
-  double __nalpha __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
   int __nlda __attribute__((aligned(8)));
-  double __nbeta __attribute__((aligned(8)));
+  float __nbeta __attribute__((aligned(8)));
   int __nldc __attribute__((aligned(8)));
-  double *__na = NULL;
-  double *__nc = NULL;
+  float *__na = NULL;
+  float *__nc = NULL;
   if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
   if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
@@ -1423,7 +2945,7 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_dsyrkK(JNIEnv *env, UNUSED jobject obj
   __nldc = ldc;
   if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
   if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
-  dsyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
+  ssyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
 done:
   if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
   if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
@@ -1432,9 +2954,7 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
-static void (*ssyrk_)(const char *uplo, const char *trans, int *n, int *k, float *alpha, float *a, int *lda, float *beta, float *c, int *ldc);
-
-void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrkK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloat beta, jfloatArray c, jint offsetc, jint ldc) {
+void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrkDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jint n, jint k, jfloat alpha, jobject a, jint offseta, jint lda, jfloat beta, jobject c, jint offsetc, jint ldc) {
   if (!ssyrk_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
   jboolean __failed = FALSE;
   const char *__nuplo = NULL;
@@ -1455,12 +2975,10 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_ssyrkK(JNIEnv *env, UNUSED jobject obj
   __nlda = lda;
   __nbeta = beta;
   __nldc = ldc;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (c) { if (!(__nc = (*env)->GetPrimitiveArrayCritical(env, c, NULL))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
   ssyrk_(__nuplo, __ntrans, &__nn, &__nk, &__nalpha, __na ? __na + offseta : NULL, &__nlda, &__nbeta, __nc ? __nc + offsetc : NULL, &__nldc);
 done:
-  if (__nc) (*env)->ReleasePrimitiveArrayCritical(env, c, __nc, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
@@ -1499,6 +3017,35 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dtbmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx) {
+  if (!dtbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nk = k;
+  __nlda = lda;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  dtbmv_(__nuplo, __ntrans, __ndiag, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*stbmv_)(const char *uplo, const char *trans, const char *diag, int *n, int *k, float *a, int *lda, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_stbmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx) {
@@ -1532,6 +3079,35 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_stbmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx) {
+  if (!stbmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nk = k;
+  __nlda = lda;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  stbmv_(__nuplo, __ntrans, __ndiag, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dtbsv_)(const char *uplo, const char *trans, const char *diag, int *n, int *k, double *a, int *lda, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtbsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx) {
@@ -1565,6 +3141,35 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dtbsvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx) {
+  if (!dtbsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nk = k;
+  __nlda = lda;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  dtbsv_(__nuplo, __ntrans, __ndiag, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*stbsv_)(const char *uplo, const char *trans, const char *diag, int *n, int *k, float *a, int *lda, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_stbsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx) {
@@ -1598,6 +3203,35 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_stbsvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jint k, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx) {
+  if (!stbsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nk = k;
+  __nlda = lda;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  stbsv_(__nuplo, __ntrans, __ndiag, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dtpmv_)(const char *uplo, const char *trans, const char *diag, int *n, double *a, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtpmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jdoubleArray a, jint offseta, jdoubleArray x, jint offsetx, jint incx) {
@@ -1627,6 +3261,31 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dtpmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jobject a, jint offseta, jobject x, jint offsetx, jint incx) {
+  if (!dtpmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  dtpmv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*stpmv_)(const char *uplo, const char *trans, const char *diag, int *n, float *a, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_stpmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jfloatArray a, jint offseta, jfloatArray x, jint offsetx, jint incx) {
@@ -1656,6 +3315,31 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_stpmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jobject a, jint offseta, jobject x, jint offsetx, jint incx) {
+  if (!stpmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  stpmv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dtpsv_)(const char *uplo, const char *trans, const char *diag, int *n, double *a, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtpsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jdoubleArray a, jint offseta, jdoubleArray x, jint offsetx, jint incx) {
@@ -1685,9 +3369,61 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
-static void (*stpsv_)(const char *uplo, const char *trans, const char *diag, int *n, float *a, float *x, int *incx);
-
-void Java_dev_ludovic_netlib_blas_JNIBLAS_stpsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jfloatArray a, jint offseta, jfloatArray x, jint offsetx, jint incx) {
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dtpsvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jobject a, jint offseta, jobject x, jint offsetx, jint incx) {
+  if (!dtpsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  dtpsv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+static void (*stpsv_)(const char *uplo, const char *trans, const char *diag, int *n, float *a, float *x, int *incx);
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_stpsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jfloatArray a, jint offseta, jfloatArray x, jint offsetx, jint incx) {
+  if (!stpsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  stpsv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_blas_JNIBLAS_stpsvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jobject a, jint offseta, jobject x, jint offsetx, jint incx) {
   if (!stpsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
   jboolean __failed = FALSE;
   const char *__nuplo = NULL;
@@ -1702,12 +3438,10 @@ void Java_dev_ludovic_netlib_blas_JNIBLAS_stpsvK(JNIEnv *env, UNUSED jobject obj
   if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
   __nn = n;
   __nincx = incx;
-  if (a) { if (!(__na = (*env)->GetPrimitiveArrayCritical(env, a, NULL))) { __failed = TRUE; goto done; } }
-  if (x) { if (!(__nx = (*env)->GetPrimitiveArrayCritical(env, x, NULL))) { __failed = TRUE; goto done; } }
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
   stpsv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, __nx ? __nx + offsetx : NULL, &__nincx);
 done:
-  if (__nx) (*env)->ReleasePrimitiveArrayCritical(env, x, __nx, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, JNI_ABORT);
   if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
   if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
   if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
@@ -1752,6 +3486,40 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrmmDirectK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jdouble alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb) {
+  if (!dtrmm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nside = NULL;
+  const char *__nuplo = NULL;
+  const char *__ntransa = NULL;
+  const char *__ndiag = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nb = NULL;
+  if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  dtrmm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*strmm_)(const char *side, const char *uplo, const char *transa, const char *diag, int *m, int *n, float *alpha, float *a, int *lda, float *b, int *ldb);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_strmmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb) {
@@ -1790,6 +3558,40 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_strmmDirectK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jfloat alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb) {
+  if (!strmm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nside = NULL;
+  const char *__nuplo = NULL;
+  const char *__ntransa = NULL;
+  const char *__ndiag = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nb = NULL;
+  if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  strmm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dtrmv_)(const char *uplo, const char *trans, const char *diag, int *n, double *a, int *lda, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx) {
@@ -1821,6 +3623,33 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx) {
+  if (!dtrmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  dtrmv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*strmv_)(const char *uplo, const char *trans, const char *diag, int *n, float *a, int *lda, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_strmvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx) {
@@ -1852,6 +3681,33 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_strmvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx) {
+  if (!strmv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  strmv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dtrsm_)(const char *side, const char *uplo, const char *transa, const char *diag, int *m, int *n, double *alpha, double *a, int *lda, double *b, int *ldb);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrsmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jdouble alpha, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb) {
@@ -1890,6 +3746,40 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrsmDirectK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jdouble alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb) {
+  if (!dtrsm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nside = NULL;
+  const char *__nuplo = NULL;
+  const char *__ntransa = NULL;
+  const char *__ndiag = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  double __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nb = NULL;
+  if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  dtrsm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*strsm_)(const char *side, const char *uplo, const char *transa, const char *diag, int *m, int *n, float *alpha, float *a, int *lda, float *b, int *ldb);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_strsmK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jfloat alpha, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb) {
@@ -1928,6 +3818,40 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_strsmDirectK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring uplo, jstring transa, jstring diag, jint m, jint n, jfloat alpha, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb) {
+  if (!strsm_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nside = NULL;
+  const char *__nuplo = NULL;
+  const char *__ntransa = NULL;
+  const char *__ndiag = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  float __nalpha __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nb = NULL;
+  if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntransa = (*env)->GetStringUTFChars(env, transa, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nalpha = alpha;
+  __nlda = lda;
+  __nldb = ldb;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  strsm_(__nside, __nuplo, __ntransa, __ndiag, &__nm, &__nn, &__nalpha, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntransa) (*env)->ReleaseStringUTFChars(env, transa, __ntransa);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dtrsv_)(const char *uplo, const char *trans, const char *diag, int *n, double *a, int *lda, double *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray x, jint offsetx, jint incx) {
@@ -1959,6 +3883,33 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_dtrsvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx) {
+  if (!dtrsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  double *__na = NULL;
+  double *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  dtrsv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*strsv_)(const char *uplo, const char *trans, const char *diag, int *n, float *a, int *lda, float *x, int *incx);
 
 void Java_dev_ludovic_netlib_blas_JNIBLAS_strsvK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray x, jint offsetx, jint incx) {
@@ -1990,6 +3941,33 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_blas_JNIBLAS_strsvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jstring trans, jstring diag, jint n, jobject a, jint offseta, jint lda, jobject x, jint offsetx, jint incx) {
+  if (!strsv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  const char *__ntrans = NULL;
+  const char *__ndiag = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nincx __attribute__((aligned(8)));
+  float *__na = NULL;
+  float *__nx = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ndiag = (*env)->GetStringUTFChars(env, diag, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nincx = incx;
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (x) { if (!(__nx = (*env)->GetDirectBufferAddress(env, x))) { __failed = TRUE; goto done; } }
+  strsv_(__nuplo, __ntrans, __ndiag, &__nn, __na ? __na + offseta : NULL, &__nlda, __nx ? __nx + offsetx : NULL, &__nincx);
+done:
+  if (__ndiag) (*env)->ReleaseStringUTFChars(env, diag, __ndiag);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static int (*idamax_)(int *n, double *dx, int *incdx);
 
 jint Java_dev_ludovic_netlib_blas_JNIBLAS_idamaxK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray dx, jint offsetdx, jint incdx) {
@@ -2009,6 +3987,22 @@ done:
   return __ret;
 }
 
+jint Java_dev_ludovic_netlib_blas_JNIBLAS_idamaxDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject dx, jint offsetdx, jint incdx) {
+  if (!idamax_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jint __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincdx __attribute__((aligned(8)));
+  double *__ndx = NULL;
+  __nn = n;
+  __nincdx = incdx;
+  if (dx) { if (!(__ndx = (*env)->GetDirectBufferAddress(env, dx))) { __failed = TRUE; goto done; } }
+  __ret = idamax_(&__nn, __ndx ? __ndx + offsetdx : NULL, &__nincdx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
 static int (*isamax_)(int *n, float *sx, int *incsx);
 
 jint Java_dev_ludovic_netlib_blas_JNIBLAS_isamaxK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray sx, jint offsetsx, jint incsx) {
@@ -2028,6 +4022,22 @@ done:
   return __ret;
 }
 
+jint Java_dev_ludovic_netlib_blas_JNIBLAS_isamaxDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject sx, jint offsetsx, jint incsx) {
+  if (!isamax_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jint __ret = 0;
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nincsx __attribute__((aligned(8)));
+  float *__nsx = NULL;
+  __nn = n;
+  __nincsx = incsx;
+  if (sx) { if (!(__nsx = (*env)->GetDirectBufferAddress(env, sx))) { __failed = TRUE; goto done; } }
+  __ret = isamax_(&__nn, __nsx ? __nsx + offsetsx : NULL, &__nincsx);
+done:
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+  return __ret;
+}
+
 jboolean get_system_property(JNIEnv *env, jstring key, jstring def, jstring *res) {
   jclass System_class = (*env)->FindClass(env, "java/lang/System");
   if (!System_class) {
@@ -2058,6 +4068,8 @@ jboolean load_symbols(void) {
   LOAD_SYMBOL(sgbmv_);
   LOAD_SYMBOL(dgemm_);
   LOAD_SYMBOL(sgemm_);
+  LOAD_SYMBOL(shgemm_);
+  LOAD_SYMBOL(sbgemm_);
   LOAD_SYMBOL(dgemv_);
   LOAD_SYMBOL(sgemv_);
   LOAD_SYMBOL(dger_);
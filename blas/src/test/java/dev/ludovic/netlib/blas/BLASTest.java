@@ -29,6 +29,10 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -48,7 +52,8 @@ public class BLASTest {
       Arguments.of(NativeBLAS.getInstance()),
       Arguments.of(JavaBLAS.getInstance()),
       Arguments.of(F2jBLAS.getInstance()),
-      Arguments.of(JNIBLAS.getInstance())
+      Arguments.of(JNIBLAS.getInstance()),
+      Arguments.of(new HybridBLAS(JavaBLAS.getInstance(), NativeBLAS.getInstance()))
     );
 
     String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 3);
@@ -68,6 +73,11 @@ public class BLASTest {
         Arguments.of(VectorBLAS.getInstance())
       ));
     }
+    if (major >= 22) {
+      instances = Stream.concat(instances, Stream.of(
+        Arguments.of(Class.forName("dev.ludovic.netlib.blas.ForeignBLAS").getMethod("getInstance").invoke(null))
+      ));
+    }
 
     return instances;
   }
@@ -128,6 +138,23 @@ public class BLASTest {
     return result;
   }
 
+  protected static final double[] extractBand(String uplo, double[] arr, int n, int k, int ldarr) {
+    assert n <= ldarr;
+    double[] result = new double[n * (k + 1)];
+    for (int col = 0; col < n; col += 1) {
+      if (uplo.equals("U")) {
+        for (int row = Math.max(0, col - k); row < col + 1; row += 1) {
+          result[k + row - col + col * (k + 1)] = arr[row + col * ldarr];
+        }
+      } else {
+        for (int row = col; row < Math.min(n, col + k + 1); row += 1) {
+          result[row - col + col * (k + 1)] = arr[row + col * ldarr];
+        }
+      }
+    }
+    return result;
+  }
+
   protected static final double[] extractSymmetric(double[] arr, int n, int ldarr) {
     assert n <= ldarr;
     double[] result = new double[n * n];
@@ -139,6 +166,17 @@ public class BLASTest {
     return result;
   }
 
+  protected static final double[] wellConditioned(double[] arr, int n, int ldarr) {
+    assert n <= ldarr;
+    double[] result = new double[n * n];
+    for (int col = 0; col < n; col += 1) {
+      for (int row = 0; row < n; row += 1) {
+        result[row + col * n] = row == col ? 1.0 + arr[row + col * ldarr] : arr[row + col * ldarr] / n;
+      }
+    }
+    return result;
+  }
+
   protected static final float[] convertToFloat(double[] src) {
     float[] result = new float[src.length];
     for (int i = 0; i < src.length; i += 1) {
@@ -147,6 +185,100 @@ public class BLASTest {
     return result;
   }
 
+  // Rounds toward zero, to the nearest bfloat16 only for the values with at most 8 significant bits
+  protected static final short[] convertToBfloat16(float[] src) {
+    short[] result = new short[src.length];
+    for (int i = 0; i < src.length; i += 1) {
+      result[i] = (short)(Float.floatToRawIntBits(src[i]) >>> 16);
+    }
+    return result;
+  }
+
+  protected static final float[] bfloat16ToFloat(short[] src) {
+    float[] result = new float[src.length];
+    for (int i = 0; i < src.length; i += 1) {
+      result[i] = Float.intBitsToFloat(src[i] << 16);
+    }
+    return result;
+  }
+
+  // Rounds toward zero, overflowing to infinity and underflowing to subnormals and zero
+  protected static final short[] convertToHalf(float[] src) {
+    short[] result = new short[src.length];
+    for (int i = 0; i < src.length; i += 1) {
+      int bits = Float.floatToRawIntBits(src[i]);
+      int sign = (bits >>> 16) & 0x8000, exponent = ((bits >>> 23) & 0xff) - 127 + 15, mantissa = bits & 0x7fffff;
+      if (exponent >= 0x1f) {
+        result[i] = (short)(sign | 0x7c00);
+      } else if (exponent <= 0) {
+        result[i] = (short)(sign | (exponent < -10 ? 0 : (mantissa | 0x800000) >> (14 - exponent)));
+      } else {
+        result[i] = (short)(sign | exponent << 10 | mantissa >> 13);
+      }
+    }
+    return result;
+  }
+
+  protected static final float halfToFloat(short half) {
+    int exponent = (half >>> 10) & 0x1f, mantissa = half & 0x3ff;
+    float magnitude = exponent == 0 ? Math.scalb((float)mantissa, -24)
+                    : exponent == 0x1f ? (mantissa == 0 ? Float.POSITIVE_INFINITY : Float.NaN)
+                    : Math.scalb((float)(0x400 + mantissa), exponent - 25);
+    return (half & 0x8000) != 0 ? -magnitude : magnitude;
+  }
+
+  protected static final float[] halfToFloat(short[] src) {
+    float[] result = new float[src.length];
+    for (int i = 0; i < src.length; i += 1) {
+      result[i] = halfToFloat(src[i]);
+    }
+    return result;
+  }
+
+  protected static final ByteOrder foreignOrder =
+    ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+
+  // arr is stored from index offset onwards
+  protected static final DoubleBuffer directBuffer(double[] arr, int offset, ByteOrder order) {
+    DoubleBuffer result = ByteBuffer.allocateDirect((offset + arr.length) * 8).order(order).asDoubleBuffer();
+    for (int i = 0; i < arr.length; i += 1) {
+      result.put(offset + i, arr[i]);
+    }
+    return result;
+  }
+
+  protected static final DoubleBuffer directBuffer(double[] arr) {
+    return directBuffer(arr, 0, ByteOrder.nativeOrder());
+  }
+
+  protected static final FloatBuffer directBuffer(float[] arr, int offset, ByteOrder order) {
+    FloatBuffer result = ByteBuffer.allocateDirect((offset + arr.length) * 4).order(order).asFloatBuffer();
+    for (int i = 0; i < arr.length; i += 1) {
+      result.put(offset + i, arr[i]);
+    }
+    return result;
+  }
+
+  protected static final FloatBuffer directBuffer(float[] arr) {
+    return directBuffer(arr, 0, ByteOrder.nativeOrder());
+  }
+
+  protected static final double[] toArray(DoubleBuffer buffer, int offset) {
+    double[] result = new double[buffer.limit() - offset];
+    for (int i = 0; i < result.length; i += 1) {
+      result[i] = buffer.get(offset + i);
+    }
+    return result;
+  }
+
+  protected static final float[] toArray(FloatBuffer buffer, int offset) {
+    float[] result = new float[buffer.limit() - offset];
+    for (int i = 0; i < result.length; i += 1) {
+      result[i] = buffer.get(offset + i);
+    }
+    return result;
+  }
+
   protected static final void dumpArray(String name, double[] arr) {
     System.out.print(name + ": ");
     for(double e : arr) {
@@ -169,6 +301,9 @@ public class BLASTest {
   // double[m, m]
   protected final double[] dsyA = extractSymmetric(dgeA, M, M);
 
+  // double[m, m], its triangles are well-conditioned, with or without the diagonal
+  protected final double[] dtrA = wellConditioned(dgeA, M, M);
+
   // double[m]
   protected final double[] dX = readArray("/X.vec");
   // double[m]
@@ -194,6 +329,9 @@ public class BLASTest {
   // float[m, m]
   protected final float[] ssyA = convertToFloat(dsyA);
 
+  // float[m, m]
+  protected final float[] strA = convertToFloat(dtrA);
+
   // double[m]
   protected final float[] sX = convertToFloat(dX);
   // double[m]
@@ -37,4 +37,15 @@ public class DasumTest extends BLASTest {
     void testSanity(BLAS blas) {
         assertEquals(f2j.dasum(M, dX, 1), blas.dasum(M, dX, 1), depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        // rows of a column-major matrix, and every other or third element of a vector
+        for (int inc : new int[] { 2, 3, M }) {
+            assertEquals(f2j.dasum(K, dgeA, 1, inc), blas.dasum(K, dgeA, 1, inc), depsilon);
+        }
+        // a stride large enough for each element to be in a different page
+        assertEquals(f2j.dasum(10, dgeA, 1, 1024), blas.dasum(10, dgeA, 1, 1024), depsilon);
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DaxpbyTest extends BLASTest {
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        double[] expected, dYcopy;
+
+        for (double[] ab : new double[][] { { 2.0, 1.0 }, { 2.0, 0.5 }, { -1.0, -2.0 }, { 0.0, 0.5 }, { 2.0, 0.0 }, { 0.0, 1.0 } }) {
+            expected = dY.clone();
+            f2j.dscal(M, ab[1], expected, 1);
+            f2j.daxpy(M, ab[0], dX, 1, expected, 1);
+            blas.daxpby(M, ab[0], dX, 1, ab[1], dYcopy = dY.clone(), 1);
+            assertArrayEquals(expected, dYcopy, depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeBcopy;
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1 }, { M, K }, { M, -2 }, { -M, 3 }, { -2, -K } }) {
+            expected = dgeB.clone();
+            f2j.dscal(K, 0.5, expected, 2, Math.abs(inc[1]));
+            f2j.daxpy(K, 2.0, dgeA, 1, inc[0], expected, 2, inc[1]);
+            blas.daxpby(K, 2.0, dgeA, 1, inc[0], 0.5, dgeBcopy = dgeB.clone(), 2, inc[1]);
+            assertArrayEquals(expected, dgeBcopy, depsilon);
+        }
+
+        // a stride large enough for each element to be in a different page
+        expected = dgeB.clone();
+        f2j.dscal(10, 0.5, expected, 2, 1024);
+        f2j.daxpy(10, 2.0, dgeA, 1, 1024, expected, 2, -1024);
+        blas.daxpby(10, 2.0, dgeA, 1, 1024, 0.5, dgeBcopy = dgeB.clone(), 2, -1024);
+        assertArrayEquals(expected, dgeBcopy, depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBetaZeroIgnoresY(BLAS blas) {
+        double[] expected = new double[M], dYcopy = new double[M];
+        java.util.Arrays.fill(dYcopy, Double.NaN);
+
+        f2j.daxpy(M, 2.0, dX, 1, expected, 1);
+        blas.daxpby(M, 2.0, dX, 1, 0.0, dYcopy, 1);
+        assertArrayEquals(expected, dYcopy, depsilon);
+    }
+}
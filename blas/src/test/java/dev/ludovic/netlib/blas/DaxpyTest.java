@@ -25,6 +25,10 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -49,4 +53,47 @@ public class DaxpyTest extends BLASTest {
         blas.daxpy(M, -1.0, dX, 1, dYcopy = dY.clone(), 1);
         assertArrayEquals(expected, dYcopy, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeBcopy;
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1 }, { M, K }, { M, -2 }, { -M, 3 }, { -2, -K } }) {
+            f2j.daxpy(K, 2.0, dgeA, 1, inc[0], expected = dgeB.clone(), 2, inc[1]);
+            blas.daxpy(K, 2.0, dgeA, 1, inc[0], dgeBcopy = dgeB.clone(), 2, inc[1]);
+            assertArrayEquals(expected, dgeBcopy, depsilon);
+        }
+
+        // a stride large enough for each element to be in a different page
+        f2j.daxpy(10, 2.0, dgeA, 1, 1024, expected = dgeB.clone(), 2, -1024);
+        blas.daxpy(10, 2.0, dgeA, 1, 1024, dgeBcopy = dgeB.clone(), 2, -1024);
+        assertArrayEquals(expected, dgeBcopy, depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffers(BLAS blas) {
+        double[] expected;
+        DoubleBuffer y;
+
+        f2j.daxpy(M, 2.0, dX, 1, expected = dY.clone(), 1);
+
+        blas.daxpy(M, 2.0, directBuffer(dX), 1, y = directBuffer(dY), 1);
+        assertArrayEquals(expected, toArray(y, 0), depsilon);
+
+        blas.daxpy(M, 2.0, DoubleBuffer.wrap(dX).asReadOnlyBuffer(), 1, y = DoubleBuffer.wrap(dY.clone()), 1);
+        assertArrayEquals(expected, toArray(y, 0), depsilon);
+
+        blas.daxpy(M, 2.0, directBuffer(dX, 3, ByteOrder.nativeOrder()), 3, 1, y = directBuffer(dY, 5, foreignOrder), 5, 1);
+        assertArrayEquals(expected, toArray(y, 5), depsilon);
+
+        blas.daxpy(M, 2.0, directBuffer(dX).asReadOnlyBuffer(), 1, y = directBuffer(dY).duplicate(), 1);
+        assertArrayEquals(expected, toArray(y, 0), depsilon);
+
+        assertThrows(ReadOnlyBufferException.class, () -> {
+            blas.daxpy(M, 2.0, directBuffer(dX), 1, directBuffer(dY).asReadOnlyBuffer(), 1);
+        });
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DaxpydotTest extends BLASTest {
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        double[] expected, dYcopy;
+
+        for (double alpha : new double[] { 2.0, -0.5, 0.0 }) {
+            f2j.daxpy(M, alpha, dX, 1, expected = dY.clone(), 1);
+            double dot = f2j.ddot(M, expected, 1, dgeA, 1);
+            assertEquals(dot, blas.daxpydot(M, alpha, dX, 1, dYcopy = dY.clone(), 1, dgeA, 1), depsilon);
+            assertArrayEquals(expected, dYcopy, depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testZIsY(BLAS blas) {
+        double[] expected, dYcopy;
+
+        f2j.daxpy(M, 2.0, dX, 1, expected = dY.clone(), 1);
+        double dot = f2j.ddot(M, expected, 1, expected, 1);
+        dYcopy = dY.clone();
+        assertEquals(dot, blas.daxpydot(M, 2.0, dX, 1, dYcopy, 1, dYcopy, 1), depsilon);
+        assertArrayEquals(expected, dYcopy, depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeBcopy;
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1, 1 }, { M, K, 2 }, { M, -2, 3 }, { -M, 3, -1 }, { -2, -K, M } }) {
+            f2j.daxpy(K, 2.0, dgeA, 1, inc[0], expected = dgeB.clone(), 2, inc[1]);
+            double dot = f2j.ddot(K, expected, 2, inc[1], dgeC, 3, inc[2]);
+            assertEquals(dot, blas.daxpydot(K, 2.0, dgeA, 1, inc[0], dgeBcopy = dgeB.clone(), 2, inc[1], dgeC, 3, inc[2]), depsilon);
+            assertArrayEquals(expected, dgeBcopy, depsilon);
+        }
+
+        // a stride large enough for each element to be in a different page
+        f2j.daxpy(10, 2.0, dgeA, 1, 1024, expected = dgeB.clone(), 2, -1024);
+        double dot = f2j.ddot(10, expected, 2, -1024, dgeC, 3, 1024);
+        assertEquals(dot, blas.daxpydot(10, 2.0, dgeA, 1, 1024, dgeBcopy = dgeB.clone(), 2, -1024, dgeC, 3, 1024), depsilon);
+        assertArrayEquals(expected, dgeBcopy, depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOutOfBoundOnlyForZ(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.daxpydot(M, 2.0, dX, 1, dY.clone(), 1, dX, 2);
+        });
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Ddot2Test extends BLASTest {
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        double[] dots = new double[2];
+        blas.ddot2(M, dX, 1, dY, 1, dgeA, 1, dots);
+        assertEquals(f2j.ddot(M, dX, 1, dY, 1), dots[0], depsilon);
+        assertEquals(f2j.ddot(M, dX, 1, dgeA, 1), dots[1], depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testNIsZero(BLAS blas) {
+        double[] dots = new double[] { 1.0, 1.0, 1.0 };
+        blas.ddot2(0, null, 0, 1, null, 0, 1, null, 0, 1, dots, 1);
+        assertArrayEquals(new double[] { 1.0, 0.0, 0.0 }, dots);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOutOfBound(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.ddot2(M, dX, 1, dY, 1, dX, 2, new double[2]);
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.ddot2(M, dX, 0, 1, dY, 0, 1, dX, 0, 1, new double[2], 1);
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] dots = new double[2];
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1, 1 }, { M, K, 2 }, { M, -2, 3 }, { -M, 3, -1 }, { -2, -K, M } }) {
+            blas.ddot2(K, dgeA, 1, inc[0], dgeB, 2, inc[1], dgeC, 3, inc[2], dots, 0);
+            assertEquals(f2j.ddot(K, dgeA, 1, inc[0], dgeB, 2, inc[1]), dots[0], depsilon);
+            assertEquals(f2j.ddot(K, dgeA, 1, inc[0], dgeC, 3, inc[2]), dots[1], depsilon);
+        }
+
+        // a stride large enough for each element to be in a different page
+        blas.ddot2(10, dgeA, 1, 1024, dgeB, 2, -1024, dgeC, 3, 1024, dots, 0);
+        assertEquals(f2j.ddot(10, dgeA, 1, 1024, dgeB, 2, -1024), dots[0], depsilon);
+        assertEquals(f2j.ddot(10, dgeA, 1, 1024, dgeC, 3, 1024), dots[1], depsilon);
+    }
+}
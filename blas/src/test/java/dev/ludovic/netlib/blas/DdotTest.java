@@ -25,6 +25,9 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -65,14 +68,41 @@ public class DdotTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testXAndYAreNullAndNIsZero(BLAS blas) {
-        assertEquals(0.0, blas.ddot(0, null, 1, null, 1));
+        assertEquals(0.0, blas.ddot(0, (double[])null, 1, (double[])null, 1));
     }
 
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testXAndYAreNullAndNIsOne(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.ddot(M, null, 1, null, 1);
+            blas.ddot(M, (double[])null, 1, (double[])null, 1);
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1 }, { M, K }, { M, -2 }, { -M, 3 }, { -2, -K } }) {
+            assertEquals(f2j.ddot(K, dgeA, 1, inc[0], dgeB, 2, inc[1]), blas.ddot(K, dgeA, 1, inc[0], dgeB, 2, inc[1]), depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffers(BLAS blas) {
+        double expected = f2j.ddot(M, dX, 1, dY, 1);
+        assertEquals(expected, blas.ddot(M, directBuffer(dX), 1, directBuffer(dY), 1), depsilon);
+        assertEquals(expected, blas.ddot(M, DoubleBuffer.wrap(dX), 1, DoubleBuffer.wrap(dY).asReadOnlyBuffer(), 1), depsilon);
+        assertEquals(expected, blas.ddot(M, directBuffer(dX, 3, foreignOrder), 3, 1, directBuffer(dY, 5, ByteOrder.nativeOrder()), 5, 1), depsilon);
+        assertEquals(f2j.ddot(M / 2, dX, 1, -2, dY, 0, 2), blas.ddot(M / 2, directBuffer(dX), 1, -2, directBuffer(dY), 0, 2), depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffersOutOfBound(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.ddot(M, directBuffer(dX), 1, 1, directBuffer(dY), 1, 1);
         });
     }
 }
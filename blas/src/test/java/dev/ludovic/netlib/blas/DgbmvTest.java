@@ -35,6 +35,33 @@ public class DgbmvTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        double[] expected, dYcopy;
+
+        // the band is read from dgeA with lda = kl + ku + 1, including with more
+        // columns than rows plus superdiagonals
+        for (String trans : new String[] { "N", "T" }) {
+            for (int[] dims : new int[][] { { M, N, 2, 3 }, { M, N / 2, 0, 5 }, { M / 2, N, 7, 0 }, { M, N, 0, 0 }, { M, N, 40, 30 }, { 10, N, 2, 3 } }) {
+                int m = dims[0], n = dims[1], kl = dims[2], ku = dims[3];
+                for (double[] alphabeta : new double[][] { { 1.0, 1.0 }, { 0.5, -0.5 }, { 0.0, 0.5 }, { -1.0, 0.0 } }) {
+                    f2j.dgbmv(trans, m, n, kl, ku, alphabeta[0], dgeA, kl + ku + 1, dX, 1, alphabeta[1], expected = dY.clone(), 1);
+                    blas.dgbmv(trans, m, n, kl, ku, alphabeta[0], dgeA, kl + ku + 1, dX, 1, alphabeta[1], dYcopy = dY.clone(), 1);
+                    assertArrayEquals(expected, dYcopy, depsilon);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeBcopy;
+
+        for (String trans : new String[] { "N", "T" }) {
+            for (int[] inc : new int[][] { { 2, 1 }, { 1, 3 }, { -2, 2 }, { 3, -1 } }) {
+                f2j.dgbmv(trans, M, N, 5, 4, 0.5, dgeA, 10, dgeB, inc[0], 2.0, expected = dgeB.clone(), inc[1]);
+                blas.dgbmv(trans, M, N, 5, 4, 0.5, dgeA, 10, dgeB, inc[0], 2.0, dgeBcopy = dgeB.clone(), inc[1]);
+                assertArrayEquals(expected, dgeBcopy, depsilon);
+            }
+        }
     }
 }
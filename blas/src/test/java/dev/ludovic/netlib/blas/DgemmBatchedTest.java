@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DgemmBatchedTest extends BLASTest {
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        java.util.Random rand = new java.util.Random(0);
+        for (int size : new int[] { 1, 4, 7, 16, 33 }) {
+            int m = size, n = size + 1, k = size + 2, batchCount = 50;
+            // the matrices of the batch are spread in any order, with gaps, in a single array
+            int[] offsetsa = new int[batchCount], offsetsb = new int[batchCount], offsetsc = new int[batchCount];
+            for (int i = 0; i < batchCount; i++) {
+                offsetsa[i] = ((i * 7) % batchCount) * (m * k + 3) + 1;
+                offsetsb[i] = ((i * 11) % batchCount) * (k * n + 5);
+                offsetsc[i] = ((i * 13) % batchCount) * (m * n + 2) + 2;
+            }
+            double[] a = new double[batchCount * (m * k + 3) + 1], b = new double[batchCount * (k * n + 5)], c = new double[batchCount * (m * n + 2) + 2];
+            for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble();
+            for (int i = 0; i < b.length; i++) b[i] = rand.nextDouble();
+            for (int i = 0; i < c.length; i++) c[i] = rand.nextDouble();
+
+            for (String transa : new String[] { "N", "T" }) {
+                for (String transb : new String[] { "N", "T" }) {
+                    int lda = transa.equals("N") ? m : k, ldb = transb.equals("N") ? k : n;
+                    for (double[] alphabeta : new double[][] { { 1.0, 2.0 }, { 2.0, 0.0 }, { 0.0, 2.0 } }) {
+                        double[] expected = c.clone(), dgeCcopy = c.clone();
+                        for (int i = 0; i < batchCount; i++) {
+                            f2j.dgemm(transa, transb, m, n, k, alphabeta[0], a, offsetsa[i], lda, b, offsetsb[i], ldb, alphabeta[1], expected, offsetsc[i], m);
+                        }
+                        blas.dgemmBatched(transa, transb, m, n, k, alphabeta[0], a, offsetsa, lda, b, offsetsb, ldb, alphabeta[1], dgeCcopy, offsetsc, m, batchCount);
+                        assertArrayEquals(expected, dgeCcopy, depsilon);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testEmpty(BLAS blas) {
+        blas.dgemmBatched("N", "N", M, N, K, 1.0, null, null, M, null, null, K, 2.0, null, null, M, 0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOutOfBound(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.dgemmBatched("N", "N", M, N, K, 1.0, dgeA, new int[] { 0, 1 }, M, dgeB, new int[] { 0, 0 }, K, 2.0, dgeC.clone(), new int[] { 0, 0 }, M, 2);
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.dgemmBatched("N", "N", M, N, K, 1.0, dgeA, new int[] { 0 }, M, dgeB, new int[] { 0, 0 }, K, 2.0, dgeC.clone(), new int[] { 0, 0 }, M, 2);
+        });
+    }
+}
@@ -25,10 +25,14 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
 
 public class DgemmTest extends BLASTest {
 
@@ -227,4 +231,125 @@ public class DgemmTest extends BLASTest {
         blas.dgemm("N", "N", 2, 1, 3, 1.0, a, 2, 3, b, 0, 3, 0.0, c, 0, 2);
         assertArrayEquals(cExpected, c, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testParallel(BLAS blas) {
+        // large enough to be split across threads by the Java implementations
+        int m = 3 * M, n = 3 * N, k = 3 * K;
+        java.util.Random rand = new java.util.Random(0);
+        double[] a = new double[m * k], b = new double[k * n], c = new double[m * n];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble();
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextDouble();
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextDouble();
+        double[] expected, dgeCcopy;
+
+        f2j.dgemm("N", "N", m, n, k, 1.0, a, m, b, k, 2.0, expected = c.clone(), m);
+        blas.dgemm("N", "N", m, n, k, 1.0, a, m, b, k, 2.0, dgeCcopy = c.clone(), m);
+        assertArrayEquals(expected, dgeCcopy, depsilon);
+
+        f2j.dgemm("T", "T", m, n, k, 1.0, a, k, b, n, 0.0, expected = c.clone(), m);
+        blas.dgemm("T", "T", m, n, k, 1.0, a, k, b, n, 0.0, dgeCcopy = c.clone(), m);
+        assertArrayEquals(expected, dgeCcopy, depsilon);
+
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+        try {
+            f2j.dgemm("N", "T", m, n, k, 1.0, a, m, b, n, 2.0, expected = c.clone(), m);
+            double[] ccopy = dgeCcopy = c.clone();
+            pool.submit(() -> blas.dgemm("N", "T", m, n, k, 1.0, a, m, b, n, 2.0, ccopy, m)).join();
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testContiguous(BLAS blas) {
+        // few enough rows for a tile of c to span whole columns, so it is updated in place
+        for (int m : new int[] { 48, 50 }) {
+            int n = 2 * N, k = 2 * K;
+            java.util.Random rand = new java.util.Random(0);
+            double[] a = new double[m * k], b = new double[k * n], c = new double[m * n];
+            for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble();
+            for (int i = 0; i < b.length; i++) b[i] = rand.nextDouble();
+            for (int i = 0; i < c.length; i++) c[i] = rand.nextDouble();
+            double[] expected, dgeCcopy;
+
+            f2j.dgemm("N", "N", m, n, k, 1.0, a, m, b, k, 2.0, expected = c.clone(), m);
+            blas.dgemm("N", "N", m, n, k, 1.0, a, m, b, k, 2.0, dgeCcopy = c.clone(), m);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+
+            f2j.dgemm("T", "N", m, n, k, 1.0, a, k, b, k, 0.0, expected = c.clone(), m);
+            blas.dgemm("T", "N", m, n, k, 1.0, a, k, b, k, 0.0, dgeCcopy = c.clone(), m);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBlocking(BLAS blas) {
+        // blockings that don't line up with the tiles of the kernels, or with the matrices
+        assumeTrue(blas instanceof Java8BLAS);
+        int m = 2 * M, n = 2 * N, k = 2 * K;
+        java.util.Random rand = new java.util.Random(0);
+        double[] a = new double[m * k], b = new double[k * n], c = new double[m * n];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble();
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextDouble();
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextDouble();
+        double[] expected, dgeCcopy;
+
+        for (int[] blocking : new int[][] { { 1, 1, 1 }, { 7, 5, 3 }, { 17, 33, 13 }, { 1000, 1000, 1000 } }) {
+            f2j.dgemm("N", "N", m, n, k, 2.0, a, m, b, k, 1.0, expected = c.clone(), m);
+            ((Java8BLAS)blas).dgemmGEPP("N", "N", 0, m, 0, n, k, 2.0, a, 0, m, b, 0, k, dgeCcopy = c.clone(), 0, m, blocking[0], blocking[1], blocking[2]);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+
+            f2j.dgemm("T", "T", m, n, k, 2.0, a, k, b, n, 1.0, expected = c.clone(), m);
+            ((Java8BLAS)blas).dgemmGEPP("T", "T", 0, m, 0, n, k, 2.0, a, 0, k, b, 0, n, dgeCcopy = c.clone(), 0, m, blocking[0], blocking[1], blocking[2]);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrassen(BLAS blas) {
+        // odd dimensions at every level, and budgets that stop the recursion early
+        assumeTrue(blas instanceof Java8BLAS);
+        int m = 2 * M + 1, n = 2 * N - 1, k = 2 * K + 3;
+        java.util.Random rand = new java.util.Random(0);
+        double[] a = new double[m * k], b = new double[k * n], c = new double[m * n];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble();
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextDouble();
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextDouble();
+        double[] expected, dgeCcopy;
+
+        for (long memory : new long[] { Long.MAX_VALUE, 1L << 20, 0 }) {
+            for (String transa : new String[] { "N", "T" }) {
+                for (String transb : new String[] { "N", "T" }) {
+                    int lda = transa.equals("N") ? m : k, ldb = transb.equals("N") ? k : n;
+                    f2j.dgemm(transa, transb, m, n, k, 2.0, a, lda, b, ldb, 0.5, expected = c.clone(), m);
+                    ((Java8BLAS)blas).dgemmStrassen(transa, transb, m, n, k, 2.0, a, 0, lda, b, 0, ldb, 0.5, dgeCcopy = c.clone(), 0, m, 8, memory);
+                    assertArrayEquals(expected, dgeCcopy, depsilon);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffers(BLAS blas) {
+        double[] expected;
+        DoubleBuffer c;
+
+        f2j.dgemm("N", "T", M, N, K, 1.0, dgeA, M, dgeBT, N, 2.0, expected = dgeC.clone(), M);
+
+        blas.dgemm("N", "T", M, N, K, 1.0, directBuffer(dgeA), M, directBuffer(dgeBT), N, 2.0, c = directBuffer(dgeC), M);
+        assertArrayEquals(expected, toArray(c, 0), depsilon);
+
+        blas.dgemm("N", "T", M, N, K, 1.0, DoubleBuffer.wrap(dgeA), M, DoubleBuffer.wrap(dgeBT).asReadOnlyBuffer(), N, 2.0, c = DoubleBuffer.wrap(dgeC.clone()), M);
+        assertArrayEquals(expected, toArray(c, 0), depsilon);
+
+        blas.dgemm("N", "T", M, N, K, 1.0, directBuffer(dgeA, 5, ByteOrder.nativeOrder()), 5, M, directBuffer(dgeBT, 3, foreignOrder), 3, N, 2.0, c = directBuffer(dgeC, 1, ByteOrder.nativeOrder()), 1, M);
+        assertArrayEquals(expected, toArray(c, 1), depsilon);
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Dgemv2Test extends BLASTest {
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        double[] expected1, expected2, dY1copy, dY2copy;
+
+        for (String trans : new String[] { "N", "T" }) {
+            for (double[] ab : new double[][] { { 1.0, 1.0 }, { 0.5, -0.5 }, { -0.5, 0.0 }, { 0.0, 0.5 } }) {
+                f2j.dgemv(trans, M, N, ab[0], dgeA, M, dX, 1, ab[1], expected1 = dY.clone(), 1);
+                f2j.dgemv(trans, M, N, ab[0], dgeA, M, dY, 1, ab[1], expected2 = dX.clone(), 1);
+                blas.dgemv2(trans, M, N, ab[0], dgeA, M, dX, 1, dY, 1, ab[1], dY1copy = dY.clone(), 1, dY2copy = dX.clone(), 1);
+                assertArrayEquals(expected1, dY1copy, depsilon);
+                assertArrayEquals(expected2, dY2copy, depsilon);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected1, expected2, y1copy, y2copy;
+
+        // the vectors are rows and columns of dgeB, in both directions
+        for (String trans : new String[] { "N", "T" }) {
+            for (int[] inc : new int[][] { { 1, K, 1, 1 }, { -1, 2, K, -1 }, { K, -K, -1, 2 } }) {
+                int m = M / 2, n = N / 2;
+                f2j.dgemv(trans, m, n, 0.5, dgeA, 1, M, dgeB, 1, inc[0], 2.0, expected1 = dgeC.clone(), 0, inc[2]);
+                f2j.dgemv(trans, m, n, 0.5, dgeA, 1, M, dgeB, 2, inc[1], 2.0, expected2 = dgeAT.clone(), 3, inc[3]);
+                blas.dgemv2(trans, m, n, 0.5, dgeA, 1, M, dgeB, 1, inc[0], dgeB, 2, inc[1], 2.0, y1copy = dgeC.clone(), 0, inc[2], y2copy = dgeAT.clone(), 3, inc[3]);
+                assertArrayEquals(expected1, y1copy, depsilon);
+                assertArrayEquals(expected2, y2copy, depsilon);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testParallel(BLAS blas) {
+        // large enough to be split across threads by the Java implementations
+        java.util.Random rand = new java.util.Random(0);
+        for (int[] dims : new int[][] { { 1500, 1000 }, { 40000, 30 } }) {
+            int m = dims[0], n = dims[1];
+            double[] a = new double[m * n], x1 = new double[Math.max(m, n)], x2 = new double[Math.max(m, n)];
+            double[] y1 = new double[Math.max(m, n)], y2 = new double[Math.max(m, n)];
+            for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble() - 0.5;
+            for (int i = 0; i < x1.length; i++) x1[i] = rand.nextDouble() - 0.5;
+            for (int i = 0; i < x2.length; i++) x2[i] = rand.nextDouble() - 0.5;
+            for (int i = 0; i < y1.length; i++) y1[i] = rand.nextDouble() - 0.5;
+            for (int i = 0; i < y2.length; i++) y2[i] = rand.nextDouble() - 0.5;
+            double[] expected1, expected2, y1copy, y2copy;
+
+            for (String trans : new String[] { "N", "T" }) {
+                f2j.dgemv(trans, m, n, 1.5, a, m, x1, 1, 2.0, expected1 = y1.clone(), 1);
+                f2j.dgemv(trans, m, n, 1.5, a, m, x2, 1, 2.0, expected2 = y2.clone(), 1);
+                blas.dgemv2(trans, m, n, 1.5, a, m, x1, 1, x2, 1, 2.0, y1copy = y1.clone(), 1, y2copy = y2.clone(), 1);
+                assertArrayEquals(expected1, y1copy, depsilon);
+                assertArrayEquals(expected2, y2copy, depsilon);
+            }
+        }
+    }
+}
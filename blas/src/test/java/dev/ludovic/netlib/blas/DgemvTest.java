@@ -25,6 +25,10 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -170,4 +174,81 @@ public class DgemvTest extends BLASTest {
         blas.dgemv("N", 2, 3, 1.0, a, 2, 3, x, 0, 1, 0.0, y, 0, 1);
         assertArrayEquals(yExpected, y, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testParallel(BLAS blas) {
+        // large enough to be split across threads by the Java implementations, by rows, by
+        // columns, and by rows with a reduction for a tall matrix with trans = T
+        java.util.Random rand = new java.util.Random(0);
+        for (int[] dims : new int[][] { { 1500, 1000 }, { 40000, 30 }, { 30, 40000 } }) {
+            int m = dims[0], n = dims[1];
+            double[] a = new double[m * n], x = new double[Math.max(m, n)], y = new double[Math.max(m, n)];
+            for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble() - 0.5;
+            for (int i = 0; i < x.length; i++) x[i] = rand.nextDouble() - 0.5;
+            for (int i = 0; i < y.length; i++) y[i] = rand.nextDouble() - 0.5;
+            double[] expected, ycopy;
+
+            for (String trans : new String[] { "N", "T" }) {
+                f2j.dgemv(trans, m, n, 1.5, a, m, x, 1, 2.0, expected = y.clone(), 1);
+                blas.dgemv(trans, m, n, 1.5, a, m, x, 1, 2.0, ycopy = y.clone(), 1);
+                assertArrayEquals(expected, ycopy, depsilon);
+
+                f2j.dgemv(trans, m, n, 1.5, a, m, x, -1, 0.0, expected = y.clone(), -1);
+                blas.dgemv(trans, m, n, 1.5, a, m, x, -1, 0.0, ycopy = y.clone(), -1);
+                assertArrayEquals(expected, ycopy, depsilon);
+
+                java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+                try {
+                    f2j.dgemv(trans, m, n, 1.5, a, m, x, 1, 2.0, expected = y.clone(), 1);
+                    double[] yclone = ycopy = y.clone();
+                    pool.submit(() -> blas.dgemv(trans, m, n, 1.5, a, m, x, 1, 2.0, yclone, 1)).join();
+                    assertArrayEquals(expected, ycopy, depsilon);
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffers(BLAS blas) {
+        double[] expected;
+        DoubleBuffer y;
+
+        for (String trans : new String[] { "N", "T" }) {
+            f2j.dgemv(trans, M, N, 0.5, dgeA, M, dX, 1, 2.0, expected = dY.clone(), 1);
+
+            blas.dgemv(trans, M, N, 0.5, directBuffer(dgeA), M, directBuffer(dX), 1, 2.0, y = directBuffer(dY), 1);
+            assertArrayEquals(expected, toArray(y, 0), depsilon);
+
+            blas.dgemv(trans, M, N, 0.5, DoubleBuffer.wrap(dgeA), M, DoubleBuffer.wrap(dX), 1, 2.0, y = DoubleBuffer.wrap(dY.clone()), 1);
+            assertArrayEquals(expected, toArray(y, 0), depsilon);
+
+            blas.dgemv(trans, M, N, 0.5, directBuffer(dgeA, 7, foreignOrder), 7, M, directBuffer(dX), 0, 1, 2.0, y = directBuffer(dY, 3, ByteOrder.nativeOrder()), 3, 1);
+            assertArrayEquals(expected, toArray(y, 3), depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffersDisjoint(BLAS blas) {
+        // computes the columns of a * b concurrently into disjoint parts of a single buffer
+        int count = 64;
+        double[] b = new double[N * count];
+        for (int i = 0; i < b.length; i += 1) {
+            b[i] = (i % 7) - 3.0;
+        }
+        double[] expected = new double[M * count];
+        for (int j = 0; j < count; j += 1) {
+            f2j.dgemv("N", M, N, 1.0, dgeA, 0, M, b, j * N, 1, 0.0, expected, j * M, 1);
+        }
+
+        DoubleBuffer c = directBuffer(new double[M * count], 0, foreignOrder);
+        IntStream.range(0, count).parallel().forEach(j -> {
+            blas.dgemv("N", M, N, 1.0, directBuffer(dgeA), 0, M, directBuffer(b), j * N, 1, 0.0, c, j * M, 1);
+        });
+        assertArrayEquals(expected, toArray(c, 0), depsilon);
+    }
 }
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
 
 public class Dnrm2Test extends BLASTest {
 
@@ -38,4 +39,38 @@ public class Dnrm2Test extends BLASTest {
         assertEquals(f2j.dnrm2(M / 1, dX, 1), blas.dnrm2(M / 1, dX, 1), depsilon);
         assertEquals(f2j.dnrm2(M / 2, dX, 2), blas.dnrm2(M / 2, dX, 2), depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testScaling(BLAS blas) {
+        // values whose squares underflow or overflow, alone and next to well-scaled ones
+        for (double scale : new double[] { 0x1p-600, 0x1p-520, 0x1p-300, 0x1p300, 0x1p500, 0x1p600 }) {
+            double[] x = new double[M];
+            for (int i = 0; i < M; i += 1) {
+                x[i] = dX[i] * scale;
+            }
+            double expected = f2j.dnrm2(M, x, 1);
+            assertEquals(expected, blas.dnrm2(M, x, 1), expected * depsilon);
+            expected = f2j.dnrm2(M / 2, x, 2);
+            assertEquals(expected, blas.dnrm2(M / 2, x, 2), expected * depsilon);
+            x[M / 2] = 1.0;
+            expected = f2j.dnrm2(M, x, 1);
+            assertEquals(expected, blas.dnrm2(M, x, 1), expected * depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testNaNAndInfinity(BLAS blas) {
+        // native libraries differ in how they handle NaN and infinities
+        assumeTrue(blas instanceof JavaBLAS);
+
+        double[] x = dX.clone();
+        x[M / 2] = Double.POSITIVE_INFINITY;
+        assertEquals(Double.POSITIVE_INFINITY, blas.dnrm2(M, x, 1));
+        x[M / 3] = Double.NaN;
+        assertTrue(Double.isNaN(blas.dnrm2(M, x, 1)));
+        x = new double[M];
+        assertEquals(0.0, blas.dnrm2(M, x, 1));
+    }
 }
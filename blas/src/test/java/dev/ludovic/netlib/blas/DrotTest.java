@@ -57,4 +57,18 @@ public class DrotTest extends BLASTest {
         assertArrayEquals(expectedX, dXcopy, depsilon);
         assertArrayEquals(expectedY, dYcopy, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expectedA, expectedB, dgeAcopy, dgeBcopy;
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1 }, { M, K }, { M, -2 }, { -M, 3 }, { -2, -K } }) {
+            f2j.drot(K, expectedA = dgeA.clone(), 1, inc[0], expectedB = dgeB.clone(), 2, inc[1], 2.0, 3.0);
+            blas.drot(K, dgeAcopy = dgeA.clone(), 1, inc[0], dgeBcopy = dgeB.clone(), 2, inc[1], 2.0, 3.0);
+            assertArrayEquals(expectedA, dgeAcopy, depsilon);
+            assertArrayEquals(expectedB, dgeBcopy, depsilon);
+        }
+    }
 }
@@ -35,6 +35,32 @@ public class DrotmTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        double[] expectedX, expectedY, dXcopy, dYcopy;
+
+        // the full H, the two cases with implicit 1.0 and -1.0 entries, and the identity
+        for (double flag : new double[] { -1.0, 0.0, 1.0, -2.0 }) {
+            double[] param = new double[] { flag, 2.0, -3.0, 0.5, 4.0 };
+            f2j.drotm(M, expectedX = dX.clone(), 1, expectedY = dY.clone(), 1, param);
+            blas.drotm(M, dXcopy = dX.clone(), 1, dYcopy = dY.clone(), 1, param);
+            assertArrayEquals(expectedX, dXcopy, depsilon);
+            assertArrayEquals(expectedY, dYcopy, depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expectedA, expectedB, dgeAcopy, dgeBcopy;
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (double flag : new double[] { -1.0, 0.0, 1.0 }) {
+            double[] param = new double[] { flag, 2.0, -3.0, 0.5, 4.0 };
+            for (int[] inc : new int[][] { { 2, 1 }, { M, K }, { M, -2 }, { -M, 3 }, { -2, -K } }) {
+                f2j.drotm(K, expectedA = dgeA.clone(), 1, inc[0], expectedB = dgeB.clone(), 2, inc[1], param, 0);
+                blas.drotm(K, dgeAcopy = dgeA.clone(), 1, inc[0], dgeBcopy = dgeB.clone(), 2, inc[1], param, 0);
+                assertArrayEquals(expectedA, dgeAcopy, depsilon);
+                assertArrayEquals(expectedB, dgeBcopy, depsilon);
+            }
+        }
     }
 }
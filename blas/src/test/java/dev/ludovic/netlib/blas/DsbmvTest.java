@@ -35,6 +35,32 @@ public class DsbmvTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        double[] expected, dYcopy;
+
+        // the band is read from dgeA with lda = k + 1, including with k >= n
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int[] dims : new int[][] { { N, 0 }, { N, 1 }, { N, 5 }, { N, 40 }, { N, N - 1 }, { N / 2, N } }) {
+                int n = dims[0], k = dims[1];
+                for (double[] alphabeta : new double[][] { { 1.0, 1.0 }, { 0.5, -0.5 }, { 0.0, 0.5 }, { -1.0, 0.0 } }) {
+                    f2j.dsbmv(uplo, n, k, alphabeta[0], dgeA, k + 1, dX, 1, alphabeta[1], expected = dY.clone(), 1);
+                    blas.dsbmv(uplo, n, k, alphabeta[0], dgeA, k + 1, dX, 1, alphabeta[1], dYcopy = dY.clone(), 1);
+                    assertArrayEquals(expected, dYcopy, depsilon);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeBcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int[] inc : new int[][] { { 2, 1 }, { 1, 3 }, { -2, 2 }, { 3, -1 } }) {
+                f2j.dsbmv(uplo, N, 7, 0.5, dgeA, 8, dgeB, inc[0], 2.0, expected = dgeB.clone(), inc[1]);
+                blas.dsbmv(uplo, N, 7, 0.5, dgeA, 8, dgeB, inc[0], 2.0, dgeBcopy = dgeB.clone(), inc[1]);
+                assertArrayEquals(expected, dgeBcopy, depsilon);
+            }
+        }
     }
 }
@@ -61,4 +61,17 @@ public class DscalTest extends BLASTest {
         blas.dscal(M, 0.0, dXcopy = dX.clone(), -1);
         assertArrayEquals(expected, dXcopy, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeAcopy;
+
+        // rows of a column-major matrix, and every other or third element of a vector
+        for (int inc : new int[] { 2, 3, M }) {
+            f2j.dscal(K, 2.0, expected = dgeA.clone(), 1, inc);
+            blas.dscal(K, 2.0, dgeAcopy = dgeA.clone(), 1, inc);
+            assertArrayEquals(expected, dgeAcopy, depsilon);
+        }
+    }
 }
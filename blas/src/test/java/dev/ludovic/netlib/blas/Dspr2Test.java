@@ -45,4 +45,18 @@ public class Dspr2Test extends BLASTest {
         blas.dspr2("L", M, 2.0, dX, 1, dY, 1, dgeAcopy = dgeAL.clone());
         assertArrayEquals(expected, dgeAcopy, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeAcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int[] inc : new int[][] { { 2, 1 }, { 1, 3 }, { -2, 2 }, { 3, -1 } }) {
+                f2j.dspr2(uplo, M, 2.0, dgeB, inc[0], dgeC, inc[1], expected = (uplo.equals("U") ? dgeAU : dgeAL).clone());
+                blas.dspr2(uplo, M, 2.0, dgeB, inc[0], dgeC, inc[1], dgeAcopy = (uplo.equals("U") ? dgeAU : dgeAL).clone());
+                assertArrayEquals(expected, dgeAcopy, depsilon);
+            }
+        }
+    }
 }
@@ -45,4 +45,18 @@ public class DsprTest extends BLASTest {
         blas.dspr("L", M, 2.0, dX, 1, dgeAcopy = dgeAL.clone());
         assertArrayEquals(expected, dgeAcopy, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeAcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int inc : new int[] { 2, -1, -3 }) {
+                f2j.dspr(uplo, M, 2.0, dgeB, inc, expected = (uplo.equals("U") ? dgeAU : dgeAL).clone());
+                blas.dspr(uplo, M, 2.0, dgeB, inc, dgeAcopy = (uplo.equals("U") ? dgeAU : dgeAL).clone());
+                assertArrayEquals(expected, dgeAcopy, depsilon);
+            }
+        }
+    }
 }
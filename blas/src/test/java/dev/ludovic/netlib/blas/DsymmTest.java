@@ -85,4 +85,29 @@ public class DsymmTest extends BLASTest {
         blas.dsymm("R", "L", M, N, 0.0, dsyA, M, dgeB, K, 1.0, dgeCcopy = dgeC.clone(), M);
         assertArrayEquals(expected, dgeCcopy, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // wide enough for the right side to go through several panels of the packed gemm
+        int m = 3 * M + 2, n = 3 * N;
+        java.util.Random rand = new java.util.Random(0);
+        double[] a = new double[Math.max(m, n) * Math.max(m, n)];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble();
+        double[] b = new double[m * n];
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextDouble();
+        double[] c = new double[m * n];
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextDouble();
+        double[] expected, dgeCcopy;
+
+        for (String side : new String[] { "L", "R" }) {
+            for (String uplo : new String[] { "U", "L" }) {
+                for (double beta : new double[] { 2.0, 0.0 }) {
+                    f2j.dsymm(side, uplo, m, n, 2.0, a, side.equals("L") ? m : n, b, m, beta, expected = c.clone(), m);
+                    blas.dsymm(side, uplo, m, n, 2.0, a, side.equals("L") ? m : n, b, m, beta, dgeCcopy = c.clone(), m);
+                    assertArrayEquals(expected, dgeCcopy, depsilon);
+                }
+            }
+        }
+    }
 }
@@ -45,4 +45,18 @@ public class Dsyr2Test extends BLASTest {
         blas.dsyr2("L", M, 2.0, dX, 1, dY, 1, dsyAcopy = dsyA.clone(), M);
         assertArrayEquals(expected, dsyAcopy, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dsyAcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int[] inc : new int[][] { { 2, 1 }, { 1, 3 }, { -2, 2 }, { 3, -1 } }) {
+                f2j.dsyr2(uplo, M, 2.0, dgeB, inc[0], dgeC, inc[1], expected = dsyA.clone(), M);
+                blas.dsyr2(uplo, M, 2.0, dgeB, inc[0], dgeC, inc[1], dsyAcopy = dsyA.clone(), M);
+                assertArrayEquals(expected, dsyAcopy, depsilon);
+            }
+        }
+    }
 }
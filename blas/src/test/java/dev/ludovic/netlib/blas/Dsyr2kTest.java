@@ -35,6 +35,63 @@ public class Dsyr2kTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        double[] expected, dgeCcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            f2j.dsyr2k(uplo, "N", M, K, 1.0, dgeA, M, dgeB, M, 2.0, expected = dgeC.clone(), M);
+            blas.dsyr2k(uplo, "N", M, K, 1.0, dgeA, M, dgeB, M, 2.0, dgeCcopy = dgeC.clone(), M);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+
+            f2j.dsyr2k(uplo, "N", M, K, 2.0, dgeA, M, dgeB, M, 1.0, expected = dgeC.clone(), M);
+            blas.dsyr2k(uplo, "N", M, K, 2.0, dgeA, M, dgeB, M, 1.0, dgeCcopy = dgeC.clone(), M);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+
+            f2j.dsyr2k(uplo, "N", M, K, 1.0, dgeA, M, dgeB, M, 0.0, expected = dgeC.clone(), M);
+            blas.dsyr2k(uplo, "N", M, K, 1.0, dgeA, M, dgeB, M, 0.0, dgeCcopy = dgeC.clone(), M);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+
+            f2j.dsyr2k(uplo, "N", M, K, 0.0, dgeA, M, dgeB, M, 2.0, expected = dgeC.clone(), M);
+            blas.dsyr2k(uplo, "N", M, K, 0.0, dgeA, M, dgeB, M, 2.0, dgeCcopy = dgeC.clone(), M);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+
+            f2j.dsyr2k(uplo, "T", M, K, 1.0, dgeAT, K, dgeB, K, 2.0, expected = dgeC.clone(), M);
+            blas.dsyr2k(uplo, "T", M, K, 1.0, dgeAT, K, dgeB, K, 2.0, dgeCcopy = dgeC.clone(), M);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+
+            f2j.dsyr2k(uplo, "T", M, K, 2.0, dgeAT, K, dgeB, K, 1.0, expected = dgeC.clone(), M);
+            blas.dsyr2k(uplo, "T", M, K, 2.0, dgeAT, K, dgeB, K, 1.0, dgeCcopy = dgeC.clone(), M);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+
+            f2j.dsyr2k(uplo, "T", M, K, 1.0, dgeAT, K, dgeB, K, 0.0, expected = dgeC.clone(), M);
+            blas.dsyr2k(uplo, "T", M, K, 1.0, dgeAT, K, dgeB, K, 0.0, dgeCcopy = dgeC.clone(), M);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+
+            f2j.dsyr2k(uplo, "T", M, K, 0.0, dgeAT, K, dgeB, K, 2.0, expected = dgeC.clone(), M);
+            blas.dsyr2k(uplo, "T", M, K, 0.0, dgeAT, K, dgeB, K, 2.0, dgeCcopy = dgeC.clone(), M);
+            assertArrayEquals(expected, dgeCcopy, depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // large enough to go through the packed gemm, and to be split across threads
+        int n = 3 * N, k = 3 * K;
+        java.util.Random rand = new java.util.Random(0);
+        double[] a = new double[n * k];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble();
+        double[] b = new double[n * k];
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextDouble();
+        double[] c = new double[n * n];
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextDouble();
+        double[] expected, dgeCcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (String trans : new String[] { "N", "T" }) {
+                f2j.dsyr2k(uplo, trans, n, k, 2.0, a, trans.equals("N") ? n : k, b, trans.equals("N") ? n : k, 2.0, expected = c.clone(), n);
+                blas.dsyr2k(uplo, trans, n, k, 2.0, a, trans.equals("N") ? n : k, b, trans.equals("N") ? n : k, 2.0, dgeCcopy = c.clone(), n);
+                assertArrayEquals(expected, dgeCcopy, depsilon);
+            }
+        }
     }
 }
@@ -45,4 +45,18 @@ public class DsyrTest extends BLASTest {
         blas.dsyr("L", M, 2.0, dX, 1, dsyAcopy = dsyA.clone(), M);
         assertArrayEquals(expected, dsyAcopy, depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dsyAcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int inc : new int[] { 2, -1, -3 }) {
+                f2j.dsyr(uplo, M, 2.0, dgeB, inc, expected = dsyA.clone(), M);
+                blas.dsyr(uplo, M, 2.0, dgeB, inc, dsyAcopy = dsyA.clone(), M);
+                assertArrayEquals(expected, dsyAcopy, depsilon);
+            }
+        }
+    }
 }
@@ -35,6 +35,38 @@ public class DtbsvTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        double[] expected, dXcopy;
+
+        // the band is extracted from dtrA with lda = k + 1, including with k >= n
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int[] dims : new int[][] { { N, 0 }, { N, 1 }, { N, 5 }, { N, 40 }, { N, N - 1 }, { N / 2, N } }) {
+                int n = dims[0], k = dims[1];
+                double[] a = extractBand(uplo, dtrA, n, k, M);
+                for (String trans : new String[] { "N", "T" }) {
+                    for (String diag : new String[] { "N", "U" }) {
+                        f2j.dtbsv(uplo, trans, diag, n, k, a, k + 1, expected = dX.clone(), 1);
+                        blas.dtbsv(uplo, trans, diag, n, k, a, k + 1, dXcopy = dX.clone(), 1);
+                        assertArrayEquals(expected, dXcopy, depsilon);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeBcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            double[] a = extractBand(uplo, dtrA, N, 7, M);
+            for (String trans : new String[] { "N", "T" }) {
+                for (int inc : new int[] { 2, -1, -3 }) {
+                    f2j.dtbsv(uplo, trans, "N", N, 7, a, 8, expected = dgeB.clone(), inc);
+                    blas.dtbsv(uplo, trans, "N", N, 7, a, 8, dgeBcopy = dgeB.clone(), inc);
+                    assertArrayEquals(expected, dgeBcopy, depsilon);
+                }
+            }
+        }
     }
 }
@@ -35,6 +35,36 @@ public class DtpmvTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        double[] expected, dXcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int n : new int[] { 1, 10, N }) {
+                double[] a = extractUPLO(uplo, dtrA, n, M);
+                for (String trans : new String[] { "N", "T" }) {
+                    for (String diag : new String[] { "N", "U" }) {
+                        f2j.dtpmv(uplo, trans, diag, n, a, expected = dX.clone(), 1);
+                        blas.dtpmv(uplo, trans, diag, n, a, dXcopy = dX.clone(), 1);
+                        assertArrayEquals(expected, dXcopy, depsilon);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeBcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            double[] a = extractUPLO(uplo, dtrA, N, M);
+            for (String trans : new String[] { "N", "T" }) {
+                for (int inc : new int[] { 2, -1, -3 }) {
+                    f2j.dtpmv(uplo, trans, "N", N, a, expected = dgeB.clone(), inc);
+                    blas.dtpmv(uplo, trans, "N", N, a, dgeBcopy = dgeB.clone(), inc);
+                    assertArrayEquals(expected, dgeBcopy, depsilon);
+                }
+            }
+        }
     }
 }
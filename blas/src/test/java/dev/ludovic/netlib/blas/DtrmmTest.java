@@ -35,6 +35,50 @@ public class DtrmmTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        double[] expected, dgeBcopy;
+
+        for (String side : new String[] { "L", "R" }) {
+            for (String uplo : new String[] { "U", "L" }) {
+                for (String transa : new String[] { "N", "T" }) {
+                    for (String diag : new String[] { "N", "U" }) {
+                        f2j.dtrmm(side, uplo, transa, diag, M, N, 1.0, dtrA, M, expected = dgeB.clone(), M);
+                        blas.dtrmm(side, uplo, transa, diag, M, N, 1.0, dtrA, M, dgeBcopy = dgeB.clone(), M);
+                        assertArrayEquals(expected, dgeBcopy, depsilon);
+
+                        f2j.dtrmm(side, uplo, transa, diag, M, N, 2.0, dtrA, M, expected = dgeB.clone(), M);
+                        blas.dtrmm(side, uplo, transa, diag, M, N, 2.0, dtrA, M, dgeBcopy = dgeB.clone(), M);
+                        assertArrayEquals(expected, dgeBcopy, depsilon);
+
+                        f2j.dtrmm(side, uplo, transa, diag, M, N, 0.0, dtrA, M, expected = dgeB.clone(), M);
+                        blas.dtrmm(side, uplo, transa, diag, M, N, 0.0, dtrA, M, dgeBcopy = dgeB.clone(), M);
+                        assertArrayEquals(expected, dgeBcopy, depsilon);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // several diagonal blocks, with updates large enough to go through the packed gemm
+        int m = 4 * M, n = 3 * N;
+        java.util.Random rand = new java.util.Random(0);
+        double[] b = new double[m * n];
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextDouble();
+        double[] expected, dgeBcopy;
+
+        for (String side : new String[] { "L", "R" }) {
+            int k = side.equals("L") ? m : n;
+            double[] a = new double[k * k];
+            for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble() / k;
+            for (String uplo : new String[] { "U", "L" }) {
+                for (String transa : new String[] { "N", "T" }) {
+                    f2j.dtrmm(side, uplo, transa, "N", m, n, 2.0, a, k, expected = b.clone(), m);
+                    blas.dtrmm(side, uplo, transa, "N", m, n, 2.0, a, k, dgeBcopy = b.clone(), m);
+                    assertArrayEquals(expected, dgeBcopy, depsilon);
+                }
+            }
+        }
     }
 }
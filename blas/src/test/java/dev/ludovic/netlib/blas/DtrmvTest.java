@@ -35,6 +35,57 @@ public class DtrmvTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        double[] expected, dXcopy;
+
+        // with n = N, a full diagonal block and a partial one
+        for (String uplo : new String[] { "U", "L" }) {
+            for (String trans : new String[] { "N", "T" }) {
+                for (String diag : new String[] { "N", "U" }) {
+                    for (int n : new int[] { 1, 10, N }) {
+                        f2j.dtrmv(uplo, trans, diag, n, dtrA, M, expected = dX.clone(), 1);
+                        blas.dtrmv(uplo, trans, diag, n, dtrA, M, dXcopy = dX.clone(), 1);
+                        assertArrayEquals(expected, dXcopy, depsilon);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        double[] expected, dgeBcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (String trans : new String[] { "N", "T" }) {
+                for (int inc : new int[] { 2, -1, -3 }) {
+                    f2j.dtrmv(uplo, trans, "N", N, dtrA, M, expected = dgeB.clone(), inc);
+                    blas.dtrmv(uplo, trans, "N", N, dtrA, M, dgeBcopy = dgeB.clone(), inc);
+                    assertArrayEquals(expected, dgeBcopy, depsilon);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // several diagonal blocks, with a larger lda than n
+        int n = 4 * N, lda = n + 3;
+        java.util.Random rand = new java.util.Random(0);
+        double[] x = new double[n];
+        for (int i = 0; i < x.length; i++) x[i] = rand.nextDouble();
+        double[] a = new double[lda * n];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextDouble() / n;
+        for (int i = 0; i < n; i++) a[i + i * lda] += 1.0;
+        double[] expected, xcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (String trans : new String[] { "N", "T" }) {
+                f2j.dtrmv(uplo, trans, "N", n, a, lda, expected = x.clone(), 1);
+                blas.dtrmv(uplo, trans, "N", n, a, lda, xcopy = x.clone(), 1);
+                assertArrayEquals(expected, xcopy, depsilon);
+            }
+        }
     }
 }
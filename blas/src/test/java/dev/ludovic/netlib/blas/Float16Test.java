@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Float16Test extends BLASTest {
+
+    // every 16-bit value, with an odd count so that the vectorized conversions have a tail
+    final short[] all = new short[(1 << 16) + 1];
+    {
+        for (int i = 0; i < all.length; i++) all[i] = (short)i;
+    }
+
+    @Test
+    void testHalf() {
+        assertEquals(1.0f, Float16.toFloat((short)0x3c00));
+        assertEquals(-2.0f, Float16.toFloat((short)0xc000));
+        assertEquals(65504.0f, Float16.toFloat((short)0x7bff));
+        assertEquals(0x1p-24f, Float16.toFloat((short)0x0001));
+        assertEquals(0x1p-14f, Float16.toFloat((short)0x0400));
+        assertEquals(Float.NEGATIVE_INFINITY, Float16.toFloat((short)0xfc00));
+        assertEquals(0x80000000, Float.floatToRawIntBits(Float16.toFloat((short)0x8000)));
+        for (short half : all) {
+            float expected = halfToFloat(half);
+            if (Float.isNaN(expected)) {
+                // the payload is kept
+                assertEquals(0x7f800000 | (half & 0x8000) << 16 | (half & 0x3ff) << 13, Float.floatToRawIntBits(Float16.toFloat(half)));
+                assertEquals(0x7f800000 | (half & 0x8000) << 16 | (half & 0x3ff) << 13, Float.floatToRawIntBits(Float16.halfToFloat(half)));
+            } else {
+                assertEquals(Float.floatToRawIntBits(expected), Float.floatToRawIntBits(Float16.toFloat(half)));
+                assertEquals(Float.floatToRawIntBits(expected), Float.floatToRawIntBits(Float16.halfToFloat(half)));
+            }
+        }
+    }
+
+    @Test
+    void testBfloat16() {
+        assertEquals(1.0f, Float16.bfloat16ToFloat((short)0x3f80));
+        assertEquals(-2.0f, Float16.bfloat16ToFloat((short)0xc000));
+        for (short bfloat16 : all) {
+            assertEquals(bfloat16 << 16, Float.floatToRawIntBits(Float16.bfloat16ToFloat(bfloat16)));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testConversions(BLAS blas) {
+        if (blas instanceof Java8BLAS) {
+            for (boolean bfloat16 : new boolean[] { false, true }) {
+                float[] dst = new float[all.length + 2];
+                ((Java8BLAS)blas).cvt16ToFloat(bfloat16, all.length - 1, all, 1, dst, 2);
+                for (int i = 1; i < all.length; i++) {
+                    assertEquals(Float.floatToRawIntBits(Float16.toFloat(all[i], bfloat16)), Float.floatToRawIntBits(dst[i + 1]));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HgemmTest extends BLASTest {
+
+    // the half values closest to the test matrices, and the same values as floats for sgemm
+    final short[] geA = convertToHalf(sgeA), geAT = convertToHalf(sgeAT), geB = convertToHalf(sgeB), geBT = convertToHalf(sgeBT);
+    final float[] fgeA = halfToFloat(geA), fgeAT = halfToFloat(geAT), fgeB = halfToFloat(geB), fgeBT = halfToFloat(geBT);
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        for (String transa : new String[] { "N", "T" }) {
+            for (String transb : new String[] { "N", "T" }) {
+                short[] a = transa.equals("N") ? geA : geAT, b = transb.equals("N") ? geB : geBT;
+                float[] fa = transa.equals("N") ? fgeA : fgeAT, fb = transb.equals("N") ? fgeB : fgeBT;
+                int lda = transa.equals("N") ? M : K, ldb = transb.equals("N") ? K : N;
+                for (float[] alphabeta : new float[][] { { 1.0f, 2.0f }, { -0.5f, 0.0f }, { 0.0f, 1.0f }, { 0.0f, 0.5f } }) {
+                    float[] expected, sgeCcopy;
+
+                    f2j.sgemm(transa, transb, M, N, K, alphabeta[0], fa, lda, fb, ldb, alphabeta[1], expected = sgeC.clone(), M);
+                    blas.hgemm(transa, transb, M, N, K, alphabeta[0], a, lda, b, ldb, alphabeta[1], sgeCcopy = sgeC.clone(), M);
+                    assertArrayEquals(expected, sgeCcopy, sepsilon);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOffset(BLAS blas) {
+        // 2x2 times 2x3, starting at 1 in a, 2 in b, and 3 in c
+        float[] fa = { 9.0f, 1.0f, 2.0f, 3.0f, 4.0f }, fb = { 9.0f, 9.0f, 1.0f, 0.5f, 2.0f, -1.0f, 0.25f, 4.0f };
+        short[] a = convertToHalf(fa), b = convertToHalf(fb);
+        float[] expected = new float[9], c = new float[9];
+
+        f2j.sgemm("N", "N", 2, 3, 2, 1.0f, fa, 1, 2, fb, 2, 2, 0.0f, expected, 3, 2);
+        blas.hgemm("N", "N", 2, 3, 2, 1.0f, a, 1, 2, b, 2, 2, 0.0f, c, 3, 2);
+        assertArrayEquals(expected, c, sepsilon);
+
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.hgemm("N", "N", 2, 3, 2, 1.0f, a, 2, 2, b, 2, 2, 0.0f, c, 3, 2);
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testParallel(BLAS blas) {
+        // large enough to be split across threads by the Java implementations
+        int m = 3 * M, n = 3 * N, k = 3 * K;
+        java.util.Random rand = new java.util.Random(0);
+        float[] fa = new float[m * k], fb = new float[k * n], c = new float[m * n];
+        for (int i = 0; i < fa.length; i++) fa[i] = rand.nextFloat();
+        for (int i = 0; i < fb.length; i++) fb[i] = rand.nextFloat();
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextFloat();
+        short[] a = convertToHalf(fa), b = convertToHalf(fb);
+        fa = halfToFloat(a);
+        fb = halfToFloat(b);
+        float[] expected, ccopy;
+
+        f2j.sgemm("N", "N", m, n, k, 1.0f, fa, m, fb, k, 2.0f, expected = c.clone(), m);
+        blas.hgemm("N", "N", m, n, k, 1.0f, a, m, b, k, 2.0f, ccopy = c.clone(), m);
+        assertArrayEquals(expected, ccopy, sepsilon);
+
+        f2j.sgemm("T", "T", m, n, k, 1.0f, fa, k, fb, n, 0.0f, expected = c.clone(), m);
+        blas.hgemm("T", "T", m, n, k, 1.0f, a, k, b, n, 0.0f, ccopy = c.clone(), m);
+        assertArrayEquals(expected, ccopy, sepsilon);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HgemvTest extends BLASTest {
+
+    // the half values closest to the test matrix, and the same values as floats for sgemv
+    final short[] geA = convertToHalf(sgeA);
+    final float[] fgeA = halfToFloat(geA);
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        for (String trans : new String[] { "N", "T" }) {
+            for (float[] alphabeta : new float[][] { { 1.0f, 1.0f }, { -0.5f, 2.0f }, { 1.0f, 0.0f }, { 0.0f, 0.5f } }) {
+                float[] expected, sYcopy;
+
+                f2j.sgemv(trans, M, N, alphabeta[0], fgeA, M, sX, 1, alphabeta[1], expected = sY.clone(), 1);
+                blas.hgemv(trans, M, N, alphabeta[0], geA, M, sX, 1, alphabeta[1], sYcopy = sY.clone(), 1);
+                assertArrayEquals(expected, sYcopy, sepsilon);
+
+                f2j.sgemv(trans, 40, 30, alphabeta[0], fgeA, 2, M, sX, 1, 2, alphabeta[1], expected = sY.clone(), 0, -2);
+                blas.hgemv(trans, 40, 30, alphabeta[0], geA, 2, M, sX, 1, 2, alphabeta[1], sYcopy = sY.clone(), 0, -2);
+                assertArrayEquals(expected, sYcopy, sepsilon);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOutOfBound(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.hgemv("N", M, N, 1.0f, geA, 1, M, sX, 0, 1, 0.0f, sY.clone(), 0, 1);
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testParallel(BLAS blas) {
+        // large enough to be split across threads by the Java implementations, and to go through
+        // many tiles of converted values
+        java.util.Random rand = new java.util.Random(0);
+        for (int[] dims : new int[][] { { 1500, 1000 }, { 40000, 30 }, { 30, 40000 } }) {
+            int m = dims[0], n = dims[1];
+            float[] fa = new float[m * n], x = new float[Math.max(m, n)], y = new float[Math.max(m, n)];
+            for (int i = 0; i < fa.length; i++) fa[i] = rand.nextFloat() - 0.5f;
+            for (int i = 0; i < x.length; i++) x[i] = rand.nextFloat() - 0.5f;
+            for (int i = 0; i < y.length; i++) y[i] = rand.nextFloat() - 0.5f;
+            short[] a = convertToHalf(fa);
+            fa = halfToFloat(a);
+            float[] expected, ycopy;
+
+            for (String trans : new String[] { "N", "T" }) {
+                f2j.sgemv(trans, m, n, 1.5f, fa, m, x, 1, 2.0f, expected = y.clone(), 1);
+                blas.hgemv(trans, m, n, 1.5f, a, m, x, 1, 2.0f, ycopy = y.clone(), 1);
+                assertArrayEquals(expected, ycopy, sepsilon);
+
+                f2j.sgemv(trans, m, n, 1.5f, fa, m, x, -1, 0.0f, expected = y.clone(), -1);
+                blas.hgemv(trans, m, n, 1.5f, a, m, x, -1, 0.0f, ycopy = y.clone(), -1);
+                assertArrayEquals(expected, ycopy, sepsilon);
+            }
+        }
+    }
+}
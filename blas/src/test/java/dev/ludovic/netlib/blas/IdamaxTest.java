@@ -29,6 +29,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.util.Arrays;
 
 public class IdamaxTest extends BLASTest {
 
@@ -37,4 +40,65 @@ public class IdamaxTest extends BLASTest {
     void testSanity(BLAS blas) {
         assertEquals(f2j.idamax(M, dX, 1), blas.idamax(M, dX, 1), depsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testTies(BLAS blas) {
+        // the first index is returned when several elements share the largest magnitude
+        double[] x = new double[M];
+        for (int i = 0; i < M; i += 1) {
+            x[i] = (i % 7) * (i % 2 == 0 ? 1.0 : -1.0);
+        }
+        assertEquals(f2j.idamax(M, x, 1), blas.idamax(M, x, 1));
+        assertEquals(f2j.idamax(M - 10, x, 10, 1), blas.idamax(M - 10, x, 10, 1));
+        Arrays.fill(x, -2.0);
+        assertEquals(f2j.idamax(M, x, 1), blas.idamax(M, x, 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testNaN(BLAS blas) {
+        double[] x;
+
+        // native libraries differ in how they handle NaN, the Java ones follow f2j
+        assumeTrue(blas instanceof JavaBLAS);
+
+        // a NaN is never taken, unless it comes first
+        for (int nan : new int[] { 0, 1, 5, M / 2, M - 1 }) {
+            x = dX.clone();
+            x[nan] = Double.NaN;
+            assertEquals(f2j.idamax(M, x, 1), blas.idamax(M, x, 1));
+            assertEquals(f2j.idamax(M / 2, x, 2), blas.idamax(M / 2, x, 2));
+        }
+        x = new double[M];
+        Arrays.fill(x, Double.NaN);
+        x[M / 2] = 1.0;
+        assertEquals(f2j.idamax(M, x, 1), blas.idamax(M, x, 1));
+
+        // long enough for the vectorized kernels, with a larger element after the NaN
+        int n = 1000;
+        for (int nan : new int[] { 0, 7, 100, n - 1 }) {
+            for (int big : new int[] { 17, 500, n - 2 }) {
+                x = new double[n];
+                for (int i = 0; i < n; i += 1) {
+                    x[i] = (i * 37) % 101 - 50;
+                }
+                x[nan] = Double.NaN;
+                x[big] = 1000.0;
+                assertEquals(f2j.idamax(n, x, 1), blas.idamax(n, x, 1));
+                assertEquals(f2j.idamax(n / 2, x, 2), blas.idamax(n / 2, x, 2));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        for (int inc : new int[] { 2, 3, M }) {
+            assertEquals(f2j.idamax(K, dgeA, 1, inc), blas.idamax(K, dgeA, 1, inc));
+        }
+        for (int n = 1; n < 20; n += 1) {
+            assertEquals(f2j.idamax(n, dX, 3, 1), blas.idamax(n, dX, 3, 1));
+        }
+    }
 }
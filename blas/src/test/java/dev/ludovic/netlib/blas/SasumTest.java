@@ -37,4 +37,15 @@ public class SasumTest extends BLASTest {
     void testSanity(BLAS blas) {
         assertEquals(f2j.sasum(M, sX, 1), blas.sasum(M, sX, 1), sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        // rows of a column-major matrix, and every other or third element of a vector
+        for (int inc : new int[] { 2, 3, M }) {
+            assertEquals(f2j.sasum(K, sgeA, 1, inc), blas.sasum(K, sgeA, 1, inc), sepsilon);
+        }
+        // a stride large enough for each element to be in a different page
+        assertEquals(f2j.sasum(10, sgeA, 1, 1024), blas.sasum(10, sgeA, 1, 1024), sepsilon);
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaxpbyTest extends BLASTest {
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        float[] expected, sYcopy;
+
+        for (float[] ab : new float[][] { { 2.0f, 1.0f }, { 2.0f, 0.5f }, { -1.0f, -2.0f }, { 0.0f, 0.5f }, { 2.0f, 0.0f }, { 0.0f, 1.0f } }) {
+            expected = sY.clone();
+            f2j.sscal(M, ab[1], expected, 1);
+            f2j.saxpy(M, ab[0], sX, 1, expected, 1);
+            blas.saxpby(M, ab[0], sX, 1, ab[1], sYcopy = sY.clone(), 1);
+            assertArrayEquals(expected, sYcopy, sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeBcopy;
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1 }, { M, K }, { M, -2 }, { -M, 3 }, { -2, -K } }) {
+            expected = sgeB.clone();
+            f2j.sscal(K, 0.5f, expected, 2, Math.abs(inc[1]));
+            f2j.saxpy(K, 2.0f, sgeA, 1, inc[0], expected, 2, inc[1]);
+            blas.saxpby(K, 2.0f, sgeA, 1, inc[0], 0.5f, sgeBcopy = sgeB.clone(), 2, inc[1]);
+            assertArrayEquals(expected, sgeBcopy, sepsilon);
+        }
+
+        // a stride large enough for each element to be in a different page
+        expected = sgeB.clone();
+        f2j.sscal(10, 0.5f, expected, 2, 1024);
+        f2j.saxpy(10, 2.0f, sgeA, 1, 1024, expected, 2, -1024);
+        blas.saxpby(10, 2.0f, sgeA, 1, 1024, 0.5f, sgeBcopy = sgeB.clone(), 2, -1024);
+        assertArrayEquals(expected, sgeBcopy, sepsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBetaZeroIgnoresY(BLAS blas) {
+        float[] expected = new float[M], sYcopy = new float[M];
+        java.util.Arrays.fill(sYcopy, Float.NaN);
+
+        f2j.saxpy(M, 2.0f, sX, 1, expected, 1);
+        blas.saxpby(M, 2.0f, sX, 1, 0.0f, sYcopy, 1);
+        assertArrayEquals(expected, sYcopy, sepsilon);
+    }
+}
@@ -49,4 +49,22 @@ public class SaxpyTest extends BLASTest {
         blas.saxpy(M, -1.0f, sX, 1, sYcopy = sY.clone(), 1);
         assertArrayEquals(expected, sYcopy, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeBcopy;
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1 }, { M, K }, { M, -2 }, { -M, 3 }, { -2, -K } }) {
+            f2j.saxpy(K, 2.0f, sgeA, 1, inc[0], expected = sgeB.clone(), 2, inc[1]);
+            blas.saxpy(K, 2.0f, sgeA, 1, inc[0], sgeBcopy = sgeB.clone(), 2, inc[1]);
+            assertArrayEquals(expected, sgeBcopy, sepsilon);
+        }
+
+        // a stride large enough for each element to be in a different page
+        f2j.saxpy(10, 2.0f, sgeA, 1, 1024, expected = sgeB.clone(), 2, -1024);
+        blas.saxpy(10, 2.0f, sgeA, 1, 1024, sgeBcopy = sgeB.clone(), 2, -1024);
+        assertArrayEquals(expected, sgeBcopy, sepsilon);
+    }
 }
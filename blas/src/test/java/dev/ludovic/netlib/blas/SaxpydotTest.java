@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaxpydotTest extends BLASTest {
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        float[] expected, sYcopy;
+
+        for (float alpha : new float[] { 2.0f, -0.5f, 0.0f }) {
+            f2j.saxpy(M, alpha, sX, 1, expected = sY.clone(), 1);
+            float dot = f2j.sdot(M, expected, 1, sgeA, 1);
+            assertEquals(dot, blas.saxpydot(M, alpha, sX, 1, sYcopy = sY.clone(), 1, sgeA, 1), sepsilon);
+            assertArrayEquals(expected, sYcopy, sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testZIsY(BLAS blas) {
+        float[] expected, sYcopy;
+
+        f2j.saxpy(M, 2.0f, sX, 1, expected = sY.clone(), 1);
+        float dot = f2j.sdot(M, expected, 1, expected, 1);
+        sYcopy = sY.clone();
+        assertEquals(dot, blas.saxpydot(M, 2.0f, sX, 1, sYcopy, 1, sYcopy, 1), sepsilon);
+        assertArrayEquals(expected, sYcopy, sepsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeBcopy;
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1, 1 }, { M, K, 2 }, { M, -2, 3 }, { -M, 3, -1 }, { -2, -K, M } }) {
+            f2j.saxpy(K, 2.0f, sgeA, 1, inc[0], expected = sgeB.clone(), 2, inc[1]);
+            float dot = f2j.sdot(K, expected, 2, inc[1], sgeC, 3, inc[2]);
+            assertEquals(dot, blas.saxpydot(K, 2.0f, sgeA, 1, inc[0], sgeBcopy = sgeB.clone(), 2, inc[1], sgeC, 3, inc[2]), sepsilon);
+            assertArrayEquals(expected, sgeBcopy, sepsilon);
+        }
+
+        // a stride large enough for each element to be in a different page
+        f2j.saxpy(10, 2.0f, sgeA, 1, 1024, expected = sgeB.clone(), 2, -1024);
+        float dot = f2j.sdot(10, expected, 2, -1024, sgeC, 3, 1024);
+        assertEquals(dot, blas.saxpydot(10, 2.0f, sgeA, 1, 1024, sgeBcopy = sgeB.clone(), 2, -1024, sgeC, 3, 1024), sepsilon);
+        assertArrayEquals(expected, sgeBcopy, sepsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOutOfBoundOnlyForZ(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.saxpydot(M, 2.0f, sX, 1, sY.clone(), 1, sX, 2);
+        });
+    }
+}
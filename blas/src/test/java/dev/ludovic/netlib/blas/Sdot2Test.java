@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Sdot2Test extends BLASTest {
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        float[] dots = new float[2];
+        blas.sdot2(M, sX, 1, sY, 1, sgeA, 1, dots);
+        assertEquals(f2j.sdot(M, sX, 1, sY, 1), dots[0], sepsilon);
+        assertEquals(f2j.sdot(M, sX, 1, sgeA, 1), dots[1], sepsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testNIsZero(BLAS blas) {
+        float[] dots = new float[] { 1.0f, 1.0f, 1.0f };
+        blas.sdot2(0, null, 0, 1, null, 0, 1, null, 0, 1, dots, 1);
+        assertArrayEquals(new float[] { 1.0f, 0.0f, 0.0f }, dots);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOutOfBound(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.sdot2(M, sX, 1, sY, 1, sX, 2, new float[2]);
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.sdot2(M, sX, 0, 1, sY, 0, 1, sX, 0, 1, new float[2], 1);
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] dots = new float[2];
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1, 1 }, { M, K, 2 }, { M, -2, 3 }, { -M, 3, -1 }, { -2, -K, M } }) {
+            blas.sdot2(K, sgeA, 1, inc[0], sgeB, 2, inc[1], sgeC, 3, inc[2], dots, 0);
+            assertEquals(f2j.sdot(K, sgeA, 1, inc[0], sgeB, 2, inc[1]), dots[0], sepsilon);
+            assertEquals(f2j.sdot(K, sgeA, 1, inc[0], sgeC, 3, inc[2]), dots[1], sepsilon);
+        }
+
+        // a stride large enough for each element to be in a different page
+        blas.sdot2(10, sgeA, 1, 1024, sgeB, 2, -1024, sgeC, 3, 1024, dots, 0);
+        assertEquals(f2j.sdot(10, sgeA, 1, 1024, sgeB, 2, -1024), dots[0], sepsilon);
+        assertEquals(f2j.sdot(10, sgeA, 1, 1024, sgeC, 3, 1024), dots[1], sepsilon);
+    }
+}
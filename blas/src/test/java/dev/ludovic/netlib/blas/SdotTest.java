@@ -25,6 +25,9 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -65,14 +68,40 @@ public class SdotTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testXAndYAreNullAndNIsZero(BLAS blas) {
-        assertEquals(0.0f, blas.sdot(0, null, 1, null, 1));
+        assertEquals(0.0f, blas.sdot(0, (float[])null, 1, (float[])null, 1));
     }
 
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testXAndYAreNullAndNIsOne(BLAS blas) {
         assertThrows(java.lang.NullPointerException.class, () -> {
-            blas.sdot(1, null, 1, null, 1);
+            blas.sdot(1, (float[])null, 1, (float[])null, 1);
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1 }, { M, K }, { M, -2 }, { -M, 3 }, { -2, -K } }) {
+            assertEquals(f2j.sdot(K, sgeA, 1, inc[0], sgeB, 2, inc[1]), blas.sdot(K, sgeA, 1, inc[0], sgeB, 2, inc[1]), sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffers(BLAS blas) {
+        float expected = f2j.sdot(M, sX, 1, sY, 1);
+        assertEquals(expected, blas.sdot(M, directBuffer(sX), 1, directBuffer(sY), 1), sepsilon);
+        assertEquals(expected, blas.sdot(M, FloatBuffer.wrap(sX), 1, FloatBuffer.wrap(sY).asReadOnlyBuffer(), 1), sepsilon);
+        assertEquals(expected, blas.sdot(M, directBuffer(sX, 3, foreignOrder), 3, 1, directBuffer(sY, 5, ByteOrder.nativeOrder()), 5, 1), sepsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffersOutOfBound(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.sdot(M, directBuffer(sX), 1, 1, directBuffer(sY), 1, 1);
         });
     }
 }
@@ -35,6 +35,33 @@ public class SgbmvTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        float[] expected, sYcopy;
+
+        // the band is read from sgeA with lda = kl + ku + 1, including with more
+        // columns than rows plus superdiagonals
+        for (String trans : new String[] { "N", "T" }) {
+            for (int[] dims : new int[][] { { M, N, 2, 3 }, { M, N / 2, 0, 5 }, { M / 2, N, 7, 0 }, { M, N, 0, 0 }, { M, N, 40, 30 }, { 10, N, 2, 3 } }) {
+                int m = dims[0], n = dims[1], kl = dims[2], ku = dims[3];
+                for (float[] alphabeta : new float[][] { { 1.0f, 1.0f }, { 0.5f, -0.5f }, { 0.0f, 0.5f }, { -1.0f, 0.0f } }) {
+                    f2j.sgbmv(trans, m, n, kl, ku, alphabeta[0], sgeA, kl + ku + 1, sX, 1, alphabeta[1], expected = sY.clone(), 1);
+                    blas.sgbmv(trans, m, n, kl, ku, alphabeta[0], sgeA, kl + ku + 1, sX, 1, alphabeta[1], sYcopy = sY.clone(), 1);
+                    assertArrayEquals(expected, sYcopy, sepsilon);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeBcopy;
+
+        for (String trans : new String[] { "N", "T" }) {
+            for (int[] inc : new int[][] { { 2, 1 }, { 1, 3 }, { -2, 2 }, { 3, -1 } }) {
+                f2j.sgbmv(trans, M, N, 5, 4, 0.5f, sgeA, 10, sgeB, inc[0], 2.0f, expected = sgeB.clone(), inc[1]);
+                blas.sgbmv(trans, M, N, 5, 4, 0.5f, sgeA, 10, sgeB, inc[0], 2.0f, sgeBcopy = sgeB.clone(), inc[1]);
+                assertArrayEquals(expected, sgeBcopy, sepsilon);
+            }
+        }
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SgemmStridedBatchedTest extends BLASTest {
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        java.util.Random rand = new java.util.Random(0);
+        for (int size : new int[] { 1, 4, 7, 16, 33 }) {
+            int m = size, n = size + 1, k = size + 2, batchCount = 50;
+            int stridea = m * k + 3, strideb = k * n, stridec = m * n + 2;
+            float[] a = new float[batchCount * stridea + 1], b = new float[batchCount * strideb], c = new float[batchCount * stridec + 2];
+            for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat();
+            for (int i = 0; i < b.length; i++) b[i] = rand.nextFloat();
+            for (int i = 0; i < c.length; i++) c[i] = rand.nextFloat();
+
+            for (String transa : new String[] { "N", "T" }) {
+                for (String transb : new String[] { "N", "T" }) {
+                    int lda = transa.equals("N") ? m : k, ldb = transb.equals("N") ? k : n;
+                    for (float[] alphabeta : new float[][] { { 1.0f, 2.0f }, { 2.0f, 0.0f }, { 0.0f, 2.0f } }) {
+                        float[] expected = c.clone(), sgeCcopy = c.clone();
+                        for (int i = 0; i < batchCount; i++) {
+                            f2j.sgemm(transa, transb, m, n, k, alphabeta[0], a, 1 + i * stridea, lda, b, i * strideb, ldb, alphabeta[1], expected, 2 + i * stridec, m);
+                        }
+                        blas.sgemmStridedBatched(transa, transb, m, n, k, alphabeta[0], a, 1, lda, stridea, b, 0, ldb, strideb, alphabeta[1], sgeCcopy, 2, m, stridec, batchCount);
+                        assertArrayEquals(expected, sgeCcopy, sepsilon);
+
+                        // a stride of 0 multiplies all the matrices of the batch by the same matrix
+                        expected = c.clone();
+                        sgeCcopy = c.clone();
+                        for (int i = 0; i < batchCount; i++) {
+                            f2j.sgemm(transa, transb, m, n, k, alphabeta[0], a, 0, lda, b, i * strideb, ldb, alphabeta[1], expected, i * stridec, m);
+                        }
+                        blas.sgemmStridedBatched(transa, transb, m, n, k, alphabeta[0], a, lda, 0, b, ldb, strideb, alphabeta[1], sgeCcopy, m, stridec, batchCount);
+                        assertArrayEquals(expected, sgeCcopy, sepsilon);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOutOfBound(BLAS blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.sgemmStridedBatched("N", "N", M, N, K, 1.0f, sgeA, M, 1, sgeB, K, 0, 2.0f, sgeC.clone(), M, M * N, 2);
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.sgemmStridedBatched("N", "N", M, N, K, 1.0f, sgeA, M, Integer.MAX_VALUE, sgeB, K, 0, 2.0f, sgeC.clone(), M, M * N, 3);
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testOverlappingC(BLAS blas) {
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            blas.sgemmStridedBatched("N", "N", M, N, K, 1.0f, sgeA, M, 0, sgeB, K, 0, 2.0f, new float[2 * M * N], M, 0, 2);
+        });
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            blas.sgemmStridedBatched("N", "N", M, N, K, 1.0f, sgeA, M, 0, sgeB, K, 0, 2.0f, new float[2 * M * N], M, M * N - 1, 2);
+        });
+    }
+}
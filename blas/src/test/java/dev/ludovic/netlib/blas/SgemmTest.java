@@ -25,10 +25,14 @@
 
 package dev.ludovic.netlib.blas;
 
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
 
 public class SgemmTest extends BLASTest {
 
@@ -223,4 +227,100 @@ public class SgemmTest extends BLASTest {
         blas.sgemm("N", "N", 2, 1, 3, 1.0f, a, 2, 3, b, 0, 3, 0.0f, c, 0, 2);
         assertArrayEquals(cExpected, c, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testParallel(BLAS blas) {
+        // large enough to be split across threads by the Java implementations
+        int m = 3 * M, n = 3 * N, k = 3 * K;
+        java.util.Random rand = new java.util.Random(0);
+        float[] a = new float[m * k], b = new float[k * n], c = new float[m * n];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat();
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextFloat();
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextFloat();
+        float[] expected, fgeCcopy;
+
+        f2j.sgemm("N", "N", m, n, k, 1.0f, a, m, b, k, 2.0f, expected = c.clone(), m);
+        blas.sgemm("N", "N", m, n, k, 1.0f, a, m, b, k, 2.0f, fgeCcopy = c.clone(), m);
+        assertArrayEquals(expected, fgeCcopy, sepsilon);
+
+        f2j.sgemm("T", "T", m, n, k, 1.0f, a, k, b, n, 0.0f, expected = c.clone(), m);
+        blas.sgemm("T", "T", m, n, k, 1.0f, a, k, b, n, 0.0f, fgeCcopy = c.clone(), m);
+        assertArrayEquals(expected, fgeCcopy, sepsilon);
+
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+        try {
+            f2j.sgemm("N", "T", m, n, k, 1.0f, a, m, b, n, 2.0f, expected = c.clone(), m);
+            float[] ccopy = fgeCcopy = c.clone();
+            pool.submit(() -> blas.sgemm("N", "T", m, n, k, 1.0f, a, m, b, n, 2.0f, ccopy, m)).join();
+            assertArrayEquals(expected, fgeCcopy, sepsilon);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testContiguous(BLAS blas) {
+        // few enough rows for a tile of c to span whole columns, so it is updated in place
+        for (int m : new int[] { 48, 50 }) {
+            int n = 2 * N, k = 2 * K;
+            java.util.Random rand = new java.util.Random(0);
+            float[] a = new float[m * k], b = new float[k * n], c = new float[m * n];
+            for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat();
+            for (int i = 0; i < b.length; i++) b[i] = rand.nextFloat();
+            for (int i = 0; i < c.length; i++) c[i] = rand.nextFloat();
+            float[] expected, sgeCcopy;
+
+            f2j.sgemm("N", "N", m, n, k, 1.0f, a, m, b, k, 2.0f, expected = c.clone(), m);
+            blas.sgemm("N", "N", m, n, k, 1.0f, a, m, b, k, 2.0f, sgeCcopy = c.clone(), m);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+
+            f2j.sgemm("T", "N", m, n, k, 1.0f, a, k, b, k, 0.0f, expected = c.clone(), m);
+            blas.sgemm("T", "N", m, n, k, 1.0f, a, k, b, k, 0.0f, sgeCcopy = c.clone(), m);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBlocking(BLAS blas) {
+        // blockings that don't line up with the tiles of the kernels, or with the matrices
+        assumeTrue(blas instanceof Java8BLAS);
+        int m = 2 * M, n = 2 * N, k = 2 * K;
+        java.util.Random rand = new java.util.Random(0);
+        float[] a = new float[m * k], b = new float[k * n], c = new float[m * n];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat();
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextFloat();
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextFloat();
+        float[] expected, sgeCcopy;
+
+        for (int[] blocking : new int[][] { { 1, 1, 1 }, { 7, 5, 3 }, { 17, 33, 13 }, { 1000, 1000, 1000 } }) {
+            f2j.sgemm("N", "N", m, n, k, 2.0f, a, m, b, k, 1.0f, expected = c.clone(), m);
+            ((Java8BLAS)blas).sgemmGEPP("N", "N", 0, m, 0, n, k, 2.0f, a, 0, m, b, 0, k, sgeCcopy = c.clone(), 0, m, blocking[0], blocking[1], blocking[2]);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+
+            f2j.sgemm("T", "T", m, n, k, 2.0f, a, k, b, n, 1.0f, expected = c.clone(), m);
+            ((Java8BLAS)blas).sgemmGEPP("T", "T", 0, m, 0, n, k, 2.0f, a, 0, k, b, 0, n, sgeCcopy = c.clone(), 0, m, blocking[0], blocking[1], blocking[2]);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testBuffers(BLAS blas) {
+        float[] expected;
+        FloatBuffer c;
+
+        f2j.sgemm("T", "N", M, N, K, 1.0f, sgeAT, K, sgeB, K, 2.0f, expected = sgeC.clone(), M);
+
+        blas.sgemm("T", "N", M, N, K, 1.0f, directBuffer(sgeAT), K, directBuffer(sgeB), K, 2.0f, c = directBuffer(sgeC), M);
+        assertArrayEquals(expected, toArray(c, 0), sepsilon);
+
+        blas.sgemm("T", "N", M, N, K, 1.0f, FloatBuffer.wrap(sgeAT), K, FloatBuffer.wrap(sgeB), K, 2.0f, c = FloatBuffer.wrap(sgeC.clone()), M);
+        assertArrayEquals(expected, toArray(c, 0), sepsilon);
+
+        blas.sgemm("T", "N", M, N, K, 1.0f, directBuffer(sgeAT, 5, foreignOrder), 5, K, directBuffer(sgeB), 0, K, 2.0f, c = directBuffer(sgeC, 2, foreignOrder), 2, M);
+        assertArrayEquals(expected, toArray(c, 2), sepsilon);
+    }
 }
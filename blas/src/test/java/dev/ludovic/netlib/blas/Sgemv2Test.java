@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Sgemv2Test extends BLASTest {
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testSanity(BLAS blas) {
+        float[] expected1, expected2, sY1copy, sY2copy;
+
+        for (String trans : new String[] { "N", "T" }) {
+            for (float[] ab : new float[][] { { 1.0f, 1.0f }, { 0.5f, -0.5f }, { -0.5f, 0.0f }, { 0.0f, 0.5f } }) {
+                f2j.sgemv(trans, M, N, ab[0], sgeA, M, sX, 1, ab[1], expected1 = sY.clone(), 1);
+                f2j.sgemv(trans, M, N, ab[0], sgeA, M, sY, 1, ab[1], expected2 = sX.clone(), 1);
+                blas.sgemv2(trans, M, N, ab[0], sgeA, M, sX, 1, sY, 1, ab[1], sY1copy = sY.clone(), 1, sY2copy = sX.clone(), 1);
+                assertArrayEquals(expected1, sY1copy, sepsilon);
+                assertArrayEquals(expected2, sY2copy, sepsilon);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected1, expected2, y1copy, y2copy;
+
+        // the vectors are rows and columns of sgeB, in both directions
+        for (String trans : new String[] { "N", "T" }) {
+            for (int[] inc : new int[][] { { 1, K, 1, 1 }, { -1, 2, K, -1 }, { K, -K, -1, 2 } }) {
+                int m = M / 2, n = N / 2;
+                f2j.sgemv(trans, m, n, 0.5f, sgeA, 1, M, sgeB, 1, inc[0], 2.0f, expected1 = sgeC.clone(), 0, inc[2]);
+                f2j.sgemv(trans, m, n, 0.5f, sgeA, 1, M, sgeB, 2, inc[1], 2.0f, expected2 = sgeAT.clone(), 3, inc[3]);
+                blas.sgemv2(trans, m, n, 0.5f, sgeA, 1, M, sgeB, 1, inc[0], sgeB, 2, inc[1], 2.0f, y1copy = sgeC.clone(), 0, inc[2], y2copy = sgeAT.clone(), 3, inc[3]);
+                assertArrayEquals(expected1, y1copy, sepsilon);
+                assertArrayEquals(expected2, y2copy, sepsilon);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testParallel(BLAS blas) {
+        // large enough to be split across threads by the Java implementations
+        java.util.Random rand = new java.util.Random(0);
+        for (int[] dims : new int[][] { { 1500, 1000 }, { 40000, 30 } }) {
+            int m = dims[0], n = dims[1];
+            float[] a = new float[m * n], x1 = new float[Math.max(m, n)], x2 = new float[Math.max(m, n)];
+            float[] y1 = new float[Math.max(m, n)], y2 = new float[Math.max(m, n)];
+            for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat() - 0.5f;
+            for (int i = 0; i < x1.length; i++) x1[i] = rand.nextFloat() - 0.5f;
+            for (int i = 0; i < x2.length; i++) x2[i] = rand.nextFloat() - 0.5f;
+            for (int i = 0; i < y1.length; i++) y1[i] = rand.nextFloat() - 0.5f;
+            for (int i = 0; i < y2.length; i++) y2[i] = rand.nextFloat() - 0.5f;
+            float[] expected1, expected2, y1copy, y2copy;
+
+            for (String trans : new String[] { "N", "T" }) {
+                f2j.sgemv(trans, m, n, 1.5f, a, m, x1, 1, 2.0f, expected1 = y1.clone(), 1);
+                f2j.sgemv(trans, m, n, 1.5f, a, m, x2, 1, 2.0f, expected2 = y2.clone(), 1);
+                blas.sgemv2(trans, m, n, 1.5f, a, m, x1, 1, x2, 1, 2.0f, y1copy = y1.clone(), 1, y2copy = y2.clone(), 1);
+                assertArrayEquals(expected1, y1copy, sepsilon);
+                assertArrayEquals(expected2, y2copy, sepsilon);
+            }
+        }
+    }
+}
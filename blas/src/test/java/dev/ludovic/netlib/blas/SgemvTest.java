@@ -135,4 +135,40 @@ public class SgemvTest extends BLASTest {
         blas.sgemv("N", 2, 3, 1.0f, a, 2, 3, x, 0, 1, 0.0f, y, 0, 1);
         assertArrayEquals(yExpected, y, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testParallel(BLAS blas) {
+        // large enough to be split across threads by the Java implementations, by rows, by
+        // columns, and by rows with a reduction for a tall matrix with trans = T
+        java.util.Random rand = new java.util.Random(0);
+        for (int[] dims : new int[][] { { 1500, 1000 }, { 40000, 30 }, { 30, 40000 } }) {
+            int m = dims[0], n = dims[1];
+            float[] a = new float[m * n], x = new float[Math.max(m, n)], y = new float[Math.max(m, n)];
+            for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat() - 0.5f;
+            for (int i = 0; i < x.length; i++) x[i] = rand.nextFloat() - 0.5f;
+            for (int i = 0; i < y.length; i++) y[i] = rand.nextFloat() - 0.5f;
+            float[] expected, ycopy;
+
+            for (String trans : new String[] { "N", "T" }) {
+                f2j.sgemv(trans, m, n, 1.5f, a, m, x, 1, 2.0f, expected = y.clone(), 1);
+                blas.sgemv(trans, m, n, 1.5f, a, m, x, 1, 2.0f, ycopy = y.clone(), 1);
+                assertArrayEquals(expected, ycopy, sepsilon);
+
+                f2j.sgemv(trans, m, n, 1.5f, a, m, x, -1, 0.0f, expected = y.clone(), -1);
+                blas.sgemv(trans, m, n, 1.5f, a, m, x, -1, 0.0f, ycopy = y.clone(), -1);
+                assertArrayEquals(expected, ycopy, sepsilon);
+
+                java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(3);
+                try {
+                    f2j.sgemv(trans, m, n, 1.5f, a, m, x, 1, 2.0f, expected = y.clone(), 1);
+                    float[] yclone = ycopy = y.clone();
+                    pool.submit(() -> blas.sgemv(trans, m, n, 1.5f, a, m, x, 1, 2.0f, yclone, 1)).join();
+                    assertArrayEquals(expected, ycopy, sepsilon);
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+    }
 }
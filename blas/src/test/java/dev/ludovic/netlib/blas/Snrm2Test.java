@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
 
 public class Snrm2Test extends BLASTest {
 
@@ -38,4 +39,38 @@ public class Snrm2Test extends BLASTest {
         assertEquals(f2j.snrm2(M / 1, sX, 1), blas.snrm2(M / 1, sX, 1), sepsilon);
         assertEquals(f2j.snrm2(M / 2, sX, 2), blas.snrm2(M / 2, sX, 2), sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testScaling(BLAS blas) {
+        // values whose squares underflow or overflow, alone and next to well-scaled ones
+        for (float scale : new float[] { 0x1p-80f, 0x1p-66f, 0x1p50f, 0x1p70f }) {
+            float[] x = new float[M];
+            for (int i = 0; i < M; i += 1) {
+                x[i] = sX[i] * scale;
+            }
+            float expected = f2j.snrm2(M, x, 1);
+            assertEquals(expected, blas.snrm2(M, x, 1), expected * sepsilon);
+            expected = f2j.snrm2(M / 2, x, 2);
+            assertEquals(expected, blas.snrm2(M / 2, x, 2), expected * sepsilon);
+            x[M / 2] = 1.0f;
+            expected = f2j.snrm2(M, x, 1);
+            assertEquals(expected, blas.snrm2(M, x, 1), expected * sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testNaNAndInfinity(BLAS blas) {
+        // native libraries differ in how they handle NaN and infinities
+        assumeTrue(blas instanceof JavaBLAS);
+
+        float[] x = sX.clone();
+        x[M / 2] = Float.POSITIVE_INFINITY;
+        assertEquals(Float.POSITIVE_INFINITY, blas.snrm2(M, x, 1));
+        x[M / 3] = Float.NaN;
+        assertTrue(Float.isNaN(blas.snrm2(M, x, 1)));
+        x = new float[M];
+        assertEquals(0.0f, blas.snrm2(M, x, 1));
+    }
 }
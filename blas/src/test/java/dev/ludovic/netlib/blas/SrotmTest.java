@@ -35,6 +35,32 @@ public class SrotmTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        float[] expectedX, expectedY, sXcopy, sYcopy;
+
+        // the full H, the two cases with implicit 1.0 and -1.0 entries, and the identity
+        for (float flag : new float[] { -1.0f, 0.0f, 1.0f, -2.0f }) {
+            float[] param = new float[] { flag, 2.0f, -3.0f, 0.5f, 4.0f };
+            f2j.srotm(M, expectedX = sX.clone(), 1, expectedY = sY.clone(), 1, param);
+            blas.srotm(M, sXcopy = sX.clone(), 1, sYcopy = sY.clone(), 1, param);
+            assertArrayEquals(expectedX, sXcopy, sepsilon);
+            assertArrayEquals(expectedY, sYcopy, sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expectedA, expectedB, sgeAcopy, sgeBcopy;
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (float flag : new float[] { -1.0f, 0.0f, 1.0f }) {
+            float[] param = new float[] { flag, 2.0f, -3.0f, 0.5f, 4.0f };
+            for (int[] inc : new int[][] { { 2, 1 }, { M, K }, { M, -2 }, { -M, 3 }, { -2, -K } }) {
+                f2j.srotm(K, expectedA = sgeA.clone(), 1, inc[0], expectedB = sgeB.clone(), 2, inc[1], param, 0);
+                blas.srotm(K, sgeAcopy = sgeA.clone(), 1, inc[0], sgeBcopy = sgeB.clone(), 2, inc[1], param, 0);
+                assertArrayEquals(expectedA, sgeAcopy, sepsilon);
+                assertArrayEquals(expectedB, sgeBcopy, sepsilon);
+            }
+        }
     }
 }
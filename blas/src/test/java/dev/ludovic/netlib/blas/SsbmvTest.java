@@ -35,6 +35,32 @@ public class SsbmvTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        float[] expected, sYcopy;
+
+        // the band is read from sgeA with lda = k + 1, including with k >= n
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int[] dims : new int[][] { { N, 0 }, { N, 1 }, { N, 5 }, { N, 40 }, { N, N - 1 }, { N / 2, N } }) {
+                int n = dims[0], k = dims[1];
+                for (float[] alphabeta : new float[][] { { 1.0f, 1.0f }, { 0.5f, -0.5f }, { 0.0f, 0.5f }, { -1.0f, 0.0f } }) {
+                    f2j.ssbmv(uplo, n, k, alphabeta[0], sgeA, k + 1, sX, 1, alphabeta[1], expected = sY.clone(), 1);
+                    blas.ssbmv(uplo, n, k, alphabeta[0], sgeA, k + 1, sX, 1, alphabeta[1], sYcopy = sY.clone(), 1);
+                    assertArrayEquals(expected, sYcopy, sepsilon);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeBcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int[] inc : new int[][] { { 2, 1 }, { 1, 3 }, { -2, 2 }, { 3, -1 } }) {
+                f2j.ssbmv(uplo, N, 7, 0.5f, sgeA, 8, sgeB, inc[0], 2.0f, expected = sgeB.clone(), inc[1]);
+                blas.ssbmv(uplo, N, 7, 0.5f, sgeA, 8, sgeB, inc[0], 2.0f, sgeBcopy = sgeB.clone(), inc[1]);
+                assertArrayEquals(expected, sgeBcopy, sepsilon);
+            }
+        }
     }
 }
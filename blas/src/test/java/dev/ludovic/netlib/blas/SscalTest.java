@@ -49,4 +49,17 @@ public class SscalTest extends BLASTest {
         blas.sscal(M, 0.0f, sXcopy = sX.clone(), 1);
         assertArrayEquals(expected, sXcopy, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeAcopy;
+
+        // rows of a column-major matrix, and every other or third element of a vector
+        for (int inc : new int[] { 2, 3, M }) {
+            f2j.sscal(K, 2.0f, expected = sgeA.clone(), 1, inc);
+            blas.sscal(K, 2.0f, sgeAcopy = sgeA.clone(), 1, inc);
+            assertArrayEquals(expected, sgeAcopy, sepsilon);
+        }
+    }
 }
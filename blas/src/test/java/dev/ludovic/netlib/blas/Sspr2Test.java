@@ -45,4 +45,18 @@ public class Sspr2Test extends BLASTest {
         blas.sspr2("L", M, 2.0f, sX, 1, sY, 1, sgeAcopy = sgeAL.clone());
         assertArrayEquals(expected, sgeAcopy, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeAcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int[] inc : new int[][] { { 2, 1 }, { 1, 3 }, { -2, 2 }, { 3, -1 } }) {
+                f2j.sspr2(uplo, M, 2.0f, sgeB, inc[0], sgeC, inc[1], expected = (uplo.equals("U") ? sgeAU : sgeAL).clone());
+                blas.sspr2(uplo, M, 2.0f, sgeB, inc[0], sgeC, inc[1], sgeAcopy = (uplo.equals("U") ? sgeAU : sgeAL).clone());
+                assertArrayEquals(expected, sgeAcopy, sepsilon);
+            }
+        }
+    }
 }
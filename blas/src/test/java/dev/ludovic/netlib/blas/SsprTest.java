@@ -45,4 +45,18 @@ public class SsprTest extends BLASTest {
         blas.sspr("L", M, 2.0f, sX, 1, sgeAcopy = sgeAL.clone());
         assertArrayEquals(expected, sgeAcopy, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeAcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int inc : new int[] { 2, -1, -3 }) {
+                f2j.sspr(uplo, M, 2.0f, sgeB, inc, expected = (uplo.equals("U") ? sgeAU : sgeAL).clone());
+                blas.sspr(uplo, M, 2.0f, sgeB, inc, sgeAcopy = (uplo.equals("U") ? sgeAU : sgeAL).clone());
+                assertArrayEquals(expected, sgeAcopy, sepsilon);
+            }
+        }
+    }
 }
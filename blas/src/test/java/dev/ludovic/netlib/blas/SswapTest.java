@@ -42,4 +42,18 @@ public class SswapTest extends BLASTest {
         assertArrayEquals(expectedX, sXcopy, sepsilon);
         assertArrayEquals(expectedY, sYcopy, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expectedA, expectedB, sgeAcopy, sgeBcopy;
+
+        // rows of column-major matrices, and every other or third element of a vector, in both directions
+        for (int[] inc : new int[][] { { 2, 1 }, { M, K }, { M, -2 }, { -M, 3 }, { -2, -K } }) {
+            f2j.sswap(K, expectedA = sgeA.clone(), 1, inc[0], expectedB = sgeB.clone(), 2, inc[1]);
+            blas.sswap(K, sgeAcopy = sgeA.clone(), 1, inc[0], sgeBcopy = sgeB.clone(), 2, inc[1]);
+            assertArrayEquals(expectedA, sgeAcopy, sepsilon);
+            assertArrayEquals(expectedB, sgeBcopy, sepsilon);
+        }
+    }
 }
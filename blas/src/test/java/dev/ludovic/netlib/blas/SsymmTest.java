@@ -85,4 +85,29 @@ public class SsymmTest extends BLASTest {
         blas.ssymm("R", "L", M, N, 0.0f, ssyA, N, sgeB, M, 1.0f, sgeCcopy = sgeC.clone(), M);
         assertArrayEquals(expected, sgeCcopy, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // wide enough for the right side to go through several panels of the packed gemm
+        int m = 3 * M + 2, n = 3 * N;
+        java.util.Random rand = new java.util.Random(0);
+        float[] a = new float[Math.max(m, n) * Math.max(m, n)];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat();
+        float[] b = new float[m * n];
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextFloat();
+        float[] c = new float[m * n];
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextFloat();
+        float[] expected, sgeCcopy;
+
+        for (String side : new String[] { "L", "R" }) {
+            for (String uplo : new String[] { "U", "L" }) {
+                for (float beta : new float[] { 2.0f, 0.0f }) {
+                    f2j.ssymm(side, uplo, m, n, 2.0f, a, side.equals("L") ? m : n, b, m, beta, expected = c.clone(), m);
+                    blas.ssymm(side, uplo, m, n, 2.0f, a, side.equals("L") ? m : n, b, m, beta, sgeCcopy = c.clone(), m);
+                    assertArrayEquals(expected, sgeCcopy, sepsilon);
+                }
+            }
+        }
+    }
 }
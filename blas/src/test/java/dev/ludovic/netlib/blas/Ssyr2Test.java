@@ -45,4 +45,18 @@ public class Ssyr2Test extends BLASTest {
         blas.ssyr2("L", M, 2.0f, sX, 1, sY, 1, ssyAcopy = ssyA.clone(), M);
         assertArrayEquals(expected, ssyAcopy, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, ssyAcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int[] inc : new int[][] { { 2, 1 }, { 1, 3 }, { -2, 2 }, { 3, -1 } }) {
+                f2j.ssyr2(uplo, M, 2.0f, sgeB, inc[0], sgeC, inc[1], expected = ssyA.clone(), M);
+                blas.ssyr2(uplo, M, 2.0f, sgeB, inc[0], sgeC, inc[1], ssyAcopy = ssyA.clone(), M);
+                assertArrayEquals(expected, ssyAcopy, sepsilon);
+            }
+        }
+    }
 }
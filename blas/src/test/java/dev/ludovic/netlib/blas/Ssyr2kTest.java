@@ -32,9 +32,70 @@ import static org.junit.jupiter.api.Assertions.*;
 
 public class Ssyr2kTest extends BLASTest {
 
+    // Entries of C reach ~1300, and the off-diagonal blocks are summed in a different
+    // order than the reference implementation, which is a few float ulps at that scale
+    final static float s2epsilon = 1e-2f;
+
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        float[] expected, sgeCcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            f2j.ssyr2k(uplo, "N", M, K, 1.0f, sgeA, M, sgeB, M, 2.0f, expected = sgeC.clone(), M);
+            blas.ssyr2k(uplo, "N", M, K, 1.0f, sgeA, M, sgeB, M, 2.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, s2epsilon);
+
+            f2j.ssyr2k(uplo, "N", M, K, 2.0f, sgeA, M, sgeB, M, 1.0f, expected = sgeC.clone(), M);
+            blas.ssyr2k(uplo, "N", M, K, 2.0f, sgeA, M, sgeB, M, 1.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, s2epsilon);
+
+            f2j.ssyr2k(uplo, "N", M, K, 1.0f, sgeA, M, sgeB, M, 0.0f, expected = sgeC.clone(), M);
+            blas.ssyr2k(uplo, "N", M, K, 1.0f, sgeA, M, sgeB, M, 0.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, s2epsilon);
+
+            f2j.ssyr2k(uplo, "N", M, K, 0.0f, sgeA, M, sgeB, M, 2.0f, expected = sgeC.clone(), M);
+            blas.ssyr2k(uplo, "N", M, K, 0.0f, sgeA, M, sgeB, M, 2.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, s2epsilon);
+
+            f2j.ssyr2k(uplo, "T", M, K, 1.0f, sgeAT, K, sgeB, K, 2.0f, expected = sgeC.clone(), M);
+            blas.ssyr2k(uplo, "T", M, K, 1.0f, sgeAT, K, sgeB, K, 2.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, s2epsilon);
+
+            f2j.ssyr2k(uplo, "T", M, K, 2.0f, sgeAT, K, sgeB, K, 1.0f, expected = sgeC.clone(), M);
+            blas.ssyr2k(uplo, "T", M, K, 2.0f, sgeAT, K, sgeB, K, 1.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, s2epsilon);
+
+            f2j.ssyr2k(uplo, "T", M, K, 1.0f, sgeAT, K, sgeB, K, 0.0f, expected = sgeC.clone(), M);
+            blas.ssyr2k(uplo, "T", M, K, 1.0f, sgeAT, K, sgeB, K, 0.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, s2epsilon);
+
+            f2j.ssyr2k(uplo, "T", M, K, 0.0f, sgeAT, K, sgeB, K, 2.0f, expected = sgeC.clone(), M);
+            blas.ssyr2k(uplo, "T", M, K, 0.0f, sgeAT, K, sgeB, K, 2.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, s2epsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // large enough to go through the packed gemm, and to be split across threads
+        int n = 3 * N, k = 3 * K;
+        java.util.Random rand = new java.util.Random(0);
+        float[] a = new float[n * k];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat();
+        float[] b = new float[n * k];
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextFloat();
+        float[] c = new float[n * n];
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextFloat();
+        float[] expected, sgeCcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (String trans : new String[] { "N", "T" }) {
+                f2j.ssyr2k(uplo, trans, n, k, 2.0f, a, trans.equals("N") ? n : k, b, trans.equals("N") ? n : k, 2.0f, expected = c.clone(), n);
+                blas.ssyr2k(uplo, trans, n, k, 2.0f, a, trans.equals("N") ? n : k, b, trans.equals("N") ? n : k, 2.0f, sgeCcopy = c.clone(), n);
+                assertArrayEquals(expected, sgeCcopy, s2epsilon);
+            }
+        }
     }
 }
@@ -45,4 +45,18 @@ public class SsyrTest extends BLASTest {
         blas.ssyr("L", M, 2.0f, sX, 1, ssyAcopy = ssyA.clone(), M);
         assertArrayEquals(expected, ssyAcopy, sepsilon);
     }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, ssyAcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int inc : new int[] { 2, -1, -3 }) {
+                f2j.ssyr(uplo, M, 2.0f, sgeB, inc, expected = ssyA.clone(), M);
+                blas.ssyr(uplo, M, 2.0f, sgeB, inc, ssyAcopy = ssyA.clone(), M);
+                assertArrayEquals(expected, ssyAcopy, sepsilon);
+            }
+        }
+    }
 }
@@ -35,6 +35,61 @@ public class SsyrkTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        float[] expected, sgeCcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            f2j.ssyrk(uplo, "N", M, K, 1.0f, sgeA, M, 2.0f, expected = sgeC.clone(), M);
+            blas.ssyrk(uplo, "N", M, K, 1.0f, sgeA, M, 2.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+
+            f2j.ssyrk(uplo, "N", M, K, 2.0f, sgeA, M, 1.0f, expected = sgeC.clone(), M);
+            blas.ssyrk(uplo, "N", M, K, 2.0f, sgeA, M, 1.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+
+            f2j.ssyrk(uplo, "N", M, K, 1.0f, sgeA, M, 0.0f, expected = sgeC.clone(), M);
+            blas.ssyrk(uplo, "N", M, K, 1.0f, sgeA, M, 0.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+
+            f2j.ssyrk(uplo, "N", M, K, 0.0f, sgeA, M, 2.0f, expected = sgeC.clone(), M);
+            blas.ssyrk(uplo, "N", M, K, 0.0f, sgeA, M, 2.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+
+            f2j.ssyrk(uplo, "T", M, K, 1.0f, sgeAT, K, 2.0f, expected = sgeC.clone(), M);
+            blas.ssyrk(uplo, "T", M, K, 1.0f, sgeAT, K, 2.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+
+            f2j.ssyrk(uplo, "T", M, K, 2.0f, sgeAT, K, 1.0f, expected = sgeC.clone(), M);
+            blas.ssyrk(uplo, "T", M, K, 2.0f, sgeAT, K, 1.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+
+            f2j.ssyrk(uplo, "T", M, K, 1.0f, sgeAT, K, 0.0f, expected = sgeC.clone(), M);
+            blas.ssyrk(uplo, "T", M, K, 1.0f, sgeAT, K, 0.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+
+            f2j.ssyrk(uplo, "T", M, K, 0.0f, sgeAT, K, 2.0f, expected = sgeC.clone(), M);
+            blas.ssyrk(uplo, "T", M, K, 0.0f, sgeAT, K, 2.0f, sgeCcopy = sgeC.clone(), M);
+            assertArrayEquals(expected, sgeCcopy, sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // large enough to go through the packed gemm, and to be split across threads
+        int n = 3 * N, k = 3 * K;
+        java.util.Random rand = new java.util.Random(0);
+        float[] a = new float[n * k];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat();
+        float[] c = new float[n * n];
+        for (int i = 0; i < c.length; i++) c[i] = rand.nextFloat();
+        float[] expected, sgeCcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (String trans : new String[] { "N", "T" }) {
+                f2j.ssyrk(uplo, trans, n, k, 2.0f, a, trans.equals("N") ? n : k, 2.0f, expected = c.clone(), n);
+                blas.ssyrk(uplo, trans, n, k, 2.0f, a, trans.equals("N") ? n : k, 2.0f, sgeCcopy = c.clone(), n);
+                assertArrayEquals(expected, sgeCcopy, sepsilon);
+            }
+        }
     }
 }
@@ -35,6 +35,38 @@ public class StbmvTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        float[] expected, sXcopy;
+
+        // the band is extracted from strA with lda = k + 1, including with k >= n
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int[] dims : new int[][] { { N, 0 }, { N, 1 }, { N, 5 }, { N, 40 }, { N, N - 1 }, { N / 2, N } }) {
+                int n = dims[0], k = dims[1];
+                float[] a = convertToFloat(extractBand(uplo, dtrA, n, k, M));
+                for (String trans : new String[] { "N", "T" }) {
+                    for (String diag : new String[] { "N", "U" }) {
+                        f2j.stbmv(uplo, trans, diag, n, k, a, k + 1, expected = sX.clone(), 1);
+                        blas.stbmv(uplo, trans, diag, n, k, a, k + 1, sXcopy = sX.clone(), 1);
+                        assertArrayEquals(expected, sXcopy, sepsilon);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeBcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            float[] a = convertToFloat(extractBand(uplo, dtrA, N, 7, M));
+            for (String trans : new String[] { "N", "T" }) {
+                for (int inc : new int[] { 2, -1, -3 }) {
+                    f2j.stbmv(uplo, trans, "N", N, 7, a, 8, expected = sgeB.clone(), inc);
+                    blas.stbmv(uplo, trans, "N", N, 7, a, 8, sgeBcopy = sgeB.clone(), inc);
+                    assertArrayEquals(expected, sgeBcopy, sepsilon);
+                }
+            }
+        }
     }
 }
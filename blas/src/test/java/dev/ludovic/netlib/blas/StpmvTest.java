@@ -35,6 +35,36 @@ public class StpmvTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        float[] expected, sXcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (int n : new int[] { 1, 10, N }) {
+                float[] a = convertToFloat(extractUPLO(uplo, dtrA, n, M));
+                for (String trans : new String[] { "N", "T" }) {
+                    for (String diag : new String[] { "N", "U" }) {
+                        f2j.stpmv(uplo, trans, diag, n, a, expected = sX.clone(), 1);
+                        blas.stpmv(uplo, trans, diag, n, a, sXcopy = sX.clone(), 1);
+                        assertArrayEquals(expected, sXcopy, sepsilon);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeBcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            float[] a = convertToFloat(extractUPLO(uplo, dtrA, N, M));
+            for (String trans : new String[] { "N", "T" }) {
+                for (int inc : new int[] { 2, -1, -3 }) {
+                    f2j.stpmv(uplo, trans, "N", N, a, expected = sgeB.clone(), inc);
+                    blas.stpmv(uplo, trans, "N", N, a, sgeBcopy = sgeB.clone(), inc);
+                    assertArrayEquals(expected, sgeBcopy, sepsilon);
+                }
+            }
+        }
     }
 }
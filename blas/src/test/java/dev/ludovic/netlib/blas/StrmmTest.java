@@ -35,6 +35,50 @@ public class StrmmTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        float[] expected, sgeBcopy;
+
+        for (String side : new String[] { "L", "R" }) {
+            for (String uplo : new String[] { "U", "L" }) {
+                for (String transa : new String[] { "N", "T" }) {
+                    for (String diag : new String[] { "N", "U" }) {
+                        f2j.strmm(side, uplo, transa, diag, M, N, 1.0f, strA, M, expected = sgeB.clone(), M);
+                        blas.strmm(side, uplo, transa, diag, M, N, 1.0f, strA, M, sgeBcopy = sgeB.clone(), M);
+                        assertArrayEquals(expected, sgeBcopy, sepsilon);
+
+                        f2j.strmm(side, uplo, transa, diag, M, N, 2.0f, strA, M, expected = sgeB.clone(), M);
+                        blas.strmm(side, uplo, transa, diag, M, N, 2.0f, strA, M, sgeBcopy = sgeB.clone(), M);
+                        assertArrayEquals(expected, sgeBcopy, sepsilon);
+
+                        f2j.strmm(side, uplo, transa, diag, M, N, 0.0f, strA, M, expected = sgeB.clone(), M);
+                        blas.strmm(side, uplo, transa, diag, M, N, 0.0f, strA, M, sgeBcopy = sgeB.clone(), M);
+                        assertArrayEquals(expected, sgeBcopy, sepsilon);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // several diagonal blocks, with updates large enough to go through the packed gemm
+        int m = 4 * M, n = 3 * N;
+        java.util.Random rand = new java.util.Random(0);
+        float[] b = new float[m * n];
+        for (int i = 0; i < b.length; i++) b[i] = rand.nextFloat();
+        float[] expected, sgeBcopy;
+
+        for (String side : new String[] { "L", "R" }) {
+            int k = side.equals("L") ? m : n;
+            float[] a = new float[k * k];
+            for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat() / k;
+            for (String uplo : new String[] { "U", "L" }) {
+                for (String transa : new String[] { "N", "T" }) {
+                    f2j.strmm(side, uplo, transa, "N", m, n, 2.0f, a, k, expected = b.clone(), m);
+                    blas.strmm(side, uplo, transa, "N", m, n, 2.0f, a, k, sgeBcopy = b.clone(), m);
+                    assertArrayEquals(expected, sgeBcopy, sepsilon);
+                }
+            }
+        }
     }
 }
@@ -35,6 +35,57 @@ public class StrsvTest extends BLASTest {
     @ParameterizedTest
     @MethodSource("BLASImplementations")
     void testSanity(BLAS blas) {
-        org.junit.jupiter.api.Assumptions.assumeTrue(false);
+        float[] expected, sXcopy;
+
+        // with n = N, a full diagonal block and a partial one
+        for (String uplo : new String[] { "U", "L" }) {
+            for (String trans : new String[] { "N", "T" }) {
+                for (String diag : new String[] { "N", "U" }) {
+                    for (int n : new int[] { 1, 10, N }) {
+                        f2j.strsv(uplo, trans, diag, n, strA, M, expected = sX.clone(), 1);
+                        blas.strsv(uplo, trans, diag, n, strA, M, sXcopy = sX.clone(), 1);
+                        assertArrayEquals(expected, sXcopy, sepsilon);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testStrided(BLAS blas) {
+        float[] expected, sgeBcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (String trans : new String[] { "N", "T" }) {
+                for (int inc : new int[] { 2, -1, -3 }) {
+                    f2j.strsv(uplo, trans, "N", N, strA, M, expected = sgeB.clone(), inc);
+                    blas.strsv(uplo, trans, "N", N, strA, M, sgeBcopy = sgeB.clone(), inc);
+                    assertArrayEquals(expected, sgeBcopy, sepsilon);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLASImplementations")
+    void testLarge(BLAS blas) {
+        // several diagonal blocks, with a larger lda than n
+        int n = 4 * N, lda = n + 3;
+        java.util.Random rand = new java.util.Random(0);
+        float[] x = new float[n];
+        for (int i = 0; i < x.length; i++) x[i] = rand.nextFloat();
+        float[] a = new float[lda * n];
+        for (int i = 0; i < a.length; i++) a[i] = rand.nextFloat() / n;
+        for (int i = 0; i < n; i++) a[i + i * lda] += 1.0f;
+        float[] expected, xcopy;
+
+        for (String uplo : new String[] { "U", "L" }) {
+            for (String trans : new String[] { "N", "T" }) {
+                f2j.strsv(uplo, trans, "N", n, a, lda, expected = x.clone(), 1);
+                blas.strsv(uplo, trans, "N", n, a, lda, xcopy = x.clone(), 1);
+                assertArrayEquals(expected, xcopy, sepsilon);
+            }
+        }
     }
 }
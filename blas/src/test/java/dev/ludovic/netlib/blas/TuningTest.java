@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TuningTest {
+
+    @Test
+    void testBlocking() {
+        assertTrue(Tuning.getDgemmRowBlock() > 0);
+        assertTrue(Tuning.getDgemmColumnBlock() > 0);
+        assertTrue(Tuning.getDgemmDepthBlock() > 0);
+        assertTrue(Tuning.getSgemmRowBlock() > 0);
+        assertTrue(Tuning.getSgemmColumnBlock() > 0);
+        assertTrue(Tuning.getSgemmDepthBlock() > 0);
+        assertTrue(Tuning.getGemmPackingThreshold() > 0);
+    }
+
+    @Test
+    void testCacheSizes() {
+        assertTrue(Tuning.getL1CacheSize() >= 0);
+        assertTrue(Tuning.getL2CacheSize() >= Tuning.getL1CacheSize() || Tuning.getL2CacheSize() == 0);
+        assertTrue(Tuning.getL3CacheSize() >= Tuning.getL2CacheSize() || Tuning.getL3CacheSize() == 0);
+        if (Tuning.getL1CacheSize() > 0 && Tuning.getL2CacheSize() > 0) {
+            // the blocks of the packed matrices fit in the cache they are sized for
+            assertTrue(4L * Tuning.getDgemmDepthBlock() * Double.BYTES <= Tuning.getL1CacheSize() || Tuning.isCalibrated());
+            assertTrue((long)Tuning.getDgemmRowBlock() * Tuning.getDgemmDepthBlock() * Double.BYTES <= Tuning.getL2CacheSize() || Tuning.isCalibrated());
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.blas;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public class BLAS64Test extends BLASTest {
+
+    private static Stream<Arguments> BLAS64Implementations() {
+        Stream<Arguments> instances = Stream.of(
+            Arguments.of(BLAS64.getInstance()),
+            Arguments.of(JavaBLAS64.getInstance())
+        );
+        try {
+            instances = Stream.concat(instances, Stream.of(Arguments.of(ForeignBLAS64.getInstance())));
+        } catch (Throwable t) {
+            // no ILP64 library installed
+        }
+        return instances;
+    }
+
+    // Native segments, which ForeignBLAS64 passes to the library, with arr stored from index offset onwards
+    protected static final MemorySegment segment(double[] arr, int offset) {
+        MemorySegment result = Arena.ofAuto().allocate(JAVA_DOUBLE, offset + arr.length);
+        MemorySegment.copy(arr, 0, result, JAVA_DOUBLE, (long)offset * Double.BYTES, arr.length);
+        return result;
+    }
+
+    protected static final MemorySegment segment(float[] arr, int offset) {
+        MemorySegment result = Arena.ofAuto().allocate(JAVA_FLOAT, offset + arr.length);
+        MemorySegment.copy(arr, 0, result, JAVA_FLOAT, (long)offset * Float.BYTES, arr.length);
+        return result;
+    }
+
+    protected static final double[] toArray(MemorySegment segment, int offset, int length) {
+        double[] result = new double[length];
+        MemorySegment.copy(segment, JAVA_DOUBLE, (long)offset * Double.BYTES, result, 0, length);
+        return result;
+    }
+
+    protected static final float[] toFloatArray(MemorySegment segment, int offset, int length) {
+        float[] result = new float[length];
+        MemorySegment.copy(segment, JAVA_FLOAT, (long)offset * Float.BYTES, result, 0, length);
+        return result;
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLAS64Implementations")
+    void testLevel1(BLAS64 blas) {
+        assertEquals(f2j.dasum(M, dX, 1), blas.dasum(M, segment(dX, 0), 1), depsilon);
+        assertEquals(f2j.sasum(M, sX, 1), blas.sasum(M, segment(sX, 0), 1), sepsilon);
+        assertEquals(f2j.ddot(M, dX, 1, dY, 1), blas.ddot(M, segment(dX, 0), 1, segment(dY, 0), 1), depsilon);
+        assertEquals(f2j.ddot(M / 2, dX, 2, dY, -2), blas.ddot(M / 2, segment(dX, 0), 2, segment(dY, 0), -2), depsilon);
+        assertEquals(f2j.sdot(M, sX, 1, sY, 1), blas.sdot(M, segment(sX, 0), 1, segment(sY, 0), 1), sepsilon);
+        assertEquals(f2j.dnrm2(M, dX, 1), blas.dnrm2(M, segment(dX, 0), 1), depsilon);
+        assertEquals(f2j.snrm2(M, sX, 1), blas.snrm2(M, segment(sX, 0), 1), sepsilon);
+        assertEquals(f2j.idamax(M, dX, 1), blas.idamax(M, segment(dX, 0), 1));
+        assertEquals(f2j.isamax(M, sX, 1), blas.isamax(M, segment(sX, 0), 1));
+
+        double[] expected;
+        MemorySegment y;
+
+        f2j.daxpy(M, 2.0, dX, 1, expected = dY.clone(), 1);
+        blas.daxpy(M, 2.0, segment(dX, 0), 1, y = segment(dY, 0), 1);
+        assertArrayEquals(expected, toArray(y, 0, M), depsilon);
+
+        f2j.daxpy(M / 2, 2.0, dX, -2, expected = dY.clone(), 2);
+        blas.daxpy(M / 2, 2.0, segment(dX, 0), -2, y = segment(dY, 0), 2);
+        assertArrayEquals(expected, toArray(y, 0, M), depsilon);
+
+        f2j.dcopy(M, dX, 1, expected = dY.clone(), 1);
+        blas.dcopy(M, segment(dX, 0), 1, y = segment(dY, 0), 1);
+        assertArrayEquals(expected, toArray(y, 0, M), depsilon);
+
+        f2j.dscal(M / 3, 2.0, expected = dX.clone(), 3);
+        blas.dscal(M / 3, 2.0, y = segment(dX, 0), 3);
+        assertArrayEquals(expected, toArray(y, 0, M), depsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLAS64Implementations")
+    void testIamaxNaN(BLAS64 blas) {
+        // native libraries differ in how they handle NaN, the Java ones follow f2j
+        assumeTrue(blas instanceof JavaBLAS64);
+
+        for (int nan : new int[] { 0, 1, M / 2, M - 1 }) {
+            double[] dx = dX.clone();
+            float[] sx = sX.clone();
+            dx[nan] = Double.NaN;
+            sx[nan] = Float.NaN;
+            assertEquals(f2j.idamax(M, dx, 1), blas.idamax(M, segment(dx, 0), 1));
+            assertEquals(f2j.isamax(M, sx, 1), blas.isamax(M, segment(sx, 0), 1));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLAS64Implementations")
+    void testGemv(BLAS64 blas) {
+        double[] expected;
+        MemorySegment y;
+
+        f2j.dgemv("N", M, N, 2.0, dgeA, M, dX, 1, 3.0, expected = dY.clone(), 1);
+        blas.dgemv("N", M, N, 2.0, segment(dgeA, 0), M, segment(dX, 0), 1, 3.0, y = segment(dY, 0), 1);
+        assertArrayEquals(expected, toArray(y, 0, M), depsilon);
+
+        f2j.dgemv("T", M, N, 2.0, dgeA, M, dX, 1, 0.0, expected = dY.clone(), 1);
+        blas.dgemv("T", M, N, 2.0, segment(dgeA, 0), M, segment(dX, 0), 1, 0.0, y = segment(dY, 0), 1);
+        assertArrayEquals(expected, toArray(y, 0, M), depsilon);
+
+        f2j.dgemv("N", M / 2, N / 2, 2.0, dgeA, 1, M, dX, 0, -2, 3.0, expected = dY.clone(), 0, 2);
+        blas.dgemv("N", M / 2, N / 2, 2.0, segment(dgeA, 0), 1, M, segment(dX, 0), 0, -2, 3.0, y = segment(dY, 0), 0, 2);
+        assertArrayEquals(expected, toArray(y, 0, M), depsilon);
+
+        float[] sexpected;
+        f2j.sgemv("T", M, N, 2.0f, sgeA, M, sX, 1, 3.0f, sexpected = sY.clone(), 1);
+        blas.sgemv("T", M, N, 2.0f, segment(sgeA, 0), M, segment(sX, 0), 1, 3.0f, y = segment(sY, 0), 1);
+        assertArrayEquals(sexpected, toFloatArray(y, 0, M), sepsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLAS64Implementations")
+    void testGemm(BLAS64 blas) {
+        double[] expected;
+        MemorySegment c;
+
+        f2j.dgemm("N", "N", M, N, K, 1.0, dgeA, M, dgeB, K, 2.0, expected = dgeC.clone(), M);
+        blas.dgemm("N", "N", M, N, K, 1.0, segment(dgeA, 0), M, segment(dgeB, 0), K, 2.0, c = segment(dgeC, 0), M);
+        assertArrayEquals(expected, toArray(c, 0, M * N), depsilon);
+
+        f2j.dgemm("T", "T", M, N, K, 1.0, dgeAT, K, dgeBT, N, 0.0, expected = dgeC.clone(), M);
+        blas.dgemm("T", "T", M, N, K, 1.0, segment(dgeAT, 0), K, segment(dgeBT, 0), N, 0.0, c = segment(dgeC, 0), M);
+        assertArrayEquals(expected, toArray(c, 0, M * N), depsilon);
+
+        f2j.dgemm("N", "T", M, N, K, 0.0, dgeA, M, dgeBT, N, 2.0, expected = dgeC.clone(), M);
+        blas.dgemm("N", "T", M, N, K, 0.0, segment(dgeA, 0), M, segment(dgeBT, 0), N, 2.0, c = segment(dgeC, 0), M);
+        assertArrayEquals(expected, toArray(c, 0, M * N), depsilon);
+
+        f2j.dgemm("T", "N", M - 1, N - 1, K - 1, 1.0, dgeAT, 1, K, dgeB, 1, K, 2.0, expected = dgeC.clone(), 1, M);
+        blas.dgemm("T", "N", M - 1, N - 1, K - 1, 1.0, segment(dgeAT, 0), 1, K, segment(dgeB, 0), 1, K, 2.0, c = segment(dgeC, 0), 1, M);
+        assertArrayEquals(expected, toArray(c, 0, M * N), depsilon);
+
+        float[] sexpected;
+        f2j.sgemm("N", "T", M, N, K, 1.0f, sgeA, M, sgeBT, N, 2.0f, sexpected = sgeC.clone(), M);
+        blas.sgemm("N", "T", M, N, K, 1.0f, segment(sgeA, 0), M, segment(sgeBT, 0), N, 2.0f, c = segment(sgeC, 0), M);
+        assertArrayEquals(sexpected, toFloatArray(c, 0, M * N), sepsilon);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLAS64Implementations")
+    void testGemmAcrossTiles(BLAS64 blas) {
+        // larger than the tiles of JavaBLAS64 along m and k
+        int m = 1100, n = 30, k = 1050;
+        Random random = new Random(0);
+        double[] a = new double[m * k], b = new double[k * n], c = new double[m * n];
+        for (int i = 0; i < a.length; i += 1) a[i] = random.nextDouble();
+        for (int i = 0; i < b.length; i += 1) b[i] = random.nextDouble();
+        for (int i = 0; i < c.length; i += 1) c[i] = random.nextDouble();
+
+        double[] expected;
+        MemorySegment segmentc;
+
+        f2j.dgemm("N", "N", m, n, k, 1.0, a, m, b, k, 2.0, expected = c.clone(), m);
+        blas.dgemm("N", "N", m, n, k, 1.0, segment(a, 0), m, segment(b, 0), k, 2.0, segmentc = segment(c, 0), m);
+        assertArrayEquals(expected, toArray(segmentc, 0, m * n), 1e-9);
+
+        f2j.dgemm("T", "N", n, n, m, 1.0, a, m, a, m, 0.0, expected = new double[n * n], n);
+        blas.dgemm("T", "N", n, n, m, 1.0, segment(a, 0), m, segment(a, 0), m, 0.0, segmentc = segment(new double[n * n], 0), n);
+        assertArrayEquals(expected, toArray(segmentc, 0, n * n), 1e-9);
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLAS64Implementations")
+    void testBeyondIntIndices(BLAS64 blas) throws IOException {
+        // More than 2^31 doubles, mapped from a sparse file: only the pages touched below are
+        // ever backed, so this runs in little memory and disk
+        long length = (1L << 31) + 1024;
+        long far = (1L << 31) + 16;
+        Path path = Files.createTempFile("blas64", ".bin");
+        try (FileChannel channel = FileChannel.open(path, READ, WRITE, DELETE_ON_CLOSE);
+             Arena arena = Arena.ofConfined()) {
+            MemorySegment x = channel.map(FileChannel.MapMode.READ_WRITE, 0, length * Double.BYTES, arena);
+
+            // a stride reaching past 2^31
+            x.setAtIndex(JAVA_DOUBLE, 7, 1.0);
+            x.setAtIndex(JAVA_DOUBLE, 7 + (1L << 30), -2.0);
+            x.setAtIndex(JAVA_DOUBLE, 7 + (1L << 31), 3.0);
+            assertEquals(6.0, blas.dasum(3, x, 7, 1L << 30), depsilon);
+            assertEquals(Math.sqrt(14.0), blas.dnrm2(3, x, 7, 1L << 30), depsilon);
+            assertEquals(2, blas.idamax(3, x, 7, 1L << 30));
+            blas.dscal(3, 2.0, x, 7, 1L << 30);
+            assertEquals(6.0, x.getAtIndex(JAVA_DOUBLE, 7 + (1L << 31)), depsilon);
+
+            // an offset past 2^31
+            MemorySegment.copy(dX, 0, x, JAVA_DOUBLE, far * Double.BYTES, M);
+            assertEquals(f2j.ddot(M, dX, 1, dY, 1), blas.ddot(M, x, far, 1, segment(dY, 0), 0, 1), depsilon);
+            double[] expected;
+            MemorySegment y;
+            f2j.daxpy(M, 2.0, dX, 1, expected = dY.clone(), 1);
+            blas.daxpy(M, 2.0, x, far, 1, y = segment(dY, 0), 0, 1);
+            assertArrayEquals(expected, toArray(y, 0, M), depsilon);
+            blas.dcopy(M, y, 0, 1, x, far + M, 1);
+            assertArrayEquals(expected, toArray(x.asSlice((far + M) * Double.BYTES), 0, M), depsilon);
+
+            // a leading dimension past 2^31, the second column of A starting at far
+            MemorySegment.copy(dgeA, 0, x, JAVA_DOUBLE, 0, M);
+            MemorySegment.copy(dgeA, M, x, JAVA_DOUBLE, far * Double.BYTES, M);
+            f2j.dgemv("N", M, 2, 2.0, dgeA, M, dX, 1, 3.0, expected = dY.clone(), 1);
+            blas.dgemv("N", M, 2, 2.0, x, far, segment(dX, 0), 1, 3.0, y = segment(dY, 0), 1);
+            assertArrayEquals(expected, toArray(y, 0, M), depsilon);
+            f2j.dgemm("N", "N", M, 2, 2, 1.0, dgeA, M, dgeB, K, 2.0, expected = dgeC.clone(), M);
+            blas.dgemm("N", "N", M, 2, 2, 1.0, x, far, segment(dgeB, 0), K, 2.0, y = segment(dgeC, 0), M);
+            assertArrayEquals(expected, toArray(y, 0, M * N), depsilon);
+
+            // the same file seen as more than 2^32 floats
+            MemorySegment.copy(sX, 0, x, JAVA_FLOAT, 2 * far * Float.BYTES, M);
+            assertEquals(f2j.sasum(M, sX, 1), blas.sasum(M, x, 2 * far, 1), sepsilon);
+            assertEquals(f2j.isamax(M, sX, 1), blas.isamax(M, x, 2 * far, 1));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("BLAS64Implementations")
+    void testOutOfBound(BLAS64 blas) {
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.ddot(M + 1, segment(dX, 0), 1, segment(dY, 0), 1);
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.dgemv("N", M, N, 1.0, segment(dgeA, 0), 1, M, segment(dX, 0), 0, 1, 0.0, segment(dY, 0), 0, 1);
+        });
+        assertThrows(java.lang.IndexOutOfBoundsException.class, () -> {
+            blas.dgemm("N", "N", M, N, K, 1.0, segment(dgeA, 0), 0, M, segment(dgeB, 0), 0, K, 1.0, segment(dgeC, 0), 1, M);
+        });
+        assertThrows(java.lang.IllegalArgumentException.class, () -> {
+            blas.dgemm("N", "N", M, N, K, 1.0, segment(dgeA, 0), M - 1, segment(dgeB, 0), K, 1.0, segment(dgeC, 0), M);
+        });
+    }
+}
@@ -209,34 +209,216 @@ class JDoubleArray:
     self.prolog = "if ({name}) {{ if (!(__n{name} = (*env)->GetPrimitiveArrayCritical(env, {name}, NULL))) {{ __failed = TRUE; goto done; }} }}".format(name=name)
     self.epilog = "if (__n{name}) (*env)->ReleasePrimitiveArrayCritical(env, {name}, __n{name}, {mode});".format(name=name, mode=("JNI_ABORT" if mode == "JNI_ABORT" else ("__failed ? JNI_ABORT : %s" % mode)))
 
+class JShortArray:
+  def __init__(self, name, mode = "0"):
+    self.idx = 1
+    self.name = name
+    self.native_type_and_name = "short *{name}".format(name=name)
+    self.java_type_and_name = [a.format(name=name) for a in ["jshortArray {name}", "jint offset{name}"]]
+    self.native_argument = "__n{name} ? __n{name} + offset{name} : NULL".format(name=name)
+    self.native_local = "short *__n{name} = NULL;".format(name=name)
+    self.prolog = "if ({name}) {{ if (!(__n{name} = (*env)->GetPrimitiveArrayCritical(env, {name}, NULL))) {{ __failed = TRUE; goto done; }} }}".format(name=name)
+    self.epilog = "if (__n{name}) (*env)->ReleasePrimitiveArrayCritical(env, {name}, __n{name}, {mode});".format(name=name, mode=("JNI_ABORT" if mode == "JNI_ABORT" else ("__failed ? JNI_ABORT : %s" % mode)))
+
+# Direct buffers are passed by address: nothing to pin, copy or release, and the GC is never blocked
+class JIntBuffer:
+  def __init__(self, name):
+    self.idx = 1
+    self.name = name
+    self.native_type_and_name = "int *{name}".format(name=name)
+    self.java_type_and_name = [a.format(name=name) for a in ["jobject {name}", "jint offset{name}"]]
+    self.native_argument = "__n{name} ? __n{name} + offset{name} : NULL".format(name=name)
+    self.native_local = "int *__n{name} = NULL;".format(name=name)
+    self.prolog = "if ({name}) {{ if (!(__n{name} = (*env)->GetDirectBufferAddress(env, {name}))) {{ __failed = TRUE; goto done; }} }}".format(name=name)
+    self.epilog = ""
+class JFloatBuffer:
+  def __init__(self, name):
+    self.idx = 1
+    self.name = name
+    self.native_type_and_name = "float *{name}".format(name=name)
+    self.java_type_and_name = [a.format(name=name) for a in ["jobject {name}", "jint offset{name}"]]
+    self.native_argument = "__n{name} ? __n{name} + offset{name} : NULL".format(name=name)
+    self.native_local = "float *__n{name} = NULL;".format(name=name)
+    self.prolog = "if ({name}) {{ if (!(__n{name} = (*env)->GetDirectBufferAddress(env, {name}))) {{ __failed = TRUE; goto done; }} }}".format(name=name)
+    self.epilog = ""
+class JDoubleBuffer:
+  def __init__(self, name):
+    self.idx = 1
+    self.name = name
+    self.native_type_and_name = "double *{name}".format(name=name)
+    self.java_type_and_name = [a.format(name=name) for a in ["jobject {name}", "jint offset{name}"]]
+    self.native_argument = "__n{name} ? __n{name} + offset{name} : NULL".format(name=name)
+    self.native_local = "double *__n{name} = NULL;".format(name=name)
+    self.prolog = "if ({name}) {{ if (!(__n{name} = (*env)->GetDirectBufferAddress(env, {name}))) {{ __failed = TRUE; goto done; }} }}".format(name=name)
+    self.epilog = ""
+
+def direct(arg):
+  if isinstance(arg, JIntArray):
+    return JIntBuffer(arg.name)
+  if isinstance(arg, JFloatArray):
+    return JFloatBuffer(arg.name)
+  if isinstance(arg, JDoubleArray):
+    return JDoubleBuffer(arg.name)
+  return arg
+
+# Panama bindings: Fortran takes all of its arguments by reference, so scalars are boxed into
+# single-element heap segments, and every handle is critical so that heap segments are allowed
+def foreign_types(arg):
+  return {
+    JBoolean: ("boolean", None), JInt: ("int", None), JLong: ("long", None), JFloat: ("float", None), JDouble: ("double", None),
+    JString: ("String", None), JObject: ("java.lang.Object", None),
+    JBooleanW: ("org.netlib.util.booleanW", "int[] __{name} = {{ {name}.val ? 1 : 0 }};"),
+    JIntW: ("org.netlib.util.intW", "int[] __{name} = {{ {name}.val }};"),
+    JFloatW: ("org.netlib.util.floatW", "float[] __{name} = {{ {name}.val }};"),
+    JDoubleW: ("org.netlib.util.doubleW", "double[] __{name} = {{ {name}.val }};"),
+    JStringW: ("org.netlib.util.StringW", "byte[] __{name} = bytes({name}.val);"),
+    JBooleanArray: ("boolean[]", None), JShortArray: ("short[]", None), JIntArray: ("int[]", "IntBuffer"), JFloatArray: ("float[]", "FloatBuffer"), JDoubleArray: ("double[]", "DoubleBuffer"),
+  }[type(arg)]
+
+def foreign_is_array(arg):
+  return isinstance(arg, (JBooleanArray, JShortArray, JIntArray, JFloatArray, JDoubleArray))
+
+# Parameters of the K methods, with buffers in place of arrays when buffer is set
+def foreign_params(arg, buffer=False):
+  jtype, other = foreign_types(arg)
+  if foreign_is_array(arg):
+    return ["{jtype} {name}".format(jtype=(other if buffer and other else jtype), name=arg.name), "int offset{name}".format(name=arg.name)]
+  return ["{jtype} {name}".format(jtype=jtype, name=arg.name)]
+
+# Parameters of the SegmentK methods, where arrays and buffers have already been turned into segments
+def foreign_segment_param(arg):
+  jtype, _ = foreign_types(arg)
+  return "{jtype} {name}".format(jtype=("MemorySegment" if foreign_is_array(arg) else jtype), name=arg.name)
+
+def foreign_segment_value(arg):
+  return "segment({name}, offset{name})".format(name=arg.name) if foreign_is_array(arg) else arg.name
+
+def foreign_local(arg):
+  _, local = foreign_types(arg)
+  return local.format(name=arg.name) if local and not foreign_is_array(arg) else ""
+
+def foreign_argument(arg):
+  if isinstance(arg, JBoolean):
+    return "value({name} ? 1 : 0)".format(name=arg.name)
+  if isinstance(arg, (JInt, JLong, JFloat, JDouble)):
+    return "value({name})".format(name=arg.name)
+  if isinstance(arg, JString):
+    return "string({name})".format(name=arg.name)
+  if foreign_local(arg):
+    return "MemorySegment.ofArray(__{name})".format(name=arg.name)
+  return arg.name
+
+def foreign_epilog(arg):
+  if isinstance(arg, JBooleanW):
+    return "{name}.val = __{name}[0] != 0;".format(name=arg.name)
+  if isinstance(arg, JStringW):
+    return "{name}.val = string(__{name});".format(name=arg.name)
+  if foreign_local(arg):
+    return "{name}.val = __{name}[0];".format(name=arg.name)
+  return ""
+
+def foreign_layout(ret):
+  return {JBooleanR: "JAVA_INT", JIntR: "JAVA_INT", JFloatR: "JAVA_FLOAT", JDoubleR: "JAVA_DOUBLE", None: "null"}[type(ret) if ret else None]
+
+def render_foreign(ret, name, args, direct, implemented):
+  jret = {JBooleanR: "boolean", JIntR: "int", JFloatR: "float", JDoubleR: "double", None: "void"}[type(ret) if ret else None]
+  params = ", ".join([p for arg in args for p in foreign_params(arg)])
+  if not implemented:
+    print("  protected {jret} {name}K({params}) {{".format(jret=jret, name=name, params=params))
+    print("    throw new UnsupportedOperationException(\"not implemented\");")
+    print("  }")
+    print()
+    return
+  print("  private static final MethodHandle {name}_ = downcallHandle(\"{name}_\", {layout}, {nargs});".format(name=name, layout=foreign_layout(ret), nargs=len(args)))
+  print()
+  call = "{name}SegmentK({values});".format(name=name, values=", ".join([foreign_segment_value(arg) for arg in args]))
+  print("  protected {jret} {name}K({params}) {{".format(jret=jret, name=name, params=params))
+  print("    {ret}{call}".format(ret=("" if jret == "void" else "return "), call=call))
+  print("  }")
+  print()
+  if direct and any(foreign_is_array(arg) and foreign_types(arg)[1] for arg in args):
+    checks = ["isSegment({name})".format(name=arg.name) for arg in args if foreign_is_array(arg) and foreign_types(arg)[1]]
+    print("  protected {jret} {name}K({params}) {{".format(jret=jret, name=name, params=", ".join([p for arg in args for p in foreign_params(arg, True)])))
+    print("    if ({checks}) {{".format(checks=" && ".join(checks)))
+    print("      {ret}{call}".format(ret=("" if jret == "void" else "return "), call=call))
+    if jret == "void":
+      print("    } else {")
+      print("      super.{name}K({args});".format(name=name, args=", ".join([p.split(" ")[1] for arg in args for p in foreign_params(arg)])))
+      print("    }")
+    else:
+      print("    }")
+      print("    return super.{name}K({args});".format(name=name, args=", ".join([p.split(" ")[1] for arg in args for p in foreign_params(arg)])))
+    print("  }")
+    print()
+  print("  private {jret} {name}SegmentK({params}) {{".format(jret=jret, name=name, params=", ".join([foreign_segment_param(arg) for arg in args])))
+  print("    if ({name}_ == null) {{".format(name=name))
+  print("      throw new UnsupportedOperationException(\"symbol isn't available in native library\");")
+  print("    }")
+  for arg in args:
+    if foreign_local(arg):
+      print("    " + foreign_local(arg))
+  invoke = "{name}_.invokeExact({args})".format(name=name, args=", ".join([foreign_argument(arg) for arg in args]))
+  if jret == "boolean":
+    invoke = "(int) {invoke} != 0".format(invoke=invoke)
+  elif jret != "void":
+    invoke = "({jret}) {invoke}".format(jret=jret, invoke=invoke)
+  epilogs = [foreign_epilog(arg) for arg in args if foreign_epilog(arg)]
+  if jret != "void" and epilogs:
+    print("    {jret} __ret;".format(jret=jret))
+  print("    try {")
+  if jret == "void":
+    print("      {invoke};".format(invoke=invoke))
+  elif epilogs:
+    print("      __ret = {invoke};".format(invoke=invoke))
+  else:
+    print("      return {invoke};".format(invoke=invoke))
+  print("    } catch (Throwable throwable) {")
+  print("      throw rethrow(throwable);")
+  print("    }")
+  for epilog in epilogs:
+    print("    " + epilog)
+  if jret != "void" and epilogs:
+    print("    return __ret;")
+  print("  }")
+  print()
+
 class RoutineR:
   def __init__(self, ret, name, *args):
     self.ret = ret
     self.name = name
     self.args = args
+    self.direct = False
 
   def render(self, pkg):
     # Print native function signature
     print("static {ret} (*{name}_)({args});".format(ret=self.ret.native_type, name=self.name, args=", ".join([arg.native_type_and_name for arg in self.args])))
     print()
     # Print JNI function implementation
-    print("{ret} Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}K(JNIEnv *env, UNUSED jobject obj{args}) {{".format(ret=self.ret.java_type, pkg=pkg, pkgupper=pkg.upper(), name=self.name, args="".join([", " + a for arg in self.args for a in arg.java_type_and_name]))) 
+    self.render_jni(pkg, "K", self.args)
+    if self.direct and any(direct(arg) is not arg for arg in self.args):
+      self.render_jni(pkg, "DirectK", [direct(arg) for arg in self.args])
+
+  def render_jni(self, pkg, suffix, args):
+    print("{ret} Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}{suffix}(JNIEnv *env, UNUSED jobject obj{args}) {{".format(ret=self.ret.java_type, pkg=pkg, pkgupper=pkg.upper(), name=self.name, suffix=suffix, args="".join([", " + a for arg in args for a in arg.java_type_and_name]))) 
     print("  if (!{name}_) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"symbol isn't available in native library\");".format(name=self.name))
     print("  {rettype} __ret = 0;".format(rettype=self.ret.java_type))
     print("  jboolean __failed = FALSE;")
-    if any(len(arg.native_local) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.native_local for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
-    if any(len(arg.prolog) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.prolog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
-    print("  __ret = {name}_({args});".format(name=self.name, args=", ".join([arg.native_argument for arg in self.args])))
+    if any(len(arg.native_local) > 0 for arg in sorted(args, key=lambda a: a.idx)):
+      print("\n".join(["  " + a for a in [arg.native_local for arg in sorted(args, key=lambda a: a.idx)] if len(a) > 0]))
+    if any(len(arg.prolog) > 0 for arg in sorted(args, key=lambda a: a.idx)):
+      print("\n".join(["  " + a for a in [arg.prolog for arg in sorted(args, key=lambda a: a.idx)] if len(a) > 0]))
+    print("  __ret = {name}_({args});".format(name=self.name, args=", ".join([arg.native_argument for arg in args])))
     print("done:")
-    if any(len(arg.epilog) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.epilog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0][::-1]))
+    if any(len(arg.epilog) > 0 for arg in sorted(args, key=lambda a: a.idx)):
+      print("\n".join(["  " + a for a in [arg.epilog for arg in sorted(args, key=lambda a: a.idx)] if len(a) > 0][::-1]))
     print("  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/OutOfMemoryError\"), \"Failed to copy from heap to native memory\");")
     print("  return __ret;")
     print("}")
     print()
 
+  def render_foreign(self, pkg):
+    render_foreign(self.ret, self.name, self.args, self.direct, True)
+
   def render_load_symbol(self):
     print("  LOAD_SYMBOL({name}_);".format(name=self.name))
 
@@ -257,6 +439,9 @@ class RoutineR_NI:
     print("}")
     print()
 
+  def render_foreign(self, pkg):
+    render_foreign(self.ret, self.name, self.args, False, False)
+
   def render_load_symbol(self):
     print("  // LOAD_SYMBOL({name}_);".format(name=self.name))
 
@@ -264,27 +449,36 @@ class Routine:
   def __init__(self, name, *args):
     self.name = name
     self.args = args
+    self.direct = False
 
   def render(self, pkg):
     # Print native function signature
     print("static void (*{name}_)({args});".format(name=self.name, args=", ".join([arg.native_type_and_name for arg in self.args])))
     print()
     # Print JNI function implementation
-    print("void Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}K(JNIEnv *env, UNUSED jobject obj{args}) {{".format(pkg=pkg, pkgupper=pkg.upper(), name=self.name, args="".join([", " + a for arg in self.args for a in arg.java_type_and_name])))
+    self.render_jni(pkg, "K", self.args)
+    if self.direct and any(direct(arg) is not arg for arg in self.args):
+      self.render_jni(pkg, "DirectK", [direct(arg) for arg in self.args])
+
+  def render_jni(self, pkg, suffix, args):
+    print("void Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}{suffix}(JNIEnv *env, UNUSED jobject obj{args}) {{".format(pkg=pkg, pkgupper=pkg.upper(), name=self.name, suffix=suffix, args="".join([", " + a for arg in args for a in arg.java_type_and_name])))
     print("  if (!{name}_) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"symbol isn't available in native library\");".format(name=self.name))
     print("  jboolean __failed = FALSE;")
-    if any(len(arg.native_local) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.native_local for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
-    if any(len(arg.prolog) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.prolog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
-    print("  {name}_({args});".format(name=self.name, args=", ".join([arg.native_argument for arg in self.args])))
+    if any(len(arg.native_local) > 0 for arg in sorted(args, key=lambda a: a.idx)):
+      print("\n".join(["  " + a for a in [arg.native_local for arg in sorted(args, key=lambda a: a.idx)] if len(a) > 0]))
+    if any(len(arg.prolog) > 0 for arg in sorted(args, key=lambda a: a.idx)):
+      print("\n".join(["  " + a for a in [arg.prolog for arg in sorted(args, key=lambda a: a.idx)] if len(a) > 0]))
+    print("  {name}_({args});".format(name=self.name, args=", ".join([arg.native_argument for arg in args])))
     print("done:")
-    if any(len(arg.epilog) > 0 for arg in sorted(self.args, key=lambda a: a.idx)):
-      print("\n".join(["  " + a for a in [arg.epilog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0][::-1]))
+    if any(len(arg.epilog) > 0 for arg in sorted(args, key=lambda a: a.idx)):
+      print("\n".join(["  " + a for a in [arg.epilog for arg in sorted(args, key=lambda a: a.idx)] if len(a) > 0][::-1]))
     print("  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/OutOfMemoryError\"), \"Failed to copy from heap to native memory\");")
     print("}")
     print()
 
+  def render_foreign(self, pkg):
+    render_foreign(None, self.name, self.args, self.direct, True)
+
   def render_load_symbol(self):
     print("  LOAD_SYMBOL({name}_);".format(name=self.name))
 
@@ -303,11 +497,146 @@ class Routine_NI:
     print("}")
     print()
 
+  def render_foreign(self, pkg):
+    render_foreign(None, self.name, self.args, False, False)
+
   def render_load_symbol(self):
     print("  // LOAD_SYMBOL({name}_);".format(name=self.name))
 
+# Batched routines run name_ over batchCount matrices in a loop on the native side, so that the whole
+# batch takes a single native call. The loop is exported as netlib_{name}{suffix} and takes the
+# address of name_ as its first argument, so that ForeignXXX can bind it with the routine it
+# looked up itself. With strided, each array is followed by its offset, and its leading dimension
+# by its stride; otherwise, each array is followed by an array of the offsets of its matrices.
+class RoutineBatched:
+  def __init__(self, name, strided, *args):
+    self.name = name
+    self.suffix = "StridedBatched" if strided else "Batched"
+    self.strided = strided
+    self.arrays = [arg.name for arg in args if arg.idx == 1]
+    self.args = []
+    for arg in args:
+      if arg.idx == 1 and not strided:
+        arg.java_type_and_name = arg.java_type_and_name[:1]
+        arg.native_argument = "__n{name}".format(name=arg.name)
+        offsets = JIntArray("offsets" + arg.name, "JNI_ABORT")
+        offsets.java_type_and_name = offsets.java_type_and_name[:1]
+        offsets.native_argument = "__noffsets{name}".format(name=arg.name)
+        self.args += [arg, offsets]
+      elif arg.name[2:] in self.arrays and arg.name.startswith("ld") and strided:
+        self.args += [arg, JInt("stride" + arg.name[2:])]
+      else:
+        self.args += [arg]
+    self.args += [JInt("batchCount")]
+    self.routine_args = args
+
+  def render(self, pkg):
+    # Print native loop, exported for ForeignXXX
+    print("void netlib_{name}{suffix}(__typeof__({name}_) routine, {args}) {{".format(name=self.name, suffix=self.suffix, args=", ".join([arg.native_type_and_name for arg in self.args])))
+    print("  for (int i = 0; i < *batchCount; i++) {")
+    print("    routine({args});".format(args=", ".join([self.batched_argument(arg) for arg in self.routine_args])))
+    print("  }")
+    print("}")
+    print()
+    # Print JNI function implementation
+    print("void Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}{suffix}K(JNIEnv *env, UNUSED jobject obj{args}) {{".format(pkg=pkg, pkgupper=pkg.upper(), name=self.name, suffix=self.suffix, args="".join([", " + a for arg in self.args for a in arg.java_type_and_name])))
+    print("  if (!{name}_) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/UnsupportedOperationException\"), \"symbol isn't available in native library\");".format(name=self.name))
+    print("  jboolean __failed = FALSE;")
+    print("\n".join(["  " + a for a in [arg.native_local for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
+    print("\n".join(["  " + a for a in [arg.prolog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
+    print("  netlib_{name}{suffix}({name}_, {args});".format(name=self.name, suffix=self.suffix, args=", ".join([arg.native_argument for arg in self.args])))
+    print("done:")
+    print("\n".join(["  " + a for a in [arg.epilog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0][::-1]))
+    print("  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/OutOfMemoryError\"), \"Failed to copy from heap to native memory\");")
+    print("}")
+    print()
+
+  def batched_argument(self, arg):
+    if arg.idx == 1 and self.strided:
+      return "{name} + (size_t)i * *stride{name}".format(name=arg.name)
+    if arg.idx == 1:
+      return "{name} + offsets{name}[i]".format(name=arg.name)
+    return arg.name
+
+  def render_foreign(self, pkg):
+    params = ", ".join([p for arg in self.args for p in (foreign_params(arg) if arg.idx == 0 or self.strided else foreign_params(arg)[:1])])
+    values = ", ".join([(foreign_segment_value(arg) if self.strided else "MemorySegment.ofArray({name})".format(name=arg.name)) if arg.idx == 1 else foreign_argument(arg) for arg in self.args])
+    print("  private static final MethodHandle {name}{suffix}_ = batchedHandle(\"netlib_{name}{suffix}\", \"{name}_\", {nargs});".format(name=self.name, suffix=self.suffix, nargs=len(self.args)))
+    print()
+    print("  protected void {name}{suffix}K({params}) {{".format(name=self.name, suffix=self.suffix, params=params))
+    print("    if ({name}{suffix}_ == null) {{".format(name=self.name, suffix=self.suffix))
+    print("      super.{name}{suffix}K({args});".format(name=self.name, suffix=self.suffix, args=", ".join([p.split(" ")[1] for p in params.split(", ")])))
+    print("      return;")
+    print("    }")
+    print("    try {")
+    print("      {name}{suffix}_.invokeExact({values});".format(name=self.name, suffix=self.suffix, values=values))
+    print("    } catch (Throwable throwable) {")
+    print("      throw rethrow(throwable);")
+    print("    }")
+    print("  }")
+    print()
+
+  def render_load_symbol(self):
+    pass
+
+# Optional routines are only exported by some of the native libraries. Their JNI wrapper returns
+# FALSE instead of throwing when the symbol is missing, for JNIXXX to fall back to the fallbackK
+# method of its parent, which ForeignXXX overrides to call the routine when it's there.
+class RoutineOptional:
+  def __init__(self, name, fallback, *args):
+    self.name = name
+    self.fallback = fallback
+    self.args = args
+
+  def render(self, pkg):
+    # Print native function signature
+    print("// Not exported by all the native libraries, returns FALSE without touching the arguments when it isn't")
+    print("static void (*{name}_)({args});".format(name=self.name, args=", ".join([arg.native_type_and_name for arg in self.args])))
+    print()
+    # Print JNI function implementation
+    print("jboolean Java_dev_ludovic_netlib_{pkg}_JNI{pkgupper}_{name}K(JNIEnv *env, UNUSED jobject obj{args}) {{".format(pkg=pkg, pkgupper=pkg.upper(), name=self.name, args="".join([", " + a for arg in self.args for a in arg.java_type_and_name])))
+    print("  if (!{name}_) return FALSE;".format(name=self.name))
+    print("  jboolean __failed = FALSE;")
+    print("\n".join(["  " + a for a in [arg.native_local for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
+    print("\n".join(["  " + a for a in [arg.prolog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0]))
+    print("  {name}_({args});".format(name=self.name, args=", ".join([arg.native_argument for arg in self.args])))
+    print("done:")
+    print("\n".join(["  " + a for a in [arg.epilog for arg in sorted(self.args, key=lambda a: a.idx)] if len(a) > 0][::-1]))
+    print("  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, \"java/lang/OutOfMemoryError\"), \"Failed to copy from heap to native memory\");")
+    print("  return TRUE;")
+    print("}")
+    print()
+
+  def render_foreign(self, pkg):
+    params = ", ".join([p for arg in self.args for p in foreign_params(arg)])
+    print("  // Not exported by all the native libraries, {fallback}K falls back to its parent without it".format(fallback=self.fallback))
+    print("  private static final MethodHandle {name}_ = downcallHandle(\"{name}_\", null, {nargs});".format(name=self.name, nargs=len(self.args)))
+    print()
+    print("  protected void {fallback}K({params}) {{".format(fallback=self.fallback, params=params))
+    print("    if ({name}_ == null) {{".format(name=self.name))
+    print("      super.{fallback}K({args});".format(fallback=self.fallback, args=", ".join([p.split(" ")[1] for p in params.split(", ")])))
+    print("      return;")
+    print("    }")
+    print("    try {")
+    print("      {name}_.invokeExact({args});".format(name=self.name, args=", ".join([foreign_segment_value(arg) if foreign_is_array(arg) else foreign_argument(arg) for arg in self.args])))
+    print("    } catch (Throwable throwable) {")
+    print("      throw rethrow(throwable);")
+    print("    }")
+    print("  }")
+    print()
+
+  def render_load_symbol(self):
+    print("  LOAD_SYMBOL({name}_);".format(name=self.name))
+
 class Library:
-  def __init__(self, pkg, libname, *routines):
+  # direct lists the routines which also get a DirectK variant taking direct buffers, or True for all of them
+  def __init__(self, pkg, libname, *routines, direct=()):
+    for routine in routines:
+      if hasattr(routine, "direct"):
+        routine.direct = direct is True or routine.name in direct
+    if len(sys.argv) > 2 and sys.argv[2] == "foreign":
+      self.render_foreign(pkg, libname, routines)
+      return
     # Print copyright header
     print("/*")
     print(" * Copyright 2020, 2021, Ludovic Henry")
@@ -476,6 +805,216 @@ class Library:
     print("  dlclose(libhandle);")
     print("}")
 
+  def render_foreign(self, pkg, libname, routines):
+    cls = "Foreign{pkgupper}".format(pkgupper=pkg.upper())
+    batched = any(isinstance(routine, RoutineBatched) for routine in routines)
+    shorts = any(isinstance(arg, JShortArray) for routine in routines for arg in routine.args)
+    # Print copyright header
+    print("/*")
+    print(" * Copyright 2020, 2021, Ludovic Henry")
+    print(" *")
+    print(" * Permission is hereby granted, free of charge, to any person obtaining a copy")
+    print(" * of this software and associated documentation files (the \"Software\"), to deal")
+    print(" * in the Software without restriction, including without limitation the rights")
+    print(" * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell")
+    print(" * copies of the Software, and to permit persons to whom the Software is")
+    print(" * furnished to do so, subject to the following conditions:")
+    print(" *")
+    print(" * The above copyright notice and this permission notice shall be included in")
+    print(" * all copies or substantial portions of the Software.")
+    print(" *")
+    print(" * THE SOFTWARE IS PROVIDED \"AS IS\", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR")
+    print(" * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,")
+    print(" * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE")
+    print(" * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER")
+    print(" * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,")
+    print(" * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE")
+    print(" * SOFTWARE.")
+    print(" *")
+    print(" * Please contact git@ludovic.dev or visit ludovic.dev if you need additional")
+    print(" * information or have any questions.")
+    print(" */")
+    print()
+    print("// Generated by generator.py, do not edit")
+    print()
+    print("package dev.ludovic.netlib.{pkg};".format(pkg=pkg))
+    print()
+    if batched:
+      print("import java.io.IOException;")
+      print("import java.io.InputStream;")
+    print("import java.lang.foreign.Arena;")
+    print("import java.lang.foreign.FunctionDescriptor;")
+    print("import java.lang.foreign.Linker;")
+    print("import java.lang.foreign.MemoryLayout;")
+    print("import java.lang.foreign.MemorySegment;")
+    print("import java.lang.foreign.SymbolLookup;")
+    print("import java.lang.invoke.MethodHandle;")
+    if batched:
+      print("import java.lang.invoke.MethodHandles;")
+    print("import java.nio.ByteOrder;")
+    print("import java.nio.DoubleBuffer;")
+    print("import java.nio.FloatBuffer;")
+    print("import java.nio.IntBuffer;")
+    print("import java.nio.charset.StandardCharsets;")
+    if batched:
+      print("import java.nio.file.Files;")
+      print("import java.nio.file.Path;")
+    print("import java.nio.file.Paths;")
+    if batched:
+      print("import java.nio.file.StandardCopyOption;")
+      print("import java.nio.file.attribute.PosixFilePermissions;")
+    print("import java.util.Arrays;")
+    print()
+    print("import static java.lang.foreign.ValueLayout.ADDRESS;")
+    print("import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;")
+    print("import static java.lang.foreign.ValueLayout.JAVA_FLOAT;")
+    print("import static java.lang.foreign.ValueLayout.JAVA_INT;")
+    print()
+    print("// Binds the native library through the Foreign Function & Memory API of Java 22+, instead of")
+    print("// going through the JNI wrappers of {cls}.".format(cls="JNI" + pkg.upper()))
+    print("final class {cls} extends Abstract{pkgupper} implements Native{pkgupper} {{".format(cls=cls, pkgupper=pkg.upper()))
+    print()
+    print("  private static final Linker linker = Linker.nativeLinker();")
+    print()
+    print("  private static final SymbolLookup lookup = libraryLookup();")
+    print()
+    print("  private static final {cls} instance = new {cls}();".format(cls=cls))
+    print()
+    print("  protected {cls}() {{}}".format(cls=cls))
+    print()
+    print("  public static Native{pkgupper} getInstance() {{".format(pkgupper=pkg.upper()))
+    print("    return instance;")
+    print("  }")
+    print()
+    print("  private static SymbolLookup libraryLookup() {")
+    print("    String nativeLibPath = System.getProperty(\"dev.ludovic.netlib.{pkg}.nativeLibPath\");".format(pkg=pkg))
+    print("    if (nativeLibPath != null) {")
+    print("      return SymbolLookup.libraryLookup(Paths.get(nativeLibPath), Arena.global());")
+    print("    }")
+    print("    return SymbolLookup.libraryLookup(System.getProperty(\"dev.ludovic.netlib.{pkg}.nativeLib\", \"{libname}\"), Arena.global());".format(pkg=pkg, libname=libname))
+    print("  }")
+    print()
+    print("  // All the arguments are pointers, so the handles only differ by their number of arguments and")
+    print("  // their return type, and the JDK only has to specialize a few of them")
+    print("  private static MethodHandle downcallHandle(String name, MemoryLayout result, int count) {")
+    print("    MemoryLayout[] arguments = new MemoryLayout[count];")
+    print("    Arrays.fill(arguments, ADDRESS);")
+    print("    FunctionDescriptor descriptor = result == null ? FunctionDescriptor.ofVoid(arguments) : FunctionDescriptor.of(result, arguments);")
+    print("    return lookup.find(name).map(symbol -> linker.downcallHandle(symbol, descriptor, Linker.Option.critical(true))).orElse(null);")
+    print("  }")
+    print()
+    if batched:
+      print("  // The JNI library of JNI{pkgupper}, only looked up for the native loops of the batched routines;".format(pkgupper=pkg.upper()))
+      print("  // they fall back to one downcall per matrix when it isn't available for this platform")
+      print("  private static final SymbolLookup jniLookup = jniLibraryLookup();")
+      print()
+      print("  private static SymbolLookup jniLibraryLookup() {")
+      print("    String resource = String.format(\"resources/native/%s-%s/libnetlib{pkg}jni.so\", System.getProperty(\"os.name\"), System.getProperty(\"os.arch\"));".format(pkg=pkg))
+      print("    try (InputStream input = {cls}.class.getClassLoader().getResourceAsStream(resource)) {{".format(cls=cls))
+      print("      if (input == null) {")
+      print("        return null;")
+      print("      }")
+      print("      Path temp = Files.createTempFile(\"libnetlib{pkg}jni.so\", \"\", PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(\"rwxr-x---\")));".format(pkg=pkg))
+      print("      temp.toFile().deleteOnExit();")
+      print("      Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);")
+      print("      return SymbolLookup.libraryLookup(temp, Arena.global());")
+      print("    } catch (IOException | RuntimeException e) {")
+      print("      return null;")
+      print("    }")
+      print("  }")
+      print()
+      print("  // The native loop is given the address of the routine it calls, so it doesn't depend on the")
+      print("  // symbols that JNI{pkgupper} loads".format(pkgupper=pkg.upper()))
+      print("  private static MethodHandle batchedHandle(String name, String routine, int count) {")
+      print("    if (jniLookup == null) {")
+      print("      return null;")
+      print("    }")
+      print("    MemoryLayout[] arguments = new MemoryLayout[count + 1];")
+      print("    Arrays.fill(arguments, ADDRESS);")
+      print("    FunctionDescriptor descriptor = FunctionDescriptor.ofVoid(arguments);")
+      print("    return jniLookup.find(name).flatMap(loop -> lookup.find(routine).map(symbol ->")
+      print("        MethodHandles.insertArguments(linker.downcallHandle(loop, descriptor, Linker.Option.critical(true)), 0, symbol))).orElse(null);")
+      print("  }")
+      print()
+    print("  private static RuntimeException rethrow(Throwable throwable) {")
+    print("    if (throwable instanceof Error) {")
+    print("      throw (Error)throwable;")
+    print("    }")
+    print("    if (throwable instanceof RuntimeException) {")
+    print("      return (RuntimeException)throwable;")
+    print("    }")
+    print("    return new RuntimeException(throwable);")
+    print("  }")
+    print()
+    print("  private static MemorySegment value(int value) {")
+    print("    return MemorySegment.ofArray(new int[] { value });")
+    print("  }")
+    print()
+    print("  private static MemorySegment value(float value) {")
+    print("    return MemorySegment.ofArray(new float[] { value });")
+    print("  }")
+    print()
+    print("  private static MemorySegment value(double value) {")
+    print("    return MemorySegment.ofArray(new double[] { value });")
+    print("  }")
+    print()
+    print("  private static byte[] bytes(String string) {")
+    print("    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);")
+    print("    return Arrays.copyOf(bytes, bytes.length + 1);")
+    print("  }")
+    print()
+    print("  private static MemorySegment string(String string) {")
+    print("    return string == null ? MemorySegment.NULL : MemorySegment.ofArray(bytes(string));")
+    print("  }")
+    print()
+    print("  private static String string(byte[] bytes) {")
+    print("    int length = 0;")
+    print("    while (length < bytes.length && bytes[length] != 0) {")
+    print("      length += 1;")
+    print("    }")
+    print("    return new String(bytes, 0, length, StandardCharsets.UTF_8);")
+    print("  }")
+    print()
+    print("  // Fortran logicals are ints, so boolean arrays are copied, and never copied back")
+    print("  private static MemorySegment segment(boolean[] array, int offset) {")
+    print("    if (array == null) {")
+    print("      return MemorySegment.NULL;")
+    print("    }")
+    print("    int[] copy = new int[array.length - offset];")
+    print("    for (int i = 0; i < copy.length; i += 1) {")
+    print("      copy[i] = array[offset + i] ? 1 : 0;")
+    print("    }")
+    print("    return MemorySegment.ofArray(copy);")
+    print("  }")
+    print()
+    for jtype, btype, size in (("int", "IntBuffer", "Integer.BYTES"), ("float", "FloatBuffer", "Float.BYTES"), ("double", "DoubleBuffer", "Double.BYTES")):
+      print("  private static MemorySegment segment({jtype}[] array, int offset) {{".format(jtype=jtype))
+      print("    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * {size});".format(size=size))
+      print("  }")
+      print()
+    if shorts:
+      print("  private static MemorySegment segment(short[] array, int offset) {")
+      print("    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Short.BYTES);")
+      print("  }")
+      print()
+    print("  // Heap buffers and direct buffers in native byte order are passed as is; read-only ones go")
+    print("  // through the copying fallback, as nothing would stop native code from writing to them")
+    for jtype, btype, size in (("int", "IntBuffer", "Integer.BYTES"), ("float", "FloatBuffer", "Float.BYTES"), ("double", "DoubleBuffer", "Double.BYTES")):
+      print("  private static boolean isSegment({btype} buffer) {{".format(btype=btype))
+      print("    return buffer == null || (!buffer.isReadOnly() && buffer.order() == ByteOrder.nativeOrder());")
+      print("  }")
+      print()
+    for jtype, btype, size in (("int", "IntBuffer", "Integer.BYTES"), ("float", "FloatBuffer", "Float.BYTES"), ("double", "DoubleBuffer", "Double.BYTES")):
+      print("  // offset is absolute, independent of the position of the buffer")
+      print("  private static MemorySegment segment({btype} buffer, int offset) {{".format(btype=btype))
+      print("    return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer.duplicate().clear()).asSlice((long)offset * {size});".format(size=size))
+      print("  }")
+      print()
+    # Print routines bodies
+    for routine in routines:
+      routine.render_foreign(pkg)
+    print("}")
+
 
 # Copy from Java
 
@@ -503,6 +1042,12 @@ if sys.argv[1] == "blas":
     Routine   (            "sgbmv", JString("trans"), JInt("m"), JInt("n"), JInt("kl"), JInt("ku"), JFloat("alpha"), JFloatArray("a", "JNI_ABORT"), JInt("lda"), JFloatArray("x", "JNI_ABORT"), JInt("incx"), JFloat("beta"), JFloatArray("y"), JInt("incy")),
     Routine   (            "dgemm", JString("transa"), JString("transb"), JInt("m"), JInt("n"), JInt("k"), JDouble("alpha"), JDoubleArray("a", "JNI_ABORT"), JInt("lda"), JDoubleArray("b", "JNI_ABORT"), JInt("ldb"), JDouble("beta"), JDoubleArray("c"), JInt("ldc")),
     Routine   (            "sgemm", JString("transa"), JString("transb"), JInt("m"), JInt("n"), JInt("k"), JFloat("alpha"), JFloatArray("a", "JNI_ABORT"), JInt("lda"), JFloatArray("b", "JNI_ABORT"), JInt("ldb"), JFloat("beta"), JFloatArray("c"), JInt("ldc")),
+    RoutineBatched("dgemm", False, JString("transa"), JString("transb"), JInt("m"), JInt("n"), JInt("k"), JDouble("alpha"), JDoubleArray("a", "JNI_ABORT"), JInt("lda"), JDoubleArray("b", "JNI_ABORT"), JInt("ldb"), JDouble("beta"), JDoubleArray("c"), JInt("ldc")),
+    RoutineBatched("dgemm", True, JString("transa"), JString("transb"), JInt("m"), JInt("n"), JInt("k"), JDouble("alpha"), JDoubleArray("a", "JNI_ABORT"), JInt("lda"), JDoubleArray("b", "JNI_ABORT"), JInt("ldb"), JDouble("beta"), JDoubleArray("c"), JInt("ldc")),
+    RoutineBatched("sgemm", False, JString("transa"), JString("transb"), JInt("m"), JInt("n"), JInt("k"), JFloat("alpha"), JFloatArray("a", "JNI_ABORT"), JInt("lda"), JFloatArray("b", "JNI_ABORT"), JInt("ldb"), JFloat("beta"), JFloatArray("c"), JInt("ldc")),
+    RoutineBatched("sgemm", True, JString("transa"), JString("transb"), JInt("m"), JInt("n"), JInt("k"), JFloat("alpha"), JFloatArray("a", "JNI_ABORT"), JInt("lda"), JFloatArray("b", "JNI_ABORT"), JInt("ldb"), JFloat("beta"), JFloatArray("c"), JInt("ldc")),
+    RoutineOptional("shgemm", "hgemm", JString("transa"), JString("transb"), JInt("m"), JInt("n"), JInt("k"), JFloat("alpha"), JShortArray("a", "JNI_ABORT"), JInt("lda"), JShortArray("b", "JNI_ABORT"), JInt("ldb"), JFloat("beta"), JFloatArray("c"), JInt("ldc")),
+    RoutineOptional("sbgemm", "bgemm", JString("transa"), JString("transb"), JInt("m"), JInt("n"), JInt("k"), JFloat("alpha"), JShortArray("a", "JNI_ABORT"), JInt("lda"), JShortArray("b", "JNI_ABORT"), JInt("ldb"), JFloat("beta"), JFloatArray("c"), JInt("ldc")),
     Routine   (            "dgemv", JString("trans"), JInt("m"), JInt("n"), JDouble("alpha"), JDoubleArray("a", "JNI_ABORT"), JInt("lda"), JDoubleArray("x", "JNI_ABORT"), JInt("incx"), JDouble("beta"), JDoubleArray("y"), JInt("incy")),
     Routine   (            "sgemv", JString("trans"), JInt("m"), JInt("n"), JFloat("alpha"), JFloatArray("a", "JNI_ABORT"), JInt("lda"), JFloatArray("x", "JNI_ABORT"), JInt("incx"), JFloat("beta"), JFloatArray("y"), JInt("incy")),
     Routine   (            "dger", JInt("m"), JInt("n"), JDouble("alpha"), JDoubleArray("x", "JNI_ABORT"), JInt("incx"), JDoubleArray("y", "JNI_ABORT"), JInt("incy"), JDoubleArray("a"), JInt("lda")),
@@ -557,6 +1102,7 @@ if sys.argv[1] == "blas":
     Routine   (            "strsv", JString("uplo"), JString("trans"), JString("diag"), JInt("n"), JFloatArray("a", "JNI_ABORT"), JInt("lda"), JFloatArray("x"), JInt("incx")),
     RoutineR  (JIntR(),    "idamax", JInt("n"), JDoubleArray("dx", "JNI_ABORT"), JInt("incdx")),
     RoutineR  (JIntR(),    "isamax", JInt("n"), JFloatArray("sx", "JNI_ABORT"), JInt("incsx")),
+    direct=True,
   )
 
 if sys.argv[1] == "lapack":
@@ -1284,6 +1830,12 @@ if sys.argv[1] == "lapack":
     RoutineR  (JFloatR(),   "slamc3",   JFloat("a"), JFloat("b")),
     Routine_NI(             "slamc4",   JIntW("emin"), JFloat("start"), JInt("base")),
     Routine_NI(             "slamc5",   JInt("beta"), JInt("p"), JInt("emin"), JBoolean("ieee"), JIntW("emax"), JFloatW("rmax")),
+    direct=(
+      "dgeev", "dgels", "dgeqrf", "dgesdd", "dgesv", "dgesvd", "dgetrf", "dgetri", "dgetrs",
+      "dorgqr", "dormqr", "dposv", "dpotrf", "dpotri", "dpotrs", "dsyev", "dsyevd",
+      "sgeev", "sgels", "sgeqrf", "sgesdd", "sgesv", "sgesvd", "sgetrf", "sgetri", "sgetrs",
+      "sorgqr", "sormqr", "sposv", "spotrf", "spotri", "spotrs", "ssyev", "ssyevd",
+    ),
   )
 
 if sys.argv[1] == "arpack":
@@ -1346,4 +1898,8 @@ if sys.argv[1] == "arpack":
     Routine   (         "iset",   JInt("n"), JInt("value"), JIntArray("array"), JInt("inc")),
     Routine   (         "iswap",  JInt("n"), JIntArray("sx"), JInt("incx"), JIntArray("sy"), JInt("incy")),
     Routine   (         "second", JFloatW("t")),
+    direct=(
+      "dnaupd", "dneupd", "dsaupd", "dseupd",
+      "snaupd", "sneupd", "ssaupd", "sseupd",
+    ),
   )
\ No newline at end of file
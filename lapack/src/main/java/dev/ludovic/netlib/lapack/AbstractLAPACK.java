@@ -25,6 +25,9 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.util.Objects;
 
 abstract class AbstractLAPACK implements LAPACK {
@@ -346,6 +349,58 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgeevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dgeev(String jobvl, String jobvr, int n, DoubleBuffer a, int lda, DoubleBuffer wr, DoubleBuffer wi, DoubleBuffer vl, int ldvl, DoubleBuffer vr, int ldvr, DoubleBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgeev");
+    dgeev(jobvl, jobvr, n, a, 0, lda, wr, 0, wi, 0, vl, 0, ldvl, vr, 0, ldvr, work, 0, lwork, info);
+  }
+
+  public void dgeev(String jobvl, String jobvr, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer wr, int offsetwr, DoubleBuffer wi, int offsetwi, DoubleBuffer vl, int offsetvl, int ldvl, DoubleBuffer vr, int offsetvr, int ldvr, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgeev");
+    checkArgument("DGEEV", 1, lsame("N", jobvl) || lsame("V", jobvl));
+    checkArgument("DGEEV", 2, lsame("N", jobvr) || lsame("V", jobvr));
+    checkArgument("DGEEV", 3, n >= 0);
+    checkArgument("DGEEV", 5, lda >= Math.max(1, n));
+    checkArgument("DGEEV", 9, ldvl >= Math.max(1, lsame("V", jobvl) ? n : 1));
+    checkArgument("DGEEV", 11, ldvr >= Math.max(1, lsame("V", jobvr) ? n : 1));
+    checkArgument("DGEEV", 11, lwork == -1 || lwork >= Math.max(1, (lsame("V", jobvl) || lsame("V", jobvr)) ? 4 * n : 3 * n));
+    requireNonNull(a);
+    requireNonNull(wr);
+    requireNonNull(wi);
+    if (lsame("V", jobvl))
+      requireNonNull(vl);
+    if (lsame("V", jobvr))
+      requireNonNull(vr);
+    requireNonNull(work);
+    requireNonNull(info);
+    if (lwork != -1) {
+      checkIndex(offseta + n * lda - 1, a.limit());
+      checkIndex(offsetwr + n - 1, wr.limit());
+      checkIndex(offsetwi + n - 1, wi.limit());
+      if (lsame("V", jobvl))
+        checkIndex(offsetvl + n * ldvl - 1, vl.limit());
+      if (lsame("V", jobvr))
+        checkIndex(offsetvr + n * ldvr - 1, vr.limit());
+    }
+    checkIndex(offsetwork + Math.max(1, lwork) - 1, work.limit());
+    dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+  }
+
+  protected void dgeevK(String jobvl, String jobvr, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer wr, int offsetwr, DoubleBuffer wi, int offsetwi, DoubleBuffer vl, int offsetvl, int ldvl, DoubleBuffer vr, int offsetvr, int ldvr, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    double[] arraywr = Buffers.writableArray(wr, offsetwr, n);
+    double[] arraywi = Buffers.writableArray(wi, offsetwi, n);
+    double[] arrayvl = Buffers.writableArray(vl, offsetvl, lsame("V", jobvl) ? (n - 1) * ldvl + n : 0);
+    double[] arrayvr = Buffers.writableArray(vr, offsetvr, lsame("V", jobvr) ? (n - 1) * ldvr + n : 0);
+    double[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    dgeevK(jobvl, jobvr, n, arraya, Buffers.offset(a, offseta), lda, arraywr, Buffers.offset(wr, offsetwr), arraywi, Buffers.offset(wi, offsetwi), arrayvl, Buffers.offset(vl, offsetvl), ldvl, arrayvr, Buffers.offset(vr, offsetvr), ldvr, arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(wr, offsetwr, arraywr);
+    Buffers.release(wi, offsetwi, arraywi);
+    Buffers.release(vl, offsetvl, arrayvl);
+    Buffers.release(vr, offsetvr, arrayvr);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void dgeevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int lda, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, org.netlib.util.doubleW abnrm, double[] rconde, double[] rcondv, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgeevx");
     dgeevx(balanc, jobvl, jobvr, sense, n, a, 0, lda, wr, 0, wi, 0, vl, 0, ldvl, vr, 0, ldvr, ilo, ihi, scale, 0, abnrm, rconde, 0, rcondv, 0, work, 0, lwork, iwork, 0, info);
@@ -463,6 +518,40 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgelsK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dgels(String trans, int m, int n, int nrhs, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, DoubleBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgels");
+    dgels(trans, m, n, nrhs, a, 0, lda, b, 0, ldb, work, 0, lwork, info);
+  }
+
+  public void dgels(String trans, int m, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgels");
+    checkArgument("DGELS", 1, lsame("N", trans) || lsame("T", trans));
+    checkArgument("DGELS", 2, m >= 0);
+    checkArgument("DGELS", 3, n >= 0);
+    checkArgument("DGELS", 4, nrhs >= 0);
+    checkArgument("DGELS", 6, lda >= Math.max(1, m));
+    checkArgument("DGELS", 8, ldb >= Math.max(1, Math.max(m, n)));
+    checkArgument("DGELS", 10, lwork == -1 || lwork >= Math.max(1, Math.min(m, n) + Math.max(Math.min(m, n), nrhs)));
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(work);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetb + nrhs * (lsame("N", trans) ? m : n) - 1, b.limit());
+    checkIndex(offsetwork + Math.max(1, lwork) - 1, work.limit());
+    dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+  }
+
+  protected void dgelsK(String trans, int m, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    double[] arrayb = Buffers.writableArray(b, offsetb, (nrhs - 1) * ldb + Math.max(m, n));
+    double[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    dgelsK(trans, m, n, nrhs, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(b, offsetb, arrayb);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void dgelsd(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] s, double rcond, org.netlib.util.intW rank, double[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgelsd");
     dgelsd(m, n, nrhs, a, 0, lda, b, 0, ldb, s, 0, rcond, rank, work, 0, lwork, iwork, 0, info);
@@ -617,6 +706,39 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgeqrfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dgeqrf(int m, int n, DoubleBuffer a, int lda, DoubleBuffer tau, DoubleBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgeqrf");
+    dgeqrf(m, n, a, 0, lda, tau, 0, work, 0, lwork, info);
+  }
+
+  public void dgeqrf(int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgeqrf");
+    checkArgument("DGEQRF", 1, m >= 0);
+    checkArgument("DGEQRF", 2, n >= 0);
+    checkArgument("DGEQRF", 4, lda >= Math.max(1, m));
+    checkArgument("DGEQRF", 7, lwork == -1 || lwork >= Math.max(1, n));
+    requireNonNull(a);
+    requireNonNull(tau);
+    requireNonNull(work);
+    requireNonNull(info);
+    if (lwork != -1) {
+      checkIndex(offseta + n * lda - 1, a.limit());
+      checkIndex(offsettau + Math.min(m, n) - 1, tau.limit());
+    }
+    checkIndex(offsetwork + Math.max(1, lwork) - 1, work.limit());
+    dgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  protected void dgeqrfK(int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    double[] arraytau = Buffers.writableArray(tau, offsettau, Math.min(m, n));
+    double[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    dgeqrfK(m, n, arraya, Buffers.offset(a, offseta), lda, arraytau, Buffers.offset(tau, offsettau), arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(tau, offsettau, arraytau);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void dgerfs(String trans, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgerfs");
     dgerfs(trans, n, nrhs, a, 0, lda, af, 0, ldaf, ipiv, 0, b, 0, ldb, x, 0, ldx, ferr, 0, berr, 0, work, 0, iwork, 0, info);
@@ -682,6 +804,33 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
+  public void dgesdd(String jobz, int m, int n, DoubleBuffer a, int lda, DoubleBuffer s, DoubleBuffer u, int ldu, DoubleBuffer vt, int ldvt, DoubleBuffer work, int lwork, IntBuffer iwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesdd");
+    dgesdd(jobz, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, work, 0, lwork, iwork, 0, info);
+  }
+
+  public void dgesdd(String jobz, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesdd");
+    //FIXME Add arguments check
+    dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  protected void dgesddK(String jobz, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    double[] arrays = Buffers.writableArray(s, offsets, Math.min(m, n));
+    double[] arrayu = Buffers.writableArray(u, offsetu, lsame("A", jobz) || (lsame("O", jobz) && m < n) ? (m - 1) * ldu + m : lsame("S", jobz) ? (Math.min(m, n) - 1) * ldu + m : 0);
+    double[] arrayvt = Buffers.writableArray(vt, offsetvt, lsame("A", jobz) || (lsame("O", jobz) && m >= n) ? (n - 1) * ldvt + n : lsame("S", jobz) ? (n - 1) * ldvt + Math.min(m, n) : 0);
+    double[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    int[] arrayiwork = Buffers.writableArray(iwork, offsetiwork, 8 * Math.min(m, n));
+    dgesddK(jobz, m, n, arraya, Buffers.offset(a, offseta), lda, arrays, Buffers.offset(s, offsets), arrayu, Buffers.offset(u, offsetu), ldu, arrayvt, Buffers.offset(vt, offsetvt), ldvt, arraywork, Buffers.offset(work, offsetwork), lwork, arrayiwork, Buffers.offset(iwork, offsetiwork), info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(s, offsets, arrays);
+    Buffers.release(u, offsetu, arrayu);
+    Buffers.release(vt, offsetvt, arrayvt);
+    Buffers.release(work, offsetwork, arraywork);
+    Buffers.release(iwork, offsetiwork, arrayiwork);
+  }
+
   public void dgesv(int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dgesv");
     dgesv(n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
@@ -695,6 +844,27 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void dgesv(int n, int nrhs, DoubleBuffer a, int lda, IntBuffer ipiv, DoubleBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesv");
+    dgesv(n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
+  }
+
+  public void dgesv(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesv");
+    //FIXME Add arguments check
+    dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  protected void dgesvK(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    int[] arrayipiv = Buffers.writableArray(ipiv, offsetipiv, n);
+    double[] arrayb = Buffers.writableArray(b, offsetb, (nrhs - 1) * ldb + n);
+    dgesvK(n, nrhs, arraya, Buffers.offset(a, offseta), lda, arrayipiv, Buffers.offset(ipiv, offsetipiv), arrayb, Buffers.offset(b, offsetb), ldb, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(ipiv, offsetipiv, arrayipiv);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int lda, double[] s, double[] u, int ldu, double[] vt, int ldvt, double[] work, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgesvd");
     dgesvd(jobu, jobvt, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, work, 0, lwork, info);
@@ -708,6 +878,31 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgesvdK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dgesvd(String jobu, String jobvt, int m, int n, DoubleBuffer a, int lda, DoubleBuffer s, DoubleBuffer u, int ldu, DoubleBuffer vt, int ldvt, DoubleBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesvd");
+    dgesvd(jobu, jobvt, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, work, 0, lwork, info);
+  }
+
+  public void dgesvd(String jobu, String jobvt, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgesvd");
+    //FIXME Add arguments check
+    dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+  }
+
+  protected void dgesvdK(String jobu, String jobvt, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    double[] arrays = Buffers.writableArray(s, offsets, Math.min(m, n));
+    double[] arrayu = Buffers.writableArray(u, offsetu, lsame("A", jobu) ? (m - 1) * ldu + m : lsame("S", jobu) ? (Math.min(m, n) - 1) * ldu + m : 0);
+    double[] arrayvt = Buffers.writableArray(vt, offsetvt, lsame("A", jobvt) ? (n - 1) * ldvt + n : lsame("S", jobvt) ? (n - 1) * ldvt + Math.min(m, n) : 0);
+    double[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    dgesvdK(jobu, jobvt, m, n, arraya, Buffers.offset(a, offseta), lda, arrays, Buffers.offset(s, offsets), arrayu, Buffers.offset(u, offsetu), ldu, arrayvt, Buffers.offset(vt, offsetvt), ldvt, arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(s, offsets, arrays);
+    Buffers.release(u, offsetu, arrayu);
+    Buffers.release(vt, offsetvt, arrayvt);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void dgesvx(String fact, String trans, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, org.netlib.util.StringW equed, double[] r, double[] c, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgesvx");
     dgesvx(fact, trans, n, nrhs, a, 0, lda, af, 0, ldaf, ipiv, 0, equed, r, 0, c, 0, b, 0, ldb, x, 0, ldx, rcond, ferr, 0, berr, 0, work, 0, iwork, 0, info);
@@ -767,6 +962,32 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgetrfK(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
 
+  public void dgetrf(int m, int n, DoubleBuffer a, int lda, IntBuffer ipiv, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgetrf");
+    dgetrf(m, n, a, 0, lda, ipiv, 0, info);
+  }
+
+  public void dgetrf(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgetrf");
+    checkArgument("DGETRF", 1, m >= 0);
+    checkArgument("DGETRF", 2, n >= 0);
+    checkArgument("DGETRF", 4, lda >= Math.max(1, m));
+    requireNonNull(a);
+    requireNonNull(ipiv);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetipiv + Math.min(m, n) - 1, ipiv.limit());
+    dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  protected void dgetrfK(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    int[] arrayipiv = Buffers.writableArray(ipiv, offsetipiv, Math.min(m, n));
+    dgetrfK(m, n, arraya, Buffers.offset(a, offseta), lda, arrayipiv, Buffers.offset(ipiv, offsetipiv), info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(ipiv, offsetipiv, arrayipiv);
+  }
+
   public void dgetri(int n, double[] a, int lda, int[] ipiv, double[] work, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dgetri");
     dgetri(n, a, 0, lda, ipiv, 0, work, 0, lwork, info);
@@ -780,6 +1001,26 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgetriK(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dgetri(int n, DoubleBuffer a, int lda, IntBuffer ipiv, DoubleBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgetri");
+    dgetri(n, a, 0, lda, ipiv, 0, work, 0, lwork, info);
+  }
+
+  public void dgetri(int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgetri");
+    //FIXME Add arguments check
+    dgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+  }
+
+  protected void dgetriK(int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    int[] arrayipiv = Buffers.array(ipiv, offsetipiv, n);
+    double[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    dgetriK(n, arraya, Buffers.offset(a, offseta), lda, arrayipiv, Buffers.offset(ipiv, offsetipiv), arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void dgetrs(String trans, int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dgetrs");
     dgetrs(trans, n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
@@ -793,6 +1034,25 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dgetrsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void dgetrs(String trans, int n, int nrhs, DoubleBuffer a, int lda, IntBuffer ipiv, DoubleBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgetrs");
+    dgetrs(trans, n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
+  }
+
+  public void dgetrs(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dgetrs");
+    //FIXME Add arguments check
+    dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  protected void dgetrsK(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + n);
+    int[] arrayipiv = Buffers.array(ipiv, offsetipiv, n);
+    double[] arrayb = Buffers.writableArray(b, offsetb, (nrhs - 1) * ldb + n);
+    dgetrsK(trans, n, nrhs, arraya, Buffers.offset(a, offseta), lda, arrayipiv, Buffers.offset(ipiv, offsetipiv), arrayb, Buffers.offset(b, offsetb), ldb, info);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void dggbak(String job, String side, int n, int ilo, int ihi, double[] lscale, double[] rscale, int m, double[] v, int ldv, org.netlib.util.intW info) {
     if (debug) System.err.println("dggbak");
     dggbak(job, side, n, ilo, ihi, lscale, 0, rscale, 0, m, v, 0, ldv, info);
@@ -2899,6 +3159,26 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dorgqrK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dorgqr(int m, int n, int k, DoubleBuffer a, int lda, DoubleBuffer tau, DoubleBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dorgqr");
+    dorgqr(m, n, k, a, 0, lda, tau, 0, work, 0, lwork, info);
+  }
+
+  public void dorgqr(int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dorgqr");
+    //FIXME Add arguments check
+    dorgqrK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  protected void dorgqrK(int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    double[] arraytau = Buffers.array(tau, offsettau, k);
+    double[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    dorgqrK(m, n, k, arraya, Buffers.offset(a, offseta), lda, arraytau, Buffers.offset(tau, offsettau), arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void dorgr2(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info) {
     if (debug) System.err.println("dorgr2");
     dorgr2(m, n, k, a, 0, lda, tau, 0, work, 0, info);
@@ -3042,6 +3322,27 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dormqrK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dormqr(String side, String trans, int m, int n, int k, DoubleBuffer a, int lda, DoubleBuffer tau, DoubleBuffer c, int Ldc, DoubleBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dormqr");
+    dormqr(side, trans, m, n, k, a, 0, lda, tau, 0, c, 0, Ldc, work, 0, lwork, info);
+  }
+
+  public void dormqr(String side, String trans, int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer c, int offsetc, int Ldc, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dormqr");
+    //FIXME Add arguments check
+    dormqrK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  protected void dormqrK(String side, String trans, int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer c, int offsetc, int Ldc, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    double[] arraya = Buffers.array(a, offseta, (k - 1) * lda + (lsame("L", side) ? m : n));
+    double[] arraytau = Buffers.array(tau, offsettau, k);
+    double[] arrayc = Buffers.writableArray(c, offsetc, (n - 1) * Ldc + m);
+    double[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    dormqrK(side, trans, m, n, k, arraya, Buffers.offset(a, offseta), lda, arraytau, Buffers.offset(tau, offsettau), arrayc, Buffers.offset(c, offsetc), Ldc, arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(c, offsetc, arrayc);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void dormr2(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info) {
     if (debug) System.err.println("dormr2");
     dormr2(side, trans, m, n, k, a, 0, lda, tau, 0, c, 0, Ldc, work, 0, info);
@@ -3276,6 +3577,25 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dposvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void dposv(String uplo, int n, int nrhs, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dposv");
+    dposv(uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
+  }
+
+  public void dposv(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dposv");
+    //FIXME Add arguments check
+    dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  protected void dposvK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    double[] arrayb = Buffers.writableArray(b, offsetb, (nrhs - 1) * ldb + n);
+    dposvK(uplo, n, nrhs, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, org.netlib.util.StringW equed, double[] s, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dposvx");
     dposvx(fact, uplo, n, nrhs, a, 0, lda, af, 0, ldaf, equed, s, 0, b, 0, ldb, x, 0, ldx, rcond, ferr, 0, berr, 0, work, 0, iwork, 0, info);
@@ -3315,6 +3635,23 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dpotrfK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
 
+  public void dpotrf(String uplo, int n, DoubleBuffer a, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotrf");
+    dpotrf(uplo, n, a, 0, lda, info);
+  }
+
+  public void dpotrf(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotrf");
+    //FIXME Add arguments check
+    dpotrfK(uplo, n, a, offseta, lda, info);
+  }
+
+  protected void dpotrfK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    dpotrfK(uplo, n, arraya, Buffers.offset(a, offseta), lda, info);
+    Buffers.release(a, offseta, arraya);
+  }
+
   public void dpotri(String uplo, int n, double[] a, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("dpotri");
     dpotri(uplo, n, a, 0, lda, info);
@@ -3328,6 +3665,23 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dpotriK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
 
+  public void dpotri(String uplo, int n, DoubleBuffer a, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotri");
+    dpotri(uplo, n, a, 0, lda, info);
+  }
+
+  public void dpotri(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotri");
+    //FIXME Add arguments check
+    dpotriK(uplo, n, a, offseta, lda, info);
+  }
+
+  protected void dpotriK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    dpotriK(uplo, n, arraya, Buffers.offset(a, offseta), lda, info);
+    Buffers.release(a, offseta, arraya);
+  }
+
   public void dpotrs(String uplo, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("dpotrs");
     dpotrs(uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
@@ -3341,6 +3695,24 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dpotrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void dpotrs(String uplo, int n, int nrhs, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotrs");
+    dpotrs(uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
+  }
+
+  public void dpotrs(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("dpotrs");
+    //FIXME Add arguments check
+    dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  protected void dpotrsK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    double[] arraya = Buffers.array(a, offseta, (n - 1) * lda + n);
+    double[] arrayb = Buffers.writableArray(b, offsetb, (nrhs - 1) * ldb + n);
+    dpotrsK(uplo, n, nrhs, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, info);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void dppcon(String uplo, int n, double[] ap, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dppcon");
     dppcon(uplo, n, ap, 0, anorm, rcond, work, 0, iwork, 0, info);
@@ -4043,6 +4415,27 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dsyevK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void dsyev(String jobz, String uplo, int n, DoubleBuffer a, int lda, DoubleBuffer w, DoubleBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsyev");
+    dsyev(jobz, uplo, n, a, 0, lda, w, 0, work, 0, lwork, info);
+  }
+
+  public void dsyev(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsyev");
+    //FIXME Add arguments check
+    dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+  }
+
+  protected void dsyevK(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    double[] arrayw = Buffers.writableArray(w, offsetw, n);
+    double[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    dsyevK(jobz, uplo, n, arraya, Buffers.offset(a, offseta), lda, arrayw, Buffers.offset(w, offsetw), arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(w, offsetw, arrayw);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void dsyevd(String jobz, String uplo, int n, double[] a, int lda, double[] w, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsyevd");
     dsyevd(jobz, uplo, n, a, 0, lda, w, 0, work, 0, lwork, iwork, 0, liwork, info);
@@ -4056,6 +4449,29 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
 
+  public void dsyevd(String jobz, String uplo, int n, DoubleBuffer a, int lda, DoubleBuffer w, DoubleBuffer work, int lwork, IntBuffer iwork, int liwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsyevd");
+    dsyevd(jobz, uplo, n, a, 0, lda, w, 0, work, 0, lwork, iwork, 0, liwork, info);
+  }
+
+  public void dsyevd(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("dsyevd");
+    //FIXME Add arguments check
+    dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  protected void dsyevdK(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    double[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    double[] arrayw = Buffers.writableArray(w, offsetw, n);
+    double[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    int[] arrayiwork = Buffers.writableArray(iwork, offsetiwork, Math.max(1, liwork));
+    dsyevdK(jobz, uplo, n, arraya, Buffers.offset(a, offseta), lda, arrayw, Buffers.offset(w, offsetw), arraywork, Buffers.offset(work, offsetwork), lwork, arrayiwork, Buffers.offset(iwork, offsetiwork), liwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(w, offsetw, arrayw);
+    Buffers.release(work, offsetwork, arraywork);
+    Buffers.release(iwork, offsetiwork, arrayiwork);
+  }
+
   public void dsyevr(String jobz, String range, String uplo, int n, double[] a, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, int[] isuppz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("dsyevr");
     dsyevr(jobz, range, uplo, n, a, 0, lda, vl, vu, il, iu, abstol, m, w, 0, z, 0, ldz, isuppz, 0, work, 0, lwork, iwork, 0, liwork, info);
@@ -4980,6 +5396,58 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgeevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void sgeev(String jobvl, String jobvr, int n, FloatBuffer a, int lda, FloatBuffer wr, FloatBuffer wi, FloatBuffer vl, int ldvl, FloatBuffer vr, int ldvr, FloatBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgeev");
+    sgeev(jobvl, jobvr, n, a, 0, lda, wr, 0, wi, 0, vl, 0, ldvl, vr, 0, ldvr, work, 0, lwork, info);
+  }
+
+  public void sgeev(String jobvl, String jobvr, int n, FloatBuffer a, int offseta, int lda, FloatBuffer wr, int offsetwr, FloatBuffer wi, int offsetwi, FloatBuffer vl, int offsetvl, int ldvl, FloatBuffer vr, int offsetvr, int ldvr, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgeev");
+    checkArgument("SGEEV", 1, lsame("N", jobvl) || lsame("V", jobvl));
+    checkArgument("SGEEV", 2, lsame("N", jobvr) || lsame("V", jobvr));
+    checkArgument("SGEEV", 3, n >= 0);
+    checkArgument("SGEEV", 5, lda >= Math.max(1, n));
+    checkArgument("SGEEV", 9, ldvl >= Math.max(1, lsame("V", jobvl) ? n : 1));
+    checkArgument("SGEEV", 11, ldvr >= Math.max(1, lsame("V", jobvr) ? n : 1));
+    checkArgument("SGEEV", 11, lwork == -1 || lwork >= Math.max(1, (lsame("V", jobvl) || lsame("V", jobvr)) ? 4 * n : 3 * n));
+    requireNonNull(a);
+    requireNonNull(wr);
+    requireNonNull(wi);
+    if (lsame("V", jobvl))
+      requireNonNull(vl);
+    if (lsame("V", jobvr))
+      requireNonNull(vr);
+    requireNonNull(work);
+    requireNonNull(info);
+    if (lwork != -1) {
+      checkIndex(offseta + n * lda - 1, a.limit());
+      checkIndex(offsetwr + n - 1, wr.limit());
+      checkIndex(offsetwi + n - 1, wi.limit());
+      if (lsame("V", jobvl))
+        checkIndex(offsetvl + n * ldvl - 1, vl.limit());
+      if (lsame("V", jobvr))
+        checkIndex(offsetvr + n * ldvr - 1, vr.limit());
+    }
+    checkIndex(offsetwork + Math.max(1, lwork) - 1, work.limit());
+    sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+  }
+
+  protected void sgeevK(String jobvl, String jobvr, int n, FloatBuffer a, int offseta, int lda, FloatBuffer wr, int offsetwr, FloatBuffer wi, int offsetwi, FloatBuffer vl, int offsetvl, int ldvl, FloatBuffer vr, int offsetvr, int ldvr, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    float[] arraywr = Buffers.writableArray(wr, offsetwr, n);
+    float[] arraywi = Buffers.writableArray(wi, offsetwi, n);
+    float[] arrayvl = Buffers.writableArray(vl, offsetvl, lsame("V", jobvl) ? (n - 1) * ldvl + n : 0);
+    float[] arrayvr = Buffers.writableArray(vr, offsetvr, lsame("V", jobvr) ? (n - 1) * ldvr + n : 0);
+    float[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    sgeevK(jobvl, jobvr, n, arraya, Buffers.offset(a, offseta), lda, arraywr, Buffers.offset(wr, offsetwr), arraywi, Buffers.offset(wi, offsetwi), arrayvl, Buffers.offset(vl, offsetvl), ldvl, arrayvr, Buffers.offset(vr, offsetvr), ldvr, arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(wr, offsetwr, arraywr);
+    Buffers.release(wi, offsetwi, arraywi);
+    Buffers.release(vl, offsetvl, arrayvl);
+    Buffers.release(vr, offsetvr, arrayvr);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void sgeevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int lda, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, org.netlib.util.floatW abnrm, float[] rconde, float[] rcondv, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgeevx");
     sgeevx(balanc, jobvl, jobvr, sense, n, a, 0, lda, wr, 0, wi, 0, vl, 0, ldvl, vr, 0, ldvr, ilo, ihi, scale, 0, abnrm, rconde, 0, rcondv, 0, work, 0, lwork, iwork, 0, info);
@@ -5097,6 +5565,40 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgelsK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void sgels(String trans, int m, int n, int nrhs, FloatBuffer a, int lda, FloatBuffer b, int ldb, FloatBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgels");
+    sgels(trans, m, n, nrhs, a, 0, lda, b, 0, ldb, work, 0, lwork, info);
+  }
+
+  public void sgels(String trans, int m, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgels");
+    checkArgument("SGELS", 1, lsame("N", trans) || lsame("T", trans));
+    checkArgument("SGELS", 2, m >= 0);
+    checkArgument("SGELS", 3, n >= 0);
+    checkArgument("SGELS", 4, nrhs >= 0);
+    checkArgument("SGELS", 6, lda >= Math.max(1, m));
+    checkArgument("SGELS", 8, ldb >= Math.max(1, Math.max(m, n)));
+    checkArgument("SGELS", 10, lwork == -1 || lwork >= Math.max(1, Math.min(m, n) + Math.max(Math.min(m, n), nrhs)));
+    requireNonNull(a);
+    requireNonNull(b);
+    requireNonNull(work);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetb + nrhs * (lsame("N", trans) ? m : n) - 1, b.limit());
+    checkIndex(offsetwork + Math.max(1, lwork) - 1, work.limit());
+    sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+  }
+
+  protected void sgelsK(String trans, int m, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    float[] arrayb = Buffers.writableArray(b, offsetb, (nrhs - 1) * ldb + Math.max(m, n));
+    float[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    sgelsK(trans, m, n, nrhs, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(b, offsetb, arrayb);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void sgelsd(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] s, float rcond, org.netlib.util.intW rank, float[] work, int lwork, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgelsd");
     sgelsd(m, n, nrhs, a, 0, lda, b, 0, ldb, s, 0, rcond, rank, work, 0, lwork, iwork, 0, info);
@@ -5251,6 +5753,39 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgeqrfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void sgeqrf(int m, int n, FloatBuffer a, int lda, FloatBuffer tau, FloatBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgeqrf");
+    sgeqrf(m, n, a, 0, lda, tau, 0, work, 0, lwork, info);
+  }
+
+  public void sgeqrf(int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgeqrf");
+    checkArgument("SGEQRF", 1, m >= 0);
+    checkArgument("SGEQRF", 2, n >= 0);
+    checkArgument("SGEQRF", 4, lda >= Math.max(1, m));
+    checkArgument("SGEQRF", 7, lwork == -1 || lwork >= Math.max(1, n));
+    requireNonNull(a);
+    requireNonNull(tau);
+    requireNonNull(work);
+    requireNonNull(info);
+    if (lwork != -1) {
+      checkIndex(offseta + n * lda - 1, a.limit());
+      checkIndex(offsettau + Math.min(m, n) - 1, tau.limit());
+    }
+    checkIndex(offsetwork + Math.max(1, lwork) - 1, work.limit());
+    sgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  protected void sgeqrfK(int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    float[] arraytau = Buffers.writableArray(tau, offsettau, Math.min(m, n));
+    float[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    sgeqrfK(m, n, arraya, Buffers.offset(a, offseta), lda, arraytau, Buffers.offset(tau, offsettau), arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(tau, offsettau, arraytau);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void sgerfs(String trans, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgerfs");
     sgerfs(trans, n, nrhs, a, 0, lda, af, 0, ldaf, ipiv, 0, b, 0, ldb, x, 0, ldx, ferr, 0, berr, 0, work, 0, iwork, 0, info);
@@ -5316,6 +5851,33 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
+  public void sgesdd(String jobz, int m, int n, FloatBuffer a, int lda, FloatBuffer s, FloatBuffer u, int ldu, FloatBuffer vt, int ldvt, FloatBuffer work, int lwork, IntBuffer iwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesdd");
+    sgesdd(jobz, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, work, 0, lwork, iwork, 0, info);
+  }
+
+  public void sgesdd(String jobz, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesdd");
+    //FIXME Add arguments check
+    sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+  }
+
+  protected void sgesddK(String jobz, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    float[] arrays = Buffers.writableArray(s, offsets, Math.min(m, n));
+    float[] arrayu = Buffers.writableArray(u, offsetu, lsame("A", jobz) || (lsame("O", jobz) && m < n) ? (m - 1) * ldu + m : lsame("S", jobz) ? (Math.min(m, n) - 1) * ldu + m : 0);
+    float[] arrayvt = Buffers.writableArray(vt, offsetvt, lsame("A", jobz) || (lsame("O", jobz) && m >= n) ? (n - 1) * ldvt + n : lsame("S", jobz) ? (n - 1) * ldvt + Math.min(m, n) : 0);
+    float[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    int[] arrayiwork = Buffers.writableArray(iwork, offsetiwork, 8 * Math.min(m, n));
+    sgesddK(jobz, m, n, arraya, Buffers.offset(a, offseta), lda, arrays, Buffers.offset(s, offsets), arrayu, Buffers.offset(u, offsetu), ldu, arrayvt, Buffers.offset(vt, offsetvt), ldvt, arraywork, Buffers.offset(work, offsetwork), lwork, arrayiwork, Buffers.offset(iwork, offsetiwork), info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(s, offsets, arrays);
+    Buffers.release(u, offsetu, arrayu);
+    Buffers.release(vt, offsetvt, arrayvt);
+    Buffers.release(work, offsetwork, arraywork);
+    Buffers.release(iwork, offsetiwork, arrayiwork);
+  }
+
   public void sgesv(int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sgesv");
     sgesv(n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
@@ -5329,6 +5891,27 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgesvK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void sgesv(int n, int nrhs, FloatBuffer a, int lda, IntBuffer ipiv, FloatBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesv");
+    sgesv(n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
+  }
+
+  public void sgesv(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesv");
+    //FIXME Add arguments check
+    sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  protected void sgesvK(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    int[] arrayipiv = Buffers.writableArray(ipiv, offsetipiv, n);
+    float[] arrayb = Buffers.writableArray(b, offsetb, (nrhs - 1) * ldb + n);
+    sgesvK(n, nrhs, arraya, Buffers.offset(a, offseta), lda, arrayipiv, Buffers.offset(ipiv, offsetipiv), arrayb, Buffers.offset(b, offsetb), ldb, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(ipiv, offsetipiv, arrayipiv);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int lda, float[] s, float[] u, int ldu, float[] vt, int ldvt, float[] work, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgesvd");
     sgesvd(jobu, jobvt, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, work, 0, lwork, info);
@@ -5342,6 +5925,31 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgesvdK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void sgesvd(String jobu, String jobvt, int m, int n, FloatBuffer a, int lda, FloatBuffer s, FloatBuffer u, int ldu, FloatBuffer vt, int ldvt, FloatBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesvd");
+    sgesvd(jobu, jobvt, m, n, a, 0, lda, s, 0, u, 0, ldu, vt, 0, ldvt, work, 0, lwork, info);
+  }
+
+  public void sgesvd(String jobu, String jobvt, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgesvd");
+    //FIXME Add arguments check
+    sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+  }
+
+  protected void sgesvdK(String jobu, String jobvt, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    float[] arrays = Buffers.writableArray(s, offsets, Math.min(m, n));
+    float[] arrayu = Buffers.writableArray(u, offsetu, lsame("A", jobu) ? (m - 1) * ldu + m : lsame("S", jobu) ? (Math.min(m, n) - 1) * ldu + m : 0);
+    float[] arrayvt = Buffers.writableArray(vt, offsetvt, lsame("A", jobvt) ? (n - 1) * ldvt + n : lsame("S", jobvt) ? (n - 1) * ldvt + Math.min(m, n) : 0);
+    float[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    sgesvdK(jobu, jobvt, m, n, arraya, Buffers.offset(a, offseta), lda, arrays, Buffers.offset(s, offsets), arrayu, Buffers.offset(u, offsetu), ldu, arrayvt, Buffers.offset(vt, offsetvt), ldvt, arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(s, offsets, arrays);
+    Buffers.release(u, offsetu, arrayu);
+    Buffers.release(vt, offsetvt, arrayvt);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void sgesvx(String fact, String trans, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, org.netlib.util.StringW equed, float[] r, float[] c, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgesvx");
     sgesvx(fact, trans, n, nrhs, a, 0, lda, af, 0, ldaf, ipiv, 0, equed, r, 0, c, 0, b, 0, ldb, x, 0, ldx, rcond, ferr, 0, berr, 0, work, 0, iwork, 0, info);
@@ -5401,6 +6009,32 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgetrfK(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
 
+  public void sgetrf(int m, int n, FloatBuffer a, int lda, IntBuffer ipiv, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgetrf");
+    sgetrf(m, n, a, 0, lda, ipiv, 0, info);
+  }
+
+  public void sgetrf(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgetrf");
+    checkArgument("SGETRF", 1, m >= 0);
+    checkArgument("SGETRF", 2, n >= 0);
+    checkArgument("SGETRF", 4, lda >= Math.max(1, m));
+    requireNonNull(a);
+    requireNonNull(ipiv);
+    requireNonNull(info);
+    checkIndex(offseta + n * lda - 1, a.limit());
+    checkIndex(offsetipiv + Math.min(m, n) - 1, ipiv.limit());
+    sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+  }
+
+  protected void sgetrfK(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    int[] arrayipiv = Buffers.writableArray(ipiv, offsetipiv, Math.min(m, n));
+    sgetrfK(m, n, arraya, Buffers.offset(a, offseta), lda, arrayipiv, Buffers.offset(ipiv, offsetipiv), info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(ipiv, offsetipiv, arrayipiv);
+  }
+
   public void sgetri(int n, float[] a, int lda, int[] ipiv, float[] work, int lwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sgetri");
     sgetri(n, a, 0, lda, ipiv, 0, work, 0, lwork, info);
@@ -5414,6 +6048,26 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgetriK(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void sgetri(int n, FloatBuffer a, int lda, IntBuffer ipiv, FloatBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgetri");
+    sgetri(n, a, 0, lda, ipiv, 0, work, 0, lwork, info);
+  }
+
+  public void sgetri(int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgetri");
+    //FIXME Add arguments check
+    sgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+  }
+
+  protected void sgetriK(int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    int[] arrayipiv = Buffers.array(ipiv, offsetipiv, n);
+    float[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    sgetriK(n, arraya, Buffers.offset(a, offseta), lda, arrayipiv, Buffers.offset(ipiv, offsetipiv), arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void sgetrs(String trans, int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("sgetrs");
     sgetrs(trans, n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
@@ -5427,6 +6081,25 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sgetrsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void sgetrs(String trans, int n, int nrhs, FloatBuffer a, int lda, IntBuffer ipiv, FloatBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgetrs");
+    sgetrs(trans, n, nrhs, a, 0, lda, ipiv, 0, b, 0, ldb, info);
+  }
+
+  public void sgetrs(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sgetrs");
+    //FIXME Add arguments check
+    sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+  }
+
+  protected void sgetrsK(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + n);
+    int[] arrayipiv = Buffers.array(ipiv, offsetipiv, n);
+    float[] arrayb = Buffers.writableArray(b, offsetb, (nrhs - 1) * ldb + n);
+    sgetrsK(trans, n, nrhs, arraya, Buffers.offset(a, offseta), lda, arrayipiv, Buffers.offset(ipiv, offsetipiv), arrayb, Buffers.offset(b, offsetb), ldb, info);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void sggbak(String job, String side, int n, int ilo, int ihi, float[] lscale, float[] rscale, int m, float[] v, int ldv, org.netlib.util.intW info) {
     if (debug) System.err.println("sggbak");
     sggbak(job, side, n, ilo, ihi, lscale, 0, rscale, 0, m, v, 0, ldv, info);
@@ -7533,6 +8206,26 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sorgqrK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void sorgqr(int m, int n, int k, FloatBuffer a, int lda, FloatBuffer tau, FloatBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sorgqr");
+    sorgqr(m, n, k, a, 0, lda, tau, 0, work, 0, lwork, info);
+  }
+
+  public void sorgqr(int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sorgqr");
+    //FIXME Add arguments check
+    sorgqrK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+  }
+
+  protected void sorgqrK(int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + m);
+    float[] arraytau = Buffers.array(tau, offsettau, k);
+    float[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    sorgqrK(m, n, k, arraya, Buffers.offset(a, offseta), lda, arraytau, Buffers.offset(tau, offsettau), arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void sorgr2(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info) {
     if (debug) System.err.println("sorgr2");
     sorgr2(m, n, k, a, 0, lda, tau, 0, work, 0, info);
@@ -7676,6 +8369,27 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sormqrK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void sormqr(String side, String trans, int m, int n, int k, FloatBuffer a, int lda, FloatBuffer tau, FloatBuffer c, int Ldc, FloatBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sormqr");
+    sormqr(side, trans, m, n, k, a, 0, lda, tau, 0, c, 0, Ldc, work, 0, lwork, info);
+  }
+
+  public void sormqr(String side, String trans, int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer c, int offsetc, int Ldc, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("sormqr");
+    //FIXME Add arguments check
+    sormqrK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+  }
+
+  protected void sormqrK(String side, String trans, int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer c, int offsetc, int Ldc, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    float[] arraya = Buffers.array(a, offseta, (k - 1) * lda + (lsame("L", side) ? m : n));
+    float[] arraytau = Buffers.array(tau, offsettau, k);
+    float[] arrayc = Buffers.writableArray(c, offsetc, (n - 1) * Ldc + m);
+    float[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    sormqrK(side, trans, m, n, k, arraya, Buffers.offset(a, offseta), lda, arraytau, Buffers.offset(tau, offsettau), arrayc, Buffers.offset(c, offsetc), Ldc, arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(c, offsetc, arrayc);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void sormr2(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info) {
     if (debug) System.err.println("sormr2");
     sormr2(side, trans, m, n, k, a, 0, lda, tau, 0, c, 0, Ldc, work, 0, info);
@@ -7910,6 +8624,25 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void sposvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void sposv(String uplo, int n, int nrhs, FloatBuffer a, int lda, FloatBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sposv");
+    sposv(uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
+  }
+
+  public void sposv(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("sposv");
+    //FIXME Add arguments check
+    sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  protected void sposvK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    float[] arrayb = Buffers.writableArray(b, offsetb, (nrhs - 1) * ldb + n);
+    sposvK(uplo, n, nrhs, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void sposvx(String fact, String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, org.netlib.util.StringW equed, float[] s, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sposvx");
     sposvx(fact, uplo, n, nrhs, a, 0, lda, af, 0, ldaf, equed, s, 0, b, 0, ldb, x, 0, ldx, rcond, ferr, 0, berr, 0, work, 0, iwork, 0, info);
@@ -7949,6 +8682,23 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void spotrfK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
 
+  public void spotrf(String uplo, int n, FloatBuffer a, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("spotrf");
+    spotrf(uplo, n, a, 0, lda, info);
+  }
+
+  public void spotrf(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("spotrf");
+    //FIXME Add arguments check
+    spotrfK(uplo, n, a, offseta, lda, info);
+  }
+
+  protected void spotrfK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    spotrfK(uplo, n, arraya, Buffers.offset(a, offseta), lda, info);
+    Buffers.release(a, offseta, arraya);
+  }
+
   public void spotri(String uplo, int n, float[] a, int lda, org.netlib.util.intW info) {
     if (debug) System.err.println("spotri");
     spotri(uplo, n, a, 0, lda, info);
@@ -7962,6 +8712,23 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void spotriK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
 
+  public void spotri(String uplo, int n, FloatBuffer a, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("spotri");
+    spotri(uplo, n, a, 0, lda, info);
+  }
+
+  public void spotri(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (debug) System.err.println("spotri");
+    //FIXME Add arguments check
+    spotriK(uplo, n, a, offseta, lda, info);
+  }
+
+  protected void spotriK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    spotriK(uplo, n, arraya, Buffers.offset(a, offseta), lda, info);
+    Buffers.release(a, offseta, arraya);
+  }
+
   public void spotrs(String uplo, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info) {
     if (debug) System.err.println("spotrs");
     spotrs(uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
@@ -7975,6 +8742,24 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void spotrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  public void spotrs(String uplo, int n, int nrhs, FloatBuffer a, int lda, FloatBuffer b, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("spotrs");
+    spotrs(uplo, n, nrhs, a, 0, lda, b, 0, ldb, info);
+  }
+
+  public void spotrs(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (debug) System.err.println("spotrs");
+    //FIXME Add arguments check
+    spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+  }
+
+  protected void spotrsK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    float[] arraya = Buffers.array(a, offseta, (n - 1) * lda + n);
+    float[] arrayb = Buffers.writableArray(b, offsetb, (nrhs - 1) * ldb + n);
+    spotrsK(uplo, n, nrhs, arraya, Buffers.offset(a, offseta), lda, arrayb, Buffers.offset(b, offsetb), ldb, info);
+    Buffers.release(b, offsetb, arrayb);
+  }
+
   public void sppcon(String uplo, int n, float[] ap, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info) {
     if (debug) System.err.println("sppcon");
     sppcon(uplo, n, ap, 0, anorm, rcond, work, 0, iwork, 0, info);
@@ -8664,6 +9449,27 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void ssyevK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  public void ssyev(String jobz, String uplo, int n, FloatBuffer a, int lda, FloatBuffer w, FloatBuffer work, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssyev");
+    ssyev(jobz, uplo, n, a, 0, lda, w, 0, work, 0, lwork, info);
+  }
+
+  public void ssyev(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssyev");
+    //FIXME Add arguments check
+    ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+  }
+
+  protected void ssyevK(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    float[] arrayw = Buffers.writableArray(w, offsetw, n);
+    float[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    ssyevK(jobz, uplo, n, arraya, Buffers.offset(a, offseta), lda, arrayw, Buffers.offset(w, offsetw), arraywork, Buffers.offset(work, offsetwork), lwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(w, offsetw, arrayw);
+    Buffers.release(work, offsetwork, arraywork);
+  }
+
   public void ssyevd(String jobz, String uplo, int n, float[] a, int lda, float[] w, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssyevd");
     ssyevd(jobz, uplo, n, a, 0, lda, w, 0, work, 0, lwork, iwork, 0, liwork, info);
@@ -8677,6 +9483,29 @@ abstract class AbstractLAPACK implements LAPACK {
 
   protected abstract void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
 
+  public void ssyevd(String jobz, String uplo, int n, FloatBuffer a, int lda, FloatBuffer w, FloatBuffer work, int lwork, IntBuffer iwork, int liwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssyevd");
+    ssyevd(jobz, uplo, n, a, 0, lda, w, 0, work, 0, lwork, iwork, 0, liwork, info);
+  }
+
+  public void ssyevd(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (debug) System.err.println("ssyevd");
+    //FIXME Add arguments check
+    ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+  }
+
+  protected void ssyevdK(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    float[] arraya = Buffers.writableArray(a, offseta, (n - 1) * lda + n);
+    float[] arrayw = Buffers.writableArray(w, offsetw, n);
+    float[] arraywork = Buffers.writableArray(work, offsetwork, Math.max(1, lwork));
+    int[] arrayiwork = Buffers.writableArray(iwork, offsetiwork, Math.max(1, liwork));
+    ssyevdK(jobz, uplo, n, arraya, Buffers.offset(a, offseta), lda, arrayw, Buffers.offset(w, offsetw), arraywork, Buffers.offset(work, offsetwork), lwork, arrayiwork, Buffers.offset(iwork, offsetiwork), liwork, info);
+    Buffers.release(a, offseta, arraya);
+    Buffers.release(w, offsetw, arrayw);
+    Buffers.release(work, offsetwork, arraywork);
+    Buffers.release(iwork, offsetiwork, arrayiwork);
+  }
+
   public void ssyevr(String jobz, String range, String uplo, int n, float[] a, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, int[] isuppz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info) {
     if (debug) System.err.println("ssyevr");
     ssyevr(jobz, range, uplo, n, a, 0, lda, vl, vu, il, iu, abstol, m, w, 0, z, 0, ldz, isuppz, 0, work, 0, lwork, iwork, 0, liwork, info);
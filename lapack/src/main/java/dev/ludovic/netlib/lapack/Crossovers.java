@@ -0,0 +1,299 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+package dev.ludovic.netlib.lapack;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Crossovers of HybridLAPACK: for each routine, the number of elements of the matrix from which
+// the native implementation is called rather than the Java one.
+//
+// All routines share a default crossover, replaced by the one in -Ddev.ludovic.netlib.lapack.crossoverFile,
+// which can also list routines on their own. The default is an estimate, not a measurement: it
+// applies to every routine unless the file lists it. When the file doesn't exist and
+// -Ddev.ludovic.netlib.lapack.calibrate=true, the crossovers of each family of routines are
+// measured at startup and saved in it, see calibrate. -Ddev.ludovic.netlib.lapack.crossover.<routine>
+// takes precedence over both.
+final class Crossovers {
+
+  private static final Logger log = Logger.getLogger(Crossovers.class.getName());
+
+  // 32x32, past which the blocked native factorizations pull ahead
+  private static final long fallback = 32L * 32L;
+
+  private final long level;
+  private final Properties routines;
+
+  Crossovers(AbstractLAPACK javaLapack, AbstractLAPACK nativeLapack) {
+    File file = new File(System.getProperty("dev.ludovic.netlib.lapack.crossoverFile",
+                                            System.getProperty("user.home") + "/.cache/dev.ludovic.netlib/lapack-crossover.properties"));
+    String machine = machine(nativeLapack);
+    Properties properties = load(file, machine);
+    if (properties == null && Boolean.getBoolean("dev.ludovic.netlib.lapack.calibrate")) {
+      properties = calibrate(javaLapack, nativeLapack);
+      save(file, machine, properties);
+    }
+    boolean loaded = properties != null;
+    routines = loaded ? properties : new Properties();
+
+    level = parse("default", routines.getProperty("default"), fallback);
+
+    log.fine(() -> String.format("crossover %d%s", level, loaded ? " (from " + file + ")" : ""));
+  }
+
+  long get(String routine) {
+    String property = System.getProperty("dev.ludovic.netlib.lapack.crossover." + routine);
+    if (property != null) {
+      return parse("dev.ludovic.netlib.lapack.crossover." + routine, property, level);
+    }
+    return parse(routine, routines.getProperty(routine), level);
+  }
+
+  private static long parse(String name, String value, long fallback) {
+    if (value == null) {
+      return fallback;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      log.warning("Ignoring malformed crossover " + name + ": " + value);
+      return fallback;
+    }
+  }
+
+  // The crossovers depend on the processor, on both implementations, and on the native library loaded
+  private static String machine(AbstractLAPACK nativeLapack) {
+    String model = "unknown";
+    try {
+      for (String line : Files.readAllLines(new File("/proc/cpuinfo").toPath(), StandardCharsets.UTF_8)) {
+        if (line.startsWith("model name")) {
+          model = line.substring(line.indexOf(':') + 1).trim();
+          break;
+        }
+      }
+    } catch (IOException e) {
+      // not on Linux, the architecture has to do
+    }
+    return String.join("/", System.getProperty("os.arch"), model, nativeLapack.getClass().getName(),
+                       System.getProperty("dev.ludovic.netlib.lapack.nativeLibPath", System.getProperty("dev.ludovic.netlib.lapack.nativeLib", "")),
+                       System.getProperty("java.specification.version"));
+  }
+
+  // A file without machine applies to all machines, which allows to write it by hand
+  private static Properties load(File file, String machine) {
+    if (!file.isFile()) {
+      return null;
+    }
+    Properties properties = new Properties();
+    try (InputStream in = new FileInputStream(file)) {
+      properties.load(in);
+    } catch (IOException e) {
+      log.log(Level.FINE, "Failed to read " + file, e);
+      return null;
+    }
+    String saved = properties.getProperty("machine");
+    if (saved != null && !saved.equals(machine)) {
+      return null;
+    }
+    return properties;
+  }
+
+  private static void save(File file, String machine, Properties properties) {
+    Properties saved = new Properties();
+    saved.putAll(properties);
+    saved.setProperty("machine", machine);
+    file.getAbsoluteFile().getParentFile().mkdirs();
+    try (OutputStream out = new FileOutputStream(file)) {
+      saved.store(out, "dev.ludovic.netlib.lapack crossovers");
+    } catch (IOException e) {
+      log.log(Level.WARNING, "Failed to save the crossovers to " + file, e);
+    }
+  }
+
+  private interface Kernel {
+    void run(AbstractLAPACK lapack, int n);
+  }
+
+  // Times both implementations of one representative per family of routines, in each precision,
+  // on growing matrices; the other routines of the family take its crossover. The default, measured
+  // on dgetrf, is kept for the routines not listed here. It takes several seconds.
+  private static Properties calibrate(AbstractLAPACK javaLapack, AbstractLAPACK nativeLapack) {
+    Random random = new Random(0);
+    int[] dims = { 4, 8, 16, 32, 64, 128, 256 };
+    // the eigenvalue and singular value decompositions have a large fixed cost on the smallest
+    // sizes and run for long on the largest ones, both outside of where their crossover lies
+    int[] smallDims = { 8, 16, 32, 64, 128 };
+    int max = dims[dims.length - 1];
+    // symmetric positive definite once its upper triangle is mirrored, as its diagonal dominates
+    double[] matrix = new double[max * max];
+    float[] smatrix = new float[max * max];
+    for (int i = 0; i < matrix.length; i += 1) {
+      smatrix[i] = (float)(matrix[i] = random.nextDouble() + (i % (max + 1) == 0 ? max : 0.0));
+    }
+    // every kernel first copies the leading n-by-n block of matrix into a, which costs the same to
+    // both implementations
+    double[] a = new double[max * max], w = new double[max], work = new double[64 * max];
+    float[] sa = new float[max * max], sw = new float[max], swork = new float[64 * max];
+    // u and vt of the singular value decompositions, which aren't computed
+    double[] unused = new double[1];
+    float[] sunused = new float[1];
+    int[] ipiv = new int[max];
+    org.netlib.util.intW info = new org.netlib.util.intW(0);
+
+    Properties properties = new Properties();
+
+    long dgetrf = crossover(javaLapack, nativeLapack, dims, 3, (lapack, n) -> {
+          copy(matrix, max, a, n);
+          lapack.dgetrfK(n, n, a, 0, n, ipiv, 0, info);
+        });
+    set(properties, dgetrf, "default", "dgetrf", "dgetrs", "dgesv", "dgetri", "dgecon", "dtrtri", "dtrtrs");
+    set(properties, crossover(javaLapack, nativeLapack, dims, 3, (lapack, n) -> {
+          copy(smatrix, max, sa, n);
+          lapack.sgetrfK(n, n, sa, 0, n, ipiv, 0, info);
+        }),
+        "sgetrf", "sgetrs", "sgesv", "sgetri", "sgecon", "strtri", "strtrs");
+    set(properties, crossover(javaLapack, nativeLapack, dims, 3, (lapack, n) -> {
+          copy(matrix, max, a, n);
+          lapack.dsytrfK("U", n, a, 0, n, ipiv, 0, work, 0, work.length, info);
+        }),
+        "dsytrf", "dsytrs", "dsysv");
+    set(properties, crossover(javaLapack, nativeLapack, dims, 3, (lapack, n) -> {
+          copy(smatrix, max, sa, n);
+          lapack.ssytrfK("U", n, sa, 0, n, ipiv, 0, swork, 0, swork.length, info);
+        }),
+        "ssytrf", "ssytrs", "ssysv");
+    set(properties, crossover(javaLapack, nativeLapack, dims, 3, (lapack, n) -> {
+          copy(matrix, max, a, n);
+          lapack.dpotrfK("U", n, a, 0, n, info);
+        }),
+        "dpotrf", "dpotrs", "dposv", "dpotri", "dpocon");
+    set(properties, crossover(javaLapack, nativeLapack, dims, 3, (lapack, n) -> {
+          copy(smatrix, max, sa, n);
+          lapack.spotrfK("U", n, sa, 0, n, info);
+        }),
+        "spotrf", "spotrs", "sposv", "spotri", "spocon");
+    set(properties, crossover(javaLapack, nativeLapack, dims, 3, (lapack, n) -> {
+          copy(matrix, max, a, n);
+          lapack.dgeqrfK(n, n, a, 0, n, w, 0, work, 0, work.length, info);
+        }),
+        "dgeqrf", "dgelqf", "dgeqp3", "dorgqr", "dormqr", "dgels");
+    set(properties, crossover(javaLapack, nativeLapack, dims, 3, (lapack, n) -> {
+          copy(smatrix, max, sa, n);
+          lapack.sgeqrfK(n, n, sa, 0, n, sw, 0, swork, 0, swork.length, info);
+        }),
+        "sgeqrf", "sgelqf", "sgeqp3", "sorgqr", "sormqr", "sgels");
+    set(properties, crossover(javaLapack, nativeLapack, smallDims, 3, (lapack, n) -> {
+          copy(matrix, max, a, n);
+          lapack.dsyevK("N", "U", n, a, 0, n, w, 0, work, 0, work.length, info);
+        }),
+        "dsyev", "dsyevd", "dsyevr");
+    set(properties, crossover(javaLapack, nativeLapack, smallDims, 3, (lapack, n) -> {
+          copy(smatrix, max, sa, n);
+          lapack.ssyevK("N", "U", n, sa, 0, n, sw, 0, swork, 0, swork.length, info);
+        }),
+        "ssyev", "ssyevd", "ssyevr");
+    set(properties, crossover(javaLapack, nativeLapack, smallDims, 3, (lapack, n) -> {
+          copy(matrix, max, a, n);
+          lapack.dgesvdK("N", "N", n, n, a, 0, n, w, 0, unused, 0, 1, unused, 0, 1, work, 0, work.length, info);
+        }),
+        "dgesvd", "dgesdd", "dgeev");
+    set(properties, crossover(javaLapack, nativeLapack, smallDims, 3, (lapack, n) -> {
+          copy(smatrix, max, sa, n);
+          lapack.sgesvdK("N", "N", n, n, sa, 0, n, sw, 0, sunused, 0, 1, sunused, 0, 1, swork, 0, swork.length, info);
+        }),
+        "sgesvd", "sgesdd", "sgeev");
+    set(properties, crossover(javaLapack, nativeLapack, dims, 2, (lapack, n) -> lapack.dlangeK("F", n, n, matrix, 0, max, work, 0)),
+        "dlange", "dlansy", "dlacpy", "dlaset");
+    set(properties, crossover(javaLapack, nativeLapack, dims, 2, (lapack, n) -> lapack.slangeK("F", n, n, smatrix, 0, max, swork, 0)),
+        "slange", "slansy", "slacpy", "slaset");
+    return properties;
+  }
+
+  private static void set(Properties properties, long crossover, String... keys) {
+    for (String key : keys) {
+      properties.setProperty(key, Long.toString(crossover));
+    }
+  }
+
+  private static void copy(double[] matrix, int ldmatrix, double[] a, int n) {
+    for (int col = 0; col < n; col += 1) {
+      System.arraycopy(matrix, col * ldmatrix, a, col * n, n);
+    }
+  }
+
+  private static void copy(float[] matrix, int ldmatrix, float[] a, int n) {
+    for (int col = 0; col < n; col += 1) {
+      System.arraycopy(matrix, col * ldmatrix, a, col * n, n);
+    }
+  }
+
+  // The smallest matrix from which the native implementation is faster on it and all the larger
+  // ones, in number of elements
+  private static long crossover(AbstractLAPACK javaLapack, AbstractLAPACK nativeLapack, int[] dims, int power, Kernel kernel) {
+    long[] javaTimes = new long[dims.length], nativeTimes = new long[dims.length];
+    // the first round lets the JIT compile the Java routines
+    for (int round = 0; round < 2; round += 1) {
+      for (int i = 0; i < dims.length; i += 1) {
+        javaTimes[i] = time(javaLapack, dims[i], power, kernel);
+        nativeTimes[i] = time(nativeLapack, dims[i], power, kernel);
+      }
+    }
+    long crossover = Long.MAX_VALUE;
+    for (int i = dims.length - 1; i >= 0; i -= 1) {
+      if (nativeTimes[i] >= javaTimes[i]) {
+        break;
+      }
+      crossover = (long)dims[i] * dims[i];
+    }
+    return crossover;
+  }
+
+  // Best of 3, each repeating the call to cover about 1M elements or n-cubed units of work, where
+  // there are n to the given power of them. The decompositions do several times n-cubed
+  // multiply-adds, so a larger budget would make the calibration take tens of seconds.
+  private static long time(AbstractLAPACK lapack, int n, int power, Kernel kernel) {
+    long repeats = Math.max(1, (1L << 20) / (long)Math.pow(n, power));
+    long best = Long.MAX_VALUE;
+    for (int rep = 0; rep < 3; rep += 1) {
+      long start = System.nanoTime();
+      for (long i = 0; i < repeats; i += 1) {
+        kernel.run(lapack, n);
+      }
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return best;
+  }
+}
@@ -43,6 +43,9 @@ final class InstanceBuilder {
     if (nativeLapack == null) {
       log.info("Using JavaLAPACK");
       lapack = javaLapack;
+    } else if (Boolean.parseBoolean(System.getProperty("dev.ludovic.netlib.lapack.hybrid", "true"))) {
+      log.info("Using native LAPACK, and JavaLAPACK below the crossover of each routine");
+      lapack = new HybridLAPACK(javaLapack, nativeLapack);
     } else {
       log.info("Using native LAPACK");
       lapack = nativeLapack;
@@ -54,6 +57,20 @@ final class InstanceBuilder {
   }
 
   private static NativeLAPACK initializeNative() {
+    String[] fullVersion = System.getProperty("java.version").split("[+.\\-]+", 2);
+    int major = Integer.parseInt(fullVersion[0]);
+    // ForeignLAPACK is opt-in: JNILAPACK stays the default until ForeignLAPACK has been through
+    // a JDK 22 build and test run
+    if (major >= 22 && Boolean.parseBoolean(System.getProperty("dev.ludovic.netlib.lapack.foreign", "false"))) {
+      // ForeignLAPACK is only compiled with Java 22+, so it can't be referenced directly
+      String foreign = "dev.ludovic.netlib.lapack.ForeignLAPACK";
+      try {
+        log.finest("trying to return foreign instance");
+        return (NativeLAPACK)Class.forName(foreign).getMethod("getInstance").invoke(null);
+      } catch (Throwable t) {
+        log.log(Level.FINE, "Failed to load implementation from:" + foreign, t);
+      }
+    }
     try {
       return JNILAPACK.getInstance();
     } catch (Throwable t) {
@@ -28,6 +28,9 @@ package dev.ludovic.netlib.lapack;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -108,6 +111,16 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void dgeevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void dgeevK(String jobvl, String jobvr, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer wr, int offsetwr, DoubleBuffer wi, int offsetwi, DoubleBuffer vl, int offsetvl, int ldvl, DoubleBuffer vr, int offsetvr, int ldvr, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(wr) && Buffers.isDirect(wi) && Buffers.isDirect(vl) && Buffers.isDirect(vr) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(wr) && Buffers.isWritable(wi) && Buffers.isWritable(vl) && Buffers.isWritable(vr) && Buffers.isWritable(work)) {
+      dgeevDirectK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    } else {
+      super.dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void dgeevDirectK(String jobvl, String jobvr, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer wr, int offsetwr, DoubleBuffer wi, int offsetwi, DoubleBuffer vl, int offsetvl, int ldvl, DoubleBuffer vr, int offsetvr, int ldvr, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void dgeevxK(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.doubleW abnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void dgegsK(String jobvsl, String jobvsr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -124,6 +137,16 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void dgelsK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void dgelsK(String trans, int m, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(b) && Buffers.isWritable(work)) {
+      dgelsDirectK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    } else {
+      super.dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void dgelsDirectK(String trans, int m, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void dgelsdK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void dgelssK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -144,6 +167,16 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void dgeqrfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void dgeqrfK(int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(tau) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(tau) && Buffers.isWritable(work)) {
+      dgeqrfDirectK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    } else {
+      super.dgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void dgeqrfDirectK(int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void dgerfsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void dgerq2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -154,10 +187,40 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
+  protected void dgesddK(String jobz, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(s) && Buffers.isDirect(u) && Buffers.isDirect(vt) && Buffers.isDirect(work) && Buffers.isDirect(iwork) && Buffers.isWritable(a) && Buffers.isWritable(s) && Buffers.isWritable(u) && Buffers.isWritable(vt) && Buffers.isWritable(work) && Buffers.isWritable(iwork)) {
+      dgesddDirectK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    } else {
+      super.dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    }
+  }
+
+  private native void dgesddDirectK(String jobz, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info);
+
   protected native void dgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  protected void dgesvK(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(ipiv) && Buffers.isDirect(b) && Buffers.isWritable(a) && Buffers.isWritable(ipiv) && Buffers.isWritable(b)) {
+      dgesvDirectK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    } else {
+      super.dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void dgesvDirectK(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
   protected native void dgesvdK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void dgesvdK(String jobu, String jobvt, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(s) && Buffers.isDirect(u) && Buffers.isDirect(vt) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(s) && Buffers.isWritable(u) && Buffers.isWritable(vt) && Buffers.isWritable(work)) {
+      dgesvdDirectK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    } else {
+      super.dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void dgesvdDirectK(String jobu, String jobvt, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void dgesvxK(String fact, String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void dgetc2K(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info);
@@ -166,10 +229,40 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void dgetrfK(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
 
+  protected void dgetrfK(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(ipiv) && Buffers.isWritable(a) && Buffers.isWritable(ipiv)) {
+      dgetrfDirectK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    } else {
+      super.dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    }
+  }
+
+  private native void dgetrfDirectK(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info);
+
   protected native void dgetriK(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void dgetriK(int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(ipiv) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(ipiv) && Buffers.isWritable(work)) {
+      dgetriDirectK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    } else {
+      super.dgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void dgetriDirectK(int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void dgetrsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  protected void dgetrsK(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(ipiv) && Buffers.isDirect(b) && Buffers.isWritable(a) && Buffers.isWritable(ipiv) && Buffers.isWritable(b)) {
+      dgetrsDirectK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    } else {
+      super.dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void dgetrsDirectK(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
   protected native void dggbakK(String job, String side, int n, int ilo, int ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info);
 
   protected native void dggbalK(String job, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -506,6 +599,16 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void dorgqrK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void dorgqrK(int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(tau) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(tau) && Buffers.isWritable(work)) {
+      dorgqrDirectK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    } else {
+      super.dorgqrK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void dorgqrDirectK(int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void dorgr2K(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
 
   protected native void dorgrqK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -528,6 +631,16 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void dormqrK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void dormqrK(String side, String trans, int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer c, int offsetc, int Ldc, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(tau) && Buffers.isDirect(c) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(tau) && Buffers.isWritable(c) && Buffers.isWritable(work)) {
+      dormqrDirectK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    } else {
+      super.dormqrK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void dormqrDirectK(String side, String trans, int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer c, int offsetc, int Ldc, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void dormr2K(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
 
   protected native void dormr3K(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
@@ -564,16 +677,56 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void dposvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  protected void dposvK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isWritable(a) && Buffers.isWritable(b)) {
+      dposvDirectK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    } else {
+      super.dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void dposvDirectK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
   protected native void dposvxK(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void dpotf2K(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
 
   protected native void dpotrfK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
 
+  protected void dpotrfK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      dpotrfDirectK(uplo, n, a, offseta, lda, info);
+    } else {
+      super.dpotrfK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  private native void dpotrfDirectK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info);
+
   protected native void dpotriK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
 
+  protected void dpotriK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      dpotriDirectK(uplo, n, a, offseta, lda, info);
+    } else {
+      super.dpotriK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  private native void dpotriDirectK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info);
+
   protected native void dpotrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  protected void dpotrsK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isWritable(a) && Buffers.isWritable(b)) {
+      dpotrsDirectK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    } else {
+      super.dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void dpotrsDirectK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
   protected native void dppconK(String uplo, int n, double[] ap, int offsetap, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void dppequK(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info);
@@ -682,8 +835,28 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void dsyevK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void dsyevK(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(w) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(w) && Buffers.isWritable(work)) {
+      dsyevDirectK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    } else {
+      super.dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void dsyevDirectK(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
 
+  protected void dsyevdK(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(w) && Buffers.isDirect(work) && Buffers.isDirect(iwork) && Buffers.isWritable(a) && Buffers.isWritable(w) && Buffers.isWritable(work) && Buffers.isWritable(iwork)) {
+      dsyevdDirectK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    } else {
+      super.dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    }
+  }
+
+  private native void dsyevdDirectK(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
+
   protected native void dsyevrK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
 
   protected native void dsyevxK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -822,6 +995,16 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void sgeevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void sgeevK(String jobvl, String jobvr, int n, FloatBuffer a, int offseta, int lda, FloatBuffer wr, int offsetwr, FloatBuffer wi, int offsetwi, FloatBuffer vl, int offsetvl, int ldvl, FloatBuffer vr, int offsetvr, int ldvr, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(wr) && Buffers.isDirect(wi) && Buffers.isDirect(vl) && Buffers.isDirect(vr) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(wr) && Buffers.isWritable(wi) && Buffers.isWritable(vl) && Buffers.isWritable(vr) && Buffers.isWritable(work)) {
+      sgeevDirectK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    } else {
+      super.sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void sgeevDirectK(String jobvl, String jobvr, int n, FloatBuffer a, int offseta, int lda, FloatBuffer wr, int offsetwr, FloatBuffer wi, int offsetwi, FloatBuffer vl, int offsetvl, int ldvl, FloatBuffer vr, int offsetvr, int ldvr, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void sgeevxK(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.floatW abnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void sgegsK(String jobvsl, String jobvsr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -838,6 +1021,16 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void sgelsK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void sgelsK(String trans, int m, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(b) && Buffers.isWritable(work)) {
+      sgelsDirectK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    } else {
+      super.sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void sgelsDirectK(String trans, int m, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void sgelsdK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void sgelssK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -858,6 +1051,16 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void sgeqrfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void sgeqrfK(int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(tau) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(tau) && Buffers.isWritable(work)) {
+      sgeqrfDirectK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    } else {
+      super.sgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void sgeqrfDirectK(int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void sgerfsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void sgerq2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -868,10 +1071,40 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
+  protected void sgesddK(String jobz, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(s) && Buffers.isDirect(u) && Buffers.isDirect(vt) && Buffers.isDirect(work) && Buffers.isDirect(iwork) && Buffers.isWritable(a) && Buffers.isWritable(s) && Buffers.isWritable(u) && Buffers.isWritable(vt) && Buffers.isWritable(work) && Buffers.isWritable(iwork)) {
+      sgesddDirectK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    } else {
+      super.sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    }
+  }
+
+  private native void sgesddDirectK(String jobz, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info);
+
   protected native void sgesvK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  protected void sgesvK(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(ipiv) && Buffers.isDirect(b) && Buffers.isWritable(a) && Buffers.isWritable(ipiv) && Buffers.isWritable(b)) {
+      sgesvDirectK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    } else {
+      super.sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void sgesvDirectK(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
   protected native void sgesvdK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void sgesvdK(String jobu, String jobvt, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(s) && Buffers.isDirect(u) && Buffers.isDirect(vt) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(s) && Buffers.isWritable(u) && Buffers.isWritable(vt) && Buffers.isWritable(work)) {
+      sgesvdDirectK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    } else {
+      super.sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void sgesvdDirectK(String jobu, String jobvt, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void sgesvxK(String fact, String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void sgetc2K(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info);
@@ -880,10 +1113,40 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void sgetrfK(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
 
+  protected void sgetrfK(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(ipiv) && Buffers.isWritable(a) && Buffers.isWritable(ipiv)) {
+      sgetrfDirectK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    } else {
+      super.sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    }
+  }
+
+  private native void sgetrfDirectK(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info);
+
   protected native void sgetriK(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void sgetriK(int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(ipiv) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(ipiv) && Buffers.isWritable(work)) {
+      sgetriDirectK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    } else {
+      super.sgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void sgetriDirectK(int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void sgetrsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  protected void sgetrsK(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(ipiv) && Buffers.isDirect(b) && Buffers.isWritable(a) && Buffers.isWritable(ipiv) && Buffers.isWritable(b)) {
+      sgetrsDirectK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    } else {
+      super.sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void sgetrsDirectK(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
   protected native void sggbakK(String job, String side, int n, int ilo, int ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info);
 
   protected native void sggbalK(String job, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -1220,6 +1483,16 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void sorgqrK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void sorgqrK(int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(tau) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(tau) && Buffers.isWritable(work)) {
+      sorgqrDirectK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    } else {
+      super.sorgqrK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void sorgqrDirectK(int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void sorgr2K(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
 
   protected native void sorgrqK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
@@ -1242,6 +1515,16 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void sormqrK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void sormqrK(String side, String trans, int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer c, int offsetc, int Ldc, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(tau) && Buffers.isDirect(c) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(tau) && Buffers.isWritable(c) && Buffers.isWritable(work)) {
+      sormqrDirectK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    } else {
+      super.sormqrK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void sormqrDirectK(String side, String trans, int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer c, int offsetc, int Ldc, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void sormr2K(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
 
   protected native void sormr3K(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
@@ -1278,16 +1561,56 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void sposvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  protected void sposvK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isWritable(a) && Buffers.isWritable(b)) {
+      sposvDirectK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    } else {
+      super.sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void sposvDirectK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
   protected native void sposvxK(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void spotf2K(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
 
   protected native void spotrfK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
 
+  protected void spotrfK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      spotrfDirectK(uplo, n, a, offseta, lda, info);
+    } else {
+      super.spotrfK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  private native void spotrfDirectK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info);
+
   protected native void spotriK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
 
+  protected void spotriK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isWritable(a)) {
+      spotriDirectK(uplo, n, a, offseta, lda, info);
+    } else {
+      super.spotriK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  private native void spotriDirectK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info);
+
   protected native void spotrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
 
+  protected void spotrsK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(b) && Buffers.isWritable(a) && Buffers.isWritable(b)) {
+      spotrsDirectK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    } else {
+      super.spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private native void spotrsDirectK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
+
   protected native void sppconK(String uplo, int n, float[] ap, int offsetap, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
 
   protected native void sppequK(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info);
@@ -1394,8 +1717,28 @@ final class JNILAPACK extends AbstractLAPACK implements NativeLAPACK {
 
   protected native void ssyevK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
 
+  protected void ssyevK(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(w) && Buffers.isDirect(work) && Buffers.isWritable(a) && Buffers.isWritable(w) && Buffers.isWritable(work)) {
+      ssyevDirectK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    } else {
+      super.ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  private native void ssyevDirectK(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
+
   protected native void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
 
+  protected void ssyevdK(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (Buffers.isDirect(a) && Buffers.isDirect(w) && Buffers.isDirect(work) && Buffers.isDirect(iwork) && Buffers.isWritable(a) && Buffers.isWritable(w) && Buffers.isWritable(work) && Buffers.isWritable(iwork)) {
+      ssyevdDirectK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    } else {
+      super.ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    }
+  }
+
+  private native void ssyevdDirectK(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
+
   protected native void ssyevrK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
 
   protected native void ssyevxK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info);
@@ -25,6 +25,10 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
 public interface LAPACK {
 
   public static LAPACK getInstance() {
@@ -73,6 +77,8 @@ public interface LAPACK {
   public void dgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, org.netlib.util.doubleW rconde, org.netlib.util.doubleW rcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
   public void dgeev(String jobvl, String jobvr, int n, double[] a, int lda, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, double[] work, int lwork, org.netlib.util.intW info);
   public void dgeev(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void dgeev(String jobvl, String jobvr, int n, DoubleBuffer a, int lda, DoubleBuffer wr, DoubleBuffer wi, DoubleBuffer vl, int ldvl, DoubleBuffer vr, int ldvr, DoubleBuffer work, int lwork, org.netlib.util.intW info);
+  public void dgeev(String jobvl, String jobvr, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer wr, int offsetwr, DoubleBuffer wi, int offsetwi, DoubleBuffer vl, int offsetvl, int ldvl, DoubleBuffer vr, int offsetvr, int ldvr, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dgeevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int lda, double[] wr, double[] wi, double[] vl, int ldvl, double[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, org.netlib.util.doubleW abnrm, double[] rconde, double[] rcondv, double[] work, int lwork, int[] iwork, org.netlib.util.intW info);
   public void dgeevx(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.doubleW abnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void dgegs(String jobvsl, String jobvsr, int n, double[] a, int lda, double[] b, int ldb, double[] alphar, double[] alphai, double[] beta, double[] vsl, int ldvsl, double[] vsr, int ldvsr, double[] work, int lwork, org.netlib.util.intW info);
@@ -89,6 +95,8 @@ public interface LAPACK {
   public void dgelqf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dgels(String trans, int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] work, int lwork, org.netlib.util.intW info);
   public void dgels(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void dgels(String trans, int m, int n, int nrhs, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, DoubleBuffer work, int lwork, org.netlib.util.intW info);
+  public void dgels(String trans, int m, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dgelsd(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] s, double rcond, org.netlib.util.intW rank, double[] work, int lwork, int[] iwork, org.netlib.util.intW info);
   public void dgelsd(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void dgelss(int m, int n, int nrhs, double[] a, int lda, double[] b, int ldb, double[] s, double rcond, org.netlib.util.intW rank, double[] work, int lwork, org.netlib.util.intW info);
@@ -109,6 +117,8 @@ public interface LAPACK {
   public void dgeqr2(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
   public void dgeqrf(int m, int n, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info);
   public void dgeqrf(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void dgeqrf(int m, int n, DoubleBuffer a, int lda, DoubleBuffer tau, DoubleBuffer work, int lwork, org.netlib.util.intW info);
+  public void dgeqrf(int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dgerfs(String trans, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, double[] b, int ldb, double[] x, int ldx, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info);
   public void dgerfs(String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void dgerq2(int m, int n, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info);
@@ -119,10 +129,16 @@ public interface LAPACK {
   public void dgesc2(int n, double[] a, int offseta, int lda, double[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.doubleW scale);
   public void dgesdd(String jobz, int m, int n, double[] a, int lda, double[] s, double[] u, int ldu, double[] vt, int ldvt, double[] work, int lwork, int[] iwork, org.netlib.util.intW info);
   public void dgesdd(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
+  public void dgesdd(String jobz, int m, int n, DoubleBuffer a, int lda, DoubleBuffer s, DoubleBuffer u, int ldu, DoubleBuffer vt, int ldvt, DoubleBuffer work, int lwork, IntBuffer iwork, org.netlib.util.intW info);
+  public void dgesdd(String jobz, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info);
   public void dgesv(int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info);
   public void dgesv(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
+  public void dgesv(int n, int nrhs, DoubleBuffer a, int lda, IntBuffer ipiv, DoubleBuffer b, int ldb, org.netlib.util.intW info);
+  public void dgesv(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
   public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int lda, double[] s, double[] u, int ldu, double[] vt, int ldvt, double[] work, int lwork, org.netlib.util.intW info);
   public void dgesvd(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void dgesvd(String jobu, String jobvt, int m, int n, DoubleBuffer a, int lda, DoubleBuffer s, DoubleBuffer u, int ldu, DoubleBuffer vt, int ldvt, DoubleBuffer work, int lwork, org.netlib.util.intW info);
+  public void dgesvd(String jobu, String jobvt, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dgesvx(String fact, String trans, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, int[] ipiv, org.netlib.util.StringW equed, double[] r, double[] c, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info);
   public void dgesvx(String fact, String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void dgetc2(int n, double[] a, int lda, int[] ipiv, int[] jpiv, org.netlib.util.intW info);
@@ -131,10 +147,16 @@ public interface LAPACK {
   public void dgetf2(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
   public void dgetrf(int m, int n, double[] a, int lda, int[] ipiv, org.netlib.util.intW info);
   public void dgetrf(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
+  public void dgetrf(int m, int n, DoubleBuffer a, int lda, IntBuffer ipiv, org.netlib.util.intW info);
+  public void dgetrf(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info);
   public void dgetri(int n, double[] a, int lda, int[] ipiv, double[] work, int lwork, org.netlib.util.intW info);
   public void dgetri(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void dgetri(int n, DoubleBuffer a, int lda, IntBuffer ipiv, DoubleBuffer work, int lwork, org.netlib.util.intW info);
+  public void dgetri(int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dgetrs(String trans, int n, int nrhs, double[] a, int lda, int[] ipiv, double[] b, int ldb, org.netlib.util.intW info);
   public void dgetrs(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
+  public void dgetrs(String trans, int n, int nrhs, DoubleBuffer a, int lda, IntBuffer ipiv, DoubleBuffer b, int ldb, org.netlib.util.intW info);
+  public void dgetrs(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
   public void dggbak(String job, String side, int n, int ilo, int ihi, double[] lscale, double[] rscale, int m, double[] v, int ldv, org.netlib.util.intW info);
   public void dggbak(String job, String side, int n, int ilo, int ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info);
   public void dggbal(String job, int n, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, double[] rscale, double[] work, org.netlib.util.intW info);
@@ -458,6 +480,8 @@ public interface LAPACK {
   public void dorgql(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dorgqr(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info);
   public void dorgqr(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void dorgqr(int m, int n, int k, DoubleBuffer a, int lda, DoubleBuffer tau, DoubleBuffer work, int lwork, org.netlib.util.intW info);
+  public void dorgqr(int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dorgr2(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, org.netlib.util.intW info);
   public void dorgr2(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info);
   public void dorgrq(int m, int n, int k, double[] a, int lda, double[] tau, double[] work, int lwork, org.netlib.util.intW info);
@@ -480,6 +504,8 @@ public interface LAPACK {
   public void dormql(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dormqr(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, int lwork, org.netlib.util.intW info);
   public void dormqr(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void dormqr(String side, String trans, int m, int n, int k, DoubleBuffer a, int lda, DoubleBuffer tau, DoubleBuffer c, int Ldc, DoubleBuffer work, int lwork, org.netlib.util.intW info);
+  public void dormqr(String side, String trans, int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer c, int offsetc, int Ldc, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dormr2(String side, String trans, int m, int n, int k, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info);
   public void dormr2(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info);
   public void dormr3(String side, String trans, int m, int n, int k, int l, double[] a, int lda, double[] tau, double[] c, int Ldc, double[] work, org.netlib.util.intW info);
@@ -516,16 +542,24 @@ public interface LAPACK {
   public void dporfs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void dposv(String uplo, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info);
   public void dposv(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
+  public void dposv(String uplo, int n, int nrhs, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, org.netlib.util.intW info);
+  public void dposv(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
   public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int lda, double[] af, int ldaf, org.netlib.util.StringW equed, double[] s, double[] b, int ldb, double[] x, int ldx, org.netlib.util.doubleW rcond, double[] ferr, double[] berr, double[] work, int[] iwork, org.netlib.util.intW info);
   public void dposvx(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void dpotf2(String uplo, int n, double[] a, int lda, org.netlib.util.intW info);
   public void dpotf2(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
   public void dpotrf(String uplo, int n, double[] a, int lda, org.netlib.util.intW info);
   public void dpotrf(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
+  public void dpotrf(String uplo, int n, DoubleBuffer a, int lda, org.netlib.util.intW info);
+  public void dpotrf(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info);
   public void dpotri(String uplo, int n, double[] a, int lda, org.netlib.util.intW info);
   public void dpotri(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info);
+  public void dpotri(String uplo, int n, DoubleBuffer a, int lda, org.netlib.util.intW info);
+  public void dpotri(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info);
   public void dpotrs(String uplo, int n, int nrhs, double[] a, int lda, double[] b, int ldb, org.netlib.util.intW info);
   public void dpotrs(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info);
+  public void dpotrs(String uplo, int n, int nrhs, DoubleBuffer a, int lda, DoubleBuffer b, int ldb, org.netlib.util.intW info);
+  public void dpotrs(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
   public void dppcon(String uplo, int n, double[] ap, double anorm, org.netlib.util.doubleW rcond, double[] work, int[] iwork, org.netlib.util.intW info);
   public void dppcon(String uplo, int n, double[] ap, int offsetap, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void dppequ(String uplo, int n, double[] ap, double[] s, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info);
@@ -634,8 +668,12 @@ public interface LAPACK {
   public void dsycon(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void dsyev(String jobz, String uplo, int n, double[] a, int lda, double[] w, double[] work, int lwork, org.netlib.util.intW info);
   public void dsyev(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void dsyev(String jobz, String uplo, int n, DoubleBuffer a, int lda, DoubleBuffer w, DoubleBuffer work, int lwork, org.netlib.util.intW info);
+  public void dsyev(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void dsyevd(String jobz, String uplo, int n, double[] a, int lda, double[] w, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info);
   public void dsyevd(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
+  public void dsyevd(String jobz, String uplo, int n, DoubleBuffer a, int lda, DoubleBuffer w, DoubleBuffer work, int lwork, IntBuffer iwork, int liwork, org.netlib.util.intW info);
+  public void dsyevd(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
   public void dsyevr(String jobz, String range, String uplo, int n, double[] a, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, int[] isuppz, double[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info);
   public void dsyevr(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
   public void dsyevx(String jobz, String range, String uplo, int n, double[] a, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, double[] z, int ldz, double[] work, int lwork, int[] iwork, int[] ifail, org.netlib.util.intW info);
@@ -769,6 +807,8 @@ public interface LAPACK {
   public void sgeesx(String jobvs, String sort, java.lang.Object select, String sense, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, org.netlib.util.floatW rconde, org.netlib.util.floatW rcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info);
   public void sgeev(String jobvl, String jobvr, int n, float[] a, int lda, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, float[] work, int lwork, org.netlib.util.intW info);
   public void sgeev(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void sgeev(String jobvl, String jobvr, int n, FloatBuffer a, int lda, FloatBuffer wr, FloatBuffer wi, FloatBuffer vl, int ldvl, FloatBuffer vr, int ldvr, FloatBuffer work, int lwork, org.netlib.util.intW info);
+  public void sgeev(String jobvl, String jobvr, int n, FloatBuffer a, int offseta, int lda, FloatBuffer wr, int offsetwr, FloatBuffer wi, int offsetwi, FloatBuffer vl, int offsetvl, int ldvl, FloatBuffer vr, int offsetvr, int ldvr, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void sgeevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int lda, float[] wr, float[] wi, float[] vl, int ldvl, float[] vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, org.netlib.util.floatW abnrm, float[] rconde, float[] rcondv, float[] work, int lwork, int[] iwork, org.netlib.util.intW info);
   public void sgeevx(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.floatW abnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void sgegs(String jobvsl, String jobvsr, int n, float[] a, int lda, float[] b, int ldb, float[] alphar, float[] alphai, float[] beta, float[] vsl, int ldvsl, float[] vsr, int ldvsr, float[] work, int lwork, org.netlib.util.intW info);
@@ -785,6 +825,8 @@ public interface LAPACK {
   public void sgelqf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void sgels(String trans, int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] work, int lwork, org.netlib.util.intW info);
   public void sgels(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void sgels(String trans, int m, int n, int nrhs, FloatBuffer a, int lda, FloatBuffer b, int ldb, FloatBuffer work, int lwork, org.netlib.util.intW info);
+  public void sgels(String trans, int m, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void sgelsd(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] s, float rcond, org.netlib.util.intW rank, float[] work, int lwork, int[] iwork, org.netlib.util.intW info);
   public void sgelsd(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void sgelss(int m, int n, int nrhs, float[] a, int lda, float[] b, int ldb, float[] s, float rcond, org.netlib.util.intW rank, float[] work, int lwork, org.netlib.util.intW info);
@@ -805,6 +847,8 @@ public interface LAPACK {
   public void sgeqr2(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
   public void sgeqrf(int m, int n, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info);
   public void sgeqrf(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void sgeqrf(int m, int n, FloatBuffer a, int lda, FloatBuffer tau, FloatBuffer work, int lwork, org.netlib.util.intW info);
+  public void sgeqrf(int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void sgerfs(String trans, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, float[] b, int ldb, float[] x, int ldx, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info);
   public void sgerfs(String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void sgerq2(int m, int n, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info);
@@ -815,10 +859,16 @@ public interface LAPACK {
   public void sgesc2(int n, float[] a, int offseta, int lda, float[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.floatW scale);
   public void sgesdd(String jobz, int m, int n, float[] a, int lda, float[] s, float[] u, int ldu, float[] vt, int ldvt, float[] work, int lwork, int[] iwork, org.netlib.util.intW info);
   public void sgesdd(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
+  public void sgesdd(String jobz, int m, int n, FloatBuffer a, int lda, FloatBuffer s, FloatBuffer u, int ldu, FloatBuffer vt, int ldvt, FloatBuffer work, int lwork, IntBuffer iwork, org.netlib.util.intW info);
+  public void sgesdd(String jobz, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info);
   public void sgesv(int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info);
   public void sgesv(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
+  public void sgesv(int n, int nrhs, FloatBuffer a, int lda, IntBuffer ipiv, FloatBuffer b, int ldb, org.netlib.util.intW info);
+  public void sgesv(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
   public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int lda, float[] s, float[] u, int ldu, float[] vt, int ldvt, float[] work, int lwork, org.netlib.util.intW info);
   public void sgesvd(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void sgesvd(String jobu, String jobvt, int m, int n, FloatBuffer a, int lda, FloatBuffer s, FloatBuffer u, int ldu, FloatBuffer vt, int ldvt, FloatBuffer work, int lwork, org.netlib.util.intW info);
+  public void sgesvd(String jobu, String jobvt, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void sgesvx(String fact, String trans, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, int[] ipiv, org.netlib.util.StringW equed, float[] r, float[] c, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info);
   public void sgesvx(String fact, String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void sgetc2(int n, float[] a, int lda, int[] ipiv, int[] jpiv, org.netlib.util.intW info);
@@ -827,10 +877,16 @@ public interface LAPACK {
   public void sgetf2(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
   public void sgetrf(int m, int n, float[] a, int lda, int[] ipiv, org.netlib.util.intW info);
   public void sgetrf(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info);
+  public void sgetrf(int m, int n, FloatBuffer a, int lda, IntBuffer ipiv, org.netlib.util.intW info);
+  public void sgetrf(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info);
   public void sgetri(int n, float[] a, int lda, int[] ipiv, float[] work, int lwork, org.netlib.util.intW info);
   public void sgetri(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void sgetri(int n, FloatBuffer a, int lda, IntBuffer ipiv, FloatBuffer work, int lwork, org.netlib.util.intW info);
+  public void sgetri(int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void sgetrs(String trans, int n, int nrhs, float[] a, int lda, int[] ipiv, float[] b, int ldb, org.netlib.util.intW info);
   public void sgetrs(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
+  public void sgetrs(String trans, int n, int nrhs, FloatBuffer a, int lda, IntBuffer ipiv, FloatBuffer b, int ldb, org.netlib.util.intW info);
+  public void sgetrs(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
   public void sggbak(String job, String side, int n, int ilo, int ihi, float[] lscale, float[] rscale, int m, float[] v, int ldv, org.netlib.util.intW info);
   public void sggbak(String job, String side, int n, int ilo, int ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info);
   public void sggbal(String job, int n, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, float[] rscale, float[] work, org.netlib.util.intW info);
@@ -1154,6 +1210,8 @@ public interface LAPACK {
   public void sorgql(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void sorgqr(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info);
   public void sorgqr(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void sorgqr(int m, int n, int k, FloatBuffer a, int lda, FloatBuffer tau, FloatBuffer work, int lwork, org.netlib.util.intW info);
+  public void sorgqr(int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void sorgr2(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, org.netlib.util.intW info);
   public void sorgr2(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info);
   public void sorgrq(int m, int n, int k, float[] a, int lda, float[] tau, float[] work, int lwork, org.netlib.util.intW info);
@@ -1176,6 +1234,8 @@ public interface LAPACK {
   public void sormql(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void sormqr(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, int lwork, org.netlib.util.intW info);
   public void sormqr(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void sormqr(String side, String trans, int m, int n, int k, FloatBuffer a, int lda, FloatBuffer tau, FloatBuffer c, int Ldc, FloatBuffer work, int lwork, org.netlib.util.intW info);
+  public void sormqr(String side, String trans, int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer c, int offsetc, int Ldc, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void sormr2(String side, String trans, int m, int n, int k, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info);
   public void sormr2(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info);
   public void sormr3(String side, String trans, int m, int n, int k, int l, float[] a, int lda, float[] tau, float[] c, int Ldc, float[] work, org.netlib.util.intW info);
@@ -1212,16 +1272,24 @@ public interface LAPACK {
   public void sporfs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void sposv(String uplo, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info);
   public void sposv(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
+  public void sposv(String uplo, int n, int nrhs, FloatBuffer a, int lda, FloatBuffer b, int ldb, org.netlib.util.intW info);
+  public void sposv(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
   public void sposvx(String fact, String uplo, int n, int nrhs, float[] a, int lda, float[] af, int ldaf, org.netlib.util.StringW equed, float[] s, float[] b, int ldb, float[] x, int ldx, org.netlib.util.floatW rcond, float[] ferr, float[] berr, float[] work, int[] iwork, org.netlib.util.intW info);
   public void sposvx(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void spotf2(String uplo, int n, float[] a, int lda, org.netlib.util.intW info);
   public void spotf2(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
   public void spotrf(String uplo, int n, float[] a, int lda, org.netlib.util.intW info);
   public void spotrf(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
+  public void spotrf(String uplo, int n, FloatBuffer a, int lda, org.netlib.util.intW info);
+  public void spotrf(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info);
   public void spotri(String uplo, int n, float[] a, int lda, org.netlib.util.intW info);
   public void spotri(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info);
+  public void spotri(String uplo, int n, FloatBuffer a, int lda, org.netlib.util.intW info);
+  public void spotri(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info);
   public void spotrs(String uplo, int n, int nrhs, float[] a, int lda, float[] b, int ldb, org.netlib.util.intW info);
   public void spotrs(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info);
+  public void spotrs(String uplo, int n, int nrhs, FloatBuffer a, int lda, FloatBuffer b, int ldb, org.netlib.util.intW info);
+  public void spotrs(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info);
   public void sppcon(String uplo, int n, float[] ap, float anorm, org.netlib.util.floatW rcond, float[] work, int[] iwork, org.netlib.util.intW info);
   public void sppcon(String uplo, int n, float[] ap, int offsetap, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void sppequ(String uplo, int n, float[] ap, float[] s, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info);
@@ -1328,8 +1396,12 @@ public interface LAPACK {
   public void ssycon(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info);
   public void ssyev(String jobz, String uplo, int n, float[] a, int lda, float[] w, float[] work, int lwork, org.netlib.util.intW info);
   public void ssyev(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info);
+  public void ssyev(String jobz, String uplo, int n, FloatBuffer a, int lda, FloatBuffer w, FloatBuffer work, int lwork, org.netlib.util.intW info);
+  public void ssyev(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info);
   public void ssyevd(String jobz, String uplo, int n, float[] a, int lda, float[] w, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info);
   public void ssyevd(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
+  public void ssyevd(String jobz, String uplo, int n, FloatBuffer a, int lda, FloatBuffer w, FloatBuffer work, int lwork, IntBuffer iwork, int liwork, org.netlib.util.intW info);
+  public void ssyevd(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
   public void ssyevr(String jobz, String range, String uplo, int n, float[] a, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, int[] isuppz, float[] work, int lwork, int[] iwork, int liwork, org.netlib.util.intW info);
   public void ssyevr(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info);
   public void ssyevx(String jobz, String range, String uplo, int n, float[] a, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, float[] z, int ldz, float[] work, int lwork, int[] iwork, int[] ifail, org.netlib.util.intW info);
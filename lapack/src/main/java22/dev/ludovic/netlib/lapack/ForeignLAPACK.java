@@ -0,0 +1,14540 @@
+/*
+ * Copyright 2020, 2021, Ludovic Henry
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * Please contact git@ludovic.dev or visit ludovic.dev if you need additional
+ * information or have any questions.
+ */
+
+// Generated by generator.py, do not edit
+
+package dev.ludovic.netlib.lapack;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+
+// Binds the native library through the Foreign Function & Memory API of Java 22+, instead of
+// going through the JNI wrappers of JNILAPACK.
+final class ForeignLAPACK extends AbstractLAPACK implements NativeLAPACK {
+
+  private static final Linker linker = Linker.nativeLinker();
+
+  private static final SymbolLookup lookup = libraryLookup();
+
+  private static final ForeignLAPACK instance = new ForeignLAPACK();
+
+  protected ForeignLAPACK() {}
+
+  public static NativeLAPACK getInstance() {
+    return instance;
+  }
+
+  private static SymbolLookup libraryLookup() {
+    String nativeLibPath = System.getProperty("dev.ludovic.netlib.lapack.nativeLibPath");
+    if (nativeLibPath != null) {
+      return SymbolLookup.libraryLookup(Paths.get(nativeLibPath), Arena.global());
+    }
+    return SymbolLookup.libraryLookup(System.getProperty("dev.ludovic.netlib.lapack.nativeLib", "liblapack.so.3"), Arena.global());
+  }
+
+  // All the arguments are pointers, so the handles only differ by their number of arguments and
+  // their return type, and the JDK only has to specialize a few of them
+  private static MethodHandle downcallHandle(String name, MemoryLayout result, int count) {
+    MemoryLayout[] arguments = new MemoryLayout[count];
+    Arrays.fill(arguments, ADDRESS);
+    FunctionDescriptor descriptor = result == null ? FunctionDescriptor.ofVoid(arguments) : FunctionDescriptor.of(result, arguments);
+    return lookup.find(name).map(symbol -> linker.downcallHandle(symbol, descriptor, Linker.Option.critical(true))).orElse(null);
+  }
+
+  private static RuntimeException rethrow(Throwable throwable) {
+    if (throwable instanceof Error) {
+      throw (Error)throwable;
+    }
+    if (throwable instanceof RuntimeException) {
+      return (RuntimeException)throwable;
+    }
+    return new RuntimeException(throwable);
+  }
+
+  private static MemorySegment value(int value) {
+    return MemorySegment.ofArray(new int[] { value });
+  }
+
+  private static MemorySegment value(float value) {
+    return MemorySegment.ofArray(new float[] { value });
+  }
+
+  private static MemorySegment value(double value) {
+    return MemorySegment.ofArray(new double[] { value });
+  }
+
+  private static byte[] bytes(String string) {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    return Arrays.copyOf(bytes, bytes.length + 1);
+  }
+
+  private static MemorySegment string(String string) {
+    return string == null ? MemorySegment.NULL : MemorySegment.ofArray(bytes(string));
+  }
+
+  private static String string(byte[] bytes) {
+    int length = 0;
+    while (length < bytes.length && bytes[length] != 0) {
+      length += 1;
+    }
+    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+  }
+
+  // Fortran logicals are ints, so boolean arrays are copied, and never copied back
+  private static MemorySegment segment(boolean[] array, int offset) {
+    if (array == null) {
+      return MemorySegment.NULL;
+    }
+    int[] copy = new int[array.length - offset];
+    for (int i = 0; i < copy.length; i += 1) {
+      copy[i] = array[offset + i] ? 1 : 0;
+    }
+    return MemorySegment.ofArray(copy);
+  }
+
+  private static MemorySegment segment(int[] array, int offset) {
+    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Integer.BYTES);
+  }
+
+  private static MemorySegment segment(float[] array, int offset) {
+    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Float.BYTES);
+  }
+
+  private static MemorySegment segment(double[] array, int offset) {
+    return array == null ? MemorySegment.NULL : MemorySegment.ofArray(array).asSlice((long)offset * Double.BYTES);
+  }
+
+  // Heap buffers and direct buffers in native byte order are passed as is; read-only ones go
+  // through the copying fallback, as nothing would stop native code from writing to them
+  private static boolean isSegment(IntBuffer buffer) {
+    return buffer == null || (!buffer.isReadOnly() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  private static boolean isSegment(FloatBuffer buffer) {
+    return buffer == null || (!buffer.isReadOnly() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  private static boolean isSegment(DoubleBuffer buffer) {
+    return buffer == null || (!buffer.isReadOnly() && buffer.order() == ByteOrder.nativeOrder());
+  }
+
+  // offset is absolute, independent of the position of the buffer
+  private static MemorySegment segment(IntBuffer buffer, int offset) {
+    return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer.duplicate().clear()).asSlice((long)offset * Integer.BYTES);
+  }
+
+  // offset is absolute, independent of the position of the buffer
+  private static MemorySegment segment(FloatBuffer buffer, int offset) {
+    return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer.duplicate().clear()).asSlice((long)offset * Float.BYTES);
+  }
+
+  // offset is absolute, independent of the position of the buffer
+  private static MemorySegment segment(DoubleBuffer buffer, int offset) {
+    return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer.duplicate().clear()).asSlice((long)offset * Double.BYTES);
+  }
+
+  private static final MethodHandle dbdsdc_ = downcallHandle("dbdsdc_", null, 14);
+
+  protected void dbdsdcK(String uplo, String compq, int n, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] q, int offsetq, int[] iq, int offsetiq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dbdsdcSegmentK(uplo, compq, n, segment(d, offsetd), segment(e, offsete), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(q, offsetq), segment(iq, offsetiq), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dbdsdcSegmentK(String uplo, String compq, int n, MemorySegment d, MemorySegment e, MemorySegment u, int ldu, MemorySegment vt, int ldvt, MemorySegment q, MemorySegment iq, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dbdsdc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dbdsdc_.invokeExact(string(uplo), string(compq), value(n), d, e, u, value(ldu), vt, value(ldvt), q, iq, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dbdsqr_ = downcallHandle("dbdsqr_", null, 15);
+
+  protected void dbdsqrK(String uplo, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dbdsqrSegmentK(uplo, n, ncvt, nru, ncc, segment(d, offsetd), segment(e, offsete), segment(vt, offsetvt), ldvt, segment(u, offsetu), ldu, segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void dbdsqrSegmentK(String uplo, int n, int ncvt, int nru, int ncc, MemorySegment d, MemorySegment e, MemorySegment vt, int ldvt, MemorySegment u, int ldu, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (dbdsqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dbdsqr_.invokeExact(string(uplo), value(n), value(ncvt), value(nru), value(ncc), d, e, vt, value(ldvt), u, value(ldu), c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ddisna_ = downcallHandle("ddisna_", null, 6);
+
+  protected void ddisnaK(String job, int m, int n, double[] d, int offsetd, double[] sep, int offsetsep, org.netlib.util.intW info) {
+    ddisnaSegmentK(job, m, n, segment(d, offsetd), segment(sep, offsetsep), info);
+  }
+
+  private void ddisnaSegmentK(String job, int m, int n, MemorySegment d, MemorySegment sep, org.netlib.util.intW info) {
+    if (ddisna_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ddisna_.invokeExact(string(job), value(m), value(n), d, sep, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgbbrd_ = downcallHandle("dgbbrd_", null, 18);
+
+  protected void dgbbrdK(String vect, int m, int n, int ncc, int kl, int ku, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] pt, int offsetpt, int ldpt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dgbbrdSegmentK(vect, m, n, ncc, kl, ku, segment(ab, offsetab), ldab, segment(d, offsetd), segment(e, offsete), segment(q, offsetq), ldq, segment(pt, offsetpt), ldpt, segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void dgbbrdSegmentK(String vect, int m, int n, int ncc, int kl, int ku, MemorySegment ab, int ldab, MemorySegment d, MemorySegment e, MemorySegment q, int ldq, MemorySegment pt, int ldpt, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (dgbbrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgbbrd_.invokeExact(string(vect), value(m), value(n), value(ncc), value(kl), value(ku), ab, value(ldab), d, e, q, value(ldq), pt, value(ldpt), c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgbcon_ = downcallHandle("dgbcon_", null, 12);
+
+  protected void dgbconK(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgbconSegmentK(norm, n, kl, ku, segment(ab, offsetab), ldab, segment(ipiv, offsetipiv), anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dgbconSegmentK(String norm, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment ipiv, double anorm, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgbcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dgbcon_.invokeExact(string(norm), value(n), value(kl), value(ku), ab, value(ldab), ipiv, value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgbequ_ = downcallHandle("dgbequ_", null, 12);
+
+  protected void dgbequK(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    dgbequSegmentK(m, n, kl, ku, segment(ab, offsetab), ldab, segment(r, offsetr), segment(c, offsetc), rowcnd, colcnd, amax, info);
+  }
+
+  private void dgbequSegmentK(int m, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment r, MemorySegment c, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (dgbequ_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rowcnd = { rowcnd.val };
+    double[] __colcnd = { colcnd.val };
+    double[] __amax = { amax.val };
+    int[] __info = { info.val };
+    try {
+      dgbequ_.invokeExact(value(m), value(n), value(kl), value(ku), ab, value(ldab), r, c, MemorySegment.ofArray(__rowcnd), MemorySegment.ofArray(__colcnd), MemorySegment.ofArray(__amax), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rowcnd.val = __rowcnd[0];
+    colcnd.val = __colcnd[0];
+    amax.val = __amax[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgbrfs_ = downcallHandle("dgbrfs_", null, 19);
+
+  protected void dgbrfsK(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgbrfsSegmentK(trans, n, kl, ku, nrhs, segment(ab, offsetab), ldab, segment(afb, offsetafb), ldafb, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dgbrfsSegmentK(String trans, int n, int kl, int ku, int nrhs, MemorySegment ab, int ldab, MemorySegment afb, int ldafb, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgbrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgbrfs_.invokeExact(string(trans), value(n), value(kl), value(ku), value(nrhs), ab, value(ldab), afb, value(ldafb), ipiv, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgbsv_ = downcallHandle("dgbsv_", null, 10);
+
+  protected void dgbsvK(int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dgbsvSegmentK(n, kl, ku, nrhs, segment(ab, offsetab), ldab, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void dgbsvSegmentK(int n, int kl, int ku, int nrhs, MemorySegment ab, int ldab, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dgbsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgbsv_.invokeExact(value(n), value(kl), value(ku), value(nrhs), ab, value(ldab), ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgbsvx_ = downcallHandle("dgbsvx_", null, 24);
+
+  protected void dgbsvxK(String fact, String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgbsvxSegmentK(fact, trans, n, kl, ku, nrhs, segment(ab, offsetab), ldab, segment(afb, offsetafb), ldafb, segment(ipiv, offsetipiv), equed, segment(r, offsetr), segment(c, offsetc), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dgbsvxSegmentK(String fact, String trans, int n, int kl, int ku, int nrhs, MemorySegment ab, int ldab, MemorySegment afb, int ldafb, MemorySegment ipiv, org.netlib.util.StringW equed, MemorySegment r, MemorySegment c, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.doubleW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgbsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dgbsvx_.invokeExact(string(fact), string(trans), value(n), value(kl), value(ku), value(nrhs), ab, value(ldab), afb, value(ldafb), ipiv, MemorySegment.ofArray(__equed), r, c, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgbtf2_ = downcallHandle("dgbtf2_", null, 8);
+
+  protected void dgbtf2K(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    dgbtf2SegmentK(m, n, kl, ku, segment(ab, offsetab), ldab, segment(ipiv, offsetipiv), info);
+  }
+
+  private void dgbtf2SegmentK(int m, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (dgbtf2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgbtf2_.invokeExact(value(m), value(n), value(kl), value(ku), ab, value(ldab), ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgbtrf_ = downcallHandle("dgbtrf_", null, 8);
+
+  protected void dgbtrfK(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    dgbtrfSegmentK(m, n, kl, ku, segment(ab, offsetab), ldab, segment(ipiv, offsetipiv), info);
+  }
+
+  private void dgbtrfSegmentK(int m, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (dgbtrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgbtrf_.invokeExact(value(m), value(n), value(kl), value(ku), ab, value(ldab), ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgbtrs_ = downcallHandle("dgbtrs_", null, 11);
+
+  protected void dgbtrsK(String trans, int n, int kl, int ku, int nrhs, double[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dgbtrsSegmentK(trans, n, kl, ku, nrhs, segment(ab, offsetab), ldab, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void dgbtrsSegmentK(String trans, int n, int kl, int ku, int nrhs, MemorySegment ab, int ldab, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dgbtrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgbtrs_.invokeExact(string(trans), value(n), value(kl), value(ku), value(nrhs), ab, value(ldab), ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgebak_ = downcallHandle("dgebak_", null, 10);
+
+  protected void dgebakK(String job, String side, int n, int ilo, int ihi, double[] scale, int offsetscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    dgebakSegmentK(job, side, n, ilo, ihi, segment(scale, offsetscale), m, segment(v, offsetv), ldv, info);
+  }
+
+  private void dgebakSegmentK(String job, String side, int n, int ilo, int ihi, MemorySegment scale, int m, MemorySegment v, int ldv, org.netlib.util.intW info) {
+    if (dgebak_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgebak_.invokeExact(string(job), string(side), value(n), value(ilo), value(ihi), scale, value(m), v, value(ldv), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgebal_ = downcallHandle("dgebal_", null, 8);
+
+  protected void dgebalK(String job, int n, double[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.intW info) {
+    dgebalSegmentK(job, n, segment(a, offseta), lda, ilo, ihi, segment(scale, offsetscale), info);
+  }
+
+  private void dgebalSegmentK(String job, int n, MemorySegment a, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, MemorySegment scale, org.netlib.util.intW info) {
+    if (dgebal_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ilo = { ilo.val };
+    int[] __ihi = { ihi.val };
+    int[] __info = { info.val };
+    try {
+      dgebal_.invokeExact(string(job), value(n), a, value(lda), MemorySegment.ofArray(__ilo), MemorySegment.ofArray(__ihi), scale, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ilo.val = __ilo[0];
+    ihi.val = __ihi[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgebd2_ = downcallHandle("dgebd2_", null, 10);
+
+  protected void dgebd2K(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dgebd2SegmentK(m, n, segment(a, offseta), lda, segment(d, offsetd), segment(e, offsete), segment(tauq, offsettauq), segment(taup, offsettaup), segment(work, offsetwork), info);
+  }
+
+  private void dgebd2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment d, MemorySegment e, MemorySegment tauq, MemorySegment taup, MemorySegment work, org.netlib.util.intW info) {
+    if (dgebd2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgebd2_.invokeExact(value(m), value(n), a, value(lda), d, e, tauq, taup, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgebrd_ = downcallHandle("dgebrd_", null, 11);
+
+  protected void dgebrdK(int m, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgebrdSegmentK(m, n, segment(a, offseta), lda, segment(d, offsetd), segment(e, offsete), segment(tauq, offsettauq), segment(taup, offsettaup), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgebrdSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment d, MemorySegment e, MemorySegment tauq, MemorySegment taup, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgebrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgebrd_.invokeExact(value(m), value(n), a, value(lda), d, e, tauq, taup, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgecon_ = downcallHandle("dgecon_", null, 9);
+
+  protected void dgeconK(String norm, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgeconSegmentK(norm, n, segment(a, offseta), lda, anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dgeconSegmentK(String norm, int n, MemorySegment a, int lda, double anorm, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgecon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dgecon_.invokeExact(string(norm), value(n), a, value(lda), value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgeequ_ = downcallHandle("dgeequ_", null, 10);
+
+  protected void dgeequK(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    dgeequSegmentK(m, n, segment(a, offseta), lda, segment(r, offsetr), segment(c, offsetc), rowcnd, colcnd, amax, info);
+  }
+
+  private void dgeequSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment r, MemorySegment c, org.netlib.util.doubleW rowcnd, org.netlib.util.doubleW colcnd, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (dgeequ_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rowcnd = { rowcnd.val };
+    double[] __colcnd = { colcnd.val };
+    double[] __amax = { amax.val };
+    int[] __info = { info.val };
+    try {
+      dgeequ_.invokeExact(value(m), value(n), a, value(lda), r, c, MemorySegment.ofArray(__rowcnd), MemorySegment.ofArray(__colcnd), MemorySegment.ofArray(__amax), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rowcnd.val = __rowcnd[0];
+    colcnd.val = __colcnd[0];
+    amax.val = __amax[0];
+    info.val = __info[0];
+  }
+
+  protected void dgeesK(String jobvs, String sort, java.lang.Object select, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dgeesxK(String jobvs, String sort, java.lang.Object select, String sense, int n, double[] a, int offseta, int lda, org.netlib.util.intW sdim, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vs, int offsetvs, int ldvs, org.netlib.util.doubleW rconde, org.netlib.util.doubleW rcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static final MethodHandle dgeev_ = downcallHandle("dgeev_", null, 14);
+
+  protected void dgeevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgeevSegmentK(jobvl, jobvr, n, segment(a, offseta), lda, segment(wr, offsetwr), segment(wi, offsetwi), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(work, offsetwork), lwork, info);
+  }
+
+  protected void dgeevK(String jobvl, String jobvr, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer wr, int offsetwr, DoubleBuffer wi, int offsetwi, DoubleBuffer vl, int offsetvl, int ldvl, DoubleBuffer vr, int offsetvr, int ldvr, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(wr) && isSegment(wi) && isSegment(vl) && isSegment(vr) && isSegment(work)) {
+      dgeevSegmentK(jobvl, jobvr, n, segment(a, offseta), lda, segment(wr, offsetwr), segment(wi, offsetwi), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(work, offsetwork), lwork, info);
+    } else {
+      super.dgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void dgeevSegmentK(String jobvl, String jobvr, int n, MemorySegment a, int lda, MemorySegment wr, MemorySegment wi, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgeev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgeev_.invokeExact(string(jobvl), string(jobvr), value(n), a, value(lda), wr, wi, vl, value(ldvl), vr, value(ldvr), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgeevx_ = downcallHandle("dgeevx_", null, 23);
+
+  protected void dgeevxK(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] scale, int offsetscale, org.netlib.util.doubleW abnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgeevxSegmentK(balanc, jobvl, jobvr, sense, n, segment(a, offseta), lda, segment(wr, offsetwr), segment(wi, offsetwi), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, ilo, ihi, segment(scale, offsetscale), abnrm, segment(rconde, offsetrconde), segment(rcondv, offsetrcondv), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void dgeevxSegmentK(String balanc, String jobvl, String jobvr, String sense, int n, MemorySegment a, int lda, MemorySegment wr, MemorySegment wi, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, MemorySegment scale, org.netlib.util.doubleW abnrm, MemorySegment rconde, MemorySegment rcondv, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgeevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ilo = { ilo.val };
+    int[] __ihi = { ihi.val };
+    double[] __abnrm = { abnrm.val };
+    int[] __info = { info.val };
+    try {
+      dgeevx_.invokeExact(string(balanc), string(jobvl), string(jobvr), string(sense), value(n), a, value(lda), wr, wi, vl, value(ldvl), vr, value(ldvr), MemorySegment.ofArray(__ilo), MemorySegment.ofArray(__ihi), scale, MemorySegment.ofArray(__abnrm), rconde, rcondv, work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ilo.val = __ilo[0];
+    ihi.val = __ihi[0];
+    abnrm.val = __abnrm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgegs_ = downcallHandle("dgegs_", null, 17);
+
+  protected void dgegsK(String jobvsl, String jobvsr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgegsSegmentK(jobvsl, jobvsr, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(vsl, offsetvsl), ldvsl, segment(vsr, offsetvsr), ldvsr, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgegsSegmentK(String jobvsl, String jobvsr, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment vsl, int ldvsl, MemorySegment vsr, int ldvsr, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgegs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgegs_.invokeExact(string(jobvsl), string(jobvsr), value(n), a, value(lda), b, value(ldb), alphar, alphai, beta, vsl, value(ldvsl), vsr, value(ldvsr), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgegv_ = downcallHandle("dgegv_", null, 17);
+
+  protected void dgegvK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgegvSegmentK(jobvl, jobvr, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgegvSegmentK(String jobvl, String jobvr, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgegv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgegv_.invokeExact(string(jobvl), string(jobvr), value(n), a, value(lda), b, value(ldb), alphar, alphai, beta, vl, value(ldvl), vr, value(ldvr), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgehd2_ = downcallHandle("dgehd2_", null, 8);
+
+  protected void dgehd2K(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dgehd2SegmentK(n, ilo, ihi, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dgehd2SegmentK(int n, int ilo, int ihi, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dgehd2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgehd2_.invokeExact(value(n), value(ilo), value(ihi), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgehrd_ = downcallHandle("dgehrd_", null, 9);
+
+  protected void dgehrdK(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgehrdSegmentK(n, ilo, ihi, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgehrdSegmentK(int n, int ilo, int ihi, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgehrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgehrd_.invokeExact(value(n), value(ilo), value(ihi), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgelq2_ = downcallHandle("dgelq2_", null, 7);
+
+  protected void dgelq2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dgelq2SegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dgelq2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dgelq2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgelq2_.invokeExact(value(m), value(n), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgelqf_ = downcallHandle("dgelqf_", null, 8);
+
+  protected void dgelqfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgelqfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgelqfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgelqf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgelqf_.invokeExact(value(m), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgels_ = downcallHandle("dgels_", null, 11);
+
+  protected void dgelsK(String trans, int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgelsSegmentK(trans, m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(work, offsetwork), lwork, info);
+  }
+
+  protected void dgelsK(String trans, int m, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(b) && isSegment(work)) {
+      dgelsSegmentK(trans, m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(work, offsetwork), lwork, info);
+    } else {
+      super.dgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void dgelsSegmentK(String trans, int m, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgels_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgels_.invokeExact(string(trans), value(m), value(n), value(nrhs), a, value(lda), b, value(ldb), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgelsd_ = downcallHandle("dgelsd_", null, 14);
+
+  protected void dgelsdK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgelsdSegmentK(m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(s, offsets), rcond, rank, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void dgelsdSegmentK(int m, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment s, double rcond, org.netlib.util.intW rank, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgelsd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __rank = { rank.val };
+    int[] __info = { info.val };
+    try {
+      dgelsd_.invokeExact(value(m), value(n), value(nrhs), a, value(lda), b, value(ldb), s, value(rcond), MemorySegment.ofArray(__rank), work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rank.val = __rank[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgelss_ = downcallHandle("dgelss_", null, 13);
+
+  protected void dgelssK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] s, int offsets, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgelssSegmentK(m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(s, offsets), rcond, rank, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgelssSegmentK(int m, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment s, double rcond, org.netlib.util.intW rank, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgelss_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __rank = { rank.val };
+    int[] __info = { info.val };
+    try {
+      dgelss_.invokeExact(value(m), value(n), value(nrhs), a, value(lda), b, value(ldb), s, value(rcond), MemorySegment.ofArray(__rank), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rank.val = __rank[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgelsx_ = downcallHandle("dgelsx_", null, 12);
+
+  protected void dgelsxK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dgelsxSegmentK(m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(jpvt, offsetjpvt), rcond, rank, segment(work, offsetwork), info);
+  }
+
+  private void dgelsxSegmentK(int m, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment jpvt, double rcond, org.netlib.util.intW rank, MemorySegment work, org.netlib.util.intW info) {
+    if (dgelsx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __rank = { rank.val };
+    int[] __info = { info.val };
+    try {
+      dgelsx_.invokeExact(value(m), value(n), value(nrhs), a, value(lda), b, value(ldb), jpvt, value(rcond), MemorySegment.ofArray(__rank), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rank.val = __rank[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgelsy_ = downcallHandle("dgelsy_", null, 13);
+
+  protected void dgelsyK(int m, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgelsySegmentK(m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(jpvt, offsetjpvt), rcond, rank, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgelsySegmentK(int m, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment jpvt, double rcond, org.netlib.util.intW rank, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgelsy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __rank = { rank.val };
+    int[] __info = { info.val };
+    try {
+      dgelsy_.invokeExact(value(m), value(n), value(nrhs), a, value(lda), b, value(ldb), jpvt, value(rcond), MemorySegment.ofArray(__rank), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rank.val = __rank[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgeql2_ = downcallHandle("dgeql2_", null, 7);
+
+  protected void dgeql2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dgeql2SegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dgeql2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dgeql2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgeql2_.invokeExact(value(m), value(n), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgeqlf_ = downcallHandle("dgeqlf_", null, 8);
+
+  protected void dgeqlfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgeqlfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgeqlfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgeqlf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgeqlf_.invokeExact(value(m), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgeqp3_ = downcallHandle("dgeqp3_", null, 9);
+
+  protected void dgeqp3K(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgeqp3SegmentK(m, n, segment(a, offseta), lda, segment(jpvt, offsetjpvt), segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgeqp3SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment jpvt, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgeqp3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgeqp3_.invokeExact(value(m), value(n), a, value(lda), jpvt, tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgeqpf_ = downcallHandle("dgeqpf_", null, 8);
+
+  protected void dgeqpfK(int m, int n, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dgeqpfSegmentK(m, n, segment(a, offseta), lda, segment(jpvt, offsetjpvt), segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dgeqpfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment jpvt, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dgeqpf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgeqpf_.invokeExact(value(m), value(n), a, value(lda), jpvt, tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgeqr2_ = downcallHandle("dgeqr2_", null, 7);
+
+  protected void dgeqr2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dgeqr2SegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dgeqr2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dgeqr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgeqr2_.invokeExact(value(m), value(n), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgeqrf_ = downcallHandle("dgeqrf_", null, 8);
+
+  protected void dgeqrfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgeqrfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  protected void dgeqrfK(int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(tau) && isSegment(work)) {
+      dgeqrfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+    } else {
+      super.dgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void dgeqrfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgeqrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgeqrf_.invokeExact(value(m), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgerfs_ = downcallHandle("dgerfs_", null, 17);
+
+  protected void dgerfsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgerfsSegmentK(trans, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dgerfsSegmentK(String trans, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgerfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgerfs_.invokeExact(string(trans), value(n), value(nrhs), a, value(lda), af, value(ldaf), ipiv, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgerq2_ = downcallHandle("dgerq2_", null, 7);
+
+  protected void dgerq2K(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dgerq2SegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dgerq2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dgerq2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgerq2_.invokeExact(value(m), value(n), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgerqf_ = downcallHandle("dgerqf_", null, 8);
+
+  protected void dgerqfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgerqfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgerqfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgerqf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgerqf_.invokeExact(value(m), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgesc2_ = downcallHandle("dgesc2_", null, 7);
+
+  protected void dgesc2K(int n, double[] a, int offseta, int lda, double[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.doubleW scale) {
+    dgesc2SegmentK(n, segment(a, offseta), lda, segment(rhs, offsetrhs), segment(ipiv, offsetipiv), segment(jpiv, offsetjpiv), scale);
+  }
+
+  private void dgesc2SegmentK(int n, MemorySegment a, int lda, MemorySegment rhs, MemorySegment ipiv, MemorySegment jpiv, org.netlib.util.doubleW scale) {
+    if (dgesc2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    try {
+      dgesc2_.invokeExact(value(n), a, value(lda), rhs, ipiv, jpiv, MemorySegment.ofArray(__scale));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+  }
+
+  private static final MethodHandle dgesdd_ = downcallHandle("dgesdd_", null, 14);
+
+  protected void dgesddK(String jobz, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgesddSegmentK(jobz, m, n, segment(a, offseta), lda, segment(s, offsets), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  protected void dgesddK(String jobz, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(s) && isSegment(u) && isSegment(vt) && isSegment(work) && isSegment(iwork)) {
+      dgesddSegmentK(jobz, m, n, segment(a, offseta), lda, segment(s, offsets), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+    } else {
+      super.dgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    }
+  }
+
+  private void dgesddSegmentK(String jobz, int m, int n, MemorySegment a, int lda, MemorySegment s, MemorySegment u, int ldu, MemorySegment vt, int ldvt, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgesdd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgesdd_.invokeExact(string(jobz), value(m), value(n), a, value(lda), s, u, value(ldu), vt, value(ldvt), work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgesv_ = downcallHandle("dgesv_", null, 8);
+
+  protected void dgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dgesvSegmentK(n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  protected void dgesvK(int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(ipiv) && isSegment(b)) {
+      dgesvSegmentK(n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+    } else {
+      super.dgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private void dgesvSegmentK(int n, int nrhs, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dgesv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgesv_.invokeExact(value(n), value(nrhs), a, value(lda), ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgesvd_ = downcallHandle("dgesvd_", null, 14);
+
+  protected void dgesvdK(String jobu, String jobvt, int m, int n, double[] a, int offseta, int lda, double[] s, int offsets, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgesvdSegmentK(jobu, jobvt, m, n, segment(a, offseta), lda, segment(s, offsets), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(work, offsetwork), lwork, info);
+  }
+
+  protected void dgesvdK(String jobu, String jobvt, int m, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer s, int offsets, DoubleBuffer u, int offsetu, int ldu, DoubleBuffer vt, int offsetvt, int ldvt, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(s) && isSegment(u) && isSegment(vt) && isSegment(work)) {
+      dgesvdSegmentK(jobu, jobvt, m, n, segment(a, offseta), lda, segment(s, offsets), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(work, offsetwork), lwork, info);
+    } else {
+      super.dgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void dgesvdSegmentK(String jobu, String jobvt, int m, int n, MemorySegment a, int lda, MemorySegment s, MemorySegment u, int ldu, MemorySegment vt, int ldvt, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgesvd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgesvd_.invokeExact(string(jobu), string(jobvt), value(m), value(n), a, value(lda), s, u, value(ldu), vt, value(ldvt), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgesvx_ = downcallHandle("dgesvx_", null, 22);
+
+  protected void dgesvxK(String fact, String trans, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, double[] r, int offsetr, double[] c, int offsetc, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgesvxSegmentK(fact, trans, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, segment(ipiv, offsetipiv), equed, segment(r, offsetr), segment(c, offsetc), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dgesvxSegmentK(String fact, String trans, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, MemorySegment ipiv, org.netlib.util.StringW equed, MemorySegment r, MemorySegment c, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.doubleW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgesvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dgesvx_.invokeExact(string(fact), string(trans), value(n), value(nrhs), a, value(lda), af, value(ldaf), ipiv, MemorySegment.ofArray(__equed), r, c, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgetc2_ = downcallHandle("dgetc2_", null, 6);
+
+  protected void dgetc2K(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info) {
+    dgetc2SegmentK(n, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(jpiv, offsetjpiv), info);
+  }
+
+  private void dgetc2SegmentK(int n, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment jpiv, org.netlib.util.intW info) {
+    if (dgetc2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgetc2_.invokeExact(value(n), a, value(lda), ipiv, jpiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgetf2_ = downcallHandle("dgetf2_", null, 6);
+
+  protected void dgetf2K(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    dgetf2SegmentK(m, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), info);
+  }
+
+  private void dgetf2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (dgetf2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgetf2_.invokeExact(value(m), value(n), a, value(lda), ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgetrf_ = downcallHandle("dgetrf_", null, 6);
+
+  protected void dgetrfK(int m, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    dgetrfSegmentK(m, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), info);
+  }
+
+  protected void dgetrfK(int m, int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(ipiv)) {
+      dgetrfSegmentK(m, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), info);
+    } else {
+      super.dgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    }
+  }
+
+  private void dgetrfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (dgetrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgetrf_.invokeExact(value(m), value(n), a, value(lda), ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgetri_ = downcallHandle("dgetri_", null, 7);
+
+  protected void dgetriK(int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgetriSegmentK(n, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(work, offsetwork), lwork, info);
+  }
+
+  protected void dgetriK(int n, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(ipiv) && isSegment(work)) {
+      dgetriSegmentK(n, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(work, offsetwork), lwork, info);
+    } else {
+      super.dgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void dgetriSegmentK(int n, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgetri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgetri_.invokeExact(value(n), a, value(lda), ipiv, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgetrs_ = downcallHandle("dgetrs_", null, 9);
+
+  protected void dgetrsK(String trans, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dgetrsSegmentK(trans, n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  protected void dgetrsK(String trans, int n, int nrhs, DoubleBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(ipiv) && isSegment(b)) {
+      dgetrsSegmentK(trans, n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+    } else {
+      super.dgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private void dgetrsSegmentK(String trans, int n, int nrhs, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dgetrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgetrs_.invokeExact(string(trans), value(n), value(nrhs), a, value(lda), ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dggbak_ = downcallHandle("dggbak_", null, 11);
+
+  protected void dggbakK(String job, String side, int n, int ilo, int ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, int m, double[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    dggbakSegmentK(job, side, n, ilo, ihi, segment(lscale, offsetlscale), segment(rscale, offsetrscale), m, segment(v, offsetv), ldv, info);
+  }
+
+  private void dggbakSegmentK(String job, String side, int n, int ilo, int ihi, MemorySegment lscale, MemorySegment rscale, int m, MemorySegment v, int ldv, org.netlib.util.intW info) {
+    if (dggbak_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dggbak_.invokeExact(string(job), string(side), value(n), value(ilo), value(ihi), lscale, rscale, value(m), v, value(ldv), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dggbal_ = downcallHandle("dggbal_", null, 12);
+
+  protected void dggbalK(String job, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dggbalSegmentK(job, n, segment(a, offseta), lda, segment(b, offsetb), ldb, ilo, ihi, segment(lscale, offsetlscale), segment(rscale, offsetrscale), segment(work, offsetwork), info);
+  }
+
+  private void dggbalSegmentK(String job, int n, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, MemorySegment lscale, MemorySegment rscale, MemorySegment work, org.netlib.util.intW info) {
+    if (dggbal_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ilo = { ilo.val };
+    int[] __ihi = { ihi.val };
+    int[] __info = { info.val };
+    try {
+      dggbal_.invokeExact(string(job), value(n), a, value(lda), b, value(ldb), MemorySegment.ofArray(__ilo), MemorySegment.ofArray(__ihi), lscale, rscale, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ilo.val = __ilo[0];
+    ihi.val = __ihi[0];
+    info.val = __info[0];
+  }
+
+  protected void dggesK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dggesxK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW sdim, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vsl, int offsetvsl, int ldvsl, double[] vsr, int offsetvsr, int ldvsr, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static final MethodHandle dggev_ = downcallHandle("dggev_", null, 17);
+
+  protected void dggevK(String jobvl, String jobvr, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dggevSegmentK(jobvl, jobvr, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dggevSegmentK(String jobvl, String jobvr, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dggev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dggev_.invokeExact(string(jobvl), string(jobvr), value(n), a, value(lda), b, value(ldb), alphar, alphai, beta, vl, value(ldvl), vr, value(ldvr), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dggevx_ = downcallHandle("dggevx_", null, 29);
+
+  protected void dggevxK(String balanc, String jobvl, String jobvr, String sense, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, double[] lscale, int offsetlscale, double[] rscale, int offsetrscale, org.netlib.util.doubleW abnrm, org.netlib.util.doubleW bbnrm, double[] rconde, int offsetrconde, double[] rcondv, int offsetrcondv, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    dggevxSegmentK(balanc, jobvl, jobvr, sense, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, ilo, ihi, segment(lscale, offsetlscale), segment(rscale, offsetrscale), abnrm, bbnrm, segment(rconde, offsetrconde), segment(rcondv, offsetrcondv), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), segment(bwork, offsetbwork), info);
+  }
+
+  private void dggevxSegmentK(String balanc, String jobvl, String jobvr, String sense, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, MemorySegment lscale, MemorySegment rscale, org.netlib.util.doubleW abnrm, org.netlib.util.doubleW bbnrm, MemorySegment rconde, MemorySegment rcondv, MemorySegment work, int lwork, MemorySegment iwork, MemorySegment bwork, org.netlib.util.intW info) {
+    if (dggevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ilo = { ilo.val };
+    int[] __ihi = { ihi.val };
+    double[] __abnrm = { abnrm.val };
+    double[] __bbnrm = { bbnrm.val };
+    int[] __info = { info.val };
+    try {
+      dggevx_.invokeExact(string(balanc), string(jobvl), string(jobvr), string(sense), value(n), a, value(lda), b, value(ldb), alphar, alphai, beta, vl, value(ldvl), vr, value(ldvr), MemorySegment.ofArray(__ilo), MemorySegment.ofArray(__ihi), lscale, rscale, MemorySegment.ofArray(__abnrm), MemorySegment.ofArray(__bbnrm), rconde, rcondv, work, value(lwork), iwork, bwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ilo.val = __ilo[0];
+    ihi.val = __ihi[0];
+    abnrm.val = __abnrm[0];
+    bbnrm.val = __bbnrm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dggglm_ = downcallHandle("dggglm_", null, 13);
+
+  protected void dggglmK(int n, int m, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] d, int offsetd, double[] x, int offsetx, double[] y, int offsety, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dggglmSegmentK(n, m, p, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(d, offsetd), segment(x, offsetx), segment(y, offsety), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dggglmSegmentK(int n, int m, int p, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment d, MemorySegment x, MemorySegment y, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dggglm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dggglm_.invokeExact(value(n), value(m), value(p), a, value(lda), b, value(ldb), d, x, y, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgghrd_ = downcallHandle("dgghrd_", null, 14);
+
+  protected void dgghrdK(String compq, String compz, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    dgghrdSegmentK(compq, compz, n, ilo, ihi, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(q, offsetq), ldq, segment(z, offsetz), ldz, info);
+  }
+
+  private void dgghrdSegmentK(String compq, String compz, int n, int ilo, int ihi, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment q, int ldq, MemorySegment z, int ldz, org.netlib.util.intW info) {
+    if (dgghrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgghrd_.invokeExact(string(compq), string(compz), value(n), value(ilo), value(ihi), a, value(lda), b, value(ldb), q, value(ldq), z, value(ldz), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgglse_ = downcallHandle("dgglse_", null, 13);
+
+  protected void dgglseK(int m, int n, int p, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, double[] d, int offsetd, double[] x, int offsetx, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dgglseSegmentK(m, n, p, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(c, offsetc), segment(d, offsetd), segment(x, offsetx), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dgglseSegmentK(int m, int n, int p, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment c, MemorySegment d, MemorySegment x, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dgglse_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgglse_.invokeExact(value(m), value(n), value(p), a, value(lda), b, value(ldb), c, d, x, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dggqrf_ = downcallHandle("dggqrf_", null, 12);
+
+  protected void dggqrfK(int n, int m, int p, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dggqrfSegmentK(n, m, p, segment(a, offseta), lda, segment(taua, offsettaua), segment(b, offsetb), ldb, segment(taub, offsettaub), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dggqrfSegmentK(int n, int m, int p, MemorySegment a, int lda, MemorySegment taua, MemorySegment b, int ldb, MemorySegment taub, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dggqrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dggqrf_.invokeExact(value(n), value(m), value(p), a, value(lda), taua, b, value(ldb), taub, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dggrqf_ = downcallHandle("dggrqf_", null, 12);
+
+  protected void dggrqfK(int m, int p, int n, double[] a, int offseta, int lda, double[] taua, int offsettaua, double[] b, int offsetb, int ldb, double[] taub, int offsettaub, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dggrqfSegmentK(m, p, n, segment(a, offseta), lda, segment(taua, offsettaua), segment(b, offsetb), ldb, segment(taub, offsettaub), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dggrqfSegmentK(int m, int p, int n, MemorySegment a, int lda, MemorySegment taua, MemorySegment b, int ldb, MemorySegment taub, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dggrqf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dggrqf_.invokeExact(value(m), value(p), value(n), a, value(lda), taua, b, value(ldb), taub, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dggsvd_ = downcallHandle("dggsvd_", null, 23);
+
+  protected void dggsvdK(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dggsvdSegmentK(jobu, jobv, jobq, m, n, p, k, l, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alpha, offsetalpha), segment(beta, offsetbeta), segment(u, offsetu), ldu, segment(v, offsetv), ldv, segment(q, offsetq), ldq, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dggsvdSegmentK(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alpha, MemorySegment beta, MemorySegment u, int ldu, MemorySegment v, int ldv, MemorySegment q, int ldq, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dggsvd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    int[] __l = { l.val };
+    int[] __info = { info.val };
+    try {
+      dggsvd_.invokeExact(string(jobu), string(jobv), string(jobq), value(m), value(n), value(p), MemorySegment.ofArray(__k), MemorySegment.ofArray(__l), a, value(lda), b, value(ldb), alpha, beta, u, value(ldu), v, value(ldv), q, value(ldq), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    l.val = __l[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dggsvp_ = downcallHandle("dggsvp_", null, 24);
+
+  protected void dggsvpK(String jobu, String jobv, String jobq, int m, int p, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, org.netlib.util.intW k, org.netlib.util.intW l, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dggsvpSegmentK(jobu, jobv, jobq, m, p, n, segment(a, offseta), lda, segment(b, offsetb), ldb, tola, tolb, k, l, segment(u, offsetu), ldu, segment(v, offsetv), ldv, segment(q, offsetq), ldq, segment(iwork, offsetiwork), segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dggsvpSegmentK(String jobu, String jobv, String jobq, int m, int p, int n, MemorySegment a, int lda, MemorySegment b, int ldb, double tola, double tolb, org.netlib.util.intW k, org.netlib.util.intW l, MemorySegment u, int ldu, MemorySegment v, int ldv, MemorySegment q, int ldq, MemorySegment iwork, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dggsvp_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    int[] __l = { l.val };
+    int[] __info = { info.val };
+    try {
+      dggsvp_.invokeExact(string(jobu), string(jobv), string(jobq), value(m), value(p), value(n), a, value(lda), b, value(ldb), value(tola), value(tolb), MemorySegment.ofArray(__k), MemorySegment.ofArray(__l), u, value(ldu), v, value(ldv), q, value(ldq), iwork, tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    l.val = __l[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgtcon_ = downcallHandle("dgtcon_", null, 12);
+
+  protected void dgtconK(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgtconSegmentK(norm, n, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(du2, offsetdu2), segment(ipiv, offsetipiv), anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dgtconSegmentK(String norm, int n, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment du2, MemorySegment ipiv, double anorm, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgtcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dgtcon_.invokeExact(string(norm), value(n), dl, d, du, du2, ipiv, value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgtrfs_ = downcallHandle("dgtrfs_", null, 20);
+
+  protected void dgtrfsK(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgtrfsSegmentK(trans, n, nrhs, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(dlf, offsetdlf), segment(df, offsetdf), segment(duf, offsetduf), segment(du2, offsetdu2), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dgtrfsSegmentK(String trans, int n, int nrhs, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment dlf, MemorySegment df, MemorySegment duf, MemorySegment du2, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgtrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgtrfs_.invokeExact(string(trans), value(n), value(nrhs), dl, d, du, dlf, df, duf, du2, ipiv, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgtsv_ = downcallHandle("dgtsv_", null, 8);
+
+  protected void dgtsvK(int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dgtsvSegmentK(n, nrhs, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(b, offsetb), ldb, info);
+  }
+
+  private void dgtsvSegmentK(int n, int nrhs, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dgtsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgtsv_.invokeExact(value(n), value(nrhs), dl, d, du, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgtsvx_ = downcallHandle("dgtsvx_", null, 22);
+
+  protected void dgtsvxK(String fact, String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] dlf, int offsetdlf, double[] df, int offsetdf, double[] duf, int offsetduf, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dgtsvxSegmentK(fact, trans, n, nrhs, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(dlf, offsetdlf), segment(df, offsetdf), segment(duf, offsetduf), segment(du2, offsetdu2), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dgtsvxSegmentK(String fact, String trans, int n, int nrhs, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment dlf, MemorySegment df, MemorySegment duf, MemorySegment du2, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.doubleW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dgtsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dgtsvx_.invokeExact(string(fact), string(trans), value(n), value(nrhs), dl, d, du, dlf, df, duf, du2, ipiv, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgttrf_ = downcallHandle("dgttrf_", null, 7);
+
+  protected void dgttrfK(int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    dgttrfSegmentK(n, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(du2, offsetdu2), segment(ipiv, offsetipiv), info);
+  }
+
+  private void dgttrfSegmentK(int n, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment du2, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (dgttrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgttrf_.invokeExact(value(n), dl, d, du, du2, ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgttrs_ = downcallHandle("dgttrs_", null, 11);
+
+  protected void dgttrsK(String trans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dgttrsSegmentK(trans, n, nrhs, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(du2, offsetdu2), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void dgttrsSegmentK(String trans, int n, int nrhs, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment du2, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dgttrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dgttrs_.invokeExact(string(trans), value(n), value(nrhs), dl, d, du, du2, ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dgtts2_ = downcallHandle("dgtts2_", null, 10);
+
+  protected void dgtts2K(int itrans, int n, int nrhs, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] du2, int offsetdu2, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb) {
+    dgtts2SegmentK(itrans, n, nrhs, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(du2, offsetdu2), segment(ipiv, offsetipiv), segment(b, offsetb), ldb);
+  }
+
+  private void dgtts2SegmentK(int itrans, int n, int nrhs, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment du2, MemorySegment ipiv, MemorySegment b, int ldb) {
+    if (dgtts2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dgtts2_.invokeExact(value(itrans), value(n), value(nrhs), dl, d, du, du2, ipiv, b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dhgeqz_ = downcallHandle("dhgeqz_", null, 20);
+
+  protected void dhgeqzK(String job, String compq, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] t, int offsett, int ldt, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dhgeqzSegmentK(job, compq, compz, n, ilo, ihi, segment(h, offseth), ldh, segment(t, offsett), ldt, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(q, offsetq), ldq, segment(z, offsetz), ldz, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dhgeqzSegmentK(String job, String compq, String compz, int n, int ilo, int ihi, MemorySegment h, int ldh, MemorySegment t, int ldt, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment q, int ldq, MemorySegment z, int ldz, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dhgeqz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dhgeqz_.invokeExact(string(job), string(compq), string(compz), value(n), value(ilo), value(ihi), h, value(ldh), t, value(ldt), alphar, alphai, beta, q, value(ldq), z, value(ldz), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dhsein_ = downcallHandle("dhsein_", null, 19);
+
+  protected void dhseinK(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info) {
+    dhseinSegmentK(side, eigsrc, initv, segment(select, offsetselect), n, segment(h, offseth), ldh, segment(wr, offsetwr), segment(wi, offsetwi), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, mm, m, segment(work, offsetwork), segment(ifaill, offsetifaill), segment(ifailr, offsetifailr), info);
+  }
+
+  private void dhseinSegmentK(String side, String eigsrc, String initv, MemorySegment select, int n, MemorySegment h, int ldh, MemorySegment wr, MemorySegment wi, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, int mm, org.netlib.util.intW m, MemorySegment work, MemorySegment ifaill, MemorySegment ifailr, org.netlib.util.intW info) {
+    if (dhsein_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dhsein_.invokeExact(string(side), string(eigsrc), string(initv), select, value(n), h, value(ldh), wr, wi, vl, value(ldvl), vr, value(ldvr), value(mm), MemorySegment.ofArray(__m), work, ifaill, ifailr, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dhseqr_ = downcallHandle("dhseqr_", null, 14);
+
+  protected void dhseqrK(String job, String compz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dhseqrSegmentK(job, compz, n, ilo, ihi, segment(h, offseth), ldh, segment(wr, offsetwr), segment(wi, offsetwi), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dhseqrSegmentK(String job, String compz, int n, int ilo, int ihi, MemorySegment h, int ldh, MemorySegment wr, MemorySegment wi, MemorySegment z, int ldz, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dhseqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dhseqr_.invokeExact(string(job), string(compz), value(n), value(ilo), value(ihi), h, value(ldh), wr, wi, z, value(ldz), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle disnan_ = downcallHandle("disnan_", JAVA_INT, 1);
+
+  protected boolean disnanK(double din) {
+    return disnanSegmentK(din);
+  }
+
+  private boolean disnanSegmentK(double din) {
+    if (disnan_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) disnan_.invokeExact(value(din)) != 0;
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlabad_ = downcallHandle("dlabad_", null, 2);
+
+  protected void dlabadK(org.netlib.util.doubleW small, org.netlib.util.doubleW large) {
+    dlabadSegmentK(small, large);
+  }
+
+  private void dlabadSegmentK(org.netlib.util.doubleW small, org.netlib.util.doubleW large) {
+    if (dlabad_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __small = { small.val };
+    double[] __large = { large.val };
+    try {
+      dlabad_.invokeExact(MemorySegment.ofArray(__small), MemorySegment.ofArray(__large));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    small.val = __small[0];
+    large.val = __large[0];
+  }
+
+  private static final MethodHandle dlabrd_ = downcallHandle("dlabrd_", null, 13);
+
+  protected void dlabrdK(int m, int n, int nb, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tauq, int offsettauq, double[] taup, int offsettaup, double[] x, int offsetx, int ldx, double[] y, int offsety, int ldy) {
+    dlabrdSegmentK(m, n, nb, segment(a, offseta), lda, segment(d, offsetd), segment(e, offsete), segment(tauq, offsettauq), segment(taup, offsettaup), segment(x, offsetx), ldx, segment(y, offsety), ldy);
+  }
+
+  private void dlabrdSegmentK(int m, int n, int nb, MemorySegment a, int lda, MemorySegment d, MemorySegment e, MemorySegment tauq, MemorySegment taup, MemorySegment x, int ldx, MemorySegment y, int ldy) {
+    if (dlabrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlabrd_.invokeExact(value(m), value(n), value(nb), a, value(lda), d, e, tauq, taup, x, value(ldx), y, value(ldy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlacn2_ = downcallHandle("dlacn2_", null, 7);
+
+  protected void dlacn2K(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase, int[] isave, int offsetisave) {
+    dlacn2SegmentK(n, segment(v, offsetv), segment(x, offsetx), segment(isgn, offsetisgn), est, kase, segment(isave, offsetisave));
+  }
+
+  private void dlacn2SegmentK(int n, MemorySegment v, MemorySegment x, MemorySegment isgn, org.netlib.util.doubleW est, org.netlib.util.intW kase, MemorySegment isave) {
+    if (dlacn2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __est = { est.val };
+    int[] __kase = { kase.val };
+    try {
+      dlacn2_.invokeExact(value(n), v, x, isgn, MemorySegment.ofArray(__est), MemorySegment.ofArray(__kase), isave);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    est.val = __est[0];
+    kase.val = __kase[0];
+  }
+
+  private static final MethodHandle dlacon_ = downcallHandle("dlacon_", null, 6);
+
+  protected void dlaconK(int n, double[] v, int offsetv, double[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.doubleW est, org.netlib.util.intW kase) {
+    dlaconSegmentK(n, segment(v, offsetv), segment(x, offsetx), segment(isgn, offsetisgn), est, kase);
+  }
+
+  private void dlaconSegmentK(int n, MemorySegment v, MemorySegment x, MemorySegment isgn, org.netlib.util.doubleW est, org.netlib.util.intW kase) {
+    if (dlacon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __est = { est.val };
+    int[] __kase = { kase.val };
+    try {
+      dlacon_.invokeExact(value(n), v, x, isgn, MemorySegment.ofArray(__est), MemorySegment.ofArray(__kase));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    est.val = __est[0];
+    kase.val = __kase[0];
+  }
+
+  private static final MethodHandle dlacpy_ = downcallHandle("dlacpy_", null, 7);
+
+  protected void dlacpyK(String uplo, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb) {
+    dlacpySegmentK(uplo, m, n, segment(a, offseta), lda, segment(b, offsetb), ldb);
+  }
+
+  private void dlacpySegmentK(String uplo, int m, int n, MemorySegment a, int lda, MemorySegment b, int ldb) {
+    if (dlacpy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlacpy_.invokeExact(string(uplo), value(m), value(n), a, value(lda), b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dladiv_ = downcallHandle("dladiv_", null, 6);
+
+  protected void dladivK(double a, double b, double c, double d, org.netlib.util.doubleW p, org.netlib.util.doubleW q) {
+    dladivSegmentK(a, b, c, d, p, q);
+  }
+
+  private void dladivSegmentK(double a, double b, double c, double d, org.netlib.util.doubleW p, org.netlib.util.doubleW q) {
+    if (dladiv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __p = { p.val };
+    double[] __q = { q.val };
+    try {
+      dladiv_.invokeExact(value(a), value(b), value(c), value(d), MemorySegment.ofArray(__p), MemorySegment.ofArray(__q));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    p.val = __p[0];
+    q.val = __q[0];
+  }
+
+  private static final MethodHandle dlae2_ = downcallHandle("dlae2_", null, 5);
+
+  protected void dlae2K(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2) {
+    dlae2SegmentK(a, b, c, rt1, rt2);
+  }
+
+  private void dlae2SegmentK(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2) {
+    if (dlae2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rt1 = { rt1.val };
+    double[] __rt2 = { rt2.val };
+    try {
+      dlae2_.invokeExact(value(a), value(b), value(c), MemorySegment.ofArray(__rt1), MemorySegment.ofArray(__rt2));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rt1.val = __rt1[0];
+    rt2.val = __rt2[0];
+  }
+
+  private static final MethodHandle dlaebz_ = downcallHandle("dlaebz_", null, 20);
+
+  protected void dlaebzK(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, double abstol, double reltol, double pivmin, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, int[] nval, int offsetnval, double[] ab, int offsetab, double[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlaebzSegmentK(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, segment(d, offsetd), segment(e, offsete), segment(e2, offsete2), segment(nval, offsetnval), segment(ab, offsetab), segment(c, offsetc), mout, segment(nab, offsetnab), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlaebzSegmentK(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, double abstol, double reltol, double pivmin, MemorySegment d, MemorySegment e, MemorySegment e2, MemorySegment nval, MemorySegment ab, MemorySegment c, org.netlib.util.intW mout, MemorySegment nab, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlaebz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __mout = { mout.val };
+    int[] __info = { info.val };
+    try {
+      dlaebz_.invokeExact(value(ijob), value(nitmax), value(n), value(mmax), value(minp), value(nbmin), value(abstol), value(reltol), value(pivmin), d, e, e2, nval, ab, c, MemorySegment.ofArray(__mout), nab, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    mout.val = __mout[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaed0_ = downcallHandle("dlaed0_", null, 12);
+
+  protected void dlaed0K(int icompq, int qsiz, int n, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] qstore, int offsetqstore, int ldqs, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlaed0SegmentK(icompq, qsiz, n, segment(d, offsetd), segment(e, offsete), segment(q, offsetq), ldq, segment(qstore, offsetqstore), ldqs, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlaed0SegmentK(int icompq, int qsiz, int n, MemorySegment d, MemorySegment e, MemorySegment q, int ldq, MemorySegment qstore, int ldqs, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlaed0_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlaed0_.invokeExact(value(icompq), value(qsiz), value(n), d, e, q, value(ldq), qstore, value(ldqs), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaed1_ = downcallHandle("dlaed1_", null, 10);
+
+  protected void dlaed1K(int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlaed1SegmentK(n, segment(d, offsetd), segment(q, offsetq), ldq, segment(indxq, offsetindxq), rho, cutpnt, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlaed1SegmentK(int n, MemorySegment d, MemorySegment q, int ldq, MemorySegment indxq, org.netlib.util.doubleW rho, int cutpnt, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlaed1_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rho = { rho.val };
+    int[] __info = { info.val };
+    try {
+      dlaed1_.invokeExact(value(n), d, q, value(ldq), indxq, MemorySegment.ofArray(__rho), value(cutpnt), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rho.val = __rho[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaed2_ = downcallHandle("dlaed2_", null, 17);
+
+  protected void dlaed2K(org.netlib.util.intW k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    dlaed2SegmentK(k, n, n1, segment(d, offsetd), segment(q, offsetq), ldq, segment(indxq, offsetindxq), rho, segment(z, offsetz), segment(dlamda, offsetdlamda), segment(w, offsetw), segment(q2, offsetq2), segment(indx, offsetindx), segment(indxc, offsetindxc), segment(indxp, offsetindxp), segment(coltyp, offsetcoltyp), info);
+  }
+
+  private void dlaed2SegmentK(org.netlib.util.intW k, int n, int n1, MemorySegment d, MemorySegment q, int ldq, MemorySegment indxq, org.netlib.util.doubleW rho, MemorySegment z, MemorySegment dlamda, MemorySegment w, MemorySegment q2, MemorySegment indx, MemorySegment indxc, MemorySegment indxp, MemorySegment coltyp, org.netlib.util.intW info) {
+    if (dlaed2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    double[] __rho = { rho.val };
+    int[] __info = { info.val };
+    try {
+      dlaed2_.invokeExact(MemorySegment.ofArray(__k), value(n), value(n1), d, q, value(ldq), indxq, MemorySegment.ofArray(__rho), z, dlamda, w, q2, indx, indxc, indxp, coltyp, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    rho.val = __rho[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaed3_ = downcallHandle("dlaed3_", null, 14);
+
+  protected void dlaed3K(int k, int n, int n1, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, double[] w, int offsetw, double[] s, int offsets, org.netlib.util.intW info) {
+    dlaed3SegmentK(k, n, n1, segment(d, offsetd), segment(q, offsetq), ldq, rho, segment(dlamda, offsetdlamda), segment(q2, offsetq2), segment(indx, offsetindx), segment(ctot, offsetctot), segment(w, offsetw), segment(s, offsets), info);
+  }
+
+  private void dlaed3SegmentK(int k, int n, int n1, MemorySegment d, MemorySegment q, int ldq, double rho, MemorySegment dlamda, MemorySegment q2, MemorySegment indx, MemorySegment ctot, MemorySegment w, MemorySegment s, org.netlib.util.intW info) {
+    if (dlaed3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlaed3_.invokeExact(value(k), value(n), value(n1), d, q, value(ldq), value(rho), dlamda, q2, indx, ctot, w, s, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaed4_ = downcallHandle("dlaed4_", null, 8);
+
+  protected void dlaed4K(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam, org.netlib.util.intW info) {
+    dlaed4SegmentK(n, i, segment(d, offsetd), segment(z, offsetz), segment(delta, offsetdelta), rho, dlam, info);
+  }
+
+  private void dlaed4SegmentK(int n, int i, MemorySegment d, MemorySegment z, MemorySegment delta, double rho, org.netlib.util.doubleW dlam, org.netlib.util.intW info) {
+    if (dlaed4_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __dlam = { dlam.val };
+    int[] __info = { info.val };
+    try {
+      dlaed4_.invokeExact(value(n), value(i), d, z, delta, value(rho), MemorySegment.ofArray(__dlam), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dlam.val = __dlam[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaed5_ = downcallHandle("dlaed5_", null, 6);
+
+  protected void dlaed5K(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dlam) {
+    dlaed5SegmentK(i, segment(d, offsetd), segment(z, offsetz), segment(delta, offsetdelta), rho, dlam);
+  }
+
+  private void dlaed5SegmentK(int i, MemorySegment d, MemorySegment z, MemorySegment delta, double rho, org.netlib.util.doubleW dlam) {
+    if (dlaed5_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __dlam = { dlam.val };
+    try {
+      dlaed5_.invokeExact(value(i), d, z, delta, value(rho), MemorySegment.ofArray(__dlam));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dlam.val = __dlam[0];
+  }
+
+  private static final MethodHandle dlaed6_ = downcallHandle("dlaed6_", null, 8);
+
+  protected void dlaed6K(int kniter, boolean orgati, double rho, double[] d, int offsetd, double[] z, int offsetz, double finit, org.netlib.util.doubleW tau, org.netlib.util.intW info) {
+    dlaed6SegmentK(kniter, orgati, rho, segment(d, offsetd), segment(z, offsetz), finit, tau, info);
+  }
+
+  private void dlaed6SegmentK(int kniter, boolean orgati, double rho, MemorySegment d, MemorySegment z, double finit, org.netlib.util.doubleW tau, org.netlib.util.intW info) {
+    if (dlaed6_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __tau = { tau.val };
+    int[] __info = { info.val };
+    try {
+      dlaed6_.invokeExact(value(kniter), value(orgati ? 1 : 0), value(rho), d, z, value(finit), MemorySegment.ofArray(__tau), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    tau.val = __tau[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaed7_ = downcallHandle("dlaed7_", null, 22);
+
+  protected void dlaed7K(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlaed7SegmentK(icompq, n, qsiz, tlvls, curlvl, curpbm, segment(d, offsetd), segment(q, offsetq), ldq, segment(indxq, offsetindxq), rho, cutpnt, segment(qstore, offsetqstore), segment(qptr, offsetqptr), segment(prmptr, offsetprmptr), segment(perm, offsetperm), segment(givptr, offsetgivptr), segment(givcol, offsetgivcol), segment(givnum, offsetgivnum), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlaed7SegmentK(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, MemorySegment d, MemorySegment q, int ldq, MemorySegment indxq, org.netlib.util.doubleW rho, int cutpnt, MemorySegment qstore, MemorySegment qptr, MemorySegment prmptr, MemorySegment perm, MemorySegment givptr, MemorySegment givcol, MemorySegment givnum, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlaed7_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rho = { rho.val };
+    int[] __info = { info.val };
+    try {
+      dlaed7_.invokeExact(value(icompq), value(n), value(qsiz), value(tlvls), value(curlvl), value(curpbm), d, q, value(ldq), indxq, MemorySegment.ofArray(__rho), value(cutpnt), qstore, qptr, prmptr, perm, givptr, givcol, givnum, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rho.val = __rho[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaed8_ = downcallHandle("dlaed8_", null, 22);
+
+  protected void dlaed8K(int icompq, org.netlib.util.intW k, int n, int qsiz, double[] d, int offsetd, double[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.doubleW rho, int cutpnt, double[] z, int offsetz, double[] dlamda, int offsetdlamda, double[] q2, int offsetq2, int ldq2, double[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info) {
+    dlaed8SegmentK(icompq, k, n, qsiz, segment(d, offsetd), segment(q, offsetq), ldq, segment(indxq, offsetindxq), rho, cutpnt, segment(z, offsetz), segment(dlamda, offsetdlamda), segment(q2, offsetq2), ldq2, segment(w, offsetw), segment(perm, offsetperm), givptr, segment(givcol, offsetgivcol), segment(givnum, offsetgivnum), segment(indxp, offsetindxp), segment(indx, offsetindx), info);
+  }
+
+  private void dlaed8SegmentK(int icompq, org.netlib.util.intW k, int n, int qsiz, MemorySegment d, MemorySegment q, int ldq, MemorySegment indxq, org.netlib.util.doubleW rho, int cutpnt, MemorySegment z, MemorySegment dlamda, MemorySegment q2, int ldq2, MemorySegment w, MemorySegment perm, org.netlib.util.intW givptr, MemorySegment givcol, MemorySegment givnum, MemorySegment indxp, MemorySegment indx, org.netlib.util.intW info) {
+    if (dlaed8_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    double[] __rho = { rho.val };
+    int[] __givptr = { givptr.val };
+    int[] __info = { info.val };
+    try {
+      dlaed8_.invokeExact(value(icompq), MemorySegment.ofArray(__k), value(n), value(qsiz), d, q, value(ldq), indxq, MemorySegment.ofArray(__rho), value(cutpnt), z, dlamda, q2, value(ldq2), w, perm, MemorySegment.ofArray(__givptr), givcol, givnum, indxp, indx, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    rho.val = __rho[0];
+    givptr.val = __givptr[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaed9_ = downcallHandle("dlaed9_", null, 13);
+
+  protected void dlaed9K(int k, int kstart, int kstop, int n, double[] d, int offsetd, double[] q, int offsetq, int ldq, double rho, double[] dlamda, int offsetdlamda, double[] w, int offsetw, double[] s, int offsets, int lds, org.netlib.util.intW info) {
+    dlaed9SegmentK(k, kstart, kstop, n, segment(d, offsetd), segment(q, offsetq), ldq, rho, segment(dlamda, offsetdlamda), segment(w, offsetw), segment(s, offsets), lds, info);
+  }
+
+  private void dlaed9SegmentK(int k, int kstart, int kstop, int n, MemorySegment d, MemorySegment q, int ldq, double rho, MemorySegment dlamda, MemorySegment w, MemorySegment s, int lds, org.netlib.util.intW info) {
+    if (dlaed9_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlaed9_.invokeExact(value(k), value(kstart), value(kstop), value(n), d, q, value(ldq), value(rho), dlamda, w, s, value(lds), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaeda_ = downcallHandle("dlaeda_", null, 14);
+
+  protected void dlaedaK(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, double[] givnum, int offsetgivnum, double[] q, int offsetq, int[] qptr, int offsetqptr, double[] z, int offsetz, double[] ztemp, int offsetztemp, org.netlib.util.intW info) {
+    dlaedaSegmentK(n, tlvls, curlvl, curpbm, segment(prmptr, offsetprmptr), segment(perm, offsetperm), segment(givptr, offsetgivptr), segment(givcol, offsetgivcol), segment(givnum, offsetgivnum), segment(q, offsetq), segment(qptr, offsetqptr), segment(z, offsetz), segment(ztemp, offsetztemp), info);
+  }
+
+  private void dlaedaSegmentK(int n, int tlvls, int curlvl, int curpbm, MemorySegment prmptr, MemorySegment perm, MemorySegment givptr, MemorySegment givcol, MemorySegment givnum, MemorySegment q, MemorySegment qptr, MemorySegment z, MemorySegment ztemp, org.netlib.util.intW info) {
+    if (dlaeda_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlaeda_.invokeExact(value(n), value(tlvls), value(curlvl), value(curpbm), prmptr, perm, givptr, givcol, givnum, q, qptr, z, ztemp, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaein_ = downcallHandle("dlaein_", null, 16);
+
+  protected void dlaeinK(boolean rightv, boolean noinit, int n, double[] h, int offseth, int ldh, double wr, double wi, double[] vr, int offsetvr, double[] vi, int offsetvi, double[] b, int offsetb, int ldb, double[] work, int offsetwork, double eps3, double smlnum, double bignum, org.netlib.util.intW info) {
+    dlaeinSegmentK(rightv, noinit, n, segment(h, offseth), ldh, wr, wi, segment(vr, offsetvr), segment(vi, offsetvi), segment(b, offsetb), ldb, segment(work, offsetwork), eps3, smlnum, bignum, info);
+  }
+
+  private void dlaeinSegmentK(boolean rightv, boolean noinit, int n, MemorySegment h, int ldh, double wr, double wi, MemorySegment vr, MemorySegment vi, MemorySegment b, int ldb, MemorySegment work, double eps3, double smlnum, double bignum, org.netlib.util.intW info) {
+    if (dlaein_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlaein_.invokeExact(value(rightv ? 1 : 0), value(noinit ? 1 : 0), value(n), h, value(ldh), value(wr), value(wi), vr, vi, b, value(ldb), work, value(eps3), value(smlnum), value(bignum), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaev2_ = downcallHandle("dlaev2_", null, 7);
+
+  protected void dlaev2K(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2, org.netlib.util.doubleW cs1, org.netlib.util.doubleW sn1) {
+    dlaev2SegmentK(a, b, c, rt1, rt2, cs1, sn1);
+  }
+
+  private void dlaev2SegmentK(double a, double b, double c, org.netlib.util.doubleW rt1, org.netlib.util.doubleW rt2, org.netlib.util.doubleW cs1, org.netlib.util.doubleW sn1) {
+    if (dlaev2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rt1 = { rt1.val };
+    double[] __rt2 = { rt2.val };
+    double[] __cs1 = { cs1.val };
+    double[] __sn1 = { sn1.val };
+    try {
+      dlaev2_.invokeExact(value(a), value(b), value(c), MemorySegment.ofArray(__rt1), MemorySegment.ofArray(__rt2), MemorySegment.ofArray(__cs1), MemorySegment.ofArray(__sn1));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rt1.val = __rt1[0];
+    rt2.val = __rt2[0];
+    cs1.val = __cs1[0];
+    sn1.val = __sn1[0];
+  }
+
+  private static final MethodHandle dlaexc_ = downcallHandle("dlaexc_", null, 11);
+
+  protected void dlaexcK(boolean wantq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, int j1, int n1, int n2, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dlaexcSegmentK(wantq, n, segment(t, offsett), ldt, segment(q, offsetq), ldq, j1, n1, n2, segment(work, offsetwork), info);
+  }
+
+  private void dlaexcSegmentK(boolean wantq, int n, MemorySegment t, int ldt, MemorySegment q, int ldq, int j1, int n1, int n2, MemorySegment work, org.netlib.util.intW info) {
+    if (dlaexc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlaexc_.invokeExact(value(wantq ? 1 : 0), value(n), t, value(ldt), q, value(ldq), value(j1), value(n1), value(n2), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlag2_ = downcallHandle("dlag2_", null, 10);
+
+  protected void dlag2K(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double safmin, org.netlib.util.doubleW scale1, org.netlib.util.doubleW scale2, org.netlib.util.doubleW wr1, org.netlib.util.doubleW wr2, org.netlib.util.doubleW wi) {
+    dlag2SegmentK(segment(a, offseta), lda, segment(b, offsetb), ldb, safmin, scale1, scale2, wr1, wr2, wi);
+  }
+
+  private void dlag2SegmentK(MemorySegment a, int lda, MemorySegment b, int ldb, double safmin, org.netlib.util.doubleW scale1, org.netlib.util.doubleW scale2, org.netlib.util.doubleW wr1, org.netlib.util.doubleW wr2, org.netlib.util.doubleW wi) {
+    if (dlag2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale1 = { scale1.val };
+    double[] __scale2 = { scale2.val };
+    double[] __wr1 = { wr1.val };
+    double[] __wr2 = { wr2.val };
+    double[] __wi = { wi.val };
+    try {
+      dlag2_.invokeExact(a, value(lda), b, value(ldb), value(safmin), MemorySegment.ofArray(__scale1), MemorySegment.ofArray(__scale2), MemorySegment.ofArray(__wr1), MemorySegment.ofArray(__wr2), MemorySegment.ofArray(__wi));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale1.val = __scale1[0];
+    scale2.val = __scale2[0];
+    wr1.val = __wr1[0];
+    wr2.val = __wr2[0];
+    wi.val = __wi[0];
+  }
+
+  private static final MethodHandle dlag2s_ = downcallHandle("dlag2s_", null, 7);
+
+  protected void dlag2sK(int m, int n, double[] a, int offseta, int lda, float[] sa, int offsetsa, int ldsa, org.netlib.util.intW info) {
+    dlag2sSegmentK(m, n, segment(a, offseta), lda, segment(sa, offsetsa), ldsa, info);
+  }
+
+  private void dlag2sSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment sa, int ldsa, org.netlib.util.intW info) {
+    if (dlag2s_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlag2s_.invokeExact(value(m), value(n), a, value(lda), sa, value(ldsa), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlags2_ = downcallHandle("dlags2_", null, 13);
+
+  protected void dlags2K(boolean upper, double a1, double a2, double a3, double b1, double b2, double b3, org.netlib.util.doubleW csu, org.netlib.util.doubleW snu, org.netlib.util.doubleW csv, org.netlib.util.doubleW snv, org.netlib.util.doubleW csq, org.netlib.util.doubleW snq) {
+    dlags2SegmentK(upper, a1, a2, a3, b1, b2, b3, csu, snu, csv, snv, csq, snq);
+  }
+
+  private void dlags2SegmentK(boolean upper, double a1, double a2, double a3, double b1, double b2, double b3, org.netlib.util.doubleW csu, org.netlib.util.doubleW snu, org.netlib.util.doubleW csv, org.netlib.util.doubleW snv, org.netlib.util.doubleW csq, org.netlib.util.doubleW snq) {
+    if (dlags2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __csu = { csu.val };
+    double[] __snu = { snu.val };
+    double[] __csv = { csv.val };
+    double[] __snv = { snv.val };
+    double[] __csq = { csq.val };
+    double[] __snq = { snq.val };
+    try {
+      dlags2_.invokeExact(value(upper ? 1 : 0), value(a1), value(a2), value(a3), value(b1), value(b2), value(b3), MemorySegment.ofArray(__csu), MemorySegment.ofArray(__snu), MemorySegment.ofArray(__csv), MemorySegment.ofArray(__snv), MemorySegment.ofArray(__csq), MemorySegment.ofArray(__snq));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    csu.val = __csu[0];
+    snu.val = __snu[0];
+    csv.val = __csv[0];
+    snv.val = __snv[0];
+    csq.val = __csq[0];
+    snq.val = __snq[0];
+  }
+
+  private static final MethodHandle dlagtf_ = downcallHandle("dlagtf_", null, 9);
+
+  protected void dlagtfK(int n, double[] a, int offseta, double lambda, double[] b, int offsetb, double[] c, int offsetc, double tol, double[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info) {
+    dlagtfSegmentK(n, segment(a, offseta), lambda, segment(b, offsetb), segment(c, offsetc), tol, segment(d, offsetd), segment(in, offsetin), info);
+  }
+
+  private void dlagtfSegmentK(int n, MemorySegment a, double lambda, MemorySegment b, MemorySegment c, double tol, MemorySegment d, MemorySegment in, org.netlib.util.intW info) {
+    if (dlagtf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlagtf_.invokeExact(value(n), a, value(lambda), b, c, value(tol), d, in, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlagtm_ = downcallHandle("dlagtm_", null, 12);
+
+  protected void dlagtmK(String trans, int n, int nrhs, double alpha, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu, double[] x, int offsetx, int ldx, double beta, double[] b, int offsetb, int ldb) {
+    dlagtmSegmentK(trans, n, nrhs, alpha, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(x, offsetx), ldx, beta, segment(b, offsetb), ldb);
+  }
+
+  private void dlagtmSegmentK(String trans, int n, int nrhs, double alpha, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment x, int ldx, double beta, MemorySegment b, int ldb) {
+    if (dlagtm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlagtm_.invokeExact(string(trans), value(n), value(nrhs), value(alpha), dl, d, du, x, value(ldx), value(beta), b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlagts_ = downcallHandle("dlagts_", null, 10);
+
+  protected void dlagtsK(int job, int n, double[] a, int offseta, double[] b, int offsetb, double[] c, int offsetc, double[] d, int offsetd, int[] in, int offsetin, double[] y, int offsety, org.netlib.util.doubleW tol, org.netlib.util.intW info) {
+    dlagtsSegmentK(job, n, segment(a, offseta), segment(b, offsetb), segment(c, offsetc), segment(d, offsetd), segment(in, offsetin), segment(y, offsety), tol, info);
+  }
+
+  private void dlagtsSegmentK(int job, int n, MemorySegment a, MemorySegment b, MemorySegment c, MemorySegment d, MemorySegment in, MemorySegment y, org.netlib.util.doubleW tol, org.netlib.util.intW info) {
+    if (dlagts_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __tol = { tol.val };
+    int[] __info = { info.val };
+    try {
+      dlagts_.invokeExact(value(job), value(n), a, b, c, d, in, y, MemorySegment.ofArray(__tol), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    tol.val = __tol[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlagv2_ = downcallHandle("dlagv2_", null, 11);
+
+  protected void dlagv2K(double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, org.netlib.util.doubleW csl, org.netlib.util.doubleW snl, org.netlib.util.doubleW csr, org.netlib.util.doubleW snr) {
+    dlagv2SegmentK(segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), csl, snl, csr, snr);
+  }
+
+  private void dlagv2SegmentK(MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, org.netlib.util.doubleW csl, org.netlib.util.doubleW snl, org.netlib.util.doubleW csr, org.netlib.util.doubleW snr) {
+    if (dlagv2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __csl = { csl.val };
+    double[] __snl = { snl.val };
+    double[] __csr = { csr.val };
+    double[] __snr = { snr.val };
+    try {
+      dlagv2_.invokeExact(a, value(lda), b, value(ldb), alphar, alphai, beta, MemorySegment.ofArray(__csl), MemorySegment.ofArray(__snl), MemorySegment.ofArray(__csr), MemorySegment.ofArray(__snr));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    csl.val = __csl[0];
+    snl.val = __snl[0];
+    csr.val = __csr[0];
+    snr.val = __snr[0];
+  }
+
+  private static final MethodHandle dlahqr_ = downcallHandle("dlahqr_", null, 14);
+
+  protected void dlahqrK(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    dlahqrSegmentK(wantt, wantz, n, ilo, ihi, segment(h, offseth), ldh, segment(wr, offsetwr), segment(wi, offsetwi), iloz, ihiz, segment(z, offsetz), ldz, info);
+  }
+
+  private void dlahqrSegmentK(boolean wantt, boolean wantz, int n, int ilo, int ihi, MemorySegment h, int ldh, MemorySegment wr, MemorySegment wi, int iloz, int ihiz, MemorySegment z, int ldz, org.netlib.util.intW info) {
+    if (dlahqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlahqr_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(n), value(ilo), value(ihi), h, value(ldh), wr, wi, value(iloz), value(ihiz), z, value(ldz), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlahr2_ = downcallHandle("dlahr2_", null, 10);
+
+  protected void dlahr2K(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy) {
+    dlahr2SegmentK(n, k, nb, segment(a, offseta), lda, segment(tau, offsettau), segment(t, offsett), ldt, segment(y, offsety), ldy);
+  }
+
+  private void dlahr2SegmentK(int n, int k, int nb, MemorySegment a, int lda, MemorySegment tau, MemorySegment t, int ldt, MemorySegment y, int ldy) {
+    if (dlahr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlahr2_.invokeExact(value(n), value(k), value(nb), a, value(lda), tau, t, value(ldt), y, value(ldy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlahrd_ = downcallHandle("dlahrd_", null, 10);
+
+  protected void dlahrdK(int n, int k, int nb, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] t, int offsett, int ldt, double[] y, int offsety, int ldy) {
+    dlahrdSegmentK(n, k, nb, segment(a, offseta), lda, segment(tau, offsettau), segment(t, offsett), ldt, segment(y, offsety), ldy);
+  }
+
+  private void dlahrdSegmentK(int n, int k, int nb, MemorySegment a, int lda, MemorySegment tau, MemorySegment t, int ldt, MemorySegment y, int ldy) {
+    if (dlahrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlahrd_.invokeExact(value(n), value(k), value(nb), a, value(lda), tau, t, value(ldt), y, value(ldy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlaic1_ = downcallHandle("dlaic1_", null, 9);
+
+  protected void dlaic1K(int job, int j, double[] x, int offsetx, double sest, double[] w, int offsetw, double gamma, org.netlib.util.doubleW sestpr, org.netlib.util.doubleW s, org.netlib.util.doubleW c) {
+    dlaic1SegmentK(job, j, segment(x, offsetx), sest, segment(w, offsetw), gamma, sestpr, s, c);
+  }
+
+  private void dlaic1SegmentK(int job, int j, MemorySegment x, double sest, MemorySegment w, double gamma, org.netlib.util.doubleW sestpr, org.netlib.util.doubleW s, org.netlib.util.doubleW c) {
+    if (dlaic1_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __sestpr = { sestpr.val };
+    double[] __s = { s.val };
+    double[] __c = { c.val };
+    try {
+      dlaic1_.invokeExact(value(job), value(j), x, value(sest), w, value(gamma), MemorySegment.ofArray(__sestpr), MemorySegment.ofArray(__s), MemorySegment.ofArray(__c));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    sestpr.val = __sestpr[0];
+    s.val = __s[0];
+    c.val = __c[0];
+  }
+
+  private static final MethodHandle dlaisnan_ = downcallHandle("dlaisnan_", JAVA_INT, 2);
+
+  protected boolean dlaisnanK(double din1, double din2) {
+    return dlaisnanSegmentK(din1, din2);
+  }
+
+  private boolean dlaisnanSegmentK(double din1, double din2) {
+    if (dlaisnan_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) dlaisnan_.invokeExact(value(din1), value(din2)) != 0;
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlaln2_ = downcallHandle("dlaln2_", null, 18);
+
+  protected void dlaln2K(boolean ltrans, int na, int nw, double smin, double ca, double[] a, int offseta, int lda, double d1, double d2, double[] b, int offsetb, int ldb, double wr, double wi, double[] x, int offsetx, int ldx, org.netlib.util.doubleW scale, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    dlaln2SegmentK(ltrans, na, nw, smin, ca, segment(a, offseta), lda, d1, d2, segment(b, offsetb), ldb, wr, wi, segment(x, offsetx), ldx, scale, xnorm, info);
+  }
+
+  private void dlaln2SegmentK(boolean ltrans, int na, int nw, double smin, double ca, MemorySegment a, int lda, double d1, double d2, MemorySegment b, int ldb, double wr, double wi, MemorySegment x, int ldx, org.netlib.util.doubleW scale, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    if (dlaln2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    double[] __xnorm = { xnorm.val };
+    int[] __info = { info.val };
+    try {
+      dlaln2_.invokeExact(value(ltrans ? 1 : 0), value(na), value(nw), value(smin), value(ca), a, value(lda), value(d1), value(d2), b, value(ldb), value(wr), value(wi), x, value(ldx), MemorySegment.ofArray(__scale), MemorySegment.ofArray(__xnorm), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    xnorm.val = __xnorm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlals0_ = downcallHandle("dlals0_", null, 24);
+
+  protected void dlals0K(int icompq, int nl, int nr, int sqre, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, int k, double c, double s, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dlals0SegmentK(icompq, nl, nr, sqre, nrhs, segment(b, offsetb), ldb, segment(bx, offsetbx), ldbx, segment(perm, offsetperm), givptr, segment(givcol, offsetgivcol), ldgcol, segment(givnum, offsetgivnum), ldgnum, segment(poles, offsetpoles), segment(difl, offsetdifl), segment(difr, offsetdifr), segment(z, offsetz), k, c, s, segment(work, offsetwork), info);
+  }
+
+  private void dlals0SegmentK(int icompq, int nl, int nr, int sqre, int nrhs, MemorySegment b, int ldb, MemorySegment bx, int ldbx, MemorySegment perm, int givptr, MemorySegment givcol, int ldgcol, MemorySegment givnum, int ldgnum, MemorySegment poles, MemorySegment difl, MemorySegment difr, MemorySegment z, int k, double c, double s, MemorySegment work, org.netlib.util.intW info) {
+    if (dlals0_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlals0_.invokeExact(value(icompq), value(nl), value(nr), value(sqre), value(nrhs), b, value(ldb), bx, value(ldbx), perm, value(givptr), givcol, value(ldgcol), givnum, value(ldgnum), poles, difl, difr, z, value(k), value(c), value(s), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlalsa_ = downcallHandle("dlalsa_", null, 26);
+
+  protected void dlalsaK(int icompq, int smlsiz, int n, int nrhs, double[] b, int offsetb, int ldb, double[] bx, int offsetbx, int ldbx, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlalsaSegmentK(icompq, smlsiz, n, nrhs, segment(b, offsetb), ldb, segment(bx, offsetbx), ldbx, segment(u, offsetu), ldu, segment(vt, offsetvt), segment(k, offsetk), segment(difl, offsetdifl), segment(difr, offsetdifr), segment(z, offsetz), segment(poles, offsetpoles), segment(givptr, offsetgivptr), segment(givcol, offsetgivcol), ldgcol, segment(perm, offsetperm), segment(givnum, offsetgivnum), segment(c, offsetc), segment(s, offsets), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlalsaSegmentK(int icompq, int smlsiz, int n, int nrhs, MemorySegment b, int ldb, MemorySegment bx, int ldbx, MemorySegment u, int ldu, MemorySegment vt, MemorySegment k, MemorySegment difl, MemorySegment difr, MemorySegment z, MemorySegment poles, MemorySegment givptr, MemorySegment givcol, int ldgcol, MemorySegment perm, MemorySegment givnum, MemorySegment c, MemorySegment s, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlalsa_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlalsa_.invokeExact(value(icompq), value(smlsiz), value(n), value(nrhs), b, value(ldb), bx, value(ldbx), u, value(ldu), vt, k, difl, difr, z, poles, givptr, givcol, value(ldgcol), perm, givnum, c, s, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlalsd_ = downcallHandle("dlalsd_", null, 13);
+
+  protected void dlalsdK(String uplo, int smlsiz, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, double rcond, org.netlib.util.intW rank, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlalsdSegmentK(uplo, smlsiz, n, nrhs, segment(d, offsetd), segment(e, offsete), segment(b, offsetb), ldb, rcond, rank, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlalsdSegmentK(String uplo, int smlsiz, int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment b, int ldb, double rcond, org.netlib.util.intW rank, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlalsd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __rank = { rank.val };
+    int[] __info = { info.val };
+    try {
+      dlalsd_.invokeExact(string(uplo), value(smlsiz), value(n), value(nrhs), d, e, b, value(ldb), value(rcond), MemorySegment.ofArray(__rank), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rank.val = __rank[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlamrg_ = downcallHandle("dlamrg_", null, 6);
+
+  protected void dlamrgK(int n1, int n2, double[] a, int offseta, int dtrd1, int dtrd2, int[] index, int offsetindex) {
+    dlamrgSegmentK(n1, n2, segment(a, offseta), dtrd1, dtrd2, segment(index, offsetindex));
+  }
+
+  private void dlamrgSegmentK(int n1, int n2, MemorySegment a, int dtrd1, int dtrd2, MemorySegment index) {
+    if (dlamrg_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlamrg_.invokeExact(value(n1), value(n2), a, value(dtrd1), value(dtrd2), index);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlaneg_ = downcallHandle("dlaneg_", JAVA_INT, 6);
+
+  protected int dlanegK(int n, double[] d, int offsetd, double[] lld, int offsetlld, double sigma, double pivmin, int r) {
+    return dlanegSegmentK(n, segment(d, offsetd), segment(lld, offsetlld), sigma, pivmin, r);
+  }
+
+  private int dlanegSegmentK(int n, MemorySegment d, MemorySegment lld, double sigma, double pivmin, int r) {
+    if (dlaneg_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) dlaneg_.invokeExact(value(n), d, lld, value(sigma), value(pivmin), value(r));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlangb_ = downcallHandle("dlangb_", JAVA_DOUBLE, 7);
+
+  protected double dlangbK(String norm, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    return dlangbSegmentK(norm, n, kl, ku, segment(ab, offsetab), ldab, segment(work, offsetwork));
+  }
+
+  private double dlangbSegmentK(String norm, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment work) {
+    if (dlangb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlangb_.invokeExact(string(norm), value(n), value(kl), value(ku), ab, value(ldab), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlange_ = downcallHandle("dlange_", JAVA_DOUBLE, 6);
+
+  protected double dlangeK(String norm, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    return dlangeSegmentK(norm, m, n, segment(a, offseta), lda, segment(work, offsetwork));
+  }
+
+  private double dlangeSegmentK(String norm, int m, int n, MemorySegment a, int lda, MemorySegment work) {
+    if (dlange_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlange_.invokeExact(string(norm), value(m), value(n), a, value(lda), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlangt_ = downcallHandle("dlangt_", JAVA_DOUBLE, 5);
+
+  protected double dlangtK(String norm, int n, double[] dl, int offsetdl, double[] d, int offsetd, double[] du, int offsetdu) {
+    return dlangtSegmentK(norm, n, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu));
+  }
+
+  private double dlangtSegmentK(String norm, int n, MemorySegment dl, MemorySegment d, MemorySegment du) {
+    if (dlangt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlangt_.invokeExact(string(norm), value(n), dl, d, du);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlanhs_ = downcallHandle("dlanhs_", JAVA_DOUBLE, 5);
+
+  protected double dlanhsK(String norm, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    return dlanhsSegmentK(norm, n, segment(a, offseta), lda, segment(work, offsetwork));
+  }
+
+  private double dlanhsSegmentK(String norm, int n, MemorySegment a, int lda, MemorySegment work) {
+    if (dlanhs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlanhs_.invokeExact(string(norm), value(n), a, value(lda), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlansb_ = downcallHandle("dlansb_", JAVA_DOUBLE, 7);
+
+  protected double dlansbK(String norm, String uplo, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    return dlansbSegmentK(norm, uplo, n, k, segment(ab, offsetab), ldab, segment(work, offsetwork));
+  }
+
+  private double dlansbSegmentK(String norm, String uplo, int n, int k, MemorySegment ab, int ldab, MemorySegment work) {
+    if (dlansb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlansb_.invokeExact(string(norm), string(uplo), value(n), value(k), ab, value(ldab), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlansp_ = downcallHandle("dlansp_", JAVA_DOUBLE, 5);
+
+  protected double dlanspK(String norm, String uplo, int n, double[] ap, int offsetap, double[] work, int offsetwork) {
+    return dlanspSegmentK(norm, uplo, n, segment(ap, offsetap), segment(work, offsetwork));
+  }
+
+  private double dlanspSegmentK(String norm, String uplo, int n, MemorySegment ap, MemorySegment work) {
+    if (dlansp_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlansp_.invokeExact(string(norm), string(uplo), value(n), ap, work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlanst_ = downcallHandle("dlanst_", JAVA_DOUBLE, 4);
+
+  protected double dlanstK(String norm, int n, double[] d, int offsetd, double[] e, int offsete) {
+    return dlanstSegmentK(norm, n, segment(d, offsetd), segment(e, offsete));
+  }
+
+  private double dlanstSegmentK(String norm, int n, MemorySegment d, MemorySegment e) {
+    if (dlanst_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlanst_.invokeExact(string(norm), value(n), d, e);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlansy_ = downcallHandle("dlansy_", JAVA_DOUBLE, 6);
+
+  protected double dlansyK(String norm, String uplo, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    return dlansySegmentK(norm, uplo, n, segment(a, offseta), lda, segment(work, offsetwork));
+  }
+
+  private double dlansySegmentK(String norm, String uplo, int n, MemorySegment a, int lda, MemorySegment work) {
+    if (dlansy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlansy_.invokeExact(string(norm), string(uplo), value(n), a, value(lda), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlantb_ = downcallHandle("dlantb_", JAVA_DOUBLE, 8);
+
+  protected double dlantbK(String norm, String uplo, String diag, int n, int k, double[] ab, int offsetab, int ldab, double[] work, int offsetwork) {
+    return dlantbSegmentK(norm, uplo, diag, n, k, segment(ab, offsetab), ldab, segment(work, offsetwork));
+  }
+
+  private double dlantbSegmentK(String norm, String uplo, String diag, int n, int k, MemorySegment ab, int ldab, MemorySegment work) {
+    if (dlantb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlantb_.invokeExact(string(norm), string(uplo), string(diag), value(n), value(k), ab, value(ldab), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlantp_ = downcallHandle("dlantp_", JAVA_DOUBLE, 6);
+
+  protected double dlantpK(String norm, String uplo, String diag, int n, double[] ap, int offsetap, double[] work, int offsetwork) {
+    return dlantpSegmentK(norm, uplo, diag, n, segment(ap, offsetap), segment(work, offsetwork));
+  }
+
+  private double dlantpSegmentK(String norm, String uplo, String diag, int n, MemorySegment ap, MemorySegment work) {
+    if (dlantp_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlantp_.invokeExact(string(norm), string(uplo), string(diag), value(n), ap, work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlantr_ = downcallHandle("dlantr_", JAVA_DOUBLE, 8);
+
+  protected double dlantrK(String norm, String uplo, String diag, int m, int n, double[] a, int offseta, int lda, double[] work, int offsetwork) {
+    return dlantrSegmentK(norm, uplo, diag, m, n, segment(a, offseta), lda, segment(work, offsetwork));
+  }
+
+  private double dlantrSegmentK(String norm, String uplo, String diag, int m, int n, MemorySegment a, int lda, MemorySegment work) {
+    if (dlantr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlantr_.invokeExact(string(norm), string(uplo), string(diag), value(m), value(n), a, value(lda), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlanv2_ = downcallHandle("dlanv2_", null, 10);
+
+  protected void dlanv2K(org.netlib.util.doubleW a, org.netlib.util.doubleW b, org.netlib.util.doubleW c, org.netlib.util.doubleW d, org.netlib.util.doubleW rt1r, org.netlib.util.doubleW rt1i, org.netlib.util.doubleW rt2r, org.netlib.util.doubleW rt2i, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn) {
+    dlanv2SegmentK(a, b, c, d, rt1r, rt1i, rt2r, rt2i, cs, sn);
+  }
+
+  private void dlanv2SegmentK(org.netlib.util.doubleW a, org.netlib.util.doubleW b, org.netlib.util.doubleW c, org.netlib.util.doubleW d, org.netlib.util.doubleW rt1r, org.netlib.util.doubleW rt1i, org.netlib.util.doubleW rt2r, org.netlib.util.doubleW rt2i, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn) {
+    if (dlanv2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __a = { a.val };
+    double[] __b = { b.val };
+    double[] __c = { c.val };
+    double[] __d = { d.val };
+    double[] __rt1r = { rt1r.val };
+    double[] __rt1i = { rt1i.val };
+    double[] __rt2r = { rt2r.val };
+    double[] __rt2i = { rt2i.val };
+    double[] __cs = { cs.val };
+    double[] __sn = { sn.val };
+    try {
+      dlanv2_.invokeExact(MemorySegment.ofArray(__a), MemorySegment.ofArray(__b), MemorySegment.ofArray(__c), MemorySegment.ofArray(__d), MemorySegment.ofArray(__rt1r), MemorySegment.ofArray(__rt1i), MemorySegment.ofArray(__rt2r), MemorySegment.ofArray(__rt2i), MemorySegment.ofArray(__cs), MemorySegment.ofArray(__sn));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    a.val = __a[0];
+    b.val = __b[0];
+    c.val = __c[0];
+    d.val = __d[0];
+    rt1r.val = __rt1r[0];
+    rt1i.val = __rt1i[0];
+    rt2r.val = __rt2r[0];
+    rt2i.val = __rt2i[0];
+    cs.val = __cs[0];
+    sn.val = __sn[0];
+  }
+
+  private static final MethodHandle dlapll_ = downcallHandle("dlapll_", null, 6);
+
+  protected void dlapllK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, org.netlib.util.doubleW ssmin) {
+    dlapllSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy, ssmin);
+  }
+
+  private void dlapllSegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy, org.netlib.util.doubleW ssmin) {
+    if (dlapll_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ssmin = { ssmin.val };
+    try {
+      dlapll_.invokeExact(value(n), x, value(incx), y, value(incy), MemorySegment.ofArray(__ssmin));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ssmin.val = __ssmin[0];
+  }
+
+  private static final MethodHandle dlapmt_ = downcallHandle("dlapmt_", null, 6);
+
+  protected void dlapmtK(boolean forwrd, int m, int n, double[] x, int offsetx, int ldx, int[] k, int offsetk) {
+    dlapmtSegmentK(forwrd, m, n, segment(x, offsetx), ldx, segment(k, offsetk));
+  }
+
+  private void dlapmtSegmentK(boolean forwrd, int m, int n, MemorySegment x, int ldx, MemorySegment k) {
+    if (dlapmt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlapmt_.invokeExact(value(forwrd ? 1 : 0), value(m), value(n), x, value(ldx), k);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlapy2_ = downcallHandle("dlapy2_", JAVA_DOUBLE, 2);
+
+  protected double dlapy2K(double x, double y) {
+    return dlapy2SegmentK(x, y);
+  }
+
+  private double dlapy2SegmentK(double x, double y) {
+    if (dlapy2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlapy2_.invokeExact(value(x), value(y));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlapy3_ = downcallHandle("dlapy3_", JAVA_DOUBLE, 3);
+
+  protected double dlapy3K(double x, double y, double z) {
+    return dlapy3SegmentK(x, y, z);
+  }
+
+  private double dlapy3SegmentK(double x, double y, double z) {
+    if (dlapy3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlapy3_.invokeExact(value(x), value(y), value(z));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlaqgb_ = downcallHandle("dlaqgb_", null, 12);
+
+  protected void dlaqgbK(int m, int n, int kl, int ku, double[] ab, int offsetab, int ldab, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    dlaqgbSegmentK(m, n, kl, ku, segment(ab, offsetab), ldab, segment(r, offsetr), segment(c, offsetc), rowcnd, colcnd, amax, equed);
+  }
+
+  private void dlaqgbSegmentK(int m, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment r, MemorySegment c, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    if (dlaqgb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    try {
+      dlaqgb_.invokeExact(value(m), value(n), value(kl), value(ku), ab, value(ldab), r, c, value(rowcnd), value(colcnd), value(amax), MemorySegment.ofArray(__equed));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+  }
+
+  private static final MethodHandle dlaqge_ = downcallHandle("dlaqge_", null, 10);
+
+  protected void dlaqgeK(int m, int n, double[] a, int offseta, int lda, double[] r, int offsetr, double[] c, int offsetc, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    dlaqgeSegmentK(m, n, segment(a, offseta), lda, segment(r, offsetr), segment(c, offsetc), rowcnd, colcnd, amax, equed);
+  }
+
+  private void dlaqgeSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment r, MemorySegment c, double rowcnd, double colcnd, double amax, org.netlib.util.StringW equed) {
+    if (dlaqge_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    try {
+      dlaqge_.invokeExact(value(m), value(n), a, value(lda), r, c, value(rowcnd), value(colcnd), value(amax), MemorySegment.ofArray(__equed));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+  }
+
+  private static final MethodHandle dlaqp2_ = downcallHandle("dlaqp2_", null, 10);
+
+  protected void dlaqp2K(int m, int n, int offset, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] work, int offsetwork) {
+    dlaqp2SegmentK(m, n, offset, segment(a, offseta), lda, segment(jpvt, offsetjpvt), segment(tau, offsettau), segment(vn1, offsetvn1), segment(vn2, offsetvn2), segment(work, offsetwork));
+  }
+
+  private void dlaqp2SegmentK(int m, int n, int offset, MemorySegment a, int lda, MemorySegment jpvt, MemorySegment tau, MemorySegment vn1, MemorySegment vn2, MemorySegment work) {
+    if (dlaqp2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlaqp2_.invokeExact(value(m), value(n), value(offset), a, value(lda), jpvt, tau, vn1, vn2, work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlaqps_ = downcallHandle("dlaqps_", null, 14);
+
+  protected void dlaqpsK(int m, int n, int offset, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, double[] tau, int offsettau, double[] vn1, int offsetvn1, double[] vn2, int offsetvn2, double[] auxv, int offsetauxv, double[] f, int offsetf, int ldf) {
+    dlaqpsSegmentK(m, n, offset, nb, kb, segment(a, offseta), lda, segment(jpvt, offsetjpvt), segment(tau, offsettau), segment(vn1, offsetvn1), segment(vn2, offsetvn2), segment(auxv, offsetauxv), segment(f, offsetf), ldf);
+  }
+
+  private void dlaqpsSegmentK(int m, int n, int offset, int nb, org.netlib.util.intW kb, MemorySegment a, int lda, MemorySegment jpvt, MemorySegment tau, MemorySegment vn1, MemorySegment vn2, MemorySegment auxv, MemorySegment f, int ldf) {
+    if (dlaqps_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __kb = { kb.val };
+    try {
+      dlaqps_.invokeExact(value(m), value(n), value(offset), value(nb), MemorySegment.ofArray(__kb), a, value(lda), jpvt, tau, vn1, vn2, auxv, f, value(ldf));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    kb.val = __kb[0];
+  }
+
+  private static final MethodHandle dlaqr0_ = downcallHandle("dlaqr0_", null, 16);
+
+  protected void dlaqr0K(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dlaqr0SegmentK(wantt, wantz, n, ilo, ihi, segment(h, offseth), ldh, segment(wr, offsetwr), segment(wi, offsetwi), iloz, ihiz, segment(z, offsetz), ldz, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dlaqr0SegmentK(boolean wantt, boolean wantz, int n, int ilo, int ihi, MemorySegment h, int ldh, MemorySegment wr, MemorySegment wi, int iloz, int ihiz, MemorySegment z, int ldz, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dlaqr0_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlaqr0_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(n), value(ilo), value(ihi), h, value(ldh), wr, wi, value(iloz), value(ihiz), z, value(ldz), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaqr1_ = downcallHandle("dlaqr1_", null, 8);
+
+  protected void dlaqr1K(int n, double[] h, int offseth, int ldh, double sr1, double si1, double sr2, double si2, double[] v, int offsetv) {
+    dlaqr1SegmentK(n, segment(h, offseth), ldh, sr1, si1, sr2, si2, segment(v, offsetv));
+  }
+
+  private void dlaqr1SegmentK(int n, MemorySegment h, int ldh, double sr1, double si1, double sr2, double si2, MemorySegment v) {
+    if (dlaqr1_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlaqr1_.invokeExact(value(n), h, value(ldh), value(sr1), value(si1), value(sr2), value(si2), v);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlaqr2_ = downcallHandle("dlaqr2_", null, 26);
+
+  protected void dlaqr2K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork) {
+    dlaqr2SegmentK(wantt, wantz, n, ktop, kbot, nw, segment(h, offseth), ldh, iloz, ihiz, segment(z, offsetz), ldz, ns, nd, segment(sr, offsetsr), segment(si, offsetsi), segment(v, offsetv), ldv, nh, segment(t, offsett), ldt, nv, segment(wv, offsetwv), ldwv, segment(work, offsetwork), lwork);
+  }
+
+  private void dlaqr2SegmentK(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, MemorySegment h, int ldh, int iloz, int ihiz, MemorySegment z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, MemorySegment sr, MemorySegment si, MemorySegment v, int ldv, int nh, MemorySegment t, int ldt, int nv, MemorySegment wv, int ldwv, MemorySegment work, int lwork) {
+    if (dlaqr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ns = { ns.val };
+    int[] __nd = { nd.val };
+    try {
+      dlaqr2_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(n), value(ktop), value(kbot), value(nw), h, value(ldh), value(iloz), value(ihiz), z, value(ldz), MemorySegment.ofArray(__ns), MemorySegment.ofArray(__nd), sr, si, v, value(ldv), value(nh), t, value(ldt), value(nv), wv, value(ldwv), work, value(lwork));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ns.val = __ns[0];
+    nd.val = __nd[0];
+  }
+
+  private static final MethodHandle dlaqr3_ = downcallHandle("dlaqr3_", null, 26);
+
+  protected void dlaqr3K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, double[] sr, int offsetsr, double[] si, int offsetsi, double[] v, int offsetv, int ldv, int nh, double[] t, int offsett, int ldt, int nv, double[] wv, int offsetwv, int ldwv, double[] work, int offsetwork, int lwork) {
+    dlaqr3SegmentK(wantt, wantz, n, ktop, kbot, nw, segment(h, offseth), ldh, iloz, ihiz, segment(z, offsetz), ldz, ns, nd, segment(sr, offsetsr), segment(si, offsetsi), segment(v, offsetv), ldv, nh, segment(t, offsett), ldt, nv, segment(wv, offsetwv), ldwv, segment(work, offsetwork), lwork);
+  }
+
+  private void dlaqr3SegmentK(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, MemorySegment h, int ldh, int iloz, int ihiz, MemorySegment z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, MemorySegment sr, MemorySegment si, MemorySegment v, int ldv, int nh, MemorySegment t, int ldt, int nv, MemorySegment wv, int ldwv, MemorySegment work, int lwork) {
+    if (dlaqr3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ns = { ns.val };
+    int[] __nd = { nd.val };
+    try {
+      dlaqr3_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(n), value(ktop), value(kbot), value(nw), h, value(ldh), value(iloz), value(ihiz), z, value(ldz), MemorySegment.ofArray(__ns), MemorySegment.ofArray(__nd), sr, si, v, value(ldv), value(nh), t, value(ldt), value(nv), wv, value(ldwv), work, value(lwork));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ns.val = __ns[0];
+    nd.val = __nd[0];
+  }
+
+  private static final MethodHandle dlaqr4_ = downcallHandle("dlaqr4_", null, 16);
+
+  protected void dlaqr4K(boolean wantt, boolean wantz, int n, int ilo, int ihi, double[] h, int offseth, int ldh, double[] wr, int offsetwr, double[] wi, int offsetwi, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dlaqr4SegmentK(wantt, wantz, n, ilo, ihi, segment(h, offseth), ldh, segment(wr, offsetwr), segment(wi, offsetwi), iloz, ihiz, segment(z, offsetz), ldz, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dlaqr4SegmentK(boolean wantt, boolean wantz, int n, int ilo, int ihi, MemorySegment h, int ldh, MemorySegment wr, MemorySegment wi, int iloz, int ihiz, MemorySegment z, int ldz, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dlaqr4_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlaqr4_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(n), value(ilo), value(ihi), h, value(ldh), wr, wi, value(iloz), value(ihiz), z, value(ldz), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlaqr5_ = downcallHandle("dlaqr5_", null, 25);
+
+  protected void dlaqr5K(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, double[] sr, int offsetsr, double[] si, int offsetsi, double[] h, int offseth, int ldh, int iloz, int ihiz, double[] z, int offsetz, int ldz, double[] v, int offsetv, int ldv, double[] u, int offsetu, int ldu, int nv, double[] wv, int offsetwv, int ldwv, int nh, double[] wh, int offsetwh, int ldwh) {
+    dlaqr5SegmentK(wantt, wantz, kacc22, n, ktop, kbot, nshfts, segment(sr, offsetsr), segment(si, offsetsi), segment(h, offseth), ldh, iloz, ihiz, segment(z, offsetz), ldz, segment(v, offsetv), ldv, segment(u, offsetu), ldu, nv, segment(wv, offsetwv), ldwv, nh, segment(wh, offsetwh), ldwh);
+  }
+
+  private void dlaqr5SegmentK(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, MemorySegment sr, MemorySegment si, MemorySegment h, int ldh, int iloz, int ihiz, MemorySegment z, int ldz, MemorySegment v, int ldv, MemorySegment u, int ldu, int nv, MemorySegment wv, int ldwv, int nh, MemorySegment wh, int ldwh) {
+    if (dlaqr5_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlaqr5_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(kacc22), value(n), value(ktop), value(kbot), value(nshfts), sr, si, h, value(ldh), value(iloz), value(ihiz), z, value(ldz), v, value(ldv), u, value(ldu), value(nv), wv, value(ldwv), value(nh), wh, value(ldwh));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlaqsb_ = downcallHandle("dlaqsb_", null, 9);
+
+  protected void dlaqsbK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    dlaqsbSegmentK(uplo, n, kd, segment(ab, offsetab), ldab, segment(s, offsets), scond, amax, equed);
+  }
+
+  private void dlaqsbSegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment s, double scond, double amax, org.netlib.util.StringW equed) {
+    if (dlaqsb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    try {
+      dlaqsb_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), s, value(scond), value(amax), MemorySegment.ofArray(__equed));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+  }
+
+  private static final MethodHandle dlaqsp_ = downcallHandle("dlaqsp_", null, 7);
+
+  protected void dlaqspK(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    dlaqspSegmentK(uplo, n, segment(ap, offsetap), segment(s, offsets), scond, amax, equed);
+  }
+
+  private void dlaqspSegmentK(String uplo, int n, MemorySegment ap, MemorySegment s, double scond, double amax, org.netlib.util.StringW equed) {
+    if (dlaqsp_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    try {
+      dlaqsp_.invokeExact(string(uplo), value(n), ap, s, value(scond), value(amax), MemorySegment.ofArray(__equed));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+  }
+
+  private static final MethodHandle dlaqsy_ = downcallHandle("dlaqsy_", null, 8);
+
+  protected void dlaqsyK(String uplo, int n, double[] a, int offseta, int lda, double[] s, int offsets, double scond, double amax, org.netlib.util.StringW equed) {
+    dlaqsySegmentK(uplo, n, segment(a, offseta), lda, segment(s, offsets), scond, amax, equed);
+  }
+
+  private void dlaqsySegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment s, double scond, double amax, org.netlib.util.StringW equed) {
+    if (dlaqsy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    try {
+      dlaqsy_.invokeExact(string(uplo), value(n), a, value(lda), s, value(scond), value(amax), MemorySegment.ofArray(__equed));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+  }
+
+  private static final MethodHandle dlaqtr_ = downcallHandle("dlaqtr_", null, 11);
+
+  protected void dlaqtrK(boolean ltran, boolean lreal, int n, double[] t, int offsett, int ldt, double[] b, int offsetb, double w, org.netlib.util.doubleW scale, double[] x, int offsetx, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dlaqtrSegmentK(ltran, lreal, n, segment(t, offsett), ldt, segment(b, offsetb), w, scale, segment(x, offsetx), segment(work, offsetwork), info);
+  }
+
+  private void dlaqtrSegmentK(boolean ltran, boolean lreal, int n, MemorySegment t, int ldt, MemorySegment b, double w, org.netlib.util.doubleW scale, MemorySegment x, MemorySegment work, org.netlib.util.intW info) {
+    if (dlaqtr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    int[] __info = { info.val };
+    try {
+      dlaqtr_.invokeExact(value(ltran ? 1 : 0), value(lreal ? 1 : 0), value(n), t, value(ldt), b, value(w), MemorySegment.ofArray(__scale), x, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlar1v_ = downcallHandle("dlar1v_", null, 21);
+
+  protected void dlar1vK(int n, int b1, int bn, double lambda, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, double[] lld, int offsetlld, double pivmin, double gaptol, double[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.doubleW ztz, org.netlib.util.doubleW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.doubleW nrminv, org.netlib.util.doubleW resid, org.netlib.util.doubleW rqcorr, double[] work, int offsetwork) {
+    dlar1vSegmentK(n, b1, bn, lambda, segment(d, offsetd), segment(l, offsetl), segment(ld, offsetld), segment(lld, offsetlld), pivmin, gaptol, segment(z, offsetz), wantnc, negcnt, ztz, mingma, r, segment(isuppz, offsetisuppz), nrminv, resid, rqcorr, segment(work, offsetwork));
+  }
+
+  private void dlar1vSegmentK(int n, int b1, int bn, double lambda, MemorySegment d, MemorySegment l, MemorySegment ld, MemorySegment lld, double pivmin, double gaptol, MemorySegment z, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.doubleW ztz, org.netlib.util.doubleW mingma, org.netlib.util.intW r, MemorySegment isuppz, org.netlib.util.doubleW nrminv, org.netlib.util.doubleW resid, org.netlib.util.doubleW rqcorr, MemorySegment work) {
+    if (dlar1v_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __negcnt = { negcnt.val };
+    double[] __ztz = { ztz.val };
+    double[] __mingma = { mingma.val };
+    int[] __r = { r.val };
+    double[] __nrminv = { nrminv.val };
+    double[] __resid = { resid.val };
+    double[] __rqcorr = { rqcorr.val };
+    try {
+      dlar1v_.invokeExact(value(n), value(b1), value(bn), value(lambda), d, l, ld, lld, value(pivmin), value(gaptol), z, value(wantnc ? 1 : 0), MemorySegment.ofArray(__negcnt), MemorySegment.ofArray(__ztz), MemorySegment.ofArray(__mingma), MemorySegment.ofArray(__r), isuppz, MemorySegment.ofArray(__nrminv), MemorySegment.ofArray(__resid), MemorySegment.ofArray(__rqcorr), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    negcnt.val = __negcnt[0];
+    ztz.val = __ztz[0];
+    mingma.val = __mingma[0];
+    r.val = __r[0];
+    nrminv.val = __nrminv[0];
+    resid.val = __resid[0];
+    rqcorr.val = __rqcorr[0];
+  }
+
+  private static final MethodHandle dlar2v_ = downcallHandle("dlar2v_", null, 8);
+
+  protected void dlar2vK(int n, double[] x, int offsetx, double[] y, int offsety, double[] z, int offsetz, int incx, double[] c, int offsetc, double[] s, int offsets, int incc) {
+    dlar2vSegmentK(n, segment(x, offsetx), segment(y, offsety), segment(z, offsetz), incx, segment(c, offsetc), segment(s, offsets), incc);
+  }
+
+  private void dlar2vSegmentK(int n, MemorySegment x, MemorySegment y, MemorySegment z, int incx, MemorySegment c, MemorySegment s, int incc) {
+    if (dlar2v_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlar2v_.invokeExact(value(n), x, y, z, value(incx), c, s, value(incc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlarf_ = downcallHandle("dlarf_", null, 9);
+
+  protected void dlarfK(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    dlarfSegmentK(side, m, n, segment(v, offsetv), incv, tau, segment(c, offsetc), Ldc, segment(work, offsetwork));
+  }
+
+  private void dlarfSegmentK(String side, int m, int n, MemorySegment v, int incv, double tau, MemorySegment c, int Ldc, MemorySegment work) {
+    if (dlarf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlarf_.invokeExact(string(side), value(m), value(n), v, value(incv), value(tau), c, value(Ldc), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlarfb_ = downcallHandle("dlarfb_", null, 15);
+
+  protected void dlarfbK(String side, String trans, String direct, String storev, int m, int n, int k, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork) {
+    dlarfbSegmentK(side, trans, direct, storev, m, n, k, segment(v, offsetv), ldv, segment(t, offsett), ldt, segment(c, offsetc), Ldc, segment(work, offsetwork), ldwork);
+  }
+
+  private void dlarfbSegmentK(String side, String trans, String direct, String storev, int m, int n, int k, MemorySegment v, int ldv, MemorySegment t, int ldt, MemorySegment c, int Ldc, MemorySegment work, int ldwork) {
+    if (dlarfb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlarfb_.invokeExact(string(side), string(trans), string(direct), string(storev), value(m), value(n), value(k), v, value(ldv), t, value(ldt), c, value(Ldc), work, value(ldwork));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlarfg_ = downcallHandle("dlarfg_", null, 5);
+
+  protected void dlarfgK(int n, org.netlib.util.doubleW alpha, double[] x, int offsetx, int incx, org.netlib.util.doubleW tau) {
+    dlarfgSegmentK(n, alpha, segment(x, offsetx), incx, tau);
+  }
+
+  private void dlarfgSegmentK(int n, org.netlib.util.doubleW alpha, MemorySegment x, int incx, org.netlib.util.doubleW tau) {
+    if (dlarfg_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __alpha = { alpha.val };
+    double[] __tau = { tau.val };
+    try {
+      dlarfg_.invokeExact(value(n), MemorySegment.ofArray(__alpha), x, value(incx), MemorySegment.ofArray(__tau));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    alpha.val = __alpha[0];
+    tau.val = __tau[0];
+  }
+
+  private static final MethodHandle dlarft_ = downcallHandle("dlarft_", null, 9);
+
+  protected void dlarftK(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt) {
+    dlarftSegmentK(direct, storev, n, k, segment(v, offsetv), ldv, segment(tau, offsettau), segment(t, offsett), ldt);
+  }
+
+  private void dlarftSegmentK(String direct, String storev, int n, int k, MemorySegment v, int ldv, MemorySegment tau, MemorySegment t, int ldt) {
+    if (dlarft_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlarft_.invokeExact(string(direct), string(storev), value(n), value(k), v, value(ldv), tau, t, value(ldt));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlarfx_ = downcallHandle("dlarfx_", null, 8);
+
+  protected void dlarfxK(String side, int m, int n, double[] v, int offsetv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    dlarfxSegmentK(side, m, n, segment(v, offsetv), tau, segment(c, offsetc), Ldc, segment(work, offsetwork));
+  }
+
+  private void dlarfxSegmentK(String side, int m, int n, MemorySegment v, double tau, MemorySegment c, int Ldc, MemorySegment work) {
+    if (dlarfx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlarfx_.invokeExact(string(side), value(m), value(n), v, value(tau), c, value(Ldc), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlargv_ = downcallHandle("dlargv_", null, 7);
+
+  protected void dlargvK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, int incc) {
+    dlargvSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy, segment(c, offsetc), incc);
+  }
+
+  private void dlargvSegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy, MemorySegment c, int incc) {
+    if (dlargv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlargv_.invokeExact(value(n), x, value(incx), y, value(incy), c, value(incc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlarnv_ = downcallHandle("dlarnv_", null, 4);
+
+  protected void dlarnvK(int idist, int[] iseed, int offsetiseed, int n, double[] x, int offsetx) {
+    dlarnvSegmentK(idist, segment(iseed, offsetiseed), n, segment(x, offsetx));
+  }
+
+  private void dlarnvSegmentK(int idist, MemorySegment iseed, int n, MemorySegment x) {
+    if (dlarnv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlarnv_.invokeExact(value(idist), iseed, value(n), x);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlarra_ = downcallHandle("dlarra_", null, 9);
+
+  protected void dlarraK(int n, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double spltol, double tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info) {
+    dlarraSegmentK(n, segment(d, offsetd), segment(e, offsete), segment(e2, offsete2), spltol, tnrm, nsplit, segment(isplit, offsetisplit), info);
+  }
+
+  private void dlarraSegmentK(int n, MemorySegment d, MemorySegment e, MemorySegment e2, double spltol, double tnrm, org.netlib.util.intW nsplit, MemorySegment isplit, org.netlib.util.intW info) {
+    if (dlarra_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nsplit = { nsplit.val };
+    int[] __info = { info.val };
+    try {
+      dlarra_.invokeExact(value(n), d, e, e2, value(spltol), value(tnrm), MemorySegment.ofArray(__nsplit), isplit, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    nsplit.val = __nsplit[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlarrb_ = downcallHandle("dlarrb_", null, 17);
+
+  protected void dlarrbK(int n, double[] d, int offsetd, double[] lld, int offsetlld, int ifirst, int ilast, double rtol1, double rtol2, int offset, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, int twist, org.netlib.util.intW info) {
+    dlarrbSegmentK(n, segment(d, offsetd), segment(lld, offsetlld), ifirst, ilast, rtol1, rtol2, offset, segment(w, offsetw), segment(wgap, offsetwgap), segment(werr, offsetwerr), segment(work, offsetwork), segment(iwork, offsetiwork), pivmin, spdiam, twist, info);
+  }
+
+  private void dlarrbSegmentK(int n, MemorySegment d, MemorySegment lld, int ifirst, int ilast, double rtol1, double rtol2, int offset, MemorySegment w, MemorySegment wgap, MemorySegment werr, MemorySegment work, MemorySegment iwork, double pivmin, double spdiam, int twist, org.netlib.util.intW info) {
+    if (dlarrb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlarrb_.invokeExact(value(n), d, lld, value(ifirst), value(ilast), value(rtol1), value(rtol2), value(offset), w, wgap, werr, work, iwork, value(pivmin), value(spdiam), value(twist), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlarrc_ = downcallHandle("dlarrc_", null, 11);
+
+  protected void dlarrcK(String jobt, int n, double vl, double vu, double[] d, int offsetd, double[] e, int offsete, double pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    dlarrcSegmentK(jobt, n, vl, vu, segment(d, offsetd), segment(e, offsete), pivmin, eigcnt, lcnt, rcnt, info);
+  }
+
+  private void dlarrcSegmentK(String jobt, int n, double vl, double vu, MemorySegment d, MemorySegment e, double pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    if (dlarrc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __eigcnt = { eigcnt.val };
+    int[] __lcnt = { lcnt.val };
+    int[] __rcnt = { rcnt.val };
+    int[] __info = { info.val };
+    try {
+      dlarrc_.invokeExact(string(jobt), value(n), value(vl), value(vu), d, e, value(pivmin), MemorySegment.ofArray(__eigcnt), MemorySegment.ofArray(__lcnt), MemorySegment.ofArray(__rcnt), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    eigcnt.val = __eigcnt[0];
+    lcnt.val = __lcnt[0];
+    rcnt.val = __rcnt[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlarrd_ = downcallHandle("dlarrd_", null, 25);
+
+  protected void dlarrdK(String range, String order, int n, double vl, double vu, int il, int iu, double[] gers, int offsetgers, double reltol, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, org.netlib.util.doubleW wl, org.netlib.util.doubleW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlarrdSegmentK(range, order, n, vl, vu, il, iu, segment(gers, offsetgers), reltol, segment(d, offsetd), segment(e, offsete), segment(e2, offsete2), pivmin, nsplit, segment(isplit, offsetisplit), m, segment(w, offsetw), segment(werr, offsetwerr), wl, wu, segment(iblock, offsetiblock), segment(indexw, offsetindexw), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlarrdSegmentK(String range, String order, int n, double vl, double vu, int il, int iu, MemorySegment gers, double reltol, MemorySegment d, MemorySegment e, MemorySegment e2, double pivmin, int nsplit, MemorySegment isplit, org.netlib.util.intW m, MemorySegment w, MemorySegment werr, org.netlib.util.doubleW wl, org.netlib.util.doubleW wu, MemorySegment iblock, MemorySegment indexw, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlarrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    double[] __wl = { wl.val };
+    double[] __wu = { wu.val };
+    int[] __info = { info.val };
+    try {
+      dlarrd_.invokeExact(string(range), string(order), value(n), value(vl), value(vu), value(il), value(iu), gers, value(reltol), d, e, e2, value(pivmin), value(nsplit), isplit, MemorySegment.ofArray(__m), w, werr, MemorySegment.ofArray(__wl), MemorySegment.ofArray(__wu), iblock, indexw, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    wl.val = __wl[0];
+    wu.val = __wu[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlarre_ = downcallHandle("dlarre_", null, 25);
+
+  protected void dlarreK(String range, int n, org.netlib.util.doubleW vl, org.netlib.util.doubleW vu, int il, int iu, double[] d, int offsetd, double[] e, int offsete, double[] e2, int offsete2, double rtol1, double rtol2, double spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, org.netlib.util.doubleW pivmin, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlarreSegmentK(range, n, vl, vu, il, iu, segment(d, offsetd), segment(e, offsete), segment(e2, offsete2), rtol1, rtol2, spltol, nsplit, segment(isplit, offsetisplit), m, segment(w, offsetw), segment(werr, offsetwerr), segment(wgap, offsetwgap), segment(iblock, offsetiblock), segment(indexw, offsetindexw), segment(gers, offsetgers), pivmin, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlarreSegmentK(String range, int n, org.netlib.util.doubleW vl, org.netlib.util.doubleW vu, int il, int iu, MemorySegment d, MemorySegment e, MemorySegment e2, double rtol1, double rtol2, double spltol, org.netlib.util.intW nsplit, MemorySegment isplit, org.netlib.util.intW m, MemorySegment w, MemorySegment werr, MemorySegment wgap, MemorySegment iblock, MemorySegment indexw, MemorySegment gers, org.netlib.util.doubleW pivmin, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlarre_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __vl = { vl.val };
+    double[] __vu = { vu.val };
+    int[] __nsplit = { nsplit.val };
+    int[] __m = { m.val };
+    double[] __pivmin = { pivmin.val };
+    int[] __info = { info.val };
+    try {
+      dlarre_.invokeExact(string(range), value(n), MemorySegment.ofArray(__vl), MemorySegment.ofArray(__vu), value(il), value(iu), d, e, e2, value(rtol1), value(rtol2), value(spltol), MemorySegment.ofArray(__nsplit), isplit, MemorySegment.ofArray(__m), w, werr, wgap, iblock, indexw, gers, MemorySegment.ofArray(__pivmin), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    vl.val = __vl[0];
+    vu.val = __vu[0];
+    nsplit.val = __nsplit[0];
+    m.val = __m[0];
+    pivmin.val = __pivmin[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlarrf_ = downcallHandle("dlarrf_", null, 18);
+
+  protected void dlarrfK(int n, double[] d, int offsetd, double[] l, int offsetl, double[] ld, int offsetld, int clstrt, int clend, double[] w, int offsetw, double[] wgap, int offsetwgap, double[] werr, int offsetwerr, double spdiam, double clgapl, double clgapr, double pivmin, org.netlib.util.doubleW sigma, double[] dplus, int offsetdplus, double[] lplus, int offsetlplus, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dlarrfSegmentK(n, segment(d, offsetd), segment(l, offsetl), segment(ld, offsetld), clstrt, clend, segment(w, offsetw), segment(wgap, offsetwgap), segment(werr, offsetwerr), spdiam, clgapl, clgapr, pivmin, sigma, segment(dplus, offsetdplus), segment(lplus, offsetlplus), segment(work, offsetwork), info);
+  }
+
+  private void dlarrfSegmentK(int n, MemorySegment d, MemorySegment l, MemorySegment ld, int clstrt, int clend, MemorySegment w, MemorySegment wgap, MemorySegment werr, double spdiam, double clgapl, double clgapr, double pivmin, org.netlib.util.doubleW sigma, MemorySegment dplus, MemorySegment lplus, MemorySegment work, org.netlib.util.intW info) {
+    if (dlarrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __sigma = { sigma.val };
+    int[] __info = { info.val };
+    try {
+      dlarrf_.invokeExact(value(n), d, l, ld, value(clstrt), value(clend), w, wgap, werr, value(spdiam), value(clgapl), value(clgapr), value(pivmin), MemorySegment.ofArray(__sigma), dplus, lplus, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    sigma.val = __sigma[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlarrj_ = downcallHandle("dlarrj_", null, 14);
+
+  protected void dlarrjK(int n, double[] d, int offsetd, double[] e2, int offsete2, int ifirst, int ilast, double rtol, int offset, double[] w, int offsetw, double[] werr, int offsetwerr, double[] work, int offsetwork, int[] iwork, int offsetiwork, double pivmin, double spdiam, org.netlib.util.intW info) {
+    dlarrjSegmentK(n, segment(d, offsetd), segment(e2, offsete2), ifirst, ilast, rtol, offset, segment(w, offsetw), segment(werr, offsetwerr), segment(work, offsetwork), segment(iwork, offsetiwork), pivmin, spdiam, info);
+  }
+
+  private void dlarrjSegmentK(int n, MemorySegment d, MemorySegment e2, int ifirst, int ilast, double rtol, int offset, MemorySegment w, MemorySegment werr, MemorySegment work, MemorySegment iwork, double pivmin, double spdiam, org.netlib.util.intW info) {
+    if (dlarrj_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlarrj_.invokeExact(value(n), d, e2, value(ifirst), value(ilast), value(rtol), value(offset), w, werr, work, iwork, value(pivmin), value(spdiam), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlarrk_ = downcallHandle("dlarrk_", null, 11);
+
+  protected void dlarrkK(int n, int iw, double gl, double gu, double[] d, int offsetd, double[] e2, int offsete2, double pivmin, double reltol, org.netlib.util.doubleW w, org.netlib.util.doubleW werr, org.netlib.util.intW info) {
+    dlarrkSegmentK(n, iw, gl, gu, segment(d, offsetd), segment(e2, offsete2), pivmin, reltol, w, werr, info);
+  }
+
+  private void dlarrkSegmentK(int n, int iw, double gl, double gu, MemorySegment d, MemorySegment e2, double pivmin, double reltol, org.netlib.util.doubleW w, org.netlib.util.doubleW werr, org.netlib.util.intW info) {
+    if (dlarrk_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __w = { w.val };
+    double[] __werr = { werr.val };
+    int[] __info = { info.val };
+    try {
+      dlarrk_.invokeExact(value(n), value(iw), value(gl), value(gu), d, e2, value(pivmin), value(reltol), MemorySegment.ofArray(__w), MemorySegment.ofArray(__werr), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    w.val = __w[0];
+    werr.val = __werr[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlarrr_ = downcallHandle("dlarrr_", null, 4);
+
+  protected void dlarrrK(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    dlarrrSegmentK(n, segment(d, offsetd), segment(e, offsete), info);
+  }
+
+  private void dlarrrSegmentK(int n, MemorySegment d, MemorySegment e, org.netlib.util.intW info) {
+    if (dlarrr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlarrr_.invokeExact(value(n), d, e, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlarrv_ = downcallHandle("dlarrv_", null, 25);
+
+  protected void dlarrvK(int n, double vl, double vu, double[] d, int offsetd, double[] l, int offsetl, double pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, double minrgp, org.netlib.util.doubleW rtol1, org.netlib.util.doubleW rtol2, double[] w, int offsetw, double[] werr, int offsetwerr, double[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, double[] gers, int offsetgers, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlarrvSegmentK(n, vl, vu, segment(d, offsetd), segment(l, offsetl), pivmin, segment(isplit, offsetisplit), m, dol, dou, minrgp, rtol1, rtol2, segment(w, offsetw), segment(werr, offsetwerr), segment(wgap, offsetwgap), segment(iblock, offsetiblock), segment(indexw, offsetindexw), segment(gers, offsetgers), segment(z, offsetz), ldz, segment(isuppz, offsetisuppz), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlarrvSegmentK(int n, double vl, double vu, MemorySegment d, MemorySegment l, double pivmin, MemorySegment isplit, int m, int dol, int dou, double minrgp, org.netlib.util.doubleW rtol1, org.netlib.util.doubleW rtol2, MemorySegment w, MemorySegment werr, MemorySegment wgap, MemorySegment iblock, MemorySegment indexw, MemorySegment gers, MemorySegment z, int ldz, MemorySegment isuppz, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlarrv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rtol1 = { rtol1.val };
+    double[] __rtol2 = { rtol2.val };
+    int[] __info = { info.val };
+    try {
+      dlarrv_.invokeExact(value(n), value(vl), value(vu), d, l, value(pivmin), isplit, value(m), value(dol), value(dou), value(minrgp), MemorySegment.ofArray(__rtol1), MemorySegment.ofArray(__rtol2), w, werr, wgap, iblock, indexw, gers, z, value(ldz), isuppz, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rtol1.val = __rtol1[0];
+    rtol2.val = __rtol2[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlartg_ = downcallHandle("dlartg_", null, 5);
+
+  protected void dlartgK(double f, double g, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn, org.netlib.util.doubleW r) {
+    dlartgSegmentK(f, g, cs, sn, r);
+  }
+
+  private void dlartgSegmentK(double f, double g, org.netlib.util.doubleW cs, org.netlib.util.doubleW sn, org.netlib.util.doubleW r) {
+    if (dlartg_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __cs = { cs.val };
+    double[] __sn = { sn.val };
+    double[] __r = { r.val };
+    try {
+      dlartg_.invokeExact(value(f), value(g), MemorySegment.ofArray(__cs), MemorySegment.ofArray(__sn), MemorySegment.ofArray(__r));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    cs.val = __cs[0];
+    sn.val = __sn[0];
+    r.val = __r[0];
+  }
+
+  private static final MethodHandle dlartv_ = downcallHandle("dlartv_", null, 8);
+
+  protected void dlartvK(int n, double[] x, int offsetx, int incx, double[] y, int offsety, int incy, double[] c, int offsetc, double[] s, int offsets, int incc) {
+    dlartvSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy, segment(c, offsetc), segment(s, offsets), incc);
+  }
+
+  private void dlartvSegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy, MemorySegment c, MemorySegment s, int incc) {
+    if (dlartv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlartv_.invokeExact(value(n), x, value(incx), y, value(incy), c, s, value(incc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlaruv_ = downcallHandle("dlaruv_", null, 3);
+
+  protected void dlaruvK(int[] iseed, int offsetiseed, int n, double[] x, int offsetx) {
+    dlaruvSegmentK(segment(iseed, offsetiseed), n, segment(x, offsetx));
+  }
+
+  private void dlaruvSegmentK(MemorySegment iseed, int n, MemorySegment x) {
+    if (dlaruv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlaruv_.invokeExact(iseed, value(n), x);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlarz_ = downcallHandle("dlarz_", null, 10);
+
+  protected void dlarzK(String side, int m, int n, int l, double[] v, int offsetv, int incv, double tau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork) {
+    dlarzSegmentK(side, m, n, l, segment(v, offsetv), incv, tau, segment(c, offsetc), Ldc, segment(work, offsetwork));
+  }
+
+  private void dlarzSegmentK(String side, int m, int n, int l, MemorySegment v, int incv, double tau, MemorySegment c, int Ldc, MemorySegment work) {
+    if (dlarz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlarz_.invokeExact(string(side), value(m), value(n), value(l), v, value(incv), value(tau), c, value(Ldc), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlarzb_ = downcallHandle("dlarzb_", null, 16);
+
+  protected void dlarzbK(String side, String trans, String direct, String storev, int m, int n, int k, int l, double[] v, int offsetv, int ldv, double[] t, int offsett, int ldt, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int ldwork) {
+    dlarzbSegmentK(side, trans, direct, storev, m, n, k, l, segment(v, offsetv), ldv, segment(t, offsett), ldt, segment(c, offsetc), Ldc, segment(work, offsetwork), ldwork);
+  }
+
+  private void dlarzbSegmentK(String side, String trans, String direct, String storev, int m, int n, int k, int l, MemorySegment v, int ldv, MemorySegment t, int ldt, MemorySegment c, int Ldc, MemorySegment work, int ldwork) {
+    if (dlarzb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlarzb_.invokeExact(string(side), string(trans), string(direct), string(storev), value(m), value(n), value(k), value(l), v, value(ldv), t, value(ldt), c, value(Ldc), work, value(ldwork));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlarzt_ = downcallHandle("dlarzt_", null, 9);
+
+  protected void dlarztK(String direct, String storev, int n, int k, double[] v, int offsetv, int ldv, double[] tau, int offsettau, double[] t, int offsett, int ldt) {
+    dlarztSegmentK(direct, storev, n, k, segment(v, offsetv), ldv, segment(tau, offsettau), segment(t, offsett), ldt);
+  }
+
+  private void dlarztSegmentK(String direct, String storev, int n, int k, MemorySegment v, int ldv, MemorySegment tau, MemorySegment t, int ldt) {
+    if (dlarzt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlarzt_.invokeExact(string(direct), string(storev), value(n), value(k), v, value(ldv), tau, t, value(ldt));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlas2_ = downcallHandle("dlas2_", null, 5);
+
+  protected void dlas2K(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax) {
+    dlas2SegmentK(f, g, h, ssmin, ssmax);
+  }
+
+  private void dlas2SegmentK(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax) {
+    if (dlas2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ssmin = { ssmin.val };
+    double[] __ssmax = { ssmax.val };
+    try {
+      dlas2_.invokeExact(value(f), value(g), value(h), MemorySegment.ofArray(__ssmin), MemorySegment.ofArray(__ssmax));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ssmin.val = __ssmin[0];
+    ssmax.val = __ssmax[0];
+  }
+
+  private static final MethodHandle dlascl_ = downcallHandle("dlascl_", null, 10);
+
+  protected void dlasclK(String type, int kl, int ku, double cfrom, double cto, int m, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    dlasclSegmentK(type, kl, ku, cfrom, cto, m, n, segment(a, offseta), lda, info);
+  }
+
+  private void dlasclSegmentK(String type, int kl, int ku, double cfrom, double cto, int m, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (dlascl_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlascl_.invokeExact(string(type), value(kl), value(ku), value(cfrom), value(cto), value(m), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasd0_ = downcallHandle("dlasd0_", null, 12);
+
+  protected void dlasd0K(int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dlasd0SegmentK(n, sqre, segment(d, offsetd), segment(e, offsete), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, smlsiz, segment(iwork, offsetiwork), segment(work, offsetwork), info);
+  }
+
+  private void dlasd0SegmentK(int n, int sqre, MemorySegment d, MemorySegment e, MemorySegment u, int ldu, MemorySegment vt, int ldvt, int smlsiz, MemorySegment iwork, MemorySegment work, org.netlib.util.intW info) {
+    if (dlasd0_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlasd0_.invokeExact(value(n), value(sqre), d, e, u, value(ldu), vt, value(ldvt), value(smlsiz), iwork, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasd1_ = downcallHandle("dlasd1_", null, 14);
+
+  protected void dlasd1K(int nl, int nr, int sqre, double[] d, int offsetd, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dlasd1SegmentK(nl, nr, sqre, segment(d, offsetd), alpha, beta, segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(idxq, offsetidxq), segment(iwork, offsetiwork), segment(work, offsetwork), info);
+  }
+
+  private void dlasd1SegmentK(int nl, int nr, int sqre, MemorySegment d, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, MemorySegment u, int ldu, MemorySegment vt, int ldvt, MemorySegment idxq, MemorySegment iwork, MemorySegment work, org.netlib.util.intW info) {
+    if (dlasd1_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __alpha = { alpha.val };
+    double[] __beta = { beta.val };
+    int[] __info = { info.val };
+    try {
+      dlasd1_.invokeExact(value(nl), value(nr), value(sqre), d, MemorySegment.ofArray(__alpha), MemorySegment.ofArray(__beta), u, value(ldu), vt, value(ldvt), idxq, iwork, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    alpha.val = __alpha[0];
+    beta.val = __beta[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasd2_ = downcallHandle("dlasd2_", null, 23);
+
+  protected void dlasd2K(int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double alpha, double beta, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int ldvt, double[] dsigma, int offsetdsigma, double[] u2, int offsetu2, int ldu2, double[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    dlasd2SegmentK(nl, nr, sqre, k, segment(d, offsetd), segment(z, offsetz), alpha, beta, segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(dsigma, offsetdsigma), segment(u2, offsetu2), ldu2, segment(vt2, offsetvt2), ldvt2, segment(idxp, offsetidxp), segment(idx, offsetidx), segment(idxc, offsetidxc), segment(idxq, offsetidxq), segment(coltyp, offsetcoltyp), info);
+  }
+
+  private void dlasd2SegmentK(int nl, int nr, int sqre, org.netlib.util.intW k, MemorySegment d, MemorySegment z, double alpha, double beta, MemorySegment u, int ldu, MemorySegment vt, int ldvt, MemorySegment dsigma, MemorySegment u2, int ldu2, MemorySegment vt2, int ldvt2, MemorySegment idxp, MemorySegment idx, MemorySegment idxc, MemorySegment idxq, MemorySegment coltyp, org.netlib.util.intW info) {
+    if (dlasd2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    int[] __info = { info.val };
+    try {
+      dlasd2_.invokeExact(value(nl), value(nr), value(sqre), MemorySegment.ofArray(__k), d, z, value(alpha), value(beta), u, value(ldu), vt, value(ldvt), dsigma, u2, value(ldu2), vt2, value(ldvt2), idxp, idx, idxc, idxq, coltyp, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasd3_ = downcallHandle("dlasd3_", null, 20);
+
+  protected void dlasd3K(int nl, int nr, int sqre, int k, double[] d, int offsetd, double[] q, int offsetq, int ldq, double[] dsigma, int offsetdsigma, double[] u, int offsetu, int ldu, double[] u2, int offsetu2, int ldu2, double[] vt, int offsetvt, int ldvt, double[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, double[] z, int offsetz, org.netlib.util.intW info) {
+    dlasd3SegmentK(nl, nr, sqre, k, segment(d, offsetd), segment(q, offsetq), ldq, segment(dsigma, offsetdsigma), segment(u, offsetu), ldu, segment(u2, offsetu2), ldu2, segment(vt, offsetvt), ldvt, segment(vt2, offsetvt2), ldvt2, segment(idxc, offsetidxc), segment(ctot, offsetctot), segment(z, offsetz), info);
+  }
+
+  private void dlasd3SegmentK(int nl, int nr, int sqre, int k, MemorySegment d, MemorySegment q, int ldq, MemorySegment dsigma, MemorySegment u, int ldu, MemorySegment u2, int ldu2, MemorySegment vt, int ldvt, MemorySegment vt2, int ldvt2, MemorySegment idxc, MemorySegment ctot, MemorySegment z, org.netlib.util.intW info) {
+    if (dlasd3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlasd3_.invokeExact(value(nl), value(nr), value(sqre), value(k), d, q, value(ldq), dsigma, u, value(ldu), u2, value(ldu2), vt, value(ldvt), vt2, value(ldvt2), idxc, ctot, z, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasd4_ = downcallHandle("dlasd4_", null, 9);
+
+  protected void dlasd4K(int n, int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW sigma, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dlasd4SegmentK(n, i, segment(d, offsetd), segment(z, offsetz), segment(delta, offsetdelta), rho, sigma, segment(work, offsetwork), info);
+  }
+
+  private void dlasd4SegmentK(int n, int i, MemorySegment d, MemorySegment z, MemorySegment delta, double rho, org.netlib.util.doubleW sigma, MemorySegment work, org.netlib.util.intW info) {
+    if (dlasd4_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __sigma = { sigma.val };
+    int[] __info = { info.val };
+    try {
+      dlasd4_.invokeExact(value(n), value(i), d, z, delta, value(rho), MemorySegment.ofArray(__sigma), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    sigma.val = __sigma[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasd5_ = downcallHandle("dlasd5_", null, 7);
+
+  protected void dlasd5K(int i, double[] d, int offsetd, double[] z, int offsetz, double[] delta, int offsetdelta, double rho, org.netlib.util.doubleW dsigma, double[] work, int offsetwork) {
+    dlasd5SegmentK(i, segment(d, offsetd), segment(z, offsetz), segment(delta, offsetdelta), rho, dsigma, segment(work, offsetwork));
+  }
+
+  private void dlasd5SegmentK(int i, MemorySegment d, MemorySegment z, MemorySegment delta, double rho, org.netlib.util.doubleW dsigma, MemorySegment work) {
+    if (dlasd5_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __dsigma = { dsigma.val };
+    try {
+      dlasd5_.invokeExact(value(i), d, z, delta, value(rho), MemorySegment.ofArray(__dsigma), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dsigma.val = __dsigma[0];
+  }
+
+  private static final MethodHandle dlasd6_ = downcallHandle("dlasd6_", null, 26);
+
+  protected void dlasd6K(int icompq, int nl, int nr, int sqre, double[] d, int offsetd, double[] vf, int offsetvf, double[] vl, int offsetvl, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, double[] poles, int offsetpoles, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.doubleW c, org.netlib.util.doubleW s, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlasd6SegmentK(icompq, nl, nr, sqre, segment(d, offsetd), segment(vf, offsetvf), segment(vl, offsetvl), alpha, beta, segment(idxq, offsetidxq), segment(perm, offsetperm), givptr, segment(givcol, offsetgivcol), ldgcol, segment(givnum, offsetgivnum), ldgnum, segment(poles, offsetpoles), segment(difl, offsetdifl), segment(difr, offsetdifr), segment(z, offsetz), k, c, s, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlasd6SegmentK(int icompq, int nl, int nr, int sqre, MemorySegment d, MemorySegment vf, MemorySegment vl, org.netlib.util.doubleW alpha, org.netlib.util.doubleW beta, MemorySegment idxq, MemorySegment perm, org.netlib.util.intW givptr, MemorySegment givcol, int ldgcol, MemorySegment givnum, int ldgnum, MemorySegment poles, MemorySegment difl, MemorySegment difr, MemorySegment z, org.netlib.util.intW k, org.netlib.util.doubleW c, org.netlib.util.doubleW s, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlasd6_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __alpha = { alpha.val };
+    double[] __beta = { beta.val };
+    int[] __givptr = { givptr.val };
+    int[] __k = { k.val };
+    double[] __c = { c.val };
+    double[] __s = { s.val };
+    int[] __info = { info.val };
+    try {
+      dlasd6_.invokeExact(value(icompq), value(nl), value(nr), value(sqre), d, vf, vl, MemorySegment.ofArray(__alpha), MemorySegment.ofArray(__beta), idxq, perm, MemorySegment.ofArray(__givptr), givcol, value(ldgcol), givnum, value(ldgnum), poles, difl, difr, z, MemorySegment.ofArray(__k), MemorySegment.ofArray(__c), MemorySegment.ofArray(__s), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    alpha.val = __alpha[0];
+    beta.val = __beta[0];
+    givptr.val = __givptr[0];
+    k.val = __k[0];
+    c.val = __c[0];
+    s.val = __s[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasd7_ = downcallHandle("dlasd7_", null, 27);
+
+  protected void dlasd7K(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, double[] d, int offsetd, double[] z, int offsetz, double[] zw, int offsetzw, double[] vf, int offsetvf, double[] vfw, int offsetvfw, double[] vl, int offsetvl, double[] vlw, int offsetvlw, double alpha, double beta, double[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, double[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.doubleW c, org.netlib.util.doubleW s, org.netlib.util.intW info) {
+    dlasd7SegmentK(icompq, nl, nr, sqre, k, segment(d, offsetd), segment(z, offsetz), segment(zw, offsetzw), segment(vf, offsetvf), segment(vfw, offsetvfw), segment(vl, offsetvl), segment(vlw, offsetvlw), alpha, beta, segment(dsigma, offsetdsigma), segment(idx, offsetidx), segment(idxp, offsetidxp), segment(idxq, offsetidxq), segment(perm, offsetperm), givptr, segment(givcol, offsetgivcol), ldgcol, segment(givnum, offsetgivnum), ldgnum, c, s, info);
+  }
+
+  private void dlasd7SegmentK(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, MemorySegment d, MemorySegment z, MemorySegment zw, MemorySegment vf, MemorySegment vfw, MemorySegment vl, MemorySegment vlw, double alpha, double beta, MemorySegment dsigma, MemorySegment idx, MemorySegment idxp, MemorySegment idxq, MemorySegment perm, org.netlib.util.intW givptr, MemorySegment givcol, int ldgcol, MemorySegment givnum, int ldgnum, org.netlib.util.doubleW c, org.netlib.util.doubleW s, org.netlib.util.intW info) {
+    if (dlasd7_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    int[] __givptr = { givptr.val };
+    double[] __c = { c.val };
+    double[] __s = { s.val };
+    int[] __info = { info.val };
+    try {
+      dlasd7_.invokeExact(value(icompq), value(nl), value(nr), value(sqre), MemorySegment.ofArray(__k), d, z, zw, vf, vfw, vl, vlw, value(alpha), value(beta), dsigma, idx, idxp, idxq, perm, MemorySegment.ofArray(__givptr), givcol, value(ldgcol), givnum, value(ldgnum), MemorySegment.ofArray(__c), MemorySegment.ofArray(__s), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    givptr.val = __givptr[0];
+    c.val = __c[0];
+    s.val = __s[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasd8_ = downcallHandle("dlasd8_", null, 12);
+
+  protected void dlasd8K(int icompq, int k, double[] d, int offsetd, double[] z, int offsetz, double[] vf, int offsetvf, double[] vl, int offsetvl, double[] difl, int offsetdifl, double[] difr, int offsetdifr, int lddifr, double[] dsigma, int offsetdsigma, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dlasd8SegmentK(icompq, k, segment(d, offsetd), segment(z, offsetz), segment(vf, offsetvf), segment(vl, offsetvl), segment(difl, offsetdifl), segment(difr, offsetdifr), lddifr, segment(dsigma, offsetdsigma), segment(work, offsetwork), info);
+  }
+
+  private void dlasd8SegmentK(int icompq, int k, MemorySegment d, MemorySegment z, MemorySegment vf, MemorySegment vl, MemorySegment difl, MemorySegment difr, int lddifr, MemorySegment dsigma, MemorySegment work, org.netlib.util.intW info) {
+    if (dlasd8_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlasd8_.invokeExact(value(icompq), value(k), d, z, vf, vl, difl, difr, value(lddifr), dsigma, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasda_ = downcallHandle("dlasda_", null, 24);
+
+  protected void dlasdaK(int icompq, int smlsiz, int n, int sqre, double[] d, int offsetd, double[] e, int offsete, double[] u, int offsetu, int ldu, double[] vt, int offsetvt, int[] k, int offsetk, double[] difl, int offsetdifl, double[] difr, int offsetdifr, double[] z, int offsetz, double[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, double[] givnum, int offsetgivnum, double[] c, int offsetc, double[] s, int offsets, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dlasdaSegmentK(icompq, smlsiz, n, sqre, segment(d, offsetd), segment(e, offsete), segment(u, offsetu), ldu, segment(vt, offsetvt), segment(k, offsetk), segment(difl, offsetdifl), segment(difr, offsetdifr), segment(z, offsetz), segment(poles, offsetpoles), segment(givptr, offsetgivptr), segment(givcol, offsetgivcol), ldgcol, segment(perm, offsetperm), segment(givnum, offsetgivnum), segment(c, offsetc), segment(s, offsets), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dlasdaSegmentK(int icompq, int smlsiz, int n, int sqre, MemorySegment d, MemorySegment e, MemorySegment u, int ldu, MemorySegment vt, MemorySegment k, MemorySegment difl, MemorySegment difr, MemorySegment z, MemorySegment poles, MemorySegment givptr, MemorySegment givcol, int ldgcol, MemorySegment perm, MemorySegment givnum, MemorySegment c, MemorySegment s, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dlasda_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlasda_.invokeExact(value(icompq), value(smlsiz), value(n), value(sqre), d, e, u, value(ldu), vt, k, difl, difr, z, poles, givptr, givcol, value(ldgcol), perm, givnum, c, s, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasdq_ = downcallHandle("dlasdq_", null, 16);
+
+  protected void dlasdqK(String uplo, int sqre, int n, int ncvt, int nru, int ncc, double[] d, int offsetd, double[] e, int offsete, double[] vt, int offsetvt, int ldvt, double[] u, int offsetu, int ldu, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dlasdqSegmentK(uplo, sqre, n, ncvt, nru, ncc, segment(d, offsetd), segment(e, offsete), segment(vt, offsetvt), ldvt, segment(u, offsetu), ldu, segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void dlasdqSegmentK(String uplo, int sqre, int n, int ncvt, int nru, int ncc, MemorySegment d, MemorySegment e, MemorySegment vt, int ldvt, MemorySegment u, int ldu, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (dlasdq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlasdq_.invokeExact(string(uplo), value(sqre), value(n), value(ncvt), value(nru), value(ncc), d, e, vt, value(ldvt), u, value(ldu), c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasdt_ = downcallHandle("dlasdt_", null, 7);
+
+  protected void dlasdtK(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub) {
+    dlasdtSegmentK(n, lvl, nd, segment(inode, offsetinode), segment(ndiml, offsetndiml), segment(ndimr, offsetndimr), msub);
+  }
+
+  private void dlasdtSegmentK(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, MemorySegment inode, MemorySegment ndiml, MemorySegment ndimr, int msub) {
+    if (dlasdt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __lvl = { lvl.val };
+    int[] __nd = { nd.val };
+    try {
+      dlasdt_.invokeExact(value(n), MemorySegment.ofArray(__lvl), MemorySegment.ofArray(__nd), inode, ndiml, ndimr, value(msub));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    lvl.val = __lvl[0];
+    nd.val = __nd[0];
+  }
+
+  private static final MethodHandle dlaset_ = downcallHandle("dlaset_", null, 7);
+
+  protected void dlasetK(String uplo, int m, int n, double alpha, double beta, double[] a, int offseta, int lda) {
+    dlasetSegmentK(uplo, m, n, alpha, beta, segment(a, offseta), lda);
+  }
+
+  private void dlasetSegmentK(String uplo, int m, int n, double alpha, double beta, MemorySegment a, int lda) {
+    if (dlaset_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlaset_.invokeExact(string(uplo), value(m), value(n), value(alpha), value(beta), a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlasq1_ = downcallHandle("dlasq1_", null, 5);
+
+  protected void dlasq1K(int n, double[] d, int offsetd, double[] e, int offsete, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dlasq1SegmentK(n, segment(d, offsetd), segment(e, offsete), segment(work, offsetwork), info);
+  }
+
+  private void dlasq1SegmentK(int n, MemorySegment d, MemorySegment e, MemorySegment work, org.netlib.util.intW info) {
+    if (dlasq1_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlasq1_.invokeExact(value(n), d, e, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasq2_ = downcallHandle("dlasq2_", null, 3);
+
+  protected void dlasq2K(int n, double[] z, int offsetz, org.netlib.util.intW info) {
+    dlasq2SegmentK(n, segment(z, offsetz), info);
+  }
+
+  private void dlasq2SegmentK(int n, MemorySegment z, org.netlib.util.intW info) {
+    if (dlasq2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlasq2_.invokeExact(value(n), z, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasq3_ = downcallHandle("dlasq3_", null, 12);
+
+  protected void dlasq3K(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    dlasq3SegmentK(i0, n0, segment(z, offsetz), pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+  }
+
+  private void dlasq3SegmentK(int i0, org.netlib.util.intW n0, MemorySegment z, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    if (dlasq3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __n0 = { n0.val };
+    double[] __dmin = { dmin.val };
+    double[] __sigma = { sigma.val };
+    double[] __desig = { desig.val };
+    double[] __qmax = { qmax.val };
+    int[] __nfail = { nfail.val };
+    int[] __iter = { iter.val };
+    int[] __ndiv = { ndiv.val };
+    try {
+      dlasq3_.invokeExact(value(i0), MemorySegment.ofArray(__n0), z, value(pp), MemorySegment.ofArray(__dmin), MemorySegment.ofArray(__sigma), MemorySegment.ofArray(__desig), MemorySegment.ofArray(__qmax), MemorySegment.ofArray(__nfail), MemorySegment.ofArray(__iter), MemorySegment.ofArray(__ndiv), value(ieee ? 1 : 0));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    n0.val = __n0[0];
+    dmin.val = __dmin[0];
+    sigma.val = __sigma[0];
+    desig.val = __desig[0];
+    qmax.val = __qmax[0];
+    nfail.val = __nfail[0];
+    iter.val = __iter[0];
+    ndiv.val = __ndiv[0];
+  }
+
+  private static final MethodHandle dlasq4_ = downcallHandle("dlasq4_", null, 13);
+
+  protected void dlasq4K(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype) {
+    dlasq4SegmentK(i0, n0, segment(z, offsetz), pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+  }
+
+  private void dlasq4SegmentK(int i0, int n0, MemorySegment z, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype) {
+    if (dlasq4_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __tau = { tau.val };
+    int[] __ttype = { ttype.val };
+    try {
+      dlasq4_.invokeExact(value(i0), value(n0), z, value(pp), value(n0in), value(dmin), value(dmin1), value(dmin2), value(dn), value(dn1), value(dn2), MemorySegment.ofArray(__tau), MemorySegment.ofArray(__ttype));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    tau.val = __tau[0];
+    ttype.val = __ttype[0];
+  }
+
+  private static final MethodHandle dlasq5_ = downcallHandle("dlasq5_", null, 12);
+
+  protected void dlasq5K(int i0, int n0, double[] z, int offsetz, int pp, double tau, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2, boolean ieee) {
+    dlasq5SegmentK(i0, n0, segment(z, offsetz), pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+  }
+
+  private void dlasq5SegmentK(int i0, int n0, MemorySegment z, int pp, double tau, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2, boolean ieee) {
+    if (dlasq5_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __dmin = { dmin.val };
+    double[] __dmin1 = { dmin1.val };
+    double[] __dmin2 = { dmin2.val };
+    double[] __dn = { dn.val };
+    double[] __dnm1 = { dnm1.val };
+    double[] __dnm2 = { dnm2.val };
+    try {
+      dlasq5_.invokeExact(value(i0), value(n0), z, value(pp), value(tau), MemorySegment.ofArray(__dmin), MemorySegment.ofArray(__dmin1), MemorySegment.ofArray(__dmin2), MemorySegment.ofArray(__dn), MemorySegment.ofArray(__dnm1), MemorySegment.ofArray(__dnm2), value(ieee ? 1 : 0));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dmin.val = __dmin[0];
+    dmin1.val = __dmin1[0];
+    dmin2.val = __dmin2[0];
+    dn.val = __dn[0];
+    dnm1.val = __dnm1[0];
+    dnm2.val = __dnm2[0];
+  }
+
+  private static final MethodHandle dlasq6_ = downcallHandle("dlasq6_", null, 10);
+
+  protected void dlasq6K(int i0, int n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2) {
+    dlasq6SegmentK(i0, n0, segment(z, offsetz), pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+  }
+
+  private void dlasq6SegmentK(int i0, int n0, MemorySegment z, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dnm1, org.netlib.util.doubleW dnm2) {
+    if (dlasq6_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __dmin = { dmin.val };
+    double[] __dmin1 = { dmin1.val };
+    double[] __dmin2 = { dmin2.val };
+    double[] __dn = { dn.val };
+    double[] __dnm1 = { dnm1.val };
+    double[] __dnm2 = { dnm2.val };
+    try {
+      dlasq6_.invokeExact(value(i0), value(n0), z, value(pp), MemorySegment.ofArray(__dmin), MemorySegment.ofArray(__dmin1), MemorySegment.ofArray(__dmin2), MemorySegment.ofArray(__dn), MemorySegment.ofArray(__dnm1), MemorySegment.ofArray(__dnm2));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dmin.val = __dmin[0];
+    dmin1.val = __dmin1[0];
+    dmin2.val = __dmin2[0];
+    dn.val = __dn[0];
+    dnm1.val = __dnm1[0];
+    dnm2.val = __dnm2[0];
+  }
+
+  private static final MethodHandle dlasr_ = downcallHandle("dlasr_", null, 9);
+
+  protected void dlasrK(String side, String pivot, String direct, int m, int n, double[] c, int offsetc, double[] s, int offsets, double[] a, int offseta, int lda) {
+    dlasrSegmentK(side, pivot, direct, m, n, segment(c, offsetc), segment(s, offsets), segment(a, offseta), lda);
+  }
+
+  private void dlasrSegmentK(String side, String pivot, String direct, int m, int n, MemorySegment c, MemorySegment s, MemorySegment a, int lda) {
+    if (dlasr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlasr_.invokeExact(string(side), string(pivot), string(direct), value(m), value(n), c, s, a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlasrt_ = downcallHandle("dlasrt_", null, 4);
+
+  protected void dlasrtK(String id, int n, double[] d, int offsetd, org.netlib.util.intW info) {
+    dlasrtSegmentK(id, n, segment(d, offsetd), info);
+  }
+
+  private void dlasrtSegmentK(String id, int n, MemorySegment d, org.netlib.util.intW info) {
+    if (dlasrt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlasrt_.invokeExact(string(id), value(n), d, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlassq_ = downcallHandle("dlassq_", null, 5);
+
+  protected void dlassqK(int n, double[] x, int offsetx, int incx, org.netlib.util.doubleW scale, org.netlib.util.doubleW sumsq) {
+    dlassqSegmentK(n, segment(x, offsetx), incx, scale, sumsq);
+  }
+
+  private void dlassqSegmentK(int n, MemorySegment x, int incx, org.netlib.util.doubleW scale, org.netlib.util.doubleW sumsq) {
+    if (dlassq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    double[] __sumsq = { sumsq.val };
+    try {
+      dlassq_.invokeExact(value(n), x, value(incx), MemorySegment.ofArray(__scale), MemorySegment.ofArray(__sumsq));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    sumsq.val = __sumsq[0];
+  }
+
+  private static final MethodHandle dlasv2_ = downcallHandle("dlasv2_", null, 9);
+
+  protected void dlasv2K(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax, org.netlib.util.doubleW snr, org.netlib.util.doubleW csr, org.netlib.util.doubleW snl, org.netlib.util.doubleW csl) {
+    dlasv2SegmentK(f, g, h, ssmin, ssmax, snr, csr, snl, csl);
+  }
+
+  private void dlasv2SegmentK(double f, double g, double h, org.netlib.util.doubleW ssmin, org.netlib.util.doubleW ssmax, org.netlib.util.doubleW snr, org.netlib.util.doubleW csr, org.netlib.util.doubleW snl, org.netlib.util.doubleW csl) {
+    if (dlasv2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __ssmin = { ssmin.val };
+    double[] __ssmax = { ssmax.val };
+    double[] __snr = { snr.val };
+    double[] __csr = { csr.val };
+    double[] __snl = { snl.val };
+    double[] __csl = { csl.val };
+    try {
+      dlasv2_.invokeExact(value(f), value(g), value(h), MemorySegment.ofArray(__ssmin), MemorySegment.ofArray(__ssmax), MemorySegment.ofArray(__snr), MemorySegment.ofArray(__csr), MemorySegment.ofArray(__snl), MemorySegment.ofArray(__csl));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ssmin.val = __ssmin[0];
+    ssmax.val = __ssmax[0];
+    snr.val = __snr[0];
+    csr.val = __csr[0];
+    snl.val = __snl[0];
+    csl.val = __csl[0];
+  }
+
+  private static final MethodHandle dlaswp_ = downcallHandle("dlaswp_", null, 7);
+
+  protected void dlaswpK(int n, double[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx) {
+    dlaswpSegmentK(n, segment(a, offseta), lda, k1, k2, segment(ipiv, offsetipiv), incx);
+  }
+
+  private void dlaswpSegmentK(int n, MemorySegment a, int lda, int k1, int k2, MemorySegment ipiv, int incx) {
+    if (dlaswp_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlaswp_.invokeExact(value(n), a, value(lda), value(k1), value(k2), ipiv, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlasy2_ = downcallHandle("dlasy2_", null, 16);
+
+  protected void dlasy2K(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, double[] tl, int offsettl, int ldtl, double[] tr, int offsettr, int ldtr, double[] b, int offsetb, int ldb, org.netlib.util.doubleW scale, double[] x, int offsetx, int ldx, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    dlasy2SegmentK(ltranl, ltranr, isgn, n1, n2, segment(tl, offsettl), ldtl, segment(tr, offsettr), ldtr, segment(b, offsetb), ldb, scale, segment(x, offsetx), ldx, xnorm, info);
+  }
+
+  private void dlasy2SegmentK(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, MemorySegment tl, int ldtl, MemorySegment tr, int ldtr, MemorySegment b, int ldb, org.netlib.util.doubleW scale, MemorySegment x, int ldx, org.netlib.util.doubleW xnorm, org.netlib.util.intW info) {
+    if (dlasy2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    double[] __xnorm = { xnorm.val };
+    int[] __info = { info.val };
+    try {
+      dlasy2_.invokeExact(value(ltranl ? 1 : 0), value(ltranr ? 1 : 0), value(isgn), value(n1), value(n2), tl, value(ldtl), tr, value(ldtr), b, value(ldb), MemorySegment.ofArray(__scale), x, value(ldx), MemorySegment.ofArray(__xnorm), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    xnorm.val = __xnorm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlasyf_ = downcallHandle("dlasyf_", null, 10);
+
+  protected void dlasyfK(String uplo, int n, int nb, org.netlib.util.intW kb, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] w, int offsetw, int ldw, org.netlib.util.intW info) {
+    dlasyfSegmentK(uplo, n, nb, kb, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(w, offsetw), ldw, info);
+  }
+
+  private void dlasyfSegmentK(String uplo, int n, int nb, org.netlib.util.intW kb, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment w, int ldw, org.netlib.util.intW info) {
+    if (dlasyf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __kb = { kb.val };
+    int[] __info = { info.val };
+    try {
+      dlasyf_.invokeExact(string(uplo), value(n), value(nb), MemorySegment.ofArray(__kb), a, value(lda), ipiv, w, value(ldw), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    kb.val = __kb[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlatbs_ = downcallHandle("dlatbs_", null, 12);
+
+  protected void dlatbsK(String uplo, String trans, String diag, String normin, int n, int kd, double[] ab, int offsetab, int ldab, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    dlatbsSegmentK(uplo, trans, diag, normin, n, kd, segment(ab, offsetab), ldab, segment(x, offsetx), scale, segment(cnorm, offsetcnorm), info);
+  }
+
+  private void dlatbsSegmentK(String uplo, String trans, String diag, String normin, int n, int kd, MemorySegment ab, int ldab, MemorySegment x, org.netlib.util.doubleW scale, MemorySegment cnorm, org.netlib.util.intW info) {
+    if (dlatbs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    int[] __info = { info.val };
+    try {
+      dlatbs_.invokeExact(string(uplo), string(trans), string(diag), string(normin), value(n), value(kd), ab, value(ldab), x, MemorySegment.ofArray(__scale), cnorm, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlatdf_ = downcallHandle("dlatdf_", null, 9);
+
+  protected void dlatdfK(int ijob, int n, double[] z, int offsetz, int ldz, double[] rhs, int offsetrhs, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv) {
+    dlatdfSegmentK(ijob, n, segment(z, offsetz), ldz, segment(rhs, offsetrhs), rdsum, rdscal, segment(ipiv, offsetipiv), segment(jpiv, offsetjpiv));
+  }
+
+  private void dlatdfSegmentK(int ijob, int n, MemorySegment z, int ldz, MemorySegment rhs, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, MemorySegment ipiv, MemorySegment jpiv) {
+    if (dlatdf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rdsum = { rdsum.val };
+    double[] __rdscal = { rdscal.val };
+    try {
+      dlatdf_.invokeExact(value(ijob), value(n), z, value(ldz), rhs, MemorySegment.ofArray(__rdsum), MemorySegment.ofArray(__rdscal), ipiv, jpiv);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rdsum.val = __rdsum[0];
+    rdscal.val = __rdscal[0];
+  }
+
+  private static final MethodHandle dlatps_ = downcallHandle("dlatps_", null, 10);
+
+  protected void dlatpsK(String uplo, String trans, String diag, String normin, int n, double[] ap, int offsetap, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    dlatpsSegmentK(uplo, trans, diag, normin, n, segment(ap, offsetap), segment(x, offsetx), scale, segment(cnorm, offsetcnorm), info);
+  }
+
+  private void dlatpsSegmentK(String uplo, String trans, String diag, String normin, int n, MemorySegment ap, MemorySegment x, org.netlib.util.doubleW scale, MemorySegment cnorm, org.netlib.util.intW info) {
+    if (dlatps_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    int[] __info = { info.val };
+    try {
+      dlatps_.invokeExact(string(uplo), string(trans), string(diag), string(normin), value(n), ap, x, MemorySegment.ofArray(__scale), cnorm, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlatrd_ = downcallHandle("dlatrd_", null, 9);
+
+  protected void dlatrdK(String uplo, int n, int nb, double[] a, int offseta, int lda, double[] e, int offsete, double[] tau, int offsettau, double[] w, int offsetw, int ldw) {
+    dlatrdSegmentK(uplo, n, nb, segment(a, offseta), lda, segment(e, offsete), segment(tau, offsettau), segment(w, offsetw), ldw);
+  }
+
+  private void dlatrdSegmentK(String uplo, int n, int nb, MemorySegment a, int lda, MemorySegment e, MemorySegment tau, MemorySegment w, int ldw) {
+    if (dlatrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlatrd_.invokeExact(string(uplo), value(n), value(nb), a, value(lda), e, tau, w, value(ldw));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlatrs_ = downcallHandle("dlatrs_", null, 11);
+
+  protected void dlatrsK(String uplo, String trans, String diag, String normin, int n, double[] a, int offseta, int lda, double[] x, int offsetx, org.netlib.util.doubleW scale, double[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    dlatrsSegmentK(uplo, trans, diag, normin, n, segment(a, offseta), lda, segment(x, offsetx), scale, segment(cnorm, offsetcnorm), info);
+  }
+
+  private void dlatrsSegmentK(String uplo, String trans, String diag, String normin, int n, MemorySegment a, int lda, MemorySegment x, org.netlib.util.doubleW scale, MemorySegment cnorm, org.netlib.util.intW info) {
+    if (dlatrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    int[] __info = { info.val };
+    try {
+      dlatrs_.invokeExact(string(uplo), string(trans), string(diag), string(normin), value(n), a, value(lda), x, MemorySegment.ofArray(__scale), cnorm, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlatrz_ = downcallHandle("dlatrz_", null, 7);
+
+  protected void dlatrzK(int m, int n, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork) {
+    dlatrzSegmentK(m, n, l, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork));
+  }
+
+  private void dlatrzSegmentK(int m, int n, int l, MemorySegment a, int lda, MemorySegment tau, MemorySegment work) {
+    if (dlatrz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlatrz_.invokeExact(value(m), value(n), value(l), a, value(lda), tau, work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlatzm_ = downcallHandle("dlatzm_", null, 10);
+
+  protected void dlatzmK(String side, int m, int n, double[] v, int offsetv, int incv, double tau, double[] c1, int offsetc1, double[] c2, int offsetc2, int Ldc, double[] work, int offsetwork) {
+    dlatzmSegmentK(side, m, n, segment(v, offsetv), incv, tau, segment(c1, offsetc1), segment(c2, offsetc2), Ldc, segment(work, offsetwork));
+  }
+
+  private void dlatzmSegmentK(String side, int m, int n, MemorySegment v, int incv, double tau, MemorySegment c1, MemorySegment c2, int Ldc, MemorySegment work) {
+    if (dlatzm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dlatzm_.invokeExact(string(side), value(m), value(n), v, value(incv), value(tau), c1, c2, value(Ldc), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dlauu2_ = downcallHandle("dlauu2_", null, 5);
+
+  protected void dlauu2K(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    dlauu2SegmentK(uplo, n, segment(a, offseta), lda, info);
+  }
+
+  private void dlauu2SegmentK(String uplo, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (dlauu2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlauu2_.invokeExact(string(uplo), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlauum_ = downcallHandle("dlauum_", null, 5);
+
+  protected void dlauumK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    dlauumSegmentK(uplo, n, segment(a, offseta), lda, info);
+  }
+
+  private void dlauumSegmentK(String uplo, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (dlauum_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dlauum_.invokeExact(string(uplo), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  protected void dlazq3K(int i0, org.netlib.util.intW n0, double[] z, int offsetz, int pp, org.netlib.util.doubleW dmin, org.netlib.util.doubleW sigma, org.netlib.util.doubleW desig, org.netlib.util.doubleW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.doubleW dmin1, org.netlib.util.doubleW dmin2, org.netlib.util.doubleW dn, org.netlib.util.doubleW dn1, org.netlib.util.doubleW dn2, org.netlib.util.doubleW tau) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dlazq4K(int i0, int n0, double[] z, int offsetz, int pp, int n0in, double dmin, double dmin1, double dmin2, double dn, double dn1, double dn2, org.netlib.util.doubleW tau, org.netlib.util.intW ttype, org.netlib.util.doubleW g) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static final MethodHandle dopgtr_ = downcallHandle("dopgtr_", null, 8);
+
+  protected void dopgtrK(String uplo, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dopgtrSegmentK(uplo, n, segment(ap, offsetap), segment(tau, offsettau), segment(q, offsetq), ldq, segment(work, offsetwork), info);
+  }
+
+  private void dopgtrSegmentK(String uplo, int n, MemorySegment ap, MemorySegment tau, MemorySegment q, int ldq, MemorySegment work, org.netlib.util.intW info) {
+    if (dopgtr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dopgtr_.invokeExact(string(uplo), value(n), ap, tau, q, value(ldq), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dopmtr_ = downcallHandle("dopmtr_", null, 11);
+
+  protected void dopmtrK(String side, String uplo, String trans, int m, int n, double[] ap, int offsetap, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dopmtrSegmentK(side, uplo, trans, m, n, segment(ap, offsetap), segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void dopmtrSegmentK(String side, String uplo, String trans, int m, int n, MemorySegment ap, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (dopmtr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dopmtr_.invokeExact(string(side), string(uplo), string(trans), value(m), value(n), ap, tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorg2l_ = downcallHandle("dorg2l_", null, 8);
+
+  protected void dorg2lK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dorg2lSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dorg2lSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dorg2l_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorg2l_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorg2r_ = downcallHandle("dorg2r_", null, 8);
+
+  protected void dorg2rK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dorg2rSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dorg2rSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dorg2r_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorg2r_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorgbr_ = downcallHandle("dorgbr_", null, 10);
+
+  protected void dorgbrK(String vect, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dorgbrSegmentK(vect, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dorgbrSegmentK(String vect, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dorgbr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorgbr_.invokeExact(string(vect), value(m), value(n), value(k), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorghr_ = downcallHandle("dorghr_", null, 9);
+
+  protected void dorghrK(int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dorghrSegmentK(n, ilo, ihi, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dorghrSegmentK(int n, int ilo, int ihi, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dorghr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorghr_.invokeExact(value(n), value(ilo), value(ihi), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorgl2_ = downcallHandle("dorgl2_", null, 8);
+
+  protected void dorgl2K(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dorgl2SegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dorgl2SegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dorgl2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorgl2_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorglq_ = downcallHandle("dorglq_", null, 9);
+
+  protected void dorglqK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dorglqSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dorglqSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dorglq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorglq_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorgql_ = downcallHandle("dorgql_", null, 9);
+
+  protected void dorgqlK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dorgqlSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dorgqlSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dorgql_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorgql_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorgqr_ = downcallHandle("dorgqr_", null, 9);
+
+  protected void dorgqrK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dorgqrSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  protected void dorgqrK(int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(tau) && isSegment(work)) {
+      dorgqrSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+    } else {
+      super.dorgqrK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void dorgqrSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dorgqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorgqr_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorgr2_ = downcallHandle("dorgr2_", null, 8);
+
+  protected void dorgr2K(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dorgr2SegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void dorgr2SegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (dorgr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorgr2_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorgrq_ = downcallHandle("dorgrq_", null, 9);
+
+  protected void dorgrqK(int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dorgrqSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dorgrqSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dorgrq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorgrq_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorgtr_ = downcallHandle("dorgtr_", null, 8);
+
+  protected void dorgtrK(String uplo, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dorgtrSegmentK(uplo, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dorgtrSegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dorgtr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorgtr_.invokeExact(string(uplo), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorm2l_ = downcallHandle("dorm2l_", null, 12);
+
+  protected void dorm2lK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dorm2lSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void dorm2lSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (dorm2l_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorm2l_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorm2r_ = downcallHandle("dorm2r_", null, 12);
+
+  protected void dorm2rK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dorm2rSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void dorm2rSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (dorm2r_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorm2r_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dormbr_ = downcallHandle("dormbr_", null, 14);
+
+  protected void dormbrK(String vect, String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dormbrSegmentK(vect, side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dormbrSegmentK(String vect, String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dormbr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dormbr_.invokeExact(string(vect), string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dormhr_ = downcallHandle("dormhr_", null, 14);
+
+  protected void dormhrK(String side, String trans, int m, int n, int ilo, int ihi, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dormhrSegmentK(side, trans, m, n, ilo, ihi, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dormhrSegmentK(String side, String trans, int m, int n, int ilo, int ihi, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dormhr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dormhr_.invokeExact(string(side), string(trans), value(m), value(n), value(ilo), value(ihi), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dorml2_ = downcallHandle("dorml2_", null, 12);
+
+  protected void dorml2K(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dorml2SegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void dorml2SegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (dorml2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dorml2_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dormlq_ = downcallHandle("dormlq_", null, 13);
+
+  protected void dormlqK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dormlqSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dormlqSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dormlq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dormlq_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dormql_ = downcallHandle("dormql_", null, 13);
+
+  protected void dormqlK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dormqlSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dormqlSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dormql_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dormql_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dormqr_ = downcallHandle("dormqr_", null, 13);
+
+  protected void dormqrK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dormqrSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  protected void dormqrK(String side, String trans, int m, int n, int k, DoubleBuffer a, int offseta, int lda, DoubleBuffer tau, int offsettau, DoubleBuffer c, int offsetc, int Ldc, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(tau) && isSegment(c) && isSegment(work)) {
+      dormqrSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+    } else {
+      super.dormqrK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void dormqrSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dormqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dormqr_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dormr2_ = downcallHandle("dormr2_", null, 12);
+
+  protected void dormr2K(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dormr2SegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void dormr2SegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (dormr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dormr2_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dormr3_ = downcallHandle("dormr3_", null, 13);
+
+  protected void dormr3K(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dormr3SegmentK(side, trans, m, n, k, l, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void dormr3SegmentK(String side, String trans, int m, int n, int k, int l, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (dormr3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dormr3_.invokeExact(string(side), string(trans), value(m), value(n), value(k), value(l), a, value(lda), tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dormrq_ = downcallHandle("dormrq_", null, 13);
+
+  protected void dormrqK(String side, String trans, int m, int n, int k, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dormrqSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dormrqSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dormrq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dormrq_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dormrz_ = downcallHandle("dormrz_", null, 14);
+
+  protected void dormrzK(String side, String trans, int m, int n, int k, int l, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dormrzSegmentK(side, trans, m, n, k, l, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dormrzSegmentK(String side, String trans, int m, int n, int k, int l, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dormrz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dormrz_.invokeExact(string(side), string(trans), value(m), value(n), value(k), value(l), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dormtr_ = downcallHandle("dormtr_", null, 13);
+
+  protected void dormtrK(String side, String uplo, String trans, int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] c, int offsetc, int Ldc, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dormtrSegmentK(side, uplo, trans, m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dormtrSegmentK(String side, String uplo, String trans, int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dormtr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dormtr_.invokeExact(string(side), string(uplo), string(trans), value(m), value(n), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpbcon_ = downcallHandle("dpbcon_", null, 10);
+
+  protected void dpbconK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dpbconSegmentK(uplo, n, kd, segment(ab, offsetab), ldab, anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dpbconSegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, double anorm, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dpbcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dpbcon_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpbequ_ = downcallHandle("dpbequ_", null, 9);
+
+  protected void dpbequK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    dpbequSegmentK(uplo, n, kd, segment(ab, offsetab), ldab, segment(s, offsets), scond, amax, info);
+  }
+
+  private void dpbequSegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment s, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (dpbequ_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scond = { scond.val };
+    double[] __amax = { amax.val };
+    int[] __info = { info.val };
+    try {
+      dpbequ_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), s, MemorySegment.ofArray(__scond), MemorySegment.ofArray(__amax), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scond.val = __scond[0];
+    amax.val = __amax[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpbrfs_ = downcallHandle("dpbrfs_", null, 17);
+
+  protected void dpbrfsK(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dpbrfsSegmentK(uplo, n, kd, nrhs, segment(ab, offsetab), ldab, segment(afb, offsetafb), ldafb, segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dpbrfsSegmentK(String uplo, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment afb, int ldafb, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dpbrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpbrfs_.invokeExact(string(uplo), value(n), value(kd), value(nrhs), ab, value(ldab), afb, value(ldafb), b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpbstf_ = downcallHandle("dpbstf_", null, 6);
+
+  protected void dpbstfK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    dpbstfSegmentK(uplo, n, kd, segment(ab, offsetab), ldab, info);
+  }
+
+  private void dpbstfSegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, org.netlib.util.intW info) {
+    if (dpbstf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpbstf_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpbsv_ = downcallHandle("dpbsv_", null, 9);
+
+  protected void dpbsvK(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dpbsvSegmentK(uplo, n, kd, nrhs, segment(ab, offsetab), ldab, segment(b, offsetb), ldb, info);
+  }
+
+  private void dpbsvSegmentK(String uplo, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dpbsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpbsv_.invokeExact(string(uplo), value(n), value(kd), value(nrhs), ab, value(ldab), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpbsvx_ = downcallHandle("dpbsvx_", null, 21);
+
+  protected void dpbsvxK(String fact, String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dpbsvxSegmentK(fact, uplo, n, kd, nrhs, segment(ab, offsetab), ldab, segment(afb, offsetafb), ldafb, equed, segment(s, offsets), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dpbsvxSegmentK(String fact, String uplo, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment afb, int ldafb, org.netlib.util.StringW equed, MemorySegment s, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.doubleW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dpbsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dpbsvx_.invokeExact(string(fact), string(uplo), value(n), value(kd), value(nrhs), ab, value(ldab), afb, value(ldafb), MemorySegment.ofArray(__equed), s, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpbtf2_ = downcallHandle("dpbtf2_", null, 6);
+
+  protected void dpbtf2K(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    dpbtf2SegmentK(uplo, n, kd, segment(ab, offsetab), ldab, info);
+  }
+
+  private void dpbtf2SegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, org.netlib.util.intW info) {
+    if (dpbtf2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpbtf2_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpbtrf_ = downcallHandle("dpbtrf_", null, 6);
+
+  protected void dpbtrfK(String uplo, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    dpbtrfSegmentK(uplo, n, kd, segment(ab, offsetab), ldab, info);
+  }
+
+  private void dpbtrfSegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, org.netlib.util.intW info) {
+    if (dpbtrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpbtrf_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpbtrs_ = downcallHandle("dpbtrs_", null, 9);
+
+  protected void dpbtrsK(String uplo, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dpbtrsSegmentK(uplo, n, kd, nrhs, segment(ab, offsetab), ldab, segment(b, offsetb), ldb, info);
+  }
+
+  private void dpbtrsSegmentK(String uplo, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dpbtrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpbtrs_.invokeExact(string(uplo), value(n), value(kd), value(nrhs), ab, value(ldab), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpocon_ = downcallHandle("dpocon_", null, 9);
+
+  protected void dpoconK(String uplo, int n, double[] a, int offseta, int lda, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dpoconSegmentK(uplo, n, segment(a, offseta), lda, anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dpoconSegmentK(String uplo, int n, MemorySegment a, int lda, double anorm, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dpocon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dpocon_.invokeExact(string(uplo), value(n), a, value(lda), value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpoequ_ = downcallHandle("dpoequ_", null, 7);
+
+  protected void dpoequK(int n, double[] a, int offseta, int lda, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    dpoequSegmentK(n, segment(a, offseta), lda, segment(s, offsets), scond, amax, info);
+  }
+
+  private void dpoequSegmentK(int n, MemorySegment a, int lda, MemorySegment s, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (dpoequ_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scond = { scond.val };
+    double[] __amax = { amax.val };
+    int[] __info = { info.val };
+    try {
+      dpoequ_.invokeExact(value(n), a, value(lda), s, MemorySegment.ofArray(__scond), MemorySegment.ofArray(__amax), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scond.val = __scond[0];
+    amax.val = __amax[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dporfs_ = downcallHandle("dporfs_", null, 16);
+
+  protected void dporfsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dporfsSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dporfsSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dporfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dporfs_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), af, value(ldaf), b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dposv_ = downcallHandle("dposv_", null, 8);
+
+  protected void dposvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dposvSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+  }
+
+  protected void dposvK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(b)) {
+      dposvSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+    } else {
+      super.dposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private void dposvSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dposv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dposv_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dposvx_ = downcallHandle("dposvx_", null, 20);
+
+  protected void dposvxK(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dposvxSegmentK(fact, uplo, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, equed, segment(s, offsets), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dposvxSegmentK(String fact, String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, org.netlib.util.StringW equed, MemorySegment s, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.doubleW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dposvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dposvx_.invokeExact(string(fact), string(uplo), value(n), value(nrhs), a, value(lda), af, value(ldaf), MemorySegment.ofArray(__equed), s, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpotf2_ = downcallHandle("dpotf2_", null, 5);
+
+  protected void dpotf2K(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    dpotf2SegmentK(uplo, n, segment(a, offseta), lda, info);
+  }
+
+  private void dpotf2SegmentK(String uplo, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (dpotf2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpotf2_.invokeExact(string(uplo), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpotrf_ = downcallHandle("dpotrf_", null, 5);
+
+  protected void dpotrfK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    dpotrfSegmentK(uplo, n, segment(a, offseta), lda, info);
+  }
+
+  protected void dpotrfK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (isSegment(a)) {
+      dpotrfSegmentK(uplo, n, segment(a, offseta), lda, info);
+    } else {
+      super.dpotrfK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  private void dpotrfSegmentK(String uplo, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (dpotrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpotrf_.invokeExact(string(uplo), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpotri_ = downcallHandle("dpotri_", null, 5);
+
+  protected void dpotriK(String uplo, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    dpotriSegmentK(uplo, n, segment(a, offseta), lda, info);
+  }
+
+  protected void dpotriK(String uplo, int n, DoubleBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (isSegment(a)) {
+      dpotriSegmentK(uplo, n, segment(a, offseta), lda, info);
+    } else {
+      super.dpotriK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  private void dpotriSegmentK(String uplo, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (dpotri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpotri_.invokeExact(string(uplo), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpotrs_ = downcallHandle("dpotrs_", null, 8);
+
+  protected void dpotrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dpotrsSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+  }
+
+  protected void dpotrsK(String uplo, int n, int nrhs, DoubleBuffer a, int offseta, int lda, DoubleBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(b)) {
+      dpotrsSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+    } else {
+      super.dpotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private void dpotrsSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dpotrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpotrs_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dppcon_ = downcallHandle("dppcon_", null, 8);
+
+  protected void dppconK(String uplo, int n, double[] ap, int offsetap, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dppconSegmentK(uplo, n, segment(ap, offsetap), anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dppconSegmentK(String uplo, int n, MemorySegment ap, double anorm, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dppcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dppcon_.invokeExact(string(uplo), value(n), ap, value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dppequ_ = downcallHandle("dppequ_", null, 7);
+
+  protected void dppequK(String uplo, int n, double[] ap, int offsetap, double[] s, int offsets, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    dppequSegmentK(uplo, n, segment(ap, offsetap), segment(s, offsets), scond, amax, info);
+  }
+
+  private void dppequSegmentK(String uplo, int n, MemorySegment ap, MemorySegment s, org.netlib.util.doubleW scond, org.netlib.util.doubleW amax, org.netlib.util.intW info) {
+    if (dppequ_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scond = { scond.val };
+    double[] __amax = { amax.val };
+    int[] __info = { info.val };
+    try {
+      dppequ_.invokeExact(string(uplo), value(n), ap, s, MemorySegment.ofArray(__scond), MemorySegment.ofArray(__amax), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scond.val = __scond[0];
+    amax.val = __amax[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpprfs_ = downcallHandle("dpprfs_", null, 14);
+
+  protected void dpprfsK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dpprfsSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(afp, offsetafp), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dpprfsSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment afp, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dpprfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpprfs_.invokeExact(string(uplo), value(n), value(nrhs), ap, afp, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dppsv_ = downcallHandle("dppsv_", null, 7);
+
+  protected void dppsvK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dppsvSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(b, offsetb), ldb, info);
+  }
+
+  private void dppsvSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dppsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dppsv_.invokeExact(string(uplo), value(n), value(nrhs), ap, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dppsvx_ = downcallHandle("dppsvx_", null, 18);
+
+  protected void dppsvxK(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, org.netlib.util.StringW equed, double[] s, int offsets, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dppsvxSegmentK(fact, uplo, n, nrhs, segment(ap, offsetap), segment(afp, offsetafp), equed, segment(s, offsets), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dppsvxSegmentK(String fact, String uplo, int n, int nrhs, MemorySegment ap, MemorySegment afp, org.netlib.util.StringW equed, MemorySegment s, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.doubleW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dppsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dppsvx_.invokeExact(string(fact), string(uplo), value(n), value(nrhs), ap, afp, MemorySegment.ofArray(__equed), s, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpptrf_ = downcallHandle("dpptrf_", null, 4);
+
+  protected void dpptrfK(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    dpptrfSegmentK(uplo, n, segment(ap, offsetap), info);
+  }
+
+  private void dpptrfSegmentK(String uplo, int n, MemorySegment ap, org.netlib.util.intW info) {
+    if (dpptrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpptrf_.invokeExact(string(uplo), value(n), ap, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpptri_ = downcallHandle("dpptri_", null, 4);
+
+  protected void dpptriK(String uplo, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    dpptriSegmentK(uplo, n, segment(ap, offsetap), info);
+  }
+
+  private void dpptriSegmentK(String uplo, int n, MemorySegment ap, org.netlib.util.intW info) {
+    if (dpptri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpptri_.invokeExact(string(uplo), value(n), ap, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpptrs_ = downcallHandle("dpptrs_", null, 7);
+
+  protected void dpptrsK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dpptrsSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(b, offsetb), ldb, info);
+  }
+
+  private void dpptrsSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dpptrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpptrs_.invokeExact(string(uplo), value(n), value(nrhs), ap, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dptcon_ = downcallHandle("dptcon_", null, 7);
+
+  protected void dptconK(int n, double[] d, int offsetd, double[] e, int offsete, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dptconSegmentK(n, segment(d, offsetd), segment(e, offsete), anorm, rcond, segment(work, offsetwork), info);
+  }
+
+  private void dptconSegmentK(int n, MemorySegment d, MemorySegment e, double anorm, org.netlib.util.doubleW rcond, MemorySegment work, org.netlib.util.intW info) {
+    if (dptcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dptcon_.invokeExact(value(n), d, e, value(anorm), MemorySegment.ofArray(__rcond), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpteqr_ = downcallHandle("dpteqr_", null, 8);
+
+  protected void dpteqrK(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dpteqrSegmentK(compz, n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void dpteqrSegmentK(String compz, int n, MemorySegment d, MemorySegment e, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (dpteqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpteqr_.invokeExact(string(compz), value(n), d, e, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dptrfs_ = downcallHandle("dptrfs_", null, 14);
+
+  protected void dptrfsK(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dptrfsSegmentK(n, nrhs, segment(d, offsetd), segment(e, offsete), segment(df, offsetdf), segment(ef, offsetef), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), info);
+  }
+
+  private void dptrfsSegmentK(int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment df, MemorySegment ef, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, org.netlib.util.intW info) {
+    if (dptrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dptrfs_.invokeExact(value(n), value(nrhs), d, e, df, ef, b, value(ldb), x, value(ldx), ferr, berr, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dptsv_ = downcallHandle("dptsv_", null, 7);
+
+  protected void dptsvK(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dptsvSegmentK(n, nrhs, segment(d, offsetd), segment(e, offsete), segment(b, offsetb), ldb, info);
+  }
+
+  private void dptsvSegmentK(int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dptsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dptsv_.invokeExact(value(n), value(nrhs), d, e, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dptsvx_ = downcallHandle("dptsvx_", null, 16);
+
+  protected void dptsvxK(String fact, int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] df, int offsetdf, double[] ef, int offsetef, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dptsvxSegmentK(fact, n, nrhs, segment(d, offsetd), segment(e, offsete), segment(df, offsetdf), segment(ef, offsetef), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), info);
+  }
+
+  private void dptsvxSegmentK(String fact, int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment df, MemorySegment ef, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.doubleW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, org.netlib.util.intW info) {
+    if (dptsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dptsvx_.invokeExact(string(fact), value(n), value(nrhs), d, e, df, ef, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpttrf_ = downcallHandle("dpttrf_", null, 4);
+
+  protected void dpttrfK(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    dpttrfSegmentK(n, segment(d, offsetd), segment(e, offsete), info);
+  }
+
+  private void dpttrfSegmentK(int n, MemorySegment d, MemorySegment e, org.netlib.util.intW info) {
+    if (dpttrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpttrf_.invokeExact(value(n), d, e, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dpttrs_ = downcallHandle("dpttrs_", null, 7);
+
+  protected void dpttrsK(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dpttrsSegmentK(n, nrhs, segment(d, offsetd), segment(e, offsete), segment(b, offsetb), ldb, info);
+  }
+
+  private void dpttrsSegmentK(int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dpttrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dpttrs_.invokeExact(value(n), value(nrhs), d, e, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dptts2_ = downcallHandle("dptts2_", null, 6);
+
+  protected void dptts2K(int n, int nrhs, double[] d, int offsetd, double[] e, int offsete, double[] b, int offsetb, int ldb) {
+    dptts2SegmentK(n, nrhs, segment(d, offsetd), segment(e, offsete), segment(b, offsetb), ldb);
+  }
+
+  private void dptts2SegmentK(int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment b, int ldb) {
+    if (dptts2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      dptts2_.invokeExact(value(n), value(nrhs), d, e, b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle drscl_ = downcallHandle("drscl_", null, 4);
+
+  protected void drsclK(int n, double sa, double[] sx, int offsetsx, int incx) {
+    drsclSegmentK(n, sa, segment(sx, offsetsx), incx);
+  }
+
+  private void drsclSegmentK(int n, double sa, MemorySegment sx, int incx) {
+    if (drscl_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      drscl_.invokeExact(value(n), value(sa), sx, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle dsbev_ = downcallHandle("dsbev_", null, 11);
+
+  protected void dsbevK(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dsbevSegmentK(jobz, uplo, n, kd, segment(ab, offsetab), ldab, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void dsbevSegmentK(String jobz, String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (dsbev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsbev_.invokeExact(string(jobz), string(uplo), value(n), value(kd), ab, value(ldab), w, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsbevd_ = downcallHandle("dsbevd_", null, 14);
+
+  protected void dsbevdK(String jobz, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dsbevdSegmentK(jobz, uplo, n, kd, segment(ab, offsetab), ldab, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dsbevdSegmentK(String jobz, String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dsbevd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsbevd_.invokeExact(string(jobz), string(uplo), value(n), value(kd), ab, value(ldab), w, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsbevx_ = downcallHandle("dsbevx_", null, 22);
+
+  protected void dsbevxK(String jobz, String range, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    dsbevxSegmentK(jobz, range, uplo, n, kd, segment(ab, offsetab), ldab, segment(q, offsetq), ldq, vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void dsbevxSegmentK(String jobz, String range, String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment q, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (dsbevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dsbevx_.invokeExact(string(jobz), string(range), string(uplo), value(n), value(kd), ab, value(ldab), q, value(ldq), value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsbgst_ = downcallHandle("dsbgst_", null, 13);
+
+  protected void dsbgstK(String vect, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dsbgstSegmentK(vect, uplo, n, ka, kb, segment(ab, offsetab), ldab, segment(bb, offsetbb), ldbb, segment(x, offsetx), ldx, segment(work, offsetwork), info);
+  }
+
+  private void dsbgstSegmentK(String vect, String uplo, int n, int ka, int kb, MemorySegment ab, int ldab, MemorySegment bb, int ldbb, MemorySegment x, int ldx, MemorySegment work, org.netlib.util.intW info) {
+    if (dsbgst_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsbgst_.invokeExact(string(vect), string(uplo), value(n), value(ka), value(kb), ab, value(ldab), bb, value(ldbb), x, value(ldx), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsbgv_ = downcallHandle("dsbgv_", null, 14);
+
+  protected void dsbgvK(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dsbgvSegmentK(jobz, uplo, n, ka, kb, segment(ab, offsetab), ldab, segment(bb, offsetbb), ldbb, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void dsbgvSegmentK(String jobz, String uplo, int n, int ka, int kb, MemorySegment ab, int ldab, MemorySegment bb, int ldbb, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (dsbgv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsbgv_.invokeExact(string(jobz), string(uplo), value(n), value(ka), value(kb), ab, value(ldab), bb, value(ldbb), w, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsbgvd_ = downcallHandle("dsbgvd_", null, 17);
+
+  protected void dsbgvdK(String jobz, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dsbgvdSegmentK(jobz, uplo, n, ka, kb, segment(ab, offsetab), ldab, segment(bb, offsetbb), ldbb, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dsbgvdSegmentK(String jobz, String uplo, int n, int ka, int kb, MemorySegment ab, int ldab, MemorySegment bb, int ldbb, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dsbgvd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsbgvd_.invokeExact(string(jobz), string(uplo), value(n), value(ka), value(kb), ab, value(ldab), bb, value(ldbb), w, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsbgvx_ = downcallHandle("dsbgvx_", null, 25);
+
+  protected void dsbgvxK(String jobz, String range, String uplo, int n, int ka, int kb, double[] ab, int offsetab, int ldab, double[] bb, int offsetbb, int ldbb, double[] q, int offsetq, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    dsbgvxSegmentK(jobz, range, uplo, n, ka, kb, segment(ab, offsetab), ldab, segment(bb, offsetbb), ldbb, segment(q, offsetq), ldq, vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void dsbgvxSegmentK(String jobz, String range, String uplo, int n, int ka, int kb, MemorySegment ab, int ldab, MemorySegment bb, int ldbb, MemorySegment q, int ldq, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (dsbgvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dsbgvx_.invokeExact(string(jobz), string(range), string(uplo), value(n), value(ka), value(kb), ab, value(ldab), bb, value(ldbb), q, value(ldq), value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsbtrd_ = downcallHandle("dsbtrd_", null, 12);
+
+  protected void dsbtrdK(String vect, String uplo, int n, int kd, double[] ab, int offsetab, int ldab, double[] d, int offsetd, double[] e, int offsete, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dsbtrdSegmentK(vect, uplo, n, kd, segment(ab, offsetab), ldab, segment(d, offsetd), segment(e, offsete), segment(q, offsetq), ldq, segment(work, offsetwork), info);
+  }
+
+  private void dsbtrdSegmentK(String vect, String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment d, MemorySegment e, MemorySegment q, int ldq, MemorySegment work, org.netlib.util.intW info) {
+    if (dsbtrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsbtrd_.invokeExact(string(vect), string(uplo), value(n), value(kd), ab, value(ldab), d, e, q, value(ldq), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsgesv_ = downcallHandle("dsgesv_", null, 13);
+
+  protected void dsgesvK(int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] work, int offsetwork, float[] swork, int offsetswork, org.netlib.util.intW iter, org.netlib.util.intW info) {
+    dsgesvSegmentK(n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(work, offsetwork), segment(swork, offsetswork), iter, info);
+  }
+
+  private void dsgesvSegmentK(int n, int nrhs, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment work, MemorySegment swork, org.netlib.util.intW iter, org.netlib.util.intW info) {
+    if (dsgesv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __iter = { iter.val };
+    int[] __info = { info.val };
+    try {
+      dsgesv_.invokeExact(value(n), value(nrhs), a, value(lda), ipiv, b, value(ldb), x, value(ldx), work, swork, MemorySegment.ofArray(__iter), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    iter.val = __iter[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dspcon_ = downcallHandle("dspcon_", null, 9);
+
+  protected void dspconK(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dspconSegmentK(uplo, n, segment(ap, offsetap), segment(ipiv, offsetipiv), anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dspconSegmentK(String uplo, int n, MemorySegment ap, MemorySegment ipiv, double anorm, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dspcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dspcon_.invokeExact(string(uplo), value(n), ap, ipiv, value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dspev_ = downcallHandle("dspev_", null, 9);
+
+  protected void dspevK(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dspevSegmentK(jobz, uplo, n, segment(ap, offsetap), segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void dspevSegmentK(String jobz, String uplo, int n, MemorySegment ap, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (dspev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dspev_.invokeExact(string(jobz), string(uplo), value(n), ap, w, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dspevd_ = downcallHandle("dspevd_", null, 12);
+
+  protected void dspevdK(String jobz, String uplo, int n, double[] ap, int offsetap, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dspevdSegmentK(jobz, uplo, n, segment(ap, offsetap), segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dspevdSegmentK(String jobz, String uplo, int n, MemorySegment ap, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dspevd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dspevd_.invokeExact(string(jobz), string(uplo), value(n), ap, w, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dspevx_ = downcallHandle("dspevx_", null, 18);
+
+  protected void dspevxK(String jobz, String range, String uplo, int n, double[] ap, int offsetap, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    dspevxSegmentK(jobz, range, uplo, n, segment(ap, offsetap), vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void dspevxSegmentK(String jobz, String range, String uplo, int n, MemorySegment ap, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (dspevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dspevx_.invokeExact(string(jobz), string(range), string(uplo), value(n), ap, value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dspgst_ = downcallHandle("dspgst_", null, 6);
+
+  protected void dspgstK(int itype, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, org.netlib.util.intW info) {
+    dspgstSegmentK(itype, uplo, n, segment(ap, offsetap), segment(bp, offsetbp), info);
+  }
+
+  private void dspgstSegmentK(int itype, String uplo, int n, MemorySegment ap, MemorySegment bp, org.netlib.util.intW info) {
+    if (dspgst_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dspgst_.invokeExact(value(itype), string(uplo), value(n), ap, bp, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dspgv_ = downcallHandle("dspgv_", null, 11);
+
+  protected void dspgvK(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dspgvSegmentK(itype, jobz, uplo, n, segment(ap, offsetap), segment(bp, offsetbp), segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void dspgvSegmentK(int itype, String jobz, String uplo, int n, MemorySegment ap, MemorySegment bp, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (dspgv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dspgv_.invokeExact(value(itype), string(jobz), string(uplo), value(n), ap, bp, w, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dspgvd_ = downcallHandle("dspgvd_", null, 14);
+
+  protected void dspgvdK(int itype, String jobz, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dspgvdSegmentK(itype, jobz, uplo, n, segment(ap, offsetap), segment(bp, offsetbp), segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dspgvdSegmentK(int itype, String jobz, String uplo, int n, MemorySegment ap, MemorySegment bp, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dspgvd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dspgvd_.invokeExact(value(itype), string(jobz), string(uplo), value(n), ap, bp, w, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dspgvx_ = downcallHandle("dspgvx_", null, 20);
+
+  protected void dspgvxK(int itype, String jobz, String range, String uplo, int n, double[] ap, int offsetap, double[] bp, int offsetbp, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    dspgvxSegmentK(itype, jobz, range, uplo, n, segment(ap, offsetap), segment(bp, offsetbp), vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void dspgvxSegmentK(int itype, String jobz, String range, String uplo, int n, MemorySegment ap, MemorySegment bp, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (dspgvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dspgvx_.invokeExact(value(itype), string(jobz), string(range), string(uplo), value(n), ap, bp, value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsprfs_ = downcallHandle("dsprfs_", null, 15);
+
+  protected void dsprfsK(String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dsprfsSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(afp, offsetafp), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dsprfsSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment afp, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dsprfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsprfs_.invokeExact(string(uplo), value(n), value(nrhs), ap, afp, ipiv, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dspsv_ = downcallHandle("dspsv_", null, 8);
+
+  protected void dspsvK(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dspsvSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void dspsvSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dspsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dspsv_.invokeExact(string(uplo), value(n), value(nrhs), ap, ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dspsvx_ = downcallHandle("dspsvx_", null, 17);
+
+  protected void dspsvxK(String fact, String uplo, int n, int nrhs, double[] ap, int offsetap, double[] afp, int offsetafp, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dspsvxSegmentK(fact, uplo, n, nrhs, segment(ap, offsetap), segment(afp, offsetafp), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dspsvxSegmentK(String fact, String uplo, int n, int nrhs, MemorySegment ap, MemorySegment afp, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.doubleW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dspsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dspsvx_.invokeExact(string(fact), string(uplo), value(n), value(nrhs), ap, afp, ipiv, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsptrd_ = downcallHandle("dsptrd_", null, 7);
+
+  protected void dsptrdK(String uplo, int n, double[] ap, int offsetap, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info) {
+    dsptrdSegmentK(uplo, n, segment(ap, offsetap), segment(d, offsetd), segment(e, offsete), segment(tau, offsettau), info);
+  }
+
+  private void dsptrdSegmentK(String uplo, int n, MemorySegment ap, MemorySegment d, MemorySegment e, MemorySegment tau, org.netlib.util.intW info) {
+    if (dsptrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsptrd_.invokeExact(string(uplo), value(n), ap, d, e, tau, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsptrf_ = downcallHandle("dsptrf_", null, 5);
+
+  protected void dsptrfK(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    dsptrfSegmentK(uplo, n, segment(ap, offsetap), segment(ipiv, offsetipiv), info);
+  }
+
+  private void dsptrfSegmentK(String uplo, int n, MemorySegment ap, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (dsptrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsptrf_.invokeExact(string(uplo), value(n), ap, ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsptri_ = downcallHandle("dsptri_", null, 6);
+
+  protected void dsptriK(String uplo, int n, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dsptriSegmentK(uplo, n, segment(ap, offsetap), segment(ipiv, offsetipiv), segment(work, offsetwork), info);
+  }
+
+  private void dsptriSegmentK(String uplo, int n, MemorySegment ap, MemorySegment ipiv, MemorySegment work, org.netlib.util.intW info) {
+    if (dsptri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsptri_.invokeExact(string(uplo), value(n), ap, ipiv, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsptrs_ = downcallHandle("dsptrs_", null, 8);
+
+  protected void dsptrsK(String uplo, int n, int nrhs, double[] ap, int offsetap, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dsptrsSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void dsptrsSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dsptrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsptrs_.invokeExact(string(uplo), value(n), value(nrhs), ap, ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dstebz_ = downcallHandle("dstebz_", null, 18);
+
+  protected void dstebzK(String range, String order, int n, double vl, double vu, int il, int iu, double abstol, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dstebzSegmentK(range, order, n, vl, vu, il, iu, abstol, segment(d, offsetd), segment(e, offsete), m, nsplit, segment(w, offsetw), segment(iblock, offsetiblock), segment(isplit, offsetisplit), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dstebzSegmentK(String range, String order, int n, double vl, double vu, int il, int iu, double abstol, MemorySegment d, MemorySegment e, org.netlib.util.intW m, org.netlib.util.intW nsplit, MemorySegment w, MemorySegment iblock, MemorySegment isplit, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dstebz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __nsplit = { nsplit.val };
+    int[] __info = { info.val };
+    try {
+      dstebz_.invokeExact(string(range), string(order), value(n), value(vl), value(vu), value(il), value(iu), value(abstol), d, e, MemorySegment.ofArray(__m), MemorySegment.ofArray(__nsplit), w, iblock, isplit, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    nsplit.val = __nsplit[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dstedc_ = downcallHandle("dstedc_", null, 11);
+
+  protected void dstedcK(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dstedcSegmentK(compz, n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dstedcSegmentK(String compz, int n, MemorySegment d, MemorySegment e, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dstedc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dstedc_.invokeExact(string(compz), value(n), d, e, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dstegr_ = downcallHandle("dstegr_", null, 20);
+
+  protected void dstegrK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dstegrSegmentK(jobz, range, n, segment(d, offsetd), segment(e, offsete), vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(isuppz, offsetisuppz), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dstegrSegmentK(String jobz, String range, int n, MemorySegment d, MemorySegment e, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment isuppz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dstegr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dstegr_.invokeExact(string(jobz), string(range), value(n), d, e, value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), isuppz, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dstein_ = downcallHandle("dstein_", null, 13);
+
+  protected void dsteinK(int n, double[] d, int offsetd, double[] e, int offsete, int m, double[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    dsteinSegmentK(n, segment(d, offsetd), segment(e, offsete), m, segment(w, offsetw), segment(iblock, offsetiblock), segment(isplit, offsetisplit), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void dsteinSegmentK(int n, MemorySegment d, MemorySegment e, int m, MemorySegment w, MemorySegment iblock, MemorySegment isplit, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (dstein_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dstein_.invokeExact(value(n), d, e, value(m), w, iblock, isplit, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dstemr_ = downcallHandle("dstemr_", null, 21);
+
+  protected void dstemrK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dstemrSegmentK(jobz, range, n, segment(d, offsetd), segment(e, offsete), vl, vu, il, iu, m, segment(w, offsetw), segment(z, offsetz), ldz, nzc, segment(isuppz, offsetisuppz), tryrac, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dstemrSegmentK(String jobz, String range, int n, MemorySegment d, MemorySegment e, double vl, double vu, int il, int iu, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, int nzc, MemorySegment isuppz, org.netlib.util.booleanW tryrac, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dstemr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __tryrac = { tryrac.val ? 1 : 0 };
+    int[] __info = { info.val };
+    try {
+      dstemr_.invokeExact(string(jobz), string(range), value(n), d, e, value(vl), value(vu), value(il), value(iu), MemorySegment.ofArray(__m), w, z, value(ldz), value(nzc), isuppz, MemorySegment.ofArray(__tryrac), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    tryrac.val = __tryrac[0] != 0;
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsteqr_ = downcallHandle("dsteqr_", null, 8);
+
+  protected void dsteqrK(String compz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dsteqrSegmentK(compz, n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void dsteqrSegmentK(String compz, int n, MemorySegment d, MemorySegment e, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (dsteqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsteqr_.invokeExact(string(compz), value(n), d, e, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsterf_ = downcallHandle("dsterf_", null, 4);
+
+  protected void dsterfK(int n, double[] d, int offsetd, double[] e, int offsete, org.netlib.util.intW info) {
+    dsterfSegmentK(n, segment(d, offsetd), segment(e, offsete), info);
+  }
+
+  private void dsterfSegmentK(int n, MemorySegment d, MemorySegment e, org.netlib.util.intW info) {
+    if (dsterf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsterf_.invokeExact(value(n), d, e, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dstev_ = downcallHandle("dstev_", null, 8);
+
+  protected void dstevK(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dstevSegmentK(jobz, n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void dstevSegmentK(String jobz, int n, MemorySegment d, MemorySegment e, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (dstev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dstev_.invokeExact(string(jobz), value(n), d, e, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dstevd_ = downcallHandle("dstevd_", null, 11);
+
+  protected void dstevdK(String jobz, int n, double[] d, int offsetd, double[] e, int offsete, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dstevdSegmentK(jobz, n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dstevdSegmentK(String jobz, int n, MemorySegment d, MemorySegment e, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dstevd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dstevd_.invokeExact(string(jobz), value(n), d, e, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dstevr_ = downcallHandle("dstevr_", null, 20);
+
+  protected void dstevrK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dstevrSegmentK(jobz, range, n, segment(d, offsetd), segment(e, offsete), vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(isuppz, offsetisuppz), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dstevrSegmentK(String jobz, String range, int n, MemorySegment d, MemorySegment e, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment isuppz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dstevr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dstevr_.invokeExact(string(jobz), string(range), value(n), d, e, value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), isuppz, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dstevx_ = downcallHandle("dstevx_", null, 18);
+
+  protected void dstevxK(String jobz, String range, int n, double[] d, int offsetd, double[] e, int offsete, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    dstevxSegmentK(jobz, range, n, segment(d, offsetd), segment(e, offsete), vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void dstevxSegmentK(String jobz, String range, int n, MemorySegment d, MemorySegment e, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (dstevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dstevx_.invokeExact(string(jobz), string(range), value(n), d, e, value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsycon_ = downcallHandle("dsycon_", null, 10);
+
+  protected void dsyconK(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double anorm, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dsyconSegmentK(uplo, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dsyconSegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment ipiv, double anorm, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dsycon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dsycon_.invokeExact(string(uplo), value(n), a, value(lda), ipiv, value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsyev_ = downcallHandle("dsyev_", null, 9);
+
+  protected void dsyevK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dsyevSegmentK(jobz, uplo, n, segment(a, offseta), lda, segment(w, offsetw), segment(work, offsetwork), lwork, info);
+  }
+
+  protected void dsyevK(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(w) && isSegment(work)) {
+      dsyevSegmentK(jobz, uplo, n, segment(a, offseta), lda, segment(w, offsetw), segment(work, offsetwork), lwork, info);
+    } else {
+      super.dsyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void dsyevSegmentK(String jobz, String uplo, int n, MemorySegment a, int lda, MemorySegment w, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dsyev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsyev_.invokeExact(string(jobz), string(uplo), value(n), a, value(lda), w, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsyevd_ = downcallHandle("dsyevd_", null, 11);
+
+  protected void dsyevdK(String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dsyevdSegmentK(jobz, uplo, n, segment(a, offseta), lda, segment(w, offsetw), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  protected void dsyevdK(String jobz, String uplo, int n, DoubleBuffer a, int offseta, int lda, DoubleBuffer w, int offsetw, DoubleBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(w) && isSegment(work) && isSegment(iwork)) {
+      dsyevdSegmentK(jobz, uplo, n, segment(a, offseta), lda, segment(w, offsetw), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+    } else {
+      super.dsyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    }
+  }
+
+  private void dsyevdSegmentK(String jobz, String uplo, int n, MemorySegment a, int lda, MemorySegment w, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dsyevd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsyevd_.invokeExact(string(jobz), string(uplo), value(n), a, value(lda), w, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsyevr_ = downcallHandle("dsyevr_", null, 21);
+
+  protected void dsyevrK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dsyevrSegmentK(jobz, range, uplo, n, segment(a, offseta), lda, vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(isuppz, offsetisuppz), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dsyevrSegmentK(String jobz, String range, String uplo, int n, MemorySegment a, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment isuppz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dsyevr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dsyevr_.invokeExact(string(jobz), string(range), string(uplo), value(n), a, value(lda), value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), isuppz, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsyevx_ = downcallHandle("dsyevx_", null, 20);
+
+  protected void dsyevxK(String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    dsyevxSegmentK(jobz, range, uplo, n, segment(a, offseta), lda, vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void dsyevxSegmentK(String jobz, String range, String uplo, int n, MemorySegment a, int lda, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (dsyevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dsyevx_.invokeExact(string(jobz), string(range), string(uplo), value(n), a, value(lda), value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, value(lwork), iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsygs2_ = downcallHandle("dsygs2_", null, 8);
+
+  protected void dsygs2K(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dsygs2SegmentK(itype, uplo, n, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+  }
+
+  private void dsygs2SegmentK(int itype, String uplo, int n, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dsygs2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsygs2_.invokeExact(value(itype), string(uplo), value(n), a, value(lda), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsygst_ = downcallHandle("dsygst_", null, 8);
+
+  protected void dsygstK(int itype, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dsygstSegmentK(itype, uplo, n, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+  }
+
+  private void dsygstSegmentK(int itype, String uplo, int n, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dsygst_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsygst_.invokeExact(value(itype), string(uplo), value(n), a, value(lda), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsygv_ = downcallHandle("dsygv_", null, 12);
+
+  protected void dsygvK(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dsygvSegmentK(itype, jobz, uplo, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(w, offsetw), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dsygvSegmentK(int itype, String jobz, String uplo, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment w, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dsygv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsygv_.invokeExact(value(itype), string(jobz), string(uplo), value(n), a, value(lda), b, value(ldb), w, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsygvd_ = downcallHandle("dsygvd_", null, 14);
+
+  protected void dsygvdK(int itype, String jobz, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] w, int offsetw, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dsygvdSegmentK(itype, jobz, uplo, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(w, offsetw), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dsygvdSegmentK(int itype, String jobz, String uplo, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment w, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dsygvd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsygvd_.invokeExact(value(itype), string(jobz), string(uplo), value(n), a, value(lda), b, value(ldb), w, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsygvx_ = downcallHandle("dsygvx_", null, 23);
+
+  protected void dsygvxK(int itype, String jobz, String range, String uplo, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, double[] w, int offsetw, double[] z, int offsetz, int ldz, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    dsygvxSegmentK(itype, jobz, range, uplo, n, segment(a, offseta), lda, segment(b, offsetb), ldb, vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void dsygvxSegmentK(int itype, String jobz, String range, String uplo, int n, MemorySegment a, int lda, MemorySegment b, int ldb, double vl, double vu, int il, int iu, double abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (dsygvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dsygvx_.invokeExact(value(itype), string(jobz), string(range), string(uplo), value(n), a, value(lda), b, value(ldb), value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, value(lwork), iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsyrfs_ = downcallHandle("dsyrfs_", null, 17);
+
+  protected void dsyrfsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dsyrfsSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dsyrfsSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dsyrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsyrfs_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), af, value(ldaf), ipiv, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsysv_ = downcallHandle("dsysv_", null, 11);
+
+  protected void dsysvK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dsysvSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dsysvSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dsysv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsysv_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), ipiv, b, value(ldb), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsysvx_ = downcallHandle("dsysvx_", null, 20);
+
+  protected void dsysvxK(String fact, String uplo, int n, int nrhs, double[] a, int offseta, int lda, double[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, org.netlib.util.doubleW rcond, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dsysvxSegmentK(fact, uplo, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void dsysvxSegmentK(String fact, String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.doubleW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dsysvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dsysvx_.invokeExact(string(fact), string(uplo), value(n), value(nrhs), a, value(lda), af, value(ldaf), ipiv, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsytd2_ = downcallHandle("dsytd2_", null, 8);
+
+  protected void dsytd2K(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, org.netlib.util.intW info) {
+    dsytd2SegmentK(uplo, n, segment(a, offseta), lda, segment(d, offsetd), segment(e, offsete), segment(tau, offsettau), info);
+  }
+
+  private void dsytd2SegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment d, MemorySegment e, MemorySegment tau, org.netlib.util.intW info) {
+    if (dsytd2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsytd2_.invokeExact(string(uplo), value(n), a, value(lda), d, e, tau, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsytf2_ = downcallHandle("dsytf2_", null, 6);
+
+  protected void dsytf2K(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    dsytf2SegmentK(uplo, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), info);
+  }
+
+  private void dsytf2SegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (dsytf2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsytf2_.invokeExact(string(uplo), value(n), a, value(lda), ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsytrd_ = downcallHandle("dsytrd_", null, 10);
+
+  protected void dsytrdK(String uplo, int n, double[] a, int offseta, int lda, double[] d, int offsetd, double[] e, int offsete, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dsytrdSegmentK(uplo, n, segment(a, offseta), lda, segment(d, offsetd), segment(e, offsete), segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dsytrdSegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment d, MemorySegment e, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dsytrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsytrd_.invokeExact(string(uplo), value(n), a, value(lda), d, e, tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsytrf_ = downcallHandle("dsytrf_", null, 8);
+
+  protected void dsytrfK(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dsytrfSegmentK(uplo, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dsytrfSegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dsytrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsytrf_.invokeExact(string(uplo), value(n), a, value(lda), ipiv, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsytri_ = downcallHandle("dsytri_", null, 7);
+
+  protected void dsytriK(String uplo, int n, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dsytriSegmentK(uplo, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(work, offsetwork), info);
+  }
+
+  private void dsytriSegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment work, org.netlib.util.intW info) {
+    if (dsytri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsytri_.invokeExact(string(uplo), value(n), a, value(lda), ipiv, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dsytrs_ = downcallHandle("dsytrs_", null, 9);
+
+  protected void dsytrsK(String uplo, int n, int nrhs, double[] a, int offseta, int lda, int[] ipiv, int offsetipiv, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dsytrsSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void dsytrsSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dsytrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dsytrs_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtbcon_ = downcallHandle("dtbcon_", null, 11);
+
+  protected void dtbconK(String norm, String uplo, String diag, int n, int kd, double[] ab, int offsetab, int ldab, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dtbconSegmentK(norm, uplo, diag, n, kd, segment(ab, offsetab), ldab, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dtbconSegmentK(String norm, String uplo, String diag, int n, int kd, MemorySegment ab, int ldab, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dtbcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dtbcon_.invokeExact(string(norm), string(uplo), string(diag), value(n), value(kd), ab, value(ldab), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtbrfs_ = downcallHandle("dtbrfs_", null, 17);
+
+  protected void dtbrfsK(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dtbrfsSegmentK(uplo, trans, diag, n, kd, nrhs, segment(ab, offsetab), ldab, segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dtbrfsSegmentK(String uplo, String trans, String diag, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dtbrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtbrfs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(kd), value(nrhs), ab, value(ldab), b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtbtrs_ = downcallHandle("dtbtrs_", null, 11);
+
+  protected void dtbtrsK(String uplo, String trans, String diag, int n, int kd, int nrhs, double[] ab, int offsetab, int ldab, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dtbtrsSegmentK(uplo, trans, diag, n, kd, nrhs, segment(ab, offsetab), ldab, segment(b, offsetb), ldb, info);
+  }
+
+  private void dtbtrsSegmentK(String uplo, String trans, String diag, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dtbtrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtbtrs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(kd), value(nrhs), ab, value(ldab), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtgevc_ = downcallHandle("dtgevc_", null, 16);
+
+  protected void dtgevcK(String side, String howmny, boolean[] select, int offsetselect, int n, double[] s, int offsets, int lds, double[] p, int offsetp, int ldp, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dtgevcSegmentK(side, howmny, segment(select, offsetselect), n, segment(s, offsets), lds, segment(p, offsetp), ldp, segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, mm, m, segment(work, offsetwork), info);
+  }
+
+  private void dtgevcSegmentK(String side, String howmny, MemorySegment select, int n, MemorySegment s, int lds, MemorySegment p, int ldp, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, int mm, org.netlib.util.intW m, MemorySegment work, org.netlib.util.intW info) {
+    if (dtgevc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dtgevc_.invokeExact(string(side), string(howmny), select, value(n), s, value(lds), p, value(ldp), vl, value(ldvl), vr, value(ldvr), value(mm), MemorySegment.ofArray(__m), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtgex2_ = downcallHandle("dtgex2_", null, 17);
+
+  protected void dtgex2K(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, int j1, int n1, int n2, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dtgex2SegmentK(wantq, wantz, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(q, offsetq), ldq, segment(z, offsetz), ldz, j1, n1, n2, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dtgex2SegmentK(boolean wantq, boolean wantz, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment q, int ldq, MemorySegment z, int ldz, int j1, int n1, int n2, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dtgex2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtgex2_.invokeExact(value(wantq ? 1 : 0), value(wantz ? 1 : 0), value(n), a, value(lda), b, value(ldb), q, value(ldq), z, value(ldz), value(j1), value(n1), value(n2), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtgexc_ = downcallHandle("dtgexc_", null, 16);
+
+  protected void dtgexcK(boolean wantq, boolean wantz, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dtgexcSegmentK(wantq, wantz, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(q, offsetq), ldq, segment(z, offsetz), ldz, ifst, ilst, segment(work, offsetwork), lwork, info);
+  }
+
+  private void dtgexcSegmentK(boolean wantq, boolean wantz, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment q, int ldq, MemorySegment z, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dtgexc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ifst = { ifst.val };
+    int[] __ilst = { ilst.val };
+    int[] __info = { info.val };
+    try {
+      dtgexc_.invokeExact(value(wantq ? 1 : 0), value(wantz ? 1 : 0), value(n), a, value(lda), b, value(ldb), q, value(ldq), z, value(ldz), MemorySegment.ofArray(__ifst), MemorySegment.ofArray(__ilst), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ifst.val = __ifst[0];
+    ilst.val = __ilst[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtgsen_ = downcallHandle("dtgsen_", null, 25);
+
+  protected void dtgsenK(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] alphar, int offsetalphar, double[] alphai, int offsetalphai, double[] beta, int offsetbeta, double[] q, int offsetq, int ldq, double[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.doubleW pl, org.netlib.util.doubleW pr, double[] dif, int offsetdif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dtgsenSegmentK(ijob, wantq, wantz, segment(select, offsetselect), n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(q, offsetq), ldq, segment(z, offsetz), ldz, m, pl, pr, segment(dif, offsetdif), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dtgsenSegmentK(int ijob, boolean wantq, boolean wantz, MemorySegment select, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment q, int ldq, MemorySegment z, int ldz, org.netlib.util.intW m, org.netlib.util.doubleW pl, org.netlib.util.doubleW pr, MemorySegment dif, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dtgsen_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    double[] __pl = { pl.val };
+    double[] __pr = { pr.val };
+    int[] __info = { info.val };
+    try {
+      dtgsen_.invokeExact(value(ijob), value(wantq ? 1 : 0), value(wantz ? 1 : 0), select, value(n), a, value(lda), b, value(ldb), alphar, alphai, beta, q, value(ldq), z, value(ldz), MemorySegment.ofArray(__m), MemorySegment.ofArray(__pl), MemorySegment.ofArray(__pr), dif, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    pl.val = __pl[0];
+    pr.val = __pr[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtgsja_ = downcallHandle("dtgsja_", null, 25);
+
+  protected void dtgsjaK(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double tola, double tolb, double[] alpha, int offsetalpha, double[] beta, int offsetbeta, double[] u, int offsetu, int ldu, double[] v, int offsetv, int ldv, double[] q, int offsetq, int ldq, double[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    dtgsjaSegmentK(jobu, jobv, jobq, m, p, n, k, l, segment(a, offseta), lda, segment(b, offsetb), ldb, tola, tolb, segment(alpha, offsetalpha), segment(beta, offsetbeta), segment(u, offsetu), ldu, segment(v, offsetv), ldv, segment(q, offsetq), ldq, segment(work, offsetwork), ncycle, info);
+  }
+
+  private void dtgsjaSegmentK(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, MemorySegment a, int lda, MemorySegment b, int ldb, double tola, double tolb, MemorySegment alpha, MemorySegment beta, MemorySegment u, int ldu, MemorySegment v, int ldv, MemorySegment q, int ldq, MemorySegment work, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    if (dtgsja_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ncycle = { ncycle.val };
+    int[] __info = { info.val };
+    try {
+      dtgsja_.invokeExact(string(jobu), string(jobv), string(jobq), value(m), value(p), value(n), value(k), value(l), a, value(lda), b, value(ldb), value(tola), value(tolb), alpha, beta, u, value(ldu), v, value(ldv), q, value(ldq), work, MemorySegment.ofArray(__ncycle), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ncycle.val = __ncycle[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtgsna_ = downcallHandle("dtgsna_", null, 20);
+
+  protected void dtgsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] dif, int offsetdif, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dtgsnaSegmentK(job, howmny, segment(select, offsetselect), n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(s, offsets), segment(dif, offsetdif), mm, m, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void dtgsnaSegmentK(String job, String howmny, MemorySegment select, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, MemorySegment s, MemorySegment dif, int mm, org.netlib.util.intW m, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dtgsna_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dtgsna_.invokeExact(string(job), string(howmny), select, value(n), a, value(lda), b, value(ldb), vl, value(ldvl), vr, value(ldvr), s, dif, value(mm), MemorySegment.ofArray(__m), work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtgsy2_ = downcallHandle("dtgsy2_", null, 22);
+
+  protected void dtgsy2K(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    dtgsy2SegmentK(trans, ijob, m, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(c, offsetc), Ldc, segment(d, offsetd), ldd, segment(e, offsete), lde, segment(f, offsetf), ldf, scale, rdsum, rdscal, segment(iwork, offsetiwork), pq, info);
+  }
+
+  private void dtgsy2SegmentK(String trans, int ijob, int m, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment c, int Ldc, MemorySegment d, int ldd, MemorySegment e, int lde, MemorySegment f, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW rdsum, org.netlib.util.doubleW rdscal, MemorySegment iwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    if (dtgsy2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    double[] __rdsum = { rdsum.val };
+    double[] __rdscal = { rdscal.val };
+    int[] __pq = { pq.val };
+    int[] __info = { info.val };
+    try {
+      dtgsy2_.invokeExact(string(trans), value(ijob), value(m), value(n), a, value(lda), b, value(ldb), c, value(Ldc), d, value(ldd), e, value(lde), f, value(ldf), MemorySegment.ofArray(__scale), MemorySegment.ofArray(__rdsum), MemorySegment.ofArray(__rdscal), iwork, MemorySegment.ofArray(__pq), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    rdsum.val = __rdsum[0];
+    rdscal.val = __rdscal[0];
+    pq.val = __pq[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtgsyl_ = downcallHandle("dtgsyl_", null, 22);
+
+  protected void dtgsylK(String trans, int ijob, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, double[] d, int offsetd, int ldd, double[] e, int offsete, int lde, double[] f, int offsetf, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW dif, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dtgsylSegmentK(trans, ijob, m, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(c, offsetc), Ldc, segment(d, offsetd), ldd, segment(e, offsete), lde, segment(f, offsetf), ldf, scale, dif, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void dtgsylSegmentK(String trans, int ijob, int m, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment c, int Ldc, MemorySegment d, int ldd, MemorySegment e, int lde, MemorySegment f, int ldf, org.netlib.util.doubleW scale, org.netlib.util.doubleW dif, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dtgsyl_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    double[] __dif = { dif.val };
+    int[] __info = { info.val };
+    try {
+      dtgsyl_.invokeExact(string(trans), value(ijob), value(m), value(n), a, value(lda), b, value(ldb), c, value(Ldc), d, value(ldd), e, value(lde), f, value(ldf), MemorySegment.ofArray(__scale), MemorySegment.ofArray(__dif), work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    dif.val = __dif[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtpcon_ = downcallHandle("dtpcon_", null, 9);
+
+  protected void dtpconK(String norm, String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dtpconSegmentK(norm, uplo, diag, n, segment(ap, offsetap), rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dtpconSegmentK(String norm, String uplo, String diag, int n, MemorySegment ap, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dtpcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dtpcon_.invokeExact(string(norm), string(uplo), string(diag), value(n), ap, MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtprfs_ = downcallHandle("dtprfs_", null, 15);
+
+  protected void dtprfsK(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dtprfsSegmentK(uplo, trans, diag, n, nrhs, segment(ap, offsetap), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dtprfsSegmentK(String uplo, String trans, String diag, int n, int nrhs, MemorySegment ap, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dtprfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtprfs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(nrhs), ap, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtptri_ = downcallHandle("dtptri_", null, 5);
+
+  protected void dtptriK(String uplo, String diag, int n, double[] ap, int offsetap, org.netlib.util.intW info) {
+    dtptriSegmentK(uplo, diag, n, segment(ap, offsetap), info);
+  }
+
+  private void dtptriSegmentK(String uplo, String diag, int n, MemorySegment ap, org.netlib.util.intW info) {
+    if (dtptri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtptri_.invokeExact(string(uplo), string(diag), value(n), ap, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtptrs_ = downcallHandle("dtptrs_", null, 9);
+
+  protected void dtptrsK(String uplo, String trans, String diag, int n, int nrhs, double[] ap, int offsetap, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dtptrsSegmentK(uplo, trans, diag, n, nrhs, segment(ap, offsetap), segment(b, offsetb), ldb, info);
+  }
+
+  private void dtptrsSegmentK(String uplo, String trans, String diag, int n, int nrhs, MemorySegment ap, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dtptrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtptrs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(nrhs), ap, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtrcon_ = downcallHandle("dtrcon_", null, 10);
+
+  protected void dtrconK(String norm, String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.doubleW rcond, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dtrconSegmentK(norm, uplo, diag, n, segment(a, offseta), lda, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dtrconSegmentK(String norm, String uplo, String diag, int n, MemorySegment a, int lda, org.netlib.util.doubleW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dtrcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      dtrcon_.invokeExact(string(norm), string(uplo), string(diag), value(n), a, value(lda), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtrevc_ = downcallHandle("dtrevc_", null, 14);
+
+  protected void dtrevcK(String side, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dtrevcSegmentK(side, howmny, segment(select, offsetselect), n, segment(t, offsett), ldt, segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, mm, m, segment(work, offsetwork), info);
+  }
+
+  private void dtrevcSegmentK(String side, String howmny, MemorySegment select, int n, MemorySegment t, int ldt, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, int mm, org.netlib.util.intW m, MemorySegment work, org.netlib.util.intW info) {
+    if (dtrevc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dtrevc_.invokeExact(string(side), string(howmny), select, value(n), t, value(ldt), vl, value(ldvl), vr, value(ldvr), value(mm), MemorySegment.ofArray(__m), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtrexc_ = downcallHandle("dtrexc_", null, 10);
+
+  protected void dtrexcK(String compq, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, double[] work, int offsetwork, org.netlib.util.intW info) {
+    dtrexcSegmentK(compq, n, segment(t, offsett), ldt, segment(q, offsetq), ldq, ifst, ilst, segment(work, offsetwork), info);
+  }
+
+  private void dtrexcSegmentK(String compq, int n, MemorySegment t, int ldt, MemorySegment q, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, MemorySegment work, org.netlib.util.intW info) {
+    if (dtrexc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ifst = { ifst.val };
+    int[] __ilst = { ilst.val };
+    int[] __info = { info.val };
+    try {
+      dtrexc_.invokeExact(string(compq), value(n), t, value(ldt), q, value(ldq), MemorySegment.ofArray(__ifst), MemorySegment.ofArray(__ilst), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ifst.val = __ifst[0];
+    ilst.val = __ilst[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtrrfs_ = downcallHandle("dtrrfs_", null, 16);
+
+  protected void dtrrfsK(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] x, int offsetx, int ldx, double[] ferr, int offsetferr, double[] berr, int offsetberr, double[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dtrrfsSegmentK(uplo, trans, diag, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void dtrrfsSegmentK(String uplo, String trans, String diag, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dtrrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtrrfs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(nrhs), a, value(lda), b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtrsen_ = downcallHandle("dtrsen_", null, 18);
+
+  protected void dtrsenK(String job, String compq, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] q, int offsetq, int ldq, double[] wr, int offsetwr, double[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.doubleW s, org.netlib.util.doubleW sep, double[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    dtrsenSegmentK(job, compq, segment(select, offsetselect), n, segment(t, offsett), ldt, segment(q, offsetq), ldq, segment(wr, offsetwr), segment(wi, offsetwi), m, s, sep, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void dtrsenSegmentK(String job, String compq, MemorySegment select, int n, MemorySegment t, int ldt, MemorySegment q, int ldq, MemorySegment wr, MemorySegment wi, org.netlib.util.intW m, org.netlib.util.doubleW s, org.netlib.util.doubleW sep, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (dtrsen_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    double[] __s = { s.val };
+    double[] __sep = { sep.val };
+    int[] __info = { info.val };
+    try {
+      dtrsen_.invokeExact(string(job), string(compq), select, value(n), t, value(ldt), q, value(ldq), wr, wi, MemorySegment.ofArray(__m), MemorySegment.ofArray(__s), MemorySegment.ofArray(__sep), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    s.val = __s[0];
+    sep.val = __sep[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtrsna_ = downcallHandle("dtrsna_", null, 18);
+
+  protected void dtrsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, double[] t, int offsett, int ldt, double[] vl, int offsetvl, int ldvl, double[] vr, int offsetvr, int ldvr, double[] s, int offsets, double[] sep, int offsetsep, int mm, org.netlib.util.intW m, double[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    dtrsnaSegmentK(job, howmny, segment(select, offsetselect), n, segment(t, offsett), ldt, segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(s, offsets), segment(sep, offsetsep), mm, m, segment(work, offsetwork), ldwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void dtrsnaSegmentK(String job, String howmny, MemorySegment select, int n, MemorySegment t, int ldt, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, MemorySegment s, MemorySegment sep, int mm, org.netlib.util.intW m, MemorySegment work, int ldwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (dtrsna_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      dtrsna_.invokeExact(string(job), string(howmny), select, value(n), t, value(ldt), vl, value(ldvl), vr, value(ldvr), s, sep, value(mm), MemorySegment.ofArray(__m), work, value(ldwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtrsyl_ = downcallHandle("dtrsyl_", null, 13);
+
+  protected void dtrsylK(String trana, String tranb, int isgn, int m, int n, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, double[] c, int offsetc, int Ldc, org.netlib.util.doubleW scale, org.netlib.util.intW info) {
+    dtrsylSegmentK(trana, tranb, isgn, m, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(c, offsetc), Ldc, scale, info);
+  }
+
+  private void dtrsylSegmentK(String trana, String tranb, int isgn, int m, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment c, int Ldc, org.netlib.util.doubleW scale, org.netlib.util.intW info) {
+    if (dtrsyl_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    double[] __scale = { scale.val };
+    int[] __info = { info.val };
+    try {
+      dtrsyl_.invokeExact(string(trana), string(tranb), value(isgn), value(m), value(n), a, value(lda), b, value(ldb), c, value(Ldc), MemorySegment.ofArray(__scale), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtrti2_ = downcallHandle("dtrti2_", null, 6);
+
+  protected void dtrti2K(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    dtrti2SegmentK(uplo, diag, n, segment(a, offseta), lda, info);
+  }
+
+  private void dtrti2SegmentK(String uplo, String diag, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (dtrti2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtrti2_.invokeExact(string(uplo), string(diag), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtrtri_ = downcallHandle("dtrtri_", null, 6);
+
+  protected void dtrtriK(String uplo, String diag, int n, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    dtrtriSegmentK(uplo, diag, n, segment(a, offseta), lda, info);
+  }
+
+  private void dtrtriSegmentK(String uplo, String diag, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (dtrtri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtrtri_.invokeExact(string(uplo), string(diag), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtrtrs_ = downcallHandle("dtrtrs_", null, 10);
+
+  protected void dtrtrsK(String uplo, String trans, String diag, int n, int nrhs, double[] a, int offseta, int lda, double[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    dtrtrsSegmentK(uplo, trans, diag, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+  }
+
+  private void dtrtrsSegmentK(String uplo, String trans, String diag, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (dtrtrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtrtrs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(nrhs), a, value(lda), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtzrqf_ = downcallHandle("dtzrqf_", null, 6);
+
+  protected void dtzrqfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, org.netlib.util.intW info) {
+    dtzrqfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), info);
+  }
+
+  private void dtzrqfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, org.netlib.util.intW info) {
+    if (dtzrqf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtzrqf_.invokeExact(value(m), value(n), a, value(lda), tau, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dtzrzf_ = downcallHandle("dtzrzf_", null, 8);
+
+  protected void dtzrzfK(int m, int n, double[] a, int offseta, int lda, double[] tau, int offsettau, double[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    dtzrzfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void dtzrzfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (dtzrzf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      dtzrzf_.invokeExact(value(m), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ieeeck_ = downcallHandle("ieeeck_", JAVA_INT, 3);
+
+  protected int ieeeckK(int ispec, float zero, float one) {
+    return ieeeckSegmentK(ispec, zero, one);
+  }
+
+  private int ieeeckSegmentK(int ispec, float zero, float one) {
+    if (ieeeck_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) ieeeck_.invokeExact(value(ispec), value(zero), value(one));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ilaenv_ = downcallHandle("ilaenv_", JAVA_INT, 7);
+
+  protected int ilaenvK(int ispec, String name, String opts, int n1, int n2, int n3, int n4) {
+    return ilaenvSegmentK(ispec, name, opts, n1, n2, n3, n4);
+  }
+
+  private int ilaenvSegmentK(int ispec, String name, String opts, int n1, int n2, int n3, int n4) {
+    if (ilaenv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) ilaenv_.invokeExact(value(ispec), string(name), string(opts), value(n1), value(n2), value(n3), value(n4));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ilaver_ = downcallHandle("ilaver_", null, 3);
+
+  protected void ilaverK(org.netlib.util.intW vers_major, org.netlib.util.intW vers_minor, org.netlib.util.intW vers_patch) {
+    ilaverSegmentK(vers_major, vers_minor, vers_patch);
+  }
+
+  private void ilaverSegmentK(org.netlib.util.intW vers_major, org.netlib.util.intW vers_minor, org.netlib.util.intW vers_patch) {
+    if (ilaver_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __vers_major = { vers_major.val };
+    int[] __vers_minor = { vers_minor.val };
+    int[] __vers_patch = { vers_patch.val };
+    try {
+      ilaver_.invokeExact(MemorySegment.ofArray(__vers_major), MemorySegment.ofArray(__vers_minor), MemorySegment.ofArray(__vers_patch));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    vers_major.val = __vers_major[0];
+    vers_minor.val = __vers_minor[0];
+    vers_patch.val = __vers_patch[0];
+  }
+
+  private static final MethodHandle iparmq_ = downcallHandle("iparmq_", JAVA_INT, 7);
+
+  protected int iparmqK(int ispec, String name, String opts, int n, int ilo, int ihi, int lwork) {
+    return iparmqSegmentK(ispec, name, opts, n, ilo, ihi, lwork);
+  }
+
+  private int iparmqSegmentK(int ispec, String name, String opts, int n, int ilo, int ihi, int lwork) {
+    if (iparmq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) iparmq_.invokeExact(value(ispec), string(name), string(opts), value(n), value(ilo), value(ihi), value(lwork));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle lsamen_ = downcallHandle("lsamen_", JAVA_INT, 3);
+
+  protected boolean lsamenK(int n, String ca, String cb) {
+    return lsamenSegmentK(n, ca, cb);
+  }
+
+  private boolean lsamenSegmentK(int n, String ca, String cb) {
+    if (lsamen_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) lsamen_.invokeExact(value(n), string(ca), string(cb)) != 0;
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sbdsdc_ = downcallHandle("sbdsdc_", null, 14);
+
+  protected void sbdsdcK(String uplo, String compq, int n, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] q, int offsetq, int[] iq, int offsetiq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sbdsdcSegmentK(uplo, compq, n, segment(d, offsetd), segment(e, offsete), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(q, offsetq), segment(iq, offsetiq), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sbdsdcSegmentK(String uplo, String compq, int n, MemorySegment d, MemorySegment e, MemorySegment u, int ldu, MemorySegment vt, int ldvt, MemorySegment q, MemorySegment iq, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sbdsdc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sbdsdc_.invokeExact(string(uplo), string(compq), value(n), d, e, u, value(ldu), vt, value(ldvt), q, iq, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sbdsqr_ = downcallHandle("sbdsqr_", null, 15);
+
+  protected void sbdsqrK(String uplo, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sbdsqrSegmentK(uplo, n, ncvt, nru, ncc, segment(d, offsetd), segment(e, offsete), segment(vt, offsetvt), ldvt, segment(u, offsetu), ldu, segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void sbdsqrSegmentK(String uplo, int n, int ncvt, int nru, int ncc, MemorySegment d, MemorySegment e, MemorySegment vt, int ldvt, MemorySegment u, int ldu, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (sbdsqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sbdsqr_.invokeExact(string(uplo), value(n), value(ncvt), value(nru), value(ncc), d, e, vt, value(ldvt), u, value(ldu), c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sdisna_ = downcallHandle("sdisna_", null, 6);
+
+  protected void sdisnaK(String job, int m, int n, float[] d, int offsetd, float[] sep, int offsetsep, org.netlib.util.intW info) {
+    sdisnaSegmentK(job, m, n, segment(d, offsetd), segment(sep, offsetsep), info);
+  }
+
+  private void sdisnaSegmentK(String job, int m, int n, MemorySegment d, MemorySegment sep, org.netlib.util.intW info) {
+    if (sdisna_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sdisna_.invokeExact(string(job), value(m), value(n), d, sep, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgbbrd_ = downcallHandle("sgbbrd_", null, 18);
+
+  protected void sgbbrdK(String vect, int m, int n, int ncc, int kl, int ku, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] pt, int offsetpt, int ldpt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sgbbrdSegmentK(vect, m, n, ncc, kl, ku, segment(ab, offsetab), ldab, segment(d, offsetd), segment(e, offsete), segment(q, offsetq), ldq, segment(pt, offsetpt), ldpt, segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void sgbbrdSegmentK(String vect, int m, int n, int ncc, int kl, int ku, MemorySegment ab, int ldab, MemorySegment d, MemorySegment e, MemorySegment q, int ldq, MemorySegment pt, int ldpt, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (sgbbrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgbbrd_.invokeExact(string(vect), value(m), value(n), value(ncc), value(kl), value(ku), ab, value(ldab), d, e, q, value(ldq), pt, value(ldpt), c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgbcon_ = downcallHandle("sgbcon_", null, 12);
+
+  protected void sgbconK(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgbconSegmentK(norm, n, kl, ku, segment(ab, offsetab), ldab, segment(ipiv, offsetipiv), anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sgbconSegmentK(String norm, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment ipiv, float anorm, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgbcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sgbcon_.invokeExact(string(norm), value(n), value(kl), value(ku), ab, value(ldab), ipiv, value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgbequ_ = downcallHandle("sgbequ_", null, 12);
+
+  protected void sgbequK(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    sgbequSegmentK(m, n, kl, ku, segment(ab, offsetab), ldab, segment(r, offsetr), segment(c, offsetc), rowcnd, colcnd, amax, info);
+  }
+
+  private void sgbequSegmentK(int m, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment r, MemorySegment c, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (sgbequ_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rowcnd = { rowcnd.val };
+    float[] __colcnd = { colcnd.val };
+    float[] __amax = { amax.val };
+    int[] __info = { info.val };
+    try {
+      sgbequ_.invokeExact(value(m), value(n), value(kl), value(ku), ab, value(ldab), r, c, MemorySegment.ofArray(__rowcnd), MemorySegment.ofArray(__colcnd), MemorySegment.ofArray(__amax), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rowcnd.val = __rowcnd[0];
+    colcnd.val = __colcnd[0];
+    amax.val = __amax[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgbrfs_ = downcallHandle("sgbrfs_", null, 19);
+
+  protected void sgbrfsK(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgbrfsSegmentK(trans, n, kl, ku, nrhs, segment(ab, offsetab), ldab, segment(afb, offsetafb), ldafb, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sgbrfsSegmentK(String trans, int n, int kl, int ku, int nrhs, MemorySegment ab, int ldab, MemorySegment afb, int ldafb, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgbrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgbrfs_.invokeExact(string(trans), value(n), value(kl), value(ku), value(nrhs), ab, value(ldab), afb, value(ldafb), ipiv, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgbsv_ = downcallHandle("sgbsv_", null, 10);
+
+  protected void sgbsvK(int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sgbsvSegmentK(n, kl, ku, nrhs, segment(ab, offsetab), ldab, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void sgbsvSegmentK(int n, int kl, int ku, int nrhs, MemorySegment ab, int ldab, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (sgbsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgbsv_.invokeExact(value(n), value(kl), value(ku), value(nrhs), ab, value(ldab), ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgbsvx_ = downcallHandle("sgbsvx_", null, 24);
+
+  protected void sgbsvxK(String fact, String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgbsvxSegmentK(fact, trans, n, kl, ku, nrhs, segment(ab, offsetab), ldab, segment(afb, offsetafb), ldafb, segment(ipiv, offsetipiv), equed, segment(r, offsetr), segment(c, offsetc), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sgbsvxSegmentK(String fact, String trans, int n, int kl, int ku, int nrhs, MemorySegment ab, int ldab, MemorySegment afb, int ldafb, MemorySegment ipiv, org.netlib.util.StringW equed, MemorySegment r, MemorySegment c, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.floatW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgbsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sgbsvx_.invokeExact(string(fact), string(trans), value(n), value(kl), value(ku), value(nrhs), ab, value(ldab), afb, value(ldafb), ipiv, MemorySegment.ofArray(__equed), r, c, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgbtf2_ = downcallHandle("sgbtf2_", null, 8);
+
+  protected void sgbtf2K(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    sgbtf2SegmentK(m, n, kl, ku, segment(ab, offsetab), ldab, segment(ipiv, offsetipiv), info);
+  }
+
+  private void sgbtf2SegmentK(int m, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (sgbtf2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgbtf2_.invokeExact(value(m), value(n), value(kl), value(ku), ab, value(ldab), ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgbtrf_ = downcallHandle("sgbtrf_", null, 8);
+
+  protected void sgbtrfK(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    sgbtrfSegmentK(m, n, kl, ku, segment(ab, offsetab), ldab, segment(ipiv, offsetipiv), info);
+  }
+
+  private void sgbtrfSegmentK(int m, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (sgbtrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgbtrf_.invokeExact(value(m), value(n), value(kl), value(ku), ab, value(ldab), ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgbtrs_ = downcallHandle("sgbtrs_", null, 11);
+
+  protected void sgbtrsK(String trans, int n, int kl, int ku, int nrhs, float[] ab, int offsetab, int ldab, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sgbtrsSegmentK(trans, n, kl, ku, nrhs, segment(ab, offsetab), ldab, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void sgbtrsSegmentK(String trans, int n, int kl, int ku, int nrhs, MemorySegment ab, int ldab, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (sgbtrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgbtrs_.invokeExact(string(trans), value(n), value(kl), value(ku), value(nrhs), ab, value(ldab), ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgebak_ = downcallHandle("sgebak_", null, 10);
+
+  protected void sgebakK(String job, String side, int n, int ilo, int ihi, float[] scale, int offsetscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    sgebakSegmentK(job, side, n, ilo, ihi, segment(scale, offsetscale), m, segment(v, offsetv), ldv, info);
+  }
+
+  private void sgebakSegmentK(String job, String side, int n, int ilo, int ihi, MemorySegment scale, int m, MemorySegment v, int ldv, org.netlib.util.intW info) {
+    if (sgebak_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgebak_.invokeExact(string(job), string(side), value(n), value(ilo), value(ihi), scale, value(m), v, value(ldv), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgebal_ = downcallHandle("sgebal_", null, 8);
+
+  protected void sgebalK(String job, int n, float[] a, int offseta, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.intW info) {
+    sgebalSegmentK(job, n, segment(a, offseta), lda, ilo, ihi, segment(scale, offsetscale), info);
+  }
+
+  private void sgebalSegmentK(String job, int n, MemorySegment a, int lda, org.netlib.util.intW ilo, org.netlib.util.intW ihi, MemorySegment scale, org.netlib.util.intW info) {
+    if (sgebal_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ilo = { ilo.val };
+    int[] __ihi = { ihi.val };
+    int[] __info = { info.val };
+    try {
+      sgebal_.invokeExact(string(job), value(n), a, value(lda), MemorySegment.ofArray(__ilo), MemorySegment.ofArray(__ihi), scale, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ilo.val = __ilo[0];
+    ihi.val = __ihi[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgebd2_ = downcallHandle("sgebd2_", null, 10);
+
+  protected void sgebd2K(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sgebd2SegmentK(m, n, segment(a, offseta), lda, segment(d, offsetd), segment(e, offsete), segment(tauq, offsettauq), segment(taup, offsettaup), segment(work, offsetwork), info);
+  }
+
+  private void sgebd2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment d, MemorySegment e, MemorySegment tauq, MemorySegment taup, MemorySegment work, org.netlib.util.intW info) {
+    if (sgebd2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgebd2_.invokeExact(value(m), value(n), a, value(lda), d, e, tauq, taup, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgebrd_ = downcallHandle("sgebrd_", null, 11);
+
+  protected void sgebrdK(int m, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgebrdSegmentK(m, n, segment(a, offseta), lda, segment(d, offsetd), segment(e, offsete), segment(tauq, offsettauq), segment(taup, offsettaup), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgebrdSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment d, MemorySegment e, MemorySegment tauq, MemorySegment taup, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgebrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgebrd_.invokeExact(value(m), value(n), a, value(lda), d, e, tauq, taup, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgecon_ = downcallHandle("sgecon_", null, 9);
+
+  protected void sgeconK(String norm, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgeconSegmentK(norm, n, segment(a, offseta), lda, anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sgeconSegmentK(String norm, int n, MemorySegment a, int lda, float anorm, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgecon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sgecon_.invokeExact(string(norm), value(n), a, value(lda), value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgeequ_ = downcallHandle("sgeequ_", null, 10);
+
+  protected void sgeequK(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    sgeequSegmentK(m, n, segment(a, offseta), lda, segment(r, offsetr), segment(c, offsetc), rowcnd, colcnd, amax, info);
+  }
+
+  private void sgeequSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment r, MemorySegment c, org.netlib.util.floatW rowcnd, org.netlib.util.floatW colcnd, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (sgeequ_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rowcnd = { rowcnd.val };
+    float[] __colcnd = { colcnd.val };
+    float[] __amax = { amax.val };
+    int[] __info = { info.val };
+    try {
+      sgeequ_.invokeExact(value(m), value(n), a, value(lda), r, c, MemorySegment.ofArray(__rowcnd), MemorySegment.ofArray(__colcnd), MemorySegment.ofArray(__amax), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rowcnd.val = __rowcnd[0];
+    colcnd.val = __colcnd[0];
+    amax.val = __amax[0];
+    info.val = __info[0];
+  }
+
+  protected void sgeesK(String jobvs, String sort, java.lang.Object select, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void sgeesxK(String jobvs, String sort, java.lang.Object select, String sense, int n, float[] a, int offseta, int lda, org.netlib.util.intW sdim, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vs, int offsetvs, int ldvs, org.netlib.util.floatW rconde, org.netlib.util.floatW rcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static final MethodHandle sgeev_ = downcallHandle("sgeev_", null, 14);
+
+  protected void sgeevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgeevSegmentK(jobvl, jobvr, n, segment(a, offseta), lda, segment(wr, offsetwr), segment(wi, offsetwi), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(work, offsetwork), lwork, info);
+  }
+
+  protected void sgeevK(String jobvl, String jobvr, int n, FloatBuffer a, int offseta, int lda, FloatBuffer wr, int offsetwr, FloatBuffer wi, int offsetwi, FloatBuffer vl, int offsetvl, int ldvl, FloatBuffer vr, int offsetvr, int ldvr, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(wr) && isSegment(wi) && isSegment(vl) && isSegment(vr) && isSegment(work)) {
+      sgeevSegmentK(jobvl, jobvr, n, segment(a, offseta), lda, segment(wr, offsetwr), segment(wi, offsetwi), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(work, offsetwork), lwork, info);
+    } else {
+      super.sgeevK(jobvl, jobvr, n, a, offseta, lda, wr, offsetwr, wi, offsetwi, vl, offsetvl, ldvl, vr, offsetvr, ldvr, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void sgeevSegmentK(String jobvl, String jobvr, int n, MemorySegment a, int lda, MemorySegment wr, MemorySegment wi, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgeev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgeev_.invokeExact(string(jobvl), string(jobvr), value(n), a, value(lda), wr, wi, vl, value(ldvl), vr, value(ldvr), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgeevx_ = downcallHandle("sgeevx_", null, 23);
+
+  protected void sgeevxK(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] scale, int offsetscale, org.netlib.util.floatW abnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgeevxSegmentK(balanc, jobvl, jobvr, sense, n, segment(a, offseta), lda, segment(wr, offsetwr), segment(wi, offsetwi), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, ilo, ihi, segment(scale, offsetscale), abnrm, segment(rconde, offsetrconde), segment(rcondv, offsetrcondv), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void sgeevxSegmentK(String balanc, String jobvl, String jobvr, String sense, int n, MemorySegment a, int lda, MemorySegment wr, MemorySegment wi, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, MemorySegment scale, org.netlib.util.floatW abnrm, MemorySegment rconde, MemorySegment rcondv, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgeevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ilo = { ilo.val };
+    int[] __ihi = { ihi.val };
+    float[] __abnrm = { abnrm.val };
+    int[] __info = { info.val };
+    try {
+      sgeevx_.invokeExact(string(balanc), string(jobvl), string(jobvr), string(sense), value(n), a, value(lda), wr, wi, vl, value(ldvl), vr, value(ldvr), MemorySegment.ofArray(__ilo), MemorySegment.ofArray(__ihi), scale, MemorySegment.ofArray(__abnrm), rconde, rcondv, work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ilo.val = __ilo[0];
+    ihi.val = __ihi[0];
+    abnrm.val = __abnrm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgegs_ = downcallHandle("sgegs_", null, 17);
+
+  protected void sgegsK(String jobvsl, String jobvsr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgegsSegmentK(jobvsl, jobvsr, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(vsl, offsetvsl), ldvsl, segment(vsr, offsetvsr), ldvsr, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgegsSegmentK(String jobvsl, String jobvsr, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment vsl, int ldvsl, MemorySegment vsr, int ldvsr, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgegs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgegs_.invokeExact(string(jobvsl), string(jobvsr), value(n), a, value(lda), b, value(ldb), alphar, alphai, beta, vsl, value(ldvsl), vsr, value(ldvsr), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgegv_ = downcallHandle("sgegv_", null, 17);
+
+  protected void sgegvK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgegvSegmentK(jobvl, jobvr, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgegvSegmentK(String jobvl, String jobvr, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgegv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgegv_.invokeExact(string(jobvl), string(jobvr), value(n), a, value(lda), b, value(ldb), alphar, alphai, beta, vl, value(ldvl), vr, value(ldvr), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgehd2_ = downcallHandle("sgehd2_", null, 8);
+
+  protected void sgehd2K(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sgehd2SegmentK(n, ilo, ihi, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sgehd2SegmentK(int n, int ilo, int ihi, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sgehd2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgehd2_.invokeExact(value(n), value(ilo), value(ihi), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgehrd_ = downcallHandle("sgehrd_", null, 9);
+
+  protected void sgehrdK(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgehrdSegmentK(n, ilo, ihi, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgehrdSegmentK(int n, int ilo, int ihi, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgehrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgehrd_.invokeExact(value(n), value(ilo), value(ihi), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgelq2_ = downcallHandle("sgelq2_", null, 7);
+
+  protected void sgelq2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sgelq2SegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sgelq2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sgelq2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgelq2_.invokeExact(value(m), value(n), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgelqf_ = downcallHandle("sgelqf_", null, 8);
+
+  protected void sgelqfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgelqfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgelqfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgelqf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgelqf_.invokeExact(value(m), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgels_ = downcallHandle("sgels_", null, 11);
+
+  protected void sgelsK(String trans, int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgelsSegmentK(trans, m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(work, offsetwork), lwork, info);
+  }
+
+  protected void sgelsK(String trans, int m, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(b) && isSegment(work)) {
+      sgelsSegmentK(trans, m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(work, offsetwork), lwork, info);
+    } else {
+      super.sgelsK(trans, m, n, nrhs, a, offseta, lda, b, offsetb, ldb, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void sgelsSegmentK(String trans, int m, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgels_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgels_.invokeExact(string(trans), value(m), value(n), value(nrhs), a, value(lda), b, value(ldb), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgelsd_ = downcallHandle("sgelsd_", null, 14);
+
+  protected void sgelsdK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgelsdSegmentK(m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(s, offsets), rcond, rank, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void sgelsdSegmentK(int m, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment s, float rcond, org.netlib.util.intW rank, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgelsd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __rank = { rank.val };
+    int[] __info = { info.val };
+    try {
+      sgelsd_.invokeExact(value(m), value(n), value(nrhs), a, value(lda), b, value(ldb), s, value(rcond), MemorySegment.ofArray(__rank), work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rank.val = __rank[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgelss_ = downcallHandle("sgelss_", null, 13);
+
+  protected void sgelssK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] s, int offsets, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgelssSegmentK(m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(s, offsets), rcond, rank, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgelssSegmentK(int m, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment s, float rcond, org.netlib.util.intW rank, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgelss_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __rank = { rank.val };
+    int[] __info = { info.val };
+    try {
+      sgelss_.invokeExact(value(m), value(n), value(nrhs), a, value(lda), b, value(ldb), s, value(rcond), MemorySegment.ofArray(__rank), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rank.val = __rank[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgelsx_ = downcallHandle("sgelsx_", null, 12);
+
+  protected void sgelsxK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sgelsxSegmentK(m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(jpvt, offsetjpvt), rcond, rank, segment(work, offsetwork), info);
+  }
+
+  private void sgelsxSegmentK(int m, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment jpvt, float rcond, org.netlib.util.intW rank, MemorySegment work, org.netlib.util.intW info) {
+    if (sgelsx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __rank = { rank.val };
+    int[] __info = { info.val };
+    try {
+      sgelsx_.invokeExact(value(m), value(n), value(nrhs), a, value(lda), b, value(ldb), jpvt, value(rcond), MemorySegment.ofArray(__rank), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rank.val = __rank[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgelsy_ = downcallHandle("sgelsy_", null, 13);
+
+  protected void sgelsyK(int m, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, int[] jpvt, int offsetjpvt, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgelsySegmentK(m, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(jpvt, offsetjpvt), rcond, rank, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgelsySegmentK(int m, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment jpvt, float rcond, org.netlib.util.intW rank, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgelsy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __rank = { rank.val };
+    int[] __info = { info.val };
+    try {
+      sgelsy_.invokeExact(value(m), value(n), value(nrhs), a, value(lda), b, value(ldb), jpvt, value(rcond), MemorySegment.ofArray(__rank), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rank.val = __rank[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgeql2_ = downcallHandle("sgeql2_", null, 7);
+
+  protected void sgeql2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sgeql2SegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sgeql2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sgeql2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgeql2_.invokeExact(value(m), value(n), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgeqlf_ = downcallHandle("sgeqlf_", null, 8);
+
+  protected void sgeqlfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgeqlfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgeqlfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgeqlf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgeqlf_.invokeExact(value(m), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgeqp3_ = downcallHandle("sgeqp3_", null, 9);
+
+  protected void sgeqp3K(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgeqp3SegmentK(m, n, segment(a, offseta), lda, segment(jpvt, offsetjpvt), segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgeqp3SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment jpvt, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgeqp3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgeqp3_.invokeExact(value(m), value(n), a, value(lda), jpvt, tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgeqpf_ = downcallHandle("sgeqpf_", null, 8);
+
+  protected void sgeqpfK(int m, int n, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sgeqpfSegmentK(m, n, segment(a, offseta), lda, segment(jpvt, offsetjpvt), segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sgeqpfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment jpvt, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sgeqpf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgeqpf_.invokeExact(value(m), value(n), a, value(lda), jpvt, tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgeqr2_ = downcallHandle("sgeqr2_", null, 7);
+
+  protected void sgeqr2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sgeqr2SegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sgeqr2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sgeqr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgeqr2_.invokeExact(value(m), value(n), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgeqrf_ = downcallHandle("sgeqrf_", null, 8);
+
+  protected void sgeqrfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgeqrfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  protected void sgeqrfK(int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(tau) && isSegment(work)) {
+      sgeqrfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+    } else {
+      super.sgeqrfK(m, n, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void sgeqrfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgeqrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgeqrf_.invokeExact(value(m), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgerfs_ = downcallHandle("sgerfs_", null, 17);
+
+  protected void sgerfsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgerfsSegmentK(trans, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sgerfsSegmentK(String trans, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgerfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgerfs_.invokeExact(string(trans), value(n), value(nrhs), a, value(lda), af, value(ldaf), ipiv, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgerq2_ = downcallHandle("sgerq2_", null, 7);
+
+  protected void sgerq2K(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sgerq2SegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sgerq2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sgerq2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgerq2_.invokeExact(value(m), value(n), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgerqf_ = downcallHandle("sgerqf_", null, 8);
+
+  protected void sgerqfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgerqfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgerqfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgerqf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgerqf_.invokeExact(value(m), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgesc2_ = downcallHandle("sgesc2_", null, 7);
+
+  protected void sgesc2K(int n, float[] a, int offseta, int lda, float[] rhs, int offsetrhs, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.floatW scale) {
+    sgesc2SegmentK(n, segment(a, offseta), lda, segment(rhs, offsetrhs), segment(ipiv, offsetipiv), segment(jpiv, offsetjpiv), scale);
+  }
+
+  private void sgesc2SegmentK(int n, MemorySegment a, int lda, MemorySegment rhs, MemorySegment ipiv, MemorySegment jpiv, org.netlib.util.floatW scale) {
+    if (sgesc2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    try {
+      sgesc2_.invokeExact(value(n), a, value(lda), rhs, ipiv, jpiv, MemorySegment.ofArray(__scale));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+  }
+
+  private static final MethodHandle sgesdd_ = downcallHandle("sgesdd_", null, 14);
+
+  protected void sgesddK(String jobz, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgesddSegmentK(jobz, m, n, segment(a, offseta), lda, segment(s, offsets), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  protected void sgesddK(String jobz, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(s) && isSegment(u) && isSegment(vt) && isSegment(work) && isSegment(iwork)) {
+      sgesddSegmentK(jobz, m, n, segment(a, offseta), lda, segment(s, offsets), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+    } else {
+      super.sgesddK(jobz, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, iwork, offsetiwork, info);
+    }
+  }
+
+  private void sgesddSegmentK(String jobz, int m, int n, MemorySegment a, int lda, MemorySegment s, MemorySegment u, int ldu, MemorySegment vt, int ldvt, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgesdd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgesdd_.invokeExact(string(jobz), value(m), value(n), a, value(lda), s, u, value(ldu), vt, value(ldvt), work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgesv_ = downcallHandle("sgesv_", null, 8);
+
+  protected void sgesvK(int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sgesvSegmentK(n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  protected void sgesvK(int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(ipiv) && isSegment(b)) {
+      sgesvSegmentK(n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+    } else {
+      super.sgesvK(n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private void sgesvSegmentK(int n, int nrhs, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (sgesv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgesv_.invokeExact(value(n), value(nrhs), a, value(lda), ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgesvd_ = downcallHandle("sgesvd_", null, 14);
+
+  protected void sgesvdK(String jobu, String jobvt, int m, int n, float[] a, int offseta, int lda, float[] s, int offsets, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgesvdSegmentK(jobu, jobvt, m, n, segment(a, offseta), lda, segment(s, offsets), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(work, offsetwork), lwork, info);
+  }
+
+  protected void sgesvdK(String jobu, String jobvt, int m, int n, FloatBuffer a, int offseta, int lda, FloatBuffer s, int offsets, FloatBuffer u, int offsetu, int ldu, FloatBuffer vt, int offsetvt, int ldvt, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(s) && isSegment(u) && isSegment(vt) && isSegment(work)) {
+      sgesvdSegmentK(jobu, jobvt, m, n, segment(a, offseta), lda, segment(s, offsets), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(work, offsetwork), lwork, info);
+    } else {
+      super.sgesvdK(jobu, jobvt, m, n, a, offseta, lda, s, offsets, u, offsetu, ldu, vt, offsetvt, ldvt, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void sgesvdSegmentK(String jobu, String jobvt, int m, int n, MemorySegment a, int lda, MemorySegment s, MemorySegment u, int ldu, MemorySegment vt, int ldvt, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgesvd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgesvd_.invokeExact(string(jobu), string(jobvt), value(m), value(n), a, value(lda), s, u, value(ldu), vt, value(ldvt), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgesvx_ = downcallHandle("sgesvx_", null, 22);
+
+  protected void sgesvxK(String fact, String trans, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, org.netlib.util.StringW equed, float[] r, int offsetr, float[] c, int offsetc, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgesvxSegmentK(fact, trans, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, segment(ipiv, offsetipiv), equed, segment(r, offsetr), segment(c, offsetc), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sgesvxSegmentK(String fact, String trans, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, MemorySegment ipiv, org.netlib.util.StringW equed, MemorySegment r, MemorySegment c, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.floatW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgesvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sgesvx_.invokeExact(string(fact), string(trans), value(n), value(nrhs), a, value(lda), af, value(ldaf), ipiv, MemorySegment.ofArray(__equed), r, c, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgetc2_ = downcallHandle("sgetc2_", null, 6);
+
+  protected void sgetc2K(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv, org.netlib.util.intW info) {
+    sgetc2SegmentK(n, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(jpiv, offsetjpiv), info);
+  }
+
+  private void sgetc2SegmentK(int n, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment jpiv, org.netlib.util.intW info) {
+    if (sgetc2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgetc2_.invokeExact(value(n), a, value(lda), ipiv, jpiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgetf2_ = downcallHandle("sgetf2_", null, 6);
+
+  protected void sgetf2K(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    sgetf2SegmentK(m, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), info);
+  }
+
+  private void sgetf2SegmentK(int m, int n, MemorySegment a, int lda, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (sgetf2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgetf2_.invokeExact(value(m), value(n), a, value(lda), ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgetrf_ = downcallHandle("sgetrf_", null, 6);
+
+  protected void sgetrfK(int m, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    sgetrfSegmentK(m, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), info);
+  }
+
+  protected void sgetrfK(int m, int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(ipiv)) {
+      sgetrfSegmentK(m, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), info);
+    } else {
+      super.sgetrfK(m, n, a, offseta, lda, ipiv, offsetipiv, info);
+    }
+  }
+
+  private void sgetrfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (sgetrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgetrf_.invokeExact(value(m), value(n), a, value(lda), ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgetri_ = downcallHandle("sgetri_", null, 7);
+
+  protected void sgetriK(int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgetriSegmentK(n, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(work, offsetwork), lwork, info);
+  }
+
+  protected void sgetriK(int n, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(ipiv) && isSegment(work)) {
+      sgetriSegmentK(n, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(work, offsetwork), lwork, info);
+    } else {
+      super.sgetriK(n, a, offseta, lda, ipiv, offsetipiv, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void sgetriSegmentK(int n, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgetri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgetri_.invokeExact(value(n), a, value(lda), ipiv, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgetrs_ = downcallHandle("sgetrs_", null, 9);
+
+  protected void sgetrsK(String trans, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sgetrsSegmentK(trans, n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  protected void sgetrsK(String trans, int n, int nrhs, FloatBuffer a, int offseta, int lda, IntBuffer ipiv, int offsetipiv, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(ipiv) && isSegment(b)) {
+      sgetrsSegmentK(trans, n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+    } else {
+      super.sgetrsK(trans, n, nrhs, a, offseta, lda, ipiv, offsetipiv, b, offsetb, ldb, info);
+    }
+  }
+
+  private void sgetrsSegmentK(String trans, int n, int nrhs, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (sgetrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgetrs_.invokeExact(string(trans), value(n), value(nrhs), a, value(lda), ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sggbak_ = downcallHandle("sggbak_", null, 11);
+
+  protected void sggbakK(String job, String side, int n, int ilo, int ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, int m, float[] v, int offsetv, int ldv, org.netlib.util.intW info) {
+    sggbakSegmentK(job, side, n, ilo, ihi, segment(lscale, offsetlscale), segment(rscale, offsetrscale), m, segment(v, offsetv), ldv, info);
+  }
+
+  private void sggbakSegmentK(String job, String side, int n, int ilo, int ihi, MemorySegment lscale, MemorySegment rscale, int m, MemorySegment v, int ldv, org.netlib.util.intW info) {
+    if (sggbak_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sggbak_.invokeExact(string(job), string(side), value(n), value(ilo), value(ihi), lscale, rscale, value(m), v, value(ldv), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sggbal_ = downcallHandle("sggbal_", null, 12);
+
+  protected void sggbalK(String job, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sggbalSegmentK(job, n, segment(a, offseta), lda, segment(b, offsetb), ldb, ilo, ihi, segment(lscale, offsetlscale), segment(rscale, offsetrscale), segment(work, offsetwork), info);
+  }
+
+  private void sggbalSegmentK(String job, int n, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW ilo, org.netlib.util.intW ihi, MemorySegment lscale, MemorySegment rscale, MemorySegment work, org.netlib.util.intW info) {
+    if (sggbal_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ilo = { ilo.val };
+    int[] __ihi = { ihi.val };
+    int[] __info = { info.val };
+    try {
+      sggbal_.invokeExact(string(job), value(n), a, value(lda), b, value(ldb), MemorySegment.ofArray(__ilo), MemorySegment.ofArray(__ihi), lscale, rscale, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ilo.val = __ilo[0];
+    ihi.val = __ihi[0];
+    info.val = __info[0];
+  }
+
+  protected void sggesK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] work, int offsetwork, int lwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void sggesxK(String jobvsl, String jobvsr, String sort, java.lang.Object selctg, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW sdim, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vsl, int offsetvsl, int ldvsl, float[] vsr, int offsetvsr, int ldvsr, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static final MethodHandle sggev_ = downcallHandle("sggev_", null, 17);
+
+  protected void sggevK(String jobvl, String jobvr, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sggevSegmentK(jobvl, jobvr, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sggevSegmentK(String jobvl, String jobvr, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sggev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sggev_.invokeExact(string(jobvl), string(jobvr), value(n), a, value(lda), b, value(ldb), alphar, alphai, beta, vl, value(ldvl), vr, value(ldvr), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sggevx_ = downcallHandle("sggevx_", null, 29);
+
+  protected void sggevxK(String balanc, String jobvl, String jobvr, String sense, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, float[] lscale, int offsetlscale, float[] rscale, int offsetrscale, org.netlib.util.floatW abnrm, org.netlib.util.floatW bbnrm, float[] rconde, int offsetrconde, float[] rcondv, int offsetrcondv, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, boolean[] bwork, int offsetbwork, org.netlib.util.intW info) {
+    sggevxSegmentK(balanc, jobvl, jobvr, sense, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, ilo, ihi, segment(lscale, offsetlscale), segment(rscale, offsetrscale), abnrm, bbnrm, segment(rconde, offsetrconde), segment(rcondv, offsetrcondv), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), segment(bwork, offsetbwork), info);
+  }
+
+  private void sggevxSegmentK(String balanc, String jobvl, String jobvr, String sense, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, org.netlib.util.intW ilo, org.netlib.util.intW ihi, MemorySegment lscale, MemorySegment rscale, org.netlib.util.floatW abnrm, org.netlib.util.floatW bbnrm, MemorySegment rconde, MemorySegment rcondv, MemorySegment work, int lwork, MemorySegment iwork, MemorySegment bwork, org.netlib.util.intW info) {
+    if (sggevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ilo = { ilo.val };
+    int[] __ihi = { ihi.val };
+    float[] __abnrm = { abnrm.val };
+    float[] __bbnrm = { bbnrm.val };
+    int[] __info = { info.val };
+    try {
+      sggevx_.invokeExact(string(balanc), string(jobvl), string(jobvr), string(sense), value(n), a, value(lda), b, value(ldb), alphar, alphai, beta, vl, value(ldvl), vr, value(ldvr), MemorySegment.ofArray(__ilo), MemorySegment.ofArray(__ihi), lscale, rscale, MemorySegment.ofArray(__abnrm), MemorySegment.ofArray(__bbnrm), rconde, rcondv, work, value(lwork), iwork, bwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ilo.val = __ilo[0];
+    ihi.val = __ihi[0];
+    abnrm.val = __abnrm[0];
+    bbnrm.val = __bbnrm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sggglm_ = downcallHandle("sggglm_", null, 13);
+
+  protected void sggglmK(int n, int m, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] d, int offsetd, float[] x, int offsetx, float[] y, int offsety, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sggglmSegmentK(n, m, p, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(d, offsetd), segment(x, offsetx), segment(y, offsety), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sggglmSegmentK(int n, int m, int p, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment d, MemorySegment x, MemorySegment y, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sggglm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sggglm_.invokeExact(value(n), value(m), value(p), a, value(lda), b, value(ldb), d, x, y, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgghrd_ = downcallHandle("sgghrd_", null, 14);
+
+  protected void sgghrdK(String compq, String compz, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    sgghrdSegmentK(compq, compz, n, ilo, ihi, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(q, offsetq), ldq, segment(z, offsetz), ldz, info);
+  }
+
+  private void sgghrdSegmentK(String compq, String compz, int n, int ilo, int ihi, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment q, int ldq, MemorySegment z, int ldz, org.netlib.util.intW info) {
+    if (sgghrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgghrd_.invokeExact(string(compq), string(compz), value(n), value(ilo), value(ihi), a, value(lda), b, value(ldb), q, value(ldq), z, value(ldz), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgglse_ = downcallHandle("sgglse_", null, 13);
+
+  protected void sgglseK(int m, int n, int p, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, float[] d, int offsetd, float[] x, int offsetx, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sgglseSegmentK(m, n, p, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(c, offsetc), segment(d, offsetd), segment(x, offsetx), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sgglseSegmentK(int m, int n, int p, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment c, MemorySegment d, MemorySegment x, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sgglse_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgglse_.invokeExact(value(m), value(n), value(p), a, value(lda), b, value(ldb), c, d, x, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sggqrf_ = downcallHandle("sggqrf_", null, 12);
+
+  protected void sggqrfK(int n, int m, int p, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sggqrfSegmentK(n, m, p, segment(a, offseta), lda, segment(taua, offsettaua), segment(b, offsetb), ldb, segment(taub, offsettaub), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sggqrfSegmentK(int n, int m, int p, MemorySegment a, int lda, MemorySegment taua, MemorySegment b, int ldb, MemorySegment taub, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sggqrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sggqrf_.invokeExact(value(n), value(m), value(p), a, value(lda), taua, b, value(ldb), taub, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sggrqf_ = downcallHandle("sggrqf_", null, 12);
+
+  protected void sggrqfK(int m, int p, int n, float[] a, int offseta, int lda, float[] taua, int offsettaua, float[] b, int offsetb, int ldb, float[] taub, int offsettaub, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sggrqfSegmentK(m, p, n, segment(a, offseta), lda, segment(taua, offsettaua), segment(b, offsetb), ldb, segment(taub, offsettaub), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sggrqfSegmentK(int m, int p, int n, MemorySegment a, int lda, MemorySegment taua, MemorySegment b, int ldb, MemorySegment taub, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sggrqf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sggrqf_.invokeExact(value(m), value(p), value(n), a, value(lda), taua, b, value(ldb), taub, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sggsvd_ = downcallHandle("sggsvd_", null, 23);
+
+  protected void sggsvdK(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sggsvdSegmentK(jobu, jobv, jobq, m, n, p, k, l, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alpha, offsetalpha), segment(beta, offsetbeta), segment(u, offsetu), ldu, segment(v, offsetv), ldv, segment(q, offsetq), ldq, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sggsvdSegmentK(String jobu, String jobv, String jobq, int m, int n, int p, org.netlib.util.intW k, org.netlib.util.intW l, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alpha, MemorySegment beta, MemorySegment u, int ldu, MemorySegment v, int ldv, MemorySegment q, int ldq, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sggsvd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    int[] __l = { l.val };
+    int[] __info = { info.val };
+    try {
+      sggsvd_.invokeExact(string(jobu), string(jobv), string(jobq), value(m), value(n), value(p), MemorySegment.ofArray(__k), MemorySegment.ofArray(__l), a, value(lda), b, value(ldb), alpha, beta, u, value(ldu), v, value(ldv), q, value(ldq), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    l.val = __l[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sggsvp_ = downcallHandle("sggsvp_", null, 24);
+
+  protected void sggsvpK(String jobu, String jobv, String jobq, int m, int p, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, org.netlib.util.intW k, org.netlib.util.intW l, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, int[] iwork, int offsetiwork, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sggsvpSegmentK(jobu, jobv, jobq, m, p, n, segment(a, offseta), lda, segment(b, offsetb), ldb, tola, tolb, k, l, segment(u, offsetu), ldu, segment(v, offsetv), ldv, segment(q, offsetq), ldq, segment(iwork, offsetiwork), segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sggsvpSegmentK(String jobu, String jobv, String jobq, int m, int p, int n, MemorySegment a, int lda, MemorySegment b, int ldb, float tola, float tolb, org.netlib.util.intW k, org.netlib.util.intW l, MemorySegment u, int ldu, MemorySegment v, int ldv, MemorySegment q, int ldq, MemorySegment iwork, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sggsvp_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    int[] __l = { l.val };
+    int[] __info = { info.val };
+    try {
+      sggsvp_.invokeExact(string(jobu), string(jobv), string(jobq), value(m), value(p), value(n), a, value(lda), b, value(ldb), value(tola), value(tolb), MemorySegment.ofArray(__k), MemorySegment.ofArray(__l), u, value(ldu), v, value(ldv), q, value(ldq), iwork, tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    l.val = __l[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgtcon_ = downcallHandle("sgtcon_", null, 12);
+
+  protected void sgtconK(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgtconSegmentK(norm, n, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(du2, offsetdu2), segment(ipiv, offsetipiv), anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sgtconSegmentK(String norm, int n, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment du2, MemorySegment ipiv, float anorm, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgtcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sgtcon_.invokeExact(string(norm), value(n), dl, d, du, du2, ipiv, value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgtrfs_ = downcallHandle("sgtrfs_", null, 20);
+
+  protected void sgtrfsK(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgtrfsSegmentK(trans, n, nrhs, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(dlf, offsetdlf), segment(df, offsetdf), segment(duf, offsetduf), segment(du2, offsetdu2), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sgtrfsSegmentK(String trans, int n, int nrhs, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment dlf, MemorySegment df, MemorySegment duf, MemorySegment du2, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgtrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgtrfs_.invokeExact(string(trans), value(n), value(nrhs), dl, d, du, dlf, df, duf, du2, ipiv, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgtsv_ = downcallHandle("sgtsv_", null, 8);
+
+  protected void sgtsvK(int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sgtsvSegmentK(n, nrhs, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(b, offsetb), ldb, info);
+  }
+
+  private void sgtsvSegmentK(int n, int nrhs, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (sgtsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgtsv_.invokeExact(value(n), value(nrhs), dl, d, du, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgtsvx_ = downcallHandle("sgtsvx_", null, 22);
+
+  protected void sgtsvxK(String fact, String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] dlf, int offsetdlf, float[] df, int offsetdf, float[] duf, int offsetduf, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sgtsvxSegmentK(fact, trans, n, nrhs, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(dlf, offsetdlf), segment(df, offsetdf), segment(duf, offsetduf), segment(du2, offsetdu2), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sgtsvxSegmentK(String fact, String trans, int n, int nrhs, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment dlf, MemorySegment df, MemorySegment duf, MemorySegment du2, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.floatW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sgtsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sgtsvx_.invokeExact(string(fact), string(trans), value(n), value(nrhs), dl, d, du, dlf, df, duf, du2, ipiv, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgttrf_ = downcallHandle("sgttrf_", null, 7);
+
+  protected void sgttrfK(int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    sgttrfSegmentK(n, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(du2, offsetdu2), segment(ipiv, offsetipiv), info);
+  }
+
+  private void sgttrfSegmentK(int n, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment du2, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (sgttrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgttrf_.invokeExact(value(n), dl, d, du, du2, ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgttrs_ = downcallHandle("sgttrs_", null, 11);
+
+  protected void sgttrsK(String trans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sgttrsSegmentK(trans, n, nrhs, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(du2, offsetdu2), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void sgttrsSegmentK(String trans, int n, int nrhs, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment du2, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (sgttrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sgttrs_.invokeExact(string(trans), value(n), value(nrhs), dl, d, du, du2, ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sgtts2_ = downcallHandle("sgtts2_", null, 10);
+
+  protected void sgtts2K(int itrans, int n, int nrhs, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] du2, int offsetdu2, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb) {
+    sgtts2SegmentK(itrans, n, nrhs, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(du2, offsetdu2), segment(ipiv, offsetipiv), segment(b, offsetb), ldb);
+  }
+
+  private void sgtts2SegmentK(int itrans, int n, int nrhs, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment du2, MemorySegment ipiv, MemorySegment b, int ldb) {
+    if (sgtts2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sgtts2_.invokeExact(value(itrans), value(n), value(nrhs), dl, d, du, du2, ipiv, b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle shgeqz_ = downcallHandle("shgeqz_", null, 20);
+
+  protected void shgeqzK(String job, String compq, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] t, int offsett, int ldt, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    shgeqzSegmentK(job, compq, compz, n, ilo, ihi, segment(h, offseth), ldh, segment(t, offsett), ldt, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(q, offsetq), ldq, segment(z, offsetz), ldz, segment(work, offsetwork), lwork, info);
+  }
+
+  private void shgeqzSegmentK(String job, String compq, String compz, int n, int ilo, int ihi, MemorySegment h, int ldh, MemorySegment t, int ldt, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment q, int ldq, MemorySegment z, int ldz, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (shgeqz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      shgeqz_.invokeExact(string(job), string(compq), string(compz), value(n), value(ilo), value(ihi), h, value(ldh), t, value(ldt), alphar, alphai, beta, q, value(ldq), z, value(ldz), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle shsein_ = downcallHandle("shsein_", null, 19);
+
+  protected void shseinK(String side, String eigsrc, String initv, boolean[] select, int offsetselect, int n, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int[] ifaill, int offsetifaill, int[] ifailr, int offsetifailr, org.netlib.util.intW info) {
+    shseinSegmentK(side, eigsrc, initv, segment(select, offsetselect), n, segment(h, offseth), ldh, segment(wr, offsetwr), segment(wi, offsetwi), segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, mm, m, segment(work, offsetwork), segment(ifaill, offsetifaill), segment(ifailr, offsetifailr), info);
+  }
+
+  private void shseinSegmentK(String side, String eigsrc, String initv, MemorySegment select, int n, MemorySegment h, int ldh, MemorySegment wr, MemorySegment wi, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, int mm, org.netlib.util.intW m, MemorySegment work, MemorySegment ifaill, MemorySegment ifailr, org.netlib.util.intW info) {
+    if (shsein_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      shsein_.invokeExact(string(side), string(eigsrc), string(initv), select, value(n), h, value(ldh), wr, wi, vl, value(ldvl), vr, value(ldvr), value(mm), MemorySegment.ofArray(__m), work, ifaill, ifailr, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle shseqr_ = downcallHandle("shseqr_", null, 14);
+
+  protected void shseqrK(String job, String compz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    shseqrSegmentK(job, compz, n, ilo, ihi, segment(h, offseth), ldh, segment(wr, offsetwr), segment(wi, offsetwi), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, info);
+  }
+
+  private void shseqrSegmentK(String job, String compz, int n, int ilo, int ihi, MemorySegment h, int ldh, MemorySegment wr, MemorySegment wi, MemorySegment z, int ldz, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (shseqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      shseqr_.invokeExact(string(job), string(compz), value(n), value(ilo), value(ihi), h, value(ldh), wr, wi, z, value(ldz), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sisnan_ = downcallHandle("sisnan_", JAVA_INT, 1);
+
+  protected boolean sisnanK(float sin) {
+    return sisnanSegmentK(sin);
+  }
+
+  private boolean sisnanSegmentK(float sin) {
+    if (sisnan_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) sisnan_.invokeExact(value(sin)) != 0;
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slabad_ = downcallHandle("slabad_", null, 2);
+
+  protected void slabadK(org.netlib.util.floatW small, org.netlib.util.floatW large) {
+    slabadSegmentK(small, large);
+  }
+
+  private void slabadSegmentK(org.netlib.util.floatW small, org.netlib.util.floatW large) {
+    if (slabad_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __small = { small.val };
+    float[] __large = { large.val };
+    try {
+      slabad_.invokeExact(MemorySegment.ofArray(__small), MemorySegment.ofArray(__large));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    small.val = __small[0];
+    large.val = __large[0];
+  }
+
+  private static final MethodHandle slabrd_ = downcallHandle("slabrd_", null, 13);
+
+  protected void slabrdK(int m, int n, int nb, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tauq, int offsettauq, float[] taup, int offsettaup, float[] x, int offsetx, int ldx, float[] y, int offsety, int ldy) {
+    slabrdSegmentK(m, n, nb, segment(a, offseta), lda, segment(d, offsetd), segment(e, offsete), segment(tauq, offsettauq), segment(taup, offsettaup), segment(x, offsetx), ldx, segment(y, offsety), ldy);
+  }
+
+  private void slabrdSegmentK(int m, int n, int nb, MemorySegment a, int lda, MemorySegment d, MemorySegment e, MemorySegment tauq, MemorySegment taup, MemorySegment x, int ldx, MemorySegment y, int ldy) {
+    if (slabrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slabrd_.invokeExact(value(m), value(n), value(nb), a, value(lda), d, e, tauq, taup, x, value(ldx), y, value(ldy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slacn2_ = downcallHandle("slacn2_", null, 7);
+
+  protected void slacn2K(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase, int[] isave, int offsetisave) {
+    slacn2SegmentK(n, segment(v, offsetv), segment(x, offsetx), segment(isgn, offsetisgn), est, kase, segment(isave, offsetisave));
+  }
+
+  private void slacn2SegmentK(int n, MemorySegment v, MemorySegment x, MemorySegment isgn, org.netlib.util.floatW est, org.netlib.util.intW kase, MemorySegment isave) {
+    if (slacn2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __est = { est.val };
+    int[] __kase = { kase.val };
+    try {
+      slacn2_.invokeExact(value(n), v, x, isgn, MemorySegment.ofArray(__est), MemorySegment.ofArray(__kase), isave);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    est.val = __est[0];
+    kase.val = __kase[0];
+  }
+
+  private static final MethodHandle slacon_ = downcallHandle("slacon_", null, 6);
+
+  protected void slaconK(int n, float[] v, int offsetv, float[] x, int offsetx, int[] isgn, int offsetisgn, org.netlib.util.floatW est, org.netlib.util.intW kase) {
+    slaconSegmentK(n, segment(v, offsetv), segment(x, offsetx), segment(isgn, offsetisgn), est, kase);
+  }
+
+  private void slaconSegmentK(int n, MemorySegment v, MemorySegment x, MemorySegment isgn, org.netlib.util.floatW est, org.netlib.util.intW kase) {
+    if (slacon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __est = { est.val };
+    int[] __kase = { kase.val };
+    try {
+      slacon_.invokeExact(value(n), v, x, isgn, MemorySegment.ofArray(__est), MemorySegment.ofArray(__kase));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    est.val = __est[0];
+    kase.val = __kase[0];
+  }
+
+  private static final MethodHandle slacpy_ = downcallHandle("slacpy_", null, 7);
+
+  protected void slacpyK(String uplo, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb) {
+    slacpySegmentK(uplo, m, n, segment(a, offseta), lda, segment(b, offsetb), ldb);
+  }
+
+  private void slacpySegmentK(String uplo, int m, int n, MemorySegment a, int lda, MemorySegment b, int ldb) {
+    if (slacpy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slacpy_.invokeExact(string(uplo), value(m), value(n), a, value(lda), b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle sladiv_ = downcallHandle("sladiv_", null, 6);
+
+  protected void sladivK(float a, float b, float c, float d, org.netlib.util.floatW p, org.netlib.util.floatW q) {
+    sladivSegmentK(a, b, c, d, p, q);
+  }
+
+  private void sladivSegmentK(float a, float b, float c, float d, org.netlib.util.floatW p, org.netlib.util.floatW q) {
+    if (sladiv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __p = { p.val };
+    float[] __q = { q.val };
+    try {
+      sladiv_.invokeExact(value(a), value(b), value(c), value(d), MemorySegment.ofArray(__p), MemorySegment.ofArray(__q));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    p.val = __p[0];
+    q.val = __q[0];
+  }
+
+  private static final MethodHandle slae2_ = downcallHandle("slae2_", null, 5);
+
+  protected void slae2K(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2) {
+    slae2SegmentK(a, b, c, rt1, rt2);
+  }
+
+  private void slae2SegmentK(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2) {
+    if (slae2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rt1 = { rt1.val };
+    float[] __rt2 = { rt2.val };
+    try {
+      slae2_.invokeExact(value(a), value(b), value(c), MemorySegment.ofArray(__rt1), MemorySegment.ofArray(__rt2));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rt1.val = __rt1[0];
+    rt2.val = __rt2[0];
+  }
+
+  private static final MethodHandle slaebz_ = downcallHandle("slaebz_", null, 20);
+
+  protected void slaebzK(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, float abstol, float reltol, float pivmin, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, int[] nval, int offsetnval, float[] ab, int offsetab, float[] c, int offsetc, org.netlib.util.intW mout, int[] nab, int offsetnab, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slaebzSegmentK(ijob, nitmax, n, mmax, minp, nbmin, abstol, reltol, pivmin, segment(d, offsetd), segment(e, offsete), segment(e2, offsete2), segment(nval, offsetnval), segment(ab, offsetab), segment(c, offsetc), mout, segment(nab, offsetnab), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slaebzSegmentK(int ijob, int nitmax, int n, int mmax, int minp, int nbmin, float abstol, float reltol, float pivmin, MemorySegment d, MemorySegment e, MemorySegment e2, MemorySegment nval, MemorySegment ab, MemorySegment c, org.netlib.util.intW mout, MemorySegment nab, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slaebz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __mout = { mout.val };
+    int[] __info = { info.val };
+    try {
+      slaebz_.invokeExact(value(ijob), value(nitmax), value(n), value(mmax), value(minp), value(nbmin), value(abstol), value(reltol), value(pivmin), d, e, e2, nval, ab, c, MemorySegment.ofArray(__mout), nab, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    mout.val = __mout[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaed0_ = downcallHandle("slaed0_", null, 12);
+
+  protected void slaed0K(int icompq, int qsiz, int n, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] qstore, int offsetqstore, int ldqs, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slaed0SegmentK(icompq, qsiz, n, segment(d, offsetd), segment(e, offsete), segment(q, offsetq), ldq, segment(qstore, offsetqstore), ldqs, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slaed0SegmentK(int icompq, int qsiz, int n, MemorySegment d, MemorySegment e, MemorySegment q, int ldq, MemorySegment qstore, int ldqs, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slaed0_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slaed0_.invokeExact(value(icompq), value(qsiz), value(n), d, e, q, value(ldq), qstore, value(ldqs), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaed1_ = downcallHandle("slaed1_", null, 10);
+
+  protected void slaed1K(int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slaed1SegmentK(n, segment(d, offsetd), segment(q, offsetq), ldq, segment(indxq, offsetindxq), rho, cutpnt, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slaed1SegmentK(int n, MemorySegment d, MemorySegment q, int ldq, MemorySegment indxq, org.netlib.util.floatW rho, int cutpnt, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slaed1_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rho = { rho.val };
+    int[] __info = { info.val };
+    try {
+      slaed1_.invokeExact(value(n), d, q, value(ldq), indxq, MemorySegment.ofArray(__rho), value(cutpnt), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rho.val = __rho[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaed2_ = downcallHandle("slaed2_", null, 17);
+
+  protected void slaed2K(org.netlib.util.intW k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] indxc, int offsetindxc, int[] indxp, int offsetindxp, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    slaed2SegmentK(k, n, n1, segment(d, offsetd), segment(q, offsetq), ldq, segment(indxq, offsetindxq), rho, segment(z, offsetz), segment(dlamda, offsetdlamda), segment(w, offsetw), segment(q2, offsetq2), segment(indx, offsetindx), segment(indxc, offsetindxc), segment(indxp, offsetindxp), segment(coltyp, offsetcoltyp), info);
+  }
+
+  private void slaed2SegmentK(org.netlib.util.intW k, int n, int n1, MemorySegment d, MemorySegment q, int ldq, MemorySegment indxq, org.netlib.util.floatW rho, MemorySegment z, MemorySegment dlamda, MemorySegment w, MemorySegment q2, MemorySegment indx, MemorySegment indxc, MemorySegment indxp, MemorySegment coltyp, org.netlib.util.intW info) {
+    if (slaed2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    float[] __rho = { rho.val };
+    int[] __info = { info.val };
+    try {
+      slaed2_.invokeExact(MemorySegment.ofArray(__k), value(n), value(n1), d, q, value(ldq), indxq, MemorySegment.ofArray(__rho), z, dlamda, w, q2, indx, indxc, indxp, coltyp, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    rho.val = __rho[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaed3_ = downcallHandle("slaed3_", null, 14);
+
+  protected void slaed3K(int k, int n, int n1, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int[] indx, int offsetindx, int[] ctot, int offsetctot, float[] w, int offsetw, float[] s, int offsets, org.netlib.util.intW info) {
+    slaed3SegmentK(k, n, n1, segment(d, offsetd), segment(q, offsetq), ldq, rho, segment(dlamda, offsetdlamda), segment(q2, offsetq2), segment(indx, offsetindx), segment(ctot, offsetctot), segment(w, offsetw), segment(s, offsets), info);
+  }
+
+  private void slaed3SegmentK(int k, int n, int n1, MemorySegment d, MemorySegment q, int ldq, float rho, MemorySegment dlamda, MemorySegment q2, MemorySegment indx, MemorySegment ctot, MemorySegment w, MemorySegment s, org.netlib.util.intW info) {
+    if (slaed3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slaed3_.invokeExact(value(k), value(n), value(n1), d, q, value(ldq), value(rho), dlamda, q2, indx, ctot, w, s, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaed4_ = downcallHandle("slaed4_", null, 8);
+
+  protected void slaed4K(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam, org.netlib.util.intW info) {
+    slaed4SegmentK(n, i, segment(d, offsetd), segment(z, offsetz), segment(delta, offsetdelta), rho, dlam, info);
+  }
+
+  private void slaed4SegmentK(int n, int i, MemorySegment d, MemorySegment z, MemorySegment delta, float rho, org.netlib.util.floatW dlam, org.netlib.util.intW info) {
+    if (slaed4_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __dlam = { dlam.val };
+    int[] __info = { info.val };
+    try {
+      slaed4_.invokeExact(value(n), value(i), d, z, delta, value(rho), MemorySegment.ofArray(__dlam), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dlam.val = __dlam[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaed5_ = downcallHandle("slaed5_", null, 6);
+
+  protected void slaed5K(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dlam) {
+    slaed5SegmentK(i, segment(d, offsetd), segment(z, offsetz), segment(delta, offsetdelta), rho, dlam);
+  }
+
+  private void slaed5SegmentK(int i, MemorySegment d, MemorySegment z, MemorySegment delta, float rho, org.netlib.util.floatW dlam) {
+    if (slaed5_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __dlam = { dlam.val };
+    try {
+      slaed5_.invokeExact(value(i), d, z, delta, value(rho), MemorySegment.ofArray(__dlam));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dlam.val = __dlam[0];
+  }
+
+  private static final MethodHandle slaed6_ = downcallHandle("slaed6_", null, 8);
+
+  protected void slaed6K(int kniter, boolean orgati, float rho, float[] d, int offsetd, float[] z, int offsetz, float finit, org.netlib.util.floatW tau, org.netlib.util.intW info) {
+    slaed6SegmentK(kniter, orgati, rho, segment(d, offsetd), segment(z, offsetz), finit, tau, info);
+  }
+
+  private void slaed6SegmentK(int kniter, boolean orgati, float rho, MemorySegment d, MemorySegment z, float finit, org.netlib.util.floatW tau, org.netlib.util.intW info) {
+    if (slaed6_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __tau = { tau.val };
+    int[] __info = { info.val };
+    try {
+      slaed6_.invokeExact(value(kniter), value(orgati ? 1 : 0), value(rho), d, z, value(finit), MemorySegment.ofArray(__tau), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    tau.val = __tau[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaed7_ = downcallHandle("slaed7_", null, 22);
+
+  protected void slaed7K(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] qstore, int offsetqstore, int[] qptr, int offsetqptr, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slaed7SegmentK(icompq, n, qsiz, tlvls, curlvl, curpbm, segment(d, offsetd), segment(q, offsetq), ldq, segment(indxq, offsetindxq), rho, cutpnt, segment(qstore, offsetqstore), segment(qptr, offsetqptr), segment(prmptr, offsetprmptr), segment(perm, offsetperm), segment(givptr, offsetgivptr), segment(givcol, offsetgivcol), segment(givnum, offsetgivnum), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slaed7SegmentK(int icompq, int n, int qsiz, int tlvls, int curlvl, int curpbm, MemorySegment d, MemorySegment q, int ldq, MemorySegment indxq, org.netlib.util.floatW rho, int cutpnt, MemorySegment qstore, MemorySegment qptr, MemorySegment prmptr, MemorySegment perm, MemorySegment givptr, MemorySegment givcol, MemorySegment givnum, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slaed7_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rho = { rho.val };
+    int[] __info = { info.val };
+    try {
+      slaed7_.invokeExact(value(icompq), value(n), value(qsiz), value(tlvls), value(curlvl), value(curpbm), d, q, value(ldq), indxq, MemorySegment.ofArray(__rho), value(cutpnt), qstore, qptr, prmptr, perm, givptr, givcol, givnum, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rho.val = __rho[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaed8_ = downcallHandle("slaed8_", null, 22);
+
+  protected void slaed8K(int icompq, org.netlib.util.intW k, int n, int qsiz, float[] d, int offsetd, float[] q, int offsetq, int ldq, int[] indxq, int offsetindxq, org.netlib.util.floatW rho, int cutpnt, float[] z, int offsetz, float[] dlamda, int offsetdlamda, float[] q2, int offsetq2, int ldq2, float[] w, int offsetw, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, int[] indxp, int offsetindxp, int[] indx, int offsetindx, org.netlib.util.intW info) {
+    slaed8SegmentK(icompq, k, n, qsiz, segment(d, offsetd), segment(q, offsetq), ldq, segment(indxq, offsetindxq), rho, cutpnt, segment(z, offsetz), segment(dlamda, offsetdlamda), segment(q2, offsetq2), ldq2, segment(w, offsetw), segment(perm, offsetperm), givptr, segment(givcol, offsetgivcol), segment(givnum, offsetgivnum), segment(indxp, offsetindxp), segment(indx, offsetindx), info);
+  }
+
+  private void slaed8SegmentK(int icompq, org.netlib.util.intW k, int n, int qsiz, MemorySegment d, MemorySegment q, int ldq, MemorySegment indxq, org.netlib.util.floatW rho, int cutpnt, MemorySegment z, MemorySegment dlamda, MemorySegment q2, int ldq2, MemorySegment w, MemorySegment perm, org.netlib.util.intW givptr, MemorySegment givcol, MemorySegment givnum, MemorySegment indxp, MemorySegment indx, org.netlib.util.intW info) {
+    if (slaed8_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    float[] __rho = { rho.val };
+    int[] __givptr = { givptr.val };
+    int[] __info = { info.val };
+    try {
+      slaed8_.invokeExact(value(icompq), MemorySegment.ofArray(__k), value(n), value(qsiz), d, q, value(ldq), indxq, MemorySegment.ofArray(__rho), value(cutpnt), z, dlamda, q2, value(ldq2), w, perm, MemorySegment.ofArray(__givptr), givcol, givnum, indxp, indx, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    rho.val = __rho[0];
+    givptr.val = __givptr[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaed9_ = downcallHandle("slaed9_", null, 13);
+
+  protected void slaed9K(int k, int kstart, int kstop, int n, float[] d, int offsetd, float[] q, int offsetq, int ldq, float rho, float[] dlamda, int offsetdlamda, float[] w, int offsetw, float[] s, int offsets, int lds, org.netlib.util.intW info) {
+    slaed9SegmentK(k, kstart, kstop, n, segment(d, offsetd), segment(q, offsetq), ldq, rho, segment(dlamda, offsetdlamda), segment(w, offsetw), segment(s, offsets), lds, info);
+  }
+
+  private void slaed9SegmentK(int k, int kstart, int kstop, int n, MemorySegment d, MemorySegment q, int ldq, float rho, MemorySegment dlamda, MemorySegment w, MemorySegment s, int lds, org.netlib.util.intW info) {
+    if (slaed9_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slaed9_.invokeExact(value(k), value(kstart), value(kstop), value(n), d, q, value(ldq), value(rho), dlamda, w, s, value(lds), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaeda_ = downcallHandle("slaeda_", null, 14);
+
+  protected void slaedaK(int n, int tlvls, int curlvl, int curpbm, int[] prmptr, int offsetprmptr, int[] perm, int offsetperm, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, float[] givnum, int offsetgivnum, float[] q, int offsetq, int[] qptr, int offsetqptr, float[] z, int offsetz, float[] ztemp, int offsetztemp, org.netlib.util.intW info) {
+    slaedaSegmentK(n, tlvls, curlvl, curpbm, segment(prmptr, offsetprmptr), segment(perm, offsetperm), segment(givptr, offsetgivptr), segment(givcol, offsetgivcol), segment(givnum, offsetgivnum), segment(q, offsetq), segment(qptr, offsetqptr), segment(z, offsetz), segment(ztemp, offsetztemp), info);
+  }
+
+  private void slaedaSegmentK(int n, int tlvls, int curlvl, int curpbm, MemorySegment prmptr, MemorySegment perm, MemorySegment givptr, MemorySegment givcol, MemorySegment givnum, MemorySegment q, MemorySegment qptr, MemorySegment z, MemorySegment ztemp, org.netlib.util.intW info) {
+    if (slaeda_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slaeda_.invokeExact(value(n), value(tlvls), value(curlvl), value(curpbm), prmptr, perm, givptr, givcol, givnum, q, qptr, z, ztemp, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaein_ = downcallHandle("slaein_", null, 16);
+
+  protected void slaeinK(boolean rightv, boolean noinit, int n, float[] h, int offseth, int ldh, float wr, float wi, float[] vr, int offsetvr, float[] vi, int offsetvi, float[] b, int offsetb, int ldb, float[] work, int offsetwork, float eps3, float smlnum, float bignum, org.netlib.util.intW info) {
+    slaeinSegmentK(rightv, noinit, n, segment(h, offseth), ldh, wr, wi, segment(vr, offsetvr), segment(vi, offsetvi), segment(b, offsetb), ldb, segment(work, offsetwork), eps3, smlnum, bignum, info);
+  }
+
+  private void slaeinSegmentK(boolean rightv, boolean noinit, int n, MemorySegment h, int ldh, float wr, float wi, MemorySegment vr, MemorySegment vi, MemorySegment b, int ldb, MemorySegment work, float eps3, float smlnum, float bignum, org.netlib.util.intW info) {
+    if (slaein_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slaein_.invokeExact(value(rightv ? 1 : 0), value(noinit ? 1 : 0), value(n), h, value(ldh), value(wr), value(wi), vr, vi, b, value(ldb), work, value(eps3), value(smlnum), value(bignum), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaev2_ = downcallHandle("slaev2_", null, 7);
+
+  protected void slaev2K(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2, org.netlib.util.floatW cs1, org.netlib.util.floatW sn1) {
+    slaev2SegmentK(a, b, c, rt1, rt2, cs1, sn1);
+  }
+
+  private void slaev2SegmentK(float a, float b, float c, org.netlib.util.floatW rt1, org.netlib.util.floatW rt2, org.netlib.util.floatW cs1, org.netlib.util.floatW sn1) {
+    if (slaev2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rt1 = { rt1.val };
+    float[] __rt2 = { rt2.val };
+    float[] __cs1 = { cs1.val };
+    float[] __sn1 = { sn1.val };
+    try {
+      slaev2_.invokeExact(value(a), value(b), value(c), MemorySegment.ofArray(__rt1), MemorySegment.ofArray(__rt2), MemorySegment.ofArray(__cs1), MemorySegment.ofArray(__sn1));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rt1.val = __rt1[0];
+    rt2.val = __rt2[0];
+    cs1.val = __cs1[0];
+    sn1.val = __sn1[0];
+  }
+
+  private static final MethodHandle slaexc_ = downcallHandle("slaexc_", null, 11);
+
+  protected void slaexcK(boolean wantq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, int j1, int n1, int n2, float[] work, int offsetwork, org.netlib.util.intW info) {
+    slaexcSegmentK(wantq, n, segment(t, offsett), ldt, segment(q, offsetq), ldq, j1, n1, n2, segment(work, offsetwork), info);
+  }
+
+  private void slaexcSegmentK(boolean wantq, int n, MemorySegment t, int ldt, MemorySegment q, int ldq, int j1, int n1, int n2, MemorySegment work, org.netlib.util.intW info) {
+    if (slaexc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slaexc_.invokeExact(value(wantq ? 1 : 0), value(n), t, value(ldt), q, value(ldq), value(j1), value(n1), value(n2), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slag2_ = downcallHandle("slag2_", null, 10);
+
+  protected void slag2K(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float safmin, org.netlib.util.floatW scale1, org.netlib.util.floatW scale2, org.netlib.util.floatW wr1, org.netlib.util.floatW wr2, org.netlib.util.floatW wi) {
+    slag2SegmentK(segment(a, offseta), lda, segment(b, offsetb), ldb, safmin, scale1, scale2, wr1, wr2, wi);
+  }
+
+  private void slag2SegmentK(MemorySegment a, int lda, MemorySegment b, int ldb, float safmin, org.netlib.util.floatW scale1, org.netlib.util.floatW scale2, org.netlib.util.floatW wr1, org.netlib.util.floatW wr2, org.netlib.util.floatW wi) {
+    if (slag2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale1 = { scale1.val };
+    float[] __scale2 = { scale2.val };
+    float[] __wr1 = { wr1.val };
+    float[] __wr2 = { wr2.val };
+    float[] __wi = { wi.val };
+    try {
+      slag2_.invokeExact(a, value(lda), b, value(ldb), value(safmin), MemorySegment.ofArray(__scale1), MemorySegment.ofArray(__scale2), MemorySegment.ofArray(__wr1), MemorySegment.ofArray(__wr2), MemorySegment.ofArray(__wi));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale1.val = __scale1[0];
+    scale2.val = __scale2[0];
+    wr1.val = __wr1[0];
+    wr2.val = __wr2[0];
+    wi.val = __wi[0];
+  }
+
+  private static final MethodHandle slag2d_ = downcallHandle("slag2d_", null, 7);
+
+  protected void slag2dK(int m, int n, float[] sa, int offsetsa, int ldsa, double[] a, int offseta, int lda, org.netlib.util.intW info) {
+    slag2dSegmentK(m, n, segment(sa, offsetsa), ldsa, segment(a, offseta), lda, info);
+  }
+
+  private void slag2dSegmentK(int m, int n, MemorySegment sa, int ldsa, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (slag2d_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slag2d_.invokeExact(value(m), value(n), sa, value(ldsa), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slags2_ = downcallHandle("slags2_", null, 13);
+
+  protected void slags2K(boolean upper, float a1, float a2, float a3, float b1, float b2, float b3, org.netlib.util.floatW csu, org.netlib.util.floatW snu, org.netlib.util.floatW csv, org.netlib.util.floatW snv, org.netlib.util.floatW csq, org.netlib.util.floatW snq) {
+    slags2SegmentK(upper, a1, a2, a3, b1, b2, b3, csu, snu, csv, snv, csq, snq);
+  }
+
+  private void slags2SegmentK(boolean upper, float a1, float a2, float a3, float b1, float b2, float b3, org.netlib.util.floatW csu, org.netlib.util.floatW snu, org.netlib.util.floatW csv, org.netlib.util.floatW snv, org.netlib.util.floatW csq, org.netlib.util.floatW snq) {
+    if (slags2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __csu = { csu.val };
+    float[] __snu = { snu.val };
+    float[] __csv = { csv.val };
+    float[] __snv = { snv.val };
+    float[] __csq = { csq.val };
+    float[] __snq = { snq.val };
+    try {
+      slags2_.invokeExact(value(upper ? 1 : 0), value(a1), value(a2), value(a3), value(b1), value(b2), value(b3), MemorySegment.ofArray(__csu), MemorySegment.ofArray(__snu), MemorySegment.ofArray(__csv), MemorySegment.ofArray(__snv), MemorySegment.ofArray(__csq), MemorySegment.ofArray(__snq));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    csu.val = __csu[0];
+    snu.val = __snu[0];
+    csv.val = __csv[0];
+    snv.val = __snv[0];
+    csq.val = __csq[0];
+    snq.val = __snq[0];
+  }
+
+  private static final MethodHandle slagtf_ = downcallHandle("slagtf_", null, 9);
+
+  protected void slagtfK(int n, float[] a, int offseta, float lambda, float[] b, int offsetb, float[] c, int offsetc, float tol, float[] d, int offsetd, int[] in, int offsetin, org.netlib.util.intW info) {
+    slagtfSegmentK(n, segment(a, offseta), lambda, segment(b, offsetb), segment(c, offsetc), tol, segment(d, offsetd), segment(in, offsetin), info);
+  }
+
+  private void slagtfSegmentK(int n, MemorySegment a, float lambda, MemorySegment b, MemorySegment c, float tol, MemorySegment d, MemorySegment in, org.netlib.util.intW info) {
+    if (slagtf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slagtf_.invokeExact(value(n), a, value(lambda), b, c, value(tol), d, in, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slagtm_ = downcallHandle("slagtm_", null, 12);
+
+  protected void slagtmK(String trans, int n, int nrhs, float alpha, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu, float[] x, int offsetx, int ldx, float beta, float[] b, int offsetb, int ldb) {
+    slagtmSegmentK(trans, n, nrhs, alpha, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu), segment(x, offsetx), ldx, beta, segment(b, offsetb), ldb);
+  }
+
+  private void slagtmSegmentK(String trans, int n, int nrhs, float alpha, MemorySegment dl, MemorySegment d, MemorySegment du, MemorySegment x, int ldx, float beta, MemorySegment b, int ldb) {
+    if (slagtm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slagtm_.invokeExact(string(trans), value(n), value(nrhs), value(alpha), dl, d, du, x, value(ldx), value(beta), b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slagts_ = downcallHandle("slagts_", null, 10);
+
+  protected void slagtsK(int job, int n, float[] a, int offseta, float[] b, int offsetb, float[] c, int offsetc, float[] d, int offsetd, int[] in, int offsetin, float[] y, int offsety, org.netlib.util.floatW tol, org.netlib.util.intW info) {
+    slagtsSegmentK(job, n, segment(a, offseta), segment(b, offsetb), segment(c, offsetc), segment(d, offsetd), segment(in, offsetin), segment(y, offsety), tol, info);
+  }
+
+  private void slagtsSegmentK(int job, int n, MemorySegment a, MemorySegment b, MemorySegment c, MemorySegment d, MemorySegment in, MemorySegment y, org.netlib.util.floatW tol, org.netlib.util.intW info) {
+    if (slagts_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __tol = { tol.val };
+    int[] __info = { info.val };
+    try {
+      slagts_.invokeExact(value(job), value(n), a, b, c, d, in, y, MemorySegment.ofArray(__tol), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    tol.val = __tol[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slagv2_ = downcallHandle("slagv2_", null, 11);
+
+  protected void slagv2K(float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, org.netlib.util.floatW csl, org.netlib.util.floatW snl, org.netlib.util.floatW csr, org.netlib.util.floatW snr) {
+    slagv2SegmentK(segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), csl, snl, csr, snr);
+  }
+
+  private void slagv2SegmentK(MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, org.netlib.util.floatW csl, org.netlib.util.floatW snl, org.netlib.util.floatW csr, org.netlib.util.floatW snr) {
+    if (slagv2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __csl = { csl.val };
+    float[] __snl = { snl.val };
+    float[] __csr = { csr.val };
+    float[] __snr = { snr.val };
+    try {
+      slagv2_.invokeExact(a, value(lda), b, value(ldb), alphar, alphai, beta, MemorySegment.ofArray(__csl), MemorySegment.ofArray(__snl), MemorySegment.ofArray(__csr), MemorySegment.ofArray(__snr));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    csl.val = __csl[0];
+    snl.val = __snl[0];
+    csr.val = __csr[0];
+    snr.val = __snr[0];
+  }
+
+  private static final MethodHandle slahqr_ = downcallHandle("slahqr_", null, 14);
+
+  protected void slahqrK(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW info) {
+    slahqrSegmentK(wantt, wantz, n, ilo, ihi, segment(h, offseth), ldh, segment(wr, offsetwr), segment(wi, offsetwi), iloz, ihiz, segment(z, offsetz), ldz, info);
+  }
+
+  private void slahqrSegmentK(boolean wantt, boolean wantz, int n, int ilo, int ihi, MemorySegment h, int ldh, MemorySegment wr, MemorySegment wi, int iloz, int ihiz, MemorySegment z, int ldz, org.netlib.util.intW info) {
+    if (slahqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slahqr_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(n), value(ilo), value(ihi), h, value(ldh), wr, wi, value(iloz), value(ihiz), z, value(ldz), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slahr2_ = downcallHandle("slahr2_", null, 10);
+
+  protected void slahr2K(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy) {
+    slahr2SegmentK(n, k, nb, segment(a, offseta), lda, segment(tau, offsettau), segment(t, offsett), ldt, segment(y, offsety), ldy);
+  }
+
+  private void slahr2SegmentK(int n, int k, int nb, MemorySegment a, int lda, MemorySegment tau, MemorySegment t, int ldt, MemorySegment y, int ldy) {
+    if (slahr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slahr2_.invokeExact(value(n), value(k), value(nb), a, value(lda), tau, t, value(ldt), y, value(ldy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slahrd_ = downcallHandle("slahrd_", null, 10);
+
+  protected void slahrdK(int n, int k, int nb, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] t, int offsett, int ldt, float[] y, int offsety, int ldy) {
+    slahrdSegmentK(n, k, nb, segment(a, offseta), lda, segment(tau, offsettau), segment(t, offsett), ldt, segment(y, offsety), ldy);
+  }
+
+  private void slahrdSegmentK(int n, int k, int nb, MemorySegment a, int lda, MemorySegment tau, MemorySegment t, int ldt, MemorySegment y, int ldy) {
+    if (slahrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slahrd_.invokeExact(value(n), value(k), value(nb), a, value(lda), tau, t, value(ldt), y, value(ldy));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slaic1_ = downcallHandle("slaic1_", null, 9);
+
+  protected void slaic1K(int job, int j, float[] x, int offsetx, float sest, float[] w, int offsetw, float gamma, org.netlib.util.floatW sestpr, org.netlib.util.floatW s, org.netlib.util.floatW c) {
+    slaic1SegmentK(job, j, segment(x, offsetx), sest, segment(w, offsetw), gamma, sestpr, s, c);
+  }
+
+  private void slaic1SegmentK(int job, int j, MemorySegment x, float sest, MemorySegment w, float gamma, org.netlib.util.floatW sestpr, org.netlib.util.floatW s, org.netlib.util.floatW c) {
+    if (slaic1_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __sestpr = { sestpr.val };
+    float[] __s = { s.val };
+    float[] __c = { c.val };
+    try {
+      slaic1_.invokeExact(value(job), value(j), x, value(sest), w, value(gamma), MemorySegment.ofArray(__sestpr), MemorySegment.ofArray(__s), MemorySegment.ofArray(__c));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    sestpr.val = __sestpr[0];
+    s.val = __s[0];
+    c.val = __c[0];
+  }
+
+  private static final MethodHandle slaisnan_ = downcallHandle("slaisnan_", JAVA_INT, 2);
+
+  protected boolean slaisnanK(float sin1, float sin2) {
+    return slaisnanSegmentK(sin1, sin2);
+  }
+
+  private boolean slaisnanSegmentK(float sin1, float sin2) {
+    if (slaisnan_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) slaisnan_.invokeExact(value(sin1), value(sin2)) != 0;
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slaln2_ = downcallHandle("slaln2_", null, 18);
+
+  protected void slaln2K(boolean ltrans, int na, int nw, float smin, float ca, float[] a, int offseta, int lda, float d1, float d2, float[] b, int offsetb, int ldb, float wr, float wi, float[] x, int offsetx, int ldx, org.netlib.util.floatW scale, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    slaln2SegmentK(ltrans, na, nw, smin, ca, segment(a, offseta), lda, d1, d2, segment(b, offsetb), ldb, wr, wi, segment(x, offsetx), ldx, scale, xnorm, info);
+  }
+
+  private void slaln2SegmentK(boolean ltrans, int na, int nw, float smin, float ca, MemorySegment a, int lda, float d1, float d2, MemorySegment b, int ldb, float wr, float wi, MemorySegment x, int ldx, org.netlib.util.floatW scale, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    if (slaln2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    float[] __xnorm = { xnorm.val };
+    int[] __info = { info.val };
+    try {
+      slaln2_.invokeExact(value(ltrans ? 1 : 0), value(na), value(nw), value(smin), value(ca), a, value(lda), value(d1), value(d2), b, value(ldb), value(wr), value(wi), x, value(ldx), MemorySegment.ofArray(__scale), MemorySegment.ofArray(__xnorm), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    xnorm.val = __xnorm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slals0_ = downcallHandle("slals0_", null, 24);
+
+  protected void slals0K(int icompq, int nl, int nr, int sqre, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, int[] perm, int offsetperm, int givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, int k, float c, float s, float[] work, int offsetwork, org.netlib.util.intW info) {
+    slals0SegmentK(icompq, nl, nr, sqre, nrhs, segment(b, offsetb), ldb, segment(bx, offsetbx), ldbx, segment(perm, offsetperm), givptr, segment(givcol, offsetgivcol), ldgcol, segment(givnum, offsetgivnum), ldgnum, segment(poles, offsetpoles), segment(difl, offsetdifl), segment(difr, offsetdifr), segment(z, offsetz), k, c, s, segment(work, offsetwork), info);
+  }
+
+  private void slals0SegmentK(int icompq, int nl, int nr, int sqre, int nrhs, MemorySegment b, int ldb, MemorySegment bx, int ldbx, MemorySegment perm, int givptr, MemorySegment givcol, int ldgcol, MemorySegment givnum, int ldgnum, MemorySegment poles, MemorySegment difl, MemorySegment difr, MemorySegment z, int k, float c, float s, MemorySegment work, org.netlib.util.intW info) {
+    if (slals0_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slals0_.invokeExact(value(icompq), value(nl), value(nr), value(sqre), value(nrhs), b, value(ldb), bx, value(ldbx), perm, value(givptr), givcol, value(ldgcol), givnum, value(ldgnum), poles, difl, difr, z, value(k), value(c), value(s), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slalsa_ = downcallHandle("slalsa_", null, 26);
+
+  protected void slalsaK(int icompq, int smlsiz, int n, int nrhs, float[] b, int offsetb, int ldb, float[] bx, int offsetbx, int ldbx, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slalsaSegmentK(icompq, smlsiz, n, nrhs, segment(b, offsetb), ldb, segment(bx, offsetbx), ldbx, segment(u, offsetu), ldu, segment(vt, offsetvt), segment(k, offsetk), segment(difl, offsetdifl), segment(difr, offsetdifr), segment(z, offsetz), segment(poles, offsetpoles), segment(givptr, offsetgivptr), segment(givcol, offsetgivcol), ldgcol, segment(perm, offsetperm), segment(givnum, offsetgivnum), segment(c, offsetc), segment(s, offsets), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slalsaSegmentK(int icompq, int smlsiz, int n, int nrhs, MemorySegment b, int ldb, MemorySegment bx, int ldbx, MemorySegment u, int ldu, MemorySegment vt, MemorySegment k, MemorySegment difl, MemorySegment difr, MemorySegment z, MemorySegment poles, MemorySegment givptr, MemorySegment givcol, int ldgcol, MemorySegment perm, MemorySegment givnum, MemorySegment c, MemorySegment s, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slalsa_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slalsa_.invokeExact(value(icompq), value(smlsiz), value(n), value(nrhs), b, value(ldb), bx, value(ldbx), u, value(ldu), vt, k, difl, difr, z, poles, givptr, givcol, value(ldgcol), perm, givnum, c, s, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slalsd_ = downcallHandle("slalsd_", null, 13);
+
+  protected void slalsdK(String uplo, int smlsiz, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, float rcond, org.netlib.util.intW rank, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slalsdSegmentK(uplo, smlsiz, n, nrhs, segment(d, offsetd), segment(e, offsete), segment(b, offsetb), ldb, rcond, rank, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slalsdSegmentK(String uplo, int smlsiz, int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment b, int ldb, float rcond, org.netlib.util.intW rank, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slalsd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __rank = { rank.val };
+    int[] __info = { info.val };
+    try {
+      slalsd_.invokeExact(string(uplo), value(smlsiz), value(n), value(nrhs), d, e, b, value(ldb), value(rcond), MemorySegment.ofArray(__rank), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rank.val = __rank[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slamrg_ = downcallHandle("slamrg_", null, 6);
+
+  protected void slamrgK(int n1, int n2, float[] a, int offseta, int strd1, int strd2, int[] index, int offsetindex) {
+    slamrgSegmentK(n1, n2, segment(a, offseta), strd1, strd2, segment(index, offsetindex));
+  }
+
+  private void slamrgSegmentK(int n1, int n2, MemorySegment a, int strd1, int strd2, MemorySegment index) {
+    if (slamrg_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slamrg_.invokeExact(value(n1), value(n2), a, value(strd1), value(strd2), index);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slaneg_ = downcallHandle("slaneg_", JAVA_INT, 6);
+
+  protected int slanegK(int n, float[] d, int offsetd, float[] lld, int offsetlld, float sigma, float pivmin, int r) {
+    return slanegSegmentK(n, segment(d, offsetd), segment(lld, offsetlld), sigma, pivmin, r);
+  }
+
+  private int slanegSegmentK(int n, MemorySegment d, MemorySegment lld, float sigma, float pivmin, int r) {
+    if (slaneg_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) slaneg_.invokeExact(value(n), d, lld, value(sigma), value(pivmin), value(r));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slangb_ = downcallHandle("slangb_", JAVA_FLOAT, 7);
+
+  protected float slangbK(String norm, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    return slangbSegmentK(norm, n, kl, ku, segment(ab, offsetab), ldab, segment(work, offsetwork));
+  }
+
+  private float slangbSegmentK(String norm, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment work) {
+    if (slangb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slangb_.invokeExact(string(norm), value(n), value(kl), value(ku), ab, value(ldab), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slange_ = downcallHandle("slange_", JAVA_FLOAT, 6);
+
+  protected float slangeK(String norm, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    return slangeSegmentK(norm, m, n, segment(a, offseta), lda, segment(work, offsetwork));
+  }
+
+  private float slangeSegmentK(String norm, int m, int n, MemorySegment a, int lda, MemorySegment work) {
+    if (slange_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slange_.invokeExact(string(norm), value(m), value(n), a, value(lda), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slangt_ = downcallHandle("slangt_", JAVA_FLOAT, 5);
+
+  protected float slangtK(String norm, int n, float[] dl, int offsetdl, float[] d, int offsetd, float[] du, int offsetdu) {
+    return slangtSegmentK(norm, n, segment(dl, offsetdl), segment(d, offsetd), segment(du, offsetdu));
+  }
+
+  private float slangtSegmentK(String norm, int n, MemorySegment dl, MemorySegment d, MemorySegment du) {
+    if (slangt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slangt_.invokeExact(string(norm), value(n), dl, d, du);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slanhs_ = downcallHandle("slanhs_", JAVA_FLOAT, 5);
+
+  protected float slanhsK(String norm, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    return slanhsSegmentK(norm, n, segment(a, offseta), lda, segment(work, offsetwork));
+  }
+
+  private float slanhsSegmentK(String norm, int n, MemorySegment a, int lda, MemorySegment work) {
+    if (slanhs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slanhs_.invokeExact(string(norm), value(n), a, value(lda), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slansb_ = downcallHandle("slansb_", JAVA_FLOAT, 7);
+
+  protected float slansbK(String norm, String uplo, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    return slansbSegmentK(norm, uplo, n, k, segment(ab, offsetab), ldab, segment(work, offsetwork));
+  }
+
+  private float slansbSegmentK(String norm, String uplo, int n, int k, MemorySegment ab, int ldab, MemorySegment work) {
+    if (slansb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slansb_.invokeExact(string(norm), string(uplo), value(n), value(k), ab, value(ldab), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slansp_ = downcallHandle("slansp_", JAVA_FLOAT, 5);
+
+  protected float slanspK(String norm, String uplo, int n, float[] ap, int offsetap, float[] work, int offsetwork) {
+    return slanspSegmentK(norm, uplo, n, segment(ap, offsetap), segment(work, offsetwork));
+  }
+
+  private float slanspSegmentK(String norm, String uplo, int n, MemorySegment ap, MemorySegment work) {
+    if (slansp_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slansp_.invokeExact(string(norm), string(uplo), value(n), ap, work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slanst_ = downcallHandle("slanst_", JAVA_FLOAT, 4);
+
+  protected float slanstK(String norm, int n, float[] d, int offsetd, float[] e, int offsete) {
+    return slanstSegmentK(norm, n, segment(d, offsetd), segment(e, offsete));
+  }
+
+  private float slanstSegmentK(String norm, int n, MemorySegment d, MemorySegment e) {
+    if (slanst_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slanst_.invokeExact(string(norm), value(n), d, e);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slansy_ = downcallHandle("slansy_", JAVA_FLOAT, 6);
+
+  protected float slansyK(String norm, String uplo, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    return slansySegmentK(norm, uplo, n, segment(a, offseta), lda, segment(work, offsetwork));
+  }
+
+  private float slansySegmentK(String norm, String uplo, int n, MemorySegment a, int lda, MemorySegment work) {
+    if (slansy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slansy_.invokeExact(string(norm), string(uplo), value(n), a, value(lda), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slantb_ = downcallHandle("slantb_", JAVA_FLOAT, 8);
+
+  protected float slantbK(String norm, String uplo, String diag, int n, int k, float[] ab, int offsetab, int ldab, float[] work, int offsetwork) {
+    return slantbSegmentK(norm, uplo, diag, n, k, segment(ab, offsetab), ldab, segment(work, offsetwork));
+  }
+
+  private float slantbSegmentK(String norm, String uplo, String diag, int n, int k, MemorySegment ab, int ldab, MemorySegment work) {
+    if (slantb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slantb_.invokeExact(string(norm), string(uplo), string(diag), value(n), value(k), ab, value(ldab), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slantp_ = downcallHandle("slantp_", JAVA_FLOAT, 6);
+
+  protected float slantpK(String norm, String uplo, String diag, int n, float[] ap, int offsetap, float[] work, int offsetwork) {
+    return slantpSegmentK(norm, uplo, diag, n, segment(ap, offsetap), segment(work, offsetwork));
+  }
+
+  private float slantpSegmentK(String norm, String uplo, String diag, int n, MemorySegment ap, MemorySegment work) {
+    if (slantp_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slantp_.invokeExact(string(norm), string(uplo), string(diag), value(n), ap, work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slantr_ = downcallHandle("slantr_", JAVA_FLOAT, 8);
+
+  protected float slantrK(String norm, String uplo, String diag, int m, int n, float[] a, int offseta, int lda, float[] work, int offsetwork) {
+    return slantrSegmentK(norm, uplo, diag, m, n, segment(a, offseta), lda, segment(work, offsetwork));
+  }
+
+  private float slantrSegmentK(String norm, String uplo, String diag, int m, int n, MemorySegment a, int lda, MemorySegment work) {
+    if (slantr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slantr_.invokeExact(string(norm), string(uplo), string(diag), value(m), value(n), a, value(lda), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slanv2_ = downcallHandle("slanv2_", null, 10);
+
+  protected void slanv2K(org.netlib.util.floatW a, org.netlib.util.floatW b, org.netlib.util.floatW c, org.netlib.util.floatW d, org.netlib.util.floatW rt1r, org.netlib.util.floatW rt1i, org.netlib.util.floatW rt2r, org.netlib.util.floatW rt2i, org.netlib.util.floatW cs, org.netlib.util.floatW sn) {
+    slanv2SegmentK(a, b, c, d, rt1r, rt1i, rt2r, rt2i, cs, sn);
+  }
+
+  private void slanv2SegmentK(org.netlib.util.floatW a, org.netlib.util.floatW b, org.netlib.util.floatW c, org.netlib.util.floatW d, org.netlib.util.floatW rt1r, org.netlib.util.floatW rt1i, org.netlib.util.floatW rt2r, org.netlib.util.floatW rt2i, org.netlib.util.floatW cs, org.netlib.util.floatW sn) {
+    if (slanv2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __a = { a.val };
+    float[] __b = { b.val };
+    float[] __c = { c.val };
+    float[] __d = { d.val };
+    float[] __rt1r = { rt1r.val };
+    float[] __rt1i = { rt1i.val };
+    float[] __rt2r = { rt2r.val };
+    float[] __rt2i = { rt2i.val };
+    float[] __cs = { cs.val };
+    float[] __sn = { sn.val };
+    try {
+      slanv2_.invokeExact(MemorySegment.ofArray(__a), MemorySegment.ofArray(__b), MemorySegment.ofArray(__c), MemorySegment.ofArray(__d), MemorySegment.ofArray(__rt1r), MemorySegment.ofArray(__rt1i), MemorySegment.ofArray(__rt2r), MemorySegment.ofArray(__rt2i), MemorySegment.ofArray(__cs), MemorySegment.ofArray(__sn));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    a.val = __a[0];
+    b.val = __b[0];
+    c.val = __c[0];
+    d.val = __d[0];
+    rt1r.val = __rt1r[0];
+    rt1i.val = __rt1i[0];
+    rt2r.val = __rt2r[0];
+    rt2i.val = __rt2i[0];
+    cs.val = __cs[0];
+    sn.val = __sn[0];
+  }
+
+  private static final MethodHandle slapll_ = downcallHandle("slapll_", null, 6);
+
+  protected void slapllK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, org.netlib.util.floatW ssmin) {
+    slapllSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy, ssmin);
+  }
+
+  private void slapllSegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy, org.netlib.util.floatW ssmin) {
+    if (slapll_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ssmin = { ssmin.val };
+    try {
+      slapll_.invokeExact(value(n), x, value(incx), y, value(incy), MemorySegment.ofArray(__ssmin));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ssmin.val = __ssmin[0];
+  }
+
+  private static final MethodHandle slapmt_ = downcallHandle("slapmt_", null, 6);
+
+  protected void slapmtK(boolean forwrd, int m, int n, float[] x, int offsetx, int ldx, int[] k, int offsetk) {
+    slapmtSegmentK(forwrd, m, n, segment(x, offsetx), ldx, segment(k, offsetk));
+  }
+
+  private void slapmtSegmentK(boolean forwrd, int m, int n, MemorySegment x, int ldx, MemorySegment k) {
+    if (slapmt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slapmt_.invokeExact(value(forwrd ? 1 : 0), value(m), value(n), x, value(ldx), k);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slapy2_ = downcallHandle("slapy2_", JAVA_FLOAT, 2);
+
+  protected float slapy2K(float x, float y) {
+    return slapy2SegmentK(x, y);
+  }
+
+  private float slapy2SegmentK(float x, float y) {
+    if (slapy2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slapy2_.invokeExact(value(x), value(y));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slapy3_ = downcallHandle("slapy3_", JAVA_FLOAT, 3);
+
+  protected float slapy3K(float x, float y, float z) {
+    return slapy3SegmentK(x, y, z);
+  }
+
+  private float slapy3SegmentK(float x, float y, float z) {
+    if (slapy3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slapy3_.invokeExact(value(x), value(y), value(z));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slaqgb_ = downcallHandle("slaqgb_", null, 12);
+
+  protected void slaqgbK(int m, int n, int kl, int ku, float[] ab, int offsetab, int ldab, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    slaqgbSegmentK(m, n, kl, ku, segment(ab, offsetab), ldab, segment(r, offsetr), segment(c, offsetc), rowcnd, colcnd, amax, equed);
+  }
+
+  private void slaqgbSegmentK(int m, int n, int kl, int ku, MemorySegment ab, int ldab, MemorySegment r, MemorySegment c, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    if (slaqgb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    try {
+      slaqgb_.invokeExact(value(m), value(n), value(kl), value(ku), ab, value(ldab), r, c, value(rowcnd), value(colcnd), value(amax), MemorySegment.ofArray(__equed));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+  }
+
+  private static final MethodHandle slaqge_ = downcallHandle("slaqge_", null, 10);
+
+  protected void slaqgeK(int m, int n, float[] a, int offseta, int lda, float[] r, int offsetr, float[] c, int offsetc, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    slaqgeSegmentK(m, n, segment(a, offseta), lda, segment(r, offsetr), segment(c, offsetc), rowcnd, colcnd, amax, equed);
+  }
+
+  private void slaqgeSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment r, MemorySegment c, float rowcnd, float colcnd, float amax, org.netlib.util.StringW equed) {
+    if (slaqge_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    try {
+      slaqge_.invokeExact(value(m), value(n), a, value(lda), r, c, value(rowcnd), value(colcnd), value(amax), MemorySegment.ofArray(__equed));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+  }
+
+  private static final MethodHandle slaqp2_ = downcallHandle("slaqp2_", null, 10);
+
+  protected void slaqp2K(int m, int n, int offset, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] work, int offsetwork) {
+    slaqp2SegmentK(m, n, offset, segment(a, offseta), lda, segment(jpvt, offsetjpvt), segment(tau, offsettau), segment(vn1, offsetvn1), segment(vn2, offsetvn2), segment(work, offsetwork));
+  }
+
+  private void slaqp2SegmentK(int m, int n, int offset, MemorySegment a, int lda, MemorySegment jpvt, MemorySegment tau, MemorySegment vn1, MemorySegment vn2, MemorySegment work) {
+    if (slaqp2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slaqp2_.invokeExact(value(m), value(n), value(offset), a, value(lda), jpvt, tau, vn1, vn2, work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slaqps_ = downcallHandle("slaqps_", null, 14);
+
+  protected void slaqpsK(int m, int n, int offset, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] jpvt, int offsetjpvt, float[] tau, int offsettau, float[] vn1, int offsetvn1, float[] vn2, int offsetvn2, float[] auxv, int offsetauxv, float[] f, int offsetf, int ldf) {
+    slaqpsSegmentK(m, n, offset, nb, kb, segment(a, offseta), lda, segment(jpvt, offsetjpvt), segment(tau, offsettau), segment(vn1, offsetvn1), segment(vn2, offsetvn2), segment(auxv, offsetauxv), segment(f, offsetf), ldf);
+  }
+
+  private void slaqpsSegmentK(int m, int n, int offset, int nb, org.netlib.util.intW kb, MemorySegment a, int lda, MemorySegment jpvt, MemorySegment tau, MemorySegment vn1, MemorySegment vn2, MemorySegment auxv, MemorySegment f, int ldf) {
+    if (slaqps_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __kb = { kb.val };
+    try {
+      slaqps_.invokeExact(value(m), value(n), value(offset), value(nb), MemorySegment.ofArray(__kb), a, value(lda), jpvt, tau, vn1, vn2, auxv, f, value(ldf));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    kb.val = __kb[0];
+  }
+
+  private static final MethodHandle slaqr0_ = downcallHandle("slaqr0_", null, 16);
+
+  protected void slaqr0K(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    slaqr0SegmentK(wantt, wantz, n, ilo, ihi, segment(h, offseth), ldh, segment(wr, offsetwr), segment(wi, offsetwi), iloz, ihiz, segment(z, offsetz), ldz, segment(work, offsetwork), lwork, info);
+  }
+
+  private void slaqr0SegmentK(boolean wantt, boolean wantz, int n, int ilo, int ihi, MemorySegment h, int ldh, MemorySegment wr, MemorySegment wi, int iloz, int ihiz, MemorySegment z, int ldz, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (slaqr0_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slaqr0_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(n), value(ilo), value(ihi), h, value(ldh), wr, wi, value(iloz), value(ihiz), z, value(ldz), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaqr1_ = downcallHandle("slaqr1_", null, 8);
+
+  protected void slaqr1K(int n, float[] h, int offseth, int ldh, float sr1, float si1, float sr2, float si2, float[] v, int offsetv) {
+    slaqr1SegmentK(n, segment(h, offseth), ldh, sr1, si1, sr2, si2, segment(v, offsetv));
+  }
+
+  private void slaqr1SegmentK(int n, MemorySegment h, int ldh, float sr1, float si1, float sr2, float si2, MemorySegment v) {
+    if (slaqr1_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slaqr1_.invokeExact(value(n), h, value(ldh), value(sr1), value(si1), value(sr2), value(si2), v);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slaqr2_ = downcallHandle("slaqr2_", null, 26);
+
+  protected void slaqr2K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork) {
+    slaqr2SegmentK(wantt, wantz, n, ktop, kbot, nw, segment(h, offseth), ldh, iloz, ihiz, segment(z, offsetz), ldz, ns, nd, segment(sr, offsetsr), segment(si, offsetsi), segment(v, offsetv), ldv, nh, segment(t, offsett), ldt, nv, segment(wv, offsetwv), ldwv, segment(work, offsetwork), lwork);
+  }
+
+  private void slaqr2SegmentK(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, MemorySegment h, int ldh, int iloz, int ihiz, MemorySegment z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, MemorySegment sr, MemorySegment si, MemorySegment v, int ldv, int nh, MemorySegment t, int ldt, int nv, MemorySegment wv, int ldwv, MemorySegment work, int lwork) {
+    if (slaqr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ns = { ns.val };
+    int[] __nd = { nd.val };
+    try {
+      slaqr2_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(n), value(ktop), value(kbot), value(nw), h, value(ldh), value(iloz), value(ihiz), z, value(ldz), MemorySegment.ofArray(__ns), MemorySegment.ofArray(__nd), sr, si, v, value(ldv), value(nh), t, value(ldt), value(nv), wv, value(ldwv), work, value(lwork));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ns.val = __ns[0];
+    nd.val = __nd[0];
+  }
+
+  private static final MethodHandle slaqr3_ = downcallHandle("slaqr3_", null, 26);
+
+  protected void slaqr3K(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, float[] sr, int offsetsr, float[] si, int offsetsi, float[] v, int offsetv, int ldv, int nh, float[] t, int offsett, int ldt, int nv, float[] wv, int offsetwv, int ldwv, float[] work, int offsetwork, int lwork) {
+    slaqr3SegmentK(wantt, wantz, n, ktop, kbot, nw, segment(h, offseth), ldh, iloz, ihiz, segment(z, offsetz), ldz, ns, nd, segment(sr, offsetsr), segment(si, offsetsi), segment(v, offsetv), ldv, nh, segment(t, offsett), ldt, nv, segment(wv, offsetwv), ldwv, segment(work, offsetwork), lwork);
+  }
+
+  private void slaqr3SegmentK(boolean wantt, boolean wantz, int n, int ktop, int kbot, int nw, MemorySegment h, int ldh, int iloz, int ihiz, MemorySegment z, int ldz, org.netlib.util.intW ns, org.netlib.util.intW nd, MemorySegment sr, MemorySegment si, MemorySegment v, int ldv, int nh, MemorySegment t, int ldt, int nv, MemorySegment wv, int ldwv, MemorySegment work, int lwork) {
+    if (slaqr3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ns = { ns.val };
+    int[] __nd = { nd.val };
+    try {
+      slaqr3_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(n), value(ktop), value(kbot), value(nw), h, value(ldh), value(iloz), value(ihiz), z, value(ldz), MemorySegment.ofArray(__ns), MemorySegment.ofArray(__nd), sr, si, v, value(ldv), value(nh), t, value(ldt), value(nv), wv, value(ldwv), work, value(lwork));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ns.val = __ns[0];
+    nd.val = __nd[0];
+  }
+
+  private static final MethodHandle slaqr4_ = downcallHandle("slaqr4_", null, 16);
+
+  protected void slaqr4K(boolean wantt, boolean wantz, int n, int ilo, int ihi, float[] h, int offseth, int ldh, float[] wr, int offsetwr, float[] wi, int offsetwi, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    slaqr4SegmentK(wantt, wantz, n, ilo, ihi, segment(h, offseth), ldh, segment(wr, offsetwr), segment(wi, offsetwi), iloz, ihiz, segment(z, offsetz), ldz, segment(work, offsetwork), lwork, info);
+  }
+
+  private void slaqr4SegmentK(boolean wantt, boolean wantz, int n, int ilo, int ihi, MemorySegment h, int ldh, MemorySegment wr, MemorySegment wi, int iloz, int ihiz, MemorySegment z, int ldz, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (slaqr4_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slaqr4_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(n), value(ilo), value(ihi), h, value(ldh), wr, wi, value(iloz), value(ihiz), z, value(ldz), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slaqr5_ = downcallHandle("slaqr5_", null, 25);
+
+  protected void slaqr5K(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, float[] sr, int offsetsr, float[] si, int offsetsi, float[] h, int offseth, int ldh, int iloz, int ihiz, float[] z, int offsetz, int ldz, float[] v, int offsetv, int ldv, float[] u, int offsetu, int ldu, int nv, float[] wv, int offsetwv, int ldwv, int nh, float[] wh, int offsetwh, int ldwh) {
+    slaqr5SegmentK(wantt, wantz, kacc22, n, ktop, kbot, nshfts, segment(sr, offsetsr), segment(si, offsetsi), segment(h, offseth), ldh, iloz, ihiz, segment(z, offsetz), ldz, segment(v, offsetv), ldv, segment(u, offsetu), ldu, nv, segment(wv, offsetwv), ldwv, nh, segment(wh, offsetwh), ldwh);
+  }
+
+  private void slaqr5SegmentK(boolean wantt, boolean wantz, int kacc22, int n, int ktop, int kbot, int nshfts, MemorySegment sr, MemorySegment si, MemorySegment h, int ldh, int iloz, int ihiz, MemorySegment z, int ldz, MemorySegment v, int ldv, MemorySegment u, int ldu, int nv, MemorySegment wv, int ldwv, int nh, MemorySegment wh, int ldwh) {
+    if (slaqr5_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slaqr5_.invokeExact(value(wantt ? 1 : 0), value(wantz ? 1 : 0), value(kacc22), value(n), value(ktop), value(kbot), value(nshfts), sr, si, h, value(ldh), value(iloz), value(ihiz), z, value(ldz), v, value(ldv), u, value(ldu), value(nv), wv, value(ldwv), value(nh), wh, value(ldwh));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slaqsb_ = downcallHandle("slaqsb_", null, 9);
+
+  protected void slaqsbK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    slaqsbSegmentK(uplo, n, kd, segment(ab, offsetab), ldab, segment(s, offsets), scond, amax, equed);
+  }
+
+  private void slaqsbSegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment s, float scond, float amax, org.netlib.util.StringW equed) {
+    if (slaqsb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    try {
+      slaqsb_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), s, value(scond), value(amax), MemorySegment.ofArray(__equed));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+  }
+
+  private static final MethodHandle slaqsp_ = downcallHandle("slaqsp_", null, 7);
+
+  protected void slaqspK(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    slaqspSegmentK(uplo, n, segment(ap, offsetap), segment(s, offsets), scond, amax, equed);
+  }
+
+  private void slaqspSegmentK(String uplo, int n, MemorySegment ap, MemorySegment s, float scond, float amax, org.netlib.util.StringW equed) {
+    if (slaqsp_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    try {
+      slaqsp_.invokeExact(string(uplo), value(n), ap, s, value(scond), value(amax), MemorySegment.ofArray(__equed));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+  }
+
+  private static final MethodHandle slaqsy_ = downcallHandle("slaqsy_", null, 8);
+
+  protected void slaqsyK(String uplo, int n, float[] a, int offseta, int lda, float[] s, int offsets, float scond, float amax, org.netlib.util.StringW equed) {
+    slaqsySegmentK(uplo, n, segment(a, offseta), lda, segment(s, offsets), scond, amax, equed);
+  }
+
+  private void slaqsySegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment s, float scond, float amax, org.netlib.util.StringW equed) {
+    if (slaqsy_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    try {
+      slaqsy_.invokeExact(string(uplo), value(n), a, value(lda), s, value(scond), value(amax), MemorySegment.ofArray(__equed));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+  }
+
+  private static final MethodHandle slaqtr_ = downcallHandle("slaqtr_", null, 11);
+
+  protected void slaqtrK(boolean ltran, boolean lreal, int n, float[] t, int offsett, int ldt, float[] b, int offsetb, float w, org.netlib.util.floatW scale, float[] x, int offsetx, float[] work, int offsetwork, org.netlib.util.intW info) {
+    slaqtrSegmentK(ltran, lreal, n, segment(t, offsett), ldt, segment(b, offsetb), w, scale, segment(x, offsetx), segment(work, offsetwork), info);
+  }
+
+  private void slaqtrSegmentK(boolean ltran, boolean lreal, int n, MemorySegment t, int ldt, MemorySegment b, float w, org.netlib.util.floatW scale, MemorySegment x, MemorySegment work, org.netlib.util.intW info) {
+    if (slaqtr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    int[] __info = { info.val };
+    try {
+      slaqtr_.invokeExact(value(ltran ? 1 : 0), value(lreal ? 1 : 0), value(n), t, value(ldt), b, value(w), MemorySegment.ofArray(__scale), x, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slar1v_ = downcallHandle("slar1v_", null, 21);
+
+  protected void slar1vK(int n, int b1, int bn, float lambda, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, float[] lld, int offsetlld, float pivmin, float gaptol, float[] z, int offsetz, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.floatW ztz, org.netlib.util.floatW mingma, org.netlib.util.intW r, int[] isuppz, int offsetisuppz, org.netlib.util.floatW nrminv, org.netlib.util.floatW resid, org.netlib.util.floatW rqcorr, float[] work, int offsetwork) {
+    slar1vSegmentK(n, b1, bn, lambda, segment(d, offsetd), segment(l, offsetl), segment(ld, offsetld), segment(lld, offsetlld), pivmin, gaptol, segment(z, offsetz), wantnc, negcnt, ztz, mingma, r, segment(isuppz, offsetisuppz), nrminv, resid, rqcorr, segment(work, offsetwork));
+  }
+
+  private void slar1vSegmentK(int n, int b1, int bn, float lambda, MemorySegment d, MemorySegment l, MemorySegment ld, MemorySegment lld, float pivmin, float gaptol, MemorySegment z, boolean wantnc, org.netlib.util.intW negcnt, org.netlib.util.floatW ztz, org.netlib.util.floatW mingma, org.netlib.util.intW r, MemorySegment isuppz, org.netlib.util.floatW nrminv, org.netlib.util.floatW resid, org.netlib.util.floatW rqcorr, MemorySegment work) {
+    if (slar1v_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __negcnt = { negcnt.val };
+    float[] __ztz = { ztz.val };
+    float[] __mingma = { mingma.val };
+    int[] __r = { r.val };
+    float[] __nrminv = { nrminv.val };
+    float[] __resid = { resid.val };
+    float[] __rqcorr = { rqcorr.val };
+    try {
+      slar1v_.invokeExact(value(n), value(b1), value(bn), value(lambda), d, l, ld, lld, value(pivmin), value(gaptol), z, value(wantnc ? 1 : 0), MemorySegment.ofArray(__negcnt), MemorySegment.ofArray(__ztz), MemorySegment.ofArray(__mingma), MemorySegment.ofArray(__r), isuppz, MemorySegment.ofArray(__nrminv), MemorySegment.ofArray(__resid), MemorySegment.ofArray(__rqcorr), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    negcnt.val = __negcnt[0];
+    ztz.val = __ztz[0];
+    mingma.val = __mingma[0];
+    r.val = __r[0];
+    nrminv.val = __nrminv[0];
+    resid.val = __resid[0];
+    rqcorr.val = __rqcorr[0];
+  }
+
+  private static final MethodHandle slar2v_ = downcallHandle("slar2v_", null, 8);
+
+  protected void slar2vK(int n, float[] x, int offsetx, float[] y, int offsety, float[] z, int offsetz, int incx, float[] c, int offsetc, float[] s, int offsets, int incc) {
+    slar2vSegmentK(n, segment(x, offsetx), segment(y, offsety), segment(z, offsetz), incx, segment(c, offsetc), segment(s, offsets), incc);
+  }
+
+  private void slar2vSegmentK(int n, MemorySegment x, MemorySegment y, MemorySegment z, int incx, MemorySegment c, MemorySegment s, int incc) {
+    if (slar2v_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slar2v_.invokeExact(value(n), x, y, z, value(incx), c, s, value(incc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slarf_ = downcallHandle("slarf_", null, 9);
+
+  protected void slarfK(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    slarfSegmentK(side, m, n, segment(v, offsetv), incv, tau, segment(c, offsetc), Ldc, segment(work, offsetwork));
+  }
+
+  private void slarfSegmentK(String side, int m, int n, MemorySegment v, int incv, float tau, MemorySegment c, int Ldc, MemorySegment work) {
+    if (slarf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slarf_.invokeExact(string(side), value(m), value(n), v, value(incv), value(tau), c, value(Ldc), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slarfb_ = downcallHandle("slarfb_", null, 15);
+
+  protected void slarfbK(String side, String trans, String direct, String storev, int m, int n, int k, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork) {
+    slarfbSegmentK(side, trans, direct, storev, m, n, k, segment(v, offsetv), ldv, segment(t, offsett), ldt, segment(c, offsetc), Ldc, segment(work, offsetwork), ldwork);
+  }
+
+  private void slarfbSegmentK(String side, String trans, String direct, String storev, int m, int n, int k, MemorySegment v, int ldv, MemorySegment t, int ldt, MemorySegment c, int Ldc, MemorySegment work, int ldwork) {
+    if (slarfb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slarfb_.invokeExact(string(side), string(trans), string(direct), string(storev), value(m), value(n), value(k), v, value(ldv), t, value(ldt), c, value(Ldc), work, value(ldwork));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slarfg_ = downcallHandle("slarfg_", null, 5);
+
+  protected void slarfgK(int n, org.netlib.util.floatW alpha, float[] x, int offsetx, int incx, org.netlib.util.floatW tau) {
+    slarfgSegmentK(n, alpha, segment(x, offsetx), incx, tau);
+  }
+
+  private void slarfgSegmentK(int n, org.netlib.util.floatW alpha, MemorySegment x, int incx, org.netlib.util.floatW tau) {
+    if (slarfg_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __alpha = { alpha.val };
+    float[] __tau = { tau.val };
+    try {
+      slarfg_.invokeExact(value(n), MemorySegment.ofArray(__alpha), x, value(incx), MemorySegment.ofArray(__tau));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    alpha.val = __alpha[0];
+    tau.val = __tau[0];
+  }
+
+  private static final MethodHandle slarft_ = downcallHandle("slarft_", null, 9);
+
+  protected void slarftK(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt) {
+    slarftSegmentK(direct, storev, n, k, segment(v, offsetv), ldv, segment(tau, offsettau), segment(t, offsett), ldt);
+  }
+
+  private void slarftSegmentK(String direct, String storev, int n, int k, MemorySegment v, int ldv, MemorySegment tau, MemorySegment t, int ldt) {
+    if (slarft_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slarft_.invokeExact(string(direct), string(storev), value(n), value(k), v, value(ldv), tau, t, value(ldt));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slarfx_ = downcallHandle("slarfx_", null, 8);
+
+  protected void slarfxK(String side, int m, int n, float[] v, int offsetv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    slarfxSegmentK(side, m, n, segment(v, offsetv), tau, segment(c, offsetc), Ldc, segment(work, offsetwork));
+  }
+
+  private void slarfxSegmentK(String side, int m, int n, MemorySegment v, float tau, MemorySegment c, int Ldc, MemorySegment work) {
+    if (slarfx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slarfx_.invokeExact(string(side), value(m), value(n), v, value(tau), c, value(Ldc), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slargv_ = downcallHandle("slargv_", null, 7);
+
+  protected void slargvK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, int incc) {
+    slargvSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy, segment(c, offsetc), incc);
+  }
+
+  private void slargvSegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy, MemorySegment c, int incc) {
+    if (slargv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slargv_.invokeExact(value(n), x, value(incx), y, value(incy), c, value(incc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slarnv_ = downcallHandle("slarnv_", null, 4);
+
+  protected void slarnvK(int idist, int[] iseed, int offsetiseed, int n, float[] x, int offsetx) {
+    slarnvSegmentK(idist, segment(iseed, offsetiseed), n, segment(x, offsetx));
+  }
+
+  private void slarnvSegmentK(int idist, MemorySegment iseed, int n, MemorySegment x) {
+    if (slarnv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slarnv_.invokeExact(value(idist), iseed, value(n), x);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slarra_ = downcallHandle("slarra_", null, 9);
+
+  protected void slarraK(int n, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float spltol, float tnrm, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW info) {
+    slarraSegmentK(n, segment(d, offsetd), segment(e, offsete), segment(e2, offsete2), spltol, tnrm, nsplit, segment(isplit, offsetisplit), info);
+  }
+
+  private void slarraSegmentK(int n, MemorySegment d, MemorySegment e, MemorySegment e2, float spltol, float tnrm, org.netlib.util.intW nsplit, MemorySegment isplit, org.netlib.util.intW info) {
+    if (slarra_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __nsplit = { nsplit.val };
+    int[] __info = { info.val };
+    try {
+      slarra_.invokeExact(value(n), d, e, e2, value(spltol), value(tnrm), MemorySegment.ofArray(__nsplit), isplit, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    nsplit.val = __nsplit[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slarrb_ = downcallHandle("slarrb_", null, 17);
+
+  protected void slarrbK(int n, float[] d, int offsetd, float[] lld, int offsetlld, int ifirst, int ilast, float rtol1, float rtol2, int offset, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, int twist, org.netlib.util.intW info) {
+    slarrbSegmentK(n, segment(d, offsetd), segment(lld, offsetlld), ifirst, ilast, rtol1, rtol2, offset, segment(w, offsetw), segment(wgap, offsetwgap), segment(werr, offsetwerr), segment(work, offsetwork), segment(iwork, offsetiwork), pivmin, spdiam, twist, info);
+  }
+
+  private void slarrbSegmentK(int n, MemorySegment d, MemorySegment lld, int ifirst, int ilast, float rtol1, float rtol2, int offset, MemorySegment w, MemorySegment wgap, MemorySegment werr, MemorySegment work, MemorySegment iwork, float pivmin, float spdiam, int twist, org.netlib.util.intW info) {
+    if (slarrb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slarrb_.invokeExact(value(n), d, lld, value(ifirst), value(ilast), value(rtol1), value(rtol2), value(offset), w, wgap, werr, work, iwork, value(pivmin), value(spdiam), value(twist), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slarrc_ = downcallHandle("slarrc_", null, 11);
+
+  protected void slarrcK(String jobt, int n, float vl, float vu, float[] d, int offsetd, float[] e, int offsete, float pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    slarrcSegmentK(jobt, n, vl, vu, segment(d, offsetd), segment(e, offsete), pivmin, eigcnt, lcnt, rcnt, info);
+  }
+
+  private void slarrcSegmentK(String jobt, int n, float vl, float vu, MemorySegment d, MemorySegment e, float pivmin, org.netlib.util.intW eigcnt, org.netlib.util.intW lcnt, org.netlib.util.intW rcnt, org.netlib.util.intW info) {
+    if (slarrc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __eigcnt = { eigcnt.val };
+    int[] __lcnt = { lcnt.val };
+    int[] __rcnt = { rcnt.val };
+    int[] __info = { info.val };
+    try {
+      slarrc_.invokeExact(string(jobt), value(n), value(vl), value(vu), d, e, value(pivmin), MemorySegment.ofArray(__eigcnt), MemorySegment.ofArray(__lcnt), MemorySegment.ofArray(__rcnt), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    eigcnt.val = __eigcnt[0];
+    lcnt.val = __lcnt[0];
+    rcnt.val = __rcnt[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slarrd_ = downcallHandle("slarrd_", null, 25);
+
+  protected void slarrdK(String range, String order, int n, float vl, float vu, int il, int iu, float[] gers, int offsetgers, float reltol, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float pivmin, int nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, org.netlib.util.floatW wl, org.netlib.util.floatW wu, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slarrdSegmentK(range, order, n, vl, vu, il, iu, segment(gers, offsetgers), reltol, segment(d, offsetd), segment(e, offsete), segment(e2, offsete2), pivmin, nsplit, segment(isplit, offsetisplit), m, segment(w, offsetw), segment(werr, offsetwerr), wl, wu, segment(iblock, offsetiblock), segment(indexw, offsetindexw), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slarrdSegmentK(String range, String order, int n, float vl, float vu, int il, int iu, MemorySegment gers, float reltol, MemorySegment d, MemorySegment e, MemorySegment e2, float pivmin, int nsplit, MemorySegment isplit, org.netlib.util.intW m, MemorySegment w, MemorySegment werr, org.netlib.util.floatW wl, org.netlib.util.floatW wu, MemorySegment iblock, MemorySegment indexw, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slarrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    float[] __wl = { wl.val };
+    float[] __wu = { wu.val };
+    int[] __info = { info.val };
+    try {
+      slarrd_.invokeExact(string(range), string(order), value(n), value(vl), value(vu), value(il), value(iu), gers, value(reltol), d, e, e2, value(pivmin), value(nsplit), isplit, MemorySegment.ofArray(__m), w, werr, MemorySegment.ofArray(__wl), MemorySegment.ofArray(__wu), iblock, indexw, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    wl.val = __wl[0];
+    wu.val = __wu[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slarre_ = downcallHandle("slarre_", null, 25);
+
+  protected void slarreK(String range, int n, org.netlib.util.floatW vl, org.netlib.util.floatW vu, int il, int iu, float[] d, int offsetd, float[] e, int offsete, float[] e2, int offsete2, float rtol1, float rtol2, float spltol, org.netlib.util.intW nsplit, int[] isplit, int offsetisplit, org.netlib.util.intW m, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, org.netlib.util.floatW pivmin, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slarreSegmentK(range, n, vl, vu, il, iu, segment(d, offsetd), segment(e, offsete), segment(e2, offsete2), rtol1, rtol2, spltol, nsplit, segment(isplit, offsetisplit), m, segment(w, offsetw), segment(werr, offsetwerr), segment(wgap, offsetwgap), segment(iblock, offsetiblock), segment(indexw, offsetindexw), segment(gers, offsetgers), pivmin, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slarreSegmentK(String range, int n, org.netlib.util.floatW vl, org.netlib.util.floatW vu, int il, int iu, MemorySegment d, MemorySegment e, MemorySegment e2, float rtol1, float rtol2, float spltol, org.netlib.util.intW nsplit, MemorySegment isplit, org.netlib.util.intW m, MemorySegment w, MemorySegment werr, MemorySegment wgap, MemorySegment iblock, MemorySegment indexw, MemorySegment gers, org.netlib.util.floatW pivmin, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slarre_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __vl = { vl.val };
+    float[] __vu = { vu.val };
+    int[] __nsplit = { nsplit.val };
+    int[] __m = { m.val };
+    float[] __pivmin = { pivmin.val };
+    int[] __info = { info.val };
+    try {
+      slarre_.invokeExact(string(range), value(n), MemorySegment.ofArray(__vl), MemorySegment.ofArray(__vu), value(il), value(iu), d, e, e2, value(rtol1), value(rtol2), value(spltol), MemorySegment.ofArray(__nsplit), isplit, MemorySegment.ofArray(__m), w, werr, wgap, iblock, indexw, gers, MemorySegment.ofArray(__pivmin), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    vl.val = __vl[0];
+    vu.val = __vu[0];
+    nsplit.val = __nsplit[0];
+    m.val = __m[0];
+    pivmin.val = __pivmin[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slarrf_ = downcallHandle("slarrf_", null, 18);
+
+  protected void slarrfK(int n, float[] d, int offsetd, float[] l, int offsetl, float[] ld, int offsetld, int clstrt, int clend, float[] w, int offsetw, float[] wgap, int offsetwgap, float[] werr, int offsetwerr, float spdiam, float clgapl, float clgapr, float pivmin, org.netlib.util.floatW sigma, float[] dplus, int offsetdplus, float[] lplus, int offsetlplus, float[] work, int offsetwork, org.netlib.util.intW info) {
+    slarrfSegmentK(n, segment(d, offsetd), segment(l, offsetl), segment(ld, offsetld), clstrt, clend, segment(w, offsetw), segment(wgap, offsetwgap), segment(werr, offsetwerr), spdiam, clgapl, clgapr, pivmin, sigma, segment(dplus, offsetdplus), segment(lplus, offsetlplus), segment(work, offsetwork), info);
+  }
+
+  private void slarrfSegmentK(int n, MemorySegment d, MemorySegment l, MemorySegment ld, int clstrt, int clend, MemorySegment w, MemorySegment wgap, MemorySegment werr, float spdiam, float clgapl, float clgapr, float pivmin, org.netlib.util.floatW sigma, MemorySegment dplus, MemorySegment lplus, MemorySegment work, org.netlib.util.intW info) {
+    if (slarrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __sigma = { sigma.val };
+    int[] __info = { info.val };
+    try {
+      slarrf_.invokeExact(value(n), d, l, ld, value(clstrt), value(clend), w, wgap, werr, value(spdiam), value(clgapl), value(clgapr), value(pivmin), MemorySegment.ofArray(__sigma), dplus, lplus, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    sigma.val = __sigma[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slarrj_ = downcallHandle("slarrj_", null, 14);
+
+  protected void slarrjK(int n, float[] d, int offsetd, float[] e2, int offsete2, int ifirst, int ilast, float rtol, int offset, float[] w, int offsetw, float[] werr, int offsetwerr, float[] work, int offsetwork, int[] iwork, int offsetiwork, float pivmin, float spdiam, org.netlib.util.intW info) {
+    slarrjSegmentK(n, segment(d, offsetd), segment(e2, offsete2), ifirst, ilast, rtol, offset, segment(w, offsetw), segment(werr, offsetwerr), segment(work, offsetwork), segment(iwork, offsetiwork), pivmin, spdiam, info);
+  }
+
+  private void slarrjSegmentK(int n, MemorySegment d, MemorySegment e2, int ifirst, int ilast, float rtol, int offset, MemorySegment w, MemorySegment werr, MemorySegment work, MemorySegment iwork, float pivmin, float spdiam, org.netlib.util.intW info) {
+    if (slarrj_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slarrj_.invokeExact(value(n), d, e2, value(ifirst), value(ilast), value(rtol), value(offset), w, werr, work, iwork, value(pivmin), value(spdiam), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slarrk_ = downcallHandle("slarrk_", null, 11);
+
+  protected void slarrkK(int n, int iw, float gl, float gu, float[] d, int offsetd, float[] e2, int offsete2, float pivmin, float reltol, org.netlib.util.floatW w, org.netlib.util.floatW werr, org.netlib.util.intW info) {
+    slarrkSegmentK(n, iw, gl, gu, segment(d, offsetd), segment(e2, offsete2), pivmin, reltol, w, werr, info);
+  }
+
+  private void slarrkSegmentK(int n, int iw, float gl, float gu, MemorySegment d, MemorySegment e2, float pivmin, float reltol, org.netlib.util.floatW w, org.netlib.util.floatW werr, org.netlib.util.intW info) {
+    if (slarrk_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __w = { w.val };
+    float[] __werr = { werr.val };
+    int[] __info = { info.val };
+    try {
+      slarrk_.invokeExact(value(n), value(iw), value(gl), value(gu), d, e2, value(pivmin), value(reltol), MemorySegment.ofArray(__w), MemorySegment.ofArray(__werr), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    w.val = __w[0];
+    werr.val = __werr[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slarrr_ = downcallHandle("slarrr_", null, 4);
+
+  protected void slarrrK(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    slarrrSegmentK(n, segment(d, offsetd), segment(e, offsete), info);
+  }
+
+  private void slarrrSegmentK(int n, MemorySegment d, MemorySegment e, org.netlib.util.intW info) {
+    if (slarrr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slarrr_.invokeExact(value(n), d, e, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slarrv_ = downcallHandle("slarrv_", null, 25);
+
+  protected void slarrvK(int n, float vl, float vu, float[] d, int offsetd, float[] l, int offsetl, float pivmin, int[] isplit, int offsetisplit, int m, int dol, int dou, float minrgp, org.netlib.util.floatW rtol1, org.netlib.util.floatW rtol2, float[] w, int offsetw, float[] werr, int offsetwerr, float[] wgap, int offsetwgap, int[] iblock, int offsetiblock, int[] indexw, int offsetindexw, float[] gers, int offsetgers, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slarrvSegmentK(n, vl, vu, segment(d, offsetd), segment(l, offsetl), pivmin, segment(isplit, offsetisplit), m, dol, dou, minrgp, rtol1, rtol2, segment(w, offsetw), segment(werr, offsetwerr), segment(wgap, offsetwgap), segment(iblock, offsetiblock), segment(indexw, offsetindexw), segment(gers, offsetgers), segment(z, offsetz), ldz, segment(isuppz, offsetisuppz), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slarrvSegmentK(int n, float vl, float vu, MemorySegment d, MemorySegment l, float pivmin, MemorySegment isplit, int m, int dol, int dou, float minrgp, org.netlib.util.floatW rtol1, org.netlib.util.floatW rtol2, MemorySegment w, MemorySegment werr, MemorySegment wgap, MemorySegment iblock, MemorySegment indexw, MemorySegment gers, MemorySegment z, int ldz, MemorySegment isuppz, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slarrv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rtol1 = { rtol1.val };
+    float[] __rtol2 = { rtol2.val };
+    int[] __info = { info.val };
+    try {
+      slarrv_.invokeExact(value(n), value(vl), value(vu), d, l, value(pivmin), isplit, value(m), value(dol), value(dou), value(minrgp), MemorySegment.ofArray(__rtol1), MemorySegment.ofArray(__rtol2), w, werr, wgap, iblock, indexw, gers, z, value(ldz), isuppz, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rtol1.val = __rtol1[0];
+    rtol2.val = __rtol2[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slartg_ = downcallHandle("slartg_", null, 5);
+
+  protected void slartgK(float f, float g, org.netlib.util.floatW cs, org.netlib.util.floatW sn, org.netlib.util.floatW r) {
+    slartgSegmentK(f, g, cs, sn, r);
+  }
+
+  private void slartgSegmentK(float f, float g, org.netlib.util.floatW cs, org.netlib.util.floatW sn, org.netlib.util.floatW r) {
+    if (slartg_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __cs = { cs.val };
+    float[] __sn = { sn.val };
+    float[] __r = { r.val };
+    try {
+      slartg_.invokeExact(value(f), value(g), MemorySegment.ofArray(__cs), MemorySegment.ofArray(__sn), MemorySegment.ofArray(__r));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    cs.val = __cs[0];
+    sn.val = __sn[0];
+    r.val = __r[0];
+  }
+
+  private static final MethodHandle slartv_ = downcallHandle("slartv_", null, 8);
+
+  protected void slartvK(int n, float[] x, int offsetx, int incx, float[] y, int offsety, int incy, float[] c, int offsetc, float[] s, int offsets, int incc) {
+    slartvSegmentK(n, segment(x, offsetx), incx, segment(y, offsety), incy, segment(c, offsetc), segment(s, offsets), incc);
+  }
+
+  private void slartvSegmentK(int n, MemorySegment x, int incx, MemorySegment y, int incy, MemorySegment c, MemorySegment s, int incc) {
+    if (slartv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slartv_.invokeExact(value(n), x, value(incx), y, value(incy), c, s, value(incc));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slaruv_ = downcallHandle("slaruv_", null, 3);
+
+  protected void slaruvK(int[] iseed, int offsetiseed, int n, float[] x, int offsetx) {
+    slaruvSegmentK(segment(iseed, offsetiseed), n, segment(x, offsetx));
+  }
+
+  private void slaruvSegmentK(MemorySegment iseed, int n, MemorySegment x) {
+    if (slaruv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slaruv_.invokeExact(iseed, value(n), x);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slarz_ = downcallHandle("slarz_", null, 10);
+
+  protected void slarzK(String side, int m, int n, int l, float[] v, int offsetv, int incv, float tau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork) {
+    slarzSegmentK(side, m, n, l, segment(v, offsetv), incv, tau, segment(c, offsetc), Ldc, segment(work, offsetwork));
+  }
+
+  private void slarzSegmentK(String side, int m, int n, int l, MemorySegment v, int incv, float tau, MemorySegment c, int Ldc, MemorySegment work) {
+    if (slarz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slarz_.invokeExact(string(side), value(m), value(n), value(l), v, value(incv), value(tau), c, value(Ldc), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slarzb_ = downcallHandle("slarzb_", null, 16);
+
+  protected void slarzbK(String side, String trans, String direct, String storev, int m, int n, int k, int l, float[] v, int offsetv, int ldv, float[] t, int offsett, int ldt, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int ldwork) {
+    slarzbSegmentK(side, trans, direct, storev, m, n, k, l, segment(v, offsetv), ldv, segment(t, offsett), ldt, segment(c, offsetc), Ldc, segment(work, offsetwork), ldwork);
+  }
+
+  private void slarzbSegmentK(String side, String trans, String direct, String storev, int m, int n, int k, int l, MemorySegment v, int ldv, MemorySegment t, int ldt, MemorySegment c, int Ldc, MemorySegment work, int ldwork) {
+    if (slarzb_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slarzb_.invokeExact(string(side), string(trans), string(direct), string(storev), value(m), value(n), value(k), value(l), v, value(ldv), t, value(ldt), c, value(Ldc), work, value(ldwork));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slarzt_ = downcallHandle("slarzt_", null, 9);
+
+  protected void slarztK(String direct, String storev, int n, int k, float[] v, int offsetv, int ldv, float[] tau, int offsettau, float[] t, int offsett, int ldt) {
+    slarztSegmentK(direct, storev, n, k, segment(v, offsetv), ldv, segment(tau, offsettau), segment(t, offsett), ldt);
+  }
+
+  private void slarztSegmentK(String direct, String storev, int n, int k, MemorySegment v, int ldv, MemorySegment tau, MemorySegment t, int ldt) {
+    if (slarzt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slarzt_.invokeExact(string(direct), string(storev), value(n), value(k), v, value(ldv), tau, t, value(ldt));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slas2_ = downcallHandle("slas2_", null, 5);
+
+  protected void slas2K(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax) {
+    slas2SegmentK(f, g, h, ssmin, ssmax);
+  }
+
+  private void slas2SegmentK(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax) {
+    if (slas2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ssmin = { ssmin.val };
+    float[] __ssmax = { ssmax.val };
+    try {
+      slas2_.invokeExact(value(f), value(g), value(h), MemorySegment.ofArray(__ssmin), MemorySegment.ofArray(__ssmax));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ssmin.val = __ssmin[0];
+    ssmax.val = __ssmax[0];
+  }
+
+  private static final MethodHandle slascl_ = downcallHandle("slascl_", null, 10);
+
+  protected void slasclK(String type, int kl, int ku, float cfrom, float cto, int m, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    slasclSegmentK(type, kl, ku, cfrom, cto, m, n, segment(a, offseta), lda, info);
+  }
+
+  private void slasclSegmentK(String type, int kl, int ku, float cfrom, float cto, int m, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (slascl_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slascl_.invokeExact(string(type), value(kl), value(ku), value(cfrom), value(cto), value(m), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasd0_ = downcallHandle("slasd0_", null, 12);
+
+  protected void slasd0K(int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int smlsiz, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info) {
+    slasd0SegmentK(n, sqre, segment(d, offsetd), segment(e, offsete), segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, smlsiz, segment(iwork, offsetiwork), segment(work, offsetwork), info);
+  }
+
+  private void slasd0SegmentK(int n, int sqre, MemorySegment d, MemorySegment e, MemorySegment u, int ldu, MemorySegment vt, int ldvt, int smlsiz, MemorySegment iwork, MemorySegment work, org.netlib.util.intW info) {
+    if (slasd0_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slasd0_.invokeExact(value(n), value(sqre), d, e, u, value(ldu), vt, value(ldvt), value(smlsiz), iwork, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasd1_ = downcallHandle("slasd1_", null, 14);
+
+  protected void slasd1K(int nl, int nr, int sqre, float[] d, int offsetd, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, int[] idxq, int offsetidxq, int[] iwork, int offsetiwork, float[] work, int offsetwork, org.netlib.util.intW info) {
+    slasd1SegmentK(nl, nr, sqre, segment(d, offsetd), alpha, beta, segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(idxq, offsetidxq), segment(iwork, offsetiwork), segment(work, offsetwork), info);
+  }
+
+  private void slasd1SegmentK(int nl, int nr, int sqre, MemorySegment d, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, MemorySegment u, int ldu, MemorySegment vt, int ldvt, MemorySegment idxq, MemorySegment iwork, MemorySegment work, org.netlib.util.intW info) {
+    if (slasd1_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __alpha = { alpha.val };
+    float[] __beta = { beta.val };
+    int[] __info = { info.val };
+    try {
+      slasd1_.invokeExact(value(nl), value(nr), value(sqre), d, MemorySegment.ofArray(__alpha), MemorySegment.ofArray(__beta), u, value(ldu), vt, value(ldvt), idxq, iwork, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    alpha.val = __alpha[0];
+    beta.val = __beta[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasd2_ = downcallHandle("slasd2_", null, 23);
+
+  protected void slasd2K(int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float alpha, float beta, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int ldvt, float[] dsigma, int offsetdsigma, float[] u2, int offsetu2, int ldu2, float[] vt2, int offsetvt2, int ldvt2, int[] idxp, int offsetidxp, int[] idx, int offsetidx, int[] idxc, int offsetidxc, int[] idxq, int offsetidxq, int[] coltyp, int offsetcoltyp, org.netlib.util.intW info) {
+    slasd2SegmentK(nl, nr, sqre, k, segment(d, offsetd), segment(z, offsetz), alpha, beta, segment(u, offsetu), ldu, segment(vt, offsetvt), ldvt, segment(dsigma, offsetdsigma), segment(u2, offsetu2), ldu2, segment(vt2, offsetvt2), ldvt2, segment(idxp, offsetidxp), segment(idx, offsetidx), segment(idxc, offsetidxc), segment(idxq, offsetidxq), segment(coltyp, offsetcoltyp), info);
+  }
+
+  private void slasd2SegmentK(int nl, int nr, int sqre, org.netlib.util.intW k, MemorySegment d, MemorySegment z, float alpha, float beta, MemorySegment u, int ldu, MemorySegment vt, int ldvt, MemorySegment dsigma, MemorySegment u2, int ldu2, MemorySegment vt2, int ldvt2, MemorySegment idxp, MemorySegment idx, MemorySegment idxc, MemorySegment idxq, MemorySegment coltyp, org.netlib.util.intW info) {
+    if (slasd2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    int[] __info = { info.val };
+    try {
+      slasd2_.invokeExact(value(nl), value(nr), value(sqre), MemorySegment.ofArray(__k), d, z, value(alpha), value(beta), u, value(ldu), vt, value(ldvt), dsigma, u2, value(ldu2), vt2, value(ldvt2), idxp, idx, idxc, idxq, coltyp, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasd3_ = downcallHandle("slasd3_", null, 20);
+
+  protected void slasd3K(int nl, int nr, int sqre, int k, float[] d, int offsetd, float[] q, int offsetq, int ldq, float[] dsigma, int offsetdsigma, float[] u, int offsetu, int ldu, float[] u2, int offsetu2, int ldu2, float[] vt, int offsetvt, int ldvt, float[] vt2, int offsetvt2, int ldvt2, int[] idxc, int offsetidxc, int[] ctot, int offsetctot, float[] z, int offsetz, org.netlib.util.intW info) {
+    slasd3SegmentK(nl, nr, sqre, k, segment(d, offsetd), segment(q, offsetq), ldq, segment(dsigma, offsetdsigma), segment(u, offsetu), ldu, segment(u2, offsetu2), ldu2, segment(vt, offsetvt), ldvt, segment(vt2, offsetvt2), ldvt2, segment(idxc, offsetidxc), segment(ctot, offsetctot), segment(z, offsetz), info);
+  }
+
+  private void slasd3SegmentK(int nl, int nr, int sqre, int k, MemorySegment d, MemorySegment q, int ldq, MemorySegment dsigma, MemorySegment u, int ldu, MemorySegment u2, int ldu2, MemorySegment vt, int ldvt, MemorySegment vt2, int ldvt2, MemorySegment idxc, MemorySegment ctot, MemorySegment z, org.netlib.util.intW info) {
+    if (slasd3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slasd3_.invokeExact(value(nl), value(nr), value(sqre), value(k), d, q, value(ldq), dsigma, u, value(ldu), u2, value(ldu2), vt, value(ldvt), vt2, value(ldvt2), idxc, ctot, z, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasd4_ = downcallHandle("slasd4_", null, 9);
+
+  protected void slasd4K(int n, int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW sigma, float[] work, int offsetwork, org.netlib.util.intW info) {
+    slasd4SegmentK(n, i, segment(d, offsetd), segment(z, offsetz), segment(delta, offsetdelta), rho, sigma, segment(work, offsetwork), info);
+  }
+
+  private void slasd4SegmentK(int n, int i, MemorySegment d, MemorySegment z, MemorySegment delta, float rho, org.netlib.util.floatW sigma, MemorySegment work, org.netlib.util.intW info) {
+    if (slasd4_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __sigma = { sigma.val };
+    int[] __info = { info.val };
+    try {
+      slasd4_.invokeExact(value(n), value(i), d, z, delta, value(rho), MemorySegment.ofArray(__sigma), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    sigma.val = __sigma[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasd5_ = downcallHandle("slasd5_", null, 7);
+
+  protected void slasd5K(int i, float[] d, int offsetd, float[] z, int offsetz, float[] delta, int offsetdelta, float rho, org.netlib.util.floatW dsigma, float[] work, int offsetwork) {
+    slasd5SegmentK(i, segment(d, offsetd), segment(z, offsetz), segment(delta, offsetdelta), rho, dsigma, segment(work, offsetwork));
+  }
+
+  private void slasd5SegmentK(int i, MemorySegment d, MemorySegment z, MemorySegment delta, float rho, org.netlib.util.floatW dsigma, MemorySegment work) {
+    if (slasd5_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __dsigma = { dsigma.val };
+    try {
+      slasd5_.invokeExact(value(i), d, z, delta, value(rho), MemorySegment.ofArray(__dsigma), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dsigma.val = __dsigma[0];
+  }
+
+  private static final MethodHandle slasd6_ = downcallHandle("slasd6_", null, 26);
+
+  protected void slasd6K(int icompq, int nl, int nr, int sqre, float[] d, int offsetd, float[] vf, int offsetvf, float[] vl, int offsetvl, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, float[] poles, int offsetpoles, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, org.netlib.util.intW k, org.netlib.util.floatW c, org.netlib.util.floatW s, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slasd6SegmentK(icompq, nl, nr, sqre, segment(d, offsetd), segment(vf, offsetvf), segment(vl, offsetvl), alpha, beta, segment(idxq, offsetidxq), segment(perm, offsetperm), givptr, segment(givcol, offsetgivcol), ldgcol, segment(givnum, offsetgivnum), ldgnum, segment(poles, offsetpoles), segment(difl, offsetdifl), segment(difr, offsetdifr), segment(z, offsetz), k, c, s, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slasd6SegmentK(int icompq, int nl, int nr, int sqre, MemorySegment d, MemorySegment vf, MemorySegment vl, org.netlib.util.floatW alpha, org.netlib.util.floatW beta, MemorySegment idxq, MemorySegment perm, org.netlib.util.intW givptr, MemorySegment givcol, int ldgcol, MemorySegment givnum, int ldgnum, MemorySegment poles, MemorySegment difl, MemorySegment difr, MemorySegment z, org.netlib.util.intW k, org.netlib.util.floatW c, org.netlib.util.floatW s, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slasd6_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __alpha = { alpha.val };
+    float[] __beta = { beta.val };
+    int[] __givptr = { givptr.val };
+    int[] __k = { k.val };
+    float[] __c = { c.val };
+    float[] __s = { s.val };
+    int[] __info = { info.val };
+    try {
+      slasd6_.invokeExact(value(icompq), value(nl), value(nr), value(sqre), d, vf, vl, MemorySegment.ofArray(__alpha), MemorySegment.ofArray(__beta), idxq, perm, MemorySegment.ofArray(__givptr), givcol, value(ldgcol), givnum, value(ldgnum), poles, difl, difr, z, MemorySegment.ofArray(__k), MemorySegment.ofArray(__c), MemorySegment.ofArray(__s), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    alpha.val = __alpha[0];
+    beta.val = __beta[0];
+    givptr.val = __givptr[0];
+    k.val = __k[0];
+    c.val = __c[0];
+    s.val = __s[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasd7_ = downcallHandle("slasd7_", null, 27);
+
+  protected void slasd7K(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, float[] d, int offsetd, float[] z, int offsetz, float[] zw, int offsetzw, float[] vf, int offsetvf, float[] vfw, int offsetvfw, float[] vl, int offsetvl, float[] vlw, int offsetvlw, float alpha, float beta, float[] dsigma, int offsetdsigma, int[] idx, int offsetidx, int[] idxp, int offsetidxp, int[] idxq, int offsetidxq, int[] perm, int offsetperm, org.netlib.util.intW givptr, int[] givcol, int offsetgivcol, int ldgcol, float[] givnum, int offsetgivnum, int ldgnum, org.netlib.util.floatW c, org.netlib.util.floatW s, org.netlib.util.intW info) {
+    slasd7SegmentK(icompq, nl, nr, sqre, k, segment(d, offsetd), segment(z, offsetz), segment(zw, offsetzw), segment(vf, offsetvf), segment(vfw, offsetvfw), segment(vl, offsetvl), segment(vlw, offsetvlw), alpha, beta, segment(dsigma, offsetdsigma), segment(idx, offsetidx), segment(idxp, offsetidxp), segment(idxq, offsetidxq), segment(perm, offsetperm), givptr, segment(givcol, offsetgivcol), ldgcol, segment(givnum, offsetgivnum), ldgnum, c, s, info);
+  }
+
+  private void slasd7SegmentK(int icompq, int nl, int nr, int sqre, org.netlib.util.intW k, MemorySegment d, MemorySegment z, MemorySegment zw, MemorySegment vf, MemorySegment vfw, MemorySegment vl, MemorySegment vlw, float alpha, float beta, MemorySegment dsigma, MemorySegment idx, MemorySegment idxp, MemorySegment idxq, MemorySegment perm, org.netlib.util.intW givptr, MemorySegment givcol, int ldgcol, MemorySegment givnum, int ldgnum, org.netlib.util.floatW c, org.netlib.util.floatW s, org.netlib.util.intW info) {
+    if (slasd7_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __k = { k.val };
+    int[] __givptr = { givptr.val };
+    float[] __c = { c.val };
+    float[] __s = { s.val };
+    int[] __info = { info.val };
+    try {
+      slasd7_.invokeExact(value(icompq), value(nl), value(nr), value(sqre), MemorySegment.ofArray(__k), d, z, zw, vf, vfw, vl, vlw, value(alpha), value(beta), dsigma, idx, idxp, idxq, perm, MemorySegment.ofArray(__givptr), givcol, value(ldgcol), givnum, value(ldgnum), MemorySegment.ofArray(__c), MemorySegment.ofArray(__s), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    k.val = __k[0];
+    givptr.val = __givptr[0];
+    c.val = __c[0];
+    s.val = __s[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasd8_ = downcallHandle("slasd8_", null, 12);
+
+  protected void slasd8K(int icompq, int k, float[] d, int offsetd, float[] z, int offsetz, float[] vf, int offsetvf, float[] vl, int offsetvl, float[] difl, int offsetdifl, float[] difr, int offsetdifr, int lddifr, float[] dsigma, int offsetdsigma, float[] work, int offsetwork, org.netlib.util.intW info) {
+    slasd8SegmentK(icompq, k, segment(d, offsetd), segment(z, offsetz), segment(vf, offsetvf), segment(vl, offsetvl), segment(difl, offsetdifl), segment(difr, offsetdifr), lddifr, segment(dsigma, offsetdsigma), segment(work, offsetwork), info);
+  }
+
+  private void slasd8SegmentK(int icompq, int k, MemorySegment d, MemorySegment z, MemorySegment vf, MemorySegment vl, MemorySegment difl, MemorySegment difr, int lddifr, MemorySegment dsigma, MemorySegment work, org.netlib.util.intW info) {
+    if (slasd8_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slasd8_.invokeExact(value(icompq), value(k), d, z, vf, vl, difl, difr, value(lddifr), dsigma, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasda_ = downcallHandle("slasda_", null, 24);
+
+  protected void slasdaK(int icompq, int smlsiz, int n, int sqre, float[] d, int offsetd, float[] e, int offsete, float[] u, int offsetu, int ldu, float[] vt, int offsetvt, int[] k, int offsetk, float[] difl, int offsetdifl, float[] difr, int offsetdifr, float[] z, int offsetz, float[] poles, int offsetpoles, int[] givptr, int offsetgivptr, int[] givcol, int offsetgivcol, int ldgcol, int[] perm, int offsetperm, float[] givnum, int offsetgivnum, float[] c, int offsetc, float[] s, int offsets, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    slasdaSegmentK(icompq, smlsiz, n, sqre, segment(d, offsetd), segment(e, offsete), segment(u, offsetu), ldu, segment(vt, offsetvt), segment(k, offsetk), segment(difl, offsetdifl), segment(difr, offsetdifr), segment(z, offsetz), segment(poles, offsetpoles), segment(givptr, offsetgivptr), segment(givcol, offsetgivcol), ldgcol, segment(perm, offsetperm), segment(givnum, offsetgivnum), segment(c, offsetc), segment(s, offsets), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void slasdaSegmentK(int icompq, int smlsiz, int n, int sqre, MemorySegment d, MemorySegment e, MemorySegment u, int ldu, MemorySegment vt, MemorySegment k, MemorySegment difl, MemorySegment difr, MemorySegment z, MemorySegment poles, MemorySegment givptr, MemorySegment givcol, int ldgcol, MemorySegment perm, MemorySegment givnum, MemorySegment c, MemorySegment s, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (slasda_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slasda_.invokeExact(value(icompq), value(smlsiz), value(n), value(sqre), d, e, u, value(ldu), vt, k, difl, difr, z, poles, givptr, givcol, value(ldgcol), perm, givnum, c, s, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasdq_ = downcallHandle("slasdq_", null, 16);
+
+  protected void slasdqK(String uplo, int sqre, int n, int ncvt, int nru, int ncc, float[] d, int offsetd, float[] e, int offsete, float[] vt, int offsetvt, int ldvt, float[] u, int offsetu, int ldu, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    slasdqSegmentK(uplo, sqre, n, ncvt, nru, ncc, segment(d, offsetd), segment(e, offsete), segment(vt, offsetvt), ldvt, segment(u, offsetu), ldu, segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void slasdqSegmentK(String uplo, int sqre, int n, int ncvt, int nru, int ncc, MemorySegment d, MemorySegment e, MemorySegment vt, int ldvt, MemorySegment u, int ldu, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (slasdq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slasdq_.invokeExact(string(uplo), value(sqre), value(n), value(ncvt), value(nru), value(ncc), d, e, vt, value(ldvt), u, value(ldu), c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasdt_ = downcallHandle("slasdt_", null, 7);
+
+  protected void slasdtK(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, int[] inode, int offsetinode, int[] ndiml, int offsetndiml, int[] ndimr, int offsetndimr, int msub) {
+    slasdtSegmentK(n, lvl, nd, segment(inode, offsetinode), segment(ndiml, offsetndiml), segment(ndimr, offsetndimr), msub);
+  }
+
+  private void slasdtSegmentK(int n, org.netlib.util.intW lvl, org.netlib.util.intW nd, MemorySegment inode, MemorySegment ndiml, MemorySegment ndimr, int msub) {
+    if (slasdt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __lvl = { lvl.val };
+    int[] __nd = { nd.val };
+    try {
+      slasdt_.invokeExact(value(n), MemorySegment.ofArray(__lvl), MemorySegment.ofArray(__nd), inode, ndiml, ndimr, value(msub));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    lvl.val = __lvl[0];
+    nd.val = __nd[0];
+  }
+
+  private static final MethodHandle slaset_ = downcallHandle("slaset_", null, 7);
+
+  protected void slasetK(String uplo, int m, int n, float alpha, float beta, float[] a, int offseta, int lda) {
+    slasetSegmentK(uplo, m, n, alpha, beta, segment(a, offseta), lda);
+  }
+
+  private void slasetSegmentK(String uplo, int m, int n, float alpha, float beta, MemorySegment a, int lda) {
+    if (slaset_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slaset_.invokeExact(string(uplo), value(m), value(n), value(alpha), value(beta), a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slasq1_ = downcallHandle("slasq1_", null, 5);
+
+  protected void slasq1K(int n, float[] d, int offsetd, float[] e, int offsete, float[] work, int offsetwork, org.netlib.util.intW info) {
+    slasq1SegmentK(n, segment(d, offsetd), segment(e, offsete), segment(work, offsetwork), info);
+  }
+
+  private void slasq1SegmentK(int n, MemorySegment d, MemorySegment e, MemorySegment work, org.netlib.util.intW info) {
+    if (slasq1_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slasq1_.invokeExact(value(n), d, e, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasq2_ = downcallHandle("slasq2_", null, 3);
+
+  protected void slasq2K(int n, float[] z, int offsetz, org.netlib.util.intW info) {
+    slasq2SegmentK(n, segment(z, offsetz), info);
+  }
+
+  private void slasq2SegmentK(int n, MemorySegment z, org.netlib.util.intW info) {
+    if (slasq2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slasq2_.invokeExact(value(n), z, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasq3_ = downcallHandle("slasq3_", null, 12);
+
+  protected void slasq3K(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    slasq3SegmentK(i0, n0, segment(z, offsetz), pp, dmin, sigma, desig, qmax, nfail, iter, ndiv, ieee);
+  }
+
+  private void slasq3SegmentK(int i0, org.netlib.util.intW n0, MemorySegment z, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee) {
+    if (slasq3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __n0 = { n0.val };
+    float[] __dmin = { dmin.val };
+    float[] __sigma = { sigma.val };
+    float[] __desig = { desig.val };
+    float[] __qmax = { qmax.val };
+    int[] __nfail = { nfail.val };
+    int[] __iter = { iter.val };
+    int[] __ndiv = { ndiv.val };
+    try {
+      slasq3_.invokeExact(value(i0), MemorySegment.ofArray(__n0), z, value(pp), MemorySegment.ofArray(__dmin), MemorySegment.ofArray(__sigma), MemorySegment.ofArray(__desig), MemorySegment.ofArray(__qmax), MemorySegment.ofArray(__nfail), MemorySegment.ofArray(__iter), MemorySegment.ofArray(__ndiv), value(ieee ? 1 : 0));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    n0.val = __n0[0];
+    dmin.val = __dmin[0];
+    sigma.val = __sigma[0];
+    desig.val = __desig[0];
+    qmax.val = __qmax[0];
+    nfail.val = __nfail[0];
+    iter.val = __iter[0];
+    ndiv.val = __ndiv[0];
+  }
+
+  private static final MethodHandle slasq4_ = downcallHandle("slasq4_", null, 13);
+
+  protected void slasq4K(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype) {
+    slasq4SegmentK(i0, n0, segment(z, offsetz), pp, n0in, dmin, dmin1, dmin2, dn, dn1, dn2, tau, ttype);
+  }
+
+  private void slasq4SegmentK(int i0, int n0, MemorySegment z, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype) {
+    if (slasq4_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __tau = { tau.val };
+    int[] __ttype = { ttype.val };
+    try {
+      slasq4_.invokeExact(value(i0), value(n0), z, value(pp), value(n0in), value(dmin), value(dmin1), value(dmin2), value(dn), value(dn1), value(dn2), MemorySegment.ofArray(__tau), MemorySegment.ofArray(__ttype));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    tau.val = __tau[0];
+    ttype.val = __ttype[0];
+  }
+
+  private static final MethodHandle slasq5_ = downcallHandle("slasq5_", null, 12);
+
+  protected void slasq5K(int i0, int n0, float[] z, int offsetz, int pp, float tau, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2, boolean ieee) {
+    slasq5SegmentK(i0, n0, segment(z, offsetz), pp, tau, dmin, dmin1, dmin2, dn, dnm1, dnm2, ieee);
+  }
+
+  private void slasq5SegmentK(int i0, int n0, MemorySegment z, int pp, float tau, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2, boolean ieee) {
+    if (slasq5_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __dmin = { dmin.val };
+    float[] __dmin1 = { dmin1.val };
+    float[] __dmin2 = { dmin2.val };
+    float[] __dn = { dn.val };
+    float[] __dnm1 = { dnm1.val };
+    float[] __dnm2 = { dnm2.val };
+    try {
+      slasq5_.invokeExact(value(i0), value(n0), z, value(pp), value(tau), MemorySegment.ofArray(__dmin), MemorySegment.ofArray(__dmin1), MemorySegment.ofArray(__dmin2), MemorySegment.ofArray(__dn), MemorySegment.ofArray(__dnm1), MemorySegment.ofArray(__dnm2), value(ieee ? 1 : 0));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dmin.val = __dmin[0];
+    dmin1.val = __dmin1[0];
+    dmin2.val = __dmin2[0];
+    dn.val = __dn[0];
+    dnm1.val = __dnm1[0];
+    dnm2.val = __dnm2[0];
+  }
+
+  private static final MethodHandle slasq6_ = downcallHandle("slasq6_", null, 10);
+
+  protected void slasq6K(int i0, int n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2) {
+    slasq6SegmentK(i0, n0, segment(z, offsetz), pp, dmin, dmin1, dmin2, dn, dnm1, dnm2);
+  }
+
+  private void slasq6SegmentK(int i0, int n0, MemorySegment z, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dnm1, org.netlib.util.floatW dnm2) {
+    if (slasq6_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __dmin = { dmin.val };
+    float[] __dmin1 = { dmin1.val };
+    float[] __dmin2 = { dmin2.val };
+    float[] __dn = { dn.val };
+    float[] __dnm1 = { dnm1.val };
+    float[] __dnm2 = { dnm2.val };
+    try {
+      slasq6_.invokeExact(value(i0), value(n0), z, value(pp), MemorySegment.ofArray(__dmin), MemorySegment.ofArray(__dmin1), MemorySegment.ofArray(__dmin2), MemorySegment.ofArray(__dn), MemorySegment.ofArray(__dnm1), MemorySegment.ofArray(__dnm2));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    dmin.val = __dmin[0];
+    dmin1.val = __dmin1[0];
+    dmin2.val = __dmin2[0];
+    dn.val = __dn[0];
+    dnm1.val = __dnm1[0];
+    dnm2.val = __dnm2[0];
+  }
+
+  private static final MethodHandle slasr_ = downcallHandle("slasr_", null, 9);
+
+  protected void slasrK(String side, String pivot, String direct, int m, int n, float[] c, int offsetc, float[] s, int offsets, float[] a, int offseta, int lda) {
+    slasrSegmentK(side, pivot, direct, m, n, segment(c, offsetc), segment(s, offsets), segment(a, offseta), lda);
+  }
+
+  private void slasrSegmentK(String side, String pivot, String direct, int m, int n, MemorySegment c, MemorySegment s, MemorySegment a, int lda) {
+    if (slasr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slasr_.invokeExact(string(side), string(pivot), string(direct), value(m), value(n), c, s, a, value(lda));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slasrt_ = downcallHandle("slasrt_", null, 4);
+
+  protected void slasrtK(String id, int n, float[] d, int offsetd, org.netlib.util.intW info) {
+    slasrtSegmentK(id, n, segment(d, offsetd), info);
+  }
+
+  private void slasrtSegmentK(String id, int n, MemorySegment d, org.netlib.util.intW info) {
+    if (slasrt_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slasrt_.invokeExact(string(id), value(n), d, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slassq_ = downcallHandle("slassq_", null, 5);
+
+  protected void slassqK(int n, float[] x, int offsetx, int incx, org.netlib.util.floatW scale, org.netlib.util.floatW sumsq) {
+    slassqSegmentK(n, segment(x, offsetx), incx, scale, sumsq);
+  }
+
+  private void slassqSegmentK(int n, MemorySegment x, int incx, org.netlib.util.floatW scale, org.netlib.util.floatW sumsq) {
+    if (slassq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    float[] __sumsq = { sumsq.val };
+    try {
+      slassq_.invokeExact(value(n), x, value(incx), MemorySegment.ofArray(__scale), MemorySegment.ofArray(__sumsq));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    sumsq.val = __sumsq[0];
+  }
+
+  private static final MethodHandle slasv2_ = downcallHandle("slasv2_", null, 9);
+
+  protected void slasv2K(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax, org.netlib.util.floatW snr, org.netlib.util.floatW csr, org.netlib.util.floatW snl, org.netlib.util.floatW csl) {
+    slasv2SegmentK(f, g, h, ssmin, ssmax, snr, csr, snl, csl);
+  }
+
+  private void slasv2SegmentK(float f, float g, float h, org.netlib.util.floatW ssmin, org.netlib.util.floatW ssmax, org.netlib.util.floatW snr, org.netlib.util.floatW csr, org.netlib.util.floatW snl, org.netlib.util.floatW csl) {
+    if (slasv2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __ssmin = { ssmin.val };
+    float[] __ssmax = { ssmax.val };
+    float[] __snr = { snr.val };
+    float[] __csr = { csr.val };
+    float[] __snl = { snl.val };
+    float[] __csl = { csl.val };
+    try {
+      slasv2_.invokeExact(value(f), value(g), value(h), MemorySegment.ofArray(__ssmin), MemorySegment.ofArray(__ssmax), MemorySegment.ofArray(__snr), MemorySegment.ofArray(__csr), MemorySegment.ofArray(__snl), MemorySegment.ofArray(__csl));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ssmin.val = __ssmin[0];
+    ssmax.val = __ssmax[0];
+    snr.val = __snr[0];
+    csr.val = __csr[0];
+    snl.val = __snl[0];
+    csl.val = __csl[0];
+  }
+
+  private static final MethodHandle slaswp_ = downcallHandle("slaswp_", null, 7);
+
+  protected void slaswpK(int n, float[] a, int offseta, int lda, int k1, int k2, int[] ipiv, int offsetipiv, int incx) {
+    slaswpSegmentK(n, segment(a, offseta), lda, k1, k2, segment(ipiv, offsetipiv), incx);
+  }
+
+  private void slaswpSegmentK(int n, MemorySegment a, int lda, int k1, int k2, MemorySegment ipiv, int incx) {
+    if (slaswp_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slaswp_.invokeExact(value(n), a, value(lda), value(k1), value(k2), ipiv, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slasy2_ = downcallHandle("slasy2_", null, 16);
+
+  protected void slasy2K(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, float[] tl, int offsettl, int ldtl, float[] tr, int offsettr, int ldtr, float[] b, int offsetb, int ldb, org.netlib.util.floatW scale, float[] x, int offsetx, int ldx, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    slasy2SegmentK(ltranl, ltranr, isgn, n1, n2, segment(tl, offsettl), ldtl, segment(tr, offsettr), ldtr, segment(b, offsetb), ldb, scale, segment(x, offsetx), ldx, xnorm, info);
+  }
+
+  private void slasy2SegmentK(boolean ltranl, boolean ltranr, int isgn, int n1, int n2, MemorySegment tl, int ldtl, MemorySegment tr, int ldtr, MemorySegment b, int ldb, org.netlib.util.floatW scale, MemorySegment x, int ldx, org.netlib.util.floatW xnorm, org.netlib.util.intW info) {
+    if (slasy2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    float[] __xnorm = { xnorm.val };
+    int[] __info = { info.val };
+    try {
+      slasy2_.invokeExact(value(ltranl ? 1 : 0), value(ltranr ? 1 : 0), value(isgn), value(n1), value(n2), tl, value(ldtl), tr, value(ldtr), b, value(ldb), MemorySegment.ofArray(__scale), x, value(ldx), MemorySegment.ofArray(__xnorm), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    xnorm.val = __xnorm[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slasyf_ = downcallHandle("slasyf_", null, 10);
+
+  protected void slasyfK(String uplo, int n, int nb, org.netlib.util.intW kb, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] w, int offsetw, int ldw, org.netlib.util.intW info) {
+    slasyfSegmentK(uplo, n, nb, kb, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(w, offsetw), ldw, info);
+  }
+
+  private void slasyfSegmentK(String uplo, int n, int nb, org.netlib.util.intW kb, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment w, int ldw, org.netlib.util.intW info) {
+    if (slasyf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __kb = { kb.val };
+    int[] __info = { info.val };
+    try {
+      slasyf_.invokeExact(string(uplo), value(n), value(nb), MemorySegment.ofArray(__kb), a, value(lda), ipiv, w, value(ldw), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    kb.val = __kb[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slatbs_ = downcallHandle("slatbs_", null, 12);
+
+  protected void slatbsK(String uplo, String trans, String diag, String normin, int n, int kd, float[] ab, int offsetab, int ldab, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    slatbsSegmentK(uplo, trans, diag, normin, n, kd, segment(ab, offsetab), ldab, segment(x, offsetx), scale, segment(cnorm, offsetcnorm), info);
+  }
+
+  private void slatbsSegmentK(String uplo, String trans, String diag, String normin, int n, int kd, MemorySegment ab, int ldab, MemorySegment x, org.netlib.util.floatW scale, MemorySegment cnorm, org.netlib.util.intW info) {
+    if (slatbs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    int[] __info = { info.val };
+    try {
+      slatbs_.invokeExact(string(uplo), string(trans), string(diag), string(normin), value(n), value(kd), ab, value(ldab), x, MemorySegment.ofArray(__scale), cnorm, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slatdf_ = downcallHandle("slatdf_", null, 9);
+
+  protected void slatdfK(int ijob, int n, float[] z, int offsetz, int ldz, float[] rhs, int offsetrhs, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] ipiv, int offsetipiv, int[] jpiv, int offsetjpiv) {
+    slatdfSegmentK(ijob, n, segment(z, offsetz), ldz, segment(rhs, offsetrhs), rdsum, rdscal, segment(ipiv, offsetipiv), segment(jpiv, offsetjpiv));
+  }
+
+  private void slatdfSegmentK(int ijob, int n, MemorySegment z, int ldz, MemorySegment rhs, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, MemorySegment ipiv, MemorySegment jpiv) {
+    if (slatdf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rdsum = { rdsum.val };
+    float[] __rdscal = { rdscal.val };
+    try {
+      slatdf_.invokeExact(value(ijob), value(n), z, value(ldz), rhs, MemorySegment.ofArray(__rdsum), MemorySegment.ofArray(__rdscal), ipiv, jpiv);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rdsum.val = __rdsum[0];
+    rdscal.val = __rdscal[0];
+  }
+
+  private static final MethodHandle slatps_ = downcallHandle("slatps_", null, 10);
+
+  protected void slatpsK(String uplo, String trans, String diag, String normin, int n, float[] ap, int offsetap, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    slatpsSegmentK(uplo, trans, diag, normin, n, segment(ap, offsetap), segment(x, offsetx), scale, segment(cnorm, offsetcnorm), info);
+  }
+
+  private void slatpsSegmentK(String uplo, String trans, String diag, String normin, int n, MemorySegment ap, MemorySegment x, org.netlib.util.floatW scale, MemorySegment cnorm, org.netlib.util.intW info) {
+    if (slatps_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    int[] __info = { info.val };
+    try {
+      slatps_.invokeExact(string(uplo), string(trans), string(diag), string(normin), value(n), ap, x, MemorySegment.ofArray(__scale), cnorm, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slatrd_ = downcallHandle("slatrd_", null, 9);
+
+  protected void slatrdK(String uplo, int n, int nb, float[] a, int offseta, int lda, float[] e, int offsete, float[] tau, int offsettau, float[] w, int offsetw, int ldw) {
+    slatrdSegmentK(uplo, n, nb, segment(a, offseta), lda, segment(e, offsete), segment(tau, offsettau), segment(w, offsetw), ldw);
+  }
+
+  private void slatrdSegmentK(String uplo, int n, int nb, MemorySegment a, int lda, MemorySegment e, MemorySegment tau, MemorySegment w, int ldw) {
+    if (slatrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slatrd_.invokeExact(string(uplo), value(n), value(nb), a, value(lda), e, tau, w, value(ldw));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slatrs_ = downcallHandle("slatrs_", null, 11);
+
+  protected void slatrsK(String uplo, String trans, String diag, String normin, int n, float[] a, int offseta, int lda, float[] x, int offsetx, org.netlib.util.floatW scale, float[] cnorm, int offsetcnorm, org.netlib.util.intW info) {
+    slatrsSegmentK(uplo, trans, diag, normin, n, segment(a, offseta), lda, segment(x, offsetx), scale, segment(cnorm, offsetcnorm), info);
+  }
+
+  private void slatrsSegmentK(String uplo, String trans, String diag, String normin, int n, MemorySegment a, int lda, MemorySegment x, org.netlib.util.floatW scale, MemorySegment cnorm, org.netlib.util.intW info) {
+    if (slatrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    int[] __info = { info.val };
+    try {
+      slatrs_.invokeExact(string(uplo), string(trans), string(diag), string(normin), value(n), a, value(lda), x, MemorySegment.ofArray(__scale), cnorm, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slatrz_ = downcallHandle("slatrz_", null, 7);
+
+  protected void slatrzK(int m, int n, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork) {
+    slatrzSegmentK(m, n, l, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork));
+  }
+
+  private void slatrzSegmentK(int m, int n, int l, MemorySegment a, int lda, MemorySegment tau, MemorySegment work) {
+    if (slatrz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slatrz_.invokeExact(value(m), value(n), value(l), a, value(lda), tau, work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slatzm_ = downcallHandle("slatzm_", null, 10);
+
+  protected void slatzmK(String side, int m, int n, float[] v, int offsetv, int incv, float tau, float[] c1, int offsetc1, float[] c2, int offsetc2, int Ldc, float[] work, int offsetwork) {
+    slatzmSegmentK(side, m, n, segment(v, offsetv), incv, tau, segment(c1, offsetc1), segment(c2, offsetc2), Ldc, segment(work, offsetwork));
+  }
+
+  private void slatzmSegmentK(String side, int m, int n, MemorySegment v, int incv, float tau, MemorySegment c1, MemorySegment c2, int Ldc, MemorySegment work) {
+    if (slatzm_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      slatzm_.invokeExact(string(side), value(m), value(n), v, value(incv), value(tau), c1, c2, value(Ldc), work);
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slauu2_ = downcallHandle("slauu2_", null, 5);
+
+  protected void slauu2K(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    slauu2SegmentK(uplo, n, segment(a, offseta), lda, info);
+  }
+
+  private void slauu2SegmentK(String uplo, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (slauu2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slauu2_.invokeExact(string(uplo), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle slauum_ = downcallHandle("slauum_", null, 5);
+
+  protected void slauumK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    slauumSegmentK(uplo, n, segment(a, offseta), lda, info);
+  }
+
+  private void slauumSegmentK(String uplo, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (slauum_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      slauum_.invokeExact(string(uplo), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  protected void slazq3K(int i0, org.netlib.util.intW n0, float[] z, int offsetz, int pp, org.netlib.util.floatW dmin, org.netlib.util.floatW sigma, org.netlib.util.floatW desig, org.netlib.util.floatW qmax, org.netlib.util.intW nfail, org.netlib.util.intW iter, org.netlib.util.intW ndiv, boolean ieee, org.netlib.util.intW ttype, org.netlib.util.floatW dmin1, org.netlib.util.floatW dmin2, org.netlib.util.floatW dn, org.netlib.util.floatW dn1, org.netlib.util.floatW dn2, org.netlib.util.floatW tau) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void slazq4K(int i0, int n0, float[] z, int offsetz, int pp, int n0in, float dmin, float dmin1, float dmin2, float dn, float dn1, float dn2, org.netlib.util.floatW tau, org.netlib.util.intW ttype, org.netlib.util.floatW g) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static final MethodHandle sopgtr_ = downcallHandle("sopgtr_", null, 8);
+
+  protected void sopgtrK(String uplo, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sopgtrSegmentK(uplo, n, segment(ap, offsetap), segment(tau, offsettau), segment(q, offsetq), ldq, segment(work, offsetwork), info);
+  }
+
+  private void sopgtrSegmentK(String uplo, int n, MemorySegment ap, MemorySegment tau, MemorySegment q, int ldq, MemorySegment work, org.netlib.util.intW info) {
+    if (sopgtr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sopgtr_.invokeExact(string(uplo), value(n), ap, tau, q, value(ldq), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sopmtr_ = downcallHandle("sopmtr_", null, 11);
+
+  protected void sopmtrK(String side, String uplo, String trans, int m, int n, float[] ap, int offsetap, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sopmtrSegmentK(side, uplo, trans, m, n, segment(ap, offsetap), segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void sopmtrSegmentK(String side, String uplo, String trans, int m, int n, MemorySegment ap, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (sopmtr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sopmtr_.invokeExact(string(side), string(uplo), string(trans), value(m), value(n), ap, tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorg2l_ = downcallHandle("sorg2l_", null, 8);
+
+  protected void sorg2lK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sorg2lSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sorg2lSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sorg2l_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorg2l_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorg2r_ = downcallHandle("sorg2r_", null, 8);
+
+  protected void sorg2rK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sorg2rSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sorg2rSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sorg2r_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorg2r_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorgbr_ = downcallHandle("sorgbr_", null, 10);
+
+  protected void sorgbrK(String vect, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sorgbrSegmentK(vect, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sorgbrSegmentK(String vect, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sorgbr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorgbr_.invokeExact(string(vect), value(m), value(n), value(k), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorghr_ = downcallHandle("sorghr_", null, 9);
+
+  protected void sorghrK(int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sorghrSegmentK(n, ilo, ihi, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sorghrSegmentK(int n, int ilo, int ihi, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sorghr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorghr_.invokeExact(value(n), value(ilo), value(ihi), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorgl2_ = downcallHandle("sorgl2_", null, 8);
+
+  protected void sorgl2K(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sorgl2SegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sorgl2SegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sorgl2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorgl2_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorglq_ = downcallHandle("sorglq_", null, 9);
+
+  protected void sorglqK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sorglqSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sorglqSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sorglq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorglq_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorgql_ = downcallHandle("sorgql_", null, 9);
+
+  protected void sorgqlK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sorgqlSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sorgqlSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sorgql_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorgql_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorgqr_ = downcallHandle("sorgqr_", null, 9);
+
+  protected void sorgqrK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sorgqrSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  protected void sorgqrK(int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(tau) && isSegment(work)) {
+      sorgqrSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+    } else {
+      super.sorgqrK(m, n, k, a, offseta, lda, tau, offsettau, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void sorgqrSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sorgqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorgqr_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorgr2_ = downcallHandle("sorgr2_", null, 8);
+
+  protected void sorgr2K(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sorgr2SegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), info);
+  }
+
+  private void sorgr2SegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, org.netlib.util.intW info) {
+    if (sorgr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorgr2_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorgrq_ = downcallHandle("sorgrq_", null, 9);
+
+  protected void sorgrqK(int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sorgrqSegmentK(m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sorgrqSegmentK(int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sorgrq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorgrq_.invokeExact(value(m), value(n), value(k), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorgtr_ = downcallHandle("sorgtr_", null, 8);
+
+  protected void sorgtrK(String uplo, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sorgtrSegmentK(uplo, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void sorgtrSegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sorgtr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorgtr_.invokeExact(string(uplo), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorm2l_ = downcallHandle("sorm2l_", null, 12);
+
+  protected void sorm2lK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sorm2lSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void sorm2lSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (sorm2l_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorm2l_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorm2r_ = downcallHandle("sorm2r_", null, 12);
+
+  protected void sorm2rK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sorm2rSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void sorm2rSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (sorm2r_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorm2r_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sormbr_ = downcallHandle("sormbr_", null, 14);
+
+  protected void sormbrK(String vect, String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sormbrSegmentK(vect, side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sormbrSegmentK(String vect, String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sormbr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sormbr_.invokeExact(string(vect), string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sormhr_ = downcallHandle("sormhr_", null, 14);
+
+  protected void sormhrK(String side, String trans, int m, int n, int ilo, int ihi, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sormhrSegmentK(side, trans, m, n, ilo, ihi, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sormhrSegmentK(String side, String trans, int m, int n, int ilo, int ihi, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sormhr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sormhr_.invokeExact(string(side), string(trans), value(m), value(n), value(ilo), value(ihi), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sorml2_ = downcallHandle("sorml2_", null, 12);
+
+  protected void sorml2K(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sorml2SegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void sorml2SegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (sorml2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sorml2_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sormlq_ = downcallHandle("sormlq_", null, 13);
+
+  protected void sormlqK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sormlqSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sormlqSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sormlq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sormlq_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sormql_ = downcallHandle("sormql_", null, 13);
+
+  protected void sormqlK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sormqlSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sormqlSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sormql_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sormql_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sormqr_ = downcallHandle("sormqr_", null, 13);
+
+  protected void sormqrK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sormqrSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  protected void sormqrK(String side, String trans, int m, int n, int k, FloatBuffer a, int offseta, int lda, FloatBuffer tau, int offsettau, FloatBuffer c, int offsetc, int Ldc, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(tau) && isSegment(c) && isSegment(work)) {
+      sormqrSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+    } else {
+      super.sormqrK(side, trans, m, n, k, a, offseta, lda, tau, offsettau, c, offsetc, Ldc, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void sormqrSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sormqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sormqr_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sormr2_ = downcallHandle("sormr2_", null, 12);
+
+  protected void sormr2K(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sormr2SegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void sormr2SegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (sormr2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sormr2_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sormr3_ = downcallHandle("sormr3_", null, 13);
+
+  protected void sormr3K(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sormr3SegmentK(side, trans, m, n, k, l, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), info);
+  }
+
+  private void sormr3SegmentK(String side, String trans, int m, int n, int k, int l, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, org.netlib.util.intW info) {
+    if (sormr3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sormr3_.invokeExact(string(side), string(trans), value(m), value(n), value(k), value(l), a, value(lda), tau, c, value(Ldc), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sormrq_ = downcallHandle("sormrq_", null, 13);
+
+  protected void sormrqK(String side, String trans, int m, int n, int k, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sormrqSegmentK(side, trans, m, n, k, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sormrqSegmentK(String side, String trans, int m, int n, int k, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sormrq_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sormrq_.invokeExact(string(side), string(trans), value(m), value(n), value(k), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sormrz_ = downcallHandle("sormrz_", null, 14);
+
+  protected void sormrzK(String side, String trans, int m, int n, int k, int l, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sormrzSegmentK(side, trans, m, n, k, l, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sormrzSegmentK(String side, String trans, int m, int n, int k, int l, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sormrz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sormrz_.invokeExact(string(side), string(trans), value(m), value(n), value(k), value(l), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sormtr_ = downcallHandle("sormtr_", null, 13);
+
+  protected void sormtrK(String side, String uplo, String trans, int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] c, int offsetc, int Ldc, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    sormtrSegmentK(side, uplo, trans, m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(c, offsetc), Ldc, segment(work, offsetwork), lwork, info);
+  }
+
+  private void sormtrSegmentK(String side, String uplo, String trans, int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment c, int Ldc, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (sormtr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sormtr_.invokeExact(string(side), string(uplo), string(trans), value(m), value(n), a, value(lda), tau, c, value(Ldc), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spbcon_ = downcallHandle("spbcon_", null, 10);
+
+  protected void spbconK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    spbconSegmentK(uplo, n, kd, segment(ab, offsetab), ldab, anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void spbconSegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, float anorm, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (spbcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      spbcon_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spbequ_ = downcallHandle("spbequ_", null, 9);
+
+  protected void spbequK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    spbequSegmentK(uplo, n, kd, segment(ab, offsetab), ldab, segment(s, offsets), scond, amax, info);
+  }
+
+  private void spbequSegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment s, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (spbequ_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scond = { scond.val };
+    float[] __amax = { amax.val };
+    int[] __info = { info.val };
+    try {
+      spbequ_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), s, MemorySegment.ofArray(__scond), MemorySegment.ofArray(__amax), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scond.val = __scond[0];
+    amax.val = __amax[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spbrfs_ = downcallHandle("spbrfs_", null, 17);
+
+  protected void spbrfsK(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    spbrfsSegmentK(uplo, n, kd, nrhs, segment(ab, offsetab), ldab, segment(afb, offsetafb), ldafb, segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void spbrfsSegmentK(String uplo, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment afb, int ldafb, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (spbrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spbrfs_.invokeExact(string(uplo), value(n), value(kd), value(nrhs), ab, value(ldab), afb, value(ldafb), b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spbstf_ = downcallHandle("spbstf_", null, 6);
+
+  protected void spbstfK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    spbstfSegmentK(uplo, n, kd, segment(ab, offsetab), ldab, info);
+  }
+
+  private void spbstfSegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, org.netlib.util.intW info) {
+    if (spbstf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spbstf_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spbsv_ = downcallHandle("spbsv_", null, 9);
+
+  protected void spbsvK(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    spbsvSegmentK(uplo, n, kd, nrhs, segment(ab, offsetab), ldab, segment(b, offsetb), ldb, info);
+  }
+
+  private void spbsvSegmentK(String uplo, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (spbsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spbsv_.invokeExact(string(uplo), value(n), value(kd), value(nrhs), ab, value(ldab), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spbsvx_ = downcallHandle("spbsvx_", null, 21);
+
+  protected void spbsvxK(String fact, String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] afb, int offsetafb, int ldafb, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    spbsvxSegmentK(fact, uplo, n, kd, nrhs, segment(ab, offsetab), ldab, segment(afb, offsetafb), ldafb, equed, segment(s, offsets), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void spbsvxSegmentK(String fact, String uplo, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment afb, int ldafb, org.netlib.util.StringW equed, MemorySegment s, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.floatW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (spbsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      spbsvx_.invokeExact(string(fact), string(uplo), value(n), value(kd), value(nrhs), ab, value(ldab), afb, value(ldafb), MemorySegment.ofArray(__equed), s, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spbtf2_ = downcallHandle("spbtf2_", null, 6);
+
+  protected void spbtf2K(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    spbtf2SegmentK(uplo, n, kd, segment(ab, offsetab), ldab, info);
+  }
+
+  private void spbtf2SegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, org.netlib.util.intW info) {
+    if (spbtf2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spbtf2_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spbtrf_ = downcallHandle("spbtrf_", null, 6);
+
+  protected void spbtrfK(String uplo, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.intW info) {
+    spbtrfSegmentK(uplo, n, kd, segment(ab, offsetab), ldab, info);
+  }
+
+  private void spbtrfSegmentK(String uplo, int n, int kd, MemorySegment ab, int ldab, org.netlib.util.intW info) {
+    if (spbtrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spbtrf_.invokeExact(string(uplo), value(n), value(kd), ab, value(ldab), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spbtrs_ = downcallHandle("spbtrs_", null, 9);
+
+  protected void spbtrsK(String uplo, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    spbtrsSegmentK(uplo, n, kd, nrhs, segment(ab, offsetab), ldab, segment(b, offsetb), ldb, info);
+  }
+
+  private void spbtrsSegmentK(String uplo, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (spbtrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spbtrs_.invokeExact(string(uplo), value(n), value(kd), value(nrhs), ab, value(ldab), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spocon_ = downcallHandle("spocon_", null, 9);
+
+  protected void spoconK(String uplo, int n, float[] a, int offseta, int lda, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    spoconSegmentK(uplo, n, segment(a, offseta), lda, anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void spoconSegmentK(String uplo, int n, MemorySegment a, int lda, float anorm, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (spocon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      spocon_.invokeExact(string(uplo), value(n), a, value(lda), value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spoequ_ = downcallHandle("spoequ_", null, 7);
+
+  protected void spoequK(int n, float[] a, int offseta, int lda, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    spoequSegmentK(n, segment(a, offseta), lda, segment(s, offsets), scond, amax, info);
+  }
+
+  private void spoequSegmentK(int n, MemorySegment a, int lda, MemorySegment s, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (spoequ_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scond = { scond.val };
+    float[] __amax = { amax.val };
+    int[] __info = { info.val };
+    try {
+      spoequ_.invokeExact(value(n), a, value(lda), s, MemorySegment.ofArray(__scond), MemorySegment.ofArray(__amax), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scond.val = __scond[0];
+    amax.val = __amax[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sporfs_ = downcallHandle("sporfs_", null, 16);
+
+  protected void sporfsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sporfsSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sporfsSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sporfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sporfs_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), af, value(ldaf), b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sposv_ = downcallHandle("sposv_", null, 8);
+
+  protected void sposvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sposvSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+  }
+
+  protected void sposvK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(b)) {
+      sposvSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+    } else {
+      super.sposvK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private void sposvSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (sposv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sposv_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sposvx_ = downcallHandle("sposvx_", null, 20);
+
+  protected void sposvxK(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sposvxSegmentK(fact, uplo, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, equed, segment(s, offsets), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sposvxSegmentK(String fact, String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, org.netlib.util.StringW equed, MemorySegment s, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.floatW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sposvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sposvx_.invokeExact(string(fact), string(uplo), value(n), value(nrhs), a, value(lda), af, value(ldaf), MemorySegment.ofArray(__equed), s, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spotf2_ = downcallHandle("spotf2_", null, 5);
+
+  protected void spotf2K(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    spotf2SegmentK(uplo, n, segment(a, offseta), lda, info);
+  }
+
+  private void spotf2SegmentK(String uplo, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (spotf2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spotf2_.invokeExact(string(uplo), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spotrf_ = downcallHandle("spotrf_", null, 5);
+
+  protected void spotrfK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    spotrfSegmentK(uplo, n, segment(a, offseta), lda, info);
+  }
+
+  protected void spotrfK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (isSegment(a)) {
+      spotrfSegmentK(uplo, n, segment(a, offseta), lda, info);
+    } else {
+      super.spotrfK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  private void spotrfSegmentK(String uplo, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (spotrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spotrf_.invokeExact(string(uplo), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spotri_ = downcallHandle("spotri_", null, 5);
+
+  protected void spotriK(String uplo, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    spotriSegmentK(uplo, n, segment(a, offseta), lda, info);
+  }
+
+  protected void spotriK(String uplo, int n, FloatBuffer a, int offseta, int lda, org.netlib.util.intW info) {
+    if (isSegment(a)) {
+      spotriSegmentK(uplo, n, segment(a, offseta), lda, info);
+    } else {
+      super.spotriK(uplo, n, a, offseta, lda, info);
+    }
+  }
+
+  private void spotriSegmentK(String uplo, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (spotri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spotri_.invokeExact(string(uplo), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spotrs_ = downcallHandle("spotrs_", null, 8);
+
+  protected void spotrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    spotrsSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+  }
+
+  protected void spotrsK(String uplo, int n, int nrhs, FloatBuffer a, int offseta, int lda, FloatBuffer b, int offsetb, int ldb, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(b)) {
+      spotrsSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+    } else {
+      super.spotrsK(uplo, n, nrhs, a, offseta, lda, b, offsetb, ldb, info);
+    }
+  }
+
+  private void spotrsSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (spotrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spotrs_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sppcon_ = downcallHandle("sppcon_", null, 8);
+
+  protected void sppconK(String uplo, int n, float[] ap, int offsetap, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sppconSegmentK(uplo, n, segment(ap, offsetap), anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sppconSegmentK(String uplo, int n, MemorySegment ap, float anorm, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sppcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sppcon_.invokeExact(string(uplo), value(n), ap, value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sppequ_ = downcallHandle("sppequ_", null, 7);
+
+  protected void sppequK(String uplo, int n, float[] ap, int offsetap, float[] s, int offsets, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    sppequSegmentK(uplo, n, segment(ap, offsetap), segment(s, offsets), scond, amax, info);
+  }
+
+  private void sppequSegmentK(String uplo, int n, MemorySegment ap, MemorySegment s, org.netlib.util.floatW scond, org.netlib.util.floatW amax, org.netlib.util.intW info) {
+    if (sppequ_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scond = { scond.val };
+    float[] __amax = { amax.val };
+    int[] __info = { info.val };
+    try {
+      sppequ_.invokeExact(string(uplo), value(n), ap, s, MemorySegment.ofArray(__scond), MemorySegment.ofArray(__amax), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scond.val = __scond[0];
+    amax.val = __amax[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spprfs_ = downcallHandle("spprfs_", null, 14);
+
+  protected void spprfsK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    spprfsSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(afp, offsetafp), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void spprfsSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment afp, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (spprfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spprfs_.invokeExact(string(uplo), value(n), value(nrhs), ap, afp, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sppsv_ = downcallHandle("sppsv_", null, 7);
+
+  protected void sppsvK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sppsvSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(b, offsetb), ldb, info);
+  }
+
+  private void sppsvSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (sppsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sppsv_.invokeExact(string(uplo), value(n), value(nrhs), ap, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sppsvx_ = downcallHandle("sppsvx_", null, 18);
+
+  protected void sppsvxK(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, org.netlib.util.StringW equed, float[] s, int offsets, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sppsvxSegmentK(fact, uplo, n, nrhs, segment(ap, offsetap), segment(afp, offsetafp), equed, segment(s, offsets), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sppsvxSegmentK(String fact, String uplo, int n, int nrhs, MemorySegment ap, MemorySegment afp, org.netlib.util.StringW equed, MemorySegment s, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.floatW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sppsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    byte[] __equed = bytes(equed.val);
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sppsvx_.invokeExact(string(fact), string(uplo), value(n), value(nrhs), ap, afp, MemorySegment.ofArray(__equed), s, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    equed.val = string(__equed);
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spptrf_ = downcallHandle("spptrf_", null, 4);
+
+  protected void spptrfK(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    spptrfSegmentK(uplo, n, segment(ap, offsetap), info);
+  }
+
+  private void spptrfSegmentK(String uplo, int n, MemorySegment ap, org.netlib.util.intW info) {
+    if (spptrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spptrf_.invokeExact(string(uplo), value(n), ap, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spptri_ = downcallHandle("spptri_", null, 4);
+
+  protected void spptriK(String uplo, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    spptriSegmentK(uplo, n, segment(ap, offsetap), info);
+  }
+
+  private void spptriSegmentK(String uplo, int n, MemorySegment ap, org.netlib.util.intW info) {
+    if (spptri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spptri_.invokeExact(string(uplo), value(n), ap, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spptrs_ = downcallHandle("spptrs_", null, 7);
+
+  protected void spptrsK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    spptrsSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(b, offsetb), ldb, info);
+  }
+
+  private void spptrsSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (spptrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spptrs_.invokeExact(string(uplo), value(n), value(nrhs), ap, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sptcon_ = downcallHandle("sptcon_", null, 7);
+
+  protected void sptconK(int n, float[] d, int offsetd, float[] e, int offsete, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sptconSegmentK(n, segment(d, offsetd), segment(e, offsete), anorm, rcond, segment(work, offsetwork), info);
+  }
+
+  private void sptconSegmentK(int n, MemorySegment d, MemorySegment e, float anorm, org.netlib.util.floatW rcond, MemorySegment work, org.netlib.util.intW info) {
+    if (sptcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sptcon_.invokeExact(value(n), d, e, value(anorm), MemorySegment.ofArray(__rcond), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spteqr_ = downcallHandle("spteqr_", null, 8);
+
+  protected void spteqrK(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    spteqrSegmentK(compz, n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void spteqrSegmentK(String compz, int n, MemorySegment d, MemorySegment e, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (spteqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spteqr_.invokeExact(string(compz), value(n), d, e, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sptrfs_ = downcallHandle("sptrfs_", null, 14);
+
+  protected void sptrfsK(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sptrfsSegmentK(n, nrhs, segment(d, offsetd), segment(e, offsete), segment(df, offsetdf), segment(ef, offsetef), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), info);
+  }
+
+  private void sptrfsSegmentK(int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment df, MemorySegment ef, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, org.netlib.util.intW info) {
+    if (sptrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sptrfs_.invokeExact(value(n), value(nrhs), d, e, df, ef, b, value(ldb), x, value(ldx), ferr, berr, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sptsv_ = downcallHandle("sptsv_", null, 7);
+
+  protected void sptsvK(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sptsvSegmentK(n, nrhs, segment(d, offsetd), segment(e, offsete), segment(b, offsetb), ldb, info);
+  }
+
+  private void sptsvSegmentK(int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (sptsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sptsv_.invokeExact(value(n), value(nrhs), d, e, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sptsvx_ = downcallHandle("sptsvx_", null, 16);
+
+  protected void sptsvxK(String fact, int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] df, int offsetdf, float[] ef, int offsetef, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sptsvxSegmentK(fact, n, nrhs, segment(d, offsetd), segment(e, offsete), segment(df, offsetdf), segment(ef, offsetef), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), info);
+  }
+
+  private void sptsvxSegmentK(String fact, int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment df, MemorySegment ef, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.floatW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, org.netlib.util.intW info) {
+    if (sptsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sptsvx_.invokeExact(string(fact), value(n), value(nrhs), d, e, df, ef, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spttrf_ = downcallHandle("spttrf_", null, 4);
+
+  protected void spttrfK(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    spttrfSegmentK(n, segment(d, offsetd), segment(e, offsete), info);
+  }
+
+  private void spttrfSegmentK(int n, MemorySegment d, MemorySegment e, org.netlib.util.intW info) {
+    if (spttrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spttrf_.invokeExact(value(n), d, e, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle spttrs_ = downcallHandle("spttrs_", null, 7);
+
+  protected void spttrsK(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    spttrsSegmentK(n, nrhs, segment(d, offsetd), segment(e, offsete), segment(b, offsetb), ldb, info);
+  }
+
+  private void spttrsSegmentK(int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (spttrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      spttrs_.invokeExact(value(n), value(nrhs), d, e, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sptts2_ = downcallHandle("sptts2_", null, 6);
+
+  protected void sptts2K(int n, int nrhs, float[] d, int offsetd, float[] e, int offsete, float[] b, int offsetb, int ldb) {
+    sptts2SegmentK(n, nrhs, segment(d, offsetd), segment(e, offsete), segment(b, offsetb), ldb);
+  }
+
+  private void sptts2SegmentK(int n, int nrhs, MemorySegment d, MemorySegment e, MemorySegment b, int ldb) {
+    if (sptts2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      sptts2_.invokeExact(value(n), value(nrhs), d, e, b, value(ldb));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle srscl_ = downcallHandle("srscl_", null, 4);
+
+  protected void srsclK(int n, float sa, float[] sx, int offsetsx, int incx) {
+    srsclSegmentK(n, sa, segment(sx, offsetsx), incx);
+  }
+
+  private void srsclSegmentK(int n, float sa, MemorySegment sx, int incx) {
+    if (srscl_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      srscl_.invokeExact(value(n), value(sa), sx, value(incx));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle ssbev_ = downcallHandle("ssbev_", null, 11);
+
+  protected void ssbevK(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    ssbevSegmentK(jobz, uplo, n, kd, segment(ab, offsetab), ldab, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void ssbevSegmentK(String jobz, String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (ssbev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssbev_.invokeExact(string(jobz), string(uplo), value(n), value(kd), ab, value(ldab), w, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssbevd_ = downcallHandle("ssbevd_", null, 14);
+
+  protected void ssbevdK(String jobz, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    ssbevdSegmentK(jobz, uplo, n, kd, segment(ab, offsetab), ldab, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void ssbevdSegmentK(String jobz, String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (ssbevd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssbevd_.invokeExact(string(jobz), string(uplo), value(n), value(kd), ab, value(ldab), w, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssbevx_ = downcallHandle("ssbevx_", null, 22);
+
+  protected void ssbevxK(String jobz, String range, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    ssbevxSegmentK(jobz, range, uplo, n, kd, segment(ab, offsetab), ldab, segment(q, offsetq), ldq, vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void ssbevxSegmentK(String jobz, String range, String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment q, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (ssbevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      ssbevx_.invokeExact(string(jobz), string(range), string(uplo), value(n), value(kd), ab, value(ldab), q, value(ldq), value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssbgst_ = downcallHandle("ssbgst_", null, 13);
+
+  protected void ssbgstK(String vect, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] x, int offsetx, int ldx, float[] work, int offsetwork, org.netlib.util.intW info) {
+    ssbgstSegmentK(vect, uplo, n, ka, kb, segment(ab, offsetab), ldab, segment(bb, offsetbb), ldbb, segment(x, offsetx), ldx, segment(work, offsetwork), info);
+  }
+
+  private void ssbgstSegmentK(String vect, String uplo, int n, int ka, int kb, MemorySegment ab, int ldab, MemorySegment bb, int ldbb, MemorySegment x, int ldx, MemorySegment work, org.netlib.util.intW info) {
+    if (ssbgst_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssbgst_.invokeExact(string(vect), string(uplo), value(n), value(ka), value(kb), ab, value(ldab), bb, value(ldbb), x, value(ldx), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssbgv_ = downcallHandle("ssbgv_", null, 14);
+
+  protected void ssbgvK(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    ssbgvSegmentK(jobz, uplo, n, ka, kb, segment(ab, offsetab), ldab, segment(bb, offsetbb), ldbb, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void ssbgvSegmentK(String jobz, String uplo, int n, int ka, int kb, MemorySegment ab, int ldab, MemorySegment bb, int ldbb, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (ssbgv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssbgv_.invokeExact(string(jobz), string(uplo), value(n), value(ka), value(kb), ab, value(ldab), bb, value(ldbb), w, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssbgvd_ = downcallHandle("ssbgvd_", null, 17);
+
+  protected void ssbgvdK(String jobz, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    ssbgvdSegmentK(jobz, uplo, n, ka, kb, segment(ab, offsetab), ldab, segment(bb, offsetbb), ldbb, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void ssbgvdSegmentK(String jobz, String uplo, int n, int ka, int kb, MemorySegment ab, int ldab, MemorySegment bb, int ldbb, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (ssbgvd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssbgvd_.invokeExact(string(jobz), string(uplo), value(n), value(ka), value(kb), ab, value(ldab), bb, value(ldbb), w, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssbgvx_ = downcallHandle("ssbgvx_", null, 25);
+
+  protected void ssbgvxK(String jobz, String range, String uplo, int n, int ka, int kb, float[] ab, int offsetab, int ldab, float[] bb, int offsetbb, int ldbb, float[] q, int offsetq, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    ssbgvxSegmentK(jobz, range, uplo, n, ka, kb, segment(ab, offsetab), ldab, segment(bb, offsetbb), ldbb, segment(q, offsetq), ldq, vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void ssbgvxSegmentK(String jobz, String range, String uplo, int n, int ka, int kb, MemorySegment ab, int ldab, MemorySegment bb, int ldbb, MemorySegment q, int ldq, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (ssbgvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      ssbgvx_.invokeExact(string(jobz), string(range), string(uplo), value(n), value(ka), value(kb), ab, value(ldab), bb, value(ldbb), q, value(ldq), value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssbtrd_ = downcallHandle("ssbtrd_", null, 12);
+
+  protected void ssbtrdK(String vect, String uplo, int n, int kd, float[] ab, int offsetab, int ldab, float[] d, int offsetd, float[] e, int offsete, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW info) {
+    ssbtrdSegmentK(vect, uplo, n, kd, segment(ab, offsetab), ldab, segment(d, offsetd), segment(e, offsete), segment(q, offsetq), ldq, segment(work, offsetwork), info);
+  }
+
+  private void ssbtrdSegmentK(String vect, String uplo, int n, int kd, MemorySegment ab, int ldab, MemorySegment d, MemorySegment e, MemorySegment q, int ldq, MemorySegment work, org.netlib.util.intW info) {
+    if (ssbtrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssbtrd_.invokeExact(string(vect), string(uplo), value(n), value(kd), ab, value(ldab), d, e, q, value(ldq), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sspcon_ = downcallHandle("sspcon_", null, 9);
+
+  protected void sspconK(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sspconSegmentK(uplo, n, segment(ap, offsetap), segment(ipiv, offsetipiv), anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sspconSegmentK(String uplo, int n, MemorySegment ap, MemorySegment ipiv, float anorm, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sspcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sspcon_.invokeExact(string(uplo), value(n), ap, ipiv, value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sspev_ = downcallHandle("sspev_", null, 9);
+
+  protected void sspevK(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sspevSegmentK(jobz, uplo, n, segment(ap, offsetap), segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void sspevSegmentK(String jobz, String uplo, int n, MemorySegment ap, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (sspev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sspev_.invokeExact(string(jobz), string(uplo), value(n), ap, w, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sspevd_ = downcallHandle("sspevd_", null, 12);
+
+  protected void sspevdK(String jobz, String uplo, int n, float[] ap, int offsetap, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    sspevdSegmentK(jobz, uplo, n, segment(ap, offsetap), segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void sspevdSegmentK(String jobz, String uplo, int n, MemorySegment ap, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (sspevd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sspevd_.invokeExact(string(jobz), string(uplo), value(n), ap, w, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sspevx_ = downcallHandle("sspevx_", null, 18);
+
+  protected void sspevxK(String jobz, String range, String uplo, int n, float[] ap, int offsetap, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    sspevxSegmentK(jobz, range, uplo, n, segment(ap, offsetap), vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void sspevxSegmentK(String jobz, String range, String uplo, int n, MemorySegment ap, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (sspevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      sspevx_.invokeExact(string(jobz), string(range), string(uplo), value(n), ap, value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sspgst_ = downcallHandle("sspgst_", null, 6);
+
+  protected void sspgstK(int itype, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, org.netlib.util.intW info) {
+    sspgstSegmentK(itype, uplo, n, segment(ap, offsetap), segment(bp, offsetbp), info);
+  }
+
+  private void sspgstSegmentK(int itype, String uplo, int n, MemorySegment ap, MemorySegment bp, org.netlib.util.intW info) {
+    if (sspgst_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sspgst_.invokeExact(value(itype), string(uplo), value(n), ap, bp, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sspgv_ = downcallHandle("sspgv_", null, 11);
+
+  protected void sspgvK(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sspgvSegmentK(itype, jobz, uplo, n, segment(ap, offsetap), segment(bp, offsetbp), segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void sspgvSegmentK(int itype, String jobz, String uplo, int n, MemorySegment ap, MemorySegment bp, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (sspgv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sspgv_.invokeExact(value(itype), string(jobz), string(uplo), value(n), ap, bp, w, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sspgvd_ = downcallHandle("sspgvd_", null, 14);
+
+  protected void sspgvdK(int itype, String jobz, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    sspgvdSegmentK(itype, jobz, uplo, n, segment(ap, offsetap), segment(bp, offsetbp), segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void sspgvdSegmentK(int itype, String jobz, String uplo, int n, MemorySegment ap, MemorySegment bp, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (sspgvd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sspgvd_.invokeExact(value(itype), string(jobz), string(uplo), value(n), ap, bp, w, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sspgvx_ = downcallHandle("sspgvx_", null, 20);
+
+  protected void sspgvxK(int itype, String jobz, String range, String uplo, int n, float[] ap, int offsetap, float[] bp, int offsetbp, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    sspgvxSegmentK(itype, jobz, range, uplo, n, segment(ap, offsetap), segment(bp, offsetbp), vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void sspgvxSegmentK(int itype, String jobz, String range, String uplo, int n, MemorySegment ap, MemorySegment bp, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (sspgvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      sspgvx_.invokeExact(value(itype), string(jobz), string(range), string(uplo), value(n), ap, bp, value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssprfs_ = downcallHandle("ssprfs_", null, 15);
+
+  protected void ssprfsK(String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    ssprfsSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(afp, offsetafp), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void ssprfsSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment afp, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (ssprfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssprfs_.invokeExact(string(uplo), value(n), value(nrhs), ap, afp, ipiv, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sspsv_ = downcallHandle("sspsv_", null, 8);
+
+  protected void sspsvK(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    sspsvSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void sspsvSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (sspsv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sspsv_.invokeExact(string(uplo), value(n), value(nrhs), ap, ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sspsvx_ = downcallHandle("sspsvx_", null, 17);
+
+  protected void sspsvxK(String fact, String uplo, int n, int nrhs, float[] ap, int offsetap, float[] afp, int offsetafp, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sspsvxSegmentK(fact, uplo, n, nrhs, segment(ap, offsetap), segment(afp, offsetafp), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sspsvxSegmentK(String fact, String uplo, int n, int nrhs, MemorySegment ap, MemorySegment afp, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.floatW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sspsvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      sspsvx_.invokeExact(string(fact), string(uplo), value(n), value(nrhs), ap, afp, ipiv, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssptrd_ = downcallHandle("ssptrd_", null, 7);
+
+  protected void ssptrdK(String uplo, int n, float[] ap, int offsetap, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info) {
+    ssptrdSegmentK(uplo, n, segment(ap, offsetap), segment(d, offsetd), segment(e, offsete), segment(tau, offsettau), info);
+  }
+
+  private void ssptrdSegmentK(String uplo, int n, MemorySegment ap, MemorySegment d, MemorySegment e, MemorySegment tau, org.netlib.util.intW info) {
+    if (ssptrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssptrd_.invokeExact(string(uplo), value(n), ap, d, e, tau, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssptrf_ = downcallHandle("ssptrf_", null, 5);
+
+  protected void ssptrfK(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    ssptrfSegmentK(uplo, n, segment(ap, offsetap), segment(ipiv, offsetipiv), info);
+  }
+
+  private void ssptrfSegmentK(String uplo, int n, MemorySegment ap, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (ssptrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssptrf_.invokeExact(string(uplo), value(n), ap, ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssptri_ = downcallHandle("ssptri_", null, 6);
+
+  protected void ssptriK(String uplo, int n, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info) {
+    ssptriSegmentK(uplo, n, segment(ap, offsetap), segment(ipiv, offsetipiv), segment(work, offsetwork), info);
+  }
+
+  private void ssptriSegmentK(String uplo, int n, MemorySegment ap, MemorySegment ipiv, MemorySegment work, org.netlib.util.intW info) {
+    if (ssptri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssptri_.invokeExact(string(uplo), value(n), ap, ipiv, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssptrs_ = downcallHandle("ssptrs_", null, 8);
+
+  protected void ssptrsK(String uplo, int n, int nrhs, float[] ap, int offsetap, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    ssptrsSegmentK(uplo, n, nrhs, segment(ap, offsetap), segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void ssptrsSegmentK(String uplo, int n, int nrhs, MemorySegment ap, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (ssptrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssptrs_.invokeExact(string(uplo), value(n), value(nrhs), ap, ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sstebz_ = downcallHandle("sstebz_", null, 18);
+
+  protected void sstebzK(String range, String order, int n, float vl, float vu, int il, int iu, float abstol, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW m, org.netlib.util.intW nsplit, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    sstebzSegmentK(range, order, n, vl, vu, il, iu, abstol, segment(d, offsetd), segment(e, offsete), m, nsplit, segment(w, offsetw), segment(iblock, offsetiblock), segment(isplit, offsetisplit), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void sstebzSegmentK(String range, String order, int n, float vl, float vu, int il, int iu, float abstol, MemorySegment d, MemorySegment e, org.netlib.util.intW m, org.netlib.util.intW nsplit, MemorySegment w, MemorySegment iblock, MemorySegment isplit, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (sstebz_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __nsplit = { nsplit.val };
+    int[] __info = { info.val };
+    try {
+      sstebz_.invokeExact(string(range), string(order), value(n), value(vl), value(vu), value(il), value(iu), value(abstol), d, e, MemorySegment.ofArray(__m), MemorySegment.ofArray(__nsplit), w, iblock, isplit, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    nsplit.val = __nsplit[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sstedc_ = downcallHandle("sstedc_", null, 11);
+
+  protected void sstedcK(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    sstedcSegmentK(compz, n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void sstedcSegmentK(String compz, int n, MemorySegment d, MemorySegment e, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (sstedc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sstedc_.invokeExact(string(compz), value(n), d, e, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sstegr_ = downcallHandle("sstegr_", null, 20);
+
+  protected void sstegrK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    sstegrSegmentK(jobz, range, n, segment(d, offsetd), segment(e, offsete), vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(isuppz, offsetisuppz), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void sstegrSegmentK(String jobz, String range, int n, MemorySegment d, MemorySegment e, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment isuppz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (sstegr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      sstegr_.invokeExact(string(jobz), string(range), value(n), d, e, value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), isuppz, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sstein_ = downcallHandle("sstein_", null, 13);
+
+  protected void ssteinK(int n, float[] d, int offsetd, float[] e, int offsete, int m, float[] w, int offsetw, int[] iblock, int offsetiblock, int[] isplit, int offsetisplit, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    ssteinSegmentK(n, segment(d, offsetd), segment(e, offsete), m, segment(w, offsetw), segment(iblock, offsetiblock), segment(isplit, offsetisplit), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void ssteinSegmentK(int n, MemorySegment d, MemorySegment e, int m, MemorySegment w, MemorySegment iblock, MemorySegment isplit, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (sstein_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sstein_.invokeExact(value(n), d, e, value(m), w, iblock, isplit, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sstemr_ = downcallHandle("sstemr_", null, 21);
+
+  protected void sstemrK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int nzc, int[] isuppz, int offsetisuppz, org.netlib.util.booleanW tryrac, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    sstemrSegmentK(jobz, range, n, segment(d, offsetd), segment(e, offsete), vl, vu, il, iu, m, segment(w, offsetw), segment(z, offsetz), ldz, nzc, segment(isuppz, offsetisuppz), tryrac, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void sstemrSegmentK(String jobz, String range, int n, MemorySegment d, MemorySegment e, float vl, float vu, int il, int iu, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, int nzc, MemorySegment isuppz, org.netlib.util.booleanW tryrac, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (sstemr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __tryrac = { tryrac.val ? 1 : 0 };
+    int[] __info = { info.val };
+    try {
+      sstemr_.invokeExact(string(jobz), string(range), value(n), d, e, value(vl), value(vu), value(il), value(iu), MemorySegment.ofArray(__m), w, z, value(ldz), value(nzc), isuppz, MemorySegment.ofArray(__tryrac), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    tryrac.val = __tryrac[0] != 0;
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssteqr_ = downcallHandle("ssteqr_", null, 8);
+
+  protected void ssteqrK(String compz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    ssteqrSegmentK(compz, n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void ssteqrSegmentK(String compz, int n, MemorySegment d, MemorySegment e, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (ssteqr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssteqr_.invokeExact(string(compz), value(n), d, e, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssterf_ = downcallHandle("ssterf_", null, 4);
+
+  protected void ssterfK(int n, float[] d, int offsetd, float[] e, int offsete, org.netlib.util.intW info) {
+    ssterfSegmentK(n, segment(d, offsetd), segment(e, offsete), info);
+  }
+
+  private void ssterfSegmentK(int n, MemorySegment d, MemorySegment e, org.netlib.util.intW info) {
+    if (ssterf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssterf_.invokeExact(value(n), d, e, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sstev_ = downcallHandle("sstev_", null, 8);
+
+  protected void sstevK(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, org.netlib.util.intW info) {
+    sstevSegmentK(jobz, n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), ldz, segment(work, offsetwork), info);
+  }
+
+  private void sstevSegmentK(String jobz, int n, MemorySegment d, MemorySegment e, MemorySegment z, int ldz, MemorySegment work, org.netlib.util.intW info) {
+    if (sstev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sstev_.invokeExact(string(jobz), value(n), d, e, z, value(ldz), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sstevd_ = downcallHandle("sstevd_", null, 11);
+
+  protected void sstevdK(String jobz, int n, float[] d, int offsetd, float[] e, int offsete, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    sstevdSegmentK(jobz, n, segment(d, offsetd), segment(e, offsete), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void sstevdSegmentK(String jobz, int n, MemorySegment d, MemorySegment e, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (sstevd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      sstevd_.invokeExact(string(jobz), value(n), d, e, z, value(ldz), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sstevr_ = downcallHandle("sstevr_", null, 20);
+
+  protected void sstevrK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    sstevrSegmentK(jobz, range, n, segment(d, offsetd), segment(e, offsete), vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(isuppz, offsetisuppz), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void sstevrSegmentK(String jobz, String range, int n, MemorySegment d, MemorySegment e, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment isuppz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (sstevr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      sstevr_.invokeExact(string(jobz), string(range), value(n), d, e, value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), isuppz, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle sstevx_ = downcallHandle("sstevx_", null, 18);
+
+  protected void sstevxK(String jobz, String range, int n, float[] d, int offsetd, float[] e, int offsete, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    sstevxSegmentK(jobz, range, n, segment(d, offsetd), segment(e, offsete), vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void sstevxSegmentK(String jobz, String range, int n, MemorySegment d, MemorySegment e, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (sstevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      sstevx_.invokeExact(string(jobz), string(range), value(n), d, e, value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssycon_ = downcallHandle("ssycon_", null, 10);
+
+  protected void ssyconK(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float anorm, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    ssyconSegmentK(uplo, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), anorm, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void ssyconSegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment ipiv, float anorm, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (ssycon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      ssycon_.invokeExact(string(uplo), value(n), a, value(lda), ipiv, value(anorm), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssyev_ = downcallHandle("ssyev_", null, 9);
+
+  protected void ssyevK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    ssyevSegmentK(jobz, uplo, n, segment(a, offseta), lda, segment(w, offsetw), segment(work, offsetwork), lwork, info);
+  }
+
+  protected void ssyevK(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(w) && isSegment(work)) {
+      ssyevSegmentK(jobz, uplo, n, segment(a, offseta), lda, segment(w, offsetw), segment(work, offsetwork), lwork, info);
+    } else {
+      super.ssyevK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, info);
+    }
+  }
+
+  private void ssyevSegmentK(String jobz, String uplo, int n, MemorySegment a, int lda, MemorySegment w, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (ssyev_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssyev_.invokeExact(string(jobz), string(uplo), value(n), a, value(lda), w, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssyevd_ = downcallHandle("ssyevd_", null, 11);
+
+  protected void ssyevdK(String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    ssyevdSegmentK(jobz, uplo, n, segment(a, offseta), lda, segment(w, offsetw), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  protected void ssyevdK(String jobz, String uplo, int n, FloatBuffer a, int offseta, int lda, FloatBuffer w, int offsetw, FloatBuffer work, int offsetwork, int lwork, IntBuffer iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    if (isSegment(a) && isSegment(w) && isSegment(work) && isSegment(iwork)) {
+      ssyevdSegmentK(jobz, uplo, n, segment(a, offseta), lda, segment(w, offsetw), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+    } else {
+      super.ssyevdK(jobz, uplo, n, a, offseta, lda, w, offsetw, work, offsetwork, lwork, iwork, offsetiwork, liwork, info);
+    }
+  }
+
+  private void ssyevdSegmentK(String jobz, String uplo, int n, MemorySegment a, int lda, MemorySegment w, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (ssyevd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssyevd_.invokeExact(string(jobz), string(uplo), value(n), a, value(lda), w, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssyevr_ = downcallHandle("ssyevr_", null, 21);
+
+  protected void ssyevrK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, int[] isuppz, int offsetisuppz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    ssyevrSegmentK(jobz, range, uplo, n, segment(a, offseta), lda, vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(isuppz, offsetisuppz), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void ssyevrSegmentK(String jobz, String range, String uplo, int n, MemorySegment a, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment isuppz, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (ssyevr_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      ssyevr_.invokeExact(string(jobz), string(range), string(uplo), value(n), a, value(lda), value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), isuppz, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssyevx_ = downcallHandle("ssyevx_", null, 20);
+
+  protected void ssyevxK(String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    ssyevxSegmentK(jobz, range, uplo, n, segment(a, offseta), lda, vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void ssyevxSegmentK(String jobz, String range, String uplo, int n, MemorySegment a, int lda, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (ssyevx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      ssyevx_.invokeExact(string(jobz), string(range), string(uplo), value(n), a, value(lda), value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, value(lwork), iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssygs2_ = downcallHandle("ssygs2_", null, 8);
+
+  protected void ssygs2K(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    ssygs2SegmentK(itype, uplo, n, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+  }
+
+  private void ssygs2SegmentK(int itype, String uplo, int n, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (ssygs2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssygs2_.invokeExact(value(itype), string(uplo), value(n), a, value(lda), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssygst_ = downcallHandle("ssygst_", null, 8);
+
+  protected void ssygstK(int itype, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    ssygstSegmentK(itype, uplo, n, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+  }
+
+  private void ssygstSegmentK(int itype, String uplo, int n, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (ssygst_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssygst_.invokeExact(value(itype), string(uplo), value(n), a, value(lda), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssygv_ = downcallHandle("ssygv_", null, 12);
+
+  protected void ssygvK(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    ssygvSegmentK(itype, jobz, uplo, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(w, offsetw), segment(work, offsetwork), lwork, info);
+  }
+
+  private void ssygvSegmentK(int itype, String jobz, String uplo, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment w, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (ssygv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssygv_.invokeExact(value(itype), string(jobz), string(uplo), value(n), a, value(lda), b, value(ldb), w, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssygvd_ = downcallHandle("ssygvd_", null, 14);
+
+  protected void ssygvdK(int itype, String jobz, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] w, int offsetw, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    ssygvdSegmentK(itype, jobz, uplo, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(w, offsetw), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void ssygvdSegmentK(int itype, String jobz, String uplo, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment w, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (ssygvd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssygvd_.invokeExact(value(itype), string(jobz), string(uplo), value(n), a, value(lda), b, value(ldb), w, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssygvx_ = downcallHandle("ssygvx_", null, 23);
+
+  protected void ssygvxK(int itype, String jobz, String range, String uplo, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, float[] w, int offsetw, float[] z, int offsetz, int ldz, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int[] ifail, int offsetifail, org.netlib.util.intW info) {
+    ssygvxSegmentK(itype, jobz, range, uplo, n, segment(a, offseta), lda, segment(b, offsetb), ldb, vl, vu, il, iu, abstol, m, segment(w, offsetw), segment(z, offsetz), ldz, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), segment(ifail, offsetifail), info);
+  }
+
+  private void ssygvxSegmentK(int itype, String jobz, String range, String uplo, int n, MemorySegment a, int lda, MemorySegment b, int ldb, float vl, float vu, int il, int iu, float abstol, org.netlib.util.intW m, MemorySegment w, MemorySegment z, int ldz, MemorySegment work, int lwork, MemorySegment iwork, MemorySegment ifail, org.netlib.util.intW info) {
+    if (ssygvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      ssygvx_.invokeExact(value(itype), string(jobz), string(range), string(uplo), value(n), a, value(lda), b, value(ldb), value(vl), value(vu), value(il), value(iu), value(abstol), MemorySegment.ofArray(__m), w, z, value(ldz), work, value(lwork), iwork, ifail, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssyrfs_ = downcallHandle("ssyrfs_", null, 17);
+
+  protected void ssyrfsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    ssyrfsSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void ssyrfsSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (ssyrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssyrfs_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), af, value(ldaf), ipiv, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssysv_ = downcallHandle("ssysv_", null, 11);
+
+  protected void ssysvK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    ssysvSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(work, offsetwork), lwork, info);
+  }
+
+  private void ssysvSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (ssysv_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssysv_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), ipiv, b, value(ldb), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssysvx_ = downcallHandle("ssysvx_", null, 20);
+
+  protected void ssysvxK(String fact, String uplo, int n, int nrhs, float[] a, int offseta, int lda, float[] af, int offsetaf, int ldaf, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, org.netlib.util.floatW rcond, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    ssysvxSegmentK(fact, uplo, n, nrhs, segment(a, offseta), lda, segment(af, offsetaf), ldaf, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, segment(x, offsetx), ldx, rcond, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void ssysvxSegmentK(String fact, String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment af, int ldaf, MemorySegment ipiv, MemorySegment b, int ldb, MemorySegment x, int ldx, org.netlib.util.floatW rcond, MemorySegment ferr, MemorySegment berr, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (ssysvx_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      ssysvx_.invokeExact(string(fact), string(uplo), value(n), value(nrhs), a, value(lda), af, value(ldaf), ipiv, b, value(ldb), x, value(ldx), MemorySegment.ofArray(__rcond), ferr, berr, work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssytd2_ = downcallHandle("ssytd2_", null, 8);
+
+  protected void ssytd2K(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, org.netlib.util.intW info) {
+    ssytd2SegmentK(uplo, n, segment(a, offseta), lda, segment(d, offsetd), segment(e, offsete), segment(tau, offsettau), info);
+  }
+
+  private void ssytd2SegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment d, MemorySegment e, MemorySegment tau, org.netlib.util.intW info) {
+    if (ssytd2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssytd2_.invokeExact(string(uplo), value(n), a, value(lda), d, e, tau, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssytf2_ = downcallHandle("ssytf2_", null, 6);
+
+  protected void ssytf2K(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, org.netlib.util.intW info) {
+    ssytf2SegmentK(uplo, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), info);
+  }
+
+  private void ssytf2SegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment ipiv, org.netlib.util.intW info) {
+    if (ssytf2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssytf2_.invokeExact(string(uplo), value(n), a, value(lda), ipiv, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssytrd_ = downcallHandle("ssytrd_", null, 10);
+
+  protected void ssytrdK(String uplo, int n, float[] a, int offseta, int lda, float[] d, int offsetd, float[] e, int offsete, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    ssytrdSegmentK(uplo, n, segment(a, offseta), lda, segment(d, offsetd), segment(e, offsete), segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void ssytrdSegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment d, MemorySegment e, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (ssytrd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssytrd_.invokeExact(string(uplo), value(n), a, value(lda), d, e, tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssytrf_ = downcallHandle("ssytrf_", null, 8);
+
+  protected void ssytrfK(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    ssytrfSegmentK(uplo, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(work, offsetwork), lwork, info);
+  }
+
+  private void ssytrfSegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (ssytrf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssytrf_.invokeExact(string(uplo), value(n), a, value(lda), ipiv, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssytri_ = downcallHandle("ssytri_", null, 7);
+
+  protected void ssytriK(String uplo, int n, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] work, int offsetwork, org.netlib.util.intW info) {
+    ssytriSegmentK(uplo, n, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(work, offsetwork), info);
+  }
+
+  private void ssytriSegmentK(String uplo, int n, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment work, org.netlib.util.intW info) {
+    if (ssytri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssytri_.invokeExact(string(uplo), value(n), a, value(lda), ipiv, work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle ssytrs_ = downcallHandle("ssytrs_", null, 9);
+
+  protected void ssytrsK(String uplo, int n, int nrhs, float[] a, int offseta, int lda, int[] ipiv, int offsetipiv, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    ssytrsSegmentK(uplo, n, nrhs, segment(a, offseta), lda, segment(ipiv, offsetipiv), segment(b, offsetb), ldb, info);
+  }
+
+  private void ssytrsSegmentK(String uplo, int n, int nrhs, MemorySegment a, int lda, MemorySegment ipiv, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (ssytrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      ssytrs_.invokeExact(string(uplo), value(n), value(nrhs), a, value(lda), ipiv, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stbcon_ = downcallHandle("stbcon_", null, 11);
+
+  protected void stbconK(String norm, String uplo, String diag, int n, int kd, float[] ab, int offsetab, int ldab, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    stbconSegmentK(norm, uplo, diag, n, kd, segment(ab, offsetab), ldab, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void stbconSegmentK(String norm, String uplo, String diag, int n, int kd, MemorySegment ab, int ldab, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (stbcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      stbcon_.invokeExact(string(norm), string(uplo), string(diag), value(n), value(kd), ab, value(ldab), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stbrfs_ = downcallHandle("stbrfs_", null, 17);
+
+  protected void stbrfsK(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    stbrfsSegmentK(uplo, trans, diag, n, kd, nrhs, segment(ab, offsetab), ldab, segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void stbrfsSegmentK(String uplo, String trans, String diag, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (stbrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      stbrfs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(kd), value(nrhs), ab, value(ldab), b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stbtrs_ = downcallHandle("stbtrs_", null, 11);
+
+  protected void stbtrsK(String uplo, String trans, String diag, int n, int kd, int nrhs, float[] ab, int offsetab, int ldab, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    stbtrsSegmentK(uplo, trans, diag, n, kd, nrhs, segment(ab, offsetab), ldab, segment(b, offsetb), ldb, info);
+  }
+
+  private void stbtrsSegmentK(String uplo, String trans, String diag, int n, int kd, int nrhs, MemorySegment ab, int ldab, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (stbtrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      stbtrs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(kd), value(nrhs), ab, value(ldab), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stgevc_ = downcallHandle("stgevc_", null, 16);
+
+  protected void stgevcK(String side, String howmny, boolean[] select, int offsetselect, int n, float[] s, int offsets, int lds, float[] p, int offsetp, int ldp, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info) {
+    stgevcSegmentK(side, howmny, segment(select, offsetselect), n, segment(s, offsets), lds, segment(p, offsetp), ldp, segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, mm, m, segment(work, offsetwork), info);
+  }
+
+  private void stgevcSegmentK(String side, String howmny, MemorySegment select, int n, MemorySegment s, int lds, MemorySegment p, int ldp, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, int mm, org.netlib.util.intW m, MemorySegment work, org.netlib.util.intW info) {
+    if (stgevc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      stgevc_.invokeExact(string(side), string(howmny), select, value(n), s, value(lds), p, value(ldp), vl, value(ldvl), vr, value(ldvr), value(mm), MemorySegment.ofArray(__m), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stgex2_ = downcallHandle("stgex2_", null, 17);
+
+  protected void stgex2K(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, int j1, int n1, int n2, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    stgex2SegmentK(wantq, wantz, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(q, offsetq), ldq, segment(z, offsetz), ldz, j1, n1, n2, segment(work, offsetwork), lwork, info);
+  }
+
+  private void stgex2SegmentK(boolean wantq, boolean wantz, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment q, int ldq, MemorySegment z, int ldz, int j1, int n1, int n2, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (stgex2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      stgex2_.invokeExact(value(wantq ? 1 : 0), value(wantz ? 1 : 0), value(n), a, value(lda), b, value(ldb), q, value(ldq), z, value(ldz), value(j1), value(n1), value(n2), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stgexc_ = downcallHandle("stgexc_", null, 16);
+
+  protected void stgexcK(boolean wantq, boolean wantz, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    stgexcSegmentK(wantq, wantz, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(q, offsetq), ldq, segment(z, offsetz), ldz, ifst, ilst, segment(work, offsetwork), lwork, info);
+  }
+
+  private void stgexcSegmentK(boolean wantq, boolean wantz, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment q, int ldq, MemorySegment z, int ldz, org.netlib.util.intW ifst, org.netlib.util.intW ilst, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (stgexc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ifst = { ifst.val };
+    int[] __ilst = { ilst.val };
+    int[] __info = { info.val };
+    try {
+      stgexc_.invokeExact(value(wantq ? 1 : 0), value(wantz ? 1 : 0), value(n), a, value(lda), b, value(ldb), q, value(ldq), z, value(ldz), MemorySegment.ofArray(__ifst), MemorySegment.ofArray(__ilst), work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ifst.val = __ifst[0];
+    ilst.val = __ilst[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stgsen_ = downcallHandle("stgsen_", null, 25);
+
+  protected void stgsenK(int ijob, boolean wantq, boolean wantz, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] alphar, int offsetalphar, float[] alphai, int offsetalphai, float[] beta, int offsetbeta, float[] q, int offsetq, int ldq, float[] z, int offsetz, int ldz, org.netlib.util.intW m, org.netlib.util.floatW pl, org.netlib.util.floatW pr, float[] dif, int offsetdif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    stgsenSegmentK(ijob, wantq, wantz, segment(select, offsetselect), n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(alphar, offsetalphar), segment(alphai, offsetalphai), segment(beta, offsetbeta), segment(q, offsetq), ldq, segment(z, offsetz), ldz, m, pl, pr, segment(dif, offsetdif), segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void stgsenSegmentK(int ijob, boolean wantq, boolean wantz, MemorySegment select, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment alphar, MemorySegment alphai, MemorySegment beta, MemorySegment q, int ldq, MemorySegment z, int ldz, org.netlib.util.intW m, org.netlib.util.floatW pl, org.netlib.util.floatW pr, MemorySegment dif, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (stgsen_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    float[] __pl = { pl.val };
+    float[] __pr = { pr.val };
+    int[] __info = { info.val };
+    try {
+      stgsen_.invokeExact(value(ijob), value(wantq ? 1 : 0), value(wantz ? 1 : 0), select, value(n), a, value(lda), b, value(ldb), alphar, alphai, beta, q, value(ldq), z, value(ldz), MemorySegment.ofArray(__m), MemorySegment.ofArray(__pl), MemorySegment.ofArray(__pr), dif, work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    pl.val = __pl[0];
+    pr.val = __pr[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stgsja_ = downcallHandle("stgsja_", null, 25);
+
+  protected void stgsjaK(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float tola, float tolb, float[] alpha, int offsetalpha, float[] beta, int offsetbeta, float[] u, int offsetu, int ldu, float[] v, int offsetv, int ldv, float[] q, int offsetq, int ldq, float[] work, int offsetwork, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    stgsjaSegmentK(jobu, jobv, jobq, m, p, n, k, l, segment(a, offseta), lda, segment(b, offsetb), ldb, tola, tolb, segment(alpha, offsetalpha), segment(beta, offsetbeta), segment(u, offsetu), ldu, segment(v, offsetv), ldv, segment(q, offsetq), ldq, segment(work, offsetwork), ncycle, info);
+  }
+
+  private void stgsjaSegmentK(String jobu, String jobv, String jobq, int m, int p, int n, int k, int l, MemorySegment a, int lda, MemorySegment b, int ldb, float tola, float tolb, MemorySegment alpha, MemorySegment beta, MemorySegment u, int ldu, MemorySegment v, int ldv, MemorySegment q, int ldq, MemorySegment work, org.netlib.util.intW ncycle, org.netlib.util.intW info) {
+    if (stgsja_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ncycle = { ncycle.val };
+    int[] __info = { info.val };
+    try {
+      stgsja_.invokeExact(string(jobu), string(jobv), string(jobq), value(m), value(p), value(n), value(k), value(l), a, value(lda), b, value(ldb), value(tola), value(tolb), alpha, beta, u, value(ldu), v, value(ldv), q, value(ldq), work, MemorySegment.ofArray(__ncycle), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ncycle.val = __ncycle[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stgsna_ = downcallHandle("stgsna_", null, 20);
+
+  protected void stgsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] dif, int offsetdif, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    stgsnaSegmentK(job, howmny, segment(select, offsetselect), n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(s, offsets), segment(dif, offsetdif), mm, m, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void stgsnaSegmentK(String job, String howmny, MemorySegment select, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, MemorySegment s, MemorySegment dif, int mm, org.netlib.util.intW m, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (stgsna_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      stgsna_.invokeExact(string(job), string(howmny), select, value(n), a, value(lda), b, value(ldb), vl, value(ldvl), vr, value(ldvr), s, dif, value(mm), MemorySegment.ofArray(__m), work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stgsy2_ = downcallHandle("stgsy2_", null, 22);
+
+  protected void stgsy2K(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, int[] iwork, int offsetiwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    stgsy2SegmentK(trans, ijob, m, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(c, offsetc), Ldc, segment(d, offsetd), ldd, segment(e, offsete), lde, segment(f, offsetf), ldf, scale, rdsum, rdscal, segment(iwork, offsetiwork), pq, info);
+  }
+
+  private void stgsy2SegmentK(String trans, int ijob, int m, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment c, int Ldc, MemorySegment d, int ldd, MemorySegment e, int lde, MemorySegment f, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW rdsum, org.netlib.util.floatW rdscal, MemorySegment iwork, org.netlib.util.intW pq, org.netlib.util.intW info) {
+    if (stgsy2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    float[] __rdsum = { rdsum.val };
+    float[] __rdscal = { rdscal.val };
+    int[] __pq = { pq.val };
+    int[] __info = { info.val };
+    try {
+      stgsy2_.invokeExact(string(trans), value(ijob), value(m), value(n), a, value(lda), b, value(ldb), c, value(Ldc), d, value(ldd), e, value(lde), f, value(ldf), MemorySegment.ofArray(__scale), MemorySegment.ofArray(__rdsum), MemorySegment.ofArray(__rdscal), iwork, MemorySegment.ofArray(__pq), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    rdsum.val = __rdsum[0];
+    rdscal.val = __rdscal[0];
+    pq.val = __pq[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stgsyl_ = downcallHandle("stgsyl_", null, 22);
+
+  protected void stgsylK(String trans, int ijob, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, float[] d, int offsetd, int ldd, float[] e, int offsete, int lde, float[] f, int offsetf, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW dif, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    stgsylSegmentK(trans, ijob, m, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(c, offsetc), Ldc, segment(d, offsetd), ldd, segment(e, offsete), lde, segment(f, offsetf), ldf, scale, dif, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void stgsylSegmentK(String trans, int ijob, int m, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment c, int Ldc, MemorySegment d, int ldd, MemorySegment e, int lde, MemorySegment f, int ldf, org.netlib.util.floatW scale, org.netlib.util.floatW dif, MemorySegment work, int lwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (stgsyl_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    float[] __dif = { dif.val };
+    int[] __info = { info.val };
+    try {
+      stgsyl_.invokeExact(string(trans), value(ijob), value(m), value(n), a, value(lda), b, value(ldb), c, value(Ldc), d, value(ldd), e, value(lde), f, value(ldf), MemorySegment.ofArray(__scale), MemorySegment.ofArray(__dif), work, value(lwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    dif.val = __dif[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stpcon_ = downcallHandle("stpcon_", null, 9);
+
+  protected void stpconK(String norm, String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    stpconSegmentK(norm, uplo, diag, n, segment(ap, offsetap), rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void stpconSegmentK(String norm, String uplo, String diag, int n, MemorySegment ap, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (stpcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      stpcon_.invokeExact(string(norm), string(uplo), string(diag), value(n), ap, MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stprfs_ = downcallHandle("stprfs_", null, 15);
+
+  protected void stprfsK(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    stprfsSegmentK(uplo, trans, diag, n, nrhs, segment(ap, offsetap), segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void stprfsSegmentK(String uplo, String trans, String diag, int n, int nrhs, MemorySegment ap, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (stprfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      stprfs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(nrhs), ap, b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stptri_ = downcallHandle("stptri_", null, 5);
+
+  protected void stptriK(String uplo, String diag, int n, float[] ap, int offsetap, org.netlib.util.intW info) {
+    stptriSegmentK(uplo, diag, n, segment(ap, offsetap), info);
+  }
+
+  private void stptriSegmentK(String uplo, String diag, int n, MemorySegment ap, org.netlib.util.intW info) {
+    if (stptri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      stptri_.invokeExact(string(uplo), string(diag), value(n), ap, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stptrs_ = downcallHandle("stptrs_", null, 9);
+
+  protected void stptrsK(String uplo, String trans, String diag, int n, int nrhs, float[] ap, int offsetap, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    stptrsSegmentK(uplo, trans, diag, n, nrhs, segment(ap, offsetap), segment(b, offsetb), ldb, info);
+  }
+
+  private void stptrsSegmentK(String uplo, String trans, String diag, int n, int nrhs, MemorySegment ap, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (stptrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      stptrs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(nrhs), ap, b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle strcon_ = downcallHandle("strcon_", null, 10);
+
+  protected void strconK(String norm, String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.floatW rcond, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    strconSegmentK(norm, uplo, diag, n, segment(a, offseta), lda, rcond, segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void strconSegmentK(String norm, String uplo, String diag, int n, MemorySegment a, int lda, org.netlib.util.floatW rcond, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (strcon_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __rcond = { rcond.val };
+    int[] __info = { info.val };
+    try {
+      strcon_.invokeExact(string(norm), string(uplo), string(diag), value(n), a, value(lda), MemorySegment.ofArray(__rcond), work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    rcond.val = __rcond[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle strevc_ = downcallHandle("strevc_", null, 14);
+
+  protected void strevcK(String side, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, int mm, org.netlib.util.intW m, float[] work, int offsetwork, org.netlib.util.intW info) {
+    strevcSegmentK(side, howmny, segment(select, offsetselect), n, segment(t, offsett), ldt, segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, mm, m, segment(work, offsetwork), info);
+  }
+
+  private void strevcSegmentK(String side, String howmny, MemorySegment select, int n, MemorySegment t, int ldt, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, int mm, org.netlib.util.intW m, MemorySegment work, org.netlib.util.intW info) {
+    if (strevc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      strevc_.invokeExact(string(side), string(howmny), select, value(n), t, value(ldt), vl, value(ldvl), vr, value(ldvr), value(mm), MemorySegment.ofArray(__m), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle strexc_ = downcallHandle("strexc_", null, 10);
+
+  protected void strexcK(String compq, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, float[] work, int offsetwork, org.netlib.util.intW info) {
+    strexcSegmentK(compq, n, segment(t, offsett), ldt, segment(q, offsetq), ldq, ifst, ilst, segment(work, offsetwork), info);
+  }
+
+  private void strexcSegmentK(String compq, int n, MemorySegment t, int ldt, MemorySegment q, int ldq, org.netlib.util.intW ifst, org.netlib.util.intW ilst, MemorySegment work, org.netlib.util.intW info) {
+    if (strexc_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __ifst = { ifst.val };
+    int[] __ilst = { ilst.val };
+    int[] __info = { info.val };
+    try {
+      strexc_.invokeExact(string(compq), value(n), t, value(ldt), q, value(ldq), MemorySegment.ofArray(__ifst), MemorySegment.ofArray(__ilst), work, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    ifst.val = __ifst[0];
+    ilst.val = __ilst[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle strrfs_ = downcallHandle("strrfs_", null, 16);
+
+  protected void strrfsK(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] x, int offsetx, int ldx, float[] ferr, int offsetferr, float[] berr, int offsetberr, float[] work, int offsetwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    strrfsSegmentK(uplo, trans, diag, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(x, offsetx), ldx, segment(ferr, offsetferr), segment(berr, offsetberr), segment(work, offsetwork), segment(iwork, offsetiwork), info);
+  }
+
+  private void strrfsSegmentK(String uplo, String trans, String diag, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment x, int ldx, MemorySegment ferr, MemorySegment berr, MemorySegment work, MemorySegment iwork, org.netlib.util.intW info) {
+    if (strrfs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      strrfs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(nrhs), a, value(lda), b, value(ldb), x, value(ldx), ferr, berr, work, iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle strsen_ = downcallHandle("strsen_", null, 18);
+
+  protected void strsenK(String job, String compq, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] q, int offsetq, int ldq, float[] wr, int offsetwr, float[] wi, int offsetwi, org.netlib.util.intW m, org.netlib.util.floatW s, org.netlib.util.floatW sep, float[] work, int offsetwork, int lwork, int[] iwork, int offsetiwork, int liwork, org.netlib.util.intW info) {
+    strsenSegmentK(job, compq, segment(select, offsetselect), n, segment(t, offsett), ldt, segment(q, offsetq), ldq, segment(wr, offsetwr), segment(wi, offsetwi), m, s, sep, segment(work, offsetwork), lwork, segment(iwork, offsetiwork), liwork, info);
+  }
+
+  private void strsenSegmentK(String job, String compq, MemorySegment select, int n, MemorySegment t, int ldt, MemorySegment q, int ldq, MemorySegment wr, MemorySegment wi, org.netlib.util.intW m, org.netlib.util.floatW s, org.netlib.util.floatW sep, MemorySegment work, int lwork, MemorySegment iwork, int liwork, org.netlib.util.intW info) {
+    if (strsen_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    float[] __s = { s.val };
+    float[] __sep = { sep.val };
+    int[] __info = { info.val };
+    try {
+      strsen_.invokeExact(string(job), string(compq), select, value(n), t, value(ldt), q, value(ldq), wr, wi, MemorySegment.ofArray(__m), MemorySegment.ofArray(__s), MemorySegment.ofArray(__sep), work, value(lwork), iwork, value(liwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    s.val = __s[0];
+    sep.val = __sep[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle strsna_ = downcallHandle("strsna_", null, 18);
+
+  protected void strsnaK(String job, String howmny, boolean[] select, int offsetselect, int n, float[] t, int offsett, int ldt, float[] vl, int offsetvl, int ldvl, float[] vr, int offsetvr, int ldvr, float[] s, int offsets, float[] sep, int offsetsep, int mm, org.netlib.util.intW m, float[] work, int offsetwork, int ldwork, int[] iwork, int offsetiwork, org.netlib.util.intW info) {
+    strsnaSegmentK(job, howmny, segment(select, offsetselect), n, segment(t, offsett), ldt, segment(vl, offsetvl), ldvl, segment(vr, offsetvr), ldvr, segment(s, offsets), segment(sep, offsetsep), mm, m, segment(work, offsetwork), ldwork, segment(iwork, offsetiwork), info);
+  }
+
+  private void strsnaSegmentK(String job, String howmny, MemorySegment select, int n, MemorySegment t, int ldt, MemorySegment vl, int ldvl, MemorySegment vr, int ldvr, MemorySegment s, MemorySegment sep, int mm, org.netlib.util.intW m, MemorySegment work, int ldwork, MemorySegment iwork, org.netlib.util.intW info) {
+    if (strsna_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __m = { m.val };
+    int[] __info = { info.val };
+    try {
+      strsna_.invokeExact(string(job), string(howmny), select, value(n), t, value(ldt), vl, value(ldvl), vr, value(ldvr), s, sep, value(mm), MemorySegment.ofArray(__m), work, value(ldwork), iwork, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    m.val = __m[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle strsyl_ = downcallHandle("strsyl_", null, 13);
+
+  protected void strsylK(String trana, String tranb, int isgn, int m, int n, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, float[] c, int offsetc, int Ldc, org.netlib.util.floatW scale, org.netlib.util.intW info) {
+    strsylSegmentK(trana, tranb, isgn, m, n, segment(a, offseta), lda, segment(b, offsetb), ldb, segment(c, offsetc), Ldc, scale, info);
+  }
+
+  private void strsylSegmentK(String trana, String tranb, int isgn, int m, int n, MemorySegment a, int lda, MemorySegment b, int ldb, MemorySegment c, int Ldc, org.netlib.util.floatW scale, org.netlib.util.intW info) {
+    if (strsyl_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    float[] __scale = { scale.val };
+    int[] __info = { info.val };
+    try {
+      strsyl_.invokeExact(string(trana), string(tranb), value(isgn), value(m), value(n), a, value(lda), b, value(ldb), c, value(Ldc), MemorySegment.ofArray(__scale), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    scale.val = __scale[0];
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle strti2_ = downcallHandle("strti2_", null, 6);
+
+  protected void strti2K(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    strti2SegmentK(uplo, diag, n, segment(a, offseta), lda, info);
+  }
+
+  private void strti2SegmentK(String uplo, String diag, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (strti2_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      strti2_.invokeExact(string(uplo), string(diag), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle strtri_ = downcallHandle("strtri_", null, 6);
+
+  protected void strtriK(String uplo, String diag, int n, float[] a, int offseta, int lda, org.netlib.util.intW info) {
+    strtriSegmentK(uplo, diag, n, segment(a, offseta), lda, info);
+  }
+
+  private void strtriSegmentK(String uplo, String diag, int n, MemorySegment a, int lda, org.netlib.util.intW info) {
+    if (strtri_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      strtri_.invokeExact(string(uplo), string(diag), value(n), a, value(lda), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle strtrs_ = downcallHandle("strtrs_", null, 10);
+
+  protected void strtrsK(String uplo, String trans, String diag, int n, int nrhs, float[] a, int offseta, int lda, float[] b, int offsetb, int ldb, org.netlib.util.intW info) {
+    strtrsSegmentK(uplo, trans, diag, n, nrhs, segment(a, offseta), lda, segment(b, offsetb), ldb, info);
+  }
+
+  private void strtrsSegmentK(String uplo, String trans, String diag, int n, int nrhs, MemorySegment a, int lda, MemorySegment b, int ldb, org.netlib.util.intW info) {
+    if (strtrs_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      strtrs_.invokeExact(string(uplo), string(trans), string(diag), value(n), value(nrhs), a, value(lda), b, value(ldb), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stzrqf_ = downcallHandle("stzrqf_", null, 6);
+
+  protected void stzrqfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, org.netlib.util.intW info) {
+    stzrqfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), info);
+  }
+
+  private void stzrqfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, org.netlib.util.intW info) {
+    if (stzrqf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      stzrqf_.invokeExact(value(m), value(n), a, value(lda), tau, MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle stzrzf_ = downcallHandle("stzrzf_", null, 8);
+
+  protected void stzrzfK(int m, int n, float[] a, int offseta, int lda, float[] tau, int offsettau, float[] work, int offsetwork, int lwork, org.netlib.util.intW info) {
+    stzrzfSegmentK(m, n, segment(a, offseta), lda, segment(tau, offsettau), segment(work, offsetwork), lwork, info);
+  }
+
+  private void stzrzfSegmentK(int m, int n, MemorySegment a, int lda, MemorySegment tau, MemorySegment work, int lwork, org.netlib.util.intW info) {
+    if (stzrzf_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    int[] __info = { info.val };
+    try {
+      stzrzf_.invokeExact(value(m), value(n), a, value(lda), tau, work, value(lwork), MemorySegment.ofArray(__info));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+    info.val = __info[0];
+  }
+
+  private static final MethodHandle dlamch_ = downcallHandle("dlamch_", JAVA_DOUBLE, 1);
+
+  protected double dlamchK(String cmach) {
+    return dlamchSegmentK(cmach);
+  }
+
+  private double dlamchSegmentK(String cmach) {
+    if (dlamch_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlamch_.invokeExact(string(cmach));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  protected void dlamc1K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dlamc2K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.doubleW eps, org.netlib.util.intW emin, org.netlib.util.doubleW rmin, org.netlib.util.intW emax, org.netlib.util.doubleW rmax) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static final MethodHandle dlamc3_ = downcallHandle("dlamc3_", JAVA_DOUBLE, 2);
+
+  protected double dlamc3K(double a, double b) {
+    return dlamc3SegmentK(a, b);
+  }
+
+  private double dlamc3SegmentK(double a, double b) {
+    if (dlamc3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dlamc3_.invokeExact(value(a), value(b));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  protected void dlamc4K(org.netlib.util.intW emin, double start, int base) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void dlamc5K(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.doubleW rmax) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static final MethodHandle dsecnd_ = downcallHandle("dsecnd_", JAVA_DOUBLE, 0);
+
+  protected double dsecndK() {
+    return dsecndSegmentK();
+  }
+
+  private double dsecndSegmentK() {
+    if (dsecnd_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (double) dsecnd_.invokeExact();
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle lsame_ = downcallHandle("lsame_", JAVA_INT, 2);
+
+  protected boolean lsameK(String ca, String cb) {
+    return lsameSegmentK(ca, cb);
+  }
+
+  private boolean lsameSegmentK(String ca, String cb) {
+    if (lsame_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (int) lsame_.invokeExact(string(ca), string(cb)) != 0;
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle second_ = downcallHandle("second_", JAVA_FLOAT, 0);
+
+  protected float secondK() {
+    return secondSegmentK();
+  }
+
+  private float secondSegmentK() {
+    if (second_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) second_.invokeExact();
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  private static final MethodHandle slamch_ = downcallHandle("slamch_", JAVA_FLOAT, 1);
+
+  protected float slamchK(String cmach) {
+    return slamchSegmentK(cmach);
+  }
+
+  private float slamchSegmentK(String cmach) {
+    if (slamch_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slamch_.invokeExact(string(cmach));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  protected void slamc1K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.booleanW ieee1) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void slamc2K(org.netlib.util.intW beta, org.netlib.util.intW t, org.netlib.util.booleanW rnd, org.netlib.util.floatW eps, org.netlib.util.intW emin, org.netlib.util.floatW rmin, org.netlib.util.intW emax, org.netlib.util.floatW rmax) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  private static final MethodHandle slamc3_ = downcallHandle("slamc3_", JAVA_FLOAT, 2);
+
+  protected float slamc3K(float a, float b) {
+    return slamc3SegmentK(a, b);
+  }
+
+  private float slamc3SegmentK(float a, float b) {
+    if (slamc3_ == null) {
+      throw new UnsupportedOperationException("symbol isn't available in native library");
+    }
+    try {
+      return (float) slamc3_.invokeExact(value(a), value(b));
+    } catch (Throwable throwable) {
+      throw rethrow(throwable);
+    }
+  }
+
+  protected void slamc4K(org.netlib.util.intW emin, float start, int base) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+  protected void slamc5K(int beta, int p, int emin, boolean ieee, org.netlib.util.intW emax, org.netlib.util.floatW rmax) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
+}
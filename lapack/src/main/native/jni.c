@@ -835,6 +835,45 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgeevDirectK(JNIEnv *env, UNUSED jobject obj, jstring jobvl, jstring jobvr, jint n, jobject a, jint offseta, jint lda, jobject wr, jint offsetwr, jobject wi, jint offsetwi, jobject vl, jint offsetvl, jint ldvl, jobject vr, jint offsetvr, jint ldvr, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!dgeev_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobvl = NULL;
+  const char *__njobvr = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldvl __attribute__((aligned(8)));
+  int __nldvr __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nwr = NULL;
+  double *__nwi = NULL;
+  double *__nvl = NULL;
+  double *__nvr = NULL;
+  double *__nwork = NULL;
+  if (!(__njobvl = (*env)->GetStringUTFChars(env, jobvl, NULL))) { __failed = TRUE; goto done; }
+  if (!(__njobvr = (*env)->GetStringUTFChars(env, jobvr, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nldvl = ldvl;
+  __nldvr = ldvr;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (wr) { if (!(__nwr = (*env)->GetDirectBufferAddress(env, wr))) { __failed = TRUE; goto done; } }
+  if (wi) { if (!(__nwi = (*env)->GetDirectBufferAddress(env, wi))) { __failed = TRUE; goto done; } }
+  if (vl) { if (!(__nvl = (*env)->GetDirectBufferAddress(env, vl))) { __failed = TRUE; goto done; } }
+  if (vr) { if (!(__nvr = (*env)->GetDirectBufferAddress(env, vr))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  dgeev_(__njobvl, __njobvr, &__nn, __na ? __na + offseta : NULL, &__nlda, __nwr ? __nwr + offsetwr : NULL, __nwi ? __nwi + offsetwi : NULL, __nvl ? __nvl + offsetvl : NULL, &__nldvl, __nvr ? __nvr + offsetvr : NULL, &__nldvr, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobvr) (*env)->ReleaseStringUTFChars(env, jobvr, __njobvr);
+  if (__njobvl) (*env)->ReleaseStringUTFChars(env, jobvl, __njobvl);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dgeevx_)(const char *balanc, const char *jobvl, const char *jobvr, const char *sense, int *n, double *a, int *lda, double *wr, double *wi, double *vl, int *ldvl, double *vr, int *ldvr, int *ilo, int *ihi, double *scale, double *abnrm, double *rconde, double *rcondv, double *work, int *lwork, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgeevxK(JNIEnv *env, UNUSED jobject obj, jstring balanc, jstring jobvl, jstring jobvr, jstring sense, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray wr, jint offsetwr, jdoubleArray wi, jint offsetwi, jdoubleArray vl, jint offsetvl, jint ldvl, jdoubleArray vr, jint offsetvr, jint ldvr, jobject ilo, jobject ihi, jdoubleArray scale, jint offsetscale, jobject abnrm, jdoubleArray rconde, jint offsetrconde, jdoubleArray rcondv, jint offsetrcondv, jdoubleArray work, jint offsetwork, jint lwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -1176,6 +1215,38 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgelsDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!dgels_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nb = NULL;
+  double *__nwork = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  dgels_(__ntrans, &__nm, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dgelsd_)(int *m, int *n, int *nrhs, double *a, int *lda, double *b, int *ldb, double *s, double *rcond, int *rank, double *work, int *lwork, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgelsdK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jint nrhs, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb, jdoubleArray s, jint offsets, jdouble rcond, jobject rank, jdoubleArray work, jint offsetwork, jint lwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -1525,6 +1596,31 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgeqrfDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jobject a, jint offseta, jint lda, jobject tau, jint offsettau, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!dgeqrf_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__ntau = NULL;
+  double *__nwork = NULL;
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (tau) { if (!(__ntau = (*env)->GetDirectBufferAddress(env, tau))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  dgeqrf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dgerfs_)(const char *trans, int *n, int *nrhs, double *a, int *lda, double *af, int *ldaf, int *ipiv, double *b, int *ldb, double *x, int *ldx, double *ferr, double *berr, double *work, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgerfsK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint n, jint nrhs, jdoubleArray a, jint offseta, jint lda, jdoubleArray af, jint offsetaf, jint ldaf, jintArray ipiv, jint offsetipiv, jdoubleArray b, jint offsetb, jint ldb, jdoubleArray x, jint offsetx, jint ldx, jdoubleArray ferr, jint offsetferr, jdoubleArray berr, jint offsetberr, jdoubleArray work, jint offsetwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -1713,6 +1809,44 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesddDirectK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jint m, jint n, jobject a, jint offseta, jint lda, jobject s, jint offsets, jobject u, jint offsetu, jint ldu, jobject vt, jint offsetvt, jint ldvt, jobject work, jint offsetwork, jint lwork, jobject iwork, jint offsetiwork, jobject info) {
+  if (!dgesdd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldu __attribute__((aligned(8)));
+  int __nldvt __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__ns = NULL;
+  double *__nu = NULL;
+  double *__nvt = NULL;
+  double *__nwork = NULL;
+  int *__niwork = NULL;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __nldu = ldu;
+  __nldvt = ldvt;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (s) { if (!(__ns = (*env)->GetDirectBufferAddress(env, s))) { __failed = TRUE; goto done; } }
+  if (u) { if (!(__nu = (*env)->GetDirectBufferAddress(env, u))) { __failed = TRUE; goto done; } }
+  if (vt) { if (!(__nvt = (*env)->GetDirectBufferAddress(env, vt))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  if (iwork) { if (!(__niwork = (*env)->GetDirectBufferAddress(env, iwork))) { __failed = TRUE; goto done; } }
+  dgesdd_(__njobz, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ns ? __ns + offsets : NULL, __nu ? __nu + offsetu : NULL, &__nldu, __nvt ? __nvt + offsetvt : NULL, &__nldvt, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dgesv_)(int *n, int *nrhs, double *a, int *lda, int *ipiv, double *b, int *ldb, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesvK(JNIEnv *env, UNUSED jobject obj, jint n, jint nrhs, jdoubleArray a, jint offseta, jint lda, jintArray ipiv, jint offsetipiv, jdoubleArray b, jint offsetb, jint ldb, jobject info) {
@@ -1743,6 +1877,31 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesvDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!dgesv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  int *__nipiv = NULL;
+  double *__nb = NULL;
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  dgesv_(&__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dgesvd_)(const char *jobu, const char *jobvt, int *m, int *n, double *a, int *lda, double *s, double *u, int *ldu, double *vt, int *ldvt, double *work, int *lwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesvdK(JNIEnv *env, UNUSED jobject obj, jstring jobu, jstring jobvt, jint m, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray s, jint offsets, jdoubleArray u, jint offsetu, jint ldu, jdoubleArray vt, jint offsetvt, jint ldvt, jdoubleArray work, jint offsetwork, jint lwork, jobject info) {
@@ -1789,6 +1948,45 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesvdDirectK(JNIEnv *env, UNUSED jobject obj, jstring jobu, jstring jobvt, jint m, jint n, jobject a, jint offseta, jint lda, jobject s, jint offsets, jobject u, jint offsetu, jint ldu, jobject vt, jint offsetvt, jint ldvt, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!dgesvd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobu = NULL;
+  const char *__njobvt = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldu __attribute__((aligned(8)));
+  int __nldvt __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__ns = NULL;
+  double *__nu = NULL;
+  double *__nvt = NULL;
+  double *__nwork = NULL;
+  if (!(__njobu = (*env)->GetStringUTFChars(env, jobu, NULL))) { __failed = TRUE; goto done; }
+  if (!(__njobvt = (*env)->GetStringUTFChars(env, jobvt, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __nldu = ldu;
+  __nldvt = ldvt;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (s) { if (!(__ns = (*env)->GetDirectBufferAddress(env, s))) { __failed = TRUE; goto done; } }
+  if (u) { if (!(__nu = (*env)->GetDirectBufferAddress(env, u))) { __failed = TRUE; goto done; } }
+  if (vt) { if (!(__nvt = (*env)->GetDirectBufferAddress(env, vt))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  dgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ns ? __ns + offsets : NULL, __nu ? __nu + offsetu : NULL, &__nldu, __nvt ? __nvt + offsetvt : NULL, &__nldvt, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobvt) (*env)->ReleaseStringUTFChars(env, jobvt, __njobvt);
+  if (__njobu) (*env)->ReleaseStringUTFChars(env, jobu, __njobu);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dgesvx_)(const char *fact, const char *trans, int *n, int *nrhs, double *a, int *lda, double *af, int *ldaf, int *ipiv, char *equed, double *r, double *c, double *b, int *ldb, double *x, int *ldx, double *rcond, double *ferr, double *berr, double *work, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgesvxK(JNIEnv *env, UNUSED jobject obj, jstring fact, jstring trans, jint n, jint nrhs, jdoubleArray a, jint offseta, jint lda, jdoubleArray af, jint offsetaf, jint ldaf, jintArray ipiv, jint offsetipiv, jobject equed, jdoubleArray r, jint offsetr, jdoubleArray c, jint offsetc, jdoubleArray b, jint offsetb, jint ldb, jdoubleArray x, jint offsetx, jint ldx, jobject rcond, jdoubleArray ferr, jint offsetferr, jdoubleArray berr, jint offsetberr, jdoubleArray work, jint offsetwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -1935,6 +2133,27 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgetrfDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject info) {
+  if (!dgetrf_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  int *__nipiv = NULL;
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  dgetrf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dgetri_)(int *n, double *a, int *lda, int *ipiv, double *work, int *lwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgetriK(JNIEnv *env, UNUSED jobject obj, jint n, jdoubleArray a, jint offseta, jint lda, jintArray ipiv, jint offsetipiv, jdoubleArray work, jint offsetwork, jint lwork, jobject info) {
@@ -1963,6 +2182,29 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgetriDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!dgetri_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  int *__nipiv = NULL;
+  double *__nwork = NULL;
+  __nn = n;
+  __nlda = lda;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  dgetri_(&__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dgetrs_)(const char *trans, int *n, int *nrhs, double *a, int *lda, int *ipiv, double *b, int *ldb, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgetrsK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint n, jint nrhs, jdoubleArray a, jint offseta, jint lda, jintArray ipiv, jint offsetipiv, jdoubleArray b, jint offsetb, jint ldb, jobject info) {
@@ -1996,6 +2238,34 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dgetrsDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!dgetrs_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  int *__nipiv = NULL;
+  double *__nb = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  dgetrs_(__ntrans, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dggbak_)(const char *job, const char *side, int *n, int *ilo, int *ihi, double *lscale, double *rscale, int *m, double *v, int *ldv, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dggbakK(JNIEnv *env, UNUSED jobject obj, jstring job, jstring side, jint n, jint ilo, jint ihi, jdoubleArray lscale, jint offsetlscale, jdoubleArray rscale, jint offsetrscale, jint m, jdoubleArray v, jint offsetv, jint ldv, jobject info) {
@@ -8529,6 +8799,33 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dorgqrDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jint k, jobject a, jint offseta, jint lda, jobject tau, jint offsettau, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!dorgqr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__ntau = NULL;
+  double *__nwork = NULL;
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nlda = lda;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (tau) { if (!(__ntau = (*env)->GetDirectBufferAddress(env, tau))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  dorgqr_(&__nm, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dorgr2_)(int *m, int *n, int *k, double *a, int *lda, double *tau, double *work, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dorgr2K(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jint k, jdoubleArray a, jint offseta, jint lda, jdoubleArray tau, jint offsettau, jdoubleArray work, jint offsetwork, jobject info) {
@@ -8965,10 +9262,47 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
-static void (*dormr2_)(const char *side, const char *trans, int *m, int *n, int *k, double *a, int *lda, double *tau, double *c, int *Ldc, double *work, int *info);
-
-void Java_dev_ludovic_netlib_lapack_JNILAPACK_dormr2K(JNIEnv *env, UNUSED jobject obj, jstring side, jstring trans, jint m, jint n, jint k, jdoubleArray a, jint offseta, jint lda, jdoubleArray tau, jint offsettau, jdoubleArray c, jint offsetc, jint Ldc, jdoubleArray work, jint offsetwork, jobject info) {
-  if (!dormr2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dormqrDirectK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring trans, jint m, jint n, jint k, jobject a, jint offseta, jint lda, jobject tau, jint offsettau, jobject c, jint offsetc, jint Ldc, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!dormqr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nside = NULL;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nLdc __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__ntau = NULL;
+  double *__nc = NULL;
+  double *__nwork = NULL;
+  if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nlda = lda;
+  __nLdc = Ldc;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (tau) { if (!(__ntau = (*env)->GetDirectBufferAddress(env, tau))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  dormqr_(__nside, __ntrans, &__nm, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nc ? __nc + offsetc : NULL, &__nLdc, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+static void (*dormr2_)(const char *side, const char *trans, int *m, int *n, int *k, double *a, int *lda, double *tau, double *c, int *Ldc, double *work, int *info);
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dormr2K(JNIEnv *env, UNUSED jobject obj, jstring side, jstring trans, jint m, jint n, jint k, jdoubleArray a, jint offseta, jint lda, jdoubleArray tau, jint offsettau, jdoubleArray c, jint offsetc, jint Ldc, jdoubleArray work, jint offsetwork, jobject info) {
+  if (!dormr2_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
   jboolean __failed = FALSE;
   const char *__nside = NULL;
   const char *__ntrans = NULL;
@@ -9655,6 +9989,32 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dposvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!dposv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nb = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  dposv_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dposvx_)(const char *fact, const char *uplo, int *n, int *nrhs, double *a, int *lda, double *af, int *ldaf, char *equed, double *s, double *b, int *ldb, double *x, int *ldx, double *rcond, double *ferr, double *berr, double *work, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dposvxK(JNIEnv *env, UNUSED jobject obj, jstring fact, jstring uplo, jint n, jint nrhs, jdoubleArray a, jint offseta, jint lda, jdoubleArray af, jint offsetaf, jint ldaf, jobject equed, jdoubleArray s, jint offsets, jdoubleArray b, jint offsetb, jint ldb, jdoubleArray x, jint offsetx, jint ldx, jobject rcond, jdoubleArray ferr, jint offsetferr, jdoubleArray berr, jint offsetberr, jdoubleArray work, jint offsetwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -9765,6 +10125,26 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dpotrfDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jobject a, jint offseta, jint lda, jobject info) {
+  if (!dpotrf_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  dpotrf_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dpotri_)(const char *uplo, int *n, double *a, int *lda, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dpotriK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdoubleArray a, jint offseta, jint lda, jobject info) {
@@ -9788,6 +10168,26 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dpotriDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jobject a, jint offseta, jint lda, jobject info) {
+  if (!dpotri_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  dpotri_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dpotrs_)(const char *uplo, int *n, int *nrhs, double *a, int *lda, double *b, int *ldb, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dpotrsK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint nrhs, jdoubleArray a, jint offseta, jint lda, jdoubleArray b, jint offsetb, jint ldb, jobject info) {
@@ -9818,6 +10218,32 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dpotrsDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!dpotrs_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nb = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  dpotrs_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dppcon_)(const char *uplo, int *n, double *ap, double *anorm, double *rcond, double *work, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dppconK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jdoubleArray ap, jint offsetap, jdouble anorm, jobject rcond, jdoubleArray work, jint offsetwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -11998,6 +12424,35 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevDirectK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring uplo, jint n, jobject a, jint offseta, jint lda, jobject w, jint offsetw, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!dsyev_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nw = NULL;
+  double *__nwork = NULL;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (w) { if (!(__nw = (*env)->GetDirectBufferAddress(env, w))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  dsyev_(__njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dsyevd_)(const char *jobz, const char *uplo, int *n, double *a, int *lda, double *w, double *work, int *lwork, int *iwork, int *liwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevdK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring uplo, jint n, jdoubleArray a, jint offseta, jint lda, jdoubleArray w, jint offsetw, jdoubleArray work, jint offsetwork, jint lwork, jintArray iwork, jint offsetiwork, jint liwork, jobject info) {
@@ -12037,6 +12492,39 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevdDirectK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring uplo, jint n, jobject a, jint offseta, jint lda, jobject w, jint offsetw, jobject work, jint offsetwork, jint lwork, jobject iwork, jint offsetiwork, jint liwork, jobject info) {
+  if (!dsyevd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __nliwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  double *__na = NULL;
+  double *__nw = NULL;
+  double *__nwork = NULL;
+  int *__niwork = NULL;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nlwork = lwork;
+  __nliwork = liwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (w) { if (!(__nw = (*env)->GetDirectBufferAddress(env, w))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  if (iwork) { if (!(__niwork = (*env)->GetDirectBufferAddress(env, iwork))) { __failed = TRUE; goto done; } }
+  dsyevd_(__njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__nliwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*dsyevr_)(const char *jobz, const char *range, const char *uplo, int *n, double *a, int *lda, double *vl, double *vu, int *il, int *iu, double *abstol, int *m, double *w, double *z, int *ldz, int *isuppz, double *work, int *lwork, int *iwork, int *liwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_dsyevrK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring range, jstring uplo, jint n, jdoubleArray a, jint offseta, jint lda, jdouble vl, jdouble vu, jint il, jint iu, jdouble abstol, jobject m, jdoubleArray w, jint offsetw, jdoubleArray z, jint offsetz, jint ldz, jintArray isuppz, jint offsetisuppz, jdoubleArray work, jint offsetwork, jint lwork, jintArray iwork, jint offsetiwork, jint liwork, jobject info) {
@@ -14916,6 +15404,45 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgeevDirectK(JNIEnv *env, UNUSED jobject obj, jstring jobvl, jstring jobvr, jint n, jobject a, jint offseta, jint lda, jobject wr, jint offsetwr, jobject wi, jint offsetwi, jobject vl, jint offsetvl, jint ldvl, jobject vr, jint offsetvr, jint ldvr, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!sgeev_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobvl = NULL;
+  const char *__njobvr = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldvl __attribute__((aligned(8)));
+  int __nldvr __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nwr = NULL;
+  float *__nwi = NULL;
+  float *__nvl = NULL;
+  float *__nvr = NULL;
+  float *__nwork = NULL;
+  if (!(__njobvl = (*env)->GetStringUTFChars(env, jobvl, NULL))) { __failed = TRUE; goto done; }
+  if (!(__njobvr = (*env)->GetStringUTFChars(env, jobvr, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nldvl = ldvl;
+  __nldvr = ldvr;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (wr) { if (!(__nwr = (*env)->GetDirectBufferAddress(env, wr))) { __failed = TRUE; goto done; } }
+  if (wi) { if (!(__nwi = (*env)->GetDirectBufferAddress(env, wi))) { __failed = TRUE; goto done; } }
+  if (vl) { if (!(__nvl = (*env)->GetDirectBufferAddress(env, vl))) { __failed = TRUE; goto done; } }
+  if (vr) { if (!(__nvr = (*env)->GetDirectBufferAddress(env, vr))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  sgeev_(__njobvl, __njobvr, &__nn, __na ? __na + offseta : NULL, &__nlda, __nwr ? __nwr + offsetwr : NULL, __nwi ? __nwi + offsetwi : NULL, __nvl ? __nvl + offsetvl : NULL, &__nldvl, __nvr ? __nvr + offsetvr : NULL, &__nldvr, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobvr) (*env)->ReleaseStringUTFChars(env, jobvr, __njobvr);
+  if (__njobvl) (*env)->ReleaseStringUTFChars(env, jobvl, __njobvl);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sgeevx_)(const char *balanc, const char *jobvl, const char *jobvr, const char *sense, int *n, float *a, int *lda, float *wr, float *wi, float *vl, int *ldvl, float *vr, int *ldvr, int *ilo, int *ihi, float *scale, float *abnrm, float *rconde, float *rcondv, float *work, int *lwork, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgeevxK(JNIEnv *env, UNUSED jobject obj, jstring balanc, jstring jobvl, jstring jobvr, jstring sense, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray wr, jint offsetwr, jfloatArray wi, jint offsetwi, jfloatArray vl, jint offsetvl, jint ldvl, jfloatArray vr, jint offsetvr, jint ldvr, jobject ilo, jobject ihi, jfloatArray scale, jint offsetscale, jobject abnrm, jfloatArray rconde, jint offsetrconde, jfloatArray rcondv, jint offsetrcondv, jfloatArray work, jint offsetwork, jint lwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -15257,6 +15784,38 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgelsDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint m, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!sgels_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nb = NULL;
+  float *__nwork = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  sgels_(__ntrans, &__nm, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sgelsd_)(int *m, int *n, int *nrhs, float *a, int *lda, float *b, int *ldb, float *s, float *rcond, int *rank, float *work, int *lwork, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgelsdK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jint nrhs, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb, jfloatArray s, jint offsets, jfloat rcond, jobject rank, jfloatArray work, jint offsetwork, jint lwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -15606,6 +16165,31 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgeqrfDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jobject a, jint offseta, jint lda, jobject tau, jint offsettau, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!sgeqrf_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__ntau = NULL;
+  float *__nwork = NULL;
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (tau) { if (!(__ntau = (*env)->GetDirectBufferAddress(env, tau))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  sgeqrf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sgerfs_)(const char *trans, int *n, int *nrhs, float *a, int *lda, float *af, int *ldaf, int *ipiv, float *b, int *ldb, float *x, int *ldx, float *ferr, float *berr, float *work, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgerfsK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint n, jint nrhs, jfloatArray a, jint offseta, jint lda, jfloatArray af, jint offsetaf, jint ldaf, jintArray ipiv, jint offsetipiv, jfloatArray b, jint offsetb, jint ldb, jfloatArray x, jint offsetx, jint ldx, jfloatArray ferr, jint offsetferr, jfloatArray berr, jint offsetberr, jfloatArray work, jint offsetwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -15794,6 +16378,44 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesddDirectK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jint m, jint n, jobject a, jint offseta, jint lda, jobject s, jint offsets, jobject u, jint offsetu, jint ldu, jobject vt, jint offsetvt, jint ldvt, jobject work, jint offsetwork, jint lwork, jobject iwork, jint offsetiwork, jobject info) {
+  if (!sgesdd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldu __attribute__((aligned(8)));
+  int __nldvt __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__ns = NULL;
+  float *__nu = NULL;
+  float *__nvt = NULL;
+  float *__nwork = NULL;
+  int *__niwork = NULL;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __nldu = ldu;
+  __nldvt = ldvt;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (s) { if (!(__ns = (*env)->GetDirectBufferAddress(env, s))) { __failed = TRUE; goto done; } }
+  if (u) { if (!(__nu = (*env)->GetDirectBufferAddress(env, u))) { __failed = TRUE; goto done; } }
+  if (vt) { if (!(__nvt = (*env)->GetDirectBufferAddress(env, vt))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  if (iwork) { if (!(__niwork = (*env)->GetDirectBufferAddress(env, iwork))) { __failed = TRUE; goto done; } }
+  sgesdd_(__njobz, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ns ? __ns + offsets : NULL, __nu ? __nu + offsetu : NULL, &__nldu, __nvt ? __nvt + offsetvt : NULL, &__nldvt, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sgesv_)(int *n, int *nrhs, float *a, int *lda, int *ipiv, float *b, int *ldb, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesvK(JNIEnv *env, UNUSED jobject obj, jint n, jint nrhs, jfloatArray a, jint offseta, jint lda, jintArray ipiv, jint offsetipiv, jfloatArray b, jint offsetb, jint ldb, jobject info) {
@@ -15824,6 +16446,31 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesvDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!sgesv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  int *__nipiv = NULL;
+  float *__nb = NULL;
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  sgesv_(&__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sgesvd_)(const char *jobu, const char *jobvt, int *m, int *n, float *a, int *lda, float *s, float *u, int *ldu, float *vt, int *ldvt, float *work, int *lwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesvdK(JNIEnv *env, UNUSED jobject obj, jstring jobu, jstring jobvt, jint m, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray s, jint offsets, jfloatArray u, jint offsetu, jint ldu, jfloatArray vt, jint offsetvt, jint ldvt, jfloatArray work, jint offsetwork, jint lwork, jobject info) {
@@ -15859,11 +16506,50 @@ void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesvdK(JNIEnv *env, UNUSED jobjec
   if (work) { if (!(__nwork = (*env)->GetPrimitiveArrayCritical(env, work, NULL))) { __failed = TRUE; goto done; } }
   sgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ns ? __ns + offsets : NULL, __nu ? __nu + offsetu : NULL, &__nldu, __nvt ? __nvt + offsetvt : NULL, &__nldvt, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
 done:
-  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
-  if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
-  if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
-  if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
-  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (__nwork) (*env)->ReleasePrimitiveArrayCritical(env, work, __nwork, __failed ? JNI_ABORT : 0);
+  if (__nvt) (*env)->ReleasePrimitiveArrayCritical(env, vt, __nvt, __failed ? JNI_ABORT : 0);
+  if (__nu) (*env)->ReleasePrimitiveArrayCritical(env, u, __nu, __failed ? JNI_ABORT : 0);
+  if (__ns) (*env)->ReleasePrimitiveArrayCritical(env, s, __ns, __failed ? JNI_ABORT : 0);
+  if (__na) (*env)->ReleasePrimitiveArrayCritical(env, a, __na, __failed ? JNI_ABORT : 0);
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__njobvt) (*env)->ReleaseStringUTFChars(env, jobvt, __njobvt);
+  if (__njobu) (*env)->ReleaseStringUTFChars(env, jobu, __njobu);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgesvdDirectK(JNIEnv *env, UNUSED jobject obj, jstring jobu, jstring jobvt, jint m, jint n, jobject a, jint offseta, jint lda, jobject s, jint offsets, jobject u, jint offsetu, jint ldu, jobject vt, jint offsetvt, jint ldvt, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!sgesvd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobu = NULL;
+  const char *__njobvt = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldu __attribute__((aligned(8)));
+  int __nldvt __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__ns = NULL;
+  float *__nu = NULL;
+  float *__nvt = NULL;
+  float *__nwork = NULL;
+  if (!(__njobu = (*env)->GetStringUTFChars(env, jobu, NULL))) { __failed = TRUE; goto done; }
+  if (!(__njobvt = (*env)->GetStringUTFChars(env, jobvt, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __nldu = ldu;
+  __nldvt = ldvt;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (s) { if (!(__ns = (*env)->GetDirectBufferAddress(env, s))) { __failed = TRUE; goto done; } }
+  if (u) { if (!(__nu = (*env)->GetDirectBufferAddress(env, u))) { __failed = TRUE; goto done; } }
+  if (vt) { if (!(__nvt = (*env)->GetDirectBufferAddress(env, vt))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  sgesvd_(__njobu, __njobvt, &__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __ns ? __ns + offsets : NULL, __nu ? __nu + offsetu : NULL, &__nldu, __nvt ? __nvt + offsetvt : NULL, &__nldvt, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
   if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
   if (__njobvt) (*env)->ReleaseStringUTFChars(env, jobvt, __njobvt);
   if (__njobu) (*env)->ReleaseStringUTFChars(env, jobu, __njobu);
@@ -16016,6 +16702,27 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgetrfDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject info) {
+  if (!sgetrf_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  int *__nipiv = NULL;
+  __nm = m;
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  sgetrf_(&__nm, &__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sgetri_)(int *n, float *a, int *lda, int *ipiv, float *work, int *lwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgetriK(JNIEnv *env, UNUSED jobject obj, jint n, jfloatArray a, jint offseta, jint lda, jintArray ipiv, jint offsetipiv, jfloatArray work, jint offsetwork, jint lwork, jobject info) {
@@ -16044,6 +16751,29 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgetriDirectK(JNIEnv *env, UNUSED jobject obj, jint n, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!sgetri_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  int *__nipiv = NULL;
+  float *__nwork = NULL;
+  __nn = n;
+  __nlda = lda;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  sgetri_(&__nn, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sgetrs_)(const char *trans, int *n, int *nrhs, float *a, int *lda, int *ipiv, float *b, int *ldb, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgetrsK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint n, jint nrhs, jfloatArray a, jint offseta, jint lda, jintArray ipiv, jint offsetipiv, jfloatArray b, jint offsetb, jint ldb, jobject info) {
@@ -16077,6 +16807,34 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sgetrsDirectK(JNIEnv *env, UNUSED jobject obj, jstring trans, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject ipiv, jint offsetipiv, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!sgetrs_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__ntrans = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  int *__nipiv = NULL;
+  float *__nb = NULL;
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (ipiv) { if (!(__nipiv = (*env)->GetDirectBufferAddress(env, ipiv))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  sgetrs_(__ntrans, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nipiv ? __nipiv + offsetipiv : NULL, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sggbak_)(const char *job, const char *side, int *n, int *ilo, int *ihi, float *lscale, float *rscale, int *m, float *v, int *ldv, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sggbakK(JNIEnv *env, UNUSED jobject obj, jstring job, jstring side, jint n, jint ilo, jint ihi, jfloatArray lscale, jint offsetlscale, jfloatArray rscale, jint offsetrscale, jint m, jfloatArray v, jint offsetv, jint ldv, jobject info) {
@@ -22610,6 +23368,33 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sorgqrDirectK(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jint k, jobject a, jint offseta, jint lda, jobject tau, jint offsettau, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!sorgqr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__ntau = NULL;
+  float *__nwork = NULL;
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nlda = lda;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (tau) { if (!(__ntau = (*env)->GetDirectBufferAddress(env, tau))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  sorgqr_(&__nm, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sorgr2_)(int *m, int *n, int *k, float *a, int *lda, float *tau, float *work, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sorgr2K(JNIEnv *env, UNUSED jobject obj, jint m, jint n, jint k, jfloatArray a, jint offseta, jint lda, jfloatArray tau, jint offsettau, jfloatArray work, jint offsetwork, jobject info) {
@@ -23046,6 +23831,43 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sormqrDirectK(JNIEnv *env, UNUSED jobject obj, jstring side, jstring trans, jint m, jint n, jint k, jobject a, jint offseta, jint lda, jobject tau, jint offsettau, jobject c, jint offsetc, jint Ldc, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!sormqr_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nside = NULL;
+  const char *__ntrans = NULL;
+  int __nm __attribute__((aligned(8)));
+  int __nn __attribute__((aligned(8)));
+  int __nk __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nLdc __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__ntau = NULL;
+  float *__nc = NULL;
+  float *__nwork = NULL;
+  if (!(__nside = (*env)->GetStringUTFChars(env, side, NULL))) { __failed = TRUE; goto done; }
+  if (!(__ntrans = (*env)->GetStringUTFChars(env, trans, NULL))) { __failed = TRUE; goto done; }
+  __nm = m;
+  __nn = n;
+  __nk = k;
+  __nlda = lda;
+  __nLdc = Ldc;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (tau) { if (!(__ntau = (*env)->GetDirectBufferAddress(env, tau))) { __failed = TRUE; goto done; } }
+  if (c) { if (!(__nc = (*env)->GetDirectBufferAddress(env, c))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  sormqr_(__nside, __ntrans, &__nm, &__nn, &__nk, __na ? __na + offseta : NULL, &__nlda, __ntau ? __ntau + offsettau : NULL, __nc ? __nc + offsetc : NULL, &__nLdc, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__ntrans) (*env)->ReleaseStringUTFChars(env, trans, __ntrans);
+  if (__nside) (*env)->ReleaseStringUTFChars(env, side, __nside);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sormr2_)(const char *side, const char *trans, int *m, int *n, int *k, float *a, int *lda, float *tau, float *c, int *Ldc, float *work, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sormr2K(JNIEnv *env, UNUSED jobject obj, jstring side, jstring trans, jint m, jint n, jint k, jfloatArray a, jint offseta, jint lda, jfloatArray tau, jint offsettau, jfloatArray c, jint offsetc, jint Ldc, jfloatArray work, jint offsetwork, jobject info) {
@@ -23736,6 +24558,32 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_sposvDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!sposv_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nb = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  sposv_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sposvx_)(const char *fact, const char *uplo, int *n, int *nrhs, float *a, int *lda, float *af, int *ldaf, char *equed, float *s, float *b, int *ldb, float *x, int *ldx, float *rcond, float *ferr, float *berr, float *work, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sposvxK(JNIEnv *env, UNUSED jobject obj, jstring fact, jstring uplo, jint n, jint nrhs, jfloatArray a, jint offseta, jint lda, jfloatArray af, jint offsetaf, jint ldaf, jobject equed, jfloatArray s, jint offsets, jfloatArray b, jint offsetb, jint ldb, jfloatArray x, jint offsetx, jint ldx, jobject rcond, jfloatArray ferr, jint offsetferr, jfloatArray berr, jint offsetberr, jfloatArray work, jint offsetwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -23846,6 +24694,26 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_spotrfDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jobject a, jint offseta, jint lda, jobject info) {
+  if (!spotrf_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  spotrf_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*spotri_)(const char *uplo, int *n, float *a, int *lda, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_spotriK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloatArray a, jint offseta, jint lda, jobject info) {
@@ -23869,6 +24737,26 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_spotriDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jobject a, jint offseta, jint lda, jobject info) {
+  if (!spotri_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  spotri_(__nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*spotrs_)(const char *uplo, int *n, int *nrhs, float *a, int *lda, float *b, int *ldb, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_spotrsK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint nrhs, jfloatArray a, jint offseta, jint lda, jfloatArray b, jint offsetb, jint ldb, jobject info) {
@@ -23899,6 +24787,32 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_spotrsDirectK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jint nrhs, jobject a, jint offseta, jint lda, jobject b, jint offsetb, jint ldb, jobject info) {
+  if (!spotrs_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nnrhs __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nldb __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nb = NULL;
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nnrhs = nrhs;
+  __nlda = lda;
+  __nldb = ldb;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (b) { if (!(__nb = (*env)->GetDirectBufferAddress(env, b))) { __failed = TRUE; goto done; } }
+  spotrs_(__nuplo, &__nn, &__nnrhs, __na ? __na + offseta : NULL, &__nlda, __nb ? __nb + offsetb : NULL, &__nldb, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*sppcon_)(const char *uplo, int *n, float *ap, float *anorm, float *rcond, float *work, int *iwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_sppconK(JNIEnv *env, UNUSED jobject obj, jstring uplo, jint n, jfloatArray ap, jint offsetap, jfloat anorm, jobject rcond, jfloatArray work, jint offsetwork, jintArray iwork, jint offsetiwork, jobject info) {
@@ -26035,6 +26949,35 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevDirectK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring uplo, jint n, jobject a, jint offseta, jint lda, jobject w, jint offsetw, jobject work, jint offsetwork, jint lwork, jobject info) {
+  if (!ssyev_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nw = NULL;
+  float *__nwork = NULL;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nlwork = lwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (w) { if (!(__nw = (*env)->GetDirectBufferAddress(env, w))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  ssyev_(__njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*ssyevd_)(const char *jobz, const char *uplo, int *n, float *a, int *lda, float *w, float *work, int *lwork, int *iwork, int *liwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevdK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring uplo, jint n, jfloatArray a, jint offseta, jint lda, jfloatArray w, jint offsetw, jfloatArray work, jint offsetwork, jint lwork, jintArray iwork, jint offsetiwork, jint liwork, jobject info) {
@@ -26074,6 +27017,39 @@ done:
   if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
 }
 
+void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevdDirectK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring uplo, jint n, jobject a, jint offseta, jint lda, jobject w, jint offsetw, jobject work, jint offsetwork, jint lwork, jobject iwork, jint offsetiwork, jint liwork, jobject info) {
+  if (!ssyevd_) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/UnsupportedOperationException"), "symbol isn't available in native library");
+  jboolean __failed = FALSE;
+  const char *__njobz = NULL;
+  const char *__nuplo = NULL;
+  int __nn __attribute__((aligned(8)));
+  int __nlda __attribute__((aligned(8)));
+  int __nlwork __attribute__((aligned(8)));
+  int __nliwork __attribute__((aligned(8)));
+  int __ninfo = 0;
+  float *__na = NULL;
+  float *__nw = NULL;
+  float *__nwork = NULL;
+  int *__niwork = NULL;
+  if (!(__njobz = (*env)->GetStringUTFChars(env, jobz, NULL))) { __failed = TRUE; goto done; }
+  if (!(__nuplo = (*env)->GetStringUTFChars(env, uplo, NULL))) { __failed = TRUE; goto done; }
+  __nn = n;
+  __nlda = lda;
+  __nlwork = lwork;
+  __nliwork = liwork;
+  __ninfo = (*env)->GetIntField(env, info, intW_val_fieldID);
+  if (a) { if (!(__na = (*env)->GetDirectBufferAddress(env, a))) { __failed = TRUE; goto done; } }
+  if (w) { if (!(__nw = (*env)->GetDirectBufferAddress(env, w))) { __failed = TRUE; goto done; } }
+  if (work) { if (!(__nwork = (*env)->GetDirectBufferAddress(env, work))) { __failed = TRUE; goto done; } }
+  if (iwork) { if (!(__niwork = (*env)->GetDirectBufferAddress(env, iwork))) { __failed = TRUE; goto done; } }
+  ssyevd_(__njobz, __nuplo, &__nn, __na ? __na + offseta : NULL, &__nlda, __nw ? __nw + offsetw : NULL, __nwork ? __nwork + offsetwork : NULL, &__nlwork, __niwork ? __niwork + offsetiwork : NULL, &__nliwork, &__ninfo);
+done:
+  if (!__failed) (*env)->SetIntField(env, info, intW_val_fieldID, __ninfo);
+  if (__nuplo) (*env)->ReleaseStringUTFChars(env, uplo, __nuplo);
+  if (__njobz) (*env)->ReleaseStringUTFChars(env, jobz, __njobz);
+  if (__failed) (*env)->ThrowNew(env, (*env)->FindClass(env, "java/lang/OutOfMemoryError"), "Failed to copy from heap to native memory");
+}
+
 static void (*ssyevr_)(const char *jobz, const char *range, const char *uplo, int *n, float *a, int *lda, float *vl, float *vu, int *il, int *iu, float *abstol, int *m, float *w, float *z, int *ldz, int *isuppz, float *work, int *lwork, int *iwork, int *liwork, int *info);
 
 void Java_dev_ludovic_netlib_lapack_JNILAPACK_ssyevrK(JNIEnv *env, UNUSED jobject obj, jstring jobz, jstring range, jstring uplo, jint n, jfloatArray a, jint offseta, jint lda, jfloat vl, jfloat vu, jint il, jint iu, jfloat abstol, jobject m, jfloatArray w, jint offsetw, jfloatArray z, jint offsetz, jint ldz, jintArray isuppz, jint offsetisuppz, jfloatArray work, jint offsetwork, jint lwork, jintArray iwork, jint offsetiwork, jint liwork, jobject info) {
@@ -25,11 +25,17 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DgesvTest extends LAPACKTest {
 
     @ParameterizedTest
@@ -37,4 +43,47 @@ public class DgesvTest extends LAPACKTest {
     void testSanity(LAPACK lapack) {
         org.junit.jupiter.api.Assumptions.assumeTrue(false);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffers(LAPACK lapack) {
+        int n = 4, nrhs = 2;
+        double[] a = new double[n * n], b = new double[n * nrhs];
+        for (int i = 0; i < n; i += 1) {
+            for (int j = 0; j < n; j += 1) {
+                a[i + j * n] = (i == j ? n : 0.0) + 1.0 / (1 + i + 2 * j);
+            }
+        }
+        for (int i = 0; i < b.length; i += 1) {
+            b[i] = i + 1.0;
+        }
+
+        double[] expecteda = a.clone(), expectedb = b.clone();
+        int[] expectedipiv = new int[n];
+        intW info = new intW(0);
+        f2j.dgesv(n, nrhs, expecteda, n, expectedipiv, expectedb, n, info);
+        assertEquals(0, info.val);
+
+        DoubleBuffer abuffer, bbuffer;
+        IntBuffer ipiv;
+
+        lapack.dgesv(n, nrhs, abuffer = directBuffer(a), n, ipiv = directBuffer(new int[n]), bbuffer = directBuffer(b), n, info = new intW(0));
+        assertEquals(0, info.val);
+        assertArrayEquals(expecteda, toArray(abuffer, 0), depsilon);
+        assertArrayEquals(expectedipiv, toArray(ipiv, 0));
+        assertArrayEquals(expectedb, toArray(bbuffer, 0), depsilon);
+
+        lapack.dgesv(n, nrhs, abuffer = directBuffer(a, 3, foreignOrder), 3, n, ipiv = directBuffer(new int[n], 1, foreignOrder), 1, bbuffer = DoubleBuffer.wrap(b.clone()), 0, n, info = new intW(0));
+        assertEquals(0, info.val);
+        assertArrayEquals(expecteda, toArray(abuffer, 3), depsilon);
+        assertArrayEquals(expectedipiv, toArray(ipiv, 1));
+        assertArrayEquals(expectedb, toArray(bbuffer, 0), depsilon);
+
+        // the read-only b is rejected before a is factorized
+        DoubleBuffer untouched = directBuffer(a, 0, foreignOrder);
+        assertThrows(ReadOnlyBufferException.class, () -> {
+            lapack.dgesv(n, nrhs, untouched, n, directBuffer(new int[n]), directBuffer(b).asReadOnlyBuffer(), n, new intW(0));
+        });
+        assertArrayEquals(a, toArray(untouched, 0));
+    }
 }
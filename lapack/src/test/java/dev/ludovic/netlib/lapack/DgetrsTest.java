@@ -25,11 +25,16 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DgetrsTest extends LAPACKTest {
 
     @ParameterizedTest
@@ -37,4 +42,40 @@ public class DgetrsTest extends LAPACKTest {
     void testSanity(LAPACK lapack) {
         org.junit.jupiter.api.Assumptions.assumeTrue(false);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffers(LAPACK lapack) {
+        int n = 4, nrhs = 3;
+        double[] a = new double[n * n], b = new double[n * nrhs];
+        for (int i = 0; i < n; i += 1) {
+            for (int j = 0; j < n; j += 1) {
+                a[i + j * n] = (i == j ? n : 0.0) + 1.0 / (1 + 2 * i + j);
+            }
+        }
+        for (int i = 0; i < b.length; i += 1) {
+            b[i] = 1.0 - i;
+        }
+        int[] ipiv = new int[n];
+        intW info = new intW(0);
+        f2j.dgetrf(n, n, a, n, ipiv, info);
+        assertEquals(0, info.val);
+
+        for (String trans : new String[] { "N", "T" }) {
+            double[] expected = b.clone();
+            f2j.dgetrs(trans, n, nrhs, a, n, ipiv, expected, n, info = new intW(0));
+            assertEquals(0, info.val);
+
+            DoubleBuffer x;
+
+            lapack.dgetrs(trans, n, nrhs, directBuffer(a), n, directBuffer(ipiv), x = directBuffer(b), n, info = new intW(0));
+            assertEquals(0, info.val);
+            assertArrayEquals(expected, toArray(x, 0), depsilon);
+
+            // a and ipiv are only read, so they can be read-only
+            lapack.dgetrs(trans, n, nrhs, directBuffer(a, 2, foreignOrder).asReadOnlyBuffer(), 2, n, IntBuffer.wrap(ipiv).asReadOnlyBuffer(), 0, x = directBuffer(b, 5, foreignOrder), 5, n, info = new intW(0));
+            assertEquals(0, info.val);
+            assertArrayEquals(expected, toArray(x, 5), depsilon);
+        }
+    }
 }
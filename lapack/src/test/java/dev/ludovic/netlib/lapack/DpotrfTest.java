@@ -25,11 +25,16 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.DoubleBuffer;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DpotrfTest extends LAPACKTest {
 
     @ParameterizedTest
@@ -37,4 +42,60 @@ public class DpotrfTest extends LAPACKTest {
     void testSanity(LAPACK lapack) {
         org.junit.jupiter.api.Assumptions.assumeTrue(false);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffers(LAPACK lapack) {
+        int n = 5;
+        double[] a = new double[n * n];
+        for (int i = 0; i < n; i += 1) {
+            for (int j = 0; j < n; j += 1) {
+                a[i + j * n] = (i == j ? n : 0.0) + 1.0 / (1 + i + j);
+            }
+        }
+
+        for (String uplo : new String[] { "U", "L" }) {
+            double[] expected = a.clone();
+            intW info = new intW(0);
+            f2j.dpotrf(uplo, n, expected, n, info);
+            assertEquals(0, info.val);
+
+            DoubleBuffer abuffer;
+
+            lapack.dpotrf(uplo, n, abuffer = directBuffer(a), n, info = new intW(0));
+            assertEquals(0, info.val);
+            assertArrayEquals(expected, toArray(abuffer, 0), depsilon);
+
+            lapack.dpotrf(uplo, n, abuffer = directBuffer(a, 4, foreignOrder), 4, n, info = new intW(0));
+            assertEquals(0, info.val);
+            assertArrayEquals(expected, toArray(abuffer, 4), depsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffersDisjoint(LAPACK lapack) {
+        // factorizes matrices stored one after the other in a single buffer concurrently
+        int n = 16, count = 128;
+        double[] a = new double[n * n * count];
+        for (int k = 0; k < count; k += 1) {
+            for (int i = 0; i < n; i += 1) {
+                for (int j = 0; j < n; j += 1) {
+                    a[k * n * n + i + j * n] = (i == j ? n + k : 0.0) + 1.0 / (1 + i + j);
+                }
+            }
+        }
+        double[] expected = a.clone();
+        for (int k = 0; k < count; k += 1) {
+            f2j.dpotrf("L", n, expected, k * n * n, n, new intW(0));
+        }
+
+        DoubleBuffer abuffer = directBuffer(a, 0, foreignOrder);
+        IntStream.range(0, count).parallel().forEach(k -> {
+            intW info = new intW(0);
+            lapack.dpotrf("L", n, abuffer, k * n * n, n, info);
+            assertEquals(0, info.val);
+        });
+        assertArrayEquals(expected, toArray(abuffer, 0), depsilon);
+    }
 }
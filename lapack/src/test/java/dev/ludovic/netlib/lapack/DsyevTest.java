@@ -25,11 +25,15 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.DoubleBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class DsyevTest extends LAPACKTest {
 
     @ParameterizedTest
@@ -37,4 +41,38 @@ public class DsyevTest extends LAPACKTest {
     void testSanity(LAPACK lapack) {
         org.junit.jupiter.api.Assumptions.assumeTrue(false);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffers(LAPACK lapack) {
+        int n = 5;
+        double[] a = new double[n * n];
+        for (int i = 0; i < n; i += 1) {
+            for (int j = 0; j < n; j += 1) {
+                a[i + j * n] = 1.0 / (1 + i + j);
+            }
+        }
+
+        double[] expecteda = a.clone(), expectedw = new double[n], query = new double[1];
+        intW info = new intW(0);
+        f2j.dsyev("N", "U", n, expecteda, n, expectedw, query, -1, info);
+        assertEquals(0, info.val);
+        int lwork = (int)query[0];
+        f2j.dsyev("N", "U", n, expecteda, n, expectedw, new double[lwork], lwork, info);
+        assertEquals(0, info.val);
+
+        DoubleBuffer work, w;
+
+        lapack.dsyev("N", "U", n, directBuffer(a), n, directBuffer(new double[n]), work = directBuffer(new double[1]), -1, info = new intW(0));
+        assertEquals(0, info.val);
+        assertTrue(work.get(0) >= 3 * n - 1);
+
+        lapack.dsyev("N", "U", n, directBuffer(a), n, w = directBuffer(new double[n]), directBuffer(new double[lwork]), lwork, info = new intW(0));
+        assertEquals(0, info.val);
+        assertArrayEquals(expectedw, toArray(w, 0), depsilon);
+
+        lapack.dsyev("N", "U", n, directBuffer(a, 1, foreignOrder), 1, n, w = directBuffer(new double[n], 2, foreignOrder), 2, directBuffer(new double[lwork], 3, foreignOrder), 3, lwork, info = new intW(0));
+        assertEquals(0, info.val);
+        assertArrayEquals(expectedw, toArray(w, 2), depsilon);
+    }
 }
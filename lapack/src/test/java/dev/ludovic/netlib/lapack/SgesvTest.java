@@ -25,11 +25,17 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ReadOnlyBufferException;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class SgesvTest extends LAPACKTest {
 
     @ParameterizedTest
@@ -37,4 +43,47 @@ public class SgesvTest extends LAPACKTest {
     void testSanity(LAPACK lapack) {
         org.junit.jupiter.api.Assumptions.assumeTrue(false);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffers(LAPACK lapack) {
+        int n = 4, nrhs = 2;
+        float[] a = new float[n * n], b = new float[n * nrhs];
+        for (int i = 0; i < n; i += 1) {
+            for (int j = 0; j < n; j += 1) {
+                a[i + j * n] = (i == j ? n : 0.0f) + 1.0f / (1 + i + 2 * j);
+            }
+        }
+        for (int i = 0; i < b.length; i += 1) {
+            b[i] = i + 1.0f;
+        }
+
+        float[] expecteda = a.clone(), expectedb = b.clone();
+        int[] expectedipiv = new int[n];
+        intW info = new intW(0);
+        f2j.sgesv(n, nrhs, expecteda, n, expectedipiv, expectedb, n, info);
+        assertEquals(0, info.val);
+
+        FloatBuffer abuffer, bbuffer;
+        IntBuffer ipiv;
+
+        lapack.sgesv(n, nrhs, abuffer = directBuffer(a), n, ipiv = directBuffer(new int[n]), bbuffer = directBuffer(b), n, info = new intW(0));
+        assertEquals(0, info.val);
+        assertArrayEquals(expecteda, toArray(abuffer, 0), sepsilon);
+        assertArrayEquals(expectedipiv, toArray(ipiv, 0));
+        assertArrayEquals(expectedb, toArray(bbuffer, 0), sepsilon);
+
+        lapack.sgesv(n, nrhs, abuffer = directBuffer(a, 3, foreignOrder), 3, n, ipiv = directBuffer(new int[n], 1, foreignOrder), 1, bbuffer = FloatBuffer.wrap(b.clone()), 0, n, info = new intW(0));
+        assertEquals(0, info.val);
+        assertArrayEquals(expecteda, toArray(abuffer, 3), sepsilon);
+        assertArrayEquals(expectedipiv, toArray(ipiv, 1));
+        assertArrayEquals(expectedb, toArray(bbuffer, 0), sepsilon);
+
+        // the read-only b is rejected before a is factorized
+        FloatBuffer untouched = directBuffer(a, 0, foreignOrder);
+        assertThrows(ReadOnlyBufferException.class, () -> {
+            lapack.sgesv(n, nrhs, untouched, n, directBuffer(new int[n]), directBuffer(b).asReadOnlyBuffer(), n, new intW(0));
+        });
+        assertArrayEquals(a, toArray(untouched, 0));
+    }
 }
@@ -25,11 +25,16 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.FloatBuffer;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class SpotrfTest extends LAPACKTest {
 
     @ParameterizedTest
@@ -37,4 +42,60 @@ public class SpotrfTest extends LAPACKTest {
     void testSanity(LAPACK lapack) {
         org.junit.jupiter.api.Assumptions.assumeTrue(false);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffers(LAPACK lapack) {
+        int n = 5;
+        float[] a = new float[n * n];
+        for (int i = 0; i < n; i += 1) {
+            for (int j = 0; j < n; j += 1) {
+                a[i + j * n] = (i == j ? n : 0.0f) + 1.0f / (1 + i + j);
+            }
+        }
+
+        for (String uplo : new String[] { "U", "L" }) {
+            float[] expected = a.clone();
+            intW info = new intW(0);
+            f2j.spotrf(uplo, n, expected, n, info);
+            assertEquals(0, info.val);
+
+            FloatBuffer abuffer;
+
+            lapack.spotrf(uplo, n, abuffer = directBuffer(a), n, info = new intW(0));
+            assertEquals(0, info.val);
+            assertArrayEquals(expected, toArray(abuffer, 0), sepsilon);
+
+            lapack.spotrf(uplo, n, abuffer = directBuffer(a, 4, foreignOrder), 4, n, info = new intW(0));
+            assertEquals(0, info.val);
+            assertArrayEquals(expected, toArray(abuffer, 4), sepsilon);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffersDisjoint(LAPACK lapack) {
+        // factorizes matrices stored one after the other in a single buffer concurrently
+        int n = 16, count = 128;
+        float[] a = new float[n * n * count];
+        for (int k = 0; k < count; k += 1) {
+            for (int i = 0; i < n; i += 1) {
+                for (int j = 0; j < n; j += 1) {
+                    a[k * n * n + i + j * n] = (i == j ? n + k : 0.0f) + 1.0f / (1 + i + j);
+                }
+            }
+        }
+        float[] expected = a.clone();
+        for (int k = 0; k < count; k += 1) {
+            f2j.spotrf("L", n, expected, k * n * n, n, new intW(0));
+        }
+
+        FloatBuffer abuffer = directBuffer(a, 0, foreignOrder);
+        IntStream.range(0, count).parallel().forEach(k -> {
+            intW info = new intW(0);
+            lapack.spotrf("L", n, abuffer, k * n * n, n, info);
+            assertEquals(0, info.val);
+        });
+        assertArrayEquals(expected, toArray(abuffer, 0), sepsilon);
+    }
 }
@@ -25,11 +25,15 @@
 
 package dev.ludovic.netlib.lapack;
 
+import java.nio.FloatBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.netlib.util.intW;
+
 public class SsyevTest extends LAPACKTest {
 
     @ParameterizedTest
@@ -37,4 +41,38 @@ public class SsyevTest extends LAPACKTest {
     void testSanity(LAPACK lapack) {
         org.junit.jupiter.api.Assumptions.assumeTrue(false);
     }
+
+    @ParameterizedTest
+    @MethodSource("LAPACKImplementations")
+    void testBuffers(LAPACK lapack) {
+        int n = 5;
+        float[] a = new float[n * n];
+        for (int i = 0; i < n; i += 1) {
+            for (int j = 0; j < n; j += 1) {
+                a[i + j * n] = 1.0f / (1 + i + j);
+            }
+        }
+
+        float[] expecteda = a.clone(), expectedw = new float[n], query = new float[1];
+        intW info = new intW(0);
+        f2j.ssyev("N", "U", n, expecteda, n, expectedw, query, -1, info);
+        assertEquals(0, info.val);
+        int lwork = (int)query[0];
+        f2j.ssyev("N", "U", n, expecteda, n, expectedw, new float[lwork], lwork, info);
+        assertEquals(0, info.val);
+
+        FloatBuffer work, w;
+
+        lapack.ssyev("N", "U", n, directBuffer(a), n, directBuffer(new float[n]), work = directBuffer(new float[1]), -1, info = new intW(0));
+        assertEquals(0, info.val);
+        assertTrue(work.get(0) >= 3 * n - 1);
+
+        lapack.ssyev("N", "U", n, directBuffer(a), n, w = directBuffer(new float[n]), directBuffer(new float[lwork]), lwork, info = new intW(0));
+        assertEquals(0, info.val);
+        assertArrayEquals(expectedw, toArray(w, 0), sepsilon);
+
+        lapack.ssyev("N", "U", n, directBuffer(a, 1, foreignOrder), 1, n, w = directBuffer(new float[n], 2, foreignOrder), 2, directBuffer(new float[lwork], 3, foreignOrder), 3, lwork, info = new intW(0));
+        assertEquals(0, info.val);
+        assertArrayEquals(expectedw, toArray(w, 2), sepsilon);
+    }
 }